@@ -53,97 +53,134 @@ public class CertificateDetailJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CertificateArn", targetDepth)) {
-                    context.nextToken();
-                    certificateDetail.setCertificateArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DomainName", targetDepth)) {
-                    context.nextToken();
-                    certificateDetail.setDomainName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("SubjectAlternativeNames",
-                        targetDepth)) {
-                    context.nextToken();
-                    certificateDetail
-                            .setSubjectAlternativeNames(new ListUnmarshaller<String>(
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 492409190:
+                        if (fieldName.equals("CertificateArn")) {
+                            context.nextToken();
+                            certificateDetail.setCertificateArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 749378959:
+                        if (fieldName.equals("DomainName")) {
+                            context.nextToken();
+                            certificateDetail.setDomainName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1873681607:
+                        if (fieldName.equals("SubjectAlternativeNames")) {
+                            context.nextToken();
+                            certificateDetail
+                                    .setSubjectAlternativeNames(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -562696351:
+                        if (fieldName.equals("DomainValidationOptions")) {
+                            context.nextToken();
+                            certificateDetail
+                                    .setDomainValidationOptions(new ListUnmarshaller<DomainValidation>(
+                                            DomainValidationJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1821971948:
+                        if (fieldName.equals("Serial")) {
+                            context.nextToken();
+                            certificateDetail.setSerial(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -203231988:
+                        if (fieldName.equals("Subject")) {
+                            context.nextToken();
+                            certificateDetail.setSubject(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -2095292711:
+                        if (fieldName.equals("Issuer")) {
+                            context.nextToken();
+                            certificateDetail.setIssuer(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1692627685:
+                        if (fieldName.equals("CreatedAt")) {
+                            context.nextToken();
+                            certificateDetail.setCreatedAt(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 763355230:
+                        if (fieldName.equals("IssuedAt")) {
+                            context.nextToken();
+                            certificateDetail.setIssuedAt(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case -1808614382:
+                        if (fieldName.equals("Status")) {
+                            context.nextToken();
+                            certificateDetail.setStatus(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1621181615:
+                        if (fieldName.equals("RevokedAt")) {
+                            context.nextToken();
+                            certificateDetail.setRevokedAt(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 2017632162:
+                        if (fieldName.equals("RevocationReason")) {
+                            context.nextToken();
+                            certificateDetail.setRevocationReason(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1506915310:
+                        if (fieldName.equals("NotBefore")) {
+                            context.nextToken();
+                            certificateDetail.setNotBefore(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 1613077225:
+                        if (fieldName.equals("NotAfter")) {
+                            context.nextToken();
+                            certificateDetail.setNotAfter(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case -86031120:
+                        if (fieldName.equals("KeyAlgorithm")) {
+                            context.nextToken();
+                            certificateDetail.setKeyAlgorithm(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1891809609:
+                        if (fieldName.equals("SignatureAlgorithm")) {
+                            context.nextToken();
+                            certificateDetail.setSignatureAlgorithm(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -700476935:
+                        if (fieldName.equals("InUseBy")) {
+                            context.nextToken();
+                            certificateDetail.setInUseBy(new ListUnmarshaller<String>(
                                     context.getUnmarshaller(String.class))
                                     .unmarshall(context));
-                }
-                if (context.testExpression("DomainValidationOptions",
-                        targetDepth)) {
-                    context.nextToken();
-                    certificateDetail
-                            .setDomainValidationOptions(new ListUnmarshaller<DomainValidation>(
-                                    DomainValidationJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Serial", targetDepth)) {
-                    context.nextToken();
-                    certificateDetail.setSerial(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Subject", targetDepth)) {
-                    context.nextToken();
-                    certificateDetail.setSubject(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Issuer", targetDepth)) {
-                    context.nextToken();
-                    certificateDetail.setIssuer(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedAt", targetDepth)) {
-                    context.nextToken();
-                    certificateDetail.setCreatedAt(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("IssuedAt", targetDepth)) {
-                    context.nextToken();
-                    certificateDetail.setIssuedAt(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    certificateDetail.setStatus(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("RevokedAt", targetDepth)) {
-                    context.nextToken();
-                    certificateDetail.setRevokedAt(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("RevocationReason", targetDepth)) {
-                    context.nextToken();
-                    certificateDetail.setRevocationReason(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("NotBefore", targetDepth)) {
-                    context.nextToken();
-                    certificateDetail.setNotBefore(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("NotAfter", targetDepth)) {
-                    context.nextToken();
-                    certificateDetail.setNotAfter(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("KeyAlgorithm", targetDepth)) {
-                    context.nextToken();
-                    certificateDetail.setKeyAlgorithm(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("SignatureAlgorithm", targetDepth)) {
-                    context.nextToken();
-                    certificateDetail.setSignatureAlgorithm(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InUseBy", targetDepth)) {
-                    context.nextToken();
-                    certificateDetail.setInUseBy(new ListUnmarshaller<String>(
-                            context.getUnmarshaller(String.class))
-                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class CertificateSummaryJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CertificateArn", targetDepth)) {
-                    context.nextToken();
-                    certificateSummary.setCertificateArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DomainName", targetDepth)) {
-                    context.nextToken();
-                    certificateSummary.setDomainName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 492409190:
+                        if (fieldName.equals("CertificateArn")) {
+                            context.nextToken();
+                            certificateSummary.setCertificateArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 749378959:
+                        if (fieldName.equals("DomainName")) {
+                            context.nextToken();
+                            certificateSummary.setDomainName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -79,7 +79,7 @@ public class DescribeCertificateRequestMarshaller
             jsonGenerator.writeEndObject();
 
             byte[] content = jsonGenerator.getBytes();
-            request.setContent(new ByteArrayInputStream(content));
+            request.setContent(jsonGenerator.getContentStream());
             request.addHeader("Content-Length",
                     Integer.toString(content.length));
             request.addHeader("Content-Type", jsonGenerator.getContentType());
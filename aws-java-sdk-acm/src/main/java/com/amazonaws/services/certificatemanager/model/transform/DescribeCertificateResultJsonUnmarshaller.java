@@ -53,11 +53,18 @@ public class DescribeCertificateResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Certificate", targetDepth)) {
-                    context.nextToken();
-                    describeCertificateResult
-                            .setCertificate(CertificateDetailJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -674698889:
+                        if (fieldName.equals("Certificate")) {
+                            context.nextToken();
+                            describeCertificateResult
+                                    .setCertificate(CertificateDetailJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,22 +53,33 @@ public class DomainValidationJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DomainName", targetDepth)) {
-                    context.nextToken();
-                    domainValidation.setDomainName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ValidationEmails", targetDepth)) {
-                    context.nextToken();
-                    domainValidation
-                            .setValidationEmails(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("ValidationDomain", targetDepth)) {
-                    context.nextToken();
-                    domainValidation.setValidationDomain(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 749378959:
+                        if (fieldName.equals("DomainName")) {
+                            context.nextToken();
+                            domainValidation.setDomainName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 525574736:
+                        if (fieldName.equals("ValidationEmails")) {
+                            context.nextToken();
+                            domainValidation
+                                    .setValidationEmails(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 499142333:
+                        if (fieldName.equals("ValidationDomain")) {
+                            context.nextToken();
+                            domainValidation.setValidationDomain(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class DomainValidationOptionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DomainName", targetDepth)) {
-                    context.nextToken();
-                    domainValidationOption.setDomainName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ValidationDomain", targetDepth)) {
-                    context.nextToken();
-                    domainValidationOption.setValidationDomain(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 749378959:
+                        if (fieldName.equals("DomainName")) {
+                            context.nextToken();
+                            domainValidationOption.setDomainName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 499142333:
+                        if (fieldName.equals("ValidationDomain")) {
+                            context.nextToken();
+                            domainValidationOption.setValidationDomain(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
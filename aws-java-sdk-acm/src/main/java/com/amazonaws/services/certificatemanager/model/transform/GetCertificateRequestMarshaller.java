@@ -77,7 +77,7 @@ public class GetCertificateRequestMarshaller implements
             jsonGenerator.writeEndObject();
 
             byte[] content = jsonGenerator.getBytes();
-            request.setContent(new ByteArrayInputStream(content));
+            request.setContent(jsonGenerator.getContentStream());
             request.addHeader("Content-Length",
                     Integer.toString(content.length));
             request.addHeader("Content-Type", jsonGenerator.getContentType());
@@ -53,15 +53,24 @@ public class GetCertificateResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Certificate", targetDepth)) {
-                    context.nextToken();
-                    getCertificateResult.setCertificate(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CertificateChain", targetDepth)) {
-                    context.nextToken();
-                    getCertificateResult.setCertificateChain(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -674698889:
+                        if (fieldName.equals("Certificate")) {
+                            context.nextToken();
+                            getCertificateResult.setCertificate(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 760369034:
+                        if (fieldName.equals("CertificateChain")) {
+                            context.nextToken();
+                            getCertificateResult.setCertificateChain(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,18 +53,26 @@ public class ListCertificatesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    listCertificatesResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CertificateSummaryList",
-                        targetDepth)) {
-                    context.nextToken();
-                    listCertificatesResult
-                            .setCertificateSummaryList(new ListUnmarshaller<CertificateSummary>(
-                                    CertificateSummaryJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1084080474:
+                        if (fieldName.equals("NextToken")) {
+                            context.nextToken();
+                            listCertificatesResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1520142189:
+                        if (fieldName.equals("CertificateSummaryList")) {
+                            context.nextToken();
+                            listCertificatesResult
+                                    .setCertificateSummaryList(new ListUnmarshaller<CertificateSummary>(
+                                            CertificateSummaryJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
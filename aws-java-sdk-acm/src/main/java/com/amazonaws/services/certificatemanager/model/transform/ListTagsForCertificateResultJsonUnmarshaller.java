@@ -53,12 +53,19 @@ public class ListTagsForCertificateResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Tags", targetDepth)) {
-                    context.nextToken();
-                    listTagsForCertificateResult
-                            .setTags(new ListUnmarshaller<Tag>(
-                                    TagJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2598969:
+                        if (fieldName.equals("Tags")) {
+                            context.nextToken();
+                            listTagsForCertificateResult
+                                    .setTags(new ListUnmarshaller<Tag>(
+                                            TagJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
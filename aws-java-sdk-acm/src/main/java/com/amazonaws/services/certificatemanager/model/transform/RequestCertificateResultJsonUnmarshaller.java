@@ -53,10 +53,17 @@ public class RequestCertificateResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CertificateArn", targetDepth)) {
-                    context.nextToken();
-                    requestCertificateResult.setCertificateArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 492409190:
+                        if (fieldName.equals("CertificateArn")) {
+                            context.nextToken();
+                            requestCertificateResult.setCertificateArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -52,40 +52,59 @@ public class ApiKeyJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    apiKey.setId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    apiKey.setName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    apiKey.setDescription(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("enabled", targetDepth)) {
-                    context.nextToken();
-                    apiKey.setEnabled(context.getUnmarshaller(Boolean.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("stageKeys", targetDepth)) {
-                    context.nextToken();
-                    apiKey.setStageKeys(new ListUnmarshaller<String>(context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("createdDate", targetDepth)) {
-                    context.nextToken();
-                    apiKey.setCreatedDate(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("lastUpdatedDate", targetDepth)) {
-                    context.nextToken();
-                    apiKey.setLastUpdatedDate(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3355:
+                        if (fieldName.equals("id")) {
+                            context.nextToken();
+                            apiKey.setId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 3373707:
+                        if (fieldName.equals("name")) {
+                            context.nextToken();
+                            apiKey.setName(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1724546052:
+                        if (fieldName.equals("description")) {
+                            context.nextToken();
+                            apiKey.setDescription(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1609594047:
+                        if (fieldName.equals("enabled")) {
+                            context.nextToken();
+                            apiKey.setEnabled(context.getUnmarshaller(Boolean.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1836627474:
+                        if (fieldName.equals("stageKeys")) {
+                            context.nextToken();
+                            apiKey.setStageKeys(new ListUnmarshaller<String>(context
+                                    .getUnmarshaller(String.class)).unmarshall(context));
+                        }
+                        break;
+                    case -490393930:
+                        if (fieldName.equals("createdDate")) {
+                            context.nextToken();
+                            apiKey.setCreatedDate(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 1616980627:
+                        if (fieldName.equals("lastUpdatedDate")) {
+                            context.nextToken();
+                            apiKey.setLastUpdatedDate(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,55 +53,75 @@ public class AuthorizerJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    authorizer.setId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    authorizer.setName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("type", targetDepth)) {
-                    context.nextToken();
-                    authorizer.setType(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("authType", targetDepth)) {
-                    context.nextToken();
-                    authorizer.setAuthType(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("authorizerUri", targetDepth)) {
-                    context.nextToken();
-                    authorizer.setAuthorizerUri(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("authorizerCredentials", targetDepth)) {
-                    context.nextToken();
-                    authorizer.setAuthorizerCredentials(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("identitySource", targetDepth)) {
-                    context.nextToken();
-                    authorizer.setIdentitySource(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("identityValidationExpression",
-                        targetDepth)) {
-                    context.nextToken();
-                    authorizer.setIdentityValidationExpression(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("authorizerResultTtlInSeconds",
-                        targetDepth)) {
-                    context.nextToken();
-                    authorizer
-                            .setAuthorizerResultTtlInSeconds(context
-                                    .getUnmarshaller(Integer.class).unmarshall(
-                                            context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3355:
+                        if (fieldName.equals("id")) {
+                            context.nextToken();
+                            authorizer.setId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 3373707:
+                        if (fieldName.equals("name")) {
+                            context.nextToken();
+                            authorizer.setName(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 3575610:
+                        if (fieldName.equals("type")) {
+                            context.nextToken();
+                            authorizer.setType(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1432276226:
+                        if (fieldName.equals("authType")) {
+                            context.nextToken();
+                            authorizer.setAuthType(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1381954813:
+                        if (fieldName.equals("authorizerUri")) {
+                            context.nextToken();
+                            authorizer.setAuthorizerUri(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1776229997:
+                        if (fieldName.equals("authorizerCredentials")) {
+                            context.nextToken();
+                            authorizer.setAuthorizerCredentials(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -89538951:
+                        if (fieldName.equals("identitySource")) {
+                            context.nextToken();
+                            authorizer.setIdentitySource(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1418785329:
+                        if (fieldName.equals("identityValidationExpression")) {
+                            context.nextToken();
+                            authorizer.setIdentityValidationExpression(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -857519276:
+                        if (fieldName.equals("authorizerResultTtlInSeconds")) {
+                            context.nextToken();
+                            authorizer
+                                    .setAuthorizerResultTtlInSeconds(context
+                                            .getUnmarshaller(Integer.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
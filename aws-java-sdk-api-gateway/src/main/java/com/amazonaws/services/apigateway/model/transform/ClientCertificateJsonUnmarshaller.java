@@ -53,32 +53,46 @@ public class ClientCertificateJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("clientCertificateId", targetDepth)) {
-                    context.nextToken();
-                    clientCertificate.setClientCertificateId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    clientCertificate.setDescription(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("pemEncodedCertificate", targetDepth)) {
-                    context.nextToken();
-                    clientCertificate.setPemEncodedCertificate(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("createdDate", targetDepth)) {
-                    context.nextToken();
-                    clientCertificate.setCreatedDate(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("expirationDate", targetDepth)) {
-                    context.nextToken();
-                    clientCertificate.setExpirationDate(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -2002567417:
+                        if (fieldName.equals("clientCertificateId")) {
+                            context.nextToken();
+                            clientCertificate.setClientCertificateId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1724546052:
+                        if (fieldName.equals("description")) {
+                            context.nextToken();
+                            clientCertificate.setDescription(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2058200801:
+                        if (fieldName.equals("pemEncodedCertificate")) {
+                            context.nextToken();
+                            clientCertificate.setPemEncodedCertificate(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -490393930:
+                        if (fieldName.equals("createdDate")) {
+                            context.nextToken();
+                            clientCertificate.setCreatedDate(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case -668811523:
+                        if (fieldName.equals("expirationDate")) {
+                            context.nextToken();
+                            clientCertificate.setExpirationDate(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
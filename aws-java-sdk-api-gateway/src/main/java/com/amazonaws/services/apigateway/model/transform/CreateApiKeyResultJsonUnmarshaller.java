@@ -53,43 +53,62 @@ public class CreateApiKeyResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    createApiKeyResult.setId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    createApiKeyResult.setName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    createApiKeyResult.setDescription(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("enabled", targetDepth)) {
-                    context.nextToken();
-                    createApiKeyResult.setEnabled(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("stageKeys", targetDepth)) {
-                    context.nextToken();
-                    createApiKeyResult
-                            .setStageKeys(new ListUnmarshaller<String>(context
-                                    .getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("createdDate", targetDepth)) {
-                    context.nextToken();
-                    createApiKeyResult.setCreatedDate(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("lastUpdatedDate", targetDepth)) {
-                    context.nextToken();
-                    createApiKeyResult.setLastUpdatedDate(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3355:
+                        if (fieldName.equals("id")) {
+                            context.nextToken();
+                            createApiKeyResult.setId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 3373707:
+                        if (fieldName.equals("name")) {
+                            context.nextToken();
+                            createApiKeyResult.setName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1724546052:
+                        if (fieldName.equals("description")) {
+                            context.nextToken();
+                            createApiKeyResult.setDescription(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1609594047:
+                        if (fieldName.equals("enabled")) {
+                            context.nextToken();
+                            createApiKeyResult.setEnabled(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 1836627474:
+                        if (fieldName.equals("stageKeys")) {
+                            context.nextToken();
+                            createApiKeyResult
+                                    .setStageKeys(new ListUnmarshaller<String>(context
+                                            .getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -490393930:
+                        if (fieldName.equals("createdDate")) {
+                            context.nextToken();
+                            createApiKeyResult.setCreatedDate(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 1616980627:
+                        if (fieldName.equals("lastUpdatedDate")) {
+                            context.nextToken();
+                            createApiKeyResult.setLastUpdatedDate(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,57 +53,77 @@ public class CreateAuthorizerResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    createAuthorizerResult.setId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    createAuthorizerResult.setName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("type", targetDepth)) {
-                    context.nextToken();
-                    createAuthorizerResult.setType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("authType", targetDepth)) {
-                    context.nextToken();
-                    createAuthorizerResult.setAuthType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("authorizerUri", targetDepth)) {
-                    context.nextToken();
-                    createAuthorizerResult.setAuthorizerUri(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("authorizerCredentials", targetDepth)) {
-                    context.nextToken();
-                    createAuthorizerResult.setAuthorizerCredentials(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("identitySource", targetDepth)) {
-                    context.nextToken();
-                    createAuthorizerResult.setIdentitySource(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("identityValidationExpression",
-                        targetDepth)) {
-                    context.nextToken();
-                    createAuthorizerResult
-                            .setIdentityValidationExpression(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("authorizerResultTtlInSeconds",
-                        targetDepth)) {
-                    context.nextToken();
-                    createAuthorizerResult
-                            .setAuthorizerResultTtlInSeconds(context
-                                    .getUnmarshaller(Integer.class).unmarshall(
-                                            context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3355:
+                        if (fieldName.equals("id")) {
+                            context.nextToken();
+                            createAuthorizerResult.setId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 3373707:
+                        if (fieldName.equals("name")) {
+                            context.nextToken();
+                            createAuthorizerResult.setName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 3575610:
+                        if (fieldName.equals("type")) {
+                            context.nextToken();
+                            createAuthorizerResult.setType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1432276226:
+                        if (fieldName.equals("authType")) {
+                            context.nextToken();
+                            createAuthorizerResult.setAuthType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1381954813:
+                        if (fieldName.equals("authorizerUri")) {
+                            context.nextToken();
+                            createAuthorizerResult.setAuthorizerUri(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1776229997:
+                        if (fieldName.equals("authorizerCredentials")) {
+                            context.nextToken();
+                            createAuthorizerResult.setAuthorizerCredentials(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -89538951:
+                        if (fieldName.equals("identitySource")) {
+                            context.nextToken();
+                            createAuthorizerResult.setIdentitySource(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1418785329:
+                        if (fieldName.equals("identityValidationExpression")) {
+                            context.nextToken();
+                            createAuthorizerResult
+                                    .setIdentityValidationExpression(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -857519276:
+                        if (fieldName.equals("authorizerResultTtlInSeconds")) {
+                            context.nextToken();
+                            createAuthorizerResult
+                                    .setAuthorizerResultTtlInSeconds(context
+                                            .getUnmarshaller(Integer.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,32 +53,45 @@ public class CreateDeploymentResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    createDeploymentResult.setId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    createDeploymentResult.setDescription(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("createdDate", targetDepth)) {
-                    context.nextToken();
-                    createDeploymentResult.setCreatedDate(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("apiSummary", targetDepth)) {
-                    context.nextToken();
-                    createDeploymentResult
-                            .setApiSummary(new MapUnmarshaller<String, java.util.Map<String, MethodSnapshot>>(
-                                    context.getUnmarshaller(String.class),
-                                    new MapUnmarshaller<String, MethodSnapshot>(
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3355:
+                        if (fieldName.equals("id")) {
+                            context.nextToken();
+                            createDeploymentResult.setId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1724546052:
+                        if (fieldName.equals("description")) {
+                            context.nextToken();
+                            createDeploymentResult.setDescription(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -490393930:
+                        if (fieldName.equals("createdDate")) {
+                            context.nextToken();
+                            createDeploymentResult.setCreatedDate(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case -39906260:
+                        if (fieldName.equals("apiSummary")) {
+                            context.nextToken();
+                            createDeploymentResult
+                                    .setApiSummary(new MapUnmarshaller<String, java.util.Map<String, MethodSnapshot>>(
                                             context.getUnmarshaller(String.class),
-                                            MethodSnapshotJsonUnmarshaller
-                                                    .getInstance()))
-                                    .unmarshall(context));
+                                            new MapUnmarshaller<String, MethodSnapshot>(
+                                                    context.getUnmarshaller(String.class),
+                                                    MethodSnapshotJsonUnmarshaller
+                                                            .getInstance()))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,28 +53,39 @@ public class CreateDomainNameResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("domainName", targetDepth)) {
-                    context.nextToken();
-                    createDomainNameResult.setDomainName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("certificateName", targetDepth)) {
-                    context.nextToken();
-                    createDomainNameResult.setCertificateName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("certificateUploadDate", targetDepth)) {
-                    context.nextToken();
-                    createDomainNameResult.setCertificateUploadDate(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("distributionDomainName",
-                        targetDepth)) {
-                    context.nextToken();
-                    createDomainNameResult.setDistributionDomainName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1244085905:
+                        if (fieldName.equals("domainName")) {
+                            context.nextToken();
+                            createDomainNameResult.setDomainName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -917795646:
+                        if (fieldName.equals("certificateName")) {
+                            context.nextToken();
+                            createDomainNameResult.setCertificateName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 372561478:
+                        if (fieldName.equals("certificateUploadDate")) {
+                            context.nextToken();
+                            createDomainNameResult.setCertificateUploadDate(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case -1462397165:
+                        if (fieldName.equals("distributionDomainName")) {
+                            context.nextToken();
+                            createDomainNameResult.setDistributionDomainName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,30 +53,45 @@ public class CreateModelResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    createModelResult.setId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    createModelResult.setName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    createModelResult.setDescription(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("schema", targetDepth)) {
-                    context.nextToken();
-                    createModelResult.setSchema(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("contentType", targetDepth)) {
-                    context.nextToken();
-                    createModelResult.setContentType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3355:
+                        if (fieldName.equals("id")) {
+                            context.nextToken();
+                            createModelResult.setId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 3373707:
+                        if (fieldName.equals("name")) {
+                            context.nextToken();
+                            createModelResult.setName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1724546052:
+                        if (fieldName.equals("description")) {
+                            context.nextToken();
+                            createModelResult.setDescription(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -907987551:
+                        if (fieldName.equals("schema")) {
+                            context.nextToken();
+                            createModelResult.setSchema(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -389131437:
+                        if (fieldName.equals("contentType")) {
+                            context.nextToken();
+                            createModelResult.setContentType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,32 +53,47 @@ public class CreateRestApiResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    createRestApiResult.setId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    createRestApiResult.setName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    createRestApiResult.setDescription(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("createdDate", targetDepth)) {
-                    context.nextToken();
-                    createRestApiResult.setCreatedDate(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("warnings", targetDepth)) {
-                    context.nextToken();
-                    createRestApiResult
-                            .setWarnings(new ListUnmarshaller<String>(context
-                                    .getUnmarshaller(String.class))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3355:
+                        if (fieldName.equals("id")) {
+                            context.nextToken();
+                            createRestApiResult.setId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 3373707:
+                        if (fieldName.equals("name")) {
+                            context.nextToken();
+                            createRestApiResult.setName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1724546052:
+                        if (fieldName.equals("description")) {
+                            context.nextToken();
+                            createRestApiResult.setDescription(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -490393930:
+                        if (fieldName.equals("createdDate")) {
+                            context.nextToken();
+                            createRestApiResult.setCreatedDate(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 498091095:
+                        if (fieldName.equals("warnings")) {
+                            context.nextToken();
+                            createRestApiResult
+                                    .setWarnings(new ListUnmarshaller<String>(context
+                                            .getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
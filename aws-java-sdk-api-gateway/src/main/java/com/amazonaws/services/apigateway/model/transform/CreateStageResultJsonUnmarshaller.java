@@ -53,68 +53,95 @@ public class CreateStageResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("deploymentId", targetDepth)) {
-                    context.nextToken();
-                    createStageResult.setDeploymentId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("clientCertificateId", targetDepth)) {
-                    context.nextToken();
-                    createStageResult.setClientCertificateId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("stageName", targetDepth)) {
-                    context.nextToken();
-                    createStageResult.setStageName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    createStageResult.setDescription(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("cacheClusterEnabled", targetDepth)) {
-                    context.nextToken();
-                    createStageResult
-                            .setCacheClusterEnabled(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("cacheClusterSize", targetDepth)) {
-                    context.nextToken();
-                    createStageResult.setCacheClusterSize(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("cacheClusterStatus", targetDepth)) {
-                    context.nextToken();
-                    createStageResult.setCacheClusterStatus(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("methodSettings", targetDepth)) {
-                    context.nextToken();
-                    createStageResult
-                            .setMethodSettings(new MapUnmarshaller<String, MethodSetting>(
-                                    context.getUnmarshaller(String.class),
-                                    MethodSettingJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("variables", targetDepth)) {
-                    context.nextToken();
-                    createStageResult
-                            .setVariables(new MapUnmarshaller<String, String>(
-                                    context.getUnmarshaller(String.class),
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("createdDate", targetDepth)) {
-                    context.nextToken();
-                    createStageResult.setCreatedDate(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("lastUpdatedDate", targetDepth)) {
-                    context.nextToken();
-                    createStageResult.setLastUpdatedDate(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -136894784:
+                        if (fieldName.equals("deploymentId")) {
+                            context.nextToken();
+                            createStageResult.setDeploymentId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -2002567417:
+                        if (fieldName.equals("clientCertificateId")) {
+                            context.nextToken();
+                            createStageResult.setClientCertificateId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1836712617:
+                        if (fieldName.equals("stageName")) {
+                            context.nextToken();
+                            createStageResult.setStageName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1724546052:
+                        if (fieldName.equals("description")) {
+                            context.nextToken();
+                            createStageResult.setDescription(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -440208375:
+                        if (fieldName.equals("cacheClusterEnabled")) {
+                            context.nextToken();
+                            createStageResult
+                                    .setCacheClusterEnabled(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case -1375704007:
+                        if (fieldName.equals("cacheClusterSize")) {
+                            context.nextToken();
+                            createStageResult.setCacheClusterSize(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 807808554:
+                        if (fieldName.equals("cacheClusterStatus")) {
+                            context.nextToken();
+                            createStageResult.setCacheClusterStatus(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1853390884:
+                        if (fieldName.equals("methodSettings")) {
+                            context.nextToken();
+                            createStageResult
+                                    .setMethodSettings(new MapUnmarshaller<String, MethodSetting>(
+                                            context.getUnmarshaller(String.class),
+                                            MethodSettingJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -82477705:
+                        if (fieldName.equals("variables")) {
+                            context.nextToken();
+                            createStageResult
+                                    .setVariables(new MapUnmarshaller<String, String>(
+                                            context.getUnmarshaller(String.class),
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -490393930:
+                        if (fieldName.equals("createdDate")) {
+                            context.nextToken();
+                            createStageResult.setCreatedDate(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 1616980627:
+                        if (fieldName.equals("lastUpdatedDate")) {
+                            context.nextToken();
+                            createStageResult.setLastUpdatedDate(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,31 +53,44 @@ public class DeploymentJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    deployment.setId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    deployment.setDescription(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("createdDate", targetDepth)) {
-                    context.nextToken();
-                    deployment.setCreatedDate(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("apiSummary", targetDepth)) {
-                    context.nextToken();
-                    deployment
-                            .setApiSummary(new MapUnmarshaller<String, java.util.Map<String, MethodSnapshot>>(
-                                    context.getUnmarshaller(String.class),
-                                    new MapUnmarshaller<String, MethodSnapshot>(
-                                            context.getUnmarshaller(String.class),
-                                            MethodSnapshotJsonUnmarshaller
-                                                    .getInstance()))
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3355:
+                        if (fieldName.equals("id")) {
+                            context.nextToken();
+                            deployment.setId(context.getUnmarshaller(String.class)
                                     .unmarshall(context));
+                        }
+                        break;
+                    case -1724546052:
+                        if (fieldName.equals("description")) {
+                            context.nextToken();
+                            deployment.setDescription(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -490393930:
+                        if (fieldName.equals("createdDate")) {
+                            context.nextToken();
+                            deployment.setCreatedDate(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case -39906260:
+                        if (fieldName.equals("apiSummary")) {
+                            context.nextToken();
+                            deployment
+                                    .setApiSummary(new MapUnmarshaller<String, java.util.Map<String, MethodSnapshot>>(
+                                            context.getUnmarshaller(String.class),
+                                            new MapUnmarshaller<String, MethodSnapshot>(
+                                                    context.getUnmarshaller(String.class),
+                                                    MethodSnapshotJsonUnmarshaller
+                                                            .getInstance()))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
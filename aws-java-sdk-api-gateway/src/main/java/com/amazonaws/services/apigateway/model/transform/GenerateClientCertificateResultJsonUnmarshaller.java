@@ -53,35 +53,49 @@ public class GenerateClientCertificateResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("clientCertificateId", targetDepth)) {
-                    context.nextToken();
-                    generateClientCertificateResult
-                            .setClientCertificateId(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    generateClientCertificateResult.setDescription(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("pemEncodedCertificate", targetDepth)) {
-                    context.nextToken();
-                    generateClientCertificateResult
-                            .setPemEncodedCertificate(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("createdDate", targetDepth)) {
-                    context.nextToken();
-                    generateClientCertificateResult.setCreatedDate(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("expirationDate", targetDepth)) {
-                    context.nextToken();
-                    generateClientCertificateResult.setExpirationDate(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -2002567417:
+                        if (fieldName.equals("clientCertificateId")) {
+                            context.nextToken();
+                            generateClientCertificateResult
+                                    .setClientCertificateId(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1724546052:
+                        if (fieldName.equals("description")) {
+                            context.nextToken();
+                            generateClientCertificateResult.setDescription(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2058200801:
+                        if (fieldName.equals("pemEncodedCertificate")) {
+                            context.nextToken();
+                            generateClientCertificateResult
+                                    .setPemEncodedCertificate(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case -490393930:
+                        if (fieldName.equals("createdDate")) {
+                            context.nextToken();
+                            generateClientCertificateResult.setCreatedDate(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case -668811523:
+                        if (fieldName.equals("expirationDate")) {
+                            context.nextToken();
+                            generateClientCertificateResult.setExpirationDate(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
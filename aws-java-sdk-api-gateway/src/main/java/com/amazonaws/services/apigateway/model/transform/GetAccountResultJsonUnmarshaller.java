@@ -53,16 +53,25 @@ public class GetAccountResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("cloudwatchRoleArn", targetDepth)) {
-                    context.nextToken();
-                    getAccountResult.setCloudwatchRoleArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("throttleSettings", targetDepth)) {
-                    context.nextToken();
-                    getAccountResult
-                            .setThrottleSettings(ThrottleSettingsJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1515783955:
+                        if (fieldName.equals("cloudwatchRoleArn")) {
+                            context.nextToken();
+                            getAccountResult.setCloudwatchRoleArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1840782995:
+                        if (fieldName.equals("throttleSettings")) {
+                            context.nextToken();
+                            getAccountResult
+                                    .setThrottleSettings(ThrottleSettingsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,41 +53,60 @@ public class GetApiKeyResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    getApiKeyResult.setId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    getApiKeyResult.setName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    getApiKeyResult.setDescription(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("enabled", targetDepth)) {
-                    context.nextToken();
-                    getApiKeyResult.setEnabled(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("stageKeys", targetDepth)) {
-                    context.nextToken();
-                    getApiKeyResult.setStageKeys(new ListUnmarshaller<String>(
-                            context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("createdDate", targetDepth)) {
-                    context.nextToken();
-                    getApiKeyResult.setCreatedDate(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("lastUpdatedDate", targetDepth)) {
-                    context.nextToken();
-                    getApiKeyResult.setLastUpdatedDate(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3355:
+                        if (fieldName.equals("id")) {
+                            context.nextToken();
+                            getApiKeyResult.setId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 3373707:
+                        if (fieldName.equals("name")) {
+                            context.nextToken();
+                            getApiKeyResult.setName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1724546052:
+                        if (fieldName.equals("description")) {
+                            context.nextToken();
+                            getApiKeyResult.setDescription(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1609594047:
+                        if (fieldName.equals("enabled")) {
+                            context.nextToken();
+                            getApiKeyResult.setEnabled(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 1836627474:
+                        if (fieldName.equals("stageKeys")) {
+                            context.nextToken();
+                            getApiKeyResult.setStageKeys(new ListUnmarshaller<String>(
+                                    context.getUnmarshaller(String.class))
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -490393930:
+                        if (fieldName.equals("createdDate")) {
+                            context.nextToken();
+                            getApiKeyResult.setCreatedDate(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 1616980627:
+                        if (fieldName.equals("lastUpdatedDate")) {
+                            context.nextToken();
+                            getApiKeyResult.setLastUpdatedDate(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,55 +53,75 @@ public class GetAuthorizerResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    getAuthorizerResult.setId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    getAuthorizerResult.setName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("type", targetDepth)) {
-                    context.nextToken();
-                    getAuthorizerResult.setType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("authType", targetDepth)) {
-                    context.nextToken();
-                    getAuthorizerResult.setAuthType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("authorizerUri", targetDepth)) {
-                    context.nextToken();
-                    getAuthorizerResult.setAuthorizerUri(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("authorizerCredentials", targetDepth)) {
-                    context.nextToken();
-                    getAuthorizerResult.setAuthorizerCredentials(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("identitySource", targetDepth)) {
-                    context.nextToken();
-                    getAuthorizerResult.setIdentitySource(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("identityValidationExpression",
-                        targetDepth)) {
-                    context.nextToken();
-                    getAuthorizerResult.setIdentityValidationExpression(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("authorizerResultTtlInSeconds",
-                        targetDepth)) {
-                    context.nextToken();
-                    getAuthorizerResult
-                            .setAuthorizerResultTtlInSeconds(context
-                                    .getUnmarshaller(Integer.class).unmarshall(
-                                            context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3355:
+                        if (fieldName.equals("id")) {
+                            context.nextToken();
+                            getAuthorizerResult.setId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 3373707:
+                        if (fieldName.equals("name")) {
+                            context.nextToken();
+                            getAuthorizerResult.setName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 3575610:
+                        if (fieldName.equals("type")) {
+                            context.nextToken();
+                            getAuthorizerResult.setType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1432276226:
+                        if (fieldName.equals("authType")) {
+                            context.nextToken();
+                            getAuthorizerResult.setAuthType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1381954813:
+                        if (fieldName.equals("authorizerUri")) {
+                            context.nextToken();
+                            getAuthorizerResult.setAuthorizerUri(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1776229997:
+                        if (fieldName.equals("authorizerCredentials")) {
+                            context.nextToken();
+                            getAuthorizerResult.setAuthorizerCredentials(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -89538951:
+                        if (fieldName.equals("identitySource")) {
+                            context.nextToken();
+                            getAuthorizerResult.setIdentitySource(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1418785329:
+                        if (fieldName.equals("identityValidationExpression")) {
+                            context.nextToken();
+                            getAuthorizerResult.setIdentityValidationExpression(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -857519276:
+                        if (fieldName.equals("authorizerResultTtlInSeconds")) {
+                            context.nextToken();
+                            getAuthorizerResult
+                                    .setAuthorizerResultTtlInSeconds(context
+                                            .getUnmarshaller(Integer.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class GetAuthorizersResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("position", targetDepth)) {
-                    context.nextToken();
-                    getAuthorizersResult.setPosition(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("item", targetDepth)) {
-                    context.nextToken();
-                    getAuthorizersResult
-                            .setItems(new ListUnmarshaller<Authorizer>(
-                                    AuthorizerJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 747804969:
+                        if (fieldName.equals("position")) {
+                            context.nextToken();
+                            getAuthorizersResult.setPosition(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 3242771:
+                        if (fieldName.equals("item")) {
+                            context.nextToken();
+                            getAuthorizersResult
+                                    .setItems(new ListUnmarshaller<Authorizer>(
+                                            AuthorizerJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
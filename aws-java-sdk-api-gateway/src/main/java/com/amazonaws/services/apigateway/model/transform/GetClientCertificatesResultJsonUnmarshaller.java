@@ -53,17 +53,26 @@ public class GetClientCertificatesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("position", targetDepth)) {
-                    context.nextToken();
-                    getClientCertificatesResult.setPosition(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("item", targetDepth)) {
-                    context.nextToken();
-                    getClientCertificatesResult
-                            .setItems(new ListUnmarshaller<ClientCertificate>(
-                                    ClientCertificateJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 747804969:
+                        if (fieldName.equals("position")) {
+                            context.nextToken();
+                            getClientCertificatesResult.setPosition(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 3242771:
+                        if (fieldName.equals("item")) {
+                            context.nextToken();
+                            getClientCertificatesResult
+                                    .setItems(new ListUnmarshaller<ClientCertificate>(
+                                            ClientCertificateJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,10 +53,17 @@ public class GetModelTemplateResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("value", targetDepth)) {
-                    context.nextToken();
-                    getModelTemplateResult.setValue(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 111972721:
+                        if (fieldName.equals("value")) {
+                            context.nextToken();
+                            getModelTemplateResult.setValue(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,11 +53,18 @@ public class GetStagesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("item", targetDepth)) {
-                    context.nextToken();
-                    getStagesResult.setItem(new ListUnmarshaller<Stage>(
-                            StageJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3242771:
+                        if (fieldName.equals("item")) {
+                            context.nextToken();
+                            getStagesResult.setItem(new ListUnmarshaller<Stage>(
+                                    StageJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
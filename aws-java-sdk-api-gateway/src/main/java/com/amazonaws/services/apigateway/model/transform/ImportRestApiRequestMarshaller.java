@@ -93,7 +93,7 @@ public class ImportRestApiRequestMarshaller implements
             }
         }
 
-        request.setContent(BinaryUtils.toStream(importRestApiRequest.getBody()));
+        request.setContent(BinaryUtils.toReplayableStream(importRestApiRequest.getBody()));
         if (!request.getHeaders().containsKey("Content-Type")) {
             request.addHeader("Content-Type", DEFAULT_CONTENT_TYPE);
         }
@@ -53,31 +53,44 @@ public class IntegrationResponseJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("statusCode", targetDepth)) {
-                    context.nextToken();
-                    integrationResponse.setStatusCode(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("selectionPattern", targetDepth)) {
-                    context.nextToken();
-                    integrationResponse.setSelectionPattern(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("responseParameters", targetDepth)) {
-                    context.nextToken();
-                    integrationResponse
-                            .setResponseParameters(new MapUnmarshaller<String, String>(
-                                    context.getUnmarshaller(String.class),
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("responseTemplates", targetDepth)) {
-                    context.nextToken();
-                    integrationResponse
-                            .setResponseTemplates(new MapUnmarshaller<String, String>(
-                                    context.getUnmarshaller(String.class),
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 247507199:
+                        if (fieldName.equals("statusCode")) {
+                            context.nextToken();
+                            integrationResponse.setStatusCode(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -280200092:
+                        if (fieldName.equals("selectionPattern")) {
+                            context.nextToken();
+                            integrationResponse.setSelectionPattern(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 824775947:
+                        if (fieldName.equals("responseParameters")) {
+                            context.nextToken();
+                            integrationResponse
+                                    .setResponseParameters(new MapUnmarshaller<String, String>(
+                                            context.getUnmarshaller(String.class),
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 53872632:
+                        if (fieldName.equals("responseTemplates")) {
+                            context.nextToken();
+                            integrationResponse
+                                    .setResponseTemplates(new MapUnmarshaller<String, String>(
+                                            context.getUnmarshaller(String.class),
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
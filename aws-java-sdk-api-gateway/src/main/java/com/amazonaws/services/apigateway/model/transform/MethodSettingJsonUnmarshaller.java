@@ -53,63 +53,86 @@ public class MethodSettingJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("metricsEnabled", targetDepth)) {
-                    context.nextToken();
-                    methodSetting.setMetricsEnabled(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("loggingLevel", targetDepth)) {
-                    context.nextToken();
-                    methodSetting.setLoggingLevel(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("dataTraceEnabled", targetDepth)) {
-                    context.nextToken();
-                    methodSetting.setDataTraceEnabled(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("throttlingBurstLimit", targetDepth)) {
-                    context.nextToken();
-                    methodSetting
-                            .setThrottlingBurstLimit(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("throttlingRateLimit", targetDepth)) {
-                    context.nextToken();
-                    methodSetting.setThrottlingRateLimit(context
-                            .getUnmarshaller(Double.class).unmarshall(context));
-                }
-                if (context.testExpression("cachingEnabled", targetDepth)) {
-                    context.nextToken();
-                    methodSetting.setCachingEnabled(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("cacheTtlInSeconds", targetDepth)) {
-                    context.nextToken();
-                    methodSetting.setCacheTtlInSeconds(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("cacheDataEncrypted", targetDepth)) {
-                    context.nextToken();
-                    methodSetting
-                            .setCacheDataEncrypted(context.getUnmarshaller(
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1165791486:
+                        if (fieldName.equals("metricsEnabled")) {
+                            context.nextToken();
+                            methodSetting.setMetricsEnabled(context.getUnmarshaller(
                                     Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression(
-                        "requireAuthorizationForCacheControl", targetDepth)) {
-                    context.nextToken();
-                    methodSetting
-                            .setRequireAuthorizationForCacheControl(context
-                                    .getUnmarshaller(Boolean.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression(
-                        "unauthorizedCacheControlHeaderStrategy", targetDepth)) {
-                    context.nextToken();
-                    methodSetting
-                            .setUnauthorizedCacheControlHeaderStrategy(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
+                        }
+                        break;
+                    case -912579739:
+                        if (fieldName.equals("loggingLevel")) {
+                            context.nextToken();
+                            methodSetting.setLoggingLevel(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1697759482:
+                        if (fieldName.equals("dataTraceEnabled")) {
+                            context.nextToken();
+                            methodSetting.setDataTraceEnabled(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case -728616126:
+                        if (fieldName.equals("throttlingBurstLimit")) {
+                            context.nextToken();
+                            methodSetting
+                                    .setThrottlingBurstLimit(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 1686558996:
+                        if (fieldName.equals("throttlingRateLimit")) {
+                            context.nextToken();
+                            methodSetting.setThrottlingRateLimit(context
+                                    .getUnmarshaller(Double.class).unmarshall(context));
+                        }
+                        break;
+                    case -445756798:
+                        if (fieldName.equals("cachingEnabled")) {
+                            context.nextToken();
+                            methodSetting.setCachingEnabled(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 359483824:
+                        if (fieldName.equals("cacheTtlInSeconds")) {
+                            context.nextToken();
+                            methodSetting.setCacheTtlInSeconds(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -1844925224:
+                        if (fieldName.equals("cacheDataEncrypted")) {
+                            context.nextToken();
+                            methodSetting
+                                    .setCacheDataEncrypted(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 742827312:
+                        if (fieldName.equals("requireAuthorizationForCacheControl")) {
+                            context.nextToken();
+                            methodSetting
+                                    .setRequireAuthorizationForCacheControl(context
+                                            .getUnmarshaller(Boolean.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case 466078095:
+                        if (fieldName.equals("unauthorizedCacheControlHeaderStrategy")) {
+                            context.nextToken();
+                            methodSetting
+                                    .setUnauthorizedCacheControlHeaderStrategy(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class MethodSnapshotJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("authorizationType", targetDepth)) {
-                    context.nextToken();
-                    methodSnapshot.setAuthorizationType(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("apiKeyRequired", targetDepth)) {
-                    context.nextToken();
-                    methodSnapshot.setApiKeyRequired(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 743112531:
+                        if (fieldName.equals("authorizationType")) {
+                            context.nextToken();
+                            methodSnapshot.setAuthorizationType(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 385292452:
+                        if (fieldName.equals("apiKeyRequired")) {
+                            context.nextToken();
+                            methodSnapshot.setApiKeyRequired(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
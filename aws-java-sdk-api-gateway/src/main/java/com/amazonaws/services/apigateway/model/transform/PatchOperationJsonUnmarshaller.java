@@ -53,25 +53,38 @@ public class PatchOperationJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("op", targetDepth)) {
-                    context.nextToken();
-                    patchOperation.setOp(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("path", targetDepth)) {
-                    context.nextToken();
-                    patchOperation.setPath(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("value", targetDepth)) {
-                    context.nextToken();
-                    patchOperation.setValue(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("from", targetDepth)) {
-                    context.nextToken();
-                    patchOperation.setFrom(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3553:
+                        if (fieldName.equals("op")) {
+                            context.nextToken();
+                            patchOperation.setOp(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 3433509:
+                        if (fieldName.equals("path")) {
+                            context.nextToken();
+                            patchOperation.setPath(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 111972721:
+                        if (fieldName.equals("value")) {
+                            context.nextToken();
+                            patchOperation.setValue(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 3151786:
+                        if (fieldName.equals("from")) {
+                            context.nextToken();
+                            patchOperation.setFrom(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,26 +53,37 @@ public class PutMethodResponseResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("statusCode", targetDepth)) {
-                    context.nextToken();
-                    putMethodResponseResult.setStatusCode(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("responseParameters", targetDepth)) {
-                    context.nextToken();
-                    putMethodResponseResult
-                            .setResponseParameters(new MapUnmarshaller<String, Boolean>(
-                                    context.getUnmarshaller(String.class),
-                                    context.getUnmarshaller(Boolean.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("responseModels", targetDepth)) {
-                    context.nextToken();
-                    putMethodResponseResult
-                            .setResponseModels(new MapUnmarshaller<String, String>(
-                                    context.getUnmarshaller(String.class),
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 247507199:
+                        if (fieldName.equals("statusCode")) {
+                            context.nextToken();
+                            putMethodResponseResult.setStatusCode(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 824775947:
+                        if (fieldName.equals("responseParameters")) {
+                            context.nextToken();
+                            putMethodResponseResult
+                                    .setResponseParameters(new MapUnmarshaller<String, Boolean>(
+                                            context.getUnmarshaller(String.class),
+                                            context.getUnmarshaller(Boolean.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -79858165:
+                        if (fieldName.equals("responseModels")) {
+                            context.nextToken();
+                            putMethodResponseResult
+                                    .setResponseModels(new MapUnmarshaller<String, String>(
+                                            context.getUnmarshaller(String.class),
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
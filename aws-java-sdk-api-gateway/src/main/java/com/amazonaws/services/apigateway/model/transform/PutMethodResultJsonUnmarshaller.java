@@ -53,55 +53,76 @@ public class PutMethodResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("httpMethod", targetDepth)) {
-                    context.nextToken();
-                    putMethodResult.setHttpMethod(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("authorizationType", targetDepth)) {
-                    context.nextToken();
-                    putMethodResult.setAuthorizationType(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("authorizerId", targetDepth)) {
-                    context.nextToken();
-                    putMethodResult.setAuthorizerId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("apiKeyRequired", targetDepth)) {
-                    context.nextToken();
-                    putMethodResult.setApiKeyRequired(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("requestParameters", targetDepth)) {
-                    context.nextToken();
-                    putMethodResult
-                            .setRequestParameters(new MapUnmarshaller<String, Boolean>(
-                                    context.getUnmarshaller(String.class),
-                                    context.getUnmarshaller(Boolean.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("requestModels", targetDepth)) {
-                    context.nextToken();
-                    putMethodResult
-                            .setRequestModels(new MapUnmarshaller<String, String>(
-                                    context.getUnmarshaller(String.class),
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("methodResponses", targetDepth)) {
-                    context.nextToken();
-                    putMethodResult
-                            .setMethodResponses(new MapUnmarshaller<String, MethodResponse>(
-                                    context.getUnmarshaller(String.class),
-                                    MethodResponseJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("methodIntegration", targetDepth)) {
-                    context.nextToken();
-                    putMethodResult
-                            .setMethodIntegration(IntegrationJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 751124361:
+                        if (fieldName.equals("httpMethod")) {
+                            context.nextToken();
+                            putMethodResult.setHttpMethod(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 743112531:
+                        if (fieldName.equals("authorizationType")) {
+                            context.nextToken();
+                            putMethodResult.setAuthorizationType(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 925251748:
+                        if (fieldName.equals("authorizerId")) {
+                            context.nextToken();
+                            putMethodResult.setAuthorizerId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 385292452:
+                        if (fieldName.equals("apiKeyRequired")) {
+                            context.nextToken();
+                            putMethodResult.setApiKeyRequired(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 1722935769:
+                        if (fieldName.equals("requestParameters")) {
+                            context.nextToken();
+                            putMethodResult
+                                    .setRequestParameters(new MapUnmarshaller<String, Boolean>(
+                                            context.getUnmarshaller(String.class),
+                                            context.getUnmarshaller(Boolean.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1226629593:
+                        if (fieldName.equals("requestModels")) {
+                            context.nextToken();
+                            putMethodResult
+                                    .setRequestModels(new MapUnmarshaller<String, String>(
+                                            context.getUnmarshaller(String.class),
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1863438223:
+                        if (fieldName.equals("methodResponses")) {
+                            context.nextToken();
+                            putMethodResult
+                                    .setMethodResponses(new MapUnmarshaller<String, MethodResponse>(
+                                            context.getUnmarshaller(String.class),
+                                            MethodResponseJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -453990861:
+                        if (fieldName.equals("methodIntegration")) {
+                            context.nextToken();
+                            putMethodResult
+                                    .setMethodIntegration(IntegrationJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
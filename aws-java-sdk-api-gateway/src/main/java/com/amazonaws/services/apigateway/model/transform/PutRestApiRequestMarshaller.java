@@ -100,7 +100,7 @@ public class PutRestApiRequestMarshaller implements
             }
         }
 
-        request.setContent(BinaryUtils.toStream(putRestApiRequest.getBody()));
+        request.setContent(BinaryUtils.toReplayableStream(putRestApiRequest.getBody()));
         if (!request.getHeaders().containsKey("Content-Type")) {
             request.addHeader("Content-Type", DEFAULT_CONTENT_TYPE);
         }
@@ -52,64 +52,91 @@ public class StageJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("deploymentId", targetDepth)) {
-                    context.nextToken();
-                    stage.setDeploymentId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("clientCertificateId", targetDepth)) {
-                    context.nextToken();
-                    stage.setClientCertificateId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("stageName", targetDepth)) {
-                    context.nextToken();
-                    stage.setStageName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    stage.setDescription(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("cacheClusterEnabled", targetDepth)) {
-                    context.nextToken();
-                    stage.setCacheClusterEnabled(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("cacheClusterSize", targetDepth)) {
-                    context.nextToken();
-                    stage.setCacheClusterSize(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("cacheClusterStatus", targetDepth)) {
-                    context.nextToken();
-                    stage.setCacheClusterStatus(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("methodSettings", targetDepth)) {
-                    context.nextToken();
-                    stage.setMethodSettings(new MapUnmarshaller<String, MethodSetting>(
-                            context.getUnmarshaller(String.class),
-                            MethodSettingJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("variables", targetDepth)) {
-                    context.nextToken();
-                    stage.setVariables(new MapUnmarshaller<String, String>(
-                            context.getUnmarshaller(String.class), context
-                                    .getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("createdDate", targetDepth)) {
-                    context.nextToken();
-                    stage.setCreatedDate(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("lastUpdatedDate", targetDepth)) {
-                    context.nextToken();
-                    stage.setLastUpdatedDate(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -136894784:
+                        if (fieldName.equals("deploymentId")) {
+                            context.nextToken();
+                            stage.setDeploymentId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -2002567417:
+                        if (fieldName.equals("clientCertificateId")) {
+                            context.nextToken();
+                            stage.setClientCertificateId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1836712617:
+                        if (fieldName.equals("stageName")) {
+                            context.nextToken();
+                            stage.setStageName(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1724546052:
+                        if (fieldName.equals("description")) {
+                            context.nextToken();
+                            stage.setDescription(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -440208375:
+                        if (fieldName.equals("cacheClusterEnabled")) {
+                            context.nextToken();
+                            stage.setCacheClusterEnabled(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case -1375704007:
+                        if (fieldName.equals("cacheClusterSize")) {
+                            context.nextToken();
+                            stage.setCacheClusterSize(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 807808554:
+                        if (fieldName.equals("cacheClusterStatus")) {
+                            context.nextToken();
+                            stage.setCacheClusterStatus(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1853390884:
+                        if (fieldName.equals("methodSettings")) {
+                            context.nextToken();
+                            stage.setMethodSettings(new MapUnmarshaller<String, MethodSetting>(
+                                    context.getUnmarshaller(String.class),
+                                    MethodSettingJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -82477705:
+                        if (fieldName.equals("variables")) {
+                            context.nextToken();
+                            stage.setVariables(new MapUnmarshaller<String, String>(
+                                    context.getUnmarshaller(String.class), context
+                                            .getUnmarshaller(String.class))
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -490393930:
+                        if (fieldName.equals("createdDate")) {
+                            context.nextToken();
+                            stage.setCreatedDate(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 1616980627:
+                        if (fieldName.equals("lastUpdatedDate")) {
+                            context.nextToken();
+                            stage.setLastUpdatedDate(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
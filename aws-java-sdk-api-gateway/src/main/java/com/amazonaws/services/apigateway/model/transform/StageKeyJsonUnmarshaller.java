@@ -53,15 +53,24 @@ public class StageKeyJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("restApiId", targetDepth)) {
-                    context.nextToken();
-                    stageKey.setRestApiId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("stageName", targetDepth)) {
-                    context.nextToken();
-                    stageKey.setStageName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1888002719:
+                        if (fieldName.equals("restApiId")) {
+                            context.nextToken();
+                            stageKey.setRestApiId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1836712617:
+                        if (fieldName.equals("stageName")) {
+                            context.nextToken();
+                            stageKey.setStageName(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
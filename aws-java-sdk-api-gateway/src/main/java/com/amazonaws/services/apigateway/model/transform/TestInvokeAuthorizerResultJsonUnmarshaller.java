@@ -53,40 +53,57 @@ public class TestInvokeAuthorizerResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("clientStatus", targetDepth)) {
-                    context.nextToken();
-                    testInvokeAuthorizerResult
-                            .setClientStatus(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("log", targetDepth)) {
-                    context.nextToken();
-                    testInvokeAuthorizerResult.setLog(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("latency", targetDepth)) {
-                    context.nextToken();
-                    testInvokeAuthorizerResult.setLatency(context
-                            .getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("principalId", targetDepth)) {
-                    context.nextToken();
-                    testInvokeAuthorizerResult.setPrincipalId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("policy", targetDepth)) {
-                    context.nextToken();
-                    testInvokeAuthorizerResult.setPolicy(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("authorization", targetDepth)) {
-                    context.nextToken();
-                    testInvokeAuthorizerResult
-                            .setAuthorization(new MapUnmarshaller<String, java.util.List<String>>(
-                                    context.getUnmarshaller(String.class),
-                                    new ListUnmarshaller<String>(context
-                                            .getUnmarshaller(String.class)))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1433113699:
+                        if (fieldName.equals("clientStatus")) {
+                            context.nextToken();
+                            testInvokeAuthorizerResult
+                                    .setClientStatus(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 107332:
+                        if (fieldName.equals("log")) {
+                            context.nextToken();
+                            testInvokeAuthorizerResult.setLog(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -46576386:
+                        if (fieldName.equals("latency")) {
+                            context.nextToken();
+                            testInvokeAuthorizerResult.setLatency(context
+                                    .getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    case -1910299159:
+                        if (fieldName.equals("principalId")) {
+                            context.nextToken();
+                            testInvokeAuthorizerResult.setPrincipalId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -982670030:
+                        if (fieldName.equals("policy")) {
+                            context.nextToken();
+                            testInvokeAuthorizerResult.setPolicy(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1385570183:
+                        if (fieldName.equals("authorization")) {
+                            context.nextToken();
+                            testInvokeAuthorizerResult
+                                    .setAuthorization(new MapUnmarshaller<String, java.util.List<String>>(
+                                            context.getUnmarshaller(String.class),
+                                            new ListUnmarshaller<String>(context
+                                                    .getUnmarshaller(String.class)))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
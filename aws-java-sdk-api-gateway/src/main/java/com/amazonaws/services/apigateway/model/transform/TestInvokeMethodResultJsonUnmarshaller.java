@@ -53,33 +53,48 @@ public class TestInvokeMethodResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    testInvokeMethodResult.setStatus(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("body", targetDepth)) {
-                    context.nextToken();
-                    testInvokeMethodResult.setBody(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("headers", targetDepth)) {
-                    context.nextToken();
-                    testInvokeMethodResult
-                            .setHeaders(new MapUnmarshaller<String, String>(
-                                    context.getUnmarshaller(String.class),
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("log", targetDepth)) {
-                    context.nextToken();
-                    testInvokeMethodResult.setLog(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("latency", targetDepth)) {
-                    context.nextToken();
-                    testInvokeMethodResult.setLatency(context.getUnmarshaller(
-                            Long.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -892481550:
+                        if (fieldName.equals("status")) {
+                            context.nextToken();
+                            testInvokeMethodResult.setStatus(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 3029410:
+                        if (fieldName.equals("body")) {
+                            context.nextToken();
+                            testInvokeMethodResult.setBody(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 795307910:
+                        if (fieldName.equals("headers")) {
+                            context.nextToken();
+                            testInvokeMethodResult
+                                    .setHeaders(new MapUnmarshaller<String, String>(
+                                            context.getUnmarshaller(String.class),
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 107332:
+                        if (fieldName.equals("log")) {
+                            context.nextToken();
+                            testInvokeMethodResult.setLog(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -46576386:
+                        if (fieldName.equals("latency")) {
+                            context.nextToken();
+                            testInvokeMethodResult.setLatency(context.getUnmarshaller(
+                                    Long.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class ThrottleSettingsJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("burstLimit", targetDepth)) {
-                    context.nextToken();
-                    throttleSettings.setBurstLimit(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("rateLimit", targetDepth)) {
-                    context.nextToken();
-                    throttleSettings.setRateLimit(context.getUnmarshaller(
-                            Double.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 392767099:
+                        if (fieldName.equals("burstLimit")) {
+                            context.nextToken();
+                            throttleSettings.setBurstLimit(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 198711995:
+                        if (fieldName.equals("rateLimit")) {
+                            context.nextToken();
+                            throttleSettings.setRateLimit(context.getUnmarshaller(
+                                    Double.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
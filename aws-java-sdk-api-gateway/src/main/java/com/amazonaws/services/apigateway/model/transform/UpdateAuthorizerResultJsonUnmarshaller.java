@@ -53,57 +53,77 @@ public class UpdateAuthorizerResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    updateAuthorizerResult.setId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    updateAuthorizerResult.setName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("type", targetDepth)) {
-                    context.nextToken();
-                    updateAuthorizerResult.setType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("authType", targetDepth)) {
-                    context.nextToken();
-                    updateAuthorizerResult.setAuthType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("authorizerUri", targetDepth)) {
-                    context.nextToken();
-                    updateAuthorizerResult.setAuthorizerUri(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("authorizerCredentials", targetDepth)) {
-                    context.nextToken();
-                    updateAuthorizerResult.setAuthorizerCredentials(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("identitySource", targetDepth)) {
-                    context.nextToken();
-                    updateAuthorizerResult.setIdentitySource(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("identityValidationExpression",
-                        targetDepth)) {
-                    context.nextToken();
-                    updateAuthorizerResult
-                            .setIdentityValidationExpression(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("authorizerResultTtlInSeconds",
-                        targetDepth)) {
-                    context.nextToken();
-                    updateAuthorizerResult
-                            .setAuthorizerResultTtlInSeconds(context
-                                    .getUnmarshaller(Integer.class).unmarshall(
-                                            context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3355:
+                        if (fieldName.equals("id")) {
+                            context.nextToken();
+                            updateAuthorizerResult.setId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 3373707:
+                        if (fieldName.equals("name")) {
+                            context.nextToken();
+                            updateAuthorizerResult.setName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 3575610:
+                        if (fieldName.equals("type")) {
+                            context.nextToken();
+                            updateAuthorizerResult.setType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1432276226:
+                        if (fieldName.equals("authType")) {
+                            context.nextToken();
+                            updateAuthorizerResult.setAuthType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1381954813:
+                        if (fieldName.equals("authorizerUri")) {
+                            context.nextToken();
+                            updateAuthorizerResult.setAuthorizerUri(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1776229997:
+                        if (fieldName.equals("authorizerCredentials")) {
+                            context.nextToken();
+                            updateAuthorizerResult.setAuthorizerCredentials(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -89538951:
+                        if (fieldName.equals("identitySource")) {
+                            context.nextToken();
+                            updateAuthorizerResult.setIdentitySource(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1418785329:
+                        if (fieldName.equals("identityValidationExpression")) {
+                            context.nextToken();
+                            updateAuthorizerResult
+                                    .setIdentityValidationExpression(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -857519276:
+                        if (fieldName.equals("authorizerResultTtlInSeconds")) {
+                            context.nextToken();
+                            updateAuthorizerResult
+                                    .setAuthorizerResultTtlInSeconds(context
+                                            .getUnmarshaller(Integer.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
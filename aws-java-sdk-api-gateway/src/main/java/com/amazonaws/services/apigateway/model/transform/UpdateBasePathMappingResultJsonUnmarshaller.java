@@ -53,20 +53,31 @@ public class UpdateBasePathMappingResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("basePath", targetDepth)) {
-                    context.nextToken();
-                    updateBasePathMappingResult.setBasePath(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("restApiId", targetDepth)) {
-                    context.nextToken();
-                    updateBasePathMappingResult.setRestApiId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("stage", targetDepth)) {
-                    context.nextToken();
-                    updateBasePathMappingResult.setStage(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1721626986:
+                        if (fieldName.equals("basePath")) {
+                            context.nextToken();
+                            updateBasePathMappingResult.setBasePath(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1888002719:
+                        if (fieldName.equals("restApiId")) {
+                            context.nextToken();
+                            updateBasePathMappingResult.setRestApiId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 109757182:
+                        if (fieldName.equals("stage")) {
+                            context.nextToken();
+                            updateBasePathMappingResult.setStage(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
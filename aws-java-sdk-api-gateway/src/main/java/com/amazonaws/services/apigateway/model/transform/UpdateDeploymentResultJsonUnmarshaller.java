@@ -53,32 +53,45 @@ public class UpdateDeploymentResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    updateDeploymentResult.setId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    updateDeploymentResult.setDescription(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("createdDate", targetDepth)) {
-                    context.nextToken();
-                    updateDeploymentResult.setCreatedDate(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("apiSummary", targetDepth)) {
-                    context.nextToken();
-                    updateDeploymentResult
-                            .setApiSummary(new MapUnmarshaller<String, java.util.Map<String, MethodSnapshot>>(
-                                    context.getUnmarshaller(String.class),
-                                    new MapUnmarshaller<String, MethodSnapshot>(
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3355:
+                        if (fieldName.equals("id")) {
+                            context.nextToken();
+                            updateDeploymentResult.setId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1724546052:
+                        if (fieldName.equals("description")) {
+                            context.nextToken();
+                            updateDeploymentResult.setDescription(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -490393930:
+                        if (fieldName.equals("createdDate")) {
+                            context.nextToken();
+                            updateDeploymentResult.setCreatedDate(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case -39906260:
+                        if (fieldName.equals("apiSummary")) {
+                            context.nextToken();
+                            updateDeploymentResult
+                                    .setApiSummary(new MapUnmarshaller<String, java.util.Map<String, MethodSnapshot>>(
                                             context.getUnmarshaller(String.class),
-                                            MethodSnapshotJsonUnmarshaller
-                                                    .getInstance()))
-                                    .unmarshall(context));
+                                            new MapUnmarshaller<String, MethodSnapshot>(
+                                                    context.getUnmarshaller(String.class),
+                                                    MethodSnapshotJsonUnmarshaller
+                                                            .getInstance()))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,66 +53,91 @@ public class UpdateIntegrationResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("type", targetDepth)) {
-                    context.nextToken();
-                    updateIntegrationResult.setType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("httpMethod", targetDepth)) {
-                    context.nextToken();
-                    updateIntegrationResult.setHttpMethod(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("uri", targetDepth)) {
-                    context.nextToken();
-                    updateIntegrationResult.setUri(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("credentials", targetDepth)) {
-                    context.nextToken();
-                    updateIntegrationResult.setCredentials(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("requestParameters", targetDepth)) {
-                    context.nextToken();
-                    updateIntegrationResult
-                            .setRequestParameters(new MapUnmarshaller<String, String>(
-                                    context.getUnmarshaller(String.class),
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("requestTemplates", targetDepth)) {
-                    context.nextToken();
-                    updateIntegrationResult
-                            .setRequestTemplates(new MapUnmarshaller<String, String>(
-                                    context.getUnmarshaller(String.class),
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("passthroughBehavior", targetDepth)) {
-                    context.nextToken();
-                    updateIntegrationResult.setPassthroughBehavior(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("cacheNamespace", targetDepth)) {
-                    context.nextToken();
-                    updateIntegrationResult.setCacheNamespace(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("cacheKeyParameters", targetDepth)) {
-                    context.nextToken();
-                    updateIntegrationResult
-                            .setCacheKeyParameters(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("integrationResponses", targetDepth)) {
-                    context.nextToken();
-                    updateIntegrationResult
-                            .setIntegrationResponses(new MapUnmarshaller<String, IntegrationResponse>(
-                                    context.getUnmarshaller(String.class),
-                                    IntegrationResponseJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3575610:
+                        if (fieldName.equals("type")) {
+                            context.nextToken();
+                            updateIntegrationResult.setType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 751124361:
+                        if (fieldName.equals("httpMethod")) {
+                            context.nextToken();
+                            updateIntegrationResult.setHttpMethod(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 116076:
+                        if (fieldName.equals("uri")) {
+                            context.nextToken();
+                            updateIntegrationResult.setUri(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 288957180:
+                        if (fieldName.equals("credentials")) {
+                            context.nextToken();
+                            updateIntegrationResult.setCredentials(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1722935769:
+                        if (fieldName.equals("requestParameters")) {
+                            context.nextToken();
+                            updateIntegrationResult
+                                    .setRequestParameters(new MapUnmarshaller<String, String>(
+                                            context.getUnmarshaller(String.class),
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 637034858:
+                        if (fieldName.equals("requestTemplates")) {
+                            context.nextToken();
+                            updateIntegrationResult
+                                    .setRequestTemplates(new MapUnmarshaller<String, String>(
+                                            context.getUnmarshaller(String.class),
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -61545466:
+                        if (fieldName.equals("passthroughBehavior")) {
+                            context.nextToken();
+                            updateIntegrationResult.setPassthroughBehavior(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1377114105:
+                        if (fieldName.equals("cacheNamespace")) {
+                            context.nextToken();
+                            updateIntegrationResult.setCacheNamespace(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1234130247:
+                        if (fieldName.equals("cacheKeyParameters")) {
+                            context.nextToken();
+                            updateIntegrationResult
+                                    .setCacheKeyParameters(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1689677022:
+                        if (fieldName.equals("integrationResponses")) {
+                            context.nextToken();
+                            updateIntegrationResult
+                                    .setIntegrationResponses(new MapUnmarshaller<String, IntegrationResponse>(
+                                            context.getUnmarshaller(String.class),
+                                            IntegrationResponseJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,33 +53,48 @@ public class UpdateResourceResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    updateResourceResult.setId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("parentId", targetDepth)) {
-                    context.nextToken();
-                    updateResourceResult.setParentId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("pathPart", targetDepth)) {
-                    context.nextToken();
-                    updateResourceResult.setPathPart(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("path", targetDepth)) {
-                    context.nextToken();
-                    updateResourceResult.setPath(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("resourceMethods", targetDepth)) {
-                    context.nextToken();
-                    updateResourceResult
-                            .setResourceMethods(new MapUnmarshaller<String, Method>(
-                                    context.getUnmarshaller(String.class),
-                                    MethodJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3355:
+                        if (fieldName.equals("id")) {
+                            context.nextToken();
+                            updateResourceResult.setId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1175162725:
+                        if (fieldName.equals("parentId")) {
+                            context.nextToken();
+                            updateResourceResult.setParentId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1234280888:
+                        if (fieldName.equals("pathPart")) {
+                            context.nextToken();
+                            updateResourceResult.setPathPart(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 3433509:
+                        if (fieldName.equals("path")) {
+                            context.nextToken();
+                            updateResourceResult.setPath(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1590498244:
+                        if (fieldName.equals("resourceMethods")) {
+                            context.nextToken();
+                            updateResourceResult
+                                    .setResourceMethods(new MapUnmarshaller<String, Method>(
+                                            context.getUnmarshaller(String.class),
+                                            MethodJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
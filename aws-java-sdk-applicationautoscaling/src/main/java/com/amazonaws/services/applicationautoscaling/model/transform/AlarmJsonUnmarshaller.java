@@ -52,15 +52,24 @@ public class AlarmJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AlarmName", targetDepth)) {
-                    context.nextToken();
-                    alarm.setAlarmName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("AlarmARN", targetDepth)) {
-                    context.nextToken();
-                    alarm.setAlarmARN(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1279850588:
+                        if (fieldName.equals("AlarmName")) {
+                            context.nextToken();
+                            alarm.setAlarmName(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1565293164:
+                        if (fieldName.equals("AlarmARN")) {
+                            context.nextToken();
+                            alarm.setAlarmARN(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class DescribeScalableTargetsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ScalableTargets", targetDepth)) {
-                    context.nextToken();
-                    describeScalableTargetsResult
-                            .setScalableTargets(new ListUnmarshaller<ScalableTarget>(
-                                    ScalableTargetJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeScalableTargetsResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1736273715:
+                        if (fieldName.equals("ScalableTargets")) {
+                            context.nextToken();
+                            describeScalableTargetsResult
+                                    .setScalableTargets(new ListUnmarshaller<ScalableTarget>(
+                                            ScalableTargetJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1084080474:
+                        if (fieldName.equals("NextToken")) {
+                            context.nextToken();
+                            describeScalableTargetsResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
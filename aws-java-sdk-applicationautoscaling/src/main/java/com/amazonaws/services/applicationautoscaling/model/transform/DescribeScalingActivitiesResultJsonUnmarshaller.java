@@ -53,17 +53,26 @@ public class DescribeScalingActivitiesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ScalingActivities", targetDepth)) {
-                    context.nextToken();
-                    describeScalingActivitiesResult
-                            .setScalingActivities(new ListUnmarshaller<ScalingActivity>(
-                                    ScalingActivityJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeScalingActivitiesResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1288448332:
+                        if (fieldName.equals("ScalingActivities")) {
+                            context.nextToken();
+                            describeScalingActivitiesResult
+                                    .setScalingActivities(new ListUnmarshaller<ScalingActivity>(
+                                            ScalingActivityJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1084080474:
+                        if (fieldName.equals("NextToken")) {
+                            context.nextToken();
+                            describeScalingActivitiesResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
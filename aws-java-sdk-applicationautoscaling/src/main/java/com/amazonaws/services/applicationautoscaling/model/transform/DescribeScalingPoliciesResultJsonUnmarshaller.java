@@ -53,17 +53,26 @@ public class DescribeScalingPoliciesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ScalingPolicies", targetDepth)) {
-                    context.nextToken();
-                    describeScalingPoliciesResult
-                            .setScalingPolicies(new ListUnmarshaller<ScalingPolicy>(
-                                    ScalingPolicyJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeScalingPoliciesResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -287862313:
+                        if (fieldName.equals("ScalingPolicies")) {
+                            context.nextToken();
+                            describeScalingPoliciesResult
+                                    .setScalingPolicies(new ListUnmarshaller<ScalingPolicy>(
+                                            ScalingPolicyJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1084080474:
+                        if (fieldName.equals("NextToken")) {
+                            context.nextToken();
+                            describeScalingPoliciesResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
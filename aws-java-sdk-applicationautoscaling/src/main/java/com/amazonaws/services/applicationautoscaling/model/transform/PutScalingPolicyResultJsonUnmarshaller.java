@@ -53,10 +53,17 @@ public class PutScalingPolicyResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("PolicyARN", targetDepth)) {
-                    context.nextToken();
-                    putScalingPolicyResult.setPolicyARN(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1778258859:
+                        if (fieldName.equals("PolicyARN")) {
+                            context.nextToken();
+                            putScalingPolicyResult.setPolicyARN(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
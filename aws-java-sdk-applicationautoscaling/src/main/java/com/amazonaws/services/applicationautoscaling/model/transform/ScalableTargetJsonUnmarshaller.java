@@ -53,40 +53,59 @@ public class ScalableTargetJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ServiceNamespace", targetDepth)) {
-                    context.nextToken();
-                    scalableTarget.setServiceNamespace(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ResourceId", targetDepth)) {
-                    context.nextToken();
-                    scalableTarget.setResourceId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ScalableDimension", targetDepth)) {
-                    context.nextToken();
-                    scalableTarget.setScalableDimension(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MinCapacity", targetDepth)) {
-                    context.nextToken();
-                    scalableTarget.setMinCapacity(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("MaxCapacity", targetDepth)) {
-                    context.nextToken();
-                    scalableTarget.setMaxCapacity(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("RoleARN", targetDepth)) {
-                    context.nextToken();
-                    scalableTarget.setRoleARN(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationTime", targetDepth)) {
-                    context.nextToken();
-                    scalableTarget.setCreationTime(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -94261690:
+                        if (fieldName.equals("ServiceNamespace")) {
+                            context.nextToken();
+                            scalableTarget.setServiceNamespace(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 647814633:
+                        if (fieldName.equals("ResourceId")) {
+                            context.nextToken();
+                            scalableTarget.setResourceId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1903785585:
+                        if (fieldName.equals("ScalableDimension")) {
+                            context.nextToken();
+                            scalableTarget.setScalableDimension(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1340058356:
+                        if (fieldName.equals("MinCapacity")) {
+                            context.nextToken();
+                            scalableTarget.setMinCapacity(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -662625762:
+                        if (fieldName.equals("MaxCapacity")) {
+                            context.nextToken();
+                            scalableTarget.setMaxCapacity(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -1253459481:
+                        if (fieldName.equals("RoleARN")) {
+                            context.nextToken();
+                            scalableTarget.setRoleARN(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1750336108:
+                        if (fieldName.equals("CreationTime")) {
+                            context.nextToken();
+                            scalableTarget.setCreationTime(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,60 +53,87 @@ public class ScalingActivityJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ActivityId", targetDepth)) {
-                    context.nextToken();
-                    scalingActivity.setActivityId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ServiceNamespace", targetDepth)) {
-                    context.nextToken();
-                    scalingActivity.setServiceNamespace(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ResourceId", targetDepth)) {
-                    context.nextToken();
-                    scalingActivity.setResourceId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ScalableDimension", targetDepth)) {
-                    context.nextToken();
-                    scalingActivity.setScalableDimension(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Description", targetDepth)) {
-                    context.nextToken();
-                    scalingActivity.setDescription(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Cause", targetDepth)) {
-                    context.nextToken();
-                    scalingActivity.setCause(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("StartTime", targetDepth)) {
-                    context.nextToken();
-                    scalingActivity.setStartTime(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("EndTime", targetDepth)) {
-                    context.nextToken();
-                    scalingActivity.setEndTime(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("StatusCode", targetDepth)) {
-                    context.nextToken();
-                    scalingActivity.setStatusCode(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("StatusMessage", targetDepth)) {
-                    context.nextToken();
-                    scalingActivity.setStatusMessage(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Details", targetDepth)) {
-                    context.nextToken();
-                    scalingActivity.setDetails(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -252882774:
+                        if (fieldName.equals("ActivityId")) {
+                            context.nextToken();
+                            scalingActivity.setActivityId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -94261690:
+                        if (fieldName.equals("ServiceNamespace")) {
+                            context.nextToken();
+                            scalingActivity.setServiceNamespace(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 647814633:
+                        if (fieldName.equals("ResourceId")) {
+                            context.nextToken();
+                            scalingActivity.setResourceId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1903785585:
+                        if (fieldName.equals("ScalableDimension")) {
+                            context.nextToken();
+                            scalingActivity.setScalableDimension(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -56677412:
+                        if (fieldName.equals("Description")) {
+                            context.nextToken();
+                            scalingActivity.setDescription(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 64881737:
+                        if (fieldName.equals("Cause")) {
+                            context.nextToken();
+                            scalingActivity.setCause(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -125326801:
+                        if (fieldName.equals("StartTime")) {
+                            context.nextToken();
+                            scalingActivity.setStartTime(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 57410088:
+                        if (fieldName.equals("EndTime")) {
+                            context.nextToken();
+                            scalingActivity.setEndTime(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case -2053995233:
+                        if (fieldName.equals("StatusCode")) {
+                            context.nextToken();
+                            scalingActivity.setStatusCode(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -159743083:
+                        if (fieldName.equals("StatusMessage")) {
+                            context.nextToken();
+                            scalingActivity.setStatusMessage(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1072592350:
+                        if (fieldName.equals("Details")) {
+                            context.nextToken();
+                            scalingActivity.setDetails(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
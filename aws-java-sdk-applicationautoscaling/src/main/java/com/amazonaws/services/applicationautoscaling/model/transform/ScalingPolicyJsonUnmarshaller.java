@@ -53,53 +53,75 @@ public class ScalingPolicyJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("PolicyARN", targetDepth)) {
-                    context.nextToken();
-                    scalingPolicy.setPolicyARN(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("PolicyName", targetDepth)) {
-                    context.nextToken();
-                    scalingPolicy.setPolicyName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ServiceNamespace", targetDepth)) {
-                    context.nextToken();
-                    scalingPolicy.setServiceNamespace(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ResourceId", targetDepth)) {
-                    context.nextToken();
-                    scalingPolicy.setResourceId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ScalableDimension", targetDepth)) {
-                    context.nextToken();
-                    scalingPolicy.setScalableDimension(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("PolicyType", targetDepth)) {
-                    context.nextToken();
-                    scalingPolicy.setPolicyType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("StepScalingPolicyConfiguration",
-                        targetDepth)) {
-                    context.nextToken();
-                    scalingPolicy
-                            .setStepScalingPolicyConfiguration(StepScalingPolicyConfigurationJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Alarms", targetDepth)) {
-                    context.nextToken();
-                    scalingPolicy.setAlarms(new ListUnmarshaller<Alarm>(
-                            AlarmJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("CreationTime", targetDepth)) {
-                    context.nextToken();
-                    scalingPolicy.setCreationTime(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1778258859:
+                        if (fieldName.equals("PolicyARN")) {
+                            context.nextToken();
+                            scalingPolicy.setPolicyARN(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -708147459:
+                        if (fieldName.equals("PolicyName")) {
+                            context.nextToken();
+                            scalingPolicy.setPolicyName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -94261690:
+                        if (fieldName.equals("ServiceNamespace")) {
+                            context.nextToken();
+                            scalingPolicy.setServiceNamespace(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 647814633:
+                        if (fieldName.equals("ResourceId")) {
+                            context.nextToken();
+                            scalingPolicy.setResourceId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1903785585:
+                        if (fieldName.equals("ScalableDimension")) {
+                            context.nextToken();
+                            scalingPolicy.setScalableDimension(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -707945556:
+                        if (fieldName.equals("PolicyType")) {
+                            context.nextToken();
+                            scalingPolicy.setPolicyType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -2114682391:
+                        if (fieldName.equals("StepScalingPolicyConfiguration")) {
+                            context.nextToken();
+                            scalingPolicy
+                                    .setStepScalingPolicyConfiguration(StepScalingPolicyConfigurationJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1963637858:
+                        if (fieldName.equals("Alarms")) {
+                            context.nextToken();
+                            scalingPolicy.setAlarms(new ListUnmarshaller<Alarm>(
+                                    AlarmJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1750336108:
+                        if (fieldName.equals("CreationTime")) {
+                            context.nextToken();
+                            scalingPolicy.setCreationTime(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,23 +53,32 @@ public class StepAdjustmentJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("MetricIntervalLowerBound",
-                        targetDepth)) {
-                    context.nextToken();
-                    stepAdjustment.setMetricIntervalLowerBound(context
-                            .getUnmarshaller(Double.class).unmarshall(context));
-                }
-                if (context.testExpression("MetricIntervalUpperBound",
-                        targetDepth)) {
-                    context.nextToken();
-                    stepAdjustment.setMetricIntervalUpperBound(context
-                            .getUnmarshaller(Double.class).unmarshall(context));
-                }
-                if (context.testExpression("ScalingAdjustment", targetDepth)) {
-                    context.nextToken();
-                    stepAdjustment
-                            .setScalingAdjustment(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1953370222:
+                        if (fieldName.equals("MetricIntervalLowerBound")) {
+                            context.nextToken();
+                            stepAdjustment.setMetricIntervalLowerBound(context
+                                    .getUnmarshaller(Double.class).unmarshall(context));
+                        }
+                        break;
+                    case -549249391:
+                        if (fieldName.equals("MetricIntervalUpperBound")) {
+                            context.nextToken();
+                            stepAdjustment.setMetricIntervalUpperBound(context
+                                    .getUnmarshaller(Double.class).unmarshall(context));
+                        }
+                        break;
+                    case -1359968204:
+                        if (fieldName.equals("ScalingAdjustment")) {
+                            context.nextToken();
+                            stepAdjustment
+                                    .setScalingAdjustment(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,37 +53,50 @@ public class StepScalingPolicyConfigurationJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AdjustmentType", targetDepth)) {
-                    context.nextToken();
-                    stepScalingPolicyConfiguration.setAdjustmentType(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StepAdjustments", targetDepth)) {
-                    context.nextToken();
-                    stepScalingPolicyConfiguration
-                            .setStepAdjustments(new ListUnmarshaller<StepAdjustment>(
-                                    StepAdjustmentJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("MinAdjustmentMagnitude",
-                        targetDepth)) {
-                    context.nextToken();
-                    stepScalingPolicyConfiguration
-                            .setMinAdjustmentMagnitude(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Cooldown", targetDepth)) {
-                    context.nextToken();
-                    stepScalingPolicyConfiguration
-                            .setCooldown(context.getUnmarshaller(Integer.class)
-                                    .unmarshall(context));
-                }
-                if (context
-                        .testExpression("MetricAggregationType", targetDepth)) {
-                    context.nextToken();
-                    stepScalingPolicyConfiguration
-                            .setMetricAggregationType(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -2004337049:
+                        if (fieldName.equals("AdjustmentType")) {
+                            context.nextToken();
+                            stepScalingPolicyConfiguration.setAdjustmentType(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1701043686:
+                        if (fieldName.equals("StepAdjustments")) {
+                            context.nextToken();
+                            stepScalingPolicyConfiguration
+                                    .setStepAdjustments(new ListUnmarshaller<StepAdjustment>(
+                                            StepAdjustmentJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1619523695:
+                        if (fieldName.equals("MinAdjustmentMagnitude")) {
+                            context.nextToken();
+                            stepScalingPolicyConfiguration
+                                    .setMinAdjustmentMagnitude(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -481465461:
+                        if (fieldName.equals("Cooldown")) {
+                            context.nextToken();
+                            stepScalingPolicyConfiguration
+                                    .setCooldown(context.getUnmarshaller(Integer.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 179070284:
+                        if (fieldName.equals("MetricAggregationType")) {
+                            context.nextToken();
+                            stepScalingPolicyConfiguration
+                                    .setMetricAggregationType(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
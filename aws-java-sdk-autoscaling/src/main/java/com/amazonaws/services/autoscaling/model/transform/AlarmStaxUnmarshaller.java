@@ -21,7 +21,7 @@ import java.util.HashMap;
 import java.util.ArrayList;
 import java.util.Map.Entry;
 
-import javax.xml.stream.events.XMLEvent;
+import static javax.xml.stream.XMLStreamConstants.*;
 
 import com.amazonaws.services.autoscaling.model.*;
 import com.amazonaws.transform.Unmarshaller;
@@ -44,11 +44,11 @@ public class AlarmStaxUnmarshaller implements
             targetDepth += 1;
 
         while (true) {
-            XMLEvent xmlEvent = context.nextEvent();
-            if (xmlEvent.isEndDocument())
+            int eventType = context.nextEventType();
+            if (eventType == END_DOCUMENT)
                 return alarm;
 
-            if (xmlEvent.isAttribute() || xmlEvent.isStartElement()) {
+            if (eventType == ATTRIBUTE || eventType == START_ELEMENT) {
 
                 if (context.testExpression("AlarmName", targetDepth)) {
                     alarm.setAlarmName(StringStaxUnmarshaller.getInstance()
@@ -61,7 +61,7 @@ public class AlarmStaxUnmarshaller implements
                             .unmarshall(context));
                     continue;
                 }
-            } else if (xmlEvent.isEndElement()) {
+            } else if (eventType == END_ELEMENT) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return alarm;
                 }
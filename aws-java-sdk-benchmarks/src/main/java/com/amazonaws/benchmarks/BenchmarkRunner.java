@@ -0,0 +1,67 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks uber-jar.
+ * <p>
+ * Runs every benchmark matching the (optional) regular expression given as the
+ * first argument twice: once in {@link Mode#Throughput} reporting ops/s, and
+ * once in {@link Mode#SampleTime} reporting the latency distribution
+ * (including p99) in microseconds. Both runs attach the {@link GCProfiler} so
+ * the allocation rate and bytes allocated per operation
+ * (<code>gc.alloc.rate.norm</code>) are reported next to every score. Results
+ * are written as JSON to <code>throughput.json</code> and
+ * <code>latency.json</code> in the working directory so they can be compared
+ * between two builds.
+ *
+ * <pre>
+ * mvn -pl aws-java-sdk-benchmarks package
+ * java -jar aws-java-sdk-benchmarks/target/benchmarks.jar [regexp]
+ * </pre>
+ *
+ * Any other combination of JMH options can be used by running
+ * <code>org.openjdk.jmh.Main</code> from the same jar instead.
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException {
+        final String include = args.length > 0 ? args[0] : ".*Benchmark.*";
+
+        new Runner(options(include, Mode.Throughput, TimeUnit.SECONDS, "throughput.json")).run();
+        new Runner(options(include, Mode.SampleTime, TimeUnit.MICROSECONDS, "latency.json")).run();
+    }
+
+    private static Options options(String include, Mode mode, TimeUnit timeUnit, String resultFile) {
+        return new OptionsBuilder()
+                .include(include)
+                .mode(mode)
+                .timeUnit(timeUnit)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(resultFile)
+                .build();
+    }
+}
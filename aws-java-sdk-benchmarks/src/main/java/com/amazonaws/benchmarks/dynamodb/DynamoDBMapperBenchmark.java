@@ -0,0 +1,200 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.dynamodb;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBClient;
+import com.amazonaws.services.dynamodbv2.datamodeling.ConversionSchema;
+import com.amazonaws.services.dynamodbv2.datamodeling.ConversionSchemas;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBAttribute;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBHashKey;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBRangeKey;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable;
+import com.amazonaws.services.dynamodbv2.datamodeling.ItemConverter;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+
+/**
+ * Measures the conversion of modeled objects to and from DynamoDB items, as
+ * done by {@link DynamoDBMapper} for every item saved or loaded.
+ * <p>
+ * The {@code *NewConverter} benchmarks create an {@link ItemConverter} for
+ * every operation, so that each conversion resolves the marshallers of every
+ * attribute again, which is what the mapper did before it kept its converter;
+ * they are the point of comparison for the other benchmarks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class DynamoDBMapperBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    private final ConversionSchema schema = ConversionSchemas.V2_COMPATIBLE;
+
+    private DynamoDBMapper mapper;
+
+    private ItemConverter converter;
+
+    private Order order;
+
+    private Map<String, AttributeValue> item;
+
+    private List<Map<String, AttributeValue>> page;
+
+    @Setup
+    public void setup() {
+        mapper = new DynamoDBMapper(new AmazonDynamoDBClient(
+                new BasicAWSCredentials("AKIDEXAMPLE", "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY")));
+        converter = schema.getConverter(new ConversionSchema.Dependencies());
+
+        order = new Order();
+        order.setCustomerId("customer-0123456789");
+        order.setOrderId(42L);
+        order.setStatus("SHIPPED");
+        order.setTotal(1234.56);
+        order.setQuantity(3);
+        order.setItems(Arrays.asList("item-1", "item-2", "item-3"));
+        Map<String, String> tags = new HashMap<String, String>();
+        tags.put("channel", "web");
+        tags.put("region", "us-east-1");
+        order.setTags(tags);
+
+        item = converter.convert(order);
+        page = new ArrayList<Map<String, AttributeValue>>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            page.add(item);
+        }
+    }
+
+    @Benchmark
+    public Map<String, AttributeValue> convert() {
+        return converter.convert(order);
+    }
+
+    @Benchmark
+    public Map<String, AttributeValue> convertNewConverter() {
+        return schema.getConverter(new ConversionSchema.Dependencies()).convert(order);
+    }
+
+    @Benchmark
+    public Order unconvert() {
+        return converter.unconvert(Order.class, item);
+    }
+
+    @Benchmark
+    public Order unconvertNewConverter() {
+        return schema.getConverter(new ConversionSchema.Dependencies()).unconvert(Order.class, item);
+    }
+
+    /**
+     * Unmarshalls a page of a query or scan result.
+     */
+    @Benchmark
+    public List<Order> marshallIntoObjects() {
+        return mapper.marshallIntoObjects(Order.class, page);
+    }
+
+    @DynamoDBTable(tableName = "Orders")
+    public static class Order {
+        private String customerId;
+        private Long orderId;
+        private String status;
+        private Double total;
+        private Integer quantity;
+        private List<String> items;
+        private Map<String, String> tags;
+
+        @DynamoDBHashKey
+        public String getCustomerId() {
+            return customerId;
+        }
+
+        public void setCustomerId(String customerId) {
+            this.customerId = customerId;
+        }
+
+        @DynamoDBRangeKey
+        public Long getOrderId() {
+            return orderId;
+        }
+
+        public void setOrderId(Long orderId) {
+            this.orderId = orderId;
+        }
+
+        @DynamoDBAttribute(attributeName = "OrderStatus")
+        public String getStatus() {
+            return status;
+        }
+
+        public void setStatus(String status) {
+            this.status = status;
+        }
+
+        public Double getTotal() {
+            return total;
+        }
+
+        public void setTotal(Double total) {
+            this.total = total;
+        }
+
+        public Integer getQuantity() {
+            return quantity;
+        }
+
+        public void setQuantity(Integer quantity) {
+            this.quantity = quantity;
+        }
+
+        public List<String> getItems() {
+            return items;
+        }
+
+        public void setItems(List<String> items) {
+            this.items = items;
+        }
+
+        public Map<String, String> getTags() {
+            return tags;
+        }
+
+        public void setTags(Map<String, String> tags) {
+            this.tags = tags;
+        }
+    }
+}
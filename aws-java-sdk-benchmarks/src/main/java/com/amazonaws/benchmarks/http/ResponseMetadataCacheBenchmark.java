@@ -0,0 +1,103 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.http;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.ResponseMetadata;
+import com.amazonaws.util.ResponseMetadataCache;
+
+/**
+ * Measures recording response metadata from many threads at once, as
+ * {@link com.amazonaws.http.AmazonHttpClient} does at the end of every
+ * request, with {@link ResponseMetadataCache} against a synchronized
+ * {@link LinkedHashMap}, which is how the cache used to be implemented. A
+ * cache size of 0 measures the disabled cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class ResponseMetadataCacheBenchmark {
+
+    @Param({"0", "50"})
+    private int cacheSize;
+
+    private final ResponseMetadata metadata = new ResponseMetadata(
+            Collections.singletonMap(ResponseMetadata.AWS_REQUEST_ID, "4KBNVRGD25RG1KEO9UT4V3FQDJVV4KQNSO5AEMVJF66Q9ASUAAJG"));
+
+    private ResponseMetadataCache cache;
+
+    private SynchronizedCache synchronizedCache;
+
+    @Setup
+    public void setup() {
+        cache = new ResponseMetadataCache(cacheSize);
+        synchronizedCache = new SynchronizedCache(cacheSize);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void add() {
+        cache.add(new Request(), metadata);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void addSynchronized() {
+        synchronizedCache.add(new Request(), metadata);
+    }
+
+    private static class Request extends AmazonWebServiceRequest {
+    }
+
+    private static class SynchronizedCache {
+        private final Map<Integer, ResponseMetadata> entries;
+
+        SynchronizedCache(final int maxEntries) {
+            entries = new LinkedHashMap<Integer, ResponseMetadata>(maxEntries) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, ResponseMetadata> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+        }
+
+        synchronized void add(Object obj, ResponseMetadata metadata) {
+            entries.put(System.identityHashCode(obj), metadata);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.http;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlMatching;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.benchmarks.protocol.ProtocolFixtures;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBClient;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.QueryRequest;
+import com.amazonaws.services.dynamodbv2.model.QueryResult;
+import com.amazonaws.services.sqs.AmazonSQSClient;
+import com.amazonaws.services.sqs.model.ReceiveMessageRequest;
+import com.amazonaws.services.sqs.model.ReceiveMessageResult;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.WireMock;
+
+/**
+ * Measures complete client round-trips, through
+ * {@link com.amazonaws.http.AmazonHttpClient}, against an in-process WireMock
+ * stub: request handlers, marshalling, signing, connection pooling, the HTTP
+ * exchange over loopback and unmarshalling. The clients and the stub are
+ * shared by all benchmark threads so contention on shared client state shows
+ * up in the multi-threaded run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(1)
+public class RoundTripBenchmark {
+
+    /** Number of items or messages returned by the stubbed service. */
+    @Param({"10"})
+    private int resultSize;
+
+    private WireMockServer server;
+
+    private AmazonDynamoDBClient dynamoDB;
+
+    private AmazonSQSClient sqs;
+
+    private QueryRequest queryRequest;
+
+    private ReceiveMessageRequest receiveMessageRequest;
+
+    @Setup
+    public void setup() {
+        server = new WireMockServer(0);
+        server.start();
+
+        WireMock stub = new WireMock("localhost", server.port());
+        stub.register(post(urlEqualTo("/dynamodb/"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/x-amz-json-1.0")
+                        .withHeader("x-amzn-RequestId", "4KBNVRGD25RG1KEO9UT4V3FQDJVV4KQNSO5AEMVJF66Q9ASUAAJG")
+                        .withBody(ProtocolFixtures.dynamoDBQueryResponse(resultSize))));
+        stub.register(post(urlMatching("/sqs/.*"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "text/xml")
+                        .withBody(ProtocolFixtures.sqsReceiveMessageResponse(resultSize))));
+
+        BasicAWSCredentials credentials = new BasicAWSCredentials("AKIDEXAMPLE",
+                "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY");
+        ClientConfiguration configuration = new ClientConfiguration().withMaxConnections(64);
+
+        dynamoDB = new AmazonDynamoDBClient(credentials, configuration);
+        dynamoDB.setEndpoint("http://localhost:" + server.port() + "/dynamodb/");
+        dynamoDB.setSignerRegionOverride("us-east-1");
+
+        sqs = new AmazonSQSClient(credentials, configuration);
+        sqs.setEndpoint("http://localhost:" + server.port() + "/sqs/");
+        sqs.setSignerRegionOverride("us-east-1");
+
+        queryRequest = new QueryRequest()
+                .withTableName("Orders")
+                .withKeyConditionExpression("customerId = :c")
+                .addExpressionAttributeValuesEntry(":c", new AttributeValue().withS("customer-0042"));
+        receiveMessageRequest = new ReceiveMessageRequest()
+                .withQueueUrl("http://localhost:" + server.port() + "/sqs/123456789012/orders")
+                .withMaxNumberOfMessages(resultSize);
+    }
+
+    @TearDown
+    public void tearDown() {
+        dynamoDB.shutdown();
+        sqs.shutdown();
+        server.stop();
+    }
+
+    @Benchmark
+    public QueryResult dynamoDBQuery() {
+        return dynamoDB.query(queryRequest);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public QueryResult dynamoDBQueryContended() {
+        return dynamoDB.query(queryRequest);
+    }
+
+    @Benchmark
+    public ReceiveMessageResult sqsReceiveMessage() {
+        return sqs.receiveMessage(receiveMessageRequest);
+    }
+}
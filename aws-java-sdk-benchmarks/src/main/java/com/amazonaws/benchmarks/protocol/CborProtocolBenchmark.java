@@ -0,0 +1,142 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.protocol;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.AmazonWebServiceResponse;
+import com.amazonaws.Request;
+import com.amazonaws.http.HttpResponse;
+import com.amazonaws.http.HttpResponseHandler;
+import com.amazonaws.protocol.json.JsonClientMetadata;
+import com.amazonaws.protocol.json.JsonOperationMetadata;
+import com.amazonaws.protocol.json.SdkJsonProtocolFactory;
+import com.amazonaws.services.kinesis.model.GetRecordsResult;
+import com.amazonaws.services.kinesis.model.PutRecordsRequest;
+import com.amazonaws.services.kinesis.model.PutRecordsRequestEntry;
+import com.amazonaws.services.kinesis.model.transform.GetRecordsResultJsonUnmarshaller;
+import com.amazonaws.services.kinesis.model.transform.PutRecordsRequestMarshaller;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+/**
+ * Measures CBOR marshalling and unmarshalling through the generated Kinesis
+ * marshallers and {@link SdkJsonProtocolFactory}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class CborProtocolBenchmark {
+
+    /** Number of records in the PutRecords request and GetRecords response. */
+    @Param({"1", "500"})
+    private int recordCount;
+
+    /** Size of the data blob of every record, in bytes. */
+    @Param({"1024"})
+    private int recordSize;
+
+    private final SdkJsonProtocolFactory protocolFactory = new SdkJsonProtocolFactory(
+            new JsonClientMetadata().withProtocolVersion("1.1").withSupportsCbor(true));
+
+    private PutRecordsRequestMarshaller marshaller;
+
+    private PutRecordsRequest putRecordsRequest;
+
+    private HttpResponseHandler<AmazonWebServiceResponse<GetRecordsResult>> responseHandler;
+
+    private byte[] responseContent;
+
+    @Setup
+    public void setup() throws IOException {
+        marshaller = new PutRecordsRequestMarshaller(protocolFactory);
+        responseHandler = protocolFactory.createResponseHandler(
+                new JsonOperationMetadata().withPayloadJson(true).withHasStreamingSuccessResponse(false),
+                new GetRecordsResultJsonUnmarshaller());
+
+        byte[] data = new byte[recordSize];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+
+        List<PutRecordsRequestEntry> entries = new ArrayList<PutRecordsRequestEntry>(recordCount);
+        for (int i = 0; i < recordCount; i++) {
+            entries.add(new PutRecordsRequestEntry()
+                    .withPartitionKey("partition-" + i)
+                    .withData(ByteBuffer.wrap(data)));
+        }
+        putRecordsRequest = new PutRecordsRequest().withStreamName("clickstream").withRecords(entries);
+
+        responseContent = getRecordsResponse(recordCount, data);
+    }
+
+    @Benchmark
+    public Request<PutRecordsRequest> marshallPutRecordsRequest() {
+        return marshaller.marshall(putRecordsRequest);
+    }
+
+    @Benchmark
+    public AmazonWebServiceResponse<GetRecordsResult> unmarshallGetRecordsResult() throws Exception {
+        HttpResponse response = new HttpResponse(null, null);
+        response.setStatusCode(200);
+        response.addHeader("x-amzn-RequestId", "f5a6bd5c-4bb4-11e6-beb8-9e71128cae77");
+        response.setContent(new ByteArrayInputStream(responseContent));
+        return responseHandler.handle(response);
+    }
+
+    private static byte[] getRecordsResponse(int recordCount, byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonGenerator generator = new CBORFactory().createGenerator(out);
+        generator.writeStartObject();
+        generator.writeStringField("NextShardIterator",
+                "AAAAAAAAAAHsW8zCWf9164uy8Epue6WS3w6wmj4a4USt+CNvMd6uXQ+HL5vAJMznqqC0DLKsIjuoiTi1BpT6nW0LN2M2D56zM5H8anHm30Gbri9ua+qaGgj+3XTyvbhpERfrezgLHbPB/rIcVpykJbaSj5tmcXYRmFnqZBEyHwtZYFmh6hvWVFkIwLuMZLMrpWhG5r5hzkE=");
+        generator.writeNumberField("MillisBehindLatest", 0L);
+        generator.writeFieldName("Records");
+        generator.writeStartArray();
+        for (int i = 0; i < recordCount; i++) {
+            generator.writeStartObject();
+            generator.writeStringField("SequenceNumber", "4959029939349374802669219848484393049380592948929" + i);
+            generator.writeNumberField("ApproximateArrivalTimestamp", 1468886400000L + i);
+            generator.writeBinaryField("Data", data);
+            generator.writeStringField("PartitionKey", "partition-" + i);
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.close();
+        return out.toByteArray();
+    }
+}
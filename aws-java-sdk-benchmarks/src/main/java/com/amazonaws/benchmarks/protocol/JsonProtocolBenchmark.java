@@ -0,0 +1,116 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.protocol;
+
+import java.io.ByteArrayInputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.AmazonWebServiceResponse;
+import com.amazonaws.Request;
+import com.amazonaws.http.HttpResponse;
+import com.amazonaws.http.HttpResponseHandler;
+import com.amazonaws.protocol.json.JsonClientMetadata;
+import com.amazonaws.protocol.json.JsonOperationMetadata;
+import com.amazonaws.protocol.json.SdkJsonProtocolFactory;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.ComparisonOperator;
+import com.amazonaws.services.dynamodbv2.model.Condition;
+import com.amazonaws.services.dynamodbv2.model.QueryRequest;
+import com.amazonaws.services.dynamodbv2.model.QueryResult;
+import com.amazonaws.services.dynamodbv2.model.transform.QueryRequestMarshaller;
+import com.amazonaws.services.dynamodbv2.model.transform.QueryResultJsonUnmarshaller;
+
+/**
+ * Measures JSON marshalling and unmarshalling through the generated DynamoDB
+ * marshallers, {@link SdkJsonProtocolFactory} and
+ * {@link com.amazonaws.http.JsonResponseHandler}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class JsonProtocolBenchmark {
+
+    /** Number of items in the unmarshalled Query response. */
+    @Param({"1", "100"})
+    private int itemCount;
+
+    private final SdkJsonProtocolFactory protocolFactory = new SdkJsonProtocolFactory(
+            new JsonClientMetadata().withProtocolVersion("1.0").withSupportsCbor(false));
+
+    private QueryRequestMarshaller marshaller;
+
+    private QueryRequest queryRequest;
+
+    private HttpResponseHandler<AmazonWebServiceResponse<QueryResult>> responseHandler;
+
+    private byte[] responseContent;
+
+    @Setup
+    public void setup() {
+        marshaller = new QueryRequestMarshaller(protocolFactory);
+        responseHandler = protocolFactory.createResponseHandler(
+                new JsonOperationMetadata().withPayloadJson(true).withHasStreamingSuccessResponse(false),
+                new QueryResultJsonUnmarshaller());
+
+        Map<String, Condition> keyConditions = new HashMap<String, Condition>();
+        keyConditions.put("customerId", new Condition()
+                .withComparisonOperator(ComparisonOperator.EQ)
+                .withAttributeValueList(new AttributeValue().withS("customer-0042")));
+        keyConditions.put("orderDate", new Condition()
+                .withComparisonOperator(ComparisonOperator.BETWEEN)
+                .withAttributeValueList(new AttributeValue().withS("2016-01-01"),
+                                        new AttributeValue().withS("2016-06-30")));
+        queryRequest = new QueryRequest()
+                .withTableName("Orders")
+                .withIndexName("customerId-orderDate-index")
+                .withKeyConditions(keyConditions)
+                .withAttributesToGet("orderId", "customerId", "orderDate", "total", "status")
+                .withConsistentRead(false)
+                .withLimit(100);
+
+        responseContent = ProtocolFixtures.dynamoDBQueryResponse(itemCount);
+    }
+
+    @Benchmark
+    public Request<QueryRequest> marshallQueryRequest() {
+        return marshaller.marshall(queryRequest);
+    }
+
+    @Benchmark
+    public AmazonWebServiceResponse<QueryResult> unmarshallQueryResult() throws Exception {
+        HttpResponse response = new HttpResponse(null, null);
+        response.setStatusCode(200);
+        response.addHeader("x-amzn-RequestId", "4KBNVRGD25RG1KEO9UT4V3FQDJVV4KQNSO5AEMVJF66Q9ASUAAJG");
+        response.setContent(new ByteArrayInputStream(responseContent));
+        return responseHandler.handle(response);
+    }
+}
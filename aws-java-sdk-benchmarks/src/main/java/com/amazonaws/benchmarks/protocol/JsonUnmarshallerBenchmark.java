@@ -0,0 +1,101 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.protocol;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.AmazonWebServiceResponse;
+import com.amazonaws.http.HttpResponse;
+import com.amazonaws.http.HttpResponseHandler;
+import com.amazonaws.protocol.json.JsonClientMetadata;
+import com.amazonaws.protocol.json.JsonOperationMetadata;
+import com.amazonaws.protocol.json.SdkJsonProtocolFactory;
+import com.amazonaws.services.dynamodbv2.model.QueryResult;
+import com.amazonaws.services.dynamodbv2.model.ScanResult;
+import com.amazonaws.services.dynamodbv2.model.transform.QueryResultJsonUnmarshaller;
+import com.amazonaws.services.dynamodbv2.model.transform.ScanResultJsonUnmarshaller;
+
+/**
+ * Measures unmarshalling of large DynamoDB Query and Scan responses through the
+ * generated JSON unmarshallers, where the dispatch on field names and the
+ * reads of scalar values dominate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class JsonUnmarshallerBenchmark {
+
+    /** Number of items in the unmarshalled responses. */
+    @Param({"100", "1000"})
+    private int itemCount;
+
+    private final SdkJsonProtocolFactory protocolFactory = new SdkJsonProtocolFactory(
+            new JsonClientMetadata().withProtocolVersion("1.0").withSupportsCbor(false));
+
+    private HttpResponseHandler<AmazonWebServiceResponse<QueryResult>> queryResponseHandler;
+
+    private HttpResponseHandler<AmazonWebServiceResponse<ScanResult>> scanResponseHandler;
+
+    private byte[] queryResponseContent;
+
+    private byte[] scanResponseContent;
+
+    @Setup
+    public void setup() {
+        JsonOperationMetadata operationMetadata = new JsonOperationMetadata()
+                .withPayloadJson(true).withHasStreamingSuccessResponse(false);
+        queryResponseHandler = protocolFactory.createResponseHandler(operationMetadata,
+                new QueryResultJsonUnmarshaller());
+        scanResponseHandler = protocolFactory.createResponseHandler(operationMetadata,
+                new ScanResultJsonUnmarshaller());
+
+        queryResponseContent = ProtocolFixtures.dynamoDBQueryResponse(itemCount);
+        scanResponseContent = ProtocolFixtures.dynamoDBScanResponse(itemCount);
+    }
+
+    @Benchmark
+    public AmazonWebServiceResponse<QueryResult> unmarshallQueryResult() throws Exception {
+        return queryResponseHandler.handle(response(queryResponseContent));
+    }
+
+    @Benchmark
+    public AmazonWebServiceResponse<ScanResult> unmarshallScanResult() throws Exception {
+        return scanResponseHandler.handle(response(scanResponseContent));
+    }
+
+    private static HttpResponse response(byte[] content) {
+        HttpResponse response = new HttpResponse(null, null);
+        response.setStatusCode(200);
+        response.addHeader("x-amzn-RequestId", "4KBNVRGD25RG1KEO9UT4V3FQDJVV4KQNSO5AEMVJF66Q9ASUAAJG");
+        response.setContent(new ByteArrayInputStream(content));
+        return response;
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.protocol;
+
+import com.amazonaws.util.BinaryUtils;
+import com.amazonaws.util.Md5Utils;
+import com.amazonaws.util.StringUtils;
+
+/**
+ * Canned service payloads shared by the protocol and round-trip benchmarks.
+ */
+public final class ProtocolFixtures {
+
+    private ProtocolFixtures() {
+    }
+
+    /**
+     * Returns a DynamoDB Query response, as UTF-8 encoded JSON, containing the
+     * given number of order items.
+     */
+    public static byte[] dynamoDBQueryResponse(int itemCount) {
+        StringBuilder json = new StringBuilder("{\"Count\":").append(itemCount)
+                .append(",\"ScannedCount\":").append(itemCount)
+                .append(",\"Items\":[");
+        for (int i = 0; i < itemCount; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"orderId\":{\"S\":\"order-").append(i).append("\"},")
+                .append("\"customerId\":{\"S\":\"customer-0042\"},")
+                .append("\"orderDate\":{\"S\":\"2016-03-").append(10 + i % 20).append("\"},")
+                .append("\"total\":{\"N\":\"").append(i * 7 + 0.99).append("\"},")
+                .append("\"status\":{\"S\":\"SHIPPED\"},")
+                .append("\"tags\":{\"SS\":[\"gift\",\"express\",\"prime\"]}}");
+        }
+        return json.append("]}").toString().getBytes(StringUtils.UTF8);
+    }
+
+    /**
+     * Returns a DynamoDB Scan response, as UTF-8 encoded JSON, containing the
+     * given number of order items. The items carry nested map, list, number,
+     * boolean and null attributes, and the response is paginated and reports
+     * the consumed capacity.
+     */
+    public static byte[] dynamoDBScanResponse(int itemCount) {
+        StringBuilder json = new StringBuilder("{\"Count\":").append(itemCount)
+                .append(",\"ScannedCount\":").append(itemCount * 2)
+                .append(",\"Items\":[");
+        for (int i = 0; i < itemCount; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"orderId\":{\"S\":\"order-").append(i).append("\"},")
+                .append("\"customerId\":{\"S\":\"customer-").append(i % 100).append("\"},")
+                .append("\"total\":{\"N\":\"").append(i * 7 + 0.99).append("\"},")
+                .append("\"gift\":{\"BOOL\":").append(i % 2 == 0).append("},")
+                .append("\"coupon\":{\"NULL\":true},")
+                .append("\"shipping\":{\"M\":{\"carrier\":{\"S\":\"UPS\"},")
+                .append("\"weight\":{\"N\":\"").append(1 + i % 10).append(".5\"},")
+                .append("\"address\":{\"M\":{\"city\":{\"S\":\"Seattle\"},\"zip\":{\"S\":\"98109\"}}}}},")
+                .append("\"lines\":{\"L\":[")
+                .append("{\"M\":{\"sku\":{\"S\":\"sku-1\"},\"quantity\":{\"N\":\"2\"}}},")
+                .append("{\"M\":{\"sku\":{\"S\":\"sku-2\"},\"quantity\":{\"N\":\"1\"}}}]}}");
+        }
+        return json.append("],\"LastEvaluatedKey\":{\"orderId\":{\"S\":\"order-").append(itemCount - 1)
+                   .append("\"}},\"ConsumedCapacity\":{\"TableName\":\"Orders\",\"CapacityUnits\":")
+                   .append(itemCount / 2.0).append(",\"Table\":{\"CapacityUnits\":").append(itemCount / 2.0)
+                   .append("}}}").toString().getBytes(StringUtils.UTF8);
+    }
+
+    /**
+     * Returns an EC2 DescribeInstances response, as UTF-8 encoded XML,
+     * describing the given number of instances, in reservations of up to ten
+     * instances each.
+     */
+    public static byte[] ec2DescribeInstancesResponse(int instanceCount) {
+        StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>")
+                .append("<DescribeInstancesResponse xmlns=\"http://ec2.amazonaws.com/doc/2016-04-01/\">")
+                .append("<requestId>8f7724cf-496f-496e-8fe3-a7e6a3d2f1d4</requestId><reservationSet>");
+        for (int i = 0; i < instanceCount; i++) {
+            if (i % 10 == 0) {
+                if (i > 0) {
+                    xml.append("</instancesSet></item>");
+                }
+                xml.append("<item><reservationId>r-").append(10000000 + i).append("</reservationId>")
+                   .append("<ownerId>123456789012</ownerId><groupSet/><instancesSet>");
+            }
+            xml.append("<item><instanceId>i-").append(10000000 + i).append("</instanceId>")
+               .append("<imageId>ami-1a2b3c4d</imageId>")
+               .append("<instanceState><code>16</code><name>running</name></instanceState>")
+               .append("<privateDnsName>ip-10-0-0-").append(i % 250).append(".ec2.internal</privateDnsName>")
+               .append("<dnsName/><reason/><keyName>deploy</keyName><amiLaunchIndex>0</amiLaunchIndex>")
+               .append("<productCodes/><instanceType>m4.large</instanceType>")
+               .append("<launchTime>2016-05-01T12:00:00.000Z</launchTime>")
+               .append("<placement><availabilityZone>us-east-1a</availabilityZone><groupName/>")
+               .append("<tenancy>default</tenancy></placement>")
+               .append("<monitoring><state>disabled</state></monitoring>")
+               .append("<subnetId>subnet-1a2b3c4d</subnetId><vpcId>vpc-1a2b3c4d</vpcId>")
+               .append("<privateIpAddress>10.0.0.").append(i % 250).append("</privateIpAddress>")
+               .append("<sourceDestCheck>true</sourceDestCheck>")
+               .append("<groupSet><item><groupId>sg-1a2b3c4d</groupId><groupName>web</groupName></item></groupSet>")
+               .append("<architecture>x86_64</architecture><rootDeviceType>ebs</rootDeviceType>")
+               .append("<rootDeviceName>/dev/xvda</rootDeviceName>")
+               .append("<blockDeviceMapping><item><deviceName>/dev/xvda</deviceName><ebs>")
+               .append("<volumeId>vol-").append(10000000 + i).append("</volumeId><status>attached</status>")
+               .append("<attachTime>2016-05-01T12:00:01.000Z</attachTime>")
+               .append("<deleteOnTermination>true</deleteOnTermination></ebs></item></blockDeviceMapping>")
+               .append("<virtualizationType>hvm</virtualizationType><clientToken/>")
+               .append("<tagSet><item><key>Name</key><value>web-").append(i).append("</value></item>")
+               .append("<item><key>env</key><value>prod</value></item></tagSet>")
+               .append("<hypervisor>xen</hypervisor><networkInterfaceSet/><ebsOptimized>false</ebsOptimized></item>");
+        }
+        if (instanceCount > 0) {
+            xml.append("</instancesSet></item>");
+        }
+        return xml.append("</reservationSet></DescribeInstancesResponse>").toString().getBytes(StringUtils.UTF8);
+    }
+
+    /**
+     * Returns the body of the i-th SQS message used by the fixtures.
+     */
+    public static String sqsMessageBody(int i) {
+        return "{\"orderId\":\"order-" + i + "\",\"customerId\":\"customer-0042\",\"total\":\"" + (i * 7 + 0.99)
+               + "\",\"status\":\"SHIPPED\"}";
+    }
+
+    /**
+     * Returns an SQS ReceiveMessage response, as UTF-8 encoded XML, containing
+     * the given number of messages with valid body checksums.
+     */
+    public static byte[] sqsReceiveMessageResponse(int messageCount) {
+        StringBuilder xml = new StringBuilder(
+                "<ReceiveMessageResponse xmlns=\"http://queue.amazonaws.com/doc/2012-11-05/\"><ReceiveMessageResult>");
+        for (int i = 0; i < messageCount; i++) {
+            String body = sqsMessageBody(i);
+            xml.append("<Message>")
+               .append("<MessageId>5fea7756-0ea4-451a-a703-a558b933e27").append(i).append("</MessageId>")
+               .append("<ReceiptHandle>MbZj6wDWli+JvwwJaBV+3dcjk2YW2vA3+STFFljTM8tJJg6HRG6PYSasuWXPJB+Cw")
+               .append("Lj1FjgXUv1uSj1gUPAWV66FU/WeR4mq2OKpEGYWbnLmpRCJVAyeMjeU5ZBdtcQ+QEauMZc8ZRv37sIW2iJKq3M9")
+               .append("MFx1YvV11A2x/KSbkJ0=").append(i).append("</ReceiptHandle>")
+               .append("<MD5OfBody>")
+               .append(BinaryUtils.toHex(Md5Utils.computeMD5Hash(body.getBytes(StringUtils.UTF8))))
+               .append("</MD5OfBody>")
+               .append("<Body>").append(body.replace("\"", "&quot;")).append("</Body>")
+               .append("<Attribute><Name>SenderId</Name><Value>195004372649</Value></Attribute>")
+               .append("<Attribute><Name>SentTimestamp</Name><Value>1238099229000</Value></Attribute>")
+               .append("<Attribute><Name>ApproximateReceiveCount</Name><Value>5</Value></Attribute>")
+               .append("<Attribute><Name>ApproximateFirstReceiveTimestamp</Name><Value>1250700979248</Value></Attribute>")
+               .append("</Message>");
+        }
+        return xml.append("</ReceiveMessageResult><ResponseMetadata>")
+                  .append("<RequestId>b6633655-283d-45b4-aee4-4e84e0ae6afa</RequestId>")
+                  .append("</ResponseMetadata></ReceiveMessageResponse>").toString().getBytes(StringUtils.UTF8);
+    }
+}
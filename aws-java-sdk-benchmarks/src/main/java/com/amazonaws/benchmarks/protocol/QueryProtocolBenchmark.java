@@ -0,0 +1,94 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.protocol;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.AmazonWebServiceResponse;
+import com.amazonaws.Request;
+import com.amazonaws.http.HttpResponse;
+import com.amazonaws.http.StaxResponseHandler;
+import com.amazonaws.services.sqs.model.ReceiveMessageResult;
+import com.amazonaws.services.sqs.model.SendMessageBatchRequest;
+import com.amazonaws.services.sqs.model.SendMessageBatchRequestEntry;
+import com.amazonaws.services.sqs.model.transform.ReceiveMessageResultStaxUnmarshaller;
+import com.amazonaws.services.sqs.model.transform.SendMessageBatchRequestMarshaller;
+
+/**
+ * Measures Query protocol marshalling and XML unmarshalling through the
+ * generated SQS marshallers and {@link StaxResponseHandler}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class QueryProtocolBenchmark {
+
+    /** Number of messages in the SendMessageBatch request and ReceiveMessage response. */
+    @Param({"1", "10"})
+    private int messageCount;
+
+    private final SendMessageBatchRequestMarshaller marshaller = new SendMessageBatchRequestMarshaller();
+
+    private final StaxResponseHandler<ReceiveMessageResult> responseHandler =
+            new StaxResponseHandler<ReceiveMessageResult>(ReceiveMessageResultStaxUnmarshaller.getInstance());
+
+    private SendMessageBatchRequest sendMessageBatchRequest;
+
+    private byte[] responseContent;
+
+    @Setup
+    public void setup() {
+        List<SendMessageBatchRequestEntry> entries = new ArrayList<SendMessageBatchRequestEntry>(messageCount);
+        for (int i = 0; i < messageCount; i++) {
+            entries.add(new SendMessageBatchRequestEntry("id-" + i, ProtocolFixtures.sqsMessageBody(i)).withDelaySeconds(0));
+        }
+        sendMessageBatchRequest = new SendMessageBatchRequest()
+                .withQueueUrl("https://sqs.us-east-1.amazonaws.com/123456789012/orders")
+                .withEntries(entries);
+
+        responseContent = ProtocolFixtures.sqsReceiveMessageResponse(messageCount);
+    }
+
+    @Benchmark
+    public Request<SendMessageBatchRequest> marshallSendMessageBatchRequest() {
+        return marshaller.marshall(sendMessageBatchRequest);
+    }
+
+    @Benchmark
+    public AmazonWebServiceResponse<ReceiveMessageResult> unmarshallReceiveMessageResult() throws Exception {
+        HttpResponse response = new HttpResponse(null, null);
+        response.setStatusCode(200);
+        response.setContent(new ByteArrayInputStream(responseContent));
+        return responseHandler.handle(response);
+    }
+}
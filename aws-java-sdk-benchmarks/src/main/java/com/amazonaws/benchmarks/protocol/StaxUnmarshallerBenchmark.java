@@ -0,0 +1,73 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.protocol;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.AmazonWebServiceResponse;
+import com.amazonaws.http.HttpResponse;
+import com.amazonaws.http.StaxResponseHandler;
+import com.amazonaws.services.ec2.model.DescribeInstancesResult;
+import com.amazonaws.services.ec2.model.transform.DescribeInstancesResultStaxUnmarshaller;
+
+/**
+ * Measures unmarshalling of large EC2 DescribeInstances responses through the
+ * generated StAX unmarshallers and {@link StaxResponseHandler}. Run with the
+ * GC profiler, as {@link com.amazonaws.benchmarks.BenchmarkRunner} does, to
+ * see the bytes allocated per response.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class StaxUnmarshallerBenchmark {
+
+    /** Number of instances in the unmarshalled DescribeInstances response. */
+    @Param({"10", "200"})
+    private int instanceCount;
+
+    private final StaxResponseHandler<DescribeInstancesResult> responseHandler =
+            new StaxResponseHandler<DescribeInstancesResult>(DescribeInstancesResultStaxUnmarshaller.getInstance());
+
+    private byte[] responseContent;
+
+    @Setup
+    public void setup() {
+        responseContent = ProtocolFixtures.ec2DescribeInstancesResponse(instanceCount);
+    }
+
+    @Benchmark
+    public AmazonWebServiceResponse<DescribeInstancesResult> unmarshallDescribeInstancesResult() throws Exception {
+        HttpResponse response = new HttpResponse(null, null);
+        response.setStatusCode(200);
+        response.setContent(new ByteArrayInputStream(responseContent));
+        return responseHandler.handle(response);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.signer;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.SignableRequest;
+import com.amazonaws.auth.AWS4Signer;
+import com.amazonaws.auth.AWSCredentials;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.http.HttpMethodName;
+
+/**
+ * Measures {@link AWS4Signer#sign} for a typical JSON protocol request, with
+ * the signing key served from the signer cache.
+ * <p>
+ * Run with {@code -prof gc}; {@code gc.alloc.rate.norm} is the number of bytes
+ * allocated per {@code sign()} call. {@link #signStringCanonicalization}
+ * forces the string based canonicalization used for signers that override
+ * {@code createCanonicalRequest}, as a point of comparison.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class AWS4SignerBenchmark {
+
+    /** Size of the request payload that gets hashed, in bytes. */
+    @Param({"128", "16384"})
+    private int payloadSize;
+
+    private final AWSCredentials credentials = new BasicAWSCredentials("AKIDEXAMPLE",
+            "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY");
+
+    private AWS4Signer signer;
+
+    private AWS4Signer stringCanonicalizationSigner;
+
+    private DefaultRequest<AmazonWebServiceRequest> request;
+
+    private Map<String, String> headers;
+
+    private byte[] payload;
+
+    @Setup
+    public void setup() {
+        signer = new AWS4Signer();
+        signer.setServiceName("dynamodb");
+        signer.setRegionName("us-east-1");
+
+        stringCanonicalizationSigner = new AWS4Signer() {
+            @Override
+            protected String createCanonicalRequest(SignableRequest<?> request,
+                    String contentSha256) {
+                return super.createCanonicalRequest(request, contentSha256);
+            }
+        };
+        stringCanonicalizationSigner.setServiceName("dynamodb");
+        stringCanonicalizationSigner.setRegionName("us-east-1");
+
+        payload = new byte[payloadSize];
+        for (int i = 0; i < payload.length; i++) {
+            payload[i] = (byte) ('a' + (i % 26));
+        }
+
+        headers = new HashMap<String, String>();
+        headers.put("Content-Type", "application/x-amz-json-1.0");
+        headers.put("X-Amz-Target", "DynamoDB_20120810.GetItem");
+        headers.put("User-Agent", "aws-sdk-java/1.11.12 Linux/4.4 OpenJDK_64-Bit_Server_VM/25.92");
+        headers.put("amz-sdk-invocation-id", "3d6e0f6c-8c5e-4f0e-9d3a-7a3c4b2a1f00");
+        headers.put("amz-sdk-retry", "0/0/500");
+        headers.put("Content-Length", Integer.toString(payloadSize));
+
+        request = new DefaultRequest<AmazonWebServiceRequest>("AmazonDynamoDBv2");
+        request.setHttpMethod(HttpMethodName.POST);
+        request.setEndpoint(URI.create("https://dynamodb.us-east-1.amazonaws.com"));
+        request.setResourcePath("");
+    }
+
+    @Benchmark
+    public DefaultRequest<AmazonWebServiceRequest> sign() {
+        return sign(signer);
+    }
+
+    @Benchmark
+    public DefaultRequest<AmazonWebServiceRequest> signStringCanonicalization() {
+        return sign(stringCanonicalizationSigner);
+    }
+
+    private DefaultRequest<AmazonWebServiceRequest> sign(AWS4Signer aws4Signer) {
+        // Signing adds headers to the request, start every invocation from the
+        // same unsigned state.
+        request.setHeaders(headers);
+        request.setContent(new ByteArrayInputStream(payload));
+        aws4Signer.sign(request, credentials);
+        return request;
+    }
+}
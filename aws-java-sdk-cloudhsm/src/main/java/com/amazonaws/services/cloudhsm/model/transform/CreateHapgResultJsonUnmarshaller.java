@@ -53,10 +53,17 @@ public class CreateHapgResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("HapgArn", targetDepth)) {
-                    context.nextToken();
-                    createHapgResult.setHapgArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1935615123:
+                        if (fieldName.equals("HapgArn")) {
+                            context.nextToken();
+                            createHapgResult.setHapgArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
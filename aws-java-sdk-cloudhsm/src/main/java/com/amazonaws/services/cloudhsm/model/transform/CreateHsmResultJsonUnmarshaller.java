@@ -53,10 +53,17 @@ public class CreateHsmResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("HsmArn", targetDepth)) {
-                    context.nextToken();
-                    createHsmResult.setHsmArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -2124150181:
+                        if (fieldName.equals("HsmArn")) {
+                            context.nextToken();
+                            createHsmResult.setHsmArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,10 +53,17 @@ public class CreateLunaClientResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ClientArn", targetDepth)) {
-                    context.nextToken();
-                    createLunaClientResult.setClientArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 99849842:
+                        if (fieldName.equals("ClientArn")) {
+                            context.nextToken();
+                            createLunaClientResult.setClientArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
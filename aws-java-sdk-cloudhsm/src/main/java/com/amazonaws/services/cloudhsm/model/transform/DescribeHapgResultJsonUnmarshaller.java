@@ -53,60 +53,81 @@ public class DescribeHapgResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("HapgArn", targetDepth)) {
-                    context.nextToken();
-                    describeHapgResult.setHapgArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("HapgSerial", targetDepth)) {
-                    context.nextToken();
-                    describeHapgResult.setHapgSerial(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("HsmsLastActionFailed", targetDepth)) {
-                    context.nextToken();
-                    describeHapgResult
-                            .setHsmsLastActionFailed(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("HsmsPendingDeletion", targetDepth)) {
-                    context.nextToken();
-                    describeHapgResult
-                            .setHsmsPendingDeletion(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("HsmsPendingRegistration",
-                        targetDepth)) {
-                    context.nextToken();
-                    describeHapgResult
-                            .setHsmsPendingRegistration(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("Label", targetDepth)) {
-                    context.nextToken();
-                    describeHapgResult.setLabel(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("LastModifiedTimestamp", targetDepth)) {
-                    context.nextToken();
-                    describeHapgResult.setLastModifiedTimestamp(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PartitionSerialList", targetDepth)) {
-                    context.nextToken();
-                    describeHapgResult
-                            .setPartitionSerialList(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("State", targetDepth)) {
-                    context.nextToken();
-                    describeHapgResult.setState(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1935615123:
+                        if (fieldName.equals("HapgArn")) {
+                            context.nextToken();
+                            describeHapgResult.setHapgArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 824328932:
+                        if (fieldName.equals("HapgSerial")) {
+                            context.nextToken();
+                            describeHapgResult.setHapgSerial(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1364995578:
+                        if (fieldName.equals("HsmsLastActionFailed")) {
+                            context.nextToken();
+                            describeHapgResult
+                                    .setHsmsLastActionFailed(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1722566196:
+                        if (fieldName.equals("HsmsPendingDeletion")) {
+                            context.nextToken();
+                            describeHapgResult
+                                    .setHsmsPendingDeletion(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -403658721:
+                        if (fieldName.equals("HsmsPendingRegistration")) {
+                            context.nextToken();
+                            describeHapgResult
+                                    .setHsmsPendingRegistration(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 73174740:
+                        if (fieldName.equals("Label")) {
+                            context.nextToken();
+                            describeHapgResult.setLabel(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1675946953:
+                        if (fieldName.equals("LastModifiedTimestamp")) {
+                            context.nextToken();
+                            describeHapgResult.setLastModifiedTimestamp(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1930845412:
+                        if (fieldName.equals("PartitionSerialList")) {
+                            context.nextToken();
+                            describeHapgResult
+                                    .setPartitionSerialList(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 80204913:
+                        if (fieldName.equals("State")) {
+                            context.nextToken();
+                            describeHapgResult.setState(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
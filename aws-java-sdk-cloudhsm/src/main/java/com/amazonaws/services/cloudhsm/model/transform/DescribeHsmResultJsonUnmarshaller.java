@@ -53,114 +53,159 @@ public class DescribeHsmResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("HsmArn", targetDepth)) {
-                    context.nextToken();
-                    describeHsmResult.setHsmArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    describeHsmResult.setStatus(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("StatusDetails", targetDepth)) {
-                    context.nextToken();
-                    describeHsmResult.setStatusDetails(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("AvailabilityZone", targetDepth)) {
-                    context.nextToken();
-                    describeHsmResult.setAvailabilityZone(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EniId", targetDepth)) {
-                    context.nextToken();
-                    describeHsmResult.setEniId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("EniIp", targetDepth)) {
-                    context.nextToken();
-                    describeHsmResult.setEniIp(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("SubscriptionType", targetDepth)) {
-                    context.nextToken();
-                    describeHsmResult.setSubscriptionType(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("SubscriptionStartDate", targetDepth)) {
-                    context.nextToken();
-                    describeHsmResult.setSubscriptionStartDate(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SubscriptionEndDate", targetDepth)) {
-                    context.nextToken();
-                    describeHsmResult.setSubscriptionEndDate(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VpcId", targetDepth)) {
-                    context.nextToken();
-                    describeHsmResult.setVpcId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("SubnetId", targetDepth)) {
-                    context.nextToken();
-                    describeHsmResult.setSubnetId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("IamRoleArn", targetDepth)) {
-                    context.nextToken();
-                    describeHsmResult.setIamRoleArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("SerialNumber", targetDepth)) {
-                    context.nextToken();
-                    describeHsmResult.setSerialNumber(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("VendorName", targetDepth)) {
-                    context.nextToken();
-                    describeHsmResult.setVendorName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("HsmType", targetDepth)) {
-                    context.nextToken();
-                    describeHsmResult.setHsmType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("SoftwareVersion", targetDepth)) {
-                    context.nextToken();
-                    describeHsmResult.setSoftwareVersion(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SshPublicKey", targetDepth)) {
-                    context.nextToken();
-                    describeHsmResult.setSshPublicKey(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("SshKeyLastUpdated", targetDepth)) {
-                    context.nextToken();
-                    describeHsmResult.setSshKeyLastUpdated(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ServerCertUri", targetDepth)) {
-                    context.nextToken();
-                    describeHsmResult.setServerCertUri(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("ServerCertLastUpdated", targetDepth)) {
-                    context.nextToken();
-                    describeHsmResult.setServerCertLastUpdated(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Partitions", targetDepth)) {
-                    context.nextToken();
-                    describeHsmResult
-                            .setPartitions(new ListUnmarshaller<String>(context
-                                    .getUnmarshaller(String.class))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -2124150181:
+                        if (fieldName.equals("HsmArn")) {
+                            context.nextToken();
+                            describeHsmResult.setHsmArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1808614382:
+                        if (fieldName.equals("Status")) {
+                            context.nextToken();
+                            describeHsmResult.setStatus(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 443053520:
+                        if (fieldName.equals("StatusDetails")) {
+                            context.nextToken();
+                            describeHsmResult.setStatusDetails(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1777257415:
+                        if (fieldName.equals("AvailabilityZone")) {
+                            context.nextToken();
+                            describeHsmResult.setAvailabilityZone(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 67103227:
+                        if (fieldName.equals("EniId")) {
+                            context.nextToken();
+                            describeHsmResult.setEniId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 67103239:
+                        if (fieldName.equals("EniIp")) {
+                            context.nextToken();
+                            describeHsmResult.setEniIp(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1358509545:
+                        if (fieldName.equals("SubscriptionType")) {
+                            context.nextToken();
+                            describeHsmResult.setSubscriptionType(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 108080755:
+                        if (fieldName.equals("SubscriptionStartDate")) {
+                            context.nextToken();
+                            describeHsmResult.setSubscriptionStartDate(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -635567316:
+                        if (fieldName.equals("SubscriptionEndDate")) {
+                            context.nextToken();
+                            describeHsmResult.setSubscriptionEndDate(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 82856900:
+                        if (fieldName.equals("VpcId")) {
+                            context.nextToken();
+                            describeHsmResult.setVpcId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -2001515144:
+                        if (fieldName.equals("SubnetId")) {
+                            context.nextToken();
+                            describeHsmResult.setSubnetId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -955700718:
+                        if (fieldName.equals("IamRoleArn")) {
+                            context.nextToken();
+                            describeHsmResult.setIamRoleArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 248107645:
+                        if (fieldName.equals("SerialNumber")) {
+                            context.nextToken();
+                            describeHsmResult.setSerialNumber(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1607365613:
+                        if (fieldName.equals("VendorName")) {
+                            context.nextToken();
+                            describeHsmResult.setVendorName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1423573252:
+                        if (fieldName.equals("HsmType")) {
+                            context.nextToken();
+                            describeHsmResult.setHsmType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -694013679:
+                        if (fieldName.equals("SoftwareVersion")) {
+                            context.nextToken();
+                            describeHsmResult.setSoftwareVersion(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1826287150:
+                        if (fieldName.equals("SshPublicKey")) {
+                            context.nextToken();
+                            describeHsmResult.setSshPublicKey(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1424083602:
+                        if (fieldName.equals("SshKeyLastUpdated")) {
+                            context.nextToken();
+                            describeHsmResult.setSshKeyLastUpdated(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1851762747:
+                        if (fieldName.equals("ServerCertUri")) {
+                            context.nextToken();
+                            describeHsmResult.setServerCertUri(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 151788190:
+                        if (fieldName.equals("ServerCertLastUpdated")) {
+                            context.nextToken();
+                            describeHsmResult.setServerCertLastUpdated(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2033919721:
+                        if (fieldName.equals("Partitions")) {
+                            context.nextToken();
+                            describeHsmResult
+                                    .setPartitions(new ListUnmarshaller<String>(context
+                                            .getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,32 +53,45 @@ public class DescribeLunaClientResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ClientArn", targetDepth)) {
-                    context.nextToken();
-                    describeLunaClientResult.setClientArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Certificate", targetDepth)) {
-                    context.nextToken();
-                    describeLunaClientResult.setCertificate(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CertificateFingerprint",
-                        targetDepth)) {
-                    context.nextToken();
-                    describeLunaClientResult.setCertificateFingerprint(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("LastModifiedTimestamp", targetDepth)) {
-                    context.nextToken();
-                    describeLunaClientResult.setLastModifiedTimestamp(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Label", targetDepth)) {
-                    context.nextToken();
-                    describeLunaClientResult.setLabel(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 99849842:
+                        if (fieldName.equals("ClientArn")) {
+                            context.nextToken();
+                            describeLunaClientResult.setClientArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -674698889:
+                        if (fieldName.equals("Certificate")) {
+                            context.nextToken();
+                            describeLunaClientResult.setCertificate(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1337321197:
+                        if (fieldName.equals("CertificateFingerprint")) {
+                            context.nextToken();
+                            describeLunaClientResult.setCertificateFingerprint(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1675946953:
+                        if (fieldName.equals("LastModifiedTimestamp")) {
+                            context.nextToken();
+                            describeLunaClientResult.setLastModifiedTimestamp(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 73174740:
+                        if (fieldName.equals("Label")) {
+                            context.nextToken();
+                            describeLunaClientResult.setLabel(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,20 +53,31 @@ public class GetConfigResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ConfigType", targetDepth)) {
-                    context.nextToken();
-                    getConfigResult.setConfigType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ConfigFile", targetDepth)) {
-                    context.nextToken();
-                    getConfigResult.setConfigFile(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ConfigCred", targetDepth)) {
-                    context.nextToken();
-                    getConfigResult.setConfigCred(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1469976132:
+                        if (fieldName.equals("ConfigType")) {
+                            context.nextToken();
+                            getConfigResult.setConfigType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1470408706:
+                        if (fieldName.equals("ConfigFile")) {
+                            context.nextToken();
+                            getConfigResult.setConfigFile(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1470489648:
+                        if (fieldName.equals("ConfigCred")) {
+                            context.nextToken();
+                            getConfigResult.setConfigCred(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
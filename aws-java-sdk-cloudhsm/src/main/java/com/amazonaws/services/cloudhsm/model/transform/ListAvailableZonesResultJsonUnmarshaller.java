@@ -53,12 +53,19 @@ public class ListAvailableZonesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AZList", targetDepth)) {
-                    context.nextToken();
-                    listAvailableZonesResult
-                            .setAZList(new ListUnmarshaller<String>(context
-                                    .getUnmarshaller(String.class))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1946380407:
+                        if (fieldName.equals("AZList")) {
+                            context.nextToken();
+                            listAvailableZonesResult
+                                    .setAZList(new ListUnmarshaller<String>(context
+                                            .getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
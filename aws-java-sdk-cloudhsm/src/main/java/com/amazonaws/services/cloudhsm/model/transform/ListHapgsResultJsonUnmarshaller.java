@@ -53,16 +53,25 @@ public class ListHapgsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("HapgList", targetDepth)) {
-                    context.nextToken();
-                    listHapgsResult.setHapgList(new ListUnmarshaller<String>(
-                            context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    listHapgsResult.setNextToken(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 125792654:
+                        if (fieldName.equals("HapgList")) {
+                            context.nextToken();
+                            listHapgsResult.setHapgList(new ListUnmarshaller<String>(
+                                    context.getUnmarshaller(String.class))
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1084080474:
+                        if (fieldName.equals("NextToken")) {
+                            context.nextToken();
+                            listHapgsResult.setNextToken(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
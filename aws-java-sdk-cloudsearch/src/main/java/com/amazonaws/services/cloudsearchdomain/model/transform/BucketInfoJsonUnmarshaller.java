@@ -53,11 +53,18 @@ public class BucketInfoJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("buckets", targetDepth)) {
-                    context.nextToken();
-                    bucketInfo.setBuckets(new ListUnmarshaller<Bucket>(
-                            BucketJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 225375177:
+                        if (fieldName.equals("buckets")) {
+                            context.nextToken();
+                            bucketInfo.setBuckets(new ListUnmarshaller<Bucket>(
+                                    BucketJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
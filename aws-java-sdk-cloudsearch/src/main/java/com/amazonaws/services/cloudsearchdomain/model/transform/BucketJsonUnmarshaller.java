@@ -52,15 +52,24 @@ public class BucketJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("value", targetDepth)) {
-                    context.nextToken();
-                    bucket.setValue(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("count", targetDepth)) {
-                    context.nextToken();
-                    bucket.setCount(context.getUnmarshaller(Long.class)
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 111972721:
+                        if (fieldName.equals("value")) {
+                            context.nextToken();
+                            bucket.setValue(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 94851343:
+                        if (fieldName.equals("count")) {
+                            context.nextToken();
+                            bucket.setCount(context.getUnmarshaller(Long.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
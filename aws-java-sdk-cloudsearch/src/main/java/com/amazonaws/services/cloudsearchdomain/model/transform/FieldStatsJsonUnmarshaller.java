@@ -53,45 +53,66 @@ public class FieldStatsJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("min", targetDepth)) {
-                    context.nextToken();
-                    fieldStats.setMin(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("max", targetDepth)) {
-                    context.nextToken();
-                    fieldStats.setMax(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("count", targetDepth)) {
-                    context.nextToken();
-                    fieldStats.setCount(context.getUnmarshaller(Long.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("missing", targetDepth)) {
-                    context.nextToken();
-                    fieldStats.setMissing(context.getUnmarshaller(Long.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("sum", targetDepth)) {
-                    context.nextToken();
-                    fieldStats.setSum(context.getUnmarshaller(Double.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("sumOfSquares", targetDepth)) {
-                    context.nextToken();
-                    fieldStats.setSumOfSquares(context.getUnmarshaller(
-                            Double.class).unmarshall(context));
-                }
-                if (context.testExpression("mean", targetDepth)) {
-                    context.nextToken();
-                    fieldStats.setMean(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("stddev", targetDepth)) {
-                    context.nextToken();
-                    fieldStats.setStddev(context.getUnmarshaller(Double.class)
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 108114:
+                        if (fieldName.equals("min")) {
+                            context.nextToken();
+                            fieldStats.setMin(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 107876:
+                        if (fieldName.equals("max")) {
+                            context.nextToken();
+                            fieldStats.setMax(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 94851343:
+                        if (fieldName.equals("count")) {
+                            context.nextToken();
+                            fieldStats.setCount(context.getUnmarshaller(Long.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1069449574:
+                        if (fieldName.equals("missing")) {
+                            context.nextToken();
+                            fieldStats.setMissing(context.getUnmarshaller(Long.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 114251:
+                        if (fieldName.equals("sum")) {
+                            context.nextToken();
+                            fieldStats.setSum(context.getUnmarshaller(Double.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1752847596:
+                        if (fieldName.equals("sumOfSquares")) {
+                            context.nextToken();
+                            fieldStats.setSumOfSquares(context.getUnmarshaller(
+                                    Double.class).unmarshall(context));
+                        }
+                        break;
+                    case 3347397:
+                        if (fieldName.equals("mean")) {
+                            context.nextToken();
+                            fieldStats.setMean(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -892408046:
+                        if (fieldName.equals("stddev")) {
+                            context.nextToken();
+                            fieldStats.setStddev(context.getUnmarshaller(Double.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
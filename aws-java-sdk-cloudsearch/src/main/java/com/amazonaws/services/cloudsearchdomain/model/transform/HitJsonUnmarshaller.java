@@ -52,31 +52,44 @@ public class HitJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    hit.setId(context.getUnmarshaller(String.class).unmarshall(
-                            context));
-                }
-                if (context.testExpression("fields", targetDepth)) {
-                    context.nextToken();
-                    hit.setFields(new MapUnmarshaller<String, java.util.List<String>>(
-                            context.getUnmarshaller(String.class),
-                            new ListUnmarshaller<String>(context
-                                    .getUnmarshaller(String.class)))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("exprs", targetDepth)) {
-                    context.nextToken();
-                    hit.setExprs(new MapUnmarshaller<String, String>(context
-                            .getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("highlights", targetDepth)) {
-                    context.nextToken();
-                    hit.setHighlights(new MapUnmarshaller<String, String>(
-                            context.getUnmarshaller(String.class), context
-                                    .getUnmarshaller(String.class))
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3355:
+                        if (fieldName.equals("id")) {
+                            context.nextToken();
+                            hit.setId(context.getUnmarshaller(String.class).unmarshall(
+                                    context));
+                        }
+                        break;
+                    case -1274708295:
+                        if (fieldName.equals("fields")) {
+                            context.nextToken();
+                            hit.setFields(new MapUnmarshaller<String, java.util.List<String>>(
+                                    context.getUnmarshaller(String.class),
+                                    new ListUnmarshaller<String>(context
+                                            .getUnmarshaller(String.class)))
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 96961822:
+                        if (fieldName.equals("exprs")) {
+                            context.nextToken();
+                            hit.setExprs(new MapUnmarshaller<String, String>(context
+                                    .getUnmarshaller(String.class), context
+                                    .getUnmarshaller(String.class)).unmarshall(context));
+                        }
+                        break;
+                    case 357304895:
+                        if (fieldName.equals("highlights")) {
+                            context.nextToken();
+                            hit.setHighlights(new MapUnmarshaller<String, String>(
+                                    context.getUnmarshaller(String.class), context
+                                            .getUnmarshaller(String.class))
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -52,25 +52,38 @@ public class HitsJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("found", targetDepth)) {
-                    context.nextToken();
-                    hits.setFound(context.getUnmarshaller(Long.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("start", targetDepth)) {
-                    context.nextToken();
-                    hits.setStart(context.getUnmarshaller(Long.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("cursor", targetDepth)) {
-                    context.nextToken();
-                    hits.setCursor(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("hit", targetDepth)) {
-                    context.nextToken();
-                    hits.setHit(new ListUnmarshaller<Hit>(HitJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 97621890:
+                        if (fieldName.equals("found")) {
+                            context.nextToken();
+                            hits.setFound(context.getUnmarshaller(Long.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 109757538:
+                        if (fieldName.equals("start")) {
+                            context.nextToken();
+                            hits.setStart(context.getUnmarshaller(Long.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1349119146:
+                        if (fieldName.equals("cursor")) {
+                            context.nextToken();
+                            hits.setCursor(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 103315:
+                        if (fieldName.equals("hit")) {
+                            context.nextToken();
+                            hits.setHit(new ListUnmarshaller<Hit>(HitJsonUnmarshaller
+                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,31 +53,44 @@ public class SearchResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    searchResult.setStatus(SearchStatusJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("hits", targetDepth)) {
-                    context.nextToken();
-                    searchResult.setHits(HitsJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
-                }
-                if (context.testExpression("facets", targetDepth)) {
-                    context.nextToken();
-                    searchResult
-                            .setFacets(new MapUnmarshaller<String, BucketInfo>(
-                                    context.getUnmarshaller(String.class),
-                                    BucketInfoJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("stats", targetDepth)) {
-                    context.nextToken();
-                    searchResult
-                            .setStats(new MapUnmarshaller<String, FieldStats>(
-                                    context.getUnmarshaller(String.class),
-                                    FieldStatsJsonUnmarshaller.getInstance())
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -892481550:
+                        if (fieldName.equals("status")) {
+                            context.nextToken();
+                            searchResult.setStatus(SearchStatusJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 3202880:
+                        if (fieldName.equals("hits")) {
+                            context.nextToken();
+                            searchResult.setHits(HitsJsonUnmarshaller.getInstance()
                                     .unmarshall(context));
+                        }
+                        break;
+                    case -1282162276:
+                        if (fieldName.equals("facets")) {
+                            context.nextToken();
+                            searchResult
+                                    .setFacets(new MapUnmarshaller<String, BucketInfo>(
+                                            context.getUnmarshaller(String.class),
+                                            BucketInfoJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 109757599:
+                        if (fieldName.equals("stats")) {
+                            context.nextToken();
+                            searchResult
+                                    .setStats(new MapUnmarshaller<String, FieldStats>(
+                                            context.getUnmarshaller(String.class),
+                                            FieldStatsJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
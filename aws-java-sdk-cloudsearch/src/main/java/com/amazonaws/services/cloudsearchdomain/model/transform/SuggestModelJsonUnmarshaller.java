@@ -53,22 +53,33 @@ public class SuggestModelJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("query", targetDepth)) {
-                    context.nextToken();
-                    suggestModel.setQuery(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("found", targetDepth)) {
-                    context.nextToken();
-                    suggestModel.setFound(context.getUnmarshaller(Long.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("suggestions", targetDepth)) {
-                    context.nextToken();
-                    suggestModel
-                            .setSuggestions(new ListUnmarshaller<SuggestionMatch>(
-                                    SuggestionMatchJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 107944136:
+                        if (fieldName.equals("query")) {
+                            context.nextToken();
+                            suggestModel.setQuery(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 97621890:
+                        if (fieldName.equals("found")) {
+                            context.nextToken();
+                            suggestModel.setFound(context.getUnmarshaller(Long.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1525319953:
+                        if (fieldName.equals("suggestions")) {
+                            context.nextToken();
+                            suggestModel
+                                    .setSuggestions(new ListUnmarshaller<SuggestionMatch>(
+                                            SuggestionMatchJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class SuggestResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    suggestResult.setStatus(SuggestStatusJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("suggest", targetDepth)) {
-                    context.nextToken();
-                    suggestResult.setSuggest(SuggestModelJsonUnmarshaller
-                            .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -892481550:
+                        if (fieldName.equals("status")) {
+                            context.nextToken();
+                            suggestResult.setStatus(SuggestStatusJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1863356540:
+                        if (fieldName.equals("suggest")) {
+                            context.nextToken();
+                            suggestResult.setSuggest(SuggestModelJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
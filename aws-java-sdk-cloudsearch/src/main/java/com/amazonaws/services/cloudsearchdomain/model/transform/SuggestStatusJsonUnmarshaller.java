@@ -53,15 +53,24 @@ public class SuggestStatusJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("timems", targetDepth)) {
-                    context.nextToken();
-                    suggestStatus.setTimems(context.getUnmarshaller(Long.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("rid", targetDepth)) {
-                    context.nextToken();
-                    suggestStatus.setRid(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -873668301:
+                        if (fieldName.equals("timems")) {
+                            context.nextToken();
+                            suggestStatus.setTimems(context.getUnmarshaller(Long.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 112909:
+                        if (fieldName.equals("rid")) {
+                            context.nextToken();
+                            suggestStatus.setRid(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,20 +53,31 @@ public class SuggestionMatchJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("suggestion", targetDepth)) {
-                    context.nextToken();
-                    suggestionMatch.setSuggestion(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("score", targetDepth)) {
-                    context.nextToken();
-                    suggestionMatch.setScore(context
-                            .getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    suggestionMatch.setId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1197722116:
+                        if (fieldName.equals("suggestion")) {
+                            context.nextToken();
+                            suggestionMatch.setSuggestion(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 109264530:
+                        if (fieldName.equals("score")) {
+                            context.nextToken();
+                            suggestionMatch.setScore(context
+                                    .getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 3355:
+                        if (fieldName.equals("id")) {
+                            context.nextToken();
+                            suggestionMatch.setId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
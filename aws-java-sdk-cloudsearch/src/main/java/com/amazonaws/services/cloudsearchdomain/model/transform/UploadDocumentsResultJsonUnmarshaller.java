@@ -53,27 +53,40 @@ public class UploadDocumentsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    uploadDocumentsResult.setStatus(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("adds", targetDepth)) {
-                    context.nextToken();
-                    uploadDocumentsResult.setAdds(context.getUnmarshaller(
-                            Long.class).unmarshall(context));
-                }
-                if (context.testExpression("deletes", targetDepth)) {
-                    context.nextToken();
-                    uploadDocumentsResult.setDeletes(context.getUnmarshaller(
-                            Long.class).unmarshall(context));
-                }
-                if (context.testExpression("warnings", targetDepth)) {
-                    context.nextToken();
-                    uploadDocumentsResult
-                            .setWarnings(new ListUnmarshaller<DocumentServiceWarning>(
-                                    DocumentServiceWarningJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -892481550:
+                        if (fieldName.equals("status")) {
+                            context.nextToken();
+                            uploadDocumentsResult.setStatus(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2989042:
+                        if (fieldName.equals("adds")) {
+                            context.nextToken();
+                            uploadDocumentsResult.setAdds(context.getUnmarshaller(
+                                    Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 1550463016:
+                        if (fieldName.equals("deletes")) {
+                            context.nextToken();
+                            uploadDocumentsResult.setDeletes(context.getUnmarshaller(
+                                    Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 498091095:
+                        if (fieldName.equals("warnings")) {
+                            context.nextToken();
+                            uploadDocumentsResult
+                                    .setWarnings(new ListUnmarshaller<DocumentServiceWarning>(
+                                            DocumentServiceWarningJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,74 +53,99 @@ public class CreateTrailResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    createTrailResult.setName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("S3BucketName", targetDepth)) {
-                    context.nextToken();
-                    createTrailResult.setS3BucketName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("S3KeyPrefix", targetDepth)) {
-                    context.nextToken();
-                    createTrailResult.setS3KeyPrefix(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("SnsTopicName", targetDepth)) {
-                    context.nextToken();
-                    createTrailResult.setSnsTopicName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("SnsTopicARN", targetDepth)) {
-                    context.nextToken();
-                    createTrailResult.setSnsTopicARN(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("IncludeGlobalServiceEvents",
-                        targetDepth)) {
-                    context.nextToken();
-                    createTrailResult
-                            .setIncludeGlobalServiceEvents(context
-                                    .getUnmarshaller(Boolean.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("IsMultiRegionTrail", targetDepth)) {
-                    context.nextToken();
-                    createTrailResult
-                            .setIsMultiRegionTrail(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("TrailARN", targetDepth)) {
-                    context.nextToken();
-                    createTrailResult.setTrailARN(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("LogFileValidationEnabled",
-                        targetDepth)) {
-                    context.nextToken();
-                    createTrailResult
-                            .setLogFileValidationEnabled(context
-                                    .getUnmarshaller(Boolean.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("CloudWatchLogsLogGroupArn",
-                        targetDepth)) {
-                    context.nextToken();
-                    createTrailResult.setCloudWatchLogsLogGroupArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("CloudWatchLogsRoleArn", targetDepth)) {
-                    context.nextToken();
-                    createTrailResult.setCloudWatchLogsRoleArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("KmsKeyId", targetDepth)) {
-                    context.nextToken();
-                    createTrailResult.setKmsKeyId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            createTrailResult.setName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -510768651:
+                        if (fieldName.equals("S3BucketName")) {
+                            context.nextToken();
+                            createTrailResult.setS3BucketName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -327788687:
+                        if (fieldName.equals("S3KeyPrefix")) {
+                            context.nextToken();
+                            createTrailResult.setS3KeyPrefix(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -999233054:
+                        if (fieldName.equals("SnsTopicName")) {
+                            context.nextToken();
+                            createTrailResult.setSnsTopicName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1556266970:
+                        if (fieldName.equals("SnsTopicARN")) {
+                            context.nextToken();
+                            createTrailResult.setSnsTopicARN(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 480420771:
+                        if (fieldName.equals("IncludeGlobalServiceEvents")) {
+                            context.nextToken();
+                            createTrailResult
+                                    .setIncludeGlobalServiceEvents(context
+                                            .getUnmarshaller(Boolean.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -1101458973:
+                        if (fieldName.equals("IsMultiRegionTrail")) {
+                            context.nextToken();
+                            createTrailResult
+                                    .setIsMultiRegionTrail(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 1340664471:
+                        if (fieldName.equals("TrailARN")) {
+                            context.nextToken();
+                            createTrailResult.setTrailARN(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1388591704:
+                        if (fieldName.equals("LogFileValidationEnabled")) {
+                            context.nextToken();
+                            createTrailResult
+                                    .setLogFileValidationEnabled(context
+                                            .getUnmarshaller(Boolean.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -110527879:
+                        if (fieldName.equals("CloudWatchLogsLogGroupArn")) {
+                            context.nextToken();
+                            createTrailResult.setCloudWatchLogsLogGroupArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 452495678:
+                        if (fieldName.equals("CloudWatchLogsRoleArn")) {
+                            context.nextToken();
+                            createTrailResult.setCloudWatchLogsRoleArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1114813655:
+                        if (fieldName.equals("KmsKeyId")) {
+                            context.nextToken();
+                            createTrailResult.setKmsKeyId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,12 +53,19 @@ public class DescribeTrailsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("trailList", targetDepth)) {
-                    context.nextToken();
-                    describeTrailsResult
-                            .setTrailList(new ListUnmarshaller<Trail>(
-                                    TrailJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 902276036:
+                        if (fieldName.equals("trailList")) {
+                            context.nextToken();
+                            describeTrailsResult
+                                    .setTrailList(new ListUnmarshaller<Trail>(
+                                            TrailJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -52,36 +52,53 @@ public class EventJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("EventId", targetDepth)) {
-                    context.nextToken();
-                    event.setEventId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("EventName", targetDepth)) {
-                    context.nextToken();
-                    event.setEventName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("EventTime", targetDepth)) {
-                    context.nextToken();
-                    event.setEventTime(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Username", targetDepth)) {
-                    context.nextToken();
-                    event.setUsername(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Resources", targetDepth)) {
-                    context.nextToken();
-                    event.setResources(new ListUnmarshaller<Resource>(
-                            ResourceJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("CloudTrailEvent", targetDepth)) {
-                    context.nextToken();
-                    event.setCloudTrailEvent(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 288150837:
+                        if (fieldName.equals("EventId")) {
+                            context.nextToken();
+                            event.setEventId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 2035196965:
+                        if (fieldName.equals("EventName")) {
+                            context.nextToken();
+                            event.setEventName(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 2035383399:
+                        if (fieldName.equals("EventTime")) {
+                            context.nextToken();
+                            event.setEventTime(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case -201069322:
+                        if (fieldName.equals("Username")) {
+                            context.nextToken();
+                            event.setUsername(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 20897285:
+                        if (fieldName.equals("Resources")) {
+                            context.nextToken();
+                            event.setResources(new ListUnmarshaller<Resource>(
+                                    ResourceJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -537536471:
+                        if (fieldName.equals("CloudTrailEvent")) {
+                            context.nextToken();
+                            event.setCloudTrailEvent(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,115 +53,144 @@ public class GetTrailStatusResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IsLogging", targetDepth)) {
-                    context.nextToken();
-                    getTrailStatusResult.setIsLogging(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("LatestDeliveryError", targetDepth)) {
-                    context.nextToken();
-                    getTrailStatusResult.setLatestDeliveryError(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LatestNotificationError",
-                        targetDepth)) {
-                    context.nextToken();
-                    getTrailStatusResult.setLatestNotificationError(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LatestDeliveryTime", targetDepth)) {
-                    context.nextToken();
-                    getTrailStatusResult.setLatestDeliveryTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("LatestNotificationTime",
-                        targetDepth)) {
-                    context.nextToken();
-                    getTrailStatusResult.setLatestNotificationTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("StartLoggingTime", targetDepth)) {
-                    context.nextToken();
-                    getTrailStatusResult.setStartLoggingTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("StopLoggingTime", targetDepth)) {
-                    context.nextToken();
-                    getTrailStatusResult.setStopLoggingTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("LatestCloudWatchLogsDeliveryError",
-                        targetDepth)) {
-                    context.nextToken();
-                    getTrailStatusResult
-                            .setLatestCloudWatchLogsDeliveryError(context
-                                    .getUnmarshaller(String.class).unmarshall(
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1766470325:
+                        if (fieldName.equals("IsLogging")) {
+                            context.nextToken();
+                            getTrailStatusResult.setIsLogging(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case -430687731:
+                        if (fieldName.equals("LatestDeliveryError")) {
+                            context.nextToken();
+                            getTrailStatusResult.setLatestDeliveryError(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 416668406:
+                        if (fieldName.equals("LatestNotificationError")) {
+                            context.nextToken();
+                            getTrailStatusResult.setLatestNotificationError(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1372018216:
+                        if (fieldName.equals("LatestDeliveryTime")) {
+                            context.nextToken();
+                            getTrailStatusResult.setLatestDeliveryTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
                                             context));
-                }
-                if (context.testExpression("LatestCloudWatchLogsDeliveryTime",
-                        targetDepth)) {
-                    context.nextToken();
-                    getTrailStatusResult
-                            .setLatestCloudWatchLogsDeliveryTime(context
-                                    .getUnmarshaller(java.util.Date.class)
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("LatestDigestDeliveryTime",
-                        targetDepth)) {
-                    context.nextToken();
-                    getTrailStatusResult.setLatestDigestDeliveryTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("LatestDigestDeliveryError",
-                        targetDepth)) {
-                    context.nextToken();
-                    getTrailStatusResult.setLatestDigestDeliveryError(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LatestDeliveryAttemptTime",
-                        targetDepth)) {
-                    context.nextToken();
-                    getTrailStatusResult.setLatestDeliveryAttemptTime(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LatestNotificationAttemptTime",
-                        targetDepth)) {
-                    context.nextToken();
-                    getTrailStatusResult
-                            .setLatestNotificationAttemptTime(context
-                                    .getUnmarshaller(String.class).unmarshall(
+                        }
+                        break;
+                    case -678857697:
+                        if (fieldName.equals("LatestNotificationTime")) {
+                            context.nextToken();
+                            getTrailStatusResult.setLatestNotificationTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
                                             context));
-                }
-                if (context.testExpression(
-                        "LatestNotificationAttemptSucceeded", targetDepth)) {
-                    context.nextToken();
-                    getTrailStatusResult
-                            .setLatestNotificationAttemptSucceeded(context
-                                    .getUnmarshaller(String.class).unmarshall(
+                        }
+                        break;
+                    case 678281514:
+                        if (fieldName.equals("StartLoggingTime")) {
+                            context.nextToken();
+                            getTrailStatusResult.setStartLoggingTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
                                             context));
-                }
-                if (context.testExpression("LatestDeliveryAttemptSucceeded",
-                        targetDepth)) {
-                    context.nextToken();
-                    getTrailStatusResult
-                            .setLatestDeliveryAttemptSucceeded(context
-                                    .getUnmarshaller(String.class).unmarshall(
+                        }
+                        break;
+                    case 1241541962:
+                        if (fieldName.equals("StopLoggingTime")) {
+                            context.nextToken();
+                            getTrailStatusResult.setStopLoggingTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
                                             context));
-                }
-                if (context.testExpression("TimeLoggingStarted", targetDepth)) {
-                    context.nextToken();
-                    getTrailStatusResult.setTimeLoggingStarted(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TimeLoggingStopped", targetDepth)) {
-                    context.nextToken();
-                    getTrailStatusResult.setTimeLoggingStopped(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -220893084:
+                        if (fieldName.equals("LatestCloudWatchLogsDeliveryError")) {
+                            context.nextToken();
+                            getTrailStatusResult
+                                    .setLatestCloudWatchLogsDeliveryError(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case 1101691121:
+                        if (fieldName.equals("LatestCloudWatchLogsDeliveryTime")) {
+                            context.nextToken();
+                            getTrailStatusResult
+                                    .setLatestCloudWatchLogsDeliveryTime(context
+                                            .getUnmarshaller(java.util.Date.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1463382220:
+                        if (fieldName.equals("LatestDigestDeliveryTime")) {
+                            context.nextToken();
+                            getTrailStatusResult.setLatestDigestDeliveryTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case -1893370903:
+                        if (fieldName.equals("LatestDigestDeliveryError")) {
+                            context.nextToken();
+                            getTrailStatusResult.setLatestDigestDeliveryError(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 475593599:
+                        if (fieldName.equals("LatestDeliveryAttemptTime")) {
+                            context.nextToken();
+                            getTrailStatusResult.setLatestDeliveryAttemptTime(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1263629912:
+                        if (fieldName.equals("LatestNotificationAttemptTime")) {
+                            context.nextToken();
+                            getTrailStatusResult
+                                    .setLatestNotificationAttemptTime(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case 709729382:
+                        if (fieldName.equals("LatestNotificationAttemptSucceeded")) {
+                            context.nextToken();
+                            getTrailStatusResult
+                                    .setLatestNotificationAttemptSucceeded(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case 1063500015:
+                        if (fieldName.equals("LatestDeliveryAttemptSucceeded")) {
+                            context.nextToken();
+                            getTrailStatusResult
+                                    .setLatestDeliveryAttemptSucceeded(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case 849331311:
+                        if (fieldName.equals("TimeLoggingStarted")) {
+                            context.nextToken();
+                            getTrailStatusResult.setTimeLoggingStarted(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 862197179:
+                        if (fieldName.equals("TimeLoggingStopped")) {
+                            context.nextToken();
+                            getTrailStatusResult.setTimeLoggingStopped(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
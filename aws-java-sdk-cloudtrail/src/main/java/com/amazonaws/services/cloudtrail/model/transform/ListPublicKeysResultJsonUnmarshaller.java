@@ -53,17 +53,26 @@ public class ListPublicKeysResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("PublicKeyList", targetDepth)) {
-                    context.nextToken();
-                    listPublicKeysResult
-                            .setPublicKeyList(new ListUnmarshaller<PublicKey>(
-                                    PublicKeyJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    listPublicKeysResult.setNextToken(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1248508116:
+                        if (fieldName.equals("PublicKeyList")) {
+                            context.nextToken();
+                            listPublicKeysResult
+                                    .setPublicKeyList(new ListUnmarshaller<PublicKey>(
+                                            PublicKeyJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1084080474:
+                        if (fieldName.equals("NextToken")) {
+                            context.nextToken();
+                            listPublicKeysResult.setNextToken(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class ListTagsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ResourceTagList", targetDepth)) {
-                    context.nextToken();
-                    listTagsResult
-                            .setResourceTagList(new ListUnmarshaller<ResourceTag>(
-                                    ResourceTagJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    listTagsResult.setNextToken(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1911290038:
+                        if (fieldName.equals("ResourceTagList")) {
+                            context.nextToken();
+                            listTagsResult
+                                    .setResourceTagList(new ListUnmarshaller<ResourceTag>(
+                                            ResourceTagJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1084080474:
+                        if (fieldName.equals("NextToken")) {
+                            context.nextToken();
+                            listTagsResult.setNextToken(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
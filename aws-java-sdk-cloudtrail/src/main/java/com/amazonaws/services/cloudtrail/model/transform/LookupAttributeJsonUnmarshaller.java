@@ -53,15 +53,24 @@ public class LookupAttributeJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AttributeKey", targetDepth)) {
-                    context.nextToken();
-                    lookupAttribute.setAttributeKey(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("AttributeValue", targetDepth)) {
-                    context.nextToken();
-                    lookupAttribute.setAttributeValue(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -852264381:
+                        if (fieldName.equals("AttributeKey")) {
+                            context.nextToken();
+                            lookupAttribute.setAttributeKey(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1322714197:
+                        if (fieldName.equals("AttributeValue")) {
+                            context.nextToken();
+                            lookupAttribute.setAttributeValue(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
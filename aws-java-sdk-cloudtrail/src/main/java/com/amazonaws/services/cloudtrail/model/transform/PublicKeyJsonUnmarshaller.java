@@ -53,25 +53,38 @@ public class PublicKeyJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Value", targetDepth)) {
-                    context.nextToken();
-                    publicKey.setValue(context.getUnmarshaller(
-                            java.nio.ByteBuffer.class).unmarshall(context));
-                }
-                if (context.testExpression("ValidityStartTime", targetDepth)) {
-                    context.nextToken();
-                    publicKey.setValidityStartTime(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("ValidityEndTime", targetDepth)) {
-                    context.nextToken();
-                    publicKey.setValidityEndTime(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Fingerprint", targetDepth)) {
-                    context.nextToken();
-                    publicKey.setFingerprint(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 82420049:
+                        if (fieldName.equals("Value")) {
+                            context.nextToken();
+                            publicKey.setValue(context.getUnmarshaller(
+                                    java.nio.ByteBuffer.class).unmarshall(context));
+                        }
+                        break;
+                    case 1472768797:
+                        if (fieldName.equals("ValidityStartTime")) {
+                            context.nextToken();
+                            publicKey.setValidityStartTime(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 859072150:
+                        if (fieldName.equals("ValidityEndTime")) {
+                            context.nextToken();
+                            publicKey.setValidityEndTime(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 291934404:
+                        if (fieldName.equals("Fingerprint")) {
+                            context.nextToken();
+                            publicKey.setFingerprint(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class ResourceJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ResourceType", targetDepth)) {
-                    context.nextToken();
-                    resource.setResourceType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ResourceName", targetDepth)) {
-                    context.nextToken();
-                    resource.setResourceName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -220044152:
+                        if (fieldName.equals("ResourceType")) {
+                            context.nextToken();
+                            resource.setResourceType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -220246055:
+                        if (fieldName.equals("ResourceName")) {
+                            context.nextToken();
+                            resource.setResourceName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,16 +53,25 @@ public class ResourceTagJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ResourceId", targetDepth)) {
-                    context.nextToken();
-                    resourceTag.setResourceId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("TagsList", targetDepth)) {
-                    context.nextToken();
-                    resourceTag.setTagsList(new ListUnmarshaller<Tag>(
-                            TagJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 647814633:
+                        if (fieldName.equals("ResourceId")) {
+                            context.nextToken();
+                            resourceTag.setResourceId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -681899913:
+                        if (fieldName.equals("TagsList")) {
+                            context.nextToken();
+                            resourceTag.setTagsList(new ListUnmarshaller<Tag>(
+                                    TagJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
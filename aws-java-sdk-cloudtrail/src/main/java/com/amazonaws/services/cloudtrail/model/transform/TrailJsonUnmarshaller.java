@@ -52,74 +52,101 @@ public class TrailJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    trail.setName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("S3BucketName", targetDepth)) {
-                    context.nextToken();
-                    trail.setS3BucketName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("S3KeyPrefix", targetDepth)) {
-                    context.nextToken();
-                    trail.setS3KeyPrefix(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("SnsTopicName", targetDepth)) {
-                    context.nextToken();
-                    trail.setSnsTopicName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("SnsTopicARN", targetDepth)) {
-                    context.nextToken();
-                    trail.setSnsTopicARN(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("IncludeGlobalServiceEvents",
-                        targetDepth)) {
-                    context.nextToken();
-                    trail.setIncludeGlobalServiceEvents(context
-                            .getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("IsMultiRegionTrail", targetDepth)) {
-                    context.nextToken();
-                    trail.setIsMultiRegionTrail(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("HomeRegion", targetDepth)) {
-                    context.nextToken();
-                    trail.setHomeRegion(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("TrailARN", targetDepth)) {
-                    context.nextToken();
-                    trail.setTrailARN(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("LogFileValidationEnabled",
-                        targetDepth)) {
-                    context.nextToken();
-                    trail.setLogFileValidationEnabled(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("CloudWatchLogsLogGroupArn",
-                        targetDepth)) {
-                    context.nextToken();
-                    trail.setCloudWatchLogsLogGroupArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("CloudWatchLogsRoleArn", targetDepth)) {
-                    context.nextToken();
-                    trail.setCloudWatchLogsRoleArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("KmsKeyId", targetDepth)) {
-                    context.nextToken();
-                    trail.setKmsKeyId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            trail.setName(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -510768651:
+                        if (fieldName.equals("S3BucketName")) {
+                            context.nextToken();
+                            trail.setS3BucketName(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -327788687:
+                        if (fieldName.equals("S3KeyPrefix")) {
+                            context.nextToken();
+                            trail.setS3KeyPrefix(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -999233054:
+                        if (fieldName.equals("SnsTopicName")) {
+                            context.nextToken();
+                            trail.setSnsTopicName(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1556266970:
+                        if (fieldName.equals("SnsTopicARN")) {
+                            context.nextToken();
+                            trail.setSnsTopicARN(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 480420771:
+                        if (fieldName.equals("IncludeGlobalServiceEvents")) {
+                            context.nextToken();
+                            trail.setIncludeGlobalServiceEvents(context
+                                    .getUnmarshaller(Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case -1101458973:
+                        if (fieldName.equals("IsMultiRegionTrail")) {
+                            context.nextToken();
+                            trail.setIsMultiRegionTrail(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case -1447657261:
+                        if (fieldName.equals("HomeRegion")) {
+                            context.nextToken();
+                            trail.setHomeRegion(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1340664471:
+                        if (fieldName.equals("TrailARN")) {
+                            context.nextToken();
+                            trail.setTrailARN(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1388591704:
+                        if (fieldName.equals("LogFileValidationEnabled")) {
+                            context.nextToken();
+                            trail.setLogFileValidationEnabled(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case -110527879:
+                        if (fieldName.equals("CloudWatchLogsLogGroupArn")) {
+                            context.nextToken();
+                            trail.setCloudWatchLogsLogGroupArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 452495678:
+                        if (fieldName.equals("CloudWatchLogsRoleArn")) {
+                            context.nextToken();
+                            trail.setCloudWatchLogsRoleArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1114813655:
+                        if (fieldName.equals("KmsKeyId")) {
+                            context.nextToken();
+                            trail.setKmsKeyId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,74 +53,99 @@ public class UpdateTrailResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    updateTrailResult.setName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("S3BucketName", targetDepth)) {
-                    context.nextToken();
-                    updateTrailResult.setS3BucketName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("S3KeyPrefix", targetDepth)) {
-                    context.nextToken();
-                    updateTrailResult.setS3KeyPrefix(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("SnsTopicName", targetDepth)) {
-                    context.nextToken();
-                    updateTrailResult.setSnsTopicName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("SnsTopicARN", targetDepth)) {
-                    context.nextToken();
-                    updateTrailResult.setSnsTopicARN(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("IncludeGlobalServiceEvents",
-                        targetDepth)) {
-                    context.nextToken();
-                    updateTrailResult
-                            .setIncludeGlobalServiceEvents(context
-                                    .getUnmarshaller(Boolean.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("IsMultiRegionTrail", targetDepth)) {
-                    context.nextToken();
-                    updateTrailResult
-                            .setIsMultiRegionTrail(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("TrailARN", targetDepth)) {
-                    context.nextToken();
-                    updateTrailResult.setTrailARN(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("LogFileValidationEnabled",
-                        targetDepth)) {
-                    context.nextToken();
-                    updateTrailResult
-                            .setLogFileValidationEnabled(context
-                                    .getUnmarshaller(Boolean.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("CloudWatchLogsLogGroupArn",
-                        targetDepth)) {
-                    context.nextToken();
-                    updateTrailResult.setCloudWatchLogsLogGroupArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("CloudWatchLogsRoleArn", targetDepth)) {
-                    context.nextToken();
-                    updateTrailResult.setCloudWatchLogsRoleArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("KmsKeyId", targetDepth)) {
-                    context.nextToken();
-                    updateTrailResult.setKmsKeyId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            updateTrailResult.setName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -510768651:
+                        if (fieldName.equals("S3BucketName")) {
+                            context.nextToken();
+                            updateTrailResult.setS3BucketName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -327788687:
+                        if (fieldName.equals("S3KeyPrefix")) {
+                            context.nextToken();
+                            updateTrailResult.setS3KeyPrefix(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -999233054:
+                        if (fieldName.equals("SnsTopicName")) {
+                            context.nextToken();
+                            updateTrailResult.setSnsTopicName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1556266970:
+                        if (fieldName.equals("SnsTopicARN")) {
+                            context.nextToken();
+                            updateTrailResult.setSnsTopicARN(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 480420771:
+                        if (fieldName.equals("IncludeGlobalServiceEvents")) {
+                            context.nextToken();
+                            updateTrailResult
+                                    .setIncludeGlobalServiceEvents(context
+                                            .getUnmarshaller(Boolean.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -1101458973:
+                        if (fieldName.equals("IsMultiRegionTrail")) {
+                            context.nextToken();
+                            updateTrailResult
+                                    .setIsMultiRegionTrail(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 1340664471:
+                        if (fieldName.equals("TrailARN")) {
+                            context.nextToken();
+                            updateTrailResult.setTrailARN(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1388591704:
+                        if (fieldName.equals("LogFileValidationEnabled")) {
+                            context.nextToken();
+                            updateTrailResult
+                                    .setLogFileValidationEnabled(context
+                                            .getUnmarshaller(Boolean.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -110527879:
+                        if (fieldName.equals("CloudWatchLogsLogGroupArn")) {
+                            context.nextToken();
+                            updateTrailResult.setCloudWatchLogsLogGroupArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 452495678:
+                        if (fieldName.equals("CloudWatchLogsRoleArn")) {
+                            context.nextToken();
+                            updateTrailResult.setCloudWatchLogsRoleArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1114813655:
+                        if (fieldName.equals("KmsKeyId")) {
+                            context.nextToken();
+                            updateTrailResult.setKmsKeyId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -253,6 +253,16 @@ public class OperationModel extends DocumentationModel {
                getAsyncReturnType() + ">";
     }
 
+    /**
+     * Returns true if the operation can be sent over the non-blocking transport of the client, which holds the
+     * request and the response in memory; operations with a streaming input or output can't.
+     */
+    @JsonIgnore
+    public boolean isNonBlockingSupported() {
+        return (inputShape == null || !inputShape.isHasStreamingMember())
+               && (outputShape == null || !outputShape.isHasStreamingMember());
+    }
+
     public List<ExceptionModel> getExceptions() {
         return exceptions;
     }
@@ -16,6 +16,7 @@
 package com.amazonaws.codegen.model.intermediate;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonValue;
 
 public class ParameterHttpMapping {
@@ -112,6 +113,15 @@ public class ParameterHttpMapping {
         return this;
     }
 
+    /**
+     * The hash code of the unmarshall location name, which JSON unmarshallers
+     * switch on to find the member of a field.
+     */
+    @JsonIgnore
+    public int getUnmarshallLocationNameHashCode() {
+        return unmarshallLocationName.hashCode();
+    }
+
     public String getMarshallLocationName() {
         return marshallLocationName;
     }
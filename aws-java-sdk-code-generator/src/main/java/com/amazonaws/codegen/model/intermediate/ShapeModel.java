@@ -17,6 +17,7 @@ package com.amazonaws.codegen.model.intermediate;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -161,6 +162,26 @@ public class ShapeModel extends DocumentationModel {
         return unboundMembers;
     }
 
+    /**
+     * Returns the unbound members grouped by the hash code of their unmarshall
+     * location name, in the order of their first appearance, so that the
+     * members of a group can be told apart by comparing the names.
+     */
+    @JsonIgnore
+    public List<List<MemberModel>> getUnboundMembersByNameHashCode() {
+        Map<Integer, List<MemberModel>> groups = new LinkedHashMap<Integer, List<MemberModel>>();
+        for (MemberModel member : getUnboundMembers()) {
+            Integer hashCode = member.getHttp().getUnmarshallLocationNameHashCode();
+            List<MemberModel> group = groups.get(hashCode);
+            if (group == null) {
+                group = new ArrayList<MemberModel>();
+                groups.put(hashCode, group);
+            }
+            group.add(member);
+        }
+        return new ArrayList<List<MemberModel>>(groups.values());
+    }
+
     public boolean isHasStreamingMember() {
         return hasStreamingMember;
     }
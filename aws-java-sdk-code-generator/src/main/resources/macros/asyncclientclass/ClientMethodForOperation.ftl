@@ -44,4 +44,27 @@ public ${operation.asyncFutureType} ${operation.methodName}Async(
         }
     });
 }
+<#if operation.nonBlockingSupported>
+
+@Override
+<#if operation.deprecated>
+  @Deprecated
+</#if>
+public ${operation.asyncFutureType} ${operation.methodName}NonBlockingAsync(
+        ${operation.input.variableType} request) {
+
+    return ${operation.methodName}NonBlockingAsync(request, null);
+}
+
+@Override
+<#if operation.deprecated>
+  @Deprecated
+</#if>
+public ${operation.asyncFutureType} ${operation.methodName}NonBlockingAsync(
+    ${operation.input.variableType} request,
+    ${operation.asyncHandlerType} asyncHandler) {
+
+    return ${operation.methodName}NonBlocking(request, asyncHandler, executorService);
+}
+</#if>
 </#macro>
@@ -20,4 +20,27 @@ public ${operation.asyncFutureType} ${operation.methodName}Async(
 
     throw new java.lang.UnsupportedOperationException();
 }
+<#if operation.nonBlockingSupported>
+
+@Override
+<#if operation.deprecated>
+  @Deprecated
+</#if>
+public ${operation.asyncFutureType} ${operation.methodName}NonBlockingAsync(
+        ${operation.input.variableType} request) {
+
+    return ${operation.methodName}NonBlockingAsync(request, null);
+}
+
+@Override
+<#if operation.deprecated>
+  @Deprecated
+</#if>
+public ${operation.asyncFutureType} ${operation.methodName}NonBlockingAsync(
+        ${operation.input.variableType} request,
+        ${operation.asyncHandlerType} asyncHandler) {
+
+    throw new java.lang.UnsupportedOperationException();
+}
+</#if>
 </#macro>
@@ -14,6 +14,45 @@ ${operationModel.getAsyncDocumentationWithHandler(metadata)}
 ${operationModel.asyncFutureType} ${operationModel.methodName}Async(
     ${operationModel.input.variableType} ${operationModel.input.variableName},
     ${operationModel.asyncHandlerType} asyncHandler);
+<#if operationModel.nonBlockingSupported>
+
+/**
+ * Sends the ${operationModel.operationName} request without holding a thread while
+ * it is in flight, unlike {@link #${operationModel.methodName}Async(${operationModel.input.variableType})}
+ * which blocks a thread of the executor of the client for the whole call.
+ * The response is read into memory before it is unmarshalled.
+ *
+ * @param ${operationModel.input.variableName}
+ * @return A Java Future containing the result of the ${operationModel.operationName} operation returned by the service.
+ * @see #${operationModel.methodName}Async(${operationModel.input.variableType})
+ */
+<#if operationModel.deprecated>
+  @Deprecated
+</#if>
+${operationModel.asyncFutureType} ${operationModel.methodName}NonBlockingAsync(
+    ${operationModel.input.variableType} ${operationModel.input.variableName});
+
+/**
+ * Sends the ${operationModel.operationName} request without holding a thread while
+ * it is in flight. The handler is notified on the executor of the client; it can
+ * start dependent requests with other non-blocking methods to pipeline calls
+ * without blocking any thread between them.
+ *
+ * @param ${operationModel.input.variableName}
+ * @param asyncHandler
+ *        Asynchronous callback handler for events in the lifecycle of the request. Users can provide an
+ *        implementation of the callback methods in this interface to receive notification of successful or
+ *        unsuccessful completion of the operation.
+ * @return A Java Future containing the result of the ${operationModel.operationName} operation returned by the service.
+ * @see #${operationModel.methodName}Async(${operationModel.input.variableType}, com.amazonaws.handlers.AsyncHandler)
+ */
+<#if operationModel.deprecated>
+  @Deprecated
+</#if>
+${operationModel.asyncFutureType} ${operationModel.methodName}NonBlockingAsync(
+    ${operationModel.input.variableType} ${operationModel.input.variableName},
+    ${operationModel.asyncHandlerType} asyncHandler);
+</#if>
 <#if operationModel.simpleMethodForms??>
   <#list operationModel.simpleMethodForms as form>
 
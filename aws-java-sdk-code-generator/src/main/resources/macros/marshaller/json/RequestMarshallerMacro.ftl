@@ -68,7 +68,7 @@ public class ${shapeName}Marshaller implements Marshaller<Request<${shapeName}>,
           jsonGenerator.writeEndObject();
 
           byte[] content = jsonGenerator.getBytes();
-          request.setContent(new ByteArrayInputStream(content));
+          request.setContent(jsonGenerator.getContentStream());
           request.addHeader("Content-Length", Integer.toString(content.length));
           request.addHeader("Content-Type", jsonGenerator.getContentType());
         } catch(Throwable t) {
@@ -80,7 +80,7 @@ public class ${shapeName}Marshaller implements Marshaller<Request<${shapeName}>,
                     request.addHeader("Content-Type", DEFAULT_CONTENT_TYPE);
                 }
                 <#elseif (member.http.isPayload) && member.variable.variableType = "java.nio.ByteBuffer">
-                request.setContent(BinaryUtils.toStream(${shape.variable.variableName}.get${member.name}()));
+                request.setContent(BinaryUtils.toReplayableStream(${shape.variable.variableName}.get${member.name}()));
                 if (!request.getHeaders().containsKey("Content-Type")) {
                     request.addHeader("Content-Type", DEFAULT_CONTENT_TYPE);
                 }
@@ -96,7 +96,7 @@ public class ${shapeName}Marshaller implements Marshaller<Request<${shapeName}>,
                     }
 
                     byte[] content = jsonGenerator.getBytes();
-                    request.setContent(new ByteArrayInputStream(content));
+                    request.setContent(jsonGenerator.getContentStream());
                     request.addHeader("Content-Length", Integer.toString(content.length));
                     if (!request.getHeaders().containsKey("Content-Type")) {
                         request.addHeader("Content-Type", DEFAULT_CONTENT_TYPE);
@@ -123,7 +123,7 @@ public class ${shapeName}Marshaller implements Marshaller<Request<${shapeName}>,
             jsonGenerator.writeEndObject();
 
             byte[] content = jsonGenerator.getBytes();
-            request.setContent(new ByteArrayInputStream(content));
+            request.setContent(jsonGenerator.getContentStream());
             request.addHeader("Content-Length", Integer.toString(content.length));
             if (!request.getHeaders().containsKey("Content-Type")) {
                 request.addHeader("Content-Type", DEFAULT_CONTENT_TYPE);
@@ -0,0 +1,69 @@
+<#macro content metadata operationModel>
+
+    /**
+     * Sends the ${operationModel.operationName} request over the non-blocking transport of
+     * the client, without holding a thread while the request is in flight. Used by the
+     * asynchronous client.
+     *
+     * @param ${operationModel.input.variableName}
+     *        The request to send.
+     * @param asyncHandler
+     *        Handler to notify of the outcome of the request; or null if there is none.
+     * @param callbackExecutor
+     *        Executor to notify the handler on; or null to notify it on the thread that
+     *        completes the request.
+     * @return A future of the result of the ${operationModel.operationName} operation.
+     */
+    <#if operationModel.deprecated>
+        @Deprecated
+    </#if>
+    protected ${operationModel.asyncFutureType} ${operationModel.methodName}NonBlocking(
+            ${operationModel.input.variableType} ${operationModel.input.variableName},
+            ${operationModel.asyncHandlerType} asyncHandler,
+            java.util.concurrent.Executor callbackExecutor) {
+        final ExecutionContext executionContext = createExecutionContext(${operationModel.input.variableName});
+        final AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<${operationModel.input.variableType}> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = <@RequestMarshallerCreation.content operationModel />.marshall(
+                    super.beforeMarshalling(${operationModel.input.variableName}));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                  awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            final Request<${operationModel.input.variableType}> sentRequest = request;
+            AsyncResultFuture<${operationModel.input.variableType}, ${operationModel.asyncReturnType}> future =
+                new AsyncResultFuture<${operationModel.input.variableType}, ${operationModel.asyncReturnType}>(
+                        ${operationModel.input.variableName}, asyncHandler, callbackExecutor) {
+                    @Override
+                    protected void onCompletion(Response<${operationModel.asyncReturnType}> response) {
+                        endClientExecution(awsRequestMetrics, sentRequest, response);
+                    }
+                };
+
+            <#if operationModel.returnType??>
+                <@ResponseHandlerCreation.content operationModel, metadata, "new ${operationModel.syncReturnType}${metadata.unmarshallerClassSuffix}()", operationModel.returnType.returnType />
+            <#else>
+                <@ResponseHandlerCreation.content operationModel, metadata, "null", "Void" />
+            </#if>
+            <#if operationModel.authenticated>
+                return invokeAsync(request, responseHandler, executionContext, future);
+            <#else>
+                return anonymousInvokeAsync(request, responseHandler, executionContext, future);
+            </#if>
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            AsyncResultFuture<${operationModel.input.variableType}, ${operationModel.asyncReturnType}> failed =
+                new AsyncResultFuture<${operationModel.input.variableType}, ${operationModel.asyncReturnType}>(
+                        ${operationModel.input.variableName}, asyncHandler, callbackExecutor);
+            failed.failed(e);
+            return failed;
+        }
+    }
+</#macro>
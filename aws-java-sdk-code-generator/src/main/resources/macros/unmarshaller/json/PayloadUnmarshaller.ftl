@@ -18,10 +18,21 @@
         Headers or the status code will be serialized in the payload response (wrapped in an
         artificial container object) -->
         <#else>
+        <#-- Dispatch on the hash code of the field name, as a switch on a
+        String would, which isn't available at the Java level of the SDK -->
             if (token == FIELD_NAME || token == START_OBJECT) {
-                <#list shape.unboundMembers as payloadMember>
-                    <@MemberUnmarshallerInvocationMacro.content shape.variable.variableName payloadMember />
-                </#list>
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    <#list shape.unboundMembersByNameHashCode as memberGroup>
+                    case ${memberGroup[0].http.unmarshallLocationNameHashCode?c}:
+                        <#list memberGroup as payloadMember>
+                        <#if payloadMember_index != 0>else </#if><@MemberUnmarshallerInvocationMacro.content shape.variable.variableName payloadMember />
+                        </#list>
+                        break;
+                    </#list>
+                    }
+                }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
                     if (context.getCurrentDepth() <= originalDepth) break;
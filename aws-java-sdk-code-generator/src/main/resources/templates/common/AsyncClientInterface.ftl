@@ -8,6 +8,11 @@ import ${metadata.packageName}.model.*;
  * asynchronous method will return a Java Future object representing the
  * asynchronous operation; overloads which accept an {@code AsyncHandler} can
  * be used to receive notification when an asynchronous operation completes.
+ * <p>
+ * Methods suffixed with {@code NonBlockingAsync} send the request over the
+ * non-blocking transport of the client instead of holding a thread of the
+ * executor for the whole call, which lets dependent calls be chained from
+ * their handlers without blocking.
 <#if metadata.documentation??>
  * <p>
  * ${metadata.documentation}
@@ -209,6 +209,9 @@ public class ${metadata.syncClient} extends AmazonWebServiceClient implements ${
 <#list operations?values as operationModel>
     <@ClientMethodForOperation.content metadata operationModel />
     <@ClientMethodForOperationWithSimpleForm.content operationModel />
+    <#if operationModel.nonBlockingSupported>
+        <@ClientMethodForOperationNonBlocking.content metadata operationModel />
+    </#if>
 </#list>
 
 <#if AdditionalClientMethodsMacro?has_content>
@@ -285,4 +288,50 @@ public class ${metadata.syncClient} extends AmazonWebServiceClient implements ${
                 errorResponseHandler, executionContext);
     }
 
+    /**
+     * Non-blocking invoke with authentication. Credentials are required and may be overriden at
+     * the request level.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> invokeAsync(Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            AsyncResultFuture<Y, X> future) {
+
+        executionContext.setCredentialsProvider(CredentialUtils.getCredentialsProvider
+            (request.getOriginalRequest(), awsCredentialsProvider));
+
+        return doInvokeAsync(request, responseHandler, executionContext, future);
+    }
+
+    /**
+     * Non-blocking invoke with no authentication. Credentials are not required and any
+     * credentials set on the client or request will be ignored for this operation.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> anonymousInvokeAsync(Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            AsyncResultFuture<Y, X> future) {
+
+        return doInvokeAsync(request, responseHandler, executionContext, future);
+    }
+
+    /**
+     * Sends the request over the non-blocking transport of the http client, and completes the
+     * given future with the result. Assumes credentials (or lack thereof) have been configured in
+     * the ExecutionContext beforehand.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> doInvokeAsync(Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            AsyncResultFuture<Y, X> future) {
+        request.setEndpoint(endpoint);
+        request.setTimeOffset(timeOffset);
+
+        <@ClientInvokeMethodErrorResponseHandlerCreation.content metadata customizationConfig />
+
+        future.setDelegate(client.executeAsync(request, responseHandler,
+                errorResponseHandler, executionContext, future));
+        return future;
+    }
+
 }
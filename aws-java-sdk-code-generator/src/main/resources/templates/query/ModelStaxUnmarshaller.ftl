@@ -7,7 +7,7 @@ import java.util.HashMap;
 import java.util.ArrayList;
 import java.util.Map.Entry;
 
-import javax.xml.stream.events.XMLEvent;
+import static javax.xml.stream.XMLStreamConstants.*;
 
 import ${metadata.packageName}.model.*;
 import com.amazonaws.transform.Unmarshaller;
@@ -76,10 +76,10 @@ public class ${shape.shapeName}StaxUnmarshaller implements Unmarshaller<${shape.
 </#if>
 
         while (true) {
-            XMLEvent xmlEvent = context.nextEvent();
-            if (xmlEvent.isEndDocument()) return ${shape.variable.variableName};
+            int eventType = context.nextEventType();
+            if (eventType == END_DOCUMENT) return ${shape.variable.variableName};
 
-            if (xmlEvent.isAttribute() || xmlEvent.isStartElement()) {
+            if (eventType == ATTRIBUTE || eventType == START_ELEMENT) {
 
 <#if shape.members?has_content>
   <#if shape.customization.artificialResultWrapper?has_content>
@@ -97,7 +97,7 @@ public class ${shape.shapeName}StaxUnmarshaller implements Unmarshaller<${shape.
     </#list>
   </#if>
 </#if>
-            } else if (xmlEvent.isEndElement()) {
+            } else if (eventType == END_ELEMENT) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return ${shape.variable.variableName};
                 }
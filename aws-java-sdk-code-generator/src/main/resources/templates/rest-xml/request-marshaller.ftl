@@ -57,7 +57,7 @@ public class ${shapeName}Marshaller implements Marshaller<Request<${shapeName}>,
                     request.addHeader("Content-Type", "binary/octet-stream");
                 }
                 <#elseif (member.http.isPayload) && member.variable.variableType = "java.nio.ByteBuffer">
-                request.setContent(BinaryUtils.toStream(${shape.variable.variableName}.get${member.name}()));
+                request.setContent(BinaryUtils.toReplayableStream(${shape.variable.variableName}.get${member.name}()));
                 if (!request.getHeaders().containsKey("Content-Type")) {
                     request.addHeader("Content-Type", "binary/octet-stream");
                 }
@@ -53,19 +53,28 @@ public class BatchGetRepositoriesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("repositories", targetDepth)) {
-                    context.nextToken();
-                    batchGetRepositoriesResult
-                            .setRepositories(new ListUnmarshaller<RepositoryMetadata>(
-                                    RepositoryMetadataJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("repositoriesNotFound", targetDepth)) {
-                    context.nextToken();
-                    batchGetRepositoriesResult
-                            .setRepositoriesNotFound(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2113732968:
+                        if (fieldName.equals("repositories")) {
+                            context.nextToken();
+                            batchGetRepositoriesResult
+                                    .setRepositories(new ListUnmarshaller<RepositoryMetadata>(
+                                            RepositoryMetadataJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 296306167:
+                        if (fieldName.equals("repositoriesNotFound")) {
+                            context.nextToken();
+                            batchGetRepositoriesResult
+                                    .setRepositoriesNotFound(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
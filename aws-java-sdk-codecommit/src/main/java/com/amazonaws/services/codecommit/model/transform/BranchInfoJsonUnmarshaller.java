@@ -53,15 +53,24 @@ public class BranchInfoJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("branchName", targetDepth)) {
-                    context.nextToken();
-                    branchInfo.setBranchName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("commitId", targetDepth)) {
-                    context.nextToken();
-                    branchInfo.setCommitId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1352954701:
+                        if (fieldName.equals("branchName")) {
+                            context.nextToken();
+                            branchInfo.setBranchName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -602292046:
+                        if (fieldName.equals("commitId")) {
+                            context.nextToken();
+                            branchInfo.setCommitId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
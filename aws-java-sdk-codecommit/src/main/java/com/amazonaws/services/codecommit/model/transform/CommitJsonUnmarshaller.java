@@ -52,35 +52,52 @@ public class CommitJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("treeId", targetDepth)) {
-                    context.nextToken();
-                    commit.setTreeId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("parents", targetDepth)) {
-                    context.nextToken();
-                    commit.setParents(new ListUnmarshaller<String>(context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("message", targetDepth)) {
-                    context.nextToken();
-                    commit.setMessage(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("author", targetDepth)) {
-                    context.nextToken();
-                    commit.setAuthor(UserInfoJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
-                }
-                if (context.testExpression("committer", targetDepth)) {
-                    context.nextToken();
-                    commit.setCommitter(UserInfoJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
-                }
-                if (context.testExpression("additionalData", targetDepth)) {
-                    context.nextToken();
-                    commit.setAdditionalData(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -865596071:
+                        if (fieldName.equals("treeId")) {
+                            context.nextToken();
+                            commit.setTreeId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -793375479:
+                        if (fieldName.equals("parents")) {
+                            context.nextToken();
+                            commit.setParents(new ListUnmarshaller<String>(context
+                                    .getUnmarshaller(String.class)).unmarshall(context));
+                        }
+                        break;
+                    case 954925063:
+                        if (fieldName.equals("message")) {
+                            context.nextToken();
+                            commit.setMessage(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1406328437:
+                        if (fieldName.equals("author")) {
+                            context.nextToken();
+                            commit.setAuthor(UserInfoJsonUnmarshaller.getInstance()
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1491142774:
+                        if (fieldName.equals("committer")) {
+                            context.nextToken();
+                            commit.setCommitter(UserInfoJsonUnmarshaller.getInstance()
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -974458767:
+                        if (fieldName.equals("additionalData")) {
+                            context.nextToken();
+                            commit.setAdditionalData(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
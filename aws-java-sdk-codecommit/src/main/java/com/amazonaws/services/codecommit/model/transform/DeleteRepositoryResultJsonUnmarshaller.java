@@ -53,10 +53,17 @@ public class DeleteRepositoryResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("repositoryId", targetDepth)) {
-                    context.nextToken();
-                    deleteRepositoryResult.setRepositoryId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2113747461:
+                        if (fieldName.equals("repositoryId")) {
+                            context.nextToken();
+                            deleteRepositoryResult.setRepositoryId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,10 +53,17 @@ public class GetBranchResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("branch", targetDepth)) {
-                    context.nextToken();
-                    getBranchResult.setBranch(BranchInfoJsonUnmarshaller
-                            .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1381030494:
+                        if (fieldName.equals("branch")) {
+                            context.nextToken();
+                            getBranchResult.setBranch(BranchInfoJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
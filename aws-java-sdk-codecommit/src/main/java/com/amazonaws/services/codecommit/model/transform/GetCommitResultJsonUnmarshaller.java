@@ -53,10 +53,17 @@ public class GetCommitResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("commit", targetDepth)) {
-                    context.nextToken();
-                    getCommitResult.setCommit(CommitJsonUnmarshaller
-                            .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1354815177:
+                        if (fieldName.equals("commit")) {
+                            context.nextToken();
+                            getCommitResult.setCommit(CommitJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,11 +53,18 @@ public class GetRepositoryResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("repositoryMetadata", targetDepth)) {
-                    context.nextToken();
-                    getRepositoryResult
-                            .setRepositoryMetadata(RepositoryMetadataJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 504090777:
+                        if (fieldName.equals("repositoryMetadata")) {
+                            context.nextToken();
+                            getRepositoryResult
+                                    .setRepositoryMetadata(RepositoryMetadataJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class GetRepositoryTriggersResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("configurationId", targetDepth)) {
-                    context.nextToken();
-                    getRepositoryTriggersResult.setConfigurationId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("triggers", targetDepth)) {
-                    context.nextToken();
-                    getRepositoryTriggersResult
-                            .setTriggers(new ListUnmarshaller<RepositoryTrigger>(
-                                    RepositoryTriggerJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1948915889:
+                        if (fieldName.equals("configurationId")) {
+                            context.nextToken();
+                            getRepositoryTriggersResult.setConfigurationId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1503093179:
+                        if (fieldName.equals("triggers")) {
+                            context.nextToken();
+                            getRepositoryTriggersResult
+                                    .setTriggers(new ListUnmarshaller<RepositoryTrigger>(
+                                            RepositoryTriggerJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
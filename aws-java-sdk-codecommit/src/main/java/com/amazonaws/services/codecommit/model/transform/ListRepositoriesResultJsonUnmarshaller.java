@@ -53,17 +53,26 @@ public class ListRepositoriesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("repositories", targetDepth)) {
-                    context.nextToken();
-                    listRepositoriesResult
-                            .setRepositories(new ListUnmarshaller<RepositoryNameIdPair>(
-                                    RepositoryNameIdPairJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listRepositoriesResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2113732968:
+                        if (fieldName.equals("repositories")) {
+                            context.nextToken();
+                            listRepositoriesResult
+                                    .setRepositories(new ListUnmarshaller<RepositoryNameIdPair>(
+                                            RepositoryNameIdPairJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 1206918854:
+                        if (fieldName.equals("nextToken")) {
+                            context.nextToken();
+                            listRepositoriesResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,10 +53,17 @@ public class PutRepositoryTriggersResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("configurationId", targetDepth)) {
-                    context.nextToken();
-                    putRepositoryTriggersResult.setConfigurationId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1948915889:
+                        if (fieldName.equals("configurationId")) {
+                            context.nextToken();
+                            putRepositoryTriggersResult.setConfigurationId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
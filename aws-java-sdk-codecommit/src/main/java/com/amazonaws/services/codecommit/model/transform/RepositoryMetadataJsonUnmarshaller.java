@@ -53,57 +53,81 @@ public class RepositoryMetadataJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("accountId", targetDepth)) {
-                    context.nextToken();
-                    repositoryMetadata.setAccountId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("repositoryId", targetDepth)) {
-                    context.nextToken();
-                    repositoryMetadata.setRepositoryId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("repositoryName", targetDepth)) {
-                    context.nextToken();
-                    repositoryMetadata.setRepositoryName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("repositoryDescription", targetDepth)) {
-                    context.nextToken();
-                    repositoryMetadata.setRepositoryDescription(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("defaultBranch", targetDepth)) {
-                    context.nextToken();
-                    repositoryMetadata.setDefaultBranch(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("lastModifiedDate", targetDepth)) {
-                    context.nextToken();
-                    repositoryMetadata.setLastModifiedDate(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("creationDate", targetDepth)) {
-                    context.nextToken();
-                    repositoryMetadata.setCreationDate(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("cloneUrlHttp", targetDepth)) {
-                    context.nextToken();
-                    repositoryMetadata.setCloneUrlHttp(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("cloneUrlSsh", targetDepth)) {
-                    context.nextToken();
-                    repositoryMetadata.setCloneUrlSsh(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Arn", targetDepth)) {
-                    context.nextToken();
-                    repositoryMetadata.setArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1827029976:
+                        if (fieldName.equals("accountId")) {
+                            context.nextToken();
+                            repositoryMetadata.setAccountId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2113747461:
+                        if (fieldName.equals("repositoryId")) {
+                            context.nextToken();
+                            repositoryMetadata.setRepositoryId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -208071435:
+                        if (fieldName.equals("repositoryName")) {
+                            context.nextToken();
+                            repositoryMetadata.setRepositoryName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1919630930:
+                        if (fieldName.equals("repositoryDescription")) {
+                            context.nextToken();
+                            repositoryMetadata.setRepositoryDescription(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 484733763:
+                        if (fieldName.equals("defaultBranch")) {
+                            context.nextToken();
+                            repositoryMetadata.setDefaultBranch(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1540845619:
+                        if (fieldName.equals("lastModifiedDate")) {
+                            context.nextToken();
+                            repositoryMetadata.setLastModifiedDate(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case 1585531693:
+                        if (fieldName.equals("creationDate")) {
+                            context.nextToken();
+                            repositoryMetadata.setCreationDate(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case -1068279174:
+                        if (fieldName.equals("cloneUrlHttp")) {
+                            context.nextToken();
+                            repositoryMetadata.setCloneUrlHttp(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 104097238:
+                        if (fieldName.equals("cloneUrlSsh")) {
+                            context.nextToken();
+                            repositoryMetadata.setCloneUrlSsh(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 66109:
+                        if (fieldName.equals("Arn")) {
+                            context.nextToken();
+                            repositoryMetadata.setArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class RepositoryNameIdPairJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("repositoryName", targetDepth)) {
-                    context.nextToken();
-                    repositoryNameIdPair.setRepositoryName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("repositoryId", targetDepth)) {
-                    context.nextToken();
-                    repositoryNameIdPair.setRepositoryId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -208071435:
+                        if (fieldName.equals("repositoryName")) {
+                            context.nextToken();
+                            repositoryNameIdPair.setRepositoryName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2113747461:
+                        if (fieldName.equals("repositoryId")) {
+                            context.nextToken();
+                            repositoryNameIdPair.setRepositoryId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
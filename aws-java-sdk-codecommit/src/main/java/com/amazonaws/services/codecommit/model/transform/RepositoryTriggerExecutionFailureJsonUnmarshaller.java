@@ -54,15 +54,24 @@ public class RepositoryTriggerExecutionFailureJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("trigger", targetDepth)) {
-                    context.nextToken();
-                    repositoryTriggerExecutionFailure.setTrigger(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("failureMessage", targetDepth)) {
-                    context.nextToken();
-                    repositoryTriggerExecutionFailure.setFailureMessage(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1059891784:
+                        if (fieldName.equals("trigger")) {
+                            context.nextToken();
+                            repositoryTriggerExecutionFailure.setTrigger(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1704954083:
+                        if (fieldName.equals("failureMessage")) {
+                            context.nextToken();
+                            repositoryTriggerExecutionFailure.setFailureMessage(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
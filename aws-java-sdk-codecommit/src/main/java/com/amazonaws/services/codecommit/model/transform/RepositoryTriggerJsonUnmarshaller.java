@@ -53,32 +53,47 @@ public class RepositoryTriggerJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    repositoryTrigger.setName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("destinationArn", targetDepth)) {
-                    context.nextToken();
-                    repositoryTrigger.setDestinationArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("customData", targetDepth)) {
-                    context.nextToken();
-                    repositoryTrigger.setCustomData(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("branches", targetDepth)) {
-                    context.nextToken();
-                    repositoryTrigger.setBranches(new ListUnmarshaller<String>(
-                            context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("events", targetDepth)) {
-                    context.nextToken();
-                    repositoryTrigger.setEvents(new ListUnmarshaller<String>(
-                            context.getUnmarshaller(String.class))
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3373707:
+                        if (fieldName.equals("name")) {
+                            context.nextToken();
+                            repositoryTrigger.setName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 912956271:
+                        if (fieldName.equals("destinationArn")) {
+                            context.nextToken();
+                            repositoryTrigger.setDestinationArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1582182725:
+                        if (fieldName.equals("customData")) {
+                            context.nextToken();
+                            repositoryTrigger.setCustomData(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -25407024:
+                        if (fieldName.equals("branches")) {
+                            context.nextToken();
+                            repositoryTrigger.setBranches(new ListUnmarshaller<String>(
+                                    context.getUnmarshaller(String.class))
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1291329255:
+                        if (fieldName.equals("events")) {
+                            context.nextToken();
+                            repositoryTrigger.setEvents(new ListUnmarshaller<String>(
+                                    context.getUnmarshaller(String.class))
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,19 +53,28 @@ public class TestRepositoryTriggersResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("successfulExecutions", targetDepth)) {
-                    context.nextToken();
-                    testRepositoryTriggersResult
-                            .setSuccessfulExecutions(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("failedExecutions", targetDepth)) {
-                    context.nextToken();
-                    testRepositoryTriggersResult
-                            .setFailedExecutions(new ListUnmarshaller<RepositoryTriggerExecutionFailure>(
-                                    RepositoryTriggerExecutionFailureJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 155641493:
+                        if (fieldName.equals("successfulExecutions")) {
+                            context.nextToken();
+                            testRepositoryTriggersResult
+                                    .setSuccessfulExecutions(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -119119752:
+                        if (fieldName.equals("failedExecutions")) {
+                            context.nextToken();
+                            testRepositoryTriggersResult
+                                    .setFailedExecutions(new ListUnmarshaller<RepositoryTriggerExecutionFailure>(
+                                            RepositoryTriggerExecutionFailureJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,20 +53,31 @@ public class UserInfoJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    userInfo.setName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("email", targetDepth)) {
-                    context.nextToken();
-                    userInfo.setEmail(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("date", targetDepth)) {
-                    context.nextToken();
-                    userInfo.setDate(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3373707:
+                        if (fieldName.equals("name")) {
+                            context.nextToken();
+                            userInfo.setName(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 96619420:
+                        if (fieldName.equals("email")) {
+                            context.nextToken();
+                            userInfo.setEmail(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 3076014:
+                        if (fieldName.equals("date")) {
+                            context.nextToken();
+                            userInfo.setDate(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
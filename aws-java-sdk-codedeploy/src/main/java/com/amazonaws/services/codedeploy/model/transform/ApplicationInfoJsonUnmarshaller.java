@@ -53,25 +53,38 @@ public class ApplicationInfoJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("applicationId", targetDepth)) {
-                    context.nextToken();
-                    applicationInfo.setApplicationId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("applicationName", targetDepth)) {
-                    context.nextToken();
-                    applicationInfo.setApplicationName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("createTime", targetDepth)) {
-                    context.nextToken();
-                    applicationInfo.setCreateTime(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("linkedToGitHub", targetDepth)) {
-                    context.nextToken();
-                    applicationInfo.setLinkedToGitHub(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1011352949:
+                        if (fieldName.equals("applicationId")) {
+                            context.nextToken();
+                            applicationInfo.setApplicationId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1247425541:
+                        if (fieldName.equals("applicationName")) {
+                            context.nextToken();
+                            applicationInfo.setApplicationName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1369213417:
+                        if (fieldName.equals("createTime")) {
+                            context.nextToken();
+                            applicationInfo.setCreateTime(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 2009823063:
+                        if (fieldName.equals("linkedToGitHub")) {
+                            context.nextToken();
+                            applicationInfo.setLinkedToGitHub(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class AutoScalingGroupJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    autoScalingGroup.setName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("hook", targetDepth)) {
-                    context.nextToken();
-                    autoScalingGroup.setHook(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3373707:
+                        if (fieldName.equals("name")) {
+                            context.nextToken();
+                            autoScalingGroup.setName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 3208483:
+                        if (fieldName.equals("hook")) {
+                            context.nextToken();
+                            autoScalingGroup.setHook(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
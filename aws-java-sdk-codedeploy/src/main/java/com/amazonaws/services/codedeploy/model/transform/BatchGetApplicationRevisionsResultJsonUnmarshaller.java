@@ -54,23 +54,34 @@ public class BatchGetApplicationRevisionsResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("applicationName", targetDepth)) {
-                    context.nextToken();
-                    batchGetApplicationRevisionsResult
-                            .setApplicationName(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("errorMessage", targetDepth)) {
-                    context.nextToken();
-                    batchGetApplicationRevisionsResult.setErrorMessage(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("revisions", targetDepth)) {
-                    context.nextToken();
-                    batchGetApplicationRevisionsResult
-                            .setRevisions(new ListUnmarshaller<RevisionInfo>(
-                                    RevisionInfoJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1247425541:
+                        if (fieldName.equals("applicationName")) {
+                            context.nextToken();
+                            batchGetApplicationRevisionsResult
+                                    .setApplicationName(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1203236063:
+                        if (fieldName.equals("errorMessage")) {
+                            context.nextToken();
+                            batchGetApplicationRevisionsResult.setErrorMessage(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 505562104:
+                        if (fieldName.equals("revisions")) {
+                            context.nextToken();
+                            batchGetApplicationRevisionsResult
+                                    .setRevisions(new ListUnmarshaller<RevisionInfo>(
+                                            RevisionInfoJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,12 +53,19 @@ public class BatchGetApplicationsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("applicationsInfo", targetDepth)) {
-                    context.nextToken();
-                    batchGetApplicationsResult
-                            .setApplicationsInfo(new ListUnmarshaller<ApplicationInfo>(
-                                    ApplicationInfoJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 17970289:
+                        if (fieldName.equals("applicationsInfo")) {
+                            context.nextToken();
+                            batchGetApplicationsResult
+                                    .setApplicationsInfo(new ListUnmarshaller<ApplicationInfo>(
+                                            ApplicationInfoJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
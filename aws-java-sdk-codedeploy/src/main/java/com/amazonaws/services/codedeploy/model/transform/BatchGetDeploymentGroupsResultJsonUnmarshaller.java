@@ -53,17 +53,26 @@ public class BatchGetDeploymentGroupsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("deploymentGroupsInfo", targetDepth)) {
-                    context.nextToken();
-                    batchGetDeploymentGroupsResult
-                            .setDeploymentGroupsInfo(new ListUnmarshaller<DeploymentGroupInfo>(
-                                    DeploymentGroupInfoJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("errorMessage", targetDepth)) {
-                    context.nextToken();
-                    batchGetDeploymentGroupsResult.setErrorMessage(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1119793849:
+                        if (fieldName.equals("deploymentGroupsInfo")) {
+                            context.nextToken();
+                            batchGetDeploymentGroupsResult
+                                    .setDeploymentGroupsInfo(new ListUnmarshaller<DeploymentGroupInfo>(
+                                            DeploymentGroupInfoJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 1203236063:
+                        if (fieldName.equals("errorMessage")) {
+                            context.nextToken();
+                            batchGetDeploymentGroupsResult.setErrorMessage(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,17 +54,26 @@ public class BatchGetDeploymentInstancesResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("instancesSummary", targetDepth)) {
-                    context.nextToken();
-                    batchGetDeploymentInstancesResult
-                            .setInstancesSummary(new ListUnmarshaller<InstanceSummary>(
-                                    InstanceSummaryJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("errorMessage", targetDepth)) {
-                    context.nextToken();
-                    batchGetDeploymentInstancesResult.setErrorMessage(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 633182024:
+                        if (fieldName.equals("instancesSummary")) {
+                            context.nextToken();
+                            batchGetDeploymentInstancesResult
+                                    .setInstancesSummary(new ListUnmarshaller<InstanceSummary>(
+                                            InstanceSummaryJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 1203236063:
+                        if (fieldName.equals("errorMessage")) {
+                            context.nextToken();
+                            batchGetDeploymentInstancesResult.setErrorMessage(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,12 +53,19 @@ public class BatchGetDeploymentsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("deploymentsInfo", targetDepth)) {
-                    context.nextToken();
-                    batchGetDeploymentsResult
-                            .setDeploymentsInfo(new ListUnmarshaller<DeploymentInfo>(
-                                    DeploymentInfoJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2024513564:
+                        if (fieldName.equals("deploymentsInfo")) {
+                            context.nextToken();
+                            batchGetDeploymentsResult
+                                    .setDeploymentsInfo(new ListUnmarshaller<DeploymentInfo>(
+                                            DeploymentInfoJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
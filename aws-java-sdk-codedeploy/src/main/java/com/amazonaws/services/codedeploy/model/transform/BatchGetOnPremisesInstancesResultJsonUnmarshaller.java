@@ -54,12 +54,19 @@ public class BatchGetOnPremisesInstancesResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("instanceInfos", targetDepth)) {
-                    context.nextToken();
-                    batchGetOnPremisesInstancesResult
-                            .setInstanceInfos(new ListUnmarshaller<InstanceInfo>(
-                                    InstanceInfoJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1402977808:
+                        if (fieldName.equals("instanceInfos")) {
+                            context.nextToken();
+                            batchGetOnPremisesInstancesResult
+                                    .setInstanceInfos(new ListUnmarshaller<InstanceInfo>(
+                                            InstanceInfoJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
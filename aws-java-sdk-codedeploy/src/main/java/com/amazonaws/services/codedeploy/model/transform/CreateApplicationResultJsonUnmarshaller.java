@@ -53,10 +53,17 @@ public class CreateApplicationResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("applicationId", targetDepth)) {
-                    context.nextToken();
-                    createApplicationResult.setApplicationId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1011352949:
+                        if (fieldName.equals("applicationId")) {
+                            context.nextToken();
+                            createApplicationResult.setApplicationId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,10 +53,17 @@ public class CreateDeploymentConfigResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("deploymentConfigId", targetDepth)) {
-                    context.nextToken();
-                    createDeploymentConfigResult.setDeploymentConfigId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -332378654:
+                        if (fieldName.equals("deploymentConfigId")) {
+                            context.nextToken();
+                            createDeploymentConfigResult.setDeploymentConfigId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
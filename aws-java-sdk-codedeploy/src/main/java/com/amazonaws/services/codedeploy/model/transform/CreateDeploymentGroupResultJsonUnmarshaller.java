@@ -53,10 +53,17 @@ public class CreateDeploymentGroupResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("deploymentGroupId", targetDepth)) {
-                    context.nextToken();
-                    createDeploymentGroupResult.setDeploymentGroupId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 717062517:
+                        if (fieldName.equals("deploymentGroupId")) {
+                            context.nextToken();
+                            createDeploymentGroupResult.setDeploymentGroupId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
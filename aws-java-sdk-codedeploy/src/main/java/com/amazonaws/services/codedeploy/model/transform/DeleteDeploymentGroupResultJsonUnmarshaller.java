@@ -53,12 +53,19 @@ public class DeleteDeploymentGroupResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("hooksNotCleanedUp", targetDepth)) {
-                    context.nextToken();
-                    deleteDeploymentGroupResult
-                            .setHooksNotCleanedUp(new ListUnmarshaller<AutoScalingGroup>(
-                                    AutoScalingGroupJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -637156448:
+                        if (fieldName.equals("hooksNotCleanedUp")) {
+                            context.nextToken();
+                            deleteDeploymentGroupResult
+                                    .setHooksNotCleanedUp(new ListUnmarshaller<AutoScalingGroup>(
+                                            AutoScalingGroupJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,26 +53,39 @@ public class DeploymentConfigInfoJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("deploymentConfigId", targetDepth)) {
-                    context.nextToken();
-                    deploymentConfigInfo.setDeploymentConfigId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("deploymentConfigName", targetDepth)) {
-                    context.nextToken();
-                    deploymentConfigInfo.setDeploymentConfigName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("minimumHealthyHosts", targetDepth)) {
-                    context.nextToken();
-                    deploymentConfigInfo
-                            .setMinimumHealthyHosts(MinimumHealthyHostsJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("createTime", targetDepth)) {
-                    context.nextToken();
-                    deploymentConfigInfo.setCreateTime(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -332378654:
+                        if (fieldName.equals("deploymentConfigId")) {
+                            context.nextToken();
+                            deploymentConfigInfo.setDeploymentConfigId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1588157038:
+                        if (fieldName.equals("deploymentConfigName")) {
+                            context.nextToken();
+                            deploymentConfigInfo.setDeploymentConfigName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -790675620:
+                        if (fieldName.equals("minimumHealthyHosts")) {
+                            context.nextToken();
+                            deploymentConfigInfo
+                                    .setMinimumHealthyHosts(MinimumHealthyHostsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1369213417:
+                        if (fieldName.equals("createTime")) {
+                            context.nextToken();
+                            deploymentConfigInfo.setCreateTime(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
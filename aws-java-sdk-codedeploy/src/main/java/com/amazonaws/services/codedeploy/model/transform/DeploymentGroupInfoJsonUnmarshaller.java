@@ -53,66 +53,89 @@ public class DeploymentGroupInfoJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("applicationName", targetDepth)) {
-                    context.nextToken();
-                    deploymentGroupInfo.setApplicationName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("deploymentGroupId", targetDepth)) {
-                    context.nextToken();
-                    deploymentGroupInfo.setDeploymentGroupId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("deploymentGroupName", targetDepth)) {
-                    context.nextToken();
-                    deploymentGroupInfo.setDeploymentGroupName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("deploymentConfigName", targetDepth)) {
-                    context.nextToken();
-                    deploymentGroupInfo.setDeploymentConfigName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ec2TagFilters", targetDepth)) {
-                    context.nextToken();
-                    deploymentGroupInfo
-                            .setEc2TagFilters(new ListUnmarshaller<EC2TagFilter>(
-                                    EC2TagFilterJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("onPremisesInstanceTagFilters",
-                        targetDepth)) {
-                    context.nextToken();
-                    deploymentGroupInfo
-                            .setOnPremisesInstanceTagFilters(new ListUnmarshaller<TagFilter>(
-                                    TagFilterJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("autoScalingGroups", targetDepth)) {
-                    context.nextToken();
-                    deploymentGroupInfo
-                            .setAutoScalingGroups(new ListUnmarshaller<AutoScalingGroup>(
-                                    AutoScalingGroupJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("serviceRoleArn", targetDepth)) {
-                    context.nextToken();
-                    deploymentGroupInfo.setServiceRoleArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("targetRevision", targetDepth)) {
-                    context.nextToken();
-                    deploymentGroupInfo
-                            .setTargetRevision(RevisionLocationJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context
-                        .testExpression("triggerConfigurations", targetDepth)) {
-                    context.nextToken();
-                    deploymentGroupInfo
-                            .setTriggerConfigurations(new ListUnmarshaller<TriggerConfig>(
-                                    TriggerConfigJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1247425541:
+                        if (fieldName.equals("applicationName")) {
+                            context.nextToken();
+                            deploymentGroupInfo.setApplicationName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 717062517:
+                        if (fieldName.equals("deploymentGroupId")) {
+                            context.nextToken();
+                            deploymentGroupInfo.setDeploymentGroupId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1902461029:
+                        if (fieldName.equals("deploymentGroupName")) {
+                            context.nextToken();
+                            deploymentGroupInfo.setDeploymentGroupName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1588157038:
+                        if (fieldName.equals("deploymentConfigName")) {
+                            context.nextToken();
+                            deploymentGroupInfo.setDeploymentConfigName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2046354805:
+                        if (fieldName.equals("ec2TagFilters")) {
+                            context.nextToken();
+                            deploymentGroupInfo
+                                    .setEc2TagFilters(new ListUnmarshaller<EC2TagFilter>(
+                                            EC2TagFilterJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -95851817:
+                        if (fieldName.equals("onPremisesInstanceTagFilters")) {
+                            context.nextToken();
+                            deploymentGroupInfo
+                                    .setOnPremisesInstanceTagFilters(new ListUnmarshaller<TagFilter>(
+                                            TagFilterJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1367803596:
+                        if (fieldName.equals("autoScalingGroups")) {
+                            context.nextToken();
+                            deploymentGroupInfo
+                                    .setAutoScalingGroups(new ListUnmarshaller<AutoScalingGroup>(
+                                            AutoScalingGroupJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -661655150:
+                        if (fieldName.equals("serviceRoleArn")) {
+                            context.nextToken();
+                            deploymentGroupInfo.setServiceRoleArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1852871540:
+                        if (fieldName.equals("targetRevision")) {
+                            context.nextToken();
+                            deploymentGroupInfo
+                                    .setTargetRevision(RevisionLocationJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 2064706069:
+                        if (fieldName.equals("triggerConfigurations")) {
+                            context.nextToken();
+                            deploymentGroupInfo
+                                    .setTriggerConfigurations(new ListUnmarshaller<TriggerConfig>(
+                                            TriggerConfigJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,80 +53,112 @@ public class DeploymentInfoJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("applicationName", targetDepth)) {
-                    context.nextToken();
-                    deploymentInfo.setApplicationName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("deploymentGroupName", targetDepth)) {
-                    context.nextToken();
-                    deploymentInfo.setDeploymentGroupName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("deploymentConfigName", targetDepth)) {
-                    context.nextToken();
-                    deploymentInfo.setDeploymentConfigName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("deploymentId", targetDepth)) {
-                    context.nextToken();
-                    deploymentInfo.setDeploymentId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("revision", targetDepth)) {
-                    context.nextToken();
-                    deploymentInfo.setRevision(RevisionLocationJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    deploymentInfo.setStatus(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("errorInformation", targetDepth)) {
-                    context.nextToken();
-                    deploymentInfo
-                            .setErrorInformation(ErrorInformationJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("createTime", targetDepth)) {
-                    context.nextToken();
-                    deploymentInfo.setCreateTime(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("startTime", targetDepth)) {
-                    context.nextToken();
-                    deploymentInfo.setStartTime(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("completeTime", targetDepth)) {
-                    context.nextToken();
-                    deploymentInfo.setCompleteTime(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("deploymentOverview", targetDepth)) {
-                    context.nextToken();
-                    deploymentInfo
-                            .setDeploymentOverview(DeploymentOverviewJsonUnmarshaller
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1247425541:
+                        if (fieldName.equals("applicationName")) {
+                            context.nextToken();
+                            deploymentInfo.setApplicationName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1902461029:
+                        if (fieldName.equals("deploymentGroupName")) {
+                            context.nextToken();
+                            deploymentInfo.setDeploymentGroupName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1588157038:
+                        if (fieldName.equals("deploymentConfigName")) {
+                            context.nextToken();
+                            deploymentInfo.setDeploymentConfigName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -136894784:
+                        if (fieldName.equals("deploymentId")) {
+                            context.nextToken();
+                            deploymentInfo.setDeploymentId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -260786213:
+                        if (fieldName.equals("revision")) {
+                            context.nextToken();
+                            deploymentInfo.setRevision(RevisionLocationJsonUnmarshaller
                                     .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    deploymentInfo.setDescription(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("creator", targetDepth)) {
-                    context.nextToken();
-                    deploymentInfo.setCreator(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ignoreApplicationStopFailures",
-                        targetDepth)) {
-                    context.nextToken();
-                    deploymentInfo
-                            .setIgnoreApplicationStopFailures(context
-                                    .getUnmarshaller(Boolean.class).unmarshall(
-                                            context));
+                        }
+                        break;
+                    case -892481550:
+                        if (fieldName.equals("status")) {
+                            context.nextToken();
+                            deploymentInfo.setStatus(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1202796036:
+                        if (fieldName.equals("errorInformation")) {
+                            context.nextToken();
+                            deploymentInfo
+                                    .setErrorInformation(ErrorInformationJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1369213417:
+                        if (fieldName.equals("createTime")) {
+                            context.nextToken();
+                            deploymentInfo.setCreateTime(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case -2129294769:
+                        if (fieldName.equals("startTime")) {
+                            context.nextToken();
+                            deploymentInfo.setStartTime(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case -410012762:
+                        if (fieldName.equals("completeTime")) {
+                            context.nextToken();
+                            deploymentInfo.setCompleteTime(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 777877342:
+                        if (fieldName.equals("deploymentOverview")) {
+                            context.nextToken();
+                            deploymentInfo
+                                    .setDeploymentOverview(DeploymentOverviewJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1724546052:
+                        if (fieldName.equals("description")) {
+                            context.nextToken();
+                            deploymentInfo.setDescription(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1028554796:
+                        if (fieldName.equals("creator")) {
+                            context.nextToken();
+                            deploymentInfo.setCreator(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -759654007:
+                        if (fieldName.equals("ignoreApplicationStopFailures")) {
+                            context.nextToken();
+                            deploymentInfo
+                                    .setIgnoreApplicationStopFailures(context
+                                            .getUnmarshaller(Boolean.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
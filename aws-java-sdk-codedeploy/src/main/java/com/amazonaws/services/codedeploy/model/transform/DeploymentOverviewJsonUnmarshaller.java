@@ -53,30 +53,45 @@ public class DeploymentOverviewJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Pending", targetDepth)) {
-                    context.nextToken();
-                    deploymentOverview.setPending(context.getUnmarshaller(
-                            Long.class).unmarshall(context));
-                }
-                if (context.testExpression("InProgress", targetDepth)) {
-                    context.nextToken();
-                    deploymentOverview.setInProgress(context.getUnmarshaller(
-                            Long.class).unmarshall(context));
-                }
-                if (context.testExpression("Succeeded", targetDepth)) {
-                    context.nextToken();
-                    deploymentOverview.setSucceeded(context.getUnmarshaller(
-                            Long.class).unmarshall(context));
-                }
-                if (context.testExpression("Failed", targetDepth)) {
-                    context.nextToken();
-                    deploymentOverview.setFailed(context.getUnmarshaller(
-                            Long.class).unmarshall(context));
-                }
-                if (context.testExpression("Skipped", targetDepth)) {
-                    context.nextToken();
-                    deploymentOverview.setSkipped(context.getUnmarshaller(
-                            Long.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 982065527:
+                        if (fieldName.equals("Pending")) {
+                            context.nextToken();
+                            deploymentOverview.setPending(context.getUnmarshaller(
+                                    Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 646453906:
+                        if (fieldName.equals("InProgress")) {
+                            context.nextToken();
+                            deploymentOverview.setInProgress(context.getUnmarshaller(
+                                    Long.class).unmarshall(context));
+                        }
+                        break;
+                    case -1345265087:
+                        if (fieldName.equals("Succeeded")) {
+                            context.nextToken();
+                            deploymentOverview.setSucceeded(context.getUnmarshaller(
+                                    Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 2096857181:
+                        if (fieldName.equals("Failed")) {
+                            context.nextToken();
+                            deploymentOverview.setFailed(context.getUnmarshaller(
+                                    Long.class).unmarshall(context));
+                        }
+                        break;
+                    case -482869488:
+                        if (fieldName.equals("Skipped")) {
+                            context.nextToken();
+                            deploymentOverview.setSkipped(context.getUnmarshaller(
+                                    Long.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,25 +53,38 @@ public class DiagnosticsJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("errorCode", targetDepth)) {
-                    context.nextToken();
-                    diagnostics.setErrorCode(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("scriptName", targetDepth)) {
-                    context.nextToken();
-                    diagnostics.setScriptName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("message", targetDepth)) {
-                    context.nextToken();
-                    diagnostics.setMessage(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("logTail", targetDepth)) {
-                    context.nextToken();
-                    diagnostics.setLogTail(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 329035797:
+                        if (fieldName.equals("errorCode")) {
+                            context.nextToken();
+                            diagnostics.setErrorCode(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -842046986:
+                        if (fieldName.equals("scriptName")) {
+                            context.nextToken();
+                            diagnostics.setScriptName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 954925063:
+                        if (fieldName.equals("message")) {
+                            context.nextToken();
+                            diagnostics.setMessage(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 341707188:
+                        if (fieldName.equals("logTail")) {
+                            context.nextToken();
+                            diagnostics.setLogTail(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,35 +53,50 @@ public class GenericRevisionInfoJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    genericRevisionInfo.setDescription(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("deploymentGroups", targetDepth)) {
-                    context.nextToken();
-                    genericRevisionInfo
-                            .setDeploymentGroups(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("firstUsedTime", targetDepth)) {
-                    context.nextToken();
-                    genericRevisionInfo.setFirstUsedTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("lastUsedTime", targetDepth)) {
-                    context.nextToken();
-                    genericRevisionInfo.setLastUsedTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("registerTime", targetDepth)) {
-                    context.nextToken();
-                    genericRevisionInfo.setRegisterTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1724546052:
+                        if (fieldName.equals("description")) {
+                            context.nextToken();
+                            genericRevisionInfo.setDescription(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1408604409:
+                        if (fieldName.equals("deploymentGroups")) {
+                            context.nextToken();
+                            genericRevisionInfo
+                                    .setDeploymentGroups(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1562120954:
+                        if (fieldName.equals("firstUsedTime")) {
+                            context.nextToken();
+                            genericRevisionInfo.setFirstUsedTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case -1999860512:
+                        if (fieldName.equals("lastUsedTime")) {
+                            context.nextToken();
+                            genericRevisionInfo.setLastUsedTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case -1707742192:
+                        if (fieldName.equals("registerTime")) {
+                            context.nextToken();
+                            genericRevisionInfo.setRegisterTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
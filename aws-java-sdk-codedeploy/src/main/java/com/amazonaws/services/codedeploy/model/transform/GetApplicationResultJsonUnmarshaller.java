@@ -53,11 +53,18 @@ public class GetApplicationResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("application", targetDepth)) {
-                    context.nextToken();
-                    getApplicationResult
-                            .setApplication(ApplicationInfoJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1554253136:
+                        if (fieldName.equals("application")) {
+                            context.nextToken();
+                            getApplicationResult
+                                    .setApplication(ApplicationInfoJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,22 +53,33 @@ public class GetApplicationRevisionResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("applicationName", targetDepth)) {
-                    context.nextToken();
-                    getApplicationRevisionResult.setApplicationName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("revision", targetDepth)) {
-                    context.nextToken();
-                    getApplicationRevisionResult
-                            .setRevision(RevisionLocationJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("revisionInfo", targetDepth)) {
-                    context.nextToken();
-                    getApplicationRevisionResult
-                            .setRevisionInfo(GenericRevisionInfoJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1247425541:
+                        if (fieldName.equals("applicationName")) {
+                            context.nextToken();
+                            getApplicationRevisionResult.setApplicationName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -260786213:
+                        if (fieldName.equals("revision")) {
+                            context.nextToken();
+                            getApplicationRevisionResult
+                                    .setRevision(RevisionLocationJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1250809047:
+                        if (fieldName.equals("revisionInfo")) {
+                            context.nextToken();
+                            getApplicationRevisionResult
+                                    .setRevisionInfo(GenericRevisionInfoJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
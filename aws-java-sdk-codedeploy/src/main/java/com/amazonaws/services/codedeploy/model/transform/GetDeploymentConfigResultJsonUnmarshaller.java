@@ -53,11 +53,18 @@ public class GetDeploymentConfigResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("deploymentConfigInfo", targetDepth)) {
-                    context.nextToken();
-                    getDeploymentConfigResult
-                            .setDeploymentConfigInfo(DeploymentConfigInfoJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1588293707:
+                        if (fieldName.equals("deploymentConfigInfo")) {
+                            context.nextToken();
+                            getDeploymentConfigResult
+                                    .setDeploymentConfigInfo(DeploymentConfigInfoJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,11 +53,18 @@ public class GetDeploymentGroupResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("deploymentGroupInfo", targetDepth)) {
-                    context.nextToken();
-                    getDeploymentGroupResult
-                            .setDeploymentGroupInfo(DeploymentGroupInfoJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1902324360:
+                        if (fieldName.equals("deploymentGroupInfo")) {
+                            context.nextToken();
+                            getDeploymentGroupResult
+                                    .setDeploymentGroupInfo(DeploymentGroupInfoJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
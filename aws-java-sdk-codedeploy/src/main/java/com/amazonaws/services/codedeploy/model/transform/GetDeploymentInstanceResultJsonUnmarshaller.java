@@ -53,11 +53,18 @@ public class GetDeploymentInstanceResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("instanceSummary", targetDepth)) {
-                    context.nextToken();
-                    getDeploymentInstanceResult
-                            .setInstanceSummary(InstanceSummaryJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 849955153:
+                        if (fieldName.equals("instanceSummary")) {
+                            context.nextToken();
+                            getDeploymentInstanceResult
+                                    .setInstanceSummary(InstanceSummaryJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
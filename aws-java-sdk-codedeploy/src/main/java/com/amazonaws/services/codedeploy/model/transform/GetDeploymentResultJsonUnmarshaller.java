@@ -53,11 +53,18 @@ public class GetDeploymentResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("deploymentInfo", targetDepth)) {
-                    context.nextToken();
-                    getDeploymentResult
-                            .setDeploymentInfo(DeploymentInfoJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1588111635:
+                        if (fieldName.equals("deploymentInfo")) {
+                            context.nextToken();
+                            getDeploymentResult
+                                    .setDeploymentInfo(DeploymentInfoJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,11 +53,18 @@ public class GetOnPremisesInstanceResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("instanceInfo", targetDepth)) {
-                    context.nextToken();
-                    getOnPremisesInstanceResult
-                            .setInstanceInfo(InstanceInfoJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -737994013:
+                        if (fieldName.equals("instanceInfo")) {
+                            context.nextToken();
+                            getOnPremisesInstanceResult
+                                    .setInstanceInfo(InstanceInfoJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class GitHubLocationJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("repository", targetDepth)) {
-                    context.nextToken();
-                    gitHubLocation.setRepository(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("commitId", targetDepth)) {
-                    context.nextToken();
-                    gitHubLocation.setCommitId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1950800714:
+                        if (fieldName.equals("repository")) {
+                            context.nextToken();
+                            gitHubLocation.setRepository(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -602292046:
+                        if (fieldName.equals("commitId")) {
+                            context.nextToken();
+                            gitHubLocation.setCommitId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,36 +53,53 @@ public class InstanceInfoJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("instanceName", targetDepth)) {
-                    context.nextToken();
-                    instanceInfo.setInstanceName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("iamUserArn", targetDepth)) {
-                    context.nextToken();
-                    instanceInfo.setIamUserArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("instanceArn", targetDepth)) {
-                    context.nextToken();
-                    instanceInfo.setInstanceArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("registerTime", targetDepth)) {
-                    context.nextToken();
-                    instanceInfo.setRegisterTime(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("deregisterTime", targetDepth)) {
-                    context.nextToken();
-                    instanceInfo.setDeregisterTime(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("tags", targetDepth)) {
-                    context.nextToken();
-                    instanceInfo.setTags(new ListUnmarshaller<Tag>(
-                            TagJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -737857344:
+                        if (fieldName.equals("instanceName")) {
+                            context.nextToken();
+                            instanceInfo.setInstanceName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -178215299:
+                        if (fieldName.equals("iamUserArn")) {
+                            context.nextToken();
+                            instanceInfo.setIamUserArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -2102023800:
+                        if (fieldName.equals("instanceArn")) {
+                            context.nextToken();
+                            instanceInfo.setInstanceArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1707742192:
+                        if (fieldName.equals("registerTime")) {
+                            context.nextToken();
+                            instanceInfo.setRegisterTime(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case -292929775:
+                        if (fieldName.equals("deregisterTime")) {
+                            context.nextToken();
+                            instanceInfo.setDeregisterTime(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 3552281:
+                        if (fieldName.equals("tags")) {
+                            context.nextToken();
+                            instanceInfo.setTags(new ListUnmarshaller<Tag>(
+                                    TagJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
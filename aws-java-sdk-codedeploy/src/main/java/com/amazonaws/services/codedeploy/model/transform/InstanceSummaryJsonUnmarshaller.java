@@ -53,32 +53,47 @@ public class InstanceSummaryJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("deploymentId", targetDepth)) {
-                    context.nextToken();
-                    instanceSummary.setDeploymentId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("instanceId", targetDepth)) {
-                    context.nextToken();
-                    instanceSummary.setInstanceId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    instanceSummary.setStatus(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("lastUpdatedAt", targetDepth)) {
-                    context.nextToken();
-                    instanceSummary.setLastUpdatedAt(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("lifecycleEvents", targetDepth)) {
-                    context.nextToken();
-                    instanceSummary
-                            .setLifecycleEvents(new ListUnmarshaller<LifecycleEvent>(
-                                    LifecycleEventJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -136894784:
+                        if (fieldName.equals("deploymentId")) {
+                            context.nextToken();
+                            instanceSummary.setDeploymentId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 902024336:
+                        if (fieldName.equals("instanceId")) {
+                            context.nextToken();
+                            instanceSummary.setInstanceId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -892481550:
+                        if (fieldName.equals("status")) {
+                            context.nextToken();
+                            instanceSummary.setStatus(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 551402584:
+                        if (fieldName.equals("lastUpdatedAt")) {
+                            context.nextToken();
+                            instanceSummary.setLastUpdatedAt(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 766704931:
+                        if (fieldName.equals("lifecycleEvents")) {
+                            context.nextToken();
+                            instanceSummary
+                                    .setLifecycleEvents(new ListUnmarshaller<LifecycleEvent>(
+                                            LifecycleEventJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,30 +53,45 @@ public class LifecycleEventJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("lifecycleEventName", targetDepth)) {
-                    context.nextToken();
-                    lifecycleEvent.setLifecycleEventName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("diagnostics", targetDepth)) {
-                    context.nextToken();
-                    lifecycleEvent.setDiagnostics(DiagnosticsJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("startTime", targetDepth)) {
-                    context.nextToken();
-                    lifecycleEvent.setStartTime(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("endTime", targetDepth)) {
-                    context.nextToken();
-                    lifecycleEvent.setEndTime(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    lifecycleEvent.setStatus(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 269513723:
+                        if (fieldName.equals("lifecycleEventName")) {
+                            context.nextToken();
+                            lifecycleEvent.setLifecycleEventName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -740386388:
+                        if (fieldName.equals("diagnostics")) {
+                            context.nextToken();
+                            lifecycleEvent.setDiagnostics(DiagnosticsJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -2129294769:
+                        if (fieldName.equals("startTime")) {
+                            context.nextToken();
+                            lifecycleEvent.setStartTime(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case -1607243192:
+                        if (fieldName.equals("endTime")) {
+                            context.nextToken();
+                            lifecycleEvent.setEndTime(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case -892481550:
+                        if (fieldName.equals("status")) {
+                            context.nextToken();
+                            lifecycleEvent.setStatus(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class ListApplicationRevisionsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("revisions", targetDepth)) {
-                    context.nextToken();
-                    listApplicationRevisionsResult
-                            .setRevisions(new ListUnmarshaller<RevisionLocation>(
-                                    RevisionLocationJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listApplicationRevisionsResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 505562104:
+                        if (fieldName.equals("revisions")) {
+                            context.nextToken();
+                            listApplicationRevisionsResult
+                                    .setRevisions(new ListUnmarshaller<RevisionLocation>(
+                                            RevisionLocationJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 1206918854:
+                        if (fieldName.equals("nextToken")) {
+                            context.nextToken();
+                            listApplicationRevisionsResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,18 +53,26 @@ public class ListDeploymentConfigsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context
-                        .testExpression("deploymentConfigsList", targetDepth)) {
-                    context.nextToken();
-                    listDeploymentConfigsResult
-                            .setDeploymentConfigsList(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listDeploymentConfigsResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1954686550:
+                        if (fieldName.equals("deploymentConfigsList")) {
+                            context.nextToken();
+                            listDeploymentConfigsResult
+                                    .setDeploymentConfigsList(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1206918854:
+                        if (fieldName.equals("nextToken")) {
+                            context.nextToken();
+                            listDeploymentConfigsResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class MinimumHealthyHostsJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("value", targetDepth)) {
-                    context.nextToken();
-                    minimumHealthyHosts.setValue(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("type", targetDepth)) {
-                    context.nextToken();
-                    minimumHealthyHosts.setType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 111972721:
+                        if (fieldName.equals("value")) {
+                            context.nextToken();
+                            minimumHealthyHosts.setValue(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 3575610:
+                        if (fieldName.equals("type")) {
+                            context.nextToken();
+                            minimumHealthyHosts.setType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class RevisionInfoJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("revisionLocation", targetDepth)) {
-                    context.nextToken();
-                    revisionInfo
-                            .setRevisionLocation(RevisionLocationJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("genericRevisionInfo", targetDepth)) {
-                    context.nextToken();
-                    revisionInfo
-                            .setGenericRevisionInfo(GenericRevisionInfoJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1937944752:
+                        if (fieldName.equals("revisionLocation")) {
+                            context.nextToken();
+                            revisionInfo
+                                    .setRevisionLocation(RevisionLocationJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1740931424:
+                        if (fieldName.equals("genericRevisionInfo")) {
+                            context.nextToken();
+                            revisionInfo
+                                    .setGenericRevisionInfo(GenericRevisionInfoJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
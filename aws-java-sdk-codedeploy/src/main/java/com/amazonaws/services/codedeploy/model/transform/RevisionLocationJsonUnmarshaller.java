@@ -53,21 +53,32 @@ public class RevisionLocationJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("revisionType", targetDepth)) {
-                    context.nextToken();
-                    revisionLocation.setRevisionType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("s3Location", targetDepth)) {
-                    context.nextToken();
-                    revisionLocation.setS3Location(S3LocationJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("gitHubLocation", targetDepth)) {
-                    context.nextToken();
-                    revisionLocation
-                            .setGitHubLocation(GitHubLocationJsonUnmarshaller
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1250470475:
+                        if (fieldName.equals("revisionType")) {
+                            context.nextToken();
+                            revisionLocation.setRevisionType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1144393227:
+                        if (fieldName.equals("s3Location")) {
+                            context.nextToken();
+                            revisionLocation.setS3Location(S3LocationJsonUnmarshaller
                                     .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -306695016:
+                        if (fieldName.equals("gitHubLocation")) {
+                            context.nextToken();
+                            revisionLocation
+                                    .setGitHubLocation(GitHubLocationJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
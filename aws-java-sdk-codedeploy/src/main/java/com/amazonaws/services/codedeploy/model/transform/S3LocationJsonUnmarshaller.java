@@ -53,30 +53,45 @@ public class S3LocationJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("bucket", targetDepth)) {
-                    context.nextToken();
-                    s3Location.setBucket(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("key", targetDepth)) {
-                    context.nextToken();
-                    s3Location.setKey(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("bundleType", targetDepth)) {
-                    context.nextToken();
-                    s3Location.setBundleType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("version", targetDepth)) {
-                    context.nextToken();
-                    s3Location.setVersion(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("eTag", targetDepth)) {
-                    context.nextToken();
-                    s3Location.setETag(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1378203158:
+                        if (fieldName.equals("bucket")) {
+                            context.nextToken();
+                            s3Location.setBucket(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 106079:
+                        if (fieldName.equals("key")) {
+                            context.nextToken();
+                            s3Location.setKey(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1377247964:
+                        if (fieldName.equals("bundleType")) {
+                            context.nextToken();
+                            s3Location.setBundleType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 351608024:
+                        if (fieldName.equals("version")) {
+                            context.nextToken();
+                            s3Location.setVersion(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 3092725:
+                        if (fieldName.equals("eTag")) {
+                            context.nextToken();
+                            s3Location.setETag(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class TimeRangeJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("start", targetDepth)) {
-                    context.nextToken();
-                    timeRange.setStart(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("end", targetDepth)) {
-                    context.nextToken();
-                    timeRange.setEnd(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 109757538:
+                        if (fieldName.equals("start")) {
+                            context.nextToken();
+                            timeRange.setStart(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 100571:
+                        if (fieldName.equals("end")) {
+                            context.nextToken();
+                            timeRange.setEnd(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,22 +53,33 @@ public class TriggerConfigJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("triggerName", targetDepth)) {
-                    context.nextToken();
-                    triggerConfig.setTriggerName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("triggerTargetArn", targetDepth)) {
-                    context.nextToken();
-                    triggerConfig.setTriggerTargetArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("triggerEvents", targetDepth)) {
-                    context.nextToken();
-                    triggerConfig
-                            .setTriggerEvents(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -681138077:
+                        if (fieldName.equals("triggerName")) {
+                            context.nextToken();
+                            triggerConfig.setTriggerName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1162177484:
+                        if (fieldName.equals("triggerTargetArn")) {
+                            context.nextToken();
+                            triggerConfig.setTriggerTargetArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1977157391:
+                        if (fieldName.equals("triggerEvents")) {
+                            context.nextToken();
+                            triggerConfig
+                                    .setTriggerEvents(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
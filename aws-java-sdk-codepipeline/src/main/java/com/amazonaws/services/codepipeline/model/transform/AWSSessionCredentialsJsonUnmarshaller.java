@@ -53,20 +53,31 @@ public class AWSSessionCredentialsJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("accessKeyId", targetDepth)) {
-                    context.nextToken();
-                    aWSSessionCredentials.setAccessKeyId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("secretAccessKey", targetDepth)) {
-                    context.nextToken();
-                    aWSSessionCredentials.setSecretAccessKey(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("sessionToken", targetDepth)) {
-                    context.nextToken();
-                    aWSSessionCredentials.setSessionToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1051286314:
+                        if (fieldName.equals("accessKeyId")) {
+                            context.nextToken();
+                            aWSSessionCredentials.setAccessKeyId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1933894261:
+                        if (fieldName.equals("secretAccessKey")) {
+                            context.nextToken();
+                            aWSSessionCredentials.setSecretAccessKey(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -696552189:
+                        if (fieldName.equals("sessionToken")) {
+                            context.nextToken();
+                            aWSSessionCredentials.setSessionToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
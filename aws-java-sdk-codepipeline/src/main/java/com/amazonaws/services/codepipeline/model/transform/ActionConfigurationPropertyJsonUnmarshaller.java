@@ -53,44 +53,63 @@ public class ActionConfigurationPropertyJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    actionConfigurationProperty.setName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("required", targetDepth)) {
-                    context.nextToken();
-                    actionConfigurationProperty
-                            .setRequired(context.getUnmarshaller(Boolean.class)
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("key", targetDepth)) {
-                    context.nextToken();
-                    actionConfigurationProperty.setKey(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("secret", targetDepth)) {
-                    context.nextToken();
-                    actionConfigurationProperty
-                            .setSecret(context.getUnmarshaller(Boolean.class)
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("queryable", targetDepth)) {
-                    context.nextToken();
-                    actionConfigurationProperty
-                            .setQueryable(context
-                                    .getUnmarshaller(Boolean.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    actionConfigurationProperty.setDescription(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("type", targetDepth)) {
-                    context.nextToken();
-                    actionConfigurationProperty.setType(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3373707:
+                        if (fieldName.equals("name")) {
+                            context.nextToken();
+                            actionConfigurationProperty.setName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -393139297:
+                        if (fieldName.equals("required")) {
+                            context.nextToken();
+                            actionConfigurationProperty
+                                    .setRequired(context.getUnmarshaller(Boolean.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 106079:
+                        if (fieldName.equals("key")) {
+                            context.nextToken();
+                            actionConfigurationProperty.setKey(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case -906277200:
+                        if (fieldName.equals("secret")) {
+                            context.nextToken();
+                            actionConfigurationProperty
+                                    .setSecret(context.getUnmarshaller(Boolean.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1806497246:
+                        if (fieldName.equals("queryable")) {
+                            context.nextToken();
+                            actionConfigurationProperty
+                                    .setQueryable(context
+                                            .getUnmarshaller(Boolean.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -1724546052:
+                        if (fieldName.equals("description")) {
+                            context.nextToken();
+                            actionConfigurationProperty.setDescription(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 3575610:
+                        if (fieldName.equals("type")) {
+                            context.nextToken();
+                            actionConfigurationProperty.setType(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,48 +53,67 @@ public class ActionDeclarationJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    actionDeclaration.setName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("actionTypeId", targetDepth)) {
-                    context.nextToken();
-                    actionDeclaration
-                            .setActionTypeId(ActionTypeIdJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("runOrder", targetDepth)) {
-                    context.nextToken();
-                    actionDeclaration.setRunOrder(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("configuration", targetDepth)) {
-                    context.nextToken();
-                    actionDeclaration
-                            .setConfiguration(new MapUnmarshaller<String, String>(
-                                    context.getUnmarshaller(String.class),
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("outputArtifacts", targetDepth)) {
-                    context.nextToken();
-                    actionDeclaration
-                            .setOutputArtifacts(new ListUnmarshaller<OutputArtifact>(
-                                    OutputArtifactJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("inputArtifacts", targetDepth)) {
-                    context.nextToken();
-                    actionDeclaration
-                            .setInputArtifacts(new ListUnmarshaller<InputArtifact>(
-                                    InputArtifactJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("roleArn", targetDepth)) {
-                    context.nextToken();
-                    actionDeclaration.setRoleArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3373707:
+                        if (fieldName.equals("name")) {
+                            context.nextToken();
+                            actionDeclaration.setName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1541282763:
+                        if (fieldName.equals("actionTypeId")) {
+                            context.nextToken();
+                            actionDeclaration
+                                    .setActionTypeId(ActionTypeIdJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 801291139:
+                        if (fieldName.equals("runOrder")) {
+                            context.nextToken();
+                            actionDeclaration.setRunOrder(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 1932752118:
+                        if (fieldName.equals("configuration")) {
+                            context.nextToken();
+                            actionDeclaration
+                                    .setConfiguration(new MapUnmarshaller<String, String>(
+                                            context.getUnmarshaller(String.class),
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -128627488:
+                        if (fieldName.equals("outputArtifacts")) {
+                            context.nextToken();
+                            actionDeclaration
+                                    .setOutputArtifacts(new ListUnmarshaller<OutputArtifact>(
+                                            OutputArtifactJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -725966793:
+                        if (fieldName.equals("inputArtifacts")) {
+                            context.nextToken();
+                            actionDeclaration
+                                    .setInputArtifacts(new ListUnmarshaller<InputArtifact>(
+                                            InputArtifactJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1376855559:
+                        if (fieldName.equals("roleArn")) {
+                            context.nextToken();
+                            actionDeclaration.setRoleArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
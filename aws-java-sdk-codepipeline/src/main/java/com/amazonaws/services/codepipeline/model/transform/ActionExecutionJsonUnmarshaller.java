@@ -53,42 +53,61 @@ public class ActionExecutionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    actionExecution.setStatus(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("summary", targetDepth)) {
-                    context.nextToken();
-                    actionExecution.setSummary(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("lastStatusChange", targetDepth)) {
-                    context.nextToken();
-                    actionExecution.setLastStatusChange(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("externalExecutionId", targetDepth)) {
-                    context.nextToken();
-                    actionExecution.setExternalExecutionId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("externalExecutionUrl", targetDepth)) {
-                    context.nextToken();
-                    actionExecution.setExternalExecutionUrl(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("percentComplete", targetDepth)) {
-                    context.nextToken();
-                    actionExecution.setPercentComplete(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("errorDetails", targetDepth)) {
-                    context.nextToken();
-                    actionExecution
-                            .setErrorDetails(ErrorDetailsJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -892481550:
+                        if (fieldName.equals("status")) {
+                            context.nextToken();
+                            actionExecution.setStatus(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1857640538:
+                        if (fieldName.equals("summary")) {
+                            context.nextToken();
+                            actionExecution.setSummary(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 709838840:
+                        if (fieldName.equals("lastStatusChange")) {
+                            context.nextToken();
+                            actionExecution.setLastStatusChange(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case -872073848:
+                        if (fieldName.equals("externalExecutionId")) {
+                            context.nextToken();
+                            actionExecution.setExternalExecutionId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1264473438:
+                        if (fieldName.equals("externalExecutionUrl")) {
+                            context.nextToken();
+                            actionExecution.setExternalExecutionUrl(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1635116190:
+                        if (fieldName.equals("percentComplete")) {
+                            context.nextToken();
+                            actionExecution.setPercentComplete(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 1806032666:
+                        if (fieldName.equals("errorDetails")) {
+                            context.nextToken();
+                            actionExecution
+                                    .setErrorDetails(ErrorDetailsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
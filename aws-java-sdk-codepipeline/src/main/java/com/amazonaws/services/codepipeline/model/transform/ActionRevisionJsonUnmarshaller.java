@@ -53,20 +53,31 @@ public class ActionRevisionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("revisionId", targetDepth)) {
-                    context.nextToken();
-                    actionRevision.setRevisionId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("revisionChangeId", targetDepth)) {
-                    context.nextToken();
-                    actionRevision.setRevisionChangeId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("created", targetDepth)) {
-                    context.nextToken();
-                    actionRevision.setCreated(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1507445162:
+                        if (fieldName.equals("revisionId")) {
+                            context.nextToken();
+                            actionRevision.setRevisionId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1469317606:
+                        if (fieldName.equals("revisionChangeId")) {
+                            context.nextToken();
+                            actionRevision.setRevisionChangeId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1028554472:
+                        if (fieldName.equals("created")) {
+                            context.nextToken();
+                            actionRevision.setCreated(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
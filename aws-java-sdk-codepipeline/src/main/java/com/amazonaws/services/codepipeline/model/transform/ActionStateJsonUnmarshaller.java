@@ -53,32 +53,47 @@ public class ActionStateJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("actionName", targetDepth)) {
-                    context.nextToken();
-                    actionState.setActionName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("currentRevision", targetDepth)) {
-                    context.nextToken();
-                    actionState
-                            .setCurrentRevision(ActionRevisionJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("latestExecution", targetDepth)) {
-                    context.nextToken();
-                    actionState
-                            .setLatestExecution(ActionExecutionJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("entityUrl", targetDepth)) {
-                    context.nextToken();
-                    actionState.setEntityUrl(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("revisionUrl", targetDepth)) {
-                    context.nextToken();
-                    actionState.setRevisionUrl(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1851679201:
+                        if (fieldName.equals("actionName")) {
+                            context.nextToken();
+                            actionState.setActionName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1992708212:
+                        if (fieldName.equals("currentRevision")) {
+                            context.nextToken();
+                            actionState
+                                    .setCurrentRevision(ActionRevisionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1685988177:
+                        if (fieldName.equals("latestExecution")) {
+                            context.nextToken();
+                            actionState
+                                    .setLatestExecution(ActionExecutionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -740574580:
+                        if (fieldName.equals("entityUrl")) {
+                            context.nextToken();
+                            actionState.setEntityUrl(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 513852308:
+                        if (fieldName.equals("revisionUrl")) {
+                            context.nextToken();
+                            actionState.setRevisionUrl(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,25 +53,38 @@ public class ActionTypeIdJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("category", targetDepth)) {
-                    context.nextToken();
-                    actionTypeId.setCategory(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("owner", targetDepth)) {
-                    context.nextToken();
-                    actionTypeId.setOwner(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("provider", targetDepth)) {
-                    context.nextToken();
-                    actionTypeId.setProvider(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("version", targetDepth)) {
-                    context.nextToken();
-                    actionTypeId.setVersion(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 50511102:
+                        if (fieldName.equals("category")) {
+                            context.nextToken();
+                            actionTypeId.setCategory(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 106164915:
+                        if (fieldName.equals("owner")) {
+                            context.nextToken();
+                            actionTypeId.setOwner(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -987494927:
+                        if (fieldName.equals("provider")) {
+                            context.nextToken();
+                            actionTypeId.setProvider(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 351608024:
+                        if (fieldName.equals("version")) {
+                            context.nextToken();
+                            actionTypeId.setVersion(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
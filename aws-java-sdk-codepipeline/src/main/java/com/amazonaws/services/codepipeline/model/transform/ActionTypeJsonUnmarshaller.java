@@ -53,36 +53,49 @@ public class ActionTypeJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    actionType.setId(ActionTypeIdJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
-                }
-                if (context.testExpression("settings", targetDepth)) {
-                    context.nextToken();
-                    actionType.setSettings(ActionTypeSettingsJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("actionConfigurationProperties",
-                        targetDepth)) {
-                    context.nextToken();
-                    actionType
-                            .setActionConfigurationProperties(new ListUnmarshaller<ActionConfigurationProperty>(
-                                    ActionConfigurationPropertyJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("inputArtifactDetails", targetDepth)) {
-                    context.nextToken();
-                    actionType
-                            .setInputArtifactDetails(ArtifactDetailsJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context
-                        .testExpression("outputArtifactDetails", targetDepth)) {
-                    context.nextToken();
-                    actionType
-                            .setOutputArtifactDetails(ArtifactDetailsJsonUnmarshaller
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3355:
+                        if (fieldName.equals("id")) {
+                            context.nextToken();
+                            actionType.setId(ActionTypeIdJsonUnmarshaller.getInstance()
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1434631203:
+                        if (fieldName.equals("settings")) {
+                            context.nextToken();
+                            actionType.setSettings(ActionTypeSettingsJsonUnmarshaller
                                     .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 439967667:
+                        if (fieldName.equals("actionConfigurationProperties")) {
+                            context.nextToken();
+                            actionType
+                                    .setActionConfigurationProperties(new ListUnmarshaller<ActionConfigurationProperty>(
+                                            ActionConfigurationPropertyJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 543049446:
+                        if (fieldName.equals("inputArtifactDetails")) {
+                            context.nextToken();
+                            actionType
+                                    .setInputArtifactDetails(ArtifactDetailsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1145376975:
+                        if (fieldName.equals("outputArtifactDetails")) {
+                            context.nextToken();
+                            actionType
+                                    .setOutputArtifactDetails(ArtifactDetailsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,26 +53,38 @@ public class ActionTypeSettingsJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("thirdPartyConfigurationUrl",
-                        targetDepth)) {
-                    context.nextToken();
-                    actionTypeSettings.setThirdPartyConfigurationUrl(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("entityUrlTemplate", targetDepth)) {
-                    context.nextToken();
-                    actionTypeSettings.setEntityUrlTemplate(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("executionUrlTemplate", targetDepth)) {
-                    context.nextToken();
-                    actionTypeSettings.setExecutionUrlTemplate(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("revisionUrlTemplate", targetDepth)) {
-                    context.nextToken();
-                    actionTypeSettings.setRevisionUrlTemplate(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -665845640:
+                        if (fieldName.equals("thirdPartyConfigurationUrl")) {
+                            context.nextToken();
+                            actionTypeSettings.setThirdPartyConfigurationUrl(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1275305766:
+                        if (fieldName.equals("entityUrlTemplate")) {
+                            context.nextToken();
+                            actionTypeSettings.setEntityUrlTemplate(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 817976529:
+                        if (fieldName.equals("executionUrlTemplate")) {
+                            context.nextToken();
+                            actionTypeSettings.setExecutionUrlTemplate(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 198385710:
+                        if (fieldName.equals("revisionUrlTemplate")) {
+                            context.nextToken();
+                            actionTypeSettings.setRevisionUrlTemplate(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class ArtifactDetailsJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("minimumCount", targetDepth)) {
-                    context.nextToken();
-                    artifactDetails.setMinimumCount(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("maximumCount", targetDepth)) {
-                    context.nextToken();
-                    artifactDetails.setMaximumCount(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1175366049:
+                        if (fieldName.equals("minimumCount")) {
+                            context.nextToken();
+                            artifactDetails.setMinimumCount(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 700939983:
+                        if (fieldName.equals("maximumCount")) {
+                            context.nextToken();
+                            artifactDetails.setMaximumCount(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
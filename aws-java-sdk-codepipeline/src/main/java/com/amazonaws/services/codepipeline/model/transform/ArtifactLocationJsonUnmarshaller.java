@@ -53,16 +53,25 @@ public class ArtifactLocationJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("type", targetDepth)) {
-                    context.nextToken();
-                    artifactLocation.setType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("s3Location", targetDepth)) {
-                    context.nextToken();
-                    artifactLocation
-                            .setS3Location(S3ArtifactLocationJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3575610:
+                        if (fieldName.equals("type")) {
+                            context.nextToken();
+                            artifactLocation.setType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1144393227:
+                        if (fieldName.equals("s3Location")) {
+                            context.nextToken();
+                            artifactLocation
+                                    .setS3Location(S3ArtifactLocationJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
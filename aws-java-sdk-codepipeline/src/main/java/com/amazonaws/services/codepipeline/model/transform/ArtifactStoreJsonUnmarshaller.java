@@ -53,21 +53,32 @@ public class ArtifactStoreJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("type", targetDepth)) {
-                    context.nextToken();
-                    artifactStore.setType(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("location", targetDepth)) {
-                    context.nextToken();
-                    artifactStore.setLocation(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("encryptionKey", targetDepth)) {
-                    context.nextToken();
-                    artifactStore
-                            .setEncryptionKey(EncryptionKeyJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3575610:
+                        if (fieldName.equals("type")) {
+                            context.nextToken();
+                            artifactStore.setType(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1901043637:
+                        if (fieldName.equals("location")) {
+                            context.nextToken();
+                            artifactStore.setLocation(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -36224036:
+                        if (fieldName.equals("encryptionKey")) {
+                            context.nextToken();
+                            artifactStore
+                                    .setEncryptionKey(EncryptionKeyJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
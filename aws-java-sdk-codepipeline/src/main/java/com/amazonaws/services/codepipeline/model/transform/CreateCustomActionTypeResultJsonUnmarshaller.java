@@ -53,11 +53,18 @@ public class CreateCustomActionTypeResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("actionType", targetDepth)) {
-                    context.nextToken();
-                    createCustomActionTypeResult
-                            .setActionType(ActionTypeJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1851881104:
+                        if (fieldName.equals("actionType")) {
+                            context.nextToken();
+                            createCustomActionTypeResult
+                                    .setActionType(ActionTypeJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
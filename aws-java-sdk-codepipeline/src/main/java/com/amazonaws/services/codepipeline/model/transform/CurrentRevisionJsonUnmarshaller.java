@@ -53,15 +53,24 @@ public class CurrentRevisionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("revision", targetDepth)) {
-                    context.nextToken();
-                    currentRevision.setRevision(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("changeIdentifier", targetDepth)) {
-                    context.nextToken();
-                    currentRevision.setChangeIdentifier(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -260786213:
+                        if (fieldName.equals("revision")) {
+                            context.nextToken();
+                            currentRevision.setRevision(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1158627207:
+                        if (fieldName.equals("changeIdentifier")) {
+                            context.nextToken();
+                            currentRevision.setChangeIdentifier(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
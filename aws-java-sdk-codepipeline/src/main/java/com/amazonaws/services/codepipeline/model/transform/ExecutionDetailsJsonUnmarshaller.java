@@ -53,21 +53,32 @@ public class ExecutionDetailsJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("summary", targetDepth)) {
-                    context.nextToken();
-                    executionDetails.setSummary(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("externalExecutionId", targetDepth)) {
-                    context.nextToken();
-                    executionDetails.setExternalExecutionId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("percentComplete", targetDepth)) {
-                    context.nextToken();
-                    executionDetails
-                            .setPercentComplete(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1857640538:
+                        if (fieldName.equals("summary")) {
+                            context.nextToken();
+                            executionDetails.setSummary(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -872073848:
+                        if (fieldName.equals("externalExecutionId")) {
+                            context.nextToken();
+                            executionDetails.setExternalExecutionId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1635116190:
+                        if (fieldName.equals("percentComplete")) {
+                            context.nextToken();
+                            executionDetails
+                                    .setPercentComplete(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
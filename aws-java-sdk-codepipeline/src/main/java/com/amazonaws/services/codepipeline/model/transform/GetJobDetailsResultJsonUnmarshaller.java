@@ -53,11 +53,18 @@ public class GetJobDetailsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("jobDetails", targetDepth)) {
-                    context.nextToken();
-                    getJobDetailsResult
-                            .setJobDetails(JobDetailsJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -195448891:
+                        if (fieldName.equals("jobDetails")) {
+                            context.nextToken();
+                            getJobDetailsResult
+                                    .setJobDetails(JobDetailsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
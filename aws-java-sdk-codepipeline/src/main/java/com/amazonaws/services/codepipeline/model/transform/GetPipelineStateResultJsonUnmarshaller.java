@@ -53,33 +53,48 @@ public class GetPipelineStateResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("pipelineName", targetDepth)) {
-                    context.nextToken();
-                    getPipelineStateResult.setPipelineName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("pipelineVersion", targetDepth)) {
-                    context.nextToken();
-                    getPipelineStateResult
-                            .setPipelineVersion(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("stageStates", targetDepth)) {
-                    context.nextToken();
-                    getPipelineStateResult
-                            .setStageStates(new ListUnmarshaller<StageState>(
-                                    StageStateJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("created", targetDepth)) {
-                    context.nextToken();
-                    getPipelineStateResult.setCreated(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("updated", targetDepth)) {
-                    context.nextToken();
-                    getPipelineStateResult.setUpdated(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 360544333:
+                        if (fieldName.equals("pipelineName")) {
+                            context.nextToken();
+                            getPipelineStateResult.setPipelineName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -2107232298:
+                        if (fieldName.equals("pipelineVersion")) {
+                            context.nextToken();
+                            getPipelineStateResult
+                                    .setPipelineVersion(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 9619104:
+                        if (fieldName.equals("stageStates")) {
+                            context.nextToken();
+                            getPipelineStateResult
+                                    .setStageStates(new ListUnmarshaller<StageState>(
+                                            StageStateJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1028554472:
+                        if (fieldName.equals("created")) {
+                            context.nextToken();
+                            getPipelineStateResult.setCreated(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case -234430277:
+                        if (fieldName.equals("updated")) {
+                            context.nextToken();
+                            getPipelineStateResult.setUpdated(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,11 +53,18 @@ public class GetThirdPartyJobDetailsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("jobDetails", targetDepth)) {
-                    context.nextToken();
-                    getThirdPartyJobDetailsResult
-                            .setJobDetails(ThirdPartyJobDetailsJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -195448891:
+                        if (fieldName.equals("jobDetails")) {
+                            context.nextToken();
+                            getThirdPartyJobDetailsResult
+                                    .setJobDetails(ThirdPartyJobDetailsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
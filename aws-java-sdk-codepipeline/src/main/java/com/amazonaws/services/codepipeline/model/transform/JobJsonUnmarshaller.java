@@ -52,25 +52,38 @@ public class JobJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    job.setId(context.getUnmarshaller(String.class).unmarshall(
-                            context));
-                }
-                if (context.testExpression("data", targetDepth)) {
-                    context.nextToken();
-                    job.setData(JobDataJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
-                }
-                if (context.testExpression("nonce", targetDepth)) {
-                    context.nextToken();
-                    job.setNonce(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("accountId", targetDepth)) {
-                    context.nextToken();
-                    job.setAccountId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3355:
+                        if (fieldName.equals("id")) {
+                            context.nextToken();
+                            job.setId(context.getUnmarshaller(String.class).unmarshall(
+                                    context));
+                        }
+                        break;
+                    case 3076010:
+                        if (fieldName.equals("data")) {
+                            context.nextToken();
+                            job.setData(JobDataJsonUnmarshaller.getInstance()
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 105002991:
+                        if (fieldName.equals("nonce")) {
+                            context.nextToken();
+                            job.setNonce(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1827029976:
+                        if (fieldName.equals("accountId")) {
+                            context.nextToken();
+                            job.setAccountId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class ListActionTypesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("actionTypes", targetDepth)) {
-                    context.nextToken();
-                    listActionTypesResult
-                            .setActionTypes(new ListUnmarshaller<ActionType>(
-                                    ActionTypeJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listActionTypesResult.setNextToken(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1573739491:
+                        if (fieldName.equals("actionTypes")) {
+                            context.nextToken();
+                            listActionTypesResult
+                                    .setActionTypes(new ListUnmarshaller<ActionType>(
+                                            ActionTypeJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1206918854:
+                        if (fieldName.equals("nextToken")) {
+                            context.nextToken();
+                            listActionTypesResult.setNextToken(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
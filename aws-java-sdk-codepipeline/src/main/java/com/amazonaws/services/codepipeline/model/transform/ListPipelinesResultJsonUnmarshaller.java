@@ -53,17 +53,26 @@ public class ListPipelinesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("pipelines", targetDepth)) {
-                    context.nextToken();
-                    listPipelinesResult
-                            .setPipelines(new ListUnmarshaller<PipelineSummary>(
-                                    PipelineSummaryJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listPipelinesResult.setNextToken(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1350740497:
+                        if (fieldName.equals("pipelines")) {
+                            context.nextToken();
+                            listPipelinesResult
+                                    .setPipelines(new ListUnmarshaller<PipelineSummary>(
+                                            PipelineSummaryJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 1206918854:
+                        if (fieldName.equals("nextToken")) {
+                            context.nextToken();
+                            listPipelinesResult.setNextToken(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,20 +53,31 @@ public class PipelineContextJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("pipelineName", targetDepth)) {
-                    context.nextToken();
-                    pipelineContext.setPipelineName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("stage", targetDepth)) {
-                    context.nextToken();
-                    pipelineContext.setStage(StageContextJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("action", targetDepth)) {
-                    context.nextToken();
-                    pipelineContext.setAction(ActionContextJsonUnmarshaller
-                            .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 360544333:
+                        if (fieldName.equals("pipelineName")) {
+                            context.nextToken();
+                            pipelineContext.setPipelineName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 109757182:
+                        if (fieldName.equals("stage")) {
+                            context.nextToken();
+                            pipelineContext.setStage(StageContextJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1422950858:
+                        if (fieldName.equals("action")) {
+                            context.nextToken();
+                            pipelineContext.setAction(ActionContextJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
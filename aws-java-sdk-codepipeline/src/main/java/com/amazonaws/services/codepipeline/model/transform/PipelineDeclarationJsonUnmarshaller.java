@@ -53,33 +53,48 @@ public class PipelineDeclarationJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    pipelineDeclaration.setName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("roleArn", targetDepth)) {
-                    context.nextToken();
-                    pipelineDeclaration.setRoleArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("artifactStore", targetDepth)) {
-                    context.nextToken();
-                    pipelineDeclaration
-                            .setArtifactStore(ArtifactStoreJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("stages", targetDepth)) {
-                    context.nextToken();
-                    pipelineDeclaration
-                            .setStages(new ListUnmarshaller<StageDeclaration>(
-                                    StageDeclarationJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("version", targetDepth)) {
-                    context.nextToken();
-                    pipelineDeclaration.setVersion(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3373707:
+                        if (fieldName.equals("name")) {
+                            context.nextToken();
+                            pipelineDeclaration.setName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1376855559:
+                        if (fieldName.equals("roleArn")) {
+                            context.nextToken();
+                            pipelineDeclaration.setRoleArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 635098671:
+                        if (fieldName.equals("artifactStore")) {
+                            context.nextToken();
+                            pipelineDeclaration
+                                    .setArtifactStore(ArtifactStoreJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -892494539:
+                        if (fieldName.equals("stages")) {
+                            context.nextToken();
+                            pipelineDeclaration
+                                    .setStages(new ListUnmarshaller<StageDeclaration>(
+                                            StageDeclarationJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 351608024:
+                        if (fieldName.equals("version")) {
+                            context.nextToken();
+                            pipelineDeclaration.setVersion(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,11 +53,18 @@ public class PollForJobsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("jobs", targetDepth)) {
-                    context.nextToken();
-                    pollForJobsResult.setJobs(new ListUnmarshaller<Job>(
-                            JobJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3267670:
+                        if (fieldName.equals("jobs")) {
+                            context.nextToken();
+                            pollForJobsResult.setJobs(new ListUnmarshaller<Job>(
+                                    JobJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
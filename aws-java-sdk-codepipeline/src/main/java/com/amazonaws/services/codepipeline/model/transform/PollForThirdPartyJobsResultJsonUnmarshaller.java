@@ -53,12 +53,19 @@ public class PollForThirdPartyJobsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("jobs", targetDepth)) {
-                    context.nextToken();
-                    pollForThirdPartyJobsResult
-                            .setJobs(new ListUnmarshaller<ThirdPartyJob>(
-                                    ThirdPartyJobJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3267670:
+                        if (fieldName.equals("jobs")) {
+                            context.nextToken();
+                            pollForThirdPartyJobsResult
+                                    .setJobs(new ListUnmarshaller<ThirdPartyJob>(
+                                            ThirdPartyJobJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
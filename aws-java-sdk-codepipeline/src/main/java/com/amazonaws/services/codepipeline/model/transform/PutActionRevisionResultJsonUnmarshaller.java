@@ -53,16 +53,25 @@ public class PutActionRevisionResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("newRevision", targetDepth)) {
-                    context.nextToken();
-                    putActionRevisionResult
-                            .setNewRevision(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("pipelineExecutionId", targetDepth)) {
-                    context.nextToken();
-                    putActionRevisionResult.setPipelineExecutionId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 995960219:
+                        if (fieldName.equals("newRevision")) {
+                            context.nextToken();
+                            putActionRevisionResult
+                                    .setNewRevision(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 1031148113:
+                        if (fieldName.equals("pipelineExecutionId")) {
+                            context.nextToken();
+                            putActionRevisionResult.setPipelineExecutionId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class S3ArtifactLocationJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("bucketName", targetDepth)) {
-                    context.nextToken();
-                    s3ArtifactLocation.setBucketName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("objectKey", targetDepth)) {
-                    context.nextToken();
-                    s3ArtifactLocation.setObjectKey(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1117008789:
+                        if (fieldName.equals("bucketName")) {
+                            context.nextToken();
+                            s3ArtifactLocation.setBucketName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1489615200:
+                        if (fieldName.equals("objectKey")) {
+                            context.nextToken();
+                            s3ArtifactLocation.setObjectKey(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,24 +53,35 @@ public class StageDeclarationJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    stageDeclaration.setName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("blockers", targetDepth)) {
-                    context.nextToken();
-                    stageDeclaration
-                            .setBlockers(new ListUnmarshaller<BlockerDeclaration>(
-                                    BlockerDeclarationJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("actions", targetDepth)) {
-                    context.nextToken();
-                    stageDeclaration
-                            .setActions(new ListUnmarshaller<ActionDeclaration>(
-                                    ActionDeclarationJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3373707:
+                        if (fieldName.equals("name")) {
+                            context.nextToken();
+                            stageDeclaration.setName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -664576583:
+                        if (fieldName.equals("blockers")) {
+                            context.nextToken();
+                            stageDeclaration
+                                    .setBlockers(new ListUnmarshaller<BlockerDeclaration>(
+                                            BlockerDeclarationJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1161803523:
+                        if (fieldName.equals("actions")) {
+                            context.nextToken();
+                            stageDeclaration
+                                    .setActions(new ListUnmarshaller<ActionDeclaration>(
+                                            ActionDeclarationJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
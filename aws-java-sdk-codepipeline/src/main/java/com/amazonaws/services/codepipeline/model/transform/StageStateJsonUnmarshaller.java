@@ -53,30 +53,42 @@ public class StageStateJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("stageName", targetDepth)) {
-                    context.nextToken();
-                    stageState.setStageName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("inboundTransitionState",
-                        targetDepth)) {
-                    context.nextToken();
-                    stageState
-                            .setInboundTransitionState(TransitionStateJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("actionStates", targetDepth)) {
-                    context.nextToken();
-                    stageState
-                            .setActionStates(new ListUnmarshaller<ActionState>(
-                                    ActionStateJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("latestExecution", targetDepth)) {
-                    context.nextToken();
-                    stageState
-                            .setLatestExecution(StageExecutionJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1836712617:
+                        if (fieldName.equals("stageName")) {
+                            context.nextToken();
+                            stageState.setStageName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1515392899:
+                        if (fieldName.equals("inboundTransitionState")) {
+                            context.nextToken();
+                            stageState
+                                    .setInboundTransitionState(TransitionStateJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1507604440:
+                        if (fieldName.equals("actionStates")) {
+                            context.nextToken();
+                            stageState
+                                    .setActionStates(new ListUnmarshaller<ActionState>(
+                                            ActionStateJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1685988177:
+                        if (fieldName.equals("latestExecution")) {
+                            context.nextToken();
+                            stageState
+                                    .setLatestExecution(StageExecutionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,54 +53,75 @@ public class ThirdPartyJobDataJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("actionTypeId", targetDepth)) {
-                    context.nextToken();
-                    thirdPartyJobData
-                            .setActionTypeId(ActionTypeIdJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("actionConfiguration", targetDepth)) {
-                    context.nextToken();
-                    thirdPartyJobData
-                            .setActionConfiguration(ActionConfigurationJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("pipelineContext", targetDepth)) {
-                    context.nextToken();
-                    thirdPartyJobData
-                            .setPipelineContext(PipelineContextJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("inputArtifacts", targetDepth)) {
-                    context.nextToken();
-                    thirdPartyJobData
-                            .setInputArtifacts(new ListUnmarshaller<Artifact>(
-                                    ArtifactJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("outputArtifacts", targetDepth)) {
-                    context.nextToken();
-                    thirdPartyJobData
-                            .setOutputArtifacts(new ListUnmarshaller<Artifact>(
-                                    ArtifactJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("artifactCredentials", targetDepth)) {
-                    context.nextToken();
-                    thirdPartyJobData
-                            .setArtifactCredentials(AWSSessionCredentialsJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("continuationToken", targetDepth)) {
-                    context.nextToken();
-                    thirdPartyJobData.setContinuationToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("encryptionKey", targetDepth)) {
-                    context.nextToken();
-                    thirdPartyJobData
-                            .setEncryptionKey(EncryptionKeyJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1541282763:
+                        if (fieldName.equals("actionTypeId")) {
+                            context.nextToken();
+                            thirdPartyJobData
+                                    .setActionTypeId(ActionTypeIdJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1442288032:
+                        if (fieldName.equals("actionConfiguration")) {
+                            context.nextToken();
+                            thirdPartyJobData
+                                    .setActionConfiguration(ActionConfigurationJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1507309395:
+                        if (fieldName.equals("pipelineContext")) {
+                            context.nextToken();
+                            thirdPartyJobData
+                                    .setPipelineContext(PipelineContextJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -725966793:
+                        if (fieldName.equals("inputArtifacts")) {
+                            context.nextToken();
+                            thirdPartyJobData
+                                    .setInputArtifacts(new ListUnmarshaller<Artifact>(
+                                            ArtifactJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -128627488:
+                        if (fieldName.equals("outputArtifacts")) {
+                            context.nextToken();
+                            thirdPartyJobData
+                                    .setOutputArtifacts(new ListUnmarshaller<Artifact>(
+                                            ArtifactJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 412437962:
+                        if (fieldName.equals("artifactCredentials")) {
+                            context.nextToken();
+                            thirdPartyJobData
+                                    .setArtifactCredentials(AWSSessionCredentialsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 769498626:
+                        if (fieldName.equals("continuationToken")) {
+                            context.nextToken();
+                            thirdPartyJobData.setContinuationToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -36224036:
+                        if (fieldName.equals("encryptionKey")) {
+                            context.nextToken();
+                            thirdPartyJobData
+                                    .setEncryptionKey(EncryptionKeyJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
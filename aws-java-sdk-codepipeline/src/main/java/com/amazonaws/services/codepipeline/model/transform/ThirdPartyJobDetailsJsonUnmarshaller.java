@@ -53,21 +53,32 @@ public class ThirdPartyJobDetailsJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    thirdPartyJobDetails.setId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("data", targetDepth)) {
-                    context.nextToken();
-                    thirdPartyJobDetails
-                            .setData(ThirdPartyJobDataJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("nonce", targetDepth)) {
-                    context.nextToken();
-                    thirdPartyJobDetails.setNonce(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3355:
+                        if (fieldName.equals("id")) {
+                            context.nextToken();
+                            thirdPartyJobDetails.setId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 3076010:
+                        if (fieldName.equals("data")) {
+                            context.nextToken();
+                            thirdPartyJobDetails
+                                    .setData(ThirdPartyJobDataJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 105002991:
+                        if (fieldName.equals("nonce")) {
+                            context.nextToken();
+                            thirdPartyJobDetails.setNonce(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
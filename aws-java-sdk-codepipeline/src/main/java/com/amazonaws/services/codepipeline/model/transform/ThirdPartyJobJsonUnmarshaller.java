@@ -53,15 +53,24 @@ public class ThirdPartyJobJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("clientId", targetDepth)) {
-                    context.nextToken();
-                    thirdPartyJob.setClientId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("jobId", targetDepth)) {
-                    context.nextToken();
-                    thirdPartyJob.setJobId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 908408390:
+                        if (fieldName.equals("clientId")) {
+                            context.nextToken();
+                            thirdPartyJob.setClientId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 101296568:
+                        if (fieldName.equals("jobId")) {
+                            context.nextToken();
+                            thirdPartyJob.setJobId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
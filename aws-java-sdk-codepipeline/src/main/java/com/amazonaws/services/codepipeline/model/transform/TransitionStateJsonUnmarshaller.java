@@ -53,25 +53,38 @@ public class TransitionStateJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("enabled", targetDepth)) {
-                    context.nextToken();
-                    transitionState.setEnabled(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("lastChangedBy", targetDepth)) {
-                    context.nextToken();
-                    transitionState.setLastChangedBy(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("lastChangedAt", targetDepth)) {
-                    context.nextToken();
-                    transitionState.setLastChangedAt(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("disabledReason", targetDepth)) {
-                    context.nextToken();
-                    transitionState.setDisabledReason(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1609594047:
+                        if (fieldName.equals("enabled")) {
+                            context.nextToken();
+                            transitionState.setEnabled(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case -339106763:
+                        if (fieldName.equals("lastChangedBy")) {
+                            context.nextToken();
+                            transitionState.setLastChangedBy(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -339106799:
+                        if (fieldName.equals("lastChangedAt")) {
+                            context.nextToken();
+                            transitionState.setLastChangedAt(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 910289888:
+                        if (fieldName.equals("disabledReason")) {
+                            context.nextToken();
+                            transitionState.setDisabledReason(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,11 +53,18 @@ public class UpdatePipelineResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("pipeline", targetDepth)) {
-                    context.nextToken();
-                    updatePipelineResult
-                            .setPipeline(PipelineDeclarationJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -372069726:
+                        if (fieldName.equals("pipeline")) {
+                            context.nextToken();
+                            updatePipelineResult
+                                    .setPipeline(PipelineDeclarationJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class CognitoIdentityProviderJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ProviderName", targetDepth)) {
-                    context.nextToken();
-                    cognitoIdentityProvider.setProviderName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ClientId", targetDepth)) {
-                    context.nextToken();
-                    cognitoIdentityProvider.setClientId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -254941124:
+                        if (fieldName.equals("ProviderName")) {
+                            context.nextToken();
+                            cognitoIdentityProvider.setProviderName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 973052518:
+                        if (fieldName.equals("ClientId")) {
+                            context.nextToken();
+                            cognitoIdentityProvider.setClientId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,61 +53,77 @@ public class CreateIdentityPoolResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IdentityPoolId", targetDepth)) {
-                    context.nextToken();
-                    createIdentityPoolResult.setIdentityPoolId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IdentityPoolName", targetDepth)) {
-                    context.nextToken();
-                    createIdentityPoolResult.setIdentityPoolName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AllowUnauthenticatedIdentities",
-                        targetDepth)) {
-                    context.nextToken();
-                    createIdentityPoolResult
-                            .setAllowUnauthenticatedIdentities(context
-                                    .getUnmarshaller(Boolean.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("SupportedLoginProviders",
-                        targetDepth)) {
-                    context.nextToken();
-                    createIdentityPoolResult
-                            .setSupportedLoginProviders(new MapUnmarshaller<String, String>(
-                                    context.getUnmarshaller(String.class),
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context
-                        .testExpression("DeveloperProviderName", targetDepth)) {
-                    context.nextToken();
-                    createIdentityPoolResult.setDeveloperProviderName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("OpenIdConnectProviderARNs",
-                        targetDepth)) {
-                    context.nextToken();
-                    createIdentityPoolResult
-                            .setOpenIdConnectProviderARNs(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("CognitoIdentityProviders",
-                        targetDepth)) {
-                    context.nextToken();
-                    createIdentityPoolResult
-                            .setCognitoIdentityProviders(new ListUnmarshaller<CognitoIdentityProvider>(
-                                    CognitoIdentityProviderJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("SamlProviderARNs", targetDepth)) {
-                    context.nextToken();
-                    createIdentityPoolResult
-                            .setSamlProviderARNs(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1177604907:
+                        if (fieldName.equals("IdentityPoolId")) {
+                            context.nextToken();
+                            createIdentityPoolResult.setIdentityPoolId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -2101767227:
+                        if (fieldName.equals("IdentityPoolName")) {
+                            context.nextToken();
+                            createIdentityPoolResult.setIdentityPoolName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -648585847:
+                        if (fieldName.equals("AllowUnauthenticatedIdentities")) {
+                            context.nextToken();
+                            createIdentityPoolResult
+                                    .setAllowUnauthenticatedIdentities(context
+                                            .getUnmarshaller(Boolean.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -1354113177:
+                        if (fieldName.equals("SupportedLoginProviders")) {
+                            context.nextToken();
+                            createIdentityPoolResult
+                                    .setSupportedLoginProviders(new MapUnmarshaller<String, String>(
+                                            context.getUnmarshaller(String.class),
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 2132852966:
+                        if (fieldName.equals("DeveloperProviderName")) {
+                            context.nextToken();
+                            createIdentityPoolResult.setDeveloperProviderName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1502371860:
+                        if (fieldName.equals("OpenIdConnectProviderARNs")) {
+                            context.nextToken();
+                            createIdentityPoolResult
+                                    .setOpenIdConnectProviderARNs(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 905071667:
+                        if (fieldName.equals("CognitoIdentityProviders")) {
+                            context.nextToken();
+                            createIdentityPoolResult
+                                    .setCognitoIdentityProviders(new ListUnmarshaller<CognitoIdentityProvider>(
+                                            CognitoIdentityProviderJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -370439052:
+                        if (fieldName.equals("SamlProviderARNs")) {
+                            context.nextToken();
+                            createIdentityPoolResult
+                                    .setSamlProviderARNs(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
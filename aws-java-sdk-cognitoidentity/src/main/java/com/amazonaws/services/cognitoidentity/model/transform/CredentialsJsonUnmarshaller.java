@@ -53,25 +53,38 @@ public class CredentialsJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AccessKeyId", targetDepth)) {
-                    context.nextToken();
-                    credentials.setAccessKeyId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("SecretKey", targetDepth)) {
-                    context.nextToken();
-                    credentials.setSecretKey(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("SessionToken", targetDepth)) {
-                    context.nextToken();
-                    credentials.setSessionToken(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Expiration", targetDepth)) {
-                    context.nextToken();
-                    credentials.setExpiration(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 616582326:
+                        if (fieldName.equals("AccessKeyId")) {
+                            context.nextToken();
+                            credentials.setAccessKeyId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1264400751:
+                        if (fieldName.equals("SecretKey")) {
+                            context.nextToken();
+                            credentials.setSecretKey(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -532231901:
+                        if (fieldName.equals("SessionToken")) {
+                            context.nextToken();
+                            credentials.setSessionToken(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1155999439:
+                        if (fieldName.equals("Expiration")) {
+                            context.nextToken();
+                            credentials.setExpiration(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,13 +53,19 @@ public class DeleteIdentitiesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("UnprocessedIdentityIds",
-                        targetDepth)) {
-                    context.nextToken();
-                    deleteIdentitiesResult
-                            .setUnprocessedIdentityIds(new ListUnmarshaller<UnprocessedIdentityId>(
-                                    UnprocessedIdentityIdJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 290939173:
+                        if (fieldName.equals("UnprocessedIdentityIds")) {
+                            context.nextToken();
+                            deleteIdentitiesResult
+                                    .setUnprocessedIdentityIds(new ListUnmarshaller<UnprocessedIdentityId>(
+                                            UnprocessedIdentityIdJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
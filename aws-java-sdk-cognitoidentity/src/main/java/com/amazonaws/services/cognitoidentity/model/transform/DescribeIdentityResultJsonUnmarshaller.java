@@ -53,29 +53,42 @@ public class DescribeIdentityResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IdentityId", targetDepth)) {
-                    context.nextToken();
-                    describeIdentityResult.setIdentityId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Logins", targetDepth)) {
-                    context.nextToken();
-                    describeIdentityResult
-                            .setLogins(new ListUnmarshaller<String>(context
-                                    .getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("CreationDate", targetDepth)) {
-                    context.nextToken();
-                    describeIdentityResult.setCreationDate(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("LastModifiedDate", targetDepth)) {
-                    context.nextToken();
-                    describeIdentityResult.setLastModifiedDate(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 375463577:
+                        if (fieldName.equals("IdentityId")) {
+                            context.nextToken();
+                            describeIdentityResult.setIdentityId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -2013468086:
+                        if (fieldName.equals("Logins")) {
+                            context.nextToken();
+                            describeIdentityResult
+                                    .setLogins(new ListUnmarshaller<String>(context
+                                            .getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1749851981:
+                        if (fieldName.equals("CreationDate")) {
+                            context.nextToken();
+                            describeIdentityResult.setCreationDate(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case 1911346157:
+                        if (fieldName.equals("LastModifiedDate")) {
+                            context.nextToken();
+                            describeIdentityResult.setLastModifiedDate(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
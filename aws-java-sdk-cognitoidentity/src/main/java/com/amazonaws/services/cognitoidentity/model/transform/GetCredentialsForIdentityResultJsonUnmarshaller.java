@@ -53,16 +53,25 @@ public class GetCredentialsForIdentityResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IdentityId", targetDepth)) {
-                    context.nextToken();
-                    getCredentialsForIdentityResult.setIdentityId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Credentials", targetDepth)) {
-                    context.nextToken();
-                    getCredentialsForIdentityResult
-                            .setCredentials(CredentialsJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 375463577:
+                        if (fieldName.equals("IdentityId")) {
+                            context.nextToken();
+                            getCredentialsForIdentityResult.setIdentityId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1956825820:
+                        if (fieldName.equals("Credentials")) {
+                            context.nextToken();
+                            getCredentialsForIdentityResult
+                                    .setCredentials(CredentialsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,18 +53,27 @@ public class GetIdentityPoolRolesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IdentityPoolId", targetDepth)) {
-                    context.nextToken();
-                    getIdentityPoolRolesResult.setIdentityPoolId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Roles", targetDepth)) {
-                    context.nextToken();
-                    getIdentityPoolRolesResult
-                            .setRoles(new MapUnmarshaller<String, String>(
-                                    context.getUnmarshaller(String.class),
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1177604907:
+                        if (fieldName.equals("IdentityPoolId")) {
+                            context.nextToken();
+                            getIdentityPoolRolesResult.setIdentityPoolId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 79142557:
+                        if (fieldName.equals("Roles")) {
+                            context.nextToken();
+                            getIdentityPoolRolesResult
+                                    .setRoles(new MapUnmarshaller<String, String>(
+                                            context.getUnmarshaller(String.class),
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,17 +54,26 @@ public class GetOpenIdTokenForDeveloperIdentityResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IdentityId", targetDepth)) {
-                    context.nextToken();
-                    getOpenIdTokenForDeveloperIdentityResult
-                            .setIdentityId(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("Token", targetDepth)) {
-                    context.nextToken();
-                    getOpenIdTokenForDeveloperIdentityResult.setToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 375463577:
+                        if (fieldName.equals("IdentityId")) {
+                            context.nextToken();
+                            getOpenIdTokenForDeveloperIdentityResult
+                                    .setIdentityId(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case 80988633:
+                        if (fieldName.equals("Token")) {
+                            context.nextToken();
+                            getOpenIdTokenForDeveloperIdentityResult.setToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
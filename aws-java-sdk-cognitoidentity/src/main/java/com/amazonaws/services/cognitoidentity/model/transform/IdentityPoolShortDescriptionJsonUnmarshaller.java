@@ -53,15 +53,24 @@ public class IdentityPoolShortDescriptionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IdentityPoolId", targetDepth)) {
-                    context.nextToken();
-                    identityPoolShortDescription.setIdentityPoolId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IdentityPoolName", targetDepth)) {
-                    context.nextToken();
-                    identityPoolShortDescription.setIdentityPoolName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1177604907:
+                        if (fieldName.equals("IdentityPoolId")) {
+                            context.nextToken();
+                            identityPoolShortDescription.setIdentityPoolId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -2101767227:
+                        if (fieldName.equals("IdentityPoolName")) {
+                            context.nextToken();
+                            identityPoolShortDescription.setIdentityPoolName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,22 +53,33 @@ public class ListIdentitiesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IdentityPoolId", targetDepth)) {
-                    context.nextToken();
-                    listIdentitiesResult.setIdentityPoolId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Identities", targetDepth)) {
-                    context.nextToken();
-                    listIdentitiesResult
-                            .setIdentities(new ListUnmarshaller<IdentityDescription>(
-                                    IdentityDescriptionJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    listIdentitiesResult.setNextToken(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1177604907:
+                        if (fieldName.equals("IdentityPoolId")) {
+                            context.nextToken();
+                            listIdentitiesResult.setIdentityPoolId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 375449084:
+                        if (fieldName.equals("Identities")) {
+                            context.nextToken();
+                            listIdentitiesResult
+                                    .setIdentities(new ListUnmarshaller<IdentityDescription>(
+                                            IdentityDescriptionJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1084080474:
+                        if (fieldName.equals("NextToken")) {
+                            context.nextToken();
+                            listIdentitiesResult.setNextToken(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
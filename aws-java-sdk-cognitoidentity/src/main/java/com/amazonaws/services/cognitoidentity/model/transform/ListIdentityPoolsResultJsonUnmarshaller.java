@@ -53,17 +53,26 @@ public class ListIdentityPoolsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IdentityPools", targetDepth)) {
-                    context.nextToken();
-                    listIdentityPoolsResult
-                            .setIdentityPools(new ListUnmarshaller<IdentityPoolShortDescription>(
-                                    IdentityPoolShortDescriptionJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    listIdentityPoolsResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1347486105:
+                        if (fieldName.equals("IdentityPools")) {
+                            context.nextToken();
+                            listIdentityPoolsResult
+                                    .setIdentityPools(new ListUnmarshaller<IdentityPoolShortDescription>(
+                                            IdentityPoolShortDescriptionJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1084080474:
+                        if (fieldName.equals("NextToken")) {
+                            context.nextToken();
+                            listIdentityPoolsResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
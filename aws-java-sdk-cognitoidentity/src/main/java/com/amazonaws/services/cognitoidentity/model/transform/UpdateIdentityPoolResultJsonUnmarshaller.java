@@ -53,61 +53,77 @@ public class UpdateIdentityPoolResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IdentityPoolId", targetDepth)) {
-                    context.nextToken();
-                    updateIdentityPoolResult.setIdentityPoolId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IdentityPoolName", targetDepth)) {
-                    context.nextToken();
-                    updateIdentityPoolResult.setIdentityPoolName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AllowUnauthenticatedIdentities",
-                        targetDepth)) {
-                    context.nextToken();
-                    updateIdentityPoolResult
-                            .setAllowUnauthenticatedIdentities(context
-                                    .getUnmarshaller(Boolean.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("SupportedLoginProviders",
-                        targetDepth)) {
-                    context.nextToken();
-                    updateIdentityPoolResult
-                            .setSupportedLoginProviders(new MapUnmarshaller<String, String>(
-                                    context.getUnmarshaller(String.class),
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context
-                        .testExpression("DeveloperProviderName", targetDepth)) {
-                    context.nextToken();
-                    updateIdentityPoolResult.setDeveloperProviderName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("OpenIdConnectProviderARNs",
-                        targetDepth)) {
-                    context.nextToken();
-                    updateIdentityPoolResult
-                            .setOpenIdConnectProviderARNs(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("CognitoIdentityProviders",
-                        targetDepth)) {
-                    context.nextToken();
-                    updateIdentityPoolResult
-                            .setCognitoIdentityProviders(new ListUnmarshaller<CognitoIdentityProvider>(
-                                    CognitoIdentityProviderJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("SamlProviderARNs", targetDepth)) {
-                    context.nextToken();
-                    updateIdentityPoolResult
-                            .setSamlProviderARNs(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1177604907:
+                        if (fieldName.equals("IdentityPoolId")) {
+                            context.nextToken();
+                            updateIdentityPoolResult.setIdentityPoolId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -2101767227:
+                        if (fieldName.equals("IdentityPoolName")) {
+                            context.nextToken();
+                            updateIdentityPoolResult.setIdentityPoolName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -648585847:
+                        if (fieldName.equals("AllowUnauthenticatedIdentities")) {
+                            context.nextToken();
+                            updateIdentityPoolResult
+                                    .setAllowUnauthenticatedIdentities(context
+                                            .getUnmarshaller(Boolean.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -1354113177:
+                        if (fieldName.equals("SupportedLoginProviders")) {
+                            context.nextToken();
+                            updateIdentityPoolResult
+                                    .setSupportedLoginProviders(new MapUnmarshaller<String, String>(
+                                            context.getUnmarshaller(String.class),
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 2132852966:
+                        if (fieldName.equals("DeveloperProviderName")) {
+                            context.nextToken();
+                            updateIdentityPoolResult.setDeveloperProviderName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1502371860:
+                        if (fieldName.equals("OpenIdConnectProviderARNs")) {
+                            context.nextToken();
+                            updateIdentityPoolResult
+                                    .setOpenIdConnectProviderARNs(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 905071667:
+                        if (fieldName.equals("CognitoIdentityProviders")) {
+                            context.nextToken();
+                            updateIdentityPoolResult
+                                    .setCognitoIdentityProviders(new ListUnmarshaller<CognitoIdentityProvider>(
+                                            CognitoIdentityProviderJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -370439052:
+                        if (fieldName.equals("SamlProviderARNs")) {
+                            context.nextToken();
+                            updateIdentityPoolResult
+                                    .setSamlProviderARNs(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,46 +53,65 @@ public class AdminGetUserResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Username", targetDepth)) {
-                    context.nextToken();
-                    adminGetUserResult.setUsername(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("UserAttributes", targetDepth)) {
-                    context.nextToken();
-                    adminGetUserResult
-                            .setUserAttributes(new ListUnmarshaller<AttributeType>(
-                                    AttributeTypeJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("UserCreateDate", targetDepth)) {
-                    context.nextToken();
-                    adminGetUserResult.setUserCreateDate(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("UserLastModifiedDate", targetDepth)) {
-                    context.nextToken();
-                    adminGetUserResult.setUserLastModifiedDate(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("Enabled", targetDepth)) {
-                    context.nextToken();
-                    adminGetUserResult.setEnabled(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("UserStatus", targetDepth)) {
-                    context.nextToken();
-                    adminGetUserResult.setUserStatus(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("MFAOptions", targetDepth)) {
-                    context.nextToken();
-                    adminGetUserResult
-                            .setMFAOptions(new ListUnmarshaller<MFAOptionType>(
-                                    MFAOptionTypeJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -201069322:
+                        if (fieldName.equals("Username")) {
+                            context.nextToken();
+                            adminGetUserResult.setUsername(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 158153634:
+                        if (fieldName.equals("UserAttributes")) {
+                            context.nextToken();
+                            adminGetUserResult
+                                    .setUserAttributes(new ListUnmarshaller<AttributeType>(
+                                            AttributeTypeJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1121237269:
+                        if (fieldName.equals("UserCreateDate")) {
+                            context.nextToken();
+                            adminGetUserResult.setUserCreateDate(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case 929431000:
+                        if (fieldName.equals("UserLastModifiedDate")) {
+                            context.nextToken();
+                            adminGetUserResult.setUserLastModifiedDate(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case 55059233:
+                        if (fieldName.equals("Enabled")) {
+                            context.nextToken();
+                            adminGetUserResult.setEnabled(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case -709869635:
+                        if (fieldName.equals("UserStatus")) {
+                            context.nextToken();
+                            adminGetUserResult.setUserStatus(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2109268918:
+                        if (fieldName.equals("MFAOptions")) {
+                            context.nextToken();
+                            adminGetUserResult
+                                    .setMFAOptions(new ListUnmarshaller<MFAOptionType>(
+                                            MFAOptionTypeJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,20 +53,31 @@ public class CodeDeliveryDetailsTypeJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Destination", targetDepth)) {
-                    context.nextToken();
-                    codeDeliveryDetailsType.setDestination(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DeliveryMedium", targetDepth)) {
-                    context.nextToken();
-                    codeDeliveryDetailsType.setDeliveryMedium(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AttributeName", targetDepth)) {
-                    context.nextToken();
-                    codeDeliveryDetailsType.setAttributeName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 238021614:
+                        if (fieldName.equals("Destination")) {
+                            context.nextToken();
+                            codeDeliveryDetailsType.setDestination(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1315937449:
+                        if (fieldName.equals("DeliveryMedium")) {
+                            context.nextToken();
+                            codeDeliveryDetailsType.setDeliveryMedium(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -650306777:
+                        if (fieldName.equals("AttributeName")) {
+                            context.nextToken();
+                            codeDeliveryDetailsType.setAttributeName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,11 +53,18 @@ public class CreateUserPoolResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("UserPool", targetDepth)) {
-                    context.nextToken();
-                    createUserPoolResult
-                            .setUserPool(UserPoolTypeJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -201949529:
+                        if (fieldName.equals("UserPool")) {
+                            context.nextToken();
+                            createUserPoolResult
+                                    .setUserPool(UserPoolTypeJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,11 +53,18 @@ public class DescribeUserPoolClientResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("UserPoolClient", targetDepth)) {
-                    context.nextToken();
-                    describeUserPoolClientResult
-                            .setUserPoolClient(UserPoolClientTypeJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -280459950:
+                        if (fieldName.equals("UserPoolClient")) {
+                            context.nextToken();
+                            describeUserPoolClientResult
+                                    .setUserPoolClient(UserPoolClientTypeJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,11 +54,18 @@ public class GetUserAttributeVerificationCodeResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CodeDeliveryDetails", targetDepth)) {
-                    context.nextToken();
-                    getUserAttributeVerificationCodeResult
-                            .setCodeDeliveryDetails(CodeDeliveryDetailsTypeJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 873033185:
+                        if (fieldName.equals("CodeDeliveryDetails")) {
+                            context.nextToken();
+                            getUserAttributeVerificationCodeResult
+                                    .setCodeDeliveryDetails(CodeDeliveryDetailsTypeJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,24 +53,35 @@ public class GetUserResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Username", targetDepth)) {
-                    context.nextToken();
-                    getUserResult.setUsername(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("UserAttributes", targetDepth)) {
-                    context.nextToken();
-                    getUserResult
-                            .setUserAttributes(new ListUnmarshaller<AttributeType>(
-                                    AttributeTypeJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("MFAOptions", targetDepth)) {
-                    context.nextToken();
-                    getUserResult
-                            .setMFAOptions(new ListUnmarshaller<MFAOptionType>(
-                                    MFAOptionTypeJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -201069322:
+                        if (fieldName.equals("Username")) {
+                            context.nextToken();
+                            getUserResult.setUsername(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 158153634:
+                        if (fieldName.equals("UserAttributes")) {
+                            context.nextToken();
+                            getUserResult
+                                    .setUserAttributes(new ListUnmarshaller<AttributeType>(
+                                            AttributeTypeJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 2109268918:
+                        if (fieldName.equals("MFAOptions")) {
+                            context.nextToken();
+                            getUserResult
+                                    .setMFAOptions(new ListUnmarshaller<MFAOptionType>(
+                                            MFAOptionTypeJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,30 +53,45 @@ public class LambdaConfigTypeJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("PreSignUp", targetDepth)) {
-                    context.nextToken();
-                    lambdaConfigType.setPreSignUp(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("CustomMessage", targetDepth)) {
-                    context.nextToken();
-                    lambdaConfigType.setCustomMessage(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("PostConfirmation", targetDepth)) {
-                    context.nextToken();
-                    lambdaConfigType.setPostConfirmation(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PreAuthentication", targetDepth)) {
-                    context.nextToken();
-                    lambdaConfigType.setPreAuthentication(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PostAuthentication", targetDepth)) {
-                    context.nextToken();
-                    lambdaConfigType.setPostAuthentication(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 169371035:
+                        if (fieldName.equals("PreSignUp")) {
+                            context.nextToken();
+                            lambdaConfigType.setPreSignUp(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1523668170:
+                        if (fieldName.equals("CustomMessage")) {
+                            context.nextToken();
+                            lambdaConfigType.setCustomMessage(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -2069705451:
+                        if (fieldName.equals("PostConfirmation")) {
+                            context.nextToken();
+                            lambdaConfigType.setPostConfirmation(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -108410917:
+                        if (fieldName.equals("PreAuthentication")) {
+                            context.nextToken();
+                            lambdaConfigType.setPreAuthentication(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1361013592:
+                        if (fieldName.equals("PostAuthentication")) {
+                            context.nextToken();
+                            lambdaConfigType.setPostAuthentication(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class ListUserPoolClientsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("UserPoolClients", targetDepth)) {
-                    context.nextToken();
-                    listUserPoolClientsResult
-                            .setUserPoolClients(new ListUnmarshaller<UserPoolClientDescription>(
-                                    UserPoolClientDescriptionJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    listUserPoolClientsResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -104323743:
+                        if (fieldName.equals("UserPoolClients")) {
+                            context.nextToken();
+                            listUserPoolClientsResult
+                                    .setUserPoolClients(new ListUnmarshaller<UserPoolClientDescription>(
+                                            UserPoolClientDescriptionJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1084080474:
+                        if (fieldName.equals("NextToken")) {
+                            context.nextToken();
+                            listUserPoolClientsResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class ListUserPoolsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("UserPools", targetDepth)) {
-                    context.nextToken();
-                    listUserPoolsResult
-                            .setUserPools(new ListUnmarshaller<UserPoolDescriptionType>(
-                                    UserPoolDescriptionTypeJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    listUserPoolsResult.setNextToken(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1965467988:
+                        if (fieldName.equals("UserPools")) {
+                            context.nextToken();
+                            listUserPoolsResult
+                                    .setUserPools(new ListUnmarshaller<UserPoolDescriptionType>(
+                                            UserPoolDescriptionTypeJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1084080474:
+                        if (fieldName.equals("NextToken")) {
+                            context.nextToken();
+                            listUserPoolsResult.setNextToken(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,16 +53,25 @@ public class ListUsersResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Users", targetDepth)) {
-                    context.nextToken();
-                    listUsersResult.setUsers(new ListUnmarshaller<UserType>(
-                            UserTypeJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("PaginationToken", targetDepth)) {
-                    context.nextToken();
-                    listUsersResult.setPaginationToken(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 82025960:
+                        if (fieldName.equals("Users")) {
+                            context.nextToken();
+                            listUsersResult.setUsers(new ListUnmarshaller<UserType>(
+                                    UserTypeJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -855508385:
+                        if (fieldName.equals("PaginationToken")) {
+                            context.nextToken();
+                            listUsersResult.setPaginationToken(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class MFAOptionTypeJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DeliveryMedium", targetDepth)) {
-                    context.nextToken();
-                    mFAOptionType.setDeliveryMedium(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("AttributeName", targetDepth)) {
-                    context.nextToken();
-                    mFAOptionType.setAttributeName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1315937449:
+                        if (fieldName.equals("DeliveryMedium")) {
+                            context.nextToken();
+                            mFAOptionType.setDeliveryMedium(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -650306777:
+                        if (fieldName.equals("AttributeName")) {
+                            context.nextToken();
+                            mFAOptionType.setAttributeName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
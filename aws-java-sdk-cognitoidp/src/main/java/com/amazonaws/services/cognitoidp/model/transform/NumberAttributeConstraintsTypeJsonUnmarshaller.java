@@ -53,15 +53,24 @@ public class NumberAttributeConstraintsTypeJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("MinValue", targetDepth)) {
-                    context.nextToken();
-                    numberAttributeConstraintsType.setMinValue(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MaxValue", targetDepth)) {
-                    context.nextToken();
-                    numberAttributeConstraintsType.setMaxValue(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1312325025:
+                        if (fieldName.equals("MinValue")) {
+                            context.nextToken();
+                            numberAttributeConstraintsType.setMinValue(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 463871629:
+                        if (fieldName.equals("MaxValue")) {
+                            context.nextToken();
+                            numberAttributeConstraintsType.setMaxValue(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
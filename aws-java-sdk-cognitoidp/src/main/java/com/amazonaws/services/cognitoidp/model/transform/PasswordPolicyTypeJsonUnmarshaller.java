@@ -53,35 +53,50 @@ public class PasswordPolicyTypeJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("MinimumLength", targetDepth)) {
-                    context.nextToken();
-                    passwordPolicyType
-                            .setMinimumLength(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("RequireUppercase", targetDepth)) {
-                    context.nextToken();
-                    passwordPolicyType
-                            .setRequireUppercase(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("RequireLowercase", targetDepth)) {
-                    context.nextToken();
-                    passwordPolicyType
-                            .setRequireLowercase(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("RequireNumbers", targetDepth)) {
-                    context.nextToken();
-                    passwordPolicyType
-                            .setRequireNumbers(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("RequireSymbols", targetDepth)) {
-                    context.nextToken();
-                    passwordPolicyType
-                            .setRequireSymbols(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1171184524:
+                        if (fieldName.equals("MinimumLength")) {
+                            context.nextToken();
+                            passwordPolicyType
+                                    .setMinimumLength(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -997927155:
+                        if (fieldName.equals("RequireUppercase")) {
+                            context.nextToken();
+                            passwordPolicyType
+                                    .setRequireUppercase(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case -1735958036:
+                        if (fieldName.equals("RequireLowercase")) {
+                            context.nextToken();
+                            passwordPolicyType
+                                    .setRequireLowercase(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 85361989:
+                        if (fieldName.equals("RequireNumbers")) {
+                            context.nextToken();
+                            passwordPolicyType
+                                    .setRequireNumbers(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 342439126:
+                        if (fieldName.equals("RequireSymbols")) {
+                            context.nextToken();
+                            passwordPolicyType
+                                    .setRequireSymbols(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
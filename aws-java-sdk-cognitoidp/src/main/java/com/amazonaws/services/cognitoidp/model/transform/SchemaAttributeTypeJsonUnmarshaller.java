@@ -53,46 +53,62 @@ public class SchemaAttributeTypeJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    schemaAttributeType.setName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("AttributeDataType", targetDepth)) {
-                    context.nextToken();
-                    schemaAttributeType.setAttributeDataType(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DeveloperOnlyAttribute",
-                        targetDepth)) {
-                    context.nextToken();
-                    schemaAttributeType
-                            .setDeveloperOnlyAttribute(context.getUnmarshaller(
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            schemaAttributeType.setName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1853030560:
+                        if (fieldName.equals("AttributeDataType")) {
+                            context.nextToken();
+                            schemaAttributeType.setAttributeDataType(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -466093882:
+                        if (fieldName.equals("DeveloperOnlyAttribute")) {
+                            context.nextToken();
+                            schemaAttributeType
+                                    .setDeveloperOnlyAttribute(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case -1216934138:
+                        if (fieldName.equals("Mutable")) {
+                            context.nextToken();
+                            schemaAttributeType.setMutable(context.getUnmarshaller(
                                     Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("Mutable", targetDepth)) {
-                    context.nextToken();
-                    schemaAttributeType.setMutable(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("Required", targetDepth)) {
-                    context.nextToken();
-                    schemaAttributeType.setRequired(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("NumberAttributeConstraints",
-                        targetDepth)) {
-                    context.nextToken();
-                    schemaAttributeType
-                            .setNumberAttributeConstraints(NumberAttributeConstraintsTypeJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("StringAttributeConstraints",
-                        targetDepth)) {
-                    context.nextToken();
-                    schemaAttributeType
-                            .setStringAttributeConstraints(StringAttributeConstraintsTypeJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -328495169:
+                        if (fieldName.equals("Required")) {
+                            context.nextToken();
+                            schemaAttributeType.setRequired(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case -1591322877:
+                        if (fieldName.equals("NumberAttributeConstraints")) {
+                            context.nextToken();
+                            schemaAttributeType
+                                    .setNumberAttributeConstraints(NumberAttributeConstraintsTypeJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1236838347:
+                        if (fieldName.equals("StringAttributeConstraints")) {
+                            context.nextToken();
+                            schemaAttributeType
+                                    .setStringAttributeConstraints(StringAttributeConstraintsTypeJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,16 +53,25 @@ public class SignUpResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("UserConfirmed", targetDepth)) {
-                    context.nextToken();
-                    signUpResult.setUserConfirmed(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("CodeDeliveryDetails", targetDepth)) {
-                    context.nextToken();
-                    signUpResult
-                            .setCodeDeliveryDetails(CodeDeliveryDetailsTypeJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1958853556:
+                        if (fieldName.equals("UserConfirmed")) {
+                            context.nextToken();
+                            signUpResult.setUserConfirmed(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 873033185:
+                        if (fieldName.equals("CodeDeliveryDetails")) {
+                            context.nextToken();
+                            signUpResult
+                                    .setCodeDeliveryDetails(CodeDeliveryDetailsTypeJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
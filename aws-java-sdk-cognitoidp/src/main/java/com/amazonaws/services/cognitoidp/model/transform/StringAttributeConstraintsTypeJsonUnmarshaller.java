@@ -53,15 +53,24 @@ public class StringAttributeConstraintsTypeJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("MinLength", targetDepth)) {
-                    context.nextToken();
-                    stringAttributeConstraintsType.setMinLength(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MaxLength", targetDepth)) {
-                    context.nextToken();
-                    stringAttributeConstraintsType.setMaxLength(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1985046456:
+                        if (fieldName.equals("MinLength")) {
+                            context.nextToken();
+                            stringAttributeConstraintsType.setMinLength(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1212567882:
+                        if (fieldName.equals("MaxLength")) {
+                            context.nextToken();
+                            stringAttributeConstraintsType.setMaxLength(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,13 +53,19 @@ public class UpdateUserAttributesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CodeDeliveryDetailsList",
-                        targetDepth)) {
-                    context.nextToken();
-                    updateUserAttributesResult
-                            .setCodeDeliveryDetailsList(new ListUnmarshaller<CodeDeliveryDetailsType>(
-                                    CodeDeliveryDetailsTypeJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 336706079:
+                        if (fieldName.equals("CodeDeliveryDetailsList")) {
+                            context.nextToken();
+                            updateUserAttributesResult
+                                    .setCodeDeliveryDetailsList(new ListUnmarshaller<CodeDeliveryDetailsType>(
+                                            CodeDeliveryDetailsTypeJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,20 +53,31 @@ public class UserPoolClientDescriptionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ClientId", targetDepth)) {
-                    context.nextToken();
-                    userPoolClientDescription.setClientId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("UserPoolId", targetDepth)) {
-                    context.nextToken();
-                    userPoolClientDescription.setUserPoolId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ClientName", targetDepth)) {
-                    context.nextToken();
-                    userPoolClientDescription.setClientName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 973052518:
+                        if (fieldName.equals("ClientId")) {
+                            context.nextToken();
+                            userPoolClientDescription.setClientId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -799966686:
+                        if (fieldName.equals("UserPoolId")) {
+                            context.nextToken();
+                            userPoolClientDescription.setUserPoolId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1199251178:
+                        if (fieldName.equals("ClientName")) {
+                            context.nextToken();
+                            userPoolClientDescription.setClientName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,36 +53,53 @@ public class UserPoolClientTypeJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("UserPoolId", targetDepth)) {
-                    context.nextToken();
-                    userPoolClientType.setUserPoolId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ClientName", targetDepth)) {
-                    context.nextToken();
-                    userPoolClientType.setClientName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ClientId", targetDepth)) {
-                    context.nextToken();
-                    userPoolClientType.setClientId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ClientSecret", targetDepth)) {
-                    context.nextToken();
-                    userPoolClientType.setClientSecret(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("LastModifiedDate", targetDepth)) {
-                    context.nextToken();
-                    userPoolClientType.setLastModifiedDate(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("CreationDate", targetDepth)) {
-                    context.nextToken();
-                    userPoolClientType.setCreationDate(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -799966686:
+                        if (fieldName.equals("UserPoolId")) {
+                            context.nextToken();
+                            userPoolClientType.setUserPoolId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1199251178:
+                        if (fieldName.equals("ClientName")) {
+                            context.nextToken();
+                            userPoolClientType.setClientName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 973052518:
+                        if (fieldName.equals("ClientId")) {
+                            context.nextToken();
+                            userPoolClientType.setClientId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1282589061:
+                        if (fieldName.equals("ClientSecret")) {
+                            context.nextToken();
+                            userPoolClientType.setClientSecret(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1911346157:
+                        if (fieldName.equals("LastModifiedDate")) {
+                            context.nextToken();
+                            userPoolClientType.setLastModifiedDate(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case 1749851981:
+                        if (fieldName.equals("CreationDate")) {
+                            context.nextToken();
+                            userPoolClientType.setCreationDate(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
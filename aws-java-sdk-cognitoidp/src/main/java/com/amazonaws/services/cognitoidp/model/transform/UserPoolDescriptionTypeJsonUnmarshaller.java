@@ -53,38 +53,55 @@ public class UserPoolDescriptionTypeJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Id", targetDepth)) {
-                    context.nextToken();
-                    userPoolDescriptionType.setId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    userPoolDescriptionType.setName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("LambdaConfig", targetDepth)) {
-                    context.nextToken();
-                    userPoolDescriptionType
-                            .setLambdaConfig(LambdaConfigTypeJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    userPoolDescriptionType.setStatus(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("LastModifiedDate", targetDepth)) {
-                    context.nextToken();
-                    userPoolDescriptionType.setLastModifiedDate(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("CreationDate", targetDepth)) {
-                    context.nextToken();
-                    userPoolDescriptionType.setCreationDate(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2363:
+                        if (fieldName.equals("Id")) {
+                            context.nextToken();
+                            userPoolDescriptionType.setId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            userPoolDescriptionType.setName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1867323895:
+                        if (fieldName.equals("LambdaConfig")) {
+                            context.nextToken();
+                            userPoolDescriptionType
+                                    .setLambdaConfig(LambdaConfigTypeJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1808614382:
+                        if (fieldName.equals("Status")) {
+                            context.nextToken();
+                            userPoolDescriptionType.setStatus(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1911346157:
+                        if (fieldName.equals("LastModifiedDate")) {
+                            context.nextToken();
+                            userPoolDescriptionType.setLastModifiedDate(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case 1749851981:
+                        if (fieldName.equals("CreationDate")) {
+                            context.nextToken();
+                            userPoolDescriptionType.setCreationDate(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
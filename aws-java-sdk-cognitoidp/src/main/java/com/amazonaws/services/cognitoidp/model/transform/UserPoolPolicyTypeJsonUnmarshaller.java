@@ -53,11 +53,18 @@ public class UserPoolPolicyTypeJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("PasswordPolicy", targetDepth)) {
-                    context.nextToken();
-                    userPoolPolicyType
-                            .setPasswordPolicy(PasswordPolicyTypeJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1621788723:
+                        if (fieldName.equals("PasswordPolicy")) {
+                            context.nextToken();
+                            userPoolPolicyType
+                                    .setPasswordPolicy(PasswordPolicyTypeJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
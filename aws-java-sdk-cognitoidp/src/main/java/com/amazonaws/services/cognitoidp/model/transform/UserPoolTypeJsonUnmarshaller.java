@@ -53,99 +53,130 @@ public class UserPoolTypeJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Id", targetDepth)) {
-                    context.nextToken();
-                    userPoolType.setId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    userPoolType.setName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Policies", targetDepth)) {
-                    context.nextToken();
-                    userPoolType.setPolicies(UserPoolPolicyTypeJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("LambdaConfig", targetDepth)) {
-                    context.nextToken();
-                    userPoolType
-                            .setLambdaConfig(LambdaConfigTypeJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    userPoolType.setStatus(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LastModifiedDate", targetDepth)) {
-                    context.nextToken();
-                    userPoolType.setLastModifiedDate(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationDate", targetDepth)) {
-                    context.nextToken();
-                    userPoolType.setCreationDate(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("SchemaAttributes", targetDepth)) {
-                    context.nextToken();
-                    userPoolType
-                            .setSchemaAttributes(new ListUnmarshaller<SchemaAttributeType>(
-                                    SchemaAttributeTypeJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("AutoVerifiedAttributes",
-                        targetDepth)) {
-                    context.nextToken();
-                    userPoolType
-                            .setAutoVerifiedAttributes(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2363:
+                        if (fieldName.equals("Id")) {
+                            context.nextToken();
+                            userPoolType.setId(context.getUnmarshaller(String.class)
                                     .unmarshall(context));
-                }
-                if (context.testExpression("AliasAttributes", targetDepth)) {
-                    context.nextToken();
-                    userPoolType
-                            .setAliasAttributes(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
+                        }
+                        break;
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            userPoolType.setName(context.getUnmarshaller(String.class)
                                     .unmarshall(context));
-                }
-                if (context.testExpression("SmsVerificationMessage",
-                        targetDepth)) {
-                    context.nextToken();
-                    userPoolType.setSmsVerificationMessage(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EmailVerificationMessage",
-                        targetDepth)) {
-                    context.nextToken();
-                    userPoolType.setEmailVerificationMessage(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EmailVerificationSubject",
-                        targetDepth)) {
-                    context.nextToken();
-                    userPoolType.setEmailVerificationSubject(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SmsAuthenticationMessage",
-                        targetDepth)) {
-                    context.nextToken();
-                    userPoolType.setSmsAuthenticationMessage(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MfaConfiguration", targetDepth)) {
-                    context.nextToken();
-                    userPoolType.setMfaConfiguration(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("EstimatedNumberOfUsers",
-                        targetDepth)) {
-                    context.nextToken();
-                    userPoolType
-                            .setEstimatedNumberOfUsers(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 611538288:
+                        if (fieldName.equals("Policies")) {
+                            context.nextToken();
+                            userPoolType.setPolicies(UserPoolPolicyTypeJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1867323895:
+                        if (fieldName.equals("LambdaConfig")) {
+                            context.nextToken();
+                            userPoolType
+                                    .setLambdaConfig(LambdaConfigTypeJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1808614382:
+                        if (fieldName.equals("Status")) {
+                            context.nextToken();
+                            userPoolType.setStatus(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1911346157:
+                        if (fieldName.equals("LastModifiedDate")) {
+                            context.nextToken();
+                            userPoolType.setLastModifiedDate(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 1749851981:
+                        if (fieldName.equals("CreationDate")) {
+                            context.nextToken();
+                            userPoolType.setCreationDate(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case -29677064:
+                        if (fieldName.equals("SchemaAttributes")) {
+                            context.nextToken();
+                            userPoolType
+                                    .setSchemaAttributes(new ListUnmarshaller<SchemaAttributeType>(
+                                            SchemaAttributeTypeJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -913071506:
+                        if (fieldName.equals("AutoVerifiedAttributes")) {
+                            context.nextToken();
+                            userPoolType
+                                    .setAutoVerifiedAttributes(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1242574759:
+                        if (fieldName.equals("AliasAttributes")) {
+                            context.nextToken();
+                            userPoolType
+                                    .setAliasAttributes(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -400303245:
+                        if (fieldName.equals("SmsVerificationMessage")) {
+                            context.nextToken();
+                            userPoolType.setSmsVerificationMessage(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1059922000:
+                        if (fieldName.equals("EmailVerificationMessage")) {
+                            context.nextToken();
+                            userPoolType.setEmailVerificationMessage(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1762888331:
+                        if (fieldName.equals("EmailVerificationSubject")) {
+                            context.nextToken();
+                            userPoolType.setEmailVerificationSubject(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1247426230:
+                        if (fieldName.equals("SmsAuthenticationMessage")) {
+                            context.nextToken();
+                            userPoolType.setSmsAuthenticationMessage(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -567796722:
+                        if (fieldName.equals("MfaConfiguration")) {
+                            context.nextToken();
+                            userPoolType.setMfaConfiguration(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1117611052:
+                        if (fieldName.equals("EstimatedNumberOfUsers")) {
+                            context.nextToken();
+                            userPoolType
+                                    .setEstimatedNumberOfUsers(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,36 +53,53 @@ public class UserTypeJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Username", targetDepth)) {
-                    context.nextToken();
-                    userType.setUsername(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Attributes", targetDepth)) {
-                    context.nextToken();
-                    userType.setAttributes(new ListUnmarshaller<AttributeType>(
-                            AttributeTypeJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("UserCreateDate", targetDepth)) {
-                    context.nextToken();
-                    userType.setUserCreateDate(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("UserLastModifiedDate", targetDepth)) {
-                    context.nextToken();
-                    userType.setUserLastModifiedDate(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Enabled", targetDepth)) {
-                    context.nextToken();
-                    userType.setEnabled(context.getUnmarshaller(Boolean.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("UserStatus", targetDepth)) {
-                    context.nextToken();
-                    userType.setUserStatus(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -201069322:
+                        if (fieldName.equals("Username")) {
+                            context.nextToken();
+                            userType.setUsername(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1895856777:
+                        if (fieldName.equals("Attributes")) {
+                            context.nextToken();
+                            userType.setAttributes(new ListUnmarshaller<AttributeType>(
+                                    AttributeTypeJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1121237269:
+                        if (fieldName.equals("UserCreateDate")) {
+                            context.nextToken();
+                            userType.setUserCreateDate(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 929431000:
+                        if (fieldName.equals("UserLastModifiedDate")) {
+                            context.nextToken();
+                            userType.setUserLastModifiedDate(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 55059233:
+                        if (fieldName.equals("Enabled")) {
+                            context.nextToken();
+                            userType.setEnabled(context.getUnmarshaller(Boolean.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -709869635:
+                        if (fieldName.equals("UserStatus")) {
+                            context.nextToken();
+                            userType.setUserStatus(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
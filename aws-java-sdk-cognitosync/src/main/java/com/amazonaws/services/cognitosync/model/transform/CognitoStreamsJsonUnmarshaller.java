@@ -53,20 +53,31 @@ public class CognitoStreamsJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StreamName", targetDepth)) {
-                    context.nextToken();
-                    cognitoStreams.setStreamName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("RoleArn", targetDepth)) {
-                    context.nextToken();
-                    cognitoStreams.setRoleArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("StreamingStatus", targetDepth)) {
-                    context.nextToken();
-                    cognitoStreams.setStreamingStatus(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 798513739:
+                        if (fieldName.equals("StreamName")) {
+                            context.nextToken();
+                            cognitoStreams.setStreamName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1253458457:
+                        if (fieldName.equals("RoleArn")) {
+                            context.nextToken();
+                            cognitoStreams.setRoleArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2007382740:
+                        if (fieldName.equals("StreamingStatus")) {
+                            context.nextToken();
+                            cognitoStreams.setStreamingStatus(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,10 +53,17 @@ public class DeleteDatasetResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Dataset", targetDepth)) {
-                    context.nextToken();
-                    deleteDatasetResult.setDataset(DatasetJsonUnmarshaller
-                            .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1187099560:
+                        if (fieldName.equals("Dataset")) {
+                            context.nextToken();
+                            deleteDatasetResult.setDataset(DatasetJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,11 +53,18 @@ public class DescribeIdentityPoolUsageResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IdentityPoolUsage", targetDepth)) {
-                    context.nextToken();
-                    describeIdentityPoolUsageResult
-                            .setIdentityPoolUsage(IdentityPoolUsageJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -723285081:
+                        if (fieldName.equals("IdentityPoolUsage")) {
+                            context.nextToken();
+                            describeIdentityPoolUsageResult
+                                    .setIdentityPoolUsage(IdentityPoolUsageJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
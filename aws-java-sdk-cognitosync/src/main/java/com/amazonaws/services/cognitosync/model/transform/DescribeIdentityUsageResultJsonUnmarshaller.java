@@ -53,11 +53,18 @@ public class DescribeIdentityUsageResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IdentityUsage", targetDepth)) {
-                    context.nextToken();
-                    describeIdentityUsageResult
-                            .setIdentityUsage(IdentityUsageJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1352209251:
+                        if (fieldName.equals("IdentityUsage")) {
+                            context.nextToken();
+                            describeIdentityUsageResult
+                                    .setIdentityUsage(IdentityUsageJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
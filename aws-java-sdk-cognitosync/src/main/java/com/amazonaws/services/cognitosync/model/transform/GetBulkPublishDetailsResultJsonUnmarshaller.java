@@ -53,34 +53,48 @@ public class GetBulkPublishDetailsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IdentityPoolId", targetDepth)) {
-                    context.nextToken();
-                    getBulkPublishDetailsResult.setIdentityPoolId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("BulkPublishStartTime", targetDepth)) {
-                    context.nextToken();
-                    getBulkPublishDetailsResult.setBulkPublishStartTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("BulkPublishCompleteTime",
-                        targetDepth)) {
-                    context.nextToken();
-                    getBulkPublishDetailsResult
-                            .setBulkPublishCompleteTime(context
-                                    .getUnmarshaller(java.util.Date.class)
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("BulkPublishStatus", targetDepth)) {
-                    context.nextToken();
-                    getBulkPublishDetailsResult.setBulkPublishStatus(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("FailureMessage", targetDepth)) {
-                    context.nextToken();
-                    getBulkPublishDetailsResult.setFailureMessage(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1177604907:
+                        if (fieldName.equals("IdentityPoolId")) {
+                            context.nextToken();
+                            getBulkPublishDetailsResult.setIdentityPoolId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1092924242:
+                        if (fieldName.equals("BulkPublishStartTime")) {
+                            context.nextToken();
+                            getBulkPublishDetailsResult.setBulkPublishStartTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case 197478339:
+                        if (fieldName.equals("BulkPublishCompleteTime")) {
+                            context.nextToken();
+                            getBulkPublishDetailsResult
+                                    .setBulkPublishCompleteTime(context
+                                            .getUnmarshaller(java.util.Date.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -614990385:
+                        if (fieldName.equals("BulkPublishStatus")) {
+                            context.nextToken();
+                            getBulkPublishDetailsResult.setBulkPublishStatus(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1588020029:
+                        if (fieldName.equals("FailureMessage")) {
+                            context.nextToken();
+                            getBulkPublishDetailsResult.setFailureMessage(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,26 +53,39 @@ public class IdentityPoolUsageJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IdentityPoolId", targetDepth)) {
-                    context.nextToken();
-                    identityPoolUsage.setIdentityPoolId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SyncSessionsCount", targetDepth)) {
-                    context.nextToken();
-                    identityPoolUsage.setSyncSessionsCount(context
-                            .getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("DataStorage", targetDepth)) {
-                    context.nextToken();
-                    identityPoolUsage.setDataStorage(context.getUnmarshaller(
-                            Long.class).unmarshall(context));
-                }
-                if (context.testExpression("LastModifiedDate", targetDepth)) {
-                    context.nextToken();
-                    identityPoolUsage.setLastModifiedDate(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1177604907:
+                        if (fieldName.equals("IdentityPoolId")) {
+                            context.nextToken();
+                            identityPoolUsage.setIdentityPoolId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 354423671:
+                        if (fieldName.equals("SyncSessionsCount")) {
+                            context.nextToken();
+                            identityPoolUsage.setSyncSessionsCount(context
+                                    .getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    case -1697611951:
+                        if (fieldName.equals("DataStorage")) {
+                            context.nextToken();
+                            identityPoolUsage.setDataStorage(context.getUnmarshaller(
+                                    Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 1911346157:
+                        if (fieldName.equals("LastModifiedDate")) {
+                            context.nextToken();
+                            identityPoolUsage.setLastModifiedDate(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
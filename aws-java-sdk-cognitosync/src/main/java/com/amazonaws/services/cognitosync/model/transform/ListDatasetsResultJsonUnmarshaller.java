@@ -53,22 +53,33 @@ public class ListDatasetsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Datasets", targetDepth)) {
-                    context.nextToken();
-                    listDatasetsResult
-                            .setDatasets(new ListUnmarshaller<Dataset>(
-                                    DatasetJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("Count", targetDepth)) {
-                    context.nextToken();
-                    listDatasetsResult.setCount(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    listDatasetsResult.setNextToken(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1854619419:
+                        if (fieldName.equals("Datasets")) {
+                            context.nextToken();
+                            listDatasetsResult
+                                    .setDatasets(new ListUnmarshaller<Dataset>(
+                                            DatasetJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 65298671:
+                        if (fieldName.equals("Count")) {
+                            context.nextToken();
+                            listDatasetsResult.setCount(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -1084080474:
+                        if (fieldName.equals("NextToken")) {
+                            context.nextToken();
+                            listDatasetsResult.setNextToken(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
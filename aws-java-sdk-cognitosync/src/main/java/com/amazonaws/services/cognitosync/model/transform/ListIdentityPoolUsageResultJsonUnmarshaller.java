@@ -53,29 +53,42 @@ public class ListIdentityPoolUsageResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IdentityPoolUsages", targetDepth)) {
-                    context.nextToken();
-                    listIdentityPoolUsageResult
-                            .setIdentityPoolUsages(new ListUnmarshaller<IdentityPoolUsage>(
-                                    IdentityPoolUsageJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("MaxResults", targetDepth)) {
-                    context.nextToken();
-                    listIdentityPoolUsageResult
-                            .setMaxResults(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Count", targetDepth)) {
-                    context.nextToken();
-                    listIdentityPoolUsageResult
-                            .setCount(context.getUnmarshaller(Integer.class)
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    listIdentityPoolUsageResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -947000916:
+                        if (fieldName.equals("IdentityPoolUsages")) {
+                            context.nextToken();
+                            listIdentityPoolUsageResult
+                                    .setIdentityPoolUsages(new ListUnmarshaller<IdentityPoolUsage>(
+                                            IdentityPoolUsageJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -30019054:
+                        if (fieldName.equals("MaxResults")) {
+                            context.nextToken();
+                            listIdentityPoolUsageResult
+                                    .setMaxResults(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 65298671:
+                        if (fieldName.equals("Count")) {
+                            context.nextToken();
+                            listIdentityPoolUsageResult
+                                    .setCount(context.getUnmarshaller(Integer.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1084080474:
+                        if (fieldName.equals("NextToken")) {
+                            context.nextToken();
+                            listIdentityPoolUsageResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,56 +53,78 @@ public class ListRecordsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Records", targetDepth)) {
-                    context.nextToken();
-                    listRecordsResult.setRecords(new ListUnmarshaller<Record>(
-                            RecordJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    listRecordsResult.setNextToken(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Count", targetDepth)) {
-                    context.nextToken();
-                    listRecordsResult.setCount(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("DatasetSyncCount", targetDepth)) {
-                    context.nextToken();
-                    listRecordsResult.setDatasetSyncCount(context
-                            .getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("LastModifiedBy", targetDepth)) {
-                    context.nextToken();
-                    listRecordsResult.setLastModifiedBy(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MergedDatasetNames", targetDepth)) {
-                    context.nextToken();
-                    listRecordsResult
-                            .setMergedDatasetNames(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1547717086:
+                        if (fieldName.equals("Records")) {
+                            context.nextToken();
+                            listRecordsResult.setRecords(new ListUnmarshaller<Record>(
+                                    RecordJsonUnmarshaller.getInstance())
                                     .unmarshall(context));
-                }
-                if (context.testExpression("DatasetExists", targetDepth)) {
-                    context.nextToken();
-                    listRecordsResult.setDatasetExists(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression(
-                        "DatasetDeletedAfterRequestedSyncCount", targetDepth)) {
-                    context.nextToken();
-                    listRecordsResult
-                            .setDatasetDeletedAfterRequestedSyncCount(context
-                                    .getUnmarshaller(Boolean.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("SyncSessionToken", targetDepth)) {
-                    context.nextToken();
-                    listRecordsResult.setSyncSessionToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1084080474:
+                        if (fieldName.equals("NextToken")) {
+                            context.nextToken();
+                            listRecordsResult.setNextToken(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 65298671:
+                        if (fieldName.equals("Count")) {
+                            context.nextToken();
+                            listRecordsResult.setCount(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 649455036:
+                        if (fieldName.equals("DatasetSyncCount")) {
+                            context.nextToken();
+                            listRecordsResult.setDatasetSyncCount(context
+                                    .getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 404223062:
+                        if (fieldName.equals("LastModifiedBy")) {
+                            context.nextToken();
+                            listRecordsResult.setLastModifiedBy(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2101727004:
+                        if (fieldName.equals("MergedDatasetNames")) {
+                            context.nextToken();
+                            listRecordsResult
+                                    .setMergedDatasetNames(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1476692692:
+                        if (fieldName.equals("DatasetExists")) {
+                            context.nextToken();
+                            listRecordsResult.setDatasetExists(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case -396394367:
+                        if (fieldName.equals("DatasetDeletedAfterRequestedSyncCount")) {
+                            context.nextToken();
+                            listRecordsResult
+                                    .setDatasetDeletedAfterRequestedSyncCount(context
+                                            .getUnmarshaller(Boolean.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -985720994:
+                        if (fieldName.equals("SyncSessionToken")) {
+                            context.nextToken();
+                            listRecordsResult.setSyncSessionToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,16 +53,25 @@ public class PushSyncJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ApplicationArns", targetDepth)) {
-                    context.nextToken();
-                    pushSync.setApplicationArns(new ListUnmarshaller<String>(
-                            context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("RoleArn", targetDepth)) {
-                    context.nextToken();
-                    pushSync.setRoleArn(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2050153222:
+                        if (fieldName.equals("ApplicationArns")) {
+                            context.nextToken();
+                            pushSync.setApplicationArns(new ListUnmarshaller<String>(
+                                    context.getUnmarshaller(String.class))
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1253458457:
+                        if (fieldName.equals("RoleArn")) {
+                            context.nextToken();
+                            pushSync.setRoleArn(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
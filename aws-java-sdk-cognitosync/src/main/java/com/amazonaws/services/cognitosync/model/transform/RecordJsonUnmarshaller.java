@@ -52,36 +52,52 @@ public class RecordJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Key", targetDepth)) {
-                    context.nextToken();
-                    record.setKey(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Value", targetDepth)) {
-                    context.nextToken();
-                    record.setValue(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("SyncCount", targetDepth)) {
-                    context.nextToken();
-                    record.setSyncCount(context.getUnmarshaller(Long.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("LastModifiedDate", targetDepth)) {
-                    context.nextToken();
-                    record.setLastModifiedDate(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("LastModifiedBy", targetDepth)) {
-                    context.nextToken();
-                    record.setLastModifiedBy(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("DeviceLastModifiedDate",
-                        targetDepth)) {
-                    context.nextToken();
-                    record.setDeviceLastModifiedDate(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 75327:
+                        if (fieldName.equals("Key")) {
+                            context.nextToken();
+                            record.setKey(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 82420049:
+                        if (fieldName.equals("Value")) {
+                            context.nextToken();
+                            record.setValue(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1822437612:
+                        if (fieldName.equals("SyncCount")) {
+                            context.nextToken();
+                            record.setSyncCount(context.getUnmarshaller(Long.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1911346157:
+                        if (fieldName.equals("LastModifiedDate")) {
+                            context.nextToken();
+                            record.setLastModifiedDate(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 404223062:
+                        if (fieldName.equals("LastModifiedBy")) {
+                            context.nextToken();
+                            record.setLastModifiedBy(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 481636963:
+                        if (fieldName.equals("DeviceLastModifiedDate")) {
+                            context.nextToken();
+                            record.setDeviceLastModifiedDate(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
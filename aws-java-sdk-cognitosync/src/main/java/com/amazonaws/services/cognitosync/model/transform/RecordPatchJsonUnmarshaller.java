@@ -53,32 +53,46 @@ public class RecordPatchJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Op", targetDepth)) {
-                    context.nextToken();
-                    recordPatch.setOp(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Key", targetDepth)) {
-                    context.nextToken();
-                    recordPatch.setKey(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Value", targetDepth)) {
-                    context.nextToken();
-                    recordPatch.setValue(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("SyncCount", targetDepth)) {
-                    context.nextToken();
-                    recordPatch.setSyncCount(context
-                            .getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("DeviceLastModifiedDate",
-                        targetDepth)) {
-                    context.nextToken();
-                    recordPatch.setDeviceLastModifiedDate(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2561:
+                        if (fieldName.equals("Op")) {
+                            context.nextToken();
+                            recordPatch.setOp(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 75327:
+                        if (fieldName.equals("Key")) {
+                            context.nextToken();
+                            recordPatch.setKey(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 82420049:
+                        if (fieldName.equals("Value")) {
+                            context.nextToken();
+                            recordPatch.setValue(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1822437612:
+                        if (fieldName.equals("SyncCount")) {
+                            context.nextToken();
+                            recordPatch.setSyncCount(context
+                                    .getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 481636963:
+                        if (fieldName.equals("DeviceLastModifiedDate")) {
+                            context.nextToken();
+                            recordPatch.setDeviceLastModifiedDate(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,10 +53,17 @@ public class RegisterDeviceResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DeviceId", targetDepth)) {
-                    context.nextToken();
-                    registerDeviceResult.setDeviceId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1173835313:
+                        if (fieldName.equals("DeviceId")) {
+                            context.nextToken();
+                            registerDeviceResult.setDeviceId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,23 +54,34 @@ public class SetIdentityPoolConfigurationResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IdentityPoolId", targetDepth)) {
-                    context.nextToken();
-                    setIdentityPoolConfigurationResult
-                            .setIdentityPoolId(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("PushSync", targetDepth)) {
-                    context.nextToken();
-                    setIdentityPoolConfigurationResult
-                            .setPushSync(PushSyncJsonUnmarshaller.getInstance()
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("CognitoStreams", targetDepth)) {
-                    context.nextToken();
-                    setIdentityPoolConfigurationResult
-                            .setCognitoStreams(CognitoStreamsJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1177604907:
+                        if (fieldName.equals("IdentityPoolId")) {
+                            context.nextToken();
+                            setIdentityPoolConfigurationResult
+                                    .setIdentityPoolId(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1840612597:
+                        if (fieldName.equals("PushSync")) {
+                            context.nextToken();
+                            setIdentityPoolConfigurationResult
+                                    .setPushSync(PushSyncJsonUnmarshaller.getInstance()
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -110408094:
+                        if (fieldName.equals("CognitoStreams")) {
+                            context.nextToken();
+                            setIdentityPoolConfigurationResult
+                                    .setCognitoStreams(CognitoStreamsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,12 +53,19 @@ public class UpdateRecordsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Records", targetDepth)) {
-                    context.nextToken();
-                    updateRecordsResult
-                            .setRecords(new ListUnmarshaller<Record>(
-                                    RecordJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1547717086:
+                        if (fieldName.equals("Records")) {
+                            context.nextToken();
+                            updateRecordsResult
+                                    .setRecords(new ListUnmarshaller<Record>(
+                                            RecordJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
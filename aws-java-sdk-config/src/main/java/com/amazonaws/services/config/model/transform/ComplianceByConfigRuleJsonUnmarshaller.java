@@ -53,16 +53,25 @@ public class ComplianceByConfigRuleJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ConfigRuleName", targetDepth)) {
-                    context.nextToken();
-                    complianceByConfigRule.setConfigRuleName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Compliance", targetDepth)) {
-                    context.nextToken();
-                    complianceByConfigRule
-                            .setCompliance(ComplianceJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 877721897:
+                        if (fieldName.equals("ConfigRuleName")) {
+                            context.nextToken();
+                            complianceByConfigRule.setConfigRuleName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1455393851:
+                        if (fieldName.equals("Compliance")) {
+                            context.nextToken();
+                            complianceByConfigRule
+                                    .setCompliance(ComplianceJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,21 +53,32 @@ public class ComplianceByResourceJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ResourceType", targetDepth)) {
-                    context.nextToken();
-                    complianceByResource.setResourceType(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ResourceId", targetDepth)) {
-                    context.nextToken();
-                    complianceByResource.setResourceId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Compliance", targetDepth)) {
-                    context.nextToken();
-                    complianceByResource
-                            .setCompliance(ComplianceJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -220044152:
+                        if (fieldName.equals("ResourceType")) {
+                            context.nextToken();
+                            complianceByResource.setResourceType(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 647814633:
+                        if (fieldName.equals("ResourceId")) {
+                            context.nextToken();
+                            complianceByResource.setResourceId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1455393851:
+                        if (fieldName.equals("Compliance")) {
+                            context.nextToken();
+                            complianceByResource
+                                    .setCompliance(ComplianceJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
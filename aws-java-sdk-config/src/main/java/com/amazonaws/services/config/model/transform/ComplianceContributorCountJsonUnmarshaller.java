@@ -53,17 +53,26 @@ public class ComplianceContributorCountJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CappedCount", targetDepth)) {
-                    context.nextToken();
-                    complianceContributorCount
-                            .setCappedCount(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("CapExceeded", targetDepth)) {
-                    context.nextToken();
-                    complianceContributorCount
-                            .setCapExceeded(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1702967026:
+                        if (fieldName.equals("CappedCount")) {
+                            context.nextToken();
+                            complianceContributorCount
+                                    .setCappedCount(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -538276571:
+                        if (fieldName.equals("CapExceeded")) {
+                            context.nextToken();
+                            complianceContributorCount
+                                    .setCapExceeded(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
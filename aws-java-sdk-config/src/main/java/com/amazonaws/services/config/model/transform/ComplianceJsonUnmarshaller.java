@@ -53,17 +53,25 @@ public class ComplianceJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ComplianceType", targetDepth)) {
-                    context.nextToken();
-                    compliance.setComplianceType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ComplianceContributorCount",
-                        targetDepth)) {
-                    context.nextToken();
-                    compliance
-                            .setComplianceContributorCount(ComplianceContributorCountJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1753155051:
+                        if (fieldName.equals("ComplianceType")) {
+                            context.nextToken();
+                            compliance.setComplianceType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 601836367:
+                        if (fieldName.equals("ComplianceContributorCount")) {
+                            context.nextToken();
+                            compliance
+                                    .setComplianceContributorCount(ComplianceContributorCountJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
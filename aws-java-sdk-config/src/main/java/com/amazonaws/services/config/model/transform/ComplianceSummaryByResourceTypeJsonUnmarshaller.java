@@ -53,16 +53,25 @@ public class ComplianceSummaryByResourceTypeJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ResourceType", targetDepth)) {
-                    context.nextToken();
-                    complianceSummaryByResourceType.setResourceType(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ComplianceSummary", targetDepth)) {
-                    context.nextToken();
-                    complianceSummaryByResourceType
-                            .setComplianceSummary(ComplianceSummaryJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -220044152:
+                        if (fieldName.equals("ResourceType")) {
+                            context.nextToken();
+                            complianceSummaryByResourceType.setResourceType(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1850706667:
+                        if (fieldName.equals("ComplianceSummary")) {
+                            context.nextToken();
+                            complianceSummaryByResourceType
+                                    .setComplianceSummary(ComplianceSummaryJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
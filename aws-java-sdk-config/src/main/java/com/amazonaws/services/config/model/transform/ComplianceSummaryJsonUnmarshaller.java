@@ -53,26 +53,34 @@ public class ComplianceSummaryJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CompliantResourceCount",
-                        targetDepth)) {
-                    context.nextToken();
-                    complianceSummary
-                            .setCompliantResourceCount(ComplianceContributorCountJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("NonCompliantResourceCount",
-                        targetDepth)) {
-                    context.nextToken();
-                    complianceSummary
-                            .setNonCompliantResourceCount(ComplianceContributorCountJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ComplianceSummaryTimestamp",
-                        targetDepth)) {
-                    context.nextToken();
-                    complianceSummary.setComplianceSummaryTimestamp(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 511640550:
+                        if (fieldName.equals("CompliantResourceCount")) {
+                            context.nextToken();
+                            complianceSummary
+                                    .setCompliantResourceCount(ComplianceContributorCountJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1959573805:
+                        if (fieldName.equals("NonCompliantResourceCount")) {
+                            context.nextToken();
+                            complianceSummary
+                                    .setNonCompliantResourceCount(ComplianceContributorCountJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1951279509:
+                        if (fieldName.equals("ComplianceSummaryTimestamp")) {
+                            context.nextToken();
+                            complianceSummary.setComplianceSummaryTimestamp(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
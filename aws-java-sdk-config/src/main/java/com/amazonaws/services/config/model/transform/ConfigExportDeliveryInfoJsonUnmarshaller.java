@@ -53,38 +53,55 @@ public class ConfigExportDeliveryInfoJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("lastStatus", targetDepth)) {
-                    context.nextToken();
-                    configExportDeliveryInfo.setLastStatus(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("lastErrorCode", targetDepth)) {
-                    context.nextToken();
-                    configExportDeliveryInfo.setLastErrorCode(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("lastErrorMessage", targetDepth)) {
-                    context.nextToken();
-                    configExportDeliveryInfo.setLastErrorMessage(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("lastAttemptTime", targetDepth)) {
-                    context.nextToken();
-                    configExportDeliveryInfo.setLastAttemptTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("lastSuccessfulTime", targetDepth)) {
-                    context.nextToken();
-                    configExportDeliveryInfo.setLastSuccessfulTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("nextDeliveryTime", targetDepth)) {
-                    context.nextToken();
-                    configExportDeliveryInfo.setNextDeliveryTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1939244584:
+                        if (fieldName.equals("lastStatus")) {
+                            context.nextToken();
+                            configExportDeliveryInfo.setLastStatus(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1465334241:
+                        if (fieldName.equals("lastErrorCode")) {
+                            context.nextToken();
+                            configExportDeliveryInfo.setLastErrorCode(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 288400021:
+                        if (fieldName.equals("lastErrorMessage")) {
+                            context.nextToken();
+                            configExportDeliveryInfo.setLastErrorMessage(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 349644484:
+                        if (fieldName.equals("lastAttemptTime")) {
+                            context.nextToken();
+                            configExportDeliveryInfo.setLastAttemptTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case -601574211:
+                        if (fieldName.equals("lastSuccessfulTime")) {
+                            context.nextToken();
+                            configExportDeliveryInfo.setLastSuccessfulTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case -2046504076:
+                        if (fieldName.equals("nextDeliveryTime")) {
+                            context.nextToken();
+                            configExportDeliveryInfo.setNextDeliveryTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
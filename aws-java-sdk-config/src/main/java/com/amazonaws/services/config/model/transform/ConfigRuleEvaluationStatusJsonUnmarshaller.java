@@ -53,75 +53,97 @@ public class ConfigRuleEvaluationStatusJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ConfigRuleName", targetDepth)) {
-                    context.nextToken();
-                    configRuleEvaluationStatus.setConfigRuleName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ConfigRuleArn", targetDepth)) {
-                    context.nextToken();
-                    configRuleEvaluationStatus.setConfigRuleArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ConfigRuleId", targetDepth)) {
-                    context.nextToken();
-                    configRuleEvaluationStatus.setConfigRuleId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LastSuccessfulInvocationTime",
-                        targetDepth)) {
-                    context.nextToken();
-                    configRuleEvaluationStatus
-                            .setLastSuccessfulInvocationTime(context
-                                    .getUnmarshaller(java.util.Date.class)
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("LastFailedInvocationTime",
-                        targetDepth)) {
-                    context.nextToken();
-                    configRuleEvaluationStatus
-                            .setLastFailedInvocationTime(context
-                                    .getUnmarshaller(java.util.Date.class)
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("LastSuccessfulEvaluationTime",
-                        targetDepth)) {
-                    context.nextToken();
-                    configRuleEvaluationStatus
-                            .setLastSuccessfulEvaluationTime(context
-                                    .getUnmarshaller(java.util.Date.class)
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("LastFailedEvaluationTime",
-                        targetDepth)) {
-                    context.nextToken();
-                    configRuleEvaluationStatus
-                            .setLastFailedEvaluationTime(context
-                                    .getUnmarshaller(java.util.Date.class)
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("FirstActivatedTime", targetDepth)) {
-                    context.nextToken();
-                    configRuleEvaluationStatus.setFirstActivatedTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("LastErrorCode", targetDepth)) {
-                    context.nextToken();
-                    configRuleEvaluationStatus.setLastErrorCode(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LastErrorMessage", targetDepth)) {
-                    context.nextToken();
-                    configRuleEvaluationStatus.setLastErrorMessage(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("FirstEvaluationStarted",
-                        targetDepth)) {
-                    context.nextToken();
-                    configRuleEvaluationStatus
-                            .setFirstEvaluationStarted(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 877721897:
+                        if (fieldName.equals("ConfigRuleName")) {
+                            context.nextToken();
+                            configRuleEvaluationStatus.setConfigRuleName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1829416959:
+                        if (fieldName.equals("ConfigRuleArn")) {
+                            context.nextToken();
+                            configRuleEvaluationStatus.setConfigRuleArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 336108345:
+                        if (fieldName.equals("ConfigRuleId")) {
+                            context.nextToken();
+                            configRuleEvaluationStatus.setConfigRuleId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -668253811:
+                        if (fieldName.equals("LastSuccessfulInvocationTime")) {
+                            context.nextToken();
+                            configRuleEvaluationStatus
+                                    .setLastSuccessfulInvocationTime(context
+                                            .getUnmarshaller(java.util.Date.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1110895856:
+                        if (fieldName.equals("LastFailedInvocationTime")) {
+                            context.nextToken();
+                            configRuleEvaluationStatus
+                                    .setLastFailedInvocationTime(context
+                                            .getUnmarshaller(java.util.Date.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1850369479:
+                        if (fieldName.equals("LastSuccessfulEvaluationTime")) {
+                            context.nextToken();
+                            configRuleEvaluationStatus
+                                    .setLastSuccessfulEvaluationTime(context
+                                            .getUnmarshaller(java.util.Date.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -71219812:
+                        if (fieldName.equals("LastFailedEvaluationTime")) {
+                            context.nextToken();
+                            configRuleEvaluationStatus
+                                    .setLastFailedEvaluationTime(context
+                                            .getUnmarshaller(java.util.Date.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1887488114:
+                        if (fieldName.equals("FirstActivatedTime")) {
+                            context.nextToken();
+                            configRuleEvaluationStatus.setFirstActivatedTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case -666372609:
+                        if (fieldName.equals("LastErrorCode")) {
+                            context.nextToken();
+                            configRuleEvaluationStatus.setLastErrorCode(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -554375499:
+                        if (fieldName.equals("LastErrorMessage")) {
+                            context.nextToken();
+                            configRuleEvaluationStatus.setLastErrorMessage(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 272647413:
+                        if (fieldName.equals("FirstEvaluationStarted")) {
+                            context.nextToken();
+                            configRuleEvaluationStatus
+                                    .setFirstEvaluationStarted(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,51 +53,73 @@ public class ConfigRuleJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ConfigRuleName", targetDepth)) {
-                    context.nextToken();
-                    configRule.setConfigRuleName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ConfigRuleArn", targetDepth)) {
-                    context.nextToken();
-                    configRule.setConfigRuleArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ConfigRuleId", targetDepth)) {
-                    context.nextToken();
-                    configRule.setConfigRuleId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Description", targetDepth)) {
-                    context.nextToken();
-                    configRule.setDescription(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Scope", targetDepth)) {
-                    context.nextToken();
-                    configRule.setScope(ScopeJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Source", targetDepth)) {
-                    context.nextToken();
-                    configRule.setSource(SourceJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
-                }
-                if (context.testExpression("InputParameters", targetDepth)) {
-                    context.nextToken();
-                    configRule.setInputParameters(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("MaximumExecutionFrequency",
-                        targetDepth)) {
-                    context.nextToken();
-                    configRule.setMaximumExecutionFrequency(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ConfigRuleState", targetDepth)) {
-                    context.nextToken();
-                    configRule.setConfigRuleState(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 877721897:
+                        if (fieldName.equals("ConfigRuleName")) {
+                            context.nextToken();
+                            configRule.setConfigRuleName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1829416959:
+                        if (fieldName.equals("ConfigRuleArn")) {
+                            context.nextToken();
+                            configRule.setConfigRuleArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 336108345:
+                        if (fieldName.equals("ConfigRuleId")) {
+                            context.nextToken();
+                            configRule.setConfigRuleId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -56677412:
+                        if (fieldName.equals("Description")) {
+                            context.nextToken();
+                            configRule.setDescription(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 79711796:
+                        if (fieldName.equals("Scope")) {
+                            context.nextToken();
+                            configRule.setScope(ScopeJsonUnmarshaller.getInstance()
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1812638661:
+                        if (fieldName.equals("Source")) {
+                            context.nextToken();
+                            configRule.setSource(SourceJsonUnmarshaller.getInstance()
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1809057484:
+                        if (fieldName.equals("InputParameters")) {
+                            context.nextToken();
+                            configRule.setInputParameters(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -137748668:
+                        if (fieldName.equals("MaximumExecutionFrequency")) {
+                            context.nextToken();
+                            configRule.setMaximumExecutionFrequency(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1444747699:
+                        if (fieldName.equals("ConfigRuleState")) {
+                            context.nextToken();
+                            configRule.setConfigRuleState(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,11 +53,18 @@ public class ConfigSnapshotDeliveryPropertiesJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("deliveryFrequency", targetDepth)) {
-                    context.nextToken();
-                    configSnapshotDeliveryProperties
-                            .setDeliveryFrequency(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1052687304:
+                        if (fieldName.equals("deliveryFrequency")) {
+                            context.nextToken();
+                            configSnapshotDeliveryProperties
+                                    .setDeliveryFrequency(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
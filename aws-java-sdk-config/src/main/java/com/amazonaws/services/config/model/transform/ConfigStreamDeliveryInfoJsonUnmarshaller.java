@@ -53,26 +53,39 @@ public class ConfigStreamDeliveryInfoJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("lastStatus", targetDepth)) {
-                    context.nextToken();
-                    configStreamDeliveryInfo.setLastStatus(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("lastErrorCode", targetDepth)) {
-                    context.nextToken();
-                    configStreamDeliveryInfo.setLastErrorCode(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("lastErrorMessage", targetDepth)) {
-                    context.nextToken();
-                    configStreamDeliveryInfo.setLastErrorMessage(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("lastStatusChangeTime", targetDepth)) {
-                    context.nextToken();
-                    configStreamDeliveryInfo.setLastStatusChangeTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1939244584:
+                        if (fieldName.equals("lastStatus")) {
+                            context.nextToken();
+                            configStreamDeliveryInfo.setLastStatus(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1465334241:
+                        if (fieldName.equals("lastErrorCode")) {
+                            context.nextToken();
+                            configStreamDeliveryInfo.setLastErrorCode(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 288400021:
+                        if (fieldName.equals("lastErrorMessage")) {
+                            context.nextToken();
+                            configStreamDeliveryInfo.setLastErrorMessage(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1629639397:
+                        if (fieldName.equals("lastStatusChangeTime")) {
+                            context.nextToken();
+                            configStreamDeliveryInfo.setLastStatusChangeTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,102 +53,138 @@ public class ConfigurationItemJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("version", targetDepth)) {
-                    context.nextToken();
-                    configurationItem.setVersion(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("accountId", targetDepth)) {
-                    context.nextToken();
-                    configurationItem.setAccountId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("configurationItemCaptureTime",
-                        targetDepth)) {
-                    context.nextToken();
-                    configurationItem.setConfigurationItemCaptureTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("configurationItemStatus",
-                        targetDepth)) {
-                    context.nextToken();
-                    configurationItem.setConfigurationItemStatus(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("configurationStateId", targetDepth)) {
-                    context.nextToken();
-                    configurationItem.setConfigurationStateId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("configurationItemMD5Hash",
-                        targetDepth)) {
-                    context.nextToken();
-                    configurationItem.setConfigurationItemMD5Hash(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("arn", targetDepth)) {
-                    context.nextToken();
-                    configurationItem.setArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("resourceType", targetDepth)) {
-                    context.nextToken();
-                    configurationItem.setResourceType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("resourceId", targetDepth)) {
-                    context.nextToken();
-                    configurationItem.setResourceId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("resourceName", targetDepth)) {
-                    context.nextToken();
-                    configurationItem.setResourceName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("awsRegion", targetDepth)) {
-                    context.nextToken();
-                    configurationItem.setAwsRegion(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("availabilityZone", targetDepth)) {
-                    context.nextToken();
-                    configurationItem.setAvailabilityZone(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("resourceCreationTime", targetDepth)) {
-                    context.nextToken();
-                    configurationItem.setResourceCreationTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("tags", targetDepth)) {
-                    context.nextToken();
-                    configurationItem
-                            .setTags(new MapUnmarshaller<String, String>(
-                                    context.getUnmarshaller(String.class),
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("relatedEvents", targetDepth)) {
-                    context.nextToken();
-                    configurationItem
-                            .setRelatedEvents(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("relationships", targetDepth)) {
-                    context.nextToken();
-                    configurationItem
-                            .setRelationships(new ListUnmarshaller<Relationship>(
-                                    RelationshipJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("configuration", targetDepth)) {
-                    context.nextToken();
-                    configurationItem.setConfiguration(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 351608024:
+                        if (fieldName.equals("version")) {
+                            context.nextToken();
+                            configurationItem.setVersion(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1827029976:
+                        if (fieldName.equals("accountId")) {
+                            context.nextToken();
+                            configurationItem.setAccountId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 10946122:
+                        if (fieldName.equals("configurationItemCaptureTime")) {
+                            context.nextToken();
+                            configurationItem.setConfigurationItemCaptureTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case -231050629:
+                        if (fieldName.equals("configurationItemStatus")) {
+                            context.nextToken();
+                            configurationItem.setConfigurationItemStatus(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -364400714:
+                        if (fieldName.equals("configurationStateId")) {
+                            context.nextToken();
+                            configurationItem.setConfigurationStateId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1018853789:
+                        if (fieldName.equals("configurationItemMD5Hash")) {
+                            context.nextToken();
+                            configurationItem.setConfigurationItemMD5Hash(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 96861:
+                        if (fieldName.equals("arn")) {
+                            context.nextToken();
+                            configurationItem.setArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -384364440:
+                        if (fieldName.equals("resourceType")) {
+                            context.nextToken();
+                            configurationItem.setResourceType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1345650231:
+                        if (fieldName.equals("resourceId")) {
+                            context.nextToken();
+                            configurationItem.setResourceId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -384566343:
+                        if (fieldName.equals("resourceName")) {
+                            context.nextToken();
+                            configurationItem.setResourceName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -860644271:
+                        if (fieldName.equals("awsRegion")) {
+                            context.nextToken();
+                            configurationItem.setAwsRegion(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1674934361:
+                        if (fieldName.equals("availabilityZone")) {
+                            context.nextToken();
+                            configurationItem.setAvailabilityZone(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -2019286662:
+                        if (fieldName.equals("resourceCreationTime")) {
+                            context.nextToken();
+                            configurationItem.setResourceCreationTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case 3552281:
+                        if (fieldName.equals("tags")) {
+                            context.nextToken();
+                            configurationItem
+                                    .setTags(new MapUnmarshaller<String, String>(
+                                            context.getUnmarshaller(String.class),
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -252486364:
+                        if (fieldName.equals("relatedEvents")) {
+                            context.nextToken();
+                            configurationItem
+                                    .setRelatedEvents(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 472535355:
+                        if (fieldName.equals("relationships")) {
+                            context.nextToken();
+                            configurationItem
+                                    .setRelationships(new ListUnmarshaller<Relationship>(
+                                            RelationshipJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1932752118:
+                        if (fieldName.equals("configuration")) {
+                            context.nextToken();
+                            configurationItem.setConfiguration(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,21 +53,32 @@ public class ConfigurationRecorderJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    configurationRecorder.setName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("roleARN", targetDepth)) {
-                    context.nextToken();
-                    configurationRecorder.setRoleARN(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("recordingGroup", targetDepth)) {
-                    context.nextToken();
-                    configurationRecorder
-                            .setRecordingGroup(RecordingGroupJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3373707:
+                        if (fieldName.equals("name")) {
+                            context.nextToken();
+                            configurationRecorder.setName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1376854535:
+                        if (fieldName.equals("roleARN")) {
+                            context.nextToken();
+                            configurationRecorder.setRoleARN(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -185886962:
+                        if (fieldName.equals("recordingGroup")) {
+                            context.nextToken();
+                            configurationRecorder
+                                    .setRecordingGroup(RecordingGroupJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,50 +53,71 @@ public class ConfigurationRecorderStatusJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    configurationRecorderStatus.setName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("lastStartTime", targetDepth)) {
-                    context.nextToken();
-                    configurationRecorderStatus.setLastStartTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("lastStopTime", targetDepth)) {
-                    context.nextToken();
-                    configurationRecorderStatus.setLastStopTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("recording", targetDepth)) {
-                    context.nextToken();
-                    configurationRecorderStatus
-                            .setRecording(context
-                                    .getUnmarshaller(Boolean.class).unmarshall(
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3373707:
+                        if (fieldName.equals("name")) {
+                            context.nextToken();
+                            configurationRecorderStatus.setName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 371302489:
+                        if (fieldName.equals("lastStartTime")) {
+                            context.nextToken();
+                            configurationRecorderStatus.setLastStartTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
                                             context));
-                }
-                if (context.testExpression("lastStatus", targetDepth)) {
-                    context.nextToken();
-                    configurationRecorderStatus.setLastStatus(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("lastErrorCode", targetDepth)) {
-                    context.nextToken();
-                    configurationRecorderStatus.setLastErrorCode(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("lastErrorMessage", targetDepth)) {
-                    context.nextToken();
-                    configurationRecorderStatus.setLastErrorMessage(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("lastStatusChangeTime", targetDepth)) {
-                    context.nextToken();
-                    configurationRecorderStatus.setLastStatusChangeTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
+                        }
+                        break;
+                    case -5636443:
+                        if (fieldName.equals("lastStopTime")) {
+                            context.nextToken();
+                            configurationRecorderStatus.setLastStopTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case 993558001:
+                        if (fieldName.equals("recording")) {
+                            context.nextToken();
+                            configurationRecorderStatus
+                                    .setRecording(context
+                                            .getUnmarshaller(Boolean.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case 1939244584:
+                        if (fieldName.equals("lastStatus")) {
+                            context.nextToken();
+                            configurationRecorderStatus.setLastStatus(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1465334241:
+                        if (fieldName.equals("lastErrorCode")) {
+                            context.nextToken();
+                            configurationRecorderStatus.setLastErrorCode(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 288400021:
+                        if (fieldName.equals("lastErrorMessage")) {
+                            context.nextToken();
+                            configurationRecorderStatus.setLastErrorMessage(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1629639397:
+                        if (fieldName.equals("lastStatusChangeTime")) {
+                            context.nextToken();
+                            configurationRecorderStatus.setLastStatusChangeTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,10 +53,17 @@ public class DeliverConfigSnapshotResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("configSnapshotId", targetDepth)) {
-                    context.nextToken();
-                    deliverConfigSnapshotResult.setConfigSnapshotId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1956891935:
+                        if (fieldName.equals("configSnapshotId")) {
+                            context.nextToken();
+                            deliverConfigSnapshotResult.setConfigSnapshotId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,32 +53,46 @@ public class DeliveryChannelJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    deliveryChannel.setName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("s3BucketName", targetDepth)) {
-                    context.nextToken();
-                    deliveryChannel.setS3BucketName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("s3KeyPrefix", targetDepth)) {
-                    context.nextToken();
-                    deliveryChannel.setS3KeyPrefix(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("snsTopicARN", targetDepth)) {
-                    context.nextToken();
-                    deliveryChannel.setSnsTopicARN(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("configSnapshotDeliveryProperties",
-                        targetDepth)) {
-                    context.nextToken();
-                    deliveryChannel
-                            .setConfigSnapshotDeliveryProperties(ConfigSnapshotDeliveryPropertiesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3373707:
+                        if (fieldName.equals("name")) {
+                            context.nextToken();
+                            deliveryChannel.setName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -675088939:
+                        if (fieldName.equals("s3BucketName")) {
+                            context.nextToken();
+                            deliveryChannel.setS3BucketName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1995657327:
+                        if (fieldName.equals("s3KeyPrefix")) {
+                            context.nextToken();
+                            deliveryChannel.setS3KeyPrefix(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1070831686:
+                        if (fieldName.equals("snsTopicARN")) {
+                            context.nextToken();
+                            deliveryChannel.setSnsTopicARN(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 656211469:
+                        if (fieldName.equals("configSnapshotDeliveryProperties")) {
+                            context.nextToken();
+                            deliveryChannel
+                                    .setConfigSnapshotDeliveryProperties(ConfigSnapshotDeliveryPropertiesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,31 +53,41 @@ public class DeliveryChannelStatusJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    deliveryChannelStatus.setName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("configSnapshotDeliveryInfo",
-                        targetDepth)) {
-                    context.nextToken();
-                    deliveryChannelStatus
-                            .setConfigSnapshotDeliveryInfo(ConfigExportDeliveryInfoJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("configHistoryDeliveryInfo",
-                        targetDepth)) {
-                    context.nextToken();
-                    deliveryChannelStatus
-                            .setConfigHistoryDeliveryInfo(ConfigExportDeliveryInfoJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("configStreamDeliveryInfo",
-                        targetDepth)) {
-                    context.nextToken();
-                    deliveryChannelStatus
-                            .setConfigStreamDeliveryInfo(ConfigStreamDeliveryInfoJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3373707:
+                        if (fieldName.equals("name")) {
+                            context.nextToken();
+                            deliveryChannelStatus.setName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1739915528:
+                        if (fieldName.equals("configSnapshotDeliveryInfo")) {
+                            context.nextToken();
+                            deliveryChannelStatus
+                                    .setConfigSnapshotDeliveryInfo(ConfigExportDeliveryInfoJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1640595756:
+                        if (fieldName.equals("configHistoryDeliveryInfo")) {
+                            context.nextToken();
+                            deliveryChannelStatus
+                                    .setConfigHistoryDeliveryInfo(ConfigExportDeliveryInfoJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1216614076:
+                        if (fieldName.equals("configStreamDeliveryInfo")) {
+                            context.nextToken();
+                            deliveryChannelStatus
+                                    .setConfigStreamDeliveryInfo(ConfigStreamDeliveryInfoJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
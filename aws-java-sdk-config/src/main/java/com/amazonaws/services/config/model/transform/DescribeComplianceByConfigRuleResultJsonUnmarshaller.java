@@ -54,18 +54,26 @@ public class DescribeComplianceByConfigRuleResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ComplianceByConfigRules",
-                        targetDepth)) {
-                    context.nextToken();
-                    describeComplianceByConfigRuleResult
-                            .setComplianceByConfigRules(new ListUnmarshaller<ComplianceByConfigRule>(
-                                    ComplianceByConfigRuleJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeComplianceByConfigRuleResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1266779773:
+                        if (fieldName.equals("ComplianceByConfigRules")) {
+                            context.nextToken();
+                            describeComplianceByConfigRuleResult
+                                    .setComplianceByConfigRules(new ListUnmarshaller<ComplianceByConfigRule>(
+                                            ComplianceByConfigRuleJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1084080474:
+                        if (fieldName.equals("NextToken")) {
+                            context.nextToken();
+                            describeComplianceByConfigRuleResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
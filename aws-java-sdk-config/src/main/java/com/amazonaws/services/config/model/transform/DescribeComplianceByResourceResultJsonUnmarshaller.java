@@ -54,18 +54,26 @@ public class DescribeComplianceByResourceResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context
-                        .testExpression("ComplianceByResources", targetDepth)) {
-                    context.nextToken();
-                    describeComplianceByResourceResult
-                            .setComplianceByResources(new ListUnmarshaller<ComplianceByResource>(
-                                    ComplianceByResourceJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeComplianceByResourceResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 321748051:
+                        if (fieldName.equals("ComplianceByResources")) {
+                            context.nextToken();
+                            describeComplianceByResourceResult
+                                    .setComplianceByResources(new ListUnmarshaller<ComplianceByResource>(
+                                            ComplianceByResourceJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1084080474:
+                        if (fieldName.equals("NextToken")) {
+                            context.nextToken();
+                            describeComplianceByResourceResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,13 +54,19 @@ public class DescribeConfigRuleEvaluationStatusResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ConfigRulesEvaluationStatus",
-                        targetDepth)) {
-                    context.nextToken();
-                    describeConfigRuleEvaluationStatusResult
-                            .setConfigRulesEvaluationStatus(new ListUnmarshaller<ConfigRuleEvaluationStatus>(
-                                    ConfigRuleEvaluationStatusJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 979621667:
+                        if (fieldName.equals("ConfigRulesEvaluationStatus")) {
+                            context.nextToken();
+                            describeConfigRuleEvaluationStatusResult
+                                    .setConfigRulesEvaluationStatus(new ListUnmarshaller<ConfigRuleEvaluationStatus>(
+                                            ConfigRuleEvaluationStatusJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
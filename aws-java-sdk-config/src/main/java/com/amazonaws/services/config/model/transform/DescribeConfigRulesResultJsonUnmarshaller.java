@@ -53,17 +53,26 @@ public class DescribeConfigRulesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ConfigRules", targetDepth)) {
-                    context.nextToken();
-                    describeConfigRulesResult
-                            .setConfigRules(new ListUnmarshaller<ConfigRule>(
-                                    ConfigRuleJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeConfigRulesResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1673410229:
+                        if (fieldName.equals("ConfigRules")) {
+                            context.nextToken();
+                            describeConfigRulesResult
+                                    .setConfigRules(new ListUnmarshaller<ConfigRule>(
+                                            ConfigRuleJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1084080474:
+                        if (fieldName.equals("NextToken")) {
+                            context.nextToken();
+                            describeConfigRulesResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,13 +54,19 @@ public class DescribeConfigurationRecorderStatusResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ConfigurationRecordersStatus",
-                        targetDepth)) {
-                    context.nextToken();
-                    describeConfigurationRecorderStatusResult
-                            .setConfigurationRecordersStatus(new ListUnmarshaller<ConfigurationRecorderStatus>(
-                                    ConfigurationRecorderStatusJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1810369553:
+                        if (fieldName.equals("ConfigurationRecordersStatus")) {
+                            context.nextToken();
+                            describeConfigurationRecorderStatusResult
+                                    .setConfigurationRecordersStatus(new ListUnmarshaller<ConfigurationRecorderStatus>(
+                                            ConfigurationRecorderStatusJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,13 +54,19 @@ public class DescribeConfigurationRecordersResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ConfigurationRecorders",
-                        targetDepth)) {
-                    context.nextToken();
-                    describeConfigurationRecordersResult
-                            .setConfigurationRecorders(new ListUnmarshaller<ConfigurationRecorder>(
-                                    ConfigurationRecorderJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1576336191:
+                        if (fieldName.equals("ConfigurationRecorders")) {
+                            context.nextToken();
+                            describeConfigurationRecordersResult
+                                    .setConfigurationRecorders(new ListUnmarshaller<ConfigurationRecorder>(
+                                            ConfigurationRecorderJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,13 +54,19 @@ public class DescribeDeliveryChannelStatusResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DeliveryChannelsStatus",
-                        targetDepth)) {
-                    context.nextToken();
-                    describeDeliveryChannelStatusResult
-                            .setDeliveryChannelsStatus(new ListUnmarshaller<DeliveryChannelStatus>(
-                                    DeliveryChannelStatusJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1459921642:
+                        if (fieldName.equals("DeliveryChannelsStatus")) {
+                            context.nextToken();
+                            describeDeliveryChannelStatusResult
+                                    .setDeliveryChannelsStatus(new ListUnmarshaller<DeliveryChannelStatus>(
+                                            DeliveryChannelStatusJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
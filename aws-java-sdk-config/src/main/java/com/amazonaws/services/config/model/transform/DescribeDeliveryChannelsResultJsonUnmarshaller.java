@@ -53,12 +53,19 @@ public class DescribeDeliveryChannelsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DeliveryChannels", targetDepth)) {
-                    context.nextToken();
-                    describeDeliveryChannelsResult
-                            .setDeliveryChannels(new ListUnmarshaller<DeliveryChannel>(
-                                    DeliveryChannelJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -66669564:
+                        if (fieldName.equals("DeliveryChannels")) {
+                            context.nextToken();
+                            describeDeliveryChannelsResult
+                                    .setDeliveryChannels(new ListUnmarshaller<DeliveryChannel>(
+                                            DeliveryChannelJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,31 +53,45 @@ public class EvaluationJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ComplianceResourceType",
-                        targetDepth)) {
-                    context.nextToken();
-                    evaluation.setComplianceResourceType(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ComplianceResourceId", targetDepth)) {
-                    context.nextToken();
-                    evaluation.setComplianceResourceId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ComplianceType", targetDepth)) {
-                    context.nextToken();
-                    evaluation.setComplianceType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Annotation", targetDepth)) {
-                    context.nextToken();
-                    evaluation.setAnnotation(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("OrderingTimestamp", targetDepth)) {
-                    context.nextToken();
-                    evaluation.setOrderingTimestamp(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1025347517:
+                        if (fieldName.equals("ComplianceResourceType")) {
+                            context.nextToken();
+                            evaluation.setComplianceResourceType(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1122853788:
+                        if (fieldName.equals("ComplianceResourceId")) {
+                            context.nextToken();
+                            evaluation.setComplianceResourceId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1753155051:
+                        if (fieldName.equals("ComplianceType")) {
+                            context.nextToken();
+                            evaluation.setComplianceType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 438421327:
+                        if (fieldName.equals("Annotation")) {
+                            context.nextToken();
+                            evaluation.setAnnotation(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1437027966:
+                        if (fieldName.equals("OrderingTimestamp")) {
+                            context.nextToken();
+                            evaluation.setOrderingTimestamp(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,18 +53,26 @@ public class EvaluationResultIdentifierJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("EvaluationResultQualifier",
-                        targetDepth)) {
-                    context.nextToken();
-                    evaluationResultIdentifier
-                            .setEvaluationResultQualifier(EvaluationResultQualifierJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("OrderingTimestamp", targetDepth)) {
-                    context.nextToken();
-                    evaluationResultIdentifier.setOrderingTimestamp(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 557009425:
+                        if (fieldName.equals("EvaluationResultQualifier")) {
+                            context.nextToken();
+                            evaluationResultIdentifier
+                                    .setEvaluationResultQualifier(EvaluationResultQualifierJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1437027966:
+                        if (fieldName.equals("OrderingTimestamp")) {
+                            context.nextToken();
+                            evaluationResultIdentifier.setOrderingTimestamp(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,40 +53,55 @@ public class EvaluationResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("EvaluationResultIdentifier",
-                        targetDepth)) {
-                    context.nextToken();
-                    evaluationResult
-                            .setEvaluationResultIdentifier(EvaluationResultIdentifierJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ComplianceType", targetDepth)) {
-                    context.nextToken();
-                    evaluationResult.setComplianceType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ResultRecordedTime", targetDepth)) {
-                    context.nextToken();
-                    evaluationResult.setResultRecordedTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context
-                        .testExpression("ConfigRuleInvokedTime", targetDepth)) {
-                    context.nextToken();
-                    evaluationResult.setConfigRuleInvokedTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("Annotation", targetDepth)) {
-                    context.nextToken();
-                    evaluationResult.setAnnotation(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ResultToken", targetDepth)) {
-                    context.nextToken();
-                    evaluationResult.setResultToken(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1499561950:
+                        if (fieldName.equals("EvaluationResultIdentifier")) {
+                            context.nextToken();
+                            evaluationResult
+                                    .setEvaluationResultIdentifier(EvaluationResultIdentifierJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1753155051:
+                        if (fieldName.equals("ComplianceType")) {
+                            context.nextToken();
+                            evaluationResult.setComplianceType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 568929402:
+                        if (fieldName.equals("ResultRecordedTime")) {
+                            context.nextToken();
+                            evaluationResult.setResultRecordedTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case -1944506501:
+                        if (fieldName.equals("ConfigRuleInvokedTime")) {
+                            context.nextToken();
+                            evaluationResult.setConfigRuleInvokedTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case 438421327:
+                        if (fieldName.equals("Annotation")) {
+                            context.nextToken();
+                            evaluationResult.setAnnotation(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1120482236:
+                        if (fieldName.equals("ResultToken")) {
+                            context.nextToken();
+                            evaluationResult.setResultToken(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
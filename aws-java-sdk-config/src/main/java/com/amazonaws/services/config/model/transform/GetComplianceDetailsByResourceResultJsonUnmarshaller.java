@@ -54,17 +54,26 @@ public class GetComplianceDetailsByResourceResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("EvaluationResults", targetDepth)) {
-                    context.nextToken();
-                    getComplianceDetailsByResourceResult
-                            .setEvaluationResults(new ListUnmarshaller<EvaluationResult>(
-                                    EvaluationResultJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    getComplianceDetailsByResourceResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 868004090:
+                        if (fieldName.equals("EvaluationResults")) {
+                            context.nextToken();
+                            getComplianceDetailsByResourceResult
+                                    .setEvaluationResults(new ListUnmarshaller<EvaluationResult>(
+                                            EvaluationResultJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1084080474:
+                        if (fieldName.equals("NextToken")) {
+                            context.nextToken();
+                            getComplianceDetailsByResourceResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,11 +54,18 @@ public class GetComplianceSummaryByConfigRuleResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ComplianceSummary", targetDepth)) {
-                    context.nextToken();
-                    getComplianceSummaryByConfigRuleResult
-                            .setComplianceSummary(ComplianceSummaryJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1850706667:
+                        if (fieldName.equals("ComplianceSummary")) {
+                            context.nextToken();
+                            getComplianceSummaryByConfigRuleResult
+                                    .setComplianceSummary(ComplianceSummaryJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,13 +54,19 @@ public class GetComplianceSummaryByResourceTypeResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ComplianceSummariesByResourceType",
-                        targetDepth)) {
-                    context.nextToken();
-                    getComplianceSummaryByResourceTypeResult
-                            .setComplianceSummariesByResourceType(new ListUnmarshaller<ComplianceSummaryByResourceType>(
-                                    ComplianceSummaryByResourceTypeJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -915919992:
+                        if (fieldName.equals("ComplianceSummariesByResourceType")) {
+                            context.nextToken();
+                            getComplianceSummaryByResourceTypeResult
+                                    .setComplianceSummariesByResourceType(new ListUnmarshaller<ComplianceSummaryByResourceType>(
+                                            ComplianceSummaryByResourceTypeJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
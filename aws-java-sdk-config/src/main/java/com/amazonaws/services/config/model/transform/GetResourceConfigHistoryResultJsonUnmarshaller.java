@@ -53,17 +53,26 @@ public class GetResourceConfigHistoryResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("configurationItems", targetDepth)) {
-                    context.nextToken();
-                    getResourceConfigHistoryResult
-                            .setConfigurationItems(new ListUnmarshaller<ConfigurationItem>(
-                                    ConfigurationItemJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    getResourceConfigHistoryResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 785919082:
+                        if (fieldName.equals("configurationItems")) {
+                            context.nextToken();
+                            getResourceConfigHistoryResult
+                                    .setConfigurationItems(new ListUnmarshaller<ConfigurationItem>(
+                                            ConfigurationItemJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 1206918854:
+                        if (fieldName.equals("nextToken")) {
+                            context.nextToken();
+                            getResourceConfigHistoryResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
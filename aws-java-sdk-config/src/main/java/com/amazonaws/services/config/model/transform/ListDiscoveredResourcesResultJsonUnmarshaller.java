@@ -53,17 +53,26 @@ public class ListDiscoveredResourcesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("resourceIdentifiers", targetDepth)) {
-                    context.nextToken();
-                    listDiscoveredResourcesResult
-                            .setResourceIdentifiers(new ListUnmarshaller<ResourceIdentifier>(
-                                    ResourceIdentifierJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listDiscoveredResourcesResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -826320900:
+                        if (fieldName.equals("resourceIdentifiers")) {
+                            context.nextToken();
+                            listDiscoveredResourcesResult
+                                    .setResourceIdentifiers(new ListUnmarshaller<ResourceIdentifier>(
+                                            ResourceIdentifierJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 1206918854:
+                        if (fieldName.equals("nextToken")) {
+                            context.nextToken();
+                            listDiscoveredResourcesResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
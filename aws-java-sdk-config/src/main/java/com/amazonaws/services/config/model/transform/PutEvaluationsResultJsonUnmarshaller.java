@@ -53,12 +53,19 @@ public class PutEvaluationsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FailedEvaluations", targetDepth)) {
-                    context.nextToken();
-                    putEvaluationsResult
-                            .setFailedEvaluations(new ListUnmarshaller<Evaluation>(
-                                    EvaluationJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1545346074:
+                        if (fieldName.equals("FailedEvaluations")) {
+                            context.nextToken();
+                            putEvaluationsResult
+                                    .setFailedEvaluations(new ListUnmarshaller<Evaluation>(
+                                            EvaluationJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
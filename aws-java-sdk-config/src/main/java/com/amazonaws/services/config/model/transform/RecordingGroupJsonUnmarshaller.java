@@ -53,25 +53,35 @@ public class RecordingGroupJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("allSupported", targetDepth)) {
-                    context.nextToken();
-                    recordingGroup.setAllSupported(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("includeGlobalResourceTypes",
-                        targetDepth)) {
-                    context.nextToken();
-                    recordingGroup
-                            .setIncludeGlobalResourceTypes(context
-                                    .getUnmarshaller(Boolean.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("resourceTypes", targetDepth)) {
-                    context.nextToken();
-                    recordingGroup
-                            .setResourceTypes(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1074446349:
+                        if (fieldName.equals("allSupported")) {
+                            context.nextToken();
+                            recordingGroup.setAllSupported(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 613157984:
+                        if (fieldName.equals("includeGlobalResourceTypes")) {
+                            context.nextToken();
+                            recordingGroup
+                                    .setIncludeGlobalResourceTypes(context
+                                            .getUnmarshaller(Boolean.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case 969604363:
+                        if (fieldName.equals("resourceTypes")) {
+                            context.nextToken();
+                            recordingGroup
+                                    .setResourceTypes(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
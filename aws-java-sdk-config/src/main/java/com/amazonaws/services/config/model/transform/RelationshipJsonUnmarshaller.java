@@ -53,25 +53,38 @@ public class RelationshipJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("resourceType", targetDepth)) {
-                    context.nextToken();
-                    relationship.setResourceType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("resourceId", targetDepth)) {
-                    context.nextToken();
-                    relationship.setResourceId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("resourceName", targetDepth)) {
-                    context.nextToken();
-                    relationship.setResourceName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("relationshipName", targetDepth)) {
-                    context.nextToken();
-                    relationship.setRelationshipName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -384364440:
+                        if (fieldName.equals("resourceType")) {
+                            context.nextToken();
+                            relationship.setResourceType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1345650231:
+                        if (fieldName.equals("resourceId")) {
+                            context.nextToken();
+                            relationship.setResourceId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -384566343:
+                        if (fieldName.equals("resourceName")) {
+                            context.nextToken();
+                            relationship.setResourceName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1603041053:
+                        if (fieldName.equals("relationshipName")) {
+                            context.nextToken();
+                            relationship.setRelationshipName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,26 +53,39 @@ public class ResourceIdentifierJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("resourceType", targetDepth)) {
-                    context.nextToken();
-                    resourceIdentifier.setResourceType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("resourceId", targetDepth)) {
-                    context.nextToken();
-                    resourceIdentifier.setResourceId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("resourceName", targetDepth)) {
-                    context.nextToken();
-                    resourceIdentifier.setResourceName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("resourceDeletionTime", targetDepth)) {
-                    context.nextToken();
-                    resourceIdentifier.setResourceDeletionTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -384364440:
+                        if (fieldName.equals("resourceType")) {
+                            context.nextToken();
+                            resourceIdentifier.setResourceType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1345650231:
+                        if (fieldName.equals("resourceId")) {
+                            context.nextToken();
+                            resourceIdentifier.setResourceId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -384566343:
+                        if (fieldName.equals("resourceName")) {
+                            context.nextToken();
+                            resourceIdentifier.setResourceName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -20150551:
+                        if (fieldName.equals("resourceDeletionTime")) {
+                            context.nextToken();
+                            resourceIdentifier.setResourceDeletionTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
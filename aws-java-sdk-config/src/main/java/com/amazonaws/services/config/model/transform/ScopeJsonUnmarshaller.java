@@ -52,27 +52,39 @@ public class ScopeJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ComplianceResourceTypes",
-                        targetDepth)) {
-                    context.nextToken();
-                    scope.setComplianceResourceTypes(new ListUnmarshaller<String>(
-                            context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("TagKey", targetDepth)) {
-                    context.nextToken();
-                    scope.setTagKey(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("TagValue", targetDepth)) {
-                    context.nextToken();
-                    scope.setTagValue(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("ComplianceResourceId", targetDepth)) {
-                    context.nextToken();
-                    scope.setComplianceResourceId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1721001840:
+                        if (fieldName.equals("ComplianceResourceTypes")) {
+                            context.nextToken();
+                            scope.setComplianceResourceTypes(new ListUnmarshaller<String>(
+                                    context.getUnmarshaller(String.class))
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1797393275:
+                        if (fieldName.equals("TagKey")) {
+                            context.nextToken();
+                            scope.setTagKey(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -708053481:
+                        if (fieldName.equals("TagValue")) {
+                            context.nextToken();
+                            scope.setTagValue(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1122853788:
+                        if (fieldName.equals("ComplianceResourceId")) {
+                            context.nextToken();
+                            scope.setComplianceResourceId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class SourceDetailJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("EventSource", targetDepth)) {
-                    context.nextToken();
-                    sourceDetail.setEventSource(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("MessageType", targetDepth)) {
-                    context.nextToken();
-                    sourceDetail.setMessageType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1770492725:
+                        if (fieldName.equals("EventSource")) {
+                            context.nextToken();
+                            sourceDetail.setEventSource(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 794775489:
+                        if (fieldName.equals("MessageType")) {
+                            context.nextToken();
+                            sourceDetail.setMessageType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -52,21 +52,32 @@ public class SourceJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Owner", targetDepth)) {
-                    context.nextToken();
-                    source.setOwner(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("SourceIdentifier", targetDepth)) {
-                    context.nextToken();
-                    source.setSourceIdentifier(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("SourceDetails", targetDepth)) {
-                    context.nextToken();
-                    source.setSourceDetails(new ListUnmarshaller<SourceDetail>(
-                            SourceDetailJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 76612243:
+                        if (fieldName.equals("Owner")) {
+                            context.nextToken();
+                            source.setOwner(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1466699588:
+                        if (fieldName.equals("SourceIdentifier")) {
+                            context.nextToken();
+                            source.setSourceIdentifier(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1843720825:
+                        if (fieldName.equals("SourceDetails")) {
+                            context.nextToken();
+                            source.setSourceDetails(new ListUnmarshaller<SourceDetail>(
+                                    SourceDetailJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -15,8 +15,11 @@
 package com.amazonaws;
 
 import com.amazonaws.http.IdleConnectionReaper;
+import com.amazonaws.http.client.AsyncHttpTransport;
+import com.amazonaws.http.client.HttpClientFactory;
 import com.amazonaws.retry.PredefinedRetryPolicies;
 import com.amazonaws.retry.RetryPolicy;
+import com.amazonaws.retry.RetryThrottler;
 import com.amazonaws.util.VersionInfoUtils;
 import org.apache.http.annotation.NotThreadSafe;
 
@@ -100,6 +103,16 @@ public class ClientConfiguration {
      */
     public static final boolean DEFAULT_THROTTLE_RETRIES = false;
 
+    /**
+     * The default on whether to limit the send rate of the client adaptively.
+     */
+    public static final boolean DEFAULT_USE_ADAPTIVE_RATE_LIMITING = false;
+
+    /**
+     * The default on whether to resize the connection pool of each route adaptively.
+     */
+    public static final boolean DEFAULT_USE_ADAPTIVE_CONNECTION_POOL = false;
+
     /**
      * The default response metadata cache size.
      */
@@ -157,6 +170,19 @@ public class ClientConfiguration {
     /** The maximum number of open HTTP connections. */
     private int maxConnections = DEFAULT_MAX_CONNECTIONS;
 
+    /**
+     * The maximum number of open HTTP connections to a single route (host), or a negative value
+     * to allow a route to use up to {@link #maxConnections}.
+     */
+    private int maxConnectionsPerRoute = -1;
+
+    private boolean useAdaptiveConnectionPool = DEFAULT_USE_ADAPTIVE_CONNECTION_POOL;
+
+    /**
+     * Optional name under which the connection pool monitor of the client is registered over JMX.
+     */
+    private String connectionPoolMonitorName;
+
     /**
      * The amount of time to wait (in milliseconds) for data to be transfered over an established,
      * open connection before the connection is timed out. A value of 0 means infinity, and is not
@@ -182,6 +208,13 @@ public class ClientConfiguration {
 
     private boolean throttleRetries = DEFAULT_THROTTLE_RETRIES;
 
+    private boolean useAdaptiveRateLimiting = DEFAULT_USE_ADAPTIVE_RATE_LIMITING;
+
+    /**
+     * Optional retry throttler, which supersedes {@link #throttleRetries} when set.
+     */
+    private RetryThrottler retryThrottler;
+
     /**
      * Optional size hint (in bytes) for the low level TCP send buffer. This is an advanced option
      * for advanced users who want to tune low level TCP parameters to try and squeeze out more
@@ -250,6 +283,13 @@ public class ClientConfiguration {
      */
     private DnsResolver dnsResolver = new SystemDefaultDnsResolver();
 
+    /**
+     * Factory of the non-blocking transport used by asynchronous request
+     * execution; or null to use the default transport based on Apache
+     * HttpAsyncClient.
+     */
+    private HttpClientFactory<AsyncHttpTransport> asyncHttpTransportFactory;
+
     /**
      * An instance of {@link SecureRandom} configured by the user; or the JDK default will be used
      * if it is set to null or not explicitly configured.
@@ -280,9 +320,14 @@ public class ClientConfiguration {
     public ClientConfiguration(ClientConfiguration other) {
         this.connectionTimeout = other.connectionTimeout;
         this.maxConnections = other.maxConnections;
+        this.maxConnectionsPerRoute = other.maxConnectionsPerRoute;
+        this.useAdaptiveConnectionPool = other.useAdaptiveConnectionPool;
+        this.connectionPoolMonitorName = other.connectionPoolMonitorName;
         this.maxErrorRetry = other.maxErrorRetry;
         this.retryPolicy = other.retryPolicy;
         this.throttleRetries = other.throttleRetries;
+        this.retryThrottler = other.retryThrottler;
+        this.useAdaptiveRateLimiting = other.useAdaptiveRateLimiting;
         this.localAddress = other.localAddress;
         this.protocol = other.protocol;
         this.proxyDomain = other.proxyDomain;
@@ -304,6 +349,7 @@ public class ClientConfiguration {
         this.signerOverride = other.signerOverride;
         this.responseMetadataCacheSize = other.responseMetadataCacheSize;
         this.dnsResolver = other.dnsResolver;
+        this.asyncHttpTransportFactory = other.asyncHttpTransportFactory;
         this.useExpectContinue = other.useExpectContinue;
         this.apacheHttpClientConfig = new ApacheHttpClientConfig(other.apacheHttpClientConfig);
     }
@@ -388,6 +434,129 @@ public class ClientConfiguration {
         return this;
     }
 
+    /**
+     * Returns the maximum number of allowed open HTTP connections to a single route, that is to a
+     * single host; or a negative value if a route may use up to {@link #getMaxConnections()}
+     * connections.
+     *
+     * @return The maximum number of allowed open HTTP connections to a single route.
+     */
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    /**
+     * Sets the maximum number of allowed open HTTP connections to a single route, that is to a
+     * single host. {@link #getMaxConnections()} remains the cap on the connections to all the
+     * routes, so that a client talking to several endpoints can keep one of them from using up
+     * the whole pool.
+     *
+     * @param maxConnectionsPerRoute
+     *            The maximum number of allowed open HTTP connections to a single route; or a
+     *            negative value to allow up to {@link #getMaxConnections()} connections.
+     */
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+    }
+
+    /**
+     * Sets the maximum number of allowed open HTTP connections to a single route, that is to a
+     * single host, and returns the updated ClientConfiguration object.
+     * {@link #getMaxConnections()} remains the cap on the connections to all the routes.
+     *
+     * @param maxConnectionsPerRoute
+     *            The maximum number of allowed open HTTP connections to a single route; or a
+     *            negative value to allow up to {@link #getMaxConnections()} connections.
+     * @return The updated ClientConfiguration object.
+     */
+    public ClientConfiguration withMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        setMaxConnectionsPerRoute(maxConnectionsPerRoute);
+        return this;
+    }
+
+    /**
+     * Returns whether the maximum number of connections of each route is resized adaptively.
+     * <p>
+     * An adaptive connection pool starts each route at {@link #getMaxConnectionsPerRoute()}
+     * connections, then regularly doubles the maximum of the routes with requests waiting for a
+     * connection and halves the maximum of the routes left idle. The routes only grow into the
+     * connections of the pool that are not leased, out of {@link #getMaxConnections()}.
+     * </p>
+     *
+     * @return true if the connection pool is resized adaptively
+     */
+    public boolean useAdaptiveConnectionPool() {
+        return useAdaptiveConnectionPool;
+    }
+
+    /**
+     * Sets whether the maximum number of connections of each route is resized adaptively.
+     * <p>
+     * An adaptive connection pool starts each route at {@link #getMaxConnectionsPerRoute()}
+     * connections, then regularly doubles the maximum of the routes with requests waiting for a
+     * connection and halves the maximum of the routes left idle. The routes only grow into the
+     * connections of the pool that are not leased, out of {@link #getMaxConnections()}.
+     * </p>
+     *
+     * @param use
+     *            true if the connection pool should be resized adaptively
+     */
+    public void setUseAdaptiveConnectionPool(boolean use) {
+        this.useAdaptiveConnectionPool = use;
+    }
+
+    /**
+     * Sets whether the maximum number of connections of each route is resized adaptively, and
+     * returns the updated ClientConfiguration object.
+     *
+     * @param use
+     *            true if the connection pool should be resized adaptively
+     * @return The updated ClientConfiguration object.
+     * @see #setUseAdaptiveConnectionPool(boolean)
+     */
+    public ClientConfiguration withAdaptiveConnectionPool(boolean use) {
+        setUseAdaptiveConnectionPool(use);
+        return this;
+    }
+
+    /**
+     * Returns the name under which the connection pool monitor of the client is registered over
+     * JMX; or null if it is not registered.
+     */
+    public String getConnectionPoolMonitorName() {
+        return connectionPoolMonitorName;
+    }
+
+    /**
+     * Sets the name under which the connection pool monitor of the client is registered over
+     * JMX, as an MBean named
+     * {@code com.amazonaws.management:type=ConnectionPoolMonitor,name=<name>}, which exposes the
+     * size, lease wait times and reuse ratio of the pool of each route.
+     *
+     * @param connectionPoolMonitorName
+     *            A name that is valid as the value of an object name key property, which
+     *            distinguishes the client from the others; or null to not register the monitor.
+     * @see com.amazonaws.http.conn.ConnectionPoolMonitor
+     */
+    public void setConnectionPoolMonitorName(String connectionPoolMonitorName) {
+        this.connectionPoolMonitorName = connectionPoolMonitorName;
+    }
+
+    /**
+     * Sets the name under which the connection pool monitor of the client is registered over
+     * JMX, and returns the updated ClientConfiguration object.
+     *
+     * @param connectionPoolMonitorName
+     *            A name that is valid as the value of an object name key property, which
+     *            distinguishes the client from the others; or null to not register the monitor.
+     * @return The updated ClientConfiguration object.
+     * @see #setConnectionPoolMonitorName(String)
+     */
+    public ClientConfiguration withConnectionPoolMonitorName(String connectionPoolMonitorName) {
+        setConnectionPoolMonitorName(connectionPoolMonitorName);
+        return this;
+    }
+
     /**
      * Returns the HTTP user agent header to send with all requests.
      *
@@ -1232,6 +1401,104 @@ public class ClientConfiguration {
         return this;
     }
 
+    /**
+     * Returns whether the client limits its send rate adaptively, from the throttling responses
+     * of the service.
+     * <p>
+     * Adaptive rate limiting slows every thread of the client down once the service starts
+     * throttling its requests, rather than only backing off the throttled requests: the client
+     * cuts its send rate on each throttling response and ramps it back up as requests succeed,
+     * following the CUBIC congestion control algorithm. Requests wait before being sent while
+     * the client is over its send rate. The rate is not limited until the first throttling
+     * response.
+     * </p>
+     *
+     * @return true if adaptive rate limiting will be used
+     */
+    public boolean useAdaptiveRateLimiting() {
+        return useAdaptiveRateLimiting;
+    }
+
+    /**
+     * Sets whether the client limits its send rate adaptively, from the throttling responses of
+     * the service.
+     * <p>
+     * Adaptive rate limiting slows every thread of the client down once the service starts
+     * throttling its requests, rather than only backing off the throttled requests: the client
+     * cuts its send rate on each throttling response and ramps it back up as requests succeed,
+     * following the CUBIC congestion control algorithm. Requests wait before being sent while
+     * the client is over its send rate. The rate is not limited until the first throttling
+     * response.
+     * </p>
+     *
+     * @param use
+     *            true if adaptive rate limiting should be used
+     */
+    public void setUseAdaptiveRateLimiting(boolean use) {
+        this.useAdaptiveRateLimiting = use;
+    }
+
+    /**
+     * Sets whether the client limits its send rate adaptively, from the throttling responses of
+     * the service.
+     * <p>
+     * Adaptive rate limiting slows every thread of the client down once the service starts
+     * throttling its requests, rather than only backing off the throttled requests: the client
+     * cuts its send rate on each throttling response and ramps it back up as requests succeed,
+     * following the CUBIC congestion control algorithm. Requests wait before being sent while
+     * the client is over its send rate. The rate is not limited until the first throttling
+     * response.
+     * </p>
+     *
+     * @param use
+     *            true if adaptive rate limiting should be used
+     * @return The updated ClientConfiguration object.
+     */
+    public ClientConfiguration withAdaptiveRateLimiting(boolean use) {
+        setUseAdaptiveRateLimiting(use);
+        return this;
+    }
+
+    /**
+     * Returns the retry throttler of the client; or null if the client throttles its retries as
+     * configured by {@link #useThrottledRetries()}.
+     */
+    public RetryThrottler getRetryThrottler() {
+        return retryThrottler;
+    }
+
+    /**
+     * Sets the retry throttler of the client, which decides whether the requests may be sent and
+     * failed requests retried, from the outcome of the previous attempts. It replaces the retry
+     * throttling enabled by {@link #setUseThrottleRetries(boolean)}. The same throttler can be
+     * given to several clients.
+     *
+     * @param retryThrottler
+     *            the retry throttler, such as an {@link com.amazonaws.retry.AdaptiveRetryThrottler};
+     *            or null to throttle the retries as configured by {@link #useThrottledRetries()}.
+     * @see com.amazonaws.retry.AdaptiveRetryThrottler
+     */
+    public void setRetryThrottler(RetryThrottler retryThrottler) {
+        this.retryThrottler = retryThrottler;
+    }
+
+    /**
+     * Sets the retry throttler of the client, which decides whether the requests may be sent and
+     * failed requests retried, from the outcome of the previous attempts. It replaces the retry
+     * throttling enabled by {@link #setUseThrottleRetries(boolean)}. The same throttler can be
+     * given to several clients.
+     *
+     * @param retryThrottler
+     *            the retry throttler, such as an {@link com.amazonaws.retry.AdaptiveRetryThrottler};
+     *            or null to throttle the retries as configured by {@link #useThrottledRetries()}.
+     * @return The updated ClientConfiguration object.
+     * @see com.amazonaws.retry.AdaptiveRetryThrottler
+     */
+    public ClientConfiguration withRetryThrottler(RetryThrottler retryThrottler) {
+        setRetryThrottler(retryThrottler);
+        return this;
+    }
+
     /**
      * Checks if gzip compression is used
      *
@@ -1660,7 +1927,48 @@ public class ClientConfiguration {
     }
 
     /**
-     * Returns the response metadata cache size.
+     * Returns the factory of the non-blocking transport used for asynchronous
+     * request execution; or null if the default transport, based on Apache
+     * HttpAsyncClient, is to be used.
+     */
+    public HttpClientFactory<AsyncHttpTransport> getAsyncHttpTransportFactory() {
+        return asyncHttpTransportFactory;
+    }
+
+    /**
+     * Sets the factory of the non-blocking transport used for asynchronous
+     * request execution. The transport is created the first time a request is
+     * executed asynchronously.
+     * <p>
+     * The default transport requires Apache HttpAsyncClient
+     * (org.apache.httpcomponents:httpasyncclient), an optional dependency of
+     * the SDK that applications using the default transport must declare.
+     *
+     * @param asyncHttpTransportFactory
+     *            the transport factory; or null to use the default transport,
+     *            based on Apache HttpAsyncClient.
+     */
+    public void setAsyncHttpTransportFactory(HttpClientFactory<AsyncHttpTransport> asyncHttpTransportFactory) {
+        this.asyncHttpTransportFactory = asyncHttpTransportFactory;
+    }
+
+    /**
+     * Sets the factory of the non-blocking transport used for asynchronous
+     * request execution.
+     *
+     * @param asyncHttpTransportFactory
+     *            the transport factory; or null to use the default transport,
+     *            based on Apache HttpAsyncClient.
+     * @return The updated ClientConfiguration object.
+     */
+    public ClientConfiguration withAsyncHttpTransportFactory(
+            HttpClientFactory<AsyncHttpTransport> asyncHttpTransportFactory) {
+        setAsyncHttpTransportFactory(asyncHttpTransportFactory);
+        return this;
+    }
+
+    /**
+     * Returns the response metadata cache size; 0 if the cache is disabled.
      */
     public int getResponseMetadataCacheSize() {
         return responseMetadataCacheSize;
@@ -1671,7 +1979,8 @@ public class ClientConfiguration {
      * {@value #DEFAULT_RESPONSE_METADATA_CACHE_SIZE}.
      *
      * @param responseMetadataCacheSize
-     *            maximum cache size.
+     *            maximum cache size; 0 disables the cache, which is
+     *            then skipped entirely by each request.
      */
     public void setResponseMetadataCacheSize(int responseMetadataCacheSize) {
         this.responseMetadataCacheSize = responseMetadataCacheSize;
@@ -1682,7 +1991,8 @@ public class ClientConfiguration {
      * {@value #DEFAULT_RESPONSE_METADATA_CACHE_SIZE}.
      *
      * @param responseMetadataCacheSize
-     *            maximum cache size.
+     *            maximum cache size; 0 disables the cache, which is
+     *            then skipped entirely by each request.
      * @return The updated ClientConfiguration object.
      */
     public ClientConfiguration withResponseMetadataCacheSize(int responseMetadataCacheSize) {
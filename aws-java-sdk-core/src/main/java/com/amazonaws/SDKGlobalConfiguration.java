@@ -78,6 +78,14 @@ public class SDKGlobalConfiguration {
     public static final String RETRY_THROTTLING_SYSTEM_PROPERTY =
             "com.amazonaws.sdk.enableThrottledRetry";
 
+    /**
+     * System property to set the maximum number of (credential, region,
+     * service) entries of the signing key cache shared by the AWS4 signers.
+     * Defaults to 300; invalid values are ignored.
+     */
+    public static final String SIGNER_KEY_CACHE_SIZE_SYSTEM_PROPERTY =
+            "com.amazonaws.sdk.signerKeyCacheSize";
+
     /**
      * Path to an override file for the region metadata loaded by the SDK
      * that maps service/region pairs to endpoints and vice versa.
@@ -20,7 +20,9 @@ import com.amazonaws.SignableRequest;
 import com.amazonaws.auth.internal.AWS4SignerRequestParams;
 import com.amazonaws.auth.internal.AWS4SignerUtils;
 import com.amazonaws.auth.internal.SignerKey;
-import com.amazonaws.internal.FIFOCache;
+import com.amazonaws.auth.internal.SignerKeyCache;
+import com.amazonaws.auth.internal.SignerScratch;
+import com.amazonaws.internal.ReplayableContent;
 import com.amazonaws.log.InternalLogApi;
 import com.amazonaws.log.InternalLogFactory;
 import com.amazonaws.util.BinaryUtils;
@@ -32,9 +34,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.nio.charset.Charset;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -62,8 +62,12 @@ public class AWS4Signer extends AbstractAWSSigner implements
         ServiceAwareSigner, RegionAwareSigner, Presigner {
 
     protected static final InternalLogApi log = InternalLogFactory.getLog(AWS4Signer.class);
-    private static final int SIGNER_CACHE_MAX_SIZE = 300;
-    private static final FIFOCache<SignerKey> signerCache = new FIFOCache<SignerKey>(SIGNER_CACHE_MAX_SIZE);
+    private static final SignerKeyCache signerCache = SignerKeyCache.getSharedInstance();
+    /**
+     * How long before UTC midnight the signing key of the next day starts
+     * being derived ahead of time.
+     */
+    private static final long NEXT_DAY_KEY_PRECOMPUTE_MILLIS = TimeUnit.MINUTES.toMillis(5);
     private static final List<String> listOfHeadersToIgnoreInLowerCase = Arrays.asList("connection");
 
     /**
@@ -198,22 +202,33 @@ public class AWS4Signer extends AbstractAWSSigner implements
             request.addHeader(X_AMZ_CONTENT_SHA256, contentSha256);
         }
 
-        final String canonicalRequest = createCanonicalRequest(request,
-                contentSha256);
-
-        final String stringToSign = createStringToSign(canonicalRequest,
-                signerParams);
-
         final byte[] signingKey = deriveSigningKey(sanitizedCredentials,
                 signerParams);
 
-        final byte[] signature = computeSignature(stringToSign, signingKey,
-                signerParams);
-
-        request.addHeader(
-                AUTHORIZATION,
-                buildAuthorizationHeader(request, signature,
-                        sanitizedCredentials, signerParams));
+        final byte[] signature;
+        if (usesDefaultCanonicalization()) {
+            final String[] signedHeaders = getSortedSignedHeaders(request);
+            signature = computeSignature(request, contentSha256,
+                    signedHeaders, signingKey, signerParams);
+            request.addHeader(
+                    AUTHORIZATION,
+                    buildAuthorizationHeader(signedHeaders, signature,
+                            sanitizedCredentials, signerParams));
+        } else {
+            final String canonicalRequest = createCanonicalRequest(request,
+                    contentSha256);
+
+            final String stringToSign = createStringToSign(canonicalRequest,
+                    signerParams);
+
+            signature = computeSignature(stringToSign, signingKey,
+                    signerParams);
+
+            request.addHeader(
+                    AUTHORIZATION,
+                    buildAuthorizationHeader(request, signature,
+                            sanitizedCredentials, signerParams));
+        }
 
         processRequestPayload(request, signature, signingKey,
                 signerParams);
@@ -277,25 +292,8 @@ public class AWS4Signer extends AbstractAWSSigner implements
      */
     protected String createCanonicalRequest(SignableRequest<?> request,
             String contentSha256) {
-        /* This would url-encode the resource path for the first time. */
-        final String path = SdkHttpUtils.appendUri(
-                request.getEndpoint().getPath(), request.getResourcePath());
-
-        final StringBuilder canonicalRequestBuilder = new StringBuilder(request
-                .getHttpMethod().toString());
-
-        canonicalRequestBuilder.append(LINE_SEPARATOR)
-                // This would optionally double url-encode the resource path
-                .append(getCanonicalizedResourcePath(path, doubleUrlEncode))
-                .append(LINE_SEPARATOR)
-                .append(getCanonicalizedQueryString(request))
-                .append(LINE_SEPARATOR)
-                .append(getCanonicalizedHeaderString(request))
-                .append(LINE_SEPARATOR)
-                .append(getSignedHeadersString(request)).append(LINE_SEPARATOR)
-                .append(contentSha256);
-
-        final String canonicalRequest = canonicalRequestBuilder.toString();
+        final String canonicalRequest = appendCanonicalRequest(
+                new StringBuilder(), request, contentSha256, null).toString();
 
         if (log.isDebugEnabled())
             log.debug("AWS4 Canonical Request: '\"" + canonicalRequest + "\"");
@@ -311,16 +309,8 @@ public class AWS4Signer extends AbstractAWSSigner implements
     protected String createStringToSign(String canonicalRequest,
             AWS4SignerRequestParams signerParams) {
 
-        final StringBuilder stringToSignBuilder = new StringBuilder(
-                signerParams.getSigningAlgorithm());
-        stringToSignBuilder.append(LINE_SEPARATOR)
-                .append(signerParams.getFormattedSigningDateTime())
-                .append(LINE_SEPARATOR)
-                .append(signerParams.getScope())
-                .append(LINE_SEPARATOR)
-                .append(BinaryUtils.toHex(hash(canonicalRequest)));
-
-        final String stringToSign = stringToSignBuilder.toString();
+        final String stringToSign = appendStringToSign(new StringBuilder(),
+                hash(canonicalRequest), signerParams).toString();
 
         if (log.isDebugEnabled())
             log.debug("AWS4 String to Sign: '\"" + stringToSign + "\"");
@@ -328,6 +318,98 @@ public class AWS4Signer extends AbstractAWSSigner implements
         return stringToSign;
     }
 
+    /**
+     * Steps 1 to 3 of the AWS Signature version 4 calculation, performed in
+     * the scratch space of the current thread. Equivalent to
+     * {@link #createCanonicalRequest}, {@link #createStringToSign} and
+     * {@link #computeSignature(String, byte[], AWS4SignerRequestParams)}, but
+     * neither the canonical request nor the string to sign is materialized
+     * unless debug logging is enabled.
+     */
+    private byte[] computeSignature(SignableRequest<?> request,
+            String contentSha256, String[] signedHeaders, byte[] signingKey,
+            AWS4SignerRequestParams signerParams) {
+        final SignerScratch scratch = SignerScratch.get();
+        final StringBuilder canonicalRequestBuilder = appendCanonicalRequest(
+                scratch.builder(), request, contentSha256, signedHeaders);
+
+        if (log.isDebugEnabled())
+            log.debug("AWS4 Canonical Request: '\"" + canonicalRequestBuilder + "\"");
+
+        final byte[] canonicalRequestHash = scratch.sha256(canonicalRequestBuilder);
+
+        final StringBuilder stringToSignBuilder = appendStringToSign(
+                scratch.builder(), canonicalRequestHash, signerParams);
+
+        if (log.isDebugEnabled())
+            log.debug("AWS4 String to Sign: '\"" + stringToSignBuilder + "\"");
+
+        return scratch.hmac(stringToSignBuilder, signingKey,
+                SigningAlgorithm.HmacSHA256);
+    }
+
+    /**
+     * Appends the canonical request to the buffer. The canonicalized headers
+     * and the signed header names are built through
+     * {@link #getCanonicalizedHeaderString} and {@link #getSignedHeadersString}
+     * unless the sorted names of the signed headers are given.
+     */
+    private StringBuilder appendCanonicalRequest(StringBuilder buffer,
+            SignableRequest<?> request, String contentSha256,
+            String[] signedHeaders) {
+        /* This would url-encode the resource path for the first time. */
+        final String path = SdkHttpUtils.appendUri(
+                request.getEndpoint().getPath(), request.getResourcePath());
+
+        buffer.append(request.getHttpMethod().toString())
+                .append(LINE_SEPARATOR)
+                // This would optionally double url-encode the resource path
+                .append(getCanonicalizedResourcePath(path, doubleUrlEncode))
+                .append(LINE_SEPARATOR)
+                .append(getCanonicalizedQueryString(request))
+                .append(LINE_SEPARATOR);
+        if (signedHeaders == null) {
+            buffer.append(getCanonicalizedHeaderString(request))
+                    .append(LINE_SEPARATOR)
+                    .append(getSignedHeadersString(request));
+        } else {
+            appendCanonicalizedHeaders(buffer, signedHeaders,
+                    request.getHeaders());
+            buffer.append(LINE_SEPARATOR);
+            appendSignedHeaders(buffer, signedHeaders);
+        }
+        return buffer.append(LINE_SEPARATOR).append(contentSha256);
+    }
+
+    /**
+     * Appends the string to sign for the given hash of the canonical request
+     * to the buffer.
+     */
+    private static StringBuilder appendStringToSign(StringBuilder buffer,
+            byte[] canonicalRequestHash, AWS4SignerRequestParams signerParams) {
+        buffer.append(signerParams.getSigningAlgorithm())
+                .append(LINE_SEPARATOR)
+                .append(signerParams.getFormattedSigningDateTime())
+                .append(LINE_SEPARATOR)
+                .append(signerParams.getScope())
+                .append(LINE_SEPARATOR);
+        SignerScratch.appendHex(buffer, canonicalRequestHash);
+        return buffer;
+    }
+
+    /**
+     * Returns true if {@link #sign} may perform the canonicalization steps in
+     * the scratch space of the current thread instead of calling
+     * {@link #createCanonicalRequest}, {@link #createStringToSign},
+     * {@link #getCanonicalizedHeaderString} and
+     * {@link #getSignedHeadersString}. Only true for this class by default;
+     * subclasses that don't override any of those methods can override this
+     * method to return true.
+     */
+    protected boolean usesDefaultCanonicalization() {
+        return getClass() == AWS4Signer.class;
+    }
+
     /**
      * Step 3 of the AWS Signature version 4 calculation. It involves deriving
      * the signing key and computing the signature. Refer to
@@ -343,25 +425,46 @@ public class AWS4Signer extends AbstractAWSSigner implements
                 .numberOfDaysSinceEpoch(signerRequestParams
                         .getSigningDateTimeMilli());
 
-        SignerKey signerKey = signerCache.get(cacheKey);
+        SignerKey signerKey = signerCache.get(cacheKey, daysSinceEpochSigningDate);
 
-        if (signerKey != null) {
-            if (daysSinceEpochSigningDate == signerKey
-                    .getNumberOfDaysSinceEpoch()) {
-                return signerKey.getSigningKey();
+        if (signerKey == null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Generating a new signing key as the signing key not available in the cache for the date "
+                        + TimeUnit.DAYS.toMillis(daysSinceEpochSigningDate));
             }
+            signerKey = new SignerKey(daysSinceEpochSigningDate, newSigningKey(credentials,
+                    signerRequestParams.getFormattedSigningDate(),
+                    signerRequestParams.getRegionName(),
+                    signerRequestParams.getServiceName()));
+            signerCache.add(cacheKey, signerKey);
         }
-        if (log.isDebugEnabled()) {
-            log.debug("Generating a new signing key as the signing key not available in the cache for the date "
-                    + TimeUnit.DAYS.toMillis(daysSinceEpochSigningDate));
+        precomputeNextDaySigningKey(cacheKey, credentials, signerRequestParams,
+                daysSinceEpochSigningDate);
+        return signerKey.getSigningKey();
+    }
+
+    /**
+     * Derives the signing key of the next day ahead of time when the signing
+     * date is close to UTC midnight, so that requests signed right after the
+     * date rolls over don't all miss the cache at once.
+     */
+    private void precomputeNextDaySigningKey(String cacheKey,
+            AWSCredentials credentials,
+            AWS4SignerRequestParams signerRequestParams,
+            long daysSinceEpochSigningDate) {
+        final long nextDay = daysSinceEpochSigningDate + 1;
+        final long millisToMidnight = TimeUnit.DAYS.toMillis(nextDay)
+                - signerRequestParams.getSigningDateTimeMilli();
+        if (millisToMidnight > NEXT_DAY_KEY_PRECOMPUTE_MILLIS
+                || signerCache.contains(cacheKey, nextDay)) {
+            return;
         }
-        byte[] signingKey = newSigningKey(credentials,
-                signerRequestParams.getFormattedSigningDate(),
+        final String nextDateStamp = AWS4SignerUtils.formatDateStamp(
+                TimeUnit.DAYS.toMillis(nextDay));
+        signerCache.add(cacheKey, new SignerKey(nextDay, newSigningKey(
+                credentials, nextDateStamp,
                 signerRequestParams.getRegionName(),
-                signerRequestParams.getServiceName());
-        signerCache.add(cacheKey, new SignerKey(
-                daysSinceEpochSigningDate, signingKey));
-        return signingKey;
+                signerRequestParams.getServiceName())));
     }
 
     /**
@@ -419,6 +522,28 @@ public class AWS4Signer extends AbstractAWSSigner implements
         return authHeaderBuilder.toString();
     }
 
+    /**
+     * Creates the authorization header to be included in the request from the
+     * already sorted signed headers.
+     */
+    private String buildAuthorizationHeader(String[] signedHeaders,
+            byte[] signature, AWSCredentials credentials,
+            AWS4SignerRequestParams signerParams) {
+        final StringBuilder authHeaderBuilder = SignerScratch.get().builder();
+
+        authHeaderBuilder.append(AWS4_SIGNING_ALGORITHM)
+                         .append(" Credential=")
+                         .append(credentials.getAWSAccessKeyId())
+                         .append("/")
+                         .append(signerParams.getScope())
+                         .append(", SignedHeaders=");
+        appendSignedHeaders(authHeaderBuilder, signedHeaders)
+                         .append(", Signature=");
+        SignerScratch.appendHex(authHeaderBuilder, signature);
+
+        return authHeaderBuilder.toString();
+    }
+
     /**
      * Includes all the signing headers as request parameters for pre-signing.
      */
@@ -445,51 +570,67 @@ public class AWS4Signer extends AbstractAWSSigner implements
     }
 
     protected String getCanonicalizedHeaderString(SignableRequest<?> request) {
-        final List<String> sortedHeaders = new ArrayList<String>(request.getHeaders()
-                .keySet());
-        Collections.sort(sortedHeaders, String.CASE_INSENSITIVE_ORDER);
+        final StringBuilder buffer = new StringBuilder();
+        appendCanonicalizedHeaders(buffer, getSortedSignedHeaders(request),
+                request.getHeaders());
+        return buffer.toString();
+    }
 
+    protected String getSignedHeadersString(SignableRequest<?> request) {
+        final StringBuilder buffer = new StringBuilder();
+        appendSignedHeaders(buffer, getSortedSignedHeaders(request));
+        return buffer.toString();
+    }
+
+    protected boolean shouldExcludeHeaderFromSigning(String header) {
+        for (int i = 0; i < listOfHeadersToIgnoreInLowerCase.size(); i++) {
+            if (listOfHeadersToIgnoreInLowerCase.get(i).equalsIgnoreCase(header)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the names of the headers to be signed, sorted case
+     * insensitively.
+     */
+    private String[] getSortedSignedHeaders(SignableRequest<?> request) {
         final Map<String, String> requestHeaders = request.getHeaders();
-        StringBuilder buffer = new StringBuilder();
-        for (String header : sortedHeaders) {
-            if (shouldExcludeHeaderFromSigning(header)) {
-                continue;
+        final String[] sortedHeaders = new String[requestHeaders.size()];
+        int count = 0;
+        for (String header : requestHeaders.keySet()) {
+            if (!shouldExcludeHeaderFromSigning(header)) {
+                sortedHeaders[count++] = header;
             }
-            String key = StringUtils.lowerCase(header);
-            String value = requestHeaders.get(header);
+        }
+        Arrays.sort(sortedHeaders, 0, count, String.CASE_INSENSITIVE_ORDER);
+        return count == sortedHeaders.length ? sortedHeaders
+                : Arrays.copyOf(sortedHeaders, count);
+    }
 
-            StringUtils.appendCompactedString(buffer, key);
+    private static void appendCanonicalizedHeaders(StringBuilder buffer,
+            String[] sortedHeaders, Map<String, String> requestHeaders) {
+        for (String header : sortedHeaders) {
+            SignerScratch.appendLowerCase(buffer, header);
             buffer.append(":");
+            String value = requestHeaders.get(header);
             if (value != null) {
                 StringUtils.appendCompactedString(buffer, value);
             }
 
             buffer.append("\n");
         }
-
-        return buffer.toString();
     }
 
-    protected String getSignedHeadersString(SignableRequest<?> request) {
-        final List<String> sortedHeaders = new ArrayList<String>(request
-                .getHeaders().keySet());
-        Collections.sort(sortedHeaders, String.CASE_INSENSITIVE_ORDER);
-
-        StringBuilder buffer = new StringBuilder();
-        for (String header : sortedHeaders) {
-            if (shouldExcludeHeaderFromSigning(header)) {
-                continue;
-            }
-            if (buffer.length() > 0)
+    private static StringBuilder appendSignedHeaders(StringBuilder buffer,
+            String[] sortedHeaders) {
+        for (int i = 0; i < sortedHeaders.length; i++) {
+            if (i > 0)
                 buffer.append(";");
-            buffer.append(StringUtils.lowerCase(header));
+            SignerScratch.appendLowerCase(buffer, sortedHeaders[i]);
         }
-
-        return buffer.toString();
-    }
-
-    protected boolean shouldExcludeHeaderFromSigning(String header) {
-        return listOfHeadersToIgnoreInLowerCase.contains(header.toLowerCase());
+        return buffer;
     }
 
     protected void addHostHeader(SignableRequest<?> request) {
@@ -515,6 +656,10 @@ public class AWS4Signer extends AbstractAWSSigner implements
      */
     protected String calculateContentHash(SignableRequest<?> request) {
         InputStream payloadStream = getBinaryRequestPayloadStream(request);
+        if (payloadStream instanceof ReplayableContent) {
+            // Hashed in place; the position of the content is left as is.
+            return BinaryUtils.toHex(hash((ReplayableContent) payloadStream));
+        }
         ReadLimitInfo info = request.getReadLimitInfo();
         payloadStream.mark(info == null ? -1 : info.getReadLimit());
         String contentSha256 = BinaryUtils.toHex(hash(payloadStream));
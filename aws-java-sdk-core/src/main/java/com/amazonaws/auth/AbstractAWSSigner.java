@@ -20,8 +20,6 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.net.URI;
-import java.security.DigestInputStream;
-import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
@@ -32,13 +30,13 @@ import java.util.SortedMap;
 import java.util.TreeMap;
 
 import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.ReadLimitInfo;
 import com.amazonaws.SDKGlobalTime;
 import com.amazonaws.SignableRequest;
-import com.amazonaws.internal.SdkDigestInputStream;
+import com.amazonaws.auth.internal.SignerScratch;
+import com.amazonaws.internal.ReplayableContent;
 import com.amazonaws.util.Base64;
 import com.amazonaws.util.BinaryUtils;
 import com.amazonaws.util.SdkHttpUtils;
@@ -86,8 +84,9 @@ public abstract class AbstractAWSSigner implements Signer {
     public byte[] sign(String stringData, byte[] key,
             SigningAlgorithm algorithm) throws AmazonClientException {
         try {
-            byte[] data = stringData.getBytes(UTF8);
-            return sign(data, key, algorithm);
+            return SignerScratch.get().hmac(stringData, key, algorithm);
+        } catch (AmazonClientException e) {
+            throw e;
         } catch (Exception e) {
             throw new AmazonClientException(
                     "Unable to calculate a request signature: "
@@ -108,9 +107,9 @@ public abstract class AbstractAWSSigner implements Signer {
     protected byte[] sign(byte[] data, byte[] key,
             SigningAlgorithm algorithm) throws AmazonClientException {
         try {
-            Mac mac = Mac.getInstance(algorithm.toString());
-            mac.init(new SecretKeySpec(key, algorithm.toString()));
-            return mac.doFinal(data);
+            return SignerScratch.get().hmac(data, key, algorithm);
+        } catch (AmazonClientException e) {
+            throw e;
         } catch (Exception e) {
             throw new AmazonClientException(
                     "Unable to calculate a request signature: "
@@ -136,9 +135,9 @@ public abstract class AbstractAWSSigner implements Signer {
 
     private static byte[] doHash(String text) throws AmazonClientException {
         try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-            md.update(text.getBytes(UTF8));
-            return md.digest();
+            return SignerScratch.get().sha256(text);
+        } catch (AmazonClientException e) {
+            throw e;
         } catch (Exception e) {
             throw new AmazonClientException(
                     "Unable to compute hash while signing request: "
@@ -148,14 +147,30 @@ public abstract class AbstractAWSSigner implements Signer {
 
     protected byte[] hash(InputStream input) throws AmazonClientException {
         try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-            @SuppressWarnings("resource")
-            DigestInputStream digestInputStream = new SdkDigestInputStream(
-                    input, md);
-            byte[] buffer = new byte[1024];
-            while (digestInputStream.read(buffer) > -1)
-                ;
-            return digestInputStream.getMessageDigest().digest();
+            return SignerScratch.get().sha256(input);
+        } catch (AmazonClientException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new AmazonClientException(
+                    "Unable to compute hash while signing request: "
+                            + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Hashes the remaining content in place, using the SHA-256 algorithm,
+     * without moving its position; the content isn't read at all if its
+     * digest is already known.
+     */
+    protected byte[] hash(ReplayableContent content) throws AmazonClientException {
+        byte[] sha256 = content.getSha256();
+        if (sha256 != null) {
+            return sha256;
+        }
+        try {
+            return SignerScratch.get().sha256(content);
+        } catch (AmazonClientException e) {
+            throw e;
         } catch (Exception e) {
             throw new AmazonClientException(
                     "Unable to compute hash while signing request: "
@@ -176,9 +191,9 @@ public abstract class AbstractAWSSigner implements Signer {
      */
     public byte[] hash(byte[] data) throws AmazonClientException {
         try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-            md.update(data);
-            return md.digest();
+            return SignerScratch.get().sha256(data);
+        } catch (AmazonClientException e) {
+            throw e;
         } catch (Exception e) {
             throw new AmazonClientException(
                     "Unable to compute hash while signing request: "
@@ -300,6 +315,9 @@ public abstract class AbstractAWSSigner implements Signer {
      */
     protected byte[] getBinaryRequestPayloadWithoutQueryParams(SignableRequest<?> request) {
         InputStream content = getBinaryRequestPayloadStreamWithoutQueryParams(request);
+        if (content instanceof ReplayableContent) {
+            return readRemaining(content);
+        }
 
         try {
             ReadLimitInfo info = request.getReadLimitInfo();
@@ -322,6 +340,31 @@ public abstract class AbstractAWSSigner implements Signer {
         }
     }
 
+    /**
+     * Reads the remaining content straight into an array of its exact size,
+     * then resets it; resetting such content is free.
+     */
+    private static byte[] readRemaining(InputStream content) {
+        long length = ((ReplayableContent) content).getRemainingLength();
+        if (length > Integer.MAX_VALUE) {
+            throw new AmazonClientException("Request payload too large to sign: " + length + " bytes");
+        }
+        byte[] payload = new byte[(int) length];
+        try {
+            content.mark(0);
+            int offset = 0;
+            while (offset < payload.length) {
+                int bytesRead = content.read(payload, offset, payload.length - offset);
+                if (bytesRead == -1) break;
+                offset += bytesRead;
+            }
+            content.reset();
+        } catch (Exception e) {
+            throw new AmazonClientException("Unable to read request payload to sign request: " + e.getMessage(), e);
+        }
+        return payload;
+    }
+
     protected InputStream getBinaryRequestPayloadStream(SignableRequest<?> request) {
         if (SdkHttpUtils.usePayloadForQueryParameters(request)) {
             String encodedParameters = SdkHttpUtils.encodeParameters(request);
@@ -0,0 +1,333 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.auth.internal;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.SDKGlobalConfiguration;
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.annotation.ThreadSafe;
+import com.amazonaws.internal.StripedLongCounter;
+
+/**
+ * A bounded cache of AWS4 signing keys, keyed by credential, region and
+ * service, that holds up to two days worth of keys per entry.
+ * <p>
+ * Lookups never lock: entries are immutable and are swapped in with
+ * compare-and-set semantics. Each entry holds the keys of the two most recent
+ * days added to it, such as the key of the current day together with either
+ * the precomputed key of the next day or the key of the previous day, so that
+ * requests signed around UTC midnight (possibly with a clock skew adjustment)
+ * don't flip the entry back and forth.
+ * <p>
+ * When the number of entries exceeds the maximum size, the entries whose
+ * keys are no longer valid for the current day are evicted first, then the
+ * least recently used ones. Access times are only recorded with a coarse
+ * granularity so that the hot path doesn't write to shared memory on every
+ * lookup.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class SignerKeyCache {
+
+    /** Granularity of the recorded access times of the cache entries. */
+    private static final long ACCESS_TIME_GRANULARITY_MILLIS = 1000L;
+
+    /** Default maximum number of entries of the shared instance. */
+    static final int DEFAULT_MAX_SIZE = 300;
+
+    private static final Log log = LogFactory.getLog(SignerKeyCache.class);
+
+    private static final SignerKeyCache SHARED_INSTANCE = new SignerKeyCache(
+            sharedInstanceMaxSize());
+
+    private final ConcurrentMap<String, Entry> entries;
+
+    private final int maxSize;
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    private final StripedLongCounter hits = new StripedLongCounter();
+
+    private final StripedLongCounter misses = new StripedLongCounter();
+
+    private final StripedLongCounter evictions = new StripedLongCounter();
+
+    /**
+     * @param maxSize
+     *            the maximum number of (credential, region, service) entries
+     *            of the cache
+     */
+    public SignerKeyCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize " + maxSize
+                    + " must be at least 1");
+        }
+        this.maxSize = maxSize;
+        this.entries = new ConcurrentHashMap<String, Entry>(maxSize * 2, 0.75f,
+                Math.max(16, Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * Returns the signing key cache shared by all the AWS4 signers of this
+     * class loader. Its maximum size can be set with the
+     * {@value SDKGlobalConfiguration#SIGNER_KEY_CACHE_SIZE_SYSTEM_PROPERTY}
+     * system property.
+     */
+    public static SignerKeyCache getSharedInstance() {
+        return SHARED_INSTANCE;
+    }
+
+    /**
+     * Returns the maximum size of the shared instance set by the system
+     * property; or the default one if the property is not set or invalid.
+     */
+    static int sharedInstanceMaxSize() {
+        final String value = System.getProperty(
+                SDKGlobalConfiguration.SIGNER_KEY_CACHE_SIZE_SYSTEM_PROPERTY);
+        if (value == null) {
+            return DEFAULT_MAX_SIZE;
+        }
+        try {
+            final int maxSize = Integer.parseInt(value.trim());
+            if (maxSize >= 1) {
+                return maxSize;
+            }
+        } catch (NumberFormatException ignored) {
+        }
+        log.warn("Ignoring invalid value " + value + " of system property "
+                + SDKGlobalConfiguration.SIGNER_KEY_CACHE_SIZE_SYSTEM_PROPERTY
+                + "; using the default signer key cache size of "
+                + DEFAULT_MAX_SIZE);
+        return DEFAULT_MAX_SIZE;
+    }
+
+    /**
+     * Returns the cached signing key of the given cache key for the given day;
+     * or null if there is no such key.
+     *
+     * @param cacheKey
+     *            key identifying the credential, region and service
+     * @param daysSinceEpoch
+     *            the day the signing key is to be used for
+     */
+    public SignerKey get(String cacheKey, long daysSinceEpoch) {
+        final Entry entry = entries.get(cacheKey);
+        final SignerKey signerKey = entry == null ? null : entry.keyFor(daysSinceEpoch);
+        if (signerKey == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        entry.touch();
+        return signerKey;
+    }
+
+    /**
+     * Returns true if the cache already holds a signing key of the given cache
+     * key for the given day. Doesn't count as a cache hit or miss.
+     */
+    public boolean contains(String cacheKey, long daysSinceEpoch) {
+        final Entry entry = entries.get(cacheKey);
+        return entry != null && entry.keyFor(daysSinceEpoch) != null;
+    }
+
+    /**
+     * Adds a signing key to the cache, keeping the keys of the two most recent
+     * days for the same cache key, and evicts entries if the cache has grown
+     * larger than its maximum size.
+     */
+    public void add(String cacheKey, SignerKey signerKey) {
+        while (true) {
+            final Entry existing = entries.get(cacheKey);
+            if (existing == null) {
+                if (entries.putIfAbsent(cacheKey, new Entry(signerKey, null)) == null) {
+                    if (size.incrementAndGet() > maxSize) {
+                        evict();
+                    }
+                    return;
+                }
+            } else if (entries.replace(cacheKey, existing, existing.with(signerKey))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of (credential, region, service) entries in the
+     * cache.
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /** Returns the maximum number of entries of the cache. */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /** Returns the number of lookups that found a valid signing key. */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /** Returns the number of lookups that had to derive a new signing key. */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /** Returns the number of entries evicted because the cache was full. */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /** Removes all the entries and resets the statistics. */
+    public void clear() {
+        for (String key : entries.keySet()) {
+            if (entries.remove(key) != null) {
+                size.decrementAndGet();
+            }
+        }
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    /**
+     * Brings the cache back to its maximum size. Only one thread evicts at a
+     * time; the others carry on and rely on it to do the work.
+     */
+    private void evict() {
+        // Re-check after releasing the flag, in case another thread added an
+        // entry while this one was finishing up
+        while (size.get() > maxSize && evicting.compareAndSet(false, true)) {
+            try {
+                evictEntries();
+            } finally {
+                evicting.set(false);
+            }
+        }
+    }
+
+    private void evictEntries() {
+        long newestDay = Long.MIN_VALUE;
+        for (Entry entry : entries.values()) {
+            newestDay = Math.max(newestDay, entry.newestDay());
+        }
+        // First pass: drop entries whose keys are older than yesterday
+        for (Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+                it.hasNext() && size.get() > maxSize; ) {
+            Map.Entry<String, Entry> e = it.next();
+            if (e.getValue().newestDay() < newestDay - 1) {
+                remove(e.getKey(), e.getValue());
+            }
+        }
+        // Second pass: drop the least recently used entries
+        while (size.get() > maxSize) {
+            Map.Entry<String, Entry> eldest = null;
+            for (Map.Entry<String, Entry> e : entries.entrySet()) {
+                if (eldest == null || e.getValue().lastAccess < eldest.getValue().lastAccess) {
+                    eldest = e;
+                }
+            }
+            if (eldest == null) {
+                break;
+            }
+            remove(eldest.getKey(), eldest.getValue());
+        }
+    }
+
+    private void remove(String cacheKey, Entry entry) {
+        if (entries.remove(cacheKey, entry)) {
+            size.decrementAndGet();
+            evictions.increment();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SignerKeyCache[size=" + size() + ", maxSize=" + maxSize
+                + ", hits=" + getHitCount() + ", misses=" + getMissCount()
+                + ", evictions=" + getEvictionCount() + "]";
+    }
+
+    /**
+     * Signing keys of one (credential, region, service). Apart from the
+     * coarse access time, an entry is never modified once published.
+     */
+    private static final class Entry {
+        private final SignerKey newest;
+        private final SignerKey other;
+        private volatile long lastAccess;
+
+        Entry(SignerKey newest, SignerKey other) {
+            this.newest = newest;
+            this.other = other;
+            this.lastAccess = System.currentTimeMillis();
+        }
+
+        SignerKey keyFor(long daysSinceEpoch) {
+            if (newest.getNumberOfDaysSinceEpoch() == daysSinceEpoch) {
+                return newest;
+            }
+            if (other != null && other.getNumberOfDaysSinceEpoch() == daysSinceEpoch) {
+                return other;
+            }
+            return null;
+        }
+
+        long newestDay() {
+            return newest.getNumberOfDaysSinceEpoch();
+        }
+
+        /**
+         * Returns an entry holding the keys of the two most recent days among
+         * the given key and the keys of this entry, the given key replacing
+         * the key of this entry for the same day.
+         */
+        Entry with(SignerKey signerKey) {
+            final long day = signerKey.getNumberOfDaysSinceEpoch();
+            // The newest key is never older than the other one
+            final long newestDay = newest.getNumberOfDaysSinceEpoch();
+            if (day == newestDay) {
+                return new Entry(signerKey, other);
+            }
+            if (day > newestDay) {
+                return new Entry(signerKey, newest);
+            }
+            if (other == null || day >= other.getNumberOfDaysSinceEpoch()) {
+                return new Entry(newest, signerKey);
+            }
+            return this;
+        }
+
+        void touch() {
+            final long now = System.currentTimeMillis();
+            if (now - lastAccess > ACCESS_TIME_GRANULARITY_MILLIS) {
+                lastAccess = now;
+            }
+        }
+    }
+}
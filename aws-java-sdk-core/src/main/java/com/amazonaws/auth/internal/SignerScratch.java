@@ -0,0 +1,291 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.auth.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.annotation.NotThreadSafe;
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.auth.SigningAlgorithm;
+import com.amazonaws.internal.ReplayableContent;
+
+/**
+ * Per-thread scratch space used by the signers to avoid allocating digests,
+ * MACs and intermediate strings on every request.
+ * <p>
+ * None of the methods call back into user code, so a method can't be
+ * re-entered on the same thread while the scratch space is in use. Callers
+ * must not hold on to the builder or the buffers across calls that may use
+ * them.
+ */
+@NotThreadSafe
+@SdkInternalApi
+public final class SignerScratch {
+
+    /** Buffers that grew beyond this size are dropped rather than retained. */
+    private static final int MAX_RETAINED_CAPACITY = 16 * 1024;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private static final int PAYLOAD_BUFFER_SIZE = 4 * 1024;
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private static final ThreadLocal<SignerScratch> SCRATCH = new ThreadLocal<SignerScratch>() {
+        @Override
+        protected SignerScratch initialValue() {
+            return new SignerScratch();
+        }
+    };
+
+    private final Mac[] macs = new Mac[SigningAlgorithm.values().length];
+
+    private final byte[][] macKeys = new byte[SigningAlgorithm.values().length][];
+
+    private MessageDigest sha256;
+
+    /** Digest and buffer used for hashing payload streams. */
+    private MessageDigest payloadSha256;
+
+    private byte[] payloadBuffer;
+
+    private boolean payloadHashInProgress;
+
+    private StringBuilder builder = new StringBuilder(INITIAL_CAPACITY);
+
+    private byte[] bytes = new byte[INITIAL_CAPACITY];
+
+    private SignerScratch() {
+    }
+
+    /**
+     * Returns the scratch space of the current thread.
+     */
+    public static SignerScratch get() {
+        return SCRATCH.get();
+    }
+
+    /**
+     * Returns the reusable string builder of this thread, emptied.
+     */
+    public StringBuilder builder() {
+        if (builder.capacity() > MAX_RETAINED_CAPACITY) {
+            builder = new StringBuilder(INITIAL_CAPACITY);
+        } else {
+            builder.setLength(0);
+        }
+        return builder;
+    }
+
+    /**
+     * Returns the SHA-256 digest of the UTF-8 encoding of the given characters.
+     */
+    public byte[] sha256(CharSequence text) {
+        final int length = encodeUtf8(text);
+        final MessageDigest md = sha256();
+        md.update(bytes, 0, length);
+        return md.digest();
+    }
+
+    /**
+     * Returns the SHA-256 digest of the given bytes.
+     */
+    public byte[] sha256(byte[] data) {
+        final MessageDigest md = sha256();
+        md.update(data);
+        return md.digest();
+    }
+
+    /**
+     * Returns the SHA-256 digest of the remaining content of the given stream.
+     * <p>
+     * Reading the stream runs arbitrary code, which could end up hashing
+     * another stream on the same thread; such a nested call uses its own
+     * digest and buffer.
+     */
+    public byte[] sha256(InputStream input) throws IOException {
+        if (payloadHashInProgress) {
+            return sha256(input, newSha256(), new byte[PAYLOAD_BUFFER_SIZE]);
+        }
+        payloadHashInProgress = true;
+        try {
+            if (payloadSha256 == null) {
+                payloadSha256 = newSha256();
+                payloadBuffer = new byte[PAYLOAD_BUFFER_SIZE];
+            } else {
+                payloadSha256.reset();
+            }
+            return sha256(input, payloadSha256, payloadBuffer);
+        } finally {
+            payloadHashInProgress = false;
+        }
+    }
+
+    /**
+     * Returns the SHA-256 digest of the remaining content, read in place and
+     * without moving its position.
+     */
+    public byte[] sha256(ReplayableContent content) throws IOException {
+        final MessageDigest md = sha256();
+        content.digest(md);
+        return md.digest();
+    }
+
+    private static byte[] sha256(InputStream input, MessageDigest md,
+            byte[] buffer) throws IOException {
+        int bytesRead;
+        while ((bytesRead = input.read(buffer)) > -1) {
+            md.update(buffer, 0, bytesRead);
+        }
+        return md.digest();
+    }
+
+    /**
+     * Returns the HMAC of the UTF-8 encoding of the given characters.
+     */
+    public byte[] hmac(CharSequence text, byte[] key, SigningAlgorithm algorithm) {
+        final int length = encodeUtf8(text);
+        final Mac mac = mac(key, algorithm);
+        mac.update(bytes, 0, length);
+        return mac.doFinal();
+    }
+
+    /**
+     * Returns the HMAC of the given bytes.
+     */
+    public byte[] hmac(byte[] data, byte[] key, SigningAlgorithm algorithm) {
+        return mac(key, algorithm).doFinal(data);
+    }
+
+    /**
+     * Appends the lower case hex encoding of the given bytes to the builder.
+     */
+    public static StringBuilder appendHex(StringBuilder destination, byte[] data) {
+        for (byte b : data) {
+            destination.append(HEX_DIGITS[(b >> 4) & 0xF])
+                       .append(HEX_DIGITS[b & 0xF]);
+        }
+        return destination;
+    }
+
+    /**
+     * Appends the given string in lower case to the builder. Uses the same
+     * case mapping as {@code String.toLowerCase(Locale.ENGLISH)} for the
+     * characters that can appear in header names.
+     */
+    public static StringBuilder appendLowerCase(StringBuilder destination, String source) {
+        final int length = source.length();
+        for (int i = 0; i < length; i++) {
+            destination.append(Character.toLowerCase(source.charAt(i)));
+        }
+        return destination;
+    }
+
+    private MessageDigest sha256() {
+        if (sha256 == null) {
+            sha256 = newSha256();
+        } else {
+            sha256.reset();
+        }
+        return sha256;
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (GeneralSecurityException e) {
+            throw new AmazonClientException(
+                    "Unable to compute hash while signing request: "
+                            + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns a MAC initialized with the given key. Re-initializing is skipped
+     * when the key is the same as the last one used on this thread, which is
+     * the common case for the derived SigV4 signing key.
+     */
+    private Mac mac(byte[] key, SigningAlgorithm algorithm) {
+        final int index = algorithm.ordinal();
+        try {
+            Mac mac = macs[index];
+            if (mac == null) {
+                mac = Mac.getInstance(algorithm.toString());
+                macs[index] = mac;
+            }
+            if (!Arrays.equals(key, macKeys[index])) {
+                // Forget the key first in case init fails
+                macKeys[index] = null;
+                mac.init(new SecretKeySpec(key, algorithm.toString()));
+                macKeys[index] = key.clone();
+            }
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new AmazonClientException(
+                    "Unable to calculate a request signature: "
+                            + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Encodes the given characters as UTF-8 into the byte buffer, the same way
+     * {@code String.getBytes(UTF8)} does, and returns the number of bytes
+     * written.
+     */
+    private int encodeUtf8(CharSequence text) {
+        final int length = text.length();
+        ensureBytes(length * 3);
+        final byte[] out = bytes;
+        int pos = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = text.charAt(i);
+            if (c < 0x80) {
+                out[pos++] = (byte) c;
+            } else if (c < 0x800) {
+                out[pos++] = (byte) (0xC0 | (c >> 6));
+                out[pos++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                    && Character.isLowSurrogate(text.charAt(i + 1))) {
+                final int cp = Character.toCodePoint(c, text.charAt(++i));
+                out[pos++] = (byte) (0xF0 | (cp >> 18));
+                out[pos++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                out[pos++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                out[pos++] = (byte) (0x80 | (cp & 0x3F));
+            } else if (c >= Character.MIN_SURROGATE && c <= Character.MAX_SURROGATE) {
+                // Malformed input is replaced, as the JDK encoder does
+                out[pos++] = (byte) '?';
+            } else {
+                out[pos++] = (byte) (0xE0 | (c >> 12));
+                out[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                out[pos++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return pos;
+    }
+
+    private void ensureBytes(int capacity) {
+        if (bytes.length < capacity || bytes.length > MAX_RETAINED_CAPACITY) {
+            bytes = new byte[Math.max(capacity, INITIAL_CAPACITY)];
+        }
+    }
+}
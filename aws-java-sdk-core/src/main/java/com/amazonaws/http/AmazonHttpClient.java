@@ -37,11 +37,16 @@ import com.amazonaws.event.ProgressInputStream;
 import com.amazonaws.event.ProgressListener;
 import com.amazonaws.handlers.CredentialsRequestHandler;
 import com.amazonaws.handlers.RequestHandler2;
+import com.amazonaws.http.apache.client.impl.ApacheAsyncHttpTransportFactory;
 import com.amazonaws.http.apache.client.impl.ApacheHttpClientFactory;
 import com.amazonaws.http.apache.client.impl.ConnectionManagerAwareHttpClient;
+import com.amazonaws.http.apache.client.impl.SdkHttpClient;
 import com.amazonaws.http.apache.request.impl.ApacheHttpRequestFactory;
 import com.amazonaws.http.apache.utils.ApacheUtils;
+import com.amazonaws.http.client.AsyncHttpTransport;
 import com.amazonaws.http.client.HttpClientFactory;
+import com.amazonaws.http.conn.ConnectionPoolMonitor;
+import com.amazonaws.http.conn.ConnectionPoolRouteMXBean;
 import com.amazonaws.http.exception.HttpRequestTimeoutException;
 import com.amazonaws.http.request.HttpRequestFactory;
 import com.amazonaws.http.settings.HttpClientSettings;
@@ -57,12 +62,14 @@ import com.amazonaws.internal.SdkBufferedInputStream;
 import com.amazonaws.metrics.AwsSdkMetrics;
 import com.amazonaws.metrics.RequestMetricCollector;
 import com.amazonaws.retry.RetryPolicy;
+import com.amazonaws.retry.RetryThrottler;
+import com.amazonaws.retry.RetryThrottlingException;
 import com.amazonaws.retry.RetryUtils;
 import com.amazonaws.retry.internal.AuthErrorRetryStrategy;
 import com.amazonaws.retry.internal.AuthRetryParameters;
+import com.amazonaws.retry.internal.CapacityRetryThrottler;
 import com.amazonaws.util.AWSRequestMetrics;
 import com.amazonaws.util.AWSRequestMetrics.Field;
-import com.amazonaws.util.CapacityManager;
 import com.amazonaws.util.CollectionUtils;
 import com.amazonaws.util.CountingInputStream;
 import com.amazonaws.util.DateUtils;
@@ -81,6 +88,8 @@ import org.apache.http.StatusLine;
 import org.apache.http.annotation.ThreadSafe;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.concurrent.BasicFuture;
+import org.apache.http.concurrent.FutureCallback;
 import org.apache.http.entity.BufferedHttpEntity;
 import org.apache.http.pool.ConnPoolControl;
 
@@ -98,6 +107,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.UUID;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static com.amazonaws.SDKGlobalConfiguration.PROFILING_SYSTEM_PROPERTY;
 import static com.amazonaws.event.SDKProgressPublisher.publishProgress;
@@ -111,6 +128,18 @@ import static com.amazonaws.util.AWSRequestMetrics.Field
         .HttpClientPoolLeasedCount;
 import static com.amazonaws.util.AWSRequestMetrics.Field
         .HttpClientPoolPendingCount;
+import static com.amazonaws.util.AWSRequestMetrics.Field
+        .HttpClientPoolRouteAvailableCount;
+import static com.amazonaws.util.AWSRequestMetrics.Field
+        .HttpClientPoolRouteAverageLeaseWaitMillis;
+import static com.amazonaws.util.AWSRequestMetrics.Field
+        .HttpClientPoolRouteLeasedCount;
+import static com.amazonaws.util.AWSRequestMetrics.Field
+        .HttpClientPoolRouteMaxCount;
+import static com.amazonaws.util.AWSRequestMetrics.Field
+        .HttpClientPoolRoutePendingCount;
+import static com.amazonaws.util.AWSRequestMetrics.Field
+        .HttpClientPoolRouteReusePercent;
 import static com.amazonaws.util.IOUtils.closeQuietly;
 
 @ThreadSafe
@@ -141,19 +170,6 @@ public class AmazonHttpClient {
      */
     private static UnreliableTestConfig unreliableTestConfig;
 
-    /**
-     * When throttled retries are enabled, each retry attempt will consume this much capacity.
-     * Successful retry attempts will release this capacity back to the pool while failed retries
-     * will not.  Successful initial (non-retry) requests will always release 1 capacity unit to the pool.
-     */
-    private static final int THROTTLED_RETRY_COST = 5;
-
-    /**
-     * When throttled retries are enabled, this is the total number of subsequent failed retries
-     * that may be attempted before retry capacity is fully drained.
-     */
-    private static final int THROTTLED_RETRIES = 100;
-
     static {
         // Customers have reported XML parsing issues with the following
         // JVM versions, which don't occur with more recent versions, so
@@ -192,7 +208,12 @@ public class AmazonHttpClient {
     private final HttpRequestTimer httpRequestTimer;
 
     /** Retry capacity manager, used to manage throttled retry resource */
-    private final CapacityManager retryCapacity;
+    private final RetryThrottler retryThrottler;
+
+    /**
+     * Adaptive limit on the send rate of this client; null unless enabled in the client configuration.
+     */
+    private final ClientSideRateLimiter rateLimiter;
 
     /**
      * Timer to enforce timeouts on the whole execution of the request (request handlers, retries, backoff strategy,
@@ -212,6 +233,17 @@ public class AmazonHttpClient {
      */
     private volatile int timeOffset = SDKGlobalTime.getGlobalTimeOffset();
 
+    /**
+     * Non-blocking transport used by {@link #executeAsync}; created on first use.
+     */
+    private AsyncHttpTransport asyncHttpTransport;
+
+    /**
+     * Runs the response handling, retries and timeouts of the non-blocking executions, so that none of them ever
+     * runs on the threads of the transport; created on first use.
+     */
+    private ScheduledThreadPoolExecutor asyncExecutor;
+
     /**
      * Constructs a new AWS client using the specified client configuration options (ex: max retry attempts, proxy
      * httpClientSettings, etc).
@@ -251,6 +283,7 @@ public class AmazonHttpClient {
         this(config, requestMetricCollector, HttpClientSettings.adapt(config,
                 useBrowserCompatibleHostNameVerifier));
         this.httpClient = httpClientFactory.create(this.httpClientSettings);
+        registerConnectionPoolMonitor();
     }
 
 
@@ -275,12 +308,9 @@ public class AmazonHttpClient {
                 .getResponseMetadataCacheSize());
         this.httpRequestTimer = new HttpRequestTimer();
         this.clientExecutionTimer = new ClientExecutionTimer();
-
-        // When enabled, total retry capacity is computed based on retry cost
-        // and desired number of retries.
-        int throttledRetryMaxCapacity = clientConfig.useThrottledRetries()
-                ? THROTTLED_RETRY_COST * THROTTLED_RETRIES : -1;
-        this.retryCapacity = new CapacityManager(throttledRetryMaxCapacity);
+        this.retryThrottler = clientConfig.getRetryThrottler() != null ? clientConfig.getRetryThrottler()
+                : new CapacityRetryThrottler(clientConfig.useThrottledRetries());
+        this.rateLimiter = clientConfig.useAdaptiveRateLimiting() ? new ClientSideRateLimiter() : null;
     }
 
     /**
@@ -364,6 +394,43 @@ public class AmazonHttpClient {
         }
     }
 
+    /**
+     * Executes the request without blocking the calling thread, and returns a future of the result.
+     * <p>
+     * The request goes through the same request handlers, signing, retries, redirects and error handling as {@link
+     * #execute(Request, HttpResponseHandler, HttpResponseHandler, ExecutionContext)}, but is sent over the
+     * non-blocking {@link AsyncHttpTransport} configured with {@link ClientConfiguration#setAsyncHttpTransportFactory},
+     * so that a request waiting for the network doesn't hold a thread. Backoff delays between retries are scheduled
+     * rather than slept. Response bodies are read into memory before they are unmarshalled, so operations that stream
+     * large responses back to the caller are better served by the blocking execution.
+     * <p>
+     * Request bodies remain blocking {@link InputStream} entities, which the default transport reads on its NIO
+     * reactor threads as it writes them out; a request content that blocks on its reads, such as a stream piped from
+     * another source, stalls the other requests served by the same reactor thread in the meantime. Such content is
+     * better sent with the blocking execution, or buffered before it is sent. Failures to prepare the request, including
+     * the exceptions thrown by the request handlers, fail the returned future rather than being thrown.
+     *
+     * @param request              The AmazonWebServices request to send to the remote server
+     * @param responseHandler      A response handler to accept a successful response from the remote server
+     * @param errorResponseHandler A response handler to accept an unsuccessful response from the remote server
+     * @param executionContext     Additional information about the context of this web service call
+     * @param callback             Callback to notify once the future completes; or null if there is none
+     * @return A future of the response, which fails with the same exceptions that the blocking execution would throw
+     */
+    public <T> Future<Response<T>> executeAsync(Request<?> request,
+                                                HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
+                                                HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+                                                ExecutionContext executionContext,
+                                                FutureCallback<Response<T>> callback) {
+        if (executionContext == null) {
+            throw new AmazonClientException("Internal SDK Error: No execution context parameter specified.");
+        }
+        AsyncExecution<T> execution = new AsyncExecution<T>(request, getNonNullResponseHandler(responseHandler),
+                getNonNullResponseHandler(errorResponseHandler), executionContext, callback);
+        execution.start();
+        return execution.result;
+    }
+
     /**
      * Ensures the response handler is not null. If it is this method returns a dummy response handler.
      *
@@ -416,24 +483,9 @@ public class AmazonHttpClient {
                                       HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
                                       HttpResponseHandler<AmazonServiceException> errorResponseHandler,
                                       ExecutionContext executionContext) throws InterruptedException {
-        final List<RequestHandler2> requestHandler2s = requestHandler2s(request, executionContext);
-
-        AmazonWebServiceRequest awsreq = request.getOriginalRequest();
+        final List<RequestHandler2> requestHandler2s = prepareRequest(request, executionContext);
 
-        setSdkTransactionId(request);
-        setUserAgent(request);
-
-        ProgressListener listener = awsreq.getGeneralProgressListener();
-        // add custom headers
-        Map<String, String> customHeaders = awsreq.getCustomRequestHeaders();
-        if (customHeaders != null) {
-            request.getHeaders().putAll(customHeaders);
-        }
-        // add custom query parameters
-        Map<String, List<String>> customQueryParams = awsreq.getCustomQueryParameters();
-        if (customQueryParams != null) {
-            mergeQueryParameters(request, customQueryParams);
-        }
+        ProgressListener listener = request.getOriginalRequest().getGeneralProgressListener();
         final AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
         Response<T> response = null;
         final InputStream origContent = request.getContent();
@@ -461,6 +513,34 @@ public class AmazonHttpClient {
         }
     }
 
+    /**
+     * Prepares the request for its execution, blocking or not: runs the {@link RequestHandler2#beforeRequest} request
+     * handlers, and adds the transaction id, the user agent, and the custom headers and query parameters of the
+     * original request.
+     *
+     * @return The request handlers of the execution.
+     */
+    private List<RequestHandler2> prepareRequest(Request<?> request, ExecutionContext executionContext) {
+        final List<RequestHandler2> requestHandler2s = requestHandler2s(request, executionContext);
+
+        AmazonWebServiceRequest awsreq = request.getOriginalRequest();
+
+        setSdkTransactionId(request);
+        setUserAgent(request);
+
+        // add custom headers
+        Map<String, String> customHeaders = awsreq.getCustomRequestHeaders();
+        if (customHeaders != null) {
+            request.getHeaders().putAll(customHeaders);
+        }
+        // add custom query parameters
+        Map<String, List<String>> customQueryParams = awsreq.getCustomQueryParameters();
+        if (customQueryParams != null) {
+            mergeQueryParameters(request, customQueryParams);
+        }
+        return requestHandler2s;
+    }
+
     /**
      * Determine if an interrupted exception is caused by the client execution timer interrupting the current thread or
      * some other task interrupting the thread for another purpose.
@@ -698,19 +778,11 @@ public class AmazonHttpClient {
                     return response;
                 }
             } catch (IOException ioe) {
-                if (log.isInfoEnabled()) {
-                    log.info("Unable to execute HTTP request: " + ioe.getMessage(), ioe);
-                }
-                captureExceptionMetrics(ioe, awsRequestMetrics);
-                awsRequestMetrics.addProperty(Field.AWSRequestID, null);
-                AmazonClientException ace = new AmazonClientException(
-                        "Unable to execute HTTP request: " + ioe.getMessage(), ioe);
-                if (!shouldRetry(request.getOriginalRequest(), execOneParams, ace,
-                        executionContext)) {
-                    throw lastReset(ace, request);
+                AmazonClientException ace = handleIOException(ioe, request, executionContext, awsRequestMetrics,
+                        execOneParams);
+                if (ace != null) {
+                    throw ace;
                 }
-                // Cache the retryable exception
-                execOneParams.retriedException = ace;
             } catch (RuntimeException e) {
                 throw lastReset(captureExceptionMetrics(e, awsRequestMetrics), request);
             } catch (Error e) {
@@ -738,6 +810,31 @@ public class AmazonHttpClient {
         } /* end while (true) */
     }
 
+    /**
+     * Records the I/O failure of the current attempt and decides whether it should be retried.
+     *
+     * @return null if the request should be retried; or the exception to fail the execution with otherwise.
+     */
+    private AmazonClientException handleIOException(final IOException ioe,
+                                                    final Request<?> request,
+                                                    final ExecutionContext executionContext,
+                                                    final AWSRequestMetrics awsRequestMetrics,
+                                                    ExecOneRequestParams execOneParams) {
+        if (log.isInfoEnabled()) {
+            log.info("Unable to execute HTTP request: " + ioe.getMessage(), ioe);
+        }
+        captureExceptionMetrics(ioe, awsRequestMetrics);
+        awsRequestMetrics.addProperty(Field.AWSRequestID, null);
+        AmazonClientException ace = new AmazonClientException(
+                "Unable to execute HTTP request: " + ioe.getMessage(), ioe);
+        if (!shouldRetry(request, execOneParams, ace, executionContext)) {
+            return lastReset(ace, request);
+        }
+        // Cache the retryable exception
+        execOneParams.retriedException = ace;
+        return null;
+    }
+
     /**
      * Used to perform a last reset on the content input stream (if mark-supported); this is so that, for backward
      * compatibility reason, any "blind" retry (ie without calling reset) by user of this library with the same input
@@ -804,34 +901,15 @@ public class AmazonHttpClient {
         if (execOneParams.isRetry()) {
             pauseBeforeRetry(request, awsRequestMetrics, execOneParams, listener);
         }
+        checkAttemptAllowed(request);
+        pauseForRateLimit(awsRequestMetrics);
         updateRetryHeaderInfo(request, execOneParams);
-
-        // Sign the request if a signer was provided
-        execOneParams.newSigner(request, execContext);
-        if (execOneParams.signer != null && credentials != null) {
-            awsRequestMetrics.startEvent(Field.RequestSigningTime);
-            try {
-                if (timeOffset != 0) {
-                    // Always use the client level timeOffset if it was
-                    // non-zero; Otherwise, we respect the timeOffset in the
-                    // request, which could have been externally configured (at
-                    // least for the 1st non-retry request).
-                    //
-                    // For retry due to clock skew, the timeOffset in the
-                    // request used for the retry is assumed to have been
-                    // adjusted when execution reaches here.
-                    request.setTimeOffset(timeOffset);
-                }
-                execOneParams.signer.sign(request, credentials);
-            } finally {
-                awsRequestMetrics.endEvent(Field.RequestSigningTime);
-            }
-        }
+        signRequest(request, credentials, execContext, awsRequestMetrics, execOneParams);
 
         checkInterrupted();
         execOneParams.newApacheRequest(httpRequestFactory, request, httpClientSettings);
 
-        captureConnectionPoolMetrics(awsRequestMetrics);
+        captureConnectionPoolMetrics(awsRequestMetrics, execOneParams);
 
         final HttpClientContext localRequestContext =
                 ApacheUtils.newClientContext(httpClientSettings, ImmutableMapParameter.of
@@ -840,7 +918,7 @@ public class AmazonHttpClient {
         execOneParams.resetBeforeHttpRequest();
         publishProgress(listener, ProgressEventType.HTTP_REQUEST_STARTED_EVENT);
         awsRequestMetrics.startEvent(Field.HttpRequestTime);
-        awsRequestMetrics.setCounter(Field.RetryCapacityConsumed, retryCapacity.consumedCapacity());
+        awsRequestMetrics.setCounter(Field.RetryCapacityConsumed, retryThrottler.getConsumedCapacity());
 
         /////////// Send HTTP request ////////////
         execContext.getClientExecutionTrackerTask().setCurrentHttpRequest(execOneParams.apacheRequest);
@@ -870,6 +948,57 @@ public class AmazonHttpClient {
             awsRequestMetrics.endEvent(Field.HttpRequestTime);
         }
 
+        return handleHttpResponse(request, responseHandler, errorResponseHandler, execContext,
+                awsRequestMetrics, execOneParams, isHeaderReqIdAvail, requestHandlers);
+    }
+
+    /**
+     * Signs the request with the signer of the current attempt, if any.
+     */
+    private void signRequest(final Request<?> request,
+                             final AWSCredentials credentials,
+                             final ExecutionContext execContext,
+                             final AWSRequestMetrics awsRequestMetrics,
+                             ExecOneRequestParams execOneParams) {
+        execOneParams.newSigner(request, execContext);
+        if (execOneParams.signer != null && credentials != null) {
+            awsRequestMetrics.startEvent(Field.RequestSigningTime);
+            try {
+                if (timeOffset != 0) {
+                    // Always use the client level timeOffset if it was
+                    // non-zero; Otherwise, we respect the timeOffset in the
+                    // request, which could have been externally configured (at
+                    // least for the 1st non-retry request).
+                    //
+                    // For retry due to clock skew, the timeOffset in the
+                    // request used for the retry is assumed to have been
+                    // adjusted when execution reaches here.
+                    request.setTimeOffset(timeOffset);
+                }
+                execOneParams.signer.sign(request, credentials);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestSigningTime);
+            }
+        }
+    }
+
+    /**
+     * Handles the http response received for the current attempt, which is
+     * either unmarshalled into the result, or turned into a redirect, a retry
+     * or an exception. Shared by the blocking and the non-blocking execution.
+     *
+     * @return the response; or null for retry.
+     */
+    private <T> Response<T> handleHttpResponse(final Request<?> request,
+                                               final HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
+                                               final HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+                                               final ExecutionContext execContext,
+                                               final AWSRequestMetrics awsRequestMetrics,
+                                               ExecOneRequestParams execOneParams,
+                                               final boolean isHeaderReqIdAvail,
+                                               List<RequestHandler2> requestHandlers)
+            throws IOException, InterruptedException {
+        final ProgressListener listener = request.getOriginalRequest().getGeneralProgressListener();
         publishProgress(listener, ProgressEventType.HTTP_REQUEST_COMPLETED_EVENT);
         final StatusLine statusLine = execOneParams.apacheResponse.getStatusLine();
         final int statusCode = statusLine == null ? -1 : statusLine.getStatusCode();
@@ -885,15 +1014,9 @@ public class AmazonHttpClient {
             T response = handleResponse(request, responseHandler, execOneParams.apacheRequest, httpResponse,
                     execOneParams.apacheResponse, execContext, isHeaderReqIdAvail, requestHandlers);
 
-            /*
-             * If this was a successful retry attempt we'll release the full retry capacity that
-             * the attempt originally consumed.  If this was a successful initial request
-             * we return a lesser amount.
-             */
-            if (execOneParams.isRetry() && execContext.retryCapacityConsumed()) {
-                retryCapacity.release(THROTTLED_RETRY_COST);
-            } else {
-                retryCapacity.release();
+            retryThrottler.onAttemptSucceeded(request, execContext.retryCapacityConsumed());
+            if (rateLimiter != null) {
+                rateLimiter.onResponse(false);
             }
             return new Response<T>(response, httpResponse);
         }
@@ -927,8 +1050,7 @@ public class AmazonHttpClient {
                     execOneParams.apacheResponse);
             execOneParams.authRetryParam = authRetry.shouldRetryWithAuthParam(request, httpResponse, ase);
         }
-        if (execOneParams.authRetryParam == null && !shouldRetry(request.getOriginalRequest(),
-                execOneParams, ase, execContext)) {
+        if (execOneParams.authRetryParam == null && !shouldRetry(request, execOneParams, ase, execContext)) {
             throw ase;
         }
         // Comment out for now. Ref: CR2662349
@@ -1024,7 +1146,8 @@ public class AmazonHttpClient {
     /**
      * Captures the connection pool metrics.
      */
-    private void captureConnectionPoolMetrics(AWSRequestMetrics awsRequestMetrics) {
+    private void captureConnectionPoolMetrics(AWSRequestMetrics awsRequestMetrics,
+                                              ExecOneRequestParams execOneParams) {
         if (awsRequestMetrics.isEnabled() && httpClient.getHttpClientConnectionManager() instanceof
                 ConnPoolControl<?>) {
             ConnPoolControl<?> control = (ConnPoolControl<?>) httpClient
@@ -1034,8 +1157,42 @@ public class AmazonHttpClient {
                     .withCounter(HttpClientPoolAvailableCount, control.getTotalStats().getAvailable())
                     .withCounter(HttpClientPoolLeasedCount, control.getTotalStats().getLeased())
                     .withCounter(HttpClientPoolPendingCount, control.getTotalStats().getPending());
+
+            ConnectionPoolMonitor poolMonitor = getConnectionPoolMonitor();
+            String host = execOneParams.apacheRequest.getURI().getHost();
+            ConnectionPoolRouteMXBean route = poolMonitor == null || host == null ? null : poolMonitor.getRoute(host);
+            if (route != null) {
+                awsRequestMetrics
+                        .withCounter(HttpClientPoolRouteAvailableCount, route.getAvailableCount())
+                        .withCounter(HttpClientPoolRouteLeasedCount, route.getLeasedCount())
+                        .withCounter(HttpClientPoolRoutePendingCount, route.getPendingCount())
+                        .withCounter(HttpClientPoolRouteMaxCount, route.getMaxCount())
+                        .withCounter(HttpClientPoolRouteAverageLeaseWaitMillis,
+                                Math.round(route.getAverageLeaseWaitMillis()))
+                        .withCounter(HttpClientPoolRouteReusePercent, Math.round(route.getReuseRatio() * 100));
+            }
+        }
+
+    }
+
+    /**
+     * Registers the connection pool monitor of the http client over JMX, if
+     * the client configuration names it.
+     */
+    private void registerConnectionPoolMonitor() {
+        String name = httpClientSettings.getConnectionPoolMonitorName();
+        ConnectionPoolMonitor poolMonitor = getConnectionPoolMonitor();
+        if (name != null && poolMonitor != null && !poolMonitor.registerMBean(name)) {
+            log.warn("Unable to register the connection pool monitor " + name + " over JMX");
         }
+    }
 
+    /**
+     * Returns the monitor of the connection pool of the http client; or null
+     * if the http client doesn't have one.
+     */
+    private ConnectionPoolMonitor getConnectionPoolMonitor() {
+        return httpClient instanceof SdkHttpClient ? ((SdkHttpClient) httpClient).getConnectionPoolMonitor() : null;
     }
 
     /**
@@ -1082,6 +1239,35 @@ public class AmazonHttpClient {
         }
     }
 
+    /**
+     * Waits until the adaptive rate limit of this client, if enabled, lets the next attempt through.
+     */
+    private void pauseForRateLimit(AWSRequestMetrics awsRequestMetrics) throws InterruptedException {
+        if (rateLimiter == null) {
+            return;
+        }
+        long delay = rateLimiter.acquire();
+        if (delay > 0) {
+            awsRequestMetrics.startEvent(Field.RateLimitPauseTime);
+            try {
+                Thread.sleep(delay);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RateLimitPauseTime);
+            }
+        }
+    }
+
+    /**
+     * Fails the request fast if the retry throttler doesn't let it through, typically because the
+     * service has been failing.
+     */
+    private void checkAttemptAllowed(Request<?> request) {
+        if (!retryThrottler.allowAttempt(request)) {
+            throw new RetryThrottlingException("Unable to execute HTTP request: the retry throttler "
+                    + "failed it fast because " + request.getEndpoint() + " has been failing");
+        }
+    }
+
     /**
      * Adds Retry information to the {@link #HEADER_SDK_RETRY_INFO} header. Used for analysis of retry policy.
      *
@@ -1089,7 +1275,7 @@ public class AmazonHttpClient {
      * @param execOneRequestParams Request context containing retry information
      */
     private void updateRetryHeaderInfo(Request<?> request, ExecOneRequestParams execOneRequestParams) {
-        int availableRetryCapacity = retryCapacity.availableCapacity();
+        int availableRetryCapacity = retryThrottler.getAvailableCapacity();
 
         String headerValue = String.format("%s/%s/%s",
                 execOneRequestParams.requestCount - 1,
@@ -1110,13 +1296,71 @@ public class AmazonHttpClient {
         IdleConnectionReaper.removeConnectionManager(httpClient
                 .getHttpClientConnectionManager());
         httpClient.getHttpClientConnectionManager().shutdown();
+        ConnectionPoolMonitor poolMonitor = getConnectionPoolMonitor();
+        if (poolMonitor != null) {
+            poolMonitor.unregisterMBean();
+        }
+        synchronized (this) {
+            if (asyncHttpTransport != null) {
+                asyncHttpTransport.shutdown();
+            }
+            if (asyncExecutor != null) {
+                asyncExecutor.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Returns the non-blocking transport of this client, creating it with the factory of the client configuration
+     * on first use. The default transport needs the optional dependency on Apache HttpAsyncClient.
+     */
+    private synchronized AsyncHttpTransport getAsyncHttpTransport() {
+        if (asyncHttpTransport == null) {
+            HttpClientFactory<AsyncHttpTransport> factory = config.getAsyncHttpTransportFactory();
+            if (factory != null) {
+                asyncHttpTransport = factory.create(httpClientSettings);
+            } else {
+                try {
+                    asyncHttpTransport = new ApacheAsyncHttpTransportFactory().create(httpClientSettings);
+                } catch (NoClassDefFoundError e) {
+                    throw new AmazonClientException("The default non-blocking transport requires "
+                            + "org.apache.httpcomponents:httpasyncclient on the classpath; add the dependency, "
+                            + "or set an AsyncHttpTransportFactory in the client configuration", e);
+                }
+            }
+        }
+        return asyncHttpTransport;
+    }
+
+    /**
+     * Returns the executor of the non-blocking executions of this client, creating it on first use.
+     */
+    private synchronized ScheduledThreadPoolExecutor getAsyncExecutor() {
+        if (asyncExecutor == null) {
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(
+                    Runtime.getRuntime().availableProcessors(), new ThreadFactory() {
+                        private final AtomicInteger threadCount = new AtomicInteger();
+
+                        @Override
+                        public Thread newThread(Runnable runnable) {
+                            Thread thread = new Thread(runnable,
+                                    "aws-sdk-async-" + threadCount.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        }
+                    });
+            executor.setKeepAliveTime(5, TimeUnit.SECONDS);
+            executor.allowCoreThreadTimeOut(true);
+            asyncExecutor = executor;
+        }
+        return asyncExecutor;
     }
 
     /**
      * Returns true if a failed request should be retried.
      *
-     * @param originalRequest
-     *            The original service request that is being executed.
+     * @param request
+     *            The request that is being executed.
      * @param params
      *            Params for the individual request being executed.
      * @param exception
@@ -1125,10 +1369,16 @@ public class AmazonHttpClient {
      *            The execution context for the request being executed.
      * @return True if the failed request should be retried.
      */
-    private boolean shouldRetry(AmazonWebServiceRequest originalRequest,
+    private boolean shouldRetry(Request<?> request,
                                 ExecOneRequestParams params,
                                 AmazonClientException exception,
                                 ExecutionContext executionContext) {
+        retryThrottler.onAttemptFailed(request, exception);
+        if (rateLimiter != null && exception instanceof AmazonServiceException) {
+            rateLimiter.onResponse(RetryUtils.isThrottlingException((AmazonServiceException) exception));
+        }
+
+        final AmazonWebServiceRequest originalRequest = request.getOriginalRequest();
         final int retries = params.requestCount - 1;
         final RetryPolicy retryPolicy = config.getRetryPolicy();
         final HttpRequestBase method = params.apacheRequest;
@@ -1157,28 +1407,21 @@ public class AmazonHttpClient {
             }
         }
 
-        // Do not use retry capacity for throttling exceptions
-        if (!(exception instanceof AmazonServiceException &&
-                RetryUtils.isThrottlingException((AmazonServiceException) exception)))
-        {
-            // See if we have enough available retry capacity to be able to execute
-            // this retry attempt.
-            if (!retryCapacity.acquire(THROTTLED_RETRY_COST)) {
-                return false;
-            }
-            executionContext.markRetryCapacityConsumed();
-        }
-
         // Finally, pass all the context information to the RetryCondition and let it
         // decide whether it should be retried.
         if (!retryPolicy.getRetryCondition().shouldRetry(originalRequest, exception, retries)) {
-            // If the retry policy fails we immediately return consumed capacity to the pool.
-            if (executionContext.retryCapacityConsumed()) {
-                retryCapacity.release(THROTTLED_RETRY_COST);
-            }
             return false;
         }
 
+        // See if the retry throttler lets this retry attempt through.
+        int retryCapacityConsumed = retryThrottler.acquireRetry(request, exception);
+        if (retryCapacityConsumed < 0) {
+            return false;
+        }
+        if (retryCapacityConsumed > 0) {
+            executionContext.markRetryCapacityConsumed();
+        }
+
         return true;
     }
 
@@ -1255,10 +1498,12 @@ public class AmazonHttpClient {
                 throw new RuntimeException("Unable to unmarshall response metadata. Response Code: "
                         + httpResponse.getStatusCode() + ", Response Text: " + httpResponse.getStatusText());
 
-            AmazonWebServiceRequest userRequest = request.getOriginalRequest();
-            if (userRequest.getCloneRoot() != null)
-                userRequest = userRequest.getCloneRoot();
-            responseMetadataCache.add(userRequest, awsResponse.getResponseMetadata());
+            if (responseMetadataCache.isEnabled()) {
+                AmazonWebServiceRequest userRequest = request.getOriginalRequest();
+                if (userRequest.getCloneRoot() != null)
+                    userRequest = userRequest.getCloneRoot();
+                responseMetadataCache.add(userRequest, awsResponse.getResponseMetadata());
+            }
             final String awsRequestId = awsResponse.getRequestId();
 
             if (requestLog.isDebugEnabled()) {
@@ -1433,6 +1678,19 @@ public class AmazonHttpClient {
                                     int requestCount,
                                     RetryPolicy retryPolicy,
                                     ExecOneRequestParams execOneParams) throws InterruptedException {
+        Thread.sleep(computeBackoffDelay(originalRequest, previousException, requestCount, retryPolicy,
+                execOneParams));
+    }
+
+    /**
+     * Returns the period of time to wait before the next retry, as decided by the backoff strategy of the retry
+     * policy, and records it as the last backoff delay of the execution.
+     */
+    private long computeBackoffDelay(AmazonWebServiceRequest originalRequest,
+                                     AmazonClientException previousException,
+                                     int requestCount,
+                                     RetryPolicy retryPolicy,
+                                     ExecOneRequestParams execOneParams) {
         final int retries = requestCount // including next attempt
                 - 1 // number of attempted requests
                 - 1; // number of attempted retries
@@ -1443,8 +1701,7 @@ public class AmazonHttpClient {
         if (log.isDebugEnabled()) {
             log.debug("Retriable error detected, " + "will retry in " + delay + "ms, attempt number: " + retries);
         }
-
-        Thread.sleep(delay);
+        return delay;
     }
 
     // SWF: Signature not yet current: 20140819T173921Z is still later than 20140819T173829Z
@@ -1549,6 +1806,471 @@ public class AmazonHttpClient {
 
     }
 
+    /**
+     * State machine of a single non-blocking execution. Each attempt is sent from the thread that scheduled it, and
+     * the outcome of the attempt is handled on the executor of the client; the attempts of an execution never
+     * overlap, so the state of the execution is only accessed by one thread at a time. Only timeouts and
+     * cancellations race with the attempts, and the execution is completed by whichever path wins its state.
+     */
+    private class AsyncExecution<T> implements FutureCallback<org.apache.http.HttpResponse> {
+        /** The execution goes on; an attempt is scheduled or in flight. */
+        private static final int ACTIVE = 0;
+        /** The response of an attempt is being handled. */
+        private static final int RESPONDING = 1;
+        /** The execution is complete. */
+        private static final int DONE = 2;
+
+        private final Request<?> request;
+        private final HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler;
+        private final HttpResponseHandler<AmazonServiceException> errorResponseHandler;
+        private final ExecutionContext executionContext;
+        private final AWSRequestMetrics awsRequestMetrics;
+        private final ExecOneRequestParams execOneParams = new ExecOneRequestParams();
+        private final AtomicInteger state = new AtomicInteger(ACTIVE);
+        /** Failure of the execution reported while a response was handled, carried out once it is handled. */
+        private final AtomicReference<Exception> deferredFailure = new AtomicReference<Exception>();
+        private final BasicFuture<Response<T>> result;
+
+        private List<RequestHandler2> requestHandler2s;
+        private ProgressListener listener;
+        private InputStream origContent;
+        private InputStream toBeClosed;
+        private InputStream originalContent;
+        private Map<String, List<String>> originalParameters;
+        private Map<String, String> originalHeaders;
+
+        private volatile Future<org.apache.http.HttpResponse> inFlight;
+        private volatile ScheduledFuture<?> requestTimeoutTask;
+        private volatile ScheduledFuture<?> clientExecutionTimeoutTask;
+        private volatile boolean requestTimedOut;
+
+        AsyncExecution(Request<?> request,
+                       HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
+                       HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+                       ExecutionContext executionContext,
+                       FutureCallback<Response<T>> callback) {
+            this.request = request;
+            this.responseHandler = responseHandler;
+            this.errorResponseHandler = errorResponseHandler;
+            this.executionContext = executionContext;
+            this.awsRequestMetrics = executionContext.getAwsRequestMetrics();
+            this.result = new BasicFuture<Response<T>>(callback) {
+                @Override
+                public boolean cancel(boolean mayInterruptIfRunning) {
+                    if (!claim(null)) {
+                        return false;
+                    }
+                    abort();
+                    publishProgress(listener, ProgressEventType.CLIENT_REQUEST_FAILED_EVENT);
+                    return super.cancel(mayInterruptIfRunning);
+                }
+            };
+        }
+
+        /**
+         * Runs the request handlers and sends the first attempt on the calling thread. A failure to prepare the
+         * request, such as an exception thrown by a request handler, fails the future of the execution rather than
+         * being thrown to the caller; as with the blocking execution, the request handlers are not notified of it.
+         */
+        void start() {
+            try {
+                requestHandler2s = prepareRequest(request, executionContext);
+                AmazonWebServiceRequest awsreq = request.getOriginalRequest();
+                listener = awsreq.getGeneralProgressListener();
+                origContent = request.getContent();
+                toBeClosed = beforeRequest(request); // for progress tracking
+                // make "notCloseable", so reset would work with retries
+                originalContent = (toBeClosed == null) ? null
+                        : ReleasableInputStream.wrap(toBeClosed).disableClose();
+                request.setContent(originalContent);
+                publishProgress(listener, ProgressEventType.CLIENT_REQUEST_STARTED_EVENT);
+
+                awsRequestMetrics.addPropertyWith(Field.ServiceName, request.getServiceName())
+                        .addPropertyWith(Field.ServiceEndpoint, request.getEndpoint());
+                originalParameters = new LinkedHashMap<String, List<String>>(request.getParameters());
+                originalHeaders = new HashMap<String, String>(request.getHeaders());
+                if (originalContent != null && originalContent.markSupported()) {
+                    originalContent.mark(awsreq.getRequestClientOptions().getReadLimit());
+                }
+                int clientExecutionTimeout = getClientExecutionTimeout(awsreq);
+                if (clientExecutionTimeout > 0) {
+                    clientExecutionTimeoutTask = getAsyncExecutor().schedule(new Runnable() {
+                        @Override
+                        public void run() {
+                            fail(new ClientExecutionTimeoutException());
+                        }
+                    }, clientExecutionTimeout, TimeUnit.MILLISECONDS);
+                }
+            } catch (RuntimeException e) {
+                if (claim(null)) {
+                    if (toBeClosed != null) {
+                        restoreContent();
+                    }
+                    result.failed(e);
+                }
+                return;
+            }
+            attempt();
+        }
+
+        /**
+         * Prepares the next attempt of the request, and sends it after the pause of the client side rate limiter,
+         * if any.
+         */
+        private void attempt() {
+            if (state.get() != ACTIVE) {
+                return;
+            }
+            try {
+                execOneParams.initPerRetry();
+                if (execOneParams.redirectedURI != null) {
+                    String scheme = execOneParams.redirectedURI.getScheme();
+                    String beforeAuthority = scheme == null ? "" : scheme + "://";
+                    request.setEndpoint(URI.create(beforeAuthority + execOneParams.redirectedURI.getAuthority()));
+                    request.setResourcePath(execOneParams.redirectedURI.getPath());
+                }
+                if (execOneParams.authRetryParam != null) {
+                    request.setEndpoint(execOneParams.authRetryParam.getEndpointForRetry());
+                }
+                awsRequestMetrics.setCounter(Field.RequestCount, execOneParams.requestCount);
+                if (execOneParams.isRetry()) {
+                    request.setParameters(originalParameters);
+                    request.setHeaders(originalHeaders);
+                    request.setContent(originalContent);
+                    resetRequestInputStream(request);
+                }
+                if (requestLog.isDebugEnabled()) {
+                    requestLog.debug("Sending Request: " + request);
+                }
+                checkAttemptAllowed(request);
+                long delay = rateLimiter == null ? 0 : rateLimiter.acquire();
+                if (delay > 0) {
+                    awsRequestMetrics.startEvent(Field.RateLimitPauseTime);
+                    getAsyncExecutor().schedule(new Runnable() {
+                        @Override
+                        public void run() {
+                            awsRequestMetrics.endEvent(Field.RateLimitPauseTime);
+                            send();
+                        }
+                    }, delay, TimeUnit.MILLISECONDS);
+                    return;
+                }
+            } catch (RejectedExecutionException e) {
+                fail(new AbortedException("The client has been shut down", e));
+                return;
+            } catch (RuntimeException e) {
+                fail(lastReset(captureExceptionMetrics(e, awsRequestMetrics), request));
+                return;
+            }
+            send();
+        }
+
+        /**
+         * Signs and sends the attempt prepared by {@link #attempt()}, once the client side rate limiter lets it
+         * through.
+         */
+        private void send() {
+            if (state.get() != ACTIVE) {
+                return;
+            }
+            try {
+                final AWSCredentials credentials = getCredentialsFromContext(executionContext, awsRequestMetrics);
+                updateRetryHeaderInfo(request, execOneParams);
+                signRequest(request, credentials, executionContext, awsRequestMetrics, execOneParams);
+                execOneParams.newApacheRequest(httpRequestFactory, request, httpClientSettings);
+
+                final HttpClientContext localRequestContext =
+                        ApacheUtils.newClientContext(httpClientSettings, ImmutableMapParameter.of
+                                (AWSRequestMetrics.class.getSimpleName(), awsRequestMetrics));
+
+                execOneParams.resetBeforeHttpRequest();
+                publishProgress(listener, ProgressEventType.HTTP_REQUEST_STARTED_EVENT);
+                awsRequestMetrics.startEvent(Field.HttpRequestTime);
+                awsRequestMetrics.setCounter(Field.RetryCapacityConsumed, retryThrottler.getConsumedCapacity());
+
+                requestTimedOut = false;
+                inFlight = getAsyncHttpTransport().execute(execOneParams.apacheRequest, localRequestContext, this);
+                int requestTimeout = getRequestTimeout(request.getOriginalRequest());
+                if (requestTimeout > 0) {
+                    final Future<org.apache.http.HttpResponse> attempt = inFlight;
+                    requestTimeoutTask = getAsyncExecutor().schedule(new Runnable() {
+                        @Override
+                        public void run() {
+                            requestTimedOut = true;
+                            attempt.cancel(true);
+                        }
+                    }, requestTimeout, TimeUnit.MILLISECONDS);
+                }
+            } catch (IOException ioe) {
+                onIOException(ioe);
+            } catch (RuntimeException e) {
+                fail(lastReset(captureExceptionMetrics(e, awsRequestMetrics), request));
+            }
+        }
+
+        @Override
+        public void completed(final org.apache.http.HttpResponse apacheResponse) {
+            endHttpRequest();
+            dispatch(new Runnable() {
+                @Override
+                public void run() {
+                    onResponse(apacheResponse);
+                }
+            });
+        }
+
+        @Override
+        public void failed(final Exception ex) {
+            endHttpRequest();
+            dispatch(new Runnable() {
+                @Override
+                public void run() {
+                    if (ex instanceof IOException) {
+                        onIOException((IOException) ex);
+                    } else {
+                        fail(new AmazonClientException("Unable to execute HTTP request: " + ex.getMessage(), ex));
+                    }
+                }
+            });
+        }
+
+        @Override
+        public void cancelled() {
+            endHttpRequest();
+            if (state.get() == DONE) {
+                return;
+            }
+            dispatch(new Runnable() {
+                @Override
+                public void run() {
+                    if (requestTimedOut) {
+                        onIOException(new HttpRequestTimeoutException(
+                                "Request did not complete before the request timeout configuration."));
+                    } else {
+                        fail(new AbortedException());
+                    }
+                }
+            });
+        }
+
+        private void endHttpRequest() {
+            ScheduledFuture<?> task = requestTimeoutTask;
+            if (task != null) {
+                task.cancel(false);
+            }
+            awsRequestMetrics.endEvent(Field.HttpRequestTime);
+        }
+
+        private void onResponse(org.apache.http.HttpResponse apacheResponse) {
+            execOneParams.apacheResponse = apacheResponse;
+            try {
+                // Claim the execution while the response is handled, so that a timeout firing in the meantime
+                // doesn't complete it under the response handler; such a failure is carried out afterwards.
+                if (!state.compareAndSet(ACTIVE, RESPONDING)) {
+                    return;
+                }
+                boolean isHeaderReqIdAvail = logHeaderRequestId(apacheResponse);
+                Response<T> response = handleHttpResponse(request, responseHandler, errorResponseHandler,
+                        executionContext, awsRequestMetrics, execOneParams, isHeaderReqIdAvail, requestHandler2s);
+                if (response != null) {
+                    succeed(response);
+                } else if (!endResponse()) {
+                    retry();
+                }
+            } catch (IOException ioe) {
+                if (!endResponse()) {
+                    onIOException(ioe);
+                }
+            } catch (InterruptedException e) {
+                if (!endResponse()) {
+                    fail(new AmazonClientException(e));
+                }
+            } catch (RuntimeException e) {
+                if (!endResponse()) {
+                    fail(lastReset(captureExceptionMetrics(e, awsRequestMetrics), request));
+                }
+            } finally {
+                // The entity has been fully read into memory by the transport, so closing it only matters for the
+                // response handlers that don't consume it.
+                if (!execOneParams.leaveHttpConnectionOpen && apacheResponse.getEntity() != null) {
+                    try {
+                        closeQuietly(apacheResponse.getEntity().getContent(), log);
+                    } catch (IOException e) {
+                        log.warn("Cannot close the response content.", e);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Gives back the claim on the execution taken to handle a response that didn't complete it.
+         *
+         * @return true if the execution is done, either already or by a failure reported while the response was
+         *         handled, and false if it goes on.
+         */
+        private boolean endResponse() {
+            if (!state.compareAndSet(RESPONDING, ACTIVE)) {
+                return true;
+            }
+            Exception failure = deferredFailure.getAndSet(null);
+            if (failure == null) {
+                return false;
+            }
+            fail(failure);
+            return true;
+        }
+
+        /**
+         * Takes the execution over to complete it with a failure.
+         *
+         * @param failure
+         *            the failure completing the execution, deferred until the handling of the response is over if a
+         *            response is being handled; or null for not deferring it.
+         * @return true if the caller is to complete the execution, and false if it is done or left to the
+         *         handling of the response.
+         */
+        private boolean claim(Exception failure) {
+            for (;;) {
+                int current = state.get();
+                if (current == ACTIVE) {
+                    if (state.compareAndSet(ACTIVE, DONE)) {
+                        return true;
+                    }
+                } else if (current == RESPONDING && failure != null) {
+                    deferredFailure.compareAndSet(null, failure);
+                    if (state.get() == RESPONDING) {
+                        return false;
+                    }
+                    // the handling of the response is over, and may have missed the failure
+                } else {
+                    return false;
+                }
+            }
+        }
+
+        private void onIOException(IOException ioe) {
+            if (state.get() == DONE) {
+                return;
+            }
+            AmazonClientException ace = handleIOException(ioe, request, executionContext, awsRequestMetrics,
+                    execOneParams);
+            if (ace != null) {
+                fail(ace);
+            } else {
+                retry();
+            }
+        }
+
+        /**
+         * Schedules the next attempt after the backoff delay of the retry policy.
+         */
+        private void retry() {
+            publishProgress(listener, ProgressEventType.CLIENT_REQUEST_RETRY_EVENT);
+            long delay = 0;
+            // don't pause if the retry was not due to a redirection
+            // ie when retried exception is null
+            if (execOneParams.retriedException != null) {
+                delay = computeBackoffDelay(request.getOriginalRequest(), execOneParams.retriedException,
+                        execOneParams.requestCount + 1, config.getRetryPolicy(), execOneParams);
+            }
+            awsRequestMetrics.startEvent(Field.RetryPauseTime);
+            try {
+                getAsyncExecutor().schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        awsRequestMetrics.endEvent(Field.RetryPauseTime);
+                        attempt();
+                    }
+                }, delay, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                fail(new AbortedException("The client has been shut down", e));
+            }
+        }
+
+        private void dispatch(Runnable task) {
+            try {
+                getAsyncExecutor().execute(task);
+            } catch (RejectedExecutionException e) {
+                fail(new AbortedException("The client has been shut down", e));
+            }
+        }
+
+        private void succeed(Response<T> response) {
+            if (!state.compareAndSet(RESPONDING, DONE)) {
+                return;
+            }
+            cancelClientExecutionTimeout();
+            try {
+                publishProgress(listener, ProgressEventType.CLIENT_REQUEST_SUCCESS_EVENT);
+                TimingInfo timingInfo = awsRequestMetrics.getTimingInfo().endTiming();
+                afterResponse(request, requestHandler2s, response, timingInfo);
+            } catch (AmazonClientException e) {
+                publishProgress(listener, ProgressEventType.CLIENT_REQUEST_FAILED_EVENT);
+                notifyAfterError(response, e);
+                restoreContent();
+                result.failed(e);
+                return;
+            } catch (InterruptedException e) {
+                restoreContent();
+                result.failed(new AmazonClientException(e));
+                return;
+            }
+            restoreContent();
+            result.completed(response);
+        }
+
+        private void fail(Exception e) {
+            if (!claim(e)) {
+                return;
+            }
+            abort();
+            publishProgress(listener, ProgressEventType.CLIENT_REQUEST_FAILED_EVENT);
+            if (e instanceof AmazonClientException) {
+                notifyAfterError(null, (AmazonClientException) e);
+            }
+            result.failed(e);
+        }
+
+        private void notifyAfterError(Response<?> response, AmazonClientException e) {
+            try {
+                afterError(request, response, requestHandler2s, e);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException re) {
+                log.warn("Request handler failed after the error of a request", re);
+            }
+        }
+
+        /**
+         * Stops the attempt in flight, if any, and releases the content of the request.
+         */
+        private void abort() {
+            cancelClientExecutionTimeout();
+            ScheduledFuture<?> task = requestTimeoutTask;
+            if (task != null) {
+                task.cancel(false);
+            }
+            Future<org.apache.http.HttpResponse> attempt = inFlight;
+            if (attempt != null) {
+                attempt.cancel(true);
+            }
+            restoreContent();
+        }
+
+        private void cancelClientExecutionTimeout() {
+            ScheduledFuture<?> task = clientExecutionTimeoutTask;
+            if (task != null) {
+                task.cancel(false);
+            }
+        }
+
+        private void restoreContent() {
+            // Always close so any progress tracking would get the final events propagated.
+            closeQuietly(toBeClosed, log);
+            request.setContent(origContent); // restore the original content
+        }
+    }
+
     /**
      * Stateful parameters that are used for executing a single httpClientSettings request.
      */
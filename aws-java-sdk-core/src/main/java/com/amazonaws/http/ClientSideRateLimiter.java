@@ -0,0 +1,170 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http;
+
+import java.util.concurrent.TimeUnit;
+
+import com.amazonaws.annotation.ThreadSafe;
+
+/**
+ * Adaptive limit on the rate at which a client sends requests, which slows all
+ * the threads of the client down once the service throttles some of them,
+ * rather than only backing off the throttled requests.
+ * <p>
+ * The send rate follows the CUBIC congestion control algorithm: it is cut to
+ * {@value #BETA} times the measured rate on each throttling response, then
+ * grows back along a cubic curve that flattens around the rate at which the
+ * service last throttled, and accelerates beyond it. It is also capped to
+ * twice the measured rate, so that it can't run away while the client is
+ * idle. The limiter stays out of the way until the first throttling response.
+ * <p>
+ * The requests are paced with a token bucket filled at the send rate: each
+ * request takes a token, possibly ahead of time, and waits until it is due.
+ */
+@ThreadSafe
+class ClientSideRateLimiter {
+
+    private static final double MIN_FILL_RATE = 0.5;
+    private static final double MIN_CAPACITY = 1;
+    private static final double SMOOTH = 0.8;
+    private static final double BETA = 0.7;
+    private static final double SCALE_CONSTANT = 0.4;
+
+    /** Set once the first throttling response is seen; the state below is then guarded by this object. */
+    private volatile boolean enabled;
+
+    private double fillRate;
+    private double maxCapacity;
+    private double currentCapacity;
+    private double lastRefillTime = -1;
+
+    private double measuredTxRate;
+    private double lastTxRateBucket;
+    private long requestCount;
+
+    private double lastMaxRate;
+    private double lastThrottleTime;
+    private double timeWindow;
+
+    ClientSideRateLimiter() {
+        double now = nowSeconds();
+        this.lastTxRateBucket = Math.floor(now);
+        this.lastThrottleTime = now;
+    }
+
+    /**
+     * Takes a token for the next request.
+     *
+     * @return how long, in milliseconds, the request must wait before it is
+     *         sent; 0 if it can be sent now.
+     */
+    long acquire() {
+        if (!enabled) {
+            return 0;
+        }
+        synchronized (this) {
+            refill(nowSeconds());
+            currentCapacity -= 1;
+            if (currentCapacity >= 0) {
+                return 0;
+            }
+            // Requests queue up in the order they took their token.
+            return (long) Math.ceil(-currentCapacity / fillRate * TimeUnit.SECONDS.toMillis(1));
+        }
+    }
+
+    /**
+     * Adjusts the send rate to the response of a request.
+     *
+     * @param throttled
+     *            true if the service throttled the request.
+     */
+    void onResponse(boolean throttled) {
+        if (!throttled && !enabled) {
+            // Keep measuring the send rate, to start from it on the first throttling response.
+            synchronized (this) {
+                updateMeasuredRate(nowSeconds());
+            }
+            return;
+        }
+        synchronized (this) {
+            double now = nowSeconds();
+            updateMeasuredRate(now);
+            double calculatedRate;
+            if (throttled) {
+                double rateToUse = enabled ? Math.min(measuredTxRate, fillRate) : measuredTxRate;
+                lastMaxRate = rateToUse;
+                calculateTimeWindow();
+                lastThrottleTime = now;
+                calculatedRate = rateToUse * BETA;
+                enabled = true;
+            } else {
+                calculateTimeWindow();
+                calculatedRate = SCALE_CONSTANT * Math.pow(now - lastThrottleTime - timeWindow, 3) + lastMaxRate;
+            }
+            updateFillRate(now, Math.min(calculatedRate, 2 * measuredTxRate));
+        }
+    }
+
+    /**
+     * Returns the current send rate, in requests per second; or a negative
+     * value while the limiter is not enabled.
+     */
+    synchronized double getSendRate() {
+        return enabled ? fillRate : -1;
+    }
+
+    /**
+     * Returns the current time, in seconds. Overridden by tests.
+     */
+    double nowSeconds() {
+        return System.nanoTime() / (double) TimeUnit.SECONDS.toNanos(1);
+    }
+
+    private void refill(double now) {
+        if (lastRefillTime >= 0) {
+            currentCapacity = Math.min(maxCapacity, currentCapacity + (now - lastRefillTime) * fillRate);
+        }
+        lastRefillTime = now;
+    }
+
+    private void updateFillRate(double now, double newRate) {
+        refill(now);
+        fillRate = Math.max(newRate, MIN_FILL_RATE);
+        maxCapacity = Math.max(newRate, MIN_CAPACITY);
+        currentCapacity = Math.min(currentCapacity, maxCapacity);
+    }
+
+    /**
+     * Measures the send rate over half second buckets, smoothed over time.
+     */
+    private void updateMeasuredRate(double now) {
+        double timeBucket = Math.floor(now * 2) / 2;
+        requestCount++;
+        if (timeBucket > lastTxRateBucket) {
+            double currentRate = requestCount / (timeBucket - lastTxRateBucket);
+            measuredTxRate = currentRate * SMOOTH + measuredTxRate * (1 - SMOOTH);
+            requestCount = 0;
+            lastTxRateBucket = timeBucket;
+        }
+    }
+
+    /**
+     * The time it takes the cubic curve to grow back to the last max rate.
+     */
+    private void calculateTimeWindow() {
+        timeWindow = Math.cbrt(lastMaxRate * (1 - BETA) / SCALE_CONSTANT);
+    }
+}
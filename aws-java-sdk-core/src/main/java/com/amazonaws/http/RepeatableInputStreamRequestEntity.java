@@ -15,6 +15,9 @@
 package com.amazonaws.http;
 
 import com.amazonaws.Request;
+import com.amazonaws.event.ProgressInputStream;
+import com.amazonaws.event.ProgressListener;
+import com.amazonaws.internal.ReplayableContent;
 import com.amazonaws.metrics.MetricInputStreamEntity;
 import com.amazonaws.metrics.ServiceMetricType;
 import com.amazonaws.metrics.ThroughputMetricType;
@@ -50,6 +53,12 @@ public class RepeatableInputStreamRequestEntity extends BasicHttpEntity {
     /** The InputStream containing the content to write out */
     private InputStream content;
 
+    /**
+     * The content itself, when it can be written out directly rather than
+     * through an intermediate buffer; or null.
+     */
+    private ReplayableContent replayableContent;
+
     private static final Log log = LogFactory
             .getLog(RepeatableInputStreamRequestEntity.class);
 
@@ -103,6 +112,18 @@ public class RepeatableInputStreamRequestEntity extends BasicHttpEntity {
                         ServiceMetricType.UPLOAD_BYTE_COUNT_NAME_SUFFIX);
 
         content = getContent(request);
+        if (type == null) {
+            replayableContent = getReplayableContent(content);
+            if (replayableContent != null) {
+                long remainingLength = replayableContent.getRemainingLength();
+                if (contentLength < 0) {
+                    contentLength = remainingLength;
+                } else if (contentLength != remainingLength) {
+                    // Only part of the content is to be sent
+                    replayableContent = null;
+                }
+            }
+        }
         inputStreamRequestEntity = (type == null) ? new InputStreamEntity(content, contentLength) :
                 new MetricInputStreamEntity(type, content, contentLength);
         inputStreamRequestEntity.setContentType(contentType);
@@ -120,6 +141,19 @@ public class RepeatableInputStreamRequestEntity extends BasicHttpEntity {
                 request.getContent();
     }
 
+    /**
+     * Returns the given content if it is replayable content, possibly wrapped
+     * in a progress stream without a listener; or null otherwise.
+     */
+    private static ReplayableContent getReplayableContent(InputStream content) {
+        InputStream is = content;
+        while (is instanceof ProgressInputStream
+                && ((ProgressInputStream) is).getListener() == ProgressListener.NOOP) {
+            is = ((ProgressInputStream) is).getWrappedInputStream();
+        }
+        return is instanceof ReplayableContent ? (ReplayableContent) is : null;
+    }
+
     @Override
     public boolean isChunked() {
         return false;
@@ -142,7 +176,8 @@ public class RepeatableInputStreamRequestEntity extends BasicHttpEntity {
     /**
      * Resets the underlying InputStream if this isn't the first attempt to
      * write out the request, otherwise simply delegates to
-     * InputStreamRequestEntity to write out the data.
+     * InputStreamRequestEntity to write out the data. Replayable content is
+     * written out directly, without an intermediate buffer.
      * <p>
      * If an error is encountered the first time we try to write the request
      * entity, we remember the original exception, and report that as the root
@@ -157,7 +192,11 @@ public class RepeatableInputStreamRequestEntity extends BasicHttpEntity {
             if (!firstAttempt && isRepeatable()) content.reset();
 
             firstAttempt = false;
-            inputStreamRequestEntity.writeTo(output);
+            if (replayableContent != null) {
+                replayableContent.writeTo(output);
+            } else {
+                inputStreamRequestEntity.writeTo(output);
+            }
         } catch (IOException ioe) {
             if (originalException == null) originalException = ioe;
             throw originalException;
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.apache.client.impl;
+
+import java.io.IOException;
+import java.util.concurrent.Future;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.nio.conn.NHttpClientConnectionManager;
+import org.apache.http.protocol.HttpContext;
+
+import com.amazonaws.http.client.AsyncHttpTransport;
+
+/**
+ * An {@link AsyncHttpTransport} backed by Apache HttpAsyncClient. Responses
+ * are consumed into memory by the I/O dispatch threads before the callback is
+ * notified.
+ */
+public class ApacheAsyncHttpTransport implements AsyncHttpTransport {
+
+    private static final Log LOG = LogFactory.getLog(ApacheAsyncHttpTransport.class);
+
+    private final CloseableHttpAsyncClient delegate;
+
+    private final NHttpClientConnectionManager cm;
+
+    public ApacheAsyncHttpTransport(CloseableHttpAsyncClient delegate,
+                                    NHttpClientConnectionManager cm) {
+        this.delegate = delegate;
+        this.cm = cm;
+    }
+
+    @Override
+    public Future<HttpResponse> execute(HttpRequestBase request, HttpContext context,
+                                        FutureCallback<HttpResponse> callback) {
+        return delegate.execute(request, context, callback);
+    }
+
+    /**
+     * Returns the connection manager of the underlying client.
+     */
+    public NHttpClientConnectionManager getConnectionManager() {
+        return cm;
+    }
+
+    @Override
+    public void shutdown() {
+        try {
+            delegate.close();
+        } catch (IOException e) {
+            LOG.debug("Unable to close the asynchronous http client", e);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.apache.client.impl;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.net.ssl.HostnameVerifier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.RedirectStrategy;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.protocol.RequestAcceptEncoding;
+import org.apache.http.client.protocol.ResponseContentEncoding;
+import org.apache.http.config.ConnectionConfig;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.conn.DefaultSchemePortResolver;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
+import org.apache.http.nio.reactor.IOReactorException;
+import org.apache.http.protocol.HttpContext;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.http.DelegatingDnsResolver;
+import com.amazonaws.http.apache.SdkProxyRoutePlanner;
+import com.amazonaws.http.apache.utils.ApacheUtils;
+import com.amazonaws.http.client.AsyncHttpTransport;
+import com.amazonaws.http.client.HttpClientFactory;
+import com.amazonaws.http.conn.SdkConnectionKeepAliveStrategy;
+import com.amazonaws.http.settings.HttpClientSettings;
+import com.amazonaws.internal.SdkSSLContext;
+
+/**
+ * Factory class that builds an {@link AsyncHttpTransport} on top of Apache
+ * HttpAsyncClient from the settings. The transport uses one I/O dispatch thread
+ * per available processor, regardless of the number of requests in flight.
+ */
+public class ApacheAsyncHttpTransportFactory implements HttpClientFactory<AsyncHttpTransport> {
+
+    private static final Log LOG = LogFactory.getLog(ApacheAsyncHttpTransportFactory.class);
+
+    /**
+     * Redirects are handled by the SDK, like with the blocking client.
+     */
+    private static final RedirectStrategy NO_REDIRECTS = new RedirectStrategy() {
+        @Override
+        public boolean isRedirected(HttpRequest request, HttpResponse response, HttpContext context) {
+            return false;
+        }
+
+        @Override
+        public HttpUriRequest getRedirect(HttpRequest request, HttpResponse response, HttpContext context) {
+            return null;
+        }
+    };
+
+    private static final AtomicInteger threadCount = new AtomicInteger();
+
+    @Override
+    public AsyncHttpTransport create(HttpClientSettings settings) {
+        final PoolingNHttpClientConnectionManager cm = createConnectionManager(settings);
+
+        final HttpAsyncClientBuilder builder = HttpAsyncClients.custom()
+                .setConnectionManager(cm)
+                .setThreadFactory(newThreadFactory("aws-sdk-async-http-reactor"))
+                .setRedirectStrategy(NO_REDIRECTS);
+
+        if (settings.getMaxIdleConnectionTime() > 0) {
+            builder.setKeepAliveStrategy(
+                    new SdkConnectionKeepAliveStrategy(settings.getMaxIdleConnectionTime()));
+        }
+        // Unlike the blocking client, HttpAsyncClient doesn't handle content
+        // compression by default.
+        if (settings.useGzip()) {
+            builder.addInterceptorLast(new RequestAcceptEncoding());
+            builder.addInterceptorLast(new ResponseContentEncoding());
+        }
+        if (settings.getProxyHost() != null && settings.getProxyPort() > 0) {
+            LOG.info("Configuring Proxy. Proxy Host: " + settings.getProxyHost() + " " +
+                    "Proxy Port: " + settings.getProxyPort());
+            builder.setRoutePlanner(new SdkProxyRoutePlanner(
+                    settings.getProxyHost(), settings.getProxyPort(), settings.getNonProxyHosts()));
+            if (settings.getProxyUsername() != null && settings.getProxyPassword() != null) {
+                builder.setDefaultCredentialsProvider(ApacheUtils.newProxyCredentialsProvider(settings));
+            }
+        }
+
+        final CloseableHttpAsyncClient client = builder.build();
+        client.start();
+        return new ApacheAsyncHttpTransport(client, cm);
+    }
+
+    private PoolingNHttpClientConnectionManager createConnectionManager(HttpClientSettings settings) {
+        final IOReactorConfig ioReactorConfig = IOReactorConfig.custom()
+                .setIoThreadCount(Runtime.getRuntime().availableProcessors())
+                .setConnectTimeout(settings.getConnectionTimeout())
+                .setSoTimeout(settings.getSocketTimeout())
+                .setSoKeepAlive(settings.useTcpKeepAlive())
+                .setTcpNoDelay(true)
+                .setSndBufSize(Math.max(settings.getSocketBufferSize()[0], 0))
+                .setRcvBufSize(Math.max(settings.getSocketBufferSize()[1], 0))
+                .build();
+        final DefaultConnectingIOReactor ioReactor;
+        try {
+            ioReactor = new DefaultConnectingIOReactor(ioReactorConfig,
+                    newThreadFactory("aws-sdk-async-http-dispatcher"));
+        } catch (IOReactorException e) {
+            throw new AmazonClientException("Unable to create the I/O reactor of the asynchronous http transport", e);
+        }
+
+        final PoolingNHttpClientConnectionManager cm = new PoolingNHttpClientConnectionManager(
+                ioReactor,
+                null,
+                createSessionStrategyRegistry(settings),
+                DefaultSchemePortResolver.INSTANCE,
+                new DelegatingDnsResolver(settings.getDnsResolver()),
+                settings.getConnectionPoolTTL(),
+                TimeUnit.MILLISECONDS);
+        cm.setDefaultMaxPerRoute(settings.getMaxConnectionsPerRoute());
+        cm.setMaxTotal(settings.getMaxConnections());
+
+        int socketBufferSize = Math.max(settings.getSocketBufferSize()[0],
+                settings.getSocketBufferSize()[1]);
+        if (socketBufferSize > 0) {
+            cm.setDefaultConnectionConfig(ConnectionConfig.custom()
+                    .setBufferSize(socketBufferSize)
+                    .build());
+        }
+        return cm;
+    }
+
+    private Registry<SchemeIOSessionStrategy> createSessionStrategyRegistry(HttpClientSettings settings) {
+        return RegistryBuilder.<SchemeIOSessionStrategy>create()
+                .register("http", NoopIOSessionStrategy.INSTANCE)
+                .register("https", new SSLIOSessionStrategy(
+                        SdkSSLContext.getPreferredSSLContext(settings.getSecureRandom()),
+                        getHostNameVerifier(settings)))
+                .build();
+    }
+
+    private HostnameVerifier getHostNameVerifier(HttpClientSettings settings) {
+        return settings.useBrowserCompatibleHostNameVerifier()
+                ? SSLConnectionSocketFactory.BROWSER_COMPATIBLE_HOSTNAME_VERIFIER
+                : SSLConnectionSocketFactory.STRICT_HOSTNAME_VERIFIER;
+    }
+
+    private static ThreadFactory newThreadFactory(final String prefix) {
+        return new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, prefix + "-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+    }
+}
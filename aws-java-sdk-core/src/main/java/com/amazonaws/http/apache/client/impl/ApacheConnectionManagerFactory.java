@@ -73,7 +73,7 @@ public class ApacheConnectionManagerFactory implements
                 settings.getConnectionPoolTTL(),
                 TimeUnit.MILLISECONDS);
 
-        cm.setDefaultMaxPerRoute(settings.getMaxConnections());
+        cm.setDefaultMaxPerRoute(settings.getMaxConnectionsPerRoute());
         cm.setMaxTotal(settings.getMaxConnections());
         cm.setDefaultSocketConfig(buildSocketConfig(settings));
         cm.setDefaultConnectionConfig(buildConnectionConfig(settings));
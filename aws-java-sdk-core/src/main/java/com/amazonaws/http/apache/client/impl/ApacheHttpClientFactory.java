@@ -18,8 +18,10 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.http.conn.ConnectionKeepAliveStrategy;
 import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.routing.HttpRoute;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
+import org.apache.http.pool.ConnPoolControl;
 
 import com.amazonaws.http.AmazonHttpClient;
 import com.amazonaws.http.IdleConnectionReaper;
@@ -28,6 +30,7 @@ import com.amazonaws.http.apache.utils.ApacheUtils;
 import com.amazonaws.http.client.ConnectionManagerFactory;
 import com.amazonaws.http.client.HttpClientFactory;
 import com.amazonaws.http.conn.ClientConnectionManagerFactory;
+import com.amazonaws.http.conn.ConnectionPoolMonitor;
 import com.amazonaws.http.conn.SdkConnectionKeepAliveStrategy;
 import com.amazonaws.http.protocol.SdkHttpRequestExecutor;
 import com.amazonaws.http.settings.HttpClientSettings;
@@ -48,12 +51,13 @@ public class ApacheHttpClientFactory implements HttpClientFactory<ConnectionMana
         // IdleConnectionReaper as it's required for the successful deregistration of managers
         // from the reaper. See https://github.com/aws/aws-sdk-java/issues/722.
         final HttpClientConnectionManager cm = cmFactory.create(settings);
+        final ConnectionPoolMonitor poolMonitor = createPoolMonitor(cm, settings);
 
         builder.setRequestExecutor(new SdkHttpRequestExecutor())
                 .setKeepAliveStrategy(buildKeepAliveStrategy(settings))
                 .disableRedirectHandling()
                 .disableAutomaticRetries()
-                .setConnectionManager(ClientConnectionManagerFactory.wrap(cm));
+                .setConnectionManager(ClientConnectionManagerFactory.wrap(cm, poolMonitor));
 
         // By default http client enables Gzip compression. So we disable it
         // here.
@@ -67,7 +71,7 @@ public class ApacheHttpClientFactory implements HttpClientFactory<ConnectionMana
 
         addProxyConfig(builder, settings);
 
-        final ConnectionManagerAwareHttpClient httpClient = new SdkHttpClient(builder.build(), cm);
+        final ConnectionManagerAwareHttpClient httpClient = new SdkHttpClient(builder.build(), cm, poolMonitor);
 
         if (settings.useReaper()) {
             IdleConnectionReaper.registerConnectionManager(cm);
@@ -76,6 +80,16 @@ public class ApacheHttpClientFactory implements HttpClientFactory<ConnectionMana
         return httpClient;
     }
 
+    @SuppressWarnings("unchecked")
+    private ConnectionPoolMonitor createPoolMonitor(HttpClientConnectionManager cm,
+                                                    HttpClientSettings settings) {
+        if (!(cm instanceof ConnPoolControl)) {
+            return null;
+        }
+        return new ConnectionPoolMonitor((ConnPoolControl<HttpRoute>) cm,
+                settings.useAdaptiveConnectionPool());
+    }
+
     private void addProxyConfig(HttpClientBuilder builder,
                                 HttpClientSettings settings) {
         if (isProxyEnabled(settings)) {
@@ -28,6 +28,8 @@ import org.apache.http.protocol.HttpContext;
 
 import java.io.IOException;
 
+import com.amazonaws.http.conn.ConnectionPoolMonitor;
+
 /**
  * An instance of {@link ConnectionManagerAwareHttpClient} that delegates all the requests to the given http client.
  */
@@ -38,8 +40,16 @@ public class SdkHttpClient implements
 
     private final HttpClientConnectionManager cm;
 
+    private final ConnectionPoolMonitor poolMonitor;
+
     public SdkHttpClient(final HttpClient delegate,
                          final HttpClientConnectionManager cm) {
+        this(delegate, cm, null);
+    }
+
+    public SdkHttpClient(final HttpClient delegate,
+                         final HttpClientConnectionManager cm,
+                         final ConnectionPoolMonitor poolMonitor) {
         if (delegate == null) {
             throw new IllegalArgumentException("delegate " +
                     "cannot be null");
@@ -50,6 +60,7 @@ public class SdkHttpClient implements
         }
         this.delegate = delegate;
         this.cm = cm;
+        this.poolMonitor = poolMonitor;
     }
 
     @Override
@@ -106,4 +117,12 @@ public class SdkHttpClient implements
     public HttpClientConnectionManager getHttpClientConnectionManager() {
         return cm;
     }
+
+    /**
+     * Returns the monitor of the connection pool of this client; or null if
+     * the connection manager is not a pool.
+     */
+    public ConnectionPoolMonitor getConnectionPoolMonitor() {
+        return poolMonitor;
+    }
 }
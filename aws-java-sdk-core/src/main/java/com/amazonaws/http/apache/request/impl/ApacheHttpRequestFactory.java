@@ -162,7 +162,9 @@ public class ApacheHttpRequestFactory implements
              */
             if (request.getContent() != null) {
                 HttpEntity entity = new RepeatableInputStreamRequestEntity(request);
-                if (request.getHeaders().get(HttpHeaders.CONTENT_LENGTH) == null) {
+                // Replayable content knows its length, and needn't be buffered to find it out
+                if (request.getHeaders().get(HttpHeaders.CONTENT_LENGTH) == null
+                        && entity.getContentLength() < 0) {
                     entity = ApacheUtils.newBufferedHttpEntity(entity);
                 }
                 entityEnclosingRequest.setEntity(entity);
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.client;
+
+import java.util.concurrent.Future;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.protocol.HttpContext;
+
+import com.amazonaws.annotation.Beta;
+import com.amazonaws.annotation.ThreadSafe;
+
+/**
+ * An http transport that sends requests without blocking the calling thread,
+ * so that the number of requests in flight isn't bound by the number of
+ * threads.
+ * <p>
+ * Implementations are created by a {@link HttpClientFactory} from the http
+ * client settings, and are used by
+ * {@link com.amazonaws.http.AmazonHttpClient#executeAsync}.
+ */
+@Beta
+@ThreadSafe
+public interface AsyncHttpTransport {
+
+    /**
+     * Sends the given request and returns immediately.
+     * <p>
+     * The callback is invoked on one of the transport's own threads once the
+     * response has been received. The entity of the response, if any, must be
+     * fully buffered by then, so that it can be consumed without blocking.
+     * Callbacks must not block, since doing so would stall the transport.
+     *
+     * @param request the request to send.
+     * @param context the http context of the request.
+     * @param callback the callback to notify of the outcome of the request.
+     * @return a future that can be used to cancel the request.
+     */
+    Future<HttpResponse> execute(HttpRequestBase request, HttpContext context,
+                                 FutureCallback<HttpResponse> callback);
+
+    /**
+     * Closes the connections and stops the threads of this transport. Requests
+     * in flight are cancelled.
+     */
+    void shutdown();
+}
@@ -18,6 +18,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.http.conn.ConnectionRequest;
 import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.routing.HttpRoute;
 import org.apache.http.pool.ConnPoolControl;
 
 import java.lang.reflect.InvocationHandler;
@@ -36,6 +37,19 @@ public class ClientConnectionManagerFactory {
      */
     public static HttpClientConnectionManager wrap
     (HttpClientConnectionManager orig) {
+        return wrap(orig, null);
+    }
+
+    /**
+     * Returns a wrapped instance of {@link HttpClientConnectionManager}
+     * to capture the necessary performance metrics, and to notify the given
+     * monitor of the connections requested from the pool.
+     *
+     * @param orig the target instance to be wrapped
+     * @param monitor the monitor of the pool; or null
+     */
+    public static HttpClientConnectionManager wrap
+    (HttpClientConnectionManager orig, ConnectionPoolMonitor monitor) {
         if (orig instanceof Wrapped)
             throw new IllegalArgumentException();
         final Class<?>[] interfaces;
@@ -55,7 +69,7 @@ public class ClientConnectionManagerFactory {
                 // https://github.com/aws/aws-sdk-java/pull/48#issuecomment-29454423
                 ClientConnectionManagerFactory.class.getClassLoader(),
                 interfaces,
-                new Handler(orig));
+                new Handler(orig, monitor));
     }
 
     /**
@@ -65,19 +79,22 @@ public class ClientConnectionManagerFactory {
      */
     private static class Handler implements InvocationHandler {
         private final HttpClientConnectionManager orig;
+        private final ConnectionPoolMonitor monitor;
 
-        Handler(HttpClientConnectionManager real) {
+        Handler(HttpClientConnectionManager real, ConnectionPoolMonitor monitor) {
             this.orig = real;
+            this.monitor = monitor;
         }
 
         @Override
         public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
             try {
                 Object ret = method.invoke(orig, args);
-                return ret instanceof ConnectionRequest
-                        ? ClientConnectionRequestFactory.wrap((ConnectionRequest) ret)
-                        : ret
-                        ;
+                if (!(ret instanceof ConnectionRequest))
+                    return ret;
+                // requestConnection(HttpRoute route, Object state)
+                HttpRoute route = monitor == null ? null : (HttpRoute) args[0];
+                return ClientConnectionRequestFactory.wrap((ConnectionRequest) ret, route, monitor);
             } catch (InvocationTargetException e) {
                 log.debug("", e);
                 throw e.getCause();
@@ -21,7 +21,9 @@ import java.lang.reflect.Proxy;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.http.HttpClientConnection;
 import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.routing.HttpRoute;
 
 import com.amazonaws.metrics.AwsSdkMetrics;
 import com.amazonaws.metrics.ServiceLatencyProvider;
@@ -40,13 +42,26 @@ class ClientConnectionRequestFactory {
      * @param orig the target instance to be wrapped
      */
     static ConnectionRequest wrap(ConnectionRequest orig) {
+        return wrap(orig, null, null);
+    }
+
+    /**
+     * Returns a wrapped instance of {@link ConnectionRequest}
+     * to capture the necessary performance metrics, and to report the lease
+     * of the connection to the given monitor.
+     * @param orig the target instance to be wrapped
+     * @param route the route of the requested connection; or null
+     * @param monitor the monitor of the pool; or null
+     */
+    static ConnectionRequest wrap(ConnectionRequest orig, HttpRoute route,
+            ConnectionPoolMonitor monitor) {
         if (orig instanceof Wrapped)
             throw new IllegalArgumentException();
         return (ConnectionRequest) Proxy.newProxyInstance(
                 // https://github.com/aws/aws-sdk-java/pull/48#issuecomment-29454423
                 ClientConnectionRequestFactory.class.getClassLoader(),
                 interfaces,
-                new Handler(orig));
+                new Handler(orig, route, monitor));
     }
 
     /**
@@ -57,18 +72,33 @@ class ClientConnectionRequestFactory {
      */
     private static class Handler implements InvocationHandler {
         private final ConnectionRequest orig;
-        Handler(ConnectionRequest orig) {
+        private final HttpRoute route;
+        private final ConnectionPoolMonitor monitor;
+        Handler(ConnectionRequest orig, HttpRoute route, ConnectionPoolMonitor monitor) {
             this.orig = orig;
+            this.route = route;
+            this.monitor = monitor;
         }
         @Override
         public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
             try {
                 if ("get".equals(method.getName())) {
+                    if (monitor != null)
+                        monitor.onLeaseRequested(route);
                     ServiceLatencyProvider latencyProvider = new ServiceLatencyProvider(
                             AWSServiceMetrics.HttpClientGetConnectionTime);
+                    long startNanos = System.nanoTime();
+                    boolean leased = false;
                     try {
-                        return method.invoke(orig, args);
+                        HttpClientConnection conn = (HttpClientConnection) method.invoke(orig, args);
+                        leased = true;
+                        if (monitor != null)
+                            monitor.onLeased(route, System.nanoTime() - startNanos,
+                                    conn != null && conn.isOpen());
+                        return conn;
                     } finally {
+                        if (monitor != null && !leased)
+                            monitor.onLeaseFailed(route);
                         AwsSdkMetrics.getServiceMetricCollector()
                                 .collectLatency(latencyProvider.endTiming());
                     }
@@ -0,0 +1,472 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.conn;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.ObjectName;
+
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.pool.ConnPoolControl;
+import org.apache.http.pool.PoolStats;
+
+import com.amazonaws.annotation.ThreadSafe;
+import com.amazonaws.jmx.MBeans;
+
+/**
+ * Monitor of the connection pool of a client, which keeps the lease count,
+ * reuse ratio and lease wait times of each route, that is of each host the
+ * client connects to, and optionally resizes the pool of each route to its
+ * load.
+ * <p>
+ * In adaptive mode, the monitor rebalances the pool at most once per second,
+ * as connections are requested: it doubles the maximum number of connections
+ * of the routes with requests waiting for a connection or with all their
+ * connections leased, and halves the maximum of the routes without any
+ * connection requested since the previous rebalancing, down to
+ * {@value #MIN_MAX_PER_ROUTE} connections. Routes only grow into the
+ * connections of the pool that are not leased, so that a route shrunk while
+ * idle can grow back even though the maxima of the other routes add up to more
+ * than the maximum number of connections of the pool.
+ * <p>
+ * In either mode, the statistics of a route are dropped once the route has
+ * had no connection for a few minutes.
+ * <p>
+ * The state of the monitor can be monitored over JMX once registered with
+ * {@link #registerMBean(String)}, which the client does when given a name
+ * through {@link com.amazonaws.ClientConfiguration#setConnectionPoolMonitorName(String)}.
+ * The statistics of each route are then registered as well, as a
+ * {@link ConnectionPoolRouteMXBean} named after the monitor with an
+ * additional {@code route} key property.
+ */
+@ThreadSafe
+public class ConnectionPoolMonitor implements ConnectionPoolMonitorMBean {
+
+    private static final String MBEAN_OBJECT_NAME_PREFIX =
+            "com.amazonaws.management:type=" + ConnectionPoolMonitor.class.getSimpleName() + ",name=";
+
+    /** The maximum number of connections an idle route is shrunk down to. */
+    static final int MIN_MAX_PER_ROUTE = 2;
+
+    private static final long REBALANCE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /** How long a route without any connection is kept. */
+    static final long ROUTE_EXPIRY_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    private final ConnPoolControl<HttpRoute> pool;
+
+    private final boolean adaptive;
+
+    private final ConcurrentMap<HttpRoute, RouteMonitor> routes = new ConcurrentHashMap<HttpRoute, RouteMonitor>();
+
+    private final AtomicLong lastRebalanceNanos;
+
+    private final AtomicLong routesGrown = new AtomicLong();
+    private final AtomicLong routesShrunk = new AtomicLong();
+
+    private volatile String registeredMBeanName;
+
+    /**
+     * @param pool
+     *            the connection pool to monitor; must not be null.
+     * @param adaptive
+     *            true if the maximum number of connections of each route
+     *            should be resized adaptively.
+     */
+    public ConnectionPoolMonitor(ConnPoolControl<HttpRoute> pool, boolean adaptive) {
+        if (pool == null) {
+            throw new IllegalArgumentException("pool must not be null");
+        }
+        this.pool = pool;
+        this.adaptive = adaptive;
+        this.lastRebalanceNanos = new AtomicLong(nanoTime());
+    }
+
+    /**
+     * Notifies the monitor that a connection to the given route is being
+     * requested, which gives it the opportunity to rebalance the pool.
+     */
+    void onLeaseRequested(HttpRoute route) {
+        statsOf(route).requests.incrementAndGet();
+        long now = nanoTime();
+        long last = lastRebalanceNanos.get();
+        if (now - last >= REBALANCE_INTERVAL_NANOS && lastRebalanceNanos.compareAndSet(last, now)) {
+            rebalance();
+        }
+    }
+
+    /**
+     * Notifies the monitor that a connection to the given route was leased.
+     *
+     * @param waitNanos
+     *            how long the request waited for the connection.
+     * @param reused
+     *            true if the connection was already open, rather than a new
+     *            connection to be opened.
+     */
+    void onLeased(HttpRoute route, long waitNanos, boolean reused) {
+        RouteMonitor stats = statsOf(route);
+        stats.leases.incrementAndGet();
+        if (reused) {
+            stats.reused.incrementAndGet();
+        }
+        stats.totalWaitNanos.addAndGet(waitNanos);
+        while (true) {
+            long max = stats.maxWaitNanos.get();
+            if (waitNanos <= max || stats.maxWaitNanos.compareAndSet(max, waitNanos)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Notifies the monitor that a request for a connection to the given route
+     * failed, typically because it timed out.
+     */
+    void onLeaseFailed(HttpRoute route) {
+        statsOf(route).failures.incrementAndGet();
+    }
+
+    /**
+     * Returns the statistics of the pool of the first route seen so far to the
+     * given host; or null if no connection was requested to the host yet.
+     */
+    public PoolStats getStats(String hostName) {
+        RouteMonitor route = routeOf(hostName);
+        return route == null ? null : pool.getStats(route.route);
+    }
+
+    /**
+     * Returns the statistics of the first route seen so far to the given host;
+     * or null if no connection was requested to the host yet.
+     */
+    public ConnectionPoolRouteMXBean getRoute(String hostName) {
+        return routeOf(hostName);
+    }
+
+    @Override
+    public int getMaxTotal() {
+        return pool.getMaxTotal();
+    }
+
+    @Override
+    public int getLeasedCount() {
+        return pool.getTotalStats().getLeased();
+    }
+
+    @Override
+    public int getAvailableCount() {
+        return pool.getTotalStats().getAvailable();
+    }
+
+    @Override
+    public int getPendingCount() {
+        return pool.getTotalStats().getPending();
+    }
+
+    @Override
+    public int getRouteCount() {
+        return routes.size();
+    }
+
+    @Override
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    @Override
+    public long getRoutesGrown() {
+        return routesGrown.get();
+    }
+
+    @Override
+    public long getRoutesShrunk() {
+        return routesShrunk.get();
+    }
+
+    @Override
+    public String[] getRouteStats() {
+        List<String> stats = new ArrayList<String>(routes.size());
+        for (Map.Entry<HttpRoute, RouteMonitor> entry : routes.entrySet()) {
+            stats.add(entry.getKey() + " " + pool.getStats(entry.getKey()) + " " + entry.getValue());
+        }
+        return stats.toArray(new String[stats.size()]);
+    }
+
+    /**
+     * Registers this monitor as an MBean named
+     * {@code com.amazonaws.management:type=ConnectionPoolMonitor,name=<name>},
+     * along with an MXBean per route named
+     * {@code com.amazonaws.management:type=ConnectionPoolMonitor,name=<name>,route=<host:port>}.
+     *
+     * @param name
+     *            A name that is valid as the value of an object name key
+     *            property, which distinguishes this monitor from the others.
+     * @return true if the registration succeeded; false otherwise, for
+     *         instance if JMX is not available.
+     */
+    public synchronized boolean registerMBean(String name) {
+        if (registeredMBeanName != null) {
+            return false;
+        }
+        String objectName = MBEAN_OBJECT_NAME_PREFIX + name;
+        if (!register(objectName, this)) {
+            return false;
+        }
+        registeredMBeanName = objectName;
+        for (RouteMonitor route : routes.values()) {
+            registerRouteMBean(route);
+        }
+        return true;
+    }
+
+    /**
+     * Unregisters the MBean registered with {@link #registerMBean(String)}.
+     *
+     * @return true if the unregistration succeeded; false otherwise.
+     */
+    public synchronized boolean unregisterMBean() {
+        if (registeredMBeanName == null) {
+            return false;
+        }
+        for (RouteMonitor route : routes.values()) {
+            if (route.objectName != null) {
+                unregister(route.objectName);
+                route.objectName = null;
+            }
+        }
+        String objectName = registeredMBeanName;
+        registeredMBeanName = null;
+        return unregister(objectName);
+    }
+
+    private synchronized void registerRouteMBean(RouteMonitor route) {
+        if (registeredMBeanName == null || route.objectName != null) {
+            return;
+        }
+        String objectName = registeredMBeanName + ",route="
+                + ObjectName.quote(route.route.getTargetHost().toHostString());
+        if (register(objectName, route)) {
+            route.objectName = objectName;
+        }
+    }
+
+    private static boolean register(String objectName, Object mbean) {
+        try {
+            return MBeans.registerMBean(objectName, mbean);
+        } catch (Exception e) {
+            LogFactory.getLog(ConnectionPoolMonitor.class).warn("Failed to register mbean " + objectName, e);
+        } catch (NoClassDefFoundError e) {
+            LogFactory.getLog(ConnectionPoolMonitor.class).debug("JMX is not available", e);
+        }
+        return false;
+    }
+
+    private static boolean unregister(String objectName) {
+        try {
+            return MBeans.unregisterMBean(objectName);
+        } catch (Exception e) {
+            LogFactory.getLog(ConnectionPoolMonitor.class).warn("Failed to unregister mbean " + objectName, e);
+            return false;
+        }
+    }
+
+    /**
+     * Returns the current value of the clock of this monitor, in nanoseconds.
+     * Overridden by tests.
+     */
+    long nanoTime() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Drops the routes that have had no connection for a while and, in
+     * adaptive mode, resizes the pool of the other routes. The idle routes are
+     * shrunk first, then the hot routes grow into the connections of the pool
+     * that are not leased.
+     */
+    synchronized void rebalance() {
+        long now = nanoTime();
+        int floor = Math.min(MIN_MAX_PER_ROUTE, pool.getDefaultMaxPerRoute());
+        List<HttpRoute> hotRoutes = new ArrayList<HttpRoute>();
+        for (RouteMonitor stats : routes.values()) {
+            HttpRoute route = stats.route;
+            PoolStats poolStats = pool.getStats(route);
+            long requests = stats.requests.get();
+            boolean idle = requests == stats.requestsAtLastRebalance
+                    && poolStats.getLeased() == 0 && poolStats.getPending() == 0;
+            stats.requestsAtLastRebalance = requests;
+            if (!idle) {
+                stats.idleSinceNanos = -1;
+            } else if (stats.idleSinceNanos == -1) {
+                stats.idleSinceNanos = now;
+            } else if (poolStats.getAvailable() == 0 && now - stats.idleSinceNanos >= ROUTE_EXPIRY_NANOS) {
+                removeRoute(stats);
+                continue;
+            }
+            if (!adaptive) {
+                continue;
+            }
+            int max = poolStats.getMax();
+            if (idle && max > floor) {
+                pool.setMaxPerRoute(route, Math.max(floor, max / 2));
+                routesShrunk.incrementAndGet();
+            } else if (poolStats.getPending() > 0 || poolStats.getLeased() >= max) {
+                hotRoutes.add(route);
+            }
+        }
+        int unleased = pool.getMaxTotal() - pool.getTotalStats().getLeased();
+        for (HttpRoute route : hotRoutes) {
+            int max = pool.getMaxPerRoute(route);
+            int grown = Math.min(max * 2, max + unleased);
+            if (grown > max) {
+                pool.setMaxPerRoute(route, grown);
+                routesGrown.incrementAndGet();
+                unleased -= grown - max;
+            }
+        }
+    }
+
+    private void removeRoute(RouteMonitor stats) {
+        routes.remove(stats.route, stats);
+        if (stats.objectName != null) {
+            unregister(stats.objectName);
+            stats.objectName = null;
+        }
+    }
+
+    private RouteMonitor statsOf(HttpRoute route) {
+        RouteMonitor stats = routes.get(route);
+        if (stats == null) {
+            RouteMonitor newStats = new RouteMonitor(route);
+            stats = routes.putIfAbsent(route, newStats);
+            if (stats == null) {
+                stats = newStats;
+                if (registeredMBeanName != null) {
+                    registerRouteMBean(stats);
+                }
+            }
+        }
+        return stats;
+    }
+
+    private RouteMonitor routeOf(String hostName) {
+        for (RouteMonitor route : routes.values()) {
+            if (route.route.getTargetHost().getHostName().equalsIgnoreCase(hostName)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private static double nanosToMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private final class RouteMonitor implements ConnectionPoolRouteMXBean {
+        private final HttpRoute route;
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong leases = new AtomicLong();
+        private final AtomicLong reused = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+        private final AtomicLong totalWaitNanos = new AtomicLong();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+        /** Guarded by the monitor. */
+        private long requestsAtLastRebalance;
+        /** When the route was first seen idle, or -1 if it is not idle; guarded by the monitor. */
+        private long idleSinceNanos = -1;
+        /** Guarded by the monitor. */
+        private String objectName;
+
+        RouteMonitor(HttpRoute route) {
+            this.route = route;
+        }
+
+        @Override
+        public String getRoute() {
+            return route.getTargetHost().toHostString();
+        }
+
+        @Override
+        public int getMaxCount() {
+            return pool.getStats(route).getMax();
+        }
+
+        @Override
+        public int getLeasedCount() {
+            return pool.getStats(route).getLeased();
+        }
+
+        @Override
+        public int getAvailableCount() {
+            return pool.getStats(route).getAvailable();
+        }
+
+        @Override
+        public int getPendingCount() {
+            return pool.getStats(route).getPending();
+        }
+
+        @Override
+        public long getLeaseCount() {
+            return leases.get();
+        }
+
+        @Override
+        public long getReusedCount() {
+            return reused.get();
+        }
+
+        @Override
+        public double getReuseRatio() {
+            long leaseCount = leases.get();
+            return leaseCount == 0 ? 0 : reused.get() / (double) leaseCount;
+        }
+
+        @Override
+        public long getLeaseFailureCount() {
+            return failures.get();
+        }
+
+        @Override
+        public double getAverageLeaseWaitMillis() {
+            long leaseCount = leases.get();
+            return leaseCount == 0 ? 0 : nanosToMillis(totalWaitNanos.get()) / leaseCount;
+        }
+
+        @Override
+        public double getMaxLeaseWaitMillis() {
+            return nanosToMillis(maxWaitNanos.get());
+        }
+
+        @Override
+        public String toString() {
+            long leaseCount = leases.get();
+            long averageWaitNanos = leaseCount == 0 ? 0 : totalWaitNanos.get() / leaseCount;
+            return "leases=" + leaseCount
+                    + " reused=" + (leaseCount == 0 ? 0 : reused.get() * 100 / leaseCount) + "%"
+                    + " failed=" + failures.get()
+                    + " avgWaitMicros=" + TimeUnit.NANOSECONDS.toMicros(averageWaitNanos)
+                    + " maxWaitMicros=" + TimeUnit.NANOSECONDS.toMicros(maxWaitNanos.get());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.conn;
+
+/**
+ * MBean interface of the {@link ConnectionPoolMonitor}.
+ */
+public interface ConnectionPoolMonitorMBean {
+
+    /**
+     * Returns the maximum number of connections of the pool, over all the
+     * routes.
+     */
+    public int getMaxTotal();
+
+    /**
+     * Returns the number of connections currently leased, over all the
+     * routes.
+     */
+    public int getLeasedCount();
+
+    /**
+     * Returns the number of idle persistent connections, over all the routes.
+     */
+    public int getAvailableCount();
+
+    /**
+     * Returns the number of requests currently waiting for a connection, over
+     * all the routes.
+     */
+    public int getPendingCount();
+
+    /**
+     * Returns the number of routes seen so far.
+     */
+    public int getRouteCount();
+
+    /**
+     * Returns true if the maximum number of connections of each route is
+     * resized adaptively.
+     */
+    public boolean isAdaptive();
+
+    /**
+     * Returns the number of times the maximum number of connections of a
+     * route was grown so far.
+     */
+    public long getRoutesGrown();
+
+    /**
+     * Returns the number of times the maximum number of connections of a
+     * route was shrunk so far.
+     */
+    public long getRoutesShrunk();
+
+    /**
+     * Returns the size of the pool of each route seen so far, along with its
+     * lease count, reuse ratio and lease wait times, as text. The same
+     * statistics are registered as numeric attributes of a
+     * {@link ConnectionPoolRouteMXBean} per route.
+     */
+    public String[] getRouteStats();
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.conn;
+
+/**
+ * MXBean interface of the statistics kept by a {@link ConnectionPoolMonitor}
+ * for one route of the connection pool, that is for one host the client
+ * connects to.
+ */
+public interface ConnectionPoolRouteMXBean {
+
+    /**
+     * Returns the host and port of the route.
+     */
+    public String getRoute();
+
+    /**
+     * Returns the maximum number of connections of the route, which varies
+     * over time when the connection pool is adaptive.
+     */
+    public int getMaxCount();
+
+    /**
+     * Returns the number of connections of the route currently leased.
+     */
+    public int getLeasedCount();
+
+    /**
+     * Returns the number of idle persistent connections of the route.
+     */
+    public int getAvailableCount();
+
+    /**
+     * Returns the number of requests currently waiting for a connection of
+     * the route.
+     */
+    public int getPendingCount();
+
+    /**
+     * Returns the number of connections of the route leased so far.
+     */
+    public long getLeaseCount();
+
+    /**
+     * Returns the number of leases so far that reused a connection already
+     * open.
+     */
+    public long getReusedCount();
+
+    /**
+     * Returns the proportion, between 0 and 1, of the leases so far that
+     * reused a connection already open.
+     */
+    public double getReuseRatio();
+
+    /**
+     * Returns the number of requests for a connection of the route that
+     * failed so far, typically because they timed out.
+     */
+    public long getLeaseFailureCount();
+
+    /**
+     * Returns the average time the leases so far waited for a connection, in
+     * milliseconds.
+     */
+    public double getAverageLeaseWaitMillis();
+
+    /**
+     * Returns the longest time a lease waited for a connection so far, in
+     * milliseconds.
+     */
+    public double getMaxLeaseWaitMillis();
+}
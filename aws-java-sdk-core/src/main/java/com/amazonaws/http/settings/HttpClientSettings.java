@@ -59,6 +59,25 @@ public class HttpClientSettings {
         return config.getMaxConnections();
     }
 
+    /**
+     * Returns the maximum number of connections to a single route, which is never more than
+     * {@link #getMaxConnections()}.
+     */
+    public int getMaxConnectionsPerRoute() {
+        int maxConnectionsPerRoute = config.getMaxConnectionsPerRoute();
+        return maxConnectionsPerRoute < 0
+                ? config.getMaxConnections()
+                : Math.min(maxConnectionsPerRoute, config.getMaxConnections());
+    }
+
+    public boolean useAdaptiveConnectionPool() {
+        return config.useAdaptiveConnectionPool();
+    }
+
+    public String getConnectionPoolMonitorName() {
+        return config.getConnectionPoolMonitorName();
+    }
+
     public InetAddress getLocalAddress() {
         return config.getLocalAddress();
     }
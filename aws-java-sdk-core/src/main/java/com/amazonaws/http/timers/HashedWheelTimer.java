@@ -0,0 +1,507 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.timers;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.annotation.SdkTestInternalApi;
+import com.amazonaws.annotation.ThreadSafe;
+import com.amazonaws.util.ValidationUtils;
+
+/**
+ * Timer for the request timeout and client execution timeout features, which schedules and
+ * cancels timeouts in constant time without taking any lock.
+ * <p>
+ * New and canceled timeouts are handed to a single worker thread through lock-free queues. Every
+ * tick, the worker places the new timeouts in the bucket of the wheel their deadline falls in,
+ * unlinks the canceled ones from their bucket, and hands the timeouts of the current bucket that
+ * are due to a small pool of task threads, which run their tasks. Timeouts therefore fire up to one
+ * tick late, and a slow task doesn't hold back the timeouts of the other clients. A timeout handed
+ * to the task threads stays pending, and can still be canceled, until a task thread starts running
+ * it. The worker thread
+ * is started when a timeout is scheduled and stops once no timeout has been pending for a while;
+ * the task threads stop likewise once idle.
+ * <p>
+ * A single {@link #getSharedTimer() shared timer} serves all the clients.
+ */
+@SdkInternalApi
+@ThreadSafe
+public class HashedWheelTimer {
+
+    private static final Log log = LogFactory.getLog(HashedWheelTimer.class);
+
+    private static final long DEFAULT_TICK_MILLIS = 10;
+
+    /** 512 ticks of 10 ms: timeouts of up to about 5 seconds go around the wheel at most once. */
+    private static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private static final long DEFAULT_IDLE_TIMEOUT_MILLIS = 5000;
+
+    private static final int TASK_THREADS = 4;
+
+    private static final HashedWheelTimer SHARED_TIMER = new HashedWheelTimer(DEFAULT_TICK_MILLIS,
+            DEFAULT_WHEEL_SIZE, DEFAULT_IDLE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+
+    private final long tickNanos;
+    private final long idleTimeoutNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+
+    private final ConcurrentLinkedQueue<Timeout> newTimeouts = new ConcurrentLinkedQueue<Timeout>();
+    private final ConcurrentLinkedQueue<Timeout> canceledTimeouts = new ConcurrentLinkedQueue<Timeout>();
+    private final AtomicLong pendingTimeouts = new AtomicLong();
+    private final AtomicLong expiredTimeouts = new AtomicLong();
+    private final AtomicBoolean workerRunning = new AtomicBoolean();
+    private final ThreadPoolExecutor taskExecutor;
+
+    private volatile long tickLagNanos;
+    private volatile long maxTickLagNanos;
+    /** Written by the worker thread only. */
+    private volatile long bucketedTimeouts;
+
+    /** Confined to the worker thread; handed over to the next one through workerRunning. */
+    private long startNanos;
+    private long tick;
+
+    /**
+     * @return the timer shared by all the clients.
+     */
+    public static HashedWheelTimer getSharedTimer() {
+        return SHARED_TIMER;
+    }
+
+    /**
+     * @param tickDuration
+     *            The precision of the timer.
+     * @param wheelSize
+     *            The number of buckets of the wheel, rounded up to a power of two.
+     * @param idleTimeout
+     *            How long the worker thread waits for new timeouts once there is no pending one,
+     *            before it stops.
+     * @param unit
+     *            The unit of the tick duration and idle timeout.
+     */
+    @SdkTestInternalApi
+    HashedWheelTimer(long tickDuration, int wheelSize, long idleTimeout, TimeUnit unit) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tickDuration must be positive: " + tickDuration);
+        }
+        if (wheelSize <= 0) {
+            throw new IllegalArgumentException("wheelSize must be positive: " + wheelSize);
+        }
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.idleTimeoutNanos = unit.toNanos(idleTimeout);
+        int size = 1;
+        while (size < wheelSize) {
+            size <<= 1;
+        }
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+        this.taskExecutor = new ThreadPoolExecutor(TASK_THREADS, TASK_THREADS,
+                Math.max(1, idleTimeoutNanos), TimeUnit.NANOSECONDS, new LinkedBlockingQueue<Runnable>(),
+                new ThreadFactory() {
+                    private final AtomicInteger threadCount = new AtomicInteger();
+
+                    @Override
+                    public Thread newThread(Runnable runnable) {
+                        Thread thread = new Thread(runnable, "aws-sdk-timeout-task-" + threadCount.incrementAndGet());
+                        thread.setDaemon(true);
+                        thread.setPriority(Thread.MAX_PRIORITY);
+                        return thread;
+                    }
+                });
+        taskExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Schedules the given task to run on a task thread of this timer once the given delay has
+     * elapsed, unless the returned future is canceled first.
+     */
+    public ScheduledFuture<Void> schedule(Runnable task, long delay, TimeUnit unit) {
+        ValidationUtils.assertNotNull(task, "task");
+        Timeout timeout = new Timeout(task, System.nanoTime() + unit.toNanos(delay));
+        pendingTimeouts.incrementAndGet();
+        newTimeouts.add(timeout);
+        if (!workerRunning.get() && workerRunning.compareAndSet(false, true)) {
+            startWorker();
+        }
+        return timeout;
+    }
+
+    /**
+     * @return the number of timeouts that are neither expired nor canceled, including the due ones
+     *         waiting for a task thread.
+     */
+    public long getPendingTimeouts() {
+        return pendingTimeouts.get();
+    }
+
+    /**
+     * @return the number of timeouts currently held in the buckets of the wheel, including the
+     *         canceled ones the worker thread has not removed yet.
+     */
+    public long getBucketedTimeouts() {
+        return bucketedTimeouts;
+    }
+
+    /**
+     * @return the number of timeouts that expired since this timer was created.
+     */
+    public long getExpiredTimeouts() {
+        return expiredTimeouts.get();
+    }
+
+    /**
+     * @return how late, in milliseconds, the worker thread processed the last tick, which comes on
+     *         top of the precision of the timer.
+     */
+    public long getTickLagMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(tickLagNanos);
+    }
+
+    /**
+     * @return how late, in milliseconds, the worker thread processed the latest of its ticks.
+     */
+    public long getMaxTickLagMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxTickLagNanos);
+    }
+
+    /**
+     * @return true if the worker thread is running.
+     */
+    @SdkTestInternalApi
+    public boolean isWorkerRunning() {
+        return workerRunning.get();
+    }
+
+    /**
+     * @return how long, in milliseconds, the worker thread keeps running once no timeout is
+     *         pending.
+     */
+    @SdkTestInternalApi
+    public long getIdleTimeoutMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(idleTimeoutNanos);
+    }
+
+    private void startWorker() {
+        Thread thread = new Thread(new Worker(), "aws-sdk-timeout-timer");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MAX_PRIORITY);
+        try {
+            thread.start();
+        } catch (RuntimeException e) {
+            workerRunning.set(false);
+            throw e;
+        } catch (Error e) {
+            workerRunning.set(false);
+            throw e;
+        }
+    }
+
+    private class Worker implements Runnable {
+
+        @Override
+        public void run() {
+            startNanos = System.nanoTime();
+            tick = 0;
+            long idleSinceNanos = -1;
+            while (true) {
+                long tickDeadline = waitForNextTick();
+                removeCanceledTimeouts();
+                transferNewTimeouts();
+                wheel[(int) (tick & mask)].expireTimeouts(tick);
+                tick++;
+
+                if (pendingTimeouts.get() > 0) {
+                    idleSinceNanos = -1;
+                } else if (idleSinceNanos == -1) {
+                    idleSinceNanos = tickDeadline;
+                } else if (tickDeadline - idleSinceNanos >= idleTimeoutNanos) {
+                    removeCanceledTimeouts();
+                    workerRunning.set(false);
+                    // A timeout may have been scheduled before the flag was cleared, by a
+                    // thread that saw this worker running.
+                    if (newTimeouts.isEmpty() || !workerRunning.compareAndSet(false, true)) {
+                        return;
+                    }
+                    idleSinceNanos = -1;
+                }
+            }
+        }
+
+        /**
+         * Sleeps until the deadline of the current tick, and records how late it wakes up.
+         *
+         * @return the deadline of the current tick.
+         */
+        private long waitForNextTick() {
+            long deadline = startNanos + (tick + 1) * tickNanos;
+            while (true) {
+                long now = System.nanoTime();
+                long sleepNanos = deadline - now;
+                if (sleepNanos <= 0) {
+                    long lag = -sleepNanos;
+                    tickLagNanos = lag;
+                    if (lag > maxTickLagNanos) {
+                        maxTickLagNanos = lag;
+                    }
+                    return deadline;
+                }
+                try {
+                    Thread.sleep(TimeUnit.NANOSECONDS.toMillis(sleepNanos + 999999));
+                } catch (InterruptedException e) {
+                    // The worker thread is not shared with anything that could interrupt it on
+                    // purpose; keep ticking.
+                }
+            }
+        }
+
+        private void transferNewTimeouts() {
+            Timeout timeout;
+            while ((timeout = newTimeouts.poll()) != null) {
+                if (timeout.isDone()) {
+                    continue;
+                }
+                long deadlineTick = (timeout.deadlineNanos - startNanos + tickNanos - 1) / tickNanos - 1;
+                // Timeouts due already go in the current bucket.
+                long scheduledTick = Math.max(deadlineTick, tick);
+                timeout.remainingRounds = (scheduledTick - tick) / wheel.length;
+                wheel[(int) (scheduledTick & mask)].add(timeout);
+            }
+        }
+
+        private void removeCanceledTimeouts() {
+            Timeout timeout;
+            while ((timeout = canceledTimeouts.poll()) != null) {
+                if (timeout.bucket != null) {
+                    timeout.bucket.remove(timeout);
+                }
+            }
+        }
+    }
+
+    /**
+     * Doubly linked list of the timeouts of one bucket of the wheel; only used by the worker
+     * thread.
+     */
+    private final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            bucketedTimeouts++;
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+            bucketedTimeouts--;
+        }
+
+        /**
+         * Runs the timeouts of this bucket that are due in this round of the wheel.
+         */
+        void expireTimeouts(long currentTick) {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.isDone()) {
+                    remove(timeout);
+                } else if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    timeout.expire();
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+    }
+
+    /**
+     * A scheduled task of the timer. Only {@link #cancel(boolean)} and the state queries are
+     * expected to be used; waiting for the timeout blocks until it is either canceled or expired
+     * and its task has run.
+     */
+    private final class Timeout implements ScheduledFuture<Void> {
+
+        private static final int PENDING = 0;
+        private static final int CANCELED = 1;
+        private static final int RUNNING = 2;
+        private static final int EXPIRED = 3;
+
+        private final Runnable task;
+        private final long deadlineNanos;
+        /** Not private so that the field updater can access it. */
+        volatile int state = PENDING;
+        private volatile boolean awaited;
+
+        /** Confined to the worker thread. */
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timeout prev;
+        private Timeout next;
+
+        Timeout(Runnable task, long deadlineNanos) {
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (!STATE_UPDATER.compareAndSet(this, PENDING, CANCELED)) {
+                return false;
+            }
+            pendingTimeouts.decrementAndGet();
+            canceledTimeouts.add(this);
+            signalDone();
+            return true;
+        }
+
+        /**
+         * Hands the timeout to a task thread. The timeout stays pending until the task thread
+         * starts running it, so that a cancellation in the meantime still prevents the task from
+         * running.
+         */
+        void expire() {
+            try {
+                taskExecutor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        runTask();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                runTask();
+            }
+        }
+
+        private void runTask() {
+            if (!STATE_UPDATER.compareAndSet(this, PENDING, RUNNING)) {
+                return;
+            }
+            pendingTimeouts.decrementAndGet();
+            expiredTimeouts.incrementAndGet();
+            try {
+                task.run();
+            } catch (Throwable t) {
+                log.warn("Timeout task failed", t);
+            }
+            state = EXPIRED;
+            signalDone();
+        }
+
+        private void signalDone() {
+            if (awaited) {
+                synchronized (this) {
+                    notifyAll();
+                }
+            }
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state == CANCELED;
+        }
+
+        @Override
+        public boolean isDone() {
+            int current = state;
+            return current == CANCELED || current == EXPIRED;
+        }
+
+        @Override
+        public Void get() throws InterruptedException, ExecutionException {
+            synchronized (this) {
+                awaited = true;
+                while (!isDone()) {
+                    wait();
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public Void get(long timeout, TimeUnit unit)
+                throws InterruptedException, ExecutionException, TimeoutException {
+            long deadline = System.nanoTime() + unit.toNanos(timeout);
+            synchronized (this) {
+                awaited = true;
+                while (!isDone()) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        throw new TimeoutException();
+                    }
+                    TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            long diff = getDelay(TimeUnit.NANOSECONDS) - other.getDelay(TimeUnit.NANOSECONDS);
+            return diff < 0 ? -1 : diff > 0 ? 1 : 0;
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<Timeout> STATE_UPDATER = AtomicIntegerFieldUpdater
+            .newUpdater(Timeout.class, "state");
+}
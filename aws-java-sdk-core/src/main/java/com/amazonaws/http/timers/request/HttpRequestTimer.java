@@ -15,15 +15,15 @@
 package com.amazonaws.http.timers.request;
 
 import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.http.client.methods.HttpRequestBase;
 
 import com.amazonaws.annotation.SdkInternalApi;
 import com.amazonaws.annotation.SdkTestInternalApi;
 import com.amazonaws.annotation.ThreadSafe;
-import com.amazonaws.http.timers.TimeoutThreadPoolBuilder;
+import com.amazonaws.http.timers.HashedWheelTimer;
 
 /**
  * Represents a timer class to enforce HTTP request timeouts.
@@ -32,7 +32,9 @@ import com.amazonaws.http.timers.TimeoutThreadPoolBuilder;
 @SdkInternalApi
 public class HttpRequestTimer {
 
-    private volatile ScheduledThreadPoolExecutor executor;
+    private volatile HashedWheelTimer timer;
+
+    private final AtomicLong triggeredTasks = new AtomicLong();
 
     /**
      * Start the timer with the specified timeout and return a object that can be used to track the
@@ -49,11 +51,17 @@ public class HttpRequestTimer {
     public HttpRequestAbortTaskTracker startTimer(final HttpRequestBase apacheRequest, final int requestTimeoutMillis) {
         if (isTimeoutDisabled(requestTimeoutMillis)) {
             return NoOpHttpRequestAbortTaskTracker.INSTANCE;
-        } else if (executor == null) {
-            initializeExecutor();
+        } else if (timer == null) {
+            timer = HashedWheelTimer.getSharedTimer();
         }
-        HttpRequestAbortTaskImpl timerTask = new HttpRequestAbortTaskImpl(apacheRequest);
-        ScheduledFuture<?> timerTaskFuture = executor.schedule(timerTask, requestTimeoutMillis, TimeUnit.MILLISECONDS);
+        final HttpRequestAbortTaskImpl timerTask = new HttpRequestAbortTaskImpl(apacheRequest);
+        ScheduledFuture<?> timerTaskFuture = timer.schedule(new Runnable() {
+            @Override
+            public void run() {
+                triggeredTasks.incrementAndGet();
+                timerTask.run();
+            }
+        }, requestTimeoutMillis, TimeUnit.MILLISECONDS);
         return new HttpRequestAbortTaskTrackerImpl(timerTask, timerTaskFuture);
     }
 
@@ -62,32 +70,31 @@ public class HttpRequestTimer {
     }
 
     /**
-     * Executor is lazily initialized as it's not compatible with Java 6
+     * The timer is shared with the other clients and stops its thread by itself once idle, so
+     * there is nothing to release here. Kept to be invoked when {@link AmazonHttpClient} is
+     * shutdown.
      */
-    private synchronized void initializeExecutor() {
-        if (executor == null) {
-            executor = TimeoutThreadPoolBuilder.buildDefaultTimeoutThreadPool();
-        }
+    public void shutdown() {
     }
 
     /**
-     * Shutdown the underlying {@link ScheduledThreadPoolExecutor}. Should be invoked when
-     * {@link AmazonHttpClient} is shutdown
+     * This method is current exposed for testing purposes
+     *
+     * @return The underlying {@link HashedWheelTimer}, or null if no timeout was ever started
      */
-    public synchronized void shutdown() {
-        if (executor != null) {
-            executor.shutdown();
-        }
+    @SdkTestInternalApi
+    public HashedWheelTimer getTimer() {
+        return timer;
     }
 
     /**
      * This method is current exposed for testing purposes
-     * 
-     * @return The underlying {@link ScheduledThreadPoolExecutor}
+     *
+     * @return The number of timeouts started by this timer that triggered
      */
     @SdkTestInternalApi
-    public ScheduledThreadPoolExecutor getExecutor() {
-        return executor;
+    public long getTriggeredTaskCount() {
+        return triggeredTasks.get();
     }
 
 }
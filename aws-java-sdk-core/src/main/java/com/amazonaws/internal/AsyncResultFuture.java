@@ -0,0 +1,182 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.internal;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.http.concurrent.BasicFuture;
+import org.apache.http.concurrent.FutureCallback;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.Response;
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.annotation.ThreadSafe;
+import com.amazonaws.handlers.AsyncHandler;
+
+/**
+ * Future of the result of an operation sent with
+ * {@link com.amazonaws.http.AmazonHttpClient#executeAsync}, used by the
+ * non-blocking methods of the generated asynchronous clients.
+ * <p>
+ * The optional {@link AsyncHandler} is notified before the future completes,
+ * the same way as for the asynchronous methods backed by a thread pool. The
+ * handler runs on the given executor if there is one, or else on the thread
+ * that completed the http execution; a handler that starts a dependent call
+ * from there doesn't hold any thread while that call is in flight.
+ *
+ * @param <REQUEST> the type of the original request
+ * @param <RESULT> the type of the result of the operation
+ */
+@SdkInternalApi
+@ThreadSafe
+public class AsyncResultFuture<REQUEST extends AmazonWebServiceRequest, RESULT>
+        implements Future<RESULT>, FutureCallback<Response<RESULT>> {
+
+    private final REQUEST request;
+    private final AsyncHandler<REQUEST, RESULT> asyncHandler;
+    private final Executor callbackExecutor;
+    private final BasicFuture<RESULT> result = new BasicFuture<RESULT>(null);
+
+    private volatile Future<?> delegate;
+
+    /**
+     * @param request the original request, as given by the caller.
+     * @param asyncHandler the handler to notify of the outcome; or null if
+     *            there is none.
+     * @param callbackExecutor the executor to notify the handler on; or null
+     *            to notify it on the thread that completes the execution.
+     */
+    public AsyncResultFuture(REQUEST request,
+                             AsyncHandler<REQUEST, RESULT> asyncHandler,
+                             Executor callbackExecutor) {
+        this.request = request;
+        this.asyncHandler = asyncHandler;
+        this.callbackExecutor = callbackExecutor;
+    }
+
+    /**
+     * Sets the future of the http execution, which is cancelled along with
+     * this future.
+     */
+    public void setDelegate(Future<?> delegate) {
+        this.delegate = delegate;
+        if (result.isCancelled()) {
+            delegate.cancel(true);
+        }
+    }
+
+    /**
+     * Invoked once the http execution is over, whatever its outcome, before the
+     * handler is notified.
+     *
+     * @param response the response; or null if the execution failed or was
+     *            cancelled.
+     */
+    protected void onCompletion(Response<RESULT> response) {
+    }
+
+    @Override
+    public void completed(Response<RESULT> response) {
+        onCompletion(response);
+        final RESULT awsResult = response.getAwsResponse();
+        notifyHandler(new Runnable() {
+            @Override
+            public void run() {
+                if (asyncHandler != null) {
+                    try {
+                        asyncHandler.onSuccess(request, awsResult);
+                    } catch (RuntimeException e) {
+                        result.failed(e);
+                        return;
+                    }
+                }
+                result.completed(awsResult);
+            }
+        });
+    }
+
+    @Override
+    public void failed(final Exception ex) {
+        onCompletion(null);
+        notifyHandler(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    if (asyncHandler != null) {
+                        asyncHandler.onError(ex);
+                    }
+                } finally {
+                    result.failed(ex);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void cancelled() {
+        onCompletion(null);
+        result.cancel(true);
+    }
+
+    private void notifyHandler(Runnable task) {
+        if (callbackExecutor == null) {
+            task.run();
+            return;
+        }
+        try {
+            callbackExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.run();
+        }
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        if (!result.cancel(mayInterruptIfRunning)) {
+            return false;
+        }
+        Future<?> execution = delegate;
+        if (execution != null) {
+            execution.cancel(mayInterruptIfRunning);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return result.isCancelled();
+    }
+
+    @Override
+    public boolean isDone() {
+        return result.isDone();
+    }
+
+    @Override
+    public RESULT get() throws InterruptedException, ExecutionException {
+        return result.get();
+    }
+
+    @Override
+    public RESULT get(long timeout, TimeUnit unit)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        return result.get(timeout, unit);
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.security.MessageDigest;
+
+import com.amazonaws.annotation.NotThreadSafe;
+
+/**
+ * A mark-and-resettable input stream over the remaining bytes of a heap or
+ * direct byte buffer, which reads the buffer in place rather than copying it.
+ * <p>
+ * The stream works on a view of the given buffer, so reading it doesn't
+ * change the position, limit or mark of the buffer; the content of the buffer
+ * must not be modified while the stream is in use though. The stream is marked
+ * at its start on construction.
+ */
+@NotThreadSafe
+public class ByteBufferInputStream extends SdkInputStream implements ReplayableContent {
+
+    private static final int CHUNK_SIZE = 8 * 1024;
+
+    private final ByteBuffer buffer;
+
+    /** Position of the start of the content in the buffer. */
+    private final int start;
+
+    /** SHA-256 digest of the whole content, if known; or null. */
+    private final byte[] sha256;
+
+    private int markPos;
+
+    /**
+     * @param buffer
+     *            the buffer to read, from its position to its limit; must not
+     *            be null.
+     */
+    public ByteBufferInputStream(ByteBuffer buffer) {
+        this(buffer, null);
+    }
+
+    /**
+     * @param buffer
+     *            the buffer to read, from its position to its limit; must not
+     *            be null.
+     * @param sha256
+     *            the SHA-256 digest of the remaining bytes of the buffer, if
+     *            already computed; or null.
+     */
+    public ByteBufferInputStream(ByteBuffer buffer, byte[] sha256) {
+        if (buffer == null)
+            throw new IllegalArgumentException("buffer must not be null");
+        this.buffer = buffer.duplicate();
+        this.start = this.buffer.position();
+        this.markPos = start;
+        this.sha256 = sha256;
+    }
+
+    @Override
+    public int read() {
+        abortIfNeeded();
+        return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+        abortIfNeeded();
+        if (len == 0)
+            return 0;
+        if (!buffer.hasRemaining())
+            return -1;
+        int count = Math.min(len, buffer.remaining());
+        buffer.get(b, off, count);
+        return count;
+    }
+
+    @Override
+    public long skip(long n) {
+        abortIfNeeded();
+        if (n <= 0)
+            return 0;
+        int count = (int) Math.min(n, buffer.remaining());
+        buffer.position(buffer.position() + count);
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return buffer.remaining();
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    /**
+     * Marks the current position; the read limit is ignored, since the whole
+     * content is held by the buffer anyway.
+     */
+    @Override
+    public void mark(int readlimit) {
+        markPos = buffer.position();
+    }
+
+    @Override
+    public void reset() {
+        abortIfNeeded();
+        buffer.position(markPos);
+    }
+
+    @Override
+    public long getRemainingLength() {
+        return buffer.remaining();
+    }
+
+    /**
+     * Returns the digest given on construction, as long as the stream is at
+     * the start of its content; or null otherwise.
+     */
+    @Override
+    public byte[] getSha256() {
+        return buffer.position() == start ? sha256 : null;
+    }
+
+    @Override
+    public void digest(MessageDigest md) {
+        md.update(buffer.duplicate());
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        abortIfNeeded();
+        if (buffer.hasArray()) {
+            out.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            buffer.position(buffer.limit());
+            return;
+        }
+        byte[] chunk = new byte[Math.min(CHUNK_SIZE, buffer.remaining())];
+        while (buffer.hasRemaining()) {
+            int count = Math.min(chunk.length, buffer.remaining());
+            buffer.get(chunk, 0, count);
+            out.write(chunk, 0, count);
+        }
+    }
+
+    @Override
+    public void transferTo(WritableByteChannel target) throws IOException {
+        abortIfNeeded();
+        while (buffer.hasRemaining()) {
+            target.write(buffer);
+        }
+    }
+
+    @Override
+    protected InputStream getWrappedInputStream() {
+        return null;
+    }
+}
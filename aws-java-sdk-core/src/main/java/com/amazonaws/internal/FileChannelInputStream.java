@@ -0,0 +1,243 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.internal;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.security.MessageDigest;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.annotation.NotThreadSafe;
+
+/**
+ * A mark-and-resettable input stream over a region of a file channel.
+ * <p>
+ * The stream reads the channel at absolute positions, so it neither depends
+ * on nor moves the position of the channel, and resetting it is free. When
+ * written to a channel, the region is transferred by the operating system,
+ * directly from the file to a socket or another file. The stream is marked
+ * at its start on construction.
+ * <p>
+ * A stream created from a {@link File}, or a region of it, owns the channel it
+ * opens, and closes it when closed; a stream created from a channel leaves the
+ * channel open.
+ */
+@NotThreadSafe
+public class FileChannelInputStream extends SdkInputStream implements ReplayableContent {
+
+    private static final int CHUNK_SIZE = 16 * 1024;
+
+    private final FileChannel channel;
+
+    private final boolean ownsChannel;
+
+    /** Absolute position of the end of the region. */
+    private final long end;
+
+    /** Absolute position of the next byte to read. */
+    private long position;
+
+    private long markPos;
+
+    /**
+     * Opens the given file, and reads it from its start to its current end.
+     */
+    @SuppressWarnings("resource")
+    public FileChannelInputStream(File file) throws IOException {
+        this(new FileInputStream(file).getChannel(), true);
+    }
+
+    private FileChannelInputStream(FileChannel channel, boolean ownsChannel) throws IOException {
+        this(channel, 0, channel.size(), ownsChannel);
+    }
+
+    /**
+     * Opens the given file, and reads the given region of it.
+     *
+     * @param file
+     *            the file to read.
+     * @param position
+     *            the position of the first byte of the region in the file.
+     * @param length
+     *            the length of the region.
+     */
+    @SuppressWarnings("resource")
+    public FileChannelInputStream(File file, long position, long length) throws IOException {
+        this(new FileInputStream(file).getChannel(), position, length, true);
+    }
+
+    /**
+     * Reads the given region of the given channel, which is left open when
+     * this stream is closed.
+     *
+     * @param channel
+     *            the channel to read; must not be null.
+     * @param position
+     *            the absolute position of the first byte of the region.
+     * @param length
+     *            the length of the region.
+     */
+    public FileChannelInputStream(FileChannel channel, long position, long length) {
+        this(channel, position, length, false);
+    }
+
+    private FileChannelInputStream(FileChannel channel, long position, long length,
+            boolean ownsChannel) {
+        if (channel == null)
+            throw new IllegalArgumentException("channel must not be null");
+        if (position < 0 || length < 0)
+            throw new IllegalArgumentException("Invalid region: position=" + position
+                    + ", length=" + length);
+        this.channel = channel;
+        this.ownsChannel = ownsChannel;
+        this.position = position;
+        this.markPos = position;
+        this.end = position + length;
+    }
+
+    /**
+     * Convenient factory method to open a stream over the given file,
+     * converting any IOException into AmazonClientException.
+     */
+    public static FileChannelInputStream newFileChannelInputStream(File file) {
+        try {
+            return new FileChannelInputStream(file);
+        } catch (IOException e) {
+            throw new AmazonClientException("Unable to open " + file, e);
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        return read(b, 0, 1) == -1 ? -1 : b[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        abortIfNeeded();
+        if (len == 0)
+            return 0;
+        if (position >= end)
+            return -1;
+        int count = (int) Math.min(len, end - position);
+        int read = channel.read(ByteBuffer.wrap(b, off, count), position);
+        if (read == -1)
+            throw new EOFException("File truncated while being read");
+        position += read;
+        return read;
+    }
+
+    @Override
+    public long skip(long n) {
+        abortIfNeeded();
+        if (n <= 0)
+            return 0;
+        long count = Math.min(n, end - position);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return (int) Math.min(Integer.MAX_VALUE, end - position);
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    /**
+     * Marks the current position; the read limit is ignored, since the
+     * content can always be read again from the file.
+     */
+    @Override
+    public void mark(int readlimit) {
+        markPos = position;
+    }
+
+    @Override
+    public void reset() {
+        abortIfNeeded();
+        position = markPos;
+    }
+
+    @Override
+    public long getRemainingLength() {
+        return end - position;
+    }
+
+    @Override
+    public byte[] getSha256() {
+        return null;
+    }
+
+    @Override
+    public void digest(MessageDigest md) throws IOException {
+        ByteBuffer chunk = ByteBuffer.allocate((int) Math.min(CHUNK_SIZE, end - position));
+        long pos = position;
+        while (pos < end) {
+            abortIfNeeded();
+            chunk.clear();
+            chunk.limit((int) Math.min(chunk.capacity(), end - pos));
+            int read = channel.read(chunk, pos);
+            if (read == -1)
+                throw new EOFException("File truncated while being read");
+            md.update(chunk.array(), 0, read);
+            pos += read;
+        }
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        if (out instanceof FileOutputStream) {
+            transferTo(((FileOutputStream) out).getChannel());
+        } else {
+            transferTo(Channels.newChannel(out));
+        }
+    }
+
+    @Override
+    public void transferTo(WritableByteChannel target) throws IOException {
+        while (position < end) {
+            abortIfNeeded();
+            long transferred = channel.transferTo(position, end - position, target);
+            if (transferred == 0 && position >= channel.size())
+                throw new EOFException("File truncated while being read");
+            position += transferred;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (ownsChannel)
+            channel.close();
+    }
+
+    @Override
+    protected InputStream getWrappedInputStream() {
+        return null;
+    }
+}
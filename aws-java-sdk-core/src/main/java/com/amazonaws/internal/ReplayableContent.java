@@ -0,0 +1,68 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.internal;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
+import java.security.MessageDigest;
+
+/**
+ * Request content backed by memory or by a file, rather than by an arbitrary
+ * stream, so that it can be replayed, hashed and written out without being
+ * copied into intermediate buffers.
+ * <p>
+ * Implementations are mark-and-resettable input streams; the methods below
+ * work on the remaining content, from the current position of the stream to
+ * its end.
+ *
+ * @see ByteBufferInputStream
+ * @see FileChannelInputStream
+ */
+public interface ReplayableContent {
+
+    /**
+     * Returns the number of bytes from the current position to the end of the
+     * content.
+     */
+    long getRemainingLength();
+
+    /**
+     * Returns the SHA-256 digest of the remaining content if it is already
+     * known, typically because it was computed as the content was generated;
+     * or null otherwise.
+     */
+    byte[] getSha256();
+
+    /**
+     * Updates the given digest with the remaining content, without moving the
+     * current position.
+     */
+    void digest(MessageDigest md) throws IOException;
+
+    /**
+     * Writes the remaining content to the given stream, moving the current
+     * position to the end of the content.
+     */
+    void writeTo(OutputStream out) throws IOException;
+
+    /**
+     * Writes the remaining content to the given channel, moving the current
+     * position to the end of the content. File content is transferred by the
+     * operating system where the channel allows, without going through the
+     * JVM heap.
+     */
+    void transferTo(WritableByteChannel target) throws IOException;
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.internal;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.annotation.ThreadSafe;
+
+/**
+ * A statistics counter that spreads its updates over several padded cells so
+ * that threads incrementing it concurrently don't all contend on the same
+ * cache line. Reads sum the cells, so they are more expensive than writes and
+ * only eventually consistent; this is intended for counters that are updated
+ * on a hot path and read occasionally.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class StripedLongCounter {
+
+    /** Number of longs between two cells, so each cell has a 64 byte cache line of its own. */
+    private static final int PADDING = 8;
+
+    private static final int MAX_STRIPES = 64;
+
+    private final AtomicLongArray cells;
+
+    private final int mask;
+
+    public StripedLongCounter() {
+        int stripes = 1;
+        final int processors = Runtime.getRuntime().availableProcessors();
+        while (stripes < processors && stripes < MAX_STRIPES) {
+            stripes <<= 1;
+        }
+        this.mask = stripes - 1;
+        this.cells = new AtomicLongArray(stripes * PADDING);
+    }
+
+    /** Increments the counter by one. */
+    public void increment() {
+        add(1L);
+    }
+
+    /** Adds the given delta to the counter. */
+    public void add(long delta) {
+        cells.getAndAdd(cellIndex(), delta);
+    }
+
+    /** Returns the current sum of the counter. */
+    public long sum() {
+        long sum = 0L;
+        for (int i = 0; i < cells.length(); i += PADDING) {
+            sum += cells.get(i);
+        }
+        return sum;
+    }
+
+    /** Resets the counter to zero. */
+    public void reset() {
+        for (int i = 0; i < cells.length(); i += PADDING) {
+            cells.set(i, 0L);
+        }
+    }
+
+    private int cellIndex() {
+        // Thread ids are handed out sequentially, so consecutive threads land on
+        // different cells.
+        final long id = Thread.currentThread().getId();
+        return ((int) (id ^ (id >>> 32)) & mask) * PADDING;
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(sum());
+    }
+}
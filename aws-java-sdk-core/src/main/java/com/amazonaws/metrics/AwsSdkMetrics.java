@@ -33,6 +33,8 @@ import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 import com.amazonaws.auth.PropertiesCredentials;
+import com.amazonaws.auth.internal.SignerKeyCache;
+import com.amazonaws.http.timers.HashedWheelTimer;
 import com.amazonaws.jmx.spi.SdkMBeanRegistry;
 import com.amazonaws.regions.Regions;
 import com.amazonaws.util.AWSRequestMetrics;
@@ -854,6 +856,70 @@ public enum AwsSdkMetrics {
         AwsSdkMetrics.hostMetricName = hostMetricName;
     }
 
+    /**
+     * Returns the number of AWS4 signing key lookups that were served from the
+     * signing key cache shared by the signers of this class loader.
+     */
+    public static long getSigningKeyCacheHitCount() {
+        return SignerKeyCache.getSharedInstance().getHitCount();
+    }
+
+    /**
+     * Returns the number of AWS4 signing key lookups that had to derive a new
+     * signing key.
+     */
+    public static long getSigningKeyCacheMissCount() {
+        return SignerKeyCache.getSharedInstance().getMissCount();
+    }
+
+    /**
+     * Returns the number of entries evicted from the AWS4 signing key cache
+     * because it was full.
+     */
+    public static long getSigningKeyCacheEvictionCount() {
+        return SignerKeyCache.getSharedInstance().getEvictionCount();
+    }
+
+    /**
+     * Returns the number of (credential, region, service) entries currently
+     * held in the AWS4 signing key cache.
+     */
+    public static int getSigningKeyCacheSize() {
+        return SignerKeyCache.getSharedInstance().size();
+    }
+
+    /**
+     * Returns the number of request and client execution timeouts currently
+     * pending on the timeout timer shared by the clients of this class loader.
+     */
+    public static long getTimeoutTimerPendingCount() {
+        return HashedWheelTimer.getSharedTimer().getPendingTimeouts();
+    }
+
+    /**
+     * Returns the number of request and client execution timeouts that
+     * expired so far on the shared timeout timer.
+     */
+    public static long getTimeoutTimerExpiredCount() {
+        return HashedWheelTimer.getSharedTimer().getExpiredTimeouts();
+    }
+
+    /**
+     * Returns how late, in milliseconds, the shared timeout timer processed
+     * its last tick.
+     */
+    public static long getTimeoutTimerTickLagMillis() {
+        return HashedWheelTimer.getSharedTimer().getTickLagMillis();
+    }
+
+    /**
+     * Returns how late, in milliseconds, the shared timeout timer processed
+     * the latest of its ticks so far.
+     */
+    public static long getTimeoutTimerMaxTickLagMillis() {
+        return HashedWheelTimer.getSharedTimer().getMaxTickLagMillis();
+    }
+
     /**
      * Used as a registry for the predefined metrics to be captured by the
      * metric collector at the AWS SDK level.
@@ -144,4 +144,36 @@ public class MetricAdmin implements MetricAdminMBean {
     public void setSingleMetricNamespace(boolean singleMetricNamespace) {
         AwsSdkMetrics.setSingleMetricNamespace(singleMetricNamespace);
     }
-}
\ No newline at end of file
+    @Override
+    public long getSigningKeyCacheHitCount() {
+        return AwsSdkMetrics.getSigningKeyCacheHitCount();
+    }
+    @Override
+    public long getSigningKeyCacheMissCount() {
+        return AwsSdkMetrics.getSigningKeyCacheMissCount();
+    }
+    @Override
+    public long getSigningKeyCacheEvictionCount() {
+        return AwsSdkMetrics.getSigningKeyCacheEvictionCount();
+    }
+    @Override
+    public int getSigningKeyCacheSize() {
+        return AwsSdkMetrics.getSigningKeyCacheSize();
+    }
+    @Override
+    public long getTimeoutTimerPendingCount() {
+        return AwsSdkMetrics.getTimeoutTimerPendingCount();
+    }
+    @Override
+    public long getTimeoutTimerExpiredCount() {
+        return AwsSdkMetrics.getTimeoutTimerExpiredCount();
+    }
+    @Override
+    public long getTimeoutTimerTickLagMillis() {
+        return AwsSdkMetrics.getTimeoutTimerTickLagMillis();
+    }
+    @Override
+    public long getTimeoutTimerMaxTickLagMillis() {
+        return AwsSdkMetrics.getTimeoutTimerMaxTickLagMillis();
+    }
+}
@@ -184,4 +184,50 @@ public interface MetricAdminMBean {
      * Used to set whether a single metric name space is to be used.
      */
     public void setSingleMetricNamespace(boolean singleMetricNamespace);
-}
\ No newline at end of file
+
+    /**
+     * Returns the number of AWS4 signing key lookups served from the signing
+     * key cache.
+     */
+    public long getSigningKeyCacheHitCount();
+
+    /**
+     * Returns the number of AWS4 signing key lookups that had to derive a new
+     * signing key.
+     */
+    public long getSigningKeyCacheMissCount();
+
+    /**
+     * Returns the number of entries evicted from the AWS4 signing key cache.
+     */
+    public long getSigningKeyCacheEvictionCount();
+
+    /**
+     * Returns the number of entries in the AWS4 signing key cache.
+     */
+    public int getSigningKeyCacheSize();
+
+    /**
+     * Returns the number of request and client execution timeouts currently
+     * pending on the shared timeout timer.
+     */
+    public long getTimeoutTimerPendingCount();
+
+    /**
+     * Returns the number of request and client execution timeouts that
+     * expired so far on the shared timeout timer.
+     */
+    public long getTimeoutTimerExpiredCount();
+
+    /**
+     * Returns how late, in milliseconds, the shared timeout timer processed
+     * its last tick.
+     */
+    public long getTimeoutTimerTickLagMillis();
+
+    /**
+     * Returns how late, in milliseconds, the shared timeout timer processed
+     * the latest of its ticks so far.
+     */
+    public long getTimeoutTimerMaxTickLagMillis();
+}
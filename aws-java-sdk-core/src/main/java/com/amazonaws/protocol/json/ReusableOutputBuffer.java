@@ -0,0 +1,123 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.protocol.json;
+
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+import com.amazonaws.annotation.NotThreadSafe;
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.protocol.json.SdkJsonGenerator.JsonGenerationException;
+
+/**
+ * Output buffer reused by the generators of a thread, which hashes what is
+ * written to it, so that generating a request body allocates no more than the
+ * exactly sized array of the body.
+ * <p>
+ * A generator takes the buffer of its thread with {@link #take()}, and gives
+ * it back with {@link #giveBack()} once it has copied the content out. A
+ * generator created while the buffer is taken, or that is abandoned before it
+ * gives the buffer back, works with a buffer of its own.
+ */
+@NotThreadSafe
+@SdkInternalApi
+final class ReusableOutputBuffer extends OutputStream {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /** Buffers that grew beyond this size are dropped rather than reused. */
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+    private static final ThreadLocal<ReusableOutputBuffer> BUFFERS = new ThreadLocal<ReusableOutputBuffer>();
+
+    private final MessageDigest sha256 = newSha256();
+
+    private byte[] buf = new byte[INITIAL_CAPACITY];
+
+    private int count;
+
+    private ReusableOutputBuffer() {
+    }
+
+    /**
+     * Takes the buffer of the current thread, or a new buffer if it is taken.
+     */
+    static ReusableOutputBuffer take() {
+        ReusableOutputBuffer buffer = BUFFERS.get();
+        if (buffer == null) {
+            return new ReusableOutputBuffer();
+        }
+        BUFFERS.set(null);
+        return buffer;
+    }
+
+    /**
+     * Empties this buffer and makes it the buffer of the current thread, unless
+     * it grew too large to be retained.
+     */
+    void giveBack() {
+        if (buf.length > MAX_RETAINED_CAPACITY) {
+            return;
+        }
+        count = 0;
+        sha256.reset();
+        BUFFERS.set(this);
+    }
+
+    @Override
+    public void write(int b) {
+        ensureCapacity(count + 1);
+        buf[count++] = (byte) b;
+        sha256.update((byte) b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        ensureCapacity(count + len);
+        System.arraycopy(b, off, buf, count, len);
+        count += len;
+        sha256.update(b, off, len);
+    }
+
+    /**
+     * Returns a copy of the content of this buffer, of its exact size.
+     */
+    byte[] toByteArray() {
+        return Arrays.copyOf(buf, count);
+    }
+
+    /**
+     * Returns the SHA-256 digest of the content of this buffer.
+     */
+    byte[] digest() {
+        return sha256.digest();
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > buf.length) {
+            buf = Arrays.copyOf(buf, Math.max(buf.length << 1, minCapacity));
+        }
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new JsonGenerationException(e);
+        }
+    }
+}
@@ -16,14 +16,15 @@ package com.amazonaws.protocol.json;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.internal.ByteBufferInputStream;
 import com.amazonaws.protocol.json.StructuredJsonGenerator;
 import com.amazonaws.util.BinaryUtils;
 import com.amazonaws.util.DateUtils;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
@@ -35,12 +36,6 @@ import java.util.Date;
 @SdkInternalApi
 public class SdkJsonGenerator implements StructuredJsonGenerator {
 
-    /**
-     * Default buffer size for the BAOS. Chosen somewhat arbitrarily. Should be large enough to
-     * prevent frequent resizings but small enough to avoid wasted allocations for small requests.
-     */
-    private static final int DEFAULT_BUFFER_SIZE = 1024;
-
     /**
      * Indicates an issue writing JSON content.
      */
@@ -51,19 +46,28 @@ public class SdkJsonGenerator implements StructuredJsonGenerator {
         }
     }
 
-    private final ByteArrayOutputStream baos = new ByteArrayOutputStream(DEFAULT_BUFFER_SIZE);
+    /**
+     * Reused buffer of the thread, which hashes the content as the generator flushes it, so that
+     * signers needn't read it again.
+     */
+    private final ReusableOutputBuffer buffer = ReusableOutputBuffer.take();
 
     private final JsonGenerator generator;
 
     private final String contentType;
 
+    /** The generated content, once the generator is closed. */
+    private byte[] content;
+
+    private byte[] contentSha256;
+
     public SdkJsonGenerator(JsonFactory factory, String contentType) {
         try {
             /**
              * A {@link JsonGenerator} created is by default enabled with
              * UTF-8 encoding
              */
-            this.generator = factory.createGenerator(baos);
+            this.generator = factory.createGenerator(buffer);
             this.contentType = contentType;
         } catch (IOException e) {
             throw new JsonGenerationException(e);
@@ -243,16 +247,29 @@ public class SdkJsonGenerator implements StructuredJsonGenerator {
     }
 
     /**
-     * Get the JSON content as a UTF-8 encoded byte array. It is recommended to hold onto the array
-     * reference rather then making repeated calls to this method as a new array will be created
-     * each time.
+     * Get the JSON content as a UTF-8 encoded byte array. The array is created once, when the
+     * generator is closed by the first call, and must not be modified.
      *
      * @return Array of UTF-8 encoded bytes that make up the generated JSON.
      */
     @Override
     public byte[] getBytes() {
-        close();
-        return baos.toByteArray();
+        if (content == null) {
+            close();
+            content = buffer.toByteArray();
+            contentSha256 = buffer.digest();
+            buffer.giveBack();
+        }
+        return content;
+    }
+
+    /**
+     * Get the JSON content as a replayable stream over the array returned by {@link #getBytes()},
+     * which carries the SHA-256 digest computed while the content was generated.
+     */
+    @Override
+    public InputStream getContentStream() {
+        return new ByteBufferInputStream(ByteBuffer.wrap(getBytes()), contentSha256);
     }
 
     @Override
@@ -19,6 +19,7 @@ package com.amazonaws.protocol.json;
 
 import com.amazonaws.annotation.SdkProtectedApi;
 
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
@@ -64,5 +65,11 @@ public interface StructuredJsonGenerator {
 
     byte[] getBytes();
 
+    /**
+     * Returns the generated content as a mark-and-resettable stream which carries its SHA-256
+     * digest, computed while the content was generated, so that signers needn't read it again.
+     */
+    InputStream getContentStream();
+
     String getContentType();
 }
@@ -0,0 +1,524 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.retry;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.Request;
+import com.amazonaws.annotation.ThreadSafe;
+import com.amazonaws.handlers.HandlerContextKey;
+import com.amazonaws.jmx.MBeans;
+
+/**
+ * Retry throttler that limits the retries with a token bucket refilled over
+ * time, and fails the requests fast with a circuit breaker per endpoint and
+ * operation while they keep failing with server errors or throttling.
+ * <p>
+ * Each retry consumes capacity from the token bucket, more so for throttled
+ * attempts. A successful retry gives its capacity back, any other successful
+ * attempt adds one unit, and the bucket refills at a steady rate up to its
+ * maximum capacity, so that retries recover after a quiet period as well as
+ * after successes. Once the bucket is empty, failed attempts are no longer
+ * retried.
+ * <p>
+ * The circuit breaker of an endpoint and operation opens when the proportion
+ * of its attempts that fail with a 5xx status code or are throttled reaches a
+ * threshold within a window. While open, its requests fail fast with a
+ * {@link RetryThrottlingException}, without being sent. After a while the
+ * circuit breaker is half open: it lets a single probe attempt through, and
+ * closes if it succeeds or opens again if it fails. Failed attempts are not
+ * retried while the circuit breaker is not closed. At most
+ * {@link AdaptiveRetryThrottlerConfig#getMaxCircuits()} circuit breakers are
+ * kept: once there are as many, the closed ones that saw no attempt for a
+ * window are evicted, and the requests to other endpoints and operations are
+ * not broken until some are.
+ * <p>
+ * The state of the throttler can be monitored over JMX once registered with
+ * {@link #registerMBean(String)}. A throttler can be shared by several
+ * clients, through {@link com.amazonaws.ClientConfiguration#setRetryThrottler(RetryThrottler)}.
+ */
+@ThreadSafe
+public class AdaptiveRetryThrottler implements RetryThrottler, AdaptiveRetryThrottlerMBean {
+
+    private static final String MBEAN_OBJECT_NAME_PREFIX =
+            "com.amazonaws.management:type=" + AdaptiveRetryThrottler.class.getSimpleName() + ",name=";
+
+    /** Retry capacity consumed by the last retry of a request, given back if the request then succeeds. */
+    private static final HandlerContextKey<Integer> RETRY_COST = new HandlerContextKey<Integer>("RetryCost");
+
+    /** State of the half open circuit that let the attempt of a request through as its probe. */
+    private static final HandlerContextKey<CircuitState> PROBE = new HandlerContextKey<CircuitState>("CircuitProbe");
+
+    /** The capacity is kept in thousandths of a unit, so that it can be refilled by fractions. */
+    private static final long MILLIS_PER_UNIT = 1000;
+
+    private enum CircuitMode {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final AdaptiveRetryThrottlerConfig config;
+
+    private final long maxCapacity;
+    private final double refillPerNano;
+    private final long windowNanos;
+    private final long openCircuitNanos;
+
+    private final AtomicLong capacity;
+    private final AtomicLong lastRefillNanos;
+
+    private final ConcurrentMap<String, Circuit> circuits = new ConcurrentHashMap<String, Circuit>();
+    private final AtomicLong lastEvictionNanos;
+
+    private final AtomicLong retriesAllowed = new AtomicLong();
+    private final AtomicLong retriesDenied = new AtomicLong();
+    private final AtomicLong attemptsFailedFast = new AtomicLong();
+    private final AtomicLong circuitsOpened = new AtomicLong();
+
+    private volatile String registeredMBeanName;
+
+    /**
+     * Creates a throttler with the default settings.
+     */
+    public AdaptiveRetryThrottler() {
+        this(new AdaptiveRetryThrottlerConfig());
+    }
+
+    public AdaptiveRetryThrottler(AdaptiveRetryThrottlerConfig config) {
+        if (config.getMaxCapacity() <= 0) {
+            throw new IllegalArgumentException("maxCapacity must be positive: " + config.getMaxCapacity());
+        }
+        if (config.getMaxCircuits() <= 0) {
+            throw new IllegalArgumentException("maxCircuits must be positive: " + config.getMaxCircuits());
+        }
+        if (config.getRefillRatePerSecond() < 0) {
+            throw new IllegalArgumentException("refillRatePerSecond must not be negative: "
+                    + config.getRefillRatePerSecond());
+        }
+        this.config = new AdaptiveRetryThrottlerConfig(config);
+        this.maxCapacity = config.getMaxCapacity() * MILLIS_PER_UNIT;
+        this.refillPerNano = config.getRefillRatePerSecond() * MILLIS_PER_UNIT / TimeUnit.SECONDS.toNanos(1);
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(config.getWindowMillis());
+        this.openCircuitNanos = TimeUnit.MILLISECONDS.toNanos(config.getOpenCircuitMillis());
+        this.capacity = new AtomicLong(maxCapacity);
+        this.lastRefillNanos = new AtomicLong(nanoTime());
+        this.lastEvictionNanos = new AtomicLong(nanoTime() - windowNanos);
+    }
+
+    /**
+     * Returns a copy of the settings of this throttler.
+     */
+    public AdaptiveRetryThrottlerConfig getConfig() {
+        return new AdaptiveRetryThrottlerConfig(config);
+    }
+
+    @Override
+    public boolean allowAttempt(Request<?> request) {
+        if (circuitOf(request).allowAttempt(request, nanoTime())) {
+            return true;
+        }
+        attemptsFailedFast.incrementAndGet();
+        return false;
+    }
+
+    @Override
+    public int acquireRetry(Request<?> request, AmazonClientException exception) {
+        if (!circuitOf(request).isClosed()) {
+            retriesDenied.incrementAndGet();
+            return -1;
+        }
+        int cost = isThrottling(exception) ? config.getThrottlingRetryCost() : config.getRetryCost();
+        if (!acquire(cost * MILLIS_PER_UNIT)) {
+            retriesDenied.incrementAndGet();
+            return -1;
+        }
+        retriesAllowed.incrementAndGet();
+        request.addHandlerContext(RETRY_COST, cost);
+        return cost;
+    }
+
+    @Override
+    public void onAttemptSucceeded(Request<?> request, boolean retryCapacityConsumed) {
+        release(releasedCapacity(request, retryCapacityConsumed) * MILLIS_PER_UNIT);
+        circuitOf(request).onAttempt(request, nanoTime(), true, false);
+    }
+
+    @Override
+    public void onAttemptFailed(Request<?> request, AmazonClientException exception) {
+        circuitOf(request).onAttempt(request, nanoTime(), false, isServiceFailure(exception));
+    }
+
+    @Override
+    public int getAvailableCapacity() {
+        refill(nanoTime());
+        return (int) (capacity.get() / MILLIS_PER_UNIT);
+    }
+
+    @Override
+    public int getConsumedCapacity() {
+        return config.getMaxCapacity() - getAvailableCapacity();
+    }
+
+    @Override
+    public int getMaxCapacity() {
+        return config.getMaxCapacity();
+    }
+
+    @Override
+    public long getRetriesAllowed() {
+        return retriesAllowed.get();
+    }
+
+    @Override
+    public long getRetriesDenied() {
+        return retriesDenied.get();
+    }
+
+    @Override
+    public long getAttemptsFailedFast() {
+        return attemptsFailedFast.get();
+    }
+
+    @Override
+    public long getCircuitsOpened() {
+        return circuitsOpened.get();
+    }
+
+    @Override
+    public int getOpenCircuitCount() {
+        int count = 0;
+        for (Circuit circuit : circuits.values()) {
+            if (!circuit.isClosed()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public String[] getCircuitStates() {
+        List<String> states = new ArrayList<String>(circuits.size());
+        for (Map.Entry<String, Circuit> entry : circuits.entrySet()) {
+            states.add(entry.getKey() + " " + entry.getValue());
+        }
+        return states.toArray(new String[states.size()]);
+    }
+
+    /**
+     * Registers this throttler as an MBean named
+     * {@code com.amazonaws.management:type=AdaptiveRetryThrottler,name=<name>}.
+     *
+     * @param name
+     *            A name that is valid as the value of an object name key
+     *            property, which distinguishes this throttler from the others.
+     * @return true if the registration succeeded; false otherwise, for
+     *         instance if JMX is not available.
+     */
+    public synchronized boolean registerMBean(String name) {
+        if (registeredMBeanName != null) {
+            return false;
+        }
+        String objectName = MBEAN_OBJECT_NAME_PREFIX + name;
+        try {
+            if (MBeans.registerMBean(objectName, this)) {
+                registeredMBeanName = objectName;
+                return true;
+            }
+        } catch (Exception e) {
+            LogFactory.getLog(AdaptiveRetryThrottler.class).warn("Failed to register mbean " + objectName, e);
+        } catch (NoClassDefFoundError e) {
+            LogFactory.getLog(AdaptiveRetryThrottler.class).debug("JMX is not available", e);
+        }
+        return false;
+    }
+
+    /**
+     * Unregisters the MBean registered with {@link #registerMBean(String)}.
+     *
+     * @return true if the unregistration succeeded; false otherwise.
+     */
+    public synchronized boolean unregisterMBean() {
+        if (registeredMBeanName == null) {
+            return false;
+        }
+        String objectName = registeredMBeanName;
+        registeredMBeanName = null;
+        try {
+            return MBeans.unregisterMBean(objectName);
+        } catch (Exception e) {
+            LogFactory.getLog(AdaptiveRetryThrottler.class).warn("Failed to unregister mbean " + objectName, e);
+            return false;
+        }
+    }
+
+    /**
+     * Returns the current value of the clock of this throttler, in
+     * nanoseconds. Overridden by tests.
+     */
+    long nanoTime() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Returns the capacity given back by a successful attempt: the cost of
+     * the last retry of the request if retries consumed capacity, or one unit.
+     */
+    private int releasedCapacity(Request<?> request, boolean retryCapacityConsumed) {
+        if (!retryCapacityConsumed) {
+            return 1;
+        }
+        Integer cost = request.getHandlerContext(RETRY_COST);
+        return cost == null ? config.getRetryCost() : cost;
+    }
+
+    private boolean acquire(long amount) {
+        refill(nanoTime());
+        while (true) {
+            long current = capacity.get();
+            if (current < amount) {
+                return false;
+            }
+            if (capacity.compareAndSet(current, current - amount)) {
+                return true;
+            }
+        }
+    }
+
+    private void release(long amount) {
+        while (true) {
+            long current = capacity.get();
+            if (current >= maxCapacity) {
+                return;
+            }
+            if (capacity.compareAndSet(current, Math.min(current + amount, maxCapacity))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Adds the capacity accrued since the last refill. Only the time that
+     * accounts for the whole thousandths of a unit added is consumed, so that
+     * frequent refills don't lose the remainders.
+     */
+    private void refill(long now) {
+        long last = lastRefillNanos.get();
+        long amount = (long) ((now - last) * refillPerNano);
+        if (amount <= 0) {
+            return;
+        }
+        if (lastRefillNanos.compareAndSet(last, last + (long) (amount / refillPerNano))) {
+            release(amount);
+        }
+    }
+
+    /**
+     * Returns the circuit of the endpoint and operation of the request. Once
+     * the circuits are at their maximum number, a circuit that is not kept is
+     * returned for the other endpoints and operations, until some are evicted.
+     */
+    private Circuit circuitOf(Request<?> request) {
+        String key = keyOf(request);
+        Circuit circuit = circuits.get(key);
+        if (circuit == null) {
+            long now = nanoTime();
+            Circuit newCircuit = new Circuit(now);
+            if (circuits.size() >= config.getMaxCircuits() && !evictIdleCircuits(now)) {
+                return newCircuit;
+            }
+            circuit = circuits.putIfAbsent(key, newCircuit);
+            if (circuit == null) {
+                circuit = newCircuit;
+            }
+        }
+        return circuit;
+    }
+
+    /**
+     * Evicts the closed circuits that saw no attempt for a window, at most
+     * once per window so that the endpoints and operations beyond the maximum
+     * number of circuits don't scan them all on every attempt.
+     *
+     * @return true if there is room for another circuit afterwards.
+     */
+    private boolean evictIdleCircuits(long now) {
+        long last = lastEvictionNanos.get();
+        if (now - last < windowNanos || !lastEvictionNanos.compareAndSet(last, now)) {
+            return false;
+        }
+        for (Iterator<Circuit> it = circuits.values().iterator(); it.hasNext();) {
+            Circuit circuit = it.next();
+            if (circuit.isClosed() && now - circuit.lastAttemptNanos >= windowNanos) {
+                it.remove();
+            }
+        }
+        return circuits.size() < config.getMaxCircuits();
+    }
+
+    /**
+     * Returns the authority of the endpoint of the request, followed by the
+     * name of its operation.
+     */
+    private static String keyOf(Request<?> request) {
+        URI endpoint = request.getEndpoint();
+        AmazonWebServiceRequest originalRequest = request.getOriginalRequest();
+        String operation = originalRequest == null ? "" : originalRequest.getClass().getSimpleName();
+        if (operation.endsWith("Request")) {
+            operation = operation.substring(0, operation.length() - "Request".length());
+        }
+        return (endpoint == null ? "" : endpoint.getAuthority()) + "/" + operation;
+    }
+
+    private static boolean isThrottling(AmazonClientException exception) {
+        return exception instanceof AmazonServiceException
+                && RetryUtils.isThrottlingException((AmazonServiceException) exception);
+    }
+
+    /**
+     * Returns true if the exception shows the service is failing: a server
+     * error or throttling. Client errors and I/O failures don't count.
+     */
+    private static boolean isServiceFailure(AmazonClientException exception) {
+        return exception instanceof AmazonServiceException
+                && (((AmazonServiceException) exception).getStatusCode() >= 500 || isThrottling(exception));
+    }
+
+    private static final class CircuitState {
+        private final CircuitMode mode;
+        /** When the circuit opened, or when the last probe was let through while half open. */
+        private final long sinceNanos;
+
+        CircuitState(CircuitMode mode, long sinceNanos) {
+            this.mode = mode;
+            this.sinceNanos = sinceNanos;
+        }
+    }
+
+    private static final CircuitState CLOSED = new CircuitState(CircuitMode.CLOSED, 0);
+
+    /**
+     * Circuit breaker of one endpoint and operation. The attempts are counted
+     * over fixed windows, which are reset without synchronization with the
+     * concurrent attempts: the failure rate is approximate.
+     */
+    private final class Circuit {
+        private final AtomicReference<CircuitState> state = new AtomicReference<CircuitState>(CLOSED);
+        private final AtomicLong windowStartNanos;
+        private final AtomicInteger attempts = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+        /** When an attempt was last allowed or reported, for evicting the idle circuits. */
+        private volatile long lastAttemptNanos;
+
+        Circuit(long now) {
+            this.windowStartNanos = new AtomicLong(now);
+            this.lastAttemptNanos = now;
+        }
+
+        boolean isClosed() {
+            return state.get().mode == CircuitMode.CLOSED;
+        }
+
+        boolean allowAttempt(Request<?> request, long now) {
+            lastAttemptNanos = now;
+            CircuitState current = state.get();
+            if (current.mode == CircuitMode.CLOSED) {
+                return true;
+            }
+            // Once open long enough, let a single probe through. Another one is let through if the
+            // outcome of the probe is never reported.
+            if (now - current.sinceNanos < openCircuitNanos) {
+                return false;
+            }
+            CircuitState halfOpen = new CircuitState(CircuitMode.HALF_OPEN, now);
+            if (!state.compareAndSet(current, halfOpen)) {
+                return false;
+            }
+            request.addHandlerContext(PROBE, halfOpen);
+            return true;
+        }
+
+        /**
+         * Records the outcome of an attempt. A half open circuit is decided by
+         * the outcome of its current probe alone: it closes if the probe
+         * succeeded and opens again otherwise, while the outcomes of the other
+         * attempts, let through before the circuit opened, are ignored. Only
+         * service failures count towards opening a closed circuit.
+         */
+        void onAttempt(Request<?> request, long now, boolean succeeded, boolean serviceFailure) {
+            lastAttemptNanos = now;
+            CircuitState probe = request.getHandlerContext(PROBE);
+            if (probe != null) {
+                request.addHandlerContext(PROBE, null);
+            }
+            CircuitState current = state.get();
+            if (current.mode == CircuitMode.HALF_OPEN) {
+                if (probe != current) {
+                    return;
+                }
+                if (succeeded) {
+                    if (state.compareAndSet(current, CLOSED)) {
+                        resetWindow(now);
+                    }
+                } else if (state.compareAndSet(current, new CircuitState(CircuitMode.OPEN, now))) {
+                    circuitsOpened.incrementAndGet();
+                }
+                return;
+            }
+
+            long windowStart = windowStartNanos.get();
+            if (now - windowStart >= windowNanos && windowStartNanos.compareAndSet(windowStart, now)) {
+                attempts.set(0);
+                failures.set(0);
+            }
+            int attemptCount = attempts.incrementAndGet();
+            if (!serviceFailure) {
+                return;
+            }
+            int failureCount = failures.incrementAndGet();
+            if (current.mode == CircuitMode.CLOSED
+                    && attemptCount >= config.getMinimumAttemptsInWindow()
+                    && failureCount >= config.getFailureRateThreshold() * attemptCount
+                    && state.compareAndSet(current, new CircuitState(CircuitMode.OPEN, now))) {
+                circuitsOpened.incrementAndGet();
+            }
+        }
+
+        private void resetWindow(long now) {
+            windowStartNanos.set(now);
+            attempts.set(0);
+            failures.set(0);
+        }
+
+        @Override
+        public String toString() {
+            int attemptCount = attempts.get();
+            return state.get().mode + " failures=" + failures.get() + "/" + attemptCount;
+        }
+    }
+}
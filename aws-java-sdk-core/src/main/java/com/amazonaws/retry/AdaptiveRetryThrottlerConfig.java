@@ -0,0 +1,289 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.retry;
+
+/**
+ * Settings of an {@link AdaptiveRetryThrottler}.
+ */
+public class AdaptiveRetryThrottlerConfig {
+
+    public static final int MAX_CAPACITY_DEFAULT = 500;
+    public static final double REFILL_RATE_PER_SECOND_DEFAULT = 10;
+    public static final int RETRY_COST_DEFAULT = 5;
+    public static final int THROTTLING_RETRY_COST_DEFAULT = 10;
+    public static final double FAILURE_RATE_THRESHOLD_DEFAULT = 0.5;
+    public static final int MINIMUM_ATTEMPTS_IN_WINDOW_DEFAULT = 20;
+    public static final long WINDOW_MILLIS_DEFAULT = 10000L;
+    public static final long OPEN_CIRCUIT_MILLIS_DEFAULT = 5000L;
+    public static final int MAX_CIRCUITS_DEFAULT = 1000;
+
+    private int maxCapacity = MAX_CAPACITY_DEFAULT;
+    private double refillRatePerSecond = REFILL_RATE_PER_SECOND_DEFAULT;
+    private int retryCost = RETRY_COST_DEFAULT;
+    private int throttlingRetryCost = THROTTLING_RETRY_COST_DEFAULT;
+    private double failureRateThreshold = FAILURE_RATE_THRESHOLD_DEFAULT;
+    private int minimumAttemptsInWindow = MINIMUM_ATTEMPTS_IN_WINDOW_DEFAULT;
+    private long windowMillis = WINDOW_MILLIS_DEFAULT;
+    private long openCircuitMillis = OPEN_CIRCUIT_MILLIS_DEFAULT;
+    private int maxCircuits = MAX_CIRCUITS_DEFAULT;
+
+    public AdaptiveRetryThrottlerConfig() {
+    }
+
+    /** Copy constructor. */
+    public AdaptiveRetryThrottlerConfig(AdaptiveRetryThrottlerConfig other) {
+        this.maxCapacity = other.maxCapacity;
+        this.refillRatePerSecond = other.refillRatePerSecond;
+        this.retryCost = other.retryCost;
+        this.throttlingRetryCost = other.throttlingRetryCost;
+        this.failureRateThreshold = other.failureRateThreshold;
+        this.minimumAttemptsInWindow = other.minimumAttemptsInWindow;
+        this.windowMillis = other.windowMillis;
+        this.openCircuitMillis = other.openCircuitMillis;
+        this.maxCircuits = other.maxCircuits;
+    }
+
+    /**
+     * The maximum retry capacity of the token bucket, which it starts with.
+     */
+    public int getMaxCapacity() {
+        return maxCapacity;
+    }
+
+    /**
+     * The maximum retry capacity of the token bucket, which it starts with.
+     */
+    public void setMaxCapacity(int maxCapacity) {
+        this.maxCapacity = maxCapacity;
+    }
+
+    /**
+     * The maximum retry capacity of the token bucket, which it starts with.
+     */
+    public AdaptiveRetryThrottlerConfig withMaxCapacity(int maxCapacity) {
+        setMaxCapacity(maxCapacity);
+        return this;
+    }
+
+    /**
+     * The retry capacity added back to the token bucket per second, up to the maximum capacity, so
+     * that retries are allowed again after a quiet period.
+     */
+    public double getRefillRatePerSecond() {
+        return refillRatePerSecond;
+    }
+
+    /**
+     * The retry capacity added back to the token bucket per second, up to the maximum capacity, so
+     * that retries are allowed again after a quiet period.
+     */
+    public void setRefillRatePerSecond(double refillRatePerSecond) {
+        this.refillRatePerSecond = refillRatePerSecond;
+    }
+
+    /**
+     * The retry capacity added back to the token bucket per second, up to the maximum capacity, so
+     * that retries are allowed again after a quiet period.
+     */
+    public AdaptiveRetryThrottlerConfig withRefillRatePerSecond(double refillRatePerSecond) {
+        setRefillRatePerSecond(refillRatePerSecond);
+        return this;
+    }
+
+    /**
+     * The retry capacity consumed by the retry of a failed attempt. A successful retry gives it back.
+     */
+    public int getRetryCost() {
+        return retryCost;
+    }
+
+    /**
+     * The retry capacity consumed by the retry of a failed attempt. A successful retry gives it back.
+     */
+    public void setRetryCost(int retryCost) {
+        this.retryCost = retryCost;
+    }
+
+    /**
+     * The retry capacity consumed by the retry of a failed attempt. A successful retry gives it back.
+     */
+    public AdaptiveRetryThrottlerConfig withRetryCost(int retryCost) {
+        setRetryCost(retryCost);
+        return this;
+    }
+
+    /**
+     * The retry capacity consumed by the retry of a throttled attempt.
+     */
+    public int getThrottlingRetryCost() {
+        return throttlingRetryCost;
+    }
+
+    /**
+     * The retry capacity consumed by the retry of a throttled attempt.
+     */
+    public void setThrottlingRetryCost(int throttlingRetryCost) {
+        this.throttlingRetryCost = throttlingRetryCost;
+    }
+
+    /**
+     * The retry capacity consumed by the retry of a throttled attempt.
+     */
+    public AdaptiveRetryThrottlerConfig withThrottlingRetryCost(int throttlingRetryCost) {
+        setThrottlingRetryCost(throttlingRetryCost);
+        return this;
+    }
+
+    /**
+     * The proportion of the attempts to an endpoint and operation that must fail with a server error
+     * (5xx) or be throttled, within a window, for the circuit breaker to open.
+     */
+    public double getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    /**
+     * The proportion of the attempts to an endpoint and operation that must fail with a server error
+     * (5xx) or be throttled, within a window, for the circuit breaker to open.
+     */
+    public void setFailureRateThreshold(double failureRateThreshold) {
+        this.failureRateThreshold = failureRateThreshold;
+    }
+
+    /**
+     * The proportion of the attempts to an endpoint and operation that must fail with a server error
+     * (5xx) or be throttled, within a window, for the circuit breaker to open.
+     */
+    public AdaptiveRetryThrottlerConfig withFailureRateThreshold(double failureRateThreshold) {
+        setFailureRateThreshold(failureRateThreshold);
+        return this;
+    }
+
+    /**
+     * The number of attempts to an endpoint and operation within a window below which the circuit
+     * breaker never opens, whatever their failure rate.
+     */
+    public int getMinimumAttemptsInWindow() {
+        return minimumAttemptsInWindow;
+    }
+
+    /**
+     * The number of attempts to an endpoint and operation within a window below which the circuit
+     * breaker never opens, whatever their failure rate.
+     */
+    public void setMinimumAttemptsInWindow(int minimumAttemptsInWindow) {
+        this.minimumAttemptsInWindow = minimumAttemptsInWindow;
+    }
+
+    /**
+     * The number of attempts to an endpoint and operation within a window below which the circuit
+     * breaker never opens, whatever their failure rate.
+     */
+    public AdaptiveRetryThrottlerConfig withMinimumAttemptsInWindow(int minimumAttemptsInWindow) {
+        setMinimumAttemptsInWindow(minimumAttemptsInWindow);
+        return this;
+    }
+
+    /**
+     * The duration (milliseconds) of the windows over which the failure rate of each endpoint and
+     * operation is measured.
+     */
+    public long getWindowMillis() {
+        return windowMillis;
+    }
+
+    /**
+     * The duration (milliseconds) of the windows over which the failure rate of each endpoint and
+     * operation is measured.
+     */
+    public void setWindowMillis(long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    /**
+     * The duration (milliseconds) of the windows over which the failure rate of each endpoint and
+     * operation is measured.
+     */
+    public AdaptiveRetryThrottlerConfig withWindowMillis(long windowMillis) {
+        setWindowMillis(windowMillis);
+        return this;
+    }
+
+    /**
+     * How long (milliseconds) an open circuit breaker fails the requests fast, before it lets a single
+     * probe attempt through. The circuit closes if the probe succeeds, and opens again otherwise.
+     */
+    public long getOpenCircuitMillis() {
+        return openCircuitMillis;
+    }
+
+    /**
+     * How long (milliseconds) an open circuit breaker fails the requests fast, before it lets a single
+     * probe attempt through. The circuit closes if the probe succeeds, and opens again otherwise.
+     */
+    public void setOpenCircuitMillis(long openCircuitMillis) {
+        this.openCircuitMillis = openCircuitMillis;
+    }
+
+    /**
+     * How long (milliseconds) an open circuit breaker fails the requests fast, before it lets a single
+     * probe attempt through. The circuit closes if the probe succeeds, and opens again otherwise.
+     */
+    public AdaptiveRetryThrottlerConfig withOpenCircuitMillis(long openCircuitMillis) {
+        setOpenCircuitMillis(openCircuitMillis);
+        return this;
+    }
+
+    /**
+     * The maximum number of endpoints and operations that have a circuit breaker at once, such as
+     * the buckets of a client addressing them as virtual hosts. Beyond it, the closed circuit
+     * breakers idle for a window are evicted, and the other endpoints and operations are not broken.
+     */
+    public int getMaxCircuits() {
+        return maxCircuits;
+    }
+
+    /**
+     * The maximum number of endpoints and operations that have a circuit breaker at once, such as
+     * the buckets of a client addressing them as virtual hosts. Beyond it, the closed circuit
+     * breakers idle for a window are evicted, and the other endpoints and operations are not broken.
+     */
+    public void setMaxCircuits(int maxCircuits) {
+        this.maxCircuits = maxCircuits;
+    }
+
+    /**
+     * The maximum number of endpoints and operations that have a circuit breaker at once, such as
+     * the buckets of a client addressing them as virtual hosts. Beyond it, the closed circuit
+     * breakers idle for a window are evicted, and the other endpoints and operations are not broken.
+     */
+    public AdaptiveRetryThrottlerConfig withMaxCircuits(int maxCircuits) {
+        setMaxCircuits(maxCircuits);
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveRetryThrottlerConfig [maxCapacity=" + maxCapacity
+                + ", refillRatePerSecond=" + refillRatePerSecond
+                + ", retryCost=" + retryCost
+                + ", throttlingRetryCost=" + throttlingRetryCost
+                + ", failureRateThreshold=" + failureRateThreshold
+                + ", minimumAttemptsInWindow=" + minimumAttemptsInWindow
+                + ", windowMillis=" + windowMillis
+                + ", openCircuitMillis=" + openCircuitMillis
+                + ", maxCircuits=" + maxCircuits + "]";
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.retry;
+
+/**
+ * MBean interface of the {@link AdaptiveRetryThrottler}.
+ */
+public interface AdaptiveRetryThrottlerMBean {
+
+    /**
+     * Returns the retry capacity currently available in the token bucket.
+     */
+    public int getAvailableCapacity();
+
+    /**
+     * Returns the maximum retry capacity of the token bucket.
+     */
+    public int getMaxCapacity();
+
+    /**
+     * Returns the number of retries allowed so far.
+     */
+    public long getRetriesAllowed();
+
+    /**
+     * Returns the number of retries denied so far, for lack of retry capacity
+     * or because the circuit breaker of the endpoint and operation was not
+     * closed.
+     */
+    public long getRetriesDenied();
+
+    /**
+     * Returns the number of requests failed fast so far by an open circuit
+     * breaker.
+     */
+    public long getAttemptsFailedFast();
+
+    /**
+     * Returns the number of times a circuit breaker opened so far.
+     */
+    public long getCircuitsOpened();
+
+    /**
+     * Returns the number of circuit breakers currently open or half open.
+     */
+    public int getOpenCircuitCount();
+
+    /**
+     * Returns the state and failure rate of the circuit breaker of each
+     * endpoint and operation seen so far.
+     */
+    public String[] getCircuitStates();
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.retry;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.Request;
+import com.amazonaws.annotation.ThreadSafe;
+
+/**
+ * Decides, on behalf of a client, whether a request may be attempted and
+ * whether a failed attempt may be retried, from the outcome of the previous
+ * attempts. It keeps retries from amplifying the load on a service that is
+ * already failing, on top of the {@link RetryPolicy} of the client.
+ * <p>
+ * A retry throttler can be shared by several clients, so implementations must
+ * be thread safe.
+ *
+ * @see com.amazonaws.ClientConfiguration#setRetryThrottler(RetryThrottler)
+ * @see AdaptiveRetryThrottler
+ */
+@ThreadSafe
+public interface RetryThrottler {
+
+    /**
+     * Returns true if the given request may be sent; false to fail it fast
+     * with a {@link RetryThrottlingException} instead. Called before every
+     * attempt, including the first one.
+     */
+    boolean allowAttempt(Request<?> request);
+
+    /**
+     * Called when the {@link RetryPolicy} decided to retry a failed attempt.
+     *
+     * @param request
+     *            The request that failed.
+     * @param exception
+     *            The failure of the last attempt.
+     * @return the retry capacity consumed by the retry, 0 if it is free; or a
+     *         negative value if the request must not be retried.
+     */
+    int acquireRetry(Request<?> request, AmazonClientException exception);
+
+    /**
+     * Called when an attempt of the given request succeeded.
+     *
+     * @param retryCapacityConsumed
+     *            true if a retry of this request consumed retry capacity.
+     */
+    void onAttemptSucceeded(Request<?> request, boolean retryCapacityConsumed);
+
+    /**
+     * Called when an attempt of the given request failed, whether it is
+     * retried or not.
+     */
+    void onAttemptFailed(Request<?> request, AmazonClientException exception);
+
+    /**
+     * Returns the retry capacity currently available; or a negative value if
+     * the capacity is unbounded.
+     */
+    int getAvailableCapacity();
+
+    /**
+     * Returns the retry capacity currently consumed.
+     */
+    int getConsumedCapacity();
+}
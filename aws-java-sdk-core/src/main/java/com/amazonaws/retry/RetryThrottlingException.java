@@ -0,0 +1,40 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.retry;
+
+import com.amazonaws.AmazonClientException;
+
+/**
+ * Thrown when a {@link RetryThrottler} fails a request fast rather than
+ * sending it, because the service it is sent to has been failing; for instance
+ * while the circuit breaker of an {@link AdaptiveRetryThrottler} is open.
+ */
+public class RetryThrottlingException extends AmazonClientException {
+
+    private static final long serialVersionUID = 1L;
+
+    public RetryThrottlingException(String message) {
+        super(message);
+    }
+
+    /**
+     * Returns false: the request was failed on purpose to give the service
+     * time to recover.
+     */
+    @Override
+    public boolean isRetryable() {
+        return false;
+    }
+}
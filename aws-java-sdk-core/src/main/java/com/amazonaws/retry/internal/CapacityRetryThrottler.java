@@ -0,0 +1,105 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.retry.internal;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.Request;
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.annotation.ThreadSafe;
+import com.amazonaws.retry.RetryThrottler;
+import com.amazonaws.retry.RetryUtils;
+import com.amazonaws.util.CapacityManager;
+
+/**
+ * The retry throttler of the clients that don't configure one: a fixed pool
+ * of retry capacity, only enabled with
+ * {@link com.amazonaws.ClientConfiguration#useThrottledRetries()}.
+ */
+@SdkInternalApi
+@ThreadSafe
+public class CapacityRetryThrottler implements RetryThrottler {
+
+    /**
+     * When throttled retries are enabled, each retry attempt will consume this much capacity.
+     * Successful retry attempts will release this capacity back to the pool while failed retries
+     * will not.  Successful initial (non-retry) requests will always release 1 capacity unit to the pool.
+     */
+    private static final int THROTTLED_RETRY_COST = 5;
+
+    /**
+     * When throttled retries are enabled, this is the total number of subsequent failed retries
+     * that may be attempted before retry capacity is fully drained.
+     */
+    private static final int THROTTLED_RETRIES = 100;
+
+    private final CapacityManager retryCapacity;
+
+    /**
+     * @param throttleRetries
+     *            true to limit the retries; false to never throttle them.
+     */
+    public CapacityRetryThrottler(boolean throttleRetries) {
+        // When enabled, total retry capacity is computed based on retry cost
+        // and desired number of retries.
+        this.retryCapacity = new CapacityManager(throttleRetries
+                ? THROTTLED_RETRY_COST * THROTTLED_RETRIES : -1);
+    }
+
+    @Override
+    public boolean allowAttempt(Request<?> request) {
+        return true;
+    }
+
+    @Override
+    public int acquireRetry(Request<?> request, AmazonClientException exception) {
+        // Do not use retry capacity for throttling exceptions
+        if (exception instanceof AmazonServiceException &&
+                RetryUtils.isThrottlingException((AmazonServiceException) exception)) {
+            return 0;
+        }
+        // See if we have enough available retry capacity to be able to execute
+        // this retry attempt.
+        return retryCapacity.acquire(THROTTLED_RETRY_COST) ? THROTTLED_RETRY_COST : -1;
+    }
+
+    @Override
+    public void onAttemptSucceeded(Request<?> request, boolean retryCapacityConsumed) {
+        /*
+         * If this was a successful retry attempt we'll release the full retry capacity that
+         * the attempt originally consumed.  If this was a successful initial request
+         * we return a lesser amount.
+         */
+        if (retryCapacityConsumed) {
+            retryCapacity.release(THROTTLED_RETRY_COST);
+        } else {
+            retryCapacity.release();
+        }
+    }
+
+    @Override
+    public void onAttemptFailed(Request<?> request, AmazonClientException exception) {
+    }
+
+    @Override
+    public int getAvailableCapacity() {
+        return retryCapacity.availableCapacity();
+    }
+
+    @Override
+    public int getConsumedCapacity() {
+        return retryCapacity.consumedCapacity();
+    }
+}
@@ -125,6 +125,22 @@ public abstract class JsonUnmarshallerContext {
         return false;
     }
 
+    /**
+     * Returns the name of the JSON field at the current position in the JSON
+     * document being parsed, provided the current position is at the specified
+     * stack depth. Generated unmarshallers use it to dispatch on the field
+     * name once, rather than testing it against every member of the shape.
+     *
+     * @param stackDepth
+     *            The depth in the stack at which the field must be.
+     *
+     * @return The name of the current field, or null if the current position
+     *         is not at the specified depth. Returns null by default.
+     */
+    public String getCurrentField(int stackDepth) {
+        return null;
+    }
+
     /**
      * Returns the next JsonToken from the JsonParser. Returns null by default.
      */
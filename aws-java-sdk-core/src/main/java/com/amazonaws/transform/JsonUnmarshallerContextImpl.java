@@ -21,9 +21,10 @@ import static com.fasterxml.jackson.core.JsonToken.START_ARRAY;
 import static com.fasterxml.jackson.core.JsonToken.START_OBJECT;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Stack;
 
 import com.amazonaws.http.HttpResponse;
 import com.fasterxml.jackson.core.JsonParser;
@@ -58,8 +59,10 @@ public class JsonUnmarshallerContextImpl extends JsonUnmarshallerContext {
      * }
      * When the parser points to "D", the state of this stack should be (from top to bottom):
      *  [ (C, START_OBJECT), (B, START_ARRAY), (A, START_OBJECT) ]
+     * The top of the stack is the last element of the list; a list is used
+     * rather than a java.util.Stack, which synchronizes every operation.
      */
-    private final Stack<JsonFieldTokenPair> stack = new Stack<JsonFieldTokenPair>();
+    private final List<JsonFieldTokenPair> stack = new ArrayList<JsonFieldTokenPair>();
 
     /**
      * The name of the field that is currently being parsed. This value is
@@ -159,7 +162,7 @@ public class JsonUnmarshallerContextImpl extends JsonUnmarshallerContext {
                 return currentField.equals(expression);
             } else {
                 return (!stack.isEmpty())
-                        && stack.peek().getField().equals(expression);
+                        && peekStack().getField().equals(expression);
             }
         }
     }
@@ -170,7 +173,7 @@ public class JsonUnmarshallerContextImpl extends JsonUnmarshallerContext {
         if (currentField != null) {
             parentElement = currentField;
         } else if ( !stack.isEmpty() ) {
-            parentElement = stack.peek().getField();
+            parentElement = peekStack().getField();
         } else {
             parentElement = "";
         }
@@ -187,6 +190,14 @@ public class JsonUnmarshallerContextImpl extends JsonUnmarshallerContext {
         }
     }
 
+    @Override
+    public String getCurrentField(int stackDepth) {
+        if (currentField != null) {
+            return stack.size() + 1 == stackDepth ? currentField : null;
+        }
+        return !stack.isEmpty() && stack.size() == stackDepth ? peekStack().getField() : null;
+    }
+
     @Override
     public JsonToken nextToken() throws IOException {
         // Use the value from the nextToken field if
@@ -242,15 +253,15 @@ public class JsonUnmarshallerContextImpl extends JsonUnmarshallerContext {
 
         if (currentToken == START_OBJECT || currentToken == START_ARRAY) {
             if (currentField != null) {
-                stack.push(new JsonFieldTokenPair(currentField, currentToken));
+                stack.add(new JsonFieldTokenPair(currentField, currentToken));
                 currentField = null;
             }
         } else if (currentToken == END_OBJECT || currentToken == END_ARRAY) {
             if (!stack.isEmpty()) {
-                boolean squareBracketsMatch = currentToken == END_ARRAY && stack.peek().getToken() == START_ARRAY;
-                boolean curlyBracketsMatch = currentToken == END_OBJECT && stack.peek().getToken() == START_OBJECT;
+                boolean squareBracketsMatch = currentToken == END_ARRAY && peekStack().getToken() == START_ARRAY;
+                boolean curlyBracketsMatch = currentToken == END_OBJECT && peekStack().getToken() == START_OBJECT;
                 if (squareBracketsMatch || curlyBracketsMatch) {
-                    lastParsedParentElement = stack.pop().getField();
+                    lastParsedParentElement = stack.remove(stack.size() - 1).getField();
                 }
             }
             currentField = null;
@@ -260,6 +271,10 @@ public class JsonUnmarshallerContextImpl extends JsonUnmarshallerContext {
         }
     }
 
+    private JsonFieldTokenPair peekStack() {
+        return stack.get(stack.size() - 1);
+    }
+
     @Override
     public String toString() {
         StringBuilder stackString = new StringBuilder();
@@ -21,7 +21,14 @@ import java.util.Date;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.util.Base64;
 import com.amazonaws.util.DateUtils;
+import com.fasterxml.jackson.core.JsonToken;
 
+/**
+ * Unmarshallers for simple types. The numeric and boolean unmarshallers read
+ * values of the matching JSON token type straight from the parser, and fall
+ * back to parsing the text of the value otherwise, as for values held in
+ * response headers.
+ */
 public class SimpleTypeJsonUnmarshallers {
     /**
      * Unmarshaller for String values.
@@ -43,6 +50,10 @@ public class SimpleTypeJsonUnmarshallers {
      */
     public static class DoubleJsonUnmarshaller implements Unmarshaller<Double, JsonUnmarshallerContext> {
         public Double unmarshall(JsonUnmarshallerContext unmarshallerContext) throws Exception {
+            JsonToken token = unmarshallerContext.getCurrentToken();
+            if (token == JsonToken.VALUE_NUMBER_FLOAT || token == JsonToken.VALUE_NUMBER_INT) {
+                return unmarshallerContext.getJsonParser().getDoubleValue();
+            }
             String doubleString = unmarshallerContext.readText();
             return (doubleString == null) ? null : Double.parseDouble(doubleString);
         }
@@ -59,6 +70,9 @@ public class SimpleTypeJsonUnmarshallers {
      */
     public static class IntegerJsonUnmarshaller implements Unmarshaller<Integer, JsonUnmarshallerContext> {
         public Integer unmarshall(JsonUnmarshallerContext unmarshallerContext) throws Exception {
+            if (unmarshallerContext.getCurrentToken() == JsonToken.VALUE_NUMBER_INT) {
+                return unmarshallerContext.getJsonParser().getIntValue();
+            }
             String intString = unmarshallerContext.readText();
             return (intString == null) ? null : Integer.parseInt(intString);
         }
@@ -101,6 +115,10 @@ public class SimpleTypeJsonUnmarshallers {
      */
     public static class BooleanJsonUnmarshaller implements Unmarshaller<Boolean, JsonUnmarshallerContext> {
         public Boolean unmarshall(JsonUnmarshallerContext unmarshallerContext) throws Exception {
+            JsonToken token = unmarshallerContext.getCurrentToken();
+            if (token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE) {
+                return token == JsonToken.VALUE_TRUE;
+            }
             String booleanString = unmarshallerContext.readText();
             return (booleanString == null) ? null : Boolean.parseBoolean(booleanString);
         }
@@ -133,6 +151,9 @@ public class SimpleTypeJsonUnmarshallers {
      */
     public static class LongJsonUnmarshaller implements Unmarshaller<Long, JsonUnmarshallerContext> {
         public Long unmarshall(JsonUnmarshallerContext unmarshallerContext) throws Exception {
+            if (unmarshallerContext.getCurrentToken() == JsonToken.VALUE_NUMBER_INT) {
+                return unmarshallerContext.getJsonParser().getLongValue();
+            }
             String longString = unmarshallerContext.readText();
             return (longString == null) ? null : Long.parseLong(longString);
         }
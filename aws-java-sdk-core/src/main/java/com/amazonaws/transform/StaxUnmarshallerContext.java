@@ -21,9 +21,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Stack;
 
+import javax.xml.stream.XMLEventFactory;
 import javax.xml.stream.XMLEventReader;
 import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.stream.events.Attribute;
 import javax.xml.stream.events.XMLEvent;
 
@@ -34,14 +36,51 @@ import javax.xml.stream.events.XMLEvent;
  * response. It also tracks the current position and element depth of the
  * document being parsed and provides utilties for accessing the next XML event
  * from the parser, reading element text, handling attribute XML events, etc.
+ * <p>
+ * The document is read either from an {@link XMLEventReader}, or from the
+ * cursor of an {@link XMLStreamReader}, which doesn't allocate an event object
+ * per element or chunk of text. Unmarshallers that step through the document
+ * with {@link #nextEventType()} work with both; {@link #nextEvent()} creates
+ * the event objects on demand when reading from a cursor.
  */
 public class StaxUnmarshallerContext {
 
+    /** Factory for the events returned by {@link #nextEvent()} in cursor mode. */
+    private static final XMLEventFactory EVENT_FACTORY = XMLEventFactory.newInstance();
+
     private XMLEvent currentEvent;
     private final XMLEventReader eventReader;
 
+    private final XMLStreamReader streamReader;
+
+    /** Type of the current event; zero before the first event is read. */
+    private int currentEventType;
+
+    /**
+     * Whether the event the cursor is at has yet to be returned, either
+     * because no event was read yet or because reading the text of an element
+     * moved the cursor to its end.
+     */
+    private boolean cursorAhead;
+
+    /** Text of the current element, already read to collect metadata. */
+    private String currentElementText;
+
+    /** Attributes of the last start element, copied off the cursor. */
+    private String[] attributeNames = new String[0];
+    private String[] attributeValues = new String[0];
+    private int attributeCount;
+    private int attributeIndex;
+
     public final Stack<String> stack = new Stack<String>();
-    private String stackString = "";
+
+    /**
+     * The path of the current position, as "/" followed by the names of the
+     * enclosing elements joined by "/", and by "/@" and the name of the current
+     * attribute, if any; elementPathLength excludes the attribute.
+     */
+    private final StringBuilder path = new StringBuilder();
+    private int elementPathLength;
 
     private Map<String, String> metadata = new HashMap<String, String>();
     private List<MetadataExpression> metadataExpressions = new ArrayList<MetadataExpression>();
@@ -56,7 +95,7 @@ public class StaxUnmarshallerContext {
     }
 
     public boolean isInsideResponseHeader() {
-        return currentEvent == null;
+        return currentEventType == 0;
     }
 
     /**
@@ -81,9 +120,40 @@ public class StaxUnmarshallerContext {
      */
     public StaxUnmarshallerContext(XMLEventReader eventReader, Map<String, String> headers) {
         this.eventReader = eventReader;
+        this.streamReader = null;
         this.headers = headers;
     }
 
+    /**
+     * Constructs a new unmarshaller context reading the XML document from the
+     * cursor of the specified stream reader, which must be at the start of the
+     * document.
+     *
+     * @param streamReader
+     *            The XML stream reader for this unmarshalling context.
+     */
+    public StaxUnmarshallerContext(XMLStreamReader streamReader) {
+        this(streamReader, null);
+    }
+
+    /**
+     * Constructs a new unmarshaller context reading the XML document from the
+     * cursor of the specified stream reader, which must be at the start of the
+     * document, and using a set of response headers.
+     *
+     * @param streamReader
+     *            The XML stream reader for this unmarshalling context.
+     * @param headers
+     *            The set of response headers associated with this unmarshaller
+     *            context.
+     */
+    public StaxUnmarshallerContext(XMLStreamReader streamReader, Map<String, String> headers) {
+        this.eventReader = null;
+        this.streamReader = streamReader;
+        this.headers = headers;
+        this.cursorAhead = true;
+    }
+
     /**
      * Returns the value of the header with the specified name from the
      * response, or null if not present.
@@ -110,6 +180,9 @@ public class StaxUnmarshallerContext {
         if (isInsideResponseHeader()) {
             return getHeader(currentHeader);
         }
+        if (streamReader != null) {
+            return readCursorText();
+        }
         if (currentEvent.isAttribute()) {
             Attribute attribute = (Attribute)currentEvent;
             return attribute.getValue();
@@ -129,6 +202,18 @@ public class StaxUnmarshallerContext {
         }
     }
 
+    private String readCursorText() throws XMLStreamException {
+        if (currentEventType == XMLStreamConstants.ATTRIBUTE) {
+            return attributeValues[attributeIndex - 1];
+        }
+        if (currentElementText == null) {
+            // Leaves the cursor at the end element, to be returned next
+            currentElementText = streamReader.getElementText();
+            cursorAhead = true;
+        }
+        return currentElementText;
+    }
+
     /**
      * Returns the element depth of the parser's current position in the XML
      * document being parsed.
@@ -151,7 +236,7 @@ public class StaxUnmarshallerContext {
      */
     public boolean testExpression(String expression) {
         if (expression.equals(".")) return true;
-        return stackString.endsWith(expression);
+        return pathEndsWith(expression, false);
     }
 
     /**
@@ -181,7 +266,24 @@ public class StaxUnmarshallerContext {
 
 
         return (startingStackDepth == getCurrentDepth()
-                && stackString.endsWith("/" + expression));
+                && pathEndsWith(expression, true));
+    }
+
+    /**
+     * Returns whether the current path ends with the given suffix, preceded by
+     * a "/" if required, without building any intermediate string.
+     */
+    private boolean pathEndsWith(String suffix, boolean afterSlash) {
+        int offset = path.length() - suffix.length();
+        if (offset < 0 || (afterSlash && (offset == 0 || path.charAt(offset - 1) != '/'))) {
+            return false;
+        }
+        for (int i = suffix.length() - 1; i >= 0; i--) {
+            if (path.charAt(offset + i) != suffix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -193,17 +295,30 @@ public class StaxUnmarshallerContext {
      *         yet).
      */
     public boolean isStartOfDocument() throws XMLStreamException {
+        if (streamReader != null) {
+            return cursorAhead && streamReader.getEventType() == XMLStreamConstants.START_DOCUMENT;
+        }
         return eventReader.peek().isStartDocument();
     }
 
     /**
      * Returns the next XML event for the document being parsed.
+     * <p>
+     * When reading from a stream reader, the event is created from the state
+     * of the cursor, and text, comments and other events that don't affect the
+     * position in the document are skipped as by {@link #nextEventType()};
+     * prefer {@link #nextEventType()}, which creates no event object.
      *
      * @return The next XML event for the document being parsed.
      *
      * @throws XMLStreamException
      */
     public XMLEvent nextEvent() throws XMLStreamException {
+        if (streamReader != null) {
+            currentEvent = createCursorEvent(nextEventType());
+            return currentEvent;
+        }
+
         if (attributeIterator != null && attributeIterator.hasNext()) {
             currentEvent = (XMLEvent)attributeIterator.next();
         } else {
@@ -214,7 +329,16 @@ public class StaxUnmarshallerContext {
             attributeIterator = currentEvent.asStartElement().getAttributes();
         }
 
-        updateContext(currentEvent);
+        currentEventType = currentEvent.getEventType();
+        if (currentEvent.isStartElement()) {
+            pushElement(currentEvent.asStartElement().getName().getLocalPart());
+        } else if (currentEvent.isEndElement()) {
+            popElement();
+        } else if (currentEvent.isAttribute()) {
+            setAttribute(((Attribute)currentEvent).getName().getLocalPart());
+        } else {
+            clearAttribute();
+        }
 
         if (eventReader.hasNext()) {
             XMLEvent nextEvent = eventReader.peek();
@@ -230,6 +354,87 @@ public class StaxUnmarshallerContext {
         return currentEvent;
     }
 
+    /**
+     * Moves to the next XML event of the document being parsed, and returns
+     * its type, as one of the {@link XMLStreamConstants}. Unlike
+     * {@link #nextEvent()}, this creates no event object when reading from a
+     * stream reader, in which case only the start and end of the document,
+     * the start and end of elements and attributes are returned.
+     *
+     * @return The type of the next XML event for the document being parsed.
+     *
+     * @throws XMLStreamException
+     */
+    public int nextEventType() throws XMLStreamException {
+        if (streamReader == null) {
+            return nextEvent().getEventType();
+        }
+
+        if (attributeIndex < attributeCount) {
+            currentEventType = XMLStreamConstants.ATTRIBUTE;
+            setAttribute(attributeNames[attributeIndex++]);
+            return currentEventType;
+        }
+        attributeCount = 0;
+        attributeIndex = 0;
+        currentElementText = null;
+
+        int eventType = cursorAhead ? streamReader.getEventType() : streamReader.next();
+        cursorAhead = false;
+        while (!isStructural(eventType)) {
+            eventType = streamReader.next();
+        }
+        currentEventType = eventType;
+
+        if (eventType == XMLStreamConstants.START_ELEMENT) {
+            pushElement(streamReader.getLocalName());
+            copyAttributes();
+            for (MetadataExpression metadataExpression : metadataExpressions) {
+                if (testExpression(metadataExpression.expression, metadataExpression.targetDepth)) {
+                    metadata.put(metadataExpression.key, readCursorText());
+                }
+            }
+        } else if (eventType == XMLStreamConstants.END_ELEMENT) {
+            popElement();
+        }
+        return eventType;
+    }
+
+    private static boolean isStructural(int eventType) {
+        return eventType == XMLStreamConstants.START_ELEMENT
+                || eventType == XMLStreamConstants.END_ELEMENT
+                || eventType == XMLStreamConstants.START_DOCUMENT
+                || eventType == XMLStreamConstants.END_DOCUMENT;
+    }
+
+    private void copyAttributes() {
+        attributeCount = streamReader.getAttributeCount();
+        if (attributeCount > attributeNames.length) {
+            attributeNames = new String[attributeCount];
+            attributeValues = new String[attributeCount];
+        }
+        for (int i = 0; i < attributeCount; i++) {
+            attributeNames[i] = streamReader.getAttributeLocalName(i);
+            attributeValues[i] = streamReader.getAttributeValue(i);
+        }
+    }
+
+    private XMLEvent createCursorEvent(int eventType) {
+        switch (eventType) {
+        case XMLStreamConstants.START_DOCUMENT:
+            return EVENT_FACTORY.createStartDocument();
+        case XMLStreamConstants.END_DOCUMENT:
+            return EVENT_FACTORY.createEndDocument();
+        case XMLStreamConstants.START_ELEMENT:
+            return EVENT_FACTORY.createStartElement("", "", stack.peek());
+        case XMLStreamConstants.END_ELEMENT:
+            return EVENT_FACTORY.createEndElement("", "", streamReader.getLocalName());
+        default:
+            return EVENT_FACTORY.createAttribute(attributeNames[attributeIndex - 1],
+                    attributeValues[attributeIndex - 1]);
+        }
+    }
+
     /**
      * Returns any metadata collected through metadata expressions while this
      * context was reading the XML events from the XML document.
@@ -280,26 +485,27 @@ public class StaxUnmarshallerContext {
         }
     }
 
-    private void updateContext(XMLEvent event) {
-        if (event == null) return;
+    private void pushElement(String name) {
+        clearAttribute();
+        stack.push(name);
+        path.append('/').append(name);
+        elementPathLength = path.length();
+    }
 
-        if (event.isEndElement()) {
-            stack.pop();
-            stackString = "";
-            for (String s : stack) {
-                stackString += "/" + s;
-            }
-        } else if (event.isStartElement()) {
-            stack.push(event.asStartElement().getName().getLocalPart());
-            stackString += "/" + event.asStartElement().getName().getLocalPart();
-        } else if (event.isAttribute()) {
-            Attribute attribute = (Attribute)event;
-            stackString = "";
-            for (String s : stack) {
-                stackString += "/" + s;
-            }
-            stackString += "/@" + attribute.getName().getLocalPart();
-        }
+    private void popElement() {
+        clearAttribute();
+        String name = stack.pop();
+        elementPathLength -= name.length() + 1;
+        path.setLength(elementPathLength);
+    }
+
+    private void setAttribute(String name) {
+        clearAttribute();
+        path.append("/@").append(name);
+    }
+
+    private void clearAttribute() {
+        path.setLength(elementPathLength);
     }
 
 }
@@ -138,7 +138,42 @@ public class AWSRequestMetrics {
          * /apidocs/org/apache/http/pool/PoolStats.html
          */
         HttpClientPoolPendingCount,
+        /**
+         * The number of idle persistent connections to the host of the
+         * request.
+         */
+        HttpClientPoolRouteAvailableCount,
+        /**
+         * The number of connections to the host of the request currently
+         * being used to execute requests.
+         */
+        HttpClientPoolRouteLeasedCount,
+        /**
+         * The number of connection requests to the host of the request being
+         * blocked awaiting a free connection.
+         */
+        HttpClientPoolRoutePendingCount,
+        /**
+         * The maximum number of connections to the host of the request, which
+         * varies over time when the connection pool is adaptive.
+         */
+        HttpClientPoolRouteMaxCount,
+        /**
+         * The average time, in milliseconds, the requests to the host of the
+         * request waited so far to lease a connection.
+         */
+        HttpClientPoolRouteAverageLeaseWaitMillis,
+        /**
+         * The percentage of the connections leased so far to the host of the
+         * request that reused a connection already open.
+         */
+        HttpClientPoolRouteReusePercent,
         RetryPauseTime,
+        /**
+         * The time spent waiting for the adaptive rate limit of the client
+         * before sending a request.
+         */
+        RateLimitPauseTime,
 //      S3DownloadThroughput, // migrated to S3RequestMetric in the S3 client library
 //      S3UploadThroughput,   // migrated to S3RequestMetric in the S3 client library
         ServiceEndpoint,
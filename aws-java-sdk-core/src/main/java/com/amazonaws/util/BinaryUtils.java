@@ -18,9 +18,12 @@
 package com.amazonaws.util;
 
 import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
 
+import com.amazonaws.internal.ByteBufferInputStream;
+
 /**
  * Utilities for encoding and decoding binary data to and from different forms.
  */
@@ -86,6 +89,25 @@ public class BinaryUtils {
         return new ByteArrayInputStream(copyBytesFrom(byteBuffer));
     }
 
+    /**
+     * Returns a mark-and-resettable InputStream reading the remaining content
+     * of the given ByteBuffer in place, rather than a copy of it; or an empty
+     * stream if the input {@code byteBuffer} is null.
+     * <p>
+     * The state of the given byte buffer is left untouched, but its content
+     * must not be modified until the stream is no longer in use.
+     *
+     * @param byteBuffer The ByteBuffer to read.
+     *
+     * @return An InputStream reading the ByteBuffer content.
+     */
+    public static InputStream toReplayableStream(ByteBuffer byteBuffer) {
+        if (byteBuffer == null) {
+            return new ByteArrayInputStream(new byte[0]);
+        }
+        return new ByteBufferInputStream(byteBuffer);
+    }
+
     /**
      * Returns a copy of all the bytes from the given <code>ByteBuffer</code>,
      * from the beginning to the buffer's limit; or null if the input is null.
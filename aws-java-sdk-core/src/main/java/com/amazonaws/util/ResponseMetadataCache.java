@@ -14,29 +14,50 @@
  */
 package com.amazonaws.util;
 
-import java.util.LinkedHashMap;
-import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import com.amazonaws.ResponseMetadata;
+import com.amazonaws.annotation.ThreadSafe;
 
 /**
  * Cache of response metadata for recently executed requests for diagnostic
  * purposes. This cache has a max size and as entries are added, the oldest
- * entry is aged out once the max size has been reached.
+ * entry is aged out once the max size has been reached. A cache with a max
+ * size of 0 is disabled: adding to it does nothing.
+ * <p>
+ * The entries are kept in a ring buffer that is written without locking, so
+ * that concurrent requests don't contend on the cache; looking up an entry
+ * scans the whole buffer.
  */
+@ThreadSafe
 public class ResponseMetadataCache {
-    private final InternalCache internalCache;
 
+    /** Null when the cache is disabled. */
+    private final AtomicReferenceArray<Entry> entries;
+
+    /** Sequence number of the next entry, which determines its slot. */
+    private final AtomicLong nextSequence = new AtomicLong();
 
     /**
      * Creates a new cache that will contain, at most the specified number of
      * entries.
      *
      * @param maxEntries
-     *            The maximum size of this cache.
+     *            The maximum size of this cache; 0 disables the cache.
      */
     public ResponseMetadataCache(int maxEntries) {
-        internalCache = new InternalCache(maxEntries);
+        if (maxEntries < 0) {
+            throw new IllegalArgumentException("maxEntries must not be negative: " + maxEntries);
+        }
+        entries = maxEntries == 0 ? null : new AtomicReferenceArray<Entry>(maxEntries);
+    }
+
+    /**
+     * @return true unless the cache was created with a max size of 0.
+     */
+    public boolean isEnabled() {
+        return entries != null;
     }
 
     /**
@@ -48,9 +69,20 @@ public class ResponseMetadataCache {
      * @param metadata
      *            The metadata for this entry.
      */
-    public synchronized void add(Object obj, ResponseMetadata metadata) {
-        if (obj == null) return;
-        internalCache.put(System.identityHashCode(obj), metadata);
+    public void add(Object obj, ResponseMetadata metadata) {
+        if (obj == null || entries == null) return;
+        long sequence = nextSequence.getAndIncrement();
+        Entry entry = new Entry(System.identityHashCode(obj), metadata, sequence);
+        int slot = (int) (sequence % entries.length());
+        // A slower writer that wrapped around the buffer must not overwrite
+        // a more recent entry.
+        Entry current = entries.get(slot);
+        while (current == null || current.sequence < sequence) {
+            if (entries.compareAndSet(slot, current, entry)) {
+                return;
+            }
+            current = entries.get(slot);
+        }
     }
 
     /**
@@ -63,32 +95,33 @@ public class ResponseMetadataCache {
      * @return The response metadata associated with the given object key,
      *         otherwise null if no metadata is associated with that object.
      */
-    public synchronized ResponseMetadata get(Object obj) {
+    public ResponseMetadata get(Object obj) {
+        if (entries == null) return null;
         // System.identityHashCode isn't guaranteed to be unique
         // on all platforms, but should be reasonable enough to use
         // for a few requests at a time.  We can always easily move
         // to our own unique IDs if needed.
-        return internalCache.get(System.identityHashCode(obj));
+        int key = System.identityHashCode(obj);
+        Entry latest = null;
+        for (int i = 0; i < entries.length(); i++) {
+            Entry entry = entries.get(i);
+            if (entry != null && entry.key == key
+                    && (latest == null || entry.sequence > latest.sequence)) {
+                latest = entry;
+            }
+        }
+        return latest == null ? null : latest.metadata;
     }
 
+    private static final class Entry {
+        private final int key;
+        private final ResponseMetadata metadata;
+        private final long sequence;
 
-    /**
-     * Simple implementation of LinkedHashMap that overrides the
-     * <code>removeEldestEntry</code> method to turn LinkedHashMap into a
-     * LRU(ish) cache that automatically evicts old entries.
-     */
-    private static final class InternalCache extends LinkedHashMap<Integer, ResponseMetadata> {
-        private static final long serialVersionUID = 1L;
-        private int maxSize;
-
-        public InternalCache(int maxSize) {
-            super(maxSize);
-            this.maxSize = maxSize;
-        }
-
-        @Override
-        protected boolean removeEldestEntry(Entry<Integer,ResponseMetadata> eldest) {
-            return size() > maxSize;
+        Entry(int key, ResponseMetadata metadata, long sequence) {
+            this.key = key;
+            this.metadata = metadata;
+            this.sequence = sequence;
         }
     }
 }
@@ -20,13 +20,16 @@ package com.amazonaws.auth;
 
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.Request;
+import com.amazonaws.SignableRequest;
 import com.amazonaws.auth.internal.AWS4SignerUtils;
+import com.amazonaws.internal.ByteBufferInputStream;
 
 import org.junit.Assert;
 import org.junit.Test;
 
 import java.io.ByteArrayInputStream;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
@@ -35,6 +38,7 @@ import java.util.SimpleTimeZone;
 import java.util.TimeZone;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 
 /**
@@ -119,6 +123,41 @@ public class AWS4SignerTest {
                 request.getHeaders().get("Authorization"));
     }
 
+    /**
+     * Signers overriding the canonicalization steps go through the string
+     * based path, which must produce the same signature as the default one.
+     */
+    @Test
+    public void testSigningWithCustomizedCanonicalRequest() throws Exception {
+        AWSCredentials credentials = new BasicAWSCredentials("access", "secret");
+        Calendar c = new GregorianCalendar();
+        c.set(1981, 1, 16, 6, 30, 0);
+        c.setTimeZone(TimeZone.getTimeZone("UTC"));
+
+        AWS4Signer customized = new AWS4Signer() {
+            @Override
+            protected String createCanonicalRequest(SignableRequest<?> request,
+                    String contentSha256) {
+                return super.createCanonicalRequest(request, contentSha256);
+            }
+        };
+        assertFalse(customized.usesDefaultCanonicalization());
+        for (AWS4Signer s : new AWS4Signer[] { signer, customized }) {
+            s.setOverrideDate(c.getTime());
+            s.setServiceName("demo");
+        }
+
+        Request<?> request = generateBasicRequest();
+        request.addHeader("X-Amz-Meta-Name", "caf\u00e9 \ud83d\ude00");
+        signer.sign(request, credentials);
+        String expected = request.getHeaders().get("Authorization");
+
+        request = generateBasicRequest();
+        request.addHeader("X-Amz-Meta-Name", "caf\u00e9 \ud83d\ude00");
+        customized.sign(request, credentials);
+        assertEquals(expected, request.getHeaders().get("Authorization"));
+    }
+
     @Test
     public void testPresigning() throws Exception {
         final String EXPECTED_AMZ_SIGNATURE = "bf7ae1c2f266d347e290a2aee7b126d38b8a695149d003b9fab2ed1eb6d6ebda";
@@ -145,6 +184,33 @@ public class AWS4SignerTest {
         assertEquals(EXPECTED_AMZ_EXPIRES, request.getParameters().get("X-Amz-Expires").get(0));
     }
 
+    /**
+     * Content hashed in place must be signed the same as a stream, and must be
+     * left at the same position.
+     */
+    @Test
+    public void testSigningReplayableContent() throws Exception {
+        AWSCredentials credentials = new BasicAWSCredentials("access", "secret");
+        Calendar c = new GregorianCalendar();
+        c.set(1981, 1, 16, 6, 30, 0);
+        c.setTimeZone(TimeZone.getTimeZone("UTC"));
+        signer.setOverrideDate(c.getTime());
+        signer.setServiceName("demo");
+
+        Request<?> expected = generateBasicRequest();
+        signer.sign(expected, credentials);
+
+        Request<?> request = generateBasicRequest();
+        ByteBuffer direct = ByteBuffer.allocateDirect(64);
+        direct.put("{\"TableName\": \"foo\"}".getBytes()).flip();
+        request.setContent(new ByteBufferInputStream(direct));
+        signer.sign(request, credentials);
+
+        assertEquals(expected.getHeaders().get("Authorization"),
+                request.getHeaders().get("Authorization"));
+        assertEquals(direct.remaining(), request.getContent().available());
+    }
+
     /**
      * Tests that if passed anonymous credentials, signer will not generate a signature
      */
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.auth.internal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.amazonaws.SDKGlobalConfiguration;
+
+public class SignerKeyCacheTest {
+
+    private static final long TODAY = 17000;
+
+    private static SignerKey key(long day) {
+        return new SignerKey(day, new byte[] { (byte) day });
+    }
+
+    @Test
+    public void hitAndMissAreCounted() {
+        SignerKeyCache cache = new SignerKeyCache(10);
+        assertNull(cache.get("k", TODAY));
+        cache.add("k", key(TODAY));
+        assertArrayEquals(key(TODAY).getSigningKey(), cache.get("k", TODAY).getSigningKey());
+        assertNull(cache.get("k", TODAY + 2));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void keepsTwoDaysPerEntry() {
+        SignerKeyCache cache = new SignerKeyCache(10);
+        cache.add("k", key(TODAY));
+        cache.add("k", key(TODAY + 1));
+        assertNotNull(cache.get("k", TODAY));
+        assertNotNull(cache.get("k", TODAY + 1));
+        assertEquals(1, cache.size());
+
+        // A key for an earlier day than both is not kept
+        cache.add("k", key(TODAY - 1));
+        assertNotNull(cache.get("k", TODAY));
+        assertNotNull(cache.get("k", TODAY + 1));
+        assertFalse(cache.contains("k", TODAY - 1));
+
+        // A key for a later day replaces the older of the two
+        cache.add("k", key(TODAY + 2));
+        assertTrue(cache.contains("k", TODAY + 2));
+        assertTrue(cache.contains("k", TODAY + 1));
+        assertFalse(cache.contains("k", TODAY));
+
+        // A key for the previous day is kept next to the only key
+        cache.add("other", key(TODAY));
+        cache.add("other", key(TODAY - 1));
+        assertTrue(cache.contains("other", TODAY));
+        assertTrue(cache.contains("other", TODAY - 1));
+    }
+
+    @Test
+    public void sharedInstanceSizeIsReadFromSystemProperty() {
+        String property = SDKGlobalConfiguration.SIGNER_KEY_CACHE_SIZE_SYSTEM_PROPERTY;
+        try {
+            System.setProperty(property, "1000");
+            assertEquals(1000, SignerKeyCache.sharedInstanceMaxSize());
+            System.setProperty(property, "0");
+            assertEquals(SignerKeyCache.DEFAULT_MAX_SIZE, SignerKeyCache.sharedInstanceMaxSize());
+            System.setProperty(property, "many");
+            assertEquals(SignerKeyCache.DEFAULT_MAX_SIZE, SignerKeyCache.sharedInstanceMaxSize());
+        } finally {
+            System.clearProperty(property);
+        }
+        assertEquals(SignerKeyCache.DEFAULT_MAX_SIZE, SignerKeyCache.sharedInstanceMaxSize());
+    }
+
+    @Test
+    public void evictsStaleEntriesFirst() {
+        SignerKeyCache cache = new SignerKeyCache(3);
+        cache.add("stale", key(TODAY - 5));
+        cache.add("a", key(TODAY));
+        cache.add("b", key(TODAY));
+        cache.add("c", key(TODAY));
+        assertEquals(3, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertFalse(cache.contains("stale", TODAY - 5));
+        assertTrue(cache.contains("a", TODAY));
+        assertTrue(cache.contains("b", TODAY));
+        assertTrue(cache.contains("c", TODAY));
+    }
+
+    @Test
+    public void neverGrowsBeyondMaxSize() throws InterruptedException {
+        final SignerKeyCache cache = new SignerKeyCache(50);
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            final int offset = t * 1000;
+            threads[t] = new Thread() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < 1000; i++) {
+                        String cacheKey = "key-" + (offset + i);
+                        if (cache.get(cacheKey, TODAY) == null) {
+                            cache.add(cacheKey, key(TODAY));
+                        }
+                    }
+                }
+            };
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(cache.size() <= 50);
+        assertEquals(8000, cache.getMissCount());
+    }
+
+    @Test
+    public void clearResetsEntriesAndStatistics() {
+        SignerKeyCache cache = new SignerKeyCache(10);
+        cache.add("k", key(TODAY));
+        cache.get("k", TODAY);
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getHitCount());
+        assertFalse(cache.contains("k", TODAY));
+    }
+}
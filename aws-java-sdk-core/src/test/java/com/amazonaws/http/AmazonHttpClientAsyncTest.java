@@ -0,0 +1,170 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http;
+
+import static com.amazonaws.http.AmazonHttpClient.HEADER_SDK_RETRY_INFO;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Collections;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonWebServiceResponse;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.Request;
+import com.amazonaws.Response;
+import com.amazonaws.handlers.RequestHandler2;
+import com.amazonaws.http.exception.HttpRequestTimeoutException;
+import com.amazonaws.retry.RetryPolicy;
+import com.amazonaws.util.IOUtils;
+
+import utils.http.WireMockTestBase;
+import utils.retry.AlwaysRetryCondition;
+import utils.retry.SimpleArrayBackoffStrategy;
+
+public class AmazonHttpClientAsyncTest extends WireMockTestBase {
+
+    private static final String RESOURCE_PATH = "/async/";
+
+    private AmazonHttpClient httpClient;
+
+    @After
+    public void tearDown() {
+        if (httpClient != null) {
+            httpClient.shutdown();
+        }
+    }
+
+    @Test
+    public void successfulResponse_IsUnmarshalledFromBufferedContent() throws Exception {
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(200).withBody("hello")));
+        httpClient = new AmazonHttpClient(new ClientConfiguration());
+
+        Future<Response<String>> future = httpClient.executeAsync(newGetRequest(RESOURCE_PATH),
+                new ContentResponseHandler(), stubErrorHandler(), new ExecutionContext(), null);
+
+        assertEquals("hello", future.get(10, TimeUnit.SECONDS).getAwsResponse());
+    }
+
+    @Test
+    public void errorResponse_IsRetriedAndThenFailsTheFuture() throws Exception {
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(500)));
+        httpClient = new AmazonHttpClient(new ClientConfiguration().withRetryPolicy(
+                new RetryPolicy(new AlwaysRetryCondition(), new SimpleArrayBackoffStrategy(new int[] { 0, 10, 20 }),
+                        3, false)));
+
+        Future<Response<String>> future = httpClient.executeAsync(newGetRequest(RESOURCE_PATH),
+                new ContentResponseHandler(), stubErrorHandler(), new ExecutionContext(), null);
+
+        try {
+            future.get(10, TimeUnit.SECONDS);
+            fail("Expected exception");
+        } catch (ExecutionException expected) {
+            assertTrue(expected.getCause() instanceof AmazonServiceException);
+        }
+        verify(1, getRequestedFor(urlEqualTo(RESOURCE_PATH)).withHeader(HEADER_SDK_RETRY_INFO, containing("0/0/")));
+        verify(1, getRequestedFor(urlEqualTo(RESOURCE_PATH)).withHeader(HEADER_SDK_RETRY_INFO, containing("1/0/")));
+        verify(1, getRequestedFor(urlEqualTo(RESOURCE_PATH)).withHeader(HEADER_SDK_RETRY_INFO, containing("2/10/")));
+        verify(1, getRequestedFor(urlEqualTo(RESOURCE_PATH)).withHeader(HEADER_SDK_RETRY_INFO, containing("3/20/")));
+    }
+
+    @Test
+    public void slowResponse_FailsWithRequestTimeout() throws Exception {
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(200).withFixedDelay(2000)));
+        httpClient = new AmazonHttpClient(new ClientConfiguration().withRequestTimeout(100).withMaxErrorRetry(0));
+
+        Future<Response<String>> future = httpClient.executeAsync(newGetRequest(RESOURCE_PATH),
+                new ContentResponseHandler(), stubErrorHandler(), new ExecutionContext(), null);
+
+        try {
+            future.get(10, TimeUnit.SECONDS);
+            fail("Expected exception");
+        } catch (ExecutionException expected) {
+            assertTrue(expected.getCause() instanceof AmazonClientException);
+            assertTrue(expected.getCause().getCause() instanceof HttpRequestTimeoutException);
+        }
+    }
+
+    @Test
+    public void clientExecutionTimeout_WhileResponseIsHandled_DoesNotPreemptHandler() throws Exception {
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(200).withBody("hello")));
+        httpClient = new AmazonHttpClient(new ClientConfiguration().withClientExecutionTimeout(200));
+
+        Future<Response<String>> future = httpClient.executeAsync(newGetRequest(RESOURCE_PATH),
+                new ContentResponseHandler() {
+                    @Override
+                    public AmazonWebServiceResponse<String> handle(HttpResponse response) throws Exception {
+                        Thread.sleep(1000);
+                        return super.handle(response);
+                    }
+                }, stubErrorHandler(), new ExecutionContext(), null);
+
+        assertEquals("hello", future.get(10, TimeUnit.SECONDS).getAwsResponse());
+    }
+
+    @Test
+    public void requestHandlerFailure_FailsTheFutureRatherThanThrowing() throws Exception {
+        final RuntimeException failure = new RuntimeException("beforeRequest");
+        httpClient = new AmazonHttpClient(new ClientConfiguration());
+        ExecutionContext executionContext = new ExecutionContext(
+                Collections.<RequestHandler2> singletonList(new RequestHandler2() {
+                    @Override
+                    public void beforeRequest(Request<?> request) {
+                        throw failure;
+                    }
+                }), false, null);
+
+        Future<Response<String>> future = httpClient.executeAsync(newGetRequest(RESOURCE_PATH),
+                new ContentResponseHandler(), stubErrorHandler(), executionContext, null);
+
+        try {
+            future.get(10, TimeUnit.SECONDS);
+            fail("Expected exception");
+        } catch (ExecutionException expected) {
+            assertEquals(failure, expected.getCause());
+        }
+        verify(0, getRequestedFor(urlEqualTo(RESOURCE_PATH)));
+    }
+
+    private static class ContentResponseHandler implements HttpResponseHandler<AmazonWebServiceResponse<String>> {
+
+        @Override
+        public AmazonWebServiceResponse<String> handle(HttpResponse response) throws Exception {
+            AmazonWebServiceResponse<String> awsResponse = new AmazonWebServiceResponse<String>();
+            awsResponse.setResult(IOUtils.toString(response.getContent()));
+            return awsResponse;
+        }
+
+        @Override
+        public boolean needsConnectionLeftOpen() {
+            return false;
+        }
+    }
+}
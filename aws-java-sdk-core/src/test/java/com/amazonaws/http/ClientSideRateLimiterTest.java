@@ -0,0 +1,105 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class ClientSideRateLimiterTest {
+
+    /** Requests are sent every 1/8th of a second, which is exact in binary. */
+    private static final double TICK = 0.125;
+
+    private final FakeClockRateLimiter limiter = new FakeClockRateLimiter();
+
+    @Test
+    public void doesNotLimitBeforeFirstThrottle() {
+        sendSuccesses(5);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(0, limiter.acquire());
+        }
+        assertTrue(limiter.getSendRate() < 0);
+    }
+
+    @Test
+    public void throttleCutsRateFromMeasuredRate() {
+        sendSuccesses(10);
+        limiter.onResponse(true);
+        assertEquals(8 * 0.7, limiter.getSendRate(), 0.01);
+    }
+
+    @Test
+    public void pacesRequestsOnceThrottled() {
+        sendSuccesses(10);
+        limiter.onResponse(true);
+
+        long first = limiter.acquire();
+        long second = limiter.acquire();
+        assertEquals(179, first);
+        assertEquals(358, second);
+
+        limiter.advance(1);
+        assertEquals(0, limiter.acquire());
+    }
+
+    @Test
+    public void rampsBackUpOnSuccess() {
+        sendSuccesses(10);
+        limiter.onResponse(true);
+        double cut = limiter.getSendRate();
+
+        sendSuccesses(1);
+        double recovering = limiter.getSendRate();
+        assertTrue(recovering > cut);
+        assertTrue(recovering < 8);
+
+        sendSuccesses(3);
+        assertTrue(limiter.getSendRate() > 8);
+    }
+
+    @Test
+    public void repeatedThrottlesKeepCuttingRate() {
+        sendSuccesses(10);
+        limiter.onResponse(true);
+        double first = limiter.getSendRate();
+        limiter.onResponse(true);
+        assertEquals(first * 0.7, limiter.getSendRate(), 0.01);
+    }
+
+    /**
+     * Sends successful requests at 8 requests per second for the given number of seconds.
+     */
+    private void sendSuccesses(int seconds) {
+        for (int i = 0; i < seconds / TICK; i++) {
+            limiter.advance(TICK);
+            limiter.onResponse(false);
+        }
+    }
+
+    private static class FakeClockRateLimiter extends ClientSideRateLimiter {
+        private double now;
+
+        void advance(double seconds) {
+            now += seconds;
+        }
+
+        @Override
+        double nowSeconds() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.conn;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.amazonaws.jmx.MBeans;
+
+public class ConnectionPoolMonitorTest {
+
+    private static final HttpRoute HOT = new HttpRoute(new HttpHost("hot.example.com", 443, "https"));
+    private static final HttpRoute IDLE = new HttpRoute(new HttpHost("idle.example.com", 443, "https"));
+
+    private PoolingHttpClientConnectionManager pool;
+
+    @Before
+    public void setup() {
+        pool = new PoolingHttpClientConnectionManager();
+        pool.setMaxTotal(10);
+        pool.setDefaultMaxPerRoute(4);
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void recordsLeasesPerRoute() throws Exception {
+        ConnectionPoolMonitor monitor = new ConnectionPoolMonitor(pool, false);
+        HttpClientConnectionManager cm = ClientConnectionManagerFactory.wrap(pool, monitor);
+        assertNull(monitor.getStats("hot.example.com"));
+
+        lease(cm, HOT);
+        lease(cm, HOT);
+        release(cm, lease(cm, IDLE));
+
+        assertEquals(2, monitor.getRouteCount());
+        assertEquals(2, monitor.getStats("hot.example.com").getLeased());
+        assertEquals(4, monitor.getStats("HOT.example.com").getMax());
+        assertEquals(0, monitor.getStats("idle.example.com").getLeased());
+        assertEquals(2, monitor.getLeasedCount());
+        for (String stats : monitor.getRouteStats()) {
+            assertTrue(stats, stats.contains(stats.contains("hot") ? "leases=2 reused=0%" : "leases=1 reused=0%"));
+        }
+    }
+
+    @Test
+    public void registersMXBeanPerRoute() throws Exception {
+        ConnectionPoolMonitor monitor = new ConnectionPoolMonitor(pool, false);
+        HttpClientConnectionManager cm = ClientConnectionManagerFactory.wrap(pool, monitor);
+        release(cm, lease(cm, HOT));
+        assertTrue(monitor.registerMBean("ConnectionPoolMonitorTest"));
+        try {
+            release(cm, lease(cm, HOT));
+            lease(cm, IDLE);
+
+            MBeanServer server = MBeans.getMBeanServer();
+            ObjectName hot = new ObjectName("com.amazonaws.management:type=ConnectionPoolMonitor,"
+                    + "name=ConnectionPoolMonitorTest,route=\"hot.example.com:443\"");
+            assertEquals(2L, server.getAttribute(hot, "LeaseCount"));
+            // The connections were never opened, so none could be reused
+            assertEquals(0.0, (Double) server.getAttribute(hot, "ReuseRatio"), 0);
+            assertEquals(4, server.getAttribute(hot, "MaxCount"));
+            ObjectName idle = new ObjectName("com.amazonaws.management:type=ConnectionPoolMonitor,"
+                    + "name=ConnectionPoolMonitorTest,route=\"idle.example.com:443\"");
+            assertEquals(1, server.getAttribute(idle, "LeasedCount"));
+        } finally {
+            assertTrue(monitor.unregisterMBean());
+        }
+        assertTrue(MBeans.getMBeanServer().queryNames(
+                new ObjectName("com.amazonaws.management:type=ConnectionPoolMonitor,*"), null).isEmpty());
+    }
+
+    @Test
+    public void adaptivePoolGrowsHotRoutesAndShrinksIdleOnes() throws Exception {
+        ConnectionPoolMonitor monitor = new ConnectionPoolMonitor(pool, true);
+        HttpClientConnectionManager cm = ClientConnectionManagerFactory.wrap(pool, monitor);
+        release(cm, lease(cm, IDLE));
+        for (int i = 0; i < 4; i++) {
+            lease(cm, HOT);
+        }
+
+        // All the connections of the hot route are leased; the idle route was used since the
+        // previous rebalancing, so it keeps its connections.
+        monitor.rebalance();
+        assertEquals(8, pool.getMaxPerRoute(HOT));
+        assertEquals(4, pool.getMaxPerRoute(IDLE));
+
+        monitor.rebalance();
+        assertEquals(8, pool.getMaxPerRoute(HOT));
+        assertEquals(2, pool.getMaxPerRoute(IDLE));
+
+        for (int i = 0; i < 4; i++) {
+            lease(cm, HOT);
+        }
+        // Only 2 connections of the pool are not leased
+        monitor.rebalance();
+        assertEquals(10, pool.getMaxPerRoute(HOT));
+        assertEquals(ConnectionPoolMonitor.MIN_MAX_PER_ROUTE, pool.getMaxPerRoute(IDLE));
+        assertEquals(2, monitor.getRoutesGrown());
+        assertEquals(1, monitor.getRoutesShrunk());
+    }
+
+    /**
+     * The maximum per route defaults to the maximum of the pool, so the maxima of the routes add
+     * up to more than the pool; a route shrunk while idle must still be able to grow back.
+     */
+    @Test
+    public void adaptivePoolGrowsShrunkRouteBackWhilePoolIsNotFullyLeased() throws Exception {
+        pool.setDefaultMaxPerRoute(10);
+        ConnectionPoolMonitor monitor = new ConnectionPoolMonitor(pool, true);
+        HttpClientConnectionManager cm = ClientConnectionManagerFactory.wrap(pool, monitor);
+        release(cm, lease(cm, IDLE));
+        lease(cm, HOT);
+        monitor.rebalance();
+        monitor.rebalance();
+        assertEquals(5, pool.getMaxPerRoute(IDLE));
+        monitor.rebalance();
+        monitor.rebalance();
+        assertEquals(ConnectionPoolMonitor.MIN_MAX_PER_ROUTE, pool.getMaxPerRoute(IDLE));
+        assertEquals(10, pool.getMaxPerRoute(HOT));
+
+        lease(cm, IDLE);
+        lease(cm, IDLE);
+        monitor.rebalance();
+        assertEquals(4, pool.getMaxPerRoute(IDLE));
+    }
+
+    @Test
+    public void routeWithoutConnectionsIsDroppedOnceExpired() throws Exception {
+        final long[] now = new long[1];
+        ConnectionPoolMonitor monitor = new ConnectionPoolMonitor(pool, false) {
+            @Override
+            long nanoTime() {
+                return now[0];
+            }
+        };
+        HttpClientConnectionManager cm = ClientConnectionManagerFactory.wrap(pool, monitor);
+        release(cm, lease(cm, IDLE));
+        // The connection was never opened, so it is not kept in the pool
+        assertEquals(0, pool.getStats(IDLE).getAvailable());
+        lease(cm, HOT);
+        assertTrue(monitor.registerMBean("ConnectionPoolMonitorTest"));
+        try {
+            monitor.rebalance();
+            monitor.rebalance();
+            assertEquals(2, monitor.getRouteCount());
+
+            now[0] += ConnectionPoolMonitor.ROUTE_EXPIRY_NANOS;
+            monitor.rebalance();
+            assertEquals(1, monitor.getRouteCount());
+            assertNull(monitor.getRoute("idle.example.com"));
+            assertEquals(1, MBeans.getMBeanServer().queryNames(new ObjectName(
+                    "com.amazonaws.management:type=ConnectionPoolMonitor,name=ConnectionPoolMonitorTest,route=*"),
+                    null).size());
+        } finally {
+            assertTrue(monitor.unregisterMBean());
+        }
+    }
+
+    @Test
+    public void adaptivePoolRebalancesAsConnectionsAreRequested() throws Exception {
+        final long[] now = new long[1];
+        ConnectionPoolMonitor monitor = new ConnectionPoolMonitor(pool, true) {
+            @Override
+            long nanoTime() {
+                return now[0];
+            }
+        };
+        HttpClientConnectionManager cm = ClientConnectionManagerFactory.wrap(pool, monitor);
+        for (int i = 0; i < 4; i++) {
+            lease(cm, HOT);
+        }
+        assertEquals(4, pool.getMaxPerRoute(HOT));
+
+        now[0] += TimeUnit.SECONDS.toNanos(1);
+        lease(cm, IDLE);
+        assertEquals(8, pool.getMaxPerRoute(HOT));
+        assertEquals(4, pool.getMaxPerRoute(IDLE));
+    }
+
+    @Test
+    public void staticPoolIsNotResized() throws Exception {
+        final long[] now = new long[1];
+        ConnectionPoolMonitor monitor = new ConnectionPoolMonitor(pool, false) {
+            @Override
+            long nanoTime() {
+                return now[0];
+            }
+        };
+        HttpClientConnectionManager cm = ClientConnectionManagerFactory.wrap(pool, monitor);
+        for (int i = 0; i < 4; i++) {
+            lease(cm, HOT);
+        }
+        now[0] += TimeUnit.SECONDS.toNanos(1);
+        lease(cm, IDLE);
+        assertEquals(4, pool.getMaxPerRoute(HOT));
+        assertEquals(0, monitor.getRoutesGrown());
+    }
+
+    private static HttpClientConnection lease(HttpClientConnectionManager cm, HttpRoute route)
+            throws Exception {
+        return cm.requestConnection(route, null).get(1, TimeUnit.SECONDS);
+    }
+
+    private static void release(HttpClientConnectionManager cm, HttpClientConnection conn) {
+        cm.releaseConnection(conn, null, 0, TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.timers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class HashedWheelTimerTest {
+
+    private final HashedWheelTimer timer = new HashedWheelTimer(10, 8, 200, TimeUnit.MILLISECONDS);
+
+    @Test
+    public void scheduledTask_RunsAfterDelay() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+        ScheduledFuture<Void> future = timer.schedule(countDown(latch), 50, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+        future.get(1, TimeUnit.SECONDS);
+        assertTrue(future.isDone());
+        assertFalse(future.isCancelled());
+        assertEquals(0, timer.getPendingTimeouts());
+        assertEquals(1, timer.getExpiredTimeouts());
+    }
+
+    /**
+     * The wheel only has 8 buckets of 10 ms, so the timeout has to go around it several times.
+     */
+    @Test
+    public void delayLongerThanWheel_RunsAfterDelay() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+        timer.schedule(countDown(latch), 250, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(250));
+    }
+
+    @Test
+    public void canceledTask_NeverRuns() throws Exception {
+        final AtomicInteger runs = new AtomicInteger();
+        ScheduledFuture<Void> future = timer.schedule(new Runnable() {
+            @Override
+            public void run() {
+                runs.incrementAndGet();
+            }
+        }, 50, TimeUnit.MILLISECONDS);
+        assertEquals(1, timer.getPendingTimeouts());
+
+        assertTrue(future.cancel(false));
+        assertFalse(future.cancel(false));
+        assertTrue(future.isCancelled());
+        assertEquals(0, timer.getPendingTimeouts());
+
+        Thread.sleep(200);
+        assertEquals(0, runs.get());
+        assertEquals(0, timer.getExpiredTimeouts());
+        assertEquals(0, timer.getBucketedTimeouts());
+    }
+
+    /**
+     * A due timeout waiting for a busy task thread can still be canceled, and its task then never
+     * runs.
+     */
+    @Test
+    public void taskCanceledBeforeTaskThreadIsFree_NeverRuns() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch started = new CountDownLatch(4);
+        for (int i = 0; i < 4; i++) {
+            timer.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    started.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }, 10, TimeUnit.MILLISECONDS);
+        }
+        final AtomicInteger runs = new AtomicInteger();
+        ScheduledFuture<Void> future;
+        try {
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            future = timer.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    runs.incrementAndGet();
+                }
+            }, 10, TimeUnit.MILLISECONDS);
+            Thread.sleep(100);
+            assertFalse(future.isDone());
+
+            assertTrue(future.cancel(false));
+        } finally {
+            release.countDown();
+        }
+        Thread.sleep(100);
+        assertTrue(future.isCancelled());
+        assertEquals(0, runs.get());
+        assertEquals(4, timer.getExpiredTimeouts());
+        assertEquals(0, timer.getPendingTimeouts());
+    }
+
+    @Test
+    public void canceledTask_IsRemovedFromWheel() throws Exception {
+        ScheduledFuture<Void> future = timer.schedule(noop(), 5, TimeUnit.SECONDS);
+        Thread.sleep(50);
+        assertEquals(1, timer.getBucketedTimeouts());
+
+        future.cancel(false);
+        Thread.sleep(50);
+        assertEquals(0, timer.getBucketedTimeouts());
+    }
+
+    @Test
+    public void slowTask_DoesNotDelayOtherTasks() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        timer.schedule(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }, 10, TimeUnit.MILLISECONDS);
+        CountDownLatch latch = new CountDownLatch(1);
+        timer.schedule(countDown(latch), 30, TimeUnit.MILLISECONDS);
+
+        try {
+            assertTrue(latch.await(1, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void failingTask_DoesNotStopTimer() throws Exception {
+        timer.schedule(new Runnable() {
+            @Override
+            public void run() {
+                throw new RuntimeException("BOOM");
+            }
+        }, 10, TimeUnit.MILLISECONDS);
+        final CountDownLatch latch = new CountDownLatch(1);
+        timer.schedule(countDown(latch), 30, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void workerThread_StopsWhenIdleAndRestartsOnDemand() throws Exception {
+        CountDownLatch first = new CountDownLatch(1);
+        timer.schedule(countDown(first), 10, TimeUnit.MILLISECONDS);
+        assertTrue(timer.isWorkerRunning());
+        assertTrue(first.await(5, TimeUnit.SECONDS));
+
+        Thread.sleep(timer.getIdleTimeoutMillis() + 500);
+        assertFalse(timer.isWorkerRunning());
+
+        CountDownLatch second = new CountDownLatch(1);
+        timer.schedule(countDown(second), 10, TimeUnit.MILLISECONDS);
+        assertTrue(second.await(5, TimeUnit.SECONDS));
+    }
+
+    private static Runnable noop() {
+        return new Runnable() {
+            @Override
+            public void run() {
+            }
+        };
+    }
+
+    private static Runnable countDown(final CountDownLatch latch) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                latch.countDown();
+            }
+        };
+    }
+}
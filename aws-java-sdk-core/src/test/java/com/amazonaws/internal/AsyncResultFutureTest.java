@@ -0,0 +1,134 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.Response;
+import com.amazonaws.handlers.AsyncHandler;
+
+public class AsyncResultFutureTest {
+
+    private static final AmazonWebServiceRequest REQUEST = new AmazonWebServiceRequest() {
+    };
+
+    @Test
+    public void completed_NotifiesHandlerThenCompletesFuture() throws Exception {
+        RecordingHandler handler = new RecordingHandler();
+        AsyncResultFuture<AmazonWebServiceRequest, String> future =
+                new AsyncResultFuture<AmazonWebServiceRequest, String>(REQUEST, handler, null);
+
+        future.completed(new Response<String>("result", null));
+
+        assertEquals("result", future.get());
+        assertSame(REQUEST, handler.request);
+        assertEquals("result", handler.result);
+    }
+
+    @Test
+    public void failed_NotifiesHandlerThenFailsFuture() throws Exception {
+        RecordingHandler handler = new RecordingHandler();
+        AsyncResultFuture<AmazonWebServiceRequest, String> future =
+                new AsyncResultFuture<AmazonWebServiceRequest, String>(REQUEST, handler, null);
+        AmazonClientException failure = new AmazonClientException("failure");
+
+        future.failed(failure);
+
+        try {
+            future.get();
+            fail("Expected exception");
+        } catch (ExecutionException expected) {
+            assertSame(failure, expected.getCause());
+        }
+        assertSame(failure, handler.error);
+        assertNull(handler.result);
+    }
+
+    @Test
+    public void failingSuccessHandler_FailsFuture() throws Exception {
+        final RuntimeException handlerFailure = new RuntimeException();
+        AsyncResultFuture<AmazonWebServiceRequest, String> future =
+                new AsyncResultFuture<AmazonWebServiceRequest, String>(REQUEST, new RecordingHandler() {
+                    @Override
+                    public void onSuccess(AmazonWebServiceRequest request, String result) {
+                        throw handlerFailure;
+                    }
+                }, null);
+
+        future.completed(new Response<String>("result", null));
+
+        try {
+            future.get();
+            fail("Expected exception");
+        } catch (ExecutionException expected) {
+            assertSame(handlerFailure, expected.getCause());
+        }
+    }
+
+    @Test
+    public void cancel_CancelsDelegate() {
+        AsyncResultFuture<AmazonWebServiceRequest, String> future =
+                new AsyncResultFuture<AmazonWebServiceRequest, String>(REQUEST, null, null);
+        Future<?> delegate = mock(Future.class);
+        future.setDelegate(delegate);
+
+        assertTrue(future.cancel(true));
+
+        assertTrue(future.isCancelled());
+        verify(delegate).cancel(true);
+    }
+
+    @Test
+    public void cancelBeforeDelegateIsSet_CancelsDelegateWhenSet() {
+        AsyncResultFuture<AmazonWebServiceRequest, String> future =
+                new AsyncResultFuture<AmazonWebServiceRequest, String>(REQUEST, null, null);
+        assertTrue(future.cancel(true));
+
+        Future<?> delegate = mock(Future.class);
+        future.setDelegate(delegate);
+
+        verify(delegate).cancel(true);
+    }
+
+    private static class RecordingHandler implements AsyncHandler<AmazonWebServiceRequest, String> {
+        private AmazonWebServiceRequest request;
+        private String result;
+        private Exception error;
+
+        @Override
+        public void onError(Exception exception) {
+            this.error = exception;
+        }
+
+        @Override
+        public void onSuccess(AmazonWebServiceRequest request, String result) {
+            this.request = request;
+            this.result = result;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.internal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.security.MessageDigest;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+
+public class ByteBufferInputStreamTest {
+
+    private static final byte[] DATA = "0123456789".getBytes();
+
+    @Test
+    public void readsRemainingBytesWithoutTouchingBuffer() throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(DATA);
+        buffer.position(2);
+        ByteBufferInputStream is = new ByteBufferInputStream(buffer);
+
+        assertEquals(8, is.getRemainingLength());
+        assertEquals("23456789", IOUtils.toString(is));
+        assertEquals(2, buffer.position());
+        assertEquals(-1, is.read());
+    }
+
+    @Test
+    public void resetReplaysFromMark() throws IOException {
+        ByteBufferInputStream is = new ByteBufferInputStream(direct(DATA));
+        assertTrue(is.markSupported());
+        assertEquals("0123456789", IOUtils.toString(is));
+        is.reset();
+        assertEquals('0', is.read());
+        is.mark(0);
+        assertEquals("123456789", IOUtils.toString(is));
+        is.reset();
+        assertEquals("123456789", IOUtils.toString(is));
+    }
+
+    @Test
+    public void digestLeavesPositionAsIs() throws Exception {
+        ByteBufferInputStream is = new ByteBufferInputStream(direct(DATA));
+        is.skip(3);
+        MessageDigest md = MessageDigest.getInstance("SHA-256");
+        is.digest(md);
+
+        MessageDigest expected = MessageDigest.getInstance("SHA-256");
+        expected.update(DATA, 3, DATA.length - 3);
+        assertArrayEquals(expected.digest(), md.digest());
+        assertEquals(7, is.getRemainingLength());
+    }
+
+    @Test
+    public void writesHeapAndDirectBuffers() throws IOException {
+        for (ByteBuffer buffer : new ByteBuffer[] { ByteBuffer.wrap(DATA), direct(DATA) }) {
+            ByteBufferInputStream is = new ByteBufferInputStream(buffer);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            is.writeTo(out);
+            assertArrayEquals(DATA, out.toByteArray());
+            assertEquals(0, is.getRemainingLength());
+
+            is.reset();
+            out.reset();
+            is.transferTo(Channels.newChannel(out));
+            assertArrayEquals(DATA, out.toByteArray());
+        }
+    }
+
+    @Test
+    public void writesSlicedHeapBuffer() throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(DATA, 2, 5).slice();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new ByteBufferInputStream(buffer).writeTo(out);
+        assertEquals("23456", out.toString());
+    }
+
+    private static ByteBuffer direct(byte[] data) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(data.length);
+        buffer.put(data).flip();
+        return buffer;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.internal;
+
+import static com.amazonaws.util.FileUtils.generateRandomAsciiFile;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class FileChannelInputStreamTest {
+
+    private static File file;
+
+    private static String content;
+
+    @BeforeClass
+    public static void setup() throws IOException {
+        file = generateRandomAsciiFile(100 * 1024);
+        content = FileUtils.readFileToString(file);
+    }
+
+    @Test
+    public void readsWholeFileAndReplaysIt() throws IOException {
+        FileChannelInputStream is = new FileChannelInputStream(file);
+        assertTrue(is.markSupported());
+        assertEquals(file.length(), is.getRemainingLength());
+        assertEquals(content, IOUtils.toString(is));
+        is.reset();
+        assertEquals(content, IOUtils.toString(is));
+        is.close();
+    }
+
+    @Test
+    public void readsRegionWithoutMovingChannel() throws IOException {
+        FileInputStream fis = new FileInputStream(file);
+        FileChannel channel = fis.getChannel();
+        try {
+            channel.position(7);
+            FileChannelInputStream is = new FileChannelInputStream(channel, 10, 20);
+            assertEquals(content.substring(10, 30), IOUtils.toString(is));
+            assertEquals(7, channel.position());
+
+            is.close();
+            assertTrue(channel.isOpen());
+        } finally {
+            fis.close();
+        }
+    }
+
+    @Test
+    public void readsRegionOfFileAndReplaysIt() throws IOException {
+        FileChannelInputStream is = new FileChannelInputStream(file, 1000, 5000);
+        assertEquals(5000, is.getRemainingLength());
+        assertEquals(content.substring(1000, 6000), IOUtils.toString(is));
+        is.reset();
+        assertEquals(content.substring(1000, 6000), IOUtils.toString(is));
+        is.close();
+        try {
+            is.reset();
+            is.read();
+            fail("Channel should have been closed");
+        } catch (IOException expected) {
+        }
+    }
+
+    @Test
+    public void closesOwnChannel() throws IOException {
+        FileChannelInputStream is = new FileChannelInputStream(file);
+        is.close();
+        try {
+            is.read();
+            fail("Channel should have been closed");
+        } catch (IOException expected) {
+        }
+    }
+
+    @Test
+    public void digestLeavesPositionAsIs() throws Exception {
+        FileChannelInputStream is = new FileChannelInputStream(file);
+        is.skip(100);
+        MessageDigest md = MessageDigest.getInstance("SHA-256");
+        is.digest(md);
+
+        MessageDigest expected = MessageDigest.getInstance("SHA-256");
+        expected.update(content.substring(100).getBytes());
+        assertArrayEquals(expected.digest(), md.digest());
+        assertEquals(file.length() - 100, is.getRemainingLength());
+        is.close();
+    }
+
+    @Test
+    public void writesToStreamAndFile() throws IOException {
+        FileChannelInputStream is = new FileChannelInputStream(file);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        is.writeTo(out);
+        assertEquals(content, out.toString());
+        assertEquals(0, is.getRemainingLength());
+
+        is.reset();
+        File copy = File.createTempFile("FileChannelInputStreamTest", ".txt");
+        copy.deleteOnExit();
+        FileOutputStream fos = new FileOutputStream(copy);
+        try {
+            is.writeTo(fos);
+        } finally {
+            fos.close();
+        }
+        assertEquals(content, FileUtils.readFileToString(copy));
+        is.close();
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.retry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.ObjectName;
+
+import org.junit.Test;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.Request;
+import com.amazonaws.http.AmazonHttpClient;
+import com.amazonaws.http.ExecutionContext;
+import com.amazonaws.retry.RetryPolicyTestBase.ReturnServiceErrorHttpClient;
+import com.amazonaws.retry.RetryPolicyTestBase.TestAmazonWebServiceRequest;
+import com.amazonaws.retry.RetryPolicyTestBase.TestHttpResponseHandler;
+
+public class AdaptiveRetryThrottlerTest {
+
+    private final FakeClockThrottler throttler = new FakeClockThrottler(new AdaptiveRetryThrottlerConfig()
+            .withMaxCapacity(20)
+            .withRetryCost(5)
+            .withThrottlingRetryCost(10)
+            .withRefillRatePerSecond(1)
+            .withMinimumAttemptsInWindow(4)
+            .withFailureRateThreshold(0.5)
+            .withWindowMillis(10000)
+            .withOpenCircuitMillis(1000));
+
+    private final Request<?> request = request("https://dynamodb.us-east-1.amazonaws.com");
+
+    @Test
+    public void retriesConsumeCapacityUntilEmpty() {
+        assertEquals(5, throttler.acquireRetry(request, serverError()));
+        assertEquals(10, throttler.acquireRetry(request, throttling()));
+        assertEquals(5, throttler.acquireRetry(request, serverError()));
+        assertEquals(-1, throttler.acquireRetry(request, serverError()));
+        assertEquals(0, throttler.getAvailableCapacity());
+        assertEquals(20, throttler.getConsumedCapacity());
+        assertEquals(3, throttler.getRetriesAllowed());
+        assertEquals(1, throttler.getRetriesDenied());
+    }
+
+    @Test
+    public void capacityRefillsOverTime() {
+        throttler.acquireRetry(request, throttling());
+        throttler.acquireRetry(request, throttling());
+        assertEquals(0, throttler.getAvailableCapacity());
+
+        throttler.advance(2500);
+        assertEquals(2, throttler.getAvailableCapacity());
+        throttler.advance(2500);
+        assertEquals(5, throttler.getAvailableCapacity());
+        throttler.advance(60000);
+        assertEquals(20, throttler.getAvailableCapacity());
+    }
+
+    @Test
+    public void successesReleaseCapacity() {
+        throttler.acquireRetry(request, throttling());
+        throttler.acquireRetry(request, serverError());
+        assertEquals(5, throttler.getAvailableCapacity());
+
+        throttler.onAttemptSucceeded(request, true);
+        assertEquals(10, throttler.getAvailableCapacity());
+        throttler.onAttemptSucceeded(request, false);
+        assertEquals(11, throttler.getAvailableCapacity());
+    }
+
+    @Test
+    public void successGivesBackCostOfLastRetry() {
+        throttler.acquireRetry(request, throttling());
+        assertEquals(10, throttler.getAvailableCapacity());
+
+        throttler.onAttemptSucceeded(request, true);
+        assertEquals(20, throttler.getAvailableCapacity());
+    }
+
+    @Test
+    public void circuitOpensOnSustainedServerErrors() {
+        throttler.onAttemptSucceeded(request, false);
+        throttler.onAttemptFailed(request, clientError());
+        throttler.onAttemptFailed(request, serverError());
+        assertTrue(throttler.allowAttempt(request));
+
+        throttler.onAttemptFailed(request, throttling());
+        assertFalse(throttler.allowAttempt(request));
+        assertEquals(-1, throttler.acquireRetry(request, serverError()));
+        assertEquals(1, throttler.getOpenCircuitCount());
+        assertEquals(1, throttler.getCircuitsOpened());
+        assertEquals(1, throttler.getAttemptsFailedFast());
+
+        // The circuits are per endpoint and operation
+        assertTrue(throttler.allowAttempt(request("https://sqs.us-east-1.amazonaws.com")));
+    }
+
+    @Test
+    public void halfOpenCircuitClosesWhenProbeSucceeds() {
+        openCircuit();
+        throttler.advance(1000);
+
+        assertTrue(throttler.allowAttempt(request));
+        assertFalse(throttler.allowAttempt(request));
+        throttler.onAttemptSucceeded(request, false);
+        assertTrue(throttler.allowAttempt(request));
+        assertEquals(0, throttler.getOpenCircuitCount());
+    }
+
+    @Test
+    public void halfOpenCircuitReopensWhenProbeFails() {
+        openCircuit();
+        throttler.advance(1000);
+
+        assertTrue(throttler.allowAttempt(request));
+        throttler.onAttemptFailed(request, serverError());
+        assertFalse(throttler.allowAttempt(request));
+        assertEquals(2, throttler.getCircuitsOpened());
+
+        throttler.advance(1000);
+        assertTrue(throttler.allowAttempt(request));
+    }
+
+    @Test
+    public void halfOpenCircuitReopensWhenProbeFailsWithoutServiceFailure() {
+        openCircuit();
+        throttler.advance(1000);
+
+        assertTrue(throttler.allowAttempt(request));
+        throttler.onAttemptFailed(request, clientError());
+        assertFalse(throttler.allowAttempt(request));
+        assertEquals(1, throttler.getOpenCircuitCount());
+    }
+
+    @Test
+    public void halfOpenCircuitIgnoresOutcomesOfOtherAttempts() {
+        Request<?> inFlight = request("https://dynamodb.us-east-1.amazonaws.com");
+        openCircuit();
+        throttler.advance(1000);
+
+        assertTrue(throttler.allowAttempt(request));
+        throttler.onAttemptFailed(inFlight, serverError());
+        throttler.onAttemptSucceeded(inFlight, false);
+        assertEquals(1, throttler.getCircuitsOpened());
+        assertFalse(throttler.allowAttempt(inFlight));
+
+        throttler.onAttemptSucceeded(request, false);
+        assertTrue(throttler.allowAttempt(inFlight));
+        assertEquals(0, throttler.getOpenCircuitCount());
+    }
+
+    @Test
+    public void idleCircuitsAreEvictedBeyondMaxCircuits() {
+        FakeClockThrottler throttler = new FakeClockThrottler(new AdaptiveRetryThrottlerConfig()
+                .withMinimumAttemptsInWindow(1)
+                .withWindowMillis(10000)
+                .withMaxCircuits(2));
+        throttler.allowAttempt(request("https://bucket1.s3.amazonaws.com"));
+        throttler.allowAttempt(request("https://bucket2.s3.amazonaws.com"));
+
+        // The third endpoint is not broken while there is no room for its circuit
+        Request<?> third = request("https://bucket3.s3.amazonaws.com");
+        throttler.onAttemptFailed(third, serverError());
+        assertTrue(throttler.allowAttempt(third));
+        assertEquals(2, throttler.getCircuitStates().length);
+
+        throttler.advance(10000);
+        throttler.onAttemptFailed(third, serverError());
+        assertFalse(throttler.allowAttempt(third));
+        assertEquals(1, throttler.getCircuitStates().length);
+    }
+
+    @Test
+    public void failureRateIsMeasuredPerWindow() {
+        throttler.onAttemptFailed(request, serverError());
+        throttler.onAttemptFailed(request, serverError());
+        throttler.onAttemptFailed(request, serverError());
+        throttler.advance(10000);
+        throttler.onAttemptFailed(request, serverError());
+        assertTrue(throttler.allowAttempt(request));
+    }
+
+    @Test
+    public void clientFailsFastWhileCircuitIsOpen() {
+        ClientConfiguration config = new ClientConfiguration()
+                .withRetryPolicy(new RetryPolicy(null, new FixedTimeBackoffStrategy(0), 10, false))
+                .withRetryThrottler(throttler);
+        AmazonHttpClient client = new AmazonHttpClient(config);
+        RetryPolicyTestBase.injectMockHttpClient(client, new ReturnServiceErrorHttpClient(503, "ServiceUnavailable"));
+
+        try {
+            client.execute(RetryPolicyTestBase.getSampleRequestWithRepeatableContent(new TestAmazonWebServiceRequest()),
+                    null, new TestHttpResponseHandler(), new ExecutionContext());
+            fail("AmazonServiceException is expected.");
+        } catch (AmazonServiceException expected) {
+            assertEquals(503, expected.getStatusCode());
+        }
+        // The circuit opened after the fourth attempt, which wasn't retried
+        assertEquals(3, throttler.getRetriesAllowed());
+        assertEquals(1, throttler.getRetriesDenied());
+
+        try {
+            client.execute(RetryPolicyTestBase.getSampleRequestWithRepeatableContent(new TestAmazonWebServiceRequest()),
+                    null, new TestHttpResponseHandler(), new ExecutionContext());
+            fail("RetryThrottlingException is expected.");
+        } catch (RetryThrottlingException expected) {
+            assertFalse(expected.isRetryable());
+        }
+    }
+
+    @Test
+    public void registersMBean() throws Exception {
+        assertTrue(throttler.registerMBean("AdaptiveRetryThrottlerTest"));
+        try {
+            ObjectName objectName = new ObjectName(
+                    "com.amazonaws.management:type=AdaptiveRetryThrottler,name=AdaptiveRetryThrottlerTest");
+            assertEquals(20, ManagementFactory.getPlatformMBeanServer().getAttribute(objectName, "AvailableCapacity"));
+        } finally {
+            assertTrue(throttler.unregisterMBean());
+        }
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < 4; i++) {
+            throttler.onAttemptFailed(request, serverError());
+        }
+        assertFalse(throttler.allowAttempt(request));
+    }
+
+    private static Request<?> request(String endpoint) {
+        Request<AmazonWebServiceRequest> request = new DefaultRequest<AmazonWebServiceRequest>(
+                new TestAmazonWebServiceRequest(), "TestService");
+        request.setEndpoint(URI.create(endpoint));
+        return request;
+    }
+
+    private static AmazonServiceException serverError() {
+        return serviceException(500, "InternalFailure");
+    }
+
+    private static AmazonServiceException clientError() {
+        return serviceException(400, "ValidationException");
+    }
+
+    private static AmazonServiceException throttling() {
+        return serviceException(400, "ThrottlingException");
+    }
+
+    private static AmazonServiceException serviceException(int statusCode, String errorCode) {
+        AmazonServiceException exception = new AmazonServiceException(errorCode);
+        exception.setStatusCode(statusCode);
+        exception.setErrorCode(errorCode);
+        return exception;
+    }
+
+    private static class FakeClockThrottler extends AdaptiveRetryThrottler {
+        private long now;
+
+        FakeClockThrottler(AdaptiveRetryThrottlerConfig config) {
+            super(config);
+        }
+
+        void advance(long millis) {
+            now += TimeUnit.MILLISECONDS.toNanos(millis);
+        }
+
+        @Override
+        long nanoTime() {
+            return now;
+        }
+    }
+}
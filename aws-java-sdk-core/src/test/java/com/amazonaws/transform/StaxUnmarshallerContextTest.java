@@ -0,0 +1,104 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.transform;
+
+import static javax.xml.stream.XMLStreamConstants.ATTRIBUTE;
+import static javax.xml.stream.XMLStreamConstants.END_DOCUMENT;
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.stream.XMLInputFactory;
+
+import org.junit.Test;
+
+public class StaxUnmarshallerContextTest {
+
+    private static final String DOCUMENT = "<?xml version=\"1.0\"?>"
+            + "<Response xmlns=\"http://example.com/doc\">"
+            + "<Item><Name encoding=\"base64\">aXRlbTE=</Name><!-- comment -->"
+            + "<Value>a <![CDATA[<b>]]> &amp; c</Value></Item>"
+            + "<Metadata><RequestId>request-id</RequestId></Metadata>"
+            + "</Response>";
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = XMLInputFactory.newInstance();
+
+    @Test
+    public void cursorAndEventReadersAgree() throws Exception {
+        StaxUnmarshallerContext eventContext = new StaxUnmarshallerContext(
+                XML_INPUT_FACTORY.createXMLEventReader(new StringReader(DOCUMENT)));
+        StaxUnmarshallerContext cursorContext = new StaxUnmarshallerContext(
+                XML_INPUT_FACTORY.createXMLStreamReader(new StringReader(DOCUMENT)));
+
+        List<String> expected = Trace.of(eventContext);
+        assertEquals(expected, Trace.of(cursorContext));
+        assertTrue(expected.contains("3 /@encoding base64"));
+        assertTrue(expected.contains("3 Name aXRlbTE="));
+        assertTrue(expected.contains("3 Value a <b> & c"));
+        assertEquals("request-id", cursorContext.getMetadata().get("requestId"));
+    }
+
+    @Test
+    public void testsExpressionsAtDepth() throws Exception {
+        StaxUnmarshallerContext context = new StaxUnmarshallerContext(
+                XML_INPUT_FACTORY.createXMLStreamReader(new StringReader(DOCUMENT)));
+        assertTrue(context.isStartOfDocument());
+        context.nextEventType();
+        assertFalse(context.isStartOfDocument());
+
+        while (context.nextEventType() != ATTRIBUTE);
+        assertTrue(context.testExpression("Item/Name/@encoding", 2));
+        assertTrue(context.testExpression("Name/@encoding", 3));
+        assertFalse(context.testExpression("Name/@encoding", 2));
+        assertFalse(context.testExpression("tem/Name/@encoding", 2));
+
+        assertEquals("base64", context.readText());
+
+        assertEquals(END_ELEMENT, context.nextEventType());
+        assertEquals(START_ELEMENT, context.nextEventType());
+        assertTrue(context.testExpression("Item/Value", 2));
+        assertTrue(context.testExpression("Value"));
+        assertFalse(context.testExpression("Name/@encoding", 3));
+    }
+
+    /**
+     * Reads a document through a context, recording the depth and the text of
+     * every element and attribute that has no child elements.
+     */
+    private static class Trace {
+
+        static List<String> of(StaxUnmarshallerContext context) throws Exception {
+            context.registerMetadataExpression("Metadata/RequestId", 2, "requestId");
+            List<String> trace = new ArrayList<String>();
+            int eventType;
+            while ((eventType = context.nextEventType()) != END_DOCUMENT) {
+                if (eventType == ATTRIBUTE) {
+                    trace.add(context.getCurrentDepth() + " /@encoding " + context.readText());
+                } else if (eventType == START_ELEMENT
+                        && (context.testExpression("Name") || context.testExpression("Value"))) {
+                    String name = context.testExpression("Name") ? "Name" : "Value";
+                    trace.add(context.getCurrentDepth() + " " + name + " " + context.readText());
+                }
+            }
+            return trace;
+        }
+    }
+}
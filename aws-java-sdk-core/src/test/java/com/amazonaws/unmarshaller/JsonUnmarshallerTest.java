@@ -19,6 +19,7 @@
 package com.amazonaws.unmarshaller;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.ByteArrayInputStream;
@@ -37,11 +38,14 @@ import com.amazonaws.transform.JsonUnmarshallerContextImpl;
 import com.amazonaws.transform.ListUnmarshaller;
 import com.amazonaws.transform.MapUnmarshaller;
 import com.amazonaws.transform.SimpleTypeJsonUnmarshallers;
+import com.amazonaws.transform.Unmarshaller;
 
 
 public class JsonUnmarshallerTest {
     public static final String SIMPLE_MAP = "{\"key1\" : \"value1\", \"key2\" : \"value2\"}";
     public static final String MAP_TO_LIST = "{\"key1\" : [ null, \"value1\"], \"key2\" : [\"value2\"]}";
+    public static final String SCALARS = "{\"int\" : 42, \"long\" : 12345678901, \"double\" : 1.5, \"bool\" : true, \"quoted\" : \"7\"}";
+    public static final String NESTED = "{\"a\" : {\"b\" : 1}, \"c\" : [2]}";
     private static JsonFactory jsonFactory = new JsonFactory();
 
     @Test
@@ -69,6 +73,51 @@ public class JsonUnmarshallerTest {
         assertEquals(Arrays.asList("value2"), map.get("key2"));
     }
 
+    @Test
+    public void testScalarsReadFromTokens() throws Exception {
+        JsonUnmarshallerContext unmarshallerContext = setupUnmarshaller(SCALARS);
+        unmarshallerContext.nextToken();
+
+        assertEquals(Integer.valueOf(42), unmarshallScalar(unmarshallerContext,
+                SimpleTypeJsonUnmarshallers.IntegerJsonUnmarshaller.getInstance()));
+        assertEquals(Long.valueOf(12345678901L), unmarshallScalar(unmarshallerContext,
+                SimpleTypeJsonUnmarshallers.LongJsonUnmarshaller.getInstance()));
+        assertEquals(Double.valueOf(1.5), unmarshallScalar(unmarshallerContext,
+                SimpleTypeJsonUnmarshallers.DoubleJsonUnmarshaller.getInstance()));
+        assertEquals(Boolean.TRUE, unmarshallScalar(unmarshallerContext,
+                SimpleTypeJsonUnmarshallers.BooleanJsonUnmarshaller.getInstance()));
+        assertEquals(Integer.valueOf(7), unmarshallScalar(unmarshallerContext,
+                SimpleTypeJsonUnmarshallers.IntegerJsonUnmarshaller.getInstance()));
+    }
+
+    @Test
+    public void testCurrentFieldAtDepth() throws Exception {
+        JsonUnmarshallerContext unmarshallerContext = setupUnmarshaller(NESTED);
+        unmarshallerContext.nextToken();
+        assertNull(unmarshallerContext.getCurrentField(1));
+
+        unmarshallerContext.nextToken();
+        assertEquals("a", unmarshallerContext.getCurrentField(1));
+        unmarshallerContext.nextToken();
+        assertEquals("a", unmarshallerContext.getCurrentField(1));
+        unmarshallerContext.nextToken();
+        assertEquals("b", unmarshallerContext.getCurrentField(2));
+        assertNull(unmarshallerContext.getCurrentField(1));
+
+        unmarshallerContext.nextToken();
+        unmarshallerContext.nextToken();
+        unmarshallerContext.nextToken();
+        assertEquals("c", unmarshallerContext.getCurrentField(1));
+        assertNull(unmarshallerContext.getCurrentField(2));
+    }
+
+    private <T> T unmarshallScalar(JsonUnmarshallerContext unmarshallerContext,
+                                   Unmarshaller<T, JsonUnmarshallerContext> unmarshaller) throws Exception {
+        unmarshallerContext.nextToken();
+        unmarshallerContext.nextToken();
+        return unmarshaller.unmarshall(unmarshallerContext);
+    }
+
     private JsonUnmarshallerContext setupUnmarshaller(String snippet) throws Exception {
         JsonParser jsonParser = jsonFactory
                 .createJsonParser(new ByteArrayInputStream(snippet.getBytes()));
@@ -19,10 +19,15 @@
 package com.amazonaws.util;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CountDownLatch;
 
 import org.junit.Test;
 
@@ -76,6 +81,57 @@ public class ResponseMetadataCacheTest {
 
         // get should return null
         assertNull(cache.get(key));
+        assertFalse(cache.isEnabled());
+    }
+
+    /** Tests that re-adding a key returns its latest metadata.  */
+    @Test
+    public void testReAddedKeyReturnsLatestMetadata() {
+        ResponseMetadataCache cache = new ResponseMetadataCache(3);
+
+        AmazonWebServiceRequest key = new TestRequest();
+        ResponseMetadata metadata1 = newResponseMetadata();
+        ResponseMetadata metadata2 = newResponseMetadata();
+        cache.add(key, metadata1);
+        cache.add(new TestRequest(), newResponseMetadata());
+        cache.add(key, metadata2);
+
+        assertTrue(cache.isEnabled());
+        assertEquals(metadata2, cache.get(key));
+    }
+
+    /** Tests that concurrent adds keep the most recent entries.  */
+    @Test
+    public void testConcurrentAdds() throws Exception {
+        final ResponseMetadataCache cache = new ResponseMetadataCache(50);
+        final CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int i = 0; i < 8; i++) {
+            Thread thread = new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int j = 0; j < 10000; j++) {
+                        cache.add(new TestRequest(), newResponseMetadata());
+                    }
+                }
+            };
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        AmazonWebServiceRequest key = new TestRequest();
+        ResponseMetadata metadata = newResponseMetadata();
+        cache.add(key, metadata);
+        assertEquals(metadata, cache.get(key));
     }
 
     private class TestRequest extends AmazonWebServiceRequest {}
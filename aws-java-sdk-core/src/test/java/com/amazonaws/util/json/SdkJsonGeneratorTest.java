@@ -14,9 +14,11 @@
  */
 package com.amazonaws.util.json;
 
+import com.amazonaws.internal.ReplayableContent;
 import com.amazonaws.protocol.json.SdkJsonGenerator;
 import com.amazonaws.protocol.json.StructuredJsonGenerator;
 import com.amazonaws.util.Base64;
+import com.amazonaws.util.IOUtils;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -25,9 +27,12 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.security.MessageDigest;
 import java.util.Date;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -136,6 +141,47 @@ public class SdkJsonGeneratorTest {
         assertEquals(3, node.size());
     }
 
+    @Test
+    public void contentStream_CarriesSha256OfContent() throws Exception {
+        jsonGenerator.writeStartObject();
+        for (int i = 0; i < 2000; i++) {
+            jsonGenerator.writeFieldName("prop" + i).writeValue("val" + i);
+        }
+        jsonGenerator.writeEndObject();
+        byte[] content = jsonGenerator.getBytes();
+        InputStream stream = jsonGenerator.getContentStream();
+
+        ReplayableContent replayable = (ReplayableContent) stream;
+        byte[] expected = MessageDigest.getInstance("SHA-256").digest(content);
+        assertArrayEquals(expected, replayable.getSha256());
+        assertArrayEquals(content, IOUtils.toByteArray(stream));
+        stream.reset();
+        assertArrayEquals(expected, replayable.getSha256());
+    }
+
+    @Test
+    public void generatorsOfThread_DoNotShareContent() throws Exception {
+        jsonGenerator.writeStartObject();
+        jsonGenerator.writeFieldName("first").writeValue("one");
+        StructuredJsonGenerator nested = new SdkJsonGenerator(new JsonFactory(), "application/json");
+        nested.writeStartObject();
+        nested.writeFieldName("nested").writeValue("two");
+        nested.writeEndObject();
+        jsonGenerator.writeEndObject();
+
+        byte[] first = jsonGenerator.getBytes();
+        assertEquals("{\"nested\":\"two\"}", new String(nested.getBytes(), "UTF-8"));
+
+        StructuredJsonGenerator next = new SdkJsonGenerator(new JsonFactory(), "application/json");
+        next.writeStartObject();
+        next.writeFieldName("next").writeValue("three");
+        next.writeEndObject();
+        assertEquals("{\"next\":\"three\"}", new String(next.getBytes(), "UTF-8"));
+        assertEquals("{\"first\":\"one\"}", new String(first, "UTF-8"));
+        assertArrayEquals(MessageDigest.getInstance("SHA-256").digest(next.getBytes()),
+                ((ReplayableContent) next.getContentStream()).getSha256());
+    }
+
     private JsonNode toJsonNode() throws IOException {
         return MAPPER.readTree(jsonGenerator.getBytes());
     }
@@ -53,10 +53,17 @@ public class CreatePipelineResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("pipelineId", targetDepth)) {
-                    context.nextToken();
-                    createPipelineResult.setPipelineId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1076718755:
+                        if (fieldName.equals("pipelineId")) {
+                            context.nextToken();
+                            createPipelineResult.setPipelineId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,23 +53,34 @@ public class DescribeObjectsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("pipelineObjects", targetDepth)) {
-                    context.nextToken();
-                    describeObjectsResult
-                            .setPipelineObjects(new ListUnmarshaller<PipelineObject>(
-                                    PipelineObjectJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("marker", targetDepth)) {
-                    context.nextToken();
-                    describeObjectsResult.setMarker(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("hasMoreResults", targetDepth)) {
-                    context.nextToken();
-                    describeObjectsResult
-                            .setHasMoreResults(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 176478226:
+                        if (fieldName.equals("pipelineObjects")) {
+                            context.nextToken();
+                            describeObjectsResult
+                                    .setPipelineObjects(new ListUnmarshaller<PipelineObject>(
+                                            PipelineObjectJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1081306054:
+                        if (fieldName.equals("marker")) {
+                            context.nextToken();
+                            describeObjectsResult.setMarker(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -232624153:
+                        if (fieldName.equals("hasMoreResults")) {
+                            context.nextToken();
+                            describeObjectsResult
+                                    .setHasMoreResults(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
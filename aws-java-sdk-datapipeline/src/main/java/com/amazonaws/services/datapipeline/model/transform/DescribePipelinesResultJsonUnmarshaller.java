@@ -53,13 +53,19 @@ public class DescribePipelinesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("pipelineDescriptionList",
-                        targetDepth)) {
-                    context.nextToken();
-                    describePipelinesResult
-                            .setPipelineDescriptionList(new ListUnmarshaller<PipelineDescription>(
-                                    PipelineDescriptionJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1830518856:
+                        if (fieldName.equals("pipelineDescriptionList")) {
+                            context.nextToken();
+                            describePipelinesResult
+                                    .setPipelineDescriptionList(new ListUnmarshaller<PipelineDescription>(
+                                            PipelineDescriptionJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,10 +53,17 @@ public class EvaluateExpressionResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("evaluatedExpression", targetDepth)) {
-                    context.nextToken();
-                    evaluateExpressionResult.setEvaluatedExpression(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1900473315:
+                        if (fieldName.equals("evaluatedExpression")) {
+                            context.nextToken();
+                            evaluateExpressionResult.setEvaluatedExpression(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
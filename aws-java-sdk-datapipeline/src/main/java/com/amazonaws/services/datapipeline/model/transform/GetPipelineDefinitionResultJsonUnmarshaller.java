@@ -53,26 +53,37 @@ public class GetPipelineDefinitionResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("pipelineObjects", targetDepth)) {
-                    context.nextToken();
-                    getPipelineDefinitionResult
-                            .setPipelineObjects(new ListUnmarshaller<PipelineObject>(
-                                    PipelineObjectJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("parameterObjects", targetDepth)) {
-                    context.nextToken();
-                    getPipelineDefinitionResult
-                            .setParameterObjects(new ListUnmarshaller<ParameterObject>(
-                                    ParameterObjectJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("parameterValues", targetDepth)) {
-                    context.nextToken();
-                    getPipelineDefinitionResult
-                            .setParameterValues(new ListUnmarshaller<ParameterValue>(
-                                    ParameterValueJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 176478226:
+                        if (fieldName.equals("pipelineObjects")) {
+                            context.nextToken();
+                            getPipelineDefinitionResult
+                                    .setPipelineObjects(new ListUnmarshaller<PipelineObject>(
+                                            PipelineObjectJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 672459051:
+                        if (fieldName.equals("parameterObjects")) {
+                            context.nextToken();
+                            getPipelineDefinitionResult
+                                    .setParameterObjects(new ListUnmarshaller<ParameterObject>(
+                                            ParameterObjectJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 498342443:
+                        if (fieldName.equals("parameterValues")) {
+                            context.nextToken();
+                            getPipelineDefinitionResult
+                                    .setParameterValues(new ListUnmarshaller<ParameterValue>(
+                                            ParameterValueJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class InstanceIdentityJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("document", targetDepth)) {
-                    context.nextToken();
-                    instanceIdentity.setDocument(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("signature", targetDepth)) {
-                    context.nextToken();
-                    instanceIdentity.setSignature(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 861720859:
+                        if (fieldName.equals("document")) {
+                            context.nextToken();
+                            instanceIdentity.setDocument(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1073584312:
+                        if (fieldName.equals("signature")) {
+                            context.nextToken();
+                            instanceIdentity.setSignature(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
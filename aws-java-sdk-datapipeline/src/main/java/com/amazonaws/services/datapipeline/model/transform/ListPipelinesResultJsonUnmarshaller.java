@@ -53,23 +53,34 @@ public class ListPipelinesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("pipelineIdList", targetDepth)) {
-                    context.nextToken();
-                    listPipelinesResult
-                            .setPipelineIdList(new ListUnmarshaller<PipelineIdName>(
-                                    PipelineIdNameJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("marker", targetDepth)) {
-                    context.nextToken();
-                    listPipelinesResult.setMarker(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("hasMoreResults", targetDepth)) {
-                    context.nextToken();
-                    listPipelinesResult
-                            .setHasMoreResults(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1550597733:
+                        if (fieldName.equals("pipelineIdList")) {
+                            context.nextToken();
+                            listPipelinesResult
+                                    .setPipelineIdList(new ListUnmarshaller<PipelineIdName>(
+                                            PipelineIdNameJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1081306054:
+                        if (fieldName.equals("marker")) {
+                            context.nextToken();
+                            listPipelinesResult.setMarker(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -232624153:
+                        if (fieldName.equals("hasMoreResults")) {
+                            context.nextToken();
+                            listPipelinesResult
+                                    .setHasMoreResults(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class ParameterAttributeJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("key", targetDepth)) {
-                    context.nextToken();
-                    parameterAttribute.setKey(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("stringValue", targetDepth)) {
-                    context.nextToken();
-                    parameterAttribute.setStringValue(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 106079:
+                        if (fieldName.equals("key")) {
+                            context.nextToken();
+                            parameterAttribute.setKey(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1519213600:
+                        if (fieldName.equals("stringValue")) {
+                            context.nextToken();
+                            parameterAttribute.setStringValue(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
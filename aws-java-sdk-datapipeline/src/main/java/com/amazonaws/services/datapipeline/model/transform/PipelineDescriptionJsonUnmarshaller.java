@@ -53,32 +53,47 @@ public class PipelineDescriptionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("pipelineId", targetDepth)) {
-                    context.nextToken();
-                    pipelineDescription.setPipelineId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    pipelineDescription.setName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("fields", targetDepth)) {
-                    context.nextToken();
-                    pipelineDescription.setFields(new ListUnmarshaller<Field>(
-                            FieldJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    pipelineDescription.setDescription(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("tags", targetDepth)) {
-                    context.nextToken();
-                    pipelineDescription.setTags(new ListUnmarshaller<Tag>(
-                            TagJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1076718755:
+                        if (fieldName.equals("pipelineId")) {
+                            context.nextToken();
+                            pipelineDescription.setPipelineId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 3373707:
+                        if (fieldName.equals("name")) {
+                            context.nextToken();
+                            pipelineDescription.setName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1274708295:
+                        if (fieldName.equals("fields")) {
+                            context.nextToken();
+                            pipelineDescription.setFields(new ListUnmarshaller<Field>(
+                                    FieldJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1724546052:
+                        if (fieldName.equals("description")) {
+                            context.nextToken();
+                            pipelineDescription.setDescription(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 3552281:
+                        if (fieldName.equals("tags")) {
+                            context.nextToken();
+                            pipelineDescription.setTags(new ListUnmarshaller<Tag>(
+                                    TagJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
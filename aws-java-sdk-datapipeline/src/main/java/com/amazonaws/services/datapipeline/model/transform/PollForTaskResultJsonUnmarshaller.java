@@ -53,10 +53,17 @@ public class PollForTaskResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("taskObject", targetDepth)) {
-                    context.nextToken();
-                    pollForTaskResult.setTaskObject(TaskObjectJsonUnmarshaller
-                            .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 838651172:
+                        if (fieldName.equals("taskObject")) {
+                            context.nextToken();
+                            pollForTaskResult.setTaskObject(TaskObjectJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
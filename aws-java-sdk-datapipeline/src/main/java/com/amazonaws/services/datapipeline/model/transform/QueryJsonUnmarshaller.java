@@ -52,11 +52,18 @@ public class QueryJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("selectors", targetDepth)) {
-                    context.nextToken();
-                    query.setSelectors(new ListUnmarshaller<Selector>(
-                            SelectorJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1715959692:
+                        if (fieldName.equals("selectors")) {
+                            context.nextToken();
+                            query.setSelectors(new ListUnmarshaller<Selector>(
+                                    SelectorJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
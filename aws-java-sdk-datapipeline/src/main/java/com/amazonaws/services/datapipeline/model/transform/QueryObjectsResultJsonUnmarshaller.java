@@ -53,22 +53,33 @@ public class QueryObjectsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ids", targetDepth)) {
-                    context.nextToken();
-                    queryObjectsResult.setIds(new ListUnmarshaller<String>(
-                            context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("marker", targetDepth)) {
-                    context.nextToken();
-                    queryObjectsResult.setMarker(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("hasMoreResults", targetDepth)) {
-                    context.nextToken();
-                    queryObjectsResult
-                            .setHasMoreResults(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 104120:
+                        if (fieldName.equals("ids")) {
+                            context.nextToken();
+                            queryObjectsResult.setIds(new ListUnmarshaller<String>(
+                                    context.getUnmarshaller(String.class))
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1081306054:
+                        if (fieldName.equals("marker")) {
+                            context.nextToken();
+                            queryObjectsResult.setMarker(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -232624153:
+                        if (fieldName.equals("hasMoreResults")) {
+                            context.nextToken();
+                            queryObjectsResult
+                                    .setHasMoreResults(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
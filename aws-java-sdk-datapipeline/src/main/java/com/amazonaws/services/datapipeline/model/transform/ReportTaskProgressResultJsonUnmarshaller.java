@@ -53,11 +53,18 @@ public class ReportTaskProgressResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("canceled", targetDepth)) {
-                    context.nextToken();
-                    reportTaskProgressResult
-                            .setCanceled(context.getUnmarshaller(Boolean.class)
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -123173735:
+                        if (fieldName.equals("canceled")) {
+                            context.nextToken();
+                            reportTaskProgressResult
+                                    .setCanceled(context.getUnmarshaller(Boolean.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
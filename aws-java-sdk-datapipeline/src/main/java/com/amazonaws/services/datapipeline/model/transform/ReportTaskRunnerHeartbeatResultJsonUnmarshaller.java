@@ -53,12 +53,19 @@ public class ReportTaskRunnerHeartbeatResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("terminate", targetDepth)) {
-                    context.nextToken();
-                    reportTaskRunnerHeartbeatResult
-                            .setTerminate(context
-                                    .getUnmarshaller(Boolean.class).unmarshall(
-                                            context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2035990113:
+                        if (fieldName.equals("terminate")) {
+                            context.nextToken();
+                            reportTaskRunnerHeartbeatResult
+                                    .setTerminate(context
+                                            .getUnmarshaller(Boolean.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
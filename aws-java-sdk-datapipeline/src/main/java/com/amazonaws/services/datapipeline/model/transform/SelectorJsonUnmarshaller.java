@@ -53,15 +53,24 @@ public class SelectorJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("fieldName", targetDepth)) {
-                    context.nextToken();
-                    selector.setFieldName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("operator", targetDepth)) {
-                    context.nextToken();
-                    selector.setOperator(OperatorJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1265009317:
+                        if (fieldName.equals("fieldName")) {
+                            context.nextToken();
+                            selector.setFieldName(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -500553564:
+                        if (fieldName.equals("operator")) {
+                            context.nextToken();
+                            selector.setOperator(OperatorJsonUnmarshaller.getInstance()
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
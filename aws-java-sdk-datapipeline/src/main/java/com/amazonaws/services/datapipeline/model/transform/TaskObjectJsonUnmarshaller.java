@@ -53,28 +53,41 @@ public class TaskObjectJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("taskId", targetDepth)) {
-                    context.nextToken();
-                    taskObject.setTaskId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("pipelineId", targetDepth)) {
-                    context.nextToken();
-                    taskObject.setPipelineId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("attemptId", targetDepth)) {
-                    context.nextToken();
-                    taskObject.setAttemptId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("objects", targetDepth)) {
-                    context.nextToken();
-                    taskObject
-                            .setObjects(new MapUnmarshaller<String, PipelineObject>(
-                                    context.getUnmarshaller(String.class),
-                                    PipelineObjectJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -880873088:
+                        if (fieldName.equals("taskId")) {
+                            context.nextToken();
+                            taskObject.setTaskId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1076718755:
+                        if (fieldName.equals("pipelineId")) {
+                            context.nextToken();
+                            taskObject.setPipelineId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -354984760:
+                        if (fieldName.equals("attemptId")) {
+                            context.nextToken();
+                            taskObject.setAttemptId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1659648748:
+                        if (fieldName.equals("objects")) {
+                            context.nextToken();
+                            taskObject
+                                    .setObjects(new MapUnmarshaller<String, PipelineObject>(
+                                            context.getUnmarshaller(String.class),
+                                            PipelineObjectJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,25 +53,36 @@ public class ValidatePipelineDefinitionResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("validationErrors", targetDepth)) {
-                    context.nextToken();
-                    validatePipelineDefinitionResult
-                            .setValidationErrors(new ListUnmarshaller<ValidationError>(
-                                    ValidationErrorJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("validationWarnings", targetDepth)) {
-                    context.nextToken();
-                    validatePipelineDefinitionResult
-                            .setValidationWarnings(new ListUnmarshaller<ValidationWarning>(
-                                    ValidationWarningJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("errored", targetDepth)) {
-                    context.nextToken();
-                    validatePipelineDefinitionResult
-                            .setErrored(context.getUnmarshaller(Boolean.class)
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1373480260:
+                        if (fieldName.equals("validationErrors")) {
+                            context.nextToken();
+                            validatePipelineDefinitionResult
+                                    .setValidationErrors(new ListUnmarshaller<ValidationError>(
+                                            ValidationErrorJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 461531120:
+                        if (fieldName.equals("validationWarnings")) {
+                            context.nextToken();
+                            validatePipelineDefinitionResult
+                                    .setValidationWarnings(new ListUnmarshaller<ValidationWarning>(
+                                            ValidationWarningJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1478984537:
+                        if (fieldName.equals("errored")) {
+                            context.nextToken();
+                            validatePipelineDefinitionResult
+                                    .setErrored(context.getUnmarshaller(Boolean.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
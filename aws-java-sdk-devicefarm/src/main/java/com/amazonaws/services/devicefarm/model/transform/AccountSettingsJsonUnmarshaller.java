@@ -53,27 +53,37 @@ public class AccountSettingsJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("awsAccountNumber", targetDepth)) {
-                    context.nextToken();
-                    accountSettings.setAwsAccountNumber(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("unmeteredDevices", targetDepth)) {
-                    context.nextToken();
-                    accountSettings
-                            .setUnmeteredDevices(new MapUnmarshaller<String, Integer>(
-                                    context.getUnmarshaller(String.class),
-                                    context.getUnmarshaller(Integer.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("unmeteredRemoteAccessDevices",
-                        targetDepth)) {
-                    context.nextToken();
-                    accountSettings
-                            .setUnmeteredRemoteAccessDevices(new MapUnmarshaller<String, Integer>(
-                                    context.getUnmarshaller(String.class),
-                                    context.getUnmarshaller(Integer.class))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1489079335:
+                        if (fieldName.equals("awsAccountNumber")) {
+                            context.nextToken();
+                            accountSettings.setAwsAccountNumber(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -811146066:
+                        if (fieldName.equals("unmeteredDevices")) {
+                            context.nextToken();
+                            accountSettings
+                                    .setUnmeteredDevices(new MapUnmarshaller<String, Integer>(
+                                            context.getUnmarshaller(String.class),
+                                            context.getUnmarshaller(Integer.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1584518788:
+                        if (fieldName.equals("unmeteredRemoteAccessDevices")) {
+                            context.nextToken();
+                            accountSettings
+                                    .setUnmeteredRemoteAccessDevices(new MapUnmarshaller<String, Integer>(
+                                            context.getUnmarshaller(String.class),
+                                            context.getUnmarshaller(Integer.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -52,20 +52,31 @@ public class CPUJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("frequency", targetDepth)) {
-                    context.nextToken();
-                    cPU.setFrequency(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("architecture", targetDepth)) {
-                    context.nextToken();
-                    cPU.setArchitecture(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("clock", targetDepth)) {
-                    context.nextToken();
-                    cPU.setClock(context.getUnmarshaller(Double.class)
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -70023844:
+                        if (fieldName.equals("frequency")) {
+                            context.nextToken();
+                            cPU.setFrequency(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 839674195:
+                        if (fieldName.equals("architecture")) {
+                            context.nextToken();
+                            cPU.setArchitecture(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 94755854:
+                        if (fieldName.equals("clock")) {
+                            context.nextToken();
+                            cPU.setClock(context.getUnmarshaller(Double.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,40 +53,59 @@ public class CountersJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("total", targetDepth)) {
-                    context.nextToken();
-                    counters.setTotal(context.getUnmarshaller(Integer.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("passed", targetDepth)) {
-                    context.nextToken();
-                    counters.setPassed(context.getUnmarshaller(Integer.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("failed", targetDepth)) {
-                    context.nextToken();
-                    counters.setFailed(context.getUnmarshaller(Integer.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("warned", targetDepth)) {
-                    context.nextToken();
-                    counters.setWarned(context.getUnmarshaller(Integer.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("errored", targetDepth)) {
-                    context.nextToken();
-                    counters.setErrored(context.getUnmarshaller(Integer.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("stopped", targetDepth)) {
-                    context.nextToken();
-                    counters.setStopped(context.getUnmarshaller(Integer.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("skipped", targetDepth)) {
-                    context.nextToken();
-                    counters.setSkipped(context.getUnmarshaller(Integer.class)
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 110549828:
+                        if (fieldName.equals("total")) {
+                            context.nextToken();
+                            counters.setTotal(context.getUnmarshaller(Integer.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -995381136:
+                        if (fieldName.equals("passed")) {
+                            context.nextToken();
+                            counters.setPassed(context.getUnmarshaller(Integer.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1281977283:
+                        if (fieldName.equals("failed")) {
+                            context.nextToken();
+                            counters.setFailed(context.getUnmarshaller(Integer.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -795011675:
+                        if (fieldName.equals("warned")) {
+                            context.nextToken();
+                            counters.setWarned(context.getUnmarshaller(Integer.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1478984537:
+                        if (fieldName.equals("errored")) {
+                            context.nextToken();
+                            counters.setErrored(context.getUnmarshaller(Integer.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1884319283:
+                        if (fieldName.equals("stopped")) {
+                            context.nextToken();
+                            counters.setStopped(context.getUnmarshaller(Integer.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 2147444528:
+                        if (fieldName.equals("skipped")) {
+                            context.nextToken();
+                            counters.setSkipped(context.getUnmarshaller(Integer.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
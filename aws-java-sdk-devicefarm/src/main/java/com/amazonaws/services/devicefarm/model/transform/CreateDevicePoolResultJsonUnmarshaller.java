@@ -53,11 +53,18 @@ public class CreateDevicePoolResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("devicePool", targetDepth)) {
-                    context.nextToken();
-                    createDevicePoolResult
-                            .setDevicePool(DevicePoolJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 781062034:
+                        if (fieldName.equals("devicePool")) {
+                            context.nextToken();
+                            createDevicePoolResult
+                                    .setDevicePool(DevicePoolJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
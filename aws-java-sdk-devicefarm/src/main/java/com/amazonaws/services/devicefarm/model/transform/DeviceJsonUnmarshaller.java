@@ -52,75 +52,108 @@ public class DeviceJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("arn", targetDepth)) {
-                    context.nextToken();
-                    device.setArn(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    device.setName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("manufacturer", targetDepth)) {
-                    context.nextToken();
-                    device.setManufacturer(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("model", targetDepth)) {
-                    context.nextToken();
-                    device.setModel(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("formFactor", targetDepth)) {
-                    context.nextToken();
-                    device.setFormFactor(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("platform", targetDepth)) {
-                    context.nextToken();
-                    device.setPlatform(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("os", targetDepth)) {
-                    context.nextToken();
-                    device.setOs(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("cpu", targetDepth)) {
-                    context.nextToken();
-                    device.setCpu(CPUJsonUnmarshaller.getInstance().unmarshall(
-                            context));
-                }
-                if (context.testExpression("resolution", targetDepth)) {
-                    context.nextToken();
-                    device.setResolution(ResolutionJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("heapSize", targetDepth)) {
-                    context.nextToken();
-                    device.setHeapSize(context.getUnmarshaller(Long.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("memory", targetDepth)) {
-                    context.nextToken();
-                    device.setMemory(context.getUnmarshaller(Long.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("image", targetDepth)) {
-                    context.nextToken();
-                    device.setImage(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("carrier", targetDepth)) {
-                    context.nextToken();
-                    device.setCarrier(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("radio", targetDepth)) {
-                    context.nextToken();
-                    device.setRadio(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 96861:
+                        if (fieldName.equals("arn")) {
+                            context.nextToken();
+                            device.setArn(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 3373707:
+                        if (fieldName.equals("name")) {
+                            context.nextToken();
+                            device.setName(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1969347631:
+                        if (fieldName.equals("manufacturer")) {
+                            context.nextToken();
+                            device.setManufacturer(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 104069929:
+                        if (fieldName.equals("model")) {
+                            context.nextToken();
+                            device.setModel(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -466268365:
+                        if (fieldName.equals("formFactor")) {
+                            context.nextToken();
+                            device.setFormFactor(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1874684019:
+                        if (fieldName.equals("platform")) {
+                            context.nextToken();
+                            device.setPlatform(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 3556:
+                        if (fieldName.equals("os")) {
+                            context.nextToken();
+                            device.setOs(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 98728:
+                        if (fieldName.equals("cpu")) {
+                            context.nextToken();
+                            device.setCpu(CPUJsonUnmarshaller.getInstance().unmarshall(
+                                    context));
+                        }
+                        break;
+                    case -1600030548:
+                        if (fieldName.equals("resolution")) {
+                            context.nextToken();
+                            device.setResolution(ResolutionJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1104720883:
+                        if (fieldName.equals("heapSize")) {
+                            context.nextToken();
+                            device.setHeapSize(context.getUnmarshaller(Long.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1077756671:
+                        if (fieldName.equals("memory")) {
+                            context.nextToken();
+                            device.setMemory(context.getUnmarshaller(Long.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 100313435:
+                        if (fieldName.equals("image")) {
+                            context.nextToken();
+                            device.setImage(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 554360568:
+                        if (fieldName.equals("carrier")) {
+                            context.nextToken();
+                            device.setCarrier(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 108270587:
+                        if (fieldName.equals("radio")) {
+                            context.nextToken();
+                            device.setRadio(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
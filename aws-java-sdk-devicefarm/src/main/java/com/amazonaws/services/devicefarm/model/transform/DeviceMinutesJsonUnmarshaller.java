@@ -53,20 +53,31 @@ public class DeviceMinutesJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("total", targetDepth)) {
-                    context.nextToken();
-                    deviceMinutes.setTotal(context
-                            .getUnmarshaller(Double.class).unmarshall(context));
-                }
-                if (context.testExpression("metered", targetDepth)) {
-                    context.nextToken();
-                    deviceMinutes.setMetered(context.getUnmarshaller(
-                            Double.class).unmarshall(context));
-                }
-                if (context.testExpression("unmetered", targetDepth)) {
-                    context.nextToken();
-                    deviceMinutes.setUnmetered(context.getUnmarshaller(
-                            Double.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 110549828:
+                        if (fieldName.equals("total")) {
+                            context.nextToken();
+                            deviceMinutes.setTotal(context
+                                    .getUnmarshaller(Double.class).unmarshall(context));
+                        }
+                        break;
+                    case 955447784:
+                        if (fieldName.equals("metered")) {
+                            context.nextToken();
+                            deviceMinutes.setMetered(context.getUnmarshaller(
+                                    Double.class).unmarshall(context));
+                        }
+                        break;
+                    case -1627718353:
+                        if (fieldName.equals("unmetered")) {
+                            context.nextToken();
+                            deviceMinutes.setUnmetered(context.getUnmarshaller(
+                                    Double.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,25 +53,35 @@ public class DevicePoolCompatibilityResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("device", targetDepth)) {
-                    context.nextToken();
-                    devicePoolCompatibilityResult
-                            .setDevice(DeviceJsonUnmarshaller.getInstance()
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("compatible", targetDepth)) {
-                    context.nextToken();
-                    devicePoolCompatibilityResult
-                            .setCompatible(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("incompatibilityMessages",
-                        targetDepth)) {
-                    context.nextToken();
-                    devicePoolCompatibilityResult
-                            .setIncompatibilityMessages(new ListUnmarshaller<IncompatibilityMessage>(
-                                    IncompatibilityMessageJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1335157162:
+                        if (fieldName.equals("device")) {
+                            context.nextToken();
+                            devicePoolCompatibilityResult
+                                    .setDevice(DeviceJsonUnmarshaller.getInstance()
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -842605868:
+                        if (fieldName.equals("compatible")) {
+                            context.nextToken();
+                            devicePoolCompatibilityResult
+                                    .setCompatible(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 105301719:
+                        if (fieldName.equals("incompatibilityMessages")) {
+                            context.nextToken();
+                            devicePoolCompatibilityResult
+                                    .setIncompatibilityMessages(new ListUnmarshaller<IncompatibilityMessage>(
+                                            IncompatibilityMessageJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,11 +53,18 @@ public class GetAccountSettingsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("accountSettings", targetDepth)) {
-                    context.nextToken();
-                    getAccountSettingsResult
-                            .setAccountSettings(AccountSettingsJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -2079445648:
+                        if (fieldName.equals("accountSettings")) {
+                            context.nextToken();
+                            getAccountSettingsResult
+                                    .setAccountSettings(AccountSettingsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
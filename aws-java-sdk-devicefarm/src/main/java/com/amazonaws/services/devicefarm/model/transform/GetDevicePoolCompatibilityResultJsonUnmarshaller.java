@@ -53,19 +53,28 @@ public class GetDevicePoolCompatibilityResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("compatibleDevices", targetDepth)) {
-                    context.nextToken();
-                    getDevicePoolCompatibilityResult
-                            .setCompatibleDevices(new ListUnmarshaller<DevicePoolCompatibilityResult>(
-                                    DevicePoolCompatibilityResultJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("incompatibleDevices", targetDepth)) {
-                    context.nextToken();
-                    getDevicePoolCompatibilityResult
-                            .setIncompatibleDevices(new ListUnmarshaller<DevicePoolCompatibilityResult>(
-                                    DevicePoolCompatibilityResultJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -832941207:
+                        if (fieldName.equals("compatibleDevices")) {
+                            context.nextToken();
+                            getDevicePoolCompatibilityResult
+                                    .setCompatibleDevices(new ListUnmarshaller<DevicePoolCompatibilityResult>(
+                                            DevicePoolCompatibilityResultJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1611950876:
+                        if (fieldName.equals("incompatibleDevices")) {
+                            context.nextToken();
+                            getDevicePoolCompatibilityResult
+                                    .setIncompatibleDevices(new ListUnmarshaller<DevicePoolCompatibilityResult>(
+                                            DevicePoolCompatibilityResultJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,10 +53,17 @@ public class GetDeviceResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("device", targetDepth)) {
-                    context.nextToken();
-                    getDeviceResult.setDevice(DeviceJsonUnmarshaller
-                            .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1335157162:
+                        if (fieldName.equals("device")) {
+                            context.nextToken();
+                            getDeviceResult.setDevice(DeviceJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,10 +53,17 @@ public class GetJobResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("job", targetDepth)) {
-                    context.nextToken();
-                    getJobResult.setJob(JobJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 105405:
+                        if (fieldName.equals("job")) {
+                            context.nextToken();
+                            getJobResult.setJob(JobJsonUnmarshaller.getInstance()
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
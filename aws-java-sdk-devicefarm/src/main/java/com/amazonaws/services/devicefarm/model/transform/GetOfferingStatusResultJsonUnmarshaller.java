@@ -53,26 +53,37 @@ public class GetOfferingStatusResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("current", targetDepth)) {
-                    context.nextToken();
-                    getOfferingStatusResult
-                            .setCurrent(new MapUnmarshaller<String, OfferingStatus>(
-                                    context.getUnmarshaller(String.class),
-                                    OfferingStatusJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextPeriod", targetDepth)) {
-                    context.nextToken();
-                    getOfferingStatusResult
-                            .setNextPeriod(new MapUnmarshaller<String, OfferingStatus>(
-                                    context.getUnmarshaller(String.class),
-                                    OfferingStatusJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    getOfferingStatusResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1126940025:
+                        if (fieldName.equals("current")) {
+                            context.nextToken();
+                            getOfferingStatusResult
+                                    .setCurrent(new MapUnmarshaller<String, OfferingStatus>(
+                                            context.getUnmarshaller(String.class),
+                                            OfferingStatusJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1363760492:
+                        if (fieldName.equals("nextPeriod")) {
+                            context.nextToken();
+                            getOfferingStatusResult
+                                    .setNextPeriod(new MapUnmarshaller<String, OfferingStatus>(
+                                            context.getUnmarshaller(String.class),
+                                            OfferingStatusJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 1206918854:
+                        if (fieldName.equals("nextToken")) {
+                            context.nextToken();
+                            getOfferingStatusResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,10 +53,17 @@ public class GetProjectResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("project", targetDepth)) {
-                    context.nextToken();
-                    getProjectResult.setProject(ProjectJsonUnmarshaller
-                            .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -309310695:
+                        if (fieldName.equals("project")) {
+                            context.nextToken();
+                            getProjectResult.setProject(ProjectJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,10 +53,17 @@ public class GetRunResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("run", targetDepth)) {
-                    context.nextToken();
-                    getRunResult.setRun(RunJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 113291:
+                        if (fieldName.equals("run")) {
+                            context.nextToken();
+                            getRunResult.setRun(RunJsonUnmarshaller.getInstance()
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
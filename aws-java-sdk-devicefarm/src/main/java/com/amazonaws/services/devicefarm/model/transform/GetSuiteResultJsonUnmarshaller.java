@@ -53,10 +53,17 @@ public class GetSuiteResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("suite", targetDepth)) {
-                    context.nextToken();
-                    getSuiteResult.setSuite(SuiteJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 109795064:
+                        if (fieldName.equals("suite")) {
+                            context.nextToken();
+                            getSuiteResult.setSuite(SuiteJsonUnmarshaller.getInstance()
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,10 +53,17 @@ public class GetTestResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("test", targetDepth)) {
-                    context.nextToken();
-                    getTestResult.setTest(TestJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3556498:
+                        if (fieldName.equals("test")) {
+                            context.nextToken();
+                            getTestResult.setTest(TestJsonUnmarshaller.getInstance()
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
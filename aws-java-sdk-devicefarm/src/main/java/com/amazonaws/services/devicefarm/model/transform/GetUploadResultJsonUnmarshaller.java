@@ -53,10 +53,17 @@ public class GetUploadResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("upload", targetDepth)) {
-                    context.nextToken();
-                    getUploadResult.setUpload(UploadJsonUnmarshaller
-                            .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -838595071:
+                        if (fieldName.equals("upload")) {
+                            context.nextToken();
+                            getUploadResult.setUpload(UploadJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class ListArtifactsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("artifacts", targetDepth)) {
-                    context.nextToken();
-                    listArtifactsResult
-                            .setArtifacts(new ListUnmarshaller<Artifact>(
-                                    ArtifactJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listArtifactsResult.setNextToken(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 561951969:
+                        if (fieldName.equals("artifacts")) {
+                            context.nextToken();
+                            listArtifactsResult
+                                    .setArtifacts(new ListUnmarshaller<Artifact>(
+                                            ArtifactJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1206918854:
+                        if (fieldName.equals("nextToken")) {
+                            context.nextToken();
+                            listArtifactsResult.setNextToken(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class ListDevicePoolsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("devicePools", targetDepth)) {
-                    context.nextToken();
-                    listDevicePoolsResult
-                            .setDevicePools(new ListUnmarshaller<DevicePool>(
-                                    DevicePoolJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listDevicePoolsResult.setNextToken(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1556880607:
+                        if (fieldName.equals("devicePools")) {
+                            context.nextToken();
+                            listDevicePoolsResult
+                                    .setDevicePools(new ListUnmarshaller<DevicePool>(
+                                            DevicePoolJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1206918854:
+                        if (fieldName.equals("nextToken")) {
+                            context.nextToken();
+                            listDevicePoolsResult.setNextToken(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
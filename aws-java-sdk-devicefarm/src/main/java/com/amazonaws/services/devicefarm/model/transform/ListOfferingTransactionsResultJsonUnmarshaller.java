@@ -53,17 +53,26 @@ public class ListOfferingTransactionsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("offeringTransactions", targetDepth)) {
-                    context.nextToken();
-                    listOfferingTransactionsResult
-                            .setOfferingTransactions(new ListUnmarshaller<OfferingTransaction>(
-                                    OfferingTransactionJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listOfferingTransactionsResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1450185851:
+                        if (fieldName.equals("offeringTransactions")) {
+                            context.nextToken();
+                            listOfferingTransactionsResult
+                                    .setOfferingTransactions(new ListUnmarshaller<OfferingTransaction>(
+                                            OfferingTransactionJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 1206918854:
+                        if (fieldName.equals("nextToken")) {
+                            context.nextToken();
+                            listOfferingTransactionsResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
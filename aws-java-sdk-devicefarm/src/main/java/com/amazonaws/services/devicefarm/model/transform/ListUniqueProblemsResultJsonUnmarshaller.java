@@ -53,20 +53,29 @@ public class ListUniqueProblemsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("uniqueProblems", targetDepth)) {
-                    context.nextToken();
-                    listUniqueProblemsResult
-                            .setUniqueProblems(new MapUnmarshaller<String, java.util.List<UniqueProblem>>(
-                                    context.getUnmarshaller(String.class),
-                                    new ListUnmarshaller<UniqueProblem>(
-                                            UniqueProblemJsonUnmarshaller
-                                                    .getInstance()))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listUniqueProblemsResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -2081415003:
+                        if (fieldName.equals("uniqueProblems")) {
+                            context.nextToken();
+                            listUniqueProblemsResult
+                                    .setUniqueProblems(new MapUnmarshaller<String, java.util.List<UniqueProblem>>(
+                                            context.getUnmarshaller(String.class),
+                                            new ListUnmarshaller<UniqueProblem>(
+                                                    UniqueProblemJsonUnmarshaller
+                                                            .getInstance()))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1206918854:
+                        if (fieldName.equals("nextToken")) {
+                            context.nextToken();
+                            listUniqueProblemsResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
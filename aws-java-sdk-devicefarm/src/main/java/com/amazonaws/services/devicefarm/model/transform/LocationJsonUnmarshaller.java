@@ -53,15 +53,24 @@ public class LocationJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("latitude", targetDepth)) {
-                    context.nextToken();
-                    location.setLatitude(context.getUnmarshaller(Double.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("longitude", targetDepth)) {
-                    context.nextToken();
-                    location.setLongitude(context.getUnmarshaller(Double.class)
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1439978388:
+                        if (fieldName.equals("latitude")) {
+                            context.nextToken();
+                            location.setLatitude(context.getUnmarshaller(Double.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 137365935:
+                        if (fieldName.equals("longitude")) {
+                            context.nextToken();
+                            location.setLongitude(context.getUnmarshaller(Double.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class MonetaryAmountJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("amount", targetDepth)) {
-                    context.nextToken();
-                    monetaryAmount.setAmount(context.getUnmarshaller(
-                            Double.class).unmarshall(context));
-                }
-                if (context.testExpression("currencyCode", targetDepth)) {
-                    context.nextToken();
-                    monetaryAmount.setCurrencyCode(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1413853096:
+                        if (fieldName.equals("amount")) {
+                            context.nextToken();
+                            monetaryAmount.setAmount(context.getUnmarshaller(
+                                    Double.class).unmarshall(context));
+                        }
+                        break;
+                    case 1004773790:
+                        if (fieldName.equals("currencyCode")) {
+                            context.nextToken();
+                            monetaryAmount.setCurrencyCode(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,25 +53,38 @@ public class OfferingStatusJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("type", targetDepth)) {
-                    context.nextToken();
-                    offeringStatus.setType(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("offering", targetDepth)) {
-                    context.nextToken();
-                    offeringStatus.setOffering(OfferingJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("quantity", targetDepth)) {
-                    context.nextToken();
-                    offeringStatus.setQuantity(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("effectiveOn", targetDepth)) {
-                    context.nextToken();
-                    offeringStatus.setEffectiveOn(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3575610:
+                        if (fieldName.equals("type")) {
+                            context.nextToken();
+                            offeringStatus.setType(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -768536570:
+                        if (fieldName.equals("offering")) {
+                            context.nextToken();
+                            offeringStatus.setOffering(OfferingJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1285004149:
+                        if (fieldName.equals("quantity")) {
+                            context.nextToken();
+                            offeringStatus.setQuantity(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 1670538726:
+                        if (fieldName.equals("effectiveOn")) {
+                            context.nextToken();
+                            offeringStatus.setEffectiveOn(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,26 +53,39 @@ public class OfferingTransactionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("offeringStatus", targetDepth)) {
-                    context.nextToken();
-                    offeringTransaction
-                            .setOfferingStatus(OfferingStatusJsonUnmarshaller
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -558026856:
+                        if (fieldName.equals("offeringStatus")) {
+                            context.nextToken();
+                            offeringTransaction
+                                    .setOfferingStatus(OfferingStatusJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 448240793:
+                        if (fieldName.equals("transactionId")) {
+                            context.nextToken();
+                            offeringTransaction.setTransactionId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 598372071:
+                        if (fieldName.equals("createdOn")) {
+                            context.nextToken();
+                            offeringTransaction.setCreatedOn(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 3059661:
+                        if (fieldName.equals("cost")) {
+                            context.nextToken();
+                            offeringTransaction.setCost(MonetaryAmountJsonUnmarshaller
                                     .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("transactionId", targetDepth)) {
-                    context.nextToken();
-                    offeringTransaction.setTransactionId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("createdOn", targetDepth)) {
-                    context.nextToken();
-                    offeringTransaction.setCreatedOn(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("cost", targetDepth)) {
-                    context.nextToken();
-                    offeringTransaction.setCost(MonetaryAmountJsonUnmarshaller
-                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
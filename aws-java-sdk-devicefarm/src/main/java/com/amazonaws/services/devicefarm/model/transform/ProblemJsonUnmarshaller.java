@@ -52,40 +52,59 @@ public class ProblemJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("run", targetDepth)) {
-                    context.nextToken();
-                    problem.setRun(ProblemDetailJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
-                }
-                if (context.testExpression("job", targetDepth)) {
-                    context.nextToken();
-                    problem.setJob(ProblemDetailJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
-                }
-                if (context.testExpression("suite", targetDepth)) {
-                    context.nextToken();
-                    problem.setSuite(ProblemDetailJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("test", targetDepth)) {
-                    context.nextToken();
-                    problem.setTest(ProblemDetailJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
-                }
-                if (context.testExpression("device", targetDepth)) {
-                    context.nextToken();
-                    problem.setDevice(DeviceJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
-                }
-                if (context.testExpression("result", targetDepth)) {
-                    context.nextToken();
-                    problem.setResult(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("message", targetDepth)) {
-                    context.nextToken();
-                    problem.setMessage(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 113291:
+                        if (fieldName.equals("run")) {
+                            context.nextToken();
+                            problem.setRun(ProblemDetailJsonUnmarshaller.getInstance()
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 105405:
+                        if (fieldName.equals("job")) {
+                            context.nextToken();
+                            problem.setJob(ProblemDetailJsonUnmarshaller.getInstance()
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 109795064:
+                        if (fieldName.equals("suite")) {
+                            context.nextToken();
+                            problem.setSuite(ProblemDetailJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 3556498:
+                        if (fieldName.equals("test")) {
+                            context.nextToken();
+                            problem.setTest(ProblemDetailJsonUnmarshaller.getInstance()
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1335157162:
+                        if (fieldName.equals("device")) {
+                            context.nextToken();
+                            problem.setDevice(DeviceJsonUnmarshaller.getInstance()
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -934426595:
+                        if (fieldName.equals("result")) {
+                            context.nextToken();
+                            problem.setResult(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 954925063:
+                        if (fieldName.equals("message")) {
+                            context.nextToken();
+                            problem.setMessage(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,11 +53,18 @@ public class PurchaseOfferingResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("offeringTransaction", targetDepth)) {
-                    context.nextToken();
-                    purchaseOfferingResult
-                            .setOfferingTransaction(OfferingTransactionJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1061598472:
+                        if (fieldName.equals("offeringTransaction")) {
+                            context.nextToken();
+                            purchaseOfferingResult
+                                    .setOfferingTransaction(OfferingTransactionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -52,25 +52,38 @@ public class RadiosJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("wifi", targetDepth)) {
-                    context.nextToken();
-                    radios.setWifi(context.getUnmarshaller(Boolean.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("bluetooth", targetDepth)) {
-                    context.nextToken();
-                    radios.setBluetooth(context.getUnmarshaller(Boolean.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("nfc", targetDepth)) {
-                    context.nextToken();
-                    radios.setNfc(context.getUnmarshaller(Boolean.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("gps", targetDepth)) {
-                    context.nextToken();
-                    radios.setGps(context.getUnmarshaller(Boolean.class)
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3649301:
+                        if (fieldName.equals("wifi")) {
+                            context.nextToken();
+                            radios.setWifi(context.getUnmarshaller(Boolean.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1968882350:
+                        if (fieldName.equals("bluetooth")) {
+                            context.nextToken();
+                            radios.setBluetooth(context.getUnmarshaller(Boolean.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 108971:
+                        if (fieldName.equals("nfc")) {
+                            context.nextToken();
+                            radios.setNfc(context.getUnmarshaller(Boolean.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 102570:
+                        if (fieldName.equals("gps")) {
+                            context.nextToken();
+                            radios.setGps(context.getUnmarshaller(Boolean.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class RecurringChargeJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("cost", targetDepth)) {
-                    context.nextToken();
-                    recurringCharge.setCost(MonetaryAmountJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("frequency", targetDepth)) {
-                    context.nextToken();
-                    recurringCharge.setFrequency(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3059661:
+                        if (fieldName.equals("cost")) {
+                            context.nextToken();
+                            recurringCharge.setCost(MonetaryAmountJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -70023844:
+                        if (fieldName.equals("frequency")) {
+                            context.nextToken();
+                            recurringCharge.setFrequency(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class ResolutionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("width", targetDepth)) {
-                    context.nextToken();
-                    resolution.setWidth(context.getUnmarshaller(Integer.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("height", targetDepth)) {
-                    context.nextToken();
-                    resolution.setHeight(context.getUnmarshaller(Integer.class)
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 113126854:
+                        if (fieldName.equals("width")) {
+                            context.nextToken();
+                            resolution.setWidth(context.getUnmarshaller(Integer.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1221029593:
+                        if (fieldName.equals("height")) {
+                            context.nextToken();
+                            resolution.setHeight(context.getUnmarshaller(Integer.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -52,20 +52,31 @@ public class RuleJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("attribute", targetDepth)) {
-                    context.nextToken();
-                    rule.setAttribute(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("operator", targetDepth)) {
-                    context.nextToken();
-                    rule.setOperator(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("value", targetDepth)) {
-                    context.nextToken();
-                    rule.setValue(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 13085340:
+                        if (fieldName.equals("attribute")) {
+                            context.nextToken();
+                            rule.setAttribute(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -500553564:
+                        if (fieldName.equals("operator")) {
+                            context.nextToken();
+                            rule.setOperator(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 111972721:
+                        if (fieldName.equals("value")) {
+                            context.nextToken();
+                            rule.setValue(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -52,83 +52,118 @@ public class RunJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("arn", targetDepth)) {
-                    context.nextToken();
-                    run.setArn(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    run.setName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("type", targetDepth)) {
-                    context.nextToken();
-                    run.setType(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("platform", targetDepth)) {
-                    context.nextToken();
-                    run.setPlatform(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("created", targetDepth)) {
-                    context.nextToken();
-                    run.setCreated(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    run.setStatus(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("result", targetDepth)) {
-                    context.nextToken();
-                    run.setResult(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("started", targetDepth)) {
-                    context.nextToken();
-                    run.setStarted(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("stopped", targetDepth)) {
-                    context.nextToken();
-                    run.setStopped(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("counters", targetDepth)) {
-                    context.nextToken();
-                    run.setCounters(CountersJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
-                }
-                if (context.testExpression("message", targetDepth)) {
-                    context.nextToken();
-                    run.setMessage(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("totalJobs", targetDepth)) {
-                    context.nextToken();
-                    run.setTotalJobs(context.getUnmarshaller(Integer.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("completedJobs", targetDepth)) {
-                    context.nextToken();
-                    run.setCompletedJobs(context.getUnmarshaller(Integer.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("billingMethod", targetDepth)) {
-                    context.nextToken();
-                    run.setBillingMethod(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("deviceMinutes", targetDepth)) {
-                    context.nextToken();
-                    run.setDeviceMinutes(DeviceMinutesJsonUnmarshaller
-                            .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 96861:
+                        if (fieldName.equals("arn")) {
+                            context.nextToken();
+                            run.setArn(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 3373707:
+                        if (fieldName.equals("name")) {
+                            context.nextToken();
+                            run.setName(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 3575610:
+                        if (fieldName.equals("type")) {
+                            context.nextToken();
+                            run.setType(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1874684019:
+                        if (fieldName.equals("platform")) {
+                            context.nextToken();
+                            run.setPlatform(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1028554472:
+                        if (fieldName.equals("created")) {
+                            context.nextToken();
+                            run.setCreated(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case -892481550:
+                        if (fieldName.equals("status")) {
+                            context.nextToken();
+                            run.setStatus(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -934426595:
+                        if (fieldName.equals("result")) {
+                            context.nextToken();
+                            run.setResult(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1897185151:
+                        if (fieldName.equals("started")) {
+                            context.nextToken();
+                            run.setStarted(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case -1884319283:
+                        if (fieldName.equals("stopped")) {
+                            context.nextToken();
+                            run.setStopped(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case -372020745:
+                        if (fieldName.equals("counters")) {
+                            context.nextToken();
+                            run.setCounters(CountersJsonUnmarshaller.getInstance()
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 954925063:
+                        if (fieldName.equals("message")) {
+                            context.nextToken();
+                            run.setMessage(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -577574470:
+                        if (fieldName.equals("totalJobs")) {
+                            context.nextToken();
+                            run.setTotalJobs(context.getUnmarshaller(Integer.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 188361025:
+                        if (fieldName.equals("completedJobs")) {
+                            context.nextToken();
+                            run.setCompletedJobs(context.getUnmarshaller(Integer.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1709451460:
+                        if (fieldName.equals("billingMethod")) {
+                            context.nextToken();
+                            run.setBillingMethod(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -53614167:
+                        if (fieldName.equals("deviceMinutes")) {
+                            context.nextToken();
+                            run.setDeviceMinutes(DeviceMinutesJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
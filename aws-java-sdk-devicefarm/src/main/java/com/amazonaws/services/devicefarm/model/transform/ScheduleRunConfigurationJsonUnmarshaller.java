@@ -53,43 +53,62 @@ public class ScheduleRunConfigurationJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("extraDataPackageArn", targetDepth)) {
-                    context.nextToken();
-                    scheduleRunConfiguration.setExtraDataPackageArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("networkProfileArn", targetDepth)) {
-                    context.nextToken();
-                    scheduleRunConfiguration.setNetworkProfileArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("locale", targetDepth)) {
-                    context.nextToken();
-                    scheduleRunConfiguration.setLocale(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("location", targetDepth)) {
-                    context.nextToken();
-                    scheduleRunConfiguration
-                            .setLocation(LocationJsonUnmarshaller.getInstance()
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("radios", targetDepth)) {
-                    context.nextToken();
-                    scheduleRunConfiguration.setRadios(RadiosJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("auxiliaryApps", targetDepth)) {
-                    context.nextToken();
-                    scheduleRunConfiguration
-                            .setAuxiliaryApps(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("billingMethod", targetDepth)) {
-                    context.nextToken();
-                    scheduleRunConfiguration.setBillingMethod(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 317842353:
+                        if (fieldName.equals("extraDataPackageArn")) {
+                            context.nextToken();
+                            scheduleRunConfiguration.setExtraDataPackageArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1515618110:
+                        if (fieldName.equals("networkProfileArn")) {
+                            context.nextToken();
+                            scheduleRunConfiguration.setNetworkProfileArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1097462182:
+                        if (fieldName.equals("locale")) {
+                            context.nextToken();
+                            scheduleRunConfiguration.setLocale(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1901043637:
+                        if (fieldName.equals("location")) {
+                            context.nextToken();
+                            scheduleRunConfiguration
+                                    .setLocation(LocationJsonUnmarshaller.getInstance()
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -938578984:
+                        if (fieldName.equals("radios")) {
+                            context.nextToken();
+                            scheduleRunConfiguration.setRadios(RadiosJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -571425704:
+                        if (fieldName.equals("auxiliaryApps")) {
+                            context.nextToken();
+                            scheduleRunConfiguration
+                                    .setAuxiliaryApps(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1709451460:
+                        if (fieldName.equals("billingMethod")) {
+                            context.nextToken();
+                            scheduleRunConfiguration.setBillingMethod(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
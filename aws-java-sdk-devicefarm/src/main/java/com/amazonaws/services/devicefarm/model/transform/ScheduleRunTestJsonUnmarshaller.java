@@ -53,28 +53,41 @@ public class ScheduleRunTestJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("type", targetDepth)) {
-                    context.nextToken();
-                    scheduleRunTest.setType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("testPackageArn", targetDepth)) {
-                    context.nextToken();
-                    scheduleRunTest.setTestPackageArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("filter", targetDepth)) {
-                    context.nextToken();
-                    scheduleRunTest.setFilter(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("parameters", targetDepth)) {
-                    context.nextToken();
-                    scheduleRunTest
-                            .setParameters(new MapUnmarshaller<String, String>(
-                                    context.getUnmarshaller(String.class),
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3575610:
+                        if (fieldName.equals("type")) {
+                            context.nextToken();
+                            scheduleRunTest.setType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -684707223:
+                        if (fieldName.equals("testPackageArn")) {
+                            context.nextToken();
+                            scheduleRunTest.setTestPackageArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1274492040:
+                        if (fieldName.equals("filter")) {
+                            context.nextToken();
+                            scheduleRunTest.setFilter(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 458736106:
+                        if (fieldName.equals("parameters")) {
+                            context.nextToken();
+                            scheduleRunTest
+                                    .setParameters(new MapUnmarshaller<String, String>(
+                                            context.getUnmarshaller(String.class),
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,16 +53,25 @@ public class UniqueProblemJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("message", targetDepth)) {
-                    context.nextToken();
-                    uniqueProblem.setMessage(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("problems", targetDepth)) {
-                    context.nextToken();
-                    uniqueProblem.setProblems(new ListUnmarshaller<Problem>(
-                            ProblemJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 954925063:
+                        if (fieldName.equals("message")) {
+                            context.nextToken();
+                            uniqueProblem.setMessage(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1005874764:
+                        if (fieldName.equals("problems")) {
+                            context.nextToken();
+                            uniqueProblem.setProblems(new ListUnmarshaller<Problem>(
+                                    ProblemJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,62 +54,87 @@ public class AllocateConnectionOnInterconnectResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ownerAccount", targetDepth)) {
-                    context.nextToken();
-                    allocateConnectionOnInterconnectResult
-                            .setOwnerAccount(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("connectionId", targetDepth)) {
-                    context.nextToken();
-                    allocateConnectionOnInterconnectResult
-                            .setConnectionId(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("connectionName", targetDepth)) {
-                    context.nextToken();
-                    allocateConnectionOnInterconnectResult
-                            .setConnectionName(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("connectionState", targetDepth)) {
-                    context.nextToken();
-                    allocateConnectionOnInterconnectResult
-                            .setConnectionState(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("region", targetDepth)) {
-                    context.nextToken();
-                    allocateConnectionOnInterconnectResult.setRegion(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("location", targetDepth)) {
-                    context.nextToken();
-                    allocateConnectionOnInterconnectResult.setLocation(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("bandwidth", targetDepth)) {
-                    context.nextToken();
-                    allocateConnectionOnInterconnectResult.setBandwidth(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("vlan", targetDepth)) {
-                    context.nextToken();
-                    allocateConnectionOnInterconnectResult
-                            .setVlan(context.getUnmarshaller(Integer.class)
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("partnerName", targetDepth)) {
-                    context.nextToken();
-                    allocateConnectionOnInterconnectResult
-                            .setPartnerName(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("loaIssueTime", targetDepth)) {
-                    context.nextToken();
-                    allocateConnectionOnInterconnectResult
-                            .setLoaIssueTime(context.getUnmarshaller(
-                                    java.util.Date.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1647726586:
+                        if (fieldName.equals("ownerAccount")) {
+                            context.nextToken();
+                            allocateConnectionOnInterconnectResult
+                                    .setOwnerAccount(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1923106969:
+                        if (fieldName.equals("connectionId")) {
+                            context.nextToken();
+                            allocateConnectionOnInterconnectResult
+                                    .setConnectionId(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1270009481:
+                        if (fieldName.equals("connectionName")) {
+                            context.nextToken();
+                            allocateConnectionOnInterconnectResult
+                                    .setConnectionName(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case 720760915:
+                        if (fieldName.equals("connectionState")) {
+                            context.nextToken();
+                            allocateConnectionOnInterconnectResult
+                                    .setConnectionState(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case -934795532:
+                        if (fieldName.equals("region")) {
+                            context.nextToken();
+                            allocateConnectionOnInterconnectResult.setRegion(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1901043637:
+                        if (fieldName.equals("location")) {
+                            context.nextToken();
+                            allocateConnectionOnInterconnectResult.setLocation(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1965768527:
+                        if (fieldName.equals("bandwidth")) {
+                            context.nextToken();
+                            allocateConnectionOnInterconnectResult.setBandwidth(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 3622243:
+                        if (fieldName.equals("vlan")) {
+                            context.nextToken();
+                            allocateConnectionOnInterconnectResult
+                                    .setVlan(context.getUnmarshaller(Integer.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 974530419:
+                        if (fieldName.equals("partnerName")) {
+                            context.nextToken();
+                            allocateConnectionOnInterconnectResult
+                                    .setPartnerName(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case -530276952:
+                        if (fieldName.equals("loaIssueTime")) {
+                            context.nextToken();
+                            allocateConnectionOnInterconnectResult
+                                    .setLoaIssueTime(context.getUnmarshaller(
+                                            java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,95 +54,129 @@ public class AllocatePrivateVirtualInterfaceResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ownerAccount", targetDepth)) {
-                    context.nextToken();
-                    allocatePrivateVirtualInterfaceResult
-                            .setOwnerAccount(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("virtualInterfaceId", targetDepth)) {
-                    context.nextToken();
-                    allocatePrivateVirtualInterfaceResult
-                            .setVirtualInterfaceId(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("location", targetDepth)) {
-                    context.nextToken();
-                    allocatePrivateVirtualInterfaceResult.setLocation(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("connectionId", targetDepth)) {
-                    context.nextToken();
-                    allocatePrivateVirtualInterfaceResult
-                            .setConnectionId(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("virtualInterfaceType", targetDepth)) {
-                    context.nextToken();
-                    allocatePrivateVirtualInterfaceResult
-                            .setVirtualInterfaceType(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("virtualInterfaceName", targetDepth)) {
-                    context.nextToken();
-                    allocatePrivateVirtualInterfaceResult
-                            .setVirtualInterfaceName(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("vlan", targetDepth)) {
-                    context.nextToken();
-                    allocatePrivateVirtualInterfaceResult
-                            .setVlan(context.getUnmarshaller(Integer.class)
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("asn", targetDepth)) {
-                    context.nextToken();
-                    allocatePrivateVirtualInterfaceResult
-                            .setAsn(context.getUnmarshaller(Integer.class)
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("authKey", targetDepth)) {
-                    context.nextToken();
-                    allocatePrivateVirtualInterfaceResult.setAuthKey(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("amazonAddress", targetDepth)) {
-                    context.nextToken();
-                    allocatePrivateVirtualInterfaceResult
-                            .setAmazonAddress(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("customerAddress", targetDepth)) {
-                    context.nextToken();
-                    allocatePrivateVirtualInterfaceResult
-                            .setCustomerAddress(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("virtualInterfaceState", targetDepth)) {
-                    context.nextToken();
-                    allocatePrivateVirtualInterfaceResult
-                            .setVirtualInterfaceState(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("customerRouterConfig", targetDepth)) {
-                    context.nextToken();
-                    allocatePrivateVirtualInterfaceResult
-                            .setCustomerRouterConfig(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("virtualGatewayId", targetDepth)) {
-                    context.nextToken();
-                    allocatePrivateVirtualInterfaceResult
-                            .setVirtualGatewayId(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("routeFilterPrefixes", targetDepth)) {
-                    context.nextToken();
-                    allocatePrivateVirtualInterfaceResult
-                            .setRouteFilterPrefixes(new ListUnmarshaller<RouteFilterPrefix>(
-                                    RouteFilterPrefixJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1647726586:
+                        if (fieldName.equals("ownerAccount")) {
+                            context.nextToken();
+                            allocatePrivateVirtualInterfaceResult
+                                    .setOwnerAccount(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1913106391:
+                        if (fieldName.equals("virtualInterfaceId")) {
+                            context.nextToken();
+                            allocatePrivateVirtualInterfaceResult
+                                    .setVirtualInterfaceId(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1901043637:
+                        if (fieldName.equals("location")) {
+                            context.nextToken();
+                            allocatePrivateVirtualInterfaceResult.setLocation(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1923106969:
+                        if (fieldName.equals("connectionId")) {
+                            context.nextToken();
+                            allocatePrivateVirtualInterfaceResult
+                                    .setConnectionId(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case -248887608:
+                        if (fieldName.equals("virtualInterfaceType")) {
+                            context.nextToken();
+                            allocatePrivateVirtualInterfaceResult
+                                    .setVirtualInterfaceType(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case -249089511:
+                        if (fieldName.equals("virtualInterfaceName")) {
+                            context.nextToken();
+                            allocatePrivateVirtualInterfaceResult
+                                    .setVirtualInterfaceName(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case 3622243:
+                        if (fieldName.equals("vlan")) {
+                            context.nextToken();
+                            allocatePrivateVirtualInterfaceResult
+                                    .setVlan(context.getUnmarshaller(Integer.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 96892:
+                        if (fieldName.equals("asn")) {
+                            context.nextToken();
+                            allocatePrivateVirtualInterfaceResult
+                                    .setAsn(context.getUnmarshaller(Integer.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -646543465:
+                        if (fieldName.equals("authKey")) {
+                            context.nextToken();
+                            allocatePrivateVirtualInterfaceResult.setAuthKey(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -2027019952:
+                        if (fieldName.equals("amazonAddress")) {
+                            context.nextToken();
+                            allocatePrivateVirtualInterfaceResult
+                                    .setAmazonAddress(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case 236371510:
+                        if (fieldName.equals("customerAddress")) {
+                            context.nextToken();
+                            allocatePrivateVirtualInterfaceResult
+                                    .setCustomerAddress(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case 873332419:
+                        if (fieldName.equals("virtualInterfaceState")) {
+                            context.nextToken();
+                            allocatePrivateVirtualInterfaceResult
+                                    .setVirtualInterfaceState(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1373658391:
+                        if (fieldName.equals("customerRouterConfig")) {
+                            context.nextToken();
+                            allocatePrivateVirtualInterfaceResult
+                                    .setCustomerRouterConfig(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1595569228:
+                        if (fieldName.equals("virtualGatewayId")) {
+                            context.nextToken();
+                            allocatePrivateVirtualInterfaceResult
+                                    .setVirtualGatewayId(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1008605951:
+                        if (fieldName.equals("routeFilterPrefixes")) {
+                            context.nextToken();
+                            allocatePrivateVirtualInterfaceResult
+                                    .setRouteFilterPrefixes(new ListUnmarshaller<RouteFilterPrefix>(
+                                            RouteFilterPrefixJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,10 +53,17 @@ public class ConfirmConnectionResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("connectionState", targetDepth)) {
-                    context.nextToken();
-                    confirmConnectionResult.setConnectionState(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 720760915:
+                        if (fieldName.equals("connectionState")) {
+                            context.nextToken();
+                            confirmConnectionResult.setConnectionState(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
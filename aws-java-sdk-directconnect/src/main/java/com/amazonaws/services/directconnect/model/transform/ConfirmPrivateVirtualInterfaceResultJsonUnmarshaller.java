@@ -54,12 +54,18 @@ public class ConfirmPrivateVirtualInterfaceResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context
-                        .testExpression("virtualInterfaceState", targetDepth)) {
-                    context.nextToken();
-                    confirmPrivateVirtualInterfaceResult
-                            .setVirtualInterfaceState(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 873332419:
+                        if (fieldName.equals("virtualInterfaceState")) {
+                            context.nextToken();
+                            confirmPrivateVirtualInterfaceResult
+                                    .setVirtualInterfaceState(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,56 +53,81 @@ public class CreateConnectionResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ownerAccount", targetDepth)) {
-                    context.nextToken();
-                    createConnectionResult.setOwnerAccount(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("connectionId", targetDepth)) {
-                    context.nextToken();
-                    createConnectionResult.setConnectionId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("connectionName", targetDepth)) {
-                    context.nextToken();
-                    createConnectionResult.setConnectionName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("connectionState", targetDepth)) {
-                    context.nextToken();
-                    createConnectionResult.setConnectionState(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("region", targetDepth)) {
-                    context.nextToken();
-                    createConnectionResult.setRegion(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("location", targetDepth)) {
-                    context.nextToken();
-                    createConnectionResult.setLocation(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("bandwidth", targetDepth)) {
-                    context.nextToken();
-                    createConnectionResult.setBandwidth(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("vlan", targetDepth)) {
-                    context.nextToken();
-                    createConnectionResult.setVlan(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("partnerName", targetDepth)) {
-                    context.nextToken();
-                    createConnectionResult.setPartnerName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("loaIssueTime", targetDepth)) {
-                    context.nextToken();
-                    createConnectionResult.setLoaIssueTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1647726586:
+                        if (fieldName.equals("ownerAccount")) {
+                            context.nextToken();
+                            createConnectionResult.setOwnerAccount(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1923106969:
+                        if (fieldName.equals("connectionId")) {
+                            context.nextToken();
+                            createConnectionResult.setConnectionId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1270009481:
+                        if (fieldName.equals("connectionName")) {
+                            context.nextToken();
+                            createConnectionResult.setConnectionName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 720760915:
+                        if (fieldName.equals("connectionState")) {
+                            context.nextToken();
+                            createConnectionResult.setConnectionState(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -934795532:
+                        if (fieldName.equals("region")) {
+                            context.nextToken();
+                            createConnectionResult.setRegion(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1901043637:
+                        if (fieldName.equals("location")) {
+                            context.nextToken();
+                            createConnectionResult.setLocation(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1965768527:
+                        if (fieldName.equals("bandwidth")) {
+                            context.nextToken();
+                            createConnectionResult.setBandwidth(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 3622243:
+                        if (fieldName.equals("vlan")) {
+                            context.nextToken();
+                            createConnectionResult.setVlan(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 974530419:
+                        if (fieldName.equals("partnerName")) {
+                            context.nextToken();
+                            createConnectionResult.setPartnerName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -530276952:
+                        if (fieldName.equals("loaIssueTime")) {
+                            context.nextToken();
+                            createConnectionResult.setLoaIssueTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,41 +53,60 @@ public class CreateInterconnectResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("interconnectId", targetDepth)) {
-                    context.nextToken();
-                    createInterconnectResult.setInterconnectId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("interconnectName", targetDepth)) {
-                    context.nextToken();
-                    createInterconnectResult.setInterconnectName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("interconnectState", targetDepth)) {
-                    context.nextToken();
-                    createInterconnectResult.setInterconnectState(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("region", targetDepth)) {
-                    context.nextToken();
-                    createInterconnectResult.setRegion(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("location", targetDepth)) {
-                    context.nextToken();
-                    createInterconnectResult.setLocation(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("bandwidth", targetDepth)) {
-                    context.nextToken();
-                    createInterconnectResult.setBandwidth(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("loaIssueTime", targetDepth)) {
-                    context.nextToken();
-                    createInterconnectResult.setLoaIssueTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 19677769:
+                        if (fieldName.equals("interconnectId")) {
+                            context.nextToken();
+                            createInterconnectResult.setInterconnectId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1730616377:
+                        if (fieldName.equals("interconnectName")) {
+                            context.nextToken();
+                            createInterconnectResult.setInterconnectName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2114672803:
+                        if (fieldName.equals("interconnectState")) {
+                            context.nextToken();
+                            createInterconnectResult.setInterconnectState(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -934795532:
+                        if (fieldName.equals("region")) {
+                            context.nextToken();
+                            createInterconnectResult.setRegion(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1901043637:
+                        if (fieldName.equals("location")) {
+                            context.nextToken();
+                            createInterconnectResult.setLocation(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1965768527:
+                        if (fieldName.equals("bandwidth")) {
+                            context.nextToken();
+                            createInterconnectResult.setBandwidth(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -530276952:
+                        if (fieldName.equals("loaIssueTime")) {
+                            context.nextToken();
+                            createInterconnectResult.setLoaIssueTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
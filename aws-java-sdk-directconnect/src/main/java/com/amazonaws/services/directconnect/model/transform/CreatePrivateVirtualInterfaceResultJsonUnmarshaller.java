@@ -54,93 +54,127 @@ public class CreatePrivateVirtualInterfaceResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ownerAccount", targetDepth)) {
-                    context.nextToken();
-                    createPrivateVirtualInterfaceResult.setOwnerAccount(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("virtualInterfaceId", targetDepth)) {
-                    context.nextToken();
-                    createPrivateVirtualInterfaceResult
-                            .setVirtualInterfaceId(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("location", targetDepth)) {
-                    context.nextToken();
-                    createPrivateVirtualInterfaceResult.setLocation(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("connectionId", targetDepth)) {
-                    context.nextToken();
-                    createPrivateVirtualInterfaceResult.setConnectionId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("virtualInterfaceType", targetDepth)) {
-                    context.nextToken();
-                    createPrivateVirtualInterfaceResult
-                            .setVirtualInterfaceType(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("virtualInterfaceName", targetDepth)) {
-                    context.nextToken();
-                    createPrivateVirtualInterfaceResult
-                            .setVirtualInterfaceName(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("vlan", targetDepth)) {
-                    context.nextToken();
-                    createPrivateVirtualInterfaceResult
-                            .setVlan(context.getUnmarshaller(Integer.class)
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("asn", targetDepth)) {
-                    context.nextToken();
-                    createPrivateVirtualInterfaceResult
-                            .setAsn(context.getUnmarshaller(Integer.class)
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("authKey", targetDepth)) {
-                    context.nextToken();
-                    createPrivateVirtualInterfaceResult.setAuthKey(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("amazonAddress", targetDepth)) {
-                    context.nextToken();
-                    createPrivateVirtualInterfaceResult
-                            .setAmazonAddress(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("customerAddress", targetDepth)) {
-                    context.nextToken();
-                    createPrivateVirtualInterfaceResult
-                            .setCustomerAddress(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("virtualInterfaceState", targetDepth)) {
-                    context.nextToken();
-                    createPrivateVirtualInterfaceResult
-                            .setVirtualInterfaceState(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("customerRouterConfig", targetDepth)) {
-                    context.nextToken();
-                    createPrivateVirtualInterfaceResult
-                            .setCustomerRouterConfig(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("virtualGatewayId", targetDepth)) {
-                    context.nextToken();
-                    createPrivateVirtualInterfaceResult
-                            .setVirtualGatewayId(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("routeFilterPrefixes", targetDepth)) {
-                    context.nextToken();
-                    createPrivateVirtualInterfaceResult
-                            .setRouteFilterPrefixes(new ListUnmarshaller<RouteFilterPrefix>(
-                                    RouteFilterPrefixJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1647726586:
+                        if (fieldName.equals("ownerAccount")) {
+                            context.nextToken();
+                            createPrivateVirtualInterfaceResult.setOwnerAccount(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1913106391:
+                        if (fieldName.equals("virtualInterfaceId")) {
+                            context.nextToken();
+                            createPrivateVirtualInterfaceResult
+                                    .setVirtualInterfaceId(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1901043637:
+                        if (fieldName.equals("location")) {
+                            context.nextToken();
+                            createPrivateVirtualInterfaceResult.setLocation(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1923106969:
+                        if (fieldName.equals("connectionId")) {
+                            context.nextToken();
+                            createPrivateVirtualInterfaceResult.setConnectionId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -248887608:
+                        if (fieldName.equals("virtualInterfaceType")) {
+                            context.nextToken();
+                            createPrivateVirtualInterfaceResult
+                                    .setVirtualInterfaceType(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case -249089511:
+                        if (fieldName.equals("virtualInterfaceName")) {
+                            context.nextToken();
+                            createPrivateVirtualInterfaceResult
+                                    .setVirtualInterfaceName(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case 3622243:
+                        if (fieldName.equals("vlan")) {
+                            context.nextToken();
+                            createPrivateVirtualInterfaceResult
+                                    .setVlan(context.getUnmarshaller(Integer.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 96892:
+                        if (fieldName.equals("asn")) {
+                            context.nextToken();
+                            createPrivateVirtualInterfaceResult
+                                    .setAsn(context.getUnmarshaller(Integer.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -646543465:
+                        if (fieldName.equals("authKey")) {
+                            context.nextToken();
+                            createPrivateVirtualInterfaceResult.setAuthKey(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -2027019952:
+                        if (fieldName.equals("amazonAddress")) {
+                            context.nextToken();
+                            createPrivateVirtualInterfaceResult
+                                    .setAmazonAddress(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case 236371510:
+                        if (fieldName.equals("customerAddress")) {
+                            context.nextToken();
+                            createPrivateVirtualInterfaceResult
+                                    .setCustomerAddress(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case 873332419:
+                        if (fieldName.equals("virtualInterfaceState")) {
+                            context.nextToken();
+                            createPrivateVirtualInterfaceResult
+                                    .setVirtualInterfaceState(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1373658391:
+                        if (fieldName.equals("customerRouterConfig")) {
+                            context.nextToken();
+                            createPrivateVirtualInterfaceResult
+                                    .setCustomerRouterConfig(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1595569228:
+                        if (fieldName.equals("virtualGatewayId")) {
+                            context.nextToken();
+                            createPrivateVirtualInterfaceResult
+                                    .setVirtualGatewayId(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1008605951:
+                        if (fieldName.equals("routeFilterPrefixes")) {
+                            context.nextToken();
+                            createPrivateVirtualInterfaceResult
+                                    .setRouteFilterPrefixes(new ListUnmarshaller<RouteFilterPrefix>(
+                                            RouteFilterPrefixJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
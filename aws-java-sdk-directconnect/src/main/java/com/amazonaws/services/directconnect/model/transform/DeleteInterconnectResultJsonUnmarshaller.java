@@ -53,10 +53,17 @@ public class DeleteInterconnectResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("interconnectState", targetDepth)) {
-                    context.nextToken();
-                    deleteInterconnectResult.setInterconnectState(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2114672803:
+                        if (fieldName.equals("interconnectState")) {
+                            context.nextToken();
+                            deleteInterconnectResult.setInterconnectState(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
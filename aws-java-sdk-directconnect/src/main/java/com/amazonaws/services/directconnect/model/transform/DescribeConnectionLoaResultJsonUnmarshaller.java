@@ -53,10 +53,17 @@ public class DescribeConnectionLoaResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("loa", targetDepth)) {
-                    context.nextToken();
-                    describeConnectionLoaResult.setLoa(LoaJsonUnmarshaller
-                            .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 107326:
+                        if (fieldName.equals("loa")) {
+                            context.nextToken();
+                            describeConnectionLoaResult.setLoa(LoaJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
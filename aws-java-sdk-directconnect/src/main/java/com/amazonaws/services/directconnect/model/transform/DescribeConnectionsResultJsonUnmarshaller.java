@@ -53,12 +53,19 @@ public class DescribeConnectionsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("connections", targetDepth)) {
-                    context.nextToken();
-                    describeConnectionsResult
-                            .setConnections(new ListUnmarshaller<Connection>(
-                                    ConnectionJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1724603733:
+                        if (fieldName.equals("connections")) {
+                            context.nextToken();
+                            describeConnectionsResult
+                                    .setConnections(new ListUnmarshaller<Connection>(
+                                            ConnectionJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
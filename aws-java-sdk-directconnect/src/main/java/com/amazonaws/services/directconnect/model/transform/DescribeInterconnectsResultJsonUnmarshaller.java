@@ -53,12 +53,19 @@ public class DescribeInterconnectsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("interconnects", targetDepth)) {
-                    context.nextToken();
-                    describeInterconnectsResult
-                            .setInterconnects(new ListUnmarshaller<Interconnect>(
-                                    InterconnectJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -553554523:
+                        if (fieldName.equals("interconnects")) {
+                            context.nextToken();
+                            describeInterconnectsResult
+                                    .setInterconnects(new ListUnmarshaller<Interconnect>(
+                                            InterconnectJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,12 +53,19 @@ public class DescribeLocationsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("locations", targetDepth)) {
-                    context.nextToken();
-                    describeLocationsResult
-                            .setLocations(new ListUnmarshaller<Location>(
-                                    LocationJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1197189282:
+                        if (fieldName.equals("locations")) {
+                            context.nextToken();
+                            describeLocationsResult
+                                    .setLocations(new ListUnmarshaller<Location>(
+                                            LocationJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
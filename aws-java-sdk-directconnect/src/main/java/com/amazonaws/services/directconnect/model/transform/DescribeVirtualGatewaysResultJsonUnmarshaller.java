@@ -53,12 +53,19 @@ public class DescribeVirtualGatewaysResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("virtualGateways", targetDepth)) {
-                    context.nextToken();
-                    describeVirtualGatewaysResult
-                            .setVirtualGateways(new ListUnmarshaller<VirtualGateway>(
-                                    VirtualGatewayJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1852585254:
+                        if (fieldName.equals("virtualGateways")) {
+                            context.nextToken();
+                            describeVirtualGatewaysResult
+                                    .setVirtualGateways(new ListUnmarshaller<VirtualGateway>(
+                                            VirtualGatewayJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,12 +53,19 @@ public class DescribeVirtualInterfacesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("virtualInterfaces", targetDepth)) {
-                    context.nextToken();
-                    describeVirtualInterfacesResult
-                            .setVirtualInterfaces(new ListUnmarshaller<VirtualInterface>(
-                                    VirtualInterfaceJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -477355067:
+                        if (fieldName.equals("virtualInterfaces")) {
+                            context.nextToken();
+                            describeVirtualInterfacesResult
+                                    .setVirtualInterfaces(new ListUnmarshaller<VirtualInterface>(
+                                            VirtualInterfaceJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -52,15 +52,24 @@ public class LoaJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("loaContent", targetDepth)) {
-                    context.nextToken();
-                    loa.setLoaContent(context.getUnmarshaller(
-                            java.nio.ByteBuffer.class).unmarshall(context));
-                }
-                if (context.testExpression("loaContentType", targetDepth)) {
-                    context.nextToken();
-                    loa.setLoaContentType(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1357490011:
+                        if (fieldName.equals("loaContent")) {
+                            context.nextToken();
+                            loa.setLoaContent(context.getUnmarshaller(
+                                    java.nio.ByteBuffer.class).unmarshall(context));
+                        }
+                        break;
+                    case -353860299:
+                        if (fieldName.equals("loaContentType")) {
+                            context.nextToken();
+                            loa.setLoaContentType(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
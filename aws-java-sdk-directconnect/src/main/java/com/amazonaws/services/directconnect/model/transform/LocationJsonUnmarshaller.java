@@ -53,15 +53,24 @@ public class LocationJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("locationCode", targetDepth)) {
-                    context.nextToken();
-                    location.setLocationCode(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("locationName", targetDepth)) {
-                    context.nextToken();
-                    location.setLocationName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -58794174:
+                        if (fieldName.equals("locationCode")) {
+                            context.nextToken();
+                            location.setLocationCode(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -58479648:
+                        if (fieldName.equals("locationName")) {
+                            context.nextToken();
+                            location.setLocationName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
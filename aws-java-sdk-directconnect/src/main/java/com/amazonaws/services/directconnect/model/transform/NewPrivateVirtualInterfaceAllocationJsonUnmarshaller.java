@@ -54,40 +54,57 @@ public class NewPrivateVirtualInterfaceAllocationJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("virtualInterfaceName", targetDepth)) {
-                    context.nextToken();
-                    newPrivateVirtualInterfaceAllocation
-                            .setVirtualInterfaceName(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("vlan", targetDepth)) {
-                    context.nextToken();
-                    newPrivateVirtualInterfaceAllocation
-                            .setVlan(context.getUnmarshaller(Integer.class)
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("asn", targetDepth)) {
-                    context.nextToken();
-                    newPrivateVirtualInterfaceAllocation
-                            .setAsn(context.getUnmarshaller(Integer.class)
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("authKey", targetDepth)) {
-                    context.nextToken();
-                    newPrivateVirtualInterfaceAllocation.setAuthKey(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("amazonAddress", targetDepth)) {
-                    context.nextToken();
-                    newPrivateVirtualInterfaceAllocation
-                            .setAmazonAddress(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("customerAddress", targetDepth)) {
-                    context.nextToken();
-                    newPrivateVirtualInterfaceAllocation
-                            .setCustomerAddress(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -249089511:
+                        if (fieldName.equals("virtualInterfaceName")) {
+                            context.nextToken();
+                            newPrivateVirtualInterfaceAllocation
+                                    .setVirtualInterfaceName(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case 3622243:
+                        if (fieldName.equals("vlan")) {
+                            context.nextToken();
+                            newPrivateVirtualInterfaceAllocation
+                                    .setVlan(context.getUnmarshaller(Integer.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 96892:
+                        if (fieldName.equals("asn")) {
+                            context.nextToken();
+                            newPrivateVirtualInterfaceAllocation
+                                    .setAsn(context.getUnmarshaller(Integer.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -646543465:
+                        if (fieldName.equals("authKey")) {
+                            context.nextToken();
+                            newPrivateVirtualInterfaceAllocation.setAuthKey(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -2027019952:
+                        if (fieldName.equals("amazonAddress")) {
+                            context.nextToken();
+                            newPrivateVirtualInterfaceAllocation
+                                    .setAmazonAddress(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case 236371510:
+                        if (fieldName.equals("customerAddress")) {
+                            context.nextToken();
+                            newPrivateVirtualInterfaceAllocation
+                                    .setCustomerAddress(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,10 +53,17 @@ public class RouteFilterPrefixJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("cidr", targetDepth)) {
-                    context.nextToken();
-                    routeFilterPrefix.setCidr(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3053428:
+                        if (fieldName.equals("cidr")) {
+                            context.nextToken();
+                            routeFilterPrefix.setCidr(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class VirtualGatewayJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("virtualGatewayId", targetDepth)) {
-                    context.nextToken();
-                    virtualGateway.setVirtualGatewayId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("virtualGatewayState", targetDepth)) {
-                    context.nextToken();
-                    virtualGateway.setVirtualGatewayState(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1595569228:
+                        if (fieldName.equals("virtualGatewayId")) {
+                            context.nextToken();
+                            virtualGateway.setVirtualGatewayId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1189997736:
+                        if (fieldName.equals("virtualGatewayState")) {
+                            context.nextToken();
+                            virtualGateway.setVirtualGatewayState(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,21 +53,32 @@ public class ComputerJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ComputerId", targetDepth)) {
-                    context.nextToken();
-                    computer.setComputerId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ComputerName", targetDepth)) {
-                    context.nextToken();
-                    computer.setComputerName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ComputerAttributes", targetDepth)) {
-                    context.nextToken();
-                    computer.setComputerAttributes(new ListUnmarshaller<Attribute>(
-                            AttributeJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1723337142:
+                        if (fieldName.equals("ComputerId")) {
+                            context.nextToken();
+                            computer.setComputerId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1730233242:
+                        if (fieldName.equals("ComputerName")) {
+                            context.nextToken();
+                            computer.setComputerName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -90645774:
+                        if (fieldName.equals("ComputerAttributes")) {
+                            context.nextToken();
+                            computer.setComputerAttributes(new ListUnmarshaller<Attribute>(
+                                    AttributeJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,22 +53,33 @@ public class ConditionalForwarderJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RemoteDomainName", targetDepth)) {
-                    context.nextToken();
-                    conditionalForwarder.setRemoteDomainName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DnsIpAddrs", targetDepth)) {
-                    context.nextToken();
-                    conditionalForwarder
-                            .setDnsIpAddrs(new ListUnmarshaller<String>(context
-                                    .getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("ReplicationScope", targetDepth)) {
-                    context.nextToken();
-                    conditionalForwarder.setReplicationScope(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1309885835:
+                        if (fieldName.equals("RemoteDomainName")) {
+                            context.nextToken();
+                            conditionalForwarder.setRemoteDomainName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 463045746:
+                        if (fieldName.equals("DnsIpAddrs")) {
+                            context.nextToken();
+                            conditionalForwarder
+                                    .setDnsIpAddrs(new ListUnmarshaller<String>(context
+                                            .getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -345929208:
+                        if (fieldName.equals("ReplicationScope")) {
+                            context.nextToken();
+                            conditionalForwarder.setReplicationScope(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class CreateAliasResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DirectoryId", targetDepth)) {
-                    context.nextToken();
-                    createAliasResult.setDirectoryId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Alias", targetDepth)) {
-                    context.nextToken();
-                    createAliasResult.setAlias(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 41674824:
+                        if (fieldName.equals("DirectoryId")) {
+                            context.nextToken();
+                            createAliasResult.setDirectoryId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 63350320:
+                        if (fieldName.equals("Alias")) {
+                            context.nextToken();
+                            createAliasResult.setAlias(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
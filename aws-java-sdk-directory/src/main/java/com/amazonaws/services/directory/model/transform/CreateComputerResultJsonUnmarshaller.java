@@ -53,10 +53,17 @@ public class CreateComputerResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Computer", targetDepth)) {
-                    context.nextToken();
-                    createComputerResult.setComputer(ComputerJsonUnmarshaller
-                            .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -534518981:
+                        if (fieldName.equals("Computer")) {
+                            context.nextToken();
+                            createComputerResult.setComputer(ComputerJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
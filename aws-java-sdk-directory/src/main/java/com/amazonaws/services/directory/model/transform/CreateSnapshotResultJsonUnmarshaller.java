@@ -53,10 +53,17 @@ public class CreateSnapshotResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SnapshotId", targetDepth)) {
-                    context.nextToken();
-                    createSnapshotResult.setSnapshotId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 879647263:
+                        if (fieldName.equals("SnapshotId")) {
+                            context.nextToken();
+                            createSnapshotResult.setSnapshotId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,10 +53,17 @@ public class DeleteTrustResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TrustId", targetDepth)) {
-                    context.nextToken();
-                    deleteTrustResult.setTrustId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 616212851:
+                        if (fieldName.equals("TrustId")) {
+                            context.nextToken();
+                            deleteTrustResult.setTrustId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
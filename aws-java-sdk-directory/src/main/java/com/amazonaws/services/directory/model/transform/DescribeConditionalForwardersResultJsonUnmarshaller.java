@@ -54,13 +54,19 @@ public class DescribeConditionalForwardersResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context
-                        .testExpression("ConditionalForwarders", targetDepth)) {
-                    context.nextToken();
-                    describeConditionalForwardersResult
-                            .setConditionalForwarders(new ListUnmarshaller<ConditionalForwarder>(
-                                    ConditionalForwarderJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -881582201:
+                        if (fieldName.equals("ConditionalForwarders")) {
+                            context.nextToken();
+                            describeConditionalForwardersResult
+                                    .setConditionalForwarders(new ListUnmarshaller<ConditionalForwarder>(
+                                            ConditionalForwarderJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,18 +53,26 @@ public class DescribeDirectoriesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context
-                        .testExpression("DirectoryDescriptions", targetDepth)) {
-                    context.nextToken();
-                    describeDirectoriesResult
-                            .setDirectoryDescriptions(new ListUnmarshaller<DirectoryDescription>(
-                                    DirectoryDescriptionJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeDirectoriesResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1017871644:
+                        if (fieldName.equals("DirectoryDescriptions")) {
+                            context.nextToken();
+                            describeDirectoriesResult
+                                    .setDirectoryDescriptions(new ListUnmarshaller<DirectoryDescription>(
+                                            DirectoryDescriptionJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1084080474:
+                        if (fieldName.equals("NextToken")) {
+                            context.nextToken();
+                            describeDirectoriesResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,12 +53,19 @@ public class DescribeEventTopicsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("EventTopics", targetDepth)) {
-                    context.nextToken();
-                    describeEventTopicsResult
-                            .setEventTopics(new ListUnmarshaller<EventTopic>(
-                                    EventTopicJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1798964286:
+                        if (fieldName.equals("EventTopics")) {
+                            context.nextToken();
+                            describeEventTopicsResult
+                                    .setEventTopics(new ListUnmarshaller<EventTopic>(
+                                            EventTopicJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class DescribeSnapshotsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Snapshots", targetDepth)) {
-                    context.nextToken();
-                    describeSnapshotsResult
-                            .setSnapshots(new ListUnmarshaller<Snapshot>(
-                                    SnapshotJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeSnapshotsResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -2049834225:
+                        if (fieldName.equals("Snapshots")) {
+                            context.nextToken();
+                            describeSnapshotsResult
+                                    .setSnapshots(new ListUnmarshaller<Snapshot>(
+                                            SnapshotJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1084080474:
+                        if (fieldName.equals("NextToken")) {
+                            context.nextToken();
+                            describeSnapshotsResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,43 +54,60 @@ public class DirectoryConnectSettingsDescriptionJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("VpcId", targetDepth)) {
-                    context.nextToken();
-                    directoryConnectSettingsDescription.setVpcId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SubnetIds", targetDepth)) {
-                    context.nextToken();
-                    directoryConnectSettingsDescription
-                            .setSubnetIds(new ListUnmarshaller<String>(context
-                                    .getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("CustomerUserName", targetDepth)) {
-                    context.nextToken();
-                    directoryConnectSettingsDescription
-                            .setCustomerUserName(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("SecurityGroupId", targetDepth)) {
-                    context.nextToken();
-                    directoryConnectSettingsDescription
-                            .setSecurityGroupId(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("AvailabilityZones", targetDepth)) {
-                    context.nextToken();
-                    directoryConnectSettingsDescription
-                            .setAvailabilityZones(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("ConnectIps", targetDepth)) {
-                    context.nextToken();
-                    directoryConnectSettingsDescription
-                            .setConnectIps(new ListUnmarshaller<String>(context
-                                    .getUnmarshaller(String.class))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 82856900:
+                        if (fieldName.equals("VpcId")) {
+                            context.nextToken();
+                            directoryConnectSettingsDescription.setVpcId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1917427205:
+                        if (fieldName.equals("SubnetIds")) {
+                            context.nextToken();
+                            directoryConnectSettingsDescription
+                                    .setSubnetIds(new ListUnmarshaller<String>(context
+                                            .getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1153145068:
+                        if (fieldName.equals("CustomerUserName")) {
+                            context.nextToken();
+                            directoryConnectSettingsDescription
+                                    .setCustomerUserName(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1016958074:
+                        if (fieldName.equals("SecurityGroupId")) {
+                            context.nextToken();
+                            directoryConnectSettingsDescription
+                                    .setSecurityGroupId(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case -739594868:
+                        if (fieldName.equals("AvailabilityZones")) {
+                            context.nextToken();
+                            directoryConnectSettingsDescription
+                                    .setAvailabilityZones(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1217782530:
+                        if (fieldName.equals("ConnectIps")) {
+                            context.nextToken();
+                            directoryConnectSettingsDescription
+                                    .setConnectIps(new ListUnmarshaller<String>(context
+                                            .getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,29 +53,42 @@ public class DirectoryConnectSettingsJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("VpcId", targetDepth)) {
-                    context.nextToken();
-                    directoryConnectSettings.setVpcId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("SubnetIds", targetDepth)) {
-                    context.nextToken();
-                    directoryConnectSettings
-                            .setSubnetIds(new ListUnmarshaller<String>(context
-                                    .getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("CustomerDnsIps", targetDepth)) {
-                    context.nextToken();
-                    directoryConnectSettings
-                            .setCustomerDnsIps(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("CustomerUserName", targetDepth)) {
-                    context.nextToken();
-                    directoryConnectSettings.setCustomerUserName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 82856900:
+                        if (fieldName.equals("VpcId")) {
+                            context.nextToken();
+                            directoryConnectSettings.setVpcId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1917427205:
+                        if (fieldName.equals("SubnetIds")) {
+                            context.nextToken();
+                            directoryConnectSettings
+                                    .setSubnetIds(new ListUnmarshaller<String>(context
+                                            .getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 486635489:
+                        if (fieldName.equals("CustomerDnsIps")) {
+                            context.nextToken();
+                            directoryConnectSettings
+                                    .setCustomerDnsIps(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1153145068:
+                        if (fieldName.equals("CustomerUserName")) {
+                            context.nextToken();
+                            directoryConnectSettings.setCustomerUserName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,102 +53,142 @@ public class DirectoryDescriptionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DirectoryId", targetDepth)) {
-                    context.nextToken();
-                    directoryDescription.setDirectoryId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    directoryDescription.setName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ShortName", targetDepth)) {
-                    context.nextToken();
-                    directoryDescription.setShortName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Size", targetDepth)) {
-                    context.nextToken();
-                    directoryDescription.setSize(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Alias", targetDepth)) {
-                    context.nextToken();
-                    directoryDescription.setAlias(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("AccessUrl", targetDepth)) {
-                    context.nextToken();
-                    directoryDescription.setAccessUrl(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Description", targetDepth)) {
-                    context.nextToken();
-                    directoryDescription.setDescription(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DnsIpAddrs", targetDepth)) {
-                    context.nextToken();
-                    directoryDescription
-                            .setDnsIpAddrs(new ListUnmarshaller<String>(context
-                                    .getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("Stage", targetDepth)) {
-                    context.nextToken();
-                    directoryDescription.setStage(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("LaunchTime", targetDepth)) {
-                    context.nextToken();
-                    directoryDescription.setLaunchTime(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("StageLastUpdatedDateTime",
-                        targetDepth)) {
-                    context.nextToken();
-                    directoryDescription.setStageLastUpdatedDateTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("Type", targetDepth)) {
-                    context.nextToken();
-                    directoryDescription.setType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("VpcSettings", targetDepth)) {
-                    context.nextToken();
-                    directoryDescription
-                            .setVpcSettings(DirectoryVpcSettingsDescriptionJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ConnectSettings", targetDepth)) {
-                    context.nextToken();
-                    directoryDescription
-                            .setConnectSettings(DirectoryConnectSettingsDescriptionJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("RadiusSettings", targetDepth)) {
-                    context.nextToken();
-                    directoryDescription
-                            .setRadiusSettings(RadiusSettingsJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("RadiusStatus", targetDepth)) {
-                    context.nextToken();
-                    directoryDescription.setRadiusStatus(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StageReason", targetDepth)) {
-                    context.nextToken();
-                    directoryDescription.setStageReason(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SsoEnabled", targetDepth)) {
-                    context.nextToken();
-                    directoryDescription.setSsoEnabled(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 41674824:
+                        if (fieldName.equals("DirectoryId")) {
+                            context.nextToken();
+                            directoryDescription.setDirectoryId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            directoryDescription.setName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -24251129:
+                        if (fieldName.equals("ShortName")) {
+                            context.nextToken();
+                            directoryDescription.setShortName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2577441:
+                        if (fieldName.equals("Size")) {
+                            context.nextToken();
+                            directoryDescription.setSize(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 63350320:
+                        if (fieldName.equals("Alias")) {
+                            context.nextToken();
+                            directoryDescription.setAlias(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -111080117:
+                        if (fieldName.equals("AccessUrl")) {
+                            context.nextToken();
+                            directoryDescription.setAccessUrl(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -56677412:
+                        if (fieldName.equals("Description")) {
+                            context.nextToken();
+                            directoryDescription.setDescription(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 463045746:
+                        if (fieldName.equals("DnsIpAddrs")) {
+                            context.nextToken();
+                            directoryDescription
+                                    .setDnsIpAddrs(new ListUnmarshaller<String>(context
+                                            .getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 80204510:
+                        if (fieldName.equals("Stage")) {
+                            context.nextToken();
+                            directoryDescription.setStage(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1755073216:
+                        if (fieldName.equals("LaunchTime")) {
+                            context.nextToken();
+                            directoryDescription.setLaunchTime(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case -1430647742:
+                        if (fieldName.equals("StageLastUpdatedDateTime")) {
+                            context.nextToken();
+                            directoryDescription.setStageLastUpdatedDateTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case 2622298:
+                        if (fieldName.equals("Type")) {
+                            context.nextToken();
+                            directoryDescription.setType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1798727668:
+                        if (fieldName.equals("VpcSettings")) {
+                            context.nextToken();
+                            directoryDescription
+                                    .setVpcSettings(DirectoryVpcSettingsDescriptionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -46545139:
+                        if (fieldName.equals("ConnectSettings")) {
+                            context.nextToken();
+                            directoryDescription
+                                    .setConnectSettings(DirectoryConnectSettingsDescriptionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1703782133:
+                        if (fieldName.equals("RadiusSettings")) {
+                            context.nextToken();
+                            directoryDescription
+                                    .setRadiusSettings(RadiusSettingsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -270973116:
+                        if (fieldName.equals("RadiusStatus")) {
+                            context.nextToken();
+                            directoryDescription.setRadiusStatus(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1635005122:
+                        if (fieldName.equals("StageReason")) {
+                            context.nextToken();
+                            directoryDescription.setStageReason(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -596106670:
+                        if (fieldName.equals("SsoEnabled")) {
+                            context.nextToken();
+                            directoryDescription.setSsoEnabled(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
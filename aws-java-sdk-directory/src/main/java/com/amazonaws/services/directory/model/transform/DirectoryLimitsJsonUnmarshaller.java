@@ -53,77 +53,91 @@ public class DirectoryLimitsJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CloudOnlyDirectoriesLimit",
-                        targetDepth)) {
-                    context.nextToken();
-                    directoryLimits
-                            .setCloudOnlyDirectoriesLimit(context
-                                    .getUnmarshaller(Integer.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("CloudOnlyDirectoriesCurrentCount",
-                        targetDepth)) {
-                    context.nextToken();
-                    directoryLimits
-                            .setCloudOnlyDirectoriesCurrentCount(context
-                                    .getUnmarshaller(Integer.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("CloudOnlyDirectoriesLimitReached",
-                        targetDepth)) {
-                    context.nextToken();
-                    directoryLimits
-                            .setCloudOnlyDirectoriesLimitReached(context
-                                    .getUnmarshaller(Boolean.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("CloudOnlyMicrosoftADLimit",
-                        targetDepth)) {
-                    context.nextToken();
-                    directoryLimits
-                            .setCloudOnlyMicrosoftADLimit(context
-                                    .getUnmarshaller(Integer.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("CloudOnlyMicrosoftADCurrentCount",
-                        targetDepth)) {
-                    context.nextToken();
-                    directoryLimits
-                            .setCloudOnlyMicrosoftADCurrentCount(context
-                                    .getUnmarshaller(Integer.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("CloudOnlyMicrosoftADLimitReached",
-                        targetDepth)) {
-                    context.nextToken();
-                    directoryLimits
-                            .setCloudOnlyMicrosoftADLimitReached(context
-                                    .getUnmarshaller(Boolean.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("ConnectedDirectoriesLimit",
-                        targetDepth)) {
-                    context.nextToken();
-                    directoryLimits
-                            .setConnectedDirectoriesLimit(context
-                                    .getUnmarshaller(Integer.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("ConnectedDirectoriesCurrentCount",
-                        targetDepth)) {
-                    context.nextToken();
-                    directoryLimits
-                            .setConnectedDirectoriesCurrentCount(context
-                                    .getUnmarshaller(Integer.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("ConnectedDirectoriesLimitReached",
-                        targetDepth)) {
-                    context.nextToken();
-                    directoryLimits
-                            .setConnectedDirectoriesLimitReached(context
-                                    .getUnmarshaller(Boolean.class).unmarshall(
-                                            context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2119126065:
+                        if (fieldName.equals("CloudOnlyDirectoriesLimit")) {
+                            context.nextToken();
+                            directoryLimits
+                                    .setCloudOnlyDirectoriesLimit(context
+                                            .getUnmarshaller(Integer.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case 1981797856:
+                        if (fieldName.equals("CloudOnlyDirectoriesCurrentCount")) {
+                            context.nextToken();
+                            directoryLimits
+                                    .setCloudOnlyDirectoriesCurrentCount(context
+                                            .getUnmarshaller(Integer.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -103106591:
+                        if (fieldName.equals("CloudOnlyDirectoriesLimitReached")) {
+                            context.nextToken();
+                            directoryLimits
+                                    .setCloudOnlyDirectoriesLimitReached(context
+                                            .getUnmarshaller(Boolean.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -680834517:
+                        if (fieldName.equals("CloudOnlyMicrosoftADLimit")) {
+                            context.nextToken();
+                            directoryLimits
+                                    .setCloudOnlyMicrosoftADLimit(context
+                                            .getUnmarshaller(Integer.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -1276966234:
+                        if (fieldName.equals("CloudOnlyMicrosoftADCurrentCount")) {
+                            context.nextToken();
+                            directoryLimits
+                                    .setCloudOnlyMicrosoftADCurrentCount(context
+                                            .getUnmarshaller(Integer.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case 933096615:
+                        if (fieldName.equals("CloudOnlyMicrosoftADLimitReached")) {
+                            context.nextToken();
+                            directoryLimits
+                                    .setCloudOnlyMicrosoftADLimitReached(context
+                                            .getUnmarshaller(Boolean.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case 1942609849:
+                        if (fieldName.equals("ConnectedDirectoriesLimit")) {
+                            context.nextToken();
+                            directoryLimits
+                                    .setConnectedDirectoriesLimit(context
+                                            .getUnmarshaller(Integer.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -1077298856:
+                        if (fieldName.equals("ConnectedDirectoriesCurrentCount")) {
+                            context.nextToken();
+                            directoryLimits
+                                    .setConnectedDirectoriesCurrentCount(context
+                                            .getUnmarshaller(Integer.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case 1132763993:
+                        if (fieldName.equals("ConnectedDirectoriesLimitReached")) {
+                            context.nextToken();
+                            directoryLimits
+                                    .setConnectedDirectoriesLimitReached(context
+                                            .getUnmarshaller(Boolean.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,29 +53,42 @@ public class DirectoryVpcSettingsDescriptionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("VpcId", targetDepth)) {
-                    context.nextToken();
-                    directoryVpcSettingsDescription.setVpcId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SubnetIds", targetDepth)) {
-                    context.nextToken();
-                    directoryVpcSettingsDescription
-                            .setSubnetIds(new ListUnmarshaller<String>(context
-                                    .getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("SecurityGroupId", targetDepth)) {
-                    context.nextToken();
-                    directoryVpcSettingsDescription.setSecurityGroupId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AvailabilityZones", targetDepth)) {
-                    context.nextToken();
-                    directoryVpcSettingsDescription
-                            .setAvailabilityZones(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 82856900:
+                        if (fieldName.equals("VpcId")) {
+                            context.nextToken();
+                            directoryVpcSettingsDescription.setVpcId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1917427205:
+                        if (fieldName.equals("SubnetIds")) {
+                            context.nextToken();
+                            directoryVpcSettingsDescription
+                                    .setSubnetIds(new ListUnmarshaller<String>(context
+                                            .getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1016958074:
+                        if (fieldName.equals("SecurityGroupId")) {
+                            context.nextToken();
+                            directoryVpcSettingsDescription.setSecurityGroupId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -739594868:
+                        if (fieldName.equals("AvailabilityZones")) {
+                            context.nextToken();
+                            directoryVpcSettingsDescription
+                                    .setAvailabilityZones(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,30 +53,45 @@ public class EventTopicJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DirectoryId", targetDepth)) {
-                    context.nextToken();
-                    eventTopic.setDirectoryId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("TopicName", targetDepth)) {
-                    context.nextToken();
-                    eventTopic.setTopicName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("TopicArn", targetDepth)) {
-                    context.nextToken();
-                    eventTopic.setTopicArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedDateTime", targetDepth)) {
-                    context.nextToken();
-                    eventTopic.setCreatedDateTime(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    eventTopic.setStatus(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 41674824:
+                        if (fieldName.equals("DirectoryId")) {
+                            context.nextToken();
+                            eventTopic.setDirectoryId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1902793670:
+                        if (fieldName.equals("TopicName")) {
+                            context.nextToken();
+                            eventTopic.setTopicName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -892676402:
+                        if (fieldName.equals("TopicArn")) {
+                            context.nextToken();
+                            eventTopic.setTopicArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1329422979:
+                        if (fieldName.equals("CreatedDateTime")) {
+                            context.nextToken();
+                            eventTopic.setCreatedDateTime(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case -1808614382:
+                        if (fieldName.equals("Status")) {
+                            context.nextToken();
+                            eventTopic.setStatus(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,11 +53,18 @@ public class GetDirectoryLimitsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DirectoryLimits", targetDepth)) {
-                    context.nextToken();
-                    getDirectoryLimitsResult
-                            .setDirectoryLimits(DirectoryLimitsJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 467052741:
+                        if (fieldName.equals("DirectoryLimits")) {
+                            context.nextToken();
+                            getDirectoryLimitsResult
+                                    .setDirectoryLimits(DirectoryLimitsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,11 +53,18 @@ public class GetSnapshotLimitsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SnapshotLimits", targetDepth)) {
-                    context.nextToken();
-                    getSnapshotLimitsResult
-                            .setSnapshotLimits(SnapshotLimitsJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1224627996:
+                        if (fieldName.equals("SnapshotLimits")) {
+                            context.nextToken();
+                            getSnapshotLimitsResult
+                                    .setSnapshotLimits(SnapshotLimitsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,48 +53,68 @@ public class RadiusSettingsJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RadiusServers", targetDepth)) {
-                    context.nextToken();
-                    radiusSettings
-                            .setRadiusServers(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("RadiusPort", targetDepth)) {
-                    context.nextToken();
-                    radiusSettings.setRadiusPort(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("RadiusTimeout", targetDepth)) {
-                    context.nextToken();
-                    radiusSettings.setRadiusTimeout(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("RadiusRetries", targetDepth)) {
-                    context.nextToken();
-                    radiusSettings.setRadiusRetries(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("SharedSecret", targetDepth)) {
-                    context.nextToken();
-                    radiusSettings.setSharedSecret(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("AuthenticationProtocol",
-                        targetDepth)) {
-                    context.nextToken();
-                    radiusSettings.setAuthenticationProtocol(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DisplayLabel", targetDepth)) {
-                    context.nextToken();
-                    radiusSettings.setDisplayLabel(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("UseSameUsername", targetDepth)) {
-                    context.nextToken();
-                    radiusSettings.setUseSameUsername(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -223925122:
+                        if (fieldName.equals("RadiusServers")) {
+                            context.nextToken();
+                            radiusSettings
+                                    .setRadiusServers(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -2114339757:
+                        if (fieldName.equals("RadiusPort")) {
+                            context.nextToken();
+                            radiusSettings.setRadiusPort(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 772980815:
+                        if (fieldName.equals("RadiusTimeout")) {
+                            context.nextToken();
+                            radiusSettings.setRadiusTimeout(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -1109697484:
+                        if (fieldName.equals("RadiusRetries")) {
+                            context.nextToken();
+                            radiusSettings.setRadiusRetries(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -889939051:
+                        if (fieldName.equals("SharedSecret")) {
+                            context.nextToken();
+                            radiusSettings.setSharedSecret(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1692895568:
+                        if (fieldName.equals("AuthenticationProtocol")) {
+                            context.nextToken();
+                            radiusSettings.setAuthenticationProtocol(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1761473394:
+                        if (fieldName.equals("DisplayLabel")) {
+                            context.nextToken();
+                            radiusSettings.setDisplayLabel(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -977885597:
+                        if (fieldName.equals("UseSameUsername")) {
+                            context.nextToken();
+                            radiusSettings.setUseSameUsername(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,27 +53,36 @@ public class SnapshotLimitsJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ManualSnapshotsLimit", targetDepth)) {
-                    context.nextToken();
-                    snapshotLimits
-                            .setManualSnapshotsLimit(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("ManualSnapshotsCurrentCount",
-                        targetDepth)) {
-                    context.nextToken();
-                    snapshotLimits
-                            .setManualSnapshotsCurrentCount(context
-                                    .getUnmarshaller(Integer.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("ManualSnapshotsLimitReached",
-                        targetDepth)) {
-                    context.nextToken();
-                    snapshotLimits
-                            .setManualSnapshotsLimitReached(context
-                                    .getUnmarshaller(Boolean.class).unmarshall(
-                                            context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -665521326:
+                        if (fieldName.equals("ManualSnapshotsLimit")) {
+                            context.nextToken();
+                            snapshotLimits
+                                    .setManualSnapshotsLimit(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 80156575:
+                        if (fieldName.equals("ManualSnapshotsCurrentCount")) {
+                            context.nextToken();
+                            snapshotLimits
+                                    .setManualSnapshotsCurrentCount(context
+                                            .getUnmarshaller(Integer.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -2004747872:
+                        if (fieldName.equals("ManualSnapshotsLimitReached")) {
+                            context.nextToken();
+                            snapshotLimits
+                                    .setManualSnapshotsLimitReached(context
+                                            .getUnmarshaller(Boolean.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
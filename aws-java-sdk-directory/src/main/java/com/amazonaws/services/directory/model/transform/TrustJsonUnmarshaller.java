@@ -52,56 +52,80 @@ public class TrustJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DirectoryId", targetDepth)) {
-                    context.nextToken();
-                    trust.setDirectoryId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("TrustId", targetDepth)) {
-                    context.nextToken();
-                    trust.setTrustId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("RemoteDomainName", targetDepth)) {
-                    context.nextToken();
-                    trust.setRemoteDomainName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("TrustType", targetDepth)) {
-                    context.nextToken();
-                    trust.setTrustType(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("TrustDirection", targetDepth)) {
-                    context.nextToken();
-                    trust.setTrustDirection(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("TrustState", targetDepth)) {
-                    context.nextToken();
-                    trust.setTrustState(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("CreatedDateTime", targetDepth)) {
-                    context.nextToken();
-                    trust.setCreatedDateTime(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("LastUpdatedDateTime", targetDepth)) {
-                    context.nextToken();
-                    trust.setLastUpdatedDateTime(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("StateLastUpdatedDateTime",
-                        targetDepth)) {
-                    context.nextToken();
-                    trust.setStateLastUpdatedDateTime(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("TrustStateReason", targetDepth)) {
-                    context.nextToken();
-                    trust.setTrustStateReason(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 41674824:
+                        if (fieldName.equals("DirectoryId")) {
+                            context.nextToken();
+                            trust.setDirectoryId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 616212851:
+                        if (fieldName.equals("TrustId")) {
+                            context.nextToken();
+                            trust.setTrustId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1309885835:
+                        if (fieldName.equals("RemoteDomainName")) {
+                            context.nextToken();
+                            trust.setRemoteDomainName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -524585582:
+                        if (fieldName.equals("TrustType")) {
+                            context.nextToken();
+                            trust.setTrustType(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1452976089:
+                        if (fieldName.equals("TrustDirection")) {
+                            context.nextToken();
+                            trust.setTrustDirection(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 916629817:
+                        if (fieldName.equals("TrustState")) {
+                            context.nextToken();
+                            trust.setTrustState(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1329422979:
+                        if (fieldName.equals("CreatedDateTime")) {
+                            context.nextToken();
+                            trust.setCreatedDateTime(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case -357615648:
+                        if (fieldName.equals("LastUpdatedDateTime")) {
+                            context.nextToken();
+                            trust.setLastUpdatedDateTime(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 1316914127:
+                        if (fieldName.equals("StateLastUpdatedDateTime")) {
+                            context.nextToken();
+                            trust.setStateLastUpdatedDateTime(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case -1959946019:
+                        if (fieldName.equals("TrustStateReason")) {
+                            context.nextToken();
+                            trust.setTrustStateReason(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,21 +53,32 @@ public class AgentConfigurationStatusJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("agentId", targetDepth)) {
-                    context.nextToken();
-                    agentConfigurationStatus.setAgentId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("operationSucceeded", targetDepth)) {
-                    context.nextToken();
-                    agentConfigurationStatus
-                            .setOperationSucceeded(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    agentConfigurationStatus.setDescription(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1060987136:
+                        if (fieldName.equals("agentId")) {
+                            context.nextToken();
+                            agentConfigurationStatus.setAgentId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1901973318:
+                        if (fieldName.equals("operationSucceeded")) {
+                            context.nextToken();
+                            agentConfigurationStatus
+                                    .setOperationSucceeded(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case -1724546052:
+                        if (fieldName.equals("description")) {
+                            context.nextToken();
+                            agentConfigurationStatus.setDescription(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
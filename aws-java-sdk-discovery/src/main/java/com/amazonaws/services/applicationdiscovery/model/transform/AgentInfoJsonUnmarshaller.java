@@ -53,37 +53,54 @@ public class AgentInfoJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("agentId", targetDepth)) {
-                    context.nextToken();
-                    agentInfo.setAgentId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("hostName", targetDepth)) {
-                    context.nextToken();
-                    agentInfo.setHostName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("agentNetworkInfoList", targetDepth)) {
-                    context.nextToken();
-                    agentInfo
-                            .setAgentNetworkInfoList(new ListUnmarshaller<AgentNetworkInfo>(
-                                    AgentNetworkInfoJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("connectorId", targetDepth)) {
-                    context.nextToken();
-                    agentInfo.setConnectorId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("version", targetDepth)) {
-                    context.nextToken();
-                    agentInfo.setVersion(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("health", targetDepth)) {
-                    context.nextToken();
-                    agentInfo.setHealth(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1060987136:
+                        if (fieldName.equals("agentId")) {
+                            context.nextToken();
+                            agentInfo.setAgentId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -300756909:
+                        if (fieldName.equals("hostName")) {
+                            context.nextToken();
+                            agentInfo.setHostName(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1941675253:
+                        if (fieldName.equals("agentNetworkInfoList")) {
+                            context.nextToken();
+                            agentInfo
+                                    .setAgentNetworkInfoList(new ListUnmarshaller<AgentNetworkInfo>(
+                                            AgentNetworkInfoJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 1724784200:
+                        if (fieldName.equals("connectorId")) {
+                            context.nextToken();
+                            agentInfo.setConnectorId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 351608024:
+                        if (fieldName.equals("version")) {
+                            context.nextToken();
+                            agentInfo.setVersion(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1221262756:
+                        if (fieldName.equals("health")) {
+                            context.nextToken();
+                            agentInfo.setHealth(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class AgentNetworkInfoJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ipAddress", targetDepth)) {
-                    context.nextToken();
-                    agentNetworkInfo.setIpAddress(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("macAddress", targetDepth)) {
-                    context.nextToken();
-                    agentNetworkInfo.setMacAddress(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1634032845:
+                        if (fieldName.equals("ipAddress")) {
+                            context.nextToken();
+                            agentNetworkInfo.setIpAddress(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2081933221:
+                        if (fieldName.equals("macAddress")) {
+                            context.nextToken();
+                            agentNetworkInfo.setMacAddress(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,30 +53,45 @@ public class ConfigurationTagJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("configurationType", targetDepth)) {
-                    context.nextToken();
-                    configurationTag.setConfigurationType(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("configurationId", targetDepth)) {
-                    context.nextToken();
-                    configurationTag.setConfigurationId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("key", targetDepth)) {
-                    context.nextToken();
-                    configurationTag.setKey(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("value", targetDepth)) {
-                    context.nextToken();
-                    configurationTag.setValue(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("timeOfCreation", targetDepth)) {
-                    context.nextToken();
-                    configurationTag.setTimeOfCreation(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 302779728:
+                        if (fieldName.equals("configurationType")) {
+                            context.nextToken();
+                            configurationTag.setConfigurationType(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1948915889:
+                        if (fieldName.equals("configurationId")) {
+                            context.nextToken();
+                            configurationTag.setConfigurationId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 106079:
+                        if (fieldName.equals("key")) {
+                            context.nextToken();
+                            configurationTag.setKey(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 111972721:
+                        if (fieldName.equals("value")) {
+                            context.nextToken();
+                            configurationTag.setValue(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 392490115:
+                        if (fieldName.equals("timeOfCreation")) {
+                            context.nextToken();
+                            configurationTag.setTimeOfCreation(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
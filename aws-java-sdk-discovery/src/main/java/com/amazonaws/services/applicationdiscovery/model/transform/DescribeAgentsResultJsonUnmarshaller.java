@@ -53,17 +53,26 @@ public class DescribeAgentsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("agentsInfo", targetDepth)) {
-                    context.nextToken();
-                    describeAgentsResult
-                            .setAgentsInfo(new ListUnmarshaller<AgentInfo>(
-                                    AgentInfoJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    describeAgentsResult.setNextToken(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1165344804:
+                        if (fieldName.equals("agentsInfo")) {
+                            context.nextToken();
+                            describeAgentsResult
+                                    .setAgentsInfo(new ListUnmarshaller<AgentInfo>(
+                                            AgentInfoJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1206918854:
+                        if (fieldName.equals("nextToken")) {
+                            context.nextToken();
+                            describeAgentsResult.setNextToken(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
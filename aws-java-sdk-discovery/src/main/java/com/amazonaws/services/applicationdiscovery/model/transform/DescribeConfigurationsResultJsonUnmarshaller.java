@@ -53,14 +53,21 @@ public class DescribeConfigurationsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("configurations", targetDepth)) {
-                    context.nextToken();
-                    describeConfigurationsResult
-                            .setConfigurations(new ListUnmarshaller<java.util.Map<String, String>>(
-                                    new MapUnmarshaller<String, String>(
-                                            context.getUnmarshaller(String.class),
-                                            context.getUnmarshaller(String.class)))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -214226371:
+                        if (fieldName.equals("configurations")) {
+                            context.nextToken();
+                            describeConfigurationsResult
+                                    .setConfigurations(new ListUnmarshaller<java.util.Map<String, String>>(
+                                            new MapUnmarshaller<String, String>(
+                                                    context.getUnmarshaller(String.class),
+                                                    context.getUnmarshaller(String.class)))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
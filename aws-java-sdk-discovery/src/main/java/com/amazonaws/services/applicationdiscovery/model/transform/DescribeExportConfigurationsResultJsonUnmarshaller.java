@@ -54,17 +54,26 @@ public class DescribeExportConfigurationsResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("exportsInfo", targetDepth)) {
-                    context.nextToken();
-                    describeExportConfigurationsResult
-                            .setExportsInfo(new ListUnmarshaller<ExportInfo>(
-                                    ExportInfoJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    describeExportConfigurationsResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -2077588339:
+                        if (fieldName.equals("exportsInfo")) {
+                            context.nextToken();
+                            describeExportConfigurationsResult
+                                    .setExportsInfo(new ListUnmarshaller<ExportInfo>(
+                                            ExportInfoJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1206918854:
+                        if (fieldName.equals("nextToken")) {
+                            context.nextToken();
+                            describeExportConfigurationsResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
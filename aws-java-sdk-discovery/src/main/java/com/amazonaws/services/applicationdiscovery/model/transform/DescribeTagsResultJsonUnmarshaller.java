@@ -53,17 +53,26 @@ public class DescribeTagsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("tags", targetDepth)) {
-                    context.nextToken();
-                    describeTagsResult
-                            .setTags(new ListUnmarshaller<ConfigurationTag>(
-                                    ConfigurationTagJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    describeTagsResult.setNextToken(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3552281:
+                        if (fieldName.equals("tags")) {
+                            context.nextToken();
+                            describeTagsResult
+                                    .setTags(new ListUnmarshaller<ConfigurationTag>(
+                                            ConfigurationTagJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 1206918854:
+                        if (fieldName.equals("nextToken")) {
+                            context.nextToken();
+                            describeTagsResult.setNextToken(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
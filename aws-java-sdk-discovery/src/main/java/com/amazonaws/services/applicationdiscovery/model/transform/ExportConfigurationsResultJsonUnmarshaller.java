@@ -53,10 +53,17 @@ public class ExportConfigurationsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("exportId", targetDepth)) {
-                    context.nextToken();
-                    exportConfigurationsResult.setExportId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1926037521:
+                        if (fieldName.equals("exportId")) {
+                            context.nextToken();
+                            exportConfigurationsResult.setExportId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,31 +53,45 @@ public class ExportInfoJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("exportId", targetDepth)) {
-                    context.nextToken();
-                    exportInfo.setExportId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("exportStatus", targetDepth)) {
-                    context.nextToken();
-                    exportInfo.setExportStatus(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("statusMessage", targetDepth)) {
-                    context.nextToken();
-                    exportInfo.setStatusMessage(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("configurationsDownloadUrl",
-                        targetDepth)) {
-                    context.nextToken();
-                    exportInfo.setConfigurationsDownloadUrl(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("exportRequestTime", targetDepth)) {
-                    context.nextToken();
-                    exportInfo.setExportRequestTime(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1926037521:
+                        if (fieldName.equals("exportId")) {
+                            context.nextToken();
+                            exportInfo.setExportId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -857524026:
+                        if (fieldName.equals("exportStatus")) {
+                            context.nextToken();
+                            exportInfo.setExportStatus(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -958704715:
+                        if (fieldName.equals("statusMessage")) {
+                            context.nextToken();
+                            exportInfo.setStatusMessage(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1603534154:
+                        if (fieldName.equals("configurationsDownloadUrl")) {
+                            context.nextToken();
+                            exportInfo.setConfigurationsDownloadUrl(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 693884328:
+                        if (fieldName.equals("exportRequestTime")) {
+                            context.nextToken();
+                            exportInfo.setExportRequestTime(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -52,20 +52,31 @@ public class FilterJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    filter.setName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("values", targetDepth)) {
-                    context.nextToken();
-                    filter.setValues(new ListUnmarshaller<String>(context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("condition", targetDepth)) {
-                    context.nextToken();
-                    filter.setCondition(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3373707:
+                        if (fieldName.equals("name")) {
+                            context.nextToken();
+                            filter.setName(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -823812830:
+                        if (fieldName.equals("values")) {
+                            context.nextToken();
+                            filter.setValues(new ListUnmarshaller<String>(context
+                                    .getUnmarshaller(String.class)).unmarshall(context));
+                        }
+                        break;
+                    case -861311717:
+                        if (fieldName.equals("condition")) {
+                            context.nextToken();
+                            filter.setCondition(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
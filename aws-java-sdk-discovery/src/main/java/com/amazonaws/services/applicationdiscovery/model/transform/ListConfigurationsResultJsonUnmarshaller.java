@@ -53,19 +53,28 @@ public class ListConfigurationsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("configurations", targetDepth)) {
-                    context.nextToken();
-                    listConfigurationsResult
-                            .setConfigurations(new ListUnmarshaller<java.util.Map<String, String>>(
-                                    new MapUnmarshaller<String, String>(
-                                            context.getUnmarshaller(String.class),
-                                            context.getUnmarshaller(String.class)))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listConfigurationsResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -214226371:
+                        if (fieldName.equals("configurations")) {
+                            context.nextToken();
+                            listConfigurationsResult
+                                    .setConfigurations(new ListUnmarshaller<java.util.Map<String, String>>(
+                                            new MapUnmarshaller<String, String>(
+                                                    context.getUnmarshaller(String.class),
+                                                    context.getUnmarshaller(String.class)))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1206918854:
+                        if (fieldName.equals("nextToken")) {
+                            context.nextToken();
+                            listConfigurationsResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
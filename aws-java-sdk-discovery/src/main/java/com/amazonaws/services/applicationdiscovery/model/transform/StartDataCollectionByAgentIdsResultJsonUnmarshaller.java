@@ -54,13 +54,19 @@ public class StartDataCollectionByAgentIdsResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("agentsConfigurationStatus",
-                        targetDepth)) {
-                    context.nextToken();
-                    startDataCollectionByAgentIdsResult
-                            .setAgentsConfigurationStatus(new ListUnmarshaller<AgentConfigurationStatus>(
-                                    AgentConfigurationStatusJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1491583898:
+                        if (fieldName.equals("agentsConfigurationStatus")) {
+                            context.nextToken();
+                            startDataCollectionByAgentIdsResult
+                                    .setAgentsConfigurationStatus(new ListUnmarshaller<AgentConfigurationStatus>(
+                                            AgentConfigurationStatusJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class TagFilterJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    tagFilter.setName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("values", targetDepth)) {
-                    context.nextToken();
-                    tagFilter
-                            .setValues(new ListUnmarshaller<String>(context
-                                    .getUnmarshaller(String.class))
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3373707:
+                        if (fieldName.equals("name")) {
+                            context.nextToken();
+                            tagFilter.setName(context.getUnmarshaller(String.class)
                                     .unmarshall(context));
+                        }
+                        break;
+                    case -823812830:
+                        if (fieldName.equals("values")) {
+                            context.nextToken();
+                            tagFilter
+                                    .setValues(new ListUnmarshaller<String>(context
+                                            .getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,20 +53,31 @@ public class AccountQuotaJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AccountQuotaName", targetDepth)) {
-                    context.nextToken();
-                    accountQuota.setAccountQuotaName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Used", targetDepth)) {
-                    context.nextToken();
-                    accountQuota.setUsed(context.getUnmarshaller(Long.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Max", targetDepth)) {
-                    context.nextToken();
-                    accountQuota.setMax(context.getUnmarshaller(Long.class)
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 403123606:
+                        if (fieldName.equals("AccountQuotaName")) {
+                            context.nextToken();
+                            accountQuota.setAccountQuotaName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2645981:
+                        if (fieldName.equals("Used")) {
+                            context.nextToken();
+                            accountQuota.setUsed(context.getUnmarshaller(Long.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 77124:
+                        if (fieldName.equals("Max")) {
+                            context.nextToken();
+                            accountQuota.setMax(context.getUnmarshaller(Long.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,37 +53,52 @@ public class ConnectionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ReplicationInstanceArn",
-                        targetDepth)) {
-                    context.nextToken();
-                    connection.setReplicationInstanceArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EndpointArn", targetDepth)) {
-                    context.nextToken();
-                    connection.setEndpointArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    connection.setStatus(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("LastFailureMessage", targetDepth)) {
-                    context.nextToken();
-                    connection.setLastFailureMessage(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("EndpointIdentifier", targetDepth)) {
-                    context.nextToken();
-                    connection.setEndpointIdentifier(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ReplicationInstanceIdentifier",
-                        targetDepth)) {
-                    context.nextToken();
-                    connection.setReplicationInstanceIdentifier(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1850826300:
+                        if (fieldName.equals("ReplicationInstanceArn")) {
+                            context.nextToken();
+                            connection.setReplicationInstanceArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 532031592:
+                        if (fieldName.equals("EndpointArn")) {
+                            context.nextToken();
+                            connection.setEndpointArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1808614382:
+                        if (fieldName.equals("Status")) {
+                            context.nextToken();
+                            connection.setStatus(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1447449459:
+                        if (fieldName.equals("LastFailureMessage")) {
+                            context.nextToken();
+                            connection.setLastFailureMessage(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1333711810:
+                        if (fieldName.equals("EndpointIdentifier")) {
+                            context.nextToken();
+                            connection.setEndpointIdentifier(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1917419498:
+                        if (fieldName.equals("ReplicationInstanceIdentifier")) {
+                            context.nextToken();
+                            connection.setReplicationInstanceIdentifier(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
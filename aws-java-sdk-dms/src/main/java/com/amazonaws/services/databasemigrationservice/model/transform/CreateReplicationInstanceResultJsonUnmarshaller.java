@@ -53,11 +53,18 @@ public class CreateReplicationInstanceResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ReplicationInstance", targetDepth)) {
-                    context.nextToken();
-                    createReplicationInstanceResult
-                            .setReplicationInstance(ReplicationInstanceJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -907920287:
+                        if (fieldName.equals("ReplicationInstance")) {
+                            context.nextToken();
+                            createReplicationInstanceResult
+                                    .setReplicationInstance(ReplicationInstanceJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,10 +53,17 @@ public class DeleteEndpointResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Endpoint", targetDepth)) {
-                    context.nextToken();
-                    deleteEndpointResult.setEndpoint(EndpointJsonUnmarshaller
-                            .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1805746613:
+                        if (fieldName.equals("Endpoint")) {
+                            context.nextToken();
+                            deleteEndpointResult.setEndpoint(EndpointJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,12 +53,19 @@ public class DescribeAccountAttributesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AccountQuotas", targetDepth)) {
-                    context.nextToken();
-                    describeAccountAttributesResult
-                            .setAccountQuotas(new ListUnmarshaller<AccountQuota>(
-                                    AccountQuotaJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -126279320:
+                        if (fieldName.equals("AccountQuotas")) {
+                            context.nextToken();
+                            describeAccountAttributesResult
+                                    .setAccountQuotas(new ListUnmarshaller<AccountQuota>(
+                                            AccountQuotaJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
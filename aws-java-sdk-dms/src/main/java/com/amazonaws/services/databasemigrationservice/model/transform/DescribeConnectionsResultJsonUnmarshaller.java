@@ -53,17 +53,26 @@ public class DescribeConnectionsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    describeConnectionsResult.setMarker(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Connections", targetDepth)) {
-                    context.nextToken();
-                    describeConnectionsResult
-                            .setConnections(new ListUnmarshaller<Connection>(
-                                    ConnectionJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1997438886:
+                        if (fieldName.equals("Marker")) {
+                            context.nextToken();
+                            describeConnectionsResult.setMarker(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -902494923:
+                        if (fieldName.equals("Connections")) {
+                            context.nextToken();
+                            describeConnectionsResult
+                                    .setConnections(new ListUnmarshaller<Connection>(
+                                            ConnectionJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
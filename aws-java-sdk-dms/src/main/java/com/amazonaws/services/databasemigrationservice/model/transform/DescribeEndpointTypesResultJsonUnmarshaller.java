@@ -53,18 +53,26 @@ public class DescribeEndpointTypesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    describeEndpointTypesResult.setMarker(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SupportedEndpointTypes",
-                        targetDepth)) {
-                    context.nextToken();
-                    describeEndpointTypesResult
-                            .setSupportedEndpointTypes(new ListUnmarshaller<SupportedEndpointType>(
-                                    SupportedEndpointTypeJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1997438886:
+                        if (fieldName.equals("Marker")) {
+                            context.nextToken();
+                            describeEndpointTypesResult.setMarker(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -945090058:
+                        if (fieldName.equals("SupportedEndpointTypes")) {
+                            context.nextToken();
+                            describeEndpointTypesResult
+                                    .setSupportedEndpointTypes(new ListUnmarshaller<SupportedEndpointType>(
+                                            SupportedEndpointTypeJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
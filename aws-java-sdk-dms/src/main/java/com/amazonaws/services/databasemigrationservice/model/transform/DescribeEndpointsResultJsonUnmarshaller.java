@@ -53,17 +53,26 @@ public class DescribeEndpointsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    describeEndpointsResult.setMarker(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Endpoints", targetDepth)) {
-                    context.nextToken();
-                    describeEndpointsResult
-                            .setEndpoints(new ListUnmarshaller<Endpoint>(
-                                    EndpointJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1997438886:
+                        if (fieldName.equals("Marker")) {
+                            context.nextToken();
+                            describeEndpointsResult.setMarker(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 143570270:
+                        if (fieldName.equals("Endpoints")) {
+                            context.nextToken();
+                            describeEndpointsResult
+                                    .setEndpoints(new ListUnmarshaller<Endpoint>(
+                                            EndpointJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
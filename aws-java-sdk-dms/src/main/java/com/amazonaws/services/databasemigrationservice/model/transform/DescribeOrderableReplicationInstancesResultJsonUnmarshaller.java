@@ -54,19 +54,27 @@ public class DescribeOrderableReplicationInstancesResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("OrderableReplicationInstances",
-                        targetDepth)) {
-                    context.nextToken();
-                    describeOrderableReplicationInstancesResult
-                            .setOrderableReplicationInstances(new ListUnmarshaller<OrderableReplicationInstance>(
-                                    OrderableReplicationInstanceJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    describeOrderableReplicationInstancesResult
-                            .setMarker(context.getUnmarshaller(String.class)
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 124002746:
+                        if (fieldName.equals("OrderableReplicationInstances")) {
+                            context.nextToken();
+                            describeOrderableReplicationInstancesResult
+                                    .setOrderableReplicationInstances(new ListUnmarshaller<OrderableReplicationInstance>(
+                                            OrderableReplicationInstanceJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1997438886:
+                        if (fieldName.equals("Marker")) {
+                            context.nextToken();
+                            describeOrderableReplicationInstancesResult
+                                    .setMarker(context.getUnmarshaller(String.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,17 +54,26 @@ public class DescribeReplicationInstancesResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    describeReplicationInstancesResult.setMarker(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ReplicationInstances", targetDepth)) {
-                    context.nextToken();
-                    describeReplicationInstancesResult
-                            .setReplicationInstances(new ListUnmarshaller<ReplicationInstance>(
-                                    ReplicationInstanceJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1997438886:
+                        if (fieldName.equals("Marker")) {
+                            context.nextToken();
+                            describeReplicationInstancesResult.setMarker(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1919242290:
+                        if (fieldName.equals("ReplicationInstances")) {
+                            context.nextToken();
+                            describeReplicationInstancesResult
+                                    .setReplicationInstances(new ListUnmarshaller<ReplicationInstance>(
+                                            ReplicationInstanceJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,18 +54,26 @@ public class DescribeReplicationSubnetGroupsResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    describeReplicationSubnetGroupsResult.setMarker(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ReplicationSubnetGroups",
-                        targetDepth)) {
-                    context.nextToken();
-                    describeReplicationSubnetGroupsResult
-                            .setReplicationSubnetGroups(new ListUnmarshaller<ReplicationSubnetGroup>(
-                                    ReplicationSubnetGroupJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1997438886:
+                        if (fieldName.equals("Marker")) {
+                            context.nextToken();
+                            describeReplicationSubnetGroupsResult.setMarker(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1233178275:
+                        if (fieldName.equals("ReplicationSubnetGroups")) {
+                            context.nextToken();
+                            describeReplicationSubnetGroupsResult
+                                    .setReplicationSubnetGroups(new ListUnmarshaller<ReplicationSubnetGroup>(
+                                            ReplicationSubnetGroupJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class DescribeReplicationTasksResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    describeReplicationTasksResult.setMarker(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ReplicationTasks", targetDepth)) {
-                    context.nextToken();
-                    describeReplicationTasksResult
-                            .setReplicationTasks(new ListUnmarshaller<ReplicationTask>(
-                                    ReplicationTaskJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1997438886:
+                        if (fieldName.equals("Marker")) {
+                            context.nextToken();
+                            describeReplicationTasksResult.setMarker(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -345061566:
+                        if (fieldName.equals("ReplicationTasks")) {
+                            context.nextToken();
+                            describeReplicationTasksResult
+                                    .setReplicationTasks(new ListUnmarshaller<ReplicationTask>(
+                                            ReplicationTaskJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,22 +53,33 @@ public class DescribeTableStatisticsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ReplicationTaskArn", targetDepth)) {
-                    context.nextToken();
-                    describeTableStatisticsResult.setReplicationTaskArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TableStatistics", targetDepth)) {
-                    context.nextToken();
-                    describeTableStatisticsResult
-                            .setTableStatistics(new ListUnmarshaller<TableStatistics>(
-                                    TableStatisticsJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    describeTableStatisticsResult.setMarker(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -891727540:
+                        if (fieldName.equals("ReplicationTaskArn")) {
+                            context.nextToken();
+                            describeTableStatisticsResult.setReplicationTaskArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -846489743:
+                        if (fieldName.equals("TableStatistics")) {
+                            context.nextToken();
+                            describeTableStatisticsResult
+                                    .setTableStatistics(new ListUnmarshaller<TableStatistics>(
+                                            TableStatisticsJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1997438886:
+                        if (fieldName.equals("Marker")) {
+                            context.nextToken();
+                            describeTableStatisticsResult.setMarker(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
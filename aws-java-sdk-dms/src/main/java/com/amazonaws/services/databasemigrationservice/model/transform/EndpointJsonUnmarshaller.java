@@ -53,61 +53,87 @@ public class EndpointJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("EndpointIdentifier", targetDepth)) {
-                    context.nextToken();
-                    endpoint.setEndpointIdentifier(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("EndpointType", targetDepth)) {
-                    context.nextToken();
-                    endpoint.setEndpointType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("EngineName", targetDepth)) {
-                    context.nextToken();
-                    endpoint.setEngineName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Username", targetDepth)) {
-                    context.nextToken();
-                    endpoint.setUsername(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("ServerName", targetDepth)) {
-                    context.nextToken();
-                    endpoint.setServerName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Port", targetDepth)) {
-                    context.nextToken();
-                    endpoint.setPort(context.getUnmarshaller(Integer.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("DatabaseName", targetDepth)) {
-                    context.nextToken();
-                    endpoint.setDatabaseName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ExtraConnectionAttributes",
-                        targetDepth)) {
-                    context.nextToken();
-                    endpoint.setExtraConnectionAttributes(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    endpoint.setStatus(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("KmsKeyId", targetDepth)) {
-                    context.nextToken();
-                    endpoint.setKmsKeyId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("EndpointArn", targetDepth)) {
-                    context.nextToken();
-                    endpoint.setEndpointArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1333711810:
+                        if (fieldName.equals("EndpointIdentifier")) {
+                            context.nextToken();
+                            endpoint.setEndpointIdentifier(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -686316913:
+                        if (fieldName.equals("EndpointType")) {
+                            context.nextToken();
+                            endpoint.setEndpointType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -861678579:
+                        if (fieldName.equals("EngineName")) {
+                            context.nextToken();
+                            endpoint.setEngineName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -201069322:
+                        if (fieldName.equals("Username")) {
+                            context.nextToken();
+                            endpoint.setUsername(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 167354510:
+                        if (fieldName.equals("ServerName")) {
+                            context.nextToken();
+                            endpoint.setServerName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2493601:
+                        if (fieldName.equals("Port")) {
+                            context.nextToken();
+                            endpoint.setPort(context.getUnmarshaller(Integer.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -294773050:
+                        if (fieldName.equals("DatabaseName")) {
+                            context.nextToken();
+                            endpoint.setDatabaseName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1013840155:
+                        if (fieldName.equals("ExtraConnectionAttributes")) {
+                            context.nextToken();
+                            endpoint.setExtraConnectionAttributes(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1808614382:
+                        if (fieldName.equals("Status")) {
+                            context.nextToken();
+                            endpoint.setStatus(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1114813655:
+                        if (fieldName.equals("KmsKeyId")) {
+                            context.nextToken();
+                            endpoint.setKmsKeyId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 532031592:
+                        if (fieldName.equals("EndpointArn")) {
+                            context.nextToken();
+                            endpoint.setEndpointArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,12 +54,18 @@ public class ModifyReplicationSubnetGroupResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ReplicationSubnetGroup",
-                        targetDepth)) {
-                    context.nextToken();
-                    modifyReplicationSubnetGroupResult
-                            .setReplicationSubnetGroup(ReplicationSubnetGroupJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -2117989930:
+                        if (fieldName.equals("ReplicationSubnetGroup")) {
+                            context.nextToken();
+                            modifyReplicationSubnetGroupResult
+                                    .setReplicationSubnetGroup(ReplicationSubnetGroupJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,51 +53,67 @@ public class OrderableReplicationInstanceJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("EngineVersion", targetDepth)) {
-                    context.nextToken();
-                    orderableReplicationInstance.setEngineVersion(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ReplicationInstanceClass",
-                        targetDepth)) {
-                    context.nextToken();
-                    orderableReplicationInstance
-                            .setReplicationInstanceClass(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("StorageType", targetDepth)) {
-                    context.nextToken();
-                    orderableReplicationInstance.setStorageType(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MinAllocatedStorage", targetDepth)) {
-                    context.nextToken();
-                    orderableReplicationInstance
-                            .setMinAllocatedStorage(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("MaxAllocatedStorage", targetDepth)) {
-                    context.nextToken();
-                    orderableReplicationInstance
-                            .setMaxAllocatedStorage(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("DefaultAllocatedStorage",
-                        targetDepth)) {
-                    context.nextToken();
-                    orderableReplicationInstance
-                            .setDefaultAllocatedStorage(context
-                                    .getUnmarshaller(Integer.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("IncludedAllocatedStorage",
-                        targetDepth)) {
-                    context.nextToken();
-                    orderableReplicationInstance
-                            .setIncludedAllocatedStorage(context
-                                    .getUnmarshaller(Integer.class).unmarshall(
-                                            context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -617268202:
+                        if (fieldName.equals("EngineVersion")) {
+                            context.nextToken();
+                            orderableReplicationInstance.setEngineVersion(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 529273239:
+                        if (fieldName.equals("ReplicationInstanceClass")) {
+                            context.nextToken();
+                            orderableReplicationInstance
+                                    .setReplicationInstanceClass(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case 1142306869:
+                        if (fieldName.equals("StorageType")) {
+                            context.nextToken();
+                            orderableReplicationInstance.setStorageType(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 596488710:
+                        if (fieldName.equals("MinAllocatedStorage")) {
+                            context.nextToken();
+                            orderableReplicationInstance
+                                    .setMinAllocatedStorage(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 631328024:
+                        if (fieldName.equals("MaxAllocatedStorage")) {
+                            context.nextToken();
+                            orderableReplicationInstance
+                                    .setMaxAllocatedStorage(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 152122357:
+                        if (fieldName.equals("DefaultAllocatedStorage")) {
+                            context.nextToken();
+                            orderableReplicationInstance
+                                    .setDefaultAllocatedStorage(context
+                                            .getUnmarshaller(Integer.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case 1441371312:
+                        if (fieldName.equals("IncludedAllocatedStorage")) {
+                            context.nextToken();
+                            orderableReplicationInstance
+                                    .setIncludedAllocatedStorage(context
+                                            .getUnmarshaller(Integer.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,11 +53,18 @@ public class RefreshSchemasResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RefreshSchemasStatus", targetDepth)) {
-                    context.nextToken();
-                    refreshSchemasResult
-                            .setRefreshSchemasStatus(RefreshSchemasStatusJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1288680823:
+                        if (fieldName.equals("RefreshSchemasStatus")) {
+                            context.nextToken();
+                            refreshSchemasResult
+                                    .setRefreshSchemasStatus(RefreshSchemasStatusJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,32 +53,46 @@ public class RefreshSchemasStatusJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("EndpointArn", targetDepth)) {
-                    context.nextToken();
-                    refreshSchemasStatus.setEndpointArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ReplicationInstanceArn",
-                        targetDepth)) {
-                    context.nextToken();
-                    refreshSchemasStatus.setReplicationInstanceArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    refreshSchemasStatus.setStatus(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("LastRefreshDate", targetDepth)) {
-                    context.nextToken();
-                    refreshSchemasStatus.setLastRefreshDate(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("LastFailureMessage", targetDepth)) {
-                    context.nextToken();
-                    refreshSchemasStatus.setLastFailureMessage(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 532031592:
+                        if (fieldName.equals("EndpointArn")) {
+                            context.nextToken();
+                            refreshSchemasStatus.setEndpointArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1850826300:
+                        if (fieldName.equals("ReplicationInstanceArn")) {
+                            context.nextToken();
+                            refreshSchemasStatus.setReplicationInstanceArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1808614382:
+                        if (fieldName.equals("Status")) {
+                            context.nextToken();
+                            refreshSchemasStatus.setStatus(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -197557101:
+                        if (fieldName.equals("LastRefreshDate")) {
+                            context.nextToken();
+                            refreshSchemasStatus.setLastRefreshDate(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case 1447449459:
+                        if (fieldName.equals("LastFailureMessage")) {
+                            context.nextToken();
+                            refreshSchemasStatus.setLastFailureMessage(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,108 +53,135 @@ public class ReplicationInstanceJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ReplicationInstanceIdentifier",
-                        targetDepth)) {
-                    context.nextToken();
-                    replicationInstance
-                            .setReplicationInstanceIdentifier(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("ReplicationInstanceClass",
-                        targetDepth)) {
-                    context.nextToken();
-                    replicationInstance.setReplicationInstanceClass(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ReplicationInstanceStatus",
-                        targetDepth)) {
-                    context.nextToken();
-                    replicationInstance.setReplicationInstanceStatus(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AllocatedStorage", targetDepth)) {
-                    context.nextToken();
-                    replicationInstance
-                            .setAllocatedStorage(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceCreateTime", targetDepth)) {
-                    context.nextToken();
-                    replicationInstance.setInstanceCreateTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("AvailabilityZone", targetDepth)) {
-                    context.nextToken();
-                    replicationInstance.setAvailabilityZone(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ReplicationSubnetGroup",
-                        targetDepth)) {
-                    context.nextToken();
-                    replicationInstance
-                            .setReplicationSubnetGroup(ReplicationSubnetGroupJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("PreferredMaintenanceWindow",
-                        targetDepth)) {
-                    context.nextToken();
-                    replicationInstance.setPreferredMaintenanceWindow(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("PendingModifiedValues", targetDepth)) {
-                    context.nextToken();
-                    replicationInstance
-                            .setPendingModifiedValues(ReplicationPendingModifiedValuesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("EngineVersion", targetDepth)) {
-                    context.nextToken();
-                    replicationInstance.setEngineVersion(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AutoMinorVersionUpgrade",
-                        targetDepth)) {
-                    context.nextToken();
-                    replicationInstance
-                            .setAutoMinorVersionUpgrade(context
-                                    .getUnmarshaller(Boolean.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("KmsKeyId", targetDepth)) {
-                    context.nextToken();
-                    replicationInstance.setKmsKeyId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ReplicationInstanceArn",
-                        targetDepth)) {
-                    context.nextToken();
-                    replicationInstance.setReplicationInstanceArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression(
-                        "ReplicationInstancePublicIpAddress", targetDepth)) {
-                    context.nextToken();
-                    replicationInstance
-                            .setReplicationInstancePublicIpAddress(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression(
-                        "ReplicationInstancePrivateIpAddress", targetDepth)) {
-                    context.nextToken();
-                    replicationInstance
-                            .setReplicationInstancePrivateIpAddress(context
-                                    .getUnmarshaller(String.class).unmarshall(
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1917419498:
+                        if (fieldName.equals("ReplicationInstanceIdentifier")) {
+                            context.nextToken();
+                            replicationInstance
+                                    .setReplicationInstanceIdentifier(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case 529273239:
+                        if (fieldName.equals("ReplicationInstanceClass")) {
+                            context.nextToken();
+                            replicationInstance.setReplicationInstanceClass(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -306943053:
+                        if (fieldName.equals("ReplicationInstanceStatus")) {
+                            context.nextToken();
+                            replicationInstance.setReplicationInstanceStatus(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -25483308:
+                        if (fieldName.equals("AllocatedStorage")) {
+                            context.nextToken();
+                            replicationInstance
+                                    .setAllocatedStorage(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 1413202046:
+                        if (fieldName.equals("InstanceCreateTime")) {
+                            context.nextToken();
+                            replicationInstance.setInstanceCreateTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
                                             context));
-                }
-                if (context.testExpression("PubliclyAccessible", targetDepth)) {
-                    context.nextToken();
-                    replicationInstance
-                            .setPubliclyAccessible(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 1777257415:
+                        if (fieldName.equals("AvailabilityZone")) {
+                            context.nextToken();
+                            replicationInstance.setAvailabilityZone(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -2117989930:
+                        if (fieldName.equals("ReplicationSubnetGroup")) {
+                            context.nextToken();
+                            replicationInstance
+                                    .setReplicationSubnetGroup(ReplicationSubnetGroupJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -722787710:
+                        if (fieldName.equals("PreferredMaintenanceWindow")) {
+                            context.nextToken();
+                            replicationInstance.setPreferredMaintenanceWindow(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1972773538:
+                        if (fieldName.equals("PendingModifiedValues")) {
+                            context.nextToken();
+                            replicationInstance
+                                    .setPendingModifiedValues(ReplicationPendingModifiedValuesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -617268202:
+                        if (fieldName.equals("EngineVersion")) {
+                            context.nextToken();
+                            replicationInstance.setEngineVersion(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 725725930:
+                        if (fieldName.equals("AutoMinorVersionUpgrade")) {
+                            context.nextToken();
+                            replicationInstance
+                                    .setAutoMinorVersionUpgrade(context
+                                            .getUnmarshaller(Boolean.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -1114813655:
+                        if (fieldName.equals("KmsKeyId")) {
+                            context.nextToken();
+                            replicationInstance.setKmsKeyId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1850826300:
+                        if (fieldName.equals("ReplicationInstanceArn")) {
+                            context.nextToken();
+                            replicationInstance.setReplicationInstanceArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -583565885:
+                        if (fieldName.equals("ReplicationInstancePublicIpAddress")) {
+                            context.nextToken();
+                            replicationInstance
+                                    .setReplicationInstancePublicIpAddress(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -676300533:
+                        if (fieldName.equals("ReplicationInstancePrivateIpAddress")) {
+                            context.nextToken();
+                            replicationInstance
+                                    .setReplicationInstancePrivateIpAddress(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case 1075302956:
+                        if (fieldName.equals("PubliclyAccessible")) {
+                            context.nextToken();
+                            replicationInstance
+                                    .setPubliclyAccessible(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
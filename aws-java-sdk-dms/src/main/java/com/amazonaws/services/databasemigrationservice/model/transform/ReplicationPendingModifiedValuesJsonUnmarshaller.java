@@ -53,24 +53,34 @@ public class ReplicationPendingModifiedValuesJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ReplicationInstanceClass",
-                        targetDepth)) {
-                    context.nextToken();
-                    replicationPendingModifiedValues
-                            .setReplicationInstanceClass(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("AllocatedStorage", targetDepth)) {
-                    context.nextToken();
-                    replicationPendingModifiedValues
-                            .setAllocatedStorage(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("EngineVersion", targetDepth)) {
-                    context.nextToken();
-                    replicationPendingModifiedValues.setEngineVersion(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 529273239:
+                        if (fieldName.equals("ReplicationInstanceClass")) {
+                            context.nextToken();
+                            replicationPendingModifiedValues
+                                    .setReplicationInstanceClass(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -25483308:
+                        if (fieldName.equals("AllocatedStorage")) {
+                            context.nextToken();
+                            replicationPendingModifiedValues
+                                    .setAllocatedStorage(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -617268202:
+                        if (fieldName.equals("EngineVersion")) {
+                            context.nextToken();
+                            replicationPendingModifiedValues.setEngineVersion(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,38 +53,51 @@ public class ReplicationSubnetGroupJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ReplicationSubnetGroupIdentifier",
-                        targetDepth)) {
-                    context.nextToken();
-                    replicationSubnetGroup
-                            .setReplicationSubnetGroupIdentifier(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("ReplicationSubnetGroupDescription",
-                        targetDepth)) {
-                    context.nextToken();
-                    replicationSubnetGroup
-                            .setReplicationSubnetGroupDescription(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("VpcId", targetDepth)) {
-                    context.nextToken();
-                    replicationSubnetGroup.setVpcId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("SubnetGroupStatus", targetDepth)) {
-                    context.nextToken();
-                    replicationSubnetGroup.setSubnetGroupStatus(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Subnets", targetDepth)) {
-                    context.nextToken();
-                    replicationSubnetGroup
-                            .setSubnets(new ListUnmarshaller<Subnet>(
-                                    SubnetJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1326628639:
+                        if (fieldName.equals("ReplicationSubnetGroupIdentifier")) {
+                            context.nextToken();
+                            replicationSubnetGroup
+                                    .setReplicationSubnetGroupIdentifier(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -621952954:
+                        if (fieldName.equals("ReplicationSubnetGroupDescription")) {
+                            context.nextToken();
+                            replicationSubnetGroup
+                                    .setReplicationSubnetGroupDescription(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case 82856900:
+                        if (fieldName.equals("VpcId")) {
+                            context.nextToken();
+                            replicationSubnetGroup.setVpcId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -656576620:
+                        if (fieldName.equals("SubnetGroupStatus")) {
+                            context.nextToken();
+                            replicationSubnetGroup.setSubnetGroupStatus(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -203112298:
+                        if (fieldName.equals("Subnets")) {
+                            context.nextToken();
+                            replicationSubnetGroup
+                                    .setSubnets(new ListUnmarshaller<Subnet>(
+                                            SubnetJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
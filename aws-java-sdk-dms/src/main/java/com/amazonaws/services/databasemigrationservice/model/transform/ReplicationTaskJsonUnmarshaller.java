@@ -53,78 +53,104 @@ public class ReplicationTaskJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ReplicationTaskIdentifier",
-                        targetDepth)) {
-                    context.nextToken();
-                    replicationTask.setReplicationTaskIdentifier(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SourceEndpointArn", targetDepth)) {
-                    context.nextToken();
-                    replicationTask.setSourceEndpointArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TargetEndpointArn", targetDepth)) {
-                    context.nextToken();
-                    replicationTask.setTargetEndpointArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ReplicationInstanceArn",
-                        targetDepth)) {
-                    context.nextToken();
-                    replicationTask.setReplicationInstanceArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MigrationType", targetDepth)) {
-                    context.nextToken();
-                    replicationTask.setMigrationType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("TableMappings", targetDepth)) {
-                    context.nextToken();
-                    replicationTask.setTableMappings(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ReplicationTaskSettings",
-                        targetDepth)) {
-                    context.nextToken();
-                    replicationTask.setReplicationTaskSettings(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    replicationTask.setStatus(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("LastFailureMessage", targetDepth)) {
-                    context.nextToken();
-                    replicationTask.setLastFailureMessage(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ReplicationTaskCreationDate",
-                        targetDepth)) {
-                    context.nextToken();
-                    replicationTask.setReplicationTaskCreationDate(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("ReplicationTaskStartDate",
-                        targetDepth)) {
-                    context.nextToken();
-                    replicationTask.setReplicationTaskStartDate(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("ReplicationTaskArn", targetDepth)) {
-                    context.nextToken();
-                    replicationTask.setReplicationTaskArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ReplicationTaskStats", targetDepth)) {
-                    context.nextToken();
-                    replicationTask
-                            .setReplicationTaskStats(ReplicationTaskStatsJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2072836826:
+                        if (fieldName.equals("ReplicationTaskIdentifier")) {
+                            context.nextToken();
+                            replicationTask.setReplicationTaskIdentifier(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 13988173:
+                        if (fieldName.equals("SourceEndpointArn")) {
+                            context.nextToken();
+                            replicationTask.setSourceEndpointArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1982201321:
+                        if (fieldName.equals("TargetEndpointArn")) {
+                            context.nextToken();
+                            replicationTask.setTargetEndpointArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1850826300:
+                        if (fieldName.equals("ReplicationInstanceArn")) {
+                            context.nextToken();
+                            replicationTask.setReplicationInstanceArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1275252744:
+                        if (fieldName.equals("MigrationType")) {
+                            context.nextToken();
+                            replicationTask.setMigrationType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -901307597:
+                        if (fieldName.equals("TableMappings")) {
+                            context.nextToken();
+                            replicationTask.setTableMappings(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2113331860:
+                        if (fieldName.equals("ReplicationTaskSettings")) {
+                            context.nextToken();
+                            replicationTask.setReplicationTaskSettings(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1808614382:
+                        if (fieldName.equals("Status")) {
+                            context.nextToken();
+                            replicationTask.setStatus(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1447449459:
+                        if (fieldName.equals("LastFailureMessage")) {
+                            context.nextToken();
+                            replicationTask.setLastFailureMessage(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1252708638:
+                        if (fieldName.equals("ReplicationTaskCreationDate")) {
+                            context.nextToken();
+                            replicationTask.setReplicationTaskCreationDate(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case 1730072287:
+                        if (fieldName.equals("ReplicationTaskStartDate")) {
+                            context.nextToken();
+                            replicationTask.setReplicationTaskStartDate(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case -891727540:
+                        if (fieldName.equals("ReplicationTaskArn")) {
+                            context.nextToken();
+                            replicationTask.setReplicationTaskArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2059967438:
+                        if (fieldName.equals("ReplicationTaskStats")) {
+                            context.nextToken();
+                            replicationTask
+                                    .setReplicationTaskStats(ReplicationTaskStatsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
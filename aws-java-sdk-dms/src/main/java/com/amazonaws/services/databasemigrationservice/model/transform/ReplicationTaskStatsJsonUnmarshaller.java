@@ -53,42 +53,58 @@ public class ReplicationTaskStatsJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FullLoadProgressPercent",
-                        targetDepth)) {
-                    context.nextToken();
-                    replicationTaskStats
-                            .setFullLoadProgressPercent(context
-                                    .getUnmarshaller(Integer.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("ElapsedTimeMillis", targetDepth)) {
-                    context.nextToken();
-                    replicationTaskStats.setElapsedTimeMillis(context
-                            .getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("TablesLoaded", targetDepth)) {
-                    context.nextToken();
-                    replicationTaskStats
-                            .setTablesLoaded(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("TablesLoading", targetDepth)) {
-                    context.nextToken();
-                    replicationTaskStats
-                            .setTablesLoading(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("TablesQueued", targetDepth)) {
-                    context.nextToken();
-                    replicationTaskStats
-                            .setTablesQueued(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("TablesErrored", targetDepth)) {
-                    context.nextToken();
-                    replicationTaskStats
-                            .setTablesErrored(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 532653155:
+                        if (fieldName.equals("FullLoadProgressPercent")) {
+                            context.nextToken();
+                            replicationTaskStats
+                                    .setFullLoadProgressPercent(context
+                                            .getUnmarshaller(Integer.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -1224372753:
+                        if (fieldName.equals("ElapsedTimeMillis")) {
+                            context.nextToken();
+                            replicationTaskStats.setElapsedTimeMillis(context
+                                    .getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 1227591402:
+                        if (fieldName.equals("TablesLoaded")) {
+                            context.nextToken();
+                            replicationTaskStats
+                                    .setTablesLoaded(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -599367945:
+                        if (fieldName.equals("TablesLoading")) {
+                            context.nextToken();
+                            replicationTaskStats
+                                    .setTablesLoading(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 1376413784:
+                        if (fieldName.equals("TablesQueued")) {
+                            context.nextToken();
+                            replicationTaskStats
+                                    .setTablesQueued(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 1879964258:
+                        if (fieldName.equals("TablesErrored")) {
+                            context.nextToken();
+                            replicationTaskStats
+                                    .setTablesErrored(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
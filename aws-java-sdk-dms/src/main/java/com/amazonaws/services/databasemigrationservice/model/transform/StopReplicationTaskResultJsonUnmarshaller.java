@@ -53,11 +53,18 @@ public class StopReplicationTaskResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ReplicationTask", targetDepth)) {
-                    context.nextToken();
-                    stopReplicationTaskResult
-                            .setReplicationTask(ReplicationTaskJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1119509679:
+                        if (fieldName.equals("ReplicationTask")) {
+                            context.nextToken();
+                            stopReplicationTaskResult
+                                    .setReplicationTask(ReplicationTaskJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
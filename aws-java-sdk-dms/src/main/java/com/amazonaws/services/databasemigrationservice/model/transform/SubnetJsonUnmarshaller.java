@@ -52,21 +52,31 @@ public class SubnetJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SubnetIdentifier", targetDepth)) {
-                    context.nextToken();
-                    subnet.setSubnetIdentifier(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("SubnetAvailabilityZone",
-                        targetDepth)) {
-                    context.nextToken();
-                    subnet.setSubnetAvailabilityZone(AvailabilityZoneJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("SubnetStatus", targetDepth)) {
-                    context.nextToken();
-                    subnet.setSubnetStatus(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1109901306:
+                        if (fieldName.equals("SubnetIdentifier")) {
+                            context.nextToken();
+                            subnet.setSubnetIdentifier(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -287088316:
+                        if (fieldName.equals("SubnetAvailabilityZone")) {
+                            context.nextToken();
+                            subnet.setSubnetAvailabilityZone(AvailabilityZoneJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1291819471:
+                        if (fieldName.equals("SubnetStatus")) {
+                            context.nextToken();
+                            subnet.setSubnetStatus(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,21 +53,32 @@ public class SupportedEndpointTypeJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("EngineName", targetDepth)) {
-                    context.nextToken();
-                    supportedEndpointType.setEngineName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SupportsCDC", targetDepth)) {
-                    context.nextToken();
-                    supportedEndpointType
-                            .setSupportsCDC(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("EndpointType", targetDepth)) {
-                    context.nextToken();
-                    supportedEndpointType.setEndpointType(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -861678579:
+                        if (fieldName.equals("EngineName")) {
+                            context.nextToken();
+                            supportedEndpointType.setEngineName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -182521122:
+                        if (fieldName.equals("SupportsCDC")) {
+                            context.nextToken();
+                            supportedEndpointType
+                                    .setSupportsCDC(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case -686316913:
+                        if (fieldName.equals("EndpointType")) {
+                            context.nextToken();
+                            supportedEndpointType.setEndpointType(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,50 +53,73 @@ public class TableStatisticsJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SchemaName", targetDepth)) {
-                    context.nextToken();
-                    tableStatistics.setSchemaName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("TableName", targetDepth)) {
-                    context.nextToken();
-                    tableStatistics.setTableName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Inserts", targetDepth)) {
-                    context.nextToken();
-                    tableStatistics.setInserts(context.getUnmarshaller(
-                            Long.class).unmarshall(context));
-                }
-                if (context.testExpression("Deletes", targetDepth)) {
-                    context.nextToken();
-                    tableStatistics.setDeletes(context.getUnmarshaller(
-                            Long.class).unmarshall(context));
-                }
-                if (context.testExpression("Updates", targetDepth)) {
-                    context.nextToken();
-                    tableStatistics.setUpdates(context.getUnmarshaller(
-                            Long.class).unmarshall(context));
-                }
-                if (context.testExpression("Ddls", targetDepth)) {
-                    context.nextToken();
-                    tableStatistics.setDdls(context.getUnmarshaller(Long.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("FullLoadRows", targetDepth)) {
-                    context.nextToken();
-                    tableStatistics.setFullLoadRows(context.getUnmarshaller(
-                            Long.class).unmarshall(context));
-                }
-                if (context.testExpression("LastUpdateTime", targetDepth)) {
-                    context.nextToken();
-                    tableStatistics.setLastUpdateTime(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("TableState", targetDepth)) {
-                    context.nextToken();
-                    tableStatistics.setTableState(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1544701932:
+                        if (fieldName.equals("SchemaName")) {
+                            context.nextToken();
+                            tableStatistics.setSchemaName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 15250265:
+                        if (fieldName.equals("TableName")) {
+                            context.nextToken();
+                            tableStatistics.setTableName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -673174342:
+                        if (fieldName.equals("Inserts")) {
+                            context.nextToken();
+                            tableStatistics.setInserts(context.getUnmarshaller(
+                                    Long.class).unmarshall(context));
+                        }
+                        break;
+                    case -1079851000:
+                        if (fieldName.equals("Deletes")) {
+                            context.nextToken();
+                            tableStatistics.setDeletes(context.getUnmarshaller(
+                                    Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 1430223018:
+                        if (fieldName.equals("Updates")) {
+                            context.nextToken();
+                            tableStatistics.setUpdates(context.getUnmarshaller(
+                                    Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 2125351:
+                        if (fieldName.equals("Ddls")) {
+                            context.nextToken();
+                            tableStatistics.setDdls(context.getUnmarshaller(Long.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 885961646:
+                        if (fieldName.equals("FullLoadRows")) {
+                            context.nextToken();
+                            tableStatistics.setFullLoadRows(context.getUnmarshaller(
+                                    Long.class).unmarshall(context));
+                        }
+                        break;
+                    case -1088820596:
+                        if (fieldName.equals("LastUpdateTime")) {
+                            context.nextToken();
+                            tableStatistics.setLastUpdateTime(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 477930883:
+                        if (fieldName.equals("TableState")) {
+                            context.nextToken();
+                            tableStatistics.setTableState(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,11 +53,18 @@ public class TestConnectionResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Connection", targetDepth)) {
-                    context.nextToken();
-                    testConnectionResult
-                            .setConnection(ConnectionJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1217813246:
+                        if (fieldName.equals("Connection")) {
+                            context.nextToken();
+                            testConnectionResult
+                                    .setConnection(ConnectionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
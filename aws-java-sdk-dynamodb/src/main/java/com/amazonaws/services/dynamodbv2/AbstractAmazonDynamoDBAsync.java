@@ -44,6 +44,21 @@ public class AbstractAmazonDynamoDBAsync extends AbstractAmazonDynamoDB
         throw new java.lang.UnsupportedOperationException();
     }
 
+    @Override
+    public java.util.concurrent.Future<BatchGetItemResult> batchGetItemNonBlockingAsync(
+            BatchGetItemRequest request) {
+
+        return batchGetItemNonBlockingAsync(request, null);
+    }
+
+    @Override
+    public java.util.concurrent.Future<BatchGetItemResult> batchGetItemNonBlockingAsync(
+            BatchGetItemRequest request,
+            com.amazonaws.handlers.AsyncHandler<BatchGetItemRequest, BatchGetItemResult> asyncHandler) {
+
+        throw new java.lang.UnsupportedOperationException();
+    }
+
     /**
      * Simplified method form for invoking the BatchGetItem operation.
      *
@@ -121,6 +136,21 @@ public class AbstractAmazonDynamoDBAsync extends AbstractAmazonDynamoDB
         throw new java.lang.UnsupportedOperationException();
     }
 
+    @Override
+    public java.util.concurrent.Future<BatchWriteItemResult> batchWriteItemNonBlockingAsync(
+            BatchWriteItemRequest request) {
+
+        return batchWriteItemNonBlockingAsync(request, null);
+    }
+
+    @Override
+    public java.util.concurrent.Future<BatchWriteItemResult> batchWriteItemNonBlockingAsync(
+            BatchWriteItemRequest request,
+            com.amazonaws.handlers.AsyncHandler<BatchWriteItemRequest, BatchWriteItemResult> asyncHandler) {
+
+        throw new java.lang.UnsupportedOperationException();
+    }
+
     /**
      * Simplified method form for invoking the BatchWriteItem operation.
      *
@@ -165,6 +195,21 @@ public class AbstractAmazonDynamoDBAsync extends AbstractAmazonDynamoDB
         throw new java.lang.UnsupportedOperationException();
     }
 
+    @Override
+    public java.util.concurrent.Future<CreateTableResult> createTableNonBlockingAsync(
+            CreateTableRequest request) {
+
+        return createTableNonBlockingAsync(request, null);
+    }
+
+    @Override
+    public java.util.concurrent.Future<CreateTableResult> createTableNonBlockingAsync(
+            CreateTableRequest request,
+            com.amazonaws.handlers.AsyncHandler<CreateTableRequest, CreateTableResult> asyncHandler) {
+
+        throw new java.lang.UnsupportedOperationException();
+    }
+
     /**
      * Simplified method form for invoking the CreateTable operation.
      *
@@ -219,6 +264,21 @@ public class AbstractAmazonDynamoDBAsync extends AbstractAmazonDynamoDB
         throw new java.lang.UnsupportedOperationException();
     }
 
+    @Override
+    public java.util.concurrent.Future<DeleteItemResult> deleteItemNonBlockingAsync(
+            DeleteItemRequest request) {
+
+        return deleteItemNonBlockingAsync(request, null);
+    }
+
+    @Override
+    public java.util.concurrent.Future<DeleteItemResult> deleteItemNonBlockingAsync(
+            DeleteItemRequest request,
+            com.amazonaws.handlers.AsyncHandler<DeleteItemRequest, DeleteItemResult> asyncHandler) {
+
+        throw new java.lang.UnsupportedOperationException();
+    }
+
     /**
      * Simplified method form for invoking the DeleteItem operation.
      *
@@ -294,6 +354,21 @@ public class AbstractAmazonDynamoDBAsync extends AbstractAmazonDynamoDB
         throw new java.lang.UnsupportedOperationException();
     }
 
+    @Override
+    public java.util.concurrent.Future<DeleteTableResult> deleteTableNonBlockingAsync(
+            DeleteTableRequest request) {
+
+        return deleteTableNonBlockingAsync(request, null);
+    }
+
+    @Override
+    public java.util.concurrent.Future<DeleteTableResult> deleteTableNonBlockingAsync(
+            DeleteTableRequest request,
+            com.amazonaws.handlers.AsyncHandler<DeleteTableRequest, DeleteTableResult> asyncHandler) {
+
+        throw new java.lang.UnsupportedOperationException();
+    }
+
     /**
      * Simplified method form for invoking the DeleteTable operation.
      *
@@ -337,6 +412,21 @@ public class AbstractAmazonDynamoDBAsync extends AbstractAmazonDynamoDB
         throw new java.lang.UnsupportedOperationException();
     }
 
+    @Override
+    public java.util.concurrent.Future<DescribeLimitsResult> describeLimitsNonBlockingAsync(
+            DescribeLimitsRequest request) {
+
+        return describeLimitsNonBlockingAsync(request, null);
+    }
+
+    @Override
+    public java.util.concurrent.Future<DescribeLimitsResult> describeLimitsNonBlockingAsync(
+            DescribeLimitsRequest request,
+            com.amazonaws.handlers.AsyncHandler<DescribeLimitsRequest, DescribeLimitsResult> asyncHandler) {
+
+        throw new java.lang.UnsupportedOperationException();
+    }
+
     @Override
     public java.util.concurrent.Future<DescribeTableResult> describeTableAsync(
             DescribeTableRequest request) {
@@ -352,6 +442,21 @@ public class AbstractAmazonDynamoDBAsync extends AbstractAmazonDynamoDB
         throw new java.lang.UnsupportedOperationException();
     }
 
+    @Override
+    public java.util.concurrent.Future<DescribeTableResult> describeTableNonBlockingAsync(
+            DescribeTableRequest request) {
+
+        return describeTableNonBlockingAsync(request, null);
+    }
+
+    @Override
+    public java.util.concurrent.Future<DescribeTableResult> describeTableNonBlockingAsync(
+            DescribeTableRequest request,
+            com.amazonaws.handlers.AsyncHandler<DescribeTableRequest, DescribeTableResult> asyncHandler) {
+
+        throw new java.lang.UnsupportedOperationException();
+    }
+
     /**
      * Simplified method form for invoking the DescribeTable operation.
      *
@@ -396,6 +501,21 @@ public class AbstractAmazonDynamoDBAsync extends AbstractAmazonDynamoDB
         throw new java.lang.UnsupportedOperationException();
     }
 
+    @Override
+    public java.util.concurrent.Future<GetItemResult> getItemNonBlockingAsync(
+            GetItemRequest request) {
+
+        return getItemNonBlockingAsync(request, null);
+    }
+
+    @Override
+    public java.util.concurrent.Future<GetItemResult> getItemNonBlockingAsync(
+            GetItemRequest request,
+            com.amazonaws.handlers.AsyncHandler<GetItemRequest, GetItemResult> asyncHandler) {
+
+        throw new java.lang.UnsupportedOperationException();
+    }
+
     /**
      * Simplified method form for invoking the GetItem operation.
      *
@@ -469,6 +589,21 @@ public class AbstractAmazonDynamoDBAsync extends AbstractAmazonDynamoDB
         throw new java.lang.UnsupportedOperationException();
     }
 
+    @Override
+    public java.util.concurrent.Future<ListTablesResult> listTablesNonBlockingAsync(
+            ListTablesRequest request) {
+
+        return listTablesNonBlockingAsync(request, null);
+    }
+
+    @Override
+    public java.util.concurrent.Future<ListTablesResult> listTablesNonBlockingAsync(
+            ListTablesRequest request,
+            com.amazonaws.handlers.AsyncHandler<ListTablesRequest, ListTablesResult> asyncHandler) {
+
+        throw new java.lang.UnsupportedOperationException();
+    }
+
     /**
      * Simplified method form for invoking the ListTables operation.
      *
@@ -596,6 +731,21 @@ public class AbstractAmazonDynamoDBAsync extends AbstractAmazonDynamoDB
         throw new java.lang.UnsupportedOperationException();
     }
 
+    @Override
+    public java.util.concurrent.Future<PutItemResult> putItemNonBlockingAsync(
+            PutItemRequest request) {
+
+        return putItemNonBlockingAsync(request, null);
+    }
+
+    @Override
+    public java.util.concurrent.Future<PutItemResult> putItemNonBlockingAsync(
+            PutItemRequest request,
+            com.amazonaws.handlers.AsyncHandler<PutItemRequest, PutItemResult> asyncHandler) {
+
+        throw new java.lang.UnsupportedOperationException();
+    }
+
     /**
      * Simplified method form for invoking the PutItem operation.
      *
@@ -669,6 +819,21 @@ public class AbstractAmazonDynamoDBAsync extends AbstractAmazonDynamoDB
         throw new java.lang.UnsupportedOperationException();
     }
 
+    @Override
+    public java.util.concurrent.Future<QueryResult> queryNonBlockingAsync(
+            QueryRequest request) {
+
+        return queryNonBlockingAsync(request, null);
+    }
+
+    @Override
+    public java.util.concurrent.Future<QueryResult> queryNonBlockingAsync(
+            QueryRequest request,
+            com.amazonaws.handlers.AsyncHandler<QueryRequest, QueryResult> asyncHandler) {
+
+        throw new java.lang.UnsupportedOperationException();
+    }
+
     @Override
     public java.util.concurrent.Future<ScanResult> scanAsync(ScanRequest request) {
 
@@ -683,6 +848,21 @@ public class AbstractAmazonDynamoDBAsync extends AbstractAmazonDynamoDB
         throw new java.lang.UnsupportedOperationException();
     }
 
+    @Override
+    public java.util.concurrent.Future<ScanResult> scanNonBlockingAsync(
+            ScanRequest request) {
+
+        return scanNonBlockingAsync(request, null);
+    }
+
+    @Override
+    public java.util.concurrent.Future<ScanResult> scanNonBlockingAsync(
+            ScanRequest request,
+            com.amazonaws.handlers.AsyncHandler<ScanRequest, ScanResult> asyncHandler) {
+
+        throw new java.lang.UnsupportedOperationException();
+    }
+
     /**
      * Simplified method form for invoking the Scan operation.
      *
@@ -786,6 +966,21 @@ public class AbstractAmazonDynamoDBAsync extends AbstractAmazonDynamoDB
         throw new java.lang.UnsupportedOperationException();
     }
 
+    @Override
+    public java.util.concurrent.Future<UpdateItemResult> updateItemNonBlockingAsync(
+            UpdateItemRequest request) {
+
+        return updateItemNonBlockingAsync(request, null);
+    }
+
+    @Override
+    public java.util.concurrent.Future<UpdateItemResult> updateItemNonBlockingAsync(
+            UpdateItemRequest request,
+            com.amazonaws.handlers.AsyncHandler<UpdateItemRequest, UpdateItemResult> asyncHandler) {
+
+        throw new java.lang.UnsupportedOperationException();
+    }
+
     /**
      * Simplified method form for invoking the UpdateItem operation.
      *
@@ -868,6 +1063,21 @@ public class AbstractAmazonDynamoDBAsync extends AbstractAmazonDynamoDB
         throw new java.lang.UnsupportedOperationException();
     }
 
+    @Override
+    public java.util.concurrent.Future<UpdateTableResult> updateTableNonBlockingAsync(
+            UpdateTableRequest request) {
+
+        return updateTableNonBlockingAsync(request, null);
+    }
+
+    @Override
+    public java.util.concurrent.Future<UpdateTableResult> updateTableNonBlockingAsync(
+            UpdateTableRequest request,
+            com.amazonaws.handlers.AsyncHandler<UpdateTableRequest, UpdateTableResult> asyncHandler) {
+
+        throw new java.lang.UnsupportedOperationException();
+    }
+
     /**
      * Simplified method form for invoking the UpdateTable operation.
      *
@@ -23,6 +23,11 @@ import com.amazonaws.services.dynamodbv2.model.*;
  * overloads which accept an {@code AsyncHandler} can be used to receive
  * notification when an asynchronous operation completes.
  * <p>
+ * Methods suffixed with {@code NonBlockingAsync} send the request over the
+ * non-blocking transport of the client instead of holding a thread of the
+ * executor for the whole call, which lets dependent calls be chained from their
+ * handlers without blocking.
+ * <p>
  * <fullname>Amazon DynamoDB</fullname>
  * <p>
  * This is the Amazon DynamoDB API Reference. This guide provides descriptions
@@ -402,6 +407,41 @@ public interface AmazonDynamoDBAsync extends AmazonDynamoDB {
             BatchGetItemRequest batchGetItemRequest,
             com.amazonaws.handlers.AsyncHandler<BatchGetItemRequest, BatchGetItemResult> asyncHandler);
 
+    /**
+     * Sends the BatchGetItem request without holding a thread while it is in
+     * flight, unlike {@link #batchGetItemAsync(BatchGetItemRequest)} which
+     * blocks a thread of the executor of the client for the whole call. The
+     * response is read into memory before it is unmarshalled.
+     *
+     * @param batchGetItemRequest
+     * @return A Java Future containing the result of the BatchGetItem operation
+     *         returned by the service.
+     * @see #batchGetItemAsync(BatchGetItemRequest)
+     */
+    java.util.concurrent.Future<BatchGetItemResult> batchGetItemNonBlockingAsync(
+            BatchGetItemRequest batchGetItemRequest);
+
+    /**
+     * Sends the BatchGetItem request without holding a thread while it is in
+     * flight. The handler is notified on the executor of the client; it can
+     * start dependent requests with other non-blocking methods to pipeline
+     * calls without blocking any thread between them.
+     *
+     * @param batchGetItemRequest
+     * @param asyncHandler
+     *        Asynchronous callback handler for events in the lifecycle of the
+     *        request. Users can provide an implementation of the callback
+     *        methods in this interface to receive notification of successful or
+     *        unsuccessful completion of the operation.
+     * @return A Java Future containing the result of the BatchGetItem operation
+     *         returned by the service.
+     * @see #batchGetItemAsync(BatchGetItemRequest,
+     *      com.amazonaws.handlers.AsyncHandler)
+     */
+    java.util.concurrent.Future<BatchGetItemResult> batchGetItemNonBlockingAsync(
+            BatchGetItemRequest batchGetItemRequest,
+            com.amazonaws.handlers.AsyncHandler<BatchGetItemRequest, BatchGetItemResult> asyncHandler);
+
     /**
      * Simplified method form for invoking the BatchGetItem operation.
      *
@@ -696,6 +736,41 @@ public interface AmazonDynamoDBAsync extends AmazonDynamoDB {
             BatchWriteItemRequest batchWriteItemRequest,
             com.amazonaws.handlers.AsyncHandler<BatchWriteItemRequest, BatchWriteItemResult> asyncHandler);
 
+    /**
+     * Sends the BatchWriteItem request without holding a thread while it is in
+     * flight, unlike {@link #batchWriteItemAsync(BatchWriteItemRequest)} which
+     * blocks a thread of the executor of the client for the whole call. The
+     * response is read into memory before it is unmarshalled.
+     *
+     * @param batchWriteItemRequest
+     * @return A Java Future containing the result of the BatchWriteItem
+     *         operation returned by the service.
+     * @see #batchWriteItemAsync(BatchWriteItemRequest)
+     */
+    java.util.concurrent.Future<BatchWriteItemResult> batchWriteItemNonBlockingAsync(
+            BatchWriteItemRequest batchWriteItemRequest);
+
+    /**
+     * Sends the BatchWriteItem request without holding a thread while it is in
+     * flight. The handler is notified on the executor of the client; it can
+     * start dependent requests with other non-blocking methods to pipeline
+     * calls without blocking any thread between them.
+     *
+     * @param batchWriteItemRequest
+     * @param asyncHandler
+     *        Asynchronous callback handler for events in the lifecycle of the
+     *        request. Users can provide an implementation of the callback
+     *        methods in this interface to receive notification of successful or
+     *        unsuccessful completion of the operation.
+     * @return A Java Future containing the result of the BatchWriteItem
+     *         operation returned by the service.
+     * @see #batchWriteItemAsync(BatchWriteItemRequest,
+     *      com.amazonaws.handlers.AsyncHandler)
+     */
+    java.util.concurrent.Future<BatchWriteItemResult> batchWriteItemNonBlockingAsync(
+            BatchWriteItemRequest batchWriteItemRequest,
+            com.amazonaws.handlers.AsyncHandler<BatchWriteItemRequest, BatchWriteItemResult> asyncHandler);
+
     /**
      * Simplified method form for invoking the BatchWriteItem operation.
      *
@@ -791,6 +866,41 @@ public interface AmazonDynamoDBAsync extends AmazonDynamoDB {
             CreateTableRequest createTableRequest,
             com.amazonaws.handlers.AsyncHandler<CreateTableRequest, CreateTableResult> asyncHandler);
 
+    /**
+     * Sends the CreateTable request without holding a thread while it is in
+     * flight, unlike {@link #createTableAsync(CreateTableRequest)} which blocks
+     * a thread of the executor of the client for the whole call. The response
+     * is read into memory before it is unmarshalled.
+     *
+     * @param createTableRequest
+     * @return A Java Future containing the result of the CreateTable operation
+     *         returned by the service.
+     * @see #createTableAsync(CreateTableRequest)
+     */
+    java.util.concurrent.Future<CreateTableResult> createTableNonBlockingAsync(
+            CreateTableRequest createTableRequest);
+
+    /**
+     * Sends the CreateTable request without holding a thread while it is in
+     * flight. The handler is notified on the executor of the client; it can
+     * start dependent requests with other non-blocking methods to pipeline
+     * calls without blocking any thread between them.
+     *
+     * @param createTableRequest
+     * @param asyncHandler
+     *        Asynchronous callback handler for events in the lifecycle of the
+     *        request. Users can provide an implementation of the callback
+     *        methods in this interface to receive notification of successful or
+     *        unsuccessful completion of the operation.
+     * @return A Java Future containing the result of the CreateTable operation
+     *         returned by the service.
+     * @see #createTableAsync(CreateTableRequest,
+     *      com.amazonaws.handlers.AsyncHandler)
+     */
+    java.util.concurrent.Future<CreateTableResult> createTableNonBlockingAsync(
+            CreateTableRequest createTableRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateTableRequest, CreateTableResult> asyncHandler);
+
     /**
      * Simplified method form for invoking the CreateTable operation.
      *
@@ -881,6 +991,41 @@ public interface AmazonDynamoDBAsync extends AmazonDynamoDB {
             DeleteItemRequest deleteItemRequest,
             com.amazonaws.handlers.AsyncHandler<DeleteItemRequest, DeleteItemResult> asyncHandler);
 
+    /**
+     * Sends the DeleteItem request without holding a thread while it is in
+     * flight, unlike {@link #deleteItemAsync(DeleteItemRequest)} which blocks a
+     * thread of the executor of the client for the whole call. The response is
+     * read into memory before it is unmarshalled.
+     *
+     * @param deleteItemRequest
+     * @return A Java Future containing the result of the DeleteItem operation
+     *         returned by the service.
+     * @see #deleteItemAsync(DeleteItemRequest)
+     */
+    java.util.concurrent.Future<DeleteItemResult> deleteItemNonBlockingAsync(
+            DeleteItemRequest deleteItemRequest);
+
+    /**
+     * Sends the DeleteItem request without holding a thread while it is in
+     * flight. The handler is notified on the executor of the client; it can
+     * start dependent requests with other non-blocking methods to pipeline
+     * calls without blocking any thread between them.
+     *
+     * @param deleteItemRequest
+     * @param asyncHandler
+     *        Asynchronous callback handler for events in the lifecycle of the
+     *        request. Users can provide an implementation of the callback
+     *        methods in this interface to receive notification of successful or
+     *        unsuccessful completion of the operation.
+     * @return A Java Future containing the result of the DeleteItem operation
+     *         returned by the service.
+     * @see #deleteItemAsync(DeleteItemRequest,
+     *      com.amazonaws.handlers.AsyncHandler)
+     */
+    java.util.concurrent.Future<DeleteItemResult> deleteItemNonBlockingAsync(
+            DeleteItemRequest deleteItemRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteItemRequest, DeleteItemResult> asyncHandler);
+
     /**
      * Simplified method form for invoking the DeleteItem operation.
      *
@@ -1009,6 +1154,41 @@ public interface AmazonDynamoDBAsync extends AmazonDynamoDB {
             DeleteTableRequest deleteTableRequest,
             com.amazonaws.handlers.AsyncHandler<DeleteTableRequest, DeleteTableResult> asyncHandler);
 
+    /**
+     * Sends the DeleteTable request without holding a thread while it is in
+     * flight, unlike {@link #deleteTableAsync(DeleteTableRequest)} which blocks
+     * a thread of the executor of the client for the whole call. The response
+     * is read into memory before it is unmarshalled.
+     *
+     * @param deleteTableRequest
+     * @return A Java Future containing the result of the DeleteTable operation
+     *         returned by the service.
+     * @see #deleteTableAsync(DeleteTableRequest)
+     */
+    java.util.concurrent.Future<DeleteTableResult> deleteTableNonBlockingAsync(
+            DeleteTableRequest deleteTableRequest);
+
+    /**
+     * Sends the DeleteTable request without holding a thread while it is in
+     * flight. The handler is notified on the executor of the client; it can
+     * start dependent requests with other non-blocking methods to pipeline
+     * calls without blocking any thread between them.
+     *
+     * @param deleteTableRequest
+     * @param asyncHandler
+     *        Asynchronous callback handler for events in the lifecycle of the
+     *        request. Users can provide an implementation of the callback
+     *        methods in this interface to receive notification of successful or
+     *        unsuccessful completion of the operation.
+     * @return A Java Future containing the result of the DeleteTable operation
+     *         returned by the service.
+     * @see #deleteTableAsync(DeleteTableRequest,
+     *      com.amazonaws.handlers.AsyncHandler)
+     */
+    java.util.concurrent.Future<DeleteTableResult> deleteTableNonBlockingAsync(
+            DeleteTableRequest deleteTableRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteTableRequest, DeleteTableResult> asyncHandler);
+
     /**
      * Simplified method form for invoking the DeleteTable operation.
      *
@@ -1262,6 +1442,41 @@ public interface AmazonDynamoDBAsync extends AmazonDynamoDB {
             DescribeLimitsRequest describeLimitsRequest,
             com.amazonaws.handlers.AsyncHandler<DescribeLimitsRequest, DescribeLimitsResult> asyncHandler);
 
+    /**
+     * Sends the DescribeLimits request without holding a thread while it is in
+     * flight, unlike {@link #describeLimitsAsync(DescribeLimitsRequest)} which
+     * blocks a thread of the executor of the client for the whole call. The
+     * response is read into memory before it is unmarshalled.
+     *
+     * @param describeLimitsRequest
+     * @return A Java Future containing the result of the DescribeLimits
+     *         operation returned by the service.
+     * @see #describeLimitsAsync(DescribeLimitsRequest)
+     */
+    java.util.concurrent.Future<DescribeLimitsResult> describeLimitsNonBlockingAsync(
+            DescribeLimitsRequest describeLimitsRequest);
+
+    /**
+     * Sends the DescribeLimits request without holding a thread while it is in
+     * flight. The handler is notified on the executor of the client; it can
+     * start dependent requests with other non-blocking methods to pipeline
+     * calls without blocking any thread between them.
+     *
+     * @param describeLimitsRequest
+     * @param asyncHandler
+     *        Asynchronous callback handler for events in the lifecycle of the
+     *        request. Users can provide an implementation of the callback
+     *        methods in this interface to receive notification of successful or
+     *        unsuccessful completion of the operation.
+     * @return A Java Future containing the result of the DescribeLimits
+     *         operation returned by the service.
+     * @see #describeLimitsAsync(DescribeLimitsRequest,
+     *      com.amazonaws.handlers.AsyncHandler)
+     */
+    java.util.concurrent.Future<DescribeLimitsResult> describeLimitsNonBlockingAsync(
+            DescribeLimitsRequest describeLimitsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeLimitsRequest, DescribeLimitsResult> asyncHandler);
+
     /**
      * <p>
      * Returns information about the table, including the current status of the
@@ -1320,6 +1535,41 @@ public interface AmazonDynamoDBAsync extends AmazonDynamoDB {
             DescribeTableRequest describeTableRequest,
             com.amazonaws.handlers.AsyncHandler<DescribeTableRequest, DescribeTableResult> asyncHandler);
 
+    /**
+     * Sends the DescribeTable request without holding a thread while it is in
+     * flight, unlike {@link #describeTableAsync(DescribeTableRequest)} which
+     * blocks a thread of the executor of the client for the whole call. The
+     * response is read into memory before it is unmarshalled.
+     *
+     * @param describeTableRequest
+     * @return A Java Future containing the result of the DescribeTable
+     *         operation returned by the service.
+     * @see #describeTableAsync(DescribeTableRequest)
+     */
+    java.util.concurrent.Future<DescribeTableResult> describeTableNonBlockingAsync(
+            DescribeTableRequest describeTableRequest);
+
+    /**
+     * Sends the DescribeTable request without holding a thread while it is in
+     * flight. The handler is notified on the executor of the client; it can
+     * start dependent requests with other non-blocking methods to pipeline
+     * calls without blocking any thread between them.
+     *
+     * @param describeTableRequest
+     * @param asyncHandler
+     *        Asynchronous callback handler for events in the lifecycle of the
+     *        request. Users can provide an implementation of the callback
+     *        methods in this interface to receive notification of successful or
+     *        unsuccessful completion of the operation.
+     * @return A Java Future containing the result of the DescribeTable
+     *         operation returned by the service.
+     * @see #describeTableAsync(DescribeTableRequest,
+     *      com.amazonaws.handlers.AsyncHandler)
+     */
+    java.util.concurrent.Future<DescribeTableResult> describeTableNonBlockingAsync(
+            DescribeTableRequest describeTableRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeTableRequest, DescribeTableResult> asyncHandler);
+
     /**
      * Simplified method form for invoking the DescribeTable operation.
      *
@@ -1391,6 +1641,40 @@ public interface AmazonDynamoDBAsync extends AmazonDynamoDB {
             GetItemRequest getItemRequest,
             com.amazonaws.handlers.AsyncHandler<GetItemRequest, GetItemResult> asyncHandler);
 
+    /**
+     * Sends the GetItem request without holding a thread while it is in flight,
+     * unlike {@link #getItemAsync(GetItemRequest)} which blocks a thread of the
+     * executor of the client for the whole call. The response is read into
+     * memory before it is unmarshalled.
+     *
+     * @param getItemRequest
+     * @return A Java Future containing the result of the GetItem operation
+     *         returned by the service.
+     * @see #getItemAsync(GetItemRequest)
+     */
+    java.util.concurrent.Future<GetItemResult> getItemNonBlockingAsync(
+            GetItemRequest getItemRequest);
+
+    /**
+     * Sends the GetItem request without holding a thread while it is in flight.
+     * The handler is notified on the executor of the client; it can start
+     * dependent requests with other non-blocking methods to pipeline calls
+     * without blocking any thread between them.
+     *
+     * @param getItemRequest
+     * @param asyncHandler
+     *        Asynchronous callback handler for events in the lifecycle of the
+     *        request. Users can provide an implementation of the callback
+     *        methods in this interface to receive notification of successful or
+     *        unsuccessful completion of the operation.
+     * @return A Java Future containing the result of the GetItem operation
+     *         returned by the service.
+     * @see #getItemAsync(GetItemRequest, com.amazonaws.handlers.AsyncHandler)
+     */
+    java.util.concurrent.Future<GetItemResult> getItemNonBlockingAsync(
+            GetItemRequest getItemRequest,
+            com.amazonaws.handlers.AsyncHandler<GetItemRequest, GetItemResult> asyncHandler);
+
     /**
      * Simplified method form for invoking the GetItem operation.
      *
@@ -1468,6 +1752,41 @@ public interface AmazonDynamoDBAsync extends AmazonDynamoDB {
             ListTablesRequest listTablesRequest,
             com.amazonaws.handlers.AsyncHandler<ListTablesRequest, ListTablesResult> asyncHandler);
 
+    /**
+     * Sends the ListTables request without holding a thread while it is in
+     * flight, unlike {@link #listTablesAsync(ListTablesRequest)} which blocks a
+     * thread of the executor of the client for the whole call. The response is
+     * read into memory before it is unmarshalled.
+     *
+     * @param listTablesRequest
+     * @return A Java Future containing the result of the ListTables operation
+     *         returned by the service.
+     * @see #listTablesAsync(ListTablesRequest)
+     */
+    java.util.concurrent.Future<ListTablesResult> listTablesNonBlockingAsync(
+            ListTablesRequest listTablesRequest);
+
+    /**
+     * Sends the ListTables request without holding a thread while it is in
+     * flight. The handler is notified on the executor of the client; it can
+     * start dependent requests with other non-blocking methods to pipeline
+     * calls without blocking any thread between them.
+     *
+     * @param listTablesRequest
+     * @param asyncHandler
+     *        Asynchronous callback handler for events in the lifecycle of the
+     *        request. Users can provide an implementation of the callback
+     *        methods in this interface to receive notification of successful or
+     *        unsuccessful completion of the operation.
+     * @return A Java Future containing the result of the ListTables operation
+     *         returned by the service.
+     * @see #listTablesAsync(ListTablesRequest,
+     *      com.amazonaws.handlers.AsyncHandler)
+     */
+    java.util.concurrent.Future<ListTablesResult> listTablesNonBlockingAsync(
+            ListTablesRequest listTablesRequest,
+            com.amazonaws.handlers.AsyncHandler<ListTablesRequest, ListTablesResult> asyncHandler);
+
     /**
      * Simplified method form for invoking the ListTables operation.
      *
@@ -1650,6 +1969,40 @@ public interface AmazonDynamoDBAsync extends AmazonDynamoDB {
             PutItemRequest putItemRequest,
             com.amazonaws.handlers.AsyncHandler<PutItemRequest, PutItemResult> asyncHandler);
 
+    /**
+     * Sends the PutItem request without holding a thread while it is in flight,
+     * unlike {@link #putItemAsync(PutItemRequest)} which blocks a thread of the
+     * executor of the client for the whole call. The response is read into
+     * memory before it is unmarshalled.
+     *
+     * @param putItemRequest
+     * @return A Java Future containing the result of the PutItem operation
+     *         returned by the service.
+     * @see #putItemAsync(PutItemRequest)
+     */
+    java.util.concurrent.Future<PutItemResult> putItemNonBlockingAsync(
+            PutItemRequest putItemRequest);
+
+    /**
+     * Sends the PutItem request without holding a thread while it is in flight.
+     * The handler is notified on the executor of the client; it can start
+     * dependent requests with other non-blocking methods to pipeline calls
+     * without blocking any thread between them.
+     *
+     * @param putItemRequest
+     * @param asyncHandler
+     *        Asynchronous callback handler for events in the lifecycle of the
+     *        request. Users can provide an implementation of the callback
+     *        methods in this interface to receive notification of successful or
+     *        unsuccessful completion of the operation.
+     * @return A Java Future containing the result of the PutItem operation
+     *         returned by the service.
+     * @see #putItemAsync(PutItemRequest, com.amazonaws.handlers.AsyncHandler)
+     */
+    java.util.concurrent.Future<PutItemResult> putItemNonBlockingAsync(
+            PutItemRequest putItemRequest,
+            com.amazonaws.handlers.AsyncHandler<PutItemRequest, PutItemResult> asyncHandler);
+
     /**
      * Simplified method form for invoking the PutItem operation.
      *
@@ -1787,6 +2140,40 @@ public interface AmazonDynamoDBAsync extends AmazonDynamoDB {
             QueryRequest queryRequest,
             com.amazonaws.handlers.AsyncHandler<QueryRequest, QueryResult> asyncHandler);
 
+    /**
+     * Sends the Query request without holding a thread while it is in flight,
+     * unlike {@link #queryAsync(QueryRequest)} which blocks a thread of the
+     * executor of the client for the whole call. The response is read into
+     * memory before it is unmarshalled.
+     *
+     * @param queryRequest
+     * @return A Java Future containing the result of the Query operation
+     *         returned by the service.
+     * @see #queryAsync(QueryRequest)
+     */
+    java.util.concurrent.Future<QueryResult> queryNonBlockingAsync(
+            QueryRequest queryRequest);
+
+    /**
+     * Sends the Query request without holding a thread while it is in flight.
+     * The handler is notified on the executor of the client; it can start
+     * dependent requests with other non-blocking methods to pipeline calls
+     * without blocking any thread between them.
+     *
+     * @param queryRequest
+     * @param asyncHandler
+     *        Asynchronous callback handler for events in the lifecycle of the
+     *        request. Users can provide an implementation of the callback
+     *        methods in this interface to receive notification of successful or
+     *        unsuccessful completion of the operation.
+     * @return A Java Future containing the result of the Query operation
+     *         returned by the service.
+     * @see #queryAsync(QueryRequest, com.amazonaws.handlers.AsyncHandler)
+     */
+    java.util.concurrent.Future<QueryResult> queryNonBlockingAsync(
+            QueryRequest queryRequest,
+            com.amazonaws.handlers.AsyncHandler<QueryRequest, QueryResult> asyncHandler);
+
     /**
      * <p>
      * The <i>Scan</i> operation returns one or more items and item attributes
@@ -1868,6 +2255,40 @@ public interface AmazonDynamoDBAsync extends AmazonDynamoDB {
             ScanRequest scanRequest,
             com.amazonaws.handlers.AsyncHandler<ScanRequest, ScanResult> asyncHandler);
 
+    /**
+     * Sends the Scan request without holding a thread while it is in flight,
+     * unlike {@link #scanAsync(ScanRequest)} which blocks a thread of the
+     * executor of the client for the whole call. The response is read into
+     * memory before it is unmarshalled.
+     *
+     * @param scanRequest
+     * @return A Java Future containing the result of the Scan operation
+     *         returned by the service.
+     * @see #scanAsync(ScanRequest)
+     */
+    java.util.concurrent.Future<ScanResult> scanNonBlockingAsync(
+            ScanRequest scanRequest);
+
+    /**
+     * Sends the Scan request without holding a thread while it is in flight.
+     * The handler is notified on the executor of the client; it can start
+     * dependent requests with other non-blocking methods to pipeline calls
+     * without blocking any thread between them.
+     *
+     * @param scanRequest
+     * @param asyncHandler
+     *        Asynchronous callback handler for events in the lifecycle of the
+     *        request. Users can provide an implementation of the callback
+     *        methods in this interface to receive notification of successful or
+     *        unsuccessful completion of the operation.
+     * @return A Java Future containing the result of the Scan operation
+     *         returned by the service.
+     * @see #scanAsync(ScanRequest, com.amazonaws.handlers.AsyncHandler)
+     */
+    java.util.concurrent.Future<ScanResult> scanNonBlockingAsync(
+            ScanRequest scanRequest,
+            com.amazonaws.handlers.AsyncHandler<ScanRequest, ScanResult> asyncHandler);
+
     /**
      * Simplified method form for invoking the Scan operation.
      *
@@ -1977,6 +2398,41 @@ public interface AmazonDynamoDBAsync extends AmazonDynamoDB {
             UpdateItemRequest updateItemRequest,
             com.amazonaws.handlers.AsyncHandler<UpdateItemRequest, UpdateItemResult> asyncHandler);
 
+    /**
+     * Sends the UpdateItem request without holding a thread while it is in
+     * flight, unlike {@link #updateItemAsync(UpdateItemRequest)} which blocks a
+     * thread of the executor of the client for the whole call. The response is
+     * read into memory before it is unmarshalled.
+     *
+     * @param updateItemRequest
+     * @return A Java Future containing the result of the UpdateItem operation
+     *         returned by the service.
+     * @see #updateItemAsync(UpdateItemRequest)
+     */
+    java.util.concurrent.Future<UpdateItemResult> updateItemNonBlockingAsync(
+            UpdateItemRequest updateItemRequest);
+
+    /**
+     * Sends the UpdateItem request without holding a thread while it is in
+     * flight. The handler is notified on the executor of the client; it can
+     * start dependent requests with other non-blocking methods to pipeline
+     * calls without blocking any thread between them.
+     *
+     * @param updateItemRequest
+     * @param asyncHandler
+     *        Asynchronous callback handler for events in the lifecycle of the
+     *        request. Users can provide an implementation of the callback
+     *        methods in this interface to receive notification of successful or
+     *        unsuccessful completion of the operation.
+     * @return A Java Future containing the result of the UpdateItem operation
+     *         returned by the service.
+     * @see #updateItemAsync(UpdateItemRequest,
+     *      com.amazonaws.handlers.AsyncHandler)
+     */
+    java.util.concurrent.Future<UpdateItemResult> updateItemNonBlockingAsync(
+            UpdateItemRequest updateItemRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateItemRequest, UpdateItemResult> asyncHandler);
+
     /**
      * Simplified method form for invoking the UpdateItem operation.
      *
@@ -2125,6 +2581,41 @@ public interface AmazonDynamoDBAsync extends AmazonDynamoDB {
             UpdateTableRequest updateTableRequest,
             com.amazonaws.handlers.AsyncHandler<UpdateTableRequest, UpdateTableResult> asyncHandler);
 
+    /**
+     * Sends the UpdateTable request without holding a thread while it is in
+     * flight, unlike {@link #updateTableAsync(UpdateTableRequest)} which blocks
+     * a thread of the executor of the client for the whole call. The response
+     * is read into memory before it is unmarshalled.
+     *
+     * @param updateTableRequest
+     * @return A Java Future containing the result of the UpdateTable operation
+     *         returned by the service.
+     * @see #updateTableAsync(UpdateTableRequest)
+     */
+    java.util.concurrent.Future<UpdateTableResult> updateTableNonBlockingAsync(
+            UpdateTableRequest updateTableRequest);
+
+    /**
+     * Sends the UpdateTable request without holding a thread while it is in
+     * flight. The handler is notified on the executor of the client; it can
+     * start dependent requests with other non-blocking methods to pipeline
+     * calls without blocking any thread between them.
+     *
+     * @param updateTableRequest
+     * @param asyncHandler
+     *        Asynchronous callback handler for events in the lifecycle of the
+     *        request. Users can provide an implementation of the callback
+     *        methods in this interface to receive notification of successful or
+     *        unsuccessful completion of the operation.
+     * @return A Java Future containing the result of the UpdateTable operation
+     *         returned by the service.
+     * @see #updateTableAsync(UpdateTableRequest,
+     *      com.amazonaws.handlers.AsyncHandler)
+     */
+    java.util.concurrent.Future<UpdateTableResult> updateTableNonBlockingAsync(
+            UpdateTableRequest updateTableRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateTableRequest, UpdateTableResult> asyncHandler);
+
     /**
      * Simplified method form for invoking the UpdateTable operation.
      *
@@ -481,6 +481,21 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements
                 });
     }
 
+    @Override
+    public java.util.concurrent.Future<BatchGetItemResult> batchGetItemNonBlockingAsync(
+            BatchGetItemRequest request) {
+
+        return batchGetItemNonBlockingAsync(request, null);
+    }
+
+    @Override
+    public java.util.concurrent.Future<BatchGetItemResult> batchGetItemNonBlockingAsync(
+            BatchGetItemRequest request,
+            com.amazonaws.handlers.AsyncHandler<BatchGetItemRequest, BatchGetItemResult> asyncHandler) {
+
+        return batchGetItemNonBlocking(request, asyncHandler, executorService);
+    }
+
     /**
      * Simplified method form for invoking the BatchGetItem operation.
      *
@@ -578,6 +593,21 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements
                 });
     }
 
+    @Override
+    public java.util.concurrent.Future<BatchWriteItemResult> batchWriteItemNonBlockingAsync(
+            BatchWriteItemRequest request) {
+
+        return batchWriteItemNonBlockingAsync(request, null);
+    }
+
+    @Override
+    public java.util.concurrent.Future<BatchWriteItemResult> batchWriteItemNonBlockingAsync(
+            BatchWriteItemRequest request,
+            com.amazonaws.handlers.AsyncHandler<BatchWriteItemRequest, BatchWriteItemResult> asyncHandler) {
+
+        return batchWriteItemNonBlocking(request, asyncHandler, executorService);
+    }
+
     /**
      * Simplified method form for invoking the BatchWriteItem operation.
      *
@@ -642,6 +672,21 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements
                 });
     }
 
+    @Override
+    public java.util.concurrent.Future<CreateTableResult> createTableNonBlockingAsync(
+            CreateTableRequest request) {
+
+        return createTableNonBlockingAsync(request, null);
+    }
+
+    @Override
+    public java.util.concurrent.Future<CreateTableResult> createTableNonBlockingAsync(
+            CreateTableRequest request,
+            com.amazonaws.handlers.AsyncHandler<CreateTableRequest, CreateTableResult> asyncHandler) {
+
+        return createTableNonBlocking(request, asyncHandler, executorService);
+    }
+
     /**
      * Simplified method form for invoking the CreateTable operation.
      *
@@ -716,6 +761,21 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements
                 });
     }
 
+    @Override
+    public java.util.concurrent.Future<DeleteItemResult> deleteItemNonBlockingAsync(
+            DeleteItemRequest request) {
+
+        return deleteItemNonBlockingAsync(request, null);
+    }
+
+    @Override
+    public java.util.concurrent.Future<DeleteItemResult> deleteItemNonBlockingAsync(
+            DeleteItemRequest request,
+            com.amazonaws.handlers.AsyncHandler<DeleteItemRequest, DeleteItemResult> asyncHandler) {
+
+        return deleteItemNonBlocking(request, asyncHandler, executorService);
+    }
+
     /**
      * Simplified method form for invoking the DeleteItem operation.
      *
@@ -811,6 +871,21 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements
                 });
     }
 
+    @Override
+    public java.util.concurrent.Future<DeleteTableResult> deleteTableNonBlockingAsync(
+            DeleteTableRequest request) {
+
+        return deleteTableNonBlockingAsync(request, null);
+    }
+
+    @Override
+    public java.util.concurrent.Future<DeleteTableResult> deleteTableNonBlockingAsync(
+            DeleteTableRequest request,
+            com.amazonaws.handlers.AsyncHandler<DeleteTableRequest, DeleteTableResult> asyncHandler) {
+
+        return deleteTableNonBlocking(request, asyncHandler, executorService);
+    }
+
     /**
      * Simplified method form for invoking the DeleteTable operation.
      *
@@ -874,6 +949,21 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements
                 });
     }
 
+    @Override
+    public java.util.concurrent.Future<DescribeLimitsResult> describeLimitsNonBlockingAsync(
+            DescribeLimitsRequest request) {
+
+        return describeLimitsNonBlockingAsync(request, null);
+    }
+
+    @Override
+    public java.util.concurrent.Future<DescribeLimitsResult> describeLimitsNonBlockingAsync(
+            DescribeLimitsRequest request,
+            com.amazonaws.handlers.AsyncHandler<DescribeLimitsRequest, DescribeLimitsResult> asyncHandler) {
+
+        return describeLimitsNonBlocking(request, asyncHandler, executorService);
+    }
+
     @Override
     public java.util.concurrent.Future<DescribeTableResult> describeTableAsync(
             DescribeTableRequest request) {
@@ -909,6 +999,21 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements
                 });
     }
 
+    @Override
+    public java.util.concurrent.Future<DescribeTableResult> describeTableNonBlockingAsync(
+            DescribeTableRequest request) {
+
+        return describeTableNonBlockingAsync(request, null);
+    }
+
+    @Override
+    public java.util.concurrent.Future<DescribeTableResult> describeTableNonBlockingAsync(
+            DescribeTableRequest request,
+            com.amazonaws.handlers.AsyncHandler<DescribeTableRequest, DescribeTableResult> asyncHandler) {
+
+        return describeTableNonBlocking(request, asyncHandler, executorService);
+    }
+
     /**
      * Simplified method form for invoking the DescribeTable operation.
      *
@@ -973,6 +1078,21 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements
                 });
     }
 
+    @Override
+    public java.util.concurrent.Future<GetItemResult> getItemNonBlockingAsync(
+            GetItemRequest request) {
+
+        return getItemNonBlockingAsync(request, null);
+    }
+
+    @Override
+    public java.util.concurrent.Future<GetItemResult> getItemNonBlockingAsync(
+            GetItemRequest request,
+            com.amazonaws.handlers.AsyncHandler<GetItemRequest, GetItemResult> asyncHandler) {
+
+        return getItemNonBlocking(request, asyncHandler, executorService);
+    }
+
     /**
      * Simplified method form for invoking the GetItem operation.
      *
@@ -1066,6 +1186,21 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements
                 });
     }
 
+    @Override
+    public java.util.concurrent.Future<ListTablesResult> listTablesNonBlockingAsync(
+            ListTablesRequest request) {
+
+        return listTablesNonBlockingAsync(request, null);
+    }
+
+    @Override
+    public java.util.concurrent.Future<ListTablesResult> listTablesNonBlockingAsync(
+            ListTablesRequest request,
+            com.amazonaws.handlers.AsyncHandler<ListTablesRequest, ListTablesResult> asyncHandler) {
+
+        return listTablesNonBlocking(request, asyncHandler, executorService);
+    }
+
     /**
      * Simplified method form for invoking the ListTables operation.
      *
@@ -1213,6 +1348,21 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements
                 });
     }
 
+    @Override
+    public java.util.concurrent.Future<PutItemResult> putItemNonBlockingAsync(
+            PutItemRequest request) {
+
+        return putItemNonBlockingAsync(request, null);
+    }
+
+    @Override
+    public java.util.concurrent.Future<PutItemResult> putItemNonBlockingAsync(
+            PutItemRequest request,
+            com.amazonaws.handlers.AsyncHandler<PutItemRequest, PutItemResult> asyncHandler) {
+
+        return putItemNonBlocking(request, asyncHandler, executorService);
+    }
+
     /**
      * Simplified method form for invoking the PutItem operation.
      *
@@ -1306,6 +1456,21 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements
                 });
     }
 
+    @Override
+    public java.util.concurrent.Future<QueryResult> queryNonBlockingAsync(
+            QueryRequest request) {
+
+        return queryNonBlockingAsync(request, null);
+    }
+
+    @Override
+    public java.util.concurrent.Future<QueryResult> queryNonBlockingAsync(
+            QueryRequest request,
+            com.amazonaws.handlers.AsyncHandler<QueryRequest, QueryResult> asyncHandler) {
+
+        return queryNonBlocking(request, asyncHandler, executorService);
+    }
+
     @Override
     public java.util.concurrent.Future<ScanResult> scanAsync(ScanRequest request) {
 
@@ -1340,6 +1505,21 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements
                 });
     }
 
+    @Override
+    public java.util.concurrent.Future<ScanResult> scanNonBlockingAsync(
+            ScanRequest request) {
+
+        return scanNonBlockingAsync(request, null);
+    }
+
+    @Override
+    public java.util.concurrent.Future<ScanResult> scanNonBlockingAsync(
+            ScanRequest request,
+            com.amazonaws.handlers.AsyncHandler<ScanRequest, ScanResult> asyncHandler) {
+
+        return scanNonBlocking(request, asyncHandler, executorService);
+    }
+
     /**
      * Simplified method form for invoking the Scan operation.
      *
@@ -1463,6 +1643,21 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements
                 });
     }
 
+    @Override
+    public java.util.concurrent.Future<UpdateItemResult> updateItemNonBlockingAsync(
+            UpdateItemRequest request) {
+
+        return updateItemNonBlockingAsync(request, null);
+    }
+
+    @Override
+    public java.util.concurrent.Future<UpdateItemResult> updateItemNonBlockingAsync(
+            UpdateItemRequest request,
+            com.amazonaws.handlers.AsyncHandler<UpdateItemRequest, UpdateItemResult> asyncHandler) {
+
+        return updateItemNonBlocking(request, asyncHandler, executorService);
+    }
+
     /**
      * Simplified method form for invoking the UpdateItem operation.
      *
@@ -1565,6 +1760,21 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements
                 });
     }
 
+    @Override
+    public java.util.concurrent.Future<UpdateTableResult> updateTableNonBlockingAsync(
+            UpdateTableRequest request) {
+
+        return updateTableNonBlockingAsync(request, null);
+    }
+
+    @Override
+    public java.util.concurrent.Future<UpdateTableResult> updateTableNonBlockingAsync(
+            UpdateTableRequest request,
+            com.amazonaws.handlers.AsyncHandler<UpdateTableRequest, UpdateTableResult> asyncHandler) {
+
+        return updateTableNonBlocking(request, asyncHandler, executorService);
+    }
+
     /**
      * Simplified method form for invoking the UpdateTable operation.
      *
@@ -618,6 +618,68 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements
                 .withRequestItems(requestItems));
     }
 
+    /**
+     * Sends the BatchGetItem request over the non-blocking transport of the
+     * client, without holding a thread while the request is in flight. Used by
+     * the asynchronous client.
+     *
+     * @param batchGetItemRequest
+     *        The request to send.
+     * @param asyncHandler
+     *        Handler to notify of the outcome of the request; or null if there
+     *        is none.
+     * @param callbackExecutor
+     *        Executor to notify the handler on; or null to notify it on the
+     *        thread that completes the request.
+     * @return A future of the result of the BatchGetItem operation.
+     */
+    protected java.util.concurrent.Future<BatchGetItemResult> batchGetItemNonBlocking(
+            BatchGetItemRequest batchGetItemRequest,
+            com.amazonaws.handlers.AsyncHandler<BatchGetItemRequest, BatchGetItemResult> asyncHandler,
+            java.util.concurrent.Executor callbackExecutor) {
+        final ExecutionContext executionContext = createExecutionContext(batchGetItemRequest);
+        final AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<BatchGetItemRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new BatchGetItemRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(batchGetItemRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            final Request<BatchGetItemRequest> sentRequest = request;
+            AsyncResultFuture<BatchGetItemRequest, BatchGetItemResult> future = new AsyncResultFuture<BatchGetItemRequest, BatchGetItemResult>(
+                    batchGetItemRequest, asyncHandler, callbackExecutor) {
+                @Override
+                protected void onCompletion(
+                        Response<BatchGetItemResult> response) {
+                    endClientExecution(awsRequestMetrics, sentRequest, response);
+                }
+            };
+
+            HttpResponseHandler<AmazonWebServiceResponse<BatchGetItemResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new BatchGetItemResultJsonUnmarshaller());
+            return invokeAsync(request, responseHandler, executionContext,
+                    future);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            AsyncResultFuture<BatchGetItemRequest, BatchGetItemResult> failed = new AsyncResultFuture<BatchGetItemRequest, BatchGetItemResult>(
+                    batchGetItemRequest, asyncHandler, callbackExecutor);
+            failed.failed(e);
+            return failed;
+        }
+    }
+
     /**
      * <p>
      * The <i>BatchWriteItem</i> operation puts or deletes multiple items in one
@@ -800,6 +862,69 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements
                 .withRequestItems(requestItems));
     }
 
+    /**
+     * Sends the BatchWriteItem request over the non-blocking transport of the
+     * client, without holding a thread while the request is in flight. Used by
+     * the asynchronous client.
+     *
+     * @param batchWriteItemRequest
+     *        The request to send.
+     * @param asyncHandler
+     *        Handler to notify of the outcome of the request; or null if there
+     *        is none.
+     * @param callbackExecutor
+     *        Executor to notify the handler on; or null to notify it on the
+     *        thread that completes the request.
+     * @return A future of the result of the BatchWriteItem operation.
+     */
+    protected java.util.concurrent.Future<BatchWriteItemResult> batchWriteItemNonBlocking(
+            BatchWriteItemRequest batchWriteItemRequest,
+            com.amazonaws.handlers.AsyncHandler<BatchWriteItemRequest, BatchWriteItemResult> asyncHandler,
+            java.util.concurrent.Executor callbackExecutor) {
+        final ExecutionContext executionContext = createExecutionContext(batchWriteItemRequest);
+        final AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<BatchWriteItemRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new BatchWriteItemRequestMarshaller(protocolFactory)
+                        .marshall(super
+                                .beforeMarshalling(batchWriteItemRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            final Request<BatchWriteItemRequest> sentRequest = request;
+            AsyncResultFuture<BatchWriteItemRequest, BatchWriteItemResult> future = new AsyncResultFuture<BatchWriteItemRequest, BatchWriteItemResult>(
+                    batchWriteItemRequest, asyncHandler, callbackExecutor) {
+                @Override
+                protected void onCompletion(
+                        Response<BatchWriteItemResult> response) {
+                    endClientExecution(awsRequestMetrics, sentRequest, response);
+                }
+            };
+
+            HttpResponseHandler<AmazonWebServiceResponse<BatchWriteItemResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new BatchWriteItemResultJsonUnmarshaller());
+            return invokeAsync(request, responseHandler, executionContext,
+                    future);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            AsyncResultFuture<BatchWriteItemRequest, BatchWriteItemResult> failed = new AsyncResultFuture<BatchWriteItemRequest, BatchWriteItemResult>(
+                    batchWriteItemRequest, asyncHandler, callbackExecutor);
+            failed.failed(e);
+            return failed;
+        }
+    }
+
     /**
      * <p>
      * The <i>CreateTable</i> operation adds a new table to your account. In an
@@ -896,6 +1021,67 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements
                 .withProvisionedThroughput(provisionedThroughput));
     }
 
+    /**
+     * Sends the CreateTable request over the non-blocking transport of the
+     * client, without holding a thread while the request is in flight. Used by
+     * the asynchronous client.
+     *
+     * @param createTableRequest
+     *        The request to send.
+     * @param asyncHandler
+     *        Handler to notify of the outcome of the request; or null if there
+     *        is none.
+     * @param callbackExecutor
+     *        Executor to notify the handler on; or null to notify it on the
+     *        thread that completes the request.
+     * @return A future of the result of the CreateTable operation.
+     */
+    protected java.util.concurrent.Future<CreateTableResult> createTableNonBlocking(
+            CreateTableRequest createTableRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateTableRequest, CreateTableResult> asyncHandler,
+            java.util.concurrent.Executor callbackExecutor) {
+        final ExecutionContext executionContext = createExecutionContext(createTableRequest);
+        final AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateTableRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateTableRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(createTableRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            final Request<CreateTableRequest> sentRequest = request;
+            AsyncResultFuture<CreateTableRequest, CreateTableResult> future = new AsyncResultFuture<CreateTableRequest, CreateTableResult>(
+                    createTableRequest, asyncHandler, callbackExecutor) {
+                @Override
+                protected void onCompletion(Response<CreateTableResult> response) {
+                    endClientExecution(awsRequestMetrics, sentRequest, response);
+                }
+            };
+
+            HttpResponseHandler<AmazonWebServiceResponse<CreateTableResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new CreateTableResultJsonUnmarshaller());
+            return invokeAsync(request, responseHandler, executionContext,
+                    future);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            AsyncResultFuture<CreateTableRequest, CreateTableResult> failed = new AsyncResultFuture<CreateTableRequest, CreateTableResult>(
+                    createTableRequest, asyncHandler, callbackExecutor);
+            failed.failed(e);
+            return failed;
+        }
+    }
+
     /**
      * <p>
      * Deletes a single item in a table by primary key. You can perform a
@@ -991,6 +1177,67 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements
                 .withKey(key).withReturnValues(returnValues));
     }
 
+    /**
+     * Sends the DeleteItem request over the non-blocking transport of the
+     * client, without holding a thread while the request is in flight. Used by
+     * the asynchronous client.
+     *
+     * @param deleteItemRequest
+     *        The request to send.
+     * @param asyncHandler
+     *        Handler to notify of the outcome of the request; or null if there
+     *        is none.
+     * @param callbackExecutor
+     *        Executor to notify the handler on; or null to notify it on the
+     *        thread that completes the request.
+     * @return A future of the result of the DeleteItem operation.
+     */
+    protected java.util.concurrent.Future<DeleteItemResult> deleteItemNonBlocking(
+            DeleteItemRequest deleteItemRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteItemRequest, DeleteItemResult> asyncHandler,
+            java.util.concurrent.Executor callbackExecutor) {
+        final ExecutionContext executionContext = createExecutionContext(deleteItemRequest);
+        final AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteItemRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteItemRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(deleteItemRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            final Request<DeleteItemRequest> sentRequest = request;
+            AsyncResultFuture<DeleteItemRequest, DeleteItemResult> future = new AsyncResultFuture<DeleteItemRequest, DeleteItemResult>(
+                    deleteItemRequest, asyncHandler, callbackExecutor) {
+                @Override
+                protected void onCompletion(Response<DeleteItemResult> response) {
+                    endClientExecution(awsRequestMetrics, sentRequest, response);
+                }
+            };
+
+            HttpResponseHandler<AmazonWebServiceResponse<DeleteItemResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new DeleteItemResultJsonUnmarshaller());
+            return invokeAsync(request, responseHandler, executionContext,
+                    future);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            AsyncResultFuture<DeleteItemRequest, DeleteItemResult> failed = new AsyncResultFuture<DeleteItemRequest, DeleteItemResult>(
+                    deleteItemRequest, asyncHandler, callbackExecutor);
+            failed.failed(e);
+            return failed;
+        }
+    }
+
     /**
      * <p>
      * The <i>DeleteTable</i> operation deletes a table and all of its items.
@@ -1090,6 +1337,67 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements
         return deleteTable(new DeleteTableRequest().withTableName(tableName));
     }
 
+    /**
+     * Sends the DeleteTable request over the non-blocking transport of the
+     * client, without holding a thread while the request is in flight. Used by
+     * the asynchronous client.
+     *
+     * @param deleteTableRequest
+     *        The request to send.
+     * @param asyncHandler
+     *        Handler to notify of the outcome of the request; or null if there
+     *        is none.
+     * @param callbackExecutor
+     *        Executor to notify the handler on; or null to notify it on the
+     *        thread that completes the request.
+     * @return A future of the result of the DeleteTable operation.
+     */
+    protected java.util.concurrent.Future<DeleteTableResult> deleteTableNonBlocking(
+            DeleteTableRequest deleteTableRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteTableRequest, DeleteTableResult> asyncHandler,
+            java.util.concurrent.Executor callbackExecutor) {
+        final ExecutionContext executionContext = createExecutionContext(deleteTableRequest);
+        final AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteTableRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteTableRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(deleteTableRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            final Request<DeleteTableRequest> sentRequest = request;
+            AsyncResultFuture<DeleteTableRequest, DeleteTableResult> future = new AsyncResultFuture<DeleteTableRequest, DeleteTableResult>(
+                    deleteTableRequest, asyncHandler, callbackExecutor) {
+                @Override
+                protected void onCompletion(Response<DeleteTableResult> response) {
+                    endClientExecution(awsRequestMetrics, sentRequest, response);
+                }
+            };
+
+            HttpResponseHandler<AmazonWebServiceResponse<DeleteTableResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new DeleteTableResultJsonUnmarshaller());
+            return invokeAsync(request, responseHandler, executionContext,
+                    future);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            AsyncResultFuture<DeleteTableRequest, DeleteTableResult> failed = new AsyncResultFuture<DeleteTableRequest, DeleteTableResult>(
+                    deleteTableRequest, asyncHandler, callbackExecutor);
+            failed.failed(e);
+            return failed;
+        }
+    }
+
     /**
      * <p>
      * Returns the current provisioned-capacity limits for your AWS account in a
@@ -1239,6 +1547,69 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeLimits request over the non-blocking transport of the
+     * client, without holding a thread while the request is in flight. Used by
+     * the asynchronous client.
+     *
+     * @param describeLimitsRequest
+     *        The request to send.
+     * @param asyncHandler
+     *        Handler to notify of the outcome of the request; or null if there
+     *        is none.
+     * @param callbackExecutor
+     *        Executor to notify the handler on; or null to notify it on the
+     *        thread that completes the request.
+     * @return A future of the result of the DescribeLimits operation.
+     */
+    protected java.util.concurrent.Future<DescribeLimitsResult> describeLimitsNonBlocking(
+            DescribeLimitsRequest describeLimitsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeLimitsRequest, DescribeLimitsResult> asyncHandler,
+            java.util.concurrent.Executor callbackExecutor) {
+        final ExecutionContext executionContext = createExecutionContext(describeLimitsRequest);
+        final AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeLimitsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeLimitsRequestMarshaller(protocolFactory)
+                        .marshall(super
+                                .beforeMarshalling(describeLimitsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            final Request<DescribeLimitsRequest> sentRequest = request;
+            AsyncResultFuture<DescribeLimitsRequest, DescribeLimitsResult> future = new AsyncResultFuture<DescribeLimitsRequest, DescribeLimitsResult>(
+                    describeLimitsRequest, asyncHandler, callbackExecutor) {
+                @Override
+                protected void onCompletion(
+                        Response<DescribeLimitsResult> response) {
+                    endClientExecution(awsRequestMetrics, sentRequest, response);
+                }
+            };
+
+            HttpResponseHandler<AmazonWebServiceResponse<DescribeLimitsResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new DescribeLimitsResultJsonUnmarshaller());
+            return invokeAsync(request, responseHandler, executionContext,
+                    future);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            AsyncResultFuture<DescribeLimitsRequest, DescribeLimitsResult> failed = new AsyncResultFuture<DescribeLimitsRequest, DescribeLimitsResult>(
+                    describeLimitsRequest, asyncHandler, callbackExecutor);
+            failed.failed(e);
+            return failed;
+        }
+    }
+
     /**
      * <p>
      * Returns information about the table, including the current status of the
@@ -1309,6 +1680,68 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements
                 .withTableName(tableName));
     }
 
+    /**
+     * Sends the DescribeTable request over the non-blocking transport of the
+     * client, without holding a thread while the request is in flight. Used by
+     * the asynchronous client.
+     *
+     * @param describeTableRequest
+     *        The request to send.
+     * @param asyncHandler
+     *        Handler to notify of the outcome of the request; or null if there
+     *        is none.
+     * @param callbackExecutor
+     *        Executor to notify the handler on; or null to notify it on the
+     *        thread that completes the request.
+     * @return A future of the result of the DescribeTable operation.
+     */
+    protected java.util.concurrent.Future<DescribeTableResult> describeTableNonBlocking(
+            DescribeTableRequest describeTableRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeTableRequest, DescribeTableResult> asyncHandler,
+            java.util.concurrent.Executor callbackExecutor) {
+        final ExecutionContext executionContext = createExecutionContext(describeTableRequest);
+        final AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeTableRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeTableRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(describeTableRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            final Request<DescribeTableRequest> sentRequest = request;
+            AsyncResultFuture<DescribeTableRequest, DescribeTableResult> future = new AsyncResultFuture<DescribeTableRequest, DescribeTableResult>(
+                    describeTableRequest, asyncHandler, callbackExecutor) {
+                @Override
+                protected void onCompletion(
+                        Response<DescribeTableResult> response) {
+                    endClientExecution(awsRequestMetrics, sentRequest, response);
+                }
+            };
+
+            HttpResponseHandler<AmazonWebServiceResponse<DescribeTableResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new DescribeTableResultJsonUnmarshaller());
+            return invokeAsync(request, responseHandler, executionContext,
+                    future);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            AsyncResultFuture<DescribeTableRequest, DescribeTableResult> failed = new AsyncResultFuture<DescribeTableRequest, DescribeTableResult>(
+                    describeTableRequest, asyncHandler, callbackExecutor);
+            failed.failed(e);
+            return failed;
+        }
+    }
+
     /**
      * <p>
      * The <i>GetItem</i> operation returns a set of attributes for the item
@@ -1392,6 +1825,67 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements
                 .withKey(key).withConsistentRead(consistentRead));
     }
 
+    /**
+     * Sends the GetItem request over the non-blocking transport of the client,
+     * without holding a thread while the request is in flight. Used by the
+     * asynchronous client.
+     *
+     * @param getItemRequest
+     *        The request to send.
+     * @param asyncHandler
+     *        Handler to notify of the outcome of the request; or null if there
+     *        is none.
+     * @param callbackExecutor
+     *        Executor to notify the handler on; or null to notify it on the
+     *        thread that completes the request.
+     * @return A future of the result of the GetItem operation.
+     */
+    protected java.util.concurrent.Future<GetItemResult> getItemNonBlocking(
+            GetItemRequest getItemRequest,
+            com.amazonaws.handlers.AsyncHandler<GetItemRequest, GetItemResult> asyncHandler,
+            java.util.concurrent.Executor callbackExecutor) {
+        final ExecutionContext executionContext = createExecutionContext(getItemRequest);
+        final AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetItemRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetItemRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(getItemRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            final Request<GetItemRequest> sentRequest = request;
+            AsyncResultFuture<GetItemRequest, GetItemResult> future = new AsyncResultFuture<GetItemRequest, GetItemResult>(
+                    getItemRequest, asyncHandler, callbackExecutor) {
+                @Override
+                protected void onCompletion(Response<GetItemResult> response) {
+                    endClientExecution(awsRequestMetrics, sentRequest, response);
+                }
+            };
+
+            HttpResponseHandler<AmazonWebServiceResponse<GetItemResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new GetItemResultJsonUnmarshaller());
+            return invokeAsync(request, responseHandler, executionContext,
+                    future);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            AsyncResultFuture<GetItemRequest, GetItemResult> failed = new AsyncResultFuture<GetItemRequest, GetItemResult>(
+                    getItemRequest, asyncHandler, callbackExecutor);
+            failed.failed(e);
+            return failed;
+        }
+    }
+
     /**
      * <p>
      * Returns an array of table names associated with the current account and
@@ -1464,6 +1958,67 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements
         return listTables(new ListTablesRequest().withLimit(limit));
     }
 
+    /**
+     * Sends the ListTables request over the non-blocking transport of the
+     * client, without holding a thread while the request is in flight. Used by
+     * the asynchronous client.
+     *
+     * @param listTablesRequest
+     *        The request to send.
+     * @param asyncHandler
+     *        Handler to notify of the outcome of the request; or null if there
+     *        is none.
+     * @param callbackExecutor
+     *        Executor to notify the handler on; or null to notify it on the
+     *        thread that completes the request.
+     * @return A future of the result of the ListTables operation.
+     */
+    protected java.util.concurrent.Future<ListTablesResult> listTablesNonBlocking(
+            ListTablesRequest listTablesRequest,
+            com.amazonaws.handlers.AsyncHandler<ListTablesRequest, ListTablesResult> asyncHandler,
+            java.util.concurrent.Executor callbackExecutor) {
+        final ExecutionContext executionContext = createExecutionContext(listTablesRequest);
+        final AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListTablesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListTablesRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(listTablesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            final Request<ListTablesRequest> sentRequest = request;
+            AsyncResultFuture<ListTablesRequest, ListTablesResult> future = new AsyncResultFuture<ListTablesRequest, ListTablesResult>(
+                    listTablesRequest, asyncHandler, callbackExecutor) {
+                @Override
+                protected void onCompletion(Response<ListTablesResult> response) {
+                    endClientExecution(awsRequestMetrics, sentRequest, response);
+                }
+            };
+
+            HttpResponseHandler<AmazonWebServiceResponse<ListTablesResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new ListTablesResultJsonUnmarshaller());
+            return invokeAsync(request, responseHandler, executionContext,
+                    future);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            AsyncResultFuture<ListTablesRequest, ListTablesResult> failed = new AsyncResultFuture<ListTablesRequest, ListTablesResult>(
+                    listTablesRequest, asyncHandler, callbackExecutor);
+            failed.failed(e);
+            return failed;
+        }
+    }
+
     /**
      * <p>
      * Creates a new item, or replaces an old item with a new item. If an item
@@ -1580,6 +2135,67 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements
                 .withItem(item).withReturnValues(returnValues));
     }
 
+    /**
+     * Sends the PutItem request over the non-blocking transport of the client,
+     * without holding a thread while the request is in flight. Used by the
+     * asynchronous client.
+     *
+     * @param putItemRequest
+     *        The request to send.
+     * @param asyncHandler
+     *        Handler to notify of the outcome of the request; or null if there
+     *        is none.
+     * @param callbackExecutor
+     *        Executor to notify the handler on; or null to notify it on the
+     *        thread that completes the request.
+     * @return A future of the result of the PutItem operation.
+     */
+    protected java.util.concurrent.Future<PutItemResult> putItemNonBlocking(
+            PutItemRequest putItemRequest,
+            com.amazonaws.handlers.AsyncHandler<PutItemRequest, PutItemResult> asyncHandler,
+            java.util.concurrent.Executor callbackExecutor) {
+        final ExecutionContext executionContext = createExecutionContext(putItemRequest);
+        final AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<PutItemRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new PutItemRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(putItemRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            final Request<PutItemRequest> sentRequest = request;
+            AsyncResultFuture<PutItemRequest, PutItemResult> future = new AsyncResultFuture<PutItemRequest, PutItemResult>(
+                    putItemRequest, asyncHandler, callbackExecutor) {
+                @Override
+                protected void onCompletion(Response<PutItemResult> response) {
+                    endClientExecution(awsRequestMetrics, sentRequest, response);
+                }
+            };
+
+            HttpResponseHandler<AmazonWebServiceResponse<PutItemResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new PutItemResultJsonUnmarshaller());
+            return invokeAsync(request, responseHandler, executionContext,
+                    future);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            AsyncResultFuture<PutItemRequest, PutItemResult> failed = new AsyncResultFuture<PutItemRequest, PutItemResult>(
+                    putItemRequest, asyncHandler, callbackExecutor);
+            failed.failed(e);
+            return failed;
+        }
+    }
+
     /**
      * <p>
      * A <i>Query</i> operation uses the primary key of a table or a secondary
@@ -1672,6 +2288,67 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the Query request over the non-blocking transport of the client,
+     * without holding a thread while the request is in flight. Used by the
+     * asynchronous client.
+     *
+     * @param queryRequest
+     *        The request to send.
+     * @param asyncHandler
+     *        Handler to notify of the outcome of the request; or null if there
+     *        is none.
+     * @param callbackExecutor
+     *        Executor to notify the handler on; or null to notify it on the
+     *        thread that completes the request.
+     * @return A future of the result of the Query operation.
+     */
+    protected java.util.concurrent.Future<QueryResult> queryNonBlocking(
+            QueryRequest queryRequest,
+            com.amazonaws.handlers.AsyncHandler<QueryRequest, QueryResult> asyncHandler,
+            java.util.concurrent.Executor callbackExecutor) {
+        final ExecutionContext executionContext = createExecutionContext(queryRequest);
+        final AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<QueryRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new QueryRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(queryRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            final Request<QueryRequest> sentRequest = request;
+            AsyncResultFuture<QueryRequest, QueryResult> future = new AsyncResultFuture<QueryRequest, QueryResult>(
+                    queryRequest, asyncHandler, callbackExecutor) {
+                @Override
+                protected void onCompletion(Response<QueryResult> response) {
+                    endClientExecution(awsRequestMetrics, sentRequest, response);
+                }
+            };
+
+            HttpResponseHandler<AmazonWebServiceResponse<QueryResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new QueryResultJsonUnmarshaller());
+            return invokeAsync(request, responseHandler, executionContext,
+                    future);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            AsyncResultFuture<QueryRequest, QueryResult> failed = new AsyncResultFuture<QueryRequest, QueryResult>(
+                    queryRequest, asyncHandler, callbackExecutor);
+            failed.failed(e);
+            return failed;
+        }
+    }
+
     /**
      * <p>
      * The <i>Scan</i> operation returns one or more items and item attributes
@@ -1779,6 +2456,67 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements
                 .withScanFilter(scanFilter));
     }
 
+    /**
+     * Sends the Scan request over the non-blocking transport of the client,
+     * without holding a thread while the request is in flight. Used by the
+     * asynchronous client.
+     *
+     * @param scanRequest
+     *        The request to send.
+     * @param asyncHandler
+     *        Handler to notify of the outcome of the request; or null if there
+     *        is none.
+     * @param callbackExecutor
+     *        Executor to notify the handler on; or null to notify it on the
+     *        thread that completes the request.
+     * @return A future of the result of the Scan operation.
+     */
+    protected java.util.concurrent.Future<ScanResult> scanNonBlocking(
+            ScanRequest scanRequest,
+            com.amazonaws.handlers.AsyncHandler<ScanRequest, ScanResult> asyncHandler,
+            java.util.concurrent.Executor callbackExecutor) {
+        final ExecutionContext executionContext = createExecutionContext(scanRequest);
+        final AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ScanRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ScanRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(scanRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            final Request<ScanRequest> sentRequest = request;
+            AsyncResultFuture<ScanRequest, ScanResult> future = new AsyncResultFuture<ScanRequest, ScanResult>(
+                    scanRequest, asyncHandler, callbackExecutor) {
+                @Override
+                protected void onCompletion(Response<ScanResult> response) {
+                    endClientExecution(awsRequestMetrics, sentRequest, response);
+                }
+            };
+
+            HttpResponseHandler<AmazonWebServiceResponse<ScanResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new ScanResultJsonUnmarshaller());
+            return invokeAsync(request, responseHandler, executionContext,
+                    future);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            AsyncResultFuture<ScanRequest, ScanResult> failed = new AsyncResultFuture<ScanRequest, ScanResult>(
+                    scanRequest, asyncHandler, callbackExecutor);
+            failed.failed(e);
+            return failed;
+        }
+    }
+
     /**
      * <p>
      * Edits an existing item's attributes, or adds a new item to the table if
@@ -1870,6 +2608,67 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements
                 .withReturnValues(returnValues));
     }
 
+    /**
+     * Sends the UpdateItem request over the non-blocking transport of the
+     * client, without holding a thread while the request is in flight. Used by
+     * the asynchronous client.
+     *
+     * @param updateItemRequest
+     *        The request to send.
+     * @param asyncHandler
+     *        Handler to notify of the outcome of the request; or null if there
+     *        is none.
+     * @param callbackExecutor
+     *        Executor to notify the handler on; or null to notify it on the
+     *        thread that completes the request.
+     * @return A future of the result of the UpdateItem operation.
+     */
+    protected java.util.concurrent.Future<UpdateItemResult> updateItemNonBlocking(
+            UpdateItemRequest updateItemRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateItemRequest, UpdateItemResult> asyncHandler,
+            java.util.concurrent.Executor callbackExecutor) {
+        final ExecutionContext executionContext = createExecutionContext(updateItemRequest);
+        final AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UpdateItemRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UpdateItemRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(updateItemRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            final Request<UpdateItemRequest> sentRequest = request;
+            AsyncResultFuture<UpdateItemRequest, UpdateItemResult> future = new AsyncResultFuture<UpdateItemRequest, UpdateItemResult>(
+                    updateItemRequest, asyncHandler, callbackExecutor) {
+                @Override
+                protected void onCompletion(Response<UpdateItemResult> response) {
+                    endClientExecution(awsRequestMetrics, sentRequest, response);
+                }
+            };
+
+            HttpResponseHandler<AmazonWebServiceResponse<UpdateItemResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new UpdateItemResultJsonUnmarshaller());
+            return invokeAsync(request, responseHandler, executionContext,
+                    future);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            AsyncResultFuture<UpdateItemRequest, UpdateItemResult> failed = new AsyncResultFuture<UpdateItemRequest, UpdateItemResult>(
+                    updateItemRequest, asyncHandler, callbackExecutor);
+            failed.failed(e);
+            return failed;
+        }
+    }
+
     /**
      * <p>
      * Modifies the provisioned throughput settings, global secondary indexes,
@@ -1979,6 +2778,67 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements
                 .withProvisionedThroughput(provisionedThroughput));
     }
 
+    /**
+     * Sends the UpdateTable request over the non-blocking transport of the
+     * client, without holding a thread while the request is in flight. Used by
+     * the asynchronous client.
+     *
+     * @param updateTableRequest
+     *        The request to send.
+     * @param asyncHandler
+     *        Handler to notify of the outcome of the request; or null if there
+     *        is none.
+     * @param callbackExecutor
+     *        Executor to notify the handler on; or null to notify it on the
+     *        thread that completes the request.
+     * @return A future of the result of the UpdateTable operation.
+     */
+    protected java.util.concurrent.Future<UpdateTableResult> updateTableNonBlocking(
+            UpdateTableRequest updateTableRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateTableRequest, UpdateTableResult> asyncHandler,
+            java.util.concurrent.Executor callbackExecutor) {
+        final ExecutionContext executionContext = createExecutionContext(updateTableRequest);
+        final AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UpdateTableRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UpdateTableRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(updateTableRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            final Request<UpdateTableRequest> sentRequest = request;
+            AsyncResultFuture<UpdateTableRequest, UpdateTableResult> future = new AsyncResultFuture<UpdateTableRequest, UpdateTableResult>(
+                    updateTableRequest, asyncHandler, callbackExecutor) {
+                @Override
+                protected void onCompletion(Response<UpdateTableResult> response) {
+                    endClientExecution(awsRequestMetrics, sentRequest, response);
+                }
+            };
+
+            HttpResponseHandler<AmazonWebServiceResponse<UpdateTableResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new UpdateTableResultJsonUnmarshaller());
+            return invokeAsync(request, responseHandler, executionContext,
+                    future);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            AsyncResultFuture<UpdateTableRequest, UpdateTableResult> failed = new AsyncResultFuture<UpdateTableRequest, UpdateTableResult>(
+                    updateTableRequest, asyncHandler, callbackExecutor);
+            failed.failed(e);
+            return failed;
+        }
+    }
+
     /**
      * Returns additional metadata for a previously executed successful,
      * request, typically used for debugging issues where a service isn't acting
@@ -2049,4 +2909,53 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements
                 executionContext);
     }
 
+    /**
+     * Non-blocking invoke with authentication. Credentials are required and may
+     * be overriden at the request level.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> invokeAsync(
+            Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext, AsyncResultFuture<Y, X> future) {
+
+        executionContext.setCredentialsProvider(CredentialUtils
+                .getCredentialsProvider(request.getOriginalRequest(),
+                        awsCredentialsProvider));
+
+        return doInvokeAsync(request, responseHandler, executionContext, future);
+    }
+
+    /**
+     * Non-blocking invoke with no authentication. Credentials are not required
+     * and any credentials set on the client or request will be ignored for this
+     * operation.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> anonymousInvokeAsync(
+            Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext, AsyncResultFuture<Y, X> future) {
+
+        return doInvokeAsync(request, responseHandler, executionContext, future);
+    }
+
+    /**
+     * Sends the request over the non-blocking transport of the http client, and
+     * completes the given future with the result. Assumes credentials (or lack
+     * thereof) have been configured in the ExecutionContext beforehand.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> doInvokeAsync(
+            Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext, AsyncResultFuture<Y, X> future) {
+        request.setEndpoint(endpoint);
+        request.setTimeOffset(timeOffset);
+
+        HttpResponseHandler<AmazonServiceException> errorResponseHandler = protocolFactory
+                .createErrorResponseHandler(new JsonErrorResponseMetadata());
+
+        future.setDelegate(client.executeAsync(request, responseHandler,
+                errorResponseHandler, executionContext, future));
+        return future;
+    }
+
 }
@@ -14,6 +14,7 @@
  */
 package com.amazonaws.services.dynamodbv2.datamodeling;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -146,6 +147,13 @@ public class AbstractDynamoDBMapper implements IDynamoDBMapper {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public List<FailedBatch> batchWrite(Iterator<? extends Object> objectsToWrite,
+                                        Iterator<? extends Object> objectsToDelete,
+                                        DynamoDBMapperConfig config) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public Map<String, List<Object>> batchLoad(Iterable<? extends Object> itemsToGet) {
         throw new UnsupportedOperationException();
@@ -27,6 +27,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -40,6 +42,7 @@ import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.BatchLoadRetryStrategy;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.BatchWriteRetryStrategy;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.ConsistentReads;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.ParallelBatchWriteConfig;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.SaveBehavior;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTableSchemaParser.TableIndexesInfo;
 import com.amazonaws.services.dynamodbv2.model.AttributeAction;
@@ -191,6 +194,8 @@ public class DynamoDBMapper extends AbstractDynamoDBMapper {
     private final DynamoDBTableSchemaParser schemaParser = new DynamoDBTableSchemaParser();
 
     private final AttributeTransformer transformer;
+    private final ConcurrentMap<ConversionSchema, ItemConverter> converters =
+            new ConcurrentHashMap<ConversionSchema, ItemConverter>();
 
     /**
      * The max back off time for batch get. The configuration for batch write
@@ -1263,6 +1268,11 @@ public class DynamoDBMapper extends AbstractDynamoDBMapper {
                                         DynamoDBMapperConfig config) {
         config = mergeConfig(config);
 
+        if (config.getParallelBatchWriteConfig() != null) {
+            return batchWriteInParallel(objectsToWrite.iterator(), objectsToDelete.iterator(),
+                    config, config.getParallelBatchWriteConfig());
+        }
+
         List<FailedBatch> totalFailedBatches = new LinkedList<FailedBatch>();
 
         HashMap<String, List<WriteRequest>> requestItems = new HashMap<String, List<WriteRequest>>();
@@ -1271,53 +1281,24 @@ public class DynamoDBMapper extends AbstractDynamoDBMapper {
 
         List<ValueUpdate> inMemoryUpdates = new LinkedList<ValueUpdate>();
         for ( Object toWrite : objectsToWrite ) {
-            Class<?> clazz = toWrite.getClass();
-            String tableName = getTableName(clazz, toWrite, config);
-
-            Map<String, AttributeValue> attributeValues = new HashMap<String, AttributeValue>();
-
-            // Look at every getter and construct a value object for it
-            final DynamoDBMappingsRegistry.Mappings mappings = registry.mappingsOf(clazz);
-            for ( final DynamoDBMappingsRegistry.Mapping mapping : mappings.getMappings() ) {
-                AttributeValue currentValue = null;
-                if ( mapping.canGenerate(toWrite, config.getSaveBehavior()) && !mapping.isVersion() ) {
-                    Object newVersion = mapping.bean().generate(mapping.bean().get(toWrite));
-                    currentValue = converter.convert(mapping.bean().getter(), newVersion);
-                    inMemoryUpdates.add(new ValueUpdate(mapping, currentValue, toWrite, converter));
-                } else {
-                    currentValue = converter.convert(mapping.bean().getter(), mapping.bean().get(toWrite));
-                }
-                if ( currentValue != null ) {
-                    attributeValues.put(mapping.getAttributeName(), currentValue);
-                }
-            }
+            String tableName = getTableName(toWrite.getClass(), toWrite, config);
 
             if ( !requestItems.containsKey(tableName) ) {
                 requestItems.put(tableName, new LinkedList<WriteRequest>());
             }
 
-            AttributeTransformer.Parameters<?> parameters =
-                toParameters(attributeValues, clazz, tableName, config);
-
             requestItems.get(tableName).add(
-                new WriteRequest().withPutRequest(
-                    new PutRequest().withItem(
-                        transformAttributes(parameters))));
+                    toPutWriteRequest(toWrite, tableName, config, converter, inMemoryUpdates));
         }
 
         for ( Object toDelete : objectsToDelete ) {
-            Class<?> clazz = toDelete.getClass();
-
-            String tableName = getTableName(clazz, toDelete, config);
-
-            Map<String, AttributeValue> key = getKey(converter, toDelete);
+            String tableName = getTableName(toDelete.getClass(), toDelete, config);
 
             if ( !requestItems.containsKey(tableName) ) {
                 requestItems.put(tableName, new LinkedList<WriteRequest>());
             }
 
-            requestItems.get(tableName).add(
-                    new WriteRequest().withDeleteRequest(new DeleteRequest().withKey(key)));
+            requestItems.get(tableName).add(toDeleteWriteRequest(toDelete, converter));
         }
 
         // Break into chunks of 25 items and make service requests to DynamoDB
@@ -1374,6 +1355,100 @@ public class DynamoDBMapper extends AbstractDynamoDBMapper {
         return totalFailedBatches;
     }
 
+    @Override
+    public List<FailedBatch> batchWrite(Iterator<? extends Object> objectsToWrite,
+                                        Iterator<? extends Object> objectsToDelete,
+                                        DynamoDBMapperConfig config) {
+        config = mergeConfig(config);
+
+        // Without a parallel configuration, the batches are written one after
+        // another on this thread.
+        return batchWriteInParallel(objectsToWrite, objectsToDelete, config,
+                config.getParallelBatchWriteConfig());
+    }
+
+    /**
+     * Converts the objects as the batches are sent, and sends the batches
+     * concurrently, or one after another on this thread if the given parallel
+     * configuration is null. Generated attribute values are set on each object
+     * once its batch is written, since the whole set of objects is never held.
+     */
+    private List<FailedBatch> batchWriteInParallel(Iterator<? extends Object> objectsToWrite,
+                                                   Iterator<? extends Object> objectsToDelete,
+                                                   DynamoDBMapperConfig config,
+                                                   ParallelBatchWriteConfig parallelConfig) {
+        ItemConverter converter = getConverter(config);
+        ParallelBatchWriter writer = new ParallelBatchWriter(db, config.getBatchWriteRetryStrategy(), parallelConfig);
+        try {
+            while ( objectsToWrite.hasNext() ) {
+                Object toWrite = objectsToWrite.next();
+                String tableName = getTableName(toWrite.getClass(), toWrite, config);
+                final List<ValueUpdate> inMemoryUpdates = new LinkedList<ValueUpdate>();
+                WriteRequest request = toPutWriteRequest(toWrite, tableName, config, converter, inMemoryUpdates);
+                if ( inMemoryUpdates.isEmpty() ) {
+                    writer.write(tableName, request);
+                } else {
+                    writer.write(tableName, request, new Runnable() {
+                        @Override
+                        public void run() {
+                            for ( ValueUpdate update : inMemoryUpdates ) {
+                                update.apply();
+                            }
+                        }
+                    });
+                }
+            }
+            while ( objectsToDelete.hasNext() ) {
+                Object toDelete = objectsToDelete.next();
+                String tableName = getTableName(toDelete.getClass(), toDelete, config);
+                writer.write(tableName, toDeleteWriteRequest(toDelete, converter));
+            }
+            writer.flush();
+        } finally {
+            writer.close();
+        }
+        return writer.getFailedBatches();
+    }
+
+    /**
+     * Returns the request putting the given object, with the values to
+     * generate for it added to the given list of updates.
+     */
+    private WriteRequest toPutWriteRequest(Object toWrite, String tableName, DynamoDBMapperConfig config,
+                                           ItemConverter converter, List<ValueUpdate> inMemoryUpdates) {
+        Class<?> clazz = toWrite.getClass();
+
+        Map<String, AttributeValue> attributeValues = new HashMap<String, AttributeValue>();
+
+        // Look at every getter and construct a value object for it
+        final DynamoDBMappingsRegistry.Mappings mappings = registry.mappingsOf(clazz);
+        for ( final DynamoDBMappingsRegistry.Mapping mapping : mappings.getMappings() ) {
+            AttributeValue currentValue = null;
+            if ( mapping.canGenerate(toWrite, config.getSaveBehavior()) && !mapping.isVersion() ) {
+                Object newVersion = mapping.bean().generate(mapping.bean().get(toWrite));
+                currentValue = converter.convert(mapping.bean().getter(), newVersion);
+                inMemoryUpdates.add(new ValueUpdate(mapping, currentValue, toWrite, converter));
+            } else {
+                currentValue = converter.convert(mapping.bean().getter(), mapping.bean().get(toWrite));
+            }
+            if ( currentValue != null ) {
+                attributeValues.put(mapping.getAttributeName(), currentValue);
+            }
+        }
+
+        AttributeTransformer.Parameters<?> parameters =
+            toParameters(attributeValues, clazz, tableName, config);
+
+        return new WriteRequest().withPutRequest(
+                new PutRequest().withItem(
+                    transformAttributes(parameters)));
+    }
+
+    private WriteRequest toDeleteWriteRequest(Object toDelete, ItemConverter converter) {
+        Map<String, AttributeValue> key = getKey(converter, toDelete);
+        return new WriteRequest().withDeleteRequest(new DeleteRequest().withKey(key));
+    }
+
     /**
      * Process one batch of requests(max 25). It will divide the batch if
      * receives request too large exception(the total size of the request is beyond 1M).
@@ -2440,10 +2515,36 @@ public class DynamoDBMapper extends AbstractDynamoDBMapper {
     private ItemConverter getConverter(DynamoDBMapperConfig config) {
         ConversionSchema schema = config.getConversionSchema();
 
+        // The converters of the built-in schemas only depend on the schema and
+        // the S3 client cache of this mapper, so they are reused along with the
+        // marshallers they resolve for each modeled class. Only the built-in
+        // schemas are cached, so that schemas built for each operation do not
+        // pile up in the cache.
+        boolean builtIn = isBuiltInSchema(schema);
+        if (builtIn) {
+            ItemConverter converter = converters.get(schema);
+            if (converter != null) {
+                return converter;
+            }
+        }
+
         ConversionSchema.Dependencies params = new ConversionSchema.Dependencies()
                 .with(S3ClientCache.class, s3cc);
 
-        return schema.getConverter(params);
+        ItemConverter converter = schema.getConverter(params);
+        if (builtIn) {
+            ItemConverter existing = converters.putIfAbsent(schema, converter);
+            if (existing != null) {
+                return existing;
+            }
+        }
+        return converter;
+    }
+
+    private static boolean isBuiltInSchema(ConversionSchema schema) {
+        return schema == ConversionSchemas.V1
+                || schema == ConversionSchemas.V2_COMPATIBLE
+                || schema == ConversionSchemas.V2;
     }
 
     private void pause(long delay) {
@@ -18,9 +18,12 @@ import com.amazonaws.metrics.RequestMetricCollector;
 import com.amazonaws.services.dynamodbv2.model.KeysAndAttributes;
 import com.amazonaws.services.dynamodbv2.model.WriteRequest;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.Executor;
 
 /**
  * Immutable configuration object for service call behavior. An instance of this
@@ -58,6 +61,7 @@ public class DynamoDBMapperConfig {
         private ConversionSchema conversionSchema;
         private BatchWriteRetryStrategy batchWriteRetryStrategy;
         private BatchLoadRetryStrategy batchLoadRetryStrategy;
+        private ParallelBatchWriteConfig parallelBatchWriteConfig;
 
         /**
          * Creates a new builder initialized with the {@link #DEFAULT} values.
@@ -73,6 +77,7 @@ public class DynamoDBMapperConfig {
             conversionSchema = DEFAULT.getConversionSchema();
             batchWriteRetryStrategy = DEFAULT.getBatchWriteRetryStrategy();
             batchLoadRetryStrategy = DEFAULT.getBatchLoadRetryStrategy();
+            parallelBatchWriteConfig = DEFAULT.getParallelBatchWriteConfig();
         }
 
         /**
@@ -319,6 +324,43 @@ public class DynamoDBMapperConfig {
             setBatchLoadRetryStrategy(value);
             return this;
         }
+
+        /**
+         * @return the current ParallelBatchWriteConfig
+         */
+        public ParallelBatchWriteConfig getParallelBatchWriteConfig() {
+            return parallelBatchWriteConfig;
+        }
+
+        /**
+         * Sets the configuration for writing batches in parallel. Setting it
+         * also switches {@link DynamoDBMapper#batchSave(Iterable)},
+         * {@link DynamoDBMapper#batchDelete(Iterable)} and
+         * {@link DynamoDBMapper#batchWrite(Iterable, Iterable)} to parallel
+         * writes; see {@link ParallelBatchWriteConfig}.
+         *
+         * @param value the new ParallelBatchWriteConfig, or null to write
+         *            batches one after another
+         */
+        public void setParallelBatchWriteConfig(
+                ParallelBatchWriteConfig value) {
+            this.parallelBatchWriteConfig = value;
+        }
+
+        /**
+         * Sets the configuration for writing batches in parallel, which also
+         * applies to the batch save, delete and write operations taking an
+         * {@code Iterable}; see {@link ParallelBatchWriteConfig}.
+         *
+         * @param value the new ParallelBatchWriteConfig, or null to write
+         *            batches one after another
+         * @return this builder
+         */
+        public Builder withParallelBatchWriteConfig(
+                ParallelBatchWriteConfig value) {
+            setParallelBatchWriteConfig(value);
+            return this;
+        }
         
         /**
          * Builds a new {@code DynamoDBMapperConfig} object.
@@ -336,7 +378,8 @@ public class DynamoDBMapperConfig {
                     requestMetricCollector,
                     conversionSchema,
                     batchWriteRetryStrategy,
-                    batchLoadRetryStrategy);
+                    batchLoadRetryStrategy,
+                    parallelBatchWriteConfig);
         }
     }
 
@@ -755,6 +798,120 @@ public class DynamoDBMapperConfig {
 
     }
 
+    /**
+     * Settings for writing batches in parallel, used by
+     * {@link DynamoDBMapper#batchWrite(Iterable, Iterable, DynamoDBMapperConfig)}
+     * and the other batch write operations when set on the mapper config.
+     * <p>
+     * Up to {@link #getMaxConcurrency()} BatchWriteItem requests are in flight
+     * at any time, each holding at most one table's items. The objects to
+     * write are converted as batches are sent, so an iterator of objects is
+     * never materialized as a whole. Writes to each table can be paced with a
+     * token bucket filled at the configured number of items per second; the
+     * rate is lowered whenever DynamoDB returns unprocessed items or throttles
+     * a batch, and recovers gradually as batches succeed.
+     * <p>
+     * Once set on the mapper config, this configuration switches every batch
+     * write operation to parallel writes, including
+     * {@link DynamoDBMapper#batchSave(Iterable)},
+     * {@link DynamoDBMapper#batchDelete(Iterable)} and
+     * {@link DynamoDBMapper#batchWrite(Iterable, Iterable)}, which otherwise
+     * write their batches one after another. On the parallel path, values
+     * generated for the objects saved, such as auto-generated keys, are set on
+     * each object once its batch is written, on the thread that wrote it, and
+     * are not set on the objects of a failed batch.
+     * <p>
+     * Instances of this class are immutable.
+     */
+    public static final class ParallelBatchWriteConfig {
+
+        private final int maxConcurrency;
+        private final Executor executor;
+        private final double defaultWriteRate;
+        private final Map<String, Double> tableWriteRates;
+
+        /**
+         * Creates a configuration writing at most the given number of batches
+         * concurrently, on threads created for each batch write operation and
+         * without pacing.
+         *
+         * @param maxConcurrency
+         *            the maximum number of BatchWriteItem requests in flight.
+         */
+        public ParallelBatchWriteConfig(int maxConcurrency) {
+            this(maxConcurrency, null, 0, Collections.<String, Double>emptyMap());
+        }
+
+        private ParallelBatchWriteConfig(int maxConcurrency, Executor executor,
+                double defaultWriteRate, Map<String, Double> tableWriteRates) {
+            if (maxConcurrency < 1) {
+                throw new IllegalArgumentException("maxConcurrency must be at least 1");
+            }
+            this.maxConcurrency = maxConcurrency;
+            this.executor = executor;
+            this.defaultWriteRate = defaultWriteRate;
+            this.tableWriteRates = tableWriteRates;
+        }
+
+        /**
+         * Returns a copy of this configuration running the batch writes on
+         * the given executor, which is not shut down by the mapper. If null,
+         * a thread pool is created and shut down by each batch write
+         * operation.
+         */
+        public ParallelBatchWriteConfig withExecutor(Executor executor) {
+            return new ParallelBatchWriteConfig(maxConcurrency, executor,
+                    defaultWriteRate, tableWriteRates);
+        }
+
+        /**
+         * Returns a copy of this configuration pacing the writes to every
+         * table without a rate of its own to the given number of items per
+         * second, or not pacing them if the rate is not positive.
+         */
+        public ParallelBatchWriteConfig withDefaultWriteRate(double itemsPerSecond) {
+            return new ParallelBatchWriteConfig(maxConcurrency, executor,
+                    itemsPerSecond, tableWriteRates);
+        }
+
+        /**
+         * Returns a copy of this configuration pacing the writes to the given
+         * table to the given number of items per second, or not pacing them
+         * if the rate is not positive. The table name is the one after any
+         * {@link TableNameOverride} or {@link TableNameResolver} is applied.
+         */
+        public ParallelBatchWriteConfig withTableWriteRate(String tableName, double itemsPerSecond) {
+            Map<String, Double> rates = new HashMap<String, Double>(tableWriteRates);
+            rates.put(tableName, itemsPerSecond);
+            return new ParallelBatchWriteConfig(maxConcurrency, executor,
+                    defaultWriteRate, Collections.unmodifiableMap(rates));
+        }
+
+        /**
+         * Returns the maximum number of BatchWriteItem requests in flight.
+         */
+        public int getMaxConcurrency() {
+            return maxConcurrency;
+        }
+
+        /**
+         * Returns the executor running the batch writes, or null if a thread
+         * pool is created for each batch write operation.
+         */
+        public Executor getExecutor() {
+            return executor;
+        }
+
+        /**
+         * Returns the number of items per second written to the given table,
+         * or a non-positive value if the writes to the table are not paced.
+         */
+        public double getWriteRate(String tableName) {
+            Double rate = tableWriteRates.get(tableName);
+            return rate == null ? defaultWriteRate : rate;
+        }
+    }
+
     private final SaveBehavior saveBehavior;
     private final ConsistentReads consistentReads;
     private final TableNameOverride tableNameOverride;
@@ -765,6 +922,7 @@ public class DynamoDBMapperConfig {
     private final ConversionSchema conversionSchema;
     private final BatchWriteRetryStrategy batchWriteRetryStrategy;
     private final BatchLoadRetryStrategy batchLoadRetryStrategy;
+    private final ParallelBatchWriteConfig parallelBatchWriteConfig;
 
     /**
      * Legacy constructor, using default PaginationLoadingStrategy
@@ -836,7 +994,8 @@ public class DynamoDBMapperConfig {
                 requestMetricCollector,
                 ConversionSchemas.DEFAULT,
                 new DefaultBatchWriteRetryStrategy(),
-                new DefaultBatchLoadRetryStrategy());
+                new DefaultBatchLoadRetryStrategy(),
+                null);
     }
 
     private DynamoDBMapperConfig(
@@ -849,7 +1008,8 @@ public class DynamoDBMapperConfig {
             RequestMetricCollector requestMetricCollector,
             ConversionSchema conversionSchema,
             BatchWriteRetryStrategy batchWriteRetryStrategy,
-            BatchLoadRetryStrategy batchLoadRetryStrategy) {
+            BatchLoadRetryStrategy batchLoadRetryStrategy,
+            ParallelBatchWriteConfig parallelBatchWriteConfig) {
 
         this.saveBehavior = saveBehavior;
         this.consistentReads = consistentReads;
@@ -861,6 +1021,7 @@ public class DynamoDBMapperConfig {
         this.conversionSchema = conversionSchema;
         this.batchWriteRetryStrategy = batchWriteRetryStrategy;
         this.batchLoadRetryStrategy = batchLoadRetryStrategy;
+        this.parallelBatchWriteConfig = parallelBatchWriteConfig;
     }
 
     /**
@@ -868,7 +1029,8 @@ public class DynamoDBMapperConfig {
      */
     public DynamoDBMapperConfig(SaveBehavior saveBehavior) {
         this(saveBehavior, null, null, null, null, null, null,
-                ConversionSchemas.DEFAULT, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy());
+                ConversionSchemas.DEFAULT, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy(),
+                null);
     }
 
     /**
@@ -877,7 +1039,8 @@ public class DynamoDBMapperConfig {
      */
     public DynamoDBMapperConfig(ConsistentReads consistentReads) {
         this(null, consistentReads, null, null, null, null, null,
-                ConversionSchemas.DEFAULT, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy());
+                ConversionSchemas.DEFAULT, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy(),
+                null);
     }
 
     /**
@@ -885,7 +1048,8 @@ public class DynamoDBMapperConfig {
      */
     public DynamoDBMapperConfig(TableNameOverride tableNameOverride) {
         this(null, null, tableNameOverride, null, null, null, null,
-                ConversionSchemas.DEFAULT, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy());
+                ConversionSchemas.DEFAULT, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy(),
+                null);
     }
 
     /**
@@ -893,7 +1057,8 @@ public class DynamoDBMapperConfig {
      */
     public DynamoDBMapperConfig(TableNameResolver tableNameResolver) {
         this(null, null, null, tableNameResolver, null, null, null,
-                ConversionSchemas.DEFAULT, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy());
+                ConversionSchemas.DEFAULT, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy(),
+                null);
     }
 
     /**
@@ -901,7 +1066,8 @@ public class DynamoDBMapperConfig {
      */
     public DynamoDBMapperConfig(ObjectTableNameResolver objectTableNameResolver) {
         this(null, null, null, null, objectTableNameResolver, null, null,
-                ConversionSchemas.DEFAULT, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy());
+                ConversionSchemas.DEFAULT, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy(),
+                null);
     }
 
     /**
@@ -909,7 +1075,8 @@ public class DynamoDBMapperConfig {
      */
     public DynamoDBMapperConfig(TableNameResolver tableNameResolver, ObjectTableNameResolver objectTableNameResolver) {
         this(null, null, null, tableNameResolver, objectTableNameResolver, null, null,
-                ConversionSchemas.DEFAULT, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy());
+                ConversionSchemas.DEFAULT, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy(),
+                null);
     }
 
     /**
@@ -920,14 +1087,16 @@ public class DynamoDBMapperConfig {
             PaginationLoadingStrategy paginationLoadingStrategy) {
 
         this(null, null, null, null, null, paginationLoadingStrategy, null,
-                ConversionSchemas.DEFAULT, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy());
+                ConversionSchemas.DEFAULT, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy(),
+                null);
     }
 
     /**
      * Constructs a new configuration object with the conversion schema given.
      */
     public DynamoDBMapperConfig(ConversionSchema conversionSchema) {
-        this(null, null, null, null, null, null, null, conversionSchema, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy());
+        this(null, null, null, null, null, null, null, conversionSchema, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy(),
+                null);
     }
 
     /**
@@ -961,6 +1130,7 @@ public class DynamoDBMapperConfig {
             this.conversionSchema = defaults.getConversionSchema();
             this.batchWriteRetryStrategy = defaults.getBatchWriteRetryStrategy();
             this.batchLoadRetryStrategy = defaults.getBatchLoadRetryStrategy();
+            this.parallelBatchWriteConfig = defaults.getParallelBatchWriteConfig();
 
         } else {
 
@@ -1006,6 +1176,10 @@ public class DynamoDBMapperConfig {
                             ? defaults.getBatchLoadRetryStrategy()
                             : overrides.getBatchLoadRetryStrategy();
 
+            this.parallelBatchWriteConfig = (overrides.getParallelBatchWriteConfig() == null)
+                    ? defaults.getParallelBatchWriteConfig()
+                    : overrides.getParallelBatchWriteConfig();
+
         }
     }
 
@@ -1093,6 +1267,14 @@ public class DynamoDBMapperConfig {
         return batchWriteRetryStrategy;
     }
 
+    /**
+     * @return the ParallelBatchWriteConfig for this config object, or null if
+     *         batches are written one after another
+     */
+    public ParallelBatchWriteConfig getParallelBatchWriteConfig() {
+        return parallelBatchWriteConfig;
+    }
+
     /**
      * Default configuration uses UPDATE behavior for saves and EVENTUALly
      * consistent reads, with no table name override and lazy-loading strategy.
@@ -1107,5 +1289,6 @@ public class DynamoDBMapperConfig {
             null,  // RequestMetricCollector
             ConversionSchemas.DEFAULT,
             new DefaultBatchWriteRetryStrategy(),
-            new DefaultBatchLoadRetryStrategy());
+            new DefaultBatchLoadRetryStrategy(),
+            null); // ParallelBatchWriteConfig
 }
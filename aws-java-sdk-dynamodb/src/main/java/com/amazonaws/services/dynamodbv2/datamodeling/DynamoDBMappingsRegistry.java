@@ -59,10 +59,15 @@ final class DynamoDBMappingsRegistry {
      * @return The mapping definition.
      */
     final Mappings mappingsOf(final Class<?> clazz) {
-        if (!mappings.containsKey(clazz)) {
-            mappings.putIfAbsent(clazz, new Mappings(clazz));
+        Mappings result = mappings.get(clazz);
+        if (result == null) {
+            final Mappings computed = new Mappings(clazz);
+            result = mappings.putIfAbsent(clazz, computed);
+            if (result == null) {
+                result = computed;
+            }
         }
-        return mappings.get(clazz);
+        return result;
     }
 
     /**
@@ -14,12 +14,14 @@
  */
 package com.amazonaws.services.dynamodbv2.datamodeling;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.PaginationLoadingStrategy;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.ParallelBatchWriteConfig;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.SaveBehavior;
 import com.amazonaws.services.dynamodbv2.model.AttributeValue;
 import com.amazonaws.services.dynamodbv2.model.BatchGetItemRequest;
@@ -306,8 +308,9 @@ public interface IDynamoDBMapper {
      *            as required by the {@link AmazonDynamoDB#batchWriteItem(BatchWriteItemRequest)}
      *            API.
      * @param config
-     *            Only {@link DynamoDBMapperConfig#getTableNameOverride()} and
-     *            {@link DynamoDBMapperConfig#getBatchWriteRetryStrategy()} are considered. If
+     *            Only {@link DynamoDBMapperConfig#getTableNameOverride()},
+     *            {@link DynamoDBMapperConfig#getBatchWriteRetryStrategy()} and
+     *            {@link DynamoDBMapperConfig#getParallelBatchWriteConfig()} are considered. If
      *            TableNameOverride is specified, all objects in the two parameter lists will be
      *            considered to belong to the given table override. In particular, this method
      *            <b>always acts as if SaveBehavior.CLOBBER was specified</b> regardless of the
@@ -321,6 +324,44 @@ public interface IDynamoDBMapper {
                                  Iterable<? extends Object> objectsToDelete,
                                  DynamoDBMapperConfig config);
 
+    /**
+     * Saves and deletes the objects given using one or more calls to the
+     * {@link AmazonDynamoDB#batchWriteItem(BatchWriteItemRequest)} API, converting the objects as
+     * the batches are sent so that the objects to write are never all held in memory. The batches
+     * are written concurrently as specified by
+     * {@link DynamoDBMapperConfig#getParallelBatchWriteConfig()}, or one after another if it is
+     * null, in which case they are written on the calling thread.
+     * <p>
+     * Values generated for the objects to save, such as auto-generated keys, are set on each object
+     * once its batch is written, on the thread that wrote the batch; they are not set on the objects
+     * returned in a failed batch.
+     * </p>
+     * <p>
+     * If one of the write requests is for a table that is not present, this method does not throw a
+     * ResourceNotFoundException but returns a FailedBatch which includes this exception and the
+     * unprocessed items.
+     * </p>
+     *
+     * @param objectsToWrite
+     *            The objects to save to DynamoDB. <b>No version checks are performed</b>, as
+     *            required by the {@link AmazonDynamoDB#batchWriteItem(BatchWriteItemRequest)} API.
+     * @param objectsToDelete
+     *            The objects to delete from DynamoDB. <b>No version checks are performed</b>, as
+     *            required by the {@link AmazonDynamoDB#batchWriteItem(BatchWriteItemRequest)} API.
+     * @param config
+     *            Only {@link DynamoDBMapperConfig#getTableNameOverride()},
+     *            {@link DynamoDBMapperConfig#getBatchWriteRetryStrategy()} and
+     *            {@link DynamoDBMapperConfig#getParallelBatchWriteConfig()} are considered. This
+     *            method <b>always acts as if SaveBehavior.CLOBBER was specified</b> regardless of
+     *            the value of the config parameter.
+     * @return A list of failed batches which includes the unprocessed items and the exceptions
+     *         causing the failure.
+     * @see ParallelBatchWriteConfig
+     */
+    List<FailedBatch> batchWrite(Iterator<? extends Object> objectsToWrite,
+                                 Iterator<? extends Object> objectsToDelete,
+                                 DynamoDBMapperConfig config);
+
     /**
      * Retrieves multiple items from multiple tables using their primary keys.
      *
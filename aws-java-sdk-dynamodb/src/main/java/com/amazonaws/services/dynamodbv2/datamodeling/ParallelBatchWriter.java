@@ -0,0 +1,424 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.dynamodbv2.datamodeling;
+
+import static com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.MAX_ITEMS_PER_BATCH;
+import static com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.applyBatchOperationUserAgent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.retry.RetryUtils;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.BatchWriteRetryStrategy;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.ParallelBatchWriteConfig;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemResult;
+import com.amazonaws.services.dynamodbv2.model.WriteRequest;
+
+/**
+ * Writes the requests it is given in batches of up to 25 items of the same
+ * table, with up to a configured number of BatchWriteItem requests in flight.
+ * Adding a request blocks while that many batches are in flight, so the
+ * requests are never buffered beyond one batch per table. Without a
+ * configuration, the batches are written one after another on the thread
+ * adding the requests.
+ * <p>
+ * Not thread safe: requests must be added from a single thread.
+ */
+final class ParallelBatchWriter {
+
+    /** Runs the batch writes on the thread adding the requests. */
+    private static final Executor CALLING_THREAD = new Executor() {
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+    };
+
+    private final AmazonDynamoDB db;
+    private final BatchWriteRetryStrategy retryStrategy;
+    private final ParallelBatchWriteConfig config;
+    private final int maxConcurrency;
+    private final Executor executor;
+    /** The thread pool created for this writer, if none was configured. */
+    private final ExecutorService ownedExecutor;
+    private final Semaphore inFlightBatches;
+    private final Random random = new Random();
+
+    private final Map<String, Batch> pendingBatches = new HashMap<String, Batch>();
+    private final Map<String, WriteRateLimiter> rateLimiters = new HashMap<String, WriteRateLimiter>();
+    private final List<FailedBatch> failedBatches =
+            Collections.synchronizedList(new LinkedList<FailedBatch>());
+    /** The first failure of a callback run once its request was written. */
+    private volatile RuntimeException callbackFailure;
+
+    /**
+     * @param config
+     *            the parallel batch write configuration, or null to write the
+     *            batches one after another on the calling thread.
+     */
+    ParallelBatchWriter(AmazonDynamoDB db, BatchWriteRetryStrategy retryStrategy,
+            ParallelBatchWriteConfig config) {
+        this.db = db;
+        this.retryStrategy = retryStrategy;
+        this.config = config;
+        if (config == null) {
+            this.maxConcurrency = 1;
+            this.ownedExecutor = null;
+            this.executor = CALLING_THREAD;
+        } else if (config.getExecutor() == null) {
+            this.maxConcurrency = config.getMaxConcurrency();
+            this.ownedExecutor = Executors.newFixedThreadPool(maxConcurrency);
+            this.executor = ownedExecutor;
+        } else {
+            this.maxConcurrency = config.getMaxConcurrency();
+            this.ownedExecutor = null;
+            this.executor = config.getExecutor();
+        }
+        this.inFlightBatches = new Semaphore(maxConcurrency);
+    }
+
+    /**
+     * Adds a request to the batch of its table, sending the batch once it is
+     * full.
+     */
+    void write(String tableName, WriteRequest request) {
+        write(tableName, request, null);
+    }
+
+    /**
+     * Adds a request to the batch of its table, sending the batch once it is
+     * full. The given callback, if any, is run once the request is written,
+     * on the thread writing its batch; it is not run if the request ends up
+     * in a failed batch.
+     */
+    void write(String tableName, WriteRequest request, Runnable onWritten) {
+        Batch batch = pendingBatches.get(tableName);
+        if (batch == null) {
+            batch = new Batch();
+            pendingBatches.put(tableName, batch);
+        }
+        batch.add(request, onWritten);
+        if (batch.requests.size() == MAX_ITEMS_PER_BATCH) {
+            pendingBatches.remove(tableName);
+            submit(tableName, batch);
+        }
+    }
+
+    /**
+     * Sends the batches that are not full yet.
+     */
+    void flush() {
+        for (Map.Entry<String, Batch> entry : pendingBatches.entrySet()) {
+            submit(entry.getKey(), entry.getValue());
+        }
+        pendingBatches.clear();
+    }
+
+    /**
+     * Waits for the batches in flight to complete, and releases the threads
+     * created for this writer. Requests that were added but not flushed are
+     * discarded.
+     *
+     * @throws RuntimeException
+     *             the first exception thrown by a callback of a written
+     *             request, if any.
+     */
+    void close() {
+        try {
+            inFlightBatches.acquireUninterruptibly(maxConcurrency);
+            inFlightBatches.release(maxConcurrency);
+        } finally {
+            if (ownedExecutor != null) {
+                ownedExecutor.shutdown();
+            }
+        }
+        if (callbackFailure != null) {
+            throw callbackFailure;
+        }
+    }
+
+    /**
+     * Returns the batches that could not be written so far.
+     */
+    List<FailedBatch> getFailedBatches() {
+        synchronized (failedBatches) {
+            return new LinkedList<FailedBatch>(failedBatches);
+        }
+    }
+
+    private void submit(final String tableName, final Batch batch) {
+        final WriteRateLimiter rateLimiter = getRateLimiter(tableName);
+        try {
+            inFlightBatches.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmazonClientException(e.getMessage(), e);
+        }
+        try {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        Set<WriteRequest> unwritten = new HashSet<WriteRequest>();
+                        writeBatch(tableName, batch.requests, rateLimiter, unwritten);
+                        batch.written(unwritten);
+                    } finally {
+                        inFlightBatches.release();
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlightBatches.release();
+            throw e;
+        }
+    }
+
+    private WriteRateLimiter getRateLimiter(String tableName) {
+        if (!rateLimiters.containsKey(tableName)) {
+            double rate = config == null ? 0 : config.getWriteRate(tableName);
+            rateLimiters.put(tableName, rate > 0 ? new WriteRateLimiter(rate) : null);
+        }
+        return rateLimiters.get(tableName);
+    }
+
+    /**
+     * Writes one batch of requests of a table, resending the unprocessed
+     * items as according to the BatchWriteRetryStrategy, and dividing the
+     * batch if it is beyond the maximum request size. The requests that could
+     * not be written are added to the given set.
+     */
+    private void writeBatch(String tableName, List<WriteRequest> batch, WriteRateLimiter rateLimiter,
+            Set<WriteRequest> unwritten) {
+        Map<String, List<WriteRequest>> pendingItems = Collections.singletonMap(tableName, batch);
+        int maxRetries = retryStrategy.getMaxRetryOnUnprocessedItems(pendingItems);
+        int retries = 0;
+
+        while (true) {
+            BatchWriteItemResult result;
+            try {
+                if (rateLimiter != null) {
+                    sleep(rateLimiter.acquire(countItems(pendingItems)));
+                }
+                result = db.batchWriteItem(applyBatchOperationUserAgent(
+                        new BatchWriteItemRequest().withRequestItems(pendingItems)));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                addFailedBatch(pendingItems, e, unwritten);
+                return;
+            } catch (Exception e) {
+                List<WriteRequest> requests = pendingItems.get(tableName);
+                if (requests != null && requests.size() > 1 && isRequestEntityTooLarge(e)) {
+                    writeBatch(tableName, requests.subList(0, requests.size() / 2), rateLimiter, unwritten);
+                    writeBatch(tableName, requests.subList(requests.size() / 2, requests.size()), rateLimiter,
+                            unwritten);
+                    return;
+                }
+                if (rateLimiter != null && isThrottling(e)) {
+                    rateLimiter.decrease();
+                }
+                addFailedBatch(pendingItems, e, unwritten);
+                return;
+            }
+
+            Map<String, List<WriteRequest>> unprocessedItems = result.getUnprocessedItems();
+            if (unprocessedItems == null || unprocessedItems.isEmpty()) {
+                if (rateLimiter != null) {
+                    rateLimiter.increase();
+                }
+                return;
+            }
+            if (rateLimiter != null) {
+                rateLimiter.decrease();
+            }
+            if (maxRetries >= 0 && retries >= maxRetries) {
+                addFailedBatch(unprocessedItems, null, unwritten);
+                return;
+            }
+            try {
+                sleep(jitter(retryStrategy.getDelayBeforeRetryUnprocessedItems(
+                        Collections.unmodifiableMap(unprocessedItems), retries)));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                addFailedBatch(unprocessedItems, e, unwritten);
+                return;
+            }
+            retries++;
+            pendingItems = unprocessedItems;
+        }
+    }
+
+    /**
+     * Returns a random delay between half and all of the given delay, so that
+     * the batches throttled together are not resent together.
+     */
+    private long jitter(long delay) {
+        if (delay <= 1) {
+            return delay;
+        }
+        long half = delay / 2;
+        return delay - half + (long) (random.nextDouble() * (half + 1));
+    }
+
+    private void addFailedBatch(Map<String, List<WriteRequest>> unprocessedItems, Exception e,
+            Set<WriteRequest> unwritten) {
+        FailedBatch failedBatch = new FailedBatch();
+        failedBatch.setUnprocessedItems(unprocessedItems);
+        failedBatch.setException(e);
+        failedBatches.add(failedBatch);
+        for (List<WriteRequest> requests : unprocessedItems.values()) {
+            unwritten.addAll(requests);
+        }
+    }
+
+    private static int countItems(Map<String, List<WriteRequest>> items) {
+        int count = 0;
+        for (List<WriteRequest> requests : items.values()) {
+            count += requests.size();
+        }
+        return count;
+    }
+
+    private static boolean isRequestEntityTooLarge(Exception e) {
+        return e instanceof AmazonServiceException
+                && RetryUtils.isRequestEntityTooLargeException((AmazonServiceException) e);
+    }
+
+    private static boolean isThrottling(Exception e) {
+        return e instanceof AmazonServiceException
+                && RetryUtils.isThrottlingException((AmazonServiceException) e);
+    }
+
+    private static void sleep(long millis) throws InterruptedException {
+        if (millis > 0) {
+            Thread.sleep(millis);
+        }
+    }
+
+    /**
+     * The requests of a table to write together, with the callbacks to run
+     * once they are written.
+     */
+    private final class Batch {
+        final List<WriteRequest> requests = new ArrayList<WriteRequest>(MAX_ITEMS_PER_BATCH);
+        final List<Runnable> callbacks = new ArrayList<Runnable>(MAX_ITEMS_PER_BATCH);
+
+        void add(WriteRequest request, Runnable onWritten) {
+            requests.add(request);
+            callbacks.add(onWritten);
+        }
+
+        /**
+         * Runs the callbacks of the requests written, that is of those not
+         * in the given set.
+         */
+        void written(Set<WriteRequest> unwritten) {
+            for (int i = 0; i < requests.size(); i++) {
+                Runnable callback = callbacks.get(i);
+                if (callback == null || unwritten.contains(requests.get(i))) {
+                    continue;
+                }
+                try {
+                    callback.run();
+                } catch (RuntimeException e) {
+                    if (callbackFailure == null) {
+                        callbackFailure = e;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Token bucket pacing the items written to a table. The bucket holds up
+     * to one second of writes, and at least one full batch. Its rate is halved
+     * whenever the table pushes back, down to a tenth of the configured rate,
+     * and grows back by a twentieth of the configured rate with every batch
+     * written in full.
+     */
+    static final class WriteRateLimiter {
+        private static final double MIN_RATE_RATIO = 0.1;
+        private static final double RATE_INCREMENT_RATIO = 0.05;
+
+        private final double maxRate;
+        private double rate;
+        private double tokens;
+        private long lastRefillNanos;
+
+        WriteRateLimiter(double maxRate) {
+            this.maxRate = maxRate;
+            this.rate = maxRate;
+            this.tokens = capacity();
+            this.lastRefillNanos = System.nanoTime();
+        }
+
+        /**
+         * Takes the given number of tokens, going in debt if there are not
+         * enough of them.
+         *
+         * @return the number of milliseconds to wait before using the tokens.
+         */
+        synchronized long acquire(int items) {
+            refill();
+            tokens -= items;
+            if (tokens >= 0) {
+                return 0;
+            }
+            return (long) Math.ceil(-tokens / rate * TimeUnit.SECONDS.toMillis(1));
+        }
+
+        synchronized void decrease() {
+            refill();
+            rate = Math.max(rate / 2, maxRate * MIN_RATE_RATIO);
+            tokens = Math.min(tokens, capacity());
+        }
+
+        synchronized void increase() {
+            refill();
+            rate = Math.min(rate + maxRate * RATE_INCREMENT_RATIO, maxRate);
+        }
+
+        synchronized double getRate() {
+            return rate;
+        }
+
+        private double capacity() {
+            return Math.max(rate, MAX_ITEMS_PER_BATCH);
+        }
+
+        private void refill() {
+            long now = System.nanoTime();
+            double elapsedSeconds = (now - lastRefillNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+            tokens = Math.min(tokens + elapsedSeconds * rate, capacity());
+            lastRefillNanos = now;
+        }
+    }
+}
@@ -209,6 +209,21 @@ final class StandardBeanProperties {
         private MethodReflect(final Method getter) {
             this.setter = ReflectionUtils.getDeclaredSetterByGetter(getter);
             this.getter = getter;
+            suppressAccessChecks(this.getter);
+            suppressAccessChecks(this.setter);
+        }
+        /**
+         * Skips the access checks done on every invocation; the methods are
+         * public, so this only fails under a restrictive security manager.
+         */
+        private static void suppressAccessChecks(final Method method) {
+            if (method != null) {
+                try {
+                    method.setAccessible(true);
+                } catch (final SecurityException e) {
+                    // keep the default checked invocation
+                }
+            }
         }
         @Override
         public Class<V> valueType() {
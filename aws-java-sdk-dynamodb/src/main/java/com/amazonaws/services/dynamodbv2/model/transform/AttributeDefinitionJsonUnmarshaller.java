@@ -53,15 +53,24 @@ public class AttributeDefinitionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AttributeName", targetDepth)) {
-                    context.nextToken();
-                    attributeDefinition.setAttributeName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AttributeType", targetDepth)) {
-                    context.nextToken();
-                    attributeDefinition.setAttributeType(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -650306777:
+                        if (fieldName.equals("AttributeName")) {
+                            context.nextToken();
+                            attributeDefinition.setAttributeName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -650104874:
+                        if (fieldName.equals("AttributeType")) {
+                            context.nextToken();
+                            attributeDefinition.setAttributeType(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,16 +53,25 @@ public class AttributeValueUpdateJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Value", targetDepth)) {
-                    context.nextToken();
-                    attributeValueUpdate
-                            .setValue(AttributeValueJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Action", targetDepth)) {
-                    context.nextToken();
-                    attributeValueUpdate.setAction(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 82420049:
+                        if (fieldName.equals("Value")) {
+                            context.nextToken();
+                            attributeValueUpdate
+                                    .setValue(AttributeValueJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1955883606:
+                        if (fieldName.equals("Action")) {
+                            context.nextToken();
+                            attributeValueUpdate.setAction(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,32 +53,43 @@ public class BatchGetItemResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Responses", targetDepth)) {
-                    context.nextToken();
-                    batchGetItemResult
-                            .setResponses(new MapUnmarshaller<String, java.util.List<java.util.Map<String, AttributeValue>>>(
-                                    context.getUnmarshaller(String.class),
-                                    new ListUnmarshaller<java.util.Map<String, AttributeValue>>(
-                                            new MapUnmarshaller<String, AttributeValue>(
-                                                    context.getUnmarshaller(String.class),
-                                                    AttributeValueJsonUnmarshaller
-                                                            .getInstance())))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("UnprocessedKeys", targetDepth)) {
-                    context.nextToken();
-                    batchGetItemResult
-                            .setUnprocessedKeys(new MapUnmarshaller<String, KeysAndAttributes>(
-                                    context.getUnmarshaller(String.class),
-                                    KeysAndAttributesJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("ConsumedCapacity", targetDepth)) {
-                    context.nextToken();
-                    batchGetItemResult
-                            .setConsumedCapacity(new ListUnmarshaller<ConsumedCapacity>(
-                                    ConsumedCapacityJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 43881522:
+                        if (fieldName.equals("Responses")) {
+                            context.nextToken();
+                            batchGetItemResult
+                                    .setResponses(new MapUnmarshaller<String, java.util.List<java.util.Map<String, AttributeValue>>>(
+                                            context.getUnmarshaller(String.class),
+                                            new ListUnmarshaller<java.util.Map<String, AttributeValue>>(
+                                                    new MapUnmarshaller<String, AttributeValue>(
+                                                            context.getUnmarshaller(String.class),
+                                                            AttributeValueJsonUnmarshaller
+                                                                    .getInstance())))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1337425993:
+                        if (fieldName.equals("UnprocessedKeys")) {
+                            context.nextToken();
+                            batchGetItemResult
+                                    .setUnprocessedKeys(new MapUnmarshaller<String, KeysAndAttributes>(
+                                            context.getUnmarshaller(String.class),
+                                            KeysAndAttributesJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 1720572130:
+                        if (fieldName.equals("ConsumedCapacity")) {
+                            context.nextToken();
+                            batchGetItemResult
+                                    .setConsumedCapacity(new ListUnmarshaller<ConsumedCapacity>(
+                                            ConsumedCapacityJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,33 +53,43 @@ public class BatchWriteItemResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("UnprocessedItems", targetDepth)) {
-                    context.nextToken();
-                    batchWriteItemResult
-                            .setUnprocessedItems(new MapUnmarshaller<String, java.util.List<WriteRequest>>(
-                                    context.getUnmarshaller(String.class),
-                                    new ListUnmarshaller<WriteRequest>(
-                                            WriteRequestJsonUnmarshaller
-                                                    .getInstance()))
-                                    .unmarshall(context));
-                }
-                if (context
-                        .testExpression("ItemCollectionMetrics", targetDepth)) {
-                    context.nextToken();
-                    batchWriteItemResult
-                            .setItemCollectionMetrics(new MapUnmarshaller<String, java.util.List<ItemCollectionMetrics>>(
-                                    context.getUnmarshaller(String.class),
-                                    new ListUnmarshaller<ItemCollectionMetrics>(
-                                            ItemCollectionMetricsJsonUnmarshaller
-                                                    .getInstance()))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("ConsumedCapacity", targetDepth)) {
-                    context.nextToken();
-                    batchWriteItemResult
-                            .setConsumedCapacity(new ListUnmarshaller<ConsumedCapacity>(
-                                    ConsumedCapacityJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1490886645:
+                        if (fieldName.equals("UnprocessedItems")) {
+                            context.nextToken();
+                            batchWriteItemResult
+                                    .setUnprocessedItems(new MapUnmarshaller<String, java.util.List<WriteRequest>>(
+                                            context.getUnmarshaller(String.class),
+                                            new ListUnmarshaller<WriteRequest>(
+                                                    WriteRequestJsonUnmarshaller
+                                                            .getInstance()))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -974988974:
+                        if (fieldName.equals("ItemCollectionMetrics")) {
+                            context.nextToken();
+                            batchWriteItemResult
+                                    .setItemCollectionMetrics(new MapUnmarshaller<String, java.util.List<ItemCollectionMetrics>>(
+                                            context.getUnmarshaller(String.class),
+                                            new ListUnmarshaller<ItemCollectionMetrics>(
+                                                    ItemCollectionMetricsJsonUnmarshaller
+                                                            .getInstance()))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1720572130:
+                        if (fieldName.equals("ConsumedCapacity")) {
+                            context.nextToken();
+                            batchWriteItemResult
+                                    .setConsumedCapacity(new ListUnmarshaller<ConsumedCapacity>(
+                                            ConsumedCapacityJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
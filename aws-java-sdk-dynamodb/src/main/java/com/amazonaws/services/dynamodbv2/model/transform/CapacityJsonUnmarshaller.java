@@ -53,10 +53,17 @@ public class CapacityJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CapacityUnits", targetDepth)) {
-                    context.nextToken();
-                    capacity.setCapacityUnits(context.getUnmarshaller(
-                            Double.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -939694411:
+                        if (fieldName.equals("CapacityUnits")) {
+                            context.nextToken();
+                            capacity.setCapacityUnits(context.getUnmarshaller(
+                                    Double.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class ConditionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AttributeValueList", targetDepth)) {
-                    context.nextToken();
-                    condition
-                            .setAttributeValueList(new ListUnmarshaller<AttributeValue>(
-                                    AttributeValueJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("ComparisonOperator", targetDepth)) {
-                    context.nextToken();
-                    condition.setComparisonOperator(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1216804499:
+                        if (fieldName.equals("AttributeValueList")) {
+                            context.nextToken();
+                            condition
+                                    .setAttributeValueList(new ListUnmarshaller<AttributeValue>(
+                                            AttributeValueJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 607067117:
+                        if (fieldName.equals("ComparisonOperator")) {
+                            context.nextToken();
+                            condition.setComparisonOperator(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,30 +53,42 @@ public class CreateGlobalSecondaryIndexActionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IndexName", targetDepth)) {
-                    context.nextToken();
-                    createGlobalSecondaryIndexAction.setIndexName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("KeySchema", targetDepth)) {
-                    context.nextToken();
-                    createGlobalSecondaryIndexAction
-                            .setKeySchema(new ListUnmarshaller<KeySchemaElement>(
-                                    KeySchemaElementJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Projection", targetDepth)) {
-                    context.nextToken();
-                    createGlobalSecondaryIndexAction
-                            .setProjection(ProjectionJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context
-                        .testExpression("ProvisionedThroughput", targetDepth)) {
-                    context.nextToken();
-                    createGlobalSecondaryIndexAction
-                            .setProvisionedThroughput(ProvisionedThroughputJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1196260957:
+                        if (fieldName.equals("IndexName")) {
+                            context.nextToken();
+                            createGlobalSecondaryIndexAction.setIndexName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -303936:
+                        if (fieldName.equals("KeySchema")) {
+                            context.nextToken();
+                            createGlobalSecondaryIndexAction
+                                    .setKeySchema(new ListUnmarshaller<KeySchemaElement>(
+                                            KeySchemaElementJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 23504495:
+                        if (fieldName.equals("Projection")) {
+                            context.nextToken();
+                            createGlobalSecondaryIndexAction
+                                    .setProjection(ProjectionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 613725534:
+                        if (fieldName.equals("ProvisionedThroughput")) {
+                            context.nextToken();
+                            createGlobalSecondaryIndexAction
+                                    .setProvisionedThroughput(ProvisionedThroughputJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
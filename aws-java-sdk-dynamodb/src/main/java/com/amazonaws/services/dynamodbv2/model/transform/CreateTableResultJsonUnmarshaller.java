@@ -53,11 +53,18 @@ public class CreateTableResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TableDescription", targetDepth)) {
-                    context.nextToken();
-                    createTableResult
-                            .setTableDescription(TableDescriptionJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 736323438:
+                        if (fieldName.equals("TableDescription")) {
+                            context.nextToken();
+                            createTableResult
+                                    .setTableDescription(TableDescriptionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,10 +53,17 @@ public class DeleteGlobalSecondaryIndexActionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IndexName", targetDepth)) {
-                    context.nextToken();
-                    deleteGlobalSecondaryIndexAction.setIndexName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1196260957:
+                        if (fieldName.equals("IndexName")) {
+                            context.nextToken();
+                            deleteGlobalSecondaryIndexAction.setIndexName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,26 +53,36 @@ public class DeleteItemResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Attributes", targetDepth)) {
-                    context.nextToken();
-                    deleteItemResult
-                            .setAttributes(new MapUnmarshaller<String, AttributeValue>(
-                                    context.getUnmarshaller(String.class),
-                                    AttributeValueJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("ConsumedCapacity", targetDepth)) {
-                    context.nextToken();
-                    deleteItemResult
-                            .setConsumedCapacity(ConsumedCapacityJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context
-                        .testExpression("ItemCollectionMetrics", targetDepth)) {
-                    context.nextToken();
-                    deleteItemResult
-                            .setItemCollectionMetrics(ItemCollectionMetricsJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1895856777:
+                        if (fieldName.equals("Attributes")) {
+                            context.nextToken();
+                            deleteItemResult
+                                    .setAttributes(new MapUnmarshaller<String, AttributeValue>(
+                                            context.getUnmarshaller(String.class),
+                                            AttributeValueJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 1720572130:
+                        if (fieldName.equals("ConsumedCapacity")) {
+                            context.nextToken();
+                            deleteItemResult
+                                    .setConsumedCapacity(ConsumedCapacityJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -974988974:
+                        if (fieldName.equals("ItemCollectionMetrics")) {
+                            context.nextToken();
+                            deleteItemResult
+                                    .setItemCollectionMetrics(ItemCollectionMetricsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
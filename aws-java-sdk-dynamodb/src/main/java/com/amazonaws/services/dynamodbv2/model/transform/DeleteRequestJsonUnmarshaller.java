@@ -53,13 +53,20 @@ public class DeleteRequestJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Key", targetDepth)) {
-                    context.nextToken();
-                    deleteRequest
-                            .setKey(new MapUnmarshaller<String, AttributeValue>(
-                                    context.getUnmarshaller(String.class),
-                                    AttributeValueJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 75327:
+                        if (fieldName.equals("Key")) {
+                            context.nextToken();
+                            deleteRequest
+                                    .setKey(new MapUnmarshaller<String, AttributeValue>(
+                                            context.getUnmarshaller(String.class),
+                                            AttributeValueJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,31 +53,40 @@ public class DescribeLimitsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AccountMaxReadCapacityUnits",
-                        targetDepth)) {
-                    context.nextToken();
-                    describeLimitsResult.setAccountMaxReadCapacityUnits(context
-                            .getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("AccountMaxWriteCapacityUnits",
-                        targetDepth)) {
-                    context.nextToken();
-                    describeLimitsResult
-                            .setAccountMaxWriteCapacityUnits(context
-                                    .getUnmarshaller(Long.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("TableMaxReadCapacityUnits",
-                        targetDepth)) {
-                    context.nextToken();
-                    describeLimitsResult.setTableMaxReadCapacityUnits(context
-                            .getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("TableMaxWriteCapacityUnits",
-                        targetDepth)) {
-                    context.nextToken();
-                    describeLimitsResult.setTableMaxWriteCapacityUnits(context
-                            .getUnmarshaller(Long.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1262277240:
+                        if (fieldName.equals("AccountMaxReadCapacityUnits")) {
+                            context.nextToken();
+                            describeLimitsResult.setAccountMaxReadCapacityUnits(context
+                                    .getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 707807661:
+                        if (fieldName.equals("AccountMaxWriteCapacityUnits")) {
+                            context.nextToken();
+                            describeLimitsResult
+                                    .setAccountMaxWriteCapacityUnits(context
+                                            .getUnmarshaller(Long.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -1652015959:
+                        if (fieldName.equals("TableMaxReadCapacityUnits")) {
+                            context.nextToken();
+                            describeLimitsResult.setTableMaxReadCapacityUnits(context
+                                    .getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 1510809260:
+                        if (fieldName.equals("TableMaxWriteCapacityUnits")) {
+                            context.nextToken();
+                            describeLimitsResult.setTableMaxWriteCapacityUnits(context
+                                    .getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,11 +53,18 @@ public class DescribeStreamResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StreamDescription", targetDepth)) {
-                    context.nextToken();
-                    describeStreamResult
-                            .setStreamDescription(StreamDescriptionJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 541682748:
+                        if (fieldName.equals("StreamDescription")) {
+                            context.nextToken();
+                            describeStreamResult
+                                    .setStreamDescription(StreamDescriptionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,11 +53,18 @@ public class DescribeTableResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Table", targetDepth)) {
-                    context.nextToken();
-                    describeTableResult
-                            .setTable(TableDescriptionJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 80563118:
+                        if (fieldName.equals("Table")) {
+                            context.nextToken();
+                            describeTableResult
+                                    .setTable(TableDescriptionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,19 +53,28 @@ public class GetItemResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Item", targetDepth)) {
-                    context.nextToken();
-                    getItemResult
-                            .setItem(new MapUnmarshaller<String, AttributeValue>(
-                                    context.getUnmarshaller(String.class),
-                                    AttributeValueJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("ConsumedCapacity", targetDepth)) {
-                    context.nextToken();
-                    getItemResult
-                            .setConsumedCapacity(ConsumedCapacityJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2289459:
+                        if (fieldName.equals("Item")) {
+                            context.nextToken();
+                            getItemResult
+                                    .setItem(new MapUnmarshaller<String, AttributeValue>(
+                                            context.getUnmarshaller(String.class),
+                                            AttributeValueJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 1720572130:
+                        if (fieldName.equals("ConsumedCapacity")) {
+                            context.nextToken();
+                            getItemResult
+                                    .setConsumedCapacity(ConsumedCapacityJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,16 +53,25 @@ public class GetRecordsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Records", targetDepth)) {
-                    context.nextToken();
-                    getRecordsResult.setRecords(new ListUnmarshaller<Record>(
-                            RecordJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("NextShardIterator", targetDepth)) {
-                    context.nextToken();
-                    getRecordsResult.setNextShardIterator(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1547717086:
+                        if (fieldName.equals("Records")) {
+                            context.nextToken();
+                            getRecordsResult.setRecords(new ListUnmarshaller<Record>(
+                                    RecordJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -423918055:
+                        if (fieldName.equals("NextShardIterator")) {
+                            context.nextToken();
+                            getRecordsResult.setNextShardIterator(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
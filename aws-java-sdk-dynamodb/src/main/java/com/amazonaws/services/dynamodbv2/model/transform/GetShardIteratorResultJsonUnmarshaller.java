@@ -53,10 +53,17 @@ public class GetShardIteratorResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ShardIterator", targetDepth)) {
-                    context.nextToken();
-                    getShardIteratorResult.setShardIterator(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -585879988:
+                        if (fieldName.equals("ShardIterator")) {
+                            context.nextToken();
+                            getShardIteratorResult.setShardIterator(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
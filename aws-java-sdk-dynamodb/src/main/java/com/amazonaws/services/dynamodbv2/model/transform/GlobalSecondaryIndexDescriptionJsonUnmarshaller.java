@@ -53,56 +53,78 @@ public class GlobalSecondaryIndexDescriptionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IndexName", targetDepth)) {
-                    context.nextToken();
-                    globalSecondaryIndexDescription.setIndexName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("KeySchema", targetDepth)) {
-                    context.nextToken();
-                    globalSecondaryIndexDescription
-                            .setKeySchema(new ListUnmarshaller<KeySchemaElement>(
-                                    KeySchemaElementJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Projection", targetDepth)) {
-                    context.nextToken();
-                    globalSecondaryIndexDescription
-                            .setProjection(ProjectionJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("IndexStatus", targetDepth)) {
-                    context.nextToken();
-                    globalSecondaryIndexDescription.setIndexStatus(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Backfilling", targetDepth)) {
-                    context.nextToken();
-                    globalSecondaryIndexDescription
-                            .setBackfilling(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("ProvisionedThroughput", targetDepth)) {
-                    context.nextToken();
-                    globalSecondaryIndexDescription
-                            .setProvisionedThroughput(ProvisionedThroughputDescriptionJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("IndexSizeBytes", targetDepth)) {
-                    context.nextToken();
-                    globalSecondaryIndexDescription.setIndexSizeBytes(context
-                            .getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("ItemCount", targetDepth)) {
-                    context.nextToken();
-                    globalSecondaryIndexDescription.setItemCount(context
-                            .getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("IndexArn", targetDepth)) {
-                    context.nextToken();
-                    globalSecondaryIndexDescription.setIndexArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1196260957:
+                        if (fieldName.equals("IndexName")) {
+                            context.nextToken();
+                            globalSecondaryIndexDescription.setIndexName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -303936:
+                        if (fieldName.equals("KeySchema")) {
+                            context.nextToken();
+                            globalSecondaryIndexDescription
+                                    .setKeySchema(new ListUnmarshaller<KeySchemaElement>(
+                                            KeySchemaElementJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 23504495:
+                        if (fieldName.equals("Projection")) {
+                            context.nextToken();
+                            globalSecondaryIndexDescription
+                                    .setProjection(ProjectionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1284102332:
+                        if (fieldName.equals("IndexStatus")) {
+                            context.nextToken();
+                            globalSecondaryIndexDescription.setIndexStatus(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -2123648872:
+                        if (fieldName.equals("Backfilling")) {
+                            context.nextToken();
+                            globalSecondaryIndexDescription
+                                    .setBackfilling(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 613725534:
+                        if (fieldName.equals("ProvisionedThroughput")) {
+                            context.nextToken();
+                            globalSecondaryIndexDescription
+                                    .setProvisionedThroughput(ProvisionedThroughputDescriptionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1173399464:
+                        if (fieldName.equals("IndexSizeBytes")) {
+                            context.nextToken();
+                            globalSecondaryIndexDescription.setIndexSizeBytes(context
+                                    .getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    case -163186276:
+                        if (fieldName.equals("ItemCount")) {
+                            context.nextToken();
+                            globalSecondaryIndexDescription.setItemCount(context
+                                    .getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 177124427:
+                        if (fieldName.equals("IndexArn")) {
+                            context.nextToken();
+                            globalSecondaryIndexDescription.setIndexArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,30 +53,42 @@ public class GlobalSecondaryIndexJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IndexName", targetDepth)) {
-                    context.nextToken();
-                    globalSecondaryIndex.setIndexName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("KeySchema", targetDepth)) {
-                    context.nextToken();
-                    globalSecondaryIndex
-                            .setKeySchema(new ListUnmarshaller<KeySchemaElement>(
-                                    KeySchemaElementJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Projection", targetDepth)) {
-                    context.nextToken();
-                    globalSecondaryIndex
-                            .setProjection(ProjectionJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context
-                        .testExpression("ProvisionedThroughput", targetDepth)) {
-                    context.nextToken();
-                    globalSecondaryIndex
-                            .setProvisionedThroughput(ProvisionedThroughputJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1196260957:
+                        if (fieldName.equals("IndexName")) {
+                            context.nextToken();
+                            globalSecondaryIndex.setIndexName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -303936:
+                        if (fieldName.equals("KeySchema")) {
+                            context.nextToken();
+                            globalSecondaryIndex
+                                    .setKeySchema(new ListUnmarshaller<KeySchemaElement>(
+                                            KeySchemaElementJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 23504495:
+                        if (fieldName.equals("Projection")) {
+                            context.nextToken();
+                            globalSecondaryIndex
+                                    .setProjection(ProjectionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 613725534:
+                        if (fieldName.equals("ProvisionedThroughput")) {
+                            context.nextToken();
+                            globalSecondaryIndex
+                                    .setProvisionedThroughput(ProvisionedThroughputJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,20 +53,29 @@ public class ItemCollectionMetricsJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ItemCollectionKey", targetDepth)) {
-                    context.nextToken();
-                    itemCollectionMetrics
-                            .setItemCollectionKey(new MapUnmarshaller<String, AttributeValue>(
-                                    context.getUnmarshaller(String.class),
-                                    AttributeValueJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("SizeEstimateRangeGB", targetDepth)) {
-                    context.nextToken();
-                    itemCollectionMetrics
-                            .setSizeEstimateRangeGB(new ListUnmarshaller<Double>(
-                                    context.getUnmarshaller(Double.class))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -734767506:
+                        if (fieldName.equals("ItemCollectionKey")) {
+                            context.nextToken();
+                            itemCollectionMetrics
+                                    .setItemCollectionKey(new MapUnmarshaller<String, AttributeValue>(
+                                            context.getUnmarshaller(String.class),
+                                            AttributeValueJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 1696938543:
+                        if (fieldName.equals("SizeEstimateRangeGB")) {
+                            context.nextToken();
+                            itemCollectionMetrics
+                                    .setSizeEstimateRangeGB(new ListUnmarshaller<Double>(
+                                            context.getUnmarshaller(Double.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,18 +53,26 @@ public class ListTablesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TableNames", targetDepth)) {
-                    context.nextToken();
-                    listTablesResult
-                            .setTableNames(new ListUnmarshaller<String>(context
-                                    .getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("LastEvaluatedTableName",
-                        targetDepth)) {
-                    context.nextToken();
-                    listTablesResult.setLastEvaluatedTableName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 472758330:
+                        if (fieldName.equals("TableNames")) {
+                            context.nextToken();
+                            listTablesResult
+                                    .setTableNames(new ListUnmarshaller<String>(context
+                                            .getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1051122140:
+                        if (fieldName.equals("LastEvaluatedTableName")) {
+                            context.nextToken();
+                            listTablesResult.setLastEvaluatedTableName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
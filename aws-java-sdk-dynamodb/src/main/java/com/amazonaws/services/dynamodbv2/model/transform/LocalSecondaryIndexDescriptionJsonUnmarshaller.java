@@ -53,38 +53,55 @@ public class LocalSecondaryIndexDescriptionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IndexName", targetDepth)) {
-                    context.nextToken();
-                    localSecondaryIndexDescription.setIndexName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("KeySchema", targetDepth)) {
-                    context.nextToken();
-                    localSecondaryIndexDescription
-                            .setKeySchema(new ListUnmarshaller<KeySchemaElement>(
-                                    KeySchemaElementJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Projection", targetDepth)) {
-                    context.nextToken();
-                    localSecondaryIndexDescription
-                            .setProjection(ProjectionJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("IndexSizeBytes", targetDepth)) {
-                    context.nextToken();
-                    localSecondaryIndexDescription.setIndexSizeBytes(context
-                            .getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("ItemCount", targetDepth)) {
-                    context.nextToken();
-                    localSecondaryIndexDescription.setItemCount(context
-                            .getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("IndexArn", targetDepth)) {
-                    context.nextToken();
-                    localSecondaryIndexDescription.setIndexArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1196260957:
+                        if (fieldName.equals("IndexName")) {
+                            context.nextToken();
+                            localSecondaryIndexDescription.setIndexName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -303936:
+                        if (fieldName.equals("KeySchema")) {
+                            context.nextToken();
+                            localSecondaryIndexDescription
+                                    .setKeySchema(new ListUnmarshaller<KeySchemaElement>(
+                                            KeySchemaElementJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 23504495:
+                        if (fieldName.equals("Projection")) {
+                            context.nextToken();
+                            localSecondaryIndexDescription
+                                    .setProjection(ProjectionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1173399464:
+                        if (fieldName.equals("IndexSizeBytes")) {
+                            context.nextToken();
+                            localSecondaryIndexDescription.setIndexSizeBytes(context
+                                    .getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    case -163186276:
+                        if (fieldName.equals("ItemCount")) {
+                            context.nextToken();
+                            localSecondaryIndexDescription.setItemCount(context
+                                    .getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 177124427:
+                        if (fieldName.equals("IndexArn")) {
+                            context.nextToken();
+                            localSecondaryIndexDescription.setIndexArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
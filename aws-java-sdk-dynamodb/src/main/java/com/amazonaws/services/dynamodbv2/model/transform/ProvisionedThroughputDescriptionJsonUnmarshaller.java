@@ -53,36 +53,50 @@ public class ProvisionedThroughputDescriptionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("LastIncreaseDateTime", targetDepth)) {
-                    context.nextToken();
-                    provisionedThroughputDescription
-                            .setLastIncreaseDateTime(context.getUnmarshaller(
-                                    java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("LastDecreaseDateTime", targetDepth)) {
-                    context.nextToken();
-                    provisionedThroughputDescription
-                            .setLastDecreaseDateTime(context.getUnmarshaller(
-                                    java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("NumberOfDecreasesToday",
-                        targetDepth)) {
-                    context.nextToken();
-                    provisionedThroughputDescription
-                            .setNumberOfDecreasesToday(context.getUnmarshaller(
-                                    Long.class).unmarshall(context));
-                }
-                if (context.testExpression("ReadCapacityUnits", targetDepth)) {
-                    context.nextToken();
-                    provisionedThroughputDescription
-                            .setReadCapacityUnits(context.getUnmarshaller(
-                                    Long.class).unmarshall(context));
-                }
-                if (context.testExpression("WriteCapacityUnits", targetDepth)) {
-                    context.nextToken();
-                    provisionedThroughputDescription
-                            .setWriteCapacityUnits(context.getUnmarshaller(
-                                    Long.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 680185555:
+                        if (fieldName.equals("LastIncreaseDateTime")) {
+                            context.nextToken();
+                            provisionedThroughputDescription
+                                    .setLastIncreaseDateTime(context.getUnmarshaller(
+                                            java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case -1745175249:
+                        if (fieldName.equals("LastDecreaseDateTime")) {
+                            context.nextToken();
+                            provisionedThroughputDescription
+                                    .setLastDecreaseDateTime(context.getUnmarshaller(
+                                            java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 1032226796:
+                        if (fieldName.equals("NumberOfDecreasesToday")) {
+                            context.nextToken();
+                            provisionedThroughputDescription
+                                    .setNumberOfDecreasesToday(context.getUnmarshaller(
+                                            Long.class).unmarshall(context));
+                        }
+                        break;
+                    case -474410817:
+                        if (fieldName.equals("ReadCapacityUnits")) {
+                            context.nextToken();
+                            provisionedThroughputDescription
+                                    .setReadCapacityUnits(context.getUnmarshaller(
+                                            Long.class).unmarshall(context));
+                        }
+                        break;
+                    case -638137002:
+                        if (fieldName.equals("WriteCapacityUnits")) {
+                            context.nextToken();
+                            provisionedThroughputDescription
+                                    .setWriteCapacityUnits(context.getUnmarshaller(
+                                            Long.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
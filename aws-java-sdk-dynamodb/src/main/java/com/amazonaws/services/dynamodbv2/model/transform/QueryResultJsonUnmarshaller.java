@@ -53,39 +53,54 @@ public class QueryResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Items", targetDepth)) {
-                    context.nextToken();
-                    queryResult
-                            .setItems(new ListUnmarshaller<java.util.Map<String, AttributeValue>>(
-                                    new MapUnmarshaller<String, AttributeValue>(
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 70973344:
+                        if (fieldName.equals("Items")) {
+                            context.nextToken();
+                            queryResult
+                                    .setItems(new ListUnmarshaller<java.util.Map<String, AttributeValue>>(
+                                            new MapUnmarshaller<String, AttributeValue>(
+                                                    context.getUnmarshaller(String.class),
+                                                    AttributeValueJsonUnmarshaller
+                                                            .getInstance()))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 65298671:
+                        if (fieldName.equals("Count")) {
+                            context.nextToken();
+                            queryResult.setCount(context.getUnmarshaller(Integer.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -2006649569:
+                        if (fieldName.equals("ScannedCount")) {
+                            context.nextToken();
+                            queryResult.setScannedCount(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -1354347190:
+                        if (fieldName.equals("LastEvaluatedKey")) {
+                            context.nextToken();
+                            queryResult
+                                    .setLastEvaluatedKey(new MapUnmarshaller<String, AttributeValue>(
                                             context.getUnmarshaller(String.class),
                                             AttributeValueJsonUnmarshaller
-                                                    .getInstance()))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("Count", targetDepth)) {
-                    context.nextToken();
-                    queryResult.setCount(context.getUnmarshaller(Integer.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("ScannedCount", targetDepth)) {
-                    context.nextToken();
-                    queryResult.setScannedCount(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("LastEvaluatedKey", targetDepth)) {
-                    context.nextToken();
-                    queryResult
-                            .setLastEvaluatedKey(new MapUnmarshaller<String, AttributeValue>(
-                                    context.getUnmarshaller(String.class),
-                                    AttributeValueJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("ConsumedCapacity", targetDepth)) {
-                    context.nextToken();
-                    queryResult
-                            .setConsumedCapacity(ConsumedCapacityJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 1720572130:
+                        if (fieldName.equals("ConsumedCapacity")) {
+                            context.nextToken();
+                            queryResult
+                                    .setConsumedCapacity(ConsumedCapacityJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -52,35 +52,52 @@ public class RecordJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("eventID", targetDepth)) {
-                    context.nextToken();
-                    record.setEventID(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("eventName", targetDepth)) {
-                    context.nextToken();
-                    record.setEventName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("eventVersion", targetDepth)) {
-                    context.nextToken();
-                    record.setEventVersion(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("eventSource", targetDepth)) {
-                    context.nextToken();
-                    record.setEventSource(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("awsRegion", targetDepth)) {
-                    context.nextToken();
-                    record.setAwsRegion(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("dynamodb", targetDepth)) {
-                    context.nextToken();
-                    record.setDynamodb(StreamRecordJsonUnmarshaller
-                            .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1376502475:
+                        if (fieldName.equals("eventID")) {
+                            context.nextToken();
+                            record.setEventID(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 31228997:
+                        if (fieldName.equals("eventName")) {
+                            context.nextToken();
+                            record.setEventName(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1259864286:
+                        if (fieldName.equals("eventVersion")) {
+                            context.nextToken();
+                            record.setEventVersion(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 102624085:
+                        if (fieldName.equals("eventSource")) {
+                            context.nextToken();
+                            record.setEventSource(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -860644271:
+                        if (fieldName.equals("awsRegion")) {
+                            context.nextToken();
+                            record.setAwsRegion(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1443282600:
+                        if (fieldName.equals("dynamodb")) {
+                            context.nextToken();
+                            record.setDynamodb(StreamRecordJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
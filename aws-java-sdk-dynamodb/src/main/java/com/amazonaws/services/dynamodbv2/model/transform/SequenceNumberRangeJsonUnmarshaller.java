@@ -53,16 +53,24 @@ public class SequenceNumberRangeJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StartingSequenceNumber",
-                        targetDepth)) {
-                    context.nextToken();
-                    sequenceNumberRange.setStartingSequenceNumber(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EndingSequenceNumber", targetDepth)) {
-                    context.nextToken();
-                    sequenceNumberRange.setEndingSequenceNumber(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1546293994:
+                        if (fieldName.equals("StartingSequenceNumber")) {
+                            context.nextToken();
+                            sequenceNumberRange.setStartingSequenceNumber(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 872724369:
+                        if (fieldName.equals("EndingSequenceNumber")) {
+                            context.nextToken();
+                            sequenceNumberRange.setEndingSequenceNumber(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
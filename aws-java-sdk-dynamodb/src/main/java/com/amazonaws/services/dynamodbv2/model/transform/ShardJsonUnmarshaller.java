@@ -52,20 +52,31 @@ public class ShardJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ShardId", targetDepth)) {
-                    context.nextToken();
-                    shard.setShardId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("SequenceNumberRange", targetDepth)) {
-                    context.nextToken();
-                    shard.setSequenceNumberRange(SequenceNumberRangeJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ParentShardId", targetDepth)) {
-                    context.nextToken();
-                    shard.setParentShardId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -576097927:
+                        if (fieldName.equals("ShardId")) {
+                            context.nextToken();
+                            shard.setShardId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1135958227:
+                        if (fieldName.equals("SequenceNumberRange")) {
+                            context.nextToken();
+                            shard.setSequenceNumberRange(SequenceNumberRangeJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -953391761:
+                        if (fieldName.equals("ParentShardId")) {
+                            context.nextToken();
+                            shard.setParentShardId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,55 +53,77 @@ public class StreamDescriptionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StreamArn", targetDepth)) {
-                    context.nextToken();
-                    streamDescription.setStreamArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("StreamLabel", targetDepth)) {
-                    context.nextToken();
-                    streamDescription.setStreamLabel(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("StreamStatus", targetDepth)) {
-                    context.nextToken();
-                    streamDescription.setStreamStatus(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("StreamViewType", targetDepth)) {
-                    context.nextToken();
-                    streamDescription.setStreamViewType(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationRequestDateTime",
-                        targetDepth)) {
-                    context.nextToken();
-                    streamDescription.setCreationRequestDateTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("TableName", targetDepth)) {
-                    context.nextToken();
-                    streamDescription.setTableName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("KeySchema", targetDepth)) {
-                    context.nextToken();
-                    streamDescription
-                            .setKeySchema(new ListUnmarshaller<KeySchemaElement>(
-                                    KeySchemaElementJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Shards", targetDepth)) {
-                    context.nextToken();
-                    streamDescription.setShards(new ListUnmarshaller<Shard>(
-                            ShardJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("LastEvaluatedShardId", targetDepth)) {
-                    context.nextToken();
-                    streamDescription.setLastEvaluatedShardId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1688314525:
+                        if (fieldName.equals("StreamArn")) {
+                            context.nextToken();
+                            streamDescription.setStreamArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1017735372:
+                        if (fieldName.equals("StreamLabel")) {
+                            context.nextToken();
+                            streamDescription.setStreamLabel(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1267089486:
+                        if (fieldName.equals("StreamStatus")) {
+                            context.nextToken();
+                            streamDescription.setStreamStatus(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1974887231:
+                        if (fieldName.equals("StreamViewType")) {
+                            context.nextToken();
+                            streamDescription.setStreamViewType(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1873727925:
+                        if (fieldName.equals("CreationRequestDateTime")) {
+                            context.nextToken();
+                            streamDescription.setCreationRequestDateTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case 15250265:
+                        if (fieldName.equals("TableName")) {
+                            context.nextToken();
+                            streamDescription.setTableName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -303936:
+                        if (fieldName.equals("KeySchema")) {
+                            context.nextToken();
+                            streamDescription
+                                    .setKeySchema(new ListUnmarshaller<KeySchemaElement>(
+                                            KeySchemaElementJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1819699083:
+                        if (fieldName.equals("Shards")) {
+                            context.nextToken();
+                            streamDescription.setShards(new ListUnmarshaller<Shard>(
+                                    ShardJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -2002904316:
+                        if (fieldName.equals("LastEvaluatedShardId")) {
+                            context.nextToken();
+                            streamDescription.setLastEvaluatedShardId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -52,20 +52,31 @@ public class StreamJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StreamArn", targetDepth)) {
-                    context.nextToken();
-                    stream.setStreamArn(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("TableName", targetDepth)) {
-                    context.nextToken();
-                    stream.setTableName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("StreamLabel", targetDepth)) {
-                    context.nextToken();
-                    stream.setStreamLabel(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1688314525:
+                        if (fieldName.equals("StreamArn")) {
+                            context.nextToken();
+                            stream.setStreamArn(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 15250265:
+                        if (fieldName.equals("TableName")) {
+                            context.nextToken();
+                            stream.setTableName(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1017735372:
+                        if (fieldName.equals("StreamLabel")) {
+                            context.nextToken();
+                            stream.setStreamLabel(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,51 +53,69 @@ public class StreamRecordJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ApproximateCreationDateTime",
-                        targetDepth)) {
-                    context.nextToken();
-                    streamRecord.setApproximateCreationDateTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("Keys", targetDepth)) {
-                    context.nextToken();
-                    streamRecord
-                            .setKeys(new MapUnmarshaller<String, AttributeValue>(
-                                    context.getUnmarshaller(String.class),
-                                    AttributeValueJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NewImage", targetDepth)) {
-                    context.nextToken();
-                    streamRecord
-                            .setNewImage(new MapUnmarshaller<String, AttributeValue>(
-                                    context.getUnmarshaller(String.class),
-                                    AttributeValueJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("OldImage", targetDepth)) {
-                    context.nextToken();
-                    streamRecord
-                            .setOldImage(new MapUnmarshaller<String, AttributeValue>(
-                                    context.getUnmarshaller(String.class),
-                                    AttributeValueJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("SequenceNumber", targetDepth)) {
-                    context.nextToken();
-                    streamRecord.setSequenceNumber(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("SizeBytes", targetDepth)) {
-                    context.nextToken();
-                    streamRecord.setSizeBytes(context.getUnmarshaller(
-                            Long.class).unmarshall(context));
-                }
-                if (context.testExpression("StreamViewType", targetDepth)) {
-                    context.nextToken();
-                    streamRecord.setStreamViewType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1766515374:
+                        if (fieldName.equals("ApproximateCreationDateTime")) {
+                            context.nextToken();
+                            streamRecord.setApproximateCreationDateTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case 2335252:
+                        if (fieldName.equals("Keys")) {
+                            context.nextToken();
+                            streamRecord
+                                    .setKeys(new MapUnmarshaller<String, AttributeValue>(
+                                            context.getUnmarshaller(String.class),
+                                            AttributeValueJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 1421440955:
+                        if (fieldName.equals("NewImage")) {
+                            context.nextToken();
+                            streamRecord
+                                    .setNewImage(new MapUnmarshaller<String, AttributeValue>(
+                                            context.getUnmarshaller(String.class),
+                                            AttributeValueJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 242888596:
+                        if (fieldName.equals("OldImage")) {
+                            context.nextToken();
+                            streamRecord
+                                    .setOldImage(new MapUnmarshaller<String, AttributeValue>(
+                                            context.getUnmarshaller(String.class),
+                                            AttributeValueJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 1938978442:
+                        if (fieldName.equals("SequenceNumber")) {
+                            context.nextToken();
+                            streamRecord.setSequenceNumber(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1820858166:
+                        if (fieldName.equals("SizeBytes")) {
+                            context.nextToken();
+                            streamRecord.setSizeBytes(context.getUnmarshaller(
+                                    Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 1974887231:
+                        if (fieldName.equals("StreamViewType")) {
+                            context.nextToken();
+                            streamRecord.setStreamViewType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
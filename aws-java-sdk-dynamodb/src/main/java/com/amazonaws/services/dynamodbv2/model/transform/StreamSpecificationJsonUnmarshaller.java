@@ -53,16 +53,25 @@ public class StreamSpecificationJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StreamEnabled", targetDepth)) {
-                    context.nextToken();
-                    streamSpecification
-                            .setStreamEnabled(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("StreamViewType", targetDepth)) {
-                    context.nextToken();
-                    streamSpecification.setStreamViewType(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -337538175:
+                        if (fieldName.equals("StreamEnabled")) {
+                            context.nextToken();
+                            streamSpecification
+                                    .setStreamEnabled(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 1974887231:
+                        if (fieldName.equals("StreamViewType")) {
+                            context.nextToken();
+                            streamSpecification.setStreamViewType(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,89 +53,119 @@ public class TableDescriptionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AttributeDefinitions", targetDepth)) {
-                    context.nextToken();
-                    tableDescription
-                            .setAttributeDefinitions(new ListUnmarshaller<AttributeDefinition>(
-                                    AttributeDefinitionJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("TableName", targetDepth)) {
-                    context.nextToken();
-                    tableDescription.setTableName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("KeySchema", targetDepth)) {
-                    context.nextToken();
-                    tableDescription
-                            .setKeySchema(new ListUnmarshaller<KeySchemaElement>(
-                                    KeySchemaElementJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("TableStatus", targetDepth)) {
-                    context.nextToken();
-                    tableDescription.setTableStatus(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationDateTime", targetDepth)) {
-                    context.nextToken();
-                    tableDescription.setCreationDateTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context
-                        .testExpression("ProvisionedThroughput", targetDepth)) {
-                    context.nextToken();
-                    tableDescription
-                            .setProvisionedThroughput(ProvisionedThroughputDescriptionJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("TableSizeBytes", targetDepth)) {
-                    context.nextToken();
-                    tableDescription.setTableSizeBytes(context.getUnmarshaller(
-                            Long.class).unmarshall(context));
-                }
-                if (context.testExpression("ItemCount", targetDepth)) {
-                    context.nextToken();
-                    tableDescription.setItemCount(context.getUnmarshaller(
-                            Long.class).unmarshall(context));
-                }
-                if (context.testExpression("TableArn", targetDepth)) {
-                    context.nextToken();
-                    tableDescription.setTableArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("LocalSecondaryIndexes", targetDepth)) {
-                    context.nextToken();
-                    tableDescription
-                            .setLocalSecondaryIndexes(new ListUnmarshaller<LocalSecondaryIndexDescription>(
-                                    LocalSecondaryIndexDescriptionJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("GlobalSecondaryIndexes",
-                        targetDepth)) {
-                    context.nextToken();
-                    tableDescription
-                            .setGlobalSecondaryIndexes(new ListUnmarshaller<GlobalSecondaryIndexDescription>(
-                                    GlobalSecondaryIndexDescriptionJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("StreamSpecification", targetDepth)) {
-                    context.nextToken();
-                    tableDescription
-                            .setStreamSpecification(StreamSpecificationJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("LatestStreamLabel", targetDepth)) {
-                    context.nextToken();
-                    tableDescription.setLatestStreamLabel(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LatestStreamArn", targetDepth)) {
-                    context.nextToken();
-                    tableDescription.setLatestStreamArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1370959204:
+                        if (fieldName.equals("AttributeDefinitions")) {
+                            context.nextToken();
+                            tableDescription
+                                    .setAttributeDefinitions(new ListUnmarshaller<AttributeDefinition>(
+                                            AttributeDefinitionJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 15250265:
+                        if (fieldName.equals("TableName")) {
+                            context.nextToken();
+                            tableDescription.setTableName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -303936:
+                        if (fieldName.equals("KeySchema")) {
+                            context.nextToken();
+                            tableDescription
+                                    .setKeySchema(new ListUnmarshaller<KeySchemaElement>(
+                                            KeySchemaElementJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 1930956096:
+                        if (fieldName.equals("TableStatus")) {
+                            context.nextToken();
+                            tableDescription.setTableStatus(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 659158970:
+                        if (fieldName.equals("CreationDateTime")) {
+                            context.nextToken();
+                            tableDescription.setCreationDateTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case 613725534:
+                        if (fieldName.equals("ProvisionedThroughput")) {
+                            context.nextToken();
+                            tableDescription
+                                    .setProvisionedThroughput(ProvisionedThroughputDescriptionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 861528284:
+                        if (fieldName.equals("TableSizeBytes")) {
+                            context.nextToken();
+                            tableDescription.setTableSizeBytes(context.getUnmarshaller(
+                                    Long.class).unmarshall(context));
+                        }
+                        break;
+                    case -163186276:
+                        if (fieldName.equals("ItemCount")) {
+                            context.nextToken();
+                            tableDescription.setItemCount(context.getUnmarshaller(
+                                    Long.class).unmarshall(context));
+                        }
+                        break;
+                    case -830804017:
+                        if (fieldName.equals("TableArn")) {
+                            context.nextToken();
+                            tableDescription.setTableArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1874009513:
+                        if (fieldName.equals("LocalSecondaryIndexes")) {
+                            context.nextToken();
+                            tableDescription
+                                    .setLocalSecondaryIndexes(new ListUnmarshaller<LocalSecondaryIndexDescription>(
+                                            LocalSecondaryIndexDescriptionJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1529351473:
+                        if (fieldName.equals("GlobalSecondaryIndexes")) {
+                            context.nextToken();
+                            tableDescription
+                                    .setGlobalSecondaryIndexes(new ListUnmarshaller<GlobalSecondaryIndexDescription>(
+                                            GlobalSecondaryIndexDescriptionJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 1604655427:
+                        if (fieldName.equals("StreamSpecification")) {
+                            context.nextToken();
+                            tableDescription
+                                    .setStreamSpecification(StreamSpecificationJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1554965203:
+                        if (fieldName.equals("LatestStreamLabel")) {
+                            context.nextToken();
+                            tableDescription.setLatestStreamLabel(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1464292054:
+                        if (fieldName.equals("LatestStreamArn")) {
+                            context.nextToken();
+                            tableDescription.setLatestStreamArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,25 @@ public class UpdateGlobalSecondaryIndexActionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IndexName", targetDepth)) {
-                    context.nextToken();
-                    updateGlobalSecondaryIndexAction.setIndexName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("ProvisionedThroughput", targetDepth)) {
-                    context.nextToken();
-                    updateGlobalSecondaryIndexAction
-                            .setProvisionedThroughput(ProvisionedThroughputJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1196260957:
+                        if (fieldName.equals("IndexName")) {
+                            context.nextToken();
+                            updateGlobalSecondaryIndexAction.setIndexName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 613725534:
+                        if (fieldName.equals("ProvisionedThroughput")) {
+                            context.nextToken();
+                            updateGlobalSecondaryIndexAction
+                                    .setProvisionedThroughput(ProvisionedThroughputJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
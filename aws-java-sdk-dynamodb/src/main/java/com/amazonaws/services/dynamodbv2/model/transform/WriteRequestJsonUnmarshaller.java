@@ -53,15 +53,24 @@ public class WriteRequestJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("PutRequest", targetDepth)) {
-                    context.nextToken();
-                    writeRequest.setPutRequest(PutRequestJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("DeleteRequest", targetDepth)) {
-                    context.nextToken();
-                    writeRequest.setDeleteRequest(DeleteRequestJsonUnmarshaller
-                            .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -792071008:
+                        if (fieldName.equals("PutRequest")) {
+                            context.nextToken();
+                            writeRequest.setPutRequest(PutRequestJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1689882180:
+                        if (fieldName.equals("DeleteRequest")) {
+                            context.nextToken();
+                            writeRequest.setDeleteRequest(DeleteRequestJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.dynamodbv2;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.protocol.HttpContext;
+import org.junit.After;
+import org.junit.Test;
+
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.client.AsyncHttpTransport;
+import com.amazonaws.http.client.HttpClientFactory;
+import com.amazonaws.http.settings.HttpClientSettings;
+import com.amazonaws.internal.StaticCredentialsProvider;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.GetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.GetItemResult;
+import com.amazonaws.services.dynamodbv2.model.ResourceNotFoundException;
+
+/**
+ * Tests the non-blocking methods of the asynchronous client against a stubbed
+ * transport that answers every request with a canned response.
+ */
+public class AmazonDynamoDBAsyncClientNonBlockingTest {
+
+    private StubTransport transport;
+
+    private AmazonDynamoDBAsyncClient client;
+
+    @After
+    public void tearDown() {
+        if (client != null) {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    public void getItem_IsUnmarshalledAndHandlerNotified() throws Exception {
+        newClient(200, "{\"Item\":{\"key\":{\"S\":\"value\"}}}");
+        final AtomicReference<GetItemResult> handled = new AtomicReference<GetItemResult>();
+        final CountDownLatch done = new CountDownLatch(1);
+
+        Future<GetItemResult> future = client.getItemNonBlockingAsync(newGetItemRequest(),
+                new AsyncHandler<GetItemRequest, GetItemResult>() {
+                    @Override
+                    public void onError(Exception exception) {
+                        done.countDown();
+                    }
+
+                    @Override
+                    public void onSuccess(GetItemRequest request, GetItemResult result) {
+                        handled.set(result);
+                        done.countDown();
+                    }
+                });
+
+        GetItemResult result = future.get(10, TimeUnit.SECONDS);
+        assertEquals("value", result.getItem().get("key").getS());
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(result, handled.get());
+        assertEquals("DynamoDB_20120810.GetItem",
+                transport.lastRequest.getFirstHeader("X-Amz-Target").getValue());
+    }
+
+    @Test
+    public void errorResponse_FailsTheFutureWithModeledException() throws Exception {
+        newClient(400, "{\"__type\":\"com.amazonaws.dynamodb.v20120810#ResourceNotFoundException\","
+                + "\"message\":\"Requested resource not found\"}");
+        final AtomicReference<Exception> handled = new AtomicReference<Exception>();
+        final CountDownLatch done = new CountDownLatch(1);
+
+        Future<GetItemResult> future = client.getItemNonBlockingAsync(newGetItemRequest(),
+                new AsyncHandler<GetItemRequest, GetItemResult>() {
+                    @Override
+                    public void onError(Exception exception) {
+                        handled.set(exception);
+                        done.countDown();
+                    }
+
+                    @Override
+                    public void onSuccess(GetItemRequest request, GetItemResult result) {
+                        done.countDown();
+                    }
+                });
+
+        try {
+            future.get(10, TimeUnit.SECONDS);
+            fail("Expected exception");
+        } catch (ExecutionException expected) {
+            assertTrue(expected.getCause() instanceof ResourceNotFoundException);
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertTrue(handled.get() instanceof ResourceNotFoundException);
+    }
+
+    @Test
+    public void abstractClient_DoesNotSupportNonBlockingCalls() {
+        try {
+            new AbstractAmazonDynamoDBAsync() {
+            }.getItemNonBlockingAsync(newGetItemRequest());
+            fail("Expected exception");
+        } catch (UnsupportedOperationException expected) {
+            assertNull(expected.getMessage());
+        }
+    }
+
+    private void newClient(int statusCode, String body) {
+        transport = new StubTransport(statusCode, body);
+        ClientConfiguration config = new ClientConfiguration().withMaxErrorRetry(0)
+                .withAsyncHttpTransportFactory(new HttpClientFactory<AsyncHttpTransport>() {
+                    @Override
+                    public AsyncHttpTransport create(HttpClientSettings settings) {
+                        return transport;
+                    }
+                });
+        client = new AmazonDynamoDBAsyncClient(new StaticCredentialsProvider(
+                new BasicAWSCredentials("access", "secret")), config);
+        client.setEndpoint("http://localhost");
+    }
+
+    private static GetItemRequest newGetItemRequest() {
+        return new GetItemRequest().withTableName("table")
+                .addKeyEntry("key", new AttributeValue().withS("value"));
+    }
+
+    /**
+     * Answers every request with the same response, on a thread of its own
+     * like a real transport would.
+     */
+    private static class StubTransport implements AsyncHttpTransport {
+
+        private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        private final int statusCode;
+
+        private final String body;
+
+        private volatile HttpRequestBase lastRequest;
+
+        StubTransport(int statusCode, String body) {
+            this.statusCode = statusCode;
+            this.body = body;
+        }
+
+        @Override
+        public Future<HttpResponse> execute(final HttpRequestBase request, HttpContext context,
+                final FutureCallback<HttpResponse> callback) {
+            lastRequest = request;
+            return executor.submit(new Callable<HttpResponse>() {
+                @Override
+                public HttpResponse call() {
+                    HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, statusCode, null);
+                    response.setEntity(new StringEntity(body, ContentType.create(
+                            "application/x-amz-json-1.0", "UTF-8")));
+                    callback.completed(response);
+                    return response;
+                }
+            });
+        }
+
+        @Override
+        public void shutdown() {
+            executor.shutdownNow();
+        }
+    }
+}
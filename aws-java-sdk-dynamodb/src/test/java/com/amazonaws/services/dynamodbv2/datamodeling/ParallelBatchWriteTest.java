@@ -0,0 +1,232 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.dynamodbv2.datamodeling;
+
+import static org.easymock.EasyMock.createMock;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.isA;
+import static org.easymock.EasyMock.replay;
+import static org.easymock.EasyMock.verify;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import junit.framework.Assert;
+
+import org.easymock.IAnswer;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.BatchWriteRetryStrategyTest.Item;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.BatchWriteRetryStrategy;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.ParallelBatchWriteConfig;
+import com.amazonaws.services.dynamodbv2.datamodeling.ParallelBatchWriter.WriteRateLimiter;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemResult;
+import com.amazonaws.services.dynamodbv2.model.WriteRequest;
+
+public class ParallelBatchWriteTest {
+
+    private static final int MAX_RETRY = 3;
+
+    private AmazonDynamoDB ddbMock;
+    private DynamoDBMapper mapper;
+
+    @Before
+    public void setup() {
+        ddbMock = createMock(AmazonDynamoDB.class);
+        mapper = new DynamoDBMapper(ddbMock, new DynamoDBMapperConfig.Builder()
+                .withBatchWriteRetryStrategy(new NoDelayRetryStrategy())
+                .withParallelBatchWriteConfig(new ParallelBatchWriteConfig(4))
+                .build());
+    }
+
+    @Test
+    public void testItemsAreWrittenInFullBatches() {
+        expect(ddbMock.batchWriteItem(isA(BatchWriteItemRequest.class)))
+                .andReturn(success()).times(3);
+
+        replay(ddbMock);
+        List<FailedBatch> failedBatches = mapper.batchSave(items(60));
+        verify(ddbMock);
+
+        Assert.assertEquals(0, failedBatches.size());
+    }
+
+    @Test
+    public void testItemsAreStreamedFromIterator() {
+        expect(ddbMock.batchWriteItem(isA(BatchWriteItemRequest.class)))
+                .andReturn(success()).times(2);
+
+        replay(ddbMock);
+        List<FailedBatch> failedBatches = mapper.batchWrite(items(26).iterator(),
+                Collections.<Object>emptyList().iterator(), null);
+        verify(ddbMock);
+
+        Assert.assertEquals(0, failedBatches.size());
+    }
+
+    @Test
+    public void testUnprocessedItemsAreResentUntilMaxRetry() {
+        List<Item> items = items(1);
+        Map<String, List<WriteRequest>> unprocessedItems = Collections.singletonMap(
+                "tableName", Collections.singletonList(items.get(0).toPutSaveRequest()));
+        expect(ddbMock.batchWriteItem(isA(BatchWriteItemRequest.class)))
+                .andReturn(new BatchWriteItemResult().withUnprocessedItems(unprocessedItems))
+                .times(MAX_RETRY + 1);
+
+        replay(ddbMock);
+        List<FailedBatch> failedBatches = mapper.batchSave(items);
+        verify(ddbMock);
+
+        Assert.assertEquals(1, failedBatches.size());
+        Assert.assertEquals(unprocessedItems, failedBatches.get(0).getUnprocessedItems());
+        Assert.assertNull(failedBatches.get(0).getException());
+    }
+
+    @Test
+    public void testExceptionFailsBatch() {
+        RuntimeException exception = new RuntimeException("BOOM");
+        expect(ddbMock.batchWriteItem(isA(BatchWriteItemRequest.class))).andThrow(exception);
+
+        replay(ddbMock);
+        List<FailedBatch> failedBatches = mapper.batchSave(items(1));
+        verify(ddbMock);
+
+        Assert.assertEquals(1, failedBatches.size());
+        Assert.assertSame(exception, failedBatches.get(0).getException());
+        Assert.assertEquals(1, failedBatches.get(0).getUnprocessedItems().get("tableName").size());
+    }
+
+    @Test
+    public void testGeneratedKeysAreSetOnceBatchIsWritten() {
+        expect(ddbMock.batchWriteItem(isA(BatchWriteItemRequest.class))).andReturn(success());
+
+        replay(ddbMock);
+        GeneratedKeyItem item = new GeneratedKeyItem();
+        List<FailedBatch> failedBatches = mapper.batchSave(Collections.singletonList(item));
+        verify(ddbMock);
+
+        Assert.assertEquals(0, failedBatches.size());
+        Assert.assertNotNull(item.getKey());
+    }
+
+    @Test
+    public void testGeneratedKeysAreNotSetOnFailedBatch() {
+        expect(ddbMock.batchWriteItem(isA(BatchWriteItemRequest.class)))
+                .andThrow(new RuntimeException("BOOM"));
+
+        replay(ddbMock);
+        GeneratedKeyItem item = new GeneratedKeyItem();
+        List<FailedBatch> failedBatches = mapper.batchSave(Collections.singletonList(item));
+        verify(ddbMock);
+
+        Assert.assertEquals(1, failedBatches.size());
+        Assert.assertNull(item.getKey());
+    }
+
+    @Test
+    public void testIteratorIsWrittenOnCallingThreadWithoutParallelConfig() {
+        final Thread caller = Thread.currentThread();
+        expect(ddbMock.batchWriteItem(isA(BatchWriteItemRequest.class)))
+                .andAnswer(new IAnswer<BatchWriteItemResult>() {
+                    @Override
+                    public BatchWriteItemResult answer() {
+                        Assert.assertSame(caller, Thread.currentThread());
+                        return success();
+                    }
+                }).times(2);
+
+        replay(ddbMock);
+        mapper = new DynamoDBMapper(ddbMock, new DynamoDBMapperConfig.Builder()
+                .withBatchWriteRetryStrategy(new NoDelayRetryStrategy())
+                .build());
+        List<FailedBatch> failedBatches = mapper.batchWrite(items(26).iterator(),
+                Collections.<Object>emptyList().iterator(), null);
+        verify(ddbMock);
+
+        Assert.assertEquals(0, failedBatches.size());
+    }
+
+    @Test
+    public void testRateLimiterBacksOffAndRecovers() {
+        WriteRateLimiter rateLimiter = new WriteRateLimiter(100);
+
+        Assert.assertEquals(0, rateLimiter.acquire(100));
+        Assert.assertTrue(rateLimiter.acquire(50) > 0);
+
+        rateLimiter.decrease();
+        Assert.assertEquals(50.0, rateLimiter.getRate(), 0.001);
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.decrease();
+        }
+        Assert.assertEquals(10.0, rateLimiter.getRate(), 0.001);
+
+        rateLimiter.increase();
+        Assert.assertEquals(15.0, rateLimiter.getRate(), 0.001);
+        for (int i = 0; i < 100; i++) {
+            rateLimiter.increase();
+        }
+        Assert.assertEquals(100.0, rateLimiter.getRate(), 0.001);
+    }
+
+    private static BatchWriteItemResult success() {
+        return new BatchWriteItemResult()
+                .withUnprocessedItems(Collections.<String, List<WriteRequest>>emptyMap());
+    }
+
+    private static List<Item> items(int count) {
+        List<Item> items = new ArrayList<Item>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(new Item("item" + i));
+        }
+        return items;
+    }
+
+    @DynamoDBTable(tableName = "tableName")
+    public static class GeneratedKeyItem {
+
+        private String key;
+
+        @DynamoDBHashKey
+        @DynamoDBAutoGeneratedKey
+        public String getKey() {
+            return key;
+        }
+        public void setKey(String key) {
+            this.key = key;
+        }
+    }
+
+    private static class NoDelayRetryStrategy implements BatchWriteRetryStrategy {
+
+        @Override
+        public int getMaxRetryOnUnprocessedItems(
+                Map<String, List<WriteRequest>> batchWriteItemInput) {
+            return MAX_RETRY;
+        }
+
+        @Override
+        public long getDelayBeforeRetryUnprocessedItems(
+                Map<String, List<WriteRequest>> unprocessedItems,
+                int retriesAttempted) {
+            return 0;
+        }
+    }
+}
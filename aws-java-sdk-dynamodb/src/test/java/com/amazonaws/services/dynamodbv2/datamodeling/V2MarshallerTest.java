@@ -364,6 +364,16 @@ public class V2MarshallerTest {
                 convert("getS3Link", link).getS());
     }
 
+    @Test
+    public void testResolvedMarshallerIsReused() throws Exception {
+        ArgumentMarshaller first = CONVERTER.getFieldModel(
+                TestClass.class.getMethod("getObjectList")).getArgumentMarshaller();
+        ArgumentMarshaller second = CONVERTER.getFieldModel(
+                TestClass.class.getMethod("getObjectList")).getArgumentMarshaller();
+
+        Assert.assertSame(first, second);
+    }
+
     private static AttributeValue convert(String method, Object value) {
         try {
 
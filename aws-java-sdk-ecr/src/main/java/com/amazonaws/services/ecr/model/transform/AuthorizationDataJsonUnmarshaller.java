@@ -53,20 +53,31 @@ public class AuthorizationDataJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("authorizationToken", targetDepth)) {
-                    context.nextToken();
-                    authorizationData.setAuthorizationToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("expiresAt", targetDepth)) {
-                    context.nextToken();
-                    authorizationData.setExpiresAt(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("proxyEndpoint", targetDepth)) {
-                    context.nextToken();
-                    authorizationData.setProxyEndpoint(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1561349376:
+                        if (fieldName.equals("authorizationToken")) {
+                            context.nextToken();
+                            authorizationData.setAuthorizationToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 250196615:
+                        if (fieldName.equals("expiresAt")) {
+                            context.nextToken();
+                            authorizationData.setExpiresAt(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 1476328995:
+                        if (fieldName.equals("proxyEndpoint")) {
+                            context.nextToken();
+                            authorizationData.setProxyEndpoint(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
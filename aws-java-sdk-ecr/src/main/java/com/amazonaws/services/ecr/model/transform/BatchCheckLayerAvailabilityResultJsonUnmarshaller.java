@@ -54,19 +54,28 @@ public class BatchCheckLayerAvailabilityResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("layers", targetDepth)) {
-                    context.nextToken();
-                    batchCheckLayerAvailabilityResult
-                            .setLayers(new ListUnmarshaller<Layer>(
-                                    LayerJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("failures", targetDepth)) {
-                    context.nextToken();
-                    batchCheckLayerAvailabilityResult
-                            .setFailures(new ListUnmarshaller<LayerFailure>(
-                                    LayerFailureJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1109732030:
+                        if (fieldName.equals("layers")) {
+                            context.nextToken();
+                            batchCheckLayerAvailabilityResult
+                                    .setLayers(new ListUnmarshaller<Layer>(
+                                            LayerJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 675938345:
+                        if (fieldName.equals("failures")) {
+                            context.nextToken();
+                            batchCheckLayerAvailabilityResult
+                                    .setFailures(new ListUnmarshaller<LayerFailure>(
+                                            LayerFailureJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,19 +53,28 @@ public class BatchDeleteImageResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("imageIds", targetDepth)) {
-                    context.nextToken();
-                    batchDeleteImageResult
-                            .setImageIds(new ListUnmarshaller<ImageIdentifier>(
-                                    ImageIdentifierJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("failures", targetDepth)) {
-                    context.nextToken();
-                    batchDeleteImageResult
-                            .setFailures(new ListUnmarshaller<ImageFailure>(
-                                    ImageFailureJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -859622563:
+                        if (fieldName.equals("imageIds")) {
+                            context.nextToken();
+                            batchDeleteImageResult
+                                    .setImageIds(new ListUnmarshaller<ImageIdentifier>(
+                                            ImageIdentifierJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 675938345:
+                        if (fieldName.equals("failures")) {
+                            context.nextToken();
+                            batchDeleteImageResult
+                                    .setFailures(new ListUnmarshaller<ImageFailure>(
+                                            ImageFailureJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
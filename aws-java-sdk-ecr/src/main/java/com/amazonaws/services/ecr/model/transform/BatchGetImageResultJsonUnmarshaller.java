@@ -53,18 +53,27 @@ public class BatchGetImageResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("images", targetDepth)) {
-                    context.nextToken();
-                    batchGetImageResult.setImages(new ListUnmarshaller<Image>(
-                            ImageJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("failures", targetDepth)) {
-                    context.nextToken();
-                    batchGetImageResult
-                            .setFailures(new ListUnmarshaller<ImageFailure>(
-                                    ImageFailureJsonUnmarshaller.getInstance())
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1185250696:
+                        if (fieldName.equals("images")) {
+                            context.nextToken();
+                            batchGetImageResult.setImages(new ListUnmarshaller<Image>(
+                                    ImageJsonUnmarshaller.getInstance())
                                     .unmarshall(context));
+                        }
+                        break;
+                    case 675938345:
+                        if (fieldName.equals("failures")) {
+                            context.nextToken();
+                            batchGetImageResult
+                                    .setFailures(new ListUnmarshaller<ImageFailure>(
+                                            ImageFailureJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,25 +53,38 @@ public class CompleteLayerUploadResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("registryId", targetDepth)) {
-                    context.nextToken();
-                    completeLayerUploadResult.setRegistryId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("repositoryName", targetDepth)) {
-                    context.nextToken();
-                    completeLayerUploadResult.setRepositoryName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("uploadId", targetDepth)) {
-                    context.nextToken();
-                    completeLayerUploadResult.setUploadId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("layerDigest", targetDepth)) {
-                    context.nextToken();
-                    completeLayerUploadResult.setLayerDigest(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1869537736:
+                        if (fieldName.equals("registryId")) {
+                            context.nextToken();
+                            completeLayerUploadResult.setRegistryId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -208071435:
+                        if (fieldName.equals("repositoryName")) {
+                            context.nextToken();
+                            completeLayerUploadResult.setRepositoryName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1563990780:
+                        if (fieldName.equals("uploadId")) {
+                            context.nextToken();
+                            completeLayerUploadResult.setUploadId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2030460533:
+                        if (fieldName.equals("layerDigest")) {
+                            context.nextToken();
+                            completeLayerUploadResult.setLayerDigest(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
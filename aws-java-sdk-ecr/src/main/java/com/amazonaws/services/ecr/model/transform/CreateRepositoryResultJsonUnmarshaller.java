@@ -53,11 +53,18 @@ public class CreateRepositoryResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("repository", targetDepth)) {
-                    context.nextToken();
-                    createRepositoryResult
-                            .setRepository(RepositoryJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1950800714:
+                        if (fieldName.equals("repository")) {
+                            context.nextToken();
+                            createRepositoryResult
+                                    .setRepository(RepositoryJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
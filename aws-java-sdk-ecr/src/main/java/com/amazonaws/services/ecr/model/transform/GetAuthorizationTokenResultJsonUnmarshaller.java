@@ -53,12 +53,19 @@ public class GetAuthorizationTokenResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("authorizationData", targetDepth)) {
-                    context.nextToken();
-                    getAuthorizationTokenResult
-                            .setAuthorizationData(new ListUnmarshaller<AuthorizationData>(
-                                    AuthorizationDataJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 742612931:
+                        if (fieldName.equals("authorizationData")) {
+                            context.nextToken();
+                            getAuthorizationTokenResult
+                                    .setAuthorizationData(new ListUnmarshaller<AuthorizationData>(
+                                            AuthorizationDataJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class GetDownloadUrlForLayerResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("downloadUrl", targetDepth)) {
-                    context.nextToken();
-                    getDownloadUrlForLayerResult.setDownloadUrl(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("layerDigest", targetDepth)) {
-                    context.nextToken();
-                    getDownloadUrlForLayerResult.setLayerDigest(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1211148345:
+                        if (fieldName.equals("downloadUrl")) {
+                            context.nextToken();
+                            getDownloadUrlForLayerResult.setDownloadUrl(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2030460533:
+                        if (fieldName.equals("layerDigest")) {
+                            context.nextToken();
+                            getDownloadUrlForLayerResult.setLayerDigest(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,20 +53,31 @@ public class GetRepositoryPolicyResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("registryId", targetDepth)) {
-                    context.nextToken();
-                    getRepositoryPolicyResult.setRegistryId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("repositoryName", targetDepth)) {
-                    context.nextToken();
-                    getRepositoryPolicyResult.setRepositoryName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("policyText", targetDepth)) {
-                    context.nextToken();
-                    getRepositoryPolicyResult.setPolicyText(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1869537736:
+                        if (fieldName.equals("registryId")) {
+                            context.nextToken();
+                            getRepositoryPolicyResult.setRegistryId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -208071435:
+                        if (fieldName.equals("repositoryName")) {
+                            context.nextToken();
+                            getRepositoryPolicyResult.setRepositoryName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1593537919:
+                        if (fieldName.equals("policyText")) {
+                            context.nextToken();
+                            getRepositoryPolicyResult.setPolicyText(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,20 +53,31 @@ public class ImageFailureJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("imageId", targetDepth)) {
-                    context.nextToken();
-                    imageFailure.setImageId(ImageIdentifierJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("failureCode", targetDepth)) {
-                    context.nextToken();
-                    imageFailure.setFailureCode(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("failureReason", targetDepth)) {
-                    context.nextToken();
-                    imageFailure.setFailureReason(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1911932886:
+                        if (fieldName.equals("imageId")) {
+                            context.nextToken();
+                            imageFailure.setImageId(ImageIdentifierJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 2071232151:
+                        if (fieldName.equals("failureCode")) {
+                            context.nextToken();
+                            imageFailure.setFailureCode(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1990598546:
+                        if (fieldName.equals("failureReason")) {
+                            context.nextToken();
+                            imageFailure.setFailureReason(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class ImageIdentifierJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("imageDigest", targetDepth)) {
-                    context.nextToken();
-                    imageIdentifier.setImageDigest(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("imageTag", targetDepth)) {
-                    context.nextToken();
-                    imageIdentifier.setImageTag(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1735426815:
+                        if (fieldName.equals("imageDigest")) {
+                            context.nextToken();
+                            imageIdentifier.setImageDigest(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -859612097:
+                        if (fieldName.equals("imageTag")) {
+                            context.nextToken();
+                            imageIdentifier.setImageTag(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -52,25 +52,38 @@ public class ImageJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("registryId", targetDepth)) {
-                    context.nextToken();
-                    image.setRegistryId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("repositoryName", targetDepth)) {
-                    context.nextToken();
-                    image.setRepositoryName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("imageId", targetDepth)) {
-                    context.nextToken();
-                    image.setImageId(ImageIdentifierJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("imageManifest", targetDepth)) {
-                    context.nextToken();
-                    image.setImageManifest(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1869537736:
+                        if (fieldName.equals("registryId")) {
+                            context.nextToken();
+                            image.setRegistryId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -208071435:
+                        if (fieldName.equals("repositoryName")) {
+                            context.nextToken();
+                            image.setRepositoryName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1911932886:
+                        if (fieldName.equals("imageId")) {
+                            context.nextToken();
+                            image.setImageId(ImageIdentifierJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1496887466:
+                        if (fieldName.equals("imageManifest")) {
+                            context.nextToken();
+                            image.setImageManifest(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class InitiateLayerUploadResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("uploadId", targetDepth)) {
-                    context.nextToken();
-                    initiateLayerUploadResult.setUploadId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("partSize", targetDepth)) {
-                    context.nextToken();
-                    initiateLayerUploadResult.setPartSize(context
-                            .getUnmarshaller(Long.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1563990780:
+                        if (fieldName.equals("uploadId")) {
+                            context.nextToken();
+                            initiateLayerUploadResult.setUploadId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1188202132:
+                        if (fieldName.equals("partSize")) {
+                            context.nextToken();
+                            initiateLayerUploadResult.setPartSize(context
+                                    .getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
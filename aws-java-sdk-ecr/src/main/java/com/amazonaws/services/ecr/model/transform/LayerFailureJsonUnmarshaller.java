@@ -53,20 +53,31 @@ public class LayerFailureJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("layerDigest", targetDepth)) {
-                    context.nextToken();
-                    layerFailure.setLayerDigest(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("failureCode", targetDepth)) {
-                    context.nextToken();
-                    layerFailure.setFailureCode(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("failureReason", targetDepth)) {
-                    context.nextToken();
-                    layerFailure.setFailureReason(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2030460533:
+                        if (fieldName.equals("layerDigest")) {
+                            context.nextToken();
+                            layerFailure.setLayerDigest(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2071232151:
+                        if (fieldName.equals("failureCode")) {
+                            context.nextToken();
+                            layerFailure.setFailureCode(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1990598546:
+                        if (fieldName.equals("failureReason")) {
+                            context.nextToken();
+                            layerFailure.setFailureReason(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
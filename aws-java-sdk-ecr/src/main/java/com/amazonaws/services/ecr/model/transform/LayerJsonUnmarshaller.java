@@ -52,20 +52,31 @@ public class LayerJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("layerDigest", targetDepth)) {
-                    context.nextToken();
-                    layer.setLayerDigest(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("layerAvailability", targetDepth)) {
-                    context.nextToken();
-                    layer.setLayerAvailability(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("layerSize", targetDepth)) {
-                    context.nextToken();
-                    layer.setLayerSize(context.getUnmarshaller(Long.class)
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2030460533:
+                        if (fieldName.equals("layerDigest")) {
+                            context.nextToken();
+                            layer.setLayerDigest(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -866595508:
+                        if (fieldName.equals("layerAvailability")) {
+                            context.nextToken();
+                            layer.setLayerAvailability(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1664476942:
+                        if (fieldName.equals("layerSize")) {
+                            context.nextToken();
+                            layer.setLayerSize(context.getUnmarshaller(Long.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
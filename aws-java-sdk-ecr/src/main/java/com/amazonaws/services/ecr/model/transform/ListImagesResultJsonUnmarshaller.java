@@ -53,17 +53,26 @@ public class ListImagesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("imageIds", targetDepth)) {
-                    context.nextToken();
-                    listImagesResult
-                            .setImageIds(new ListUnmarshaller<ImageIdentifier>(
-                                    ImageIdentifierJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listImagesResult.setNextToken(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -859622563:
+                        if (fieldName.equals("imageIds")) {
+                            context.nextToken();
+                            listImagesResult
+                                    .setImageIds(new ListUnmarshaller<ImageIdentifier>(
+                                            ImageIdentifierJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 1206918854:
+                        if (fieldName.equals("nextToken")) {
+                            context.nextToken();
+                            listImagesResult.setNextToken(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
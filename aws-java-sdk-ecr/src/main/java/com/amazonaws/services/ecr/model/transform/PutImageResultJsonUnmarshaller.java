@@ -53,10 +53,17 @@ public class PutImageResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("image", targetDepth)) {
-                    context.nextToken();
-                    putImageResult.setImage(ImageJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 100313435:
+                        if (fieldName.equals("image")) {
+                            context.nextToken();
+                            putImageResult.setImage(ImageJsonUnmarshaller.getInstance()
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,25 +53,38 @@ public class RepositoryJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("repositoryArn", targetDepth)) {
-                    context.nextToken();
-                    repository.setRepositoryArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("registryId", targetDepth)) {
-                    context.nextToken();
-                    repository.setRegistryId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("repositoryName", targetDepth)) {
-                    context.nextToken();
-                    repository.setRepositoryName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("repositoryUri", targetDepth)) {
-                    context.nextToken();
-                    repository.setRepositoryUri(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1101654707:
+                        if (fieldName.equals("repositoryArn")) {
+                            context.nextToken();
+                            repository.setRepositoryArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1869537736:
+                        if (fieldName.equals("registryId")) {
+                            context.nextToken();
+                            repository.setRegistryId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -208071435:
+                        if (fieldName.equals("repositoryName")) {
+                            context.nextToken();
+                            repository.setRepositoryName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1101673922:
+                        if (fieldName.equals("repositoryUri")) {
+                            context.nextToken();
+                            repository.setRepositoryUri(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,25 +53,38 @@ public class UploadLayerPartResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("registryId", targetDepth)) {
-                    context.nextToken();
-                    uploadLayerPartResult.setRegistryId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("repositoryName", targetDepth)) {
-                    context.nextToken();
-                    uploadLayerPartResult.setRepositoryName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("uploadId", targetDepth)) {
-                    context.nextToken();
-                    uploadLayerPartResult.setUploadId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("lastByteReceived", targetDepth)) {
-                    context.nextToken();
-                    uploadLayerPartResult.setLastByteReceived(context
-                            .getUnmarshaller(Long.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1869537736:
+                        if (fieldName.equals("registryId")) {
+                            context.nextToken();
+                            uploadLayerPartResult.setRegistryId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -208071435:
+                        if (fieldName.equals("repositoryName")) {
+                            context.nextToken();
+                            uploadLayerPartResult.setRepositoryName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1563990780:
+                        if (fieldName.equals("uploadId")) {
+                            context.nextToken();
+                            uploadLayerPartResult.setUploadId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 528473279:
+                        if (fieldName.equals("lastByteReceived")) {
+                            context.nextToken();
+                            uploadLayerPartResult.setLastByteReceived(context
+                                    .getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -52,41 +52,59 @@ public class ClusterJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("clusterArn", targetDepth)) {
-                    context.nextToken();
-                    cluster.setClusterArn(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("clusterName", targetDepth)) {
-                    context.nextToken();
-                    cluster.setClusterName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    cluster.setStatus(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("registeredContainerInstancesCount",
-                        targetDepth)) {
-                    context.nextToken();
-                    cluster.setRegisteredContainerInstancesCount(context
-                            .getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("runningTasksCount", targetDepth)) {
-                    context.nextToken();
-                    cluster.setRunningTasksCount(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("pendingTasksCount", targetDepth)) {
-                    context.nextToken();
-                    cluster.setPendingTasksCount(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("activeServicesCount", targetDepth)) {
-                    context.nextToken();
-                    cluster.setActiveServicesCount(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 240252419:
+                        if (fieldName.equals("clusterArn")) {
+                            context.nextToken();
+                            cluster.setClusterArn(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1141738587:
+                        if (fieldName.equals("clusterName")) {
+                            context.nextToken();
+                            cluster.setClusterName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -892481550:
+                        if (fieldName.equals("status")) {
+                            context.nextToken();
+                            cluster.setStatus(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1787292464:
+                        if (fieldName.equals("registeredContainerInstancesCount")) {
+                            context.nextToken();
+                            cluster.setRegisteredContainerInstancesCount(context
+                                    .getUnmarshaller(Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -1685783232:
+                        if (fieldName.equals("runningTasksCount")) {
+                            context.nextToken();
+                            cluster.setRunningTasksCount(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 241795864:
+                        if (fieldName.equals("pendingTasksCount")) {
+                            context.nextToken();
+                            cluster.setPendingTasksCount(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 1942595051:
+                        if (fieldName.equals("activeServicesCount")) {
+                            context.nextToken();
+                            cluster.setActiveServicesCount(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,161 +53,214 @@ public class ContainerDefinitionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition.setName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("image", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition.setImage(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("cpu", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition.setCpu(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("memory", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition.setMemory(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("links", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition.setLinks(new ListUnmarshaller<String>(
-                            context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("portMappings", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition
-                            .setPortMappings(new ListUnmarshaller<PortMapping>(
-                                    PortMappingJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("essential", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition.setEssential(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("entryPoint", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition
-                            .setEntryPoint(new ListUnmarshaller<String>(context
-                                    .getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("command", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition
-                            .setCommand(new ListUnmarshaller<String>(context
-                                    .getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("environment", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition
-                            .setEnvironment(new ListUnmarshaller<KeyValuePair>(
-                                    KeyValuePairJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("mountPoints", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition
-                            .setMountPoints(new ListUnmarshaller<MountPoint>(
-                                    MountPointJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("volumesFrom", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition
-                            .setVolumesFrom(new ListUnmarshaller<VolumeFrom>(
-                                    VolumeFromJsonUnmarshaller.getInstance())
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3373707:
+                        if (fieldName.equals("name")) {
+                            context.nextToken();
+                            containerDefinition.setName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 100313435:
+                        if (fieldName.equals("image")) {
+                            context.nextToken();
+                            containerDefinition.setImage(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 98728:
+                        if (fieldName.equals("cpu")) {
+                            context.nextToken();
+                            containerDefinition.setCpu(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -1077756671:
+                        if (fieldName.equals("memory")) {
+                            context.nextToken();
+                            containerDefinition.setMemory(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 102977465:
+                        if (fieldName.equals("links")) {
+                            context.nextToken();
+                            containerDefinition.setLinks(new ListUnmarshaller<String>(
+                                    context.getUnmarshaller(String.class))
                                     .unmarshall(context));
-                }
-                if (context.testExpression("hostname", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition.setHostname(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("user", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition.setUser(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("workingDirectory", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition.setWorkingDirectory(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("disableNetworking", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition
-                            .setDisableNetworking(context.getUnmarshaller(
+                        }
+                        break;
+                    case -200676090:
+                        if (fieldName.equals("portMappings")) {
+                            context.nextToken();
+                            containerDefinition
+                                    .setPortMappings(new ListUnmarshaller<PortMapping>(
+                                            PortMappingJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1624149170:
+                        if (fieldName.equals("essential")) {
+                            context.nextToken();
+                            containerDefinition.setEssential(context.getUnmarshaller(
                                     Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("privileged", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition.setPrivileged(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("readonlyRootFilesystem",
-                        targetDepth)) {
-                    context.nextToken();
-                    containerDefinition
-                            .setReadonlyRootFilesystem(context.getUnmarshaller(
+                        }
+                        break;
+                    case -1979329474:
+                        if (fieldName.equals("entryPoint")) {
+                            context.nextToken();
+                            containerDefinition
+                                    .setEntryPoint(new ListUnmarshaller<String>(context
+                                            .getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 950394699:
+                        if (fieldName.equals("command")) {
+                            context.nextToken();
+                            containerDefinition
+                                    .setCommand(new ListUnmarshaller<String>(context
+                                            .getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -85904877:
+                        if (fieldName.equals("environment")) {
+                            context.nextToken();
+                            containerDefinition
+                                    .setEnvironment(new ListUnmarshaller<KeyValuePair>(
+                                            KeyValuePairJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1046761052:
+                        if (fieldName.equals("mountPoints")) {
+                            context.nextToken();
+                            containerDefinition
+                                    .setMountPoints(new ListUnmarshaller<MountPoint>(
+                                            MountPointJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -857631773:
+                        if (fieldName.equals("volumesFrom")) {
+                            context.nextToken();
+                            containerDefinition
+                                    .setVolumesFrom(new ListUnmarshaller<VolumeFrom>(
+                                            VolumeFromJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -299803597:
+                        if (fieldName.equals("hostname")) {
+                            context.nextToken();
+                            containerDefinition.setHostname(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 3599307:
+                        if (fieldName.equals("user")) {
+                            context.nextToken();
+                            containerDefinition.setUser(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1069999556:
+                        if (fieldName.equals("workingDirectory")) {
+                            context.nextToken();
+                            containerDefinition.setWorkingDirectory(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1620155396:
+                        if (fieldName.equals("disableNetworking")) {
+                            context.nextToken();
+                            containerDefinition
+                                    .setDisableNetworking(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case -1654399021:
+                        if (fieldName.equals("privileged")) {
+                            context.nextToken();
+                            containerDefinition.setPrivileged(context.getUnmarshaller(
                                     Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("dnsServers", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition
-                            .setDnsServers(new ListUnmarshaller<String>(context
-                                    .getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("dnsSearchDomains", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition
-                            .setDnsSearchDomains(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("extraHosts", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition
-                            .setExtraHosts(new ListUnmarshaller<HostEntry>(
-                                    HostEntryJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context
-                        .testExpression("dockerSecurityOptions", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition
-                            .setDockerSecurityOptions(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("dockerLabels", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition
-                            .setDockerLabels(new MapUnmarshaller<String, String>(
-                                    context.getUnmarshaller(String.class),
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("ulimits", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition
-                            .setUlimits(new ListUnmarshaller<Ulimit>(
-                                    UlimitJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("logConfiguration", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition
-                            .setLogConfiguration(LogConfigurationJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 735900687:
+                        if (fieldName.equals("readonlyRootFilesystem")) {
+                            context.nextToken();
+                            containerDefinition
+                                    .setReadonlyRootFilesystem(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case -1514447833:
+                        if (fieldName.equals("dnsServers")) {
+                            context.nextToken();
+                            containerDefinition
+                                    .setDnsServers(new ListUnmarshaller<String>(context
+                                            .getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 461495998:
+                        if (fieldName.equals("dnsSearchDomains")) {
+                            context.nextToken();
+                            containerDefinition
+                                    .setDnsSearchDomains(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 726484379:
+                        if (fieldName.equals("extraHosts")) {
+                            context.nextToken();
+                            containerDefinition
+                                    .setExtraHosts(new ListUnmarshaller<HostEntry>(
+                                            HostEntryJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 862536958:
+                        if (fieldName.equals("dockerSecurityOptions")) {
+                            context.nextToken();
+                            containerDefinition
+                                    .setDockerSecurityOptions(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 320971327:
+                        if (fieldName.equals("dockerLabels")) {
+                            context.nextToken();
+                            containerDefinition
+                                    .setDockerLabels(new MapUnmarshaller<String, String>(
+                                            context.getUnmarshaller(String.class),
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -343981875:
+                        if (fieldName.equals("ulimits")) {
+                            context.nextToken();
+                            containerDefinition
+                                    .setUlimits(new ListUnmarshaller<Ulimit>(
+                                            UlimitJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1564774382:
+                        if (fieldName.equals("logConfiguration")) {
+                            context.nextToken();
+                            containerDefinition
+                                    .setLogConfiguration(LogConfigurationJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,70 +53,97 @@ public class ContainerInstanceJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("containerInstanceArn", targetDepth)) {
-                    context.nextToken();
-                    containerInstance.setContainerInstanceArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ec2InstanceId", targetDepth)) {
-                    context.nextToken();
-                    containerInstance.setEc2InstanceId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("versionInfo", targetDepth)) {
-                    context.nextToken();
-                    containerInstance
-                            .setVersionInfo(VersionInfoJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("remainingResources", targetDepth)) {
-                    context.nextToken();
-                    containerInstance
-                            .setRemainingResources(new ListUnmarshaller<Resource>(
-                                    ResourceJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("registeredResources", targetDepth)) {
-                    context.nextToken();
-                    containerInstance
-                            .setRegisteredResources(new ListUnmarshaller<Resource>(
-                                    ResourceJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    containerInstance.setStatus(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("agentConnected", targetDepth)) {
-                    context.nextToken();
-                    containerInstance
-                            .setAgentConnected(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("runningTasksCount", targetDepth)) {
-                    context.nextToken();
-                    containerInstance
-                            .setRunningTasksCount(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("pendingTasksCount", targetDepth)) {
-                    context.nextToken();
-                    containerInstance
-                            .setPendingTasksCount(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("agentUpdateStatus", targetDepth)) {
-                    context.nextToken();
-                    containerInstance.setAgentUpdateStatus(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("attributes", targetDepth)) {
-                    context.nextToken();
-                    containerInstance
-                            .setAttributes(new ListUnmarshaller<Attribute>(
-                                    AttributeJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1852122553:
+                        if (fieldName.equals("containerInstanceArn")) {
+                            context.nextToken();
+                            containerInstance.setContainerInstanceArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -727378172:
+                        if (fieldName.equals("ec2InstanceId")) {
+                            context.nextToken();
+                            containerInstance.setEc2InstanceId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 688769446:
+                        if (fieldName.equals("versionInfo")) {
+                            context.nextToken();
+                            containerInstance
+                                    .setVersionInfo(VersionInfoJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 7046351:
+                        if (fieldName.equals("remainingResources")) {
+                            context.nextToken();
+                            containerInstance
+                                    .setRemainingResources(new ListUnmarshaller<Resource>(
+                                            ResourceJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -2053049917:
+                        if (fieldName.equals("registeredResources")) {
+                            context.nextToken();
+                            containerInstance
+                                    .setRegisteredResources(new ListUnmarshaller<Resource>(
+                                            ResourceJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -892481550:
+                        if (fieldName.equals("status")) {
+                            context.nextToken();
+                            containerInstance.setStatus(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1789958780:
+                        if (fieldName.equals("agentConnected")) {
+                            context.nextToken();
+                            containerInstance
+                                    .setAgentConnected(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case -1685783232:
+                        if (fieldName.equals("runningTasksCount")) {
+                            context.nextToken();
+                            containerInstance
+                                    .setRunningTasksCount(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 241795864:
+                        if (fieldName.equals("pendingTasksCount")) {
+                            context.nextToken();
+                            containerInstance
+                                    .setPendingTasksCount(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -1207782976:
+                        if (fieldName.equals("agentUpdateStatus")) {
+                            context.nextToken();
+                            containerInstance.setAgentUpdateStatus(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 405645655:
+                        if (fieldName.equals("attributes")) {
+                            context.nextToken();
+                            containerInstance
+                                    .setAttributes(new ListUnmarshaller<Attribute>(
+                                            AttributeJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
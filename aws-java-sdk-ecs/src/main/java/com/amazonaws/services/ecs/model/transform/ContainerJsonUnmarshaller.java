@@ -53,43 +53,62 @@ public class ContainerJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("containerArn", targetDepth)) {
-                    context.nextToken();
-                    container.setContainerArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("taskArn", targetDepth)) {
-                    context.nextToken();
-                    container.setTaskArn(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    container.setName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("lastStatus", targetDepth)) {
-                    context.nextToken();
-                    container.setLastStatus(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("exitCode", targetDepth)) {
-                    context.nextToken();
-                    container
-                            .setExitCode(context.getUnmarshaller(Integer.class)
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2141641244:
+                        if (fieldName.equals("containerArn")) {
+                            context.nextToken();
+                            container.setContainerArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1537269096:
+                        if (fieldName.equals("taskArn")) {
+                            context.nextToken();
+                            container.setTaskArn(context.getUnmarshaller(String.class)
                                     .unmarshall(context));
-                }
-                if (context.testExpression("reason", targetDepth)) {
-                    context.nextToken();
-                    container.setReason(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("networkBindings", targetDepth)) {
-                    context.nextToken();
-                    container
-                            .setNetworkBindings(new ListUnmarshaller<NetworkBinding>(
-                                    NetworkBindingJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 3373707:
+                        if (fieldName.equals("name")) {
+                            context.nextToken();
+                            container.setName(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1939244584:
+                        if (fieldName.equals("lastStatus")) {
+                            context.nextToken();
+                            container.setLastStatus(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -2123228117:
+                        if (fieldName.equals("exitCode")) {
+                            context.nextToken();
+                            container
+                                    .setExitCode(context.getUnmarshaller(Integer.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -934964668:
+                        if (fieldName.equals("reason")) {
+                            context.nextToken();
+                            container.setReason(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -334048548:
+                        if (fieldName.equals("networkBindings")) {
+                            context.nextToken();
+                            container
+                                    .setNetworkBindings(new ListUnmarshaller<NetworkBinding>(
+                                            NetworkBindingJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
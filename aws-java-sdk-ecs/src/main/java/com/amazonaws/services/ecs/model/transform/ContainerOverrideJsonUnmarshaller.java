@@ -53,23 +53,34 @@ public class ContainerOverrideJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    containerOverride.setName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("command", targetDepth)) {
-                    context.nextToken();
-                    containerOverride.setCommand(new ListUnmarshaller<String>(
-                            context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("environment", targetDepth)) {
-                    context.nextToken();
-                    containerOverride
-                            .setEnvironment(new ListUnmarshaller<KeyValuePair>(
-                                    KeyValuePairJsonUnmarshaller.getInstance())
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3373707:
+                        if (fieldName.equals("name")) {
+                            context.nextToken();
+                            containerOverride.setName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 950394699:
+                        if (fieldName.equals("command")) {
+                            context.nextToken();
+                            containerOverride.setCommand(new ListUnmarshaller<String>(
+                                    context.getUnmarshaller(String.class))
                                     .unmarshall(context));
+                        }
+                        break;
+                    case -85904877:
+                        if (fieldName.equals("environment")) {
+                            context.nextToken();
+                            containerOverride
+                                    .setEnvironment(new ListUnmarshaller<KeyValuePair>(
+                                            KeyValuePairJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,10 +53,17 @@ public class CreateClusterResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("cluster", targetDepth)) {
-                    context.nextToken();
-                    createClusterResult.setCluster(ClusterJsonUnmarshaller
-                            .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 872092154:
+                        if (fieldName.equals("cluster")) {
+                            context.nextToken();
+                            createClusterResult.setCluster(ClusterJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,10 +53,17 @@ public class CreateServiceResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("service", targetDepth)) {
-                    context.nextToken();
-                    createServiceResult.setService(ServiceJsonUnmarshaller
-                            .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1984153269:
+                        if (fieldName.equals("service")) {
+                            context.nextToken();
+                            createServiceResult.setService(ServiceJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,18 +53,26 @@ public class DeploymentConfigurationJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("maximumPercent", targetDepth)) {
-                    context.nextToken();
-                    deploymentConfiguration
-                            .setMaximumPercent(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("minimumHealthyPercent", targetDepth)) {
-                    context.nextToken();
-                    deploymentConfiguration
-                            .setMinimumHealthyPercent(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1951670789:
+                        if (fieldName.equals("maximumPercent")) {
+                            context.nextToken();
+                            deploymentConfiguration
+                                    .setMaximumPercent(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -1407695978:
+                        if (fieldName.equals("minimumHealthyPercent")) {
+                            context.nextToken();
+                            deploymentConfiguration
+                                    .setMinimumHealthyPercent(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,45 +53,66 @@ public class DeploymentJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    deployment.setId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    deployment.setStatus(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("taskDefinition", targetDepth)) {
-                    context.nextToken();
-                    deployment.setTaskDefinition(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("desiredCount", targetDepth)) {
-                    context.nextToken();
-                    deployment.setDesiredCount(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("pendingCount", targetDepth)) {
-                    context.nextToken();
-                    deployment.setPendingCount(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("runningCount", targetDepth)) {
-                    context.nextToken();
-                    deployment.setRunningCount(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("createdAt", targetDepth)) {
-                    context.nextToken();
-                    deployment.setCreatedAt(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("updatedAt", targetDepth)) {
-                    context.nextToken();
-                    deployment.setUpdatedAt(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3355:
+                        if (fieldName.equals("id")) {
+                            context.nextToken();
+                            deployment.setId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -892481550:
+                        if (fieldName.equals("status")) {
+                            context.nextToken();
+                            deployment.setStatus(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1562123080:
+                        if (fieldName.equals("taskDefinition")) {
+                            context.nextToken();
+                            deployment.setTaskDefinition(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 475189909:
+                        if (fieldName.equals("desiredCount")) {
+                            context.nextToken();
+                            deployment.setDesiredCount(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 137182648:
+                        if (fieldName.equals("pendingCount")) {
+                            context.nextToken();
+                            deployment.setPendingCount(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 814221968:
+                        if (fieldName.equals("runningCount")) {
+                            context.nextToken();
+                            deployment.setRunningCount(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 598371643:
+                        if (fieldName.equals("createdAt")) {
+                            context.nextToken();
+                            deployment.setCreatedAt(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case -1949194674:
+                        if (fieldName.equals("updatedAt")) {
+                            context.nextToken();
+                            deployment.setUpdatedAt(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
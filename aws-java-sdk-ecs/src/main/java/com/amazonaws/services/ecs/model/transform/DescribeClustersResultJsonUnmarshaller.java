@@ -53,19 +53,28 @@ public class DescribeClustersResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("clusters", targetDepth)) {
-                    context.nextToken();
-                    describeClustersResult
-                            .setClusters(new ListUnmarshaller<Cluster>(
-                                    ClusterJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("failures", targetDepth)) {
-                    context.nextToken();
-                    describeClustersResult
-                            .setFailures(new ListUnmarshaller<Failure>(
-                                    FailureJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1265053113:
+                        if (fieldName.equals("clusters")) {
+                            context.nextToken();
+                            describeClustersResult
+                                    .setClusters(new ListUnmarshaller<Cluster>(
+                                            ClusterJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 675938345:
+                        if (fieldName.equals("failures")) {
+                            context.nextToken();
+                            describeClustersResult
+                                    .setFailures(new ListUnmarshaller<Failure>(
+                                            FailureJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
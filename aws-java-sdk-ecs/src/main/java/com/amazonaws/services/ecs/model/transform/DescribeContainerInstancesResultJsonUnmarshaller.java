@@ -53,19 +53,28 @@ public class DescribeContainerInstancesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("containerInstances", targetDepth)) {
-                    context.nextToken();
-                    describeContainerInstancesResult
-                            .setContainerInstances(new ListUnmarshaller<ContainerInstance>(
-                                    ContainerInstanceJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("failures", targetDepth)) {
-                    context.nextToken();
-                    describeContainerInstancesResult
-                            .setFailures(new ListUnmarshaller<Failure>(
-                                    FailureJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1499747069:
+                        if (fieldName.equals("containerInstances")) {
+                            context.nextToken();
+                            describeContainerInstancesResult
+                                    .setContainerInstances(new ListUnmarshaller<ContainerInstance>(
+                                            ContainerInstanceJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 675938345:
+                        if (fieldName.equals("failures")) {
+                            context.nextToken();
+                            describeContainerInstancesResult
+                                    .setFailures(new ListUnmarshaller<Failure>(
+                                            FailureJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
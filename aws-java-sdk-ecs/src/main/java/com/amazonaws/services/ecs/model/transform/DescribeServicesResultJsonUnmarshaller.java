@@ -53,19 +53,28 @@ public class DescribeServicesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("services", targetDepth)) {
-                    context.nextToken();
-                    describeServicesResult
-                            .setServices(new ListUnmarshaller<Service>(
-                                    ServiceJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("failures", targetDepth)) {
-                    context.nextToken();
-                    describeServicesResult
-                            .setFailures(new ListUnmarshaller<Failure>(
-                                    FailureJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1379209310:
+                        if (fieldName.equals("services")) {
+                            context.nextToken();
+                            describeServicesResult
+                                    .setServices(new ListUnmarshaller<Service>(
+                                            ServiceJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 675938345:
+                        if (fieldName.equals("failures")) {
+                            context.nextToken();
+                            describeServicesResult
+                                    .setFailures(new ListUnmarshaller<Failure>(
+                                            FailureJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class DiscoverPollEndpointResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("endpoint", targetDepth)) {
-                    context.nextToken();
-                    discoverPollEndpointResult.setEndpoint(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("telemetryEndpoint", targetDepth)) {
-                    context.nextToken();
-                    discoverPollEndpointResult.setTelemetryEndpoint(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1741102485:
+                        if (fieldName.equals("endpoint")) {
+                            context.nextToken();
+                            discoverPollEndpointResult.setEndpoint(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -406463378:
+                        if (fieldName.equals("telemetryEndpoint")) {
+                            context.nextToken();
+                            discoverPollEndpointResult.setTelemetryEndpoint(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
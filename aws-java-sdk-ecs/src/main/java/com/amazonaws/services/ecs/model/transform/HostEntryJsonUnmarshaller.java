@@ -53,15 +53,24 @@ public class HostEntryJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("hostname", targetDepth)) {
-                    context.nextToken();
-                    hostEntry.setHostname(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("ipAddress", targetDepth)) {
-                    context.nextToken();
-                    hostEntry.setIpAddress(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -299803597:
+                        if (fieldName.equals("hostname")) {
+                            context.nextToken();
+                            hostEntry.setHostname(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1634032845:
+                        if (fieldName.equals("ipAddress")) {
+                            context.nextToken();
+                            hostEntry.setIpAddress(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
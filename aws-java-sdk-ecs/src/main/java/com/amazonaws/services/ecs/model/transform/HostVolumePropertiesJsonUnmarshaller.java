@@ -53,10 +53,17 @@ public class HostVolumePropertiesJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("sourcePath", targetDepth)) {
-                    context.nextToken();
-                    hostVolumeProperties.setSourcePath(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1111573792:
+                        if (fieldName.equals("sourcePath")) {
+                            context.nextToken();
+                            hostVolumeProperties.setSourcePath(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
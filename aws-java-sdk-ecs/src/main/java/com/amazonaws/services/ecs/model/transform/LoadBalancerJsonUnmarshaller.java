@@ -53,20 +53,31 @@ public class LoadBalancerJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("loadBalancerName", targetDepth)) {
-                    context.nextToken();
-                    loadBalancer.setLoadBalancerName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("containerName", targetDepth)) {
-                    context.nextToken();
-                    loadBalancer.setContainerName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("containerPort", targetDepth)) {
-                    context.nextToken();
-                    loadBalancer.setContainerPort(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1305596103:
+                        if (fieldName.equals("loadBalancerName")) {
+                            context.nextToken();
+                            loadBalancer.setLoadBalancerName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1966740140:
+                        if (fieldName.equals("containerName")) {
+                            context.nextToken();
+                            loadBalancer.setContainerName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1966813346:
+                        if (fieldName.equals("containerPort")) {
+                            context.nextToken();
+                            loadBalancer.setContainerPort(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
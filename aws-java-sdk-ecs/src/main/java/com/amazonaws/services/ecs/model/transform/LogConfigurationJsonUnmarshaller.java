@@ -53,18 +53,27 @@ public class LogConfigurationJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("logDriver", targetDepth)) {
-                    context.nextToken();
-                    logConfiguration.setLogDriver(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("options", targetDepth)) {
-                    context.nextToken();
-                    logConfiguration
-                            .setOptions(new MapUnmarshaller<String, String>(
-                                    context.getUnmarshaller(String.class),
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1520739468:
+                        if (fieldName.equals("logDriver")) {
+                            context.nextToken();
+                            logConfiguration.setLogDriver(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1249474914:
+                        if (fieldName.equals("options")) {
+                            context.nextToken();
+                            logConfiguration
+                                    .setOptions(new MapUnmarshaller<String, String>(
+                                            context.getUnmarshaller(String.class),
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
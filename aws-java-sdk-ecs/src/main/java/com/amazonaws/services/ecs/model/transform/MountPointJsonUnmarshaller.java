@@ -53,20 +53,31 @@ public class MountPointJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("sourceVolume", targetDepth)) {
-                    context.nextToken();
-                    mountPoint.setSourceVolume(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("containerPath", targetDepth)) {
-                    context.nextToken();
-                    mountPoint.setContainerPath(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("readOnly", targetDepth)) {
-                    context.nextToken();
-                    mountPoint.setReadOnly(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1408924437:
+                        if (fieldName.equals("sourceVolume")) {
+                            context.nextToken();
+                            mountPoint.setSourceVolume(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1966799942:
+                        if (fieldName.equals("containerPath")) {
+                            context.nextToken();
+                            mountPoint.setContainerPath(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -867683742:
+                        if (fieldName.equals("readOnly")) {
+                            context.nextToken();
+                            mountPoint.setReadOnly(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
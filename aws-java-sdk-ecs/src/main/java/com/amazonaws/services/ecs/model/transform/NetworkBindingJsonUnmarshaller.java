@@ -53,25 +53,38 @@ public class NetworkBindingJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("bindIP", targetDepth)) {
-                    context.nextToken();
-                    networkBinding.setBindIP(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("containerPort", targetDepth)) {
-                    context.nextToken();
-                    networkBinding.setContainerPort(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("hostPort", targetDepth)) {
-                    context.nextToken();
-                    networkBinding.setHostPort(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("protocol", targetDepth)) {
-                    context.nextToken();
-                    networkBinding.setProtocol(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1388965340:
+                        if (fieldName.equals("bindIP")) {
+                            context.nextToken();
+                            networkBinding.setBindIP(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1966813346:
+                        if (fieldName.equals("containerPort")) {
+                            context.nextToken();
+                            networkBinding.setContainerPort(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -300683703:
+                        if (fieldName.equals("hostPort")) {
+                            context.nextToken();
+                            networkBinding.setHostPort(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -989163880:
+                        if (fieldName.equals("protocol")) {
+                            context.nextToken();
+                            networkBinding.setProtocol(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,20 +53,31 @@ public class PortMappingJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("containerPort", targetDepth)) {
-                    context.nextToken();
-                    portMapping.setContainerPort(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("hostPort", targetDepth)) {
-                    context.nextToken();
-                    portMapping.setHostPort(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("protocol", targetDepth)) {
-                    context.nextToken();
-                    portMapping.setProtocol(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1966813346:
+                        if (fieldName.equals("containerPort")) {
+                            context.nextToken();
+                            portMapping.setContainerPort(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -300683703:
+                        if (fieldName.equals("hostPort")) {
+                            context.nextToken();
+                            portMapping.setHostPort(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -989163880:
+                        if (fieldName.equals("protocol")) {
+                            context.nextToken();
+                            portMapping.setProtocol(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,11 +53,18 @@ public class RegisterTaskDefinitionResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("taskDefinition", targetDepth)) {
-                    context.nextToken();
-                    registerTaskDefinitionResult
-                            .setTaskDefinition(TaskDefinitionJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1562123080:
+                        if (fieldName.equals("taskDefinition")) {
+                            context.nextToken();
+                            registerTaskDefinitionResult
+                                    .setTaskDefinition(TaskDefinitionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,36 +53,53 @@ public class ResourceJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    resource.setName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("type", targetDepth)) {
-                    context.nextToken();
-                    resource.setType(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("doubleValue", targetDepth)) {
-                    context.nextToken();
-                    resource.setDoubleValue(context.getUnmarshaller(
-                            Double.class).unmarshall(context));
-                }
-                if (context.testExpression("longValue", targetDepth)) {
-                    context.nextToken();
-                    resource.setLongValue(context.getUnmarshaller(Long.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("integerValue", targetDepth)) {
-                    context.nextToken();
-                    resource.setIntegerValue(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("stringSetValue", targetDepth)) {
-                    context.nextToken();
-                    resource.setStringSetValue(new ListUnmarshaller<String>(
-                            context.getUnmarshaller(String.class))
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3373707:
+                        if (fieldName.equals("name")) {
+                            context.nextToken();
+                            resource.setName(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 3575610:
+                        if (fieldName.equals("type")) {
+                            context.nextToken();
+                            resource.setType(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1626611680:
+                        if (fieldName.equals("doubleValue")) {
+                            context.nextToken();
+                            resource.setDoubleValue(context.getUnmarshaller(
+                                    Double.class).unmarshall(context));
+                        }
+                        break;
+                    case 119244885:
+                        if (fieldName.equals("longValue")) {
+                            context.nextToken();
+                            resource.setLongValue(context.getUnmarshaller(Long.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1001834797:
+                        if (fieldName.equals("integerValue")) {
+                            context.nextToken();
+                            resource.setIntegerValue(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -5016224:
+                        if (fieldName.equals("stringSetValue")) {
+                            context.nextToken();
+                            resource.setStringSetValue(new ListUnmarshaller<String>(
+                                    context.getUnmarshaller(String.class))
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
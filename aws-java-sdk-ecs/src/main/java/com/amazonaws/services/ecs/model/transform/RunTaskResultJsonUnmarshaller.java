@@ -53,17 +53,26 @@ public class RunTaskResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("tasks", targetDepth)) {
-                    context.nextToken();
-                    runTaskResult.setTasks(new ListUnmarshaller<Task>(
-                            TaskJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("failures", targetDepth)) {
-                    context.nextToken();
-                    runTaskResult.setFailures(new ListUnmarshaller<Failure>(
-                            FailureJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 110132110:
+                        if (fieldName.equals("tasks")) {
+                            context.nextToken();
+                            runTaskResult.setTasks(new ListUnmarshaller<Task>(
+                                    TaskJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 675938345:
+                        if (fieldName.equals("failures")) {
+                            context.nextToken();
+                            runTaskResult.setFailures(new ListUnmarshaller<Failure>(
+                                    FailureJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -52,79 +52,111 @@ public class ServiceJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("serviceArn", targetDepth)) {
-                    context.nextToken();
-                    service.setServiceArn(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("serviceName", targetDepth)) {
-                    context.nextToken();
-                    service.setServiceName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("clusterArn", targetDepth)) {
-                    context.nextToken();
-                    service.setClusterArn(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("loadBalancers", targetDepth)) {
-                    context.nextToken();
-                    service.setLoadBalancers(new ListUnmarshaller<LoadBalancer>(
-                            LoadBalancerJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    service.setStatus(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("desiredCount", targetDepth)) {
-                    context.nextToken();
-                    service.setDesiredCount(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("runningCount", targetDepth)) {
-                    context.nextToken();
-                    service.setRunningCount(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("pendingCount", targetDepth)) {
-                    context.nextToken();
-                    service.setPendingCount(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("taskDefinition", targetDepth)) {
-                    context.nextToken();
-                    service.setTaskDefinition(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("deploymentConfiguration",
-                        targetDepth)) {
-                    context.nextToken();
-                    service.setDeploymentConfiguration(DeploymentConfigurationJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("deployments", targetDepth)) {
-                    context.nextToken();
-                    service.setDeployments(new ListUnmarshaller<Deployment>(
-                            DeploymentJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("roleArn", targetDepth)) {
-                    context.nextToken();
-                    service.setRoleArn(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("events", targetDepth)) {
-                    context.nextToken();
-                    service.setEvents(new ListUnmarshaller<ServiceEvent>(
-                            ServiceEventJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("createdAt", targetDepth)) {
-                    context.nextToken();
-                    service.setCreatedAt(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1724791960:
+                        if (fieldName.equals("serviceArn")) {
+                            context.nextToken();
+                            service.setServiceArn(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1928572192:
+                        if (fieldName.equals("serviceName")) {
+                            context.nextToken();
+                            service.setServiceName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 240252419:
+                        if (fieldName.equals("clusterArn")) {
+                            context.nextToken();
+                            service.setClusterArn(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1602204631:
+                        if (fieldName.equals("loadBalancers")) {
+                            context.nextToken();
+                            service.setLoadBalancers(new ListUnmarshaller<LoadBalancer>(
+                                    LoadBalancerJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -892481550:
+                        if (fieldName.equals("status")) {
+                            context.nextToken();
+                            service.setStatus(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 475189909:
+                        if (fieldName.equals("desiredCount")) {
+                            context.nextToken();
+                            service.setDesiredCount(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 814221968:
+                        if (fieldName.equals("runningCount")) {
+                            context.nextToken();
+                            service.setRunningCount(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 137182648:
+                        if (fieldName.equals("pendingCount")) {
+                            context.nextToken();
+                            service.setPendingCount(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -1562123080:
+                        if (fieldName.equals("taskDefinition")) {
+                            context.nextToken();
+                            service.setTaskDefinition(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1302483505:
+                        if (fieldName.equals("deploymentConfiguration")) {
+                            context.nextToken();
+                            service.setDeploymentConfiguration(DeploymentConfigurationJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -4415922:
+                        if (fieldName.equals("deployments")) {
+                            context.nextToken();
+                            service.setDeployments(new ListUnmarshaller<Deployment>(
+                                    DeploymentJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1376855559:
+                        if (fieldName.equals("roleArn")) {
+                            context.nextToken();
+                            service.setRoleArn(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1291329255:
+                        if (fieldName.equals("events")) {
+                            context.nextToken();
+                            service.setEvents(new ListUnmarshaller<ServiceEvent>(
+                                    ServiceEventJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 598371643:
+                        if (fieldName.equals("createdAt")) {
+                            context.nextToken();
+                            service.setCreatedAt(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,10 +53,17 @@ public class StopTaskResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("task", targetDepth)) {
-                    context.nextToken();
-                    stopTaskResult.setTask(TaskJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3552645:
+                        if (fieldName.equals("task")) {
+                            context.nextToken();
+                            stopTaskResult.setTask(TaskJsonUnmarshaller.getInstance()
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
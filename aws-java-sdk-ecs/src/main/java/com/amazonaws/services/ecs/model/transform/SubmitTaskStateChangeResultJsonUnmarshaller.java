@@ -53,10 +53,17 @@ public class SubmitTaskStateChangeResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("acknowledgment", targetDepth)) {
-                    context.nextToken();
-                    submitTaskStateChangeResult.setAcknowledgment(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1027142599:
+                        if (fieldName.equals("acknowledgment")) {
+                            context.nextToken();
+                            submitTaskStateChangeResult.setAcknowledgment(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,45 +53,64 @@ public class TaskDefinitionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("taskDefinitionArn", targetDepth)) {
-                    context.nextToken();
-                    taskDefinition.setTaskDefinitionArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("containerDefinitions", targetDepth)) {
-                    context.nextToken();
-                    taskDefinition
-                            .setContainerDefinitions(new ListUnmarshaller<ContainerDefinition>(
-                                    ContainerDefinitionJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("family", targetDepth)) {
-                    context.nextToken();
-                    taskDefinition.setFamily(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("revision", targetDepth)) {
-                    context.nextToken();
-                    taskDefinition.setRevision(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("volumes", targetDepth)) {
-                    context.nextToken();
-                    taskDefinition.setVolumes(new ListUnmarshaller<Volume>(
-                            VolumeJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    taskDefinition.setStatus(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("requiresAttributes", targetDepth)) {
-                    context.nextToken();
-                    taskDefinition
-                            .setRequiresAttributes(new ListUnmarshaller<Attribute>(
-                                    AttributeJsonUnmarshaller.getInstance())
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1237958011:
+                        if (fieldName.equals("taskDefinitionArn")) {
+                            context.nextToken();
+                            taskDefinition.setTaskDefinitionArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1132288449:
+                        if (fieldName.equals("containerDefinitions")) {
+                            context.nextToken();
+                            taskDefinition
+                                    .setContainerDefinitions(new ListUnmarshaller<ContainerDefinition>(
+                                            ContainerDefinitionJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1281860764:
+                        if (fieldName.equals("family")) {
+                            context.nextToken();
+                            taskDefinition.setFamily(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -260786213:
+                        if (fieldName.equals("revision")) {
+                            context.nextToken();
+                            taskDefinition.setRevision(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 632421529:
+                        if (fieldName.equals("volumes")) {
+                            context.nextToken();
+                            taskDefinition.setVolumes(new ListUnmarshaller<Volume>(
+                                    VolumeJsonUnmarshaller.getInstance())
                                     .unmarshall(context));
+                        }
+                        break;
+                    case -892481550:
+                        if (fieldName.equals("status")) {
+                            context.nextToken();
+                            taskDefinition.setStatus(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1405644709:
+                        if (fieldName.equals("requiresAttributes")) {
+                            context.nextToken();
+                            taskDefinition
+                                    .setRequiresAttributes(new ListUnmarshaller<Attribute>(
+                                            AttributeJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
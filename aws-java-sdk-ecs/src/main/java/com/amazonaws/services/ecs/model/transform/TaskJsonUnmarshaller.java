@@ -52,71 +52,102 @@ public class TaskJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("taskArn", targetDepth)) {
-                    context.nextToken();
-                    task.setTaskArn(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("clusterArn", targetDepth)) {
-                    context.nextToken();
-                    task.setClusterArn(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("taskDefinitionArn", targetDepth)) {
-                    context.nextToken();
-                    task.setTaskDefinitionArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("containerInstanceArn", targetDepth)) {
-                    context.nextToken();
-                    task.setContainerInstanceArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("overrides", targetDepth)) {
-                    context.nextToken();
-                    task.setOverrides(TaskOverrideJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("lastStatus", targetDepth)) {
-                    context.nextToken();
-                    task.setLastStatus(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("desiredStatus", targetDepth)) {
-                    context.nextToken();
-                    task.setDesiredStatus(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("containers", targetDepth)) {
-                    context.nextToken();
-                    task.setContainers(new ListUnmarshaller<Container>(
-                            ContainerJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("startedBy", targetDepth)) {
-                    context.nextToken();
-                    task.setStartedBy(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("stoppedReason", targetDepth)) {
-                    context.nextToken();
-                    task.setStoppedReason(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("createdAt", targetDepth)) {
-                    context.nextToken();
-                    task.setCreatedAt(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("startedAt", targetDepth)) {
-                    context.nextToken();
-                    task.setStartedAt(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("stoppedAt", targetDepth)) {
-                    context.nextToken();
-                    task.setStoppedAt(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1537269096:
+                        if (fieldName.equals("taskArn")) {
+                            context.nextToken();
+                            task.setTaskArn(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 240252419:
+                        if (fieldName.equals("clusterArn")) {
+                            context.nextToken();
+                            task.setClusterArn(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1237958011:
+                        if (fieldName.equals("taskDefinitionArn")) {
+                            context.nextToken();
+                            task.setTaskDefinitionArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1852122553:
+                        if (fieldName.equals("containerInstanceArn")) {
+                            context.nextToken();
+                            task.setContainerInstanceArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -749969881:
+                        if (fieldName.equals("overrides")) {
+                            context.nextToken();
+                            task.setOverrides(TaskOverrideJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1939244584:
+                        if (fieldName.equals("lastStatus")) {
+                            context.nextToken();
+                            task.setLastStatus(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1986887892:
+                        if (fieldName.equals("desiredStatus")) {
+                            context.nextToken();
+                            task.setDesiredStatus(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 145245202:
+                        if (fieldName.equals("containers")) {
+                            context.nextToken();
+                            task.setContainers(new ListUnmarshaller<Container>(
+                                    ContainerJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -2128794440:
+                        if (fieldName.equals("startedBy")) {
+                            context.nextToken();
+                            task.setStartedBy(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 637977201:
+                        if (fieldName.equals("stoppedReason")) {
+                            context.nextToken();
+                            task.setStoppedReason(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 598371643:
+                        if (fieldName.equals("createdAt")) {
+                            context.nextToken();
+                            task.setCreatedAt(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case -2128794476:
+                        if (fieldName.equals("startedAt")) {
+                            context.nextToken();
+                            task.setStartedAt(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 1645370080:
+                        if (fieldName.equals("stoppedAt")) {
+                            context.nextToken();
+                            task.setStoppedAt(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
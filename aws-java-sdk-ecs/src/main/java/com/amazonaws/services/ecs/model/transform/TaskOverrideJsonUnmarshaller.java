@@ -53,12 +53,19 @@ public class TaskOverrideJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("containerOverrides", targetDepth)) {
-                    context.nextToken();
-                    taskOverride
-                            .setContainerOverrides(new ListUnmarshaller<ContainerOverride>(
-                                    ContainerOverrideJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 720679590:
+                        if (fieldName.equals("containerOverrides")) {
+                            context.nextToken();
+                            taskOverride
+                                    .setContainerOverrides(new ListUnmarshaller<ContainerOverride>(
+                                            ContainerOverrideJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -52,20 +52,31 @@ public class UlimitJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    ulimit.setName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("softLimit", targetDepth)) {
-                    context.nextToken();
-                    ulimit.setSoftLimit(context.getUnmarshaller(Integer.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("hardLimit", targetDepth)) {
-                    context.nextToken();
-                    ulimit.setHardLimit(context.getUnmarshaller(Integer.class)
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3373707:
+                        if (fieldName.equals("name")) {
+                            context.nextToken();
+                            ulimit.setName(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -2089913935:
+                        if (fieldName.equals("softLimit")) {
+                            context.nextToken();
+                            ulimit.setSoftLimit(context.getUnmarshaller(Integer.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -710249072:
+                        if (fieldName.equals("hardLimit")) {
+                            context.nextToken();
+                            ulimit.setHardLimit(context.getUnmarshaller(Integer.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
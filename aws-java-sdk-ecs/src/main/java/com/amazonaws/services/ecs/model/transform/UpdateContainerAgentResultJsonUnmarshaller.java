@@ -53,11 +53,18 @@ public class UpdateContainerAgentResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("containerInstance", targetDepth)) {
-                    context.nextToken();
-                    updateContainerAgentResult
-                            .setContainerInstance(ContainerInstanceJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 48378934:
+                        if (fieldName.equals("containerInstance")) {
+                            context.nextToken();
+                            updateContainerAgentResult
+                                    .setContainerInstance(ContainerInstanceJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,20 +53,31 @@ public class VersionInfoJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("agentVersion", targetDepth)) {
-                    context.nextToken();
-                    versionInfo.setAgentVersion(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("agentHash", targetDepth)) {
-                    context.nextToken();
-                    versionInfo.setAgentHash(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("dockerVersion", targetDepth)) {
-                    context.nextToken();
-                    versionInfo.setDockerVersion(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1928000019:
+                        if (fieldName.equals("agentVersion")) {
+                            context.nextToken();
+                            versionInfo.setAgentVersion(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1701417549:
+                        if (fieldName.equals("agentHash")) {
+                            context.nextToken();
+                            versionInfo.setAgentHash(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1774985880:
+                        if (fieldName.equals("dockerVersion")) {
+                            context.nextToken();
+                            versionInfo.setDockerVersion(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
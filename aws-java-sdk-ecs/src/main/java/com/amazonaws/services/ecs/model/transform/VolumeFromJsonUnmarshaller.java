@@ -53,15 +53,24 @@ public class VolumeFromJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("sourceContainer", targetDepth)) {
-                    context.nextToken();
-                    volumeFrom.setSourceContainer(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("readOnly", targetDepth)) {
-                    context.nextToken();
-                    volumeFrom.setReadOnly(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 269939366:
+                        if (fieldName.equals("sourceContainer")) {
+                            context.nextToken();
+                            volumeFrom.setSourceContainer(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -867683742:
+                        if (fieldName.equals("readOnly")) {
+                            context.nextToken();
+                            volumeFrom.setReadOnly(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
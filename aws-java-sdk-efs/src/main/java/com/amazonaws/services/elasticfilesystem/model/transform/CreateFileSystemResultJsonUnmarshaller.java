@@ -53,48 +53,69 @@ public class CreateFileSystemResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("OwnerId", targetDepth)) {
-                    context.nextToken();
-                    createFileSystemResult.setOwnerId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationToken", targetDepth)) {
-                    context.nextToken();
-                    createFileSystemResult.setCreationToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("FileSystemId", targetDepth)) {
-                    context.nextToken();
-                    createFileSystemResult.setFileSystemId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationTime", targetDepth)) {
-                    context.nextToken();
-                    createFileSystemResult.setCreationTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("LifeCycleState", targetDepth)) {
-                    context.nextToken();
-                    createFileSystemResult.setLifeCycleState(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    createFileSystemResult.setName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("NumberOfMountTargets", targetDepth)) {
-                    context.nextToken();
-                    createFileSystemResult
-                            .setNumberOfMountTargets(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("SizeInBytes", targetDepth)) {
-                    context.nextToken();
-                    createFileSystemResult
-                            .setSizeInBytes(FileSystemSizeJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 609923854:
+                        if (fieldName.equals("OwnerId")) {
+                            context.nextToken();
+                            createFileSystemResult.setOwnerId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1573978566:
+                        if (fieldName.equals("CreationToken")) {
+                            context.nextToken();
+                            createFileSystemResult.setCreationToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 872357222:
+                        if (fieldName.equals("FileSystemId")) {
+                            context.nextToken();
+                            createFileSystemResult.setFileSystemId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1750336108:
+                        if (fieldName.equals("CreationTime")) {
+                            context.nextToken();
+                            createFileSystemResult.setCreationTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case -494950521:
+                        if (fieldName.equals("LifeCycleState")) {
+                            context.nextToken();
+                            createFileSystemResult.setLifeCycleState(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            createFileSystemResult.setName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 928726505:
+                        if (fieldName.equals("NumberOfMountTargets")) {
+                            context.nextToken();
+                            createFileSystemResult
+                                    .setNumberOfMountTargets(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -235946267:
+                        if (fieldName.equals("SizeInBytes")) {
+                            context.nextToken();
+                            createFileSystemResult
+                                    .setSizeInBytes(FileSystemSizeJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
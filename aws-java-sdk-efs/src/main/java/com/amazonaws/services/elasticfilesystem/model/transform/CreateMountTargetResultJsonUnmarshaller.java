@@ -53,40 +53,59 @@ public class CreateMountTargetResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("OwnerId", targetDepth)) {
-                    context.nextToken();
-                    createMountTargetResult.setOwnerId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("MountTargetId", targetDepth)) {
-                    context.nextToken();
-                    createMountTargetResult.setMountTargetId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("FileSystemId", targetDepth)) {
-                    context.nextToken();
-                    createMountTargetResult.setFileSystemId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SubnetId", targetDepth)) {
-                    context.nextToken();
-                    createMountTargetResult.setSubnetId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LifeCycleState", targetDepth)) {
-                    context.nextToken();
-                    createMountTargetResult.setLifeCycleState(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IpAddress", targetDepth)) {
-                    context.nextToken();
-                    createMountTargetResult.setIpAddress(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("NetworkInterfaceId", targetDepth)) {
-                    context.nextToken();
-                    createMountTargetResult.setNetworkInterfaceId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 609923854:
+                        if (fieldName.equals("OwnerId")) {
+                            context.nextToken();
+                            createMountTargetResult.setOwnerId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 805896613:
+                        if (fieldName.equals("MountTargetId")) {
+                            context.nextToken();
+                            createMountTargetResult.setMountTargetId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 872357222:
+                        if (fieldName.equals("FileSystemId")) {
+                            context.nextToken();
+                            createMountTargetResult.setFileSystemId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -2001515144:
+                        if (fieldName.equals("SubnetId")) {
+                            context.nextToken();
+                            createMountTargetResult.setSubnetId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -494950521:
+                        if (fieldName.equals("LifeCycleState")) {
+                            context.nextToken();
+                            createMountTargetResult.setLifeCycleState(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -656966483:
+                        if (fieldName.equals("IpAddress")) {
+                            context.nextToken();
+                            createMountTargetResult.setIpAddress(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -385184442:
+                        if (fieldName.equals("NetworkInterfaceId")) {
+                            context.nextToken();
+                            createMountTargetResult.setNetworkInterfaceId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,22 +53,33 @@ public class DescribeFileSystemsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    describeFileSystemsResult.setMarker(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("FileSystems", targetDepth)) {
-                    context.nextToken();
-                    describeFileSystemsResult
-                            .setFileSystems(new ListUnmarshaller<FileSystemDescription>(
-                                    FileSystemDescriptionJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextMarker", targetDepth)) {
-                    context.nextToken();
-                    describeFileSystemsResult.setNextMarker(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1997438886:
+                        if (fieldName.equals("Marker")) {
+                            context.nextToken();
+                            describeFileSystemsResult.setMarker(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1829255912:
+                        if (fieldName.equals("FileSystems")) {
+                            context.nextToken();
+                            describeFileSystemsResult
+                                    .setFileSystems(new ListUnmarshaller<FileSystemDescription>(
+                                            FileSystemDescriptionJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 540124461:
+                        if (fieldName.equals("NextMarker")) {
+                            context.nextToken();
+                            describeFileSystemsResult.setNextMarker(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
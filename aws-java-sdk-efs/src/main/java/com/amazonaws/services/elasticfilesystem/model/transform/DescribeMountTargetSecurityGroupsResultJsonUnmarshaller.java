@@ -54,12 +54,19 @@ public class DescribeMountTargetSecurityGroupsResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SecurityGroups", targetDepth)) {
-                    context.nextToken();
-                    describeMountTargetSecurityGroupsResult
-                            .setSecurityGroups(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -2045404844:
+                        if (fieldName.equals("SecurityGroups")) {
+                            context.nextToken();
+                            describeMountTargetSecurityGroupsResult
+                                    .setSecurityGroups(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,22 +53,33 @@ public class DescribeMountTargetsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    describeMountTargetsResult.setMarker(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MountTargets", targetDepth)) {
-                    context.nextToken();
-                    describeMountTargetsResult
-                            .setMountTargets(new ListUnmarshaller<MountTargetDescription>(
-                                    MountTargetDescriptionJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextMarker", targetDepth)) {
-                    context.nextToken();
-                    describeMountTargetsResult.setNextMarker(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1997438886:
+                        if (fieldName.equals("Marker")) {
+                            context.nextToken();
+                            describeMountTargetsResult.setMarker(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1411470025:
+                        if (fieldName.equals("MountTargets")) {
+                            context.nextToken();
+                            describeMountTargetsResult
+                                    .setMountTargets(new ListUnmarshaller<MountTargetDescription>(
+                                            MountTargetDescriptionJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 540124461:
+                        if (fieldName.equals("NextMarker")) {
+                            context.nextToken();
+                            describeMountTargetsResult.setNextMarker(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
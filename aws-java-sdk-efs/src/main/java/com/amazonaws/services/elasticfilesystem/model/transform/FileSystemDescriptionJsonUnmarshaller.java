@@ -53,48 +53,69 @@ public class FileSystemDescriptionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("OwnerId", targetDepth)) {
-                    context.nextToken();
-                    fileSystemDescription.setOwnerId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationToken", targetDepth)) {
-                    context.nextToken();
-                    fileSystemDescription.setCreationToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("FileSystemId", targetDepth)) {
-                    context.nextToken();
-                    fileSystemDescription.setFileSystemId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationTime", targetDepth)) {
-                    context.nextToken();
-                    fileSystemDescription.setCreationTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("LifeCycleState", targetDepth)) {
-                    context.nextToken();
-                    fileSystemDescription.setLifeCycleState(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    fileSystemDescription.setName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("NumberOfMountTargets", targetDepth)) {
-                    context.nextToken();
-                    fileSystemDescription
-                            .setNumberOfMountTargets(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("SizeInBytes", targetDepth)) {
-                    context.nextToken();
-                    fileSystemDescription
-                            .setSizeInBytes(FileSystemSizeJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 609923854:
+                        if (fieldName.equals("OwnerId")) {
+                            context.nextToken();
+                            fileSystemDescription.setOwnerId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1573978566:
+                        if (fieldName.equals("CreationToken")) {
+                            context.nextToken();
+                            fileSystemDescription.setCreationToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 872357222:
+                        if (fieldName.equals("FileSystemId")) {
+                            context.nextToken();
+                            fileSystemDescription.setFileSystemId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1750336108:
+                        if (fieldName.equals("CreationTime")) {
+                            context.nextToken();
+                            fileSystemDescription.setCreationTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case -494950521:
+                        if (fieldName.equals("LifeCycleState")) {
+                            context.nextToken();
+                            fileSystemDescription.setLifeCycleState(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            fileSystemDescription.setName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 928726505:
+                        if (fieldName.equals("NumberOfMountTargets")) {
+                            context.nextToken();
+                            fileSystemDescription
+                                    .setNumberOfMountTargets(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -235946267:
+                        if (fieldName.equals("SizeInBytes")) {
+                            context.nextToken();
+                            fileSystemDescription
+                                    .setSizeInBytes(FileSystemSizeJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class FileSystemSizeJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Value", targetDepth)) {
-                    context.nextToken();
-                    fileSystemSize.setValue(context.getUnmarshaller(Long.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Timestamp", targetDepth)) {
-                    context.nextToken();
-                    fileSystemSize.setTimestamp(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 82420049:
+                        if (fieldName.equals("Value")) {
+                            context.nextToken();
+                            fileSystemSize.setValue(context.getUnmarshaller(Long.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 2059094262:
+                        if (fieldName.equals("Timestamp")) {
+                            context.nextToken();
+                            fileSystemSize.setTimestamp(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
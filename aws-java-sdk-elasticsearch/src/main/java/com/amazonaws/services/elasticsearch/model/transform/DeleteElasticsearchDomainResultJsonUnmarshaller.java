@@ -53,11 +53,18 @@ public class DeleteElasticsearchDomainResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DomainStatus", targetDepth)) {
-                    context.nextToken();
-                    deleteElasticsearchDomainResult
-                            .setDomainStatus(ElasticsearchDomainStatusJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1240972810:
+                        if (fieldName.equals("DomainStatus")) {
+                            context.nextToken();
+                            deleteElasticsearchDomainResult
+                                    .setDomainStatus(ElasticsearchDomainStatusJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,11 +54,18 @@ public class DescribeElasticsearchDomainConfigResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DomainConfig", targetDepth)) {
-                    context.nextToken();
-                    describeElasticsearchDomainConfigResult
-                            .setDomainConfig(ElasticsearchDomainConfigJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1703283386:
+                        if (fieldName.equals("DomainConfig")) {
+                            context.nextToken();
+                            describeElasticsearchDomainConfigResult
+                                    .setDomainConfig(ElasticsearchDomainConfigJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
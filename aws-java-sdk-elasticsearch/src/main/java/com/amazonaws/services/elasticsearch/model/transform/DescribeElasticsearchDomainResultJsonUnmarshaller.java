@@ -54,11 +54,18 @@ public class DescribeElasticsearchDomainResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DomainStatus", targetDepth)) {
-                    context.nextToken();
-                    describeElasticsearchDomainResult
-                            .setDomainStatus(ElasticsearchDomainStatusJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1240972810:
+                        if (fieldName.equals("DomainStatus")) {
+                            context.nextToken();
+                            describeElasticsearchDomainResult
+                                    .setDomainStatus(ElasticsearchDomainStatusJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,12 +54,19 @@ public class DescribeElasticsearchDomainsResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DomainStatusList", targetDepth)) {
-                    context.nextToken();
-                    describeElasticsearchDomainsResult
-                            .setDomainStatusList(new ListUnmarshaller<ElasticsearchDomainStatus>(
-                                    ElasticsearchDomainStatusJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 330202036:
+                        if (fieldName.equals("DomainStatusList")) {
+                            context.nextToken();
+                            describeElasticsearchDomainsResult
+                                    .setDomainStatusList(new ListUnmarshaller<ElasticsearchDomainStatus>(
+                                            ElasticsearchDomainStatusJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
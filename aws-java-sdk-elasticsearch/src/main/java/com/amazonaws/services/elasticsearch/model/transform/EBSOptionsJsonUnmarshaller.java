@@ -53,25 +53,38 @@ public class EBSOptionsJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("EBSEnabled", targetDepth)) {
-                    context.nextToken();
-                    eBSOptions.setEBSEnabled(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeType", targetDepth)) {
-                    context.nextToken();
-                    eBSOptions.setVolumeType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeSize", targetDepth)) {
-                    context.nextToken();
-                    eBSOptions.setVolumeSize(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Iops", targetDepth)) {
-                    context.nextToken();
-                    eBSOptions.setIops(context.getUnmarshaller(Integer.class)
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1028011253:
+                        if (fieldName.equals("EBSEnabled")) {
+                            context.nextToken();
+                            eBSOptions.setEBSEnabled(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 440904084:
+                        if (fieldName.equals("VolumeType")) {
+                            context.nextToken();
+                            eBSOptions.setVolumeType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 440859227:
+                        if (fieldName.equals("VolumeSize")) {
+                            context.nextToken();
+                            eBSOptions.setVolumeSize(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 2285001:
+                        if (fieldName.equals("Iops")) {
+                            context.nextToken();
+                            eBSOptions.setIops(context.getUnmarshaller(Integer.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,40 +53,56 @@ public class ElasticsearchClusterConfigJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("InstanceType", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchClusterConfig.setInstanceType(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceCount", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchClusterConfig
-                            .setInstanceCount(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("DedicatedMasterEnabled",
-                        targetDepth)) {
-                    context.nextToken();
-                    elasticsearchClusterConfig
-                            .setDedicatedMasterEnabled(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("ZoneAwarenessEnabled", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchClusterConfig
-                            .setZoneAwarenessEnabled(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("DedicatedMasterType", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchClusterConfig.setDedicatedMasterType(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DedicatedMasterCount", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchClusterConfig
-                            .setDedicatedMasterCount(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -573335153:
+                        if (fieldName.equals("InstanceType")) {
+                            context.nextToken();
+                            elasticsearchClusterConfig.setInstanceType(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -609513126:
+                        if (fieldName.equals("InstanceCount")) {
+                            context.nextToken();
+                            elasticsearchClusterConfig
+                                    .setInstanceCount(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 55976176:
+                        if (fieldName.equals("DedicatedMasterEnabled")) {
+                            context.nextToken();
+                            elasticsearchClusterConfig
+                                    .setDedicatedMasterEnabled(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 1751473080:
+                        if (fieldName.equals("ZoneAwarenessEnabled")) {
+                            context.nextToken();
+                            elasticsearchClusterConfig
+                                    .setZoneAwarenessEnabled(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case -839618581:
+                        if (fieldName.equals("DedicatedMasterType")) {
+                            context.nextToken();
+                            elasticsearchClusterConfig.setDedicatedMasterType(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -274364802:
+                        if (fieldName.equals("DedicatedMasterCount")) {
+                            context.nextToken();
+                            elasticsearchClusterConfig
+                                    .setDedicatedMasterCount(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
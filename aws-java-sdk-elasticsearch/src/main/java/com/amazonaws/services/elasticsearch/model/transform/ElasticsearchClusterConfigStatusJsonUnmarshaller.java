@@ -53,17 +53,26 @@ public class ElasticsearchClusterConfigStatusJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Options", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchClusterConfigStatus
-                            .setOptions(ElasticsearchClusterConfigJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchClusterConfigStatus
-                            .setStatus(OptionStatusJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 415178366:
+                        if (fieldName.equals("Options")) {
+                            context.nextToken();
+                            elasticsearchClusterConfigStatus
+                                    .setOptions(ElasticsearchClusterConfigJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1808614382:
+                        if (fieldName.equals("Status")) {
+                            context.nextToken();
+                            elasticsearchClusterConfigStatus
+                                    .setStatus(OptionStatusJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
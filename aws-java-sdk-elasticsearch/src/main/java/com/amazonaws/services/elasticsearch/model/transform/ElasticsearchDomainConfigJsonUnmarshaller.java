@@ -53,36 +53,50 @@ public class ElasticsearchDomainConfigJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ElasticsearchClusterConfig",
-                        targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDomainConfig
-                            .setElasticsearchClusterConfig(ElasticsearchClusterConfigStatusJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("EBSOptions", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDomainConfig
-                            .setEBSOptions(EBSOptionsStatusJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("AccessPolicies", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDomainConfig
-                            .setAccessPolicies(AccessPoliciesStatusJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("SnapshotOptions", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDomainConfig
-                            .setSnapshotOptions(SnapshotOptionsStatusJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("AdvancedOptions", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDomainConfig
-                            .setAdvancedOptions(AdvancedOptionsStatusJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -455090113:
+                        if (fieldName.equals("ElasticsearchClusterConfig")) {
+                            context.nextToken();
+                            elasticsearchDomainConfig
+                                    .setElasticsearchClusterConfig(ElasticsearchClusterConfigStatusJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -667892120:
+                        if (fieldName.equals("EBSOptions")) {
+                            context.nextToken();
+                            elasticsearchDomainConfig
+                                    .setEBSOptions(EBSOptionsStatusJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -904383756:
+                        if (fieldName.equals("AccessPolicies")) {
+                            context.nextToken();
+                            elasticsearchDomainConfig
+                                    .setAccessPolicies(AccessPoliciesStatusJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -2116830182:
+                        if (fieldName.equals("SnapshotOptions")) {
+                            context.nextToken();
+                            elasticsearchDomainConfig
+                                    .setSnapshotOptions(SnapshotOptionsStatusJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -2073205764:
+                        if (fieldName.equals("AdvancedOptions")) {
+                            context.nextToken();
+                            elasticsearchDomainConfig
+                                    .setAdvancedOptions(AdvancedOptionsStatusJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,75 +53,103 @@ public class ElasticsearchDomainStatusJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DomainId", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDomainStatus.setDomainId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DomainName", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDomainStatus.setDomainName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ARN", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDomainStatus.setARN(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Created", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDomainStatus
-                            .setCreated(context.getUnmarshaller(Boolean.class)
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("Deleted", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDomainStatus
-                            .setDeleted(context.getUnmarshaller(Boolean.class)
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("Endpoint", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDomainStatus.setEndpoint(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Processing", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDomainStatus
-                            .setProcessing(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("ElasticsearchClusterConfig",
-                        targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDomainStatus
-                            .setElasticsearchClusterConfig(ElasticsearchClusterConfigJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("EBSOptions", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDomainStatus
-                            .setEBSOptions(EBSOptionsJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("AccessPolicies", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDomainStatus.setAccessPolicies(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SnapshotOptions", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDomainStatus
-                            .setSnapshotOptions(SnapshotOptionsJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("AdvancedOptions", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDomainStatus
-                            .setAdvancedOptions(new MapUnmarshaller<String, String>(
-                                    context.getUnmarshaller(String.class),
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1194074399:
+                        if (fieldName.equals("DomainId")) {
+                            context.nextToken();
+                            elasticsearchDomainStatus.setDomainId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 749378959:
+                        if (fieldName.equals("DomainName")) {
+                            context.nextToken();
+                            elasticsearchDomainStatus.setDomainName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 65085:
+                        if (fieldName.equals("ARN")) {
+                            context.nextToken();
+                            elasticsearchDomainStatus.setARN(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1601759544:
+                        if (fieldName.equals("Created")) {
+                            context.nextToken();
+                            elasticsearchDomainStatus
+                                    .setCreated(context.getUnmarshaller(Boolean.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1079851015:
+                        if (fieldName.equals("Deleted")) {
+                            context.nextToken();
+                            elasticsearchDomainStatus
+                                    .setDeleted(context.getUnmarshaller(Boolean.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1805746613:
+                        if (fieldName.equals("Endpoint")) {
+                            context.nextToken();
+                            elasticsearchDomainStatus.setEndpoint(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1879307469:
+                        if (fieldName.equals("Processing")) {
+                            context.nextToken();
+                            elasticsearchDomainStatus
+                                    .setProcessing(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case -455090113:
+                        if (fieldName.equals("ElasticsearchClusterConfig")) {
+                            context.nextToken();
+                            elasticsearchDomainStatus
+                                    .setElasticsearchClusterConfig(ElasticsearchClusterConfigJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -667892120:
+                        if (fieldName.equals("EBSOptions")) {
+                            context.nextToken();
+                            elasticsearchDomainStatus
+                                    .setEBSOptions(EBSOptionsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -904383756:
+                        if (fieldName.equals("AccessPolicies")) {
+                            context.nextToken();
+                            elasticsearchDomainStatus.setAccessPolicies(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -2116830182:
+                        if (fieldName.equals("SnapshotOptions")) {
+                            context.nextToken();
+                            elasticsearchDomainStatus
+                                    .setSnapshotOptions(SnapshotOptionsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -2073205764:
+                        if (fieldName.equals("AdvancedOptions")) {
+                            context.nextToken();
+                            elasticsearchDomainStatus
+                                    .setAdvancedOptions(new MapUnmarshaller<String, String>(
+                                            context.getUnmarshaller(String.class),
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,12 +53,19 @@ public class ListDomainNamesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DomainNames", targetDepth)) {
-                    context.nextToken();
-                    listDomainNamesResult
-                            .setDomainNames(new ListUnmarshaller<DomainInfo>(
-                                    DomainInfoJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1755911364:
+                        if (fieldName.equals("DomainNames")) {
+                            context.nextToken();
+                            listDomainNamesResult
+                                    .setDomainNames(new ListUnmarshaller<DomainInfo>(
+                                            DomainInfoJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,30 +53,45 @@ public class OptionStatusJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CreationDate", targetDepth)) {
-                    context.nextToken();
-                    optionStatus.setCreationDate(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("UpdateDate", targetDepth)) {
-                    context.nextToken();
-                    optionStatus.setUpdateDate(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("UpdateVersion", targetDepth)) {
-                    context.nextToken();
-                    optionStatus.setUpdateVersion(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("State", targetDepth)) {
-                    context.nextToken();
-                    optionStatus.setState(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("PendingDeletion", targetDepth)) {
-                    context.nextToken();
-                    optionStatus.setPendingDeletion(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1749851981:
+                        if (fieldName.equals("CreationDate")) {
+                            context.nextToken();
+                            optionStatus.setCreationDate(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 1697049655:
+                        if (fieldName.equals("UpdateDate")) {
+                            context.nextToken();
+                            optionStatus.setUpdateDate(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case -345380945:
+                        if (fieldName.equals("UpdateVersion")) {
+                            context.nextToken();
+                            optionStatus.setUpdateVersion(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 80204913:
+                        if (fieldName.equals("State")) {
+                            context.nextToken();
+                            optionStatus.setState(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1805778331:
+                        if (fieldName.equals("PendingDeletion")) {
+                            context.nextToken();
+                            optionStatus.setPendingDeletion(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
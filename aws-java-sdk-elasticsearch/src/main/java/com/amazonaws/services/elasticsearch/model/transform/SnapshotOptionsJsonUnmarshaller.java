@@ -53,13 +53,19 @@ public class SnapshotOptionsJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AutomatedSnapshotStartHour",
-                        targetDepth)) {
-                    context.nextToken();
-                    snapshotOptions
-                            .setAutomatedSnapshotStartHour(context
-                                    .getUnmarshaller(Integer.class).unmarshall(
-                                            context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1664289710:
+                        if (fieldName.equals("AutomatedSnapshotStartHour")) {
+                            context.nextToken();
+                            snapshotOptions
+                                    .setAutomatedSnapshotStartHour(context
+                                            .getUnmarshaller(Integer.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -52,40 +52,59 @@ public class ArtworkJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("InputKey", targetDepth)) {
-                    context.nextToken();
-                    artwork.setInputKey(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("MaxWidth", targetDepth)) {
-                    context.nextToken();
-                    artwork.setMaxWidth(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("MaxHeight", targetDepth)) {
-                    context.nextToken();
-                    artwork.setMaxHeight(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("SizingPolicy", targetDepth)) {
-                    context.nextToken();
-                    artwork.setSizingPolicy(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("PaddingPolicy", targetDepth)) {
-                    context.nextToken();
-                    artwork.setPaddingPolicy(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("AlbumArtFormat", targetDepth)) {
-                    context.nextToken();
-                    artwork.setAlbumArtFormat(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Encryption", targetDepth)) {
-                    context.nextToken();
-                    artwork.setEncryption(EncryptionJsonUnmarshaller
-                            .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 535340629:
+                        if (fieldName.equals("InputKey")) {
+                            context.nextToken();
+                            artwork.setInputKey(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 465025762:
+                        if (fieldName.equals("MaxWidth")) {
+                            context.nextToken();
+                            artwork.setMaxWidth(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1097901963:
+                        if (fieldName.equals("MaxHeight")) {
+                            context.nextToken();
+                            artwork.setMaxHeight(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1168969584:
+                        if (fieldName.equals("SizingPolicy")) {
+                            context.nextToken();
+                            artwork.setSizingPolicy(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1401875587:
+                        if (fieldName.equals("PaddingPolicy")) {
+                            context.nextToken();
+                            artwork.setPaddingPolicy(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1478558379:
+                        if (fieldName.equals("AlbumArtFormat")) {
+                            context.nextToken();
+                            artwork.setAlbumArtFormat(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 480832419:
+                        if (fieldName.equals("Encryption")) {
+                            context.nextToken();
+                            artwork.setEncryption(EncryptionJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,25 +53,38 @@ public class AudioCodecOptionsJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Profile", targetDepth)) {
-                    context.nextToken();
-                    audioCodecOptions.setProfile(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("BitDepth", targetDepth)) {
-                    context.nextToken();
-                    audioCodecOptions.setBitDepth(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("BitOrder", targetDepth)) {
-                    context.nextToken();
-                    audioCodecOptions.setBitOrder(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Signed", targetDepth)) {
-                    context.nextToken();
-                    audioCodecOptions.setSigned(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1355227529:
+                        if (fieldName.equals("Profile")) {
+                            context.nextToken();
+                            audioCodecOptions.setProfile(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1146872278:
+                        if (fieldName.equals("BitDepth")) {
+                            context.nextToken();
+                            audioCodecOptions.setBitDepth(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1157406305:
+                        if (fieldName.equals("BitOrder")) {
+                            context.nextToken();
+                            audioCodecOptions.setBitOrder(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1818600644:
+                        if (fieldName.equals("Signed")) {
+                            context.nextToken();
+                            audioCodecOptions.setSigned(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
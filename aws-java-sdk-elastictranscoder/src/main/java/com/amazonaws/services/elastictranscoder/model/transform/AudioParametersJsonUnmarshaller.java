@@ -53,36 +53,53 @@ public class AudioParametersJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Codec", targetDepth)) {
-                    context.nextToken();
-                    audioParameters.setCodec(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("SampleRate", targetDepth)) {
-                    context.nextToken();
-                    audioParameters.setSampleRate(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("BitRate", targetDepth)) {
-                    context.nextToken();
-                    audioParameters.setBitRate(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Channels", targetDepth)) {
-                    context.nextToken();
-                    audioParameters.setChannels(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("AudioPackingMode", targetDepth)) {
-                    context.nextToken();
-                    audioParameters.setAudioPackingMode(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CodecOptions", targetDepth)) {
-                    context.nextToken();
-                    audioParameters
-                            .setCodecOptions(AudioCodecOptionsJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 65282038:
+                        if (fieldName.equals("Codec")) {
+                            context.nextToken();
+                            audioParameters.setCodec(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2136550858:
+                        if (fieldName.equals("SampleRate")) {
+                            context.nextToken();
+                            audioParameters.setSampleRate(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1561429869:
+                        if (fieldName.equals("BitRate")) {
+                            context.nextToken();
+                            audioParameters.setBitRate(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1497270256:
+                        if (fieldName.equals("Channels")) {
+                            context.nextToken();
+                            audioParameters.setChannels(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 143389398:
+                        if (fieldName.equals("AudioPackingMode")) {
+                            context.nextToken();
+                            audioParameters.setAudioPackingMode(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1020576312:
+                        if (fieldName.equals("CodecOptions")) {
+                            context.nextToken();
+                            audioParameters
+                                    .setCodecOptions(AudioCodecOptionsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
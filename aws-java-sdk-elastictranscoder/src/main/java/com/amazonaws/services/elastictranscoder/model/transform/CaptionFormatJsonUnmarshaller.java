@@ -53,20 +53,31 @@ public class CaptionFormatJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Format", targetDepth)) {
-                    context.nextToken();
-                    captionFormat.setFormat(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Pattern", targetDepth)) {
-                    context.nextToken();
-                    captionFormat.setPattern(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Encryption", targetDepth)) {
-                    context.nextToken();
-                    captionFormat.setEncryption(EncryptionJsonUnmarshaller
-                            .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2110055447:
+                        if (fieldName.equals("Format")) {
+                            context.nextToken();
+                            captionFormat.setFormat(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 873562992:
+                        if (fieldName.equals("Pattern")) {
+                            context.nextToken();
+                            captionFormat.setPattern(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 480832419:
+                        if (fieldName.equals("Encryption")) {
+                            context.nextToken();
+                            captionFormat.setEncryption(EncryptionJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,30 +53,45 @@ public class CaptionSourceJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Key", targetDepth)) {
-                    context.nextToken();
-                    captionSource.setKey(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Language", targetDepth)) {
-                    context.nextToken();
-                    captionSource.setLanguage(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("TimeOffset", targetDepth)) {
-                    context.nextToken();
-                    captionSource.setTimeOffset(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Label", targetDepth)) {
-                    context.nextToken();
-                    captionSource.setLabel(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Encryption", targetDepth)) {
-                    context.nextToken();
-                    captionSource.setEncryption(EncryptionJsonUnmarshaller
-                            .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 75327:
+                        if (fieldName.equals("Key")) {
+                            context.nextToken();
+                            captionSource.setKey(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1548945544:
+                        if (fieldName.equals("Language")) {
+                            context.nextToken();
+                            captionSource.setLanguage(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1636011552:
+                        if (fieldName.equals("TimeOffset")) {
+                            context.nextToken();
+                            captionSource.setTimeOffset(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 73174740:
+                        if (fieldName.equals("Label")) {
+                            context.nextToken();
+                            captionSource.setLabel(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 480832419:
+                        if (fieldName.equals("Encryption")) {
+                            context.nextToken();
+                            captionSource.setEncryption(EncryptionJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
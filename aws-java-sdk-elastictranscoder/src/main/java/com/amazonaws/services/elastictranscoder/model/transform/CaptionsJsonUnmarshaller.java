@@ -53,22 +53,33 @@ public class CaptionsJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("MergePolicy", targetDepth)) {
-                    context.nextToken();
-                    captions.setMergePolicy(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("CaptionSources", targetDepth)) {
-                    context.nextToken();
-                    captions.setCaptionSources(new ListUnmarshaller<CaptionSource>(
-                            CaptionSourceJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("CaptionFormats", targetDepth)) {
-                    context.nextToken();
-                    captions.setCaptionFormats(new ListUnmarshaller<CaptionFormat>(
-                            CaptionFormatJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1769853802:
+                        if (fieldName.equals("MergePolicy")) {
+                            context.nextToken();
+                            captions.setMergePolicy(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1531746066:
+                        if (fieldName.equals("CaptionSources")) {
+                            context.nextToken();
+                            captions.setCaptionSources(new ListUnmarshaller<CaptionSource>(
+                                    CaptionSourceJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1418788170:
+                        if (fieldName.equals("CaptionFormats")) {
+                            context.nextToken();
+                            captions.setCaptionFormats(new ListUnmarshaller<CaptionFormat>(
+                                    CaptionFormatJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
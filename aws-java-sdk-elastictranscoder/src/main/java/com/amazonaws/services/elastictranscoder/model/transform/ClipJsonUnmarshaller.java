@@ -52,10 +52,17 @@ public class ClipJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TimeSpan", targetDepth)) {
-                    context.nextToken();
-                    clip.setTimeSpan(TimeSpanJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -2012744745:
+                        if (fieldName.equals("TimeSpan")) {
+                            context.nextToken();
+                            clip.setTimeSpan(TimeSpanJsonUnmarshaller.getInstance()
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
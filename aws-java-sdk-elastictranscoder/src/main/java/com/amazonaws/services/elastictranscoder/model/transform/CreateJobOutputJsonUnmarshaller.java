@@ -53,64 +53,91 @@ public class CreateJobOutputJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Key", targetDepth)) {
-                    context.nextToken();
-                    createJobOutput.setKey(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ThumbnailPattern", targetDepth)) {
-                    context.nextToken();
-                    createJobOutput.setThumbnailPattern(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ThumbnailEncryption", targetDepth)) {
-                    context.nextToken();
-                    createJobOutput
-                            .setThumbnailEncryption(EncryptionJsonUnmarshaller
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 75327:
+                        if (fieldName.equals("Key")) {
+                            context.nextToken();
+                            createJobOutput.setKey(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1604135644:
+                        if (fieldName.equals("ThumbnailPattern")) {
+                            context.nextToken();
+                            createJobOutput.setThumbnailPattern(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 668716399:
+                        if (fieldName.equals("ThumbnailEncryption")) {
+                            context.nextToken();
+                            createJobOutput
+                                    .setThumbnailEncryption(EncryptionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1841313413:
+                        if (fieldName.equals("Rotate")) {
+                            context.nextToken();
+                            createJobOutput.setRotate(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1212017542:
+                        if (fieldName.equals("PresetId")) {
+                            context.nextToken();
+                            createJobOutput.setPresetId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -303487545:
+                        if (fieldName.equals("SegmentDuration")) {
+                            context.nextToken();
+                            createJobOutput.setSegmentDuration(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -327712593:
+                        if (fieldName.equals("Watermarks")) {
+                            context.nextToken();
+                            createJobOutput
+                                    .setWatermarks(new ListUnmarshaller<JobWatermark>(
+                                            JobWatermarkJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1596693908:
+                        if (fieldName.equals("AlbumArt")) {
+                            context.nextToken();
+                            createJobOutput.setAlbumArt(JobAlbumArtJsonUnmarshaller
                                     .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Rotate", targetDepth)) {
-                    context.nextToken();
-                    createJobOutput.setRotate(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("PresetId", targetDepth)) {
-                    context.nextToken();
-                    createJobOutput.setPresetId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("SegmentDuration", targetDepth)) {
-                    context.nextToken();
-                    createJobOutput.setSegmentDuration(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Watermarks", targetDepth)) {
-                    context.nextToken();
-                    createJobOutput
-                            .setWatermarks(new ListUnmarshaller<JobWatermark>(
-                                    JobWatermarkJsonUnmarshaller.getInstance())
+                        }
+                        break;
+                    case 828944778:
+                        if (fieldName.equals("Composition")) {
+                            context.nextToken();
+                            createJobOutput.setComposition(new ListUnmarshaller<Clip>(
+                                    ClipJsonUnmarshaller.getInstance())
                                     .unmarshall(context));
-                }
-                if (context.testExpression("AlbumArt", targetDepth)) {
-                    context.nextToken();
-                    createJobOutput.setAlbumArt(JobAlbumArtJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Composition", targetDepth)) {
-                    context.nextToken();
-                    createJobOutput.setComposition(new ListUnmarshaller<Clip>(
-                            ClipJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Captions", targetDepth)) {
-                    context.nextToken();
-                    createJobOutput.setCaptions(CaptionsJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Encryption", targetDepth)) {
-                    context.nextToken();
-                    createJobOutput.setEncryption(EncryptionJsonUnmarshaller
-                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 14550893:
+                        if (fieldName.equals("Captions")) {
+                            context.nextToken();
+                            createJobOutput.setCaptions(CaptionsJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 480832419:
+                        if (fieldName.equals("Encryption")) {
+                            context.nextToken();
+                            createJobOutput.setEncryption(EncryptionJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,34 +53,49 @@ public class CreateJobPlaylistJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    createJobPlaylist.setName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Format", targetDepth)) {
-                    context.nextToken();
-                    createJobPlaylist.setFormat(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("OutputKeys", targetDepth)) {
-                    context.nextToken();
-                    createJobPlaylist
-                            .setOutputKeys(new ListUnmarshaller<String>(context
-                                    .getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("HlsContentProtection", targetDepth)) {
-                    context.nextToken();
-                    createJobPlaylist
-                            .setHlsContentProtection(HlsContentProtectionJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("PlayReadyDrm", targetDepth)) {
-                    context.nextToken();
-                    createJobPlaylist
-                            .setPlayReadyDrm(PlayReadyDrmJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            createJobPlaylist.setName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2110055447:
+                        if (fieldName.equals("Format")) {
+                            context.nextToken();
+                            createJobPlaylist.setFormat(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 719335093:
+                        if (fieldName.equals("OutputKeys")) {
+                            context.nextToken();
+                            createJobPlaylist
+                                    .setOutputKeys(new ListUnmarshaller<String>(context
+                                            .getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 141952035:
+                        if (fieldName.equals("HlsContentProtection")) {
+                            context.nextToken();
+                            createJobPlaylist
+                                    .setHlsContentProtection(HlsContentProtectionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1402962832:
+                        if (fieldName.equals("PlayReadyDrm")) {
+                            context.nextToken();
+                            createJobPlaylist
+                                    .setPlayReadyDrm(PlayReadyDrmJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
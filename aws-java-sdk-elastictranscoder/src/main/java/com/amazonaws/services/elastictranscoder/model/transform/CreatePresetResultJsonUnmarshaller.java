@@ -53,15 +53,24 @@ public class CreatePresetResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Preset", targetDepth)) {
-                    context.nextToken();
-                    createPresetResult.setPreset(PresetJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Warning", targetDepth)) {
-                    context.nextToken();
-                    createPresetResult.setWarning(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1896231169:
+                        if (fieldName.equals("Preset")) {
+                            context.nextToken();
+                            createPresetResult.setPreset(PresetJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1505867908:
+                        if (fieldName.equals("Warning")) {
+                            context.nextToken();
+                            createPresetResult.setWarning(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,30 +53,45 @@ public class DetectedPropertiesJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Width", targetDepth)) {
-                    context.nextToken();
-                    detectedProperties.setWidth(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Height", targetDepth)) {
-                    context.nextToken();
-                    detectedProperties.setHeight(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("FrameRate", targetDepth)) {
-                    context.nextToken();
-                    detectedProperties.setFrameRate(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("FileSize", targetDepth)) {
-                    context.nextToken();
-                    detectedProperties.setFileSize(context.getUnmarshaller(
-                            Long.class).unmarshall(context));
-                }
-                if (context.testExpression("DurationMillis", targetDepth)) {
-                    context.nextToken();
-                    detectedProperties.setDurationMillis(context
-                            .getUnmarshaller(Long.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 83574182:
+                        if (fieldName.equals("Width")) {
+                            context.nextToken();
+                            detectedProperties.setWidth(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -2137162425:
+                        if (fieldName.equals("Height")) {
+                            context.nextToken();
+                            detectedProperties.setHeight(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -1745941555:
+                        if (fieldName.equals("FrameRate")) {
+                            context.nextToken();
+                            detectedProperties.setFrameRate(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -670920771:
+                        if (fieldName.equals("FileSize")) {
+                            context.nextToken();
+                            detectedProperties.setFileSize(context.getUnmarshaller(
+                                    Long.class).unmarshall(context));
+                        }
+                        break;
+                    case -1462296294:
+                        if (fieldName.equals("DurationMillis")) {
+                            context.nextToken();
+                            detectedProperties.setDurationMillis(context
+                                    .getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,25 +53,38 @@ public class EncryptionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Mode", targetDepth)) {
-                    context.nextToken();
-                    encryption.setMode(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Key", targetDepth)) {
-                    context.nextToken();
-                    encryption.setKey(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("KeyMd5", targetDepth)) {
-                    context.nextToken();
-                    encryption.setKeyMd5(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("InitializationVector", targetDepth)) {
-                    context.nextToken();
-                    encryption.setInitializationVector(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2403779:
+                        if (fieldName.equals("Mode")) {
+                            context.nextToken();
+                            encryption.setMode(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 75327:
+                        if (fieldName.equals("Key")) {
+                            context.nextToken();
+                            encryption.setKey(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -2050823489:
+                        if (fieldName.equals("KeyMd5")) {
+                            context.nextToken();
+                            encryption.setKeyMd5(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1009287715:
+                        if (fieldName.equals("InitializationVector")) {
+                            context.nextToken();
+                            encryption.setInitializationVector(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,36 +53,52 @@ public class HlsContentProtectionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Method", targetDepth)) {
-                    context.nextToken();
-                    hlsContentProtection.setMethod(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Key", targetDepth)) {
-                    context.nextToken();
-                    hlsContentProtection.setKey(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("KeyMd5", targetDepth)) {
-                    context.nextToken();
-                    hlsContentProtection.setKeyMd5(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("InitializationVector", targetDepth)) {
-                    context.nextToken();
-                    hlsContentProtection.setInitializationVector(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("LicenseAcquisitionUrl", targetDepth)) {
-                    context.nextToken();
-                    hlsContentProtection.setLicenseAcquisitionUrl(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("KeyStoragePolicy", targetDepth)) {
-                    context.nextToken();
-                    hlsContentProtection.setKeyStoragePolicy(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1993687807:
+                        if (fieldName.equals("Method")) {
+                            context.nextToken();
+                            hlsContentProtection.setMethod(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 75327:
+                        if (fieldName.equals("Key")) {
+                            context.nextToken();
+                            hlsContentProtection.setKey(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -2050823489:
+                        if (fieldName.equals("KeyMd5")) {
+                            context.nextToken();
+                            hlsContentProtection.setKeyMd5(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1009287715:
+                        if (fieldName.equals("InitializationVector")) {
+                            context.nextToken();
+                            hlsContentProtection.setInitializationVector(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1749291299:
+                        if (fieldName.equals("LicenseAcquisitionUrl")) {
+                            context.nextToken();
+                            hlsContentProtection.setLicenseAcquisitionUrl(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -618122354:
+                        if (fieldName.equals("KeyStoragePolicy")) {
+                            context.nextToken();
+                            hlsContentProtection.setKeyStoragePolicy(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
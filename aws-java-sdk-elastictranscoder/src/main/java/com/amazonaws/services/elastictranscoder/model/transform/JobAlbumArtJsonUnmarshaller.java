@@ -53,16 +53,25 @@ public class JobAlbumArtJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("MergePolicy", targetDepth)) {
-                    context.nextToken();
-                    jobAlbumArt.setMergePolicy(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Artwork", targetDepth)) {
-                    context.nextToken();
-                    jobAlbumArt.setArtwork(new ListUnmarshaller<Artwork>(
-                            ArtworkJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1769853802:
+                        if (fieldName.equals("MergePolicy")) {
+                            context.nextToken();
+                            jobAlbumArt.setMergePolicy(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 932704212:
+                        if (fieldName.equals("Artwork")) {
+                            context.nextToken();
+                            jobAlbumArt.setArtwork(new ListUnmarshaller<Artwork>(
+                                    ArtworkJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,45 +53,66 @@ public class JobInputJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Key", targetDepth)) {
-                    context.nextToken();
-                    jobInput.setKey(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("FrameRate", targetDepth)) {
-                    context.nextToken();
-                    jobInput.setFrameRate(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Resolution", targetDepth)) {
-                    context.nextToken();
-                    jobInput.setResolution(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AspectRatio", targetDepth)) {
-                    context.nextToken();
-                    jobInput.setAspectRatio(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Interlaced", targetDepth)) {
-                    context.nextToken();
-                    jobInput.setInterlaced(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Container", targetDepth)) {
-                    context.nextToken();
-                    jobInput.setContainer(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Encryption", targetDepth)) {
-                    context.nextToken();
-                    jobInput.setEncryption(EncryptionJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("DetectedProperties", targetDepth)) {
-                    context.nextToken();
-                    jobInput.setDetectedProperties(DetectedPropertiesJsonUnmarshaller
-                            .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 75327:
+                        if (fieldName.equals("Key")) {
+                            context.nextToken();
+                            jobInput.setKey(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1745941555:
+                        if (fieldName.equals("FrameRate")) {
+                            context.nextToken();
+                            jobInput.setFrameRate(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 393434316:
+                        if (fieldName.equals("Resolution")) {
+                            context.nextToken();
+                            jobInput.setResolution(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1534924173:
+                        if (fieldName.equals("AspectRatio")) {
+                            context.nextToken();
+                            jobInput.setAspectRatio(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 400466801:
+                        if (fieldName.equals("Interlaced")) {
+                            context.nextToken();
+                            jobInput.setInterlaced(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1593011297:
+                        if (fieldName.equals("Container")) {
+                            context.nextToken();
+                            jobInput.setContainer(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 480832419:
+                        if (fieldName.equals("Encryption")) {
+                            context.nextToken();
+                            jobInput.setEncryption(EncryptionJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1851948683:
+                        if (fieldName.equals("DetectedProperties")) {
+                            context.nextToken();
+                            jobInput.setDetectedProperties(DetectedPropertiesJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -52,64 +52,91 @@ public class JobJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Id", targetDepth)) {
-                    context.nextToken();
-                    job.setId(context.getUnmarshaller(String.class).unmarshall(
-                            context));
-                }
-                if (context.testExpression("Arn", targetDepth)) {
-                    context.nextToken();
-                    job.setArn(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("PipelineId", targetDepth)) {
-                    context.nextToken();
-                    job.setPipelineId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Input", targetDepth)) {
-                    context.nextToken();
-                    job.setInput(JobInputJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Output", targetDepth)) {
-                    context.nextToken();
-                    job.setOutput(JobOutputJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Outputs", targetDepth)) {
-                    context.nextToken();
-                    job.setOutputs(new ListUnmarshaller<JobOutput>(
-                            JobOutputJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("OutputKeyPrefix", targetDepth)) {
-                    context.nextToken();
-                    job.setOutputKeyPrefix(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Playlists", targetDepth)) {
-                    context.nextToken();
-                    job.setPlaylists(new ListUnmarshaller<Playlist>(
-                            PlaylistJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    job.setStatus(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("UserMetadata", targetDepth)) {
-                    context.nextToken();
-                    job.setUserMetadata(new MapUnmarshaller<String, String>(
-                            context.getUnmarshaller(String.class), context
-                                    .getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Timing", targetDepth)) {
-                    context.nextToken();
-                    job.setTiming(TimingJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2363:
+                        if (fieldName.equals("Id")) {
+                            context.nextToken();
+                            job.setId(context.getUnmarshaller(String.class).unmarshall(
+                                    context));
+                        }
+                        break;
+                    case 66109:
+                        if (fieldName.equals("Arn")) {
+                            context.nextToken();
+                            job.setArn(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 916746109:
+                        if (fieldName.equals("PipelineId")) {
+                            context.nextToken();
+                            job.setPipelineId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 70805418:
+                        if (fieldName.equals("Input")) {
+                            context.nextToken();
+                            job.setInput(JobInputJsonUnmarshaller.getInstance()
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1921645279:
+                        if (fieldName.equals("Output")) {
+                            context.nextToken();
+                            job.setOutput(JobOutputJsonUnmarshaller.getInstance()
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 558538610:
+                        if (fieldName.equals("Outputs")) {
+                            context.nextToken();
+                            job.setOutputs(new ListUnmarshaller<JobOutput>(
+                                    JobOutputJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 530975152:
+                        if (fieldName.equals("OutputKeyPrefix")) {
+                            context.nextToken();
+                            job.setOutputKeyPrefix(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 138139841:
+                        if (fieldName.equals("Playlists")) {
+                            context.nextToken();
+                            job.setPlaylists(new ListUnmarshaller<Playlist>(
+                                    PlaylistJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1808614382:
+                        if (fieldName.equals("Status")) {
+                            context.nextToken();
+                            job.setStatus(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1053612998:
+                        if (fieldName.equals("UserMetadata")) {
+                            context.nextToken();
+                            job.setUserMetadata(new MapUnmarshaller<String, String>(
+                                    context.getUnmarshaller(String.class), context
+                                            .getUnmarshaller(String.class))
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1789797270:
+                        if (fieldName.equals("Timing")) {
+                            context.nextToken();
+                            job.setTiming(TimingJsonUnmarshaller.getInstance()
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
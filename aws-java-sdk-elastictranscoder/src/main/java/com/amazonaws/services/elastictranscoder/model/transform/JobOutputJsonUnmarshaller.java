@@ -53,113 +53,159 @@ public class JobOutputJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Id", targetDepth)) {
-                    context.nextToken();
-                    jobOutput.setId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Key", targetDepth)) {
-                    context.nextToken();
-                    jobOutput.setKey(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("ThumbnailPattern", targetDepth)) {
-                    context.nextToken();
-                    jobOutput.setThumbnailPattern(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ThumbnailEncryption", targetDepth)) {
-                    context.nextToken();
-                    jobOutput.setThumbnailEncryption(EncryptionJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Rotate", targetDepth)) {
-                    context.nextToken();
-                    jobOutput.setRotate(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("PresetId", targetDepth)) {
-                    context.nextToken();
-                    jobOutput.setPresetId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("SegmentDuration", targetDepth)) {
-                    context.nextToken();
-                    jobOutput.setSegmentDuration(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    jobOutput.setStatus(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("StatusDetail", targetDepth)) {
-                    context.nextToken();
-                    jobOutput.setStatusDetail(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Duration", targetDepth)) {
-                    context.nextToken();
-                    jobOutput.setDuration(context.getUnmarshaller(Long.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Width", targetDepth)) {
-                    context.nextToken();
-                    jobOutput.setWidth(context.getUnmarshaller(Integer.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Height", targetDepth)) {
-                    context.nextToken();
-                    jobOutput.setHeight(context.getUnmarshaller(Integer.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("FrameRate", targetDepth)) {
-                    context.nextToken();
-                    jobOutput.setFrameRate(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("FileSize", targetDepth)) {
-                    context.nextToken();
-                    jobOutput.setFileSize(context.getUnmarshaller(Long.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("DurationMillis", targetDepth)) {
-                    context.nextToken();
-                    jobOutput.setDurationMillis(context.getUnmarshaller(
-                            Long.class).unmarshall(context));
-                }
-                if (context.testExpression("Watermarks", targetDepth)) {
-                    context.nextToken();
-                    jobOutput.setWatermarks(new ListUnmarshaller<JobWatermark>(
-                            JobWatermarkJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("AlbumArt", targetDepth)) {
-                    context.nextToken();
-                    jobOutput.setAlbumArt(JobAlbumArtJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Composition", targetDepth)) {
-                    context.nextToken();
-                    jobOutput.setComposition(new ListUnmarshaller<Clip>(
-                            ClipJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Captions", targetDepth)) {
-                    context.nextToken();
-                    jobOutput.setCaptions(CaptionsJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Encryption", targetDepth)) {
-                    context.nextToken();
-                    jobOutput.setEncryption(EncryptionJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("AppliedColorSpaceConversion",
-                        targetDepth)) {
-                    context.nextToken();
-                    jobOutput.setAppliedColorSpaceConversion(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2363:
+                        if (fieldName.equals("Id")) {
+                            context.nextToken();
+                            jobOutput.setId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 75327:
+                        if (fieldName.equals("Key")) {
+                            context.nextToken();
+                            jobOutput.setKey(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1604135644:
+                        if (fieldName.equals("ThumbnailPattern")) {
+                            context.nextToken();
+                            jobOutput.setThumbnailPattern(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 668716399:
+                        if (fieldName.equals("ThumbnailEncryption")) {
+                            context.nextToken();
+                            jobOutput.setThumbnailEncryption(EncryptionJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1841313413:
+                        if (fieldName.equals("Rotate")) {
+                            context.nextToken();
+                            jobOutput.setRotate(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1212017542:
+                        if (fieldName.equals("PresetId")) {
+                            context.nextToken();
+                            jobOutput.setPresetId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -303487545:
+                        if (fieldName.equals("SegmentDuration")) {
+                            context.nextToken();
+                            jobOutput.setSegmentDuration(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1808614382:
+                        if (fieldName.equals("Status")) {
+                            context.nextToken();
+                            jobOutput.setStatus(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1815407363:
+                        if (fieldName.equals("StatusDetail")) {
+                            context.nextToken();
+                            jobOutput.setStatusDetail(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1927368268:
+                        if (fieldName.equals("Duration")) {
+                            context.nextToken();
+                            jobOutput.setDuration(context.getUnmarshaller(Long.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 83574182:
+                        if (fieldName.equals("Width")) {
+                            context.nextToken();
+                            jobOutput.setWidth(context.getUnmarshaller(Integer.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -2137162425:
+                        if (fieldName.equals("Height")) {
+                            context.nextToken();
+                            jobOutput.setHeight(context.getUnmarshaller(Integer.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1745941555:
+                        if (fieldName.equals("FrameRate")) {
+                            context.nextToken();
+                            jobOutput.setFrameRate(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -670920771:
+                        if (fieldName.equals("FileSize")) {
+                            context.nextToken();
+                            jobOutput.setFileSize(context.getUnmarshaller(Long.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1462296294:
+                        if (fieldName.equals("DurationMillis")) {
+                            context.nextToken();
+                            jobOutput.setDurationMillis(context.getUnmarshaller(
+                                    Long.class).unmarshall(context));
+                        }
+                        break;
+                    case -327712593:
+                        if (fieldName.equals("Watermarks")) {
+                            context.nextToken();
+                            jobOutput.setWatermarks(new ListUnmarshaller<JobWatermark>(
+                                    JobWatermarkJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1596693908:
+                        if (fieldName.equals("AlbumArt")) {
+                            context.nextToken();
+                            jobOutput.setAlbumArt(JobAlbumArtJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 828944778:
+                        if (fieldName.equals("Composition")) {
+                            context.nextToken();
+                            jobOutput.setComposition(new ListUnmarshaller<Clip>(
+                                    ClipJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 14550893:
+                        if (fieldName.equals("Captions")) {
+                            context.nextToken();
+                            jobOutput.setCaptions(CaptionsJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 480832419:
+                        if (fieldName.equals("Encryption")) {
+                            context.nextToken();
+                            jobOutput.setEncryption(EncryptionJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 285910230:
+                        if (fieldName.equals("AppliedColorSpaceConversion")) {
+                            context.nextToken();
+                            jobOutput.setAppliedColorSpaceConversion(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
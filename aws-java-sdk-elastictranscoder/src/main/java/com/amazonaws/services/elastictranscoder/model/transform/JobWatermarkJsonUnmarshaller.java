@@ -53,20 +53,31 @@ public class JobWatermarkJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("PresetWatermarkId", targetDepth)) {
-                    context.nextToken();
-                    jobWatermark.setPresetWatermarkId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("InputKey", targetDepth)) {
-                    context.nextToken();
-                    jobWatermark.setInputKey(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Encryption", targetDepth)) {
-                    context.nextToken();
-                    jobWatermark.setEncryption(EncryptionJsonUnmarshaller
-                            .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -890913760:
+                        if (fieldName.equals("PresetWatermarkId")) {
+                            context.nextToken();
+                            jobWatermark.setPresetWatermarkId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 535340629:
+                        if (fieldName.equals("InputKey")) {
+                            context.nextToken();
+                            jobWatermark.setInputKey(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 480832419:
+                        if (fieldName.equals("Encryption")) {
+                            context.nextToken();
+                            jobWatermark.setEncryption(EncryptionJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,16 +53,25 @@ public class ListJobsByStatusResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Jobs", targetDepth)) {
-                    context.nextToken();
-                    listJobsByStatusResult.setJobs(new ListUnmarshaller<Job>(
-                            JobJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("NextPageToken", targetDepth)) {
-                    context.nextToken();
-                    listJobsByStatusResult.setNextPageToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2314358:
+                        if (fieldName.equals("Jobs")) {
+                            context.nextToken();
+                            listJobsByStatusResult.setJobs(new ListUnmarshaller<Job>(
+                                    JobJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -587133225:
+                        if (fieldName.equals("NextPageToken")) {
+                            context.nextToken();
+                            listJobsByStatusResult.setNextPageToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
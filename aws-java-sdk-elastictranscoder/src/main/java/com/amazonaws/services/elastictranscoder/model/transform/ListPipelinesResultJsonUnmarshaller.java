@@ -53,17 +53,26 @@ public class ListPipelinesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Pipelines", targetDepth)) {
-                    context.nextToken();
-                    listPipelinesResult
-                            .setPipelines(new ListUnmarshaller<Pipeline>(
-                                    PipelineJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("NextPageToken", targetDepth)) {
-                    context.nextToken();
-                    listPipelinesResult.setNextPageToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -940258831:
+                        if (fieldName.equals("Pipelines")) {
+                            context.nextToken();
+                            listPipelinesResult
+                                    .setPipelines(new ListUnmarshaller<Pipeline>(
+                                            PipelineJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -587133225:
+                        if (fieldName.equals("NextPageToken")) {
+                            context.nextToken();
+                            listPipelinesResult.setNextPageToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,16 +53,25 @@ public class ListPresetsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Presets", targetDepth)) {
-                    context.nextToken();
-                    listPresetsResult.setPresets(new ListUnmarshaller<Preset>(
-                            PresetJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("NextPageToken", targetDepth)) {
-                    context.nextToken();
-                    listPresetsResult.setNextPageToken(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1346376020:
+                        if (fieldName.equals("Presets")) {
+                            context.nextToken();
+                            listPresetsResult.setPresets(new ListUnmarshaller<Preset>(
+                                    PresetJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -587133225:
+                        if (fieldName.equals("NextPageToken")) {
+                            context.nextToken();
+                            listPresetsResult.setNextPageToken(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
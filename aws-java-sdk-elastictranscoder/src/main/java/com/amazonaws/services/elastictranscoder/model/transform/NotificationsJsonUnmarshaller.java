@@ -53,25 +53,38 @@ public class NotificationsJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Progressing", targetDepth)) {
-                    context.nextToken();
-                    notifications.setProgressing(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Completed", targetDepth)) {
-                    context.nextToken();
-                    notifications.setCompleted(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Warning", targetDepth)) {
-                    context.nextToken();
-                    notifications.setWarning(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Error", targetDepth)) {
-                    context.nextToken();
-                    notifications.setError(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1495551371:
+                        if (fieldName.equals("Progressing")) {
+                            context.nextToken();
+                            notifications.setProgressing(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 601036331:
+                        if (fieldName.equals("Completed")) {
+                            context.nextToken();
+                            notifications.setCompleted(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1505867908:
+                        if (fieldName.equals("Warning")) {
+                            context.nextToken();
+                            notifications.setWarning(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 67232232:
+                        if (fieldName.equals("Error")) {
+                            context.nextToken();
+                            notifications.setError(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
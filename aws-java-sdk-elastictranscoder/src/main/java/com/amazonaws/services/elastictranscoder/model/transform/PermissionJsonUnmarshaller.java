@@ -53,22 +53,33 @@ public class PermissionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("GranteeType", targetDepth)) {
-                    context.nextToken();
-                    permission.setGranteeType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Grantee", targetDepth)) {
-                    context.nextToken();
-                    permission.setGrantee(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Access", targetDepth)) {
-                    context.nextToken();
-                    permission
-                            .setAccess(new ListUnmarshaller<String>(context
-                                    .getUnmarshaller(String.class))
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1892359178:
+                        if (fieldName.equals("GranteeType")) {
+                            context.nextToken();
+                            permission.setGranteeType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1944948380:
+                        if (fieldName.equals("Grantee")) {
+                            context.nextToken();
+                            permission.setGrantee(context.getUnmarshaller(String.class)
                                     .unmarshall(context));
+                        }
+                        break;
+                    case 1955373444:
+                        if (fieldName.equals("Access")) {
+                            context.nextToken();
+                            permission
+                                    .setAccess(new ListUnmarshaller<String>(context
+                                            .getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,60 +53,87 @@ public class PipelineJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Id", targetDepth)) {
-                    context.nextToken();
-                    pipeline.setId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Arn", targetDepth)) {
-                    context.nextToken();
-                    pipeline.setArn(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    pipeline.setName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    pipeline.setStatus(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("InputBucket", targetDepth)) {
-                    context.nextToken();
-                    pipeline.setInputBucket(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("OutputBucket", targetDepth)) {
-                    context.nextToken();
-                    pipeline.setOutputBucket(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Role", targetDepth)) {
-                    context.nextToken();
-                    pipeline.setRole(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("AwsKmsKeyArn", targetDepth)) {
-                    context.nextToken();
-                    pipeline.setAwsKmsKeyArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Notifications", targetDepth)) {
-                    context.nextToken();
-                    pipeline.setNotifications(NotificationsJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ContentConfig", targetDepth)) {
-                    context.nextToken();
-                    pipeline.setContentConfig(PipelineOutputConfigJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ThumbnailConfig", targetDepth)) {
-                    context.nextToken();
-                    pipeline.setThumbnailConfig(PipelineOutputConfigJsonUnmarshaller
-                            .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2363:
+                        if (fieldName.equals("Id")) {
+                            context.nextToken();
+                            pipeline.setId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 66109:
+                        if (fieldName.equals("Arn")) {
+                            context.nextToken();
+                            pipeline.setArn(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            pipeline.setName(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1808614382:
+                        if (fieldName.equals("Status")) {
+                            context.nextToken();
+                            pipeline.setStatus(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 875673140:
+                        if (fieldName.equals("InputBucket")) {
+                            context.nextToken();
+                            pipeline.setInputBucket(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -452256149:
+                        if (fieldName.equals("OutputBucket")) {
+                            context.nextToken();
+                            pipeline.setOutputBucket(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2552982:
+                        if (fieldName.equals("Role")) {
+                            context.nextToken();
+                            pipeline.setRole(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -612113454:
+                        if (fieldName.equals("AwsKmsKeyArn")) {
+                            context.nextToken();
+                            pipeline.setAwsKmsKeyArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2071315656:
+                        if (fieldName.equals("Notifications")) {
+                            context.nextToken();
+                            pipeline.setNotifications(NotificationsJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 9819387:
+                        if (fieldName.equals("ContentConfig")) {
+                            context.nextToken();
+                            pipeline.setContentConfig(PipelineOutputConfigJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 281548590:
+                        if (fieldName.equals("ThumbnailConfig")) {
+                            context.nextToken();
+                            pipeline.setThumbnailConfig(PipelineOutputConfigJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
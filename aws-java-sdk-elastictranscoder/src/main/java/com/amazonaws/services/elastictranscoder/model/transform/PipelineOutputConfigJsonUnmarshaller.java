@@ -53,22 +53,33 @@ public class PipelineOutputConfigJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Bucket", targetDepth)) {
-                    context.nextToken();
-                    pipelineOutputConfig.setBucket(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("StorageClass", targetDepth)) {
-                    context.nextToken();
-                    pipelineOutputConfig.setStorageClass(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Permissions", targetDepth)) {
-                    context.nextToken();
-                    pipelineOutputConfig
-                            .setPermissions(new ListUnmarshaller<Permission>(
-                                    PermissionJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2000631306:
+                        if (fieldName.equals("Bucket")) {
+                            context.nextToken();
+                            pipelineOutputConfig.setBucket(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1035673565:
+                        if (fieldName.equals("StorageClass")) {
+                            context.nextToken();
+                            pipelineOutputConfig.setStorageClass(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1493394332:
+                        if (fieldName.equals("Permissions")) {
+                            context.nextToken();
+                            pipelineOutputConfig
+                                    .setPermissions(new ListUnmarshaller<Permission>(
+                                            PermissionJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
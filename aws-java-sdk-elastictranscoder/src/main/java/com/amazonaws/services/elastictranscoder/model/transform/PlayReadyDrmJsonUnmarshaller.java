@@ -53,36 +53,52 @@ public class PlayReadyDrmJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Format", targetDepth)) {
-                    context.nextToken();
-                    playReadyDrm.setFormat(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Key", targetDepth)) {
-                    context.nextToken();
-                    playReadyDrm.setKey(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("KeyMd5", targetDepth)) {
-                    context.nextToken();
-                    playReadyDrm.setKeyMd5(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("KeyId", targetDepth)) {
-                    context.nextToken();
-                    playReadyDrm.setKeyId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("InitializationVector", targetDepth)) {
-                    context.nextToken();
-                    playReadyDrm.setInitializationVector(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("LicenseAcquisitionUrl", targetDepth)) {
-                    context.nextToken();
-                    playReadyDrm.setLicenseAcquisitionUrl(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2110055447:
+                        if (fieldName.equals("Format")) {
+                            context.nextToken();
+                            playReadyDrm.setFormat(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 75327:
+                        if (fieldName.equals("Key")) {
+                            context.nextToken();
+                            playReadyDrm.setKey(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -2050823489:
+                        if (fieldName.equals("KeyMd5")) {
+                            context.nextToken();
+                            playReadyDrm.setKeyMd5(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 72391610:
+                        if (fieldName.equals("KeyId")) {
+                            context.nextToken();
+                            playReadyDrm.setKeyId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1009287715:
+                        if (fieldName.equals("InitializationVector")) {
+                            context.nextToken();
+                            playReadyDrm.setInitializationVector(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1749291299:
+                        if (fieldName.equals("LicenseAcquisitionUrl")) {
+                            context.nextToken();
+                            playReadyDrm.setLicenseAcquisitionUrl(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
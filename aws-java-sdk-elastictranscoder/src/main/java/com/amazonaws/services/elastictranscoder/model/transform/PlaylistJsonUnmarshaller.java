@@ -53,40 +53,59 @@ public class PlaylistJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    playlist.setName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Format", targetDepth)) {
-                    context.nextToken();
-                    playlist.setFormat(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("OutputKeys", targetDepth)) {
-                    context.nextToken();
-                    playlist.setOutputKeys(new ListUnmarshaller<String>(context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("HlsContentProtection", targetDepth)) {
-                    context.nextToken();
-                    playlist.setHlsContentProtection(HlsContentProtectionJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("PlayReadyDrm", targetDepth)) {
-                    context.nextToken();
-                    playlist.setPlayReadyDrm(PlayReadyDrmJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    playlist.setStatus(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("StatusDetail", targetDepth)) {
-                    context.nextToken();
-                    playlist.setStatusDetail(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            playlist.setName(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 2110055447:
+                        if (fieldName.equals("Format")) {
+                            context.nextToken();
+                            playlist.setFormat(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 719335093:
+                        if (fieldName.equals("OutputKeys")) {
+                            context.nextToken();
+                            playlist.setOutputKeys(new ListUnmarshaller<String>(context
+                                    .getUnmarshaller(String.class)).unmarshall(context));
+                        }
+                        break;
+                    case 141952035:
+                        if (fieldName.equals("HlsContentProtection")) {
+                            context.nextToken();
+                            playlist.setHlsContentProtection(HlsContentProtectionJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1402962832:
+                        if (fieldName.equals("PlayReadyDrm")) {
+                            context.nextToken();
+                            playlist.setPlayReadyDrm(PlayReadyDrmJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1808614382:
+                        if (fieldName.equals("Status")) {
+                            context.nextToken();
+                            playlist.setStatus(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1815407363:
+                        if (fieldName.equals("StatusDetail")) {
+                            context.nextToken();
+                            playlist.setStatusDetail(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
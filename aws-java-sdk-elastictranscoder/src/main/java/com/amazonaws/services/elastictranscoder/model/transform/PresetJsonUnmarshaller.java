@@ -52,50 +52,73 @@ public class PresetJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Id", targetDepth)) {
-                    context.nextToken();
-                    preset.setId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Arn", targetDepth)) {
-                    context.nextToken();
-                    preset.setArn(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    preset.setName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Description", targetDepth)) {
-                    context.nextToken();
-                    preset.setDescription(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Container", targetDepth)) {
-                    context.nextToken();
-                    preset.setContainer(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Audio", targetDepth)) {
-                    context.nextToken();
-                    preset.setAudio(AudioParametersJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Video", targetDepth)) {
-                    context.nextToken();
-                    preset.setVideo(VideoParametersJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Thumbnails", targetDepth)) {
-                    context.nextToken();
-                    preset.setThumbnails(ThumbnailsJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Type", targetDepth)) {
-                    context.nextToken();
-                    preset.setType(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2363:
+                        if (fieldName.equals("Id")) {
+                            context.nextToken();
+                            preset.setId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 66109:
+                        if (fieldName.equals("Arn")) {
+                            context.nextToken();
+                            preset.setArn(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            preset.setName(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -56677412:
+                        if (fieldName.equals("Description")) {
+                            context.nextToken();
+                            preset.setDescription(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1593011297:
+                        if (fieldName.equals("Container")) {
+                            context.nextToken();
+                            preset.setContainer(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 63613878:
+                        if (fieldName.equals("Audio")) {
+                            context.nextToken();
+                            preset.setAudio(AudioParametersJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 82650203:
+                        if (fieldName.equals("Video")) {
+                            context.nextToken();
+                            preset.setVideo(VideoParametersJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 290302247:
+                        if (fieldName.equals("Thumbnails")) {
+                            context.nextToken();
+                            preset.setThumbnails(ThumbnailsJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 2622298:
+                        if (fieldName.equals("Type")) {
+                            context.nextToken();
+                            preset.setType(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
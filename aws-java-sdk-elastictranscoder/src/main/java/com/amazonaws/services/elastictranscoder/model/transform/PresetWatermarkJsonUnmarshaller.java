@@ -53,55 +53,80 @@ public class PresetWatermarkJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Id", targetDepth)) {
-                    context.nextToken();
-                    presetWatermark.setId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("MaxWidth", targetDepth)) {
-                    context.nextToken();
-                    presetWatermark.setMaxWidth(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("MaxHeight", targetDepth)) {
-                    context.nextToken();
-                    presetWatermark.setMaxHeight(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("SizingPolicy", targetDepth)) {
-                    context.nextToken();
-                    presetWatermark.setSizingPolicy(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("HorizontalAlign", targetDepth)) {
-                    context.nextToken();
-                    presetWatermark.setHorizontalAlign(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("HorizontalOffset", targetDepth)) {
-                    context.nextToken();
-                    presetWatermark.setHorizontalOffset(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VerticalAlign", targetDepth)) {
-                    context.nextToken();
-                    presetWatermark.setVerticalAlign(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("VerticalOffset", targetDepth)) {
-                    context.nextToken();
-                    presetWatermark.setVerticalOffset(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Opacity", targetDepth)) {
-                    context.nextToken();
-                    presetWatermark.setOpacity(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Target", targetDepth)) {
-                    context.nextToken();
-                    presetWatermark.setTarget(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2363:
+                        if (fieldName.equals("Id")) {
+                            context.nextToken();
+                            presetWatermark.setId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 465025762:
+                        if (fieldName.equals("MaxWidth")) {
+                            context.nextToken();
+                            presetWatermark.setMaxWidth(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1097901963:
+                        if (fieldName.equals("MaxHeight")) {
+                            context.nextToken();
+                            presetWatermark.setMaxHeight(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1168969584:
+                        if (fieldName.equals("SizingPolicy")) {
+                            context.nextToken();
+                            presetWatermark.setSizingPolicy(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 44681505:
+                        if (fieldName.equals("HorizontalAlign")) {
+                            context.nextToken();
+                            presetWatermark.setHorizontalAlign(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1780315639:
+                        if (fieldName.equals("HorizontalOffset")) {
+                            context.nextToken();
+                            presetWatermark.setHorizontalOffset(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -340940529:
+                        if (fieldName.equals("VerticalAlign")) {
+                            context.nextToken();
+                            presetWatermark.setVerticalAlign(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1584032823:
+                        if (fieldName.equals("VerticalOffset")) {
+                            context.nextToken();
+                            presetWatermark.setVerticalOffset(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 397447147:
+                        if (fieldName.equals("Opacity")) {
+                            context.nextToken();
+                            presetWatermark.setOpacity(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1797038671:
+                        if (fieldName.equals("Target")) {
+                            context.nextToken();
+                            presetWatermark.setTarget(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,10 +53,17 @@ public class ReadJobResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Job", targetDepth)) {
-                    context.nextToken();
-                    readJobResult.setJob(JobJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 74653:
+                        if (fieldName.equals("Job")) {
+                            context.nextToken();
+                            readJobResult.setJob(JobJsonUnmarshaller.getInstance()
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
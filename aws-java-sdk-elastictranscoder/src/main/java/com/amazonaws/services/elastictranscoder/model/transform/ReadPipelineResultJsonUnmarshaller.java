@@ -53,17 +53,26 @@ public class ReadPipelineResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Pipeline", targetDepth)) {
-                    context.nextToken();
-                    readPipelineResult.setPipeline(PipelineJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Warnings", targetDepth)) {
-                    context.nextToken();
-                    readPipelineResult
-                            .setWarnings(new ListUnmarshaller<Warning>(
-                                    WarningJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -307425598:
+                        if (fieldName.equals("Pipeline")) {
+                            context.nextToken();
+                            readPipelineResult.setPipeline(PipelineJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 562735223:
+                        if (fieldName.equals("Warnings")) {
+                            context.nextToken();
+                            readPipelineResult
+                                    .setWarnings(new ListUnmarshaller<Warning>(
+                                            WarningJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
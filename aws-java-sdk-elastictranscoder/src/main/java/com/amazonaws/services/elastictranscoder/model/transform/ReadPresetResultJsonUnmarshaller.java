@@ -53,10 +53,17 @@ public class ReadPresetResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Preset", targetDepth)) {
-                    context.nextToken();
-                    readPresetResult.setPreset(PresetJsonUnmarshaller
-                            .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1896231169:
+                        if (fieldName.equals("Preset")) {
+                            context.nextToken();
+                            readPresetResult.setPreset(PresetJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,16 +53,25 @@ public class TestRoleResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Success", targetDepth)) {
-                    context.nextToken();
-                    testRoleResult.setSuccess(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Messages", targetDepth)) {
-                    context.nextToken();
-                    testRoleResult.setMessages(new ListUnmarshaller<String>(
-                            context.getUnmarshaller(String.class))
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -202516509:
+                        if (fieldName.equals("Success")) {
+                            context.nextToken();
+                            testRoleResult.setSuccess(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -397449876:
+                        if (fieldName.equals("Messages")) {
+                            context.nextToken();
+                            testRoleResult.setMessages(new ListUnmarshaller<String>(
+                                    context.getUnmarshaller(String.class))
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,45 +53,66 @@ public class ThumbnailsJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Format", targetDepth)) {
-                    context.nextToken();
-                    thumbnails.setFormat(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Interval", targetDepth)) {
-                    context.nextToken();
-                    thumbnails.setInterval(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Resolution", targetDepth)) {
-                    context.nextToken();
-                    thumbnails.setResolution(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("AspectRatio", targetDepth)) {
-                    context.nextToken();
-                    thumbnails.setAspectRatio(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("MaxWidth", targetDepth)) {
-                    context.nextToken();
-                    thumbnails.setMaxWidth(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MaxHeight", targetDepth)) {
-                    context.nextToken();
-                    thumbnails.setMaxHeight(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("SizingPolicy", targetDepth)) {
-                    context.nextToken();
-                    thumbnails.setSizingPolicy(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("PaddingPolicy", targetDepth)) {
-                    context.nextToken();
-                    thumbnails.setPaddingPolicy(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2110055447:
+                        if (fieldName.equals("Format")) {
+                            context.nextToken();
+                            thumbnails.setFormat(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 635062501:
+                        if (fieldName.equals("Interval")) {
+                            context.nextToken();
+                            thumbnails.setInterval(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 393434316:
+                        if (fieldName.equals("Resolution")) {
+                            context.nextToken();
+                            thumbnails.setResolution(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1534924173:
+                        if (fieldName.equals("AspectRatio")) {
+                            context.nextToken();
+                            thumbnails.setAspectRatio(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 465025762:
+                        if (fieldName.equals("MaxWidth")) {
+                            context.nextToken();
+                            thumbnails.setMaxWidth(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1097901963:
+                        if (fieldName.equals("MaxHeight")) {
+                            context.nextToken();
+                            thumbnails.setMaxHeight(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1168969584:
+                        if (fieldName.equals("SizingPolicy")) {
+                            context.nextToken();
+                            thumbnails.setSizingPolicy(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1401875587:
+                        if (fieldName.equals("PaddingPolicy")) {
+                            context.nextToken();
+                            thumbnails.setPaddingPolicy(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class TimeSpanJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StartTime", targetDepth)) {
-                    context.nextToken();
-                    timeSpan.setStartTime(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Duration", targetDepth)) {
-                    context.nextToken();
-                    timeSpan.setDuration(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -125326801:
+                        if (fieldName.equals("StartTime")) {
+                            context.nextToken();
+                            timeSpan.setStartTime(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1927368268:
+                        if (fieldName.equals("Duration")) {
+                            context.nextToken();
+                            timeSpan.setDuration(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -52,20 +52,31 @@ public class TimingJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SubmitTimeMillis", targetDepth)) {
-                    context.nextToken();
-                    timing.setSubmitTimeMillis(context.getUnmarshaller(
-                            Long.class).unmarshall(context));
-                }
-                if (context.testExpression("StartTimeMillis", targetDepth)) {
-                    context.nextToken();
-                    timing.setStartTimeMillis(context.getUnmarshaller(
-                            Long.class).unmarshall(context));
-                }
-                if (context.testExpression("FinishTimeMillis", targetDepth)) {
-                    context.nextToken();
-                    timing.setFinishTimeMillis(context.getUnmarshaller(
-                            Long.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1929440715:
+                        if (fieldName.equals("SubmitTimeMillis")) {
+                            context.nextToken();
+                            timing.setSubmitTimeMillis(context.getUnmarshaller(
+                                    Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 1514443093:
+                        if (fieldName.equals("StartTimeMillis")) {
+                            context.nextToken();
+                            timing.setStartTimeMillis(context.getUnmarshaller(
+                                    Long.class).unmarshall(context));
+                        }
+                        break;
+                    case -153019258:
+                        if (fieldName.equals("FinishTimeMillis")) {
+                            context.nextToken();
+                            timing.setFinishTimeMillis(context.getUnmarshaller(
+                                    Long.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,11 +54,18 @@ public class UpdatePipelineNotificationsResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Pipeline", targetDepth)) {
-                    context.nextToken();
-                    updatePipelineNotificationsResult
-                            .setPipeline(PipelineJsonUnmarshaller.getInstance()
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -307425598:
+                        if (fieldName.equals("Pipeline")) {
+                            context.nextToken();
+                            updatePipelineNotificationsResult
+                                    .setPipeline(PipelineJsonUnmarshaller.getInstance()
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,85 +53,120 @@ public class VideoParametersJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Codec", targetDepth)) {
-                    context.nextToken();
-                    videoParameters.setCodec(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("CodecOptions", targetDepth)) {
-                    context.nextToken();
-                    videoParameters
-                            .setCodecOptions(new MapUnmarshaller<String, String>(
-                                    context.getUnmarshaller(String.class),
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("KeyframesMaxDist", targetDepth)) {
-                    context.nextToken();
-                    videoParameters.setKeyframesMaxDist(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("FixedGOP", targetDepth)) {
-                    context.nextToken();
-                    videoParameters.setFixedGOP(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("BitRate", targetDepth)) {
-                    context.nextToken();
-                    videoParameters.setBitRate(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("FrameRate", targetDepth)) {
-                    context.nextToken();
-                    videoParameters.setFrameRate(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("MaxFrameRate", targetDepth)) {
-                    context.nextToken();
-                    videoParameters.setMaxFrameRate(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Resolution", targetDepth)) {
-                    context.nextToken();
-                    videoParameters.setResolution(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("AspectRatio", targetDepth)) {
-                    context.nextToken();
-                    videoParameters.setAspectRatio(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("MaxWidth", targetDepth)) {
-                    context.nextToken();
-                    videoParameters.setMaxWidth(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("MaxHeight", targetDepth)) {
-                    context.nextToken();
-                    videoParameters.setMaxHeight(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("DisplayAspectRatio", targetDepth)) {
-                    context.nextToken();
-                    videoParameters.setDisplayAspectRatio(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SizingPolicy", targetDepth)) {
-                    context.nextToken();
-                    videoParameters.setSizingPolicy(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("PaddingPolicy", targetDepth)) {
-                    context.nextToken();
-                    videoParameters.setPaddingPolicy(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Watermarks", targetDepth)) {
-                    context.nextToken();
-                    videoParameters
-                            .setWatermarks(new ListUnmarshaller<PresetWatermark>(
-                                    PresetWatermarkJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 65282038:
+                        if (fieldName.equals("Codec")) {
+                            context.nextToken();
+                            videoParameters.setCodec(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1020576312:
+                        if (fieldName.equals("CodecOptions")) {
+                            context.nextToken();
+                            videoParameters
+                                    .setCodecOptions(new MapUnmarshaller<String, String>(
+                                            context.getUnmarshaller(String.class),
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -318326331:
+                        if (fieldName.equals("KeyframesMaxDist")) {
+                            context.nextToken();
+                            videoParameters.setKeyframesMaxDist(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -326898540:
+                        if (fieldName.equals("FixedGOP")) {
+                            context.nextToken();
+                            videoParameters.setFixedGOP(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1561429869:
+                        if (fieldName.equals("BitRate")) {
+                            context.nextToken();
+                            videoParameters.setBitRate(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1745941555:
+                        if (fieldName.equals("FrameRate")) {
+                            context.nextToken();
+                            videoParameters.setFrameRate(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -713913591:
+                        if (fieldName.equals("MaxFrameRate")) {
+                            context.nextToken();
+                            videoParameters.setMaxFrameRate(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 393434316:
+                        if (fieldName.equals("Resolution")) {
+                            context.nextToken();
+                            videoParameters.setResolution(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1534924173:
+                        if (fieldName.equals("AspectRatio")) {
+                            context.nextToken();
+                            videoParameters.setAspectRatio(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 465025762:
+                        if (fieldName.equals("MaxWidth")) {
+                            context.nextToken();
+                            videoParameters.setMaxWidth(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1097901963:
+                        if (fieldName.equals("MaxHeight")) {
+                            context.nextToken();
+                            videoParameters.setMaxHeight(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -509484911:
+                        if (fieldName.equals("DisplayAspectRatio")) {
+                            context.nextToken();
+                            videoParameters.setDisplayAspectRatio(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1168969584:
+                        if (fieldName.equals("SizingPolicy")) {
+                            context.nextToken();
+                            videoParameters.setSizingPolicy(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1401875587:
+                        if (fieldName.equals("PaddingPolicy")) {
+                            context.nextToken();
+                            videoParameters.setPaddingPolicy(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -327712593:
+                        if (fieldName.equals("Watermarks")) {
+                            context.nextToken();
+                            videoParameters
+                                    .setWatermarks(new ListUnmarshaller<PresetWatermark>(
+                                            PresetWatermarkJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
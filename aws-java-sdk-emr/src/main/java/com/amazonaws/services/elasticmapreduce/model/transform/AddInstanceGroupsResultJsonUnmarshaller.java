@@ -53,17 +53,26 @@ public class AddInstanceGroupsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("JobFlowId", targetDepth)) {
-                    context.nextToken();
-                    addInstanceGroupsResult.setJobFlowId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceGroupIds", targetDepth)) {
-                    context.nextToken();
-                    addInstanceGroupsResult
-                            .setInstanceGroupIds(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1540973338:
+                        if (fieldName.equals("JobFlowId")) {
+                            context.nextToken();
+                            addInstanceGroupsResult.setJobFlowId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1994652558:
+                        if (fieldName.equals("InstanceGroupIds")) {
+                            context.nextToken();
+                            addInstanceGroupsResult
+                                    .setInstanceGroupIds(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
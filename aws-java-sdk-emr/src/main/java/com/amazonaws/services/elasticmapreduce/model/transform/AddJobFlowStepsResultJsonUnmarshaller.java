@@ -53,12 +53,19 @@ public class AddJobFlowStepsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StepIds", targetDepth)) {
-                    context.nextToken();
-                    addJobFlowStepsResult
-                            .setStepIds(new ListUnmarshaller<String>(context
-                                    .getUnmarshaller(String.class))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -228938708:
+                        if (fieldName.equals("StepIds")) {
+                            context.nextToken();
+                            addJobFlowStepsResult
+                                    .setStepIds(new ListUnmarshaller<String>(context
+                                            .getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,25 @@ public class BootstrapActionConfigJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    bootstrapActionConfig.setName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("ScriptBootstrapAction", targetDepth)) {
-                    context.nextToken();
-                    bootstrapActionConfig
-                            .setScriptBootstrapAction(ScriptBootstrapActionConfigJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            bootstrapActionConfig.setName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -260811303:
+                        if (fieldName.equals("ScriptBootstrapAction")) {
+                            context.nextToken();
+                            bootstrapActionConfig
+                                    .setScriptBootstrapAction(ScriptBootstrapActionConfigJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,12 +53,18 @@ public class BootstrapActionDetailJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context
-                        .testExpression("BootstrapActionConfig", targetDepth)) {
-                    context.nextToken();
-                    bootstrapActionDetail
-                            .setBootstrapActionConfig(BootstrapActionConfigJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1708643706:
+                        if (fieldName.equals("BootstrapActionConfig")) {
+                            context.nextToken();
+                            bootstrapActionDetail
+                                    .setBootstrapActionConfig(BootstrapActionConfigJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
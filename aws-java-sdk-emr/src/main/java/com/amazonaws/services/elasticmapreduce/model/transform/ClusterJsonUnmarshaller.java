@@ -52,95 +52,132 @@ public class ClusterJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Id", targetDepth)) {
-                    context.nextToken();
-                    cluster.setId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    cluster.setName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    cluster.setStatus(ClusterStatusJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context
-                        .testExpression("Ec2InstanceAttributes", targetDepth)) {
-                    context.nextToken();
-                    cluster.setEc2InstanceAttributes(Ec2InstanceAttributesJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("LogUri", targetDepth)) {
-                    context.nextToken();
-                    cluster.setLogUri(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("RequestedAmiVersion", targetDepth)) {
-                    context.nextToken();
-                    cluster.setRequestedAmiVersion(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("RunningAmiVersion", targetDepth)) {
-                    context.nextToken();
-                    cluster.setRunningAmiVersion(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ReleaseLabel", targetDepth)) {
-                    context.nextToken();
-                    cluster.setReleaseLabel(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("AutoTerminate", targetDepth)) {
-                    context.nextToken();
-                    cluster.setAutoTerminate(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("TerminationProtected", targetDepth)) {
-                    context.nextToken();
-                    cluster.setTerminationProtected(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("VisibleToAllUsers", targetDepth)) {
-                    context.nextToken();
-                    cluster.setVisibleToAllUsers(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("Applications", targetDepth)) {
-                    context.nextToken();
-                    cluster.setApplications(new ListUnmarshaller<Application>(
-                            ApplicationJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Tags", targetDepth)) {
-                    context.nextToken();
-                    cluster.setTags(new ListUnmarshaller<Tag>(
-                            TagJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("ServiceRole", targetDepth)) {
-                    context.nextToken();
-                    cluster.setServiceRole(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("NormalizedInstanceHours",
-                        targetDepth)) {
-                    context.nextToken();
-                    cluster.setNormalizedInstanceHours(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("MasterPublicDnsName", targetDepth)) {
-                    context.nextToken();
-                    cluster.setMasterPublicDnsName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Configurations", targetDepth)) {
-                    context.nextToken();
-                    cluster.setConfigurations(new ListUnmarshaller<Configuration>(
-                            ConfigurationJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2363:
+                        if (fieldName.equals("Id")) {
+                            context.nextToken();
+                            cluster.setId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            cluster.setName(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1808614382:
+                        if (fieldName.equals("Status")) {
+                            context.nextToken();
+                            cluster.setStatus(ClusterStatusJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1055132192:
+                        if (fieldName.equals("Ec2InstanceAttributes")) {
+                            context.nextToken();
+                            cluster.setEc2InstanceAttributes(Ec2InstanceAttributesJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -2013487192:
+                        if (fieldName.equals("LogUri")) {
+                            context.nextToken();
+                            cluster.setLogUri(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1944680887:
+                        if (fieldName.equals("RequestedAmiVersion")) {
+                            context.nextToken();
+                            cluster.setRequestedAmiVersion(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -586118310:
+                        if (fieldName.equals("RunningAmiVersion")) {
+                            context.nextToken();
+                            cluster.setRunningAmiVersion(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1819170995:
+                        if (fieldName.equals("ReleaseLabel")) {
+                            context.nextToken();
+                            cluster.setReleaseLabel(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1740318034:
+                        if (fieldName.equals("AutoTerminate")) {
+                            context.nextToken();
+                            cluster.setAutoTerminate(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case -773677782:
+                        if (fieldName.equals("TerminationProtected")) {
+                            context.nextToken();
+                            cluster.setTerminationProtected(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case -888967564:
+                        if (fieldName.equals("VisibleToAllUsers")) {
+                            context.nextToken();
+                            cluster.setVisibleToAllUsers(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 1101527363:
+                        if (fieldName.equals("Applications")) {
+                            context.nextToken();
+                            cluster.setApplications(new ListUnmarshaller<Application>(
+                                    ApplicationJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 2598969:
+                        if (fieldName.equals("Tags")) {
+                            context.nextToken();
+                            cluster.setTags(new ListUnmarshaller<Tag>(
+                                    TagJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -260570965:
+                        if (fieldName.equals("ServiceRole")) {
+                            context.nextToken();
+                            cluster.setServiceRole(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 630072739:
+                        if (fieldName.equals("NormalizedInstanceHours")) {
+                            context.nextToken();
+                            cluster.setNormalizedInstanceHours(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -1184300727:
+                        if (fieldName.equals("MasterPublicDnsName")) {
+                            context.nextToken();
+                            cluster.setMasterPublicDnsName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1216219555:
+                        if (fieldName.equals("Configurations")) {
+                            context.nextToken();
+                            cluster.setConfigurations(new ListUnmarshaller<Configuration>(
+                                    ConfigurationJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,21 +53,32 @@ public class ClusterTimelineJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CreationDateTime", targetDepth)) {
-                    context.nextToken();
-                    clusterTimeline.setCreationDateTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("ReadyDateTime", targetDepth)) {
-                    context.nextToken();
-                    clusterTimeline.setReadyDateTime(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("EndDateTime", targetDepth)) {
-                    context.nextToken();
-                    clusterTimeline.setEndDateTime(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 659158970:
+                        if (fieldName.equals("CreationDateTime")) {
+                            context.nextToken();
+                            clusterTimeline.setCreationDateTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case -915125698:
+                        if (fieldName.equals("ReadyDateTime")) {
+                            context.nextToken();
+                            clusterTimeline.setReadyDateTime(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 1923332470:
+                        if (fieldName.equals("EndDateTime")) {
+                            context.nextToken();
+                            clusterTimeline.setEndDateTime(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
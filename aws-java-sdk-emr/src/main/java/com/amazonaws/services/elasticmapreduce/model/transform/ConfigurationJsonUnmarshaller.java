@@ -53,25 +53,36 @@ public class ConfigurationJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Classification", targetDepth)) {
-                    context.nextToken();
-                    configuration.setClassification(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Configurations", targetDepth)) {
-                    context.nextToken();
-                    configuration
-                            .setConfigurations(new ListUnmarshaller<Configuration>(
-                                    ConfigurationJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("Properties", targetDepth)) {
-                    context.nextToken();
-                    configuration
-                            .setProperties(new MapUnmarshaller<String, String>(
-                                    context.getUnmarshaller(String.class),
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -619642874:
+                        if (fieldName.equals("Classification")) {
+                            context.nextToken();
+                            configuration.setClassification(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1216219555:
+                        if (fieldName.equals("Configurations")) {
+                            context.nextToken();
+                            configuration
+                                    .setConfigurations(new ListUnmarshaller<Configuration>(
+                                            ConfigurationJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1067411795:
+                        if (fieldName.equals("Properties")) {
+                            context.nextToken();
+                            configuration
+                                    .setProperties(new MapUnmarshaller<String, String>(
+                                            context.getUnmarshaller(String.class),
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,10 +53,17 @@ public class DescribeClusterResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Cluster", targetDepth)) {
-                    context.nextToken();
-                    describeClusterResult.setCluster(ClusterJsonUnmarshaller
-                            .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1758221862:
+                        if (fieldName.equals("Cluster")) {
+                            context.nextToken();
+                            describeClusterResult.setCluster(ClusterJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
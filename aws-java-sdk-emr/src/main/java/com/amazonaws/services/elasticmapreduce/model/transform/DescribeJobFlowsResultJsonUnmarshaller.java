@@ -53,12 +53,19 @@ public class DescribeJobFlowsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("JobFlows", targetDepth)) {
-                    context.nextToken();
-                    describeJobFlowsResult
-                            .setJobFlows(new ListUnmarshaller<JobFlowDetail>(
-                                    JobFlowDetailJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1573729432:
+                        if (fieldName.equals("JobFlows")) {
+                            context.nextToken();
+                            describeJobFlowsResult
+                                    .setJobFlows(new ListUnmarshaller<JobFlowDetail>(
+                                            JobFlowDetailJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
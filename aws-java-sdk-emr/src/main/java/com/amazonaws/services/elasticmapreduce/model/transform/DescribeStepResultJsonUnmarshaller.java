@@ -53,10 +53,17 @@ public class DescribeStepResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Step", targetDepth)) {
-                    context.nextToken();
-                    describeStepResult.setStep(StepJsonUnmarshaller
-                            .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2587372:
+                        if (fieldName.equals("Step")) {
+                            context.nextToken();
+                            describeStepResult.setStep(StepJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
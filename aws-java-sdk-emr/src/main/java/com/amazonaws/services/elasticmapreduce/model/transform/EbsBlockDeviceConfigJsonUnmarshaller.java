@@ -53,17 +53,26 @@ public class EbsBlockDeviceConfigJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("VolumeSpecification", targetDepth)) {
-                    context.nextToken();
-                    ebsBlockDeviceConfig
-                            .setVolumeSpecification(VolumeSpecificationJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("VolumesPerInstance", targetDepth)) {
-                    context.nextToken();
-                    ebsBlockDeviceConfig
-                            .setVolumesPerInstance(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1313352681:
+                        if (fieldName.equals("VolumeSpecification")) {
+                            context.nextToken();
+                            ebsBlockDeviceConfig
+                                    .setVolumeSpecification(VolumeSpecificationJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 189004441:
+                        if (fieldName.equals("VolumesPerInstance")) {
+                            context.nextToken();
+                            ebsBlockDeviceConfig
+                                    .setVolumesPerInstance(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
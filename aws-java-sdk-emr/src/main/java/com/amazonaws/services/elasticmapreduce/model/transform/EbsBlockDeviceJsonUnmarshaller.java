@@ -53,16 +53,25 @@ public class EbsBlockDeviceJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("VolumeSpecification", targetDepth)) {
-                    context.nextToken();
-                    ebsBlockDevice
-                            .setVolumeSpecification(VolumeSpecificationJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Device", targetDepth)) {
-                    context.nextToken();
-                    ebsBlockDevice.setDevice(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1313352681:
+                        if (fieldName.equals("VolumeSpecification")) {
+                            context.nextToken();
+                            ebsBlockDevice
+                                    .setVolumeSpecification(VolumeSpecificationJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 2043677302:
+                        if (fieldName.equals("Device")) {
+                            context.nextToken();
+                            ebsBlockDevice.setDevice(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,18 +53,26 @@ public class EbsConfigurationJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context
-                        .testExpression("EbsBlockDeviceConfigs", targetDepth)) {
-                    context.nextToken();
-                    ebsConfiguration
-                            .setEbsBlockDeviceConfigs(new ListUnmarshaller<EbsBlockDeviceConfig>(
-                                    EbsBlockDeviceConfigJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("EbsOptimized", targetDepth)) {
-                    context.nextToken();
-                    ebsConfiguration.setEbsOptimized(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1164938404:
+                        if (fieldName.equals("EbsBlockDeviceConfigs")) {
+                            context.nextToken();
+                            ebsConfiguration
+                                    .setEbsBlockDeviceConfigs(new ListUnmarshaller<EbsBlockDeviceConfig>(
+                                            EbsBlockDeviceConfigJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1262552463:
+                        if (fieldName.equals("EbsOptimized")) {
+                            context.nextToken();
+                            ebsConfiguration.setEbsOptimized(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
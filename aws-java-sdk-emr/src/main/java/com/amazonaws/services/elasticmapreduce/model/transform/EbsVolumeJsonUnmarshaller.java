@@ -53,15 +53,24 @@ public class EbsVolumeJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Device", targetDepth)) {
-                    context.nextToken();
-                    ebsVolume.setDevice(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("VolumeId", targetDepth)) {
-                    context.nextToken();
-                    ebsVolume.setVolumeId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2043677302:
+                        if (fieldName.equals("Device")) {
+                            context.nextToken();
+                            ebsVolume.setDevice(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1805126155:
+                        if (fieldName.equals("VolumeId")) {
+                            context.nextToken();
+                            ebsVolume.setVolumeId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,63 +53,81 @@ public class Ec2InstanceAttributesJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Ec2KeyName", targetDepth)) {
-                    context.nextToken();
-                    ec2InstanceAttributes.setEc2KeyName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Ec2SubnetId", targetDepth)) {
-                    context.nextToken();
-                    ec2InstanceAttributes.setEc2SubnetId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Ec2AvailabilityZone", targetDepth)) {
-                    context.nextToken();
-                    ec2InstanceAttributes.setEc2AvailabilityZone(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IamInstanceProfile", targetDepth)) {
-                    context.nextToken();
-                    ec2InstanceAttributes.setIamInstanceProfile(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EmrManagedMasterSecurityGroup",
-                        targetDepth)) {
-                    context.nextToken();
-                    ec2InstanceAttributes
-                            .setEmrManagedMasterSecurityGroup(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("EmrManagedSlaveSecurityGroup",
-                        targetDepth)) {
-                    context.nextToken();
-                    ec2InstanceAttributes
-                            .setEmrManagedSlaveSecurityGroup(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("ServiceAccessSecurityGroup",
-                        targetDepth)) {
-                    context.nextToken();
-                    ec2InstanceAttributes.setServiceAccessSecurityGroup(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AdditionalMasterSecurityGroups",
-                        targetDepth)) {
-                    context.nextToken();
-                    ec2InstanceAttributes
-                            .setAdditionalMasterSecurityGroups(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("AdditionalSlaveSecurityGroups",
-                        targetDepth)) {
-                    context.nextToken();
-                    ec2InstanceAttributes
-                            .setAdditionalSlaveSecurityGroups(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1428681802:
+                        if (fieldName.equals("Ec2KeyName")) {
+                            context.nextToken();
+                            ec2InstanceAttributes.setEc2KeyName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 404482220:
+                        if (fieldName.equals("Ec2SubnetId")) {
+                            context.nextToken();
+                            ec2InstanceAttributes.setEc2SubnetId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1636633861:
+                        if (fieldName.equals("Ec2AvailabilityZone")) {
+                            context.nextToken();
+                            ec2InstanceAttributes.setEc2AvailabilityZone(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -57281441:
+                        if (fieldName.equals("IamInstanceProfile")) {
+                            context.nextToken();
+                            ec2InstanceAttributes.setIamInstanceProfile(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1514678776:
+                        if (fieldName.equals("EmrManagedMasterSecurityGroup")) {
+                            context.nextToken();
+                            ec2InstanceAttributes
+                                    .setEmrManagedMasterSecurityGroup(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -840933635:
+                        if (fieldName.equals("EmrManagedSlaveSecurityGroup")) {
+                            context.nextToken();
+                            ec2InstanceAttributes
+                                    .setEmrManagedSlaveSecurityGroup(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -530783418:
+                        if (fieldName.equals("ServiceAccessSecurityGroup")) {
+                            context.nextToken();
+                            ec2InstanceAttributes.setServiceAccessSecurityGroup(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1552027421:
+                        if (fieldName.equals("AdditionalMasterSecurityGroups")) {
+                            context.nextToken();
+                            ec2InstanceAttributes
+                                    .setAdditionalMasterSecurityGroups(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1920983260:
+                        if (fieldName.equals("AdditionalSlaveSecurityGroups")) {
+                            context.nextToken();
+                            ec2InstanceAttributes
+                                    .setAdditionalSlaveSecurityGroups(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
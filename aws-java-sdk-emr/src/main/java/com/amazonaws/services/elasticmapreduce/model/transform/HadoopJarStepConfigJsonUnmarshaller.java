@@ -53,28 +53,41 @@ public class HadoopJarStepConfigJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Properties", targetDepth)) {
-                    context.nextToken();
-                    hadoopJarStepConfig
-                            .setProperties(new ListUnmarshaller<KeyValue>(
-                                    KeyValueJsonUnmarshaller.getInstance())
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1067411795:
+                        if (fieldName.equals("Properties")) {
+                            context.nextToken();
+                            hadoopJarStepConfig
+                                    .setProperties(new ListUnmarshaller<KeyValue>(
+                                            KeyValueJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 74235:
+                        if (fieldName.equals("Jar")) {
+                            context.nextToken();
+                            hadoopJarStepConfig.setJar(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1726840607:
+                        if (fieldName.equals("MainClass")) {
+                            context.nextToken();
+                            hadoopJarStepConfig.setMainClass(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2049277:
+                        if (fieldName.equals("Args")) {
+                            context.nextToken();
+                            hadoopJarStepConfig.setArgs(new ListUnmarshaller<String>(
+                                    context.getUnmarshaller(String.class))
                                     .unmarshall(context));
-                }
-                if (context.testExpression("Jar", targetDepth)) {
-                    context.nextToken();
-                    hadoopJarStepConfig.setJar(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("MainClass", targetDepth)) {
-                    context.nextToken();
-                    hadoopJarStepConfig.setMainClass(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Args", targetDepth)) {
-                    context.nextToken();
-                    hadoopJarStepConfig.setArgs(new ListUnmarshaller<String>(
-                            context.getUnmarshaller(String.class))
-                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,29 +53,42 @@ public class HadoopStepConfigJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Jar", targetDepth)) {
-                    context.nextToken();
-                    hadoopStepConfig.setJar(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Properties", targetDepth)) {
-                    context.nextToken();
-                    hadoopStepConfig
-                            .setProperties(new MapUnmarshaller<String, String>(
-                                    context.getUnmarshaller(String.class),
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 74235:
+                        if (fieldName.equals("Jar")) {
+                            context.nextToken();
+                            hadoopStepConfig.setJar(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1067411795:
+                        if (fieldName.equals("Properties")) {
+                            context.nextToken();
+                            hadoopStepConfig
+                                    .setProperties(new MapUnmarshaller<String, String>(
+                                            context.getUnmarshaller(String.class),
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1726840607:
+                        if (fieldName.equals("MainClass")) {
+                            context.nextToken();
+                            hadoopStepConfig.setMainClass(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2049277:
+                        if (fieldName.equals("Args")) {
+                            context.nextToken();
+                            hadoopStepConfig.setArgs(new ListUnmarshaller<String>(
                                     context.getUnmarshaller(String.class))
                                     .unmarshall(context));
-                }
-                if (context.testExpression("MainClass", targetDepth)) {
-                    context.nextToken();
-                    hadoopStepConfig.setMainClass(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Args", targetDepth)) {
-                    context.nextToken();
-                    hadoopStepConfig.setArgs(new ListUnmarshaller<String>(
-                            context.getUnmarshaller(String.class))
-                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
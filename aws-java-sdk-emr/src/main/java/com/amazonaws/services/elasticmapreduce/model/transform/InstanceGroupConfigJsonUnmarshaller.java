@@ -53,49 +53,70 @@ public class InstanceGroupConfigJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupConfig.setName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Market", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupConfig.setMarket(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceRole", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupConfig.setInstanceRole(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("BidPrice", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupConfig.setBidPrice(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceType", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupConfig.setInstanceType(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceCount", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupConfig
-                            .setInstanceCount(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Configurations", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupConfig
-                            .setConfigurations(new ListUnmarshaller<Configuration>(
-                                    ConfigurationJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("EbsConfiguration", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupConfig
-                            .setEbsConfiguration(EbsConfigurationJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            instanceGroupConfig.setName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1997438884:
+                        if (fieldName.equals("Market")) {
+                            context.nextToken();
+                            instanceGroupConfig.setMarket(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -573404469:
+                        if (fieldName.equals("InstanceRole")) {
+                            context.nextToken();
+                            instanceGroupConfig.setInstanceRole(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 700268140:
+                        if (fieldName.equals("BidPrice")) {
+                            context.nextToken();
+                            instanceGroupConfig.setBidPrice(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -573335153:
+                        if (fieldName.equals("InstanceType")) {
+                            context.nextToken();
+                            instanceGroupConfig.setInstanceType(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -609513126:
+                        if (fieldName.equals("InstanceCount")) {
+                            context.nextToken();
+                            instanceGroupConfig
+                                    .setInstanceCount(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -1216219555:
+                        if (fieldName.equals("Configurations")) {
+                            context.nextToken();
+                            instanceGroupConfig
+                                    .setConfigurations(new ListUnmarshaller<Configuration>(
+                                            ConfigurationJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1271116096:
+                        if (fieldName.equals("EbsConfiguration")) {
+                            context.nextToken();
+                            instanceGroupConfig
+                                    .setEbsConfiguration(EbsConfigurationJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,81 +53,113 @@ public class InstanceGroupDetailJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("InstanceGroupId", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupDetail.setInstanceGroupId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupDetail.setName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Market", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupDetail.setMarket(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceRole", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupDetail.setInstanceRole(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("BidPrice", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupDetail.setBidPrice(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceType", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupDetail.setInstanceType(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceRequestCount", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupDetail
-                            .setInstanceRequestCount(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceRunningCount", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupDetail
-                            .setInstanceRunningCount(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("State", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupDetail.setState(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("LastStateChangeReason", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupDetail.setLastStateChangeReason(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationDateTime", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupDetail.setCreationDateTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("StartDateTime", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupDetail.setStartDateTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("ReadyDateTime", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupDetail.setReadyDateTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("EndDateTime", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupDetail.setEndDateTime(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2004006277:
+                        if (fieldName.equals("InstanceGroupId")) {
+                            context.nextToken();
+                            instanceGroupDetail.setInstanceGroupId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            instanceGroupDetail.setName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1997438884:
+                        if (fieldName.equals("Market")) {
+                            context.nextToken();
+                            instanceGroupDetail.setMarket(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -573404469:
+                        if (fieldName.equals("InstanceRole")) {
+                            context.nextToken();
+                            instanceGroupDetail.setInstanceRole(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 700268140:
+                        if (fieldName.equals("BidPrice")) {
+                            context.nextToken();
+                            instanceGroupDetail.setBidPrice(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -573335153:
+                        if (fieldName.equals("InstanceType")) {
+                            context.nextToken();
+                            instanceGroupDetail.setInstanceType(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 600675605:
+                        if (fieldName.equals("InstanceRequestCount")) {
+                            context.nextToken();
+                            instanceGroupDetail
+                                    .setInstanceRequestCount(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 137621477:
+                        if (fieldName.equals("InstanceRunningCount")) {
+                            context.nextToken();
+                            instanceGroupDetail
+                                    .setInstanceRunningCount(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 80204913:
+                        if (fieldName.equals("State")) {
+                            context.nextToken();
+                            instanceGroupDetail.setState(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -728067793:
+                        if (fieldName.equals("LastStateChangeReason")) {
+                            context.nextToken();
+                            instanceGroupDetail.setLastStateChangeReason(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 659158970:
+                        if (fieldName.equals("CreationDateTime")) {
+                            context.nextToken();
+                            instanceGroupDetail.setCreationDateTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case -1576139267:
+                        if (fieldName.equals("StartDateTime")) {
+                            context.nextToken();
+                            instanceGroupDetail.setStartDateTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case -915125698:
+                        if (fieldName.equals("ReadyDateTime")) {
+                            context.nextToken();
+                            instanceGroupDetail.setReadyDateTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case 1923332470:
+                        if (fieldName.equals("EndDateTime")) {
+                            context.nextToken();
+                            instanceGroupDetail.setEndDateTime(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,77 +53,107 @@ public class InstanceGroupJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Id", targetDepth)) {
-                    context.nextToken();
-                    instanceGroup.setId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    instanceGroup.setName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Market", targetDepth)) {
-                    context.nextToken();
-                    instanceGroup.setMarket(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceGroupType", targetDepth)) {
-                    context.nextToken();
-                    instanceGroup.setInstanceGroupType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("BidPrice", targetDepth)) {
-                    context.nextToken();
-                    instanceGroup.setBidPrice(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceType", targetDepth)) {
-                    context.nextToken();
-                    instanceGroup.setInstanceType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("RequestedInstanceCount",
-                        targetDepth)) {
-                    context.nextToken();
-                    instanceGroup
-                            .setRequestedInstanceCount(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("RunningInstanceCount", targetDepth)) {
-                    context.nextToken();
-                    instanceGroup
-                            .setRunningInstanceCount(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    instanceGroup.setStatus(InstanceGroupStatusJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Configurations", targetDepth)) {
-                    context.nextToken();
-                    instanceGroup
-                            .setConfigurations(new ListUnmarshaller<Configuration>(
-                                    ConfigurationJsonUnmarshaller.getInstance())
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2363:
+                        if (fieldName.equals("Id")) {
+                            context.nextToken();
+                            instanceGroup.setId(context.getUnmarshaller(String.class)
                                     .unmarshall(context));
-                }
-                if (context.testExpression("EbsBlockDevices", targetDepth)) {
-                    context.nextToken();
-                    instanceGroup
-                            .setEbsBlockDevices(new ListUnmarshaller<EbsBlockDevice>(
-                                    EbsBlockDeviceJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("EbsOptimized", targetDepth)) {
-                    context.nextToken();
-                    instanceGroup.setEbsOptimized(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("ShrinkPolicy", targetDepth)) {
-                    context.nextToken();
-                    instanceGroup.setShrinkPolicy(ShrinkPolicyJsonUnmarshaller
-                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            instanceGroup.setName(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1997438884:
+                        if (fieldName.equals("Market")) {
+                            context.nextToken();
+                            instanceGroup.setMarket(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1705035044:
+                        if (fieldName.equals("InstanceGroupType")) {
+                            context.nextToken();
+                            instanceGroup.setInstanceGroupType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 700268140:
+                        if (fieldName.equals("BidPrice")) {
+                            context.nextToken();
+                            instanceGroup.setBidPrice(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -573335153:
+                        if (fieldName.equals("InstanceType")) {
+                            context.nextToken();
+                            instanceGroup.setInstanceType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -699291444:
+                        if (fieldName.equals("RequestedInstanceCount")) {
+                            context.nextToken();
+                            instanceGroup
+                                    .setRequestedInstanceCount(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 761609755:
+                        if (fieldName.equals("RunningInstanceCount")) {
+                            context.nextToken();
+                            instanceGroup
+                                    .setRunningInstanceCount(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -1808614382:
+                        if (fieldName.equals("Status")) {
+                            context.nextToken();
+                            instanceGroup.setStatus(InstanceGroupStatusJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1216219555:
+                        if (fieldName.equals("Configurations")) {
+                            context.nextToken();
+                            instanceGroup
+                                    .setConfigurations(new ListUnmarshaller<Configuration>(
+                                            ConfigurationJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 231524870:
+                        if (fieldName.equals("EbsBlockDevices")) {
+                            context.nextToken();
+                            instanceGroup
+                                    .setEbsBlockDevices(new ListUnmarshaller<EbsBlockDevice>(
+                                            EbsBlockDeviceJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1262552463:
+                        if (fieldName.equals("EbsOptimized")) {
+                            context.nextToken();
+                            instanceGroup.setEbsOptimized(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case -501890885:
+                        if (fieldName.equals("ShrinkPolicy")) {
+                            context.nextToken();
+                            instanceGroup.setShrinkPolicy(ShrinkPolicyJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,30 +53,42 @@ public class InstanceGroupModifyConfigJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("InstanceGroupId", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupModifyConfig.setInstanceGroupId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceCount", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupModifyConfig
-                            .setInstanceCount(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("EC2InstanceIdsToTerminate",
-                        targetDepth)) {
-                    context.nextToken();
-                    instanceGroupModifyConfig
-                            .setEC2InstanceIdsToTerminate(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("ShrinkPolicy", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupModifyConfig
-                            .setShrinkPolicy(ShrinkPolicyJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2004006277:
+                        if (fieldName.equals("InstanceGroupId")) {
+                            context.nextToken();
+                            instanceGroupModifyConfig.setInstanceGroupId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -609513126:
+                        if (fieldName.equals("InstanceCount")) {
+                            context.nextToken();
+                            instanceGroupModifyConfig
+                                    .setInstanceCount(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -1425534793:
+                        if (fieldName.equals("EC2InstanceIdsToTerminate")) {
+                            context.nextToken();
+                            instanceGroupModifyConfig
+                                    .setEC2InstanceIdsToTerminate(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -501890885:
+                        if (fieldName.equals("ShrinkPolicy")) {
+                            context.nextToken();
+                            instanceGroupModifyConfig
+                                    .setShrinkPolicy(ShrinkPolicyJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,51 +53,74 @@ public class InstanceJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Id", targetDepth)) {
-                    context.nextToken();
-                    instance.setId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Ec2InstanceId", targetDepth)) {
-                    context.nextToken();
-                    instance.setEc2InstanceId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("PublicDnsName", targetDepth)) {
-                    context.nextToken();
-                    instance.setPublicDnsName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("PublicIpAddress", targetDepth)) {
-                    context.nextToken();
-                    instance.setPublicIpAddress(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("PrivateDnsName", targetDepth)) {
-                    context.nextToken();
-                    instance.setPrivateDnsName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("PrivateIpAddress", targetDepth)) {
-                    context.nextToken();
-                    instance.setPrivateIpAddress(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    instance.setStatus(InstanceStatusJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("InstanceGroupId", targetDepth)) {
-                    context.nextToken();
-                    instance.setInstanceGroupId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("EbsVolumes", targetDepth)) {
-                    context.nextToken();
-                    instance.setEbsVolumes(new ListUnmarshaller<EbsVolume>(
-                            EbsVolumeJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2363:
+                        if (fieldName.equals("Id")) {
+                            context.nextToken();
+                            instance.setId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 71583460:
+                        if (fieldName.equals("Ec2InstanceId")) {
+                            context.nextToken();
+                            instance.setEc2InstanceId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -416877429:
+                        if (fieldName.equals("PublicDnsName")) {
+                            context.nextToken();
+                            instance.setPublicDnsName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1058285636:
+                        if (fieldName.equals("PublicIpAddress")) {
+                            context.nextToken();
+                            instance.setPublicIpAddress(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 519195761:
+                        if (fieldName.equals("PrivateDnsName")) {
+                            context.nextToken();
+                            instance.setPrivateDnsName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1318510934:
+                        if (fieldName.equals("PrivateIpAddress")) {
+                            context.nextToken();
+                            instance.setPrivateIpAddress(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1808614382:
+                        if (fieldName.equals("Status")) {
+                            context.nextToken();
+                            instance.setStatus(InstanceStatusJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 2004006277:
+                        if (fieldName.equals("InstanceGroupId")) {
+                            context.nextToken();
+                            instance.setInstanceGroupId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -854607773:
+                        if (fieldName.equals("EbsVolumes")) {
+                            context.nextToken();
+                            instance.setEbsVolumes(new ListUnmarshaller<EbsVolume>(
+                                    EbsVolumeJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,27 +53,37 @@ public class InstanceResizePolicyJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("InstancesToTerminate", targetDepth)) {
-                    context.nextToken();
-                    instanceResizePolicy
-                            .setInstancesToTerminate(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("InstancesToProtect", targetDepth)) {
-                    context.nextToken();
-                    instanceResizePolicy
-                            .setInstancesToProtect(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("InstanceTerminationTimeout",
-                        targetDepth)) {
-                    context.nextToken();
-                    instanceResizePolicy
-                            .setInstanceTerminationTimeout(context
-                                    .getUnmarshaller(Integer.class).unmarshall(
-                                            context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -94540568:
+                        if (fieldName.equals("InstancesToTerminate")) {
+                            context.nextToken();
+                            instanceResizePolicy
+                                    .setInstancesToTerminate(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1253014294:
+                        if (fieldName.equals("InstancesToProtect")) {
+                            context.nextToken();
+                            instanceResizePolicy
+                                    .setInstancesToProtect(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -16268462:
+                        if (fieldName.equals("InstanceTerminationTimeout")) {
+                            context.nextToken();
+                            instanceResizePolicy
+                                    .setInstanceTerminationTimeout(context
+                                            .getUnmarshaller(Integer.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
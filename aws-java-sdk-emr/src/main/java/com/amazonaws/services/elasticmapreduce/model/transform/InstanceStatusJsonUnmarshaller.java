@@ -53,21 +53,32 @@ public class InstanceStatusJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("State", targetDepth)) {
-                    context.nextToken();
-                    instanceStatus.setState(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("StateChangeReason", targetDepth)) {
-                    context.nextToken();
-                    instanceStatus
-                            .setStateChangeReason(InstanceStateChangeReasonJsonUnmarshaller
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 80204913:
+                        if (fieldName.equals("State")) {
+                            context.nextToken();
+                            instanceStatus.setState(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -583330523:
+                        if (fieldName.equals("StateChangeReason")) {
+                            context.nextToken();
+                            instanceStatus
+                                    .setStateChangeReason(InstanceStateChangeReasonJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -2012006303:
+                        if (fieldName.equals("Timeline")) {
+                            context.nextToken();
+                            instanceStatus.setTimeline(InstanceTimelineJsonUnmarshaller
                                     .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Timeline", targetDepth)) {
-                    context.nextToken();
-                    instanceStatus.setTimeline(InstanceTimelineJsonUnmarshaller
-                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,73 +53,101 @@ public class JobFlowDetailJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("JobFlowId", targetDepth)) {
-                    context.nextToken();
-                    jobFlowDetail.setJobFlowId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    jobFlowDetail.setName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("LogUri", targetDepth)) {
-                    context.nextToken();
-                    jobFlowDetail.setLogUri(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("AmiVersion", targetDepth)) {
-                    context.nextToken();
-                    jobFlowDetail.setAmiVersion(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("ExecutionStatusDetail", targetDepth)) {
-                    context.nextToken();
-                    jobFlowDetail
-                            .setExecutionStatusDetail(JobFlowExecutionStatusDetailJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Instances", targetDepth)) {
-                    context.nextToken();
-                    jobFlowDetail
-                            .setInstances(JobFlowInstancesDetailJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Steps", targetDepth)) {
-                    context.nextToken();
-                    jobFlowDetail.setSteps(new ListUnmarshaller<StepDetail>(
-                            StepDetailJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("BootstrapActions", targetDepth)) {
-                    context.nextToken();
-                    jobFlowDetail
-                            .setBootstrapActions(new ListUnmarshaller<BootstrapActionDetail>(
-                                    BootstrapActionDetailJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("SupportedProducts", targetDepth)) {
-                    context.nextToken();
-                    jobFlowDetail
-                            .setSupportedProducts(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1540973338:
+                        if (fieldName.equals("JobFlowId")) {
+                            context.nextToken();
+                            jobFlowDetail.setJobFlowId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            jobFlowDetail.setName(context.getUnmarshaller(String.class)
                                     .unmarshall(context));
-                }
-                if (context.testExpression("VisibleToAllUsers", targetDepth)) {
-                    context.nextToken();
-                    jobFlowDetail.setVisibleToAllUsers(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("JobFlowRole", targetDepth)) {
-                    context.nextToken();
-                    jobFlowDetail.setJobFlowRole(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ServiceRole", targetDepth)) {
-                    context.nextToken();
-                    jobFlowDetail.setServiceRole(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case -2013487192:
+                        if (fieldName.equals("LogUri")) {
+                            context.nextToken();
+                            jobFlowDetail.setLogUri(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 995235963:
+                        if (fieldName.equals("AmiVersion")) {
+                            context.nextToken();
+                            jobFlowDetail.setAmiVersion(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -400596485:
+                        if (fieldName.equals("ExecutionStatusDetail")) {
+                            context.nextToken();
+                            jobFlowDetail
+                                    .setExecutionStatusDetail(JobFlowExecutionStatusDetailJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 2033065566:
+                        if (fieldName.equals("Instances")) {
+                            context.nextToken();
+                            jobFlowDetail
+                                    .setInstances(JobFlowInstancesDetailJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 80208647:
+                        if (fieldName.equals("Steps")) {
+                            context.nextToken();
+                            jobFlowDetail.setSteps(new ListUnmarshaller<StepDetail>(
+                                    StepDetailJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1814765873:
+                        if (fieldName.equals("BootstrapActions")) {
+                            context.nextToken();
+                            jobFlowDetail
+                                    .setBootstrapActions(new ListUnmarshaller<BootstrapActionDetail>(
+                                            BootstrapActionDetailJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1022641134:
+                        if (fieldName.equals("SupportedProducts")) {
+                            context.nextToken();
+                            jobFlowDetail
+                                    .setSupportedProducts(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -888967564:
+                        if (fieldName.equals("VisibleToAllUsers")) {
+                            context.nextToken();
+                            jobFlowDetail.setVisibleToAllUsers(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 888621441:
+                        if (fieldName.equals("JobFlowRole")) {
+                            context.nextToken();
+                            jobFlowDetail.setJobFlowRole(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -260570965:
+                        if (fieldName.equals("ServiceRole")) {
+                            context.nextToken();
+                            jobFlowDetail.setServiceRole(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
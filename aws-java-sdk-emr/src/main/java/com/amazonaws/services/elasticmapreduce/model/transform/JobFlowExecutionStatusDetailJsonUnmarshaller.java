@@ -53,41 +53,57 @@ public class JobFlowExecutionStatusDetailJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("State", targetDepth)) {
-                    context.nextToken();
-                    jobFlowExecutionStatusDetail.setState(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationDateTime", targetDepth)) {
-                    context.nextToken();
-                    jobFlowExecutionStatusDetail.setCreationDateTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("StartDateTime", targetDepth)) {
-                    context.nextToken();
-                    jobFlowExecutionStatusDetail.setStartDateTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("ReadyDateTime", targetDepth)) {
-                    context.nextToken();
-                    jobFlowExecutionStatusDetail.setReadyDateTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("EndDateTime", targetDepth)) {
-                    context.nextToken();
-                    jobFlowExecutionStatusDetail.setEndDateTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context
-                        .testExpression("LastStateChangeReason", targetDepth)) {
-                    context.nextToken();
-                    jobFlowExecutionStatusDetail
-                            .setLastStateChangeReason(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 80204913:
+                        if (fieldName.equals("State")) {
+                            context.nextToken();
+                            jobFlowExecutionStatusDetail.setState(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 659158970:
+                        if (fieldName.equals("CreationDateTime")) {
+                            context.nextToken();
+                            jobFlowExecutionStatusDetail.setCreationDateTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case -1576139267:
+                        if (fieldName.equals("StartDateTime")) {
+                            context.nextToken();
+                            jobFlowExecutionStatusDetail.setStartDateTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case -915125698:
+                        if (fieldName.equals("ReadyDateTime")) {
+                            context.nextToken();
+                            jobFlowExecutionStatusDetail.setReadyDateTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case 1923332470:
+                        if (fieldName.equals("EndDateTime")) {
+                            context.nextToken();
+                            jobFlowExecutionStatusDetail.setEndDateTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case -728067793:
+                        if (fieldName.equals("LastStateChangeReason")) {
+                            context.nextToken();
+                            jobFlowExecutionStatusDetail
+                                    .setLastStateChangeReason(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,103 +53,132 @@ public class JobFlowInstancesConfigJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("MasterInstanceType", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesConfig.setMasterInstanceType(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SlaveInstanceType", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesConfig.setSlaveInstanceType(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceCount", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesConfig
-                            .setInstanceCount(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceGroups", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesConfig
-                            .setInstanceGroups(new ListUnmarshaller<InstanceGroupConfig>(
-                                    InstanceGroupConfigJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Ec2KeyName", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesConfig.setEc2KeyName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Placement", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesConfig
-                            .setPlacement(PlacementTypeJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("KeepJobFlowAliveWhenNoSteps",
-                        targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesConfig
-                            .setKeepJobFlowAliveWhenNoSteps(context
-                                    .getUnmarshaller(Boolean.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("TerminationProtected", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesConfig
-                            .setTerminationProtected(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("HadoopVersion", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesConfig.setHadoopVersion(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Ec2SubnetId", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesConfig.setEc2SubnetId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EmrManagedMasterSecurityGroup",
-                        targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesConfig
-                            .setEmrManagedMasterSecurityGroup(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("EmrManagedSlaveSecurityGroup",
-                        targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesConfig
-                            .setEmrManagedSlaveSecurityGroup(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("ServiceAccessSecurityGroup",
-                        targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesConfig
-                            .setServiceAccessSecurityGroup(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("AdditionalMasterSecurityGroups",
-                        targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesConfig
-                            .setAdditionalMasterSecurityGroups(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("AdditionalSlaveSecurityGroups",
-                        targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesConfig
-                            .setAdditionalSlaveSecurityGroups(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -320996079:
+                        if (fieldName.equals("MasterInstanceType")) {
+                            context.nextToken();
+                            jobFlowInstancesConfig.setMasterInstanceType(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1887432902:
+                        if (fieldName.equals("SlaveInstanceType")) {
+                            context.nextToken();
+                            jobFlowInstancesConfig.setSlaveInstanceType(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -609513126:
+                        if (fieldName.equals("InstanceCount")) {
+                            context.nextToken();
+                            jobFlowInstancesConfig
+                                    .setInstanceCount(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -1597922583:
+                        if (fieldName.equals("InstanceGroups")) {
+                            context.nextToken();
+                            jobFlowInstancesConfig
+                                    .setInstanceGroups(new ListUnmarshaller<InstanceGroupConfig>(
+                                            InstanceGroupConfigJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1428681802:
+                        if (fieldName.equals("Ec2KeyName")) {
+                            context.nextToken();
+                            jobFlowInstancesConfig.setEc2KeyName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -498060603:
+                        if (fieldName.equals("Placement")) {
+                            context.nextToken();
+                            jobFlowInstancesConfig
+                                    .setPlacement(PlacementTypeJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 2662789:
+                        if (fieldName.equals("KeepJobFlowAliveWhenNoSteps")) {
+                            context.nextToken();
+                            jobFlowInstancesConfig
+                                    .setKeepJobFlowAliveWhenNoSteps(context
+                                            .getUnmarshaller(Boolean.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -773677782:
+                        if (fieldName.equals("TerminationProtected")) {
+                            context.nextToken();
+                            jobFlowInstancesConfig
+                                    .setTerminationProtected(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 1219810515:
+                        if (fieldName.equals("HadoopVersion")) {
+                            context.nextToken();
+                            jobFlowInstancesConfig.setHadoopVersion(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 404482220:
+                        if (fieldName.equals("Ec2SubnetId")) {
+                            context.nextToken();
+                            jobFlowInstancesConfig.setEc2SubnetId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1514678776:
+                        if (fieldName.equals("EmrManagedMasterSecurityGroup")) {
+                            context.nextToken();
+                            jobFlowInstancesConfig
+                                    .setEmrManagedMasterSecurityGroup(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -840933635:
+                        if (fieldName.equals("EmrManagedSlaveSecurityGroup")) {
+                            context.nextToken();
+                            jobFlowInstancesConfig
+                                    .setEmrManagedSlaveSecurityGroup(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -530783418:
+                        if (fieldName.equals("ServiceAccessSecurityGroup")) {
+                            context.nextToken();
+                            jobFlowInstancesConfig
+                                    .setServiceAccessSecurityGroup(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case 1552027421:
+                        if (fieldName.equals("AdditionalMasterSecurityGroups")) {
+                            context.nextToken();
+                            jobFlowInstancesConfig
+                                    .setAdditionalMasterSecurityGroups(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1920983260:
+                        if (fieldName.equals("AdditionalSlaveSecurityGroups")) {
+                            context.nextToken();
+                            jobFlowInstancesConfig
+                                    .setAdditionalSlaveSecurityGroups(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,81 +53,110 @@ public class JobFlowInstancesDetailJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("MasterInstanceType", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesDetail.setMasterInstanceType(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MasterPublicDnsName", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesDetail.setMasterPublicDnsName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MasterInstanceId", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesDetail.setMasterInstanceId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SlaveInstanceType", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesDetail.setSlaveInstanceType(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceCount", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesDetail
-                            .setInstanceCount(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceGroups", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesDetail
-                            .setInstanceGroups(new ListUnmarshaller<InstanceGroupDetail>(
-                                    InstanceGroupDetailJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NormalizedInstanceHours",
-                        targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesDetail
-                            .setNormalizedInstanceHours(context
-                                    .getUnmarshaller(Integer.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("Ec2KeyName", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesDetail.setEc2KeyName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Ec2SubnetId", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesDetail.setEc2SubnetId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Placement", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesDetail
-                            .setPlacement(PlacementTypeJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("KeepJobFlowAliveWhenNoSteps",
-                        targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesDetail
-                            .setKeepJobFlowAliveWhenNoSteps(context
-                                    .getUnmarshaller(Boolean.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("TerminationProtected", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesDetail
-                            .setTerminationProtected(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("HadoopVersion", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesDetail.setHadoopVersion(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -320996079:
+                        if (fieldName.equals("MasterInstanceType")) {
+                            context.nextToken();
+                            jobFlowInstancesDetail.setMasterInstanceType(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1184300727:
+                        if (fieldName.equals("MasterPublicDnsName")) {
+                            context.nextToken();
+                            jobFlowInstancesDetail.setMasterPublicDnsName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1921451186:
+                        if (fieldName.equals("MasterInstanceId")) {
+                            context.nextToken();
+                            jobFlowInstancesDetail.setMasterInstanceId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1887432902:
+                        if (fieldName.equals("SlaveInstanceType")) {
+                            context.nextToken();
+                            jobFlowInstancesDetail.setSlaveInstanceType(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -609513126:
+                        if (fieldName.equals("InstanceCount")) {
+                            context.nextToken();
+                            jobFlowInstancesDetail
+                                    .setInstanceCount(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -1597922583:
+                        if (fieldName.equals("InstanceGroups")) {
+                            context.nextToken();
+                            jobFlowInstancesDetail
+                                    .setInstanceGroups(new ListUnmarshaller<InstanceGroupDetail>(
+                                            InstanceGroupDetailJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 630072739:
+                        if (fieldName.equals("NormalizedInstanceHours")) {
+                            context.nextToken();
+                            jobFlowInstancesDetail
+                                    .setNormalizedInstanceHours(context
+                                            .getUnmarshaller(Integer.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -1428681802:
+                        if (fieldName.equals("Ec2KeyName")) {
+                            context.nextToken();
+                            jobFlowInstancesDetail.setEc2KeyName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 404482220:
+                        if (fieldName.equals("Ec2SubnetId")) {
+                            context.nextToken();
+                            jobFlowInstancesDetail.setEc2SubnetId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -498060603:
+                        if (fieldName.equals("Placement")) {
+                            context.nextToken();
+                            jobFlowInstancesDetail
+                                    .setPlacement(PlacementTypeJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 2662789:
+                        if (fieldName.equals("KeepJobFlowAliveWhenNoSteps")) {
+                            context.nextToken();
+                            jobFlowInstancesDetail
+                                    .setKeepJobFlowAliveWhenNoSteps(context
+                                            .getUnmarshaller(Boolean.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -773677782:
+                        if (fieldName.equals("TerminationProtected")) {
+                            context.nextToken();
+                            jobFlowInstancesDetail
+                                    .setTerminationProtected(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 1219810515:
+                        if (fieldName.equals("HadoopVersion")) {
+                            context.nextToken();
+                            jobFlowInstancesDetail.setHadoopVersion(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
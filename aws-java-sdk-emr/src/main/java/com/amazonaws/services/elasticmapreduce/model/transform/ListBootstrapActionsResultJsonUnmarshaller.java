@@ -53,17 +53,26 @@ public class ListBootstrapActionsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("BootstrapActions", targetDepth)) {
-                    context.nextToken();
-                    listBootstrapActionsResult
-                            .setBootstrapActions(new ListUnmarshaller<Command>(
-                                    CommandJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    listBootstrapActionsResult.setMarker(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1814765873:
+                        if (fieldName.equals("BootstrapActions")) {
+                            context.nextToken();
+                            listBootstrapActionsResult
+                                    .setBootstrapActions(new ListUnmarshaller<Command>(
+                                            CommandJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1997438886:
+                        if (fieldName.equals("Marker")) {
+                            context.nextToken();
+                            listBootstrapActionsResult.setMarker(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class ListClustersResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Clusters", targetDepth)) {
-                    context.nextToken();
-                    listClustersResult
-                            .setClusters(new ListUnmarshaller<ClusterSummary>(
-                                    ClusterSummaryJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    listClustersResult.setMarker(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1329697241:
+                        if (fieldName.equals("Clusters")) {
+                            context.nextToken();
+                            listClustersResult
+                                    .setClusters(new ListUnmarshaller<ClusterSummary>(
+                                            ClusterSummaryJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1997438886:
+                        if (fieldName.equals("Marker")) {
+                            context.nextToken();
+                            listClustersResult.setMarker(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class ListInstanceGroupsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("InstanceGroups", targetDepth)) {
-                    context.nextToken();
-                    listInstanceGroupsResult
-                            .setInstanceGroups(new ListUnmarshaller<InstanceGroup>(
-                                    InstanceGroupJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    listInstanceGroupsResult.setMarker(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1597922583:
+                        if (fieldName.equals("InstanceGroups")) {
+                            context.nextToken();
+                            listInstanceGroupsResult
+                                    .setInstanceGroups(new ListUnmarshaller<InstanceGroup>(
+                                            InstanceGroupJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1997438886:
+                        if (fieldName.equals("Marker")) {
+                            context.nextToken();
+                            listInstanceGroupsResult.setMarker(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class ListInstancesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Instances", targetDepth)) {
-                    context.nextToken();
-                    listInstancesResult
-                            .setInstances(new ListUnmarshaller<Instance>(
-                                    InstanceJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    listInstancesResult.setMarker(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2033065566:
+                        if (fieldName.equals("Instances")) {
+                            context.nextToken();
+                            listInstancesResult
+                                    .setInstances(new ListUnmarshaller<Instance>(
+                                            InstanceJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1997438886:
+                        if (fieldName.equals("Marker")) {
+                            context.nextToken();
+                            listInstancesResult.setMarker(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,10 +53,17 @@ public class PlacementTypeJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AvailabilityZone", targetDepth)) {
-                    context.nextToken();
-                    placementType.setAvailabilityZone(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1777257415:
+                        if (fieldName.equals("AvailabilityZone")) {
+                            context.nextToken();
+                            placementType.setAvailabilityZone(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
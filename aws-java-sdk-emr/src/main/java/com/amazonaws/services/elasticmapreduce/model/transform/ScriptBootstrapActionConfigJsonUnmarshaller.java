@@ -53,17 +53,26 @@ public class ScriptBootstrapActionConfigJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Path", targetDepth)) {
-                    context.nextToken();
-                    scriptBootstrapActionConfig.setPath(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Args", targetDepth)) {
-                    context.nextToken();
-                    scriptBootstrapActionConfig
-                            .setArgs(new ListUnmarshaller<String>(context
-                                    .getUnmarshaller(String.class))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2480197:
+                        if (fieldName.equals("Path")) {
+                            context.nextToken();
+                            scriptBootstrapActionConfig.setPath(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2049277:
+                        if (fieldName.equals("Args")) {
+                            context.nextToken();
+                            scriptBootstrapActionConfig
+                                    .setArgs(new ListUnmarshaller<String>(context
+                                            .getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
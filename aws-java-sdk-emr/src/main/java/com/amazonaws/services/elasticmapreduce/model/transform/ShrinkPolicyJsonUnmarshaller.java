@@ -53,17 +53,26 @@ public class ShrinkPolicyJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DecommissionTimeout", targetDepth)) {
-                    context.nextToken();
-                    shrinkPolicy
-                            .setDecommissionTimeout(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceResizePolicy", targetDepth)) {
-                    context.nextToken();
-                    shrinkPolicy
-                            .setInstanceResizePolicy(InstanceResizePolicyJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -78166155:
+                        if (fieldName.equals("DecommissionTimeout")) {
+                            context.nextToken();
+                            shrinkPolicy
+                                    .setDecommissionTimeout(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 2131278939:
+                        if (fieldName.equals("InstanceResizePolicy")) {
+                            context.nextToken();
+                            shrinkPolicy
+                                    .setInstanceResizePolicy(InstanceResizePolicyJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
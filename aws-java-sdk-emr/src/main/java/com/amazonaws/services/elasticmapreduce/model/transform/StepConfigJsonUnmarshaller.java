@@ -53,21 +53,32 @@ public class StepConfigJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    stepConfig.setName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("ActionOnFailure", targetDepth)) {
-                    context.nextToken();
-                    stepConfig.setActionOnFailure(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("HadoopJarStep", targetDepth)) {
-                    context.nextToken();
-                    stepConfig
-                            .setHadoopJarStep(HadoopJarStepConfigJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            stepConfig.setName(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1908615413:
+                        if (fieldName.equals("ActionOnFailure")) {
+                            context.nextToken();
+                            stepConfig.setActionOnFailure(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -955758718:
+                        if (fieldName.equals("HadoopJarStep")) {
+                            context.nextToken();
+                            stepConfig
+                                    .setHadoopJarStep(HadoopJarStepConfigJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
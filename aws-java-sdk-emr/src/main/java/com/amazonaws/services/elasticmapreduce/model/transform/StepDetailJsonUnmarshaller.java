@@ -53,17 +53,25 @@ public class StepDetailJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StepConfig", targetDepth)) {
-                    context.nextToken();
-                    stepDetail.setStepConfig(StepConfigJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context
-                        .testExpression("ExecutionStatusDetail", targetDepth)) {
-                    context.nextToken();
-                    stepDetail
-                            .setExecutionStatusDetail(StepExecutionStatusDetailJsonUnmarshaller
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -66647730:
+                        if (fieldName.equals("StepConfig")) {
+                            context.nextToken();
+                            stepDetail.setStepConfig(StepConfigJsonUnmarshaller
                                     .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -400596485:
+                        if (fieldName.equals("ExecutionStatusDetail")) {
+                            context.nextToken();
+                            stepDetail
+                                    .setExecutionStatusDetail(StepExecutionStatusDetailJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
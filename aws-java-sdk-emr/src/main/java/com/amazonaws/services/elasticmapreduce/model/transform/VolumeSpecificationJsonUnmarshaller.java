@@ -53,20 +53,31 @@ public class VolumeSpecificationJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("VolumeType", targetDepth)) {
-                    context.nextToken();
-                    volumeSpecification.setVolumeType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Iops", targetDepth)) {
-                    context.nextToken();
-                    volumeSpecification.setIops(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("SizeInGB", targetDepth)) {
-                    context.nextToken();
-                    volumeSpecification.setSizeInGB(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 440904084:
+                        if (fieldName.equals("VolumeType")) {
+                            context.nextToken();
+                            volumeSpecification.setVolumeType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2285001:
+                        if (fieldName.equals("Iops")) {
+                            context.nextToken();
+                            volumeSpecification.setIops(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 911290497:
+                        if (fieldName.equals("SizeInGB")) {
+                            context.nextToken();
+                            volumeSpecification.setSizeInGB(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
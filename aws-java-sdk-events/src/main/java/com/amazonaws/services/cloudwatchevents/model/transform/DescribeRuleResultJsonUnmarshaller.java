@@ -53,40 +53,59 @@ public class DescribeRuleResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    describeRuleResult.setName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Arn", targetDepth)) {
-                    context.nextToken();
-                    describeRuleResult.setArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("EventPattern", targetDepth)) {
-                    context.nextToken();
-                    describeRuleResult.setEventPattern(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ScheduleExpression", targetDepth)) {
-                    context.nextToken();
-                    describeRuleResult.setScheduleExpression(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("State", targetDepth)) {
-                    context.nextToken();
-                    describeRuleResult.setState(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Description", targetDepth)) {
-                    context.nextToken();
-                    describeRuleResult.setDescription(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("RoleArn", targetDepth)) {
-                    context.nextToken();
-                    describeRuleResult.setRoleArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            describeRuleResult.setName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 66109:
+                        if (fieldName.equals("Arn")) {
+                            context.nextToken();
+                            describeRuleResult.setArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 281486262:
+                        if (fieldName.equals("EventPattern")) {
+                            context.nextToken();
+                            describeRuleResult.setEventPattern(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1229892783:
+                        if (fieldName.equals("ScheduleExpression")) {
+                            context.nextToken();
+                            describeRuleResult.setScheduleExpression(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 80204913:
+                        if (fieldName.equals("State")) {
+                            context.nextToken();
+                            describeRuleResult.setState(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -56677412:
+                        if (fieldName.equals("Description")) {
+                            context.nextToken();
+                            describeRuleResult.setDescription(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1253458457:
+                        if (fieldName.equals("RoleArn")) {
+                            context.nextToken();
+                            describeRuleResult.setRoleArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class ListTargetsByRuleResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Targets", targetDepth)) {
-                    context.nextToken();
-                    listTargetsByRuleResult
-                            .setTargets(new ListUnmarshaller<Target>(
-                                    TargetJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    listTargetsByRuleResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 126376162:
+                        if (fieldName.equals("Targets")) {
+                            context.nextToken();
+                            listTargetsByRuleResult
+                                    .setTargets(new ListUnmarshaller<Target>(
+                                            TargetJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1084080474:
+                        if (fieldName.equals("NextToken")) {
+                            context.nextToken();
+                            listTargetsByRuleResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
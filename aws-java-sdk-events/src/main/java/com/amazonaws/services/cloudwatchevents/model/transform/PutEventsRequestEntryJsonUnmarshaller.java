@@ -53,32 +53,47 @@ public class PutEventsRequestEntryJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Time", targetDepth)) {
-                    context.nextToken();
-                    putEventsRequestEntry.setTime(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Source", targetDepth)) {
-                    context.nextToken();
-                    putEventsRequestEntry.setSource(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Resources", targetDepth)) {
-                    context.nextToken();
-                    putEventsRequestEntry
-                            .setResources(new ListUnmarshaller<String>(context
-                                    .getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("DetailType", targetDepth)) {
-                    context.nextToken();
-                    putEventsRequestEntry.setDetailType(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Detail", targetDepth)) {
-                    context.nextToken();
-                    putEventsRequestEntry.setDetail(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2606829:
+                        if (fieldName.equals("Time")) {
+                            context.nextToken();
+                            putEventsRequestEntry.setTime(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case -1812638661:
+                        if (fieldName.equals("Source")) {
+                            context.nextToken();
+                            putEventsRequestEntry.setSource(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 20897285:
+                        if (fieldName.equals("Resources")) {
+                            context.nextToken();
+                            putEventsRequestEntry
+                                    .setResources(new ListUnmarshaller<String>(context
+                                            .getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 957179723:
+                        if (fieldName.equals("DetailType")) {
+                            context.nextToken();
+                            putEventsRequestEntry.setDetailType(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2043610225:
+                        if (fieldName.equals("Detail")) {
+                            context.nextToken();
+                            putEventsRequestEntry.setDetail(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,20 +53,31 @@ public class PutEventsResultEntryJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("EventId", targetDepth)) {
-                    context.nextToken();
-                    putEventsResultEntry.setEventId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ErrorCode", targetDepth)) {
-                    context.nextToken();
-                    putEventsResultEntry.setErrorCode(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ErrorMessage", targetDepth)) {
-                    context.nextToken();
-                    putEventsResultEntry.setErrorMessage(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 288150837:
+                        if (fieldName.equals("EventId")) {
+                            context.nextToken();
+                            putEventsResultEntry.setEventId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1961963531:
+                        if (fieldName.equals("ErrorCode")) {
+                            context.nextToken();
+                            putEventsResultEntry.setErrorCode(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1367556351:
+                        if (fieldName.equals("ErrorMessage")) {
+                            context.nextToken();
+                            putEventsResultEntry.setErrorMessage(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
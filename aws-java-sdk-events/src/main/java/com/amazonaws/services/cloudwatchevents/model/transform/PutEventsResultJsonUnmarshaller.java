@@ -53,18 +53,27 @@ public class PutEventsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FailedEntryCount", targetDepth)) {
-                    context.nextToken();
-                    putEventsResult
-                            .setFailedEntryCount(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Entries", targetDepth)) {
-                    context.nextToken();
-                    putEventsResult
-                            .setEntries(new ListUnmarshaller<PutEventsResultEntry>(
-                                    PutEventsResultEntryJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 802233338:
+                        if (fieldName.equals("FailedEntryCount")) {
+                            context.nextToken();
+                            putEventsResult
+                                    .setFailedEntryCount(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 73079920:
+                        if (fieldName.equals("Entries")) {
+                            context.nextToken();
+                            putEventsResult
+                                    .setEntries(new ListUnmarshaller<PutEventsResultEntry>(
+                                            PutEventsResultEntryJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
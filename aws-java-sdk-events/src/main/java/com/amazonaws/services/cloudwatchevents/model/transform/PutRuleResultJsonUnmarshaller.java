@@ -53,10 +53,17 @@ public class PutRuleResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RuleArn", targetDepth)) {
-                    context.nextToken();
-                    putRuleResult.setRuleArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1081683551:
+                        if (fieldName.equals("RuleArn")) {
+                            context.nextToken();
+                            putRuleResult.setRuleArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,20 +53,31 @@ public class PutTargetsResultEntryJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TargetId", targetDepth)) {
-                    context.nextToken();
-                    putTargetsResultEntry.setTargetId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ErrorCode", targetDepth)) {
-                    context.nextToken();
-                    putTargetsResultEntry.setErrorCode(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ErrorMessage", targetDepth)) {
-                    context.nextToken();
-                    putTargetsResultEntry.setErrorMessage(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -377307476:
+                        if (fieldName.equals("TargetId")) {
+                            context.nextToken();
+                            putTargetsResultEntry.setTargetId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1961963531:
+                        if (fieldName.equals("ErrorCode")) {
+                            context.nextToken();
+                            putTargetsResultEntry.setErrorCode(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1367556351:
+                        if (fieldName.equals("ErrorMessage")) {
+                            context.nextToken();
+                            putTargetsResultEntry.setErrorMessage(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,18 +53,27 @@ public class PutTargetsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FailedEntryCount", targetDepth)) {
-                    context.nextToken();
-                    putTargetsResult
-                            .setFailedEntryCount(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("FailedEntries", targetDepth)) {
-                    context.nextToken();
-                    putTargetsResult
-                            .setFailedEntries(new ListUnmarshaller<PutTargetsResultEntry>(
-                                    PutTargetsResultEntryJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 802233338:
+                        if (fieldName.equals("FailedEntryCount")) {
+                            context.nextToken();
+                            putTargetsResult
+                                    .setFailedEntryCount(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 1513941363:
+                        if (fieldName.equals("FailedEntries")) {
+                            context.nextToken();
+                            putTargetsResult
+                                    .setFailedEntries(new ListUnmarshaller<PutTargetsResultEntry>(
+                                            PutTargetsResultEntryJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,18 +53,27 @@ public class RemoveTargetsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FailedEntryCount", targetDepth)) {
-                    context.nextToken();
-                    removeTargetsResult
-                            .setFailedEntryCount(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("FailedEntries", targetDepth)) {
-                    context.nextToken();
-                    removeTargetsResult
-                            .setFailedEntries(new ListUnmarshaller<RemoveTargetsResultEntry>(
-                                    RemoveTargetsResultEntryJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 802233338:
+                        if (fieldName.equals("FailedEntryCount")) {
+                            context.nextToken();
+                            removeTargetsResult
+                                    .setFailedEntryCount(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 1513941363:
+                        if (fieldName.equals("FailedEntries")) {
+                            context.nextToken();
+                            removeTargetsResult
+                                    .setFailedEntries(new ListUnmarshaller<RemoveTargetsResultEntry>(
+                                            RemoveTargetsResultEntryJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,10 +53,17 @@ public class TestEventPatternResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Result", targetDepth)) {
-                    context.nextToken();
-                    testEventPatternResult.setResult(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1850559427:
+                        if (fieldName.equals("Result")) {
+                            context.nextToken();
+                            testEventPatternResult.setResult(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
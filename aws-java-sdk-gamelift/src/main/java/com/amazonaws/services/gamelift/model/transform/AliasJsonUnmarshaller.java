@@ -52,35 +52,52 @@ public class AliasJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AliasId", targetDepth)) {
-                    context.nextToken();
-                    alias.setAliasId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    alias.setName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Description", targetDepth)) {
-                    context.nextToken();
-                    alias.setDescription(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("RoutingStrategy", targetDepth)) {
-                    context.nextToken();
-                    alias.setRoutingStrategy(RoutingStrategyJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("CreationTime", targetDepth)) {
-                    context.nextToken();
-                    alias.setCreationTime(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("LastUpdatedTime", targetDepth)) {
-                    context.nextToken();
-                    alias.setLastUpdatedTime(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 750117739:
+                        if (fieldName.equals("AliasId")) {
+                            context.nextToken();
+                            alias.setAliasId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            alias.setName(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -56677412:
+                        if (fieldName.equals("Description")) {
+                            context.nextToken();
+                            alias.setDescription(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1428290105:
+                        if (fieldName.equals("RoutingStrategy")) {
+                            context.nextToken();
+                            alias.setRoutingStrategy(RoutingStrategyJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1750336108:
+                        if (fieldName.equals("CreationTime")) {
+                            context.nextToken();
+                            alias.setCreationTime(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 620447122:
+                        if (fieldName.equals("LastUpdatedTime")) {
+                            context.nextToken();
+                            alias.setLastUpdatedTime(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,22 +53,33 @@ public class CreateBuildResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Build", targetDepth)) {
-                    context.nextToken();
-                    createBuildResult.setBuild(BuildJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("UploadCredentials", targetDepth)) {
-                    context.nextToken();
-                    createBuildResult
-                            .setUploadCredentials(CredentialsJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("StorageLocation", targetDepth)) {
-                    context.nextToken();
-                    createBuildResult
-                            .setStorageLocation(S3LocationJsonUnmarshaller
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 64542286:
+                        if (fieldName.equals("Build")) {
+                            context.nextToken();
+                            createBuildResult.setBuild(BuildJsonUnmarshaller
                                     .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 631235099:
+                        if (fieldName.equals("UploadCredentials")) {
+                            context.nextToken();
+                            createBuildResult
+                                    .setUploadCredentials(CredentialsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -85175504:
+                        if (fieldName.equals("StorageLocation")) {
+                            context.nextToken();
+                            createBuildResult
+                                    .setStorageLocation(S3LocationJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,11 +53,18 @@ public class CreateFleetResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FleetAttributes", targetDepth)) {
-                    context.nextToken();
-                    createFleetResult
-                            .setFleetAttributes(FleetAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 83390757:
+                        if (fieldName.equals("FleetAttributes")) {
+                            context.nextToken();
+                            createFleetResult
+                                    .setFleetAttributes(FleetAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
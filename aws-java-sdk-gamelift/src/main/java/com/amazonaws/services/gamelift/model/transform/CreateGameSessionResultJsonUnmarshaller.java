@@ -53,11 +53,18 @@ public class CreateGameSessionResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("GameSession", targetDepth)) {
-                    context.nextToken();
-                    createGameSessionResult
-                            .setGameSession(GameSessionJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -775650780:
+                        if (fieldName.equals("GameSession")) {
+                            context.nextToken();
+                            createGameSessionResult
+                                    .setGameSession(GameSessionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
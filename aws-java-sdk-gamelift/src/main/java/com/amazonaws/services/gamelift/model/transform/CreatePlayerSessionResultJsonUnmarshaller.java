@@ -53,11 +53,18 @@ public class CreatePlayerSessionResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("PlayerSession", targetDepth)) {
-                    context.nextToken();
-                    createPlayerSessionResult
-                            .setPlayerSession(PlayerSessionJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1141956693:
+                        if (fieldName.equals("PlayerSession")) {
+                            context.nextToken();
+                            createPlayerSessionResult
+                                    .setPlayerSession(PlayerSessionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
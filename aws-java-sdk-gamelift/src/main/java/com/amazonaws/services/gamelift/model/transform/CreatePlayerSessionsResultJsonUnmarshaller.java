@@ -53,12 +53,19 @@ public class CreatePlayerSessionsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("PlayerSessions", targetDepth)) {
-                    context.nextToken();
-                    createPlayerSessionsResult
-                            .setPlayerSessions(new ListUnmarshaller<PlayerSession>(
-                                    PlayerSessionJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1040919230:
+                        if (fieldName.equals("PlayerSessions")) {
+                            context.nextToken();
+                            createPlayerSessionsResult
+                                    .setPlayerSessions(new ListUnmarshaller<PlayerSession>(
+                                            PlayerSessionJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,20 +53,31 @@ public class CredentialsJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AccessKeyId", targetDepth)) {
-                    context.nextToken();
-                    credentials.setAccessKeyId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("SecretAccessKey", targetDepth)) {
-                    context.nextToken();
-                    credentials.setSecretAccessKey(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("SessionToken", targetDepth)) {
-                    context.nextToken();
-                    credentials.setSessionToken(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 616582326:
+                        if (fieldName.equals("AccessKeyId")) {
+                            context.nextToken();
+                            credentials.setAccessKeyId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1364055403:
+                        if (fieldName.equals("SecretAccessKey")) {
+                            context.nextToken();
+                            credentials.setSecretAccessKey(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -532231901:
+                        if (fieldName.equals("SessionToken")) {
+                            context.nextToken();
+                            credentials.setSessionToken(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
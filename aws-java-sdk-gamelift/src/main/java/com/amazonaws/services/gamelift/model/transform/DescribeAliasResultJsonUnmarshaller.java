@@ -53,10 +53,17 @@ public class DescribeAliasResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Alias", targetDepth)) {
-                    context.nextToken();
-                    describeAliasResult.setAlias(AliasJsonUnmarshaller
-                            .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 63350320:
+                        if (fieldName.equals("Alias")) {
+                            context.nextToken();
+                            describeAliasResult.setAlias(AliasJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
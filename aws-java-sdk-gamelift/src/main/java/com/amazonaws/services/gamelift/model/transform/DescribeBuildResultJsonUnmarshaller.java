@@ -53,10 +53,17 @@ public class DescribeBuildResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Build", targetDepth)) {
-                    context.nextToken();
-                    describeBuildResult.setBuild(BuildJsonUnmarshaller
-                            .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 64542286:
+                        if (fieldName.equals("Build")) {
+                            context.nextToken();
+                            describeBuildResult.setBuild(BuildJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,12 +53,19 @@ public class DescribeEC2InstanceLimitsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("EC2InstanceLimits", targetDepth)) {
-                    context.nextToken();
-                    describeEC2InstanceLimitsResult
-                            .setEC2InstanceLimits(new ListUnmarshaller<EC2InstanceLimit>(
-                                    EC2InstanceLimitJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -56975999:
+                        if (fieldName.equals("EC2InstanceLimits")) {
+                            context.nextToken();
+                            describeEC2InstanceLimitsResult
+                                    .setEC2InstanceLimits(new ListUnmarshaller<EC2InstanceLimit>(
+                                            EC2InstanceLimitJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class DescribeFleetAttributesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FleetAttributes", targetDepth)) {
-                    context.nextToken();
-                    describeFleetAttributesResult
-                            .setFleetAttributes(new ListUnmarshaller<FleetAttributes>(
-                                    FleetAttributesJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeFleetAttributesResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 83390757:
+                        if (fieldName.equals("FleetAttributes")) {
+                            context.nextToken();
+                            describeFleetAttributesResult
+                                    .setFleetAttributes(new ListUnmarshaller<FleetAttributes>(
+                                            FleetAttributesJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1084080474:
+                        if (fieldName.equals("NextToken")) {
+                            context.nextToken();
+                            describeFleetAttributesResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class DescribeFleetCapacityResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FleetCapacity", targetDepth)) {
-                    context.nextToken();
-                    describeFleetCapacityResult
-                            .setFleetCapacity(new ListUnmarshaller<FleetCapacity>(
-                                    FleetCapacityJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeFleetCapacityResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -993298424:
+                        if (fieldName.equals("FleetCapacity")) {
+                            context.nextToken();
+                            describeFleetCapacityResult
+                                    .setFleetCapacity(new ListUnmarshaller<FleetCapacity>(
+                                            FleetCapacityJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1084080474:
+                        if (fieldName.equals("NextToken")) {
+                            context.nextToken();
+                            describeFleetCapacityResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
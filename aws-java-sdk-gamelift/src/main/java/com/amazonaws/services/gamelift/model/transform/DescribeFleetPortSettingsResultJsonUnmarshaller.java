@@ -53,12 +53,19 @@ public class DescribeFleetPortSettingsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("InboundPermissions", targetDepth)) {
-                    context.nextToken();
-                    describeFleetPortSettingsResult
-                            .setInboundPermissions(new ListUnmarshaller<IpPermission>(
-                                    IpPermissionJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1704724331:
+                        if (fieldName.equals("InboundPermissions")) {
+                            context.nextToken();
+                            describeFleetPortSettingsResult
+                                    .setInboundPermissions(new ListUnmarshaller<IpPermission>(
+                                            IpPermissionJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class DescribeFleetUtilizationResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FleetUtilization", targetDepth)) {
-                    context.nextToken();
-                    describeFleetUtilizationResult
-                            .setFleetUtilization(new ListUnmarshaller<FleetUtilization>(
-                                    FleetUtilizationJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeFleetUtilizationResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1785307116:
+                        if (fieldName.equals("FleetUtilization")) {
+                            context.nextToken();
+                            describeFleetUtilizationResult
+                                    .setFleetUtilization(new ListUnmarshaller<FleetUtilization>(
+                                            FleetUtilizationJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1084080474:
+                        if (fieldName.equals("NextToken")) {
+                            context.nextToken();
+                            describeFleetUtilizationResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class DescribeGameSessionDetailsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("GameSessionDetails", targetDepth)) {
-                    context.nextToken();
-                    describeGameSessionDetailsResult
-                            .setGameSessionDetails(new ListUnmarshaller<GameSessionDetail>(
-                                    GameSessionDetailJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeGameSessionDetailsResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 507582334:
+                        if (fieldName.equals("GameSessionDetails")) {
+                            context.nextToken();
+                            describeGameSessionDetailsResult
+                                    .setGameSessionDetails(new ListUnmarshaller<GameSessionDetail>(
+                                            GameSessionDetailJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1084080474:
+                        if (fieldName.equals("NextToken")) {
+                            context.nextToken();
+                            describeGameSessionDetailsResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
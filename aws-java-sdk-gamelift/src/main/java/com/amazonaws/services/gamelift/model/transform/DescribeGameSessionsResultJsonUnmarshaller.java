@@ -53,17 +53,26 @@ public class DescribeGameSessionsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("GameSessions", targetDepth)) {
-                    context.nextToken();
-                    describeGameSessionsResult
-                            .setGameSessions(new ListUnmarshaller<GameSession>(
-                                    GameSessionJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeGameSessionsResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1724629711:
+                        if (fieldName.equals("GameSessions")) {
+                            context.nextToken();
+                            describeGameSessionsResult
+                                    .setGameSessions(new ListUnmarshaller<GameSession>(
+                                            GameSessionJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1084080474:
+                        if (fieldName.equals("NextToken")) {
+                            context.nextToken();
+                            describeGameSessionsResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class DescribePlayerSessionsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("PlayerSessions", targetDepth)) {
-                    context.nextToken();
-                    describePlayerSessionsResult
-                            .setPlayerSessions(new ListUnmarshaller<PlayerSession>(
-                                    PlayerSessionJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describePlayerSessionsResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1040919230:
+                        if (fieldName.equals("PlayerSessions")) {
+                            context.nextToken();
+                            describePlayerSessionsResult
+                                    .setPlayerSessions(new ListUnmarshaller<PlayerSession>(
+                                            PlayerSessionJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1084080474:
+                        if (fieldName.equals("NextToken")) {
+                            context.nextToken();
+                            describePlayerSessionsResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,40 +53,59 @@ public class EC2InstanceCountsJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DESIRED", targetDepth)) {
-                    context.nextToken();
-                    eC2InstanceCounts.setDESIRED(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("MINIMUM", targetDepth)) {
-                    context.nextToken();
-                    eC2InstanceCounts.setMINIMUM(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("MAXIMUM", targetDepth)) {
-                    context.nextToken();
-                    eC2InstanceCounts.setMAXIMUM(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("PENDING", targetDepth)) {
-                    context.nextToken();
-                    eC2InstanceCounts.setPENDING(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("ACTIVE", targetDepth)) {
-                    context.nextToken();
-                    eC2InstanceCounts.setACTIVE(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("IDLE", targetDepth)) {
-                    context.nextToken();
-                    eC2InstanceCounts.setIDLE(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("TERMINATING", targetDepth)) {
-                    context.nextToken();
-                    eC2InstanceCounts.setTERMINATING(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -2019939718:
+                        if (fieldName.equals("DESIRED")) {
+                            context.nextToken();
+                            eC2InstanceCounts.setDESIRED(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 1782520814:
+                        if (fieldName.equals("MINIMUM")) {
+                            context.nextToken();
+                            eC2InstanceCounts.setMINIMUM(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 1562722816:
+                        if (fieldName.equals("MAXIMUM")) {
+                            context.nextToken();
+                            eC2InstanceCounts.setMAXIMUM(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 35394935:
+                        if (fieldName.equals("PENDING")) {
+                            context.nextToken();
+                            eC2InstanceCounts.setPENDING(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 1925346054:
+                        if (fieldName.equals("ACTIVE")) {
+                            context.nextToken();
+                            eC2InstanceCounts.setACTIVE(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 2242516:
+                        if (fieldName.equals("IDLE")) {
+                            context.nextToken();
+                            eC2InstanceCounts.setIDLE(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 234379966:
+                        if (fieldName.equals("TERMINATING")) {
+                            context.nextToken();
+                            eC2InstanceCounts.setTERMINATING(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,21 +53,32 @@ public class EC2InstanceLimitJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("EC2InstanceType", targetDepth)) {
-                    context.nextToken();
-                    eC2InstanceLimit.setEC2InstanceType(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CurrentInstances", targetDepth)) {
-                    context.nextToken();
-                    eC2InstanceLimit
-                            .setCurrentInstances(context.getUnmarshaller(
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -929413405:
+                        if (fieldName.equals("EC2InstanceType")) {
+                            context.nextToken();
+                            eC2InstanceLimit.setEC2InstanceType(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 325172517:
+                        if (fieldName.equals("CurrentInstances")) {
+                            context.nextToken();
+                            eC2InstanceLimit
+                                    .setCurrentInstances(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -601388026:
+                        if (fieldName.equals("InstanceLimit")) {
+                            context.nextToken();
+                            eC2InstanceLimit.setInstanceLimit(context.getUnmarshaller(
                                     Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceLimit", targetDepth)) {
-                    context.nextToken();
-                    eC2InstanceLimit.setInstanceLimit(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
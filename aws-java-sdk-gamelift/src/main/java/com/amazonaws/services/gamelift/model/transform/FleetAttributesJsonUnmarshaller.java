@@ -53,63 +53,88 @@ public class FleetAttributesJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FleetId", targetDepth)) {
-                    context.nextToken();
-                    fleetAttributes.setFleetId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Description", targetDepth)) {
-                    context.nextToken();
-                    fleetAttributes.setDescription(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    fleetAttributes.setName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationTime", targetDepth)) {
-                    context.nextToken();
-                    fleetAttributes.setCreationTime(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("TerminationTime", targetDepth)) {
-                    context.nextToken();
-                    fleetAttributes.setTerminationTime(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    fleetAttributes.setStatus(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("BuildId", targetDepth)) {
-                    context.nextToken();
-                    fleetAttributes.setBuildId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ServerLaunchPath", targetDepth)) {
-                    context.nextToken();
-                    fleetAttributes.setServerLaunchPath(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ServerLaunchParameters",
-                        targetDepth)) {
-                    context.nextToken();
-                    fleetAttributes.setServerLaunchParameters(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LogPaths", targetDepth)) {
-                    context.nextToken();
-                    fleetAttributes.setLogPaths(new ListUnmarshaller<String>(
-                            context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("NewGameSessionProtectionPolicy",
-                        targetDepth)) {
-                    context.nextToken();
-                    fleetAttributes.setNewGameSessionProtectionPolicy(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 889094889:
+                        if (fieldName.equals("FleetId")) {
+                            context.nextToken();
+                            fleetAttributes.setFleetId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -56677412:
+                        if (fieldName.equals("Description")) {
+                            context.nextToken();
+                            fleetAttributes.setDescription(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            fleetAttributes.setName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1750336108:
+                        if (fieldName.equals("CreationTime")) {
+                            context.nextToken();
+                            fleetAttributes.setCreationTime(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case -723770415:
+                        if (fieldName.equals("TerminationTime")) {
+                            context.nextToken();
+                            fleetAttributes.setTerminationTime(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case -1808614382:
+                        if (fieldName.equals("Status")) {
+                            context.nextToken();
+                            fleetAttributes.setStatus(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1895597065:
+                        if (fieldName.equals("BuildId")) {
+                            context.nextToken();
+                            fleetAttributes.setBuildId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 156516923:
+                        if (fieldName.equals("ServerLaunchPath")) {
+                            context.nextToken();
+                            fleetAttributes.setServerLaunchPath(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1000196224:
+                        if (fieldName.equals("ServerLaunchParameters")) {
+                            context.nextToken();
+                            fleetAttributes.setServerLaunchParameters(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2063948842:
+                        if (fieldName.equals("LogPaths")) {
+                            context.nextToken();
+                            fleetAttributes.setLogPaths(new ListUnmarshaller<String>(
+                                    context.getUnmarshaller(String.class))
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -842644945:
+                        if (fieldName.equals("NewGameSessionProtectionPolicy")) {
+                            context.nextToken();
+                            fleetAttributes.setNewGameSessionProtectionPolicy(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,21 +53,32 @@ public class FleetCapacityJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FleetId", targetDepth)) {
-                    context.nextToken();
-                    fleetCapacity.setFleetId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceType", targetDepth)) {
-                    context.nextToken();
-                    fleetCapacity.setInstanceType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceCounts", targetDepth)) {
-                    context.nextToken();
-                    fleetCapacity
-                            .setInstanceCounts(EC2InstanceCountsJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 889094889:
+                        if (fieldName.equals("FleetId")) {
+                            context.nextToken();
+                            fleetCapacity.setFleetId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -573335153:
+                        if (fieldName.equals("InstanceType")) {
+                            context.nextToken();
+                            fleetCapacity.setInstanceType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1715037607:
+                        if (fieldName.equals("InstanceCounts")) {
+                            context.nextToken();
+                            fleetCapacity
+                                    .setInstanceCounts(EC2InstanceCountsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,33 +53,43 @@ public class FleetUtilizationJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FleetId", targetDepth)) {
-                    context.nextToken();
-                    fleetUtilization.setFleetId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ActiveGameSessionCount",
-                        targetDepth)) {
-                    context.nextToken();
-                    fleetUtilization
-                            .setActiveGameSessionCount(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("CurrentPlayerSessionCount",
-                        targetDepth)) {
-                    context.nextToken();
-                    fleetUtilization
-                            .setCurrentPlayerSessionCount(context
-                                    .getUnmarshaller(Integer.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("MaximumPlayerSessionCount",
-                        targetDepth)) {
-                    context.nextToken();
-                    fleetUtilization
-                            .setMaximumPlayerSessionCount(context
-                                    .getUnmarshaller(Integer.class).unmarshall(
-                                            context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 889094889:
+                        if (fieldName.equals("FleetId")) {
+                            context.nextToken();
+                            fleetUtilization.setFleetId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -2052787087:
+                        if (fieldName.equals("ActiveGameSessionCount")) {
+                            context.nextToken();
+                            fleetUtilization
+                                    .setActiveGameSessionCount(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 8421075:
+                        if (fieldName.equals("CurrentPlayerSessionCount")) {
+                            context.nextToken();
+                            fleetUtilization
+                                    .setCurrentPlayerSessionCount(context
+                                            .getUnmarshaller(Integer.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -1757004870:
+                        if (fieldName.equals("MaximumPlayerSessionCount")) {
+                            context.nextToken();
+                            fleetUtilization
+                                    .setMaximumPlayerSessionCount(context
+                                            .getUnmarshaller(Integer.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
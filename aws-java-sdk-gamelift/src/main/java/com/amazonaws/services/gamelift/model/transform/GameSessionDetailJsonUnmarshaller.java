@@ -53,16 +53,25 @@ public class GameSessionDetailJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("GameSession", targetDepth)) {
-                    context.nextToken();
-                    gameSessionDetail
-                            .setGameSession(GameSessionJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ProtectionPolicy", targetDepth)) {
-                    context.nextToken();
-                    gameSessionDetail.setProtectionPolicy(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -775650780:
+                        if (fieldName.equals("GameSession")) {
+                            context.nextToken();
+                            gameSessionDetail
+                                    .setGameSession(GameSessionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -149509749:
+                        if (fieldName.equals("ProtectionPolicy")) {
+                            context.nextToken();
+                            gameSessionDetail.setProtectionPolicy(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,69 +53,93 @@ public class GameSessionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("GameSessionId", targetDepth)) {
-                    context.nextToken();
-                    gameSession.setGameSessionId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    gameSession.setName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("FleetId", targetDepth)) {
-                    context.nextToken();
-                    gameSession.setFleetId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationTime", targetDepth)) {
-                    context.nextToken();
-                    gameSession.setCreationTime(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("TerminationTime", targetDepth)) {
-                    context.nextToken();
-                    gameSession.setTerminationTime(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("CurrentPlayerSessionCount",
-                        targetDepth)) {
-                    context.nextToken();
-                    gameSession
-                            .setCurrentPlayerSessionCount(context
-                                    .getUnmarshaller(Integer.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("MaximumPlayerSessionCount",
-                        targetDepth)) {
-                    context.nextToken();
-                    gameSession
-                            .setMaximumPlayerSessionCount(context
-                                    .getUnmarshaller(Integer.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    gameSession.setStatus(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("GameProperties", targetDepth)) {
-                    context.nextToken();
-                    gameSession
-                            .setGameProperties(new ListUnmarshaller<GameProperty>(
-                                    GamePropertyJsonUnmarshaller.getInstance())
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1923912287:
+                        if (fieldName.equals("GameSessionId")) {
+                            context.nextToken();
+                            gameSession.setGameSessionId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            gameSession.setName(context.getUnmarshaller(String.class)
                                     .unmarshall(context));
-                }
-                if (context.testExpression("IpAddress", targetDepth)) {
-                    context.nextToken();
-                    gameSession.setIpAddress(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("PlayerSessionCreationPolicy",
-                        targetDepth)) {
-                    context.nextToken();
-                    gameSession.setPlayerSessionCreationPolicy(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 889094889:
+                        if (fieldName.equals("FleetId")) {
+                            context.nextToken();
+                            gameSession.setFleetId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1750336108:
+                        if (fieldName.equals("CreationTime")) {
+                            context.nextToken();
+                            gameSession.setCreationTime(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case -723770415:
+                        if (fieldName.equals("TerminationTime")) {
+                            context.nextToken();
+                            gameSession.setTerminationTime(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 8421075:
+                        if (fieldName.equals("CurrentPlayerSessionCount")) {
+                            context.nextToken();
+                            gameSession
+                                    .setCurrentPlayerSessionCount(context
+                                            .getUnmarshaller(Integer.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -1757004870:
+                        if (fieldName.equals("MaximumPlayerSessionCount")) {
+                            context.nextToken();
+                            gameSession
+                                    .setMaximumPlayerSessionCount(context
+                                            .getUnmarshaller(Integer.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -1808614382:
+                        if (fieldName.equals("Status")) {
+                            context.nextToken();
+                            gameSession.setStatus(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1218820837:
+                        if (fieldName.equals("GameProperties")) {
+                            context.nextToken();
+                            gameSession
+                                    .setGameProperties(new ListUnmarshaller<GameProperty>(
+                                            GamePropertyJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -656966483:
+                        if (fieldName.equals("IpAddress")) {
+                            context.nextToken();
+                            gameSession.setIpAddress(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1472270502:
+                        if (fieldName.equals("PlayerSessionCreationPolicy")) {
+                            context.nextToken();
+                            gameSession.setPlayerSessionCreationPolicy(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
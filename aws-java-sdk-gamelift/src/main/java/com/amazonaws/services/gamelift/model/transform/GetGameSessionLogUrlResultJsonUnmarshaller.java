@@ -53,10 +53,17 @@ public class GetGameSessionLogUrlResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("PreSignedUrl", targetDepth)) {
-                    context.nextToken();
-                    getGameSessionLogUrlResult.setPreSignedUrl(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -839564944:
+                        if (fieldName.equals("PreSignedUrl")) {
+                            context.nextToken();
+                            getGameSessionLogUrlResult.setPreSignedUrl(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,25 +53,38 @@ public class IpPermissionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FromPort", targetDepth)) {
-                    context.nextToken();
-                    ipPermission.setFromPort(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("ToPort", targetDepth)) {
-                    context.nextToken();
-                    ipPermission.setToPort(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("IpRange", targetDepth)) {
-                    context.nextToken();
-                    ipPermission.setIpRange(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Protocol", targetDepth)) {
-                    context.nextToken();
-                    ipPermission.setProtocol(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1180130453:
+                        if (fieldName.equals("FromPort")) {
+                            context.nextToken();
+                            ipPermission.setFromPort(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -1785114180:
+                        if (fieldName.equals("ToPort")) {
+                            context.nextToken();
+                            ipPermission.setToPort(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -646515658:
+                        if (fieldName.equals("IpRange")) {
+                            context.nextToken();
+                            ipPermission.setIpRange(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -924519752:
+                        if (fieldName.equals("Protocol")) {
+                            context.nextToken();
+                            ipPermission.setProtocol(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,45 +53,66 @@ public class PlayerSessionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("PlayerSessionId", targetDepth)) {
-                    context.nextToken();
-                    playerSession.setPlayerSessionId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("PlayerId", targetDepth)) {
-                    context.nextToken();
-                    playerSession.setPlayerId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("GameSessionId", targetDepth)) {
-                    context.nextToken();
-                    playerSession.setGameSessionId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("FleetId", targetDepth)) {
-                    context.nextToken();
-                    playerSession.setFleetId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationTime", targetDepth)) {
-                    context.nextToken();
-                    playerSession.setCreationTime(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("TerminationTime", targetDepth)) {
-                    context.nextToken();
-                    playerSession.setTerminationTime(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    playerSession.setStatus(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("IpAddress", targetDepth)) {
-                    context.nextToken();
-                    playerSession.setIpAddress(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -2091243440:
+                        if (fieldName.equals("PlayerSessionId")) {
+                            context.nextToken();
+                            playerSession.setPlayerSessionId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1943917564:
+                        if (fieldName.equals("PlayerId")) {
+                            context.nextToken();
+                            playerSession.setPlayerId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1923912287:
+                        if (fieldName.equals("GameSessionId")) {
+                            context.nextToken();
+                            playerSession.setGameSessionId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 889094889:
+                        if (fieldName.equals("FleetId")) {
+                            context.nextToken();
+                            playerSession.setFleetId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1750336108:
+                        if (fieldName.equals("CreationTime")) {
+                            context.nextToken();
+                            playerSession.setCreationTime(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case -723770415:
+                        if (fieldName.equals("TerminationTime")) {
+                            context.nextToken();
+                            playerSession.setTerminationTime(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case -1808614382:
+                        if (fieldName.equals("Status")) {
+                            context.nextToken();
+                            playerSession.setStatus(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -656966483:
+                        if (fieldName.equals("IpAddress")) {
+                            context.nextToken();
+                            playerSession.setIpAddress(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class RequestUploadCredentialsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("UploadCredentials", targetDepth)) {
-                    context.nextToken();
-                    requestUploadCredentialsResult
-                            .setUploadCredentials(CredentialsJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("StorageLocation", targetDepth)) {
-                    context.nextToken();
-                    requestUploadCredentialsResult
-                            .setStorageLocation(S3LocationJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 631235099:
+                        if (fieldName.equals("UploadCredentials")) {
+                            context.nextToken();
+                            requestUploadCredentialsResult
+                                    .setUploadCredentials(CredentialsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -85175504:
+                        if (fieldName.equals("StorageLocation")) {
+                            context.nextToken();
+                            requestUploadCredentialsResult
+                                    .setStorageLocation(S3LocationJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
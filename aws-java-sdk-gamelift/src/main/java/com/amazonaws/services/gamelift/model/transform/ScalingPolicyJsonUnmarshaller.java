@@ -53,51 +53,73 @@ public class ScalingPolicyJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FleetId", targetDepth)) {
-                    context.nextToken();
-                    scalingPolicy.setFleetId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    scalingPolicy.setName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    scalingPolicy.setStatus(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ScalingAdjustment", targetDepth)) {
-                    context.nextToken();
-                    scalingPolicy.setScalingAdjustment(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("ScalingAdjustmentType", targetDepth)) {
-                    context.nextToken();
-                    scalingPolicy.setScalingAdjustmentType(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ComparisonOperator", targetDepth)) {
-                    context.nextToken();
-                    scalingPolicy.setComparisonOperator(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Threshold", targetDepth)) {
-                    context.nextToken();
-                    scalingPolicy.setThreshold(context.getUnmarshaller(
-                            Double.class).unmarshall(context));
-                }
-                if (context.testExpression("EvaluationPeriods", targetDepth)) {
-                    context.nextToken();
-                    scalingPolicy.setEvaluationPeriods(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("MetricName", targetDepth)) {
-                    context.nextToken();
-                    scalingPolicy.setMetricName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 889094889:
+                        if (fieldName.equals("FleetId")) {
+                            context.nextToken();
+                            scalingPolicy.setFleetId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            scalingPolicy.setName(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1808614382:
+                        if (fieldName.equals("Status")) {
+                            context.nextToken();
+                            scalingPolicy.setStatus(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1359968204:
+                        if (fieldName.equals("ScalingAdjustment")) {
+                            context.nextToken();
+                            scalingPolicy.setScalingAdjustment(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 913396110:
+                        if (fieldName.equals("ScalingAdjustmentType")) {
+                            context.nextToken();
+                            scalingPolicy.setScalingAdjustmentType(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 607067117:
+                        if (fieldName.equals("ComparisonOperator")) {
+                            context.nextToken();
+                            scalingPolicy.setComparisonOperator(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 458490955:
+                        if (fieldName.equals("Threshold")) {
+                            context.nextToken();
+                            scalingPolicy.setThreshold(context.getUnmarshaller(
+                                    Double.class).unmarshall(context));
+                        }
+                        break;
+                    case -908281898:
+                        if (fieldName.equals("EvaluationPeriods")) {
+                            context.nextToken();
+                            scalingPolicy.setEvaluationPeriods(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 1382705275:
+                        if (fieldName.equals("MetricName")) {
+                            context.nextToken();
+                            scalingPolicy.setMetricName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,12 +53,19 @@ public class DataRetrievalPolicyJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Rules", targetDepth)) {
-                    context.nextToken();
-                    dataRetrievalPolicy
-                            .setRules(new ListUnmarshaller<DataRetrievalRule>(
-                                    DataRetrievalRuleJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 79321303:
+                        if (fieldName.equals("Rules")) {
+                            context.nextToken();
+                            dataRetrievalPolicy
+                                    .setRules(new ListUnmarshaller<DataRetrievalRule>(
+                                            DataRetrievalRuleJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class DataRetrievalRuleJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Strategy", targetDepth)) {
-                    context.nextToken();
-                    dataRetrievalRule.setStrategy(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("BytesPerHour", targetDepth)) {
-                    context.nextToken();
-                    dataRetrievalRule.setBytesPerHour(context.getUnmarshaller(
-                            Long.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1852442515:
+                        if (fieldName.equals("Strategy")) {
+                            context.nextToken();
+                            dataRetrievalRule.setStrategy(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1896362454:
+                        if (fieldName.equals("BytesPerHour")) {
+                            context.nextToken();
+                            dataRetrievalRule.setBytesPerHour(context.getUnmarshaller(
+                                    Long.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,93 +53,130 @@ public class DescribeJobResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("JobId", targetDepth)) {
-                    context.nextToken();
-                    describeJobResult.setJobId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("JobDescription", targetDepth)) {
-                    context.nextToken();
-                    describeJobResult.setJobDescription(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Action", targetDepth)) {
-                    context.nextToken();
-                    describeJobResult.setAction(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ArchiveId", targetDepth)) {
-                    context.nextToken();
-                    describeJobResult.setArchiveId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("VaultARN", targetDepth)) {
-                    context.nextToken();
-                    describeJobResult.setVaultARN(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationDate", targetDepth)) {
-                    context.nextToken();
-                    describeJobResult.setCreationDate(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Completed", targetDepth)) {
-                    context.nextToken();
-                    describeJobResult.setCompleted(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("StatusCode", targetDepth)) {
-                    context.nextToken();
-                    describeJobResult.setStatusCode(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("StatusMessage", targetDepth)) {
-                    context.nextToken();
-                    describeJobResult.setStatusMessage(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ArchiveSizeInBytes", targetDepth)) {
-                    context.nextToken();
-                    describeJobResult.setArchiveSizeInBytes(context
-                            .getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("InventorySizeInBytes", targetDepth)) {
-                    context.nextToken();
-                    describeJobResult.setInventorySizeInBytes(context
-                            .getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("SNSTopic", targetDepth)) {
-                    context.nextToken();
-                    describeJobResult.setSNSTopic(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("CompletionDate", targetDepth)) {
-                    context.nextToken();
-                    describeJobResult.setCompletionDate(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SHA256TreeHash", targetDepth)) {
-                    context.nextToken();
-                    describeJobResult.setSHA256TreeHash(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("ArchiveSHA256TreeHash", targetDepth)) {
-                    context.nextToken();
-                    describeJobResult.setArchiveSHA256TreeHash(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RetrievalByteRange", targetDepth)) {
-                    context.nextToken();
-                    describeJobResult.setRetrievalByteRange(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InventoryRetrievalParameters",
-                        targetDepth)) {
-                    context.nextToken();
-                    describeJobResult
-                            .setInventoryRetrievalParameters(InventoryRetrievalJobDescriptionJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 71743896:
+                        if (fieldName.equals("JobId")) {
+                            context.nextToken();
+                            describeJobResult.setJobId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1551068129:
+                        if (fieldName.equals("JobDescription")) {
+                            context.nextToken();
+                            describeJobResult.setJobDescription(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1955883606:
+                        if (fieldName.equals("Action")) {
+                            context.nextToken();
+                            describeJobResult.setAction(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 338026845:
+                        if (fieldName.equals("ArchiveId")) {
+                            context.nextToken();
+                            describeJobResult.setArchiveId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1095750933:
+                        if (fieldName.equals("VaultARN")) {
+                            context.nextToken();
+                            describeJobResult.setVaultARN(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1749851981:
+                        if (fieldName.equals("CreationDate")) {
+                            context.nextToken();
+                            describeJobResult.setCreationDate(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 601036331:
+                        if (fieldName.equals("Completed")) {
+                            context.nextToken();
+                            describeJobResult.setCompleted(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case -2053995233:
+                        if (fieldName.equals("StatusCode")) {
+                            context.nextToken();
+                            describeJobResult.setStatusCode(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -159743083:
+                        if (fieldName.equals("StatusMessage")) {
+                            context.nextToken();
+                            describeJobResult.setStatusMessage(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 547220739:
+                        if (fieldName.equals("ArchiveSizeInBytes")) {
+                            context.nextToken();
+                            describeJobResult.setArchiveSizeInBytes(context
+                                    .getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 958572585:
+                        if (fieldName.equals("InventorySizeInBytes")) {
+                            context.nextToken();
+                            describeJobResult.setInventorySizeInBytes(context
+                                    .getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 1587393207:
+                        if (fieldName.equals("SNSTopic")) {
+                            context.nextToken();
+                            describeJobResult.setSNSTopic(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 144164298:
+                        if (fieldName.equals("CompletionDate")) {
+                            context.nextToken();
+                            describeJobResult.setCompletionDate(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -2002780877:
+                        if (fieldName.equals("SHA256TreeHash")) {
+                            context.nextToken();
+                            describeJobResult.setSHA256TreeHash(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -936857003:
+                        if (fieldName.equals("ArchiveSHA256TreeHash")) {
+                            context.nextToken();
+                            describeJobResult.setArchiveSHA256TreeHash(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1020511135:
+                        if (fieldName.equals("RetrievalByteRange")) {
+                            context.nextToken();
+                            describeJobResult.setRetrievalByteRange(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1129259362:
+                        if (fieldName.equals("InventoryRetrievalParameters")) {
+                            context.nextToken();
+                            describeJobResult
+                                    .setInventoryRetrievalParameters(InventoryRetrievalJobDescriptionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
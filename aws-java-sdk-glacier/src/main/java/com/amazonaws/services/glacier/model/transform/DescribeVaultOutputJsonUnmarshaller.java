@@ -53,35 +53,52 @@ public class DescribeVaultOutputJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("VaultARN", targetDepth)) {
-                    context.nextToken();
-                    describeVaultOutput.setVaultARN(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("VaultName", targetDepth)) {
-                    context.nextToken();
-                    describeVaultOutput.setVaultName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationDate", targetDepth)) {
-                    context.nextToken();
-                    describeVaultOutput.setCreationDate(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LastInventoryDate", targetDepth)) {
-                    context.nextToken();
-                    describeVaultOutput.setLastInventoryDate(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("NumberOfArchives", targetDepth)) {
-                    context.nextToken();
-                    describeVaultOutput.setNumberOfArchives(context
-                            .getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("SizeInBytes", targetDepth)) {
-                    context.nextToken();
-                    describeVaultOutput.setSizeInBytes(context.getUnmarshaller(
-                            Long.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1095750933:
+                        if (fieldName.equals("VaultARN")) {
+                            context.nextToken();
+                            describeVaultOutput.setVaultARN(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 391862205:
+                        if (fieldName.equals("VaultName")) {
+                            context.nextToken();
+                            describeVaultOutput.setVaultName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1749851981:
+                        if (fieldName.equals("CreationDate")) {
+                            context.nextToken();
+                            describeVaultOutput.setCreationDate(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -177295340:
+                        if (fieldName.equals("LastInventoryDate")) {
+                            context.nextToken();
+                            describeVaultOutput.setLastInventoryDate(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1346758863:
+                        if (fieldName.equals("NumberOfArchives")) {
+                            context.nextToken();
+                            describeVaultOutput.setNumberOfArchives(context
+                                    .getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    case -235946267:
+                        if (fieldName.equals("SizeInBytes")) {
+                            context.nextToken();
+                            describeVaultOutput.setSizeInBytes(context.getUnmarshaller(
+                                    Long.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
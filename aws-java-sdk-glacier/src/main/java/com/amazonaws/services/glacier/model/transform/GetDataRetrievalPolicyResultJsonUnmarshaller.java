@@ -53,11 +53,18 @@ public class GetDataRetrievalPolicyResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Policy", targetDepth)) {
-                    context.nextToken();
-                    getDataRetrievalPolicyResult
-                            .setPolicy(DataRetrievalPolicyJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1898802862:
+                        if (fieldName.equals("Policy")) {
+                            context.nextToken();
+                            getDataRetrievalPolicyResult
+                                    .setPolicy(DataRetrievalPolicyJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
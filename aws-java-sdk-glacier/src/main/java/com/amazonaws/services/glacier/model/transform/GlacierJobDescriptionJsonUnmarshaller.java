@@ -53,93 +53,130 @@ public class GlacierJobDescriptionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("JobId", targetDepth)) {
-                    context.nextToken();
-                    glacierJobDescription.setJobId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("JobDescription", targetDepth)) {
-                    context.nextToken();
-                    glacierJobDescription.setJobDescription(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Action", targetDepth)) {
-                    context.nextToken();
-                    glacierJobDescription.setAction(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ArchiveId", targetDepth)) {
-                    context.nextToken();
-                    glacierJobDescription.setArchiveId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("VaultARN", targetDepth)) {
-                    context.nextToken();
-                    glacierJobDescription.setVaultARN(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationDate", targetDepth)) {
-                    context.nextToken();
-                    glacierJobDescription.setCreationDate(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Completed", targetDepth)) {
-                    context.nextToken();
-                    glacierJobDescription.setCompleted(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("StatusCode", targetDepth)) {
-                    context.nextToken();
-                    glacierJobDescription.setStatusCode(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StatusMessage", targetDepth)) {
-                    context.nextToken();
-                    glacierJobDescription.setStatusMessage(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ArchiveSizeInBytes", targetDepth)) {
-                    context.nextToken();
-                    glacierJobDescription.setArchiveSizeInBytes(context
-                            .getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("InventorySizeInBytes", targetDepth)) {
-                    context.nextToken();
-                    glacierJobDescription.setInventorySizeInBytes(context
-                            .getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("SNSTopic", targetDepth)) {
-                    context.nextToken();
-                    glacierJobDescription.setSNSTopic(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("CompletionDate", targetDepth)) {
-                    context.nextToken();
-                    glacierJobDescription.setCompletionDate(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SHA256TreeHash", targetDepth)) {
-                    context.nextToken();
-                    glacierJobDescription.setSHA256TreeHash(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("ArchiveSHA256TreeHash", targetDepth)) {
-                    context.nextToken();
-                    glacierJobDescription.setArchiveSHA256TreeHash(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RetrievalByteRange", targetDepth)) {
-                    context.nextToken();
-                    glacierJobDescription.setRetrievalByteRange(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InventoryRetrievalParameters",
-                        targetDepth)) {
-                    context.nextToken();
-                    glacierJobDescription
-                            .setInventoryRetrievalParameters(InventoryRetrievalJobDescriptionJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 71743896:
+                        if (fieldName.equals("JobId")) {
+                            context.nextToken();
+                            glacierJobDescription.setJobId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1551068129:
+                        if (fieldName.equals("JobDescription")) {
+                            context.nextToken();
+                            glacierJobDescription.setJobDescription(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1955883606:
+                        if (fieldName.equals("Action")) {
+                            context.nextToken();
+                            glacierJobDescription.setAction(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 338026845:
+                        if (fieldName.equals("ArchiveId")) {
+                            context.nextToken();
+                            glacierJobDescription.setArchiveId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1095750933:
+                        if (fieldName.equals("VaultARN")) {
+                            context.nextToken();
+                            glacierJobDescription.setVaultARN(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1749851981:
+                        if (fieldName.equals("CreationDate")) {
+                            context.nextToken();
+                            glacierJobDescription.setCreationDate(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 601036331:
+                        if (fieldName.equals("Completed")) {
+                            context.nextToken();
+                            glacierJobDescription.setCompleted(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case -2053995233:
+                        if (fieldName.equals("StatusCode")) {
+                            context.nextToken();
+                            glacierJobDescription.setStatusCode(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -159743083:
+                        if (fieldName.equals("StatusMessage")) {
+                            context.nextToken();
+                            glacierJobDescription.setStatusMessage(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 547220739:
+                        if (fieldName.equals("ArchiveSizeInBytes")) {
+                            context.nextToken();
+                            glacierJobDescription.setArchiveSizeInBytes(context
+                                    .getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 958572585:
+                        if (fieldName.equals("InventorySizeInBytes")) {
+                            context.nextToken();
+                            glacierJobDescription.setInventorySizeInBytes(context
+                                    .getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 1587393207:
+                        if (fieldName.equals("SNSTopic")) {
+                            context.nextToken();
+                            glacierJobDescription.setSNSTopic(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 144164298:
+                        if (fieldName.equals("CompletionDate")) {
+                            context.nextToken();
+                            glacierJobDescription.setCompletionDate(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -2002780877:
+                        if (fieldName.equals("SHA256TreeHash")) {
+                            context.nextToken();
+                            glacierJobDescription.setSHA256TreeHash(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -936857003:
+                        if (fieldName.equals("ArchiveSHA256TreeHash")) {
+                            context.nextToken();
+                            glacierJobDescription.setArchiveSHA256TreeHash(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1020511135:
+                        if (fieldName.equals("RetrievalByteRange")) {
+                            context.nextToken();
+                            glacierJobDescription.setRetrievalByteRange(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1129259362:
+                        if (fieldName.equals("InventoryRetrievalParameters")) {
+                            context.nextToken();
+                            glacierJobDescription
+                                    .setInventoryRetrievalParameters(InventoryRetrievalJobDescriptionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
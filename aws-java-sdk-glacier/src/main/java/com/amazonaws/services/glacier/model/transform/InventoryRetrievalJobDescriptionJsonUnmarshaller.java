@@ -53,30 +53,45 @@ public class InventoryRetrievalJobDescriptionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Format", targetDepth)) {
-                    context.nextToken();
-                    inventoryRetrievalJobDescription.setFormat(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StartDate", targetDepth)) {
-                    context.nextToken();
-                    inventoryRetrievalJobDescription.setStartDate(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EndDate", targetDepth)) {
-                    context.nextToken();
-                    inventoryRetrievalJobDescription.setEndDate(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Limit", targetDepth)) {
-                    context.nextToken();
-                    inventoryRetrievalJobDescription.setLimit(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    inventoryRetrievalJobDescription.setMarker(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2110055447:
+                        if (fieldName.equals("Format")) {
+                            context.nextToken();
+                            inventoryRetrievalJobDescription.setFormat(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -125810928:
+                        if (fieldName.equals("StartDate")) {
+                            context.nextToken();
+                            inventoryRetrievalJobDescription.setStartDate(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 56925961:
+                        if (fieldName.equals("EndDate")) {
+                            context.nextToken();
+                            inventoryRetrievalJobDescription.setEndDate(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 73423771:
+                        if (fieldName.equals("Limit")) {
+                            context.nextToken();
+                            inventoryRetrievalJobDescription.setLimit(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1997438886:
+                        if (fieldName.equals("Marker")) {
+                            context.nextToken();
+                            inventoryRetrievalJobDescription.setMarker(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
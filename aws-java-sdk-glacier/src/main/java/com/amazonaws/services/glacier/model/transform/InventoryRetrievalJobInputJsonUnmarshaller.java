@@ -53,25 +53,38 @@ public class InventoryRetrievalJobInputJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StartDate", targetDepth)) {
-                    context.nextToken();
-                    inventoryRetrievalJobInput.setStartDate(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EndDate", targetDepth)) {
-                    context.nextToken();
-                    inventoryRetrievalJobInput.setEndDate(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Limit", targetDepth)) {
-                    context.nextToken();
-                    inventoryRetrievalJobInput.setLimit(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    inventoryRetrievalJobInput.setMarker(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -125810928:
+                        if (fieldName.equals("StartDate")) {
+                            context.nextToken();
+                            inventoryRetrievalJobInput.setStartDate(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 56925961:
+                        if (fieldName.equals("EndDate")) {
+                            context.nextToken();
+                            inventoryRetrievalJobInput.setEndDate(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 73423771:
+                        if (fieldName.equals("Limit")) {
+                            context.nextToken();
+                            inventoryRetrievalJobInput.setLimit(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1997438886:
+                        if (fieldName.equals("Marker")) {
+                            context.nextToken();
+                            inventoryRetrievalJobInput.setMarker(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class ListJobsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("JobList", targetDepth)) {
-                    context.nextToken();
-                    listJobsResult
-                            .setJobList(new ListUnmarshaller<GlacierJobDescription>(
-                                    GlacierJobDescriptionJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    listJobsResult.setMarker(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 226505179:
+                        if (fieldName.equals("JobList")) {
+                            context.nextToken();
+                            listJobsResult
+                                    .setJobList(new ListUnmarshaller<GlacierJobDescription>(
+                                            GlacierJobDescriptionJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1997438886:
+                        if (fieldName.equals("Marker")) {
+                            context.nextToken();
+                            listJobsResult.setMarker(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class ListMultipartUploadsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("UploadsList", targetDepth)) {
-                    context.nextToken();
-                    listMultipartUploadsResult
-                            .setUploadsList(new ListUnmarshaller<UploadListElement>(
-                                    UploadListElementJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    listMultipartUploadsResult.setMarker(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1544821200:
+                        if (fieldName.equals("UploadsList")) {
+                            context.nextToken();
+                            listMultipartUploadsResult
+                                    .setUploadsList(new ListUnmarshaller<UploadListElement>(
+                                            UploadListElementJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1997438886:
+                        if (fieldName.equals("Marker")) {
+                            context.nextToken();
+                            listMultipartUploadsResult.setMarker(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,42 +53,61 @@ public class ListPartsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("MultipartUploadId", targetDepth)) {
-                    context.nextToken();
-                    listPartsResult.setMultipartUploadId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VaultARN", targetDepth)) {
-                    context.nextToken();
-                    listPartsResult.setVaultARN(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ArchiveDescription", targetDepth)) {
-                    context.nextToken();
-                    listPartsResult.setArchiveDescription(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PartSizeInBytes", targetDepth)) {
-                    context.nextToken();
-                    listPartsResult.setPartSizeInBytes(context.getUnmarshaller(
-                            Long.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationDate", targetDepth)) {
-                    context.nextToken();
-                    listPartsResult.setCreationDate(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Parts", targetDepth)) {
-                    context.nextToken();
-                    listPartsResult
-                            .setParts(new ListUnmarshaller<PartListElement>(
-                                    PartListElementJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    listPartsResult.setMarker(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1866872920:
+                        if (fieldName.equals("MultipartUploadId")) {
+                            context.nextToken();
+                            listPartsResult.setMultipartUploadId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1095750933:
+                        if (fieldName.equals("VaultARN")) {
+                            context.nextToken();
+                            listPartsResult.setVaultARN(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 726489594:
+                        if (fieldName.equals("ArchiveDescription")) {
+                            context.nextToken();
+                            listPartsResult.setArchiveDescription(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1315056882:
+                        if (fieldName.equals("PartSizeInBytes")) {
+                            context.nextToken();
+                            listPartsResult.setPartSizeInBytes(context.getUnmarshaller(
+                                    Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 1749851981:
+                        if (fieldName.equals("CreationDate")) {
+                            context.nextToken();
+                            listPartsResult.setCreationDate(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 76884672:
+                        if (fieldName.equals("Parts")) {
+                            context.nextToken();
+                            listPartsResult
+                                    .setParts(new ListUnmarshaller<PartListElement>(
+                                            PartListElementJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1997438886:
+                        if (fieldName.equals("Marker")) {
+                            context.nextToken();
+                            listPartsResult.setMarker(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class ListVaultsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("VaultList", targetDepth)) {
-                    context.nextToken();
-                    listVaultsResult
-                            .setVaultList(new ListUnmarshaller<DescribeVaultOutput>(
-                                    DescribeVaultOutputJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    listVaultsResult.setMarker(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 391810512:
+                        if (fieldName.equals("VaultList")) {
+                            context.nextToken();
+                            listVaultsResult
+                                    .setVaultList(new ListUnmarshaller<DescribeVaultOutput>(
+                                            DescribeVaultOutputJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1997438886:
+                        if (fieldName.equals("Marker")) {
+                            context.nextToken();
+                            listVaultsResult.setMarker(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
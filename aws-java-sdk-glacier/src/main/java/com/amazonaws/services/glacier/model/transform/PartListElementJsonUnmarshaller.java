@@ -53,15 +53,24 @@ public class PartListElementJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RangeInBytes", targetDepth)) {
-                    context.nextToken();
-                    partListElement.setRangeInBytes(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("SHA256TreeHash", targetDepth)) {
-                    context.nextToken();
-                    partListElement.setSHA256TreeHash(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1370715753:
+                        if (fieldName.equals("RangeInBytes")) {
+                            context.nextToken();
+                            partListElement.setRangeInBytes(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -2002780877:
+                        if (fieldName.equals("SHA256TreeHash")) {
+                            context.nextToken();
+                            partListElement.setSHA256TreeHash(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
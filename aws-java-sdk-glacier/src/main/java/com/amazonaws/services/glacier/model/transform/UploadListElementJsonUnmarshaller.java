@@ -53,30 +53,45 @@ public class UploadListElementJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("MultipartUploadId", targetDepth)) {
-                    context.nextToken();
-                    uploadListElement.setMultipartUploadId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VaultARN", targetDepth)) {
-                    context.nextToken();
-                    uploadListElement.setVaultARN(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ArchiveDescription", targetDepth)) {
-                    context.nextToken();
-                    uploadListElement.setArchiveDescription(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PartSizeInBytes", targetDepth)) {
-                    context.nextToken();
-                    uploadListElement.setPartSizeInBytes(context
-                            .getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationDate", targetDepth)) {
-                    context.nextToken();
-                    uploadListElement.setCreationDate(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1866872920:
+                        if (fieldName.equals("MultipartUploadId")) {
+                            context.nextToken();
+                            uploadListElement.setMultipartUploadId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1095750933:
+                        if (fieldName.equals("VaultARN")) {
+                            context.nextToken();
+                            uploadListElement.setVaultARN(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 726489594:
+                        if (fieldName.equals("ArchiveDescription")) {
+                            context.nextToken();
+                            uploadListElement.setArchiveDescription(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1315056882:
+                        if (fieldName.equals("PartSizeInBytes")) {
+                            context.nextToken();
+                            uploadListElement.setPartSizeInBytes(context
+                                    .getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 1749851981:
+                        if (fieldName.equals("CreationDate")) {
+                            context.nextToken();
+                            uploadListElement.setCreationDate(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
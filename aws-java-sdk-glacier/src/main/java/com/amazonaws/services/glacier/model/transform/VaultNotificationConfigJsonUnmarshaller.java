@@ -53,17 +53,26 @@ public class VaultNotificationConfigJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SNSTopic", targetDepth)) {
-                    context.nextToken();
-                    vaultNotificationConfig.setSNSTopic(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Events", targetDepth)) {
-                    context.nextToken();
-                    vaultNotificationConfig
-                            .setEvents(new ListUnmarshaller<String>(context
-                                    .getUnmarshaller(String.class))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1587393207:
+                        if (fieldName.equals("SNSTopic")) {
+                            context.nextToken();
+                            vaultNotificationConfig.setSNSTopic(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2087505209:
+                        if (fieldName.equals("Events")) {
+                            context.nextToken();
+                            vaultNotificationConfig
+                                    .setEvents(new ListUnmarshaller<String>(context
+                                            .getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,13 +53,20 @@ public class AddAttributesToFindingsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("failedItems", targetDepth)) {
-                    context.nextToken();
-                    addAttributesToFindingsResult
-                            .setFailedItems(new MapUnmarshaller<String, FailedItemDetails>(
-                                    context.getUnmarshaller(String.class),
-                                    FailedItemDetailsJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 330858883:
+                        if (fieldName.equals("failedItems")) {
+                            context.nextToken();
+                            addAttributesToFindingsResult
+                                    .setFailedItems(new MapUnmarshaller<String, FailedItemDetails>(
+                                            context.getUnmarshaller(String.class),
+                                            FailedItemDetailsJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class AgentAlreadyRunningAssessmentJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("agentId", targetDepth)) {
-                    context.nextToken();
-                    agentAlreadyRunningAssessment.setAgentId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("assessmentRunArn", targetDepth)) {
-                    context.nextToken();
-                    agentAlreadyRunningAssessment.setAssessmentRunArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1060987136:
+                        if (fieldName.equals("agentId")) {
+                            context.nextToken();
+                            agentAlreadyRunningAssessment.setAgentId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1838989620:
+                        if (fieldName.equals("assessmentRunArn")) {
+                            context.nextToken();
+                            agentAlreadyRunningAssessment.setAssessmentRunArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
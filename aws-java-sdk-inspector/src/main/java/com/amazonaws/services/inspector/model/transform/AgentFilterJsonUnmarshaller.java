@@ -53,18 +53,27 @@ public class AgentFilterJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("agentHealths", targetDepth)) {
-                    context.nextToken();
-                    agentFilter.setAgentHealths(new ListUnmarshaller<String>(
-                            context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("agentHealthCodes", targetDepth)) {
-                    context.nextToken();
-                    agentFilter
-                            .setAgentHealthCodes(new ListUnmarshaller<String>(
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1923014958:
+                        if (fieldName.equals("agentHealths")) {
+                            context.nextToken();
+                            agentFilter.setAgentHealths(new ListUnmarshaller<String>(
                                     context.getUnmarshaller(String.class))
                                     .unmarshall(context));
+                        }
+                        break;
+                    case -1530857755:
+                        if (fieldName.equals("agentHealthCodes")) {
+                            context.nextToken();
+                            agentFilter
+                                    .setAgentHealthCodes(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
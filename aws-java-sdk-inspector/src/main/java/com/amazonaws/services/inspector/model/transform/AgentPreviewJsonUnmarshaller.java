@@ -53,15 +53,24 @@ public class AgentPreviewJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("agentId", targetDepth)) {
-                    context.nextToken();
-                    agentPreview.setAgentId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("autoScalingGroup", targetDepth)) {
-                    context.nextToken();
-                    agentPreview.setAutoScalingGroup(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1060987136:
+                        if (fieldName.equals("agentId")) {
+                            context.nextToken();
+                            agentPreview.setAgentId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -2034087289:
+                        if (fieldName.equals("autoScalingGroup")) {
+                            context.nextToken();
+                            agentPreview.setAutoScalingGroup(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,42 +53,61 @@ public class AssessmentRunAgentJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("agentId", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunAgent.setAgentId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("assessmentRunArn", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunAgent.setAssessmentRunArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("agentHealth", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunAgent.setAgentHealth(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("agentHealthCode", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunAgent.setAgentHealthCode(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("agentHealthDetails", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunAgent.setAgentHealthDetails(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("autoScalingGroup", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunAgent.setAutoScalingGroup(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("telemetryMetadata", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunAgent
-                            .setTelemetryMetadata(new ListUnmarshaller<TelemetryMetadata>(
-                                    TelemetryMetadataJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1060987136:
+                        if (fieldName.equals("agentId")) {
+                            context.nextToken();
+                            assessmentRunAgent.setAgentId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1838989620:
+                        if (fieldName.equals("assessmentRunArn")) {
+                            context.nextToken();
+                            assessmentRunAgent.setAssessmentRunArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1323440577:
+                        if (fieldName.equals("agentHealth")) {
+                            context.nextToken();
+                            assessmentRunAgent.setAgentHealth(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2028827470:
+                        if (fieldName.equals("agentHealthCode")) {
+                            context.nextToken();
+                            assessmentRunAgent.setAgentHealthCode(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1659624127:
+                        if (fieldName.equals("agentHealthDetails")) {
+                            context.nextToken();
+                            assessmentRunAgent.setAgentHealthDetails(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -2034087289:
+                        if (fieldName.equals("autoScalingGroup")) {
+                            context.nextToken();
+                            assessmentRunAgent.setAutoScalingGroup(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1697397256:
+                        if (fieldName.equals("telemetryMetadata")) {
+                            context.nextToken();
+                            assessmentRunAgent
+                                    .setTelemetryMetadata(new ListUnmarshaller<TelemetryMetadata>(
+                                            TelemetryMetadataJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,47 +53,66 @@ public class AssessmentRunFilterJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("namePattern", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunFilter.setNamePattern(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("states", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunFilter.setStates(new ListUnmarshaller<String>(
-                            context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("durationRange", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunFilter
-                            .setDurationRange(DurationRangeJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("rulesPackageArns", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunFilter
-                            .setRulesPackageArns(new ListUnmarshaller<String>(
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -618387835:
+                        if (fieldName.equals("namePattern")) {
+                            context.nextToken();
+                            assessmentRunFilter.setNamePattern(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -892482046:
+                        if (fieldName.equals("states")) {
+                            context.nextToken();
+                            assessmentRunFilter.setStates(new ListUnmarshaller<String>(
                                     context.getUnmarshaller(String.class))
                                     .unmarshall(context));
-                }
-                if (context.testExpression("startTimeRange", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunFilter
-                            .setStartTimeRange(TimestampRangeJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("completionTimeRange", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunFilter
-                            .setCompletionTimeRange(TimestampRangeJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("stateChangeTimeRange", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunFilter
-                            .setStateChangeTimeRange(TimestampRangeJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 128079881:
+                        if (fieldName.equals("durationRange")) {
+                            context.nextToken();
+                            assessmentRunFilter
+                                    .setDurationRange(DurationRangeJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -170207835:
+                        if (fieldName.equals("rulesPackageArns")) {
+                            context.nextToken();
+                            assessmentRunFilter
+                                    .setRulesPackageArns(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -330246098:
+                        if (fieldName.equals("startTimeRange")) {
+                            context.nextToken();
+                            assessmentRunFilter
+                                    .setStartTimeRange(TimestampRangeJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 204505588:
+                        if (fieldName.equals("completionTimeRange")) {
+                            context.nextToken();
+                            assessmentRunFilter
+                                    .setCompletionTimeRange(TimestampRangeJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -65798193:
+                        if (fieldName.equals("stateChangeTimeRange")) {
+                            context.nextToken();
+                            assessmentRunFilter
+                                    .setStateChangeTimeRange(TimestampRangeJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,85 +53,116 @@ public class AssessmentRunJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("arn", targetDepth)) {
-                    context.nextToken();
-                    assessmentRun.setArn(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    assessmentRun.setName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context
-                        .testExpression("assessmentTemplateArn", targetDepth)) {
-                    context.nextToken();
-                    assessmentRun.setAssessmentTemplateArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("state", targetDepth)) {
-                    context.nextToken();
-                    assessmentRun.setState(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("durationInSeconds", targetDepth)) {
-                    context.nextToken();
-                    assessmentRun.setDurationInSeconds(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("rulesPackageArns", targetDepth)) {
-                    context.nextToken();
-                    assessmentRun
-                            .setRulesPackageArns(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 96861:
+                        if (fieldName.equals("arn")) {
+                            context.nextToken();
+                            assessmentRun.setArn(context.getUnmarshaller(String.class)
                                     .unmarshall(context));
-                }
-                if (context.testExpression("userAttributesForFindings",
-                        targetDepth)) {
-                    context.nextToken();
-                    assessmentRun
-                            .setUserAttributesForFindings(new ListUnmarshaller<Attribute>(
-                                    AttributeJsonUnmarshaller.getInstance())
+                        }
+                        break;
+                    case 3373707:
+                        if (fieldName.equals("name")) {
+                            context.nextToken();
+                            assessmentRun.setName(context.getUnmarshaller(String.class)
                                     .unmarshall(context));
-                }
-                if (context.testExpression("createdAt", targetDepth)) {
-                    context.nextToken();
-                    assessmentRun.setCreatedAt(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("startedAt", targetDepth)) {
-                    context.nextToken();
-                    assessmentRun.setStartedAt(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("completedAt", targetDepth)) {
-                    context.nextToken();
-                    assessmentRun.setCompletedAt(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("stateChangedAt", targetDepth)) {
-                    context.nextToken();
-                    assessmentRun.setStateChangedAt(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("dataCollected", targetDepth)) {
-                    context.nextToken();
-                    assessmentRun.setDataCollected(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("stateChanges", targetDepth)) {
-                    context.nextToken();
-                    assessmentRun
-                            .setStateChanges(new ListUnmarshaller<AssessmentRunStateChange>(
-                                    AssessmentRunStateChangeJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("notifications", targetDepth)) {
-                    context.nextToken();
-                    assessmentRun
-                            .setNotifications(new ListUnmarshaller<AssessmentRunNotification>(
-                                    AssessmentRunNotificationJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 2050109281:
+                        if (fieldName.equals("assessmentTemplateArn")) {
+                            context.nextToken();
+                            assessmentRun.setAssessmentTemplateArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 109757585:
+                        if (fieldName.equals("state")) {
+                            context.nextToken();
+                            assessmentRun.setState(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1214084506:
+                        if (fieldName.equals("durationInSeconds")) {
+                            context.nextToken();
+                            assessmentRun.setDurationInSeconds(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -170207835:
+                        if (fieldName.equals("rulesPackageArns")) {
+                            context.nextToken();
+                            assessmentRun
+                                    .setRulesPackageArns(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1706639087:
+                        if (fieldName.equals("userAttributesForFindings")) {
+                            context.nextToken();
+                            assessmentRun
+                                    .setUserAttributesForFindings(new ListUnmarshaller<Attribute>(
+                                            AttributeJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 598371643:
+                        if (fieldName.equals("createdAt")) {
+                            context.nextToken();
+                            assessmentRun.setCreatedAt(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case -2128794476:
+                        if (fieldName.equals("startedAt")) {
+                            context.nextToken();
+                            assessmentRun.setStartedAt(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 402429918:
+                        if (fieldName.equals("completedAt")) {
+                            context.nextToken();
+                            assessmentRun.setCompletedAt(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 454720630:
+                        if (fieldName.equals("stateChangedAt")) {
+                            context.nextToken();
+                            assessmentRun.setStateChangedAt(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 78183103:
+                        if (fieldName.equals("dataCollected")) {
+                            context.nextToken();
+                            assessmentRun.setDataCollected(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 912204018:
+                        if (fieldName.equals("stateChanges")) {
+                            context.nextToken();
+                            assessmentRun
+                                    .setStateChanges(new ListUnmarshaller<AssessmentRunStateChange>(
+                                            AssessmentRunStateChangeJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 1272354024:
+                        if (fieldName.equals("notifications")) {
+                            context.nextToken();
+                            assessmentRun
+                                    .setNotifications(new ListUnmarshaller<AssessmentRunNotification>(
+                                            AssessmentRunNotificationJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
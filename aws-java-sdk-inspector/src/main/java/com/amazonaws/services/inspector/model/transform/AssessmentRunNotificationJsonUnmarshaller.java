@@ -53,35 +53,52 @@ public class AssessmentRunNotificationJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("date", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunNotification.setDate(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("event", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunNotification.setEvent(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("message", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunNotification.setMessage(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("error", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunNotification.setError(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("snsTopicArn", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunNotification.setSnsTopicArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("snsPublishStatusCode", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunNotification.setSnsPublishStatusCode(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3076014:
+                        if (fieldName.equals("date")) {
+                            context.nextToken();
+                            assessmentRunNotification.setDate(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 96891546:
+                        if (fieldName.equals("event")) {
+                            context.nextToken();
+                            assessmentRunNotification.setEvent(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 954925063:
+                        if (fieldName.equals("message")) {
+                            context.nextToken();
+                            assessmentRunNotification.setMessage(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 96784904:
+                        if (fieldName.equals("error")) {
+                            context.nextToken();
+                            assessmentRunNotification.setError(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 1070832710:
+                        if (fieldName.equals("snsTopicArn")) {
+                            context.nextToken();
+                            assessmentRunNotification.setSnsTopicArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 29850838:
+                        if (fieldName.equals("snsPublishStatusCode")) {
+                            context.nextToken();
+                            assessmentRunNotification.setSnsPublishStatusCode(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
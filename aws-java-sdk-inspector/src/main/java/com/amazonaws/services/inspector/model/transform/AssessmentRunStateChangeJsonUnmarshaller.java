@@ -53,16 +53,25 @@ public class AssessmentRunStateChangeJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("stateChangedAt", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunStateChange.setStateChangedAt(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("state", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunStateChange.setState(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 454720630:
+                        if (fieldName.equals("stateChangedAt")) {
+                            context.nextToken();
+                            assessmentRunStateChange.setStateChangedAt(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case 109757585:
+                        if (fieldName.equals("state")) {
+                            context.nextToken();
+                            assessmentRunStateChange.setState(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
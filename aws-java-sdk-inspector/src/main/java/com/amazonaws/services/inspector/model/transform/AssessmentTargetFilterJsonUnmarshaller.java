@@ -53,13 +53,19 @@ public class AssessmentTargetFilterJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("assessmentTargetNamePattern",
-                        targetDepth)) {
-                    context.nextToken();
-                    assessmentTargetFilter
-                            .setAssessmentTargetNamePattern(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -151089774:
+                        if (fieldName.equals("assessmentTargetNamePattern")) {
+                            context.nextToken();
+                            assessmentTargetFilter
+                                    .setAssessmentTargetNamePattern(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
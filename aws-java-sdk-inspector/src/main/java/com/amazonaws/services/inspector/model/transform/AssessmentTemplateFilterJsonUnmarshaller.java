@@ -53,23 +53,34 @@ public class AssessmentTemplateFilterJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("namePattern", targetDepth)) {
-                    context.nextToken();
-                    assessmentTemplateFilter.setNamePattern(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("durationRange", targetDepth)) {
-                    context.nextToken();
-                    assessmentTemplateFilter
-                            .setDurationRange(DurationRangeJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("rulesPackageArns", targetDepth)) {
-                    context.nextToken();
-                    assessmentTemplateFilter
-                            .setRulesPackageArns(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -618387835:
+                        if (fieldName.equals("namePattern")) {
+                            context.nextToken();
+                            assessmentTemplateFilter.setNamePattern(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 128079881:
+                        if (fieldName.equals("durationRange")) {
+                            context.nextToken();
+                            assessmentTemplateFilter
+                                    .setDurationRange(DurationRangeJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -170207835:
+                        if (fieldName.equals("rulesPackageArns")) {
+                            context.nextToken();
+                            assessmentTemplateFilter
+                                    .setRulesPackageArns(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,46 +53,64 @@ public class AssessmentTemplateJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("arn", targetDepth)) {
-                    context.nextToken();
-                    assessmentTemplate.setArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    assessmentTemplate.setName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("assessmentTargetArn", targetDepth)) {
-                    context.nextToken();
-                    assessmentTemplate.setAssessmentTargetArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("durationInSeconds", targetDepth)) {
-                    context.nextToken();
-                    assessmentTemplate
-                            .setDurationInSeconds(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("rulesPackageArns", targetDepth)) {
-                    context.nextToken();
-                    assessmentTemplate
-                            .setRulesPackageArns(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("userAttributesForFindings",
-                        targetDepth)) {
-                    context.nextToken();
-                    assessmentTemplate
-                            .setUserAttributesForFindings(new ListUnmarshaller<Attribute>(
-                                    AttributeJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("createdAt", targetDepth)) {
-                    context.nextToken();
-                    assessmentTemplate.setCreatedAt(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 96861:
+                        if (fieldName.equals("arn")) {
+                            context.nextToken();
+                            assessmentTemplate.setArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 3373707:
+                        if (fieldName.equals("name")) {
+                            context.nextToken();
+                            assessmentTemplate.setName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -748274070:
+                        if (fieldName.equals("assessmentTargetArn")) {
+                            context.nextToken();
+                            assessmentTemplate.setAssessmentTargetArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1214084506:
+                        if (fieldName.equals("durationInSeconds")) {
+                            context.nextToken();
+                            assessmentTemplate
+                                    .setDurationInSeconds(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -170207835:
+                        if (fieldName.equals("rulesPackageArns")) {
+                            context.nextToken();
+                            assessmentTemplate
+                                    .setRulesPackageArns(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1706639087:
+                        if (fieldName.equals("userAttributesForFindings")) {
+                            context.nextToken();
+                            assessmentTemplate
+                                    .setUserAttributesForFindings(new ListUnmarshaller<Attribute>(
+                                            AttributeJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 598371643:
+                        if (fieldName.equals("createdAt")) {
+                            context.nextToken();
+                            assessmentTemplate.setCreatedAt(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,37 +53,54 @@ public class AssetAttributesJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("schemaVersion", targetDepth)) {
-                    context.nextToken();
-                    assetAttributes.setSchemaVersion(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("agentId", targetDepth)) {
-                    context.nextToken();
-                    assetAttributes.setAgentId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("autoScalingGroup", targetDepth)) {
-                    context.nextToken();
-                    assetAttributes.setAutoScalingGroup(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("amiId", targetDepth)) {
-                    context.nextToken();
-                    assetAttributes.setAmiId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("hostname", targetDepth)) {
-                    context.nextToken();
-                    assetAttributes.setHostname(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ipv4Addresses", targetDepth)) {
-                    context.nextToken();
-                    assetAttributes
-                            .setIpv4Addresses(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -233564169:
+                        if (fieldName.equals("schemaVersion")) {
+                            context.nextToken();
+                            assetAttributes.setSchemaVersion(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -1060987136:
+                        if (fieldName.equals("agentId")) {
+                            context.nextToken();
+                            assetAttributes.setAgentId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -2034087289:
+                        if (fieldName.equals("autoScalingGroup")) {
+                            context.nextToken();
+                            assetAttributes.setAutoScalingGroup(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 92932024:
+                        if (fieldName.equals("amiId")) {
+                            context.nextToken();
+                            assetAttributes.setAmiId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -299803597:
+                        if (fieldName.equals("hostname")) {
+                            context.nextToken();
+                            assetAttributes.setHostname(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 492699453:
+                        if (fieldName.equals("ipv4Addresses")) {
+                            context.nextToken();
+                            assetAttributes
+                                    .setIpv4Addresses(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,10 +53,17 @@ public class CreateAssessmentTargetResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("assessmentTargetArn", targetDepth)) {
-                    context.nextToken();
-                    createAssessmentTargetResult.setAssessmentTargetArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -748274070:
+                        if (fieldName.equals("assessmentTargetArn")) {
+                            context.nextToken();
+                            createAssessmentTargetResult.setAssessmentTargetArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
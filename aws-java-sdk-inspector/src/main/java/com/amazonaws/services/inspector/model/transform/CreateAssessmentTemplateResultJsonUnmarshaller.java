@@ -53,12 +53,18 @@ public class CreateAssessmentTemplateResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context
-                        .testExpression("assessmentTemplateArn", targetDepth)) {
-                    context.nextToken();
-                    createAssessmentTemplateResult
-                            .setAssessmentTemplateArn(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2050109281:
+                        if (fieldName.equals("assessmentTemplateArn")) {
+                            context.nextToken();
+                            createAssessmentTemplateResult
+                                    .setAssessmentTemplateArn(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,10 +53,17 @@ public class CreateResourceGroupResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("resourceGroupArn", targetDepth)) {
-                    context.nextToken();
-                    createResourceGroupResult.setResourceGroupArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1284619892:
+                        if (fieldName.equals("resourceGroupArn")) {
+                            context.nextToken();
+                            createResourceGroupResult.setResourceGroupArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,20 +53,29 @@ public class DescribeAssessmentRunsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("assessmentRuns", targetDepth)) {
-                    context.nextToken();
-                    describeAssessmentRunsResult
-                            .setAssessmentRuns(new ListUnmarshaller<AssessmentRun>(
-                                    AssessmentRunJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("failedItems", targetDepth)) {
-                    context.nextToken();
-                    describeAssessmentRunsResult
-                            .setFailedItems(new MapUnmarshaller<String, FailedItemDetails>(
-                                    context.getUnmarshaller(String.class),
-                                    FailedItemDetailsJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 547164458:
+                        if (fieldName.equals("assessmentRuns")) {
+                            context.nextToken();
+                            describeAssessmentRunsResult
+                                    .setAssessmentRuns(new ListUnmarshaller<AssessmentRun>(
+                                            AssessmentRunJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 330858883:
+                        if (fieldName.equals("failedItems")) {
+                            context.nextToken();
+                            describeAssessmentRunsResult
+                                    .setFailedItems(new MapUnmarshaller<String, FailedItemDetails>(
+                                            context.getUnmarshaller(String.class),
+                                            FailedItemDetailsJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,20 +53,29 @@ public class DescribeAssessmentTargetsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("assessmentTargets", targetDepth)) {
-                    context.nextToken();
-                    describeAssessmentTargetsResult
-                            .setAssessmentTargets(new ListUnmarshaller<AssessmentTarget>(
-                                    AssessmentTargetJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("failedItems", targetDepth)) {
-                    context.nextToken();
-                    describeAssessmentTargetsResult
-                            .setFailedItems(new MapUnmarshaller<String, FailedItemDetails>(
-                                    context.getUnmarshaller(String.class),
-                                    FailedItemDetailsJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1913625632:
+                        if (fieldName.equals("assessmentTargets")) {
+                            context.nextToken();
+                            describeAssessmentTargetsResult
+                                    .setAssessmentTargets(new ListUnmarshaller<AssessmentTarget>(
+                                            AssessmentTargetJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 330858883:
+                        if (fieldName.equals("failedItems")) {
+                            context.nextToken();
+                            describeAssessmentTargetsResult
+                                    .setFailedItems(new MapUnmarshaller<String, FailedItemDetails>(
+                                            context.getUnmarshaller(String.class),
+                                            FailedItemDetailsJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,20 +54,29 @@ public class DescribeAssessmentTemplatesResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("assessmentTemplates", targetDepth)) {
-                    context.nextToken();
-                    describeAssessmentTemplatesResult
-                            .setAssessmentTemplates(new ListUnmarshaller<AssessmentTemplate>(
-                                    AssessmentTemplateJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("failedItems", targetDepth)) {
-                    context.nextToken();
-                    describeAssessmentTemplatesResult
-                            .setFailedItems(new MapUnmarshaller<String, FailedItemDetails>(
-                                    context.getUnmarshaller(String.class),
-                                    FailedItemDetailsJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2049058455:
+                        if (fieldName.equals("assessmentTemplates")) {
+                            context.nextToken();
+                            describeAssessmentTemplatesResult
+                                    .setAssessmentTemplates(new ListUnmarshaller<AssessmentTemplate>(
+                                            AssessmentTemplateJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 330858883:
+                        if (fieldName.equals("failedItems")) {
+                            context.nextToken();
+                            describeAssessmentTemplatesResult
+                                    .setFailedItems(new MapUnmarshaller<String, FailedItemDetails>(
+                                            context.getUnmarshaller(String.class),
+                                            FailedItemDetailsJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
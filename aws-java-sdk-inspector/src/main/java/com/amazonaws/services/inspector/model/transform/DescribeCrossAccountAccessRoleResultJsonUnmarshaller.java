@@ -54,22 +54,33 @@ public class DescribeCrossAccountAccessRoleResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("roleArn", targetDepth)) {
-                    context.nextToken();
-                    describeCrossAccountAccessRoleResult.setRoleArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("valid", targetDepth)) {
-                    context.nextToken();
-                    describeCrossAccountAccessRoleResult
-                            .setValid(context.getUnmarshaller(Boolean.class)
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("registeredAt", targetDepth)) {
-                    context.nextToken();
-                    describeCrossAccountAccessRoleResult
-                            .setRegisteredAt(context.getUnmarshaller(
-                                    java.util.Date.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1376855559:
+                        if (fieldName.equals("roleArn")) {
+                            context.nextToken();
+                            describeCrossAccountAccessRoleResult.setRoleArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 111972348:
+                        if (fieldName.equals("valid")) {
+                            context.nextToken();
+                            describeCrossAccountAccessRoleResult
+                                    .setValid(context.getUnmarshaller(Boolean.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1707241899:
+                        if (fieldName.equals("registeredAt")) {
+                            context.nextToken();
+                            describeCrossAccountAccessRoleResult
+                                    .setRegisteredAt(context.getUnmarshaller(
+                                            java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
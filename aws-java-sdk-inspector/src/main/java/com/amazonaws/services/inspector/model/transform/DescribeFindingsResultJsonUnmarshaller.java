@@ -53,20 +53,29 @@ public class DescribeFindingsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("findings", targetDepth)) {
-                    context.nextToken();
-                    describeFindingsResult
-                            .setFindings(new ListUnmarshaller<Finding>(
-                                    FindingJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("failedItems", targetDepth)) {
-                    context.nextToken();
-                    describeFindingsResult
-                            .setFailedItems(new MapUnmarshaller<String, FailedItemDetails>(
-                                    context.getUnmarshaller(String.class),
-                                    FailedItemDetailsJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -678570486:
+                        if (fieldName.equals("findings")) {
+                            context.nextToken();
+                            describeFindingsResult
+                                    .setFindings(new ListUnmarshaller<Finding>(
+                                            FindingJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 330858883:
+                        if (fieldName.equals("failedItems")) {
+                            context.nextToken();
+                            describeFindingsResult
+                                    .setFailedItems(new MapUnmarshaller<String, FailedItemDetails>(
+                                            context.getUnmarshaller(String.class),
+                                            FailedItemDetailsJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
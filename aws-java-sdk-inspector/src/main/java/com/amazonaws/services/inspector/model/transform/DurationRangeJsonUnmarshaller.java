@@ -53,15 +53,24 @@ public class DurationRangeJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("minSeconds", targetDepth)) {
-                    context.nextToken();
-                    durationRange.setMinSeconds(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("maxSeconds", targetDepth)) {
-                    context.nextToken();
-                    durationRange.setMaxSeconds(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1321065421:
+                        if (fieldName.equals("minSeconds")) {
+                            context.nextToken();
+                            durationRange.setMinSeconds(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -1150933893:
+                        if (fieldName.equals("maxSeconds")) {
+                            context.nextToken();
+                            durationRange.setMaxSeconds(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class EventSubscriptionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("event", targetDepth)) {
-                    context.nextToken();
-                    eventSubscription.setEvent(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("subscribedAt", targetDepth)) {
-                    context.nextToken();
-                    eventSubscription.setSubscribedAt(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 96891546:
+                        if (fieldName.equals("event")) {
+                            context.nextToken();
+                            eventSubscription.setEvent(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 327820845:
+                        if (fieldName.equals("subscribedAt")) {
+                            context.nextToken();
+                            eventSubscription.setSubscribedAt(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class FailedItemDetailsJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("failureCode", targetDepth)) {
-                    context.nextToken();
-                    failedItemDetails.setFailureCode(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("retryable", targetDepth)) {
-                    context.nextToken();
-                    failedItemDetails.setRetryable(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2071232151:
+                        if (fieldName.equals("failureCode")) {
+                            context.nextToken();
+                            failedItemDetails.setFailureCode(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1006492670:
+                        if (fieldName.equals("retryable")) {
+                            context.nextToken();
+                            failedItemDetails.setRetryable(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
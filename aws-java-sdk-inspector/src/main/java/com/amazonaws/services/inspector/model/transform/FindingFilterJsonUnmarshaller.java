@@ -53,57 +53,78 @@ public class FindingFilterJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("agentIds", targetDepth)) {
-                    context.nextToken();
-                    findingFilter.setAgentIds(new ListUnmarshaller<String>(
-                            context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("autoScalingGroups", targetDepth)) {
-                    context.nextToken();
-                    findingFilter
-                            .setAutoScalingGroups(new ListUnmarshaller<String>(
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1469137267:
+                        if (fieldName.equals("agentIds")) {
+                            context.nextToken();
+                            findingFilter.setAgentIds(new ListUnmarshaller<String>(
                                     context.getUnmarshaller(String.class))
                                     .unmarshall(context));
-                }
-                if (context.testExpression("ruleNames", targetDepth)) {
-                    context.nextToken();
-                    findingFilter.setRuleNames(new ListUnmarshaller<String>(
-                            context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("severities", targetDepth)) {
-                    context.nextToken();
-                    findingFilter.setSeverities(new ListUnmarshaller<String>(
-                            context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("rulesPackageArns", targetDepth)) {
-                    context.nextToken();
-                    findingFilter
-                            .setRulesPackageArns(new ListUnmarshaller<String>(
+                        }
+                        break;
+                    case 1367803596:
+                        if (fieldName.equals("autoScalingGroups")) {
+                            context.nextToken();
+                            findingFilter
+                                    .setAutoScalingGroups(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -2108273236:
+                        if (fieldName.equals("ruleNames")) {
+                            context.nextToken();
+                            findingFilter.setRuleNames(new ListUnmarshaller<String>(
                                     context.getUnmarshaller(String.class))
                                     .unmarshall(context));
-                }
-                if (context.testExpression("attributes", targetDepth)) {
-                    context.nextToken();
-                    findingFilter
-                            .setAttributes(new ListUnmarshaller<Attribute>(
-                                    AttributeJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("userAttributes", targetDepth)) {
-                    context.nextToken();
-                    findingFilter
-                            .setUserAttributes(new ListUnmarshaller<Attribute>(
-                                    AttributeJsonUnmarshaller.getInstance())
+                        }
+                        break;
+                    case -987490213:
+                        if (fieldName.equals("severities")) {
+                            context.nextToken();
+                            findingFilter.setSeverities(new ListUnmarshaller<String>(
+                                    context.getUnmarshaller(String.class))
                                     .unmarshall(context));
-                }
-                if (context.testExpression("creationTimeRange", targetDepth)) {
-                    context.nextToken();
-                    findingFilter
-                            .setCreationTimeRange(TimestampRangeJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -170207835:
+                        if (fieldName.equals("rulesPackageArns")) {
+                            context.nextToken();
+                            findingFilter
+                                    .setRulesPackageArns(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 405645655:
+                        if (fieldName.equals("attributes")) {
+                            context.nextToken();
+                            findingFilter
+                                    .setAttributes(new ListUnmarshaller<Attribute>(
+                                            AttributeJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1160146818:
+                        if (fieldName.equals("userAttributes")) {
+                            context.nextToken();
+                            findingFilter
+                                    .setUserAttributes(new ListUnmarshaller<Attribute>(
+                                            AttributeJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -401233327:
+                        if (fieldName.equals("creationTimeRange")) {
+                            context.nextToken();
+                            findingFilter
+                                    .setCreationTimeRange(TimestampRangeJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
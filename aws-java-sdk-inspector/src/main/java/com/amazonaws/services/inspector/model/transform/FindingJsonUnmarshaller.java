@@ -52,98 +52,138 @@ public class FindingJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("arn", targetDepth)) {
-                    context.nextToken();
-                    finding.setArn(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("schemaVersion", targetDepth)) {
-                    context.nextToken();
-                    finding.setSchemaVersion(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("service", targetDepth)) {
-                    context.nextToken();
-                    finding.setService(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("serviceAttributes", targetDepth)) {
-                    context.nextToken();
-                    finding.setServiceAttributes(InspectorServiceAttributesJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("assetType", targetDepth)) {
-                    context.nextToken();
-                    finding.setAssetType(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("assetAttributes", targetDepth)) {
-                    context.nextToken();
-                    finding.setAssetAttributes(AssetAttributesJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    finding.setId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("title", targetDepth)) {
-                    context.nextToken();
-                    finding.setTitle(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    finding.setDescription(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("recommendation", targetDepth)) {
-                    context.nextToken();
-                    finding.setRecommendation(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("severity", targetDepth)) {
-                    context.nextToken();
-                    finding.setSeverity(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("numericSeverity", targetDepth)) {
-                    context.nextToken();
-                    finding.setNumericSeverity(context.getUnmarshaller(
-                            Double.class).unmarshall(context));
-                }
-                if (context.testExpression("confidence", targetDepth)) {
-                    context.nextToken();
-                    finding.setConfidence(context
-                            .getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("indicatorOfCompromise", targetDepth)) {
-                    context.nextToken();
-                    finding.setIndicatorOfCompromise(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("attributes", targetDepth)) {
-                    context.nextToken();
-                    finding.setAttributes(new ListUnmarshaller<Attribute>(
-                            AttributeJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("userAttributes", targetDepth)) {
-                    context.nextToken();
-                    finding.setUserAttributes(new ListUnmarshaller<Attribute>(
-                            AttributeJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("createdAt", targetDepth)) {
-                    context.nextToken();
-                    finding.setCreatedAt(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("updatedAt", targetDepth)) {
-                    context.nextToken();
-                    finding.setUpdatedAt(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 96861:
+                        if (fieldName.equals("arn")) {
+                            context.nextToken();
+                            finding.setArn(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -233564169:
+                        if (fieldName.equals("schemaVersion")) {
+                            context.nextToken();
+                            finding.setSchemaVersion(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 1984153269:
+                        if (fieldName.equals("service")) {
+                            context.nextToken();
+                            finding.setService(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1970679276:
+                        if (fieldName.equals("serviceAttributes")) {
+                            context.nextToken();
+                            finding.setServiceAttributes(InspectorServiceAttributesJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1315305034:
+                        if (fieldName.equals("assetType")) {
+                            context.nextToken();
+                            finding.setAssetType(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1219001241:
+                        if (fieldName.equals("assetAttributes")) {
+                            context.nextToken();
+                            finding.setAssetAttributes(AssetAttributesJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 3355:
+                        if (fieldName.equals("id")) {
+                            context.nextToken();
+                            finding.setId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 110371416:
+                        if (fieldName.equals("title")) {
+                            context.nextToken();
+                            finding.setTitle(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1724546052:
+                        if (fieldName.equals("description")) {
+                            context.nextToken();
+                            finding.setDescription(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1028636743:
+                        if (fieldName.equals("recommendation")) {
+                            context.nextToken();
+                            finding.setRecommendation(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1478300413:
+                        if (fieldName.equals("severity")) {
+                            context.nextToken();
+                            finding.setSeverity(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1612040918:
+                        if (fieldName.equals("numericSeverity")) {
+                            context.nextToken();
+                            finding.setNumericSeverity(context.getUnmarshaller(
+                                    Double.class).unmarshall(context));
+                        }
+                        break;
+                    case 829251210:
+                        if (fieldName.equals("confidence")) {
+                            context.nextToken();
+                            finding.setConfidence(context
+                                    .getUnmarshaller(Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 1138225504:
+                        if (fieldName.equals("indicatorOfCompromise")) {
+                            context.nextToken();
+                            finding.setIndicatorOfCompromise(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 405645655:
+                        if (fieldName.equals("attributes")) {
+                            context.nextToken();
+                            finding.setAttributes(new ListUnmarshaller<Attribute>(
+                                    AttributeJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1160146818:
+                        if (fieldName.equals("userAttributes")) {
+                            context.nextToken();
+                            finding.setUserAttributes(new ListUnmarshaller<Attribute>(
+                                    AttributeJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 598371643:
+                        if (fieldName.equals("createdAt")) {
+                            context.nextToken();
+                            finding.setCreatedAt(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case -1949194674:
+                        if (fieldName.equals("updatedAt")) {
+                            context.nextToken();
+                            finding.setUpdatedAt(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
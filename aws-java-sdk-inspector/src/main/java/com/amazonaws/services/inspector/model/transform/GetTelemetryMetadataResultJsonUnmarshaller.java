@@ -53,12 +53,19 @@ public class GetTelemetryMetadataResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("telemetryMetadata", targetDepth)) {
-                    context.nextToken();
-                    getTelemetryMetadataResult
-                            .setTelemetryMetadata(new ListUnmarshaller<TelemetryMetadata>(
-                                    TelemetryMetadataJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1697397256:
+                        if (fieldName.equals("telemetryMetadata")) {
+                            context.nextToken();
+                            getTelemetryMetadataResult
+                                    .setTelemetryMetadata(new ListUnmarshaller<TelemetryMetadata>(
+                                            TelemetryMetadataJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
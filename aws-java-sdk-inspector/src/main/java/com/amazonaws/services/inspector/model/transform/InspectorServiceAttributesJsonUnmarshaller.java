@@ -53,21 +53,32 @@ public class InspectorServiceAttributesJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("schemaVersion", targetDepth)) {
-                    context.nextToken();
-                    inspectorServiceAttributes
-                            .setSchemaVersion(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("assessmentRunArn", targetDepth)) {
-                    context.nextToken();
-                    inspectorServiceAttributes.setAssessmentRunArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("rulesPackageArn", targetDepth)) {
-                    context.nextToken();
-                    inspectorServiceAttributes.setRulesPackageArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -233564169:
+                        if (fieldName.equals("schemaVersion")) {
+                            context.nextToken();
+                            inspectorServiceAttributes
+                                    .setSchemaVersion(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 1838989620:
+                        if (fieldName.equals("assessmentRunArn")) {
+                            context.nextToken();
+                            inspectorServiceAttributes.setAssessmentRunArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1102888078:
+                        if (fieldName.equals("rulesPackageArn")) {
+                            context.nextToken();
+                            inspectorServiceAttributes.setRulesPackageArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class ListAssessmentRunAgentsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("assessmentRunAgents", targetDepth)) {
-                    context.nextToken();
-                    listAssessmentRunAgentsResult
-                            .setAssessmentRunAgents(new ListUnmarshaller<AssessmentRunAgent>(
-                                    AssessmentRunAgentJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listAssessmentRunAgentsResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1273375785:
+                        if (fieldName.equals("assessmentRunAgents")) {
+                            context.nextToken();
+                            listAssessmentRunAgentsResult
+                                    .setAssessmentRunAgents(new ListUnmarshaller<AssessmentRunAgent>(
+                                            AssessmentRunAgentJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 1206918854:
+                        if (fieldName.equals("nextToken")) {
+                            context.nextToken();
+                            listAssessmentRunAgentsResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class ListEventSubscriptionsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("subscriptions", targetDepth)) {
-                    context.nextToken();
-                    listEventSubscriptionsResult
-                            .setSubscriptions(new ListUnmarshaller<Subscription>(
-                                    SubscriptionJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listEventSubscriptionsResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1987365622:
+                        if (fieldName.equals("subscriptions")) {
+                            context.nextToken();
+                            listEventSubscriptionsResult
+                                    .setSubscriptions(new ListUnmarshaller<Subscription>(
+                                            SubscriptionJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1206918854:
+                        if (fieldName.equals("nextToken")) {
+                            context.nextToken();
+                            listEventSubscriptionsResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
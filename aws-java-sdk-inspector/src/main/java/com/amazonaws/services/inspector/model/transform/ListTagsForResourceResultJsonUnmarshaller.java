@@ -53,12 +53,19 @@ public class ListTagsForResourceResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("tags", targetDepth)) {
-                    context.nextToken();
-                    listTagsForResourceResult
-                            .setTags(new ListUnmarshaller<Tag>(
-                                    TagJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3552281:
+                        if (fieldName.equals("tags")) {
+                            context.nextToken();
+                            listTagsForResourceResult
+                                    .setTags(new ListUnmarshaller<Tag>(
+                                            TagJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class PreviewAgentsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("agentPreviews", targetDepth)) {
-                    context.nextToken();
-                    previewAgentsResult
-                            .setAgentPreviews(new ListUnmarshaller<AgentPreview>(
-                                    AgentPreviewJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    previewAgentsResult.setNextToken(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 349726672:
+                        if (fieldName.equals("agentPreviews")) {
+                            context.nextToken();
+                            previewAgentsResult
+                                    .setAgentPreviews(new ListUnmarshaller<AgentPreview>(
+                                            AgentPreviewJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1206918854:
+                        if (fieldName.equals("nextToken")) {
+                            context.nextToken();
+                            previewAgentsResult.setNextToken(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,10 +53,17 @@ public class StartAssessmentRunResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("assessmentRunArn", targetDepth)) {
-                    context.nextToken();
-                    startAssessmentRunResult.setAssessmentRunArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1838989620:
+                        if (fieldName.equals("assessmentRunArn")) {
+                            context.nextToken();
+                            startAssessmentRunResult.setAssessmentRunArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,22 +53,33 @@ public class SubscriptionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("resourceArn", targetDepth)) {
-                    context.nextToken();
-                    subscription.setResourceArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("topicArn", targetDepth)) {
-                    context.nextToken();
-                    subscription.setTopicArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("eventSubscriptions", targetDepth)) {
-                    context.nextToken();
-                    subscription
-                            .setEventSubscriptions(new ListUnmarshaller<EventSubscription>(
-                                    EventSubscriptionJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1234508655:
+                        if (fieldName.equals("resourceArn")) {
+                            context.nextToken();
+                            subscription.setResourceArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -957320530:
+                        if (fieldName.equals("topicArn")) {
+                            context.nextToken();
+                            subscription.setTopicArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1430393468:
+                        if (fieldName.equals("eventSubscriptions")) {
+                            context.nextToken();
+                            subscription
+                                    .setEventSubscriptions(new ListUnmarshaller<EventSubscription>(
+                                            EventSubscriptionJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
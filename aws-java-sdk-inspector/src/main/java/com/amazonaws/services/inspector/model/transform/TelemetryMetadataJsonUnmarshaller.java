@@ -53,20 +53,31 @@ public class TelemetryMetadataJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("messageType", targetDepth)) {
-                    context.nextToken();
-                    telemetryMetadata.setMessageType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("count", targetDepth)) {
-                    context.nextToken();
-                    telemetryMetadata.setCount(context.getUnmarshaller(
-                            Long.class).unmarshall(context));
-                }
-                if (context.testExpression("dataSize", targetDepth)) {
-                    context.nextToken();
-                    telemetryMetadata.setDataSize(context.getUnmarshaller(
-                            Long.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -873093151:
+                        if (fieldName.equals("messageType")) {
+                            context.nextToken();
+                            telemetryMetadata.setMessageType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 94851343:
+                        if (fieldName.equals("count")) {
+                            context.nextToken();
+                            telemetryMetadata.setCount(context.getUnmarshaller(
+                                    Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 1789025995:
+                        if (fieldName.equals("dataSize")) {
+                            context.nextToken();
+                            telemetryMetadata.setDataSize(context.getUnmarshaller(
+                                    Long.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
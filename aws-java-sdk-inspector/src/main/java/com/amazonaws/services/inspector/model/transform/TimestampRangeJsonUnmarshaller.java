@@ -53,15 +53,24 @@ public class TimestampRangeJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("beginDate", targetDepth)) {
-                    context.nextToken();
-                    timestampRange.setBeginDate(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("endDate", targetDepth)) {
-                    context.nextToken();
-                    timestampRange.setEndDate(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1073324041:
+                        if (fieldName.equals("beginDate")) {
+                            context.nextToken();
+                            timestampRange.setBeginDate(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case -1607727319:
+                        if (fieldName.equals("endDate")) {
+                            context.nextToken();
+                            timestampRange.setEndDate(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -52,60 +52,87 @@ public class ActionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("dynamoDB", targetDepth)) {
-                    context.nextToken();
-                    action.setDynamoDB(DynamoDBActionJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("lambda", targetDepth)) {
-                    context.nextToken();
-                    action.setLambda(LambdaActionJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
-                }
-                if (context.testExpression("sns", targetDepth)) {
-                    context.nextToken();
-                    action.setSns(SnsActionJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
-                }
-                if (context.testExpression("sqs", targetDepth)) {
-                    context.nextToken();
-                    action.setSqs(SqsActionJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
-                }
-                if (context.testExpression("kinesis", targetDepth)) {
-                    context.nextToken();
-                    action.setKinesis(KinesisActionJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("republish", targetDepth)) {
-                    context.nextToken();
-                    action.setRepublish(RepublishActionJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("s3", targetDepth)) {
-                    context.nextToken();
-                    action.setS3(S3ActionJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
-                }
-                if (context.testExpression("firehose", targetDepth)) {
-                    context.nextToken();
-                    action.setFirehose(FirehoseActionJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("cloudwatchMetric", targetDepth)) {
-                    context.nextToken();
-                    action.setCloudwatchMetric(CloudwatchMetricActionJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("cloudwatchAlarm", targetDepth)) {
-                    context.nextToken();
-                    action.setCloudwatchAlarm(CloudwatchAlarmActionJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("elasticsearch", targetDepth)) {
-                    context.nextToken();
-                    action.setElasticsearch(ElasticsearchActionJsonUnmarshaller
-                            .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1443281576:
+                        if (fieldName.equals("dynamoDB")) {
+                            context.nextToken();
+                            action.setDynamoDB(DynamoDBActionJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1110092857:
+                        if (fieldName.equals("lambda")) {
+                            context.nextToken();
+                            action.setLambda(LambdaActionJsonUnmarshaller.getInstance()
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 114040:
+                        if (fieldName.equals("sns")) {
+                            context.nextToken();
+                            action.setSns(SnsActionJsonUnmarshaller.getInstance()
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 114133:
+                        if (fieldName.equals("sqs")) {
+                            context.nextToken();
+                            action.setSqs(SqsActionJsonUnmarshaller.getInstance()
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -710583000:
+                        if (fieldName.equals("kinesis")) {
+                            context.nextToken();
+                            action.setKinesis(KinesisActionJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -196558980:
+                        if (fieldName.equals("republish")) {
+                            context.nextToken();
+                            action.setRepublish(RepublishActionJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 3616:
+                        if (fieldName.equals("s3")) {
+                            context.nextToken();
+                            action.setS3(S3ActionJsonUnmarshaller.getInstance()
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -563158833:
+                        if (fieldName.equals("firehose")) {
+                            context.nextToken();
+                            action.setFirehose(FirehoseActionJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1045900810:
+                        if (fieldName.equals("cloudwatchMetric")) {
+                            context.nextToken();
+                            action.setCloudwatchMetric(CloudwatchMetricActionJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 438488759:
+                        if (fieldName.equals("cloudwatchAlarm")) {
+                            context.nextToken();
+                            action.setCloudwatchAlarm(CloudwatchAlarmActionJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1985354563:
+                        if (fieldName.equals("elasticsearch")) {
+                            context.nextToken();
+                            action.setElasticsearch(ElasticsearchActionJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,36 +53,53 @@ public class CACertificateDescriptionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("certificateArn", targetDepth)) {
-                    context.nextToken();
-                    cACertificateDescription.setCertificateArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("certificateId", targetDepth)) {
-                    context.nextToken();
-                    cACertificateDescription.setCertificateId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    cACertificateDescription.setStatus(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("certificatePem", targetDepth)) {
-                    context.nextToken();
-                    cACertificateDescription.setCertificatePem(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ownedBy", targetDepth)) {
-                    context.nextToken();
-                    cACertificateDescription.setOwnedBy(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("creationDate", targetDepth)) {
-                    context.nextToken();
-                    cACertificateDescription.setCreationDate(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1494402374:
+                        if (fieldName.equals("certificateArn")) {
+                            context.nextToken();
+                            cACertificateDescription.setCertificateArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -644529902:
+                        if (fieldName.equals("certificateId")) {
+                            context.nextToken();
+                            cACertificateDescription.setCertificateId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -892481550:
+                        if (fieldName.equals("status")) {
+                            context.nextToken();
+                            cACertificateDescription.setStatus(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1494416385:
+                        if (fieldName.equals("certificatePem")) {
+                            context.nextToken();
+                            cACertificateDescription.setCertificatePem(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1054743076:
+                        if (fieldName.equals("ownedBy")) {
+                            context.nextToken();
+                            cACertificateDescription.setOwnedBy(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1585531693:
+                        if (fieldName.equals("creationDate")) {
+                            context.nextToken();
+                            cACertificateDescription.setCreationDate(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
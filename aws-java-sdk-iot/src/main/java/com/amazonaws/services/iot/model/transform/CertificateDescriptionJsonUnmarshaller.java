@@ -53,58 +53,83 @@ public class CertificateDescriptionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("certificateArn", targetDepth)) {
-                    context.nextToken();
-                    certificateDescription.setCertificateArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("certificateId", targetDepth)) {
-                    context.nextToken();
-                    certificateDescription.setCertificateId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("caCertificateId", targetDepth)) {
-                    context.nextToken();
-                    certificateDescription.setCaCertificateId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    certificateDescription.setStatus(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("certificatePem", targetDepth)) {
-                    context.nextToken();
-                    certificateDescription.setCertificatePem(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ownedBy", targetDepth)) {
-                    context.nextToken();
-                    certificateDescription.setOwnedBy(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("previousOwnedBy", targetDepth)) {
-                    context.nextToken();
-                    certificateDescription.setPreviousOwnedBy(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("creationDate", targetDepth)) {
-                    context.nextToken();
-                    certificateDescription.setCreationDate(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("lastModifiedDate", targetDepth)) {
-                    context.nextToken();
-                    certificateDescription.setLastModifiedDate(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("transferData", targetDepth)) {
-                    context.nextToken();
-                    certificateDescription
-                            .setTransferData(TransferDataJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1494402374:
+                        if (fieldName.equals("certificateArn")) {
+                            context.nextToken();
+                            certificateDescription.setCertificateArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -644529902:
+                        if (fieldName.equals("certificateId")) {
+                            context.nextToken();
+                            certificateDescription.setCertificateId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1578626388:
+                        if (fieldName.equals("caCertificateId")) {
+                            context.nextToken();
+                            certificateDescription.setCaCertificateId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -892481550:
+                        if (fieldName.equals("status")) {
+                            context.nextToken();
+                            certificateDescription.setStatus(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1494416385:
+                        if (fieldName.equals("certificatePem")) {
+                            context.nextToken();
+                            certificateDescription.setCertificatePem(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1054743076:
+                        if (fieldName.equals("ownedBy")) {
+                            context.nextToken();
+                            certificateDescription.setOwnedBy(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 432262885:
+                        if (fieldName.equals("previousOwnedBy")) {
+                            context.nextToken();
+                            certificateDescription.setPreviousOwnedBy(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1585531693:
+                        if (fieldName.equals("creationDate")) {
+                            context.nextToken();
+                            certificateDescription.setCreationDate(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case -1540845619:
+                        if (fieldName.equals("lastModifiedDate")) {
+                            context.nextToken();
+                            certificateDescription.setLastModifiedDate(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case -2143998411:
+                        if (fieldName.equals("transferData")) {
+                            context.nextToken();
+                            certificateDescription
+                                    .setTransferData(TransferDataJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,25 +53,38 @@ public class CloudwatchAlarmActionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("roleArn", targetDepth)) {
-                    context.nextToken();
-                    cloudwatchAlarmAction.setRoleArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("alarmName", targetDepth)) {
-                    context.nextToken();
-                    cloudwatchAlarmAction.setAlarmName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("stateReason", targetDepth)) {
-                    context.nextToken();
-                    cloudwatchAlarmAction.setStateReason(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("stateValue", targetDepth)) {
-                    context.nextToken();
-                    cloudwatchAlarmAction.setStateValue(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1376855559:
+                        if (fieldName.equals("roleArn")) {
+                            context.nextToken();
+                            cloudwatchAlarmAction.setRoleArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -724117380:
+                        if (fieldName.equals("alarmName")) {
+                            context.nextToken();
+                            cloudwatchAlarmAction.setAlarmName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1148834357:
+                        if (fieldName.equals("stateReason")) {
+                            context.nextToken();
+                            cloudwatchAlarmAction.setStateReason(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -236449952:
+                        if (fieldName.equals("stateValue")) {
+                            context.nextToken();
+                            cloudwatchAlarmAction.setStateValue(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,35 +53,52 @@ public class CloudwatchMetricActionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("roleArn", targetDepth)) {
-                    context.nextToken();
-                    cloudwatchMetricAction.setRoleArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("metricNamespace", targetDepth)) {
-                    context.nextToken();
-                    cloudwatchMetricAction.setMetricNamespace(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("metricName", targetDepth)) {
-                    context.nextToken();
-                    cloudwatchMetricAction.setMetricName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("metricValue", targetDepth)) {
-                    context.nextToken();
-                    cloudwatchMetricAction.setMetricValue(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("metricUnit", targetDepth)) {
-                    context.nextToken();
-                    cloudwatchMetricAction.setMetricUnit(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("metricTimestamp", targetDepth)) {
-                    context.nextToken();
-                    cloudwatchMetricAction.setMetricTimestamp(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1376855559:
+                        if (fieldName.equals("roleArn")) {
+                            context.nextToken();
+                            cloudwatchMetricAction.setRoleArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 733013387:
+                        if (fieldName.equals("metricNamespace")) {
+                            context.nextToken();
+                            cloudwatchMetricAction.setMetricNamespace(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -610759589:
+                        if (fieldName.equals("metricName")) {
+                            context.nextToken();
+                            cloudwatchMetricAction.setMetricName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1746290271:
+                        if (fieldName.equals("metricValue")) {
+                            context.nextToken();
+                            cloudwatchMetricAction.setMetricValue(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -610538668:
+                        if (fieldName.equals("metricUnit")) {
+                            context.nextToken();
+                            cloudwatchMetricAction.setMetricUnit(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -464078522:
+                        if (fieldName.equals("metricTimestamp")) {
+                            context.nextToken();
+                            cloudwatchMetricAction.setMetricTimestamp(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,20 +53,31 @@ public class CreateCertificateFromCsrResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("certificateArn", targetDepth)) {
-                    context.nextToken();
-                    createCertificateFromCsrResult.setCertificateArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("certificateId", targetDepth)) {
-                    context.nextToken();
-                    createCertificateFromCsrResult.setCertificateId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("certificatePem", targetDepth)) {
-                    context.nextToken();
-                    createCertificateFromCsrResult.setCertificatePem(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1494402374:
+                        if (fieldName.equals("certificateArn")) {
+                            context.nextToken();
+                            createCertificateFromCsrResult.setCertificateArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -644529902:
+                        if (fieldName.equals("certificateId")) {
+                            context.nextToken();
+                            createCertificateFromCsrResult.setCertificateId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1494416385:
+                        if (fieldName.equals("certificatePem")) {
+                            context.nextToken();
+                            createCertificateFromCsrResult.setCertificatePem(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,26 +53,39 @@ public class CreateKeysAndCertificateResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("certificateArn", targetDepth)) {
-                    context.nextToken();
-                    createKeysAndCertificateResult.setCertificateArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("certificateId", targetDepth)) {
-                    context.nextToken();
-                    createKeysAndCertificateResult.setCertificateId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("certificatePem", targetDepth)) {
-                    context.nextToken();
-                    createKeysAndCertificateResult.setCertificatePem(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("keyPair", targetDepth)) {
-                    context.nextToken();
-                    createKeysAndCertificateResult
-                            .setKeyPair(KeyPairJsonUnmarshaller.getInstance()
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1494402374:
+                        if (fieldName.equals("certificateArn")) {
+                            context.nextToken();
+                            createKeysAndCertificateResult.setCertificateArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -644529902:
+                        if (fieldName.equals("certificateId")) {
+                            context.nextToken();
+                            createKeysAndCertificateResult.setCertificateId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1494416385:
+                        if (fieldName.equals("certificatePem")) {
+                            context.nextToken();
+                            createKeysAndCertificateResult.setCertificatePem(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -815583783:
+                        if (fieldName.equals("keyPair")) {
+                            context.nextToken();
+                            createKeysAndCertificateResult
+                                    .setKeyPair(KeyPairJsonUnmarshaller.getInstance()
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
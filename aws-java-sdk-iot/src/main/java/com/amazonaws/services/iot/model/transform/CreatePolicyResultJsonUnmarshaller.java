@@ -53,25 +53,38 @@ public class CreatePolicyResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("policyName", targetDepth)) {
-                    context.nextToken();
-                    createPolicyResult.setPolicyName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("policyArn", targetDepth)) {
-                    context.nextToken();
-                    createPolicyResult.setPolicyArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("policyDocument", targetDepth)) {
-                    context.nextToken();
-                    createPolicyResult.setPolicyDocument(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("policyVersionId", targetDepth)) {
-                    context.nextToken();
-                    createPolicyResult.setPolicyVersionId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1593354973:
+                        if (fieldName.equals("policyName")) {
+                            context.nextToken();
+                            createPolicyResult.setPolicyName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -225708085:
+                        if (fieldName.equals("policyArn")) {
+                            context.nextToken();
+                            createPolicyResult.setPolicyArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1351452781:
+                        if (fieldName.equals("policyDocument")) {
+                            context.nextToken();
+                            createPolicyResult.setPolicyDocument(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 889684737:
+                        if (fieldName.equals("policyVersionId")) {
+                            context.nextToken();
+                            createPolicyResult.setPolicyVersionId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,26 +53,39 @@ public class CreatePolicyVersionResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("policyArn", targetDepth)) {
-                    context.nextToken();
-                    createPolicyVersionResult.setPolicyArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("policyDocument", targetDepth)) {
-                    context.nextToken();
-                    createPolicyVersionResult.setPolicyDocument(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("policyVersionId", targetDepth)) {
-                    context.nextToken();
-                    createPolicyVersionResult.setPolicyVersionId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("isDefaultVersion", targetDepth)) {
-                    context.nextToken();
-                    createPolicyVersionResult
-                            .setIsDefaultVersion(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -225708085:
+                        if (fieldName.equals("policyArn")) {
+                            context.nextToken();
+                            createPolicyVersionResult.setPolicyArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1351452781:
+                        if (fieldName.equals("policyDocument")) {
+                            context.nextToken();
+                            createPolicyVersionResult.setPolicyDocument(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 889684737:
+                        if (fieldName.equals("policyVersionId")) {
+                            context.nextToken();
+                            createPolicyVersionResult.setPolicyVersionId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 857017121:
+                        if (fieldName.equals("isDefaultVersion")) {
+                            context.nextToken();
+                            createPolicyVersionResult
+                                    .setIsDefaultVersion(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
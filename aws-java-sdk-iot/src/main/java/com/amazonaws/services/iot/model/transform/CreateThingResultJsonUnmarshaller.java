@@ -53,15 +53,24 @@ public class CreateThingResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("thingName", targetDepth)) {
-                    context.nextToken();
-                    createThingResult.setThingName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("thingArn", targetDepth)) {
-                    context.nextToken();
-                    createThingResult.setThingArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -697283431:
+                        if (fieldName.equals("thingName")) {
+                            context.nextToken();
+                            createThingResult.setThingName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1224421007:
+                        if (fieldName.equals("thingArn")) {
+                            context.nextToken();
+                            createThingResult.setThingArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,12 +53,18 @@ public class DescribeCertificateResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("certificateDescription",
-                        targetDepth)) {
-                    context.nextToken();
-                    describeCertificateResult
-                            .setCertificateDescription(CertificateDescriptionJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 195417573:
+                        if (fieldName.equals("certificateDescription")) {
+                            context.nextToken();
+                            describeCertificateResult
+                                    .setCertificateDescription(CertificateDescriptionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,10 +53,17 @@ public class DescribeEndpointResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("endpointAddress", targetDepth)) {
-                    context.nextToken();
-                    describeEndpointResult.setEndpointAddress(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1320315745:
+                        if (fieldName.equals("endpointAddress")) {
+                            context.nextToken();
+                            describeEndpointResult.setEndpointAddress(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
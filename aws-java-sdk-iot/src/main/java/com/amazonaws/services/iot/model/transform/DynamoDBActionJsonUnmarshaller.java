@@ -53,50 +53,73 @@ public class DynamoDBActionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("tableName", targetDepth)) {
-                    context.nextToken();
-                    dynamoDBAction.setTableName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("roleArn", targetDepth)) {
-                    context.nextToken();
-                    dynamoDBAction.setRoleArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("hashKeyField", targetDepth)) {
-                    context.nextToken();
-                    dynamoDBAction.setHashKeyField(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("hashKeyValue", targetDepth)) {
-                    context.nextToken();
-                    dynamoDBAction.setHashKeyValue(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("hashKeyType", targetDepth)) {
-                    context.nextToken();
-                    dynamoDBAction.setHashKeyType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("rangeKeyField", targetDepth)) {
-                    context.nextToken();
-                    dynamoDBAction.setRangeKeyField(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("rangeKeyValue", targetDepth)) {
-                    context.nextToken();
-                    dynamoDBAction.setRangeKeyValue(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("rangeKeyType", targetDepth)) {
-                    context.nextToken();
-                    dynamoDBAction.setRangeKeyType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("payloadField", targetDepth)) {
-                    context.nextToken();
-                    dynamoDBAction.setPayloadField(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1988717703:
+                        if (fieldName.equals("tableName")) {
+                            context.nextToken();
+                            dynamoDBAction.setTableName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1376855559:
+                        if (fieldName.equals("roleArn")) {
+                            context.nextToken();
+                            dynamoDBAction.setRoleArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1544458999:
+                        if (fieldName.equals("hashKeyField")) {
+                            context.nextToken();
+                            dynamoDBAction.setHashKeyField(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1529913984:
+                        if (fieldName.equals("hashKeyValue")) {
+                            context.nextToken();
+                            dynamoDBAction.setHashKeyValue(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 227706187:
+                        if (fieldName.equals("hashKeyType")) {
+                            context.nextToken();
+                            dynamoDBAction.setHashKeyType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 63784504:
+                        if (fieldName.equals("rangeKeyField")) {
+                            context.nextToken();
+                            dynamoDBAction.setRangeKeyField(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 78329519:
+                        if (fieldName.equals("rangeKeyValue")) {
+                            context.nextToken();
+                            dynamoDBAction.setRangeKeyValue(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1521530308:
+                        if (fieldName.equals("rangeKeyType")) {
+                            context.nextToken();
+                            dynamoDBAction.setRangeKeyType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1870358516:
+                        if (fieldName.equals("payloadField")) {
+                            context.nextToken();
+                            dynamoDBAction.setPayloadField(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,30 +53,45 @@ public class ElasticsearchActionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("roleArn", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchAction.setRoleArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("endpoint", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchAction.setEndpoint(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("index", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchAction.setIndex(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("type", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchAction.setType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchAction.setId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1376855559:
+                        if (fieldName.equals("roleArn")) {
+                            context.nextToken();
+                            elasticsearchAction.setRoleArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1741102485:
+                        if (fieldName.equals("endpoint")) {
+                            context.nextToken();
+                            elasticsearchAction.setEndpoint(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 100346066:
+                        if (fieldName.equals("index")) {
+                            context.nextToken();
+                            elasticsearchAction.setIndex(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 3575610:
+                        if (fieldName.equals("type")) {
+                            context.nextToken();
+                            elasticsearchAction.setType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 3355:
+                        if (fieldName.equals("id")) {
+                            context.nextToken();
+                            elasticsearchAction.setId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
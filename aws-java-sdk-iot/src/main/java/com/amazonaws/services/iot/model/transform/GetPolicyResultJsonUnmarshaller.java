@@ -53,25 +53,38 @@ public class GetPolicyResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("policyName", targetDepth)) {
-                    context.nextToken();
-                    getPolicyResult.setPolicyName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("policyArn", targetDepth)) {
-                    context.nextToken();
-                    getPolicyResult.setPolicyArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("policyDocument", targetDepth)) {
-                    context.nextToken();
-                    getPolicyResult.setPolicyDocument(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("defaultVersionId", targetDepth)) {
-                    context.nextToken();
-                    getPolicyResult.setDefaultVersionId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1593354973:
+                        if (fieldName.equals("policyName")) {
+                            context.nextToken();
+                            getPolicyResult.setPolicyName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -225708085:
+                        if (fieldName.equals("policyArn")) {
+                            context.nextToken();
+                            getPolicyResult.setPolicyArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1351452781:
+                        if (fieldName.equals("policyDocument")) {
+                            context.nextToken();
+                            getPolicyResult.setPolicyDocument(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 404099794:
+                        if (fieldName.equals("defaultVersionId")) {
+                            context.nextToken();
+                            getPolicyResult.setDefaultVersionId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,31 +53,46 @@ public class GetPolicyVersionResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("policyArn", targetDepth)) {
-                    context.nextToken();
-                    getPolicyVersionResult.setPolicyArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("policyName", targetDepth)) {
-                    context.nextToken();
-                    getPolicyVersionResult.setPolicyName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("policyDocument", targetDepth)) {
-                    context.nextToken();
-                    getPolicyVersionResult.setPolicyDocument(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("policyVersionId", targetDepth)) {
-                    context.nextToken();
-                    getPolicyVersionResult.setPolicyVersionId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("isDefaultVersion", targetDepth)) {
-                    context.nextToken();
-                    getPolicyVersionResult
-                            .setIsDefaultVersion(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -225708085:
+                        if (fieldName.equals("policyArn")) {
+                            context.nextToken();
+                            getPolicyVersionResult.setPolicyArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1593354973:
+                        if (fieldName.equals("policyName")) {
+                            context.nextToken();
+                            getPolicyVersionResult.setPolicyName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1351452781:
+                        if (fieldName.equals("policyDocument")) {
+                            context.nextToken();
+                            getPolicyVersionResult.setPolicyDocument(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 889684737:
+                        if (fieldName.equals("policyVersionId")) {
+                            context.nextToken();
+                            getPolicyVersionResult.setPolicyVersionId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 857017121:
+                        if (fieldName.equals("isDefaultVersion")) {
+                            context.nextToken();
+                            getPolicyVersionResult
+                                    .setIsDefaultVersion(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
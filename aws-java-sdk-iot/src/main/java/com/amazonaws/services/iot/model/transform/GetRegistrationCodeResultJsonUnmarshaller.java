@@ -53,10 +53,17 @@ public class GetRegistrationCodeResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("registrationCode", targetDepth)) {
-                    context.nextToken();
-                    getRegistrationCodeResult.setRegistrationCode(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 94307910:
+                        if (fieldName.equals("registrationCode")) {
+                            context.nextToken();
+                            getRegistrationCodeResult.setRegistrationCode(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class GetTopicRuleResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ruleArn", targetDepth)) {
-                    context.nextToken();
-                    getTopicRuleResult.setRuleArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("rule", targetDepth)) {
-                    context.nextToken();
-                    getTopicRuleResult.setRule(TopicRuleJsonUnmarshaller
-                            .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1548630465:
+                        if (fieldName.equals("ruleArn")) {
+                            context.nextToken();
+                            getTopicRuleResult.setRuleArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 3512060:
+                        if (fieldName.equals("rule")) {
+                            context.nextToken();
+                            getTopicRuleResult.setRule(TopicRuleJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -52,15 +52,24 @@ public class KeyPairJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("PublicKey", targetDepth)) {
-                    context.nextToken();
-                    keyPair.setPublicKey(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("PrivateKey", targetDepth)) {
-                    context.nextToken();
-                    keyPair.setPrivateKey(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -844099818:
+                        if (fieldName.equals("PublicKey")) {
+                            context.nextToken();
+                            keyPair.setPublicKey(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 117393916:
+                        if (fieldName.equals("PrivateKey")) {
+                            context.nextToken();
+                            keyPair.setPrivateKey(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,10 +53,17 @@ public class LambdaActionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("functionArn", targetDepth)) {
-                    context.nextToken();
-                    lambdaAction.setFunctionArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1946493083:
+                        if (fieldName.equals("functionArn")) {
+                            context.nextToken();
+                            lambdaAction.setFunctionArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
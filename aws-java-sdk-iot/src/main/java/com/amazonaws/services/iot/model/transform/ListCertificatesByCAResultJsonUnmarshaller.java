@@ -53,17 +53,26 @@ public class ListCertificatesByCAResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("certificates", targetDepth)) {
-                    context.nextToken();
-                    listCertificatesByCAResult
-                            .setCertificates(new ListUnmarshaller<Certificate>(
-                                    CertificateJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("nextMarker", targetDepth)) {
-                    context.nextToken();
-                    listCertificatesByCAResult.setNextMarker(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 394850748:
+                        if (fieldName.equals("certificates")) {
+                            context.nextToken();
+                            listCertificatesByCAResult
+                                    .setCertificates(new ListUnmarshaller<Certificate>(
+                                            CertificateJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1453340403:
+                        if (fieldName.equals("nextMarker")) {
+                            context.nextToken();
+                            listCertificatesByCAResult.setNextMarker(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
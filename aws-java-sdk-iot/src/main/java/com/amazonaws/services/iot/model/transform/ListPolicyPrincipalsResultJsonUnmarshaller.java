@@ -53,17 +53,26 @@ public class ListPolicyPrincipalsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("principals", targetDepth)) {
-                    context.nextToken();
-                    listPolicyPrincipalsResult
-                            .setPrincipals(new ListUnmarshaller<String>(context
-                                    .getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("nextMarker", targetDepth)) {
-                    context.nextToken();
-                    listPolicyPrincipalsResult.setNextMarker(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -338717179:
+                        if (fieldName.equals("principals")) {
+                            context.nextToken();
+                            listPolicyPrincipalsResult
+                                    .setPrincipals(new ListUnmarshaller<String>(context
+                                            .getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1453340403:
+                        if (fieldName.equals("nextMarker")) {
+                            context.nextToken();
+                            listPolicyPrincipalsResult.setNextMarker(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
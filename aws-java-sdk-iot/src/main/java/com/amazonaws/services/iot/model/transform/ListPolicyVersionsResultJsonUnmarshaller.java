@@ -53,12 +53,19 @@ public class ListPolicyVersionsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("policyVersions", targetDepth)) {
-                    context.nextToken();
-                    listPolicyVersionsResult
-                            .setPolicyVersions(new ListUnmarshaller<PolicyVersion>(
-                                    PolicyVersionJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1495321107:
+                        if (fieldName.equals("policyVersions")) {
+                            context.nextToken();
+                            listPolicyVersionsResult
+                                    .setPolicyVersions(new ListUnmarshaller<PolicyVersion>(
+                                            PolicyVersionJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class ListPrincipalPoliciesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("policies", targetDepth)) {
-                    context.nextToken();
-                    listPrincipalPoliciesResult
-                            .setPolicies(new ListUnmarshaller<Policy>(
-                                    PolicyJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("nextMarker", targetDepth)) {
-                    context.nextToken();
-                    listPrincipalPoliciesResult.setNextMarker(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 546894160:
+                        if (fieldName.equals("policies")) {
+                            context.nextToken();
+                            listPrincipalPoliciesResult
+                                    .setPolicies(new ListUnmarshaller<Policy>(
+                                            PolicyJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1453340403:
+                        if (fieldName.equals("nextMarker")) {
+                            context.nextToken();
+                            listPrincipalPoliciesResult.setNextMarker(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
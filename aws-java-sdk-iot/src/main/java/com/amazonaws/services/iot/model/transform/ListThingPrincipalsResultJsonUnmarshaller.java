@@ -53,12 +53,19 @@ public class ListThingPrincipalsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("principals", targetDepth)) {
-                    context.nextToken();
-                    listThingPrincipalsResult
-                            .setPrincipals(new ListUnmarshaller<String>(context
-                                    .getUnmarshaller(String.class))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -338717179:
+                        if (fieldName.equals("principals")) {
+                            context.nextToken();
+                            listThingPrincipalsResult
+                                    .setPrincipals(new ListUnmarshaller<String>(context
+                                            .getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class ListTopicRulesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("rules", targetDepth)) {
-                    context.nextToken();
-                    listTopicRulesResult
-                            .setRules(new ListUnmarshaller<TopicRuleListItem>(
-                                    TopicRuleListItemJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listTopicRulesResult.setNextToken(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 108873975:
+                        if (fieldName.equals("rules")) {
+                            context.nextToken();
+                            listTopicRulesResult
+                                    .setRules(new ListUnmarshaller<TopicRuleListItem>(
+                                            TopicRuleListItemJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 1206918854:
+                        if (fieldName.equals("nextToken")) {
+                            context.nextToken();
+                            listTopicRulesResult.setNextToken(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
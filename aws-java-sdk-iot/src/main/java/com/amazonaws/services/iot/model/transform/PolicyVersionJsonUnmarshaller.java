@@ -53,20 +53,31 @@ public class PolicyVersionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("versionId", targetDepth)) {
-                    context.nextToken();
-                    policyVersion.setVersionId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("isDefaultVersion", targetDepth)) {
-                    context.nextToken();
-                    policyVersion.setIsDefaultVersion(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("createDate", targetDepth)) {
-                    context.nextToken();
-                    policyVersion.setCreateDate(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1407102957:
+                        if (fieldName.equals("versionId")) {
+                            context.nextToken();
+                            policyVersion.setVersionId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 857017121:
+                        if (fieldName.equals("isDefaultVersion")) {
+                            context.nextToken();
+                            policyVersion.setIsDefaultVersion(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 1368729290:
+                        if (fieldName.equals("createDate")) {
+                            context.nextToken();
+                            policyVersion.setCreateDate(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,20 +53,31 @@ public class SqsActionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("roleArn", targetDepth)) {
-                    context.nextToken();
-                    sqsAction.setRoleArn(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("queueUrl", targetDepth)) {
-                    context.nextToken();
-                    sqsAction.setQueueUrl(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("useBase64", targetDepth)) {
-                    context.nextToken();
-                    sqsAction.setUseBase64(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1376855559:
+                        if (fieldName.equals("roleArn")) {
+                            context.nextToken();
+                            sqsAction.setRoleArn(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1164489058:
+                        if (fieldName.equals("queueUrl")) {
+                            context.nextToken();
+                            sqsAction.setQueueUrl(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1032860234:
+                        if (fieldName.equals("useBase64")) {
+                            context.nextToken();
+                            sqsAction.setUseBase64(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,41 +53,60 @@ public class TopicRuleJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ruleName", targetDepth)) {
-                    context.nextToken();
-                    topicRule.setRuleName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("sql", targetDepth)) {
-                    context.nextToken();
-                    topicRule.setSql(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    topicRule.setDescription(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("createdAt", targetDepth)) {
-                    context.nextToken();
-                    topicRule.setCreatedAt(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("actions", targetDepth)) {
-                    context.nextToken();
-                    topicRule.setActions(new ListUnmarshaller<Action>(
-                            ActionJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("ruleDisabled", targetDepth)) {
-                    context.nextToken();
-                    topicRule.setRuleDisabled(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("awsIotSqlVersion", targetDepth)) {
-                    context.nextToken();
-                    topicRule.setAwsIotSqlVersion(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 763275175:
+                        if (fieldName.equals("ruleName")) {
+                            context.nextToken();
+                            topicRule.setRuleName(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 114126:
+                        if (fieldName.equals("sql")) {
+                            context.nextToken();
+                            topicRule.setSql(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1724546052:
+                        if (fieldName.equals("description")) {
+                            context.nextToken();
+                            topicRule.setDescription(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 598371643:
+                        if (fieldName.equals("createdAt")) {
+                            context.nextToken();
+                            topicRule.setCreatedAt(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case -1161803523:
+                        if (fieldName.equals("actions")) {
+                            context.nextToken();
+                            topicRule.setActions(new ListUnmarshaller<Action>(
+                                    ActionJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 463305112:
+                        if (fieldName.equals("ruleDisabled")) {
+                            context.nextToken();
+                            topicRule.setRuleDisabled(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 1981474267:
+                        if (fieldName.equals("awsIotSqlVersion")) {
+                            context.nextToken();
+                            topicRule.setAwsIotSqlVersion(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
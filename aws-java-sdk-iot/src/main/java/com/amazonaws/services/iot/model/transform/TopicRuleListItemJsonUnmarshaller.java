@@ -53,30 +53,45 @@ public class TopicRuleListItemJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ruleArn", targetDepth)) {
-                    context.nextToken();
-                    topicRuleListItem.setRuleArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ruleName", targetDepth)) {
-                    context.nextToken();
-                    topicRuleListItem.setRuleName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("topicPattern", targetDepth)) {
-                    context.nextToken();
-                    topicRuleListItem.setTopicPattern(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("createdAt", targetDepth)) {
-                    context.nextToken();
-                    topicRuleListItem.setCreatedAt(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("ruleDisabled", targetDepth)) {
-                    context.nextToken();
-                    topicRuleListItem.setRuleDisabled(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1548630465:
+                        if (fieldName.equals("ruleArn")) {
+                            context.nextToken();
+                            topicRuleListItem.setRuleArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 763275175:
+                        if (fieldName.equals("ruleName")) {
+                            context.nextToken();
+                            topicRuleListItem.setRuleName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 469848929:
+                        if (fieldName.equals("topicPattern")) {
+                            context.nextToken();
+                            topicRuleListItem.setTopicPattern(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 598371643:
+                        if (fieldName.equals("createdAt")) {
+                            context.nextToken();
+                            topicRuleListItem.setCreatedAt(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 463305112:
+                        if (fieldName.equals("ruleDisabled")) {
+                            context.nextToken();
+                            topicRuleListItem.setRuleDisabled(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
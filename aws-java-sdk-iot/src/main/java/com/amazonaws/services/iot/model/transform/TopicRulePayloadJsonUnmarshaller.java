@@ -53,31 +53,46 @@ public class TopicRulePayloadJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("sql", targetDepth)) {
-                    context.nextToken();
-                    topicRulePayload.setSql(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    topicRulePayload.setDescription(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("actions", targetDepth)) {
-                    context.nextToken();
-                    topicRulePayload.setActions(new ListUnmarshaller<Action>(
-                            ActionJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("ruleDisabled", targetDepth)) {
-                    context.nextToken();
-                    topicRulePayload.setRuleDisabled(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("awsIotSqlVersion", targetDepth)) {
-                    context.nextToken();
-                    topicRulePayload.setAwsIotSqlVersion(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 114126:
+                        if (fieldName.equals("sql")) {
+                            context.nextToken();
+                            topicRulePayload.setSql(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1724546052:
+                        if (fieldName.equals("description")) {
+                            context.nextToken();
+                            topicRulePayload.setDescription(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1161803523:
+                        if (fieldName.equals("actions")) {
+                            context.nextToken();
+                            topicRulePayload.setActions(new ListUnmarshaller<Action>(
+                                    ActionJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 463305112:
+                        if (fieldName.equals("ruleDisabled")) {
+                            context.nextToken();
+                            topicRulePayload.setRuleDisabled(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 1981474267:
+                        if (fieldName.equals("awsIotSqlVersion")) {
+                            context.nextToken();
+                            topicRulePayload.setAwsIotSqlVersion(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,13 +53,19 @@ public class TransferCertificateResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("transferredCertificateArn",
-                        targetDepth)) {
-                    context.nextToken();
-                    transferCertificateResult
-                            .setTransferredCertificateArn(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -898157652:
+                        if (fieldName.equals("transferredCertificateArn")) {
+                            context.nextToken();
+                            transferCertificateResult
+                                    .setTransferredCertificateArn(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
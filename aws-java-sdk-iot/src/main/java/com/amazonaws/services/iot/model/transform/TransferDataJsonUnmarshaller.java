@@ -53,30 +53,45 @@ public class TransferDataJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("transferMessage", targetDepth)) {
-                    context.nextToken();
-                    transferData.setTransferMessage(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("rejectReason", targetDepth)) {
-                    context.nextToken();
-                    transferData.setRejectReason(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("transferDate", targetDepth)) {
-                    context.nextToken();
-                    transferData.setTransferDate(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("acceptDate", targetDepth)) {
-                    context.nextToken();
-                    transferData.setAcceptDate(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("rejectDate", targetDepth)) {
-                    context.nextToken();
-                    transferData.setRejectDate(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1886178916:
+                        if (fieldName.equals("transferMessage")) {
+                            context.nextToken();
+                            transferData.setTransferMessage(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -2033156413:
+                        if (fieldName.equals("rejectReason")) {
+                            context.nextToken();
+                            transferData.setRejectReason(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -2143998407:
+                        if (fieldName.equals("transferDate")) {
+                            context.nextToken();
+                            transferData.setTransferDate(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case -1227467562:
+                        if (fieldName.equals("acceptDate")) {
+                            context.nextToken();
+                            transferData.setAcceptDate(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case -650579987:
+                        if (fieldName.equals("rejectDate")) {
+                            context.nextToken();
+                            transferData.setRejectDate(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -82,7 +82,7 @@ public class PublishRequestMarshaller implements
                     StringUtils.fromInteger(publishRequest.getQos()));
         }
 
-        request.setContent(BinaryUtils.toStream(publishRequest.getPayload()));
+        request.setContent(BinaryUtils.toReplayableStream(publishRequest.getPayload()));
         if (!request.getHeaders().containsKey("Content-Type")) {
             request.addHeader("Content-Type", DEFAULT_CONTENT_TYPE);
         }
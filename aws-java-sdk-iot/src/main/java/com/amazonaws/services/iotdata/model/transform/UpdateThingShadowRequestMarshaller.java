@@ -81,7 +81,7 @@ public class UpdateThingShadowRequestMarshaller implements
                                                 .getThingName()), false) : "");
         request.setResourcePath(uriResourcePath);
 
-        request.setContent(BinaryUtils.toStream(updateThingShadowRequest
+        request.setContent(BinaryUtils.toReplayableStream(updateThingShadowRequest
                 .getPayload()));
         if (!request.getHeaders().containsKey("Content-Type")) {
             request.addHeader("Content-Type", DEFAULT_CONTENT_TYPE);
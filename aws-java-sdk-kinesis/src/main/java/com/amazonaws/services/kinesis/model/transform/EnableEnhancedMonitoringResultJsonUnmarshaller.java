@@ -53,26 +53,35 @@ public class EnableEnhancedMonitoringResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StreamName", targetDepth)) {
-                    context.nextToken();
-                    enableEnhancedMonitoringResult.setStreamName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CurrentShardLevelMetrics",
-                        targetDepth)) {
-                    context.nextToken();
-                    enableEnhancedMonitoringResult
-                            .setCurrentShardLevelMetrics(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("DesiredShardLevelMetrics",
-                        targetDepth)) {
-                    context.nextToken();
-                    enableEnhancedMonitoringResult
-                            .setDesiredShardLevelMetrics(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 798513739:
+                        if (fieldName.equals("StreamName")) {
+                            context.nextToken();
+                            enableEnhancedMonitoringResult.setStreamName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1515482948:
+                        if (fieldName.equals("CurrentShardLevelMetrics")) {
+                            context.nextToken();
+                            enableEnhancedMonitoringResult
+                                    .setCurrentShardLevelMetrics(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 125686851:
+                        if (fieldName.equals("DesiredShardLevelMetrics")) {
+                            context.nextToken();
+                            enableEnhancedMonitoringResult
+                                    .setDesiredShardLevelMetrics(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,12 +53,19 @@ public class EnhancedMetricsJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ShardLevelMetrics", targetDepth)) {
-                    context.nextToken();
-                    enhancedMetrics
-                            .setShardLevelMetrics(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 627869565:
+                        if (fieldName.equals("ShardLevelMetrics")) {
+                            context.nextToken();
+                            enhancedMetrics
+                                    .setShardLevelMetrics(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
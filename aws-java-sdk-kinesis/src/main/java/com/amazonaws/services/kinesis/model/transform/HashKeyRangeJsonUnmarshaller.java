@@ -53,15 +53,24 @@ public class HashKeyRangeJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StartingHashKey", targetDepth)) {
-                    context.nextToken();
-                    hashKeyRange.setStartingHashKey(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("EndingHashKey", targetDepth)) {
-                    context.nextToken();
-                    hashKeyRange.setEndingHashKey(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -17774095:
+                        if (fieldName.equals("StartingHashKey")) {
+                            context.nextToken();
+                            hashKeyRange.setStartingHashKey(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 15172394:
+                        if (fieldName.equals("EndingHashKey")) {
+                            context.nextToken();
+                            hashKeyRange.setEndingHashKey(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,18 +53,27 @@ public class ListStreamsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StreamNames", targetDepth)) {
-                    context.nextToken();
-                    listStreamsResult
-                            .setStreamNames(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("HasMoreStreams", targetDepth)) {
-                    context.nextToken();
-                    listStreamsResult
-                            .setHasMoreStreams(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1015877752:
+                        if (fieldName.equals("StreamNames")) {
+                            context.nextToken();
+                            listStreamsResult
+                                    .setStreamNames(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 80912644:
+                        if (fieldName.equals("HasMoreStreams")) {
+                            context.nextToken();
+                            listStreamsResult
+                                    .setHasMoreStreams(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class ListTagsForStreamResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Tags", targetDepth)) {
-                    context.nextToken();
-                    listTagsForStreamResult.setTags(new ListUnmarshaller<Tag>(
-                            TagJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("HasMoreTags", targetDepth)) {
-                    context.nextToken();
-                    listTagsForStreamResult
-                            .setHasMoreTags(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2598969:
+                        if (fieldName.equals("Tags")) {
+                            context.nextToken();
+                            listTagsForStreamResult.setTags(new ListUnmarshaller<Tag>(
+                                    TagJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 28415400:
+                        if (fieldName.equals("HasMoreTags")) {
+                            context.nextToken();
+                            listTagsForStreamResult
+                                    .setHasMoreTags(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class PutRecordResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ShardId", targetDepth)) {
-                    context.nextToken();
-                    putRecordResult.setShardId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("SequenceNumber", targetDepth)) {
-                    context.nextToken();
-                    putRecordResult.setSequenceNumber(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -576097927:
+                        if (fieldName.equals("ShardId")) {
+                            context.nextToken();
+                            putRecordResult.setShardId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1938978442:
+                        if (fieldName.equals("SequenceNumber")) {
+                            context.nextToken();
+                            putRecordResult.setSequenceNumber(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,20 +53,31 @@ public class PutRecordsRequestEntryJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Data", targetDepth)) {
-                    context.nextToken();
-                    putRecordsRequestEntry.setData(context.getUnmarshaller(
-                            java.nio.ByteBuffer.class).unmarshall(context));
-                }
-                if (context.testExpression("ExplicitHashKey", targetDepth)) {
-                    context.nextToken();
-                    putRecordsRequestEntry.setExplicitHashKey(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PartitionKey", targetDepth)) {
-                    context.nextToken();
-                    putRecordsRequestEntry.setPartitionKey(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2122698:
+                        if (fieldName.equals("Data")) {
+                            context.nextToken();
+                            putRecordsRequestEntry.setData(context.getUnmarshaller(
+                                    java.nio.ByteBuffer.class).unmarshall(context));
+                        }
+                        break;
+                    case -1451726467:
+                        if (fieldName.equals("ExplicitHashKey")) {
+                            context.nextToken();
+                            putRecordsRequestEntry.setExplicitHashKey(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 386697013:
+                        if (fieldName.equals("PartitionKey")) {
+                            context.nextToken();
+                            putRecordsRequestEntry.setPartitionKey(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
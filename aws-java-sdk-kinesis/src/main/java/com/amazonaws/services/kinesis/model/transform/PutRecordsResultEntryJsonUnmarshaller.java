@@ -53,25 +53,38 @@ public class PutRecordsResultEntryJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SequenceNumber", targetDepth)) {
-                    context.nextToken();
-                    putRecordsResultEntry.setSequenceNumber(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ShardId", targetDepth)) {
-                    context.nextToken();
-                    putRecordsResultEntry.setShardId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ErrorCode", targetDepth)) {
-                    context.nextToken();
-                    putRecordsResultEntry.setErrorCode(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ErrorMessage", targetDepth)) {
-                    context.nextToken();
-                    putRecordsResultEntry.setErrorMessage(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1938978442:
+                        if (fieldName.equals("SequenceNumber")) {
+                            context.nextToken();
+                            putRecordsResultEntry.setSequenceNumber(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -576097927:
+                        if (fieldName.equals("ShardId")) {
+                            context.nextToken();
+                            putRecordsResultEntry.setShardId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1961963531:
+                        if (fieldName.equals("ErrorCode")) {
+                            context.nextToken();
+                            putRecordsResultEntry.setErrorCode(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1367556351:
+                        if (fieldName.equals("ErrorMessage")) {
+                            context.nextToken();
+                            putRecordsResultEntry.setErrorMessage(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
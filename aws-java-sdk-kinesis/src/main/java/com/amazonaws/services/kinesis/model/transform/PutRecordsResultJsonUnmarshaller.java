@@ -53,18 +53,27 @@ public class PutRecordsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FailedRecordCount", targetDepth)) {
-                    context.nextToken();
-                    putRecordsResult
-                            .setFailedRecordCount(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Records", targetDepth)) {
-                    context.nextToken();
-                    putRecordsResult
-                            .setRecords(new ListUnmarshaller<PutRecordsResultEntry>(
-                                    PutRecordsResultEntryJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1992374945:
+                        if (fieldName.equals("FailedRecordCount")) {
+                            context.nextToken();
+                            putRecordsResult
+                                    .setFailedRecordCount(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -1547717086:
+                        if (fieldName.equals("Records")) {
+                            context.nextToken();
+                            putRecordsResult
+                                    .setRecords(new ListUnmarshaller<PutRecordsResultEntry>(
+                                            PutRecordsResultEntryJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
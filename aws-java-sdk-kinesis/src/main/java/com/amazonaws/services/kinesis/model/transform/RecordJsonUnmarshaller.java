@@ -52,27 +52,39 @@ public class RecordJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SequenceNumber", targetDepth)) {
-                    context.nextToken();
-                    record.setSequenceNumber(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ApproximateArrivalTimestamp",
-                        targetDepth)) {
-                    context.nextToken();
-                    record.setApproximateArrivalTimestamp(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("Data", targetDepth)) {
-                    context.nextToken();
-                    record.setData(context.getUnmarshaller(
-                            java.nio.ByteBuffer.class).unmarshall(context));
-                }
-                if (context.testExpression("PartitionKey", targetDepth)) {
-                    context.nextToken();
-                    record.setPartitionKey(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1938978442:
+                        if (fieldName.equals("SequenceNumber")) {
+                            context.nextToken();
+                            record.setSequenceNumber(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1954675761:
+                        if (fieldName.equals("ApproximateArrivalTimestamp")) {
+                            context.nextToken();
+                            record.setApproximateArrivalTimestamp(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case 2122698:
+                        if (fieldName.equals("Data")) {
+                            context.nextToken();
+                            record.setData(context.getUnmarshaller(
+                                    java.nio.ByteBuffer.class).unmarshall(context));
+                        }
+                        break;
+                    case 386697013:
+                        if (fieldName.equals("PartitionKey")) {
+                            context.nextToken();
+                            record.setPartitionKey(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,44 +53,63 @@ public class StreamDescriptionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StreamName", targetDepth)) {
-                    context.nextToken();
-                    streamDescription.setStreamName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("StreamARN", targetDepth)) {
-                    context.nextToken();
-                    streamDescription.setStreamARN(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("StreamStatus", targetDepth)) {
-                    context.nextToken();
-                    streamDescription.setStreamStatus(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Shards", targetDepth)) {
-                    context.nextToken();
-                    streamDescription.setShards(new ListUnmarshaller<Shard>(
-                            ShardJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("HasMoreShards", targetDepth)) {
-                    context.nextToken();
-                    streamDescription.setHasMoreShards(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("RetentionPeriodHours", targetDepth)) {
-                    context.nextToken();
-                    streamDescription
-                            .setRetentionPeriodHours(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("EnhancedMonitoring", targetDepth)) {
-                    context.nextToken();
-                    streamDescription
-                            .setEnhancedMonitoring(new ListUnmarshaller<EnhancedMetrics>(
-                                    EnhancedMetricsJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 798513739:
+                        if (fieldName.equals("StreamName")) {
+                            context.nextToken();
+                            streamDescription.setStreamName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1688313501:
+                        if (fieldName.equals("StreamARN")) {
+                            context.nextToken();
+                            streamDescription.setStreamARN(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1267089486:
+                        if (fieldName.equals("StreamStatus")) {
+                            context.nextToken();
+                            streamDescription.setStreamStatus(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1819699083:
+                        if (fieldName.equals("Shards")) {
+                            context.nextToken();
+                            streamDescription.setShards(new ListUnmarshaller<Shard>(
+                                    ShardJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1515054628:
+                        if (fieldName.equals("HasMoreShards")) {
+                            context.nextToken();
+                            streamDescription.setHasMoreShards(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 1699598320:
+                        if (fieldName.equals("RetentionPeriodHours")) {
+                            context.nextToken();
+                            streamDescription
+                                    .setRetentionPeriodHours(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -1253084034:
+                        if (fieldName.equals("EnhancedMonitoring")) {
+                            context.nextToken();
+                            streamDescription
+                                    .setEnhancedMonitoring(new ListUnmarshaller<EnhancedMetrics>(
+                                            EnhancedMetricsJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,16 +53,25 @@ public class BufferingHintsJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SizeInMBs", targetDepth)) {
-                    context.nextToken();
-                    bufferingHints.setSizeInMBs(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("IntervalInSeconds", targetDepth)) {
-                    context.nextToken();
-                    bufferingHints
-                            .setIntervalInSeconds(context.getUnmarshaller(
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1814759784:
+                        if (fieldName.equals("SizeInMBs")) {
+                            context.nextToken();
+                            bufferingHints.setSizeInMBs(context.getUnmarshaller(
                                     Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -1076643275:
+                        if (fieldName.equals("IntervalInSeconds")) {
+                            context.nextToken();
+                            bufferingHints
+                                    .setIntervalInSeconds(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,21 +53,32 @@ public class CloudWatchLoggingOptionsJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Enabled", targetDepth)) {
-                    context.nextToken();
-                    cloudWatchLoggingOptions
-                            .setEnabled(context.getUnmarshaller(Boolean.class)
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("LogGroupName", targetDepth)) {
-                    context.nextToken();
-                    cloudWatchLoggingOptions.setLogGroupName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LogStreamName", targetDepth)) {
-                    context.nextToken();
-                    cloudWatchLoggingOptions.setLogStreamName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 55059233:
+                        if (fieldName.equals("Enabled")) {
+                            context.nextToken();
+                            cloudWatchLoggingOptions
+                                    .setEnabled(context.getUnmarshaller(Boolean.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1081985766:
+                        if (fieldName.equals("LogGroupName")) {
+                            context.nextToken();
+                            cloudWatchLoggingOptions.setLogGroupName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1015605359:
+                        if (fieldName.equals("LogStreamName")) {
+                            context.nextToken();
+                            cloudWatchLoggingOptions.setLogStreamName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
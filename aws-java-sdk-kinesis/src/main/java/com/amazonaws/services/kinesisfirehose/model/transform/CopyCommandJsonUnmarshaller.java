@@ -53,20 +53,31 @@ public class CopyCommandJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DataTableName", targetDepth)) {
-                    context.nextToken();
-                    copyCommand.setDataTableName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("DataTableColumns", targetDepth)) {
-                    context.nextToken();
-                    copyCommand.setDataTableColumns(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("CopyOptions", targetDepth)) {
-                    context.nextToken();
-                    copyCommand.setCopyOptions(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1299903183:
+                        if (fieldName.equals("DataTableName")) {
+                            context.nextToken();
+                            copyCommand.setDataTableName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1218447641:
+                        if (fieldName.equals("DataTableColumns")) {
+                            context.nextToken();
+                            copyCommand.setDataTableColumns(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -204424887:
+                        if (fieldName.equals("CopyOptions")) {
+                            context.nextToken();
+                            copyCommand.setCopyOptions(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
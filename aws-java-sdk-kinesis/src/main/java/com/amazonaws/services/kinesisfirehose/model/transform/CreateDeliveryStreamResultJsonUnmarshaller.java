@@ -53,10 +53,17 @@ public class CreateDeliveryStreamResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DeliveryStreamARN", targetDepth)) {
-                    context.nextToken();
-                    createDeliveryStreamResult.setDeliveryStreamARN(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 450819337:
+                        if (fieldName.equals("DeliveryStreamARN")) {
+                            context.nextToken();
+                            createDeliveryStreamResult.setDeliveryStreamARN(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
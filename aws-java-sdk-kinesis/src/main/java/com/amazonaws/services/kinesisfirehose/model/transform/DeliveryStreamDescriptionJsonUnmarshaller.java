@@ -53,50 +53,71 @@ public class DeliveryStreamDescriptionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DeliveryStreamName", targetDepth)) {
-                    context.nextToken();
-                    deliveryStreamDescription.setDeliveryStreamName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DeliveryStreamARN", targetDepth)) {
-                    context.nextToken();
-                    deliveryStreamDescription.setDeliveryStreamARN(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DeliveryStreamStatus", targetDepth)) {
-                    context.nextToken();
-                    deliveryStreamDescription.setDeliveryStreamStatus(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VersionId", targetDepth)) {
-                    context.nextToken();
-                    deliveryStreamDescription.setVersionId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreateTimestamp", targetDepth)) {
-                    context.nextToken();
-                    deliveryStreamDescription.setCreateTimestamp(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("LastUpdateTimestamp", targetDepth)) {
-                    context.nextToken();
-                    deliveryStreamDescription.setLastUpdateTimestamp(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("Destinations", targetDepth)) {
-                    context.nextToken();
-                    deliveryStreamDescription
-                            .setDestinations(new ListUnmarshaller<DestinationDescription>(
-                                    DestinationDescriptionJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("HasMoreDestinations", targetDepth)) {
-                    context.nextToken();
-                    deliveryStreamDescription
-                            .setHasMoreDestinations(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1090900319:
+                        if (fieldName.equals("DeliveryStreamName")) {
+                            context.nextToken();
+                            deliveryStreamDescription.setDeliveryStreamName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 450819337:
+                        if (fieldName.equals("DeliveryStreamARN")) {
+                            context.nextToken();
+                            deliveryStreamDescription.setDeliveryStreamARN(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 543539654:
+                        if (fieldName.equals("DeliveryStreamStatus")) {
+                            context.nextToken();
+                            deliveryStreamDescription.setDeliveryStreamStatus(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 596865011:
+                        if (fieldName.equals("VersionId")) {
+                            context.nextToken();
+                            deliveryStreamDescription.setVersionId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1887943514:
+                        if (fieldName.equals("CreateTimestamp")) {
+                            context.nextToken();
+                            deliveryStreamDescription.setCreateTimestamp(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case 200904887:
+                        if (fieldName.equals("LastUpdateTimestamp")) {
+                            context.nextToken();
+                            deliveryStreamDescription.setLastUpdateTimestamp(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case -1211264443:
+                        if (fieldName.equals("Destinations")) {
+                            context.nextToken();
+                            deliveryStreamDescription
+                                    .setDestinations(new ListUnmarshaller<DestinationDescription>(
+                                            DestinationDescriptionJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -993615692:
+                        if (fieldName.equals("HasMoreDestinations")) {
+                            context.nextToken();
+                            deliveryStreamDescription
+                                    .setHasMoreDestinations(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,12 +53,18 @@ public class DescribeDeliveryStreamResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DeliveryStreamDescription",
-                        targetDepth)) {
-                    context.nextToken();
-                    describeDeliveryStreamResult
-                            .setDeliveryStreamDescription(DeliveryStreamDescriptionJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -743467352:
+                        if (fieldName.equals("DeliveryStreamDescription")) {
+                            context.nextToken();
+                            describeDeliveryStreamResult
+                                    .setDeliveryStreamDescription(DeliveryStreamDescriptionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
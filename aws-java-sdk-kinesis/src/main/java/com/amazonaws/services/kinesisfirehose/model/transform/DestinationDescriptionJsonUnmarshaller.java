@@ -53,31 +53,41 @@ public class DestinationDescriptionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DestinationId", targetDepth)) {
-                    context.nextToken();
-                    destinationDescription.setDestinationId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("S3DestinationDescription",
-                        targetDepth)) {
-                    context.nextToken();
-                    destinationDescription
-                            .setS3DestinationDescription(S3DestinationDescriptionJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("RedshiftDestinationDescription",
-                        targetDepth)) {
-                    context.nextToken();
-                    destinationDescription
-                            .setRedshiftDestinationDescription(RedshiftDestinationDescriptionJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "ElasticsearchDestinationDescription", targetDepth)) {
-                    context.nextToken();
-                    destinationDescription
-                            .setElasticsearchDestinationDescription(ElasticsearchDestinationDescriptionJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1105506729:
+                        if (fieldName.equals("DestinationId")) {
+                            context.nextToken();
+                            destinationDescription.setDestinationId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1097398638:
+                        if (fieldName.equals("S3DestinationDescription")) {
+                            context.nextToken();
+                            destinationDescription
+                                    .setS3DestinationDescription(S3DestinationDescriptionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 421355295:
+                        if (fieldName.equals("RedshiftDestinationDescription")) {
+                            context.nextToken();
+                            destinationDescription
+                                    .setRedshiftDestinationDescription(RedshiftDestinationDescriptionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -772591605:
+                        if (fieldName.equals("ElasticsearchDestinationDescription")) {
+                            context.nextToken();
+                            destinationDescription
+                                    .setElasticsearchDestinationDescription(ElasticsearchDestinationDescriptionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
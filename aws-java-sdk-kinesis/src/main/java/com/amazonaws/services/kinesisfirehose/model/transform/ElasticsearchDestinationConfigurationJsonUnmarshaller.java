@@ -54,62 +54,86 @@ public class ElasticsearchDestinationConfigurationJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RoleARN", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationConfiguration.setRoleARN(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DomainARN", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationConfiguration.setDomainARN(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IndexName", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationConfiguration.setIndexName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TypeName", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationConfiguration.setTypeName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IndexRotationPeriod", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationConfiguration
-                            .setIndexRotationPeriod(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("BufferingHints", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationConfiguration
-                            .setBufferingHints(ElasticsearchBufferingHintsJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("RetryOptions", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationConfiguration
-                            .setRetryOptions(ElasticsearchRetryOptionsJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("S3BackupMode", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationConfiguration
-                            .setS3BackupMode(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("S3Configuration", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationConfiguration
-                            .setS3Configuration(S3DestinationConfigurationJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("CloudWatchLoggingOptions",
-                        targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationConfiguration
-                            .setCloudWatchLoggingOptions(CloudWatchLoggingOptionsJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1253459481:
+                        if (fieldName.equals("RoleARN")) {
+                            context.nextToken();
+                            elasticsearchDestinationConfiguration.setRoleARN(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1638407463:
+                        if (fieldName.equals("DomainARN")) {
+                            context.nextToken();
+                            elasticsearchDestinationConfiguration.setDomainARN(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1196260957:
+                        if (fieldName.equals("IndexName")) {
+                            context.nextToken();
+                            elasticsearchDestinationConfiguration.setIndexName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -611863291:
+                        if (fieldName.equals("TypeName")) {
+                            context.nextToken();
+                            elasticsearchDestinationConfiguration.setTypeName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1010319409:
+                        if (fieldName.equals("IndexRotationPeriod")) {
+                            context.nextToken();
+                            elasticsearchDestinationConfiguration
+                                    .setIndexRotationPeriod(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case 312354922:
+                        if (fieldName.equals("BufferingHints")) {
+                            context.nextToken();
+                            elasticsearchDestinationConfiguration
+                                    .setBufferingHints(ElasticsearchBufferingHintsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 521110262:
+                        if (fieldName.equals("RetryOptions")) {
+                            context.nextToken();
+                            elasticsearchDestinationConfiguration
+                                    .setRetryOptions(ElasticsearchRetryOptionsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1732937957:
+                        if (fieldName.equals("S3BackupMode")) {
+                            context.nextToken();
+                            elasticsearchDestinationConfiguration
+                                    .setS3BackupMode(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1004191082:
+                        if (fieldName.equals("S3Configuration")) {
+                            context.nextToken();
+                            elasticsearchDestinationConfiguration
+                                    .setS3Configuration(S3DestinationConfigurationJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1054358375:
+                        if (fieldName.equals("CloudWatchLoggingOptions")) {
+                            context.nextToken();
+                            elasticsearchDestinationConfiguration
+                                    .setCloudWatchLoggingOptions(CloudWatchLoggingOptionsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
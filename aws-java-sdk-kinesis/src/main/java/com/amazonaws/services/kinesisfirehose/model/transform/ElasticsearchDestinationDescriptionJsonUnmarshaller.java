@@ -54,62 +54,85 @@ public class ElasticsearchDestinationDescriptionJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RoleARN", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationDescription.setRoleARN(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DomainARN", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationDescription.setDomainARN(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IndexName", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationDescription.setIndexName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TypeName", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationDescription.setTypeName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IndexRotationPeriod", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationDescription
-                            .setIndexRotationPeriod(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("BufferingHints", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationDescription
-                            .setBufferingHints(ElasticsearchBufferingHintsJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("RetryOptions", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationDescription
-                            .setRetryOptions(ElasticsearchRetryOptionsJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("S3BackupMode", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationDescription.setS3BackupMode(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("S3DestinationDescription",
-                        targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationDescription
-                            .setS3DestinationDescription(S3DestinationDescriptionJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("CloudWatchLoggingOptions",
-                        targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationDescription
-                            .setCloudWatchLoggingOptions(CloudWatchLoggingOptionsJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1253459481:
+                        if (fieldName.equals("RoleARN")) {
+                            context.nextToken();
+                            elasticsearchDestinationDescription.setRoleARN(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1638407463:
+                        if (fieldName.equals("DomainARN")) {
+                            context.nextToken();
+                            elasticsearchDestinationDescription.setDomainARN(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1196260957:
+                        if (fieldName.equals("IndexName")) {
+                            context.nextToken();
+                            elasticsearchDestinationDescription.setIndexName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -611863291:
+                        if (fieldName.equals("TypeName")) {
+                            context.nextToken();
+                            elasticsearchDestinationDescription.setTypeName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1010319409:
+                        if (fieldName.equals("IndexRotationPeriod")) {
+                            context.nextToken();
+                            elasticsearchDestinationDescription
+                                    .setIndexRotationPeriod(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case 312354922:
+                        if (fieldName.equals("BufferingHints")) {
+                            context.nextToken();
+                            elasticsearchDestinationDescription
+                                    .setBufferingHints(ElasticsearchBufferingHintsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 521110262:
+                        if (fieldName.equals("RetryOptions")) {
+                            context.nextToken();
+                            elasticsearchDestinationDescription
+                                    .setRetryOptions(ElasticsearchRetryOptionsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1732937957:
+                        if (fieldName.equals("S3BackupMode")) {
+                            context.nextToken();
+                            elasticsearchDestinationDescription.setS3BackupMode(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1097398638:
+                        if (fieldName.equals("S3DestinationDescription")) {
+                            context.nextToken();
+                            elasticsearchDestinationDescription
+                                    .setS3DestinationDescription(S3DestinationDescriptionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1054358375:
+                        if (fieldName.equals("CloudWatchLoggingOptions")) {
+                            context.nextToken();
+                            elasticsearchDestinationDescription
+                                    .setCloudWatchLoggingOptions(CloudWatchLoggingOptionsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,56 +53,78 @@ public class ElasticsearchDestinationUpdateJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RoleARN", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationUpdate.setRoleARN(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DomainARN", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationUpdate.setDomainARN(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IndexName", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationUpdate.setIndexName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TypeName", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationUpdate.setTypeName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IndexRotationPeriod", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationUpdate
-                            .setIndexRotationPeriod(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("BufferingHints", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationUpdate
-                            .setBufferingHints(ElasticsearchBufferingHintsJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("RetryOptions", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationUpdate
-                            .setRetryOptions(ElasticsearchRetryOptionsJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("S3Update", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationUpdate
-                            .setS3Update(S3DestinationUpdateJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("CloudWatchLoggingOptions",
-                        targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationUpdate
-                            .setCloudWatchLoggingOptions(CloudWatchLoggingOptionsJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1253459481:
+                        if (fieldName.equals("RoleARN")) {
+                            context.nextToken();
+                            elasticsearchDestinationUpdate.setRoleARN(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1638407463:
+                        if (fieldName.equals("DomainARN")) {
+                            context.nextToken();
+                            elasticsearchDestinationUpdate.setDomainARN(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1196260957:
+                        if (fieldName.equals("IndexName")) {
+                            context.nextToken();
+                            elasticsearchDestinationUpdate.setIndexName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -611863291:
+                        if (fieldName.equals("TypeName")) {
+                            context.nextToken();
+                            elasticsearchDestinationUpdate.setTypeName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1010319409:
+                        if (fieldName.equals("IndexRotationPeriod")) {
+                            context.nextToken();
+                            elasticsearchDestinationUpdate
+                                    .setIndexRotationPeriod(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case 312354922:
+                        if (fieldName.equals("BufferingHints")) {
+                            context.nextToken();
+                            elasticsearchDestinationUpdate
+                                    .setBufferingHints(ElasticsearchBufferingHintsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 521110262:
+                        if (fieldName.equals("RetryOptions")) {
+                            context.nextToken();
+                            elasticsearchDestinationUpdate
+                                    .setRetryOptions(ElasticsearchRetryOptionsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -817594583:
+                        if (fieldName.equals("S3Update")) {
+                            context.nextToken();
+                            elasticsearchDestinationUpdate
+                                    .setS3Update(S3DestinationUpdateJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1054358375:
+                        if (fieldName.equals("CloudWatchLoggingOptions")) {
+                            context.nextToken();
+                            elasticsearchDestinationUpdate
+                                    .setCloudWatchLoggingOptions(CloudWatchLoggingOptionsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
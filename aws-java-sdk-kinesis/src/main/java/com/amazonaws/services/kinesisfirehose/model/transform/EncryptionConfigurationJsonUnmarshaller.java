@@ -53,16 +53,25 @@ public class EncryptionConfigurationJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("NoEncryptionConfig", targetDepth)) {
-                    context.nextToken();
-                    encryptionConfiguration.setNoEncryptionConfig(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("KMSEncryptionConfig", targetDepth)) {
-                    context.nextToken();
-                    encryptionConfiguration
-                            .setKMSEncryptionConfig(KMSEncryptionConfigJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1549991078:
+                        if (fieldName.equals("NoEncryptionConfig")) {
+                            context.nextToken();
+                            encryptionConfiguration.setNoEncryptionConfig(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 103249398:
+                        if (fieldName.equals("KMSEncryptionConfig")) {
+                            context.nextToken();
+                            encryptionConfiguration
+                                    .setKMSEncryptionConfig(KMSEncryptionConfigJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
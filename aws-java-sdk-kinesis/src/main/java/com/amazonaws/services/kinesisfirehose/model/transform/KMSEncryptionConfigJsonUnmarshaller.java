@@ -53,10 +53,17 @@ public class KMSEncryptionConfigJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AWSKMSKeyARN", targetDepth)) {
-                    context.nextToken();
-                    kMSEncryptionConfig.setAWSKMSKeyARN(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 483549138:
+                        if (fieldName.equals("AWSKMSKeyARN")) {
+                            context.nextToken();
+                            kMSEncryptionConfig.setAWSKMSKeyARN(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
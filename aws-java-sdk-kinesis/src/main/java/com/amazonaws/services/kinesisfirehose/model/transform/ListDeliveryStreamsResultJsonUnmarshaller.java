@@ -53,19 +53,27 @@ public class ListDeliveryStreamsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DeliveryStreamNames", targetDepth)) {
-                    context.nextToken();
-                    listDeliveryStreamsResult
-                            .setDeliveryStreamNames(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("HasMoreDeliveryStreams",
-                        targetDepth)) {
-                    context.nextToken();
-                    listDeliveryStreamsResult
-                            .setHasMoreDeliveryStreams(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -541828364:
+                        if (fieldName.equals("DeliveryStreamNames")) {
+                            context.nextToken();
+                            listDeliveryStreamsResult
+                                    .setDeliveryStreamNames(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -2110004880:
+                        if (fieldName.equals("HasMoreDeliveryStreams")) {
+                            context.nextToken();
+                            listDeliveryStreamsResult
+                                    .setHasMoreDeliveryStreams(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,18 +53,27 @@ public class PutRecordBatchResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FailedPutCount", targetDepth)) {
-                    context.nextToken();
-                    putRecordBatchResult
-                            .setFailedPutCount(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("RequestResponses", targetDepth)) {
-                    context.nextToken();
-                    putRecordBatchResult
-                            .setRequestResponses(new ListUnmarshaller<PutRecordBatchResponseEntry>(
-                                    PutRecordBatchResponseEntryJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -742033731:
+                        if (fieldName.equals("FailedPutCount")) {
+                            context.nextToken();
+                            putRecordBatchResult
+                                    .setFailedPutCount(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 147412643:
+                        if (fieldName.equals("RequestResponses")) {
+                            context.nextToken();
+                            putRecordBatchResult
+                                    .setRequestResponses(new ListUnmarshaller<PutRecordBatchResponseEntry>(
+                                            PutRecordBatchResponseEntryJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
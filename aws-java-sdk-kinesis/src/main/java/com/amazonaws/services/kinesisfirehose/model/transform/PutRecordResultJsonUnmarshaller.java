@@ -53,10 +53,17 @@ public class PutRecordResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RecordId", targetDepth)) {
-                    context.nextToken();
-                    putRecordResult.setRecordId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -734590612:
+                        if (fieldName.equals("RecordId")) {
+                            context.nextToken();
+                            putRecordResult.setRecordId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
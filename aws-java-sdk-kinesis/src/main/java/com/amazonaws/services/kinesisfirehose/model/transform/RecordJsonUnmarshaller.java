@@ -52,10 +52,17 @@ public class RecordJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Data", targetDepth)) {
-                    context.nextToken();
-                    record.setData(context.getUnmarshaller(
-                            java.nio.ByteBuffer.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2122698:
+                        if (fieldName.equals("Data")) {
+                            context.nextToken();
+                            record.setData(context.getUnmarshaller(
+                                    java.nio.ByteBuffer.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,50 +53,70 @@ public class RedshiftDestinationConfigurationJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RoleARN", targetDepth)) {
-                    context.nextToken();
-                    redshiftDestinationConfiguration.setRoleARN(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ClusterJDBCURL", targetDepth)) {
-                    context.nextToken();
-                    redshiftDestinationConfiguration.setClusterJDBCURL(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CopyCommand", targetDepth)) {
-                    context.nextToken();
-                    redshiftDestinationConfiguration
-                            .setCopyCommand(CopyCommandJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Username", targetDepth)) {
-                    context.nextToken();
-                    redshiftDestinationConfiguration.setUsername(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Password", targetDepth)) {
-                    context.nextToken();
-                    redshiftDestinationConfiguration.setPassword(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RetryOptions", targetDepth)) {
-                    context.nextToken();
-                    redshiftDestinationConfiguration
-                            .setRetryOptions(RedshiftRetryOptionsJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("S3Configuration", targetDepth)) {
-                    context.nextToken();
-                    redshiftDestinationConfiguration
-                            .setS3Configuration(S3DestinationConfigurationJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("CloudWatchLoggingOptions",
-                        targetDepth)) {
-                    context.nextToken();
-                    redshiftDestinationConfiguration
-                            .setCloudWatchLoggingOptions(CloudWatchLoggingOptionsJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1253459481:
+                        if (fieldName.equals("RoleARN")) {
+                            context.nextToken();
+                            redshiftDestinationConfiguration.setRoleARN(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1478813018:
+                        if (fieldName.equals("ClusterJDBCURL")) {
+                            context.nextToken();
+                            redshiftDestinationConfiguration.setClusterJDBCURL(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1995444726:
+                        if (fieldName.equals("CopyCommand")) {
+                            context.nextToken();
+                            redshiftDestinationConfiguration
+                                    .setCopyCommand(CopyCommandJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -201069322:
+                        if (fieldName.equals("Username")) {
+                            context.nextToken();
+                            redshiftDestinationConfiguration.setUsername(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1281629883:
+                        if (fieldName.equals("Password")) {
+                            context.nextToken();
+                            redshiftDestinationConfiguration.setPassword(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 521110262:
+                        if (fieldName.equals("RetryOptions")) {
+                            context.nextToken();
+                            redshiftDestinationConfiguration
+                                    .setRetryOptions(RedshiftRetryOptionsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1004191082:
+                        if (fieldName.equals("S3Configuration")) {
+                            context.nextToken();
+                            redshiftDestinationConfiguration
+                                    .setS3Configuration(S3DestinationConfigurationJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1054358375:
+                        if (fieldName.equals("CloudWatchLoggingOptions")) {
+                            context.nextToken();
+                            redshiftDestinationConfiguration
+                                    .setCloudWatchLoggingOptions(CloudWatchLoggingOptionsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,46 +53,63 @@ public class RedshiftDestinationDescriptionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RoleARN", targetDepth)) {
-                    context.nextToken();
-                    redshiftDestinationDescription.setRoleARN(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ClusterJDBCURL", targetDepth)) {
-                    context.nextToken();
-                    redshiftDestinationDescription.setClusterJDBCURL(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CopyCommand", targetDepth)) {
-                    context.nextToken();
-                    redshiftDestinationDescription
-                            .setCopyCommand(CopyCommandJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Username", targetDepth)) {
-                    context.nextToken();
-                    redshiftDestinationDescription.setUsername(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RetryOptions", targetDepth)) {
-                    context.nextToken();
-                    redshiftDestinationDescription
-                            .setRetryOptions(RedshiftRetryOptionsJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("S3DestinationDescription",
-                        targetDepth)) {
-                    context.nextToken();
-                    redshiftDestinationDescription
-                            .setS3DestinationDescription(S3DestinationDescriptionJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("CloudWatchLoggingOptions",
-                        targetDepth)) {
-                    context.nextToken();
-                    redshiftDestinationDescription
-                            .setCloudWatchLoggingOptions(CloudWatchLoggingOptionsJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1253459481:
+                        if (fieldName.equals("RoleARN")) {
+                            context.nextToken();
+                            redshiftDestinationDescription.setRoleARN(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1478813018:
+                        if (fieldName.equals("ClusterJDBCURL")) {
+                            context.nextToken();
+                            redshiftDestinationDescription.setClusterJDBCURL(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1995444726:
+                        if (fieldName.equals("CopyCommand")) {
+                            context.nextToken();
+                            redshiftDestinationDescription
+                                    .setCopyCommand(CopyCommandJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -201069322:
+                        if (fieldName.equals("Username")) {
+                            context.nextToken();
+                            redshiftDestinationDescription.setUsername(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 521110262:
+                        if (fieldName.equals("RetryOptions")) {
+                            context.nextToken();
+                            redshiftDestinationDescription
+                                    .setRetryOptions(RedshiftRetryOptionsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1097398638:
+                        if (fieldName.equals("S3DestinationDescription")) {
+                            context.nextToken();
+                            redshiftDestinationDescription
+                                    .setS3DestinationDescription(S3DestinationDescriptionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1054358375:
+                        if (fieldName.equals("CloudWatchLoggingOptions")) {
+                            context.nextToken();
+                            redshiftDestinationDescription
+                                    .setCloudWatchLoggingOptions(CloudWatchLoggingOptionsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,11 +53,18 @@ public class RedshiftRetryOptionsJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DurationInSeconds", targetDepth)) {
-                    context.nextToken();
-                    redshiftRetryOptions
-                            .setDurationInSeconds(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1570321850:
+                        if (fieldName.equals("DurationInSeconds")) {
+                            context.nextToken();
+                            redshiftRetryOptions
+                                    .setDurationInSeconds(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
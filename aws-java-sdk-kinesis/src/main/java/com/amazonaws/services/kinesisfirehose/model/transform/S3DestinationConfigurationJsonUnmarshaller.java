@@ -53,45 +53,62 @@ public class S3DestinationConfigurationJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RoleARN", targetDepth)) {
-                    context.nextToken();
-                    s3DestinationConfiguration.setRoleARN(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("BucketARN", targetDepth)) {
-                    context.nextToken();
-                    s3DestinationConfiguration.setBucketARN(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Prefix", targetDepth)) {
-                    context.nextToken();
-                    s3DestinationConfiguration.setPrefix(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("BufferingHints", targetDepth)) {
-                    context.nextToken();
-                    s3DestinationConfiguration
-                            .setBufferingHints(BufferingHintsJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("CompressionFormat", targetDepth)) {
-                    context.nextToken();
-                    s3DestinationConfiguration.setCompressionFormat(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EncryptionConfiguration",
-                        targetDepth)) {
-                    context.nextToken();
-                    s3DestinationConfiguration
-                            .setEncryptionConfiguration(EncryptionConfigurationJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("CloudWatchLoggingOptions",
-                        targetDepth)) {
-                    context.nextToken();
-                    s3DestinationConfiguration
-                            .setCloudWatchLoggingOptions(CloudWatchLoggingOptionsJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1253459481:
+                        if (fieldName.equals("RoleARN")) {
+                            context.nextToken();
+                            s3DestinationConfiguration.setRoleARN(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -453864461:
+                        if (fieldName.equals("BucketARN")) {
+                            context.nextToken();
+                            s3DestinationConfiguration.setBucketARN(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1896243534:
+                        if (fieldName.equals("Prefix")) {
+                            context.nextToken();
+                            s3DestinationConfiguration.setPrefix(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 312354922:
+                        if (fieldName.equals("BufferingHints")) {
+                            context.nextToken();
+                            s3DestinationConfiguration
+                                    .setBufferingHints(BufferingHintsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -256354083:
+                        if (fieldName.equals("CompressionFormat")) {
+                            context.nextToken();
+                            s3DestinationConfiguration.setCompressionFormat(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1082721773:
+                        if (fieldName.equals("EncryptionConfiguration")) {
+                            context.nextToken();
+                            s3DestinationConfiguration
+                                    .setEncryptionConfiguration(EncryptionConfigurationJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1054358375:
+                        if (fieldName.equals("CloudWatchLoggingOptions")) {
+                            context.nextToken();
+                            s3DestinationConfiguration
+                                    .setCloudWatchLoggingOptions(CloudWatchLoggingOptionsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
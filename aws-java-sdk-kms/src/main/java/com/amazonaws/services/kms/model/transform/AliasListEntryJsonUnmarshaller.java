@@ -53,20 +53,31 @@ public class AliasListEntryJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AliasName", targetDepth)) {
-                    context.nextToken();
-                    aliasListEntry.setAliasName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("AliasArn", targetDepth)) {
-                    context.nextToken();
-                    aliasListEntry.setAliasArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("TargetKeyId", targetDepth)) {
-                    context.nextToken();
-                    aliasListEntry.setTargetKeyId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -691208997:
+                        if (fieldName.equals("AliasName")) {
+                            context.nextToken();
+                            aliasListEntry.setAliasName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1778806285:
+                        if (fieldName.equals("AliasArn")) {
+                            context.nextToken();
+                            aliasListEntry.setAliasArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -435608407:
+                        if (fieldName.equals("TargetKeyId")) {
+                            context.nextToken();
+                            aliasListEntry.setTargetKeyId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class CreateGrantResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("GrantToken", targetDepth)) {
-                    context.nextToken();
-                    createGrantResult.setGrantToken(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("GrantId", targetDepth)) {
-                    context.nextToken();
-                    createGrantResult.setGrantId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1461897635:
+                        if (fieldName.equals("GrantToken")) {
+                            context.nextToken();
+                            createGrantResult.setGrantToken(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1944947511:
+                        if (fieldName.equals("GrantId")) {
+                            context.nextToken();
+                            createGrantResult.setGrantId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
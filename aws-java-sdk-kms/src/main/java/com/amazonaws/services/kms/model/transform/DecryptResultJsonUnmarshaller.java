@@ -53,15 +53,24 @@ public class DecryptResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("KeyId", targetDepth)) {
-                    context.nextToken();
-                    decryptResult.setKeyId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Plaintext", targetDepth)) {
-                    context.nextToken();
-                    decryptResult.setPlaintext(context.getUnmarshaller(
-                            java.nio.ByteBuffer.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 72391610:
+                        if (fieldName.equals("KeyId")) {
+                            context.nextToken();
+                            decryptResult.setKeyId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -317765161:
+                        if (fieldName.equals("Plaintext")) {
+                            context.nextToken();
+                            decryptResult.setPlaintext(context.getUnmarshaller(
+                                    java.nio.ByteBuffer.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
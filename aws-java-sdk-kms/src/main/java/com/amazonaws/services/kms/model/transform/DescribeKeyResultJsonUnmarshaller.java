@@ -53,11 +53,18 @@ public class DescribeKeyResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("KeyMetadata", targetDepth)) {
-                    context.nextToken();
-                    describeKeyResult
-                            .setKeyMetadata(KeyMetadataJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -44411250:
+                        if (fieldName.equals("KeyMetadata")) {
+                            context.nextToken();
+                            describeKeyResult
+                                    .setKeyMetadata(KeyMetadataJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
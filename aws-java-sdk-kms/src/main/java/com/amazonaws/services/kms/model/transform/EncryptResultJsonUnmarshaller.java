@@ -53,15 +53,24 @@ public class EncryptResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CiphertextBlob", targetDepth)) {
-                    context.nextToken();
-                    encryptResult.setCiphertextBlob(context.getUnmarshaller(
-                            java.nio.ByteBuffer.class).unmarshall(context));
-                }
-                if (context.testExpression("KeyId", targetDepth)) {
-                    context.nextToken();
-                    encryptResult.setKeyId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -150797931:
+                        if (fieldName.equals("CiphertextBlob")) {
+                            context.nextToken();
+                            encryptResult.setCiphertextBlob(context.getUnmarshaller(
+                                    java.nio.ByteBuffer.class).unmarshall(context));
+                        }
+                        break;
+                    case 72391610:
+                        if (fieldName.equals("KeyId")) {
+                            context.nextToken();
+                            encryptResult.setKeyId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,17 +54,26 @@ public class GenerateDataKeyWithoutPlaintextResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CiphertextBlob", targetDepth)) {
-                    context.nextToken();
-                    generateDataKeyWithoutPlaintextResult
-                            .setCiphertextBlob(context.getUnmarshaller(
-                                    java.nio.ByteBuffer.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("KeyId", targetDepth)) {
-                    context.nextToken();
-                    generateDataKeyWithoutPlaintextResult.setKeyId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -150797931:
+                        if (fieldName.equals("CiphertextBlob")) {
+                            context.nextToken();
+                            generateDataKeyWithoutPlaintextResult
+                                    .setCiphertextBlob(context.getUnmarshaller(
+                                            java.nio.ByteBuffer.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case 72391610:
+                        if (fieldName.equals("KeyId")) {
+                            context.nextToken();
+                            generateDataKeyWithoutPlaintextResult.setKeyId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
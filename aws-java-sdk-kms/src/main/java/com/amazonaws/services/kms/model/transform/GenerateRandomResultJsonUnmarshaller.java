@@ -53,10 +53,17 @@ public class GenerateRandomResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Plaintext", targetDepth)) {
-                    context.nextToken();
-                    generateRandomResult.setPlaintext(context.getUnmarshaller(
-                            java.nio.ByteBuffer.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -317765161:
+                        if (fieldName.equals("Plaintext")) {
+                            context.nextToken();
+                            generateRandomResult.setPlaintext(context.getUnmarshaller(
+                                    java.nio.ByteBuffer.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,11 +53,18 @@ public class GetKeyRotationStatusResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("KeyRotationEnabled", targetDepth)) {
-                    context.nextToken();
-                    getKeyRotationStatusResult
-                            .setKeyRotationEnabled(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1447736740:
+                        if (fieldName.equals("KeyRotationEnabled")) {
+                            context.nextToken();
+                            getKeyRotationStatusResult
+                                    .setKeyRotationEnabled(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
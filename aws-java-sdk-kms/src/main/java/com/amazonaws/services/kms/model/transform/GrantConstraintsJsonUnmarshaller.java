@@ -53,23 +53,30 @@ public class GrantConstraintsJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("EncryptionContextSubset",
-                        targetDepth)) {
-                    context.nextToken();
-                    grantConstraints
-                            .setEncryptionContextSubset(new MapUnmarshaller<String, String>(
-                                    context.getUnmarshaller(String.class),
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("EncryptionContextEquals",
-                        targetDepth)) {
-                    context.nextToken();
-                    grantConstraints
-                            .setEncryptionContextEquals(new MapUnmarshaller<String, String>(
-                                    context.getUnmarshaller(String.class),
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1201847758:
+                        if (fieldName.equals("EncryptionContextSubset")) {
+                            context.nextToken();
+                            grantConstraints
+                                    .setEncryptionContextSubset(new MapUnmarshaller<String, String>(
+                                            context.getUnmarshaller(String.class),
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 797894507:
+                        if (fieldName.equals("EncryptionContextEquals")) {
+                            context.nextToken();
+                            grantConstraints
+                                    .setEncryptionContextEquals(new MapUnmarshaller<String, String>(
+                                            context.getUnmarshaller(String.class),
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,52 +53,75 @@ public class GrantListEntryJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("KeyId", targetDepth)) {
-                    context.nextToken();
-                    grantListEntry.setKeyId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("GrantId", targetDepth)) {
-                    context.nextToken();
-                    grantListEntry.setGrantId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    grantListEntry.setName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationDate", targetDepth)) {
-                    context.nextToken();
-                    grantListEntry.setCreationDate(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("GranteePrincipal", targetDepth)) {
-                    context.nextToken();
-                    grantListEntry.setGranteePrincipal(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("RetiringPrincipal", targetDepth)) {
-                    context.nextToken();
-                    grantListEntry.setRetiringPrincipal(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IssuingAccount", targetDepth)) {
-                    context.nextToken();
-                    grantListEntry.setIssuingAccount(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Operations", targetDepth)) {
-                    context.nextToken();
-                    grantListEntry.setOperations(new ListUnmarshaller<String>(
-                            context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Constraints", targetDepth)) {
-                    context.nextToken();
-                    grantListEntry
-                            .setConstraints(GrantConstraintsJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 72391610:
+                        if (fieldName.equals("KeyId")) {
+                            context.nextToken();
+                            grantListEntry.setKeyId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1944947511:
+                        if (fieldName.equals("GrantId")) {
+                            context.nextToken();
+                            grantListEntry.setGrantId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            grantListEntry.setName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1749851981:
+                        if (fieldName.equals("CreationDate")) {
+                            context.nextToken();
+                            grantListEntry.setCreationDate(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 1269018866:
+                        if (fieldName.equals("GranteePrincipal")) {
+                            context.nextToken();
+                            grantListEntry.setGranteePrincipal(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -573499178:
+                        if (fieldName.equals("RetiringPrincipal")) {
+                            context.nextToken();
+                            grantListEntry.setRetiringPrincipal(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -560353769:
+                        if (fieldName.equals("IssuingAccount")) {
+                            context.nextToken();
+                            grantListEntry.setIssuingAccount(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1997648908:
+                        if (fieldName.equals("Operations")) {
+                            context.nextToken();
+                            grantListEntry.setOperations(new ListUnmarshaller<String>(
+                                    context.getUnmarshaller(String.class))
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 61165078:
+                        if (fieldName.equals("Constraints")) {
+                            context.nextToken();
+                            grantListEntry
+                                    .setConstraints(GrantConstraintsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,22 +53,33 @@ public class ListAliasesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Aliases", targetDepth)) {
-                    context.nextToken();
-                    listAliasesResult
-                            .setAliases(new ListUnmarshaller<AliasListEntry>(
-                                    AliasListEntryJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextMarker", targetDepth)) {
-                    context.nextToken();
-                    listAliasesResult.setNextMarker(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Truncated", targetDepth)) {
-                    context.nextToken();
-                    listAliasesResult.setTruncated(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 750118622:
+                        if (fieldName.equals("Aliases")) {
+                            context.nextToken();
+                            listAliasesResult
+                                    .setAliases(new ListUnmarshaller<AliasListEntry>(
+                                            AliasListEntryJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 540124461:
+                        if (fieldName.equals("NextMarker")) {
+                            context.nextToken();
+                            listAliasesResult.setNextMarker(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -683049058:
+                        if (fieldName.equals("Truncated")) {
+                            context.nextToken();
+                            listAliasesResult.setTruncated(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
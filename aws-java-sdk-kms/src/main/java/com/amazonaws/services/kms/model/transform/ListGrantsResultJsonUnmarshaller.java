@@ -53,22 +53,33 @@ public class ListGrantsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Grants", targetDepth)) {
-                    context.nextToken();
-                    listGrantsResult
-                            .setGrants(new ListUnmarshaller<GrantListEntry>(
-                                    GrantListEntryJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextMarker", targetDepth)) {
-                    context.nextToken();
-                    listGrantsResult.setNextMarker(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Truncated", targetDepth)) {
-                    context.nextToken();
-                    listGrantsResult.setTruncated(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2140950263:
+                        if (fieldName.equals("Grants")) {
+                            context.nextToken();
+                            listGrantsResult
+                                    .setGrants(new ListUnmarshaller<GrantListEntry>(
+                                            GrantListEntryJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 540124461:
+                        if (fieldName.equals("NextMarker")) {
+                            context.nextToken();
+                            listGrantsResult.setNextMarker(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -683049058:
+                        if (fieldName.equals("Truncated")) {
+                            context.nextToken();
+                            listGrantsResult.setTruncated(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,21 +53,32 @@ public class ListKeysResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Keys", targetDepth)) {
-                    context.nextToken();
-                    listKeysResult.setKeys(new ListUnmarshaller<KeyListEntry>(
-                            KeyListEntryJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("NextMarker", targetDepth)) {
-                    context.nextToken();
-                    listKeysResult.setNextMarker(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Truncated", targetDepth)) {
-                    context.nextToken();
-                    listKeysResult.setTruncated(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2335252:
+                        if (fieldName.equals("Keys")) {
+                            context.nextToken();
+                            listKeysResult.setKeys(new ListUnmarshaller<KeyListEntry>(
+                                    KeyListEntryJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 540124461:
+                        if (fieldName.equals("NextMarker")) {
+                            context.nextToken();
+                            listKeysResult.setNextMarker(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -683049058:
+                        if (fieldName.equals("Truncated")) {
+                            context.nextToken();
+                            listKeysResult.setTruncated(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
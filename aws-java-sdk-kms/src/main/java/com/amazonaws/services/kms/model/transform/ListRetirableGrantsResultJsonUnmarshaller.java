@@ -53,24 +53,35 @@ public class ListRetirableGrantsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Grants", targetDepth)) {
-                    context.nextToken();
-                    listRetirableGrantsResult
-                            .setGrants(new ListUnmarshaller<GrantListEntry>(
-                                    GrantListEntryJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextMarker", targetDepth)) {
-                    context.nextToken();
-                    listRetirableGrantsResult.setNextMarker(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Truncated", targetDepth)) {
-                    context.nextToken();
-                    listRetirableGrantsResult
-                            .setTruncated(context
-                                    .getUnmarshaller(Boolean.class).unmarshall(
-                                            context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2140950263:
+                        if (fieldName.equals("Grants")) {
+                            context.nextToken();
+                            listRetirableGrantsResult
+                                    .setGrants(new ListUnmarshaller<GrantListEntry>(
+                                            GrantListEntryJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 540124461:
+                        if (fieldName.equals("NextMarker")) {
+                            context.nextToken();
+                            listRetirableGrantsResult.setNextMarker(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -683049058:
+                        if (fieldName.equals("Truncated")) {
+                            context.nextToken();
+                            listRetirableGrantsResult
+                                    .setTruncated(context
+                                            .getUnmarshaller(Boolean.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
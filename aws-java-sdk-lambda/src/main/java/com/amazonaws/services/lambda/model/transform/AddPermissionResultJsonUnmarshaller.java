@@ -53,10 +53,17 @@ public class AddPermissionResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Statement", targetDepth)) {
-                    context.nextToken();
-                    addPermissionResult.setStatement(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -81180337:
+                        if (fieldName.equals("Statement")) {
+                            context.nextToken();
+                            addPermissionResult.setStatement(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,71 +53,102 @@ public class CreateFunctionResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FunctionName", targetDepth)) {
-                    context.nextToken();
-                    createFunctionResult.setFunctionName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("FunctionArn", targetDepth)) {
-                    context.nextToken();
-                    createFunctionResult.setFunctionArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Runtime", targetDepth)) {
-                    context.nextToken();
-                    createFunctionResult.setRuntime(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Role", targetDepth)) {
-                    context.nextToken();
-                    createFunctionResult.setRole(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Handler", targetDepth)) {
-                    context.nextToken();
-                    createFunctionResult.setHandler(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("CodeSize", targetDepth)) {
-                    context.nextToken();
-                    createFunctionResult.setCodeSize(context.getUnmarshaller(
-                            Long.class).unmarshall(context));
-                }
-                if (context.testExpression("Description", targetDepth)) {
-                    context.nextToken();
-                    createFunctionResult.setDescription(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Timeout", targetDepth)) {
-                    context.nextToken();
-                    createFunctionResult.setTimeout(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("MemorySize", targetDepth)) {
-                    context.nextToken();
-                    createFunctionResult.setMemorySize(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("LastModified", targetDepth)) {
-                    context.nextToken();
-                    createFunctionResult.setLastModified(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CodeSha256", targetDepth)) {
-                    context.nextToken();
-                    createFunctionResult.setCodeSha256(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Version", targetDepth)) {
-                    context.nextToken();
-                    createFunctionResult.setVersion(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("VpcConfig", targetDepth)) {
-                    context.nextToken();
-                    createFunctionResult
-                            .setVpcConfig(VpcConfigResponseJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -47052125:
+                        if (fieldName.equals("FunctionName")) {
+                            context.nextToken();
+                            createFunctionResult.setFunctionName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -278624443:
+                        if (fieldName.equals("FunctionArn")) {
+                            context.nextToken();
+                            createFunctionResult.setFunctionArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1079351368:
+                        if (fieldName.equals("Runtime")) {
+                            context.nextToken();
+                            createFunctionResult.setRuntime(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2552982:
+                        if (fieldName.equals("Role")) {
+                            context.nextToken();
+                            createFunctionResult.setRole(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1937510614:
+                        if (fieldName.equals("Handler")) {
+                            context.nextToken();
+                            createFunctionResult.setHandler(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -803362898:
+                        if (fieldName.equals("CodeSize")) {
+                            context.nextToken();
+                            createFunctionResult.setCodeSize(context.getUnmarshaller(
+                                    Long.class).unmarshall(context));
+                        }
+                        break;
+                    case -56677412:
+                        if (fieldName.equals("Description")) {
+                            context.nextToken();
+                            createFunctionResult.setDescription(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 350741825:
+                        if (fieldName.equals("Timeout")) {
+                            context.nextToken();
+                            createFunctionResult.setTimeout(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -316439358:
+                        if (fieldName.equals("MemorySize")) {
+                            context.nextToken();
+                            createFunctionResult.setMemorySize(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 2123323295:
+                        if (fieldName.equals("LastModified")) {
+                            context.nextToken();
+                            createFunctionResult.setLastModified(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1060652692:
+                        if (fieldName.equals("CodeSha256")) {
+                            context.nextToken();
+                            createFunctionResult.setCodeSha256(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2016261304:
+                        if (fieldName.equals("Version")) {
+                            context.nextToken();
+                            createFunctionResult.setVersion(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 791561579:
+                        if (fieldName.equals("VpcConfig")) {
+                            context.nextToken();
+                            createFunctionResult
+                                    .setVpcConfig(VpcConfigResponseJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
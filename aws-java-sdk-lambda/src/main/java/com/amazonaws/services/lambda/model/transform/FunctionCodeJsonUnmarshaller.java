@@ -53,25 +53,38 @@ public class FunctionCodeJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ZipFile", targetDepth)) {
-                    context.nextToken();
-                    functionCode.setZipFile(context.getUnmarshaller(
-                            java.nio.ByteBuffer.class).unmarshall(context));
-                }
-                if (context.testExpression("S3Bucket", targetDepth)) {
-                    context.nextToken();
-                    functionCode.setS3Bucket(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("S3Key", targetDepth)) {
-                    context.nextToken();
-                    functionCode.setS3Key(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("S3ObjectVersion", targetDepth)) {
-                    context.nextToken();
-                    functionCode.setS3ObjectVersion(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1382637597:
+                        if (fieldName.equals("ZipFile")) {
+                            context.nextToken();
+                            functionCode.setZipFile(context.getUnmarshaller(
+                                    java.nio.ByteBuffer.class).unmarshall(context));
+                        }
+                        break;
+                    case -1356951478:
+                        if (fieldName.equals("S3Bucket")) {
+                            context.nextToken();
+                            functionCode.setS3Bucket(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 78246911:
+                        if (fieldName.equals("S3Key")) {
+                            context.nextToken();
+                            functionCode.setS3Key(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1776580039:
+                        if (fieldName.equals("S3ObjectVersion")) {
+                            context.nextToken();
+                            functionCode.setS3ObjectVersion(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class FunctionCodeLocationJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RepositoryType", targetDepth)) {
-                    context.nextToken();
-                    functionCodeLocation.setRepositoryType(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Location", targetDepth)) {
-                    context.nextToken();
-                    functionCodeLocation.setLocation(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1209862716:
+                        if (fieldName.equals("RepositoryType")) {
+                            context.nextToken();
+                            functionCodeLocation.setRepositoryType(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1965687765:
+                        if (fieldName.equals("Location")) {
+                            context.nextToken();
+                            functionCodeLocation.setLocation(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,50 +53,70 @@ public class GetEventSourceMappingResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("UUID", targetDepth)) {
-                    context.nextToken();
-                    getEventSourceMappingResult.setUUID(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("BatchSize", targetDepth)) {
-                    context.nextToken();
-                    getEventSourceMappingResult
-                            .setBatchSize(context
-                                    .getUnmarshaller(Integer.class).unmarshall(
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2616251:
+                        if (fieldName.equals("UUID")) {
+                            context.nextToken();
+                            getEventSourceMappingResult.setUUID(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1025121851:
+                        if (fieldName.equals("BatchSize")) {
+                            context.nextToken();
+                            getEventSourceMappingResult
+                                    .setBatchSize(context
+                                            .getUnmarshaller(Integer.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -1744525592:
+                        if (fieldName.equals("EventSourceArn")) {
+                            context.nextToken();
+                            getEventSourceMappingResult.setEventSourceArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -278624443:
+                        if (fieldName.equals("FunctionArn")) {
+                            context.nextToken();
+                            getEventSourceMappingResult.setFunctionArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2123323295:
+                        if (fieldName.equals("LastModified")) {
+                            context.nextToken();
+                            getEventSourceMappingResult.setLastModified(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
                                             context));
-                }
-                if (context.testExpression("EventSourceArn", targetDepth)) {
-                    context.nextToken();
-                    getEventSourceMappingResult.setEventSourceArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("FunctionArn", targetDepth)) {
-                    context.nextToken();
-                    getEventSourceMappingResult.setFunctionArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LastModified", targetDepth)) {
-                    context.nextToken();
-                    getEventSourceMappingResult.setLastModified(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("LastProcessingResult", targetDepth)) {
-                    context.nextToken();
-                    getEventSourceMappingResult.setLastProcessingResult(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("State", targetDepth)) {
-                    context.nextToken();
-                    getEventSourceMappingResult.setState(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("StateTransitionReason", targetDepth)) {
-                    context.nextToken();
-                    getEventSourceMappingResult
-                            .setStateTransitionReason(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 791947238:
+                        if (fieldName.equals("LastProcessingResult")) {
+                            context.nextToken();
+                            getEventSourceMappingResult.setLastProcessingResult(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 80204913:
+                        if (fieldName.equals("State")) {
+                            context.nextToken();
+                            getEventSourceMappingResult.setState(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1437658762:
+                        if (fieldName.equals("StateTransitionReason")) {
+                            context.nextToken();
+                            getEventSourceMappingResult
+                                    .setStateTransitionReason(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,73 +53,104 @@ public class GetFunctionConfigurationResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FunctionName", targetDepth)) {
-                    context.nextToken();
-                    getFunctionConfigurationResult.setFunctionName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("FunctionArn", targetDepth)) {
-                    context.nextToken();
-                    getFunctionConfigurationResult.setFunctionArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Runtime", targetDepth)) {
-                    context.nextToken();
-                    getFunctionConfigurationResult.setRuntime(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Role", targetDepth)) {
-                    context.nextToken();
-                    getFunctionConfigurationResult.setRole(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Handler", targetDepth)) {
-                    context.nextToken();
-                    getFunctionConfigurationResult.setHandler(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CodeSize", targetDepth)) {
-                    context.nextToken();
-                    getFunctionConfigurationResult.setCodeSize(context
-                            .getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("Description", targetDepth)) {
-                    context.nextToken();
-                    getFunctionConfigurationResult.setDescription(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Timeout", targetDepth)) {
-                    context.nextToken();
-                    getFunctionConfigurationResult
-                            .setTimeout(context.getUnmarshaller(Integer.class)
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("MemorySize", targetDepth)) {
-                    context.nextToken();
-                    getFunctionConfigurationResult
-                            .setMemorySize(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("LastModified", targetDepth)) {
-                    context.nextToken();
-                    getFunctionConfigurationResult.setLastModified(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CodeSha256", targetDepth)) {
-                    context.nextToken();
-                    getFunctionConfigurationResult.setCodeSha256(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Version", targetDepth)) {
-                    context.nextToken();
-                    getFunctionConfigurationResult.setVersion(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VpcConfig", targetDepth)) {
-                    context.nextToken();
-                    getFunctionConfigurationResult
-                            .setVpcConfig(VpcConfigResponseJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -47052125:
+                        if (fieldName.equals("FunctionName")) {
+                            context.nextToken();
+                            getFunctionConfigurationResult.setFunctionName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -278624443:
+                        if (fieldName.equals("FunctionArn")) {
+                            context.nextToken();
+                            getFunctionConfigurationResult.setFunctionArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1079351368:
+                        if (fieldName.equals("Runtime")) {
+                            context.nextToken();
+                            getFunctionConfigurationResult.setRuntime(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2552982:
+                        if (fieldName.equals("Role")) {
+                            context.nextToken();
+                            getFunctionConfigurationResult.setRole(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1937510614:
+                        if (fieldName.equals("Handler")) {
+                            context.nextToken();
+                            getFunctionConfigurationResult.setHandler(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -803362898:
+                        if (fieldName.equals("CodeSize")) {
+                            context.nextToken();
+                            getFunctionConfigurationResult.setCodeSize(context
+                                    .getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    case -56677412:
+                        if (fieldName.equals("Description")) {
+                            context.nextToken();
+                            getFunctionConfigurationResult.setDescription(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 350741825:
+                        if (fieldName.equals("Timeout")) {
+                            context.nextToken();
+                            getFunctionConfigurationResult
+                                    .setTimeout(context.getUnmarshaller(Integer.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -316439358:
+                        if (fieldName.equals("MemorySize")) {
+                            context.nextToken();
+                            getFunctionConfigurationResult
+                                    .setMemorySize(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 2123323295:
+                        if (fieldName.equals("LastModified")) {
+                            context.nextToken();
+                            getFunctionConfigurationResult.setLastModified(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1060652692:
+                        if (fieldName.equals("CodeSha256")) {
+                            context.nextToken();
+                            getFunctionConfigurationResult.setCodeSha256(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2016261304:
+                        if (fieldName.equals("Version")) {
+                            context.nextToken();
+                            getFunctionConfigurationResult.setVersion(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 791561579:
+                        if (fieldName.equals("VpcConfig")) {
+                            context.nextToken();
+                            getFunctionConfigurationResult
+                                    .setVpcConfig(VpcConfigResponseJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
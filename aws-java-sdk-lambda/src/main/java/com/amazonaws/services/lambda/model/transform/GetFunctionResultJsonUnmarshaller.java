@@ -53,17 +53,26 @@ public class GetFunctionResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Configuration", targetDepth)) {
-                    context.nextToken();
-                    getFunctionResult
-                            .setConfiguration(FunctionConfigurationJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Code", targetDepth)) {
-                    context.nextToken();
-                    getFunctionResult
-                            .setCode(FunctionCodeLocationJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1563253546:
+                        if (fieldName.equals("Configuration")) {
+                            context.nextToken();
+                            getFunctionResult
+                                    .setConfiguration(FunctionConfigurationJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 2105869:
+                        if (fieldName.equals("Code")) {
+                            context.nextToken();
+                            getFunctionResult
+                                    .setCode(FunctionCodeLocationJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -97,7 +97,7 @@ public class InvokeRequestMarshaller implements
                     StringUtils.fromString(invokeRequest.getQualifier()));
         }
 
-        request.setContent(BinaryUtils.toStream(invokeRequest.getPayload()));
+        request.setContent(BinaryUtils.toReplayableStream(invokeRequest.getPayload()));
         if (!request.getHeaders().containsKey("Content-Type")) {
             request.addHeader("Content-Type", DEFAULT_CONTENT_TYPE);
         }
@@ -53,17 +53,26 @@ public class ListEventSourceMappingsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("NextMarker", targetDepth)) {
-                    context.nextToken();
-                    listEventSourceMappingsResult.setNextMarker(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EventSourceMappings", targetDepth)) {
-                    context.nextToken();
-                    listEventSourceMappingsResult
-                            .setEventSourceMappings(new ListUnmarshaller<EventSourceMappingConfiguration>(
-                                    EventSourceMappingConfigurationJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 540124461:
+                        if (fieldName.equals("NextMarker")) {
+                            context.nextToken();
+                            listEventSourceMappingsResult.setNextMarker(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -2034758:
+                        if (fieldName.equals("EventSourceMappings")) {
+                            context.nextToken();
+                            listEventSourceMappingsResult
+                                    .setEventSourceMappings(new ListUnmarshaller<EventSourceMappingConfiguration>(
+                                            EventSourceMappingConfigurationJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class ListVersionsByFunctionResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("NextMarker", targetDepth)) {
-                    context.nextToken();
-                    listVersionsByFunctionResult.setNextMarker(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Versions", targetDepth)) {
-                    context.nextToken();
-                    listVersionsByFunctionResult
-                            .setVersions(new ListUnmarshaller<FunctionConfiguration>(
-                                    FunctionConfigurationJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 540124461:
+                        if (fieldName.equals("NextMarker")) {
+                            context.nextToken();
+                            listVersionsByFunctionResult.setNextMarker(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1920408901:
+                        if (fieldName.equals("Versions")) {
+                            context.nextToken();
+                            listVersionsByFunctionResult
+                                    .setVersions(new ListUnmarshaller<FunctionConfiguration>(
+                                            FunctionConfigurationJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
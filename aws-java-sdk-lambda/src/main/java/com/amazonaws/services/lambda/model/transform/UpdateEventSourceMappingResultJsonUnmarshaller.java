@@ -53,51 +53,71 @@ public class UpdateEventSourceMappingResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("UUID", targetDepth)) {
-                    context.nextToken();
-                    updateEventSourceMappingResult.setUUID(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("BatchSize", targetDepth)) {
-                    context.nextToken();
-                    updateEventSourceMappingResult
-                            .setBatchSize(context
-                                    .getUnmarshaller(Integer.class).unmarshall(
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2616251:
+                        if (fieldName.equals("UUID")) {
+                            context.nextToken();
+                            updateEventSourceMappingResult.setUUID(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1025121851:
+                        if (fieldName.equals("BatchSize")) {
+                            context.nextToken();
+                            updateEventSourceMappingResult
+                                    .setBatchSize(context
+                                            .getUnmarshaller(Integer.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -1744525592:
+                        if (fieldName.equals("EventSourceArn")) {
+                            context.nextToken();
+                            updateEventSourceMappingResult.setEventSourceArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -278624443:
+                        if (fieldName.equals("FunctionArn")) {
+                            context.nextToken();
+                            updateEventSourceMappingResult.setFunctionArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2123323295:
+                        if (fieldName.equals("LastModified")) {
+                            context.nextToken();
+                            updateEventSourceMappingResult.setLastModified(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
                                             context));
-                }
-                if (context.testExpression("EventSourceArn", targetDepth)) {
-                    context.nextToken();
-                    updateEventSourceMappingResult.setEventSourceArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("FunctionArn", targetDepth)) {
-                    context.nextToken();
-                    updateEventSourceMappingResult.setFunctionArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LastModified", targetDepth)) {
-                    context.nextToken();
-                    updateEventSourceMappingResult.setLastModified(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("LastProcessingResult", targetDepth)) {
-                    context.nextToken();
-                    updateEventSourceMappingResult
-                            .setLastProcessingResult(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("State", targetDepth)) {
-                    context.nextToken();
-                    updateEventSourceMappingResult.setState(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("StateTransitionReason", targetDepth)) {
-                    context.nextToken();
-                    updateEventSourceMappingResult
-                            .setStateTransitionReason(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 791947238:
+                        if (fieldName.equals("LastProcessingResult")) {
+                            context.nextToken();
+                            updateEventSourceMappingResult
+                                    .setLastProcessingResult(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case 80204913:
+                        if (fieldName.equals("State")) {
+                            context.nextToken();
+                            updateEventSourceMappingResult.setState(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1437658762:
+                        if (fieldName.equals("StateTransitionReason")) {
+                            context.nextToken();
+                            updateEventSourceMappingResult
+                                    .setStateTransitionReason(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,18 +53,27 @@ public class VpcConfigJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SubnetIds", targetDepth)) {
-                    context.nextToken();
-                    vpcConfig
-                            .setSubnetIds(new ListUnmarshaller<String>(context
-                                    .getUnmarshaller(String.class))
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1917427205:
+                        if (fieldName.equals("SubnetIds")) {
+                            context.nextToken();
+                            vpcConfig
+                                    .setSubnetIds(new ListUnmarshaller<String>(context
+                                            .getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1460929337:
+                        if (fieldName.equals("SecurityGroupIds")) {
+                            context.nextToken();
+                            vpcConfig.setSecurityGroupIds(new ListUnmarshaller<String>(
+                                    context.getUnmarshaller(String.class))
                                     .unmarshall(context));
-                }
-                if (context.testExpression("SecurityGroupIds", targetDepth)) {
-                    context.nextToken();
-                    vpcConfig.setSecurityGroupIds(new ListUnmarshaller<String>(
-                            context.getUnmarshaller(String.class))
-                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
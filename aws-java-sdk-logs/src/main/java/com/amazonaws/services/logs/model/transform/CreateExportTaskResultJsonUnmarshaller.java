@@ -53,10 +53,17 @@ public class CreateExportTaskResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("taskId", targetDepth)) {
-                    context.nextToken();
-                    createExportTaskResult.setTaskId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -880873088:
+                        if (fieldName.equals("taskId")) {
+                            context.nextToken();
+                            createExportTaskResult.setTaskId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class DescribeDestinationsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("destinations", targetDepth)) {
-                    context.nextToken();
-                    describeDestinationsResult
-                            .setDestinations(new ListUnmarshaller<Destination>(
-                                    DestinationJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    describeDestinationsResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1375584731:
+                        if (fieldName.equals("destinations")) {
+                            context.nextToken();
+                            describeDestinationsResult
+                                    .setDestinations(new ListUnmarshaller<Destination>(
+                                            DestinationJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1206918854:
+                        if (fieldName.equals("nextToken")) {
+                            context.nextToken();
+                            describeDestinationsResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class DescribeExportTasksResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("exportTasks", targetDepth)) {
-                    context.nextToken();
-                    describeExportTasksResult
-                            .setExportTasks(new ListUnmarshaller<ExportTask>(
-                                    ExportTaskJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    describeExportTasksResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -2105497542:
+                        if (fieldName.equals("exportTasks")) {
+                            context.nextToken();
+                            describeExportTasksResult
+                                    .setExportTasks(new ListUnmarshaller<ExportTask>(
+                                            ExportTaskJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1206918854:
+                        if (fieldName.equals("nextToken")) {
+                            context.nextToken();
+                            describeExportTasksResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
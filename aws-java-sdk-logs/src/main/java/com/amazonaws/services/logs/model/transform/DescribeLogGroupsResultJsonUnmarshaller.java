@@ -53,17 +53,26 @@ public class DescribeLogGroupsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("logGroups", targetDepth)) {
-                    context.nextToken();
-                    describeLogGroupsResult
-                            .setLogGroups(new ListUnmarshaller<LogGroup>(
-                                    LogGroupJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    describeLogGroupsResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1606805048:
+                        if (fieldName.equals("logGroups")) {
+                            context.nextToken();
+                            describeLogGroupsResult
+                                    .setLogGroups(new ListUnmarshaller<LogGroup>(
+                                            LogGroupJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1206918854:
+                        if (fieldName.equals("nextToken")) {
+                            context.nextToken();
+                            describeLogGroupsResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
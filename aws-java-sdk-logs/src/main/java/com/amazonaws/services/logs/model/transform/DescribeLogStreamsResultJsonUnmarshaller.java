@@ -53,17 +53,26 @@ public class DescribeLogStreamsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("logStreams", targetDepth)) {
-                    context.nextToken();
-                    describeLogStreamsResult
-                            .setLogStreams(new ListUnmarshaller<LogStream>(
-                                    LogStreamJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    describeLogStreamsResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 390996239:
+                        if (fieldName.equals("logStreams")) {
+                            context.nextToken();
+                            describeLogStreamsResult
+                                    .setLogStreams(new ListUnmarshaller<LogStream>(
+                                            LogStreamJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1206918854:
+                        if (fieldName.equals("nextToken")) {
+                            context.nextToken();
+                            describeLogStreamsResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class DescribeMetricFiltersResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("metricFilters", targetDepth)) {
-                    context.nextToken();
-                    describeMetricFiltersResult
-                            .setMetricFilters(new ListUnmarshaller<MetricFilter>(
-                                    MetricFilterJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    describeMetricFiltersResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 61112363:
+                        if (fieldName.equals("metricFilters")) {
+                            context.nextToken();
+                            describeMetricFiltersResult
+                                    .setMetricFilters(new ListUnmarshaller<MetricFilter>(
+                                            MetricFilterJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1206918854:
+                        if (fieldName.equals("nextToken")) {
+                            context.nextToken();
+                            describeMetricFiltersResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
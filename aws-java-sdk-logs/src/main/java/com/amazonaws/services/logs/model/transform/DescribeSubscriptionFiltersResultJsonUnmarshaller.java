@@ -54,17 +54,26 @@ public class DescribeSubscriptionFiltersResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("subscriptionFilters", targetDepth)) {
-                    context.nextToken();
-                    describeSubscriptionFiltersResult
-                            .setSubscriptionFilters(new ListUnmarshaller<SubscriptionFilter>(
-                                    SubscriptionFilterJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    describeSubscriptionFiltersResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1135683554:
+                        if (fieldName.equals("subscriptionFilters")) {
+                            context.nextToken();
+                            describeSubscriptionFiltersResult
+                                    .setSubscriptionFilters(new ListUnmarshaller<SubscriptionFilter>(
+                                            SubscriptionFilterJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 1206918854:
+                        if (fieldName.equals("nextToken")) {
+                            context.nextToken();
+                            describeSubscriptionFiltersResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
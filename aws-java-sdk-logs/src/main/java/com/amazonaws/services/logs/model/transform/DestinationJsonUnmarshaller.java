@@ -53,35 +53,52 @@ public class DestinationJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("destinationName", targetDepth)) {
-                    context.nextToken();
-                    destination.setDestinationName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("targetArn", targetDepth)) {
-                    context.nextToken();
-                    destination.setTargetArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("roleArn", targetDepth)) {
-                    context.nextToken();
-                    destination.setRoleArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("accessPolicy", targetDepth)) {
-                    context.nextToken();
-                    destination.setAccessPolicy(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("arn", targetDepth)) {
-                    context.nextToken();
-                    destination.setArn(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("creationTime", targetDepth)) {
-                    context.nextToken();
-                    destination.setCreationTime(context.getUnmarshaller(
-                            Long.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1762755655:
+                        if (fieldName.equals("destinationName")) {
+                            context.nextToken();
+                            destination.setDestinationName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -815604980:
+                        if (fieldName.equals("targetArn")) {
+                            context.nextToken();
+                            destination.setTargetArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1376855559:
+                        if (fieldName.equals("roleArn")) {
+                            context.nextToken();
+                            destination.setRoleArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1921887158:
+                        if (fieldName.equals("accessPolicy")) {
+                            context.nextToken();
+                            destination.setAccessPolicy(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 96861:
+                        if (fieldName.equals("arn")) {
+                            context.nextToken();
+                            destination.setArn(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1586015820:
+                        if (fieldName.equals("creationTime")) {
+                            context.nextToken();
+                            destination.setCreationTime(context.getUnmarshaller(
+                                    Long.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
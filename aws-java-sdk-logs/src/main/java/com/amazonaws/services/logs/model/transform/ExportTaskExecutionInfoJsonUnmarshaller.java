@@ -53,15 +53,24 @@ public class ExportTaskExecutionInfoJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("creationTime", targetDepth)) {
-                    context.nextToken();
-                    exportTaskExecutionInfo.setCreationTime(context
-                            .getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("completionTime", targetDepth)) {
-                    context.nextToken();
-                    exportTaskExecutionInfo.setCompletionTime(context
-                            .getUnmarshaller(Long.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1586015820:
+                        if (fieldName.equals("creationTime")) {
+                            context.nextToken();
+                            exportTaskExecutionInfo.setCreationTime(context
+                                    .getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 1146641609:
+                        if (fieldName.equals("completionTime")) {
+                            context.nextToken();
+                            exportTaskExecutionInfo.setCompletionTime(context
+                                    .getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
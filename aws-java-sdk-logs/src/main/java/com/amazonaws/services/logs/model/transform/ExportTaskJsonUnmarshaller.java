@@ -53,51 +53,74 @@ public class ExportTaskJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("taskId", targetDepth)) {
-                    context.nextToken();
-                    exportTask.setTaskId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("taskName", targetDepth)) {
-                    context.nextToken();
-                    exportTask.setTaskName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("logGroupName", targetDepth)) {
-                    context.nextToken();
-                    exportTask.setLogGroupName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("from", targetDepth)) {
-                    context.nextToken();
-                    exportTask.setFrom(context.getUnmarshaller(Long.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("to", targetDepth)) {
-                    context.nextToken();
-                    exportTask.setTo(context.getUnmarshaller(Long.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("destination", targetDepth)) {
-                    context.nextToken();
-                    exportTask.setDestination(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("destinationPrefix", targetDepth)) {
-                    context.nextToken();
-                    exportTask.setDestinationPrefix(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    exportTask.setStatus(ExportTaskStatusJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("executionInfo", targetDepth)) {
-                    context.nextToken();
-                    exportTask
-                            .setExecutionInfo(ExportTaskExecutionInfoJsonUnmarshaller
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -880873088:
+                        if (fieldName.equals("taskId")) {
+                            context.nextToken();
+                            exportTask.setTaskId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -410330704:
+                        if (fieldName.equals("taskName")) {
+                            context.nextToken();
+                            exportTask.setTaskName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 917665478:
+                        if (fieldName.equals("logGroupName")) {
+                            context.nextToken();
+                            exportTask.setLogGroupName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 3151786:
+                        if (fieldName.equals("from")) {
+                            context.nextToken();
+                            exportTask.setFrom(context.getUnmarshaller(Long.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 3707:
+                        if (fieldName.equals("to")) {
+                            context.nextToken();
+                            exportTask.setTo(context.getUnmarshaller(Long.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1429847026:
+                        if (fieldName.equals("destination")) {
+                            context.nextToken();
+                            exportTask.setDestination(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1718345664:
+                        if (fieldName.equals("destinationPrefix")) {
+                            context.nextToken();
+                            exportTask.setDestinationPrefix(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -892481550:
+                        if (fieldName.equals("status")) {
+                            context.nextToken();
+                            exportTask.setStatus(ExportTaskStatusJsonUnmarshaller
                                     .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 921737190:
+                        if (fieldName.equals("executionInfo")) {
+                            context.nextToken();
+                            exportTask
+                                    .setExecutionInfo(ExportTaskExecutionInfoJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,24 +53,35 @@ public class FilterLogEventsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("events", targetDepth)) {
-                    context.nextToken();
-                    filterLogEventsResult
-                            .setEvents(new ListUnmarshaller<FilteredLogEvent>(
-                                    FilteredLogEventJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("searchedLogStreams", targetDepth)) {
-                    context.nextToken();
-                    filterLogEventsResult
-                            .setSearchedLogStreams(new ListUnmarshaller<SearchedLogStream>(
-                                    SearchedLogStreamJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    filterLogEventsResult.setNextToken(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1291329255:
+                        if (fieldName.equals("events")) {
+                            context.nextToken();
+                            filterLogEventsResult
+                                    .setEvents(new ListUnmarshaller<FilteredLogEvent>(
+                                            FilteredLogEventJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1693239114:
+                        if (fieldName.equals("searchedLogStreams")) {
+                            context.nextToken();
+                            filterLogEventsResult
+                                    .setSearchedLogStreams(new ListUnmarshaller<SearchedLogStream>(
+                                            SearchedLogStreamJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 1206918854:
+                        if (fieldName.equals("nextToken")) {
+                            context.nextToken();
+                            filterLogEventsResult.setNextToken(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,30 +53,45 @@ public class FilteredLogEventJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("logStreamName", targetDepth)) {
-                    context.nextToken();
-                    filteredLogEvent.setLogStreamName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("timestamp", targetDepth)) {
-                    context.nextToken();
-                    filteredLogEvent.setTimestamp(context.getUnmarshaller(
-                            Long.class).unmarshall(context));
-                }
-                if (context.testExpression("message", targetDepth)) {
-                    context.nextToken();
-                    filteredLogEvent.setMessage(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ingestionTime", targetDepth)) {
-                    context.nextToken();
-                    filteredLogEvent.setIngestionTime(context.getUnmarshaller(
-                            Long.class).unmarshall(context));
-                }
-                if (context.testExpression("eventId", targetDepth)) {
-                    context.nextToken();
-                    filteredLogEvent.setEventId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 216643727:
+                        if (fieldName.equals("logStreamName")) {
+                            context.nextToken();
+                            filteredLogEvent.setLogStreamName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 55126294:
+                        if (fieldName.equals("timestamp")) {
+                            context.nextToken();
+                            filteredLogEvent.setTimestamp(context.getUnmarshaller(
+                                    Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 954925063:
+                        if (fieldName.equals("message")) {
+                            context.nextToken();
+                            filteredLogEvent.setMessage(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1914399727:
+                        if (fieldName.equals("ingestionTime")) {
+                            context.nextToken();
+                            filteredLogEvent.setIngestionTime(context.getUnmarshaller(
+                                    Long.class).unmarshall(context));
+                        }
+                        break;
+                    case -1376502443:
+                        if (fieldName.equals("eventId")) {
+                            context.nextToken();
+                            filteredLogEvent.setEventId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
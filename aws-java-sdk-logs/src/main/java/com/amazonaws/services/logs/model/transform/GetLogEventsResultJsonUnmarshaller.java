@@ -53,22 +53,33 @@ public class GetLogEventsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("events", targetDepth)) {
-                    context.nextToken();
-                    getLogEventsResult
-                            .setEvents(new ListUnmarshaller<OutputLogEvent>(
-                                    OutputLogEventJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextForwardToken", targetDepth)) {
-                    context.nextToken();
-                    getLogEventsResult.setNextForwardToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("nextBackwardToken", targetDepth)) {
-                    context.nextToken();
-                    getLogEventsResult.setNextBackwardToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1291329255:
+                        if (fieldName.equals("events")) {
+                            context.nextToken();
+                            getLogEventsResult
+                                    .setEvents(new ListUnmarshaller<OutputLogEvent>(
+                                            OutputLogEventJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 1277506759:
+                        if (fieldName.equals("nextForwardToken")) {
+                            context.nextToken();
+                            getLogEventsResult.setNextForwardToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1136772189:
+                        if (fieldName.equals("nextBackwardToken")) {
+                            context.nextToken();
+                            getLogEventsResult.setNextBackwardToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,35 +53,52 @@ public class LogGroupJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("logGroupName", targetDepth)) {
-                    context.nextToken();
-                    logGroup.setLogGroupName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("creationTime", targetDepth)) {
-                    context.nextToken();
-                    logGroup.setCreationTime(context
-                            .getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("retentionInDays", targetDepth)) {
-                    context.nextToken();
-                    logGroup.setRetentionInDays(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("metricFilterCount", targetDepth)) {
-                    context.nextToken();
-                    logGroup.setMetricFilterCount(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("arn", targetDepth)) {
-                    context.nextToken();
-                    logGroup.setArn(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("storedBytes", targetDepth)) {
-                    context.nextToken();
-                    logGroup.setStoredBytes(context.getUnmarshaller(Long.class)
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 917665478:
+                        if (fieldName.equals("logGroupName")) {
+                            context.nextToken();
+                            logGroup.setLogGroupName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1586015820:
+                        if (fieldName.equals("creationTime")) {
+                            context.nextToken();
+                            logGroup.setCreationTime(context
+                                    .getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 10015706:
+                        if (fieldName.equals("retentionInDays")) {
+                            context.nextToken();
+                            logGroup.setRetentionInDays(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -1655552857:
+                        if (fieldName.equals("metricFilterCount")) {
+                            context.nextToken();
+                            logGroup.setMetricFilterCount(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 96861:
+                        if (fieldName.equals("arn")) {
+                            context.nextToken();
+                            logGroup.setArn(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1387627896:
+                        if (fieldName.equals("storedBytes")) {
+                            context.nextToken();
+                            logGroup.setStoredBytes(context.getUnmarshaller(Long.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,45 +53,66 @@ public class LogStreamJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("logStreamName", targetDepth)) {
-                    context.nextToken();
-                    logStream.setLogStreamName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("creationTime", targetDepth)) {
-                    context.nextToken();
-                    logStream.setCreationTime(context.getUnmarshaller(
-                            Long.class).unmarshall(context));
-                }
-                if (context.testExpression("firstEventTimestamp", targetDepth)) {
-                    context.nextToken();
-                    logStream.setFirstEventTimestamp(context.getUnmarshaller(
-                            Long.class).unmarshall(context));
-                }
-                if (context.testExpression("lastEventTimestamp", targetDepth)) {
-                    context.nextToken();
-                    logStream.setLastEventTimestamp(context.getUnmarshaller(
-                            Long.class).unmarshall(context));
-                }
-                if (context.testExpression("lastIngestionTime", targetDepth)) {
-                    context.nextToken();
-                    logStream.setLastIngestionTime(context.getUnmarshaller(
-                            Long.class).unmarshall(context));
-                }
-                if (context.testExpression("uploadSequenceToken", targetDepth)) {
-                    context.nextToken();
-                    logStream.setUploadSequenceToken(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("arn", targetDepth)) {
-                    context.nextToken();
-                    logStream.setArn(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("storedBytes", targetDepth)) {
-                    context.nextToken();
-                    logStream.setStoredBytes(context
-                            .getUnmarshaller(Long.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 216643727:
+                        if (fieldName.equals("logStreamName")) {
+                            context.nextToken();
+                            logStream.setLogStreamName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1586015820:
+                        if (fieldName.equals("creationTime")) {
+                            context.nextToken();
+                            logStream.setCreationTime(context.getUnmarshaller(
+                                    Long.class).unmarshall(context));
+                        }
+                        break;
+                    case -1982181780:
+                        if (fieldName.equals("firstEventTimestamp")) {
+                            context.nextToken();
+                            logStream.setFirstEventTimestamp(context.getUnmarshaller(
+                                    Long.class).unmarshall(context));
+                        }
+                        break;
+                    case -1973074990:
+                        if (fieldName.equals("lastEventTimestamp")) {
+                            context.nextToken();
+                            logStream.setLastEventTimestamp(context.getUnmarshaller(
+                                    Long.class).unmarshall(context));
+                        }
+                        break;
+                    case -209545957:
+                        if (fieldName.equals("lastIngestionTime")) {
+                            context.nextToken();
+                            logStream.setLastIngestionTime(context.getUnmarshaller(
+                                    Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 527216183:
+                        if (fieldName.equals("uploadSequenceToken")) {
+                            context.nextToken();
+                            logStream.setUploadSequenceToken(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 96861:
+                        if (fieldName.equals("arn")) {
+                            context.nextToken();
+                            logStream.setArn(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1387627896:
+                        if (fieldName.equals("storedBytes")) {
+                            context.nextToken();
+                            logStream.setStoredBytes(context
+                                    .getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,28 +53,40 @@ public class MetricFilterJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("filterName", targetDepth)) {
-                    context.nextToken();
-                    metricFilter.setFilterName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("filterPattern", targetDepth)) {
-                    context.nextToken();
-                    metricFilter.setFilterPattern(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("metricTransformations", targetDepth)) {
-                    context.nextToken();
-                    metricFilter
-                            .setMetricTransformations(new ListUnmarshaller<MetricTransformation>(
-                                    MetricTransformationJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("creationTime", targetDepth)) {
-                    context.nextToken();
-                    metricFilter.setCreationTime(context.getUnmarshaller(
-                            Long.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1553252829:
+                        if (fieldName.equals("filterName")) {
+                            context.nextToken();
+                            metricFilter.setFilterName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1490329352:
+                        if (fieldName.equals("filterPattern")) {
+                            context.nextToken();
+                            metricFilter.setFilterPattern(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -2146829638:
+                        if (fieldName.equals("metricTransformations")) {
+                            context.nextToken();
+                            metricFilter
+                                    .setMetricTransformations(new ListUnmarshaller<MetricTransformation>(
+                                            MetricTransformationJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 1586015820:
+                        if (fieldName.equals("creationTime")) {
+                            context.nextToken();
+                            metricFilter.setCreationTime(context.getUnmarshaller(
+                                    Long.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
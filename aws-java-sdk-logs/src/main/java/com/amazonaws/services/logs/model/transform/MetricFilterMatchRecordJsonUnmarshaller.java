@@ -53,23 +53,34 @@ public class MetricFilterMatchRecordJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("eventNumber", targetDepth)) {
-                    context.nextToken();
-                    metricFilterMatchRecord.setEventNumber(context
-                            .getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("eventMessage", targetDepth)) {
-                    context.nextToken();
-                    metricFilterMatchRecord.setEventMessage(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("extractedValues", targetDepth)) {
-                    context.nextToken();
-                    metricFilterMatchRecord
-                            .setExtractedValues(new MapUnmarshaller<String, String>(
-                                    context.getUnmarshaller(String.class),
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -35234173:
+                        if (fieldName.equals("eventNumber")) {
+                            context.nextToken();
+                            metricFilterMatchRecord.setEventNumber(context
+                                    .getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 1863181325:
+                        if (fieldName.equals("eventMessage")) {
+                            context.nextToken();
+                            metricFilterMatchRecord.setEventMessage(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 606285346:
+                        if (fieldName.equals("extractedValues")) {
+                            context.nextToken();
+                            metricFilterMatchRecord
+                                    .setExtractedValues(new MapUnmarshaller<String, String>(
+                                            context.getUnmarshaller(String.class),
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,20 +53,31 @@ public class MetricTransformationJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("metricName", targetDepth)) {
-                    context.nextToken();
-                    metricTransformation.setMetricName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("metricNamespace", targetDepth)) {
-                    context.nextToken();
-                    metricTransformation.setMetricNamespace(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("metricValue", targetDepth)) {
-                    context.nextToken();
-                    metricTransformation.setMetricValue(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -610759589:
+                        if (fieldName.equals("metricName")) {
+                            context.nextToken();
+                            metricTransformation.setMetricName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 733013387:
+                        if (fieldName.equals("metricNamespace")) {
+                            context.nextToken();
+                            metricTransformation.setMetricNamespace(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1746290271:
+                        if (fieldName.equals("metricValue")) {
+                            context.nextToken();
+                            metricTransformation.setMetricValue(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,20 +53,31 @@ public class OutputLogEventJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("timestamp", targetDepth)) {
-                    context.nextToken();
-                    outputLogEvent.setTimestamp(context.getUnmarshaller(
-                            Long.class).unmarshall(context));
-                }
-                if (context.testExpression("message", targetDepth)) {
-                    context.nextToken();
-                    outputLogEvent.setMessage(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ingestionTime", targetDepth)) {
-                    context.nextToken();
-                    outputLogEvent.setIngestionTime(context.getUnmarshaller(
-                            Long.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 55126294:
+                        if (fieldName.equals("timestamp")) {
+                            context.nextToken();
+                            outputLogEvent.setTimestamp(context.getUnmarshaller(
+                                    Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 954925063:
+                        if (fieldName.equals("message")) {
+                            context.nextToken();
+                            outputLogEvent.setMessage(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1914399727:
+                        if (fieldName.equals("ingestionTime")) {
+                            context.nextToken();
+                            outputLogEvent.setIngestionTime(context.getUnmarshaller(
+                                    Long.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,11 +53,18 @@ public class PutDestinationResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("destination", targetDepth)) {
-                    context.nextToken();
-                    putDestinationResult
-                            .setDestination(DestinationJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1429847026:
+                        if (fieldName.equals("destination")) {
+                            context.nextToken();
+                            putDestinationResult
+                                    .setDestination(DestinationJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,25 @@ public class PutLogEventsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("nextSequenceToken", targetDepth)) {
-                    context.nextToken();
-                    putLogEventsResult.setNextSequenceToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("rejectedLogEventsInfo", targetDepth)) {
-                    context.nextToken();
-                    putLogEventsResult
-                            .setRejectedLogEventsInfo(RejectedLogEventsInfoJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 586107525:
+                        if (fieldName.equals("nextSequenceToken")) {
+                            context.nextToken();
+                            putLogEventsResult.setNextSequenceToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1971087379:
+                        if (fieldName.equals("rejectedLogEventsInfo")) {
+                            context.nextToken();
+                            putLogEventsResult
+                                    .setRejectedLogEventsInfo(RejectedLogEventsInfoJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
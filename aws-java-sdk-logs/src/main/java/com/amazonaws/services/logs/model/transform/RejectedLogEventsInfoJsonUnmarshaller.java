@@ -53,28 +53,36 @@ public class RejectedLogEventsInfoJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("tooNewLogEventStartIndex",
-                        targetDepth)) {
-                    context.nextToken();
-                    rejectedLogEventsInfo
-                            .setTooNewLogEventStartIndex(context
-                                    .getUnmarshaller(Integer.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("tooOldLogEventEndIndex",
-                        targetDepth)) {
-                    context.nextToken();
-                    rejectedLogEventsInfo
-                            .setTooOldLogEventEndIndex(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("expiredLogEventEndIndex",
-                        targetDepth)) {
-                    context.nextToken();
-                    rejectedLogEventsInfo
-                            .setExpiredLogEventEndIndex(context
-                                    .getUnmarshaller(Integer.class).unmarshall(
-                                            context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -430209870:
+                        if (fieldName.equals("tooNewLogEventStartIndex")) {
+                            context.nextToken();
+                            rejectedLogEventsInfo
+                                    .setTooNewLogEventStartIndex(context
+                                            .getUnmarshaller(Integer.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -1296557344:
+                        if (fieldName.equals("tooOldLogEventEndIndex")) {
+                            context.nextToken();
+                            rejectedLogEventsInfo
+                                    .setTooOldLogEventEndIndex(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 1870436818:
+                        if (fieldName.equals("expiredLogEventEndIndex")) {
+                            context.nextToken();
+                            rejectedLogEventsInfo
+                                    .setExpiredLogEventEndIndex(context
+                                            .getUnmarshaller(Integer.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
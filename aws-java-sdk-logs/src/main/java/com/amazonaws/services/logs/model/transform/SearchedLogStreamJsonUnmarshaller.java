@@ -53,16 +53,25 @@ public class SearchedLogStreamJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("logStreamName", targetDepth)) {
-                    context.nextToken();
-                    searchedLogStream.setLogStreamName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("searchedCompletely", targetDepth)) {
-                    context.nextToken();
-                    searchedLogStream
-                            .setSearchedCompletely(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 216643727:
+                        if (fieldName.equals("logStreamName")) {
+                            context.nextToken();
+                            searchedLogStream.setLogStreamName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1669524525:
+                        if (fieldName.equals("searchedCompletely")) {
+                            context.nextToken();
+                            searchedLogStream
+                                    .setSearchedCompletely(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
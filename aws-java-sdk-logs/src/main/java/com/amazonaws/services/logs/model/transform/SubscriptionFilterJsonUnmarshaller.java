@@ -53,35 +53,52 @@ public class SubscriptionFilterJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("filterName", targetDepth)) {
-                    context.nextToken();
-                    subscriptionFilter.setFilterName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("logGroupName", targetDepth)) {
-                    context.nextToken();
-                    subscriptionFilter.setLogGroupName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("filterPattern", targetDepth)) {
-                    context.nextToken();
-                    subscriptionFilter.setFilterPattern(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("destinationArn", targetDepth)) {
-                    context.nextToken();
-                    subscriptionFilter.setDestinationArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("roleArn", targetDepth)) {
-                    context.nextToken();
-                    subscriptionFilter.setRoleArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("creationTime", targetDepth)) {
-                    context.nextToken();
-                    subscriptionFilter.setCreationTime(context.getUnmarshaller(
-                            Long.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1553252829:
+                        if (fieldName.equals("filterName")) {
+                            context.nextToken();
+                            subscriptionFilter.setFilterName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 917665478:
+                        if (fieldName.equals("logGroupName")) {
+                            context.nextToken();
+                            subscriptionFilter.setLogGroupName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1490329352:
+                        if (fieldName.equals("filterPattern")) {
+                            context.nextToken();
+                            subscriptionFilter.setFilterPattern(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 912956271:
+                        if (fieldName.equals("destinationArn")) {
+                            context.nextToken();
+                            subscriptionFilter.setDestinationArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1376855559:
+                        if (fieldName.equals("roleArn")) {
+                            context.nextToken();
+                            subscriptionFilter.setRoleArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1586015820:
+                        if (fieldName.equals("creationTime")) {
+                            context.nextToken();
+                            subscriptionFilter.setCreationTime(context.getUnmarshaller(
+                                    Long.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
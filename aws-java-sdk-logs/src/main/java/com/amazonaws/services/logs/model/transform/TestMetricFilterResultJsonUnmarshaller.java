@@ -53,12 +53,19 @@ public class TestMetricFilterResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("matches", targetDepth)) {
-                    context.nextToken();
-                    testMetricFilterResult
-                            .setMatches(new ListUnmarshaller<MetricFilterMatchRecord>(
-                                    MetricFilterMatchRecordJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 840862003:
+                        if (fieldName.equals("matches")) {
+                            context.nextToken();
+                            testMetricFilterResult
+                                    .setMatches(new ListUnmarshaller<MetricFilterMatchRecord>(
+                                            MetricFilterMatchRecordJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
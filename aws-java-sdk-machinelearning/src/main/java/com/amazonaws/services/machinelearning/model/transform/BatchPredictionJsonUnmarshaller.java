@@ -53,61 +53,87 @@ public class BatchPredictionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("BatchPredictionId", targetDepth)) {
-                    context.nextToken();
-                    batchPrediction.setBatchPredictionId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MLModelId", targetDepth)) {
-                    context.nextToken();
-                    batchPrediction.setMLModelId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("BatchPredictionDataSourceId",
-                        targetDepth)) {
-                    context.nextToken();
-                    batchPrediction.setBatchPredictionDataSourceId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InputDataLocationS3", targetDepth)) {
-                    context.nextToken();
-                    batchPrediction.setInputDataLocationS3(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedByIamUser", targetDepth)) {
-                    context.nextToken();
-                    batchPrediction.setCreatedByIamUser(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedAt", targetDepth)) {
-                    context.nextToken();
-                    batchPrediction.setCreatedAt(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("LastUpdatedAt", targetDepth)) {
-                    context.nextToken();
-                    batchPrediction.setLastUpdatedAt(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    batchPrediction.setName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    batchPrediction.setStatus(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("OutputUri", targetDepth)) {
-                    context.nextToken();
-                    batchPrediction.setOutputUri(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Message", targetDepth)) {
-                    context.nextToken();
-                    batchPrediction.setMessage(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 383684164:
+                        if (fieldName.equals("BatchPredictionId")) {
+                            context.nextToken();
+                            batchPrediction.setBatchPredictionId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 466168709:
+                        if (fieldName.equals("MLModelId")) {
+                            context.nextToken();
+                            batchPrediction.setMLModelId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1732559433:
+                        if (fieldName.equals("BatchPredictionDataSourceId")) {
+                            context.nextToken();
+                            batchPrediction.setBatchPredictionDataSourceId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1310380617:
+                        if (fieldName.equals("InputDataLocationS3")) {
+                            context.nextToken();
+                            batchPrediction.setInputDataLocationS3(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1155152257:
+                        if (fieldName.equals("CreatedByIamUser")) {
+                            context.nextToken();
+                            batchPrediction.setCreatedByIamUser(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1692627685:
+                        if (fieldName.equals("CreatedAt")) {
+                            context.nextToken();
+                            batchPrediction.setCreatedAt(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 1350364216:
+                        if (fieldName.equals("LastUpdatedAt")) {
+                            context.nextToken();
+                            batchPrediction.setLastUpdatedAt(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            batchPrediction.setName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1808614382:
+                        if (fieldName.equals("Status")) {
+                            context.nextToken();
+                            batchPrediction.setStatus(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -115332981:
+                        if (fieldName.equals("OutputUri")) {
+                            context.nextToken();
+                            batchPrediction.setOutputUri(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1675388953:
+                        if (fieldName.equals("Message")) {
+                            context.nextToken();
+                            batchPrediction.setMessage(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
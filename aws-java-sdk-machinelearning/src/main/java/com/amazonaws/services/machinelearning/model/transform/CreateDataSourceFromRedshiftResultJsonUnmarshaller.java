@@ -54,10 +54,17 @@ public class CreateDataSourceFromRedshiftResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DataSourceId", targetDepth)) {
-                    context.nextToken();
-                    createDataSourceFromRedshiftResult.setDataSourceId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1057082240:
+                        if (fieldName.equals("DataSourceId")) {
+                            context.nextToken();
+                            createDataSourceFromRedshiftResult.setDataSourceId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
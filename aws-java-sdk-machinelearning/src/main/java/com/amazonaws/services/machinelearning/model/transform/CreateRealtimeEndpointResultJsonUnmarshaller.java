@@ -53,16 +53,25 @@ public class CreateRealtimeEndpointResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("MLModelId", targetDepth)) {
-                    context.nextToken();
-                    createRealtimeEndpointResult.setMLModelId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RealtimeEndpointInfo", targetDepth)) {
-                    context.nextToken();
-                    createRealtimeEndpointResult
-                            .setRealtimeEndpointInfo(RealtimeEndpointInfoJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 466168709:
+                        if (fieldName.equals("MLModelId")) {
+                            context.nextToken();
+                            createRealtimeEndpointResult.setMLModelId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 105484558:
+                        if (fieldName.equals("RealtimeEndpointInfo")) {
+                            context.nextToken();
+                            createRealtimeEndpointResult
+                                    .setRealtimeEndpointInfo(RealtimeEndpointInfoJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
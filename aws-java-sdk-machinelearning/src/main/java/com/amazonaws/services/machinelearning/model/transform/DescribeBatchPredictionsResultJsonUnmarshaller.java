@@ -53,17 +53,26 @@ public class DescribeBatchPredictionsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Results", targetDepth)) {
-                    context.nextToken();
-                    describeBatchPredictionsResult
-                            .setResults(new ListUnmarshaller<BatchPrediction>(
-                                    BatchPredictionJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeBatchPredictionsResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1532767274:
+                        if (fieldName.equals("Results")) {
+                            context.nextToken();
+                            describeBatchPredictionsResult
+                                    .setResults(new ListUnmarshaller<BatchPrediction>(
+                                            BatchPredictionJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1084080474:
+                        if (fieldName.equals("NextToken")) {
+                            context.nextToken();
+                            describeBatchPredictionsResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,70 +53,98 @@ public class GetBatchPredictionResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("BatchPredictionId", targetDepth)) {
-                    context.nextToken();
-                    getBatchPredictionResult.setBatchPredictionId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MLModelId", targetDepth)) {
-                    context.nextToken();
-                    getBatchPredictionResult.setMLModelId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("BatchPredictionDataSourceId",
-                        targetDepth)) {
-                    context.nextToken();
-                    getBatchPredictionResult
-                            .setBatchPredictionDataSourceId(context
-                                    .getUnmarshaller(String.class).unmarshall(
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 383684164:
+                        if (fieldName.equals("BatchPredictionId")) {
+                            context.nextToken();
+                            getBatchPredictionResult.setBatchPredictionId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 466168709:
+                        if (fieldName.equals("MLModelId")) {
+                            context.nextToken();
+                            getBatchPredictionResult.setMLModelId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1732559433:
+                        if (fieldName.equals("BatchPredictionDataSourceId")) {
+                            context.nextToken();
+                            getBatchPredictionResult
+                                    .setBatchPredictionDataSourceId(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case 1310380617:
+                        if (fieldName.equals("InputDataLocationS3")) {
+                            context.nextToken();
+                            getBatchPredictionResult.setInputDataLocationS3(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1155152257:
+                        if (fieldName.equals("CreatedByIamUser")) {
+                            context.nextToken();
+                            getBatchPredictionResult.setCreatedByIamUser(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1692627685:
+                        if (fieldName.equals("CreatedAt")) {
+                            context.nextToken();
+                            getBatchPredictionResult.setCreatedAt(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
                                             context));
-                }
-                if (context.testExpression("InputDataLocationS3", targetDepth)) {
-                    context.nextToken();
-                    getBatchPredictionResult.setInputDataLocationS3(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedByIamUser", targetDepth)) {
-                    context.nextToken();
-                    getBatchPredictionResult.setCreatedByIamUser(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedAt", targetDepth)) {
-                    context.nextToken();
-                    getBatchPredictionResult.setCreatedAt(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("LastUpdatedAt", targetDepth)) {
-                    context.nextToken();
-                    getBatchPredictionResult.setLastUpdatedAt(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    getBatchPredictionResult.setName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    getBatchPredictionResult.setStatus(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("OutputUri", targetDepth)) {
-                    context.nextToken();
-                    getBatchPredictionResult.setOutputUri(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LogUri", targetDepth)) {
-                    context.nextToken();
-                    getBatchPredictionResult.setLogUri(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Message", targetDepth)) {
-                    context.nextToken();
-                    getBatchPredictionResult.setMessage(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1350364216:
+                        if (fieldName.equals("LastUpdatedAt")) {
+                            context.nextToken();
+                            getBatchPredictionResult.setLastUpdatedAt(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            getBatchPredictionResult.setName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1808614382:
+                        if (fieldName.equals("Status")) {
+                            context.nextToken();
+                            getBatchPredictionResult.setStatus(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -115332981:
+                        if (fieldName.equals("OutputUri")) {
+                            context.nextToken();
+                            getBatchPredictionResult.setOutputUri(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -2013487192:
+                        if (fieldName.equals("LogUri")) {
+                            context.nextToken();
+                            getBatchPredictionResult.setLogUri(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1675388953:
+                        if (fieldName.equals("Message")) {
+                            context.nextToken();
+                            getBatchPredictionResult.setMessage(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,94 +53,133 @@ public class GetDataSourceResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DataSourceId", targetDepth)) {
-                    context.nextToken();
-                    getDataSourceResult.setDataSourceId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DataLocationS3", targetDepth)) {
-                    context.nextToken();
-                    getDataSourceResult.setDataLocationS3(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DataRearrangement", targetDepth)) {
-                    context.nextToken();
-                    getDataSourceResult.setDataRearrangement(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedByIamUser", targetDepth)) {
-                    context.nextToken();
-                    getDataSourceResult.setCreatedByIamUser(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedAt", targetDepth)) {
-                    context.nextToken();
-                    getDataSourceResult.setCreatedAt(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("LastUpdatedAt", targetDepth)) {
-                    context.nextToken();
-                    getDataSourceResult.setLastUpdatedAt(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("DataSizeInBytes", targetDepth)) {
-                    context.nextToken();
-                    getDataSourceResult.setDataSizeInBytes(context
-                            .getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("NumberOfFiles", targetDepth)) {
-                    context.nextToken();
-                    getDataSourceResult.setNumberOfFiles(context
-                            .getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    getDataSourceResult.setName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    getDataSourceResult.setStatus(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("LogUri", targetDepth)) {
-                    context.nextToken();
-                    getDataSourceResult.setLogUri(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Message", targetDepth)) {
-                    context.nextToken();
-                    getDataSourceResult.setMessage(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("RedshiftMetadata", targetDepth)) {
-                    context.nextToken();
-                    getDataSourceResult
-                            .setRedshiftMetadata(RedshiftMetadataJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("RDSMetadata", targetDepth)) {
-                    context.nextToken();
-                    getDataSourceResult
-                            .setRDSMetadata(RDSMetadataJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("RoleARN", targetDepth)) {
-                    context.nextToken();
-                    getDataSourceResult.setRoleARN(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ComputeStatistics", targetDepth)) {
-                    context.nextToken();
-                    getDataSourceResult
-                            .setComputeStatistics(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("DataSourceSchema", targetDepth)) {
-                    context.nextToken();
-                    getDataSourceResult.setDataSourceSchema(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1057082240:
+                        if (fieldName.equals("DataSourceId")) {
+                            context.nextToken();
+                            getDataSourceResult.setDataSourceId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 409869343:
+                        if (fieldName.equals("DataLocationS3")) {
+                            context.nextToken();
+                            getDataSourceResult.setDataLocationS3(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1484625075:
+                        if (fieldName.equals("DataRearrangement")) {
+                            context.nextToken();
+                            getDataSourceResult.setDataRearrangement(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1155152257:
+                        if (fieldName.equals("CreatedByIamUser")) {
+                            context.nextToken();
+                            getDataSourceResult.setCreatedByIamUser(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1692627685:
+                        if (fieldName.equals("CreatedAt")) {
+                            context.nextToken();
+                            getDataSourceResult.setCreatedAt(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 1350364216:
+                        if (fieldName.equals("LastUpdatedAt")) {
+                            context.nextToken();
+                            getDataSourceResult.setLastUpdatedAt(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case 1659893979:
+                        if (fieldName.equals("DataSizeInBytes")) {
+                            context.nextToken();
+                            getDataSourceResult.setDataSizeInBytes(context
+                                    .getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    case -536468681:
+                        if (fieldName.equals("NumberOfFiles")) {
+                            context.nextToken();
+                            getDataSourceResult.setNumberOfFiles(context
+                                    .getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            getDataSourceResult.setName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1808614382:
+                        if (fieldName.equals("Status")) {
+                            context.nextToken();
+                            getDataSourceResult.setStatus(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -2013487192:
+                        if (fieldName.equals("LogUri")) {
+                            context.nextToken();
+                            getDataSourceResult.setLogUri(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1675388953:
+                        if (fieldName.equals("Message")) {
+                            context.nextToken();
+                            getDataSourceResult.setMessage(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1290901248:
+                        if (fieldName.equals("RedshiftMetadata")) {
+                            context.nextToken();
+                            getDataSourceResult
+                                    .setRedshiftMetadata(RedshiftMetadataJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1879364944:
+                        if (fieldName.equals("RDSMetadata")) {
+                            context.nextToken();
+                            getDataSourceResult
+                                    .setRDSMetadata(RDSMetadataJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1253459481:
+                        if (fieldName.equals("RoleARN")) {
+                            context.nextToken();
+                            getDataSourceResult.setRoleARN(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1410155366:
+                        if (fieldName.equals("ComputeStatistics")) {
+                            context.nextToken();
+                            getDataSourceResult
+                                    .setComputeStatistics(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 117645958:
+                        if (fieldName.equals("DataSourceSchema")) {
+                            context.nextToken();
+                            getDataSourceResult.setDataSourceSchema(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,101 +53,141 @@ public class GetMLModelResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("MLModelId", targetDepth)) {
-                    context.nextToken();
-                    getMLModelResult.setMLModelId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("TrainingDataSourceId", targetDepth)) {
-                    context.nextToken();
-                    getMLModelResult.setTrainingDataSourceId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedByIamUser", targetDepth)) {
-                    context.nextToken();
-                    getMLModelResult.setCreatedByIamUser(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedAt", targetDepth)) {
-                    context.nextToken();
-                    getMLModelResult.setCreatedAt(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("LastUpdatedAt", targetDepth)) {
-                    context.nextToken();
-                    getMLModelResult.setLastUpdatedAt(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    getMLModelResult.setName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    getMLModelResult.setStatus(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("SizeInBytes", targetDepth)) {
-                    context.nextToken();
-                    getMLModelResult.setSizeInBytes(context.getUnmarshaller(
-                            Long.class).unmarshall(context));
-                }
-                if (context.testExpression("EndpointInfo", targetDepth)) {
-                    context.nextToken();
-                    getMLModelResult
-                            .setEndpointInfo(RealtimeEndpointInfoJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("TrainingParameters", targetDepth)) {
-                    context.nextToken();
-                    getMLModelResult
-                            .setTrainingParameters(new MapUnmarshaller<String, String>(
-                                    context.getUnmarshaller(String.class),
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("InputDataLocationS3", targetDepth)) {
-                    context.nextToken();
-                    getMLModelResult.setInputDataLocationS3(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MLModelType", targetDepth)) {
-                    context.nextToken();
-                    getMLModelResult.setMLModelType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ScoreThreshold", targetDepth)) {
-                    context.nextToken();
-                    getMLModelResult.setScoreThreshold(context.getUnmarshaller(
-                            Float.class).unmarshall(context));
-                }
-                if (context.testExpression("ScoreThresholdLastUpdatedAt",
-                        targetDepth)) {
-                    context.nextToken();
-                    getMLModelResult.setScoreThresholdLastUpdatedAt(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("LogUri", targetDepth)) {
-                    context.nextToken();
-                    getMLModelResult.setLogUri(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Message", targetDepth)) {
-                    context.nextToken();
-                    getMLModelResult.setMessage(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Recipe", targetDepth)) {
-                    context.nextToken();
-                    getMLModelResult.setRecipe(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Schema", targetDepth)) {
-                    context.nextToken();
-                    getMLModelResult.setSchema(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 466168709:
+                        if (fieldName.equals("MLModelId")) {
+                            context.nextToken();
+                            getMLModelResult.setMLModelId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1264911750:
+                        if (fieldName.equals("TrainingDataSourceId")) {
+                            context.nextToken();
+                            getMLModelResult.setTrainingDataSourceId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1155152257:
+                        if (fieldName.equals("CreatedByIamUser")) {
+                            context.nextToken();
+                            getMLModelResult.setCreatedByIamUser(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1692627685:
+                        if (fieldName.equals("CreatedAt")) {
+                            context.nextToken();
+                            getMLModelResult.setCreatedAt(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 1350364216:
+                        if (fieldName.equals("LastUpdatedAt")) {
+                            context.nextToken();
+                            getMLModelResult.setLastUpdatedAt(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            getMLModelResult.setName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1808614382:
+                        if (fieldName.equals("Status")) {
+                            context.nextToken();
+                            getMLModelResult.setStatus(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -235946267:
+                        if (fieldName.equals("SizeInBytes")) {
+                            context.nextToken();
+                            getMLModelResult.setSizeInBytes(context.getUnmarshaller(
+                                    Long.class).unmarshall(context));
+                        }
+                        break;
+                    case -686655485:
+                        if (fieldName.equals("EndpointInfo")) {
+                            context.nextToken();
+                            getMLModelResult
+                                    .setEndpointInfo(RealtimeEndpointInfoJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1750309508:
+                        if (fieldName.equals("TrainingParameters")) {
+                            context.nextToken();
+                            getMLModelResult
+                                    .setTrainingParameters(new MapUnmarshaller<String, String>(
+                                            context.getUnmarshaller(String.class),
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1310380617:
+                        if (fieldName.equals("InputDataLocationS3")) {
+                            context.nextToken();
+                            getMLModelResult.setInputDataLocationS3(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1311882020:
+                        if (fieldName.equals("MLModelType")) {
+                            context.nextToken();
+                            getMLModelResult.setMLModelType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1749035495:
+                        if (fieldName.equals("ScoreThreshold")) {
+                            context.nextToken();
+                            getMLModelResult.setScoreThreshold(context.getUnmarshaller(
+                                    Float.class).unmarshall(context));
+                        }
+                        break;
+                    case -61765953:
+                        if (fieldName.equals("ScoreThresholdLastUpdatedAt")) {
+                            context.nextToken();
+                            getMLModelResult.setScoreThresholdLastUpdatedAt(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case -2013487192:
+                        if (fieldName.equals("LogUri")) {
+                            context.nextToken();
+                            getMLModelResult.setLogUri(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1675388953:
+                        if (fieldName.equals("Message")) {
+                            context.nextToken();
+                            getMLModelResult.setMessage(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1851047506:
+                        if (fieldName.equals("Recipe")) {
+                            context.nextToken();
+                            getMLModelResult.setRecipe(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1824120383:
+                        if (fieldName.equals("Schema")) {
+                            context.nextToken();
+                            getMLModelResult.setSchema(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
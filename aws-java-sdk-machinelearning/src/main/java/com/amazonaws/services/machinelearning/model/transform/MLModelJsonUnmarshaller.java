@@ -52,89 +52,125 @@ public class MLModelJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("MLModelId", targetDepth)) {
-                    context.nextToken();
-                    mLModel.setMLModelId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("TrainingDataSourceId", targetDepth)) {
-                    context.nextToken();
-                    mLModel.setTrainingDataSourceId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedByIamUser", targetDepth)) {
-                    context.nextToken();
-                    mLModel.setCreatedByIamUser(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedAt", targetDepth)) {
-                    context.nextToken();
-                    mLModel.setCreatedAt(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("LastUpdatedAt", targetDepth)) {
-                    context.nextToken();
-                    mLModel.setLastUpdatedAt(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    mLModel.setName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    mLModel.setStatus(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("SizeInBytes", targetDepth)) {
-                    context.nextToken();
-                    mLModel.setSizeInBytes(context.getUnmarshaller(Long.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("EndpointInfo", targetDepth)) {
-                    context.nextToken();
-                    mLModel.setEndpointInfo(RealtimeEndpointInfoJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("TrainingParameters", targetDepth)) {
-                    context.nextToken();
-                    mLModel.setTrainingParameters(new MapUnmarshaller<String, String>(
-                            context.getUnmarshaller(String.class), context
-                                    .getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("InputDataLocationS3", targetDepth)) {
-                    context.nextToken();
-                    mLModel.setInputDataLocationS3(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Algorithm", targetDepth)) {
-                    context.nextToken();
-                    mLModel.setAlgorithm(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("MLModelType", targetDepth)) {
-                    context.nextToken();
-                    mLModel.setMLModelType(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ScoreThreshold", targetDepth)) {
-                    context.nextToken();
-                    mLModel.setScoreThreshold(context.getUnmarshaller(
-                            Float.class).unmarshall(context));
-                }
-                if (context.testExpression("ScoreThresholdLastUpdatedAt",
-                        targetDepth)) {
-                    context.nextToken();
-                    mLModel.setScoreThresholdLastUpdatedAt(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("Message", targetDepth)) {
-                    context.nextToken();
-                    mLModel.setMessage(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 466168709:
+                        if (fieldName.equals("MLModelId")) {
+                            context.nextToken();
+                            mLModel.setMLModelId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1264911750:
+                        if (fieldName.equals("TrainingDataSourceId")) {
+                            context.nextToken();
+                            mLModel.setTrainingDataSourceId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1155152257:
+                        if (fieldName.equals("CreatedByIamUser")) {
+                            context.nextToken();
+                            mLModel.setCreatedByIamUser(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1692627685:
+                        if (fieldName.equals("CreatedAt")) {
+                            context.nextToken();
+                            mLModel.setCreatedAt(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 1350364216:
+                        if (fieldName.equals("LastUpdatedAt")) {
+                            context.nextToken();
+                            mLModel.setLastUpdatedAt(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            mLModel.setName(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1808614382:
+                        if (fieldName.equals("Status")) {
+                            context.nextToken();
+                            mLModel.setStatus(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -235946267:
+                        if (fieldName.equals("SizeInBytes")) {
+                            context.nextToken();
+                            mLModel.setSizeInBytes(context.getUnmarshaller(Long.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -686655485:
+                        if (fieldName.equals("EndpointInfo")) {
+                            context.nextToken();
+                            mLModel.setEndpointInfo(RealtimeEndpointInfoJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1750309508:
+                        if (fieldName.equals("TrainingParameters")) {
+                            context.nextToken();
+                            mLModel.setTrainingParameters(new MapUnmarshaller<String, String>(
+                                    context.getUnmarshaller(String.class), context
+                                            .getUnmarshaller(String.class))
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1310380617:
+                        if (fieldName.equals("InputDataLocationS3")) {
+                            context.nextToken();
+                            mLModel.setInputDataLocationS3(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -2065509297:
+                        if (fieldName.equals("Algorithm")) {
+                            context.nextToken();
+                            mLModel.setAlgorithm(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1311882020:
+                        if (fieldName.equals("MLModelType")) {
+                            context.nextToken();
+                            mLModel.setMLModelType(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1749035495:
+                        if (fieldName.equals("ScoreThreshold")) {
+                            context.nextToken();
+                            mLModel.setScoreThreshold(context.getUnmarshaller(
+                                    Float.class).unmarshall(context));
+                        }
+                        break;
+                    case -61765953:
+                        if (fieldName.equals("ScoreThresholdLastUpdatedAt")) {
+                            context.nextToken();
+                            mLModel.setScoreThresholdLastUpdatedAt(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case -1675388953:
+                        if (fieldName.equals("Message")) {
+                            context.nextToken();
+                            mLModel.setMessage(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
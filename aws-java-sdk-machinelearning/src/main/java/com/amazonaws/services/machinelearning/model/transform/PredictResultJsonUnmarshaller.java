@@ -53,10 +53,17 @@ public class PredictResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Prediction", targetDepth)) {
-                    context.nextToken();
-                    predictResult.setPrediction(PredictionJsonUnmarshaller
-                            .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1140267857:
+                        if (fieldName.equals("Prediction")) {
+                            context.nextToken();
+                            predictResult.setPrediction(PredictionJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
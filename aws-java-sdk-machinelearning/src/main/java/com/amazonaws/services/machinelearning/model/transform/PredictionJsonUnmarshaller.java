@@ -53,30 +53,43 @@ public class PredictionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("predictedLabel", targetDepth)) {
-                    context.nextToken();
-                    prediction.setPredictedLabel(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("predictedValue", targetDepth)) {
-                    context.nextToken();
-                    prediction.setPredictedValue(context.getUnmarshaller(
-                            Float.class).unmarshall(context));
-                }
-                if (context.testExpression("predictedScores", targetDepth)) {
-                    context.nextToken();
-                    prediction
-                            .setPredictedScores(new MapUnmarshaller<String, Float>(
-                                    context.getUnmarshaller(String.class),
-                                    context.getUnmarshaller(Float.class))
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1648517788:
+                        if (fieldName.equals("predictedLabel")) {
+                            context.nextToken();
+                            prediction.setPredictedLabel(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1657763097:
+                        if (fieldName.equals("predictedValue")) {
+                            context.nextToken();
+                            prediction.setPredictedValue(context.getUnmarshaller(
+                                    Float.class).unmarshall(context));
+                        }
+                        break;
+                    case -232905351:
+                        if (fieldName.equals("predictedScores")) {
+                            context.nextToken();
+                            prediction
+                                    .setPredictedScores(new MapUnmarshaller<String, Float>(
+                                            context.getUnmarshaller(String.class),
+                                            context.getUnmarshaller(Float.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1557721666:
+                        if (fieldName.equals("details")) {
+                            context.nextToken();
+                            prediction.setDetails(new MapUnmarshaller<String, String>(
+                                    context.getUnmarshaller(String.class), context
+                                            .getUnmarshaller(String.class))
                                     .unmarshall(context));
-                }
-                if (context.testExpression("details", targetDepth)) {
-                    context.nextToken();
-                    prediction.setDetails(new MapUnmarshaller<String, String>(
-                            context.getUnmarshaller(String.class), context
-                                    .getUnmarshaller(String.class))
-                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
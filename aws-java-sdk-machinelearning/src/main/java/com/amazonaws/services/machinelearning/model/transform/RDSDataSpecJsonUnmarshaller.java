@@ -53,64 +53,91 @@ public class RDSDataSpecJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DatabaseInformation", targetDepth)) {
-                    context.nextToken();
-                    rDSDataSpec
-                            .setDatabaseInformation(RDSDatabaseJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("SelectSqlQuery", targetDepth)) {
-                    context.nextToken();
-                    rDSDataSpec.setSelectSqlQuery(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("DatabaseCredentials", targetDepth)) {
-                    context.nextToken();
-                    rDSDataSpec
-                            .setDatabaseCredentials(RDSDatabaseCredentialsJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("S3StagingLocation", targetDepth)) {
-                    context.nextToken();
-                    rDSDataSpec.setS3StagingLocation(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("DataRearrangement", targetDepth)) {
-                    context.nextToken();
-                    rDSDataSpec.setDataRearrangement(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("DataSchema", targetDepth)) {
-                    context.nextToken();
-                    rDSDataSpec.setDataSchema(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("DataSchemaUri", targetDepth)) {
-                    context.nextToken();
-                    rDSDataSpec.setDataSchemaUri(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ResourceRole", targetDepth)) {
-                    context.nextToken();
-                    rDSDataSpec.setResourceRole(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ServiceRole", targetDepth)) {
-                    context.nextToken();
-                    rDSDataSpec.setServiceRole(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("SubnetId", targetDepth)) {
-                    context.nextToken();
-                    rDSDataSpec.setSubnetId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("SecurityGroupIds", targetDepth)) {
-                    context.nextToken();
-                    rDSDataSpec
-                            .setSecurityGroupIds(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 595634321:
+                        if (fieldName.equals("DatabaseInformation")) {
+                            context.nextToken();
+                            rDSDataSpec
+                                    .setDatabaseInformation(RDSDatabaseJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1110932266:
+                        if (fieldName.equals("SelectSqlQuery")) {
+                            context.nextToken();
+                            rDSDataSpec.setSelectSqlQuery(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1084008863:
+                        if (fieldName.equals("DatabaseCredentials")) {
+                            context.nextToken();
+                            rDSDataSpec
+                                    .setDatabaseCredentials(RDSDatabaseCredentialsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 804427440:
+                        if (fieldName.equals("S3StagingLocation")) {
+                            context.nextToken();
+                            rDSDataSpec.setS3StagingLocation(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1484625075:
+                        if (fieldName.equals("DataRearrangement")) {
+                            context.nextToken();
+                            rDSDataSpec.setDataRearrangement(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1040513525:
+                        if (fieldName.equals("DataSchema")) {
+                            context.nextToken();
+                            rDSDataSpec.setDataSchema(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1159362719:
+                        if (fieldName.equals("DataSchemaUri")) {
+                            context.nextToken();
+                            rDSDataSpec.setDataSchemaUri(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -220113468:
+                        if (fieldName.equals("ResourceRole")) {
+                            context.nextToken();
+                            rDSDataSpec.setResourceRole(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -260570965:
+                        if (fieldName.equals("ServiceRole")) {
+                            context.nextToken();
+                            rDSDataSpec.setServiceRole(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -2001515144:
+                        if (fieldName.equals("SubnetId")) {
+                            context.nextToken();
+                            rDSDataSpec.setSubnetId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1460929337:
+                        if (fieldName.equals("SecurityGroupIds")) {
+                            context.nextToken();
+                            rDSDataSpec
+                                    .setSecurityGroupIds(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class RDSDatabaseCredentialsJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Username", targetDepth)) {
-                    context.nextToken();
-                    rDSDatabaseCredentials.setUsername(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Password", targetDepth)) {
-                    context.nextToken();
-                    rDSDatabaseCredentials.setPassword(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -201069322:
+                        if (fieldName.equals("Username")) {
+                            context.nextToken();
+                            rDSDatabaseCredentials.setUsername(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1281629883:
+                        if (fieldName.equals("Password")) {
+                            context.nextToken();
+                            rDSDatabaseCredentials.setPassword(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
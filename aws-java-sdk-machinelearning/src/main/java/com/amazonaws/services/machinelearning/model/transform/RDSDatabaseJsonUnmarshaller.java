@@ -53,15 +53,24 @@ public class RDSDatabaseJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("InstanceIdentifier", targetDepth)) {
-                    context.nextToken();
-                    rDSDatabase.setInstanceIdentifier(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("DatabaseName", targetDepth)) {
-                    context.nextToken();
-                    rDSDatabase.setDatabaseName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1574444226:
+                        if (fieldName.equals("InstanceIdentifier")) {
+                            context.nextToken();
+                            rDSDatabase.setInstanceIdentifier(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -294773050:
+                        if (fieldName.equals("DatabaseName")) {
+                            context.nextToken();
+                            rDSDatabase.setDatabaseName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
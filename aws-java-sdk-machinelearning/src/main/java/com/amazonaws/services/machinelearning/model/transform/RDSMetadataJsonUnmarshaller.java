@@ -53,35 +53,52 @@ public class RDSMetadataJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Database", targetDepth)) {
-                    context.nextToken();
-                    rDSMetadata.setDatabase(RDSDatabaseJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("DatabaseUserName", targetDepth)) {
-                    context.nextToken();
-                    rDSMetadata.setDatabaseUserName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("SelectSqlQuery", targetDepth)) {
-                    context.nextToken();
-                    rDSMetadata.setSelectSqlQuery(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ResourceRole", targetDepth)) {
-                    context.nextToken();
-                    rDSMetadata.setResourceRole(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ServiceRole", targetDepth)) {
-                    context.nextToken();
-                    rDSMetadata.setServiceRole(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("DataPipelineId", targetDepth)) {
-                    context.nextToken();
-                    rDSMetadata.setDataPipelineId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1854109083:
+                        if (fieldName.equals("Database")) {
+                            context.nextToken();
+                            rDSMetadata.setDatabase(RDSDatabaseJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1000541105:
+                        if (fieldName.equals("DatabaseUserName")) {
+                            context.nextToken();
+                            rDSMetadata.setDatabaseUserName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1110932266:
+                        if (fieldName.equals("SelectSqlQuery")) {
+                            context.nextToken();
+                            rDSMetadata.setSelectSqlQuery(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -220113468:
+                        if (fieldName.equals("ResourceRole")) {
+                            context.nextToken();
+                            rDSMetadata.setResourceRole(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -260570965:
+                        if (fieldName.equals("ServiceRole")) {
+                            context.nextToken();
+                            rDSMetadata.setServiceRole(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2086280903:
+                        if (fieldName.equals("DataPipelineId")) {
+                            context.nextToken();
+                            rDSMetadata.setDataPipelineId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
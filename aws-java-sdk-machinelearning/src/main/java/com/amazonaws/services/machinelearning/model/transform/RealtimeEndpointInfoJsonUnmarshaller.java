@@ -53,27 +53,39 @@ public class RealtimeEndpointInfoJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context
-                        .testExpression("PeakRequestsPerSecond", targetDepth)) {
-                    context.nextToken();
-                    realtimeEndpointInfo
-                            .setPeakRequestsPerSecond(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedAt", targetDepth)) {
-                    context.nextToken();
-                    realtimeEndpointInfo.setCreatedAt(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("EndpointUrl", targetDepth)) {
-                    context.nextToken();
-                    realtimeEndpointInfo.setEndpointUrl(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EndpointStatus", targetDepth)) {
-                    context.nextToken();
-                    realtimeEndpointInfo.setEndpointStatus(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1486433614:
+                        if (fieldName.equals("PeakRequestsPerSecond")) {
+                            context.nextToken();
+                            realtimeEndpointInfo
+                                    .setPeakRequestsPerSecond(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -1692627685:
+                        if (fieldName.equals("CreatedAt")) {
+                            context.nextToken();
+                            realtimeEndpointInfo.setCreatedAt(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 532050810:
+                        if (fieldName.equals("EndpointUrl")) {
+                            context.nextToken();
+                            realtimeEndpointInfo.setEndpointUrl(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1840734727:
+                        if (fieldName.equals("EndpointStatus")) {
+                            context.nextToken();
+                            realtimeEndpointInfo.setEndpointStatus(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
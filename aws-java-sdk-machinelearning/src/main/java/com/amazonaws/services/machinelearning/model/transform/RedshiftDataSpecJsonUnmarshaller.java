@@ -53,42 +53,61 @@ public class RedshiftDataSpecJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DatabaseInformation", targetDepth)) {
-                    context.nextToken();
-                    redshiftDataSpec
-                            .setDatabaseInformation(RedshiftDatabaseJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("SelectSqlQuery", targetDepth)) {
-                    context.nextToken();
-                    redshiftDataSpec.setSelectSqlQuery(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("DatabaseCredentials", targetDepth)) {
-                    context.nextToken();
-                    redshiftDataSpec
-                            .setDatabaseCredentials(RedshiftDatabaseCredentialsJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("S3StagingLocation", targetDepth)) {
-                    context.nextToken();
-                    redshiftDataSpec.setS3StagingLocation(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DataRearrangement", targetDepth)) {
-                    context.nextToken();
-                    redshiftDataSpec.setDataRearrangement(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DataSchema", targetDepth)) {
-                    context.nextToken();
-                    redshiftDataSpec.setDataSchema(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("DataSchemaUri", targetDepth)) {
-                    context.nextToken();
-                    redshiftDataSpec.setDataSchemaUri(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 595634321:
+                        if (fieldName.equals("DatabaseInformation")) {
+                            context.nextToken();
+                            redshiftDataSpec
+                                    .setDatabaseInformation(RedshiftDatabaseJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1110932266:
+                        if (fieldName.equals("SelectSqlQuery")) {
+                            context.nextToken();
+                            redshiftDataSpec.setSelectSqlQuery(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1084008863:
+                        if (fieldName.equals("DatabaseCredentials")) {
+                            context.nextToken();
+                            redshiftDataSpec
+                                    .setDatabaseCredentials(RedshiftDatabaseCredentialsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 804427440:
+                        if (fieldName.equals("S3StagingLocation")) {
+                            context.nextToken();
+                            redshiftDataSpec.setS3StagingLocation(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1484625075:
+                        if (fieldName.equals("DataRearrangement")) {
+                            context.nextToken();
+                            redshiftDataSpec.setDataRearrangement(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1040513525:
+                        if (fieldName.equals("DataSchema")) {
+                            context.nextToken();
+                            redshiftDataSpec.setDataSchema(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1159362719:
+                        if (fieldName.equals("DataSchemaUri")) {
+                            context.nextToken();
+                            redshiftDataSpec.setDataSchemaUri(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
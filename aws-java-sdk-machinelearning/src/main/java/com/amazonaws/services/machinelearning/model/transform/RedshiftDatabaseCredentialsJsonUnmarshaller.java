@@ -53,15 +53,24 @@ public class RedshiftDatabaseCredentialsJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Username", targetDepth)) {
-                    context.nextToken();
-                    redshiftDatabaseCredentials.setUsername(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Password", targetDepth)) {
-                    context.nextToken();
-                    redshiftDatabaseCredentials.setPassword(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -201069322:
+                        if (fieldName.equals("Username")) {
+                            context.nextToken();
+                            redshiftDatabaseCredentials.setUsername(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1281629883:
+                        if (fieldName.equals("Password")) {
+                            context.nextToken();
+                            redshiftDatabaseCredentials.setPassword(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
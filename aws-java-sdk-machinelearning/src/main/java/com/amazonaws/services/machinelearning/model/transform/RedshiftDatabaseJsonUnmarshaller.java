@@ -53,15 +53,24 @@ public class RedshiftDatabaseJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DatabaseName", targetDepth)) {
-                    context.nextToken();
-                    redshiftDatabase.setDatabaseName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ClusterIdentifier", targetDepth)) {
-                    context.nextToken();
-                    redshiftDatabase.setClusterIdentifier(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -294773050:
+                        if (fieldName.equals("DatabaseName")) {
+                            context.nextToken();
+                            redshiftDatabase.setDatabaseName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1318005283:
+                        if (fieldName.equals("ClusterIdentifier")) {
+                            context.nextToken();
+                            redshiftDatabase.setClusterIdentifier(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,21 +53,32 @@ public class RedshiftMetadataJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RedshiftDatabase", targetDepth)) {
-                    context.nextToken();
-                    redshiftMetadata
-                            .setRedshiftDatabase(RedshiftDatabaseJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("DatabaseUserName", targetDepth)) {
-                    context.nextToken();
-                    redshiftMetadata.setDatabaseUserName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SelectSqlQuery", targetDepth)) {
-                    context.nextToken();
-                    redshiftMetadata.setSelectSqlQuery(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 948567884:
+                        if (fieldName.equals("RedshiftDatabase")) {
+                            context.nextToken();
+                            redshiftMetadata
+                                    .setRedshiftDatabase(RedshiftDatabaseJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1000541105:
+                        if (fieldName.equals("DatabaseUserName")) {
+                            context.nextToken();
+                            redshiftMetadata.setDatabaseUserName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1110932266:
+                        if (fieldName.equals("SelectSqlQuery")) {
+                            context.nextToken();
+                            redshiftMetadata.setSelectSqlQuery(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,25 +53,38 @@ public class S3DataSpecJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DataLocationS3", targetDepth)) {
-                    context.nextToken();
-                    s3DataSpec.setDataLocationS3(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("DataRearrangement", targetDepth)) {
-                    context.nextToken();
-                    s3DataSpec.setDataRearrangement(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("DataSchema", targetDepth)) {
-                    context.nextToken();
-                    s3DataSpec.setDataSchema(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("DataSchemaLocationS3", targetDepth)) {
-                    context.nextToken();
-                    s3DataSpec.setDataSchemaLocationS3(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 409869343:
+                        if (fieldName.equals("DataLocationS3")) {
+                            context.nextToken();
+                            s3DataSpec.setDataLocationS3(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1484625075:
+                        if (fieldName.equals("DataRearrangement")) {
+                            context.nextToken();
+                            s3DataSpec.setDataRearrangement(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1040513525:
+                        if (fieldName.equals("DataSchema")) {
+                            context.nextToken();
+                            s3DataSpec.setDataSchema(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1492623648:
+                        if (fieldName.equals("DataSchemaLocationS3")) {
+                            context.nextToken();
+                            s3DataSpec.setDataSchemaLocationS3(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
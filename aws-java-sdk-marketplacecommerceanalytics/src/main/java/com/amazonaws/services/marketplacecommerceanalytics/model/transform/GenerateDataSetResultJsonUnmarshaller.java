@@ -53,10 +53,17 @@ public class GenerateDataSetResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("dataSetRequestId", targetDepth)) {
-                    context.nextToken();
-                    generateDataSetResult.setDataSetRequestId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1881922194:
+                        if (fieldName.equals("dataSetRequestId")) {
+                            context.nextToken();
+                            generateDataSetResult.setDataSetRequestId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
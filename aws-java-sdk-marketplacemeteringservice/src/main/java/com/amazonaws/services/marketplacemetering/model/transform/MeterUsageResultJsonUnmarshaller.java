@@ -53,10 +53,17 @@ public class MeterUsageResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("MeteringRecordId", targetDepth)) {
-                    context.nextToken();
-                    meterUsageResult.setMeteringRecordId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1327966139:
+                        if (fieldName.equals("MeteringRecordId")) {
+                            context.nextToken();
+                            meterUsageResult.setMeteringRecordId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,16 +53,25 @@ public class AgentVersionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Version", targetDepth)) {
-                    context.nextToken();
-                    agentVersion.setVersion(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ConfigurationManager", targetDepth)) {
-                    context.nextToken();
-                    agentVersion
-                            .setConfigurationManager(StackConfigurationManagerJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2016261304:
+                        if (fieldName.equals("Version")) {
+                            context.nextToken();
+                            agentVersion.setVersion(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1729493513:
+                        if (fieldName.equals("ConfigurationManager")) {
+                            context.nextToken();
+                            agentVersion
+                                    .setConfigurationManager(StackConfigurationManagerJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -52,79 +52,112 @@ public class AppJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AppId", targetDepth)) {
-                    context.nextToken();
-                    app.setAppId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("StackId", targetDepth)) {
-                    context.nextToken();
-                    app.setStackId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Shortname", targetDepth)) {
-                    context.nextToken();
-                    app.setShortname(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    app.setName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Description", targetDepth)) {
-                    context.nextToken();
-                    app.setDescription(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("DataSources", targetDepth)) {
-                    context.nextToken();
-                    app.setDataSources(new ListUnmarshaller<DataSource>(
-                            DataSourceJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Type", targetDepth)) {
-                    context.nextToken();
-                    app.setType(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("AppSource", targetDepth)) {
-                    context.nextToken();
-                    app.setAppSource(SourceJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Domains", targetDepth)) {
-                    context.nextToken();
-                    app.setDomains(new ListUnmarshaller<String>(context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("EnableSsl", targetDepth)) {
-                    context.nextToken();
-                    app.setEnableSsl(context.getUnmarshaller(Boolean.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("SslConfiguration", targetDepth)) {
-                    context.nextToken();
-                    app.setSslConfiguration(SslConfigurationJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Attributes", targetDepth)) {
-                    context.nextToken();
-                    app.setAttributes(new MapUnmarshaller<String, String>(
-                            context.getUnmarshaller(String.class), context
-                                    .getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("CreatedAt", targetDepth)) {
-                    context.nextToken();
-                    app.setCreatedAt(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Environment", targetDepth)) {
-                    context.nextToken();
-                    app.setEnvironment(new ListUnmarshaller<EnvironmentVariable>(
-                            EnvironmentVariableJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 63475452:
+                        if (fieldName.equals("AppId")) {
+                            context.nextToken();
+                            app.setAppId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -232988253:
+                        if (fieldName.equals("StackId")) {
+                            context.nextToken();
+                            app.setStackId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -23297817:
+                        if (fieldName.equals("Shortname")) {
+                            context.nextToken();
+                            app.setShortname(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            app.setName(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -56677412:
+                        if (fieldName.equals("Description")) {
+                            context.nextToken();
+                            app.setDescription(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1835214706:
+                        if (fieldName.equals("DataSources")) {
+                            context.nextToken();
+                            app.setDataSources(new ListUnmarshaller<DataSource>(
+                                    DataSourceJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 2622298:
+                        if (fieldName.equals("Type")) {
+                            context.nextToken();
+                            app.setType(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -795668100:
+                        if (fieldName.equals("AppSource")) {
+                            context.nextToken();
+                            app.setAppSource(SourceJsonUnmarshaller.getInstance()
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -792765425:
+                        if (fieldName.equals("Domains")) {
+                            context.nextToken();
+                            app.setDomains(new ListUnmarshaller<String>(context
+                                    .getUnmarshaller(String.class)).unmarshall(context));
+                        }
+                        break;
+                    case 1372302697:
+                        if (fieldName.equals("EnableSsl")) {
+                            context.nextToken();
+                            app.setEnableSsl(context.getUnmarshaller(Boolean.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1816092266:
+                        if (fieldName.equals("SslConfiguration")) {
+                            context.nextToken();
+                            app.setSslConfiguration(SslConfigurationJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1895856777:
+                        if (fieldName.equals("Attributes")) {
+                            context.nextToken();
+                            app.setAttributes(new MapUnmarshaller<String, String>(
+                                    context.getUnmarshaller(String.class), context
+                                            .getUnmarshaller(String.class))
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1692627685:
+                        if (fieldName.equals("CreatedAt")) {
+                            context.nextToken();
+                            app.setCreatedAt(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1581963763:
+                        if (fieldName.equals("Environment")) {
+                            context.nextToken();
+                            app.setEnvironment(new ListUnmarshaller<EnvironmentVariable>(
+                                    EnvironmentVariableJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
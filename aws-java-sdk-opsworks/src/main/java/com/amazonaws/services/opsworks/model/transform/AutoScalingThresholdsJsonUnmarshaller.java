@@ -53,45 +53,64 @@ public class AutoScalingThresholdsJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("InstanceCount", targetDepth)) {
-                    context.nextToken();
-                    autoScalingThresholds
-                            .setInstanceCount(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("ThresholdsWaitTime", targetDepth)) {
-                    context.nextToken();
-                    autoScalingThresholds
-                            .setThresholdsWaitTime(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("IgnoreMetricsTime", targetDepth)) {
-                    context.nextToken();
-                    autoScalingThresholds
-                            .setIgnoreMetricsTime(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("CpuThreshold", targetDepth)) {
-                    context.nextToken();
-                    autoScalingThresholds.setCpuThreshold(context
-                            .getUnmarshaller(Double.class).unmarshall(context));
-                }
-                if (context.testExpression("MemoryThreshold", targetDepth)) {
-                    context.nextToken();
-                    autoScalingThresholds.setMemoryThreshold(context
-                            .getUnmarshaller(Double.class).unmarshall(context));
-                }
-                if (context.testExpression("LoadThreshold", targetDepth)) {
-                    context.nextToken();
-                    autoScalingThresholds.setLoadThreshold(context
-                            .getUnmarshaller(Double.class).unmarshall(context));
-                }
-                if (context.testExpression("Alarms", targetDepth)) {
-                    context.nextToken();
-                    autoScalingThresholds
-                            .setAlarms(new ListUnmarshaller<String>(context
-                                    .getUnmarshaller(String.class))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -609513126:
+                        if (fieldName.equals("InstanceCount")) {
+                            context.nextToken();
+                            autoScalingThresholds
+                                    .setInstanceCount(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -944998518:
+                        if (fieldName.equals("ThresholdsWaitTime")) {
+                            context.nextToken();
+                            autoScalingThresholds
+                                    .setThresholdsWaitTime(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -1981292322:
+                        if (fieldName.equals("IgnoreMetricsTime")) {
+                            context.nextToken();
+                            autoScalingThresholds
+                                    .setIgnoreMetricsTime(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -395234365:
+                        if (fieldName.equals("CpuThreshold")) {
+                            context.nextToken();
+                            autoScalingThresholds.setCpuThreshold(context
+                                    .getUnmarshaller(Double.class).unmarshall(context));
+                        }
+                        break;
+                    case -416149430:
+                        if (fieldName.equals("MemoryThreshold")) {
+                            context.nextToken();
+                            autoScalingThresholds.setMemoryThreshold(context
+                                    .getUnmarshaller(Double.class).unmarshall(context));
+                        }
+                        break;
+                    case 395874821:
+                        if (fieldName.equals("LoadThreshold")) {
+                            context.nextToken();
+                            autoScalingThresholds.setLoadThreshold(context
+                                    .getUnmarshaller(Double.class).unmarshall(context));
+                        }
+                        break;
+                    case 1963637858:
+                        if (fieldName.equals("Alarms")) {
+                            context.nextToken();
+                            autoScalingThresholds
+                                    .setAlarms(new ListUnmarshaller<String>(context
+                                            .getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
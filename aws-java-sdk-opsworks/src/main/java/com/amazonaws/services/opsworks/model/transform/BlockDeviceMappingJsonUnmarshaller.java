@@ -53,25 +53,38 @@ public class BlockDeviceMappingJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DeviceName", targetDepth)) {
-                    context.nextToken();
-                    blockDeviceMapping.setDeviceName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("NoDevice", targetDepth)) {
-                    context.nextToken();
-                    blockDeviceMapping.setNoDevice(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("VirtualName", targetDepth)) {
-                    context.nextToken();
-                    blockDeviceMapping.setVirtualName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Ebs", targetDepth)) {
-                    context.nextToken();
-                    blockDeviceMapping.setEbs(EbsBlockDeviceJsonUnmarshaller
-                            .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1520513503:
+                        if (fieldName.equals("DeviceName")) {
+                            context.nextToken();
+                            blockDeviceMapping.setDeviceName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 272590743:
+                        if (fieldName.equals("NoDevice")) {
+                            context.nextToken();
+                            blockDeviceMapping.setNoDevice(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 676018198:
+                        if (fieldName.equals("VirtualName")) {
+                            context.nextToken();
+                            blockDeviceMapping.setVirtualName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 69462:
+                        if (fieldName.equals("Ebs")) {
+                            context.nextToken();
+                            blockDeviceMapping.setEbs(EbsBlockDeviceJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,16 +53,25 @@ public class ChefConfigurationJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ManageBerkshelf", targetDepth)) {
-                    context.nextToken();
-                    chefConfiguration
-                            .setManageBerkshelf(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("BerkshelfVersion", targetDepth)) {
-                    context.nextToken();
-                    chefConfiguration.setBerkshelfVersion(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -859833879:
+                        if (fieldName.equals("ManageBerkshelf")) {
+                            context.nextToken();
+                            chefConfiguration
+                                    .setManageBerkshelf(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case -1675128022:
+                        if (fieldName.equals("BerkshelfVersion")) {
+                            context.nextToken();
+                            chefConfiguration.setBerkshelfVersion(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -52,55 +52,80 @@ public class CommandJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CommandId", targetDepth)) {
-                    context.nextToken();
-                    command.setCommandId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("InstanceId", targetDepth)) {
-                    context.nextToken();
-                    command.setInstanceId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("DeploymentId", targetDepth)) {
-                    context.nextToken();
-                    command.setDeploymentId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedAt", targetDepth)) {
-                    context.nextToken();
-                    command.setCreatedAt(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("AcknowledgedAt", targetDepth)) {
-                    context.nextToken();
-                    command.setAcknowledgedAt(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("CompletedAt", targetDepth)) {
-                    context.nextToken();
-                    command.setCompletedAt(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    command.setStatus(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("ExitCode", targetDepth)) {
-                    context.nextToken();
-                    command.setExitCode(context.getUnmarshaller(Integer.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("LogUrl", targetDepth)) {
-                    context.nextToken();
-                    command.setLogUrl(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Type", targetDepth)) {
-                    context.nextToken();
-                    command.setType(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 505242022:
+                        if (fieldName.equals("CommandId")) {
+                            context.nextToken();
+                            command.setCommandId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1399478096:
+                        if (fieldName.equals("InstanceId")) {
+                            context.nextToken();
+                            command.setInstanceId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 27425504:
+                        if (fieldName.equals("DeploymentId")) {
+                            context.nextToken();
+                            command.setDeploymentId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1692627685:
+                        if (fieldName.equals("CreatedAt")) {
+                            context.nextToken();
+                            command.setCreatedAt(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 24908731:
+                        if (fieldName.equals("AcknowledgedAt")) {
+                            context.nextToken();
+                            command.setAcknowledgedAt(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2070298558:
+                        if (fieldName.equals("CompletedAt")) {
+                            context.nextToken();
+                            command.setCompletedAt(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1808614382:
+                        if (fieldName.equals("Status")) {
+                            context.nextToken();
+                            command.setStatus(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -2058583989:
+                        if (fieldName.equals("ExitCode")) {
+                            context.nextToken();
+                            command.setExitCode(context.getUnmarshaller(Integer.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -2013487189:
+                        if (fieldName.equals("LogUrl")) {
+                            context.nextToken();
+                            command.setLogUrl(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 2622298:
+                        if (fieldName.equals("Type")) {
+                            context.nextToken();
+                            command.setType(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
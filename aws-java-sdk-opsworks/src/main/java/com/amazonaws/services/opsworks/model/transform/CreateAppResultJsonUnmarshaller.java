@@ -53,10 +53,17 @@ public class CreateAppResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AppId", targetDepth)) {
-                    context.nextToken();
-                    createAppResult.setAppId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 63475452:
+                        if (fieldName.equals("AppId")) {
+                            context.nextToken();
+                            createAppResult.setAppId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
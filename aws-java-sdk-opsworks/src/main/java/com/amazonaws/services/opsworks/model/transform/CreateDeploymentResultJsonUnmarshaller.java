@@ -53,10 +53,17 @@ public class CreateDeploymentResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DeploymentId", targetDepth)) {
-                    context.nextToken();
-                    createDeploymentResult.setDeploymentId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 27425504:
+                        if (fieldName.equals("DeploymentId")) {
+                            context.nextToken();
+                            createDeploymentResult.setDeploymentId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,10 +53,17 @@ public class CreateInstanceResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("InstanceId", targetDepth)) {
-                    context.nextToken();
-                    createInstanceResult.setInstanceId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1399478096:
+                        if (fieldName.equals("InstanceId")) {
+                            context.nextToken();
+                            createInstanceResult.setInstanceId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
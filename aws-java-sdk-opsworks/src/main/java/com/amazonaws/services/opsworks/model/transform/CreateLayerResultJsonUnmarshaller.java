@@ -53,10 +53,17 @@ public class CreateLayerResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("LayerId", targetDepth)) {
-                    context.nextToken();
-                    createLayerResult.setLayerId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1622697516:
+                        if (fieldName.equals("LayerId")) {
+                            context.nextToken();
+                            createLayerResult.setLayerId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
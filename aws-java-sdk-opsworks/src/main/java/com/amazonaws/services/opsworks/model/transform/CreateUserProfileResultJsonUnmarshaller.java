@@ -53,10 +53,17 @@ public class CreateUserProfileResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IamUserArn", targetDepth)) {
-                    context.nextToken();
-                    createUserProfileResult.setIamUserArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1815249565:
+                        if (fieldName.equals("IamUserArn")) {
+                            context.nextToken();
+                            createUserProfileResult.setIamUserArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,19 +53,28 @@ public class DeploymentCommandJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    deploymentCommand.setName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Args", targetDepth)) {
-                    context.nextToken();
-                    deploymentCommand
-                            .setArgs(new MapUnmarshaller<String, java.util.List<String>>(
-                                    context.getUnmarshaller(String.class),
-                                    new ListUnmarshaller<String>(context
-                                            .getUnmarshaller(String.class)))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            deploymentCommand.setName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2049277:
+                        if (fieldName.equals("Args")) {
+                            context.nextToken();
+                            deploymentCommand
+                                    .setArgs(new MapUnmarshaller<String, java.util.List<String>>(
+                                            context.getUnmarshaller(String.class),
+                                            new ListUnmarshaller<String>(context
+                                                    .getUnmarshaller(String.class)))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
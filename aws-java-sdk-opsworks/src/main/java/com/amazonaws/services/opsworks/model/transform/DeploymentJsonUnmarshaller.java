@@ -53,66 +53,95 @@ public class DeploymentJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DeploymentId", targetDepth)) {
-                    context.nextToken();
-                    deployment.setDeploymentId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("StackId", targetDepth)) {
-                    context.nextToken();
-                    deployment.setStackId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("AppId", targetDepth)) {
-                    context.nextToken();
-                    deployment.setAppId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("CreatedAt", targetDepth)) {
-                    context.nextToken();
-                    deployment.setCreatedAt(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("CompletedAt", targetDepth)) {
-                    context.nextToken();
-                    deployment.setCompletedAt(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Duration", targetDepth)) {
-                    context.nextToken();
-                    deployment.setDuration(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("IamUserArn", targetDepth)) {
-                    context.nextToken();
-                    deployment.setIamUserArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Comment", targetDepth)) {
-                    context.nextToken();
-                    deployment.setComment(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Command", targetDepth)) {
-                    context.nextToken();
-                    deployment.setCommand(DeploymentCommandJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    deployment.setStatus(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("CustomJson", targetDepth)) {
-                    context.nextToken();
-                    deployment.setCustomJson(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceIds", targetDepth)) {
-                    context.nextToken();
-                    deployment.setInstanceIds(new ListUnmarshaller<String>(
-                            context.getUnmarshaller(String.class))
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 27425504:
+                        if (fieldName.equals("DeploymentId")) {
+                            context.nextToken();
+                            deployment.setDeploymentId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -232988253:
+                        if (fieldName.equals("StackId")) {
+                            context.nextToken();
+                            deployment.setStackId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 63475452:
+                        if (fieldName.equals("AppId")) {
+                            context.nextToken();
+                            deployment.setAppId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1692627685:
+                        if (fieldName.equals("CreatedAt")) {
+                            context.nextToken();
+                            deployment.setCreatedAt(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2070298558:
+                        if (fieldName.equals("CompletedAt")) {
+                            context.nextToken();
+                            deployment.setCompletedAt(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1927368268:
+                        if (fieldName.equals("Duration")) {
+                            context.nextToken();
+                            deployment.setDuration(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 1815249565:
+                        if (fieldName.equals("IamUserArn")) {
+                            context.nextToken();
+                            deployment.setIamUserArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1679915457:
+                        if (fieldName.equals("Comment")) {
+                            context.nextToken();
+                            deployment.setComment(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1679919317:
+                        if (fieldName.equals("Command")) {
+                            context.nextToken();
+                            deployment.setCommand(DeploymentCommandJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1808614382:
+                        if (fieldName.equals("Status")) {
+                            context.nextToken();
+                            deployment.setStatus(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 411478041:
+                        if (fieldName.equals("CustomJson")) {
+                            context.nextToken();
+                            deployment.setCustomJson(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -434147901:
+                        if (fieldName.equals("InstanceIds")) {
+                            context.nextToken();
+                            deployment.setInstanceIds(new ListUnmarshaller<String>(
+                                    context.getUnmarshaller(String.class))
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,12 +53,19 @@ public class DescribeAgentVersionsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AgentVersions", targetDepth)) {
-                    context.nextToken();
-                    describeAgentVersionsResult
-                            .setAgentVersions(new ListUnmarshaller<AgentVersion>(
-                                    AgentVersionJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 437420192:
+                        if (fieldName.equals("AgentVersions")) {
+                            context.nextToken();
+                            describeAgentVersionsResult
+                                    .setAgentVersions(new ListUnmarshaller<AgentVersion>(
+                                            AgentVersionJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,11 +53,18 @@ public class DescribeAppsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Apps", targetDepth)) {
-                    context.nextToken();
-                    describeAppsResult.setApps(new ListUnmarshaller<App>(
-                            AppJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2047634:
+                        if (fieldName.equals("Apps")) {
+                            context.nextToken();
+                            describeAppsResult.setApps(new ListUnmarshaller<App>(
+                                    AppJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
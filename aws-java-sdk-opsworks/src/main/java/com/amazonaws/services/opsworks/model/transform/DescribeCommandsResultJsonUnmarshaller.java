@@ -53,12 +53,19 @@ public class DescribeCommandsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Commands", targetDepth)) {
-                    context.nextToken();
-                    describeCommandsResult
-                            .setCommands(new ListUnmarshaller<Command>(
-                                    CommandJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -537891160:
+                        if (fieldName.equals("Commands")) {
+                            context.nextToken();
+                            describeCommandsResult
+                                    .setCommands(new ListUnmarshaller<Command>(
+                                            CommandJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,12 +53,19 @@ public class DescribeDeploymentsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Deployments", targetDepth)) {
-                    context.nextToken();
-                    describeDeploymentsResult
-                            .setDeployments(new ListUnmarshaller<Deployment>(
-                                    DeploymentJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1663452718:
+                        if (fieldName.equals("Deployments")) {
+                            context.nextToken();
+                            describeDeploymentsResult
+                                    .setDeployments(new ListUnmarshaller<Deployment>(
+                                            DeploymentJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
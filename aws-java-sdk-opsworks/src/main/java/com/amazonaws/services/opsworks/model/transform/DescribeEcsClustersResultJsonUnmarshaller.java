@@ -53,17 +53,26 @@ public class DescribeEcsClustersResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("EcsClusters", targetDepth)) {
-                    context.nextToken();
-                    describeEcsClustersResult
-                            .setEcsClusters(new ListUnmarshaller<EcsCluster>(
-                                    EcsClusterJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeEcsClustersResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -2079695794:
+                        if (fieldName.equals("EcsClusters")) {
+                            context.nextToken();
+                            describeEcsClustersResult
+                                    .setEcsClusters(new ListUnmarshaller<EcsCluster>(
+                                            EcsClusterJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1084080474:
+                        if (fieldName.equals("NextToken")) {
+                            context.nextToken();
+                            describeEcsClustersResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,12 +53,19 @@ public class DescribeElasticIpsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ElasticIps", targetDepth)) {
-                    context.nextToken();
-                    describeElasticIpsResult
-                            .setElasticIps(new ListUnmarshaller<ElasticIp>(
-                                    ElasticIpJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1347476791:
+                        if (fieldName.equals("ElasticIps")) {
+                            context.nextToken();
+                            describeElasticIpsResult
+                                    .setElasticIps(new ListUnmarshaller<ElasticIp>(
+                                            ElasticIpJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
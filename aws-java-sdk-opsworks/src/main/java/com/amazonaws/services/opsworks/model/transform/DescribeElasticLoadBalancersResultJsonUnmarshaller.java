@@ -54,12 +54,19 @@ public class DescribeElasticLoadBalancersResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ElasticLoadBalancers", targetDepth)) {
-                    context.nextToken();
-                    describeElasticLoadBalancersResult
-                            .setElasticLoadBalancers(new ListUnmarshaller<ElasticLoadBalancer>(
-                                    ElasticLoadBalancerJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -485464286:
+                        if (fieldName.equals("ElasticLoadBalancers")) {
+                            context.nextToken();
+                            describeElasticLoadBalancersResult
+                                    .setElasticLoadBalancers(new ListUnmarshaller<ElasticLoadBalancer>(
+                                            ElasticLoadBalancerJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
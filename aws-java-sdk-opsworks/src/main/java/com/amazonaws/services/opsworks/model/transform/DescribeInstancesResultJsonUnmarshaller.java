@@ -53,12 +53,19 @@ public class DescribeInstancesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Instances", targetDepth)) {
-                    context.nextToken();
-                    describeInstancesResult
-                            .setInstances(new ListUnmarshaller<Instance>(
-                                    InstanceJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2033065566:
+                        if (fieldName.equals("Instances")) {
+                            context.nextToken();
+                            describeInstancesResult
+                                    .setInstances(new ListUnmarshaller<Instance>(
+                                            InstanceJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,11 +53,18 @@ public class DescribeLayersResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Layers", targetDepth)) {
-                    context.nextToken();
-                    describeLayersResult.setLayers(new ListUnmarshaller<Layer>(
-                            LayerJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -2025864862:
+                        if (fieldName.equals("Layers")) {
+                            context.nextToken();
+                            describeLayersResult.setLayers(new ListUnmarshaller<Layer>(
+                                    LayerJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,13 +54,19 @@ public class DescribeLoadBasedAutoScalingResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression(
-                        "LoadBasedAutoScalingConfigurations", targetDepth)) {
-                    context.nextToken();
-                    describeLoadBasedAutoScalingResult
-                            .setLoadBasedAutoScalingConfigurations(new ListUnmarshaller<LoadBasedAutoScalingConfiguration>(
-                                    LoadBasedAutoScalingConfigurationJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -409362072:
+                        if (fieldName.equals("LoadBasedAutoScalingConfigurations")) {
+                            context.nextToken();
+                            describeLoadBasedAutoScalingResult
+                                    .setLoadBasedAutoScalingConfigurations(new ListUnmarshaller<LoadBasedAutoScalingConfiguration>(
+                                            LoadBasedAutoScalingConfigurationJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,11 +53,18 @@ public class DescribeMyUserProfileResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("UserProfile", targetDepth)) {
-                    context.nextToken();
-                    describeMyUserProfileResult
-                            .setUserProfile(SelfUserProfileJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1056576318:
+                        if (fieldName.equals("UserProfile")) {
+                            context.nextToken();
+                            describeMyUserProfileResult
+                                    .setUserProfile(SelfUserProfileJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
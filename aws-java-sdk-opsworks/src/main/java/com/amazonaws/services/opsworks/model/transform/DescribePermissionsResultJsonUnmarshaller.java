@@ -53,12 +53,19 @@ public class DescribePermissionsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Permissions", targetDepth)) {
-                    context.nextToken();
-                    describePermissionsResult
-                            .setPermissions(new ListUnmarshaller<Permission>(
-                                    PermissionJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1493394332:
+                        if (fieldName.equals("Permissions")) {
+                            context.nextToken();
+                            describePermissionsResult
+                                    .setPermissions(new ListUnmarshaller<Permission>(
+                                            PermissionJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
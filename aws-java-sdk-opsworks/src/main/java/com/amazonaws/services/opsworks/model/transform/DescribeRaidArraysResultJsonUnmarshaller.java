@@ -53,12 +53,19 @@ public class DescribeRaidArraysResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RaidArrays", targetDepth)) {
-                    context.nextToken();
-                    describeRaidArraysResult
-                            .setRaidArrays(new ListUnmarshaller<RaidArray>(
-                                    RaidArrayJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 673553796:
+                        if (fieldName.equals("RaidArrays")) {
+                            context.nextToken();
+                            describeRaidArraysResult
+                                    .setRaidArrays(new ListUnmarshaller<RaidArray>(
+                                            RaidArrayJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
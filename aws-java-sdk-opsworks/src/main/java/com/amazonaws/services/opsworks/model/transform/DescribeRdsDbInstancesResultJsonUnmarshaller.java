@@ -53,12 +53,19 @@ public class DescribeRdsDbInstancesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RdsDbInstances", targetDepth)) {
-                    context.nextToken();
-                    describeRdsDbInstancesResult
-                            .setRdsDbInstances(new ListUnmarshaller<RdsDbInstance>(
-                                    RdsDbInstanceJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -2096017281:
+                        if (fieldName.equals("RdsDbInstances")) {
+                            context.nextToken();
+                            describeRdsDbInstancesResult
+                                    .setRdsDbInstances(new ListUnmarshaller<RdsDbInstance>(
+                                            RdsDbInstanceJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
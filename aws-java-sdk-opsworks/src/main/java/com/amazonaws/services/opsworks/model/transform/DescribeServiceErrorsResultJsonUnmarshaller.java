@@ -53,12 +53,19 @@ public class DescribeServiceErrorsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ServiceErrors", targetDepth)) {
-                    context.nextToken();
-                    describeServiceErrorsResult
-                            .setServiceErrors(new ListUnmarshaller<ServiceError>(
-                                    ServiceErrorJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1669810592:
+                        if (fieldName.equals("ServiceErrors")) {
+                            context.nextToken();
+                            describeServiceErrorsResult
+                                    .setServiceErrors(new ListUnmarshaller<ServiceError>(
+                                            ServiceErrorJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
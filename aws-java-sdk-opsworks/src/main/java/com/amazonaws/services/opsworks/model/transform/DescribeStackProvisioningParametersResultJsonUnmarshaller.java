@@ -54,19 +54,28 @@ public class DescribeStackProvisioningParametersResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AgentInstallerUrl", targetDepth)) {
-                    context.nextToken();
-                    describeStackProvisioningParametersResult
-                            .setAgentInstallerUrl(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("Parameters", targetDepth)) {
-                    context.nextToken();
-                    describeStackProvisioningParametersResult
-                            .setParameters(new MapUnmarshaller<String, String>(
-                                    context.getUnmarshaller(String.class),
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1417543756:
+                        if (fieldName.equals("AgentInstallerUrl")) {
+                            context.nextToken();
+                            describeStackProvisioningParametersResult
+                                    .setAgentInstallerUrl(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1842766326:
+                        if (fieldName.equals("Parameters")) {
+                            context.nextToken();
+                            describeStackProvisioningParametersResult
+                                    .setParameters(new MapUnmarshaller<String, String>(
+                                            context.getUnmarshaller(String.class),
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
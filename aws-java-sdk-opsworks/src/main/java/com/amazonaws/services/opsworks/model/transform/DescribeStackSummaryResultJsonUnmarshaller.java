@@ -53,11 +53,18 @@ public class DescribeStackSummaryResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StackSummary", targetDepth)) {
-                    context.nextToken();
-                    describeStackSummaryResult
-                            .setStackSummary(StackSummaryJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1008822302:
+                        if (fieldName.equals("StackSummary")) {
+                            context.nextToken();
+                            describeStackSummaryResult
+                                    .setStackSummary(StackSummaryJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
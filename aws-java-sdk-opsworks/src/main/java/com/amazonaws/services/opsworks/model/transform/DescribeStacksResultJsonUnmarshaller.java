@@ -53,11 +53,18 @@ public class DescribeStacksResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Stacks", targetDepth)) {
-                    context.nextToken();
-                    describeStacksResult.setStacks(new ListUnmarshaller<Stack>(
-                            StackJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1808631029:
+                        if (fieldName.equals("Stacks")) {
+                            context.nextToken();
+                            describeStacksResult.setStacks(new ListUnmarshaller<Stack>(
+                                    StackJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,13 +54,19 @@ public class DescribeTimeBasedAutoScalingResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression(
-                        "TimeBasedAutoScalingConfigurations", targetDepth)) {
-                    context.nextToken();
-                    describeTimeBasedAutoScalingResult
-                            .setTimeBasedAutoScalingConfigurations(new ListUnmarshaller<TimeBasedAutoScalingConfiguration>(
-                                    TimeBasedAutoScalingConfigurationJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1421156623:
+                        if (fieldName.equals("TimeBasedAutoScalingConfigurations")) {
+                            context.nextToken();
+                            describeTimeBasedAutoScalingResult
+                                    .setTimeBasedAutoScalingConfigurations(new ListUnmarshaller<TimeBasedAutoScalingConfiguration>(
+                                            TimeBasedAutoScalingConfigurationJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
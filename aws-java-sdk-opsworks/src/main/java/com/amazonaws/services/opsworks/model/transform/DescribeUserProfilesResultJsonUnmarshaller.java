@@ -53,12 +53,19 @@ public class DescribeUserProfilesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("UserProfiles", targetDepth)) {
-                    context.nextToken();
-                    describeUserProfilesResult
-                            .setUserProfiles(new ListUnmarshaller<UserProfile>(
-                                    UserProfileJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1605872395:
+                        if (fieldName.equals("UserProfiles")) {
+                            context.nextToken();
+                            describeUserProfilesResult
+                                    .setUserProfiles(new ListUnmarshaller<UserProfile>(
+                                            UserProfileJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
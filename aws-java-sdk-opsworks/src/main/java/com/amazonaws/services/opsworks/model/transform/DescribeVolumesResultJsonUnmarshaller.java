@@ -53,12 +53,19 @@ public class DescribeVolumesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Volumes", targetDepth)) {
-                    context.nextToken();
-                    describeVolumesResult
-                            .setVolumes(new ListUnmarshaller<Volume>(
-                                    VolumeJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1997892487:
+                        if (fieldName.equals("Volumes")) {
+                            context.nextToken();
+                            describeVolumesResult
+                                    .setVolumes(new ListUnmarshaller<Volume>(
+                                            VolumeJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,31 +53,46 @@ public class EbsBlockDeviceJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SnapshotId", targetDepth)) {
-                    context.nextToken();
-                    ebsBlockDevice.setSnapshotId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Iops", targetDepth)) {
-                    context.nextToken();
-                    ebsBlockDevice.setIops(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeSize", targetDepth)) {
-                    context.nextToken();
-                    ebsBlockDevice.setVolumeSize(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeType", targetDepth)) {
-                    context.nextToken();
-                    ebsBlockDevice.setVolumeType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("DeleteOnTermination", targetDepth)) {
-                    context.nextToken();
-                    ebsBlockDevice
-                            .setDeleteOnTermination(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 879647263:
+                        if (fieldName.equals("SnapshotId")) {
+                            context.nextToken();
+                            ebsBlockDevice.setSnapshotId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2285001:
+                        if (fieldName.equals("Iops")) {
+                            context.nextToken();
+                            ebsBlockDevice.setIops(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 440859227:
+                        if (fieldName.equals("VolumeSize")) {
+                            context.nextToken();
+                            ebsBlockDevice.setVolumeSize(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 440904084:
+                        if (fieldName.equals("VolumeType")) {
+                            context.nextToken();
+                            ebsBlockDevice.setVolumeType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -490369126:
+                        if (fieldName.equals("DeleteOnTermination")) {
+                            context.nextToken();
+                            ebsBlockDevice
+                                    .setDeleteOnTermination(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,25 +53,38 @@ public class EcsClusterJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("EcsClusterArn", targetDepth)) {
-                    context.nextToken();
-                    ecsCluster.setEcsClusterArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("EcsClusterName", targetDepth)) {
-                    context.nextToken();
-                    ecsCluster.setEcsClusterName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("StackId", targetDepth)) {
-                    context.nextToken();
-                    ecsCluster.setStackId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("RegisteredAt", targetDepth)) {
-                    context.nextToken();
-                    ecsCluster.setRegisteredAt(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1427909800:
+                        if (fieldName.equals("EcsClusterArn")) {
+                            context.nextToken();
+                            ecsCluster.setEcsClusterArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1315159824:
+                        if (fieldName.equals("EcsClusterName")) {
+                            context.nextToken();
+                            ecsCluster.setEcsClusterName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -232988253:
+                        if (fieldName.equals("StackId")) {
+                            context.nextToken();
+                            ecsCluster.setStackId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1542921611:
+                        if (fieldName.equals("RegisteredAt")) {
+                            context.nextToken();
+                            ecsCluster.setRegisteredAt(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
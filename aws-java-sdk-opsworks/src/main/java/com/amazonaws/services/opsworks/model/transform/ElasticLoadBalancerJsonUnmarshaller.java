@@ -53,57 +53,79 @@ public class ElasticLoadBalancerJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ElasticLoadBalancerName",
-                        targetDepth)) {
-                    context.nextToken();
-                    elasticLoadBalancer.setElasticLoadBalancerName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Region", targetDepth)) {
-                    context.nextToken();
-                    elasticLoadBalancer.setRegion(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("DnsName", targetDepth)) {
-                    context.nextToken();
-                    elasticLoadBalancer.setDnsName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("StackId", targetDepth)) {
-                    context.nextToken();
-                    elasticLoadBalancer.setStackId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("LayerId", targetDepth)) {
-                    context.nextToken();
-                    elasticLoadBalancer.setLayerId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("VpcId", targetDepth)) {
-                    context.nextToken();
-                    elasticLoadBalancer.setVpcId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("AvailabilityZones", targetDepth)) {
-                    context.nextToken();
-                    elasticLoadBalancer
-                            .setAvailabilityZones(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("SubnetIds", targetDepth)) {
-                    context.nextToken();
-                    elasticLoadBalancer
-                            .setSubnetIds(new ListUnmarshaller<String>(context
-                                    .getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("Ec2InstanceIds", targetDepth)) {
-                    context.nextToken();
-                    elasticLoadBalancer
-                            .setEc2InstanceIds(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1312664164:
+                        if (fieldName.equals("ElasticLoadBalancerName")) {
+                            context.nextToken();
+                            elasticLoadBalancer.setElasticLoadBalancerName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1850928364:
+                        if (fieldName.equals("Region")) {
+                            context.nextToken();
+                            elasticLoadBalancer.setRegion(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -816427212:
+                        if (fieldName.equals("DnsName")) {
+                            context.nextToken();
+                            elasticLoadBalancer.setDnsName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -232988253:
+                        if (fieldName.equals("StackId")) {
+                            context.nextToken();
+                            elasticLoadBalancer.setStackId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1622697516:
+                        if (fieldName.equals("LayerId")) {
+                            context.nextToken();
+                            elasticLoadBalancer.setLayerId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 82856900:
+                        if (fieldName.equals("VpcId")) {
+                            context.nextToken();
+                            elasticLoadBalancer.setVpcId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -739594868:
+                        if (fieldName.equals("AvailabilityZones")) {
+                            context.nextToken();
+                            elasticLoadBalancer
+                                    .setAvailabilityZones(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1917427205:
+                        if (fieldName.equals("SubnetIds")) {
+                            context.nextToken();
+                            elasticLoadBalancer
+                                    .setSubnetIds(new ListUnmarshaller<String>(context
+                                            .getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -2075879921:
+                        if (fieldName.equals("Ec2InstanceIds")) {
+                            context.nextToken();
+                            elasticLoadBalancer
+                                    .setEc2InstanceIds(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
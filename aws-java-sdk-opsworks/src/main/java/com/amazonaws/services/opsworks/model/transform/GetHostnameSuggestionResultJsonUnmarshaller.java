@@ -53,15 +53,24 @@ public class GetHostnameSuggestionResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("LayerId", targetDepth)) {
-                    context.nextToken();
-                    getHostnameSuggestionResult.setLayerId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Hostname", targetDepth)) {
-                    context.nextToken();
-                    getHostnameSuggestionResult.setHostname(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1622697516:
+                        if (fieldName.equals("LayerId")) {
+                            context.nextToken();
+                            getHostnameSuggestionResult.setLayerId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -235159469:
+                        if (fieldName.equals("Hostname")) {
+                            context.nextToken();
+                            getHostnameSuggestionResult.setHostname(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,11 +53,18 @@ public class GrantAccessResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TemporaryCredential", targetDepth)) {
-                    context.nextToken();
-                    grantAccessResult
-                            .setTemporaryCredential(TemporaryCredentialJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 393288040:
+                        if (fieldName.equals("TemporaryCredential")) {
+                            context.nextToken();
+                            grantAccessResult
+                                    .setTemporaryCredential(TemporaryCredentialJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
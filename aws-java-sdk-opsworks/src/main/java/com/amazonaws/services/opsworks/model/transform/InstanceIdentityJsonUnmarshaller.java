@@ -53,15 +53,24 @@ public class InstanceIdentityJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Document", targetDepth)) {
-                    context.nextToken();
-                    instanceIdentity.setDocument(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Signature", targetDepth)) {
-                    context.nextToken();
-                    instanceIdentity.setSignature(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 926364987:
+                        if (fieldName.equals("Document")) {
+                            context.nextToken();
+                            instanceIdentity.setDocument(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1217415016:
+                        if (fieldName.equals("Signature")) {
+                            context.nextToken();
+                            instanceIdentity.setSignature(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,210 +53,292 @@ public class InstanceJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AgentVersion", targetDepth)) {
-                    context.nextToken();
-                    instance.setAgentVersion(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("AmiId", targetDepth)) {
-                    context.nextToken();
-                    instance.setAmiId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Architecture", targetDepth)) {
-                    context.nextToken();
-                    instance.setArchitecture(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("AutoScalingType", targetDepth)) {
-                    context.nextToken();
-                    instance.setAutoScalingType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("AvailabilityZone", targetDepth)) {
-                    context.nextToken();
-                    instance.setAvailabilityZone(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("BlockDeviceMappings", targetDepth)) {
-                    context.nextToken();
-                    instance.setBlockDeviceMappings(new ListUnmarshaller<BlockDeviceMapping>(
-                            BlockDeviceMappingJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("CreatedAt", targetDepth)) {
-                    context.nextToken();
-                    instance.setCreatedAt(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("EbsOptimized", targetDepth)) {
-                    context.nextToken();
-                    instance.setEbsOptimized(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("Ec2InstanceId", targetDepth)) {
-                    context.nextToken();
-                    instance.setEc2InstanceId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("EcsClusterArn", targetDepth)) {
-                    context.nextToken();
-                    instance.setEcsClusterArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("EcsContainerInstanceArn",
-                        targetDepth)) {
-                    context.nextToken();
-                    instance.setEcsContainerInstanceArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ElasticIp", targetDepth)) {
-                    context.nextToken();
-                    instance.setElasticIp(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Hostname", targetDepth)) {
-                    context.nextToken();
-                    instance.setHostname(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("InfrastructureClass", targetDepth)) {
-                    context.nextToken();
-                    instance.setInfrastructureClass(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstallUpdatesOnBoot", targetDepth)) {
-                    context.nextToken();
-                    instance.setInstallUpdatesOnBoot(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceId", targetDepth)) {
-                    context.nextToken();
-                    instance.setInstanceId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceProfileArn", targetDepth)) {
-                    context.nextToken();
-                    instance.setInstanceProfileArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceType", targetDepth)) {
-                    context.nextToken();
-                    instance.setInstanceType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("LastServiceErrorId", targetDepth)) {
-                    context.nextToken();
-                    instance.setLastServiceErrorId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("LayerIds", targetDepth)) {
-                    context.nextToken();
-                    instance.setLayerIds(new ListUnmarshaller<String>(context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("Os", targetDepth)) {
-                    context.nextToken();
-                    instance.setOs(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Platform", targetDepth)) {
-                    context.nextToken();
-                    instance.setPlatform(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("PrivateDns", targetDepth)) {
-                    context.nextToken();
-                    instance.setPrivateDns(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PrivateIp", targetDepth)) {
-                    context.nextToken();
-                    instance.setPrivateIp(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("PublicDns", targetDepth)) {
-                    context.nextToken();
-                    instance.setPublicDns(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("PublicIp", targetDepth)) {
-                    context.nextToken();
-                    instance.setPublicIp(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("RegisteredBy", targetDepth)) {
-                    context.nextToken();
-                    instance.setRegisteredBy(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ReportedAgentVersion", targetDepth)) {
-                    context.nextToken();
-                    instance.setReportedAgentVersion(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ReportedOs", targetDepth)) {
-                    context.nextToken();
-                    instance.setReportedOs(ReportedOsJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("RootDeviceType", targetDepth)) {
-                    context.nextToken();
-                    instance.setRootDeviceType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("RootDeviceVolumeId", targetDepth)) {
-                    context.nextToken();
-                    instance.setRootDeviceVolumeId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("SecurityGroupIds", targetDepth)) {
-                    context.nextToken();
-                    instance.setSecurityGroupIds(new ListUnmarshaller<String>(
-                            context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("SshHostDsaKeyFingerprint",
-                        targetDepth)) {
-                    context.nextToken();
-                    instance.setSshHostDsaKeyFingerprint(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SshHostRsaKeyFingerprint",
-                        targetDepth)) {
-                    context.nextToken();
-                    instance.setSshHostRsaKeyFingerprint(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SshKeyName", targetDepth)) {
-                    context.nextToken();
-                    instance.setSshKeyName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StackId", targetDepth)) {
-                    context.nextToken();
-                    instance.setStackId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    instance.setStatus(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("SubnetId", targetDepth)) {
-                    context.nextToken();
-                    instance.setSubnetId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Tenancy", targetDepth)) {
-                    context.nextToken();
-                    instance.setTenancy(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("VirtualizationType", targetDepth)) {
-                    context.nextToken();
-                    instance.setVirtualizationType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2092320307:
+                        if (fieldName.equals("AgentVersion")) {
+                            context.nextToken();
+                            instance.setAgentVersion(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 63379352:
+                        if (fieldName.equals("AmiId")) {
+                            context.nextToken();
+                            instance.setAmiId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1003994483:
+                        if (fieldName.equals("Architecture")) {
+                            context.nextToken();
+                            instance.setArchitecture(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1477881326:
+                        if (fieldName.equals("AutoScalingType")) {
+                            context.nextToken();
+                            instance.setAutoScalingType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1777257415:
+                        if (fieldName.equals("AvailabilityZone")) {
+                            context.nextToken();
+                            instance.setAvailabilityZone(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1952492456:
+                        if (fieldName.equals("BlockDeviceMappings")) {
+                            context.nextToken();
+                            instance.setBlockDeviceMappings(new ListUnmarshaller<BlockDeviceMapping>(
+                                    BlockDeviceMappingJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1692627685:
+                        if (fieldName.equals("CreatedAt")) {
+                            context.nextToken();
+                            instance.setCreatedAt(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1262552463:
+                        if (fieldName.equals("EbsOptimized")) {
+                            context.nextToken();
+                            instance.setEbsOptimized(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 71583460:
+                        if (fieldName.equals("Ec2InstanceId")) {
+                            context.nextToken();
+                            instance.setEc2InstanceId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1427909800:
+                        if (fieldName.equals("EcsClusterArn")) {
+                            context.nextToken();
+                            instance.setEcsClusterArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1261162844:
+                        if (fieldName.equals("EcsContainerInstanceArn")) {
+                            context.nextToken();
+                            instance.setEcsContainerInstanceArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1619100996:
+                        if (fieldName.equals("ElasticIp")) {
+                            context.nextToken();
+                            instance.setElasticIp(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -235159469:
+                        if (fieldName.equals("Hostname")) {
+                            context.nextToken();
+                            instance.setHostname(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 583174517:
+                        if (fieldName.equals("InfrastructureClass")) {
+                            context.nextToken();
+                            instance.setInfrastructureClass(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1259752160:
+                        if (fieldName.equals("InstallUpdatesOnBoot")) {
+                            context.nextToken();
+                            instance.setInstallUpdatesOnBoot(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case -1399478096:
+                        if (fieldName.equals("InstanceId")) {
+                            context.nextToken();
+                            instance.setInstanceId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1058676087:
+                        if (fieldName.equals("InstanceProfileArn")) {
+                            context.nextToken();
+                            instance.setInstanceProfileArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -573335153:
+                        if (fieldName.equals("InstanceType")) {
+                            context.nextToken();
+                            instance.setInstanceType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -365092572:
+                        if (fieldName.equals("LastServiceErrorId")) {
+                            context.nextToken();
+                            instance.setLastServiceErrorId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1235984441:
+                        if (fieldName.equals("LayerIds")) {
+                            context.nextToken();
+                            instance.setLayerIds(new ListUnmarshaller<String>(context
+                                    .getUnmarshaller(String.class)).unmarshall(context));
+                        }
+                        break;
+                    case 2564:
+                        if (fieldName.equals("Os")) {
+                            context.nextToken();
+                            instance.setOs(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1939328147:
+                        if (fieldName.equals("Platform")) {
+                            context.nextToken();
+                            instance.setPlatform(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 117387462:
+                        if (fieldName.equals("PrivateDns")) {
+                            context.nextToken();
+                            instance.setPrivateDns(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 419428842:
+                        if (fieldName.equals("PrivateIp")) {
+                            context.nextToken();
+                            instance.setPrivateIp(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -844106272:
+                        if (fieldName.equals("PublicDns")) {
+                            context.nextToken();
+                            instance.setPublicDns(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1358244240:
+                        if (fieldName.equals("PublicIp")) {
+                            context.nextToken();
+                            instance.setPublicIp(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1542921575:
+                        if (fieldName.equals("RegisteredBy")) {
+                            context.nextToken();
+                            instance.setRegisteredBy(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1045412518:
+                        if (fieldName.equals("ReportedAgentVersion")) {
+                            context.nextToken();
+                            instance.setReportedAgentVersion(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -369630665:
+                        if (fieldName.equals("ReportedOs")) {
+                            context.nextToken();
+                            instance.setReportedOs(ReportedOsJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 920911186:
+                        if (fieldName.equals("RootDeviceType")) {
+                            context.nextToken();
+                            instance.setRootDeviceType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1205455891:
+                        if (fieldName.equals("RootDeviceVolumeId")) {
+                            context.nextToken();
+                            instance.setRootDeviceVolumeId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1460929337:
+                        if (fieldName.equals("SecurityGroupIds")) {
+                            context.nextToken();
+                            instance.setSecurityGroupIds(new ListUnmarshaller<String>(
+                                    context.getUnmarshaller(String.class))
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -423322233:
+                        if (fieldName.equals("SshHostDsaKeyFingerprint")) {
+                            context.nextToken();
+                            instance.setSshHostDsaKeyFingerprint(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1343144341:
+                        if (fieldName.equals("SshHostRsaKeyFingerprint")) {
+                            context.nextToken();
+                            instance.setSshHostRsaKeyFingerprint(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 883073666:
+                        if (fieldName.equals("SshKeyName")) {
+                            context.nextToken();
+                            instance.setSshKeyName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -232988253:
+                        if (fieldName.equals("StackId")) {
+                            context.nextToken();
+                            instance.setStackId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1808614382:
+                        if (fieldName.equals("Status")) {
+                            context.nextToken();
+                            instance.setStatus(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -2001515144:
+                        if (fieldName.equals("SubnetId")) {
+                            context.nextToken();
+                            instance.setSubnetId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 237028064:
+                        if (fieldName.equals("Tenancy")) {
+                            context.nextToken();
+                            instance.setTenancy(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1423265267:
+                        if (fieldName.equals("VirtualizationType")) {
+                            context.nextToken();
+                            instance.setVirtualizationType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
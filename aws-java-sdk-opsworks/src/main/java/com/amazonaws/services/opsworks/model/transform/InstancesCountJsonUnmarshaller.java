@@ -53,100 +53,143 @@ public class InstancesCountJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Assigning", targetDepth)) {
-                    context.nextToken();
-                    instancesCount.setAssigning(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Booting", targetDepth)) {
-                    context.nextToken();
-                    instancesCount.setBooting(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("ConnectionLost", targetDepth)) {
-                    context.nextToken();
-                    instancesCount.setConnectionLost(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Deregistering", targetDepth)) {
-                    context.nextToken();
-                    instancesCount.setDeregistering(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Online", targetDepth)) {
-                    context.nextToken();
-                    instancesCount.setOnline(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Pending", targetDepth)) {
-                    context.nextToken();
-                    instancesCount.setPending(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Rebooting", targetDepth)) {
-                    context.nextToken();
-                    instancesCount.setRebooting(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Registered", targetDepth)) {
-                    context.nextToken();
-                    instancesCount.setRegistered(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Registering", targetDepth)) {
-                    context.nextToken();
-                    instancesCount.setRegistering(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Requested", targetDepth)) {
-                    context.nextToken();
-                    instancesCount.setRequested(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("RunningSetup", targetDepth)) {
-                    context.nextToken();
-                    instancesCount.setRunningSetup(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("SetupFailed", targetDepth)) {
-                    context.nextToken();
-                    instancesCount.setSetupFailed(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("ShuttingDown", targetDepth)) {
-                    context.nextToken();
-                    instancesCount.setShuttingDown(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("StartFailed", targetDepth)) {
-                    context.nextToken();
-                    instancesCount.setStartFailed(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Stopped", targetDepth)) {
-                    context.nextToken();
-                    instancesCount.setStopped(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Stopping", targetDepth)) {
-                    context.nextToken();
-                    instancesCount.setStopping(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Terminated", targetDepth)) {
-                    context.nextToken();
-                    instancesCount.setTerminated(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Terminating", targetDepth)) {
-                    context.nextToken();
-                    instancesCount.setTerminating(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Unassigning", targetDepth)) {
-                    context.nextToken();
-                    instancesCount.setUnassigning(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -872424333:
+                        if (fieldName.equals("Assigning")) {
+                            context.nextToken();
+                            instancesCount.setAssigning(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 1729607568:
+                        if (fieldName.equals("Booting")) {
+                            context.nextToken();
+                            instancesCount.setBooting(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 267970370:
+                        if (fieldName.equals("ConnectionLost")) {
+                            context.nextToken();
+                            instancesCount.setConnectionLost(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -457393378:
+                        if (fieldName.equals("Deregistering")) {
+                            context.nextToken();
+                            instancesCount.setDeregistering(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -1928355213:
+                        if (fieldName.equals("Online")) {
+                            context.nextToken();
+                            instancesCount.setOnline(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 982065527:
+                        if (fieldName.equals("Pending")) {
+                            context.nextToken();
+                            instancesCount.setPending(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 2107728381:
+                        if (fieldName.equals("Rebooting")) {
+                            context.nextToken();
+                            instancesCount.setRebooting(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 123533986:
+                        if (fieldName.equals("Registered")) {
+                            context.nextToken();
+                            instancesCount.setRegistered(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -465409473:
+                        if (fieldName.equals("Registering")) {
+                            context.nextToken();
+                            instancesCount.setRegistering(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -1597065394:
+                        if (fieldName.equals("Requested")) {
+                            context.nextToken();
+                            instancesCount.setRequested(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 993019934:
+                        if (fieldName.equals("RunningSetup")) {
+                            context.nextToken();
+                            instancesCount.setRunningSetup(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -239021830:
+                        if (fieldName.equals("SetupFailed")) {
+                            context.nextToken();
+                            instancesCount.setSetupFailed(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 1443627140:
+                        if (fieldName.equals("ShuttingDown")) {
+                            context.nextToken();
+                            instancesCount.setShuttingDown(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -588276961:
+                        if (fieldName.equals("StartFailed")) {
+                            context.nextToken();
+                            instancesCount.setStartFailed(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -219666003:
+                        if (fieldName.equals("Stopped")) {
+                            context.nextToken();
+                            instancesCount.setStopped(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 1780292756:
+                        if (fieldName.equals("Stopping")) {
+                            context.nextToken();
+                            instancesCount.setStopping(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 684649027:
+                        if (fieldName.equals("Terminated")) {
+                            context.nextToken();
+                            instancesCount.setTerminated(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -250712386:
+                        if (fieldName.equals("Terminating")) {
+                            context.nextToken();
+                            instancesCount.setTerminating(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -1140084230:
+                        if (fieldName.equals("Unassigning")) {
+                            context.nextToken();
+                            instancesCount.setUnassigning(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -52,120 +52,162 @@ public class LayerJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StackId", targetDepth)) {
-                    context.nextToken();
-                    layer.setStackId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("LayerId", targetDepth)) {
-                    context.nextToken();
-                    layer.setLayerId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Type", targetDepth)) {
-                    context.nextToken();
-                    layer.setType(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    layer.setName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Shortname", targetDepth)) {
-                    context.nextToken();
-                    layer.setShortname(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Attributes", targetDepth)) {
-                    context.nextToken();
-                    layer.setAttributes(new MapUnmarshaller<String, String>(
-                            context.getUnmarshaller(String.class), context
-                                    .getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("CustomInstanceProfileArn",
-                        targetDepth)) {
-                    context.nextToken();
-                    layer.setCustomInstanceProfileArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("CustomJson", targetDepth)) {
-                    context.nextToken();
-                    layer.setCustomJson(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("CustomSecurityGroupIds",
-                        targetDepth)) {
-                    context.nextToken();
-                    layer.setCustomSecurityGroupIds(new ListUnmarshaller<String>(
-                            context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("DefaultSecurityGroupNames",
-                        targetDepth)) {
-                    context.nextToken();
-                    layer.setDefaultSecurityGroupNames(new ListUnmarshaller<String>(
-                            context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Packages", targetDepth)) {
-                    context.nextToken();
-                    layer.setPackages(new ListUnmarshaller<String>(context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("VolumeConfigurations", targetDepth)) {
-                    context.nextToken();
-                    layer.setVolumeConfigurations(new ListUnmarshaller<VolumeConfiguration>(
-                            VolumeConfigurationJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("EnableAutoHealing", targetDepth)) {
-                    context.nextToken();
-                    layer.setEnableAutoHealing(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("AutoAssignElasticIps", targetDepth)) {
-                    context.nextToken();
-                    layer.setAutoAssignElasticIps(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("AutoAssignPublicIps", targetDepth)) {
-                    context.nextToken();
-                    layer.setAutoAssignPublicIps(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("DefaultRecipes", targetDepth)) {
-                    context.nextToken();
-                    layer.setDefaultRecipes(RecipesJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("CustomRecipes", targetDepth)) {
-                    context.nextToken();
-                    layer.setCustomRecipes(RecipesJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("CreatedAt", targetDepth)) {
-                    context.nextToken();
-                    layer.setCreatedAt(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("InstallUpdatesOnBoot", targetDepth)) {
-                    context.nextToken();
-                    layer.setInstallUpdatesOnBoot(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("UseEbsOptimizedInstances",
-                        targetDepth)) {
-                    context.nextToken();
-                    layer.setUseEbsOptimizedInstances(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("LifecycleEventConfiguration",
-                        targetDepth)) {
-                    context.nextToken();
-                    layer.setLifecycleEventConfiguration(LifecycleEventConfigurationJsonUnmarshaller
-                            .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -232988253:
+                        if (fieldName.equals("StackId")) {
+                            context.nextToken();
+                            layer.setStackId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1622697516:
+                        if (fieldName.equals("LayerId")) {
+                            context.nextToken();
+                            layer.setLayerId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 2622298:
+                        if (fieldName.equals("Type")) {
+                            context.nextToken();
+                            layer.setType(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            layer.setName(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -23297817:
+                        if (fieldName.equals("Shortname")) {
+                            context.nextToken();
+                            layer.setShortname(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1895856777:
+                        if (fieldName.equals("Attributes")) {
+                            context.nextToken();
+                            layer.setAttributes(new MapUnmarshaller<String, String>(
+                                    context.getUnmarshaller(String.class), context
+                                            .getUnmarshaller(String.class))
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1038944294:
+                        if (fieldName.equals("CustomInstanceProfileArn")) {
+                            context.nextToken();
+                            layer.setCustomInstanceProfileArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 411478041:
+                        if (fieldName.equals("CustomJson")) {
+                            context.nextToken();
+                            layer.setCustomJson(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 544749770:
+                        if (fieldName.equals("CustomSecurityGroupIds")) {
+                            context.nextToken();
+                            layer.setCustomSecurityGroupIds(new ListUnmarshaller<String>(
+                                    context.getUnmarshaller(String.class))
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1616334998:
+                        if (fieldName.equals("DefaultSecurityGroupNames")) {
+                            context.nextToken();
+                            layer.setDefaultSecurityGroupNames(new ListUnmarshaller<String>(
+                                    context.getUnmarshaller(String.class))
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 815511821:
+                        if (fieldName.equals("Packages")) {
+                            context.nextToken();
+                            layer.setPackages(new ListUnmarshaller<String>(context
+                                    .getUnmarshaller(String.class)).unmarshall(context));
+                        }
+                        break;
+                    case -23421929:
+                        if (fieldName.equals("VolumeConfigurations")) {
+                            context.nextToken();
+                            layer.setVolumeConfigurations(new ListUnmarshaller<VolumeConfiguration>(
+                                    VolumeConfigurationJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 365439656:
+                        if (fieldName.equals("EnableAutoHealing")) {
+                            context.nextToken();
+                            layer.setEnableAutoHealing(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 734025557:
+                        if (fieldName.equals("AutoAssignElasticIps")) {
+                            context.nextToken();
+                            layer.setAutoAssignElasticIps(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case -1418079483:
+                        if (fieldName.equals("AutoAssignPublicIps")) {
+                            context.nextToken();
+                            layer.setAutoAssignPublicIps(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 2084540228:
+                        if (fieldName.equals("DefaultRecipes")) {
+                            context.nextToken();
+                            layer.setDefaultRecipes(RecipesJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1396176940:
+                        if (fieldName.equals("CustomRecipes")) {
+                            context.nextToken();
+                            layer.setCustomRecipes(RecipesJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1692627685:
+                        if (fieldName.equals("CreatedAt")) {
+                            context.nextToken();
+                            layer.setCreatedAt(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1259752160:
+                        if (fieldName.equals("InstallUpdatesOnBoot")) {
+                            context.nextToken();
+                            layer.setInstallUpdatesOnBoot(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case -626902010:
+                        if (fieldName.equals("UseEbsOptimizedInstances")) {
+                            context.nextToken();
+                            layer.setUseEbsOptimizedInstances(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case -1612840602:
+                        if (fieldName.equals("LifecycleEventConfiguration")) {
+                            context.nextToken();
+                            layer.setLifecycleEventConfiguration(LifecycleEventConfigurationJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
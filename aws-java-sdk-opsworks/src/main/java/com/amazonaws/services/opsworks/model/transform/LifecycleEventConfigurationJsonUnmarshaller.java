@@ -53,11 +53,18 @@ public class LifecycleEventConfigurationJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Shutdown", targetDepth)) {
-                    context.nextToken();
-                    lifecycleEventConfiguration
-                            .setShutdown(ShutdownEventConfigurationJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -104699274:
+                        if (fieldName.equals("Shutdown")) {
+                            context.nextToken();
+                            lifecycleEventConfiguration
+                                    .setShutdown(ShutdownEventConfigurationJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,28 +54,41 @@ public class LoadBasedAutoScalingConfigurationJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("LayerId", targetDepth)) {
-                    context.nextToken();
-                    loadBasedAutoScalingConfiguration.setLayerId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Enable", targetDepth)) {
-                    context.nextToken();
-                    loadBasedAutoScalingConfiguration
-                            .setEnable(context.getUnmarshaller(Boolean.class)
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("UpScaling", targetDepth)) {
-                    context.nextToken();
-                    loadBasedAutoScalingConfiguration
-                            .setUpScaling(AutoScalingThresholdsJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("DownScaling", targetDepth)) {
-                    context.nextToken();
-                    loadBasedAutoScalingConfiguration
-                            .setDownScaling(AutoScalingThresholdsJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1622697516:
+                        if (fieldName.equals("LayerId")) {
+                            context.nextToken();
+                            loadBasedAutoScalingConfiguration.setLayerId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2079986083:
+                        if (fieldName.equals("Enable")) {
+                            context.nextToken();
+                            loadBasedAutoScalingConfiguration
+                                    .setEnable(context.getUnmarshaller(Boolean.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -2107961268:
+                        if (fieldName.equals("UpScaling")) {
+                            context.nextToken();
+                            loadBasedAutoScalingConfiguration
+                                    .setUpScaling(AutoScalingThresholdsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -599327643:
+                        if (fieldName.equals("DownScaling")) {
+                            context.nextToken();
+                            loadBasedAutoScalingConfiguration
+                                    .setDownScaling(AutoScalingThresholdsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,30 +53,45 @@ public class PermissionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StackId", targetDepth)) {
-                    context.nextToken();
-                    permission.setStackId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("IamUserArn", targetDepth)) {
-                    context.nextToken();
-                    permission.setIamUserArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("AllowSsh", targetDepth)) {
-                    context.nextToken();
-                    permission.setAllowSsh(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("AllowSudo", targetDepth)) {
-                    context.nextToken();
-                    permission.setAllowSudo(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("Level", targetDepth)) {
-                    context.nextToken();
-                    permission.setLevel(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -232988253:
+                        if (fieldName.equals("StackId")) {
+                            context.nextToken();
+                            permission.setStackId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1815249565:
+                        if (fieldName.equals("IamUserArn")) {
+                            context.nextToken();
+                            permission.setIamUserArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1877759519:
+                        if (fieldName.equals("AllowSsh")) {
+                            context.nextToken();
+                            permission.setAllowSsh(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case -1918995146:
+                        if (fieldName.equals("AllowSudo")) {
+                            context.nextToken();
+                            permission.setAllowSudo(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 73313124:
+                        if (fieldName.equals("Level")) {
+                            context.nextToken();
+                            permission.setLevel(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,70 +53,101 @@ public class RaidArrayJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RaidArrayId", targetDepth)) {
-                    context.nextToken();
-                    raidArray.setRaidArrayId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceId", targetDepth)) {
-                    context.nextToken();
-                    raidArray.setInstanceId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    raidArray.setName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("RaidLevel", targetDepth)) {
-                    context.nextToken();
-                    raidArray.setRaidLevel(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("NumberOfDisks", targetDepth)) {
-                    context.nextToken();
-                    raidArray.setNumberOfDisks(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Size", targetDepth)) {
-                    context.nextToken();
-                    raidArray.setSize(context.getUnmarshaller(Integer.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Device", targetDepth)) {
-                    context.nextToken();
-                    raidArray.setDevice(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("MountPoint", targetDepth)) {
-                    context.nextToken();
-                    raidArray.setMountPoint(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("AvailabilityZone", targetDepth)) {
-                    context.nextToken();
-                    raidArray.setAvailabilityZone(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedAt", targetDepth)) {
-                    context.nextToken();
-                    raidArray.setCreatedAt(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StackId", targetDepth)) {
-                    context.nextToken();
-                    raidArray.setStackId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("VolumeType", targetDepth)) {
-                    context.nextToken();
-                    raidArray.setVolumeType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Iops", targetDepth)) {
-                    context.nextToken();
-                    raidArray.setIops(context.getUnmarshaller(Integer.class)
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -594670006:
+                        if (fieldName.equals("RaidArrayId")) {
+                            context.nextToken();
+                            raidArray.setRaidArrayId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1399478096:
+                        if (fieldName.equals("InstanceId")) {
+                            context.nextToken();
+                            raidArray.setInstanceId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            raidArray.setName(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1001334266:
+                        if (fieldName.equals("RaidLevel")) {
+                            context.nextToken();
+                            raidArray.setRaidLevel(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -538308810:
+                        if (fieldName.equals("NumberOfDisks")) {
+                            context.nextToken();
+                            raidArray.setNumberOfDisks(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 2577441:
+                        if (fieldName.equals("Size")) {
+                            context.nextToken();
+                            raidArray.setSize(context.getUnmarshaller(Integer.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 2043677302:
+                        if (fieldName.equals("Device")) {
+                            context.nextToken();
+                            raidArray.setDevice(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1020809961:
+                        if (fieldName.equals("MountPoint")) {
+                            context.nextToken();
+                            raidArray.setMountPoint(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1777257415:
+                        if (fieldName.equals("AvailabilityZone")) {
+                            context.nextToken();
+                            raidArray.setAvailabilityZone(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1692627685:
+                        if (fieldName.equals("CreatedAt")) {
+                            context.nextToken();
+                            raidArray.setCreatedAt(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -232988253:
+                        if (fieldName.equals("StackId")) {
+                            context.nextToken();
+                            raidArray.setStackId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 440904084:
+                        if (fieldName.equals("VolumeType")) {
+                            context.nextToken();
+                            raidArray.setVolumeType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2285001:
+                        if (fieldName.equals("Iops")) {
+                            context.nextToken();
+                            raidArray.setIops(context.getUnmarshaller(Integer.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
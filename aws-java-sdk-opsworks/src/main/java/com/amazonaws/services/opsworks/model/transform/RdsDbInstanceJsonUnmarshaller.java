@@ -53,50 +53,73 @@ public class RdsDbInstanceJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RdsDbInstanceArn", targetDepth)) {
-                    context.nextToken();
-                    rdsDbInstance.setRdsDbInstanceArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("DbInstanceIdentifier", targetDepth)) {
-                    context.nextToken();
-                    rdsDbInstance.setDbInstanceIdentifier(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DbUser", targetDepth)) {
-                    context.nextToken();
-                    rdsDbInstance.setDbUser(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("DbPassword", targetDepth)) {
-                    context.nextToken();
-                    rdsDbInstance.setDbPassword(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Region", targetDepth)) {
-                    context.nextToken();
-                    rdsDbInstance.setRegion(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Address", targetDepth)) {
-                    context.nextToken();
-                    rdsDbInstance.setAddress(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Engine", targetDepth)) {
-                    context.nextToken();
-                    rdsDbInstance.setEngine(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("StackId", targetDepth)) {
-                    context.nextToken();
-                    rdsDbInstance.setStackId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("MissingOnRds", targetDepth)) {
-                    context.nextToken();
-                    rdsDbInstance.setMissingOnRds(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 67010377:
+                        if (fieldName.equals("RdsDbInstanceArn")) {
+                            context.nextToken();
+                            rdsDbInstance.setRdsDbInstanceArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -463585188:
+                        if (fieldName.equals("DbInstanceIdentifier")) {
+                            context.nextToken();
+                            rdsDbInstance.setDbInstanceIdentifier(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2039933321:
+                        if (fieldName.equals("DbUser")) {
+                            context.nextToken();
+                            rdsDbInstance.setDbUser(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -233264807:
+                        if (fieldName.equals("DbPassword")) {
+                            context.nextToken();
+                            rdsDbInstance.setDbPassword(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1850928364:
+                        if (fieldName.equals("Region")) {
+                            context.nextToken();
+                            rdsDbInstance.setRegion(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 516961236:
+                        if (fieldName.equals("Address")) {
+                            context.nextToken();
+                            rdsDbInstance.setAddress(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2080171618:
+                        if (fieldName.equals("Engine")) {
+                            context.nextToken();
+                            rdsDbInstance.setEngine(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -232988253:
+                        if (fieldName.equals("StackId")) {
+                            context.nextToken();
+                            rdsDbInstance.setStackId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -997178244:
+                        if (fieldName.equals("MissingOnRds")) {
+                            context.nextToken();
+                            rdsDbInstance.setMissingOnRds(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
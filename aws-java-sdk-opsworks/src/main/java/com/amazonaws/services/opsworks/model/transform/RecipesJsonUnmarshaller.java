@@ -52,30 +52,45 @@ public class RecipesJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Setup", targetDepth)) {
-                    context.nextToken();
-                    recipes.setSetup(new ListUnmarshaller<String>(context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("Configure", targetDepth)) {
-                    context.nextToken();
-                    recipes.setConfigure(new ListUnmarshaller<String>(context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("Deploy", targetDepth)) {
-                    context.nextToken();
-                    recipes.setDeploy(new ListUnmarshaller<String>(context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("Undeploy", targetDepth)) {
-                    context.nextToken();
-                    recipes.setUndeploy(new ListUnmarshaller<String>(context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("Shutdown", targetDepth)) {
-                    context.nextToken();
-                    recipes.setShutdown(new ListUnmarshaller<String>(context
-                            .getUnmarshaller(String.class)).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 79776349:
+                        if (fieldName.equals("Setup")) {
+                            context.nextToken();
+                            recipes.setSetup(new ListUnmarshaller<String>(context
+                                    .getUnmarshaller(String.class)).unmarshall(context));
+                        }
+                        break;
+                    case 1199538886:
+                        if (fieldName.equals("Configure")) {
+                            context.nextToken();
+                            recipes.setConfigure(new ListUnmarshaller<String>(context
+                                    .getUnmarshaller(String.class)).unmarshall(context));
+                        }
+                        break;
+                    case 2043501831:
+                        if (fieldName.equals("Deploy")) {
+                            context.nextToken();
+                            recipes.setDeploy(new ListUnmarshaller<String>(context
+                                    .getUnmarshaller(String.class)).unmarshall(context));
+                        }
+                        break;
+                    case -384185120:
+                        if (fieldName.equals("Undeploy")) {
+                            context.nextToken();
+                            recipes.setUndeploy(new ListUnmarshaller<String>(context
+                                    .getUnmarshaller(String.class)).unmarshall(context));
+                        }
+                        break;
+                    case -104699274:
+                        if (fieldName.equals("Shutdown")) {
+                            context.nextToken();
+                            recipes.setShutdown(new ListUnmarshaller<String>(context
+                                    .getUnmarshaller(String.class)).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
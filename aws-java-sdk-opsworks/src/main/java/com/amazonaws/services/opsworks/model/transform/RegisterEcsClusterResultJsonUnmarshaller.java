@@ -53,10 +53,17 @@ public class RegisterEcsClusterResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("EcsClusterArn", targetDepth)) {
-                    context.nextToken();
-                    registerEcsClusterResult.setEcsClusterArn(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1427909800:
+                        if (fieldName.equals("EcsClusterArn")) {
+                            context.nextToken();
+                            registerEcsClusterResult.setEcsClusterArn(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,10 +53,17 @@ public class RegisterElasticIpResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ElasticIp", targetDepth)) {
-                    context.nextToken();
-                    registerElasticIpResult.setElasticIp(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1619100996:
+                        if (fieldName.equals("ElasticIp")) {
+                            context.nextToken();
+                            registerElasticIpResult.setElasticIp(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,10 +53,17 @@ public class RegisterVolumeResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("VolumeId", targetDepth)) {
-                    context.nextToken();
-                    registerVolumeResult.setVolumeId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1805126155:
+                        if (fieldName.equals("VolumeId")) {
+                            context.nextToken();
+                            registerVolumeResult.setVolumeId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,25 +53,38 @@ public class SelfUserProfileJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IamUserArn", targetDepth)) {
-                    context.nextToken();
-                    selfUserProfile.setIamUserArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    selfUserProfile.setName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("SshUsername", targetDepth)) {
-                    context.nextToken();
-                    selfUserProfile.setSshUsername(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("SshPublicKey", targetDepth)) {
-                    context.nextToken();
-                    selfUserProfile.setSshPublicKey(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1815249565:
+                        if (fieldName.equals("IamUserArn")) {
+                            context.nextToken();
+                            selfUserProfile.setIamUserArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            selfUserProfile.setName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 854903518:
+                        if (fieldName.equals("SshUsername")) {
+                            context.nextToken();
+                            selfUserProfile.setSshUsername(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1826287150:
+                        if (fieldName.equals("SshPublicKey")) {
+                            context.nextToken();
+                            selfUserProfile.setSshPublicKey(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,19 +53,27 @@ public class ShutdownEventConfigurationJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ExecutionTimeout", targetDepth)) {
-                    context.nextToken();
-                    shutdownEventConfiguration
-                            .setExecutionTimeout(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("DelayUntilElbConnectionsDrained",
-                        targetDepth)) {
-                    context.nextToken();
-                    shutdownEventConfiguration
-                            .setDelayUntilElbConnectionsDrained(context
-                                    .getUnmarshaller(Boolean.class).unmarshall(
-                                            context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1939665737:
+                        if (fieldName.equals("ExecutionTimeout")) {
+                            context.nextToken();
+                            shutdownEventConfiguration
+                                    .setExecutionTimeout(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 892023938:
+                        if (fieldName.equals("DelayUntilElbConnectionsDrained")) {
+                            context.nextToken();
+                            shutdownEventConfiguration
+                                    .setDelayUntilElbConnectionsDrained(context
+                                            .getUnmarshaller(Boolean.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
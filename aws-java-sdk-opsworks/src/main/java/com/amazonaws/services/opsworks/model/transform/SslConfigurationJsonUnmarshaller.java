@@ -53,20 +53,31 @@ public class SslConfigurationJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Certificate", targetDepth)) {
-                    context.nextToken();
-                    sslConfiguration.setCertificate(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("PrivateKey", targetDepth)) {
-                    context.nextToken();
-                    sslConfiguration.setPrivateKey(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Chain", targetDepth)) {
-                    context.nextToken();
-                    sslConfiguration.setChain(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -674698889:
+                        if (fieldName.equals("Certificate")) {
+                            context.nextToken();
+                            sslConfiguration.setCertificate(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 117393916:
+                        if (fieldName.equals("PrivateKey")) {
+                            context.nextToken();
+                            sslConfiguration.setPrivateKey(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 65070753:
+                        if (fieldName.equals("Chain")) {
+                            context.nextToken();
+                            sslConfiguration.setChain(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
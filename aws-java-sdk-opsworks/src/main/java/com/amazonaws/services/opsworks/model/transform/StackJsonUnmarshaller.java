@@ -52,122 +52,166 @@ public class StackJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StackId", targetDepth)) {
-                    context.nextToken();
-                    stack.setStackId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    stack.setName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Arn", targetDepth)) {
-                    context.nextToken();
-                    stack.setArn(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Region", targetDepth)) {
-                    context.nextToken();
-                    stack.setRegion(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("VpcId", targetDepth)) {
-                    context.nextToken();
-                    stack.setVpcId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Attributes", targetDepth)) {
-                    context.nextToken();
-                    stack.setAttributes(new MapUnmarshaller<String, String>(
-                            context.getUnmarshaller(String.class), context
-                                    .getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("ServiceRoleArn", targetDepth)) {
-                    context.nextToken();
-                    stack.setServiceRoleArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("DefaultInstanceProfileArn",
-                        targetDepth)) {
-                    context.nextToken();
-                    stack.setDefaultInstanceProfileArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("DefaultOs", targetDepth)) {
-                    context.nextToken();
-                    stack.setDefaultOs(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("HostnameTheme", targetDepth)) {
-                    context.nextToken();
-                    stack.setHostnameTheme(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DefaultAvailabilityZone",
-                        targetDepth)) {
-                    context.nextToken();
-                    stack.setDefaultAvailabilityZone(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("DefaultSubnetId", targetDepth)) {
-                    context.nextToken();
-                    stack.setDefaultSubnetId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("CustomJson", targetDepth)) {
-                    context.nextToken();
-                    stack.setCustomJson(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("ConfigurationManager", targetDepth)) {
-                    context.nextToken();
-                    stack.setConfigurationManager(StackConfigurationManagerJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ChefConfiguration", targetDepth)) {
-                    context.nextToken();
-                    stack.setChefConfiguration(ChefConfigurationJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("UseCustomCookbooks", targetDepth)) {
-                    context.nextToken();
-                    stack.setUseCustomCookbooks(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("UseOpsworksSecurityGroups",
-                        targetDepth)) {
-                    context.nextToken();
-                    stack.setUseOpsworksSecurityGroups(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("CustomCookbooksSource", targetDepth)) {
-                    context.nextToken();
-                    stack.setCustomCookbooksSource(SourceJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("DefaultSshKeyName", targetDepth)) {
-                    context.nextToken();
-                    stack.setDefaultSshKeyName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedAt", targetDepth)) {
-                    context.nextToken();
-                    stack.setCreatedAt(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context
-                        .testExpression("DefaultRootDeviceType", targetDepth)) {
-                    context.nextToken();
-                    stack.setDefaultRootDeviceType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("AgentVersion", targetDepth)) {
-                    context.nextToken();
-                    stack.setAgentVersion(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -232988253:
+                        if (fieldName.equals("StackId")) {
+                            context.nextToken();
+                            stack.setStackId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            stack.setName(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 66109:
+                        if (fieldName.equals("Arn")) {
+                            context.nextToken();
+                            stack.setArn(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1850928364:
+                        if (fieldName.equals("Region")) {
+                            context.nextToken();
+                            stack.setRegion(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 82856900:
+                        if (fieldName.equals("VpcId")) {
+                            context.nextToken();
+                            stack.setVpcId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1895856777:
+                        if (fieldName.equals("Attributes")) {
+                            context.nextToken();
+                            stack.setAttributes(new MapUnmarshaller<String, String>(
+                                    context.getUnmarshaller(String.class), context
+                                            .getUnmarshaller(String.class))
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1663648334:
+                        if (fieldName.equals("ServiceRoleArn")) {
+                            context.nextToken();
+                            stack.setServiceRoleArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2116643434:
+                        if (fieldName.equals("DefaultInstanceProfileArn")) {
+                            context.nextToken();
+                            stack.setDefaultInstanceProfileArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 501838821:
+                        if (fieldName.equals("DefaultOs")) {
+                            context.nextToken();
+                            stack.setDefaultOs(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1204748598:
+                        if (fieldName.equals("HostnameTheme")) {
+                            context.nextToken();
+                            stack.setHostnameTheme(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1954863080:
+                        if (fieldName.equals("DefaultAvailabilityZone")) {
+                            context.nextToken();
+                            stack.setDefaultAvailabilityZone(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1065088359:
+                        if (fieldName.equals("DefaultSubnetId")) {
+                            context.nextToken();
+                            stack.setDefaultSubnetId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 411478041:
+                        if (fieldName.equals("CustomJson")) {
+                            context.nextToken();
+                            stack.setCustomJson(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1729493513:
+                        if (fieldName.equals("ConfigurationManager")) {
+                            context.nextToken();
+                            stack.setConfigurationManager(StackConfigurationManagerJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -730258768:
+                        if (fieldName.equals("ChefConfiguration")) {
+                            context.nextToken();
+                            stack.setChefConfiguration(ChefConfigurationJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -160582774:
+                        if (fieldName.equals("UseCustomCookbooks")) {
+                            context.nextToken();
+                            stack.setUseCustomCookbooks(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 1592322987:
+                        if (fieldName.equals("UseOpsworksSecurityGroups")) {
+                            context.nextToken();
+                            stack.setUseOpsworksSecurityGroups(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case -1331835060:
+                        if (fieldName.equals("CustomCookbooksSource")) {
+                            context.nextToken();
+                            stack.setCustomCookbooksSource(SourceJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1153918109:
+                        if (fieldName.equals("DefaultSshKeyName")) {
+                            context.nextToken();
+                            stack.setDefaultSshKeyName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1692627685:
+                        if (fieldName.equals("CreatedAt")) {
+                            context.nextToken();
+                            stack.setCreatedAt(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 505454003:
+                        if (fieldName.equals("DefaultRootDeviceType")) {
+                            context.nextToken();
+                            stack.setDefaultRootDeviceType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2092320307:
+                        if (fieldName.equals("AgentVersion")) {
+                            context.nextToken();
+                            stack.setAgentVersion(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,16 +54,25 @@ public class TimeBasedAutoScalingConfigurationJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("InstanceId", targetDepth)) {
-                    context.nextToken();
-                    timeBasedAutoScalingConfiguration.setInstanceId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AutoScalingSchedule", targetDepth)) {
-                    context.nextToken();
-                    timeBasedAutoScalingConfiguration
-                            .setAutoScalingSchedule(WeeklyAutoScalingScheduleJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1399478096:
+                        if (fieldName.equals("InstanceId")) {
+                            context.nextToken();
+                            timeBasedAutoScalingConfiguration.setInstanceId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 248260975:
+                        if (fieldName.equals("AutoScalingSchedule")) {
+                            context.nextToken();
+                            timeBasedAutoScalingConfiguration
+                                    .setAutoScalingSchedule(WeeklyAutoScalingScheduleJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,30 +53,45 @@ public class UserProfileJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IamUserArn", targetDepth)) {
-                    context.nextToken();
-                    userProfile.setIamUserArn(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    userProfile.setName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("SshUsername", targetDepth)) {
-                    context.nextToken();
-                    userProfile.setSshUsername(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("SshPublicKey", targetDepth)) {
-                    context.nextToken();
-                    userProfile.setSshPublicKey(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("AllowSelfManagement", targetDepth)) {
-                    context.nextToken();
-                    userProfile.setAllowSelfManagement(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1815249565:
+                        if (fieldName.equals("IamUserArn")) {
+                            context.nextToken();
+                            userProfile.setIamUserArn(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            userProfile.setName(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 854903518:
+                        if (fieldName.equals("SshUsername")) {
+                            context.nextToken();
+                            userProfile.setSshUsername(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1826287150:
+                        if (fieldName.equals("SshPublicKey")) {
+                            context.nextToken();
+                            userProfile.setSshPublicKey(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1293371336:
+                        if (fieldName.equals("AllowSelfManagement")) {
+                            context.nextToken();
+                            userProfile.setAllowSelfManagement(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,36 +53,53 @@ public class VolumeConfigurationJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("MountPoint", targetDepth)) {
-                    context.nextToken();
-                    volumeConfiguration.setMountPoint(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("RaidLevel", targetDepth)) {
-                    context.nextToken();
-                    volumeConfiguration.setRaidLevel(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("NumberOfDisks", targetDepth)) {
-                    context.nextToken();
-                    volumeConfiguration
-                            .setNumberOfDisks(context.getUnmarshaller(
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1020809961:
+                        if (fieldName.equals("MountPoint")) {
+                            context.nextToken();
+                            volumeConfiguration.setMountPoint(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1001334266:
+                        if (fieldName.equals("RaidLevel")) {
+                            context.nextToken();
+                            volumeConfiguration.setRaidLevel(context.getUnmarshaller(
                                     Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Size", targetDepth)) {
-                    context.nextToken();
-                    volumeConfiguration.setSize(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeType", targetDepth)) {
-                    context.nextToken();
-                    volumeConfiguration.setVolumeType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Iops", targetDepth)) {
-                    context.nextToken();
-                    volumeConfiguration.setIops(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -538308810:
+                        if (fieldName.equals("NumberOfDisks")) {
+                            context.nextToken();
+                            volumeConfiguration
+                                    .setNumberOfDisks(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 2577441:
+                        if (fieldName.equals("Size")) {
+                            context.nextToken();
+                            volumeConfiguration.setSize(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 440904084:
+                        if (fieldName.equals("VolumeType")) {
+                            context.nextToken();
+                            volumeConfiguration.setVolumeType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2285001:
+                        if (fieldName.equals("Iops")) {
+                            context.nextToken();
+                            volumeConfiguration.setIops(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
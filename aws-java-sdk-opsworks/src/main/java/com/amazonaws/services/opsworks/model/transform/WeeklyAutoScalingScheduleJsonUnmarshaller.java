@@ -53,61 +53,80 @@ public class WeeklyAutoScalingScheduleJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Monday", targetDepth)) {
-                    context.nextToken();
-                    weeklyAutoScalingSchedule
-                            .setMonday(new MapUnmarshaller<String, String>(
-                                    context.getUnmarshaller(String.class),
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("Tuesday", targetDepth)) {
-                    context.nextToken();
-                    weeklyAutoScalingSchedule
-                            .setTuesday(new MapUnmarshaller<String, String>(
-                                    context.getUnmarshaller(String.class),
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("Wednesday", targetDepth)) {
-                    context.nextToken();
-                    weeklyAutoScalingSchedule
-                            .setWednesday(new MapUnmarshaller<String, String>(
-                                    context.getUnmarshaller(String.class),
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("Thursday", targetDepth)) {
-                    context.nextToken();
-                    weeklyAutoScalingSchedule
-                            .setThursday(new MapUnmarshaller<String, String>(
-                                    context.getUnmarshaller(String.class),
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("Friday", targetDepth)) {
-                    context.nextToken();
-                    weeklyAutoScalingSchedule
-                            .setFriday(new MapUnmarshaller<String, String>(
-                                    context.getUnmarshaller(String.class),
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("Saturday", targetDepth)) {
-                    context.nextToken();
-                    weeklyAutoScalingSchedule
-                            .setSaturday(new MapUnmarshaller<String, String>(
-                                    context.getUnmarshaller(String.class),
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("Sunday", targetDepth)) {
-                    context.nextToken();
-                    weeklyAutoScalingSchedule
-                            .setSunday(new MapUnmarshaller<String, String>(
-                                    context.getUnmarshaller(String.class),
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1984635600:
+                        if (fieldName.equals("Monday")) {
+                            context.nextToken();
+                            weeklyAutoScalingSchedule
+                                    .setMonday(new MapUnmarshaller<String, String>(
+                                            context.getUnmarshaller(String.class),
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 687309357:
+                        if (fieldName.equals("Tuesday")) {
+                            context.nextToken();
+                            weeklyAutoScalingSchedule
+                                    .setTuesday(new MapUnmarshaller<String, String>(
+                                            context.getUnmarshaller(String.class),
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -897468618:
+                        if (fieldName.equals("Wednesday")) {
+                            context.nextToken();
+                            weeklyAutoScalingSchedule
+                                    .setWednesday(new MapUnmarshaller<String, String>(
+                                            context.getUnmarshaller(String.class),
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1636699642:
+                        if (fieldName.equals("Thursday")) {
+                            context.nextToken();
+                            weeklyAutoScalingSchedule
+                                    .setThursday(new MapUnmarshaller<String, String>(
+                                            context.getUnmarshaller(String.class),
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 2112549247:
+                        if (fieldName.equals("Friday")) {
+                            context.nextToken();
+                            weeklyAutoScalingSchedule
+                                    .setFriday(new MapUnmarshaller<String, String>(
+                                            context.getUnmarshaller(String.class),
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -2049557543:
+                        if (fieldName.equals("Saturday")) {
+                            context.nextToken();
+                            weeklyAutoScalingSchedule
+                                    .setSaturday(new MapUnmarshaller<String, String>(
+                                            context.getUnmarshaller(String.class),
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1807319568:
+                        if (fieldName.equals("Sunday")) {
+                            context.nextToken();
+                            weeklyAutoScalingSchedule
+                                    .setSunday(new MapUnmarshaller<String, String>(
+                                            context.getUnmarshaller(String.class),
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
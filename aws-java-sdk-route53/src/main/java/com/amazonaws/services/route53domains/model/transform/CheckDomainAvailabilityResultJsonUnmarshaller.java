@@ -53,10 +53,17 @@ public class CheckDomainAvailabilityResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Availability", targetDepth)) {
-                    context.nextToken();
-                    checkDomainAvailabilityResult.setAvailability(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -2133104261:
+                        if (fieldName.equals("Availability")) {
+                            context.nextToken();
+                            checkDomainAvailabilityResult.setAvailability(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,77 +53,110 @@ public class ContactDetailJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FirstName", targetDepth)) {
-                    context.nextToken();
-                    contactDetail.setFirstName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("LastName", targetDepth)) {
-                    context.nextToken();
-                    contactDetail.setLastName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ContactType", targetDepth)) {
-                    context.nextToken();
-                    contactDetail.setContactType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("OrganizationName", targetDepth)) {
-                    context.nextToken();
-                    contactDetail.setOrganizationName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("AddressLine1", targetDepth)) {
-                    context.nextToken();
-                    contactDetail.setAddressLine1(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("AddressLine2", targetDepth)) {
-                    context.nextToken();
-                    contactDetail.setAddressLine2(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("City", targetDepth)) {
-                    context.nextToken();
-                    contactDetail.setCity(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("State", targetDepth)) {
-                    context.nextToken();
-                    contactDetail.setState(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CountryCode", targetDepth)) {
-                    context.nextToken();
-                    contactDetail.setCountryCode(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ZipCode", targetDepth)) {
-                    context.nextToken();
-                    contactDetail.setZipCode(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("PhoneNumber", targetDepth)) {
-                    context.nextToken();
-                    contactDetail.setPhoneNumber(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Email", targetDepth)) {
-                    context.nextToken();
-                    contactDetail.setEmail(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Fax", targetDepth)) {
-                    context.nextToken();
-                    contactDetail.setFax(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("ExtraParams", targetDepth)) {
-                    context.nextToken();
-                    contactDetail
-                            .setExtraParams(new ListUnmarshaller<ExtraParam>(
-                                    ExtraParamJsonUnmarshaller.getInstance())
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2136803643:
+                        if (fieldName.equals("FirstName")) {
+                            context.nextToken();
+                            contactDetail.setFirstName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1394955679:
+                        if (fieldName.equals("LastName")) {
+                            context.nextToken();
+                            contactDetail.setLastName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1708769114:
+                        if (fieldName.equals("ContactType")) {
+                            context.nextToken();
+                            contactDetail.setContactType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1623084670:
+                        if (fieldName.equals("OrganizationName")) {
+                            context.nextToken();
+                            contactDetail.setOrganizationName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 410742601:
+                        if (fieldName.equals("AddressLine1")) {
+                            context.nextToken();
+                            contactDetail.setAddressLine1(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 410742602:
+                        if (fieldName.equals("AddressLine2")) {
+                            context.nextToken();
+                            contactDetail.setAddressLine2(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2100619:
+                        if (fieldName.equals("City")) {
+                            context.nextToken();
+                            contactDetail.setCity(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 80204913:
+                        if (fieldName.equals("State")) {
+                            context.nextToken();
+                            contactDetail.setState(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 190801539:
+                        if (fieldName.equals("CountryCode")) {
+                            context.nextToken();
+                            contactDetail.setCountryCode(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1382553742:
+                        if (fieldName.equals("ZipCode")) {
+                            context.nextToken();
+                            contactDetail.setZipCode(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 474898999:
+                        if (fieldName.equals("PhoneNumber")) {
+                            context.nextToken();
+                            contactDetail.setPhoneNumber(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 67066748:
+                        if (fieldName.equals("Email")) {
+                            context.nextToken();
+                            contactDetail.setEmail(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 70397:
+                        if (fieldName.equals("Fax")) {
+                            context.nextToken();
+                            contactDetail.setFax(context.getUnmarshaller(String.class)
                                     .unmarshall(context));
+                        }
+                        break;
+                    case -1364863594:
+                        if (fieldName.equals("ExtraParams")) {
+                            context.nextToken();
+                            contactDetail
+                                    .setExtraParams(new ListUnmarshaller<ExtraParam>(
+                                            ExtraParamJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,25 +53,38 @@ public class DomainSummaryJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DomainName", targetDepth)) {
-                    context.nextToken();
-                    domainSummary.setDomainName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("AutoRenew", targetDepth)) {
-                    context.nextToken();
-                    domainSummary.setAutoRenew(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("TransferLock", targetDepth)) {
-                    context.nextToken();
-                    domainSummary.setTransferLock(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("Expiry", targetDepth)) {
-                    context.nextToken();
-                    domainSummary.setExpiry(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 749378959:
+                        if (fieldName.equals("DomainName")) {
+                            context.nextToken();
+                            domainSummary.setDomainName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -642149890:
+                        if (fieldName.equals("AutoRenew")) {
+                            context.nextToken();
+                            domainSummary.setAutoRenew(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case -1979426858:
+                        if (fieldName.equals("TransferLock")) {
+                            context.nextToken();
+                            domainSummary.setTransferLock(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 2089675091:
+                        if (fieldName.equals("Expiry")) {
+                            context.nextToken();
+                            domainSummary.setExpiry(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
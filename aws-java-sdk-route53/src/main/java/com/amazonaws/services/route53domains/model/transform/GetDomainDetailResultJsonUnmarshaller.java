@@ -53,123 +53,170 @@ public class GetDomainDetailResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DomainName", targetDepth)) {
-                    context.nextToken();
-                    getDomainDetailResult.setDomainName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Nameservers", targetDepth)) {
-                    context.nextToken();
-                    getDomainDetailResult
-                            .setNameservers(new ListUnmarshaller<Nameserver>(
-                                    NameserverJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("AutoRenew", targetDepth)) {
-                    context.nextToken();
-                    getDomainDetailResult.setAutoRenew(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("AdminContact", targetDepth)) {
-                    context.nextToken();
-                    getDomainDetailResult
-                            .setAdminContact(ContactDetailJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("RegistrantContact", targetDepth)) {
-                    context.nextToken();
-                    getDomainDetailResult
-                            .setRegistrantContact(ContactDetailJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("TechContact", targetDepth)) {
-                    context.nextToken();
-                    getDomainDetailResult
-                            .setTechContact(ContactDetailJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("AdminPrivacy", targetDepth)) {
-                    context.nextToken();
-                    getDomainDetailResult
-                            .setAdminPrivacy(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("RegistrantPrivacy", targetDepth)) {
-                    context.nextToken();
-                    getDomainDetailResult
-                            .setRegistrantPrivacy(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("TechPrivacy", targetDepth)) {
-                    context.nextToken();
-                    getDomainDetailResult
-                            .setTechPrivacy(context.getUnmarshaller(
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 749378959:
+                        if (fieldName.equals("DomainName")) {
+                            context.nextToken();
+                            getDomainDetailResult.setDomainName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -2134899579:
+                        if (fieldName.equals("Nameservers")) {
+                            context.nextToken();
+                            getDomainDetailResult
+                                    .setNameservers(new ListUnmarshaller<Nameserver>(
+                                            NameserverJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -642149890:
+                        if (fieldName.equals("AutoRenew")) {
+                            context.nextToken();
+                            getDomainDetailResult.setAutoRenew(context.getUnmarshaller(
                                     Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("RegistrarName", targetDepth)) {
-                    context.nextToken();
-                    getDomainDetailResult.setRegistrarName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("WhoIsServer", targetDepth)) {
-                    context.nextToken();
-                    getDomainDetailResult.setWhoIsServer(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RegistrarUrl", targetDepth)) {
-                    context.nextToken();
-                    getDomainDetailResult.setRegistrarUrl(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AbuseContactEmail", targetDepth)) {
-                    context.nextToken();
-                    getDomainDetailResult.setAbuseContactEmail(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AbuseContactPhone", targetDepth)) {
-                    context.nextToken();
-                    getDomainDetailResult.setAbuseContactPhone(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RegistryDomainId", targetDepth)) {
-                    context.nextToken();
-                    getDomainDetailResult.setRegistryDomainId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationDate", targetDepth)) {
-                    context.nextToken();
-                    getDomainDetailResult.setCreationDate(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("UpdatedDate", targetDepth)) {
-                    context.nextToken();
-                    getDomainDetailResult.setUpdatedDate(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("ExpirationDate", targetDepth)) {
-                    context.nextToken();
-                    getDomainDetailResult.setExpirationDate(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("Reseller", targetDepth)) {
-                    context.nextToken();
-                    getDomainDetailResult.setReseller(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("DnsSec", targetDepth)) {
-                    context.nextToken();
-                    getDomainDetailResult.setDnsSec(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("StatusList", targetDepth)) {
-                    context.nextToken();
-                    getDomainDetailResult
-                            .setStatusList(new ListUnmarshaller<String>(context
-                                    .getUnmarshaller(String.class))
-                                    .unmarshall(context));
+                        }
+                        break;
+                    case 796427761:
+                        if (fieldName.equals("AdminContact")) {
+                            context.nextToken();
+                            getDomainDetailResult
+                                    .setAdminContact(ContactDetailJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -2103759659:
+                        if (fieldName.equals("RegistrantContact")) {
+                            context.nextToken();
+                            getDomainDetailResult
+                                    .setRegistrantContact(ContactDetailJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1642409098:
+                        if (fieldName.equals("TechContact")) {
+                            context.nextToken();
+                            getDomainDetailResult
+                                    .setTechContact(ContactDetailJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -469596839:
+                        if (fieldName.equals("AdminPrivacy")) {
+                            context.nextToken();
+                            getDomainDetailResult
+                                    .setAdminPrivacy(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 925183037:
+                        if (fieldName.equals("RegistrantPrivacy")) {
+                            context.nextToken();
+                            getDomainDetailResult
+                                    .setRegistrantPrivacy(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 376384498:
+                        if (fieldName.equals("TechPrivacy")) {
+                            context.nextToken();
+                            getDomainDetailResult
+                                    .setTechPrivacy(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 1886369016:
+                        if (fieldName.equals("RegistrarName")) {
+                            context.nextToken();
+                            getDomainDetailResult.setRegistrarName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 390355659:
+                        if (fieldName.equals("WhoIsServer")) {
+                            context.nextToken();
+                            getDomainDetailResult.setWhoIsServer(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1186068126:
+                        if (fieldName.equals("RegistrarUrl")) {
+                            context.nextToken();
+                            getDomainDetailResult.setRegistrarUrl(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -887611358:
+                        if (fieldName.equals("AbuseContactEmail")) {
+                            context.nextToken();
+                            getDomainDetailResult.setAbuseContactEmail(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -877587980:
+                        if (fieldName.equals("AbuseContactPhone")) {
+                            context.nextToken();
+                            getDomainDetailResult.setAbuseContactPhone(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2028669052:
+                        if (fieldName.equals("RegistryDomainId")) {
+                            context.nextToken();
+                            getDomainDetailResult.setRegistryDomainId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1749851981:
+                        if (fieldName.equals("CreationDate")) {
+                            context.nextToken();
+                            getDomainDetailResult.setCreationDate(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case 1097602793:
+                        if (fieldName.equals("UpdatedDate")) {
+                            context.nextToken();
+                            getDomainDetailResult.setUpdatedDate(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case -1670804707:
+                        if (fieldName.equals("ExpirationDate")) {
+                            context.nextToken();
+                            getDomainDetailResult.setExpirationDate(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case -285929582:
+                        if (fieldName.equals("Reseller")) {
+                            context.nextToken();
+                            getDomainDetailResult.setReseller(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2051878536:
+                        if (fieldName.equals("DnsSec")) {
+                            context.nextToken();
+                            getDomainDetailResult.setDnsSec(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -2053732400:
+                        if (fieldName.equals("StatusList")) {
+                            context.nextToken();
+                            getDomainDetailResult
+                                    .setStatusList(new ListUnmarshaller<String>(context
+                                            .getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class ListDomainsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Domains", targetDepth)) {
-                    context.nextToken();
-                    listDomainsResult
-                            .setDomains(new ListUnmarshaller<DomainSummary>(
-                                    DomainSummaryJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("NextPageMarker", targetDepth)) {
-                    context.nextToken();
-                    listDomainsResult.setNextPageMarker(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -792765425:
+                        if (fieldName.equals("Domains")) {
+                            context.nextToken();
+                            listDomainsResult
+                                    .setDomains(new ListUnmarshaller<DomainSummary>(
+                                            DomainSummaryJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1234380004:
+                        if (fieldName.equals("NextPageMarker")) {
+                            context.nextToken();
+                            listDomainsResult.setNextPageMarker(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class ListOperationsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Operations", targetDepth)) {
-                    context.nextToken();
-                    listOperationsResult
-                            .setOperations(new ListUnmarshaller<OperationSummary>(
-                                    OperationSummaryJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextPageMarker", targetDepth)) {
-                    context.nextToken();
-                    listOperationsResult.setNextPageMarker(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1997648908:
+                        if (fieldName.equals("Operations")) {
+                            context.nextToken();
+                            listOperationsResult
+                                    .setOperations(new ListUnmarshaller<OperationSummary>(
+                                            OperationSummaryJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1234380004:
+                        if (fieldName.equals("NextPageMarker")) {
+                            context.nextToken();
+                            listOperationsResult.setNextPageMarker(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,12 +53,19 @@ public class ListTagsForDomainResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TagList", targetDepth)) {
-                    context.nextToken();
-                    listTagsForDomainResult
-                            .setTagList(new ListUnmarshaller<Tag>(
-                                    TagJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 115416888:
+                        if (fieldName.equals("TagList")) {
+                            context.nextToken();
+                            listTagsForDomainResult
+                                    .setTagList(new ListUnmarshaller<Tag>(
+                                            TagJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
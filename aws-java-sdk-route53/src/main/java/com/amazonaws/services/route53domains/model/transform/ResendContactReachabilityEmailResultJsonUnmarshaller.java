@@ -54,22 +54,33 @@ public class ResendContactReachabilityEmailResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("domainName", targetDepth)) {
-                    context.nextToken();
-                    resendContactReachabilityEmailResult.setDomainName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("emailAddress", targetDepth)) {
-                    context.nextToken();
-                    resendContactReachabilityEmailResult
-                            .setEmailAddress(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("isAlreadyVerified", targetDepth)) {
-                    context.nextToken();
-                    resendContactReachabilityEmailResult
-                            .setIsAlreadyVerified(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1244085905:
+                        if (fieldName.equals("domainName")) {
+                            context.nextToken();
+                            resendContactReachabilityEmailResult.setDomainName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1070931784:
+                        if (fieldName.equals("emailAddress")) {
+                            context.nextToken();
+                            resendContactReachabilityEmailResult
+                                    .setEmailAddress(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1016319158:
+                        if (fieldName.equals("isAlreadyVerified")) {
+                            context.nextToken();
+                            resendContactReachabilityEmailResult
+                                    .setIsAlreadyVerified(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,10 +53,17 @@ public class RetrieveDomainAuthCodeResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AuthCode", targetDepth)) {
-                    context.nextToken();
-                    retrieveDomainAuthCodeResult.setAuthCode(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1496403925:
+                        if (fieldName.equals("AuthCode")) {
+                            context.nextToken();
+                            retrieveDomainAuthCodeResult.setAuthCode(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -20,7 +20,6 @@ import java.io.InputStream;
 import java.security.InvalidKeyException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.util.Arrays;
 
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
@@ -45,7 +44,6 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
     private static final String CHUNK_STRING_TO_SIGN_PREFIX = "AWS4-HMAC-SHA256-PAYLOAD";
     private static final String CHUNK_SIGNATURE_HEADER = ";chunk-signature=";
     private static final int SIGNATURE_LENGTH = 64;
-    private static final byte[] FINAL_CHUNK = new byte[0];
 
     private InputStream is = null;
     private final int maxBufferSize;
@@ -58,6 +56,13 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
     private final MessageDigest sha256;
     private final Mac hmacSha256;
 
+    /**
+     * Data of the current chunk. Reused from chunk to chunk, so that each
+     * byte of the wrapped stream is read into a single buffer, where it is
+     * hashed and from which it is served.
+     */
+    private final byte[] chunkData = new byte[DEFAULT_CHUNK_SIZE];
+
     /** Iterator on the current chunk that has been signed */
     private ChunkContentIterator currentChunkIterator;
 
@@ -292,7 +297,6 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
      *         Returns true if next chunk is the last empty chunk.
      */
     private boolean setUpNextChunk() throws IOException {
-        byte[] chunkData = new byte[DEFAULT_CHUNK_SIZE];
         int chunkSizeInBytes = 0;
         while (chunkSizeInBytes < DEFAULT_CHUNK_SIZE) {
             /** Read from the buffer of the decoded stream */
@@ -313,25 +317,19 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
                     break;
             }
         }
-        if (chunkSizeInBytes == 0){
-            byte[] signedFinalChunk = createSignedChunk(FINAL_CHUNK);
-            currentChunkIterator = new ChunkContentIterator(signedFinalChunk);
-            return true;
-        }
-        else {
-            if (chunkSizeInBytes < chunkData.length) {
-                chunkData = Arrays.copyOf(chunkData, chunkSizeInBytes);
-            }
-            byte[] signedChunkContent = createSignedChunk(chunkData);
-            currentChunkIterator = new ChunkContentIterator(signedChunkContent);
-            return false;
-        }
+        currentChunkIterator = new ChunkContentIterator(
+                createSignedChunkHeader(chunkSizeInBytes), chunkData, chunkSizeInBytes);
+        return chunkSizeInBytes == 0;
     }
 
-    private byte[] createSignedChunk(byte[] chunkData) {
+    /**
+     * Returns the header of the chunk of the given size whose data is at the
+     * start of the chunk buffer.
+     */
+    private byte[] createSignedChunkHeader(int chunkSizeInBytes) {
         StringBuilder chunkHeader = new StringBuilder();
         // chunk-size
-        chunkHeader.append(Integer.toHexString(chunkData.length));
+        chunkHeader.append(Integer.toHexString(chunkSizeInBytes));
         // sig-extension
         final String chunkStringToSign =
                 CHUNK_STRING_TO_SIGN_PREFIX + "\n" +
@@ -339,7 +337,7 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
                 keyPath + "\n" +
                 priorChunkSignature + "\n" +
                 AbstractAWSSigner.EMPTY_STRING_SHA256_HEX + "\n" +
-                BinaryUtils.toHex(sha256.digest(chunkData));
+                BinaryUtils.toHex(digestChunk(chunkSizeInBytes));
         final String chunkSignature =
             BinaryUtils.toHex(aws4Signer.signWithMac(chunkStringToSign, hmacSha256));
         priorChunkSignature = chunkSignature;
@@ -348,20 +346,17 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
                    .append(CRLF)
                    ;
         try {
-            byte[] header = chunkHeader.toString().getBytes(UTF8);
-            byte[] trailer = CRLF.getBytes(UTF8);
-            byte[] signedChunk = new byte[header.length + chunkData.length + trailer.length];
-            System.arraycopy(header, 0, signedChunk, 0, header.length);
-            System.arraycopy(chunkData, 0, signedChunk, header.length, chunkData.length);
-            System.arraycopy(trailer, 0,
-                    signedChunk, header.length + chunkData.length,
-                    trailer.length);
-            return signedChunk;
+            return chunkHeader.toString().getBytes(UTF8);
         } catch (Exception e) {
             throw new AmazonClientException("Unable to sign the chunked data. " + e.getMessage(), e);
         }
     }
 
+    private byte[] digestChunk(int chunkSizeInBytes) {
+        sha256.update(chunkData, 0, chunkSizeInBytes);
+        return sha256.digest();
+    }
+
     @Override
     protected InputStream getWrappedInputStream() {
         return is;
@@ -14,17 +14,29 @@
  */
 package com.amazonaws.auth;
 
+/**
+ * Iterator on a signed chunk: its header, its data and its trailing CRLF. The
+ * data is not copied, so it must not change until the chunk is read.
+ */
 class ChunkContentIterator {
 
-    private final byte[] signedChunk;
+    private static final byte[] TRAILER = { '\r', '\n' };
+
+    private final byte[] header;
+    private final byte[] data;
+    private final int dataLength;
+    private final int length;
     private int pos;
 
-    public ChunkContentIterator(byte[] signedChunk) {
-        this.signedChunk = signedChunk;
+    public ChunkContentIterator(byte[] header, byte[] data, int dataLength) {
+        this.header = header;
+        this.data = data;
+        this.dataLength = dataLength;
+        this.length = header.length + dataLength + TRAILER.length;
     }
 
     public boolean hasNext() {
-        return pos < signedChunk.length;
+        return pos < length;
     }
 
     public int read(byte[] output, int offset, int length) {
@@ -32,10 +44,37 @@ class ChunkContentIterator {
             return 0;
         if ( !hasNext() )
             return -1;
-        int remaingBytesNum = signedChunk.length - pos;
-        int bytesToRead = Math.min(remaingBytesNum, length);
-        System.arraycopy(signedChunk, pos, output, offset, bytesToRead);
+        int count = 0;
+        while (count < length && hasNext()) {
+            count += copy(output, offset + count, length - count);
+        }
+        return count;
+    }
+
+    /**
+     * Copies bytes of the segment (header, data or trailer) at the current
+     * position.
+     */
+    private int copy(byte[] output, int offset, int length) {
+        byte[] segment;
+        int segmentPos;
+        int segmentLength;
+        if (pos < header.length) {
+            segment = header;
+            segmentPos = pos;
+            segmentLength = header.length;
+        } else if (pos < header.length + dataLength) {
+            segment = data;
+            segmentPos = pos - header.length;
+            segmentLength = dataLength;
+        } else {
+            segment = TRAILER;
+            segmentPos = pos - header.length - dataLength;
+            segmentLength = TRAILER.length;
+        }
+        int bytesToRead = Math.min(segmentLength - segmentPos, length);
+        System.arraycopy(segment, segmentPos, output, offset, bytesToRead);
         pos += bytesToRead;
         return bytesToRead;
     }
-}
\ No newline at end of file
+}
@@ -42,12 +42,15 @@ import com.amazonaws.auth.profile.ProfileCredentialsProvider;
 import com.amazonaws.event.ProgressEventType;
 import com.amazonaws.event.ProgressInputStream;
 import com.amazonaws.event.ProgressListener;
+import com.amazonaws.handlers.AsyncHandler;
 import com.amazonaws.handlers.HandlerChainFactory;
 import com.amazonaws.handlers.RequestHandler2;
 import com.amazonaws.http.ExecutionContext;
 import com.amazonaws.http.HttpMethodName;
 import com.amazonaws.http.HttpResponseHandler;
+import com.amazonaws.internal.AsyncResultFuture;
 import com.amazonaws.internal.DefaultServiceEndpointBuilder;
+import com.amazonaws.internal.FileChannelInputStream;
 import com.amazonaws.internal.IdentityEndpointBuilder;
 import com.amazonaws.internal.ReleasableInputStream;
 import com.amazonaws.internal.ResettableInputStream;
@@ -228,6 +231,7 @@ import com.amazonaws.util.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.concurrent.FutureCallback;
 
 import java.io.ByteArrayInputStream;
 import java.io.File;
@@ -1407,48 +1411,178 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
     public PutObjectResult putObject(PutObjectRequest putObjectRequest)
             throws AmazonClientException, AmazonServiceException {
         rejectNull(putObjectRequest, "The PutObjectRequest parameter must be specified when uploading an object");
-        final File file = putObjectRequest.getFile();
-        final InputStream isOrig = putObjectRequest.getInputStream();
-        final String bucketName = putObjectRequest.getBucketName();
-        final String key = putObjectRequest.getKey();
-        ObjectMetadata metadata = putObjectRequest.getMetadata();
-        InputStream input = isOrig;
-        if (metadata == null)
-            metadata = new ObjectMetadata();
-        rejectNull(bucketName, "The bucket name parameter must be specified when uploading an object");
-        rejectNull(key, "The key parameter must be specified when uploading an object");
-        // If a file is specified for upload, we need to pull some additional
-        // information from it to auto-configure a few options
-        if (file == null) {
-            // When input is a FileInputStream, this wrapping enables
-            // unlimited mark-and-reset
-            if (input != null)
-                input = ReleasableInputStream.wrap(input);
-        } else {
-            // Always set the content length, even if it's already set
-            metadata.setContentLength(file.length());
-            final boolean calculateMD5 = metadata.getContentMD5() == null;
-            // Only set the content type if it hasn't already been set
-            if (metadata.getContentType() == null) {
-                metadata.setContentType(Mimetypes.getInstance().getMimetype(file));
+        final PutObjectCall call = new PutObjectCall(putObjectRequest);
+        final ObjectMetadata returnedMetadata;
+        try {
+            Request<PutObjectRequest> request = call.prepareRequest();
+            try {
+                returnedMetadata = invoke(request, new S3MetadataResponseHandler(), call.bucketName, call.key);
+            } catch (Throwable t) {
+                publishProgress(call.listener, ProgressEventType.TRANSFER_FAILED_EVENT);
+                throw failure(t);
             }
+        } finally {
+            call.cleanup();
+        }
+        return call.complete(returnedMetadata);
+    }
 
-            if (calculateMD5 && !skipMd5CheckStrategy.skipServerSideValidation(putObjectRequest)) {
-                try {
-                    String contentMd5_b64 = Md5Utils.md5AsBase64(file);
-                    metadata.setContentMD5(contentMd5_b64);
-                } catch (Exception e) {
-                    throw new AmazonClientException(
-                            "Unable to calculate MD5 hash: " + e.getMessage(), e);
+    /**
+     * Uploads a new object to the specified Amazon S3 bucket like
+     * {@link #putObject(PutObjectRequest)}, but over the non-blocking
+     * transport of the client, so that no thread is held while the upload is
+     * in flight.
+     *
+     * @param putObjectRequest
+     *            The request object containing all the parameters to upload a
+     *            new object to Amazon S3.
+     * @return A future of the result of the upload.
+     * @see #putObjectNonBlockingAsync(PutObjectRequest, AsyncHandler)
+     */
+    public Future<PutObjectResult> putObjectNonBlockingAsync(PutObjectRequest putObjectRequest) {
+        return putObjectNonBlockingAsync(putObjectRequest, null);
+    }
+
+    /**
+     * Uploads a new object to the specified Amazon S3 bucket like
+     * {@link #putObject(PutObjectRequest)}, but over the non-blocking
+     * transport of the client configured with
+     * {@link ClientConfiguration#setAsyncHttpTransportFactory}, so that no
+     * thread is held while the upload is in flight. The content may be read
+     * on the calling thread to compute its hash or MD5 before it is sent; it
+     * is then read by the transport as it is sent, which for the default
+     * transport is on its I/O threads.
+     * <p>
+     * The handler, if any, is notified on a thread of the executor that the
+     * client runs all its non-blocking executions on; it should not block,
+     * but it can start dependent requests with other non-blocking methods,
+     * such as the {@code NonBlockingAsync} methods of the generated
+     * asynchronous clients, to chain calls without blocking any thread
+     * between them.
+     *
+     * @param putObjectRequest
+     *            The request object containing all the parameters to upload a
+     *            new object to Amazon S3.
+     * @param asyncHandler
+     *            Handler to notify of the outcome of the upload; or null if
+     *            there is none.
+     * @return A future of the result of the upload, which fails with the same
+     *         exceptions that {@link #putObject(PutObjectRequest)} throws.
+     */
+    public Future<PutObjectResult> putObjectNonBlockingAsync(PutObjectRequest putObjectRequest,
+            AsyncHandler<PutObjectRequest, PutObjectResult> asyncHandler) {
+        final AsyncResultFuture<PutObjectRequest, PutObjectResult> future =
+                new AsyncResultFuture<PutObjectRequest, PutObjectResult>(putObjectRequest, asyncHandler, null);
+        try {
+            rejectNull(putObjectRequest, "The PutObjectRequest parameter must be specified when uploading an object");
+            final PutObjectCall call = new PutObjectCall(putObjectRequest);
+            try {
+                Request<PutObjectRequest> request = call.prepareRequest();
+                future.setDelegate(invokeAsync(request, new S3MetadataResponseHandler(), call.bucketName, call.key,
+                        new FutureCallback<Response<ObjectMetadata>>() {
+                            @Override
+                            public void completed(Response<ObjectMetadata> response) {
+                                call.cleanup();
+                                PutObjectResult result;
+                                try {
+                                    result = call.complete(response.getAwsResponse());
+                                } catch (RuntimeException e) {
+                                    future.failed(e);
+                                    return;
+                                }
+                                future.completed(new Response<PutObjectResult>(result, response.getHttpResponse()));
+                            }
+
+                            @Override
+                            public void failed(Exception ex) {
+                                call.cleanup();
+                                publishProgress(call.listener, ProgressEventType.TRANSFER_FAILED_EVENT);
+                                future.failed(ex);
+                            }
+
+                            @Override
+                            public void cancelled() {
+                                call.cleanup();
+                                publishProgress(call.listener, ProgressEventType.TRANSFER_FAILED_EVENT);
+                                future.cancelled();
+                            }
+                        }));
+            } catch (RuntimeException e) {
+                call.cleanup();
+                publishProgress(call.listener, ProgressEventType.TRANSFER_FAILED_EVENT);
+                throw e;
+            }
+        } catch (RuntimeException e) {
+            future.failed(e);
+        }
+        return future;
+    }
+
+    /**
+     * One upload of an object: creates the request from the PutObjectRequest,
+     * and turns the metadata returned by Amazon S3 into the result once the
+     * MD5 of the content is verified against the ETag. Shared by the blocking
+     * and the non-blocking uploads.
+     */
+    private final class PutObjectCall {
+        private final PutObjectRequest putObjectRequest;
+        private final File file;
+        private final InputStream isOrig;
+        private final String bucketName;
+        private final String key;
+        private final ObjectMetadata metadata;
+        private InputStream input;
+        private File contentMd5File;
+        private MD5DigestCalculatingInputStream md5DigestStream;
+        private ProgressListener listener;
+        private Request<PutObjectRequest> request;
+
+        PutObjectCall(PutObjectRequest putObjectRequest) {
+            this.putObjectRequest = putObjectRequest;
+            file = putObjectRequest.getFile();
+            isOrig = putObjectRequest.getInputStream();
+            bucketName = putObjectRequest.getBucketName();
+            key = putObjectRequest.getKey();
+            ObjectMetadata metadata = putObjectRequest.getMetadata();
+            input = isOrig;
+            if (metadata == null)
+                metadata = new ObjectMetadata();
+            this.metadata = metadata;
+            rejectNull(bucketName, "The bucket name parameter must be specified when uploading an object");
+            rejectNull(key, "The key parameter must be specified when uploading an object");
+            // If a file is specified for upload, we need to pull some additional
+            // information from it to auto-configure a few options
+            if (file == null) {
+                // When input is a FileInputStream, this wrapping enables
+                // unlimited mark-and-reset
+                if (input != null)
+                    input = ReleasableInputStream.wrap(input);
+            } else {
+                // Always set the content length, even if it's already set
+                metadata.setContentLength(file.length());
+                final boolean calculateMD5 = metadata.getContentMD5() == null;
+                // Only set the content type if it hasn't already been set
+                if (metadata.getContentType() == null) {
+                    metadata.setContentType(Mimetypes.getInstance().getMimetype(file));
                 }
+
+                if (calculateMD5 && !skipMd5CheckStrategy.skipServerSideValidation(putObjectRequest)) {
+                    // Calculated once the signer is known; see invoke
+                    contentMd5File = file;
+                }
+                input = newResettableInputStream(file, "Unable to find file to upload");
             }
-            input = newResettableInputStream(file, "Unable to find file to upload");
         }
-        final ProgressListener listener;
-        final ObjectMetadata returnedMetadata;
-        MD5DigestCalculatingInputStream md5DigestStream = null;
-        try {
-            Request<PutObjectRequest> request = createRequest(bucketName, key, putObjectRequest, HttpMethodName.PUT);
+
+        /**
+         * Creates the request uploading the content, and publishes the start
+         * of the transfer.
+         */
+        Request<PutObjectRequest> prepareRequest() {
+            request = createRequest(bucketName, key, putObjectRequest, HttpMethodName.PUT);
+            if (contentMd5File != null) {
+                request.addHandlerContext(S3HandlerContextKeys.CONTENT_MD5_FILE, contentMd5File);
+            }
             // Make backward compatible with buffer size via system property
             final Integer bufsize = Constants.getS3StreamBufferSize();
             if (bufsize != null) {
@@ -1513,11 +1647,13 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
                 }
             }
             if (metadata.getContentMD5() == null
+                    && (contentMd5File == null || !isChunkedEncodingDisabled(request))
                     && !skipMd5CheckStrategy.skipClientSideValidationPerRequest(putObjectRequest)) {
                 /*
                  * If the user hasn't set the content MD5, then we don't want to buffer the whole
                  * stream in memory just to calculate it. Instead, we can calculate it on the fly
-                 * and validate it with the returned ETag from the object upload.
+                 * and validate it with the returned ETag from the object upload. The MD5 of a file
+                 * is instead calculated before signing, unless its payload may be chunk-signed.
                  */
                 input = md5DigestStream = new MD5DigestCalculatingInputStream(input);
             }
@@ -1534,45 +1670,52 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
             request.setContent(input);
             listener = putObjectRequest.getGeneralProgressListener();
             publishProgress(listener, ProgressEventType.TRANSFER_STARTED_EVENT);
-            try {
-                returnedMetadata = invoke(request, new S3MetadataResponseHandler(), bucketName, key);
-            } catch (Throwable t) {
-                publishProgress(listener, ProgressEventType.TRANSFER_FAILED_EVENT);
-                throw failure(t);
-            }
-        } finally {
-            cleanupDataSource(putObjectRequest, file, isOrig, input, log);
+            return request;
         }
-        String contentMd5 = metadata.getContentMD5();
-        if (md5DigestStream != null) {
-            contentMd5 = Base64.encodeAsString(md5DigestStream.getMd5Digest());
+
+        /**
+         * Releases the content of the upload.
+         */
+        void cleanup() {
+            cleanupDataSource(putObjectRequest, file, isOrig, input, log);
         }
 
-        final String etag = returnedMetadata.getETag();
-        if (contentMd5 != null && !skipMd5CheckStrategy.skipClientSideValidationPerPutResponse(returnedMetadata)) {
-            byte[] clientSideHash = BinaryUtils.fromBase64(contentMd5);
-            byte[] serverSideHash = BinaryUtils.fromHex(etag);
-
-            if (!Arrays.equals(clientSideHash, serverSideHash)) {
-                publishProgress(listener, ProgressEventType.TRANSFER_FAILED_EVENT);
-                throw new AmazonClientException(
-                     "Unable to verify integrity of data upload.  "
-                    + "Client calculated content hash (contentMD5: "
-                    + contentMd5
-                    + " in base 64) didn't match hash (etag: "
-                    + etag
-                    + " in hex) calculated by Amazon S3.  "
-                    + "You may need to delete the data stored in Amazon S3. (metadata.contentMD5: "
-                    + metadata.getContentMD5()
-                    + ", md5DigestStream: " + md5DigestStream
-                    + ", bucketName: " + bucketName + ", key: " + key
-                    + ")");
+        /**
+         * Verifies the MD5 of the content uploaded against the ETag returned
+         * by Amazon S3, and returns the result of the upload.
+         */
+        PutObjectResult complete(ObjectMetadata returnedMetadata) {
+            String contentMd5 = request.getHeaders().get(Headers.CONTENT_MD5);
+            if (md5DigestStream != null) {
+                contentMd5 = Base64.encodeAsString(md5DigestStream.getMd5Digest());
             }
+
+            final String etag = returnedMetadata.getETag();
+            if (contentMd5 != null && !skipMd5CheckStrategy.skipClientSideValidationPerPutResponse(returnedMetadata)) {
+                byte[] clientSideHash = BinaryUtils.fromBase64(contentMd5);
+                byte[] serverSideHash = BinaryUtils.fromHex(etag);
+
+                if (!Arrays.equals(clientSideHash, serverSideHash)) {
+                    publishProgress(listener, ProgressEventType.TRANSFER_FAILED_EVENT);
+                    throw new AmazonClientException(
+                         "Unable to verify integrity of data upload.  "
+                        + "Client calculated content hash (contentMD5: "
+                        + contentMd5
+                        + " in base 64) didn't match hash (etag: "
+                        + etag
+                        + " in hex) calculated by Amazon S3.  "
+                        + "You may need to delete the data stored in Amazon S3. (metadata.contentMD5: "
+                        + metadata.getContentMD5()
+                        + ", md5DigestStream: " + md5DigestStream
+                        + ", bucketName: " + bucketName + ", key: " + key
+                        + ")");
+                }
+            }
+            publishProgress(listener, ProgressEventType.TRANSFER_COMPLETED_EVENT);
+            final PutObjectResult result = createPutObjectResult(returnedMetadata);
+            result.setContentMd5(contentMd5);
+            return result;
         }
-        publishProgress(listener, ProgressEventType.TRANSFER_COMPLETED_EVENT);
-        final PutObjectResult result = createPutObjectResult(returnedMetadata);
-        result.setContentMd5(contentMd5);
-        return result;
     }
 
     private static PutObjectResult createPutObjectResult(ObjectMetadata metadata) {
@@ -2955,19 +3098,25 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
                     awsreq.getRequestClientOptions()
                         .setReadLimit(bufsize.intValue());
                 }
+                isCurr = new InputSubstream(
+                        isCurr,
+                        uploadPartRequest.getFileOffset(),
+                        partSize,
+                        uploadPartRequest.isLastPart());
             } else {
+                /*
+                 * The part is read at absolute positions in the file, rather
+                 * than skipped to, and is read again from the file on retry.
+                 * Parts of the same file can be read concurrently.
+                 */
                 try {
-                    isCurr = new ResettableInputStream(fileOrig);
+                    isCurr = new FileChannelInputStream(fileOrig,
+                            uploadPartRequest.getFileOffset(), partSize);
                 } catch(IOException e) {
                     throw new IllegalArgumentException("Failed to open file "
                             + fileOrig, e);
                 }
             }
-            isCurr = new InputSubstream(
-                    isCurr,
-                    uploadPartRequest.getFileOffset(),
-                    partSize,
-                    uploadPartRequest.isLastPart());
             MD5DigestCalculatingInputStream md5DigestStream = null;
             if (uploadPartRequest.getMd5Digest() == null
                     && !skipMd5CheckStrategy.skipClientSideValidationPerRequest(uploadPartRequest)) {
@@ -3283,6 +3432,30 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
         return signer;
     }
 
+    /**
+     * Reads the Content-MD5 of the file to upload ahead of the upload, if the
+     * request has one whose MD5 is yet to be calculated and its signer does
+     * not calculate it; the {@link AWSS3V4Signer} calculates it while signing,
+     * along with the hash of the payload when the payload is signed.
+     */
+    private void populateContentMd5(Request<?> request, Signer signer) {
+        File file = request.getHandlerContext(S3HandlerContextKeys.CONTENT_MD5_FILE);
+        if (file == null || signer instanceof AWSS3V4Signer
+                || request.getHeaders().containsKey(Headers.CONTENT_MD5)) {
+            return;
+        }
+        try {
+            request.addHeader(Headers.CONTENT_MD5, Md5Utils.md5AsBase64(file));
+        } catch (Exception e) {
+            throw new AmazonClientException(
+                    "Unable to calculate MD5 hash: " + e.getMessage(), e);
+        }
+    }
+
+    private static boolean isChunkedEncodingDisabled(Request<?> request) {
+        return Boolean.TRUE.equals(request.getHandlerContext(S3HandlerContextKeys.IS_CHUNKED_ENCODING_DISABLED));
+    }
+
     private S3Signer createSigV2Signer(final Request<?> request,
                                        final String bucketName,
                                        final String key) {
@@ -3924,71 +4097,142 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
         awsRequestMetrics.startEvent(Field.ClientExecuteTime);
         Response<X> response = null;
         try {
-            request.setTimeOffset(timeOffset);
-            request.setResourcePath(SdkHttpUtils.urlEncode(request.getResourcePath(), true));
-            /*
-             * The string we sign needs to include the exact headers that we
-             * send with the request, but the client runtime layer adds the
-             * Content-Type header before the request is sent if one isn't set,
-             * so we have to set something here otherwise the request will fail.
-             */
-            if (!request.getHeaders().containsKey(Headers.CONTENT_TYPE)) {
-                request.addHeader(Headers.CONTENT_TYPE,
-                    "application/octet-stream");
-            }
-            AWSCredentials credentials = awsCredentialsProvider.getCredentials();
-            if (originalRequest.getRequestCredentials() != null) {
-                credentials = originalRequest.getRequestCredentials();
-            }
-
-            // Update the bucketRegionCache if we can't find region for the request
-            if (bucket != null && !(request.getOriginalRequest() instanceof CreateBucketRequest)
-                    && noExplicitRegionProvided(request)) {
-                fetchRegionFromCache(bucket);
-            }
-
-            Signer signer = createSigner(request, bucket, key);
-            executionContext.setSigner(signer);
-
-            // Retry V4 auth errors if signer is explicitly overridden and
-            // signer is not a SigV4 signer.
-            if (isSignerOverridden() && !(signer instanceof AWSS3V4Signer)) {
-                executionContext.setAuthErrorRetryStrategy(
-                        new S3V4AuthErrorRetryStrategy(buildDefaultEndpointResolver(getProtocol(request), bucket, key)));
-            }
-
-            executionContext.setCredentialsProvider(new StaticCredentialsProvider(credentials));
+            prepareExecution(request, executionContext, bucket, key);
 
             response = client.execute(request, responseHandler,
                     errorResponseHandler, executionContext);
 
             return response.getAwsResponse();
         } catch (ResetException ex) {
-            ex.setExtraInfo("If the request involves an input stream, the maximum stream buffer size can be configured via request.getRequestClientOptions().setReadLimit(int)");
-            throw ex;
+            throw addResetInfo(ex);
         } catch (AmazonS3Exception ase) {
-            /**
-             * This is to handle the edge case: when the bucket is deleted and recreated in a different region,
-             * the cache still has the old region info.
-             * If region is not specified, the first request to this newly created bucket will fail because it used
-             * the outdated region present in cache. Here we update the cache with correct region. The subsequent
-             * requests will succeed.
-             * The recommended practice for any request is to provide region info always.
-             */
-            if (ase.getStatusCode() == 301) {
-                if (ase.getAdditionalDetails() != null) {
-                    String region = ase.getAdditionalDetails().get(Headers.S3_BUCKET_REGION);
-                    bucketRegionCache.put(bucket, region);
-                    ase.setErrorMessage("The bucket is in this region: " + region +
-                                        ".Please use this region to retry the request");
-                }
-            }
-            throw ase;
+            throw updateBucketRegion(ase, bucket);
         } finally {
             endClientExecution(awsRequestMetrics, request, response);
         }
     }
 
+    /**
+     * Sends the request over the non-blocking transport of the http client,
+     * after the same preparation as
+     * {@link #invoke(Request, HttpResponseHandler, String, String)}, and
+     * notifies the given callback of the outcome.
+     */
+    private <X, Y extends AmazonWebServiceRequest> Future<Response<X>> invokeAsync(final Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            final String bucket, String key,
+            final FutureCallback<Response<X>> callback) {
+
+        AmazonWebServiceRequest originalRequest = request.getOriginalRequest();
+        checkHttps(originalRequest);
+        ExecutionContext executionContext = createExecutionContext(originalRequest);
+        final AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+        // Binds the request metrics to the current request.
+        request.setAWSRequestMetrics(awsRequestMetrics);
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        try {
+            prepareExecution(request, executionContext, bucket, key);
+
+            return client.executeAsync(request, responseHandler,
+                    errorResponseHandler, executionContext, new FutureCallback<Response<X>>() {
+                        @Override
+                        public void completed(Response<X> response) {
+                            endClientExecution(awsRequestMetrics, request, response);
+                            callback.completed(response);
+                        }
+
+                        @Override
+                        public void failed(Exception ex) {
+                            if (ex instanceof ResetException) {
+                                ex = addResetInfo((ResetException) ex);
+                            } else if (ex instanceof AmazonS3Exception) {
+                                ex = updateBucketRegion((AmazonS3Exception) ex, bucket);
+                            }
+                            endClientExecution(awsRequestMetrics, request, null);
+                            callback.failed(ex);
+                        }
+
+                        @Override
+                        public void cancelled() {
+                            endClientExecution(awsRequestMetrics, request, null);
+                            callback.cancelled();
+                        }
+                    });
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            throw e;
+        }
+    }
+
+    /**
+     * Prepares the request and the execution context for sending: signer,
+     * credentials and content MD5.
+     */
+    private <Y extends AmazonWebServiceRequest> void prepareExecution(Request<Y> request,
+            ExecutionContext executionContext, String bucket, String key) {
+        AmazonWebServiceRequest originalRequest = request.getOriginalRequest();
+        request.setTimeOffset(timeOffset);
+        request.setResourcePath(SdkHttpUtils.urlEncode(request.getResourcePath(), true));
+        /*
+         * The string we sign needs to include the exact headers that we
+         * send with the request, but the client runtime layer adds the
+         * Content-Type header before the request is sent if one isn't set,
+         * so we have to set something here otherwise the request will fail.
+         */
+        if (!request.getHeaders().containsKey(Headers.CONTENT_TYPE)) {
+            request.addHeader(Headers.CONTENT_TYPE,
+                "application/octet-stream");
+        }
+        AWSCredentials credentials = awsCredentialsProvider.getCredentials();
+        if (originalRequest.getRequestCredentials() != null) {
+            credentials = originalRequest.getRequestCredentials();
+        }
+
+        // Update the bucketRegionCache if we can't find region for the request
+        if (bucket != null && !(request.getOriginalRequest() instanceof CreateBucketRequest)
+                && noExplicitRegionProvided(request)) {
+            fetchRegionFromCache(bucket);
+        }
+
+        Signer signer = createSigner(request, bucket, key);
+        executionContext.setSigner(signer);
+        populateContentMd5(request, signer);
+
+        // Retry V4 auth errors if signer is explicitly overridden and
+        // signer is not a SigV4 signer.
+        if (isSignerOverridden() && !(signer instanceof AWSS3V4Signer)) {
+            executionContext.setAuthErrorRetryStrategy(
+                    new S3V4AuthErrorRetryStrategy(buildDefaultEndpointResolver(getProtocol(request), bucket, key)));
+        }
+
+        executionContext.setCredentialsProvider(new StaticCredentialsProvider(credentials));
+    }
+
+    private static ResetException addResetInfo(ResetException ex) {
+        ex.setExtraInfo("If the request involves an input stream, the maximum stream buffer size can be configured via request.getRequestClientOptions().setReadLimit(int)");
+        return ex;
+    }
+
+    private AmazonS3Exception updateBucketRegion(AmazonS3Exception ase, String bucket) {
+        /**
+         * This is to handle the edge case: when the bucket is deleted and recreated in a different region,
+         * the cache still has the old region info.
+         * If region is not specified, the first request to this newly created bucket will fail because it used
+         * the outdated region present in cache. Here we update the cache with correct region. The subsequent
+         * requests will succeed.
+         * The recommended practice for any request is to provide region info always.
+         */
+        if (ase.getStatusCode() == 301) {
+            if (ase.getAdditionalDetails() != null) {
+                String region = ase.getAdditionalDetails().get(Headers.S3_BUCKET_REGION);
+                bucketRegionCache.put(bucket, region);
+                ase.setErrorMessage("The bucket is in this region: " + region +
+                                    ".Please use this region to retry the request");
+            }
+        }
+        return ase;
+    }
+
     @Override
     public void enableRequesterPays(String bucketName) {
         RequestPaymentConfiguration configuration = new RequestPaymentConfiguration(
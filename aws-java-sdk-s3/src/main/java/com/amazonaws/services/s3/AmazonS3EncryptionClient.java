@@ -20,6 +20,7 @@ import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.AnonymousAWSCredentials;
+import com.amazonaws.handlers.AsyncHandler;
 import com.amazonaws.internal.StaticCredentialsProvider;
 import com.amazonaws.metrics.RequestMetricCollector;
 import com.amazonaws.regions.Region;
@@ -482,6 +483,20 @@ public class AmazonS3EncryptionClient extends AmazonS3Client implements
         return crypto.putObjectSecurely(req.clone());
     }
 
+    /**
+     * Not supported by the encryption client, since the content is encrypted
+     * by a blocking upload; use {@link #putObject(PutObjectRequest)} instead.
+     *
+     * @throws UnsupportedOperationException
+     *             always.
+     */
+    @Override
+    public Future<PutObjectResult> putObjectNonBlockingAsync(PutObjectRequest req,
+            AsyncHandler<PutObjectRequest, PutObjectResult> asyncHandler) {
+        throw new UnsupportedOperationException(
+                "Non-blocking uploads are not supported by the encryption client");
+    }
+
     @Override
     public S3Object getObject(GetObjectRequest req) {
         return crypto.getObjectSecurely(req);
@@ -16,6 +16,7 @@ package com.amazonaws.services.s3.internal;
 
 import static com.amazonaws.auth.internal.SignerConstants.X_AMZ_CONTENT_SHA256;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 
@@ -25,13 +26,17 @@ import com.amazonaws.Request;
 import com.amazonaws.ResetException;
 import com.amazonaws.SignableRequest;
 import com.amazonaws.auth.AWS4Signer;
+import com.amazonaws.auth.AWSCredentials;
+import com.amazonaws.auth.AnonymousAWSCredentials;
 import com.amazonaws.auth.AwsChunkedEncodingInputStream;
 import com.amazonaws.auth.internal.AWS4SignerRequestParams;
 import com.amazonaws.services.s3.Headers;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.amazonaws.services.s3.model.UploadPartRequest;
 import com.amazonaws.services.s3.request.S3HandlerContextKeys;
+import com.amazonaws.util.Base64;
 import com.amazonaws.util.BinaryUtils;
+import com.amazonaws.util.Md5Utils;
 
 /**
  * AWS4 signer implementation for AWS S3
@@ -50,6 +55,30 @@ public class AWSS3V4Signer extends AWS4Signer {
         super(false);
     }
 
+    /**
+     * Signs the request. Anonymous requests are left unsigned, so the
+     * Content-MD5 of the file they upload is read from the file instead,
+     * unless it is calculated as the file is uploaded because chunked encoding
+     * is enabled.
+     */
+    @Override
+    public void sign(SignableRequest<?> request, AWSCredentials credentials) {
+        super.sign(request, credentials);
+        if (credentials instanceof AnonymousAWSCredentials
+                && !useChunkEncoding(request) && isContentMd5Pending(request)) {
+            populateContentMd5(request);
+        }
+    }
+
+    /**
+     * This class doesn't customize the canonical request, but its subclasses
+     * may.
+     */
+    @Override
+    protected boolean usesDefaultCanonicalization() {
+        return getClass() == AWSS3V4Signer.class;
+    }
+
     /**
      * If necessary, creates a chunk-encoding wrapper on the request payload.
      */
@@ -119,12 +148,69 @@ public class AWSS3V4Signer extends AWS4Signer {
         }
 
         if (isPayloadSigningEnabled(request)) {
-            return super.calculateContentHash(request);
+            return isContentMd5Pending(request)
+                    ? calculateContentHashAndMd5(request)
+                    : super.calculateContentHash(request);
+        }
+
+        if (isContentMd5Pending(request)) {
+            populateContentMd5(request);
         }
 
         return UNSIGNED_PAYLOAD;
     }
 
+    /**
+     * Sets the Content-MD5 header of the request, calculating the hash of the
+     * payload in the same pass over the payload.
+     */
+    private String calculateContentHashAndMd5(SignableRequest<?> request) {
+        final InputStream payloadStream = getBinaryRequestPayloadStream(request);
+        final ReadLimitInfo info = request.getReadLimitInfo();
+        final UploadDigestCalculator calculator = UploadDigestCalculator.take();
+        try {
+            payloadStream.mark(info == null ? -1 : info.getReadLimit());
+            calculator.calculate(payloadStream);
+            payloadStream.reset();
+            request.addHeader(Headers.CONTENT_MD5, Base64.encodeAsString(calculator.getMd5Digest()));
+            return BinaryUtils.toHex(calculator.getSha256Digest());
+        } catch (IOException e) {
+            throw new AmazonClientException(
+                    "Unable to calculate MD5 hash: " + e.getMessage(), e);
+        } finally {
+            calculator.giveBack();
+        }
+    }
+
+    /**
+     * Sets the Content-MD5 header of the request, reading the file it uploads
+     * rather than the payload, so that the progress of the upload is left
+     * alone.
+     */
+    private void populateContentMd5(SignableRequest<?> signableRequest) {
+        Request<?> request = (Request<?>) signableRequest;
+        File file = request.getHandlerContext(S3HandlerContextKeys.CONTENT_MD5_FILE);
+        try {
+            request.addHeader(Headers.CONTENT_MD5, Md5Utils.md5AsBase64(file));
+        } catch (IOException e) {
+            throw new AmazonClientException(
+                    "Unable to calculate MD5 hash: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return True if the request uploads a file whose Content-MD5 is yet to
+     *         be calculated.
+     */
+    private boolean isContentMd5Pending(SignableRequest<?> signableRequest) {
+        if (signableRequest instanceof Request) {
+            Request<?> request = (Request<?>) signableRequest;
+            File file = request.getHandlerContext(S3HandlerContextKeys.CONTENT_MD5_FILE);
+            return file != null && !request.getHeaders().containsKey(Headers.CONTENT_MD5);
+        }
+        return false;
+    }
+
     /**
      * Determine whether to use aws-chunked for signing
      */
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import com.amazonaws.annotation.NotThreadSafe;
+import com.amazonaws.annotation.SdkInternalApi;
+
+/**
+ * Calculates the digests of a signed upload payload needed before it is sent:
+ * its MD5, for the Content-MD5 header, and its SHA-256, for the signature of
+ * the payload. Both are calculated in a single pass over the
+ * payload, through a buffer reused by the uploads of a thread, so that the
+ * payload is read once ahead of the upload rather than once per digest.
+ * <p>
+ * A signer takes the calculator of its thread with {@link #take()}, and gives
+ * it back with {@link #giveBack()} once done with the digests. Signing while
+ * the calculator is taken works with a calculator of its own.
+ */
+@NotThreadSafe
+@SdkInternalApi
+final class UploadDigestCalculator {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final ThreadLocal<UploadDigestCalculator> CALCULATORS = new ThreadLocal<UploadDigestCalculator>();
+
+    private final MessageDigest md5 = newDigest("MD5");
+    private final MessageDigest sha256 = newDigest("SHA-256");
+
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+
+    private byte[] md5Digest;
+    private byte[] sha256Digest;
+
+    private UploadDigestCalculator() {
+    }
+
+    /**
+     * Takes the calculator of the current thread, or a new calculator if it is
+     * taken.
+     */
+    static UploadDigestCalculator take() {
+        UploadDigestCalculator calculator = CALCULATORS.get();
+        if (calculator == null) {
+            return new UploadDigestCalculator();
+        }
+        CALCULATORS.set(null);
+        return calculator;
+    }
+
+    /**
+     * Forgets the digests calculated last and makes this calculator the
+     * calculator of the current thread.
+     */
+    void giveBack() {
+        md5Digest = null;
+        sha256Digest = null;
+        CALCULATORS.set(this);
+    }
+
+    /**
+     * Reads the remaining content of the given stream, calculating its MD5 and
+     * SHA-256 digests on the way. The stream is left at its end.
+     */
+    void calculate(InputStream input) throws IOException {
+        md5.reset();
+        sha256.reset();
+        int bytesRead;
+        while ((bytesRead = input.read(buffer)) > -1) {
+            md5.update(buffer, 0, bytesRead);
+            sha256.update(buffer, 0, bytesRead);
+        }
+        md5Digest = md5.digest();
+        sha256Digest = sha256.digest();
+    }
+
+    /**
+     * Returns the MD5 digest of the content read last.
+     */
+    byte[] getMd5Digest() {
+        return md5Digest;
+    }
+
+    /**
+     * Returns the SHA-256 digest of the content read last.
+     */
+    byte[] getSha256Digest() {
+        return sha256Digest;
+    }
+
+    private static MessageDigest newDigest(String algorithm) {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) { // should never occur
+            throw new IllegalStateException("unexpected", e);
+        }
+    }
+}
@@ -0,0 +1,786 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.iterable;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.ListObjectsRequest;
+import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+
+/**
+ * Provides a way to iterate over the Amazon S3 objects of a large bucket or
+ * prefix, listing disjoint partitions of the key space concurrently. For
+ * example:
+ *
+ * <pre class="brush: java">
+ * ParallelS3Objects.ParallelObjectIterator it =
+ *         ParallelS3Objects.withPrefix(s3, &quot;my-bucket&quot;, &quot;photos/&quot;).withParallelism(20).iterator();
+ * try {
+ *     while ( it.hasNext() ) {
+ *         System.out.printf(&quot;Object with key '%s'\n&quot;, it.next().getKey());
+ *     }
+ * } finally {
+ *     it.close();
+ * }
+ * </pre>
+ * <p>
+ * The iterator first discovers the prefix tree of the bucket, breadth first:
+ * it lists the prefix with the delimiter, then the common prefixes found, and
+ * so on, until there are enough partitions to keep the listing threads busy or
+ * the maximum discovery depth is reached. The common prefixes that are not
+ * expanded are then listed concurrently, each by a single thread, and
+ * optionally split further into key ranges on their next character, for the
+ * key spaces that have no delimiter to partition on.
+ * <p>
+ * The listing threads run ahead of the iteration by a bounded number of pages,
+ * and wait for the iteration to catch up beyond it. The objects are returned
+ * in no particular order, unless the ordered output is requested with
+ * {@link #withOrderedOutput(boolean)}, in which case they are returned in the
+ * order of their keys, as {@link S3Objects} does.
+ * <p>
+ * The iterator stops its threads once it has returned all the objects, or
+ * when closed. An iterator that is abandoned before then, for instance by
+ * breaking out of a for-each loop, keeps its threads waiting for room in the
+ * buffer until closed, hence the {@code finally} block above.
+ * <p>
+ * On Java 8 and later, the iterator can back a parallel stream through
+ * {@code Spliterators.spliteratorUnknownSize}.
+ */
+public class ParallelS3Objects implements Iterable<S3ObjectSummary> {
+
+    /** The default number of partitions listed concurrently. */
+    public static final int DEFAULT_PARALLELISM = 10;
+
+    /** The default delimiter used to discover the prefix tree. */
+    public static final String DEFAULT_DELIMITER = "/";
+
+    /** The default depth down to which the prefix tree is discovered. */
+    public static final int DEFAULT_MAX_DISCOVERY_DEPTH = 3;
+
+    /** The default number of pages listed ahead of the iteration, per listing thread. */
+    public static final int DEFAULT_MAX_BUFFERED_PAGES = 2;
+
+    /** The discovery stops once there are this many partitions per listing thread. */
+    private static final int PARTITIONS_PER_THREAD = 4;
+
+    /** Prefixes with more entries than fit in this many pages are not expanded. */
+    private static final int MAX_DISCOVERY_PAGES = 10;
+
+    /** The characters a partition is split on, when splitting on key ranges. */
+    private static final String RANGE_SPLIT_CHARACTERS =
+            "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+    private AmazonS3 s3;
+    private String bucketName;
+    private String prefix = null;
+    private String delimiter = DEFAULT_DELIMITER;
+    private Integer batchSize = null;
+    private int parallelism = DEFAULT_PARALLELISM;
+    private int maxDiscoveryDepth = DEFAULT_MAX_DISCOVERY_DEPTH;
+    private int maxBufferedPages = DEFAULT_MAX_BUFFERED_PAGES;
+    private boolean keyRangeSplitting;
+    private boolean orderedOutput;
+    private ExecutorService executorService;
+
+    private ParallelS3Objects(AmazonS3 s3, String bucketName) {
+        this.s3 = s3;
+        this.bucketName = bucketName;
+    }
+
+    /**
+     * Constructs an iterable that covers all the objects in an Amazon S3
+     * bucket.
+     *
+     * @param s3
+     *            The Amazon S3 client.
+     * @param bucketName
+     *            The bucket name.
+     * @return An iterator for object summaries.
+     */
+    public static ParallelS3Objects inBucket(AmazonS3 s3, String bucketName) {
+        return new ParallelS3Objects(s3, bucketName);
+    }
+
+    /**
+     * Constructs an iterable that covers the objects in an Amazon S3 bucket
+     * where the key begins with the given prefix.
+     *
+     * @param s3
+     *            The Amazon S3 client.
+     * @param bucketName
+     *            The bucket name.
+     * @param prefix
+     *            The prefix.
+     * @return An iterator for object summaries.
+     */
+    public static ParallelS3Objects withPrefix(AmazonS3 s3, String bucketName, String prefix) {
+        ParallelS3Objects objects = new ParallelS3Objects(s3, bucketName);
+        objects.prefix = prefix;
+        return objects;
+    }
+
+    /**
+     * Sets the batch size, i.e., how many {@link S3ObjectSummary}s will be
+     * fetched at once.
+     *
+     * @param batchSize
+     *            How many object summaries to fetch at once.
+     */
+    public ParallelS3Objects withBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Sets the delimiter used to discover the prefix tree, "/" by default; or
+     * null to not discover it.
+     */
+    public ParallelS3Objects withDelimiter(String delimiter) {
+        this.delimiter = delimiter;
+        return this;
+    }
+
+    /**
+     * Sets how many partitions are listed concurrently, which is also the
+     * number of threads of the iterator unless an executor service is given.
+     */
+    public ParallelS3Objects withParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Sets the depth down to which the prefix tree is discovered; 0 to list
+     * the prefix as a single partition, or split on key ranges only.
+     */
+    public ParallelS3Objects withMaxDiscoveryDepth(int maxDiscoveryDepth) {
+        this.maxDiscoveryDepth = maxDiscoveryDepth;
+        return this;
+    }
+
+    /**
+     * Sets how many pages each listing thread may list ahead of the iteration.
+     */
+    public ParallelS3Objects withMaxBufferedPages(int maxBufferedPages) {
+        if (maxBufferedPages <= 0) {
+            throw new IllegalArgumentException("maxBufferedPages must be positive: " + maxBufferedPages);
+        }
+        this.maxBufferedPages = maxBufferedPages;
+        return this;
+    }
+
+    /**
+     * Sets whether each partition is split into key ranges on the character
+     * that follows its prefix, so that prefixes with many keys and no
+     * delimiter are still listed concurrently. Splitting costs a request per
+     * range, even when the range is empty.
+     */
+    public ParallelS3Objects withKeyRangeSplitting(boolean keyRangeSplitting) {
+        this.keyRangeSplitting = keyRangeSplitting;
+        return this;
+    }
+
+    /**
+     * Sets whether the objects are returned in the order of their keys. The
+     * partitions are still listed concurrently, but only the partition being
+     * iterated and the next partitions, up to
+     * {@link #withParallelism(int) parallelism} of them, so that at most
+     * parallelism times {@link #withMaxBufferedPages(int) maxBufferedPages}
+     * pages are listed ahead of the iteration.
+     */
+    public ParallelS3Objects withOrderedOutput(boolean orderedOutput) {
+        this.orderedOutput = orderedOutput;
+        return this;
+    }
+
+    /**
+     * Sets the executor service the partitions are listed with, which is left
+     * running once the iteration is over; or null for each iterator to use
+     * threads of its own. The executor service must run its tasks in the order
+     * they are submitted, as a fixed thread pool does, and should have at
+     * least {@link #withParallelism(int) parallelism} threads.
+     */
+    public ParallelS3Objects withExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+        return this;
+    }
+
+    public Integer getBatchSize() {
+        return batchSize;
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    public String getBucketName() {
+        return bucketName;
+    }
+
+    public AmazonS3 getS3() {
+        return s3;
+    }
+
+    public String getDelimiter() {
+        return delimiter;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public int getMaxDiscoveryDepth() {
+        return maxDiscoveryDepth;
+    }
+
+    public int getMaxBufferedPages() {
+        return maxBufferedPages;
+    }
+
+    public boolean isKeyRangeSplitting() {
+        return keyRangeSplitting;
+    }
+
+    public boolean isOrderedOutput() {
+        return orderedOutput;
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    @Override
+    public ParallelObjectIterator iterator() {
+        return new ParallelObjectIterator();
+    }
+
+    /**
+     * Iterator over the objects, which lists them concurrently from its first
+     * call to {@link #hasNext()} or {@link #next()}.
+     */
+    public class ParallelObjectIterator implements Iterator<S3ObjectSummary>, Closeable {
+
+        private ExecutorService executor;
+
+        private volatile boolean closed;
+
+        /**
+         * Runs of objects found during the discovery and partitions to list,
+         * in the order of their keys.
+         */
+        private Iterator<Object> plan;
+
+        /** The pages of all the partitions, when the output is not ordered. */
+        private BlockingQueue<Page> sharedPages;
+
+        /** The partitions whose pages are still to be iterated over. */
+        private int remainingPartitions;
+
+        /** The partition whose pages are being iterated over, when the output is ordered. */
+        private Partition currentPartition;
+
+        /** Guards the window of the partitions listed, when the output is ordered. */
+        private final Object window = new Object();
+
+        /**
+         * The index of the first partition not iterated over yet, when the
+         * output is ordered; guarded by the window.
+         */
+        private int firstUnreadPartition;
+
+        private Iterator<S3ObjectSummary> currentIterator = null;
+
+        private ParallelObjectIterator() {
+        }
+
+        @Override
+        public boolean hasNext() {
+            prepareCurrentIterator();
+            return currentIterator.hasNext();
+        }
+
+        @Override
+        public S3ObjectSummary next() {
+            prepareCurrentIterator();
+            return currentIterator.next();
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Stops the listing threads. The iterator is closed automatically once
+         * it has returned all the objects, or has thrown an exception.
+         */
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            currentIterator = Collections.<S3ObjectSummary> emptyList().iterator();
+            plan = Collections.emptyList().iterator();
+            remainingPartitions = 0;
+            if (executor != null && executor != getExecutorService()) {
+                executor.shutdownNow();
+            }
+        }
+
+        private void prepareCurrentIterator() {
+            if (currentIterator == null) {
+                start();
+            }
+            try {
+                while (!currentIterator.hasNext() && !closed) {
+                    List<S3ObjectSummary> summaries = nextRun();
+                    if (summaries == null) {
+                        close();
+                    } else {
+                        currentIterator = summaries.iterator();
+                    }
+                }
+            } catch (RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+
+        /**
+         * Returns the next run of objects to iterate over, waiting for the
+         * listing threads if need be; or null if all the objects were
+         * iterated over.
+         */
+        private List<S3ObjectSummary> nextRun() {
+            while (true) {
+                if (currentPartition != null) {
+                    Page page = take(currentPartition.pages);
+                    if (page.summaries != null) {
+                        return page.summaries;
+                    }
+                    moveWindow(currentPartition.index + 1);
+                    currentPartition = null;
+                } else if (plan.hasNext()) {
+                    Object item = plan.next();
+                    if (item instanceof Partition) {
+                        currentPartition = (Partition) item;
+                        moveWindow(currentPartition.index);
+                    } else {
+                        @SuppressWarnings("unchecked")
+                        List<S3ObjectSummary> summaries = (List<S3ObjectSummary>) item;
+                        return summaries;
+                    }
+                } else if (remainingPartitions > 0) {
+                    Page page = take(sharedPages);
+                    if (page.summaries != null) {
+                        return page.summaries;
+                    }
+                    remainingPartitions--;
+                } else {
+                    return null;
+                }
+            }
+        }
+
+        private Page take(BlockingQueue<Page> pages) {
+            Page page;
+            try {
+                page = pages.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AmazonClientException("Interrupted while listing objects", e);
+            }
+            if (page.failure != null) {
+                throw page.failure;
+            }
+            return page;
+        }
+
+        private void start() {
+            currentIterator = Collections.<S3ObjectSummary> emptyList().iterator();
+            executor = getExecutorService() != null ? getExecutorService() : newExecutor(getParallelism());
+            try {
+                List<Object> items = new ArrayList<Object>();
+                flatten(discover(), items);
+
+                List<Partition> partitions = new ArrayList<Partition>();
+                List<Object> runs = new ArrayList<Object>();
+                for (Object item : items) {
+                    if (item instanceof Partition) {
+                        partitions.add((Partition) item);
+                    } else {
+                        runs.add(item);
+                    }
+                }
+                if (isOrderedOutput()) {
+                    for (int i = 0; i < partitions.size(); i++) {
+                        partitions.get(i).index = i;
+                        partitions.get(i).pages = new ArrayBlockingQueue<Page>(getMaxBufferedPages());
+                    }
+                    plan = items.iterator();
+                } else {
+                    sharedPages = new ArrayBlockingQueue<Page>(getMaxBufferedPages() * getParallelism());
+                    for (Partition partition : partitions) {
+                        partition.pages = sharedPages;
+                    }
+                    remainingPartitions = partitions.size();
+                    plan = runs.iterator();
+                }
+                for (final Partition partition : partitions) {
+                    executor.execute(new Runnable() {
+                        @Override
+                        public void run() {
+                            list(partition);
+                        }
+                    });
+                }
+            } catch (RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+
+        /**
+         * Discovers the prefix tree breadth first, listing the prefixes of a
+         * level concurrently.
+         */
+        private Node discover() {
+            Node root = new Node(getPrefix() == null ? "" : getPrefix());
+            if (getDelimiter() == null) {
+                return root;
+            }
+            List<Node> level = Collections.singletonList(root);
+            int partitionCount = 1;
+            for (int depth = 0; depth < getMaxDiscoveryDepth() && !level.isEmpty()
+                    && partitionCount < getParallelism() * PARTITIONS_PER_THREAD; depth++) {
+                List<Future<Void>> futures = new ArrayList<Future<Void>>(level.size());
+                for (final Node node : level) {
+                    futures.add(executor.submit(new Callable<Void>() {
+                        @Override
+                        public Void call() {
+                            expand(node);
+                            return null;
+                        }
+                    }));
+                }
+                for (Future<Void> future : futures) {
+                    await(future);
+                }
+
+                List<Node> nextLevel = new ArrayList<Node>();
+                for (Node node : level) {
+                    if (node.children != null) {
+                        partitionCount += node.children.size() - 1;
+                        nextLevel.addAll(node.children);
+                    }
+                }
+                level = nextLevel;
+            }
+            return root;
+        }
+
+        /**
+         * Lists the objects and common prefixes right under the prefix of the
+         * node, unless there are too many of them.
+         */
+        private void expand(Node node) {
+            ListObjectsRequest req = new ListObjectsRequest();
+            req.setBucketName(getBucketName());
+            req.setPrefix(node.prefix);
+            req.setDelimiter(getDelimiter());
+            req.setMaxKeys(getBatchSize());
+            ObjectListing listing = getS3().listObjects(req);
+            List<S3ObjectSummary> summaries = new ArrayList<S3ObjectSummary>(listing.getObjectSummaries());
+            List<String> commonPrefixes = new ArrayList<String>(listing.getCommonPrefixes());
+            for (int pages = 1; listing.isTruncated(); pages++) {
+                if (pages == MAX_DISCOVERY_PAGES || closed) {
+                    return;
+                }
+                listing = getS3().listNextBatchOfObjects(listing);
+                summaries.addAll(listing.getObjectSummaries());
+                commonPrefixes.addAll(listing.getCommonPrefixes());
+            }
+            List<Node> children = new ArrayList<Node>(commonPrefixes.size());
+            for (String commonPrefix : commonPrefixes) {
+                children.add(new Node(commonPrefix));
+            }
+            node.summaries = summaries;
+            node.children = children;
+        }
+
+        /**
+         * Adds the runs of objects and the partitions of the tree to the given
+         * list, in the order of their keys.
+         */
+        private void flatten(Node node, List<Object> items) {
+            if (node.children == null) {
+                addPartitions(node.prefix, items);
+                return;
+            }
+            List<S3ObjectSummary> run = new ArrayList<S3ObjectSummary>();
+            Iterator<Node> children = node.children.iterator();
+            Node child = children.hasNext() ? children.next() : null;
+            for (S3ObjectSummary summary : node.summaries) {
+                while (child != null && compareKeys(child.prefix, summary.getKey()) < 0) {
+                    run = addRun(run, items);
+                    flatten(child, items);
+                    child = children.hasNext() ? children.next() : null;
+                }
+                run.add(summary);
+            }
+            addRun(run, items);
+            while (child != null) {
+                flatten(child, items);
+                child = children.hasNext() ? children.next() : null;
+            }
+        }
+
+        private List<S3ObjectSummary> addRun(List<S3ObjectSummary> run, List<Object> items) {
+            if (run.isEmpty()) {
+                return run;
+            }
+            items.add(run);
+            return new ArrayList<S3ObjectSummary>();
+        }
+
+        /**
+         * Adds the partition of all the keys with the given prefix, or its
+         * key ranges, to the given list.
+         */
+        private void addPartitions(String prefix, List<Object> items) {
+            if (!isKeyRangeSplitting()) {
+                items.add(new Partition(prefix, null, null));
+                return;
+            }
+            String after = null;
+            for (int i = 0; i < RANGE_SPLIT_CHARACTERS.length(); i++) {
+                String upTo = prefix + RANGE_SPLIT_CHARACTERS.charAt(i);
+                items.add(new Partition(prefix, after, upTo));
+                after = upTo;
+            }
+            items.add(new Partition(prefix, after, null));
+        }
+
+        /**
+         * Lists the objects of the partition, and passes them on a page at a
+         * time, followed by an empty page; or passes on the failure to list
+         * them.
+         */
+        private void list(Partition partition) {
+            if (closed || !awaitWindow(partition)) {
+                return;
+            }
+            try {
+                ListObjectsRequest req = new ListObjectsRequest();
+                req.setBucketName(getBucketName());
+                req.setPrefix(partition.prefix);
+                req.setMarker(partition.after);
+                req.setMaxKeys(getBatchSize());
+                ObjectListing listing = getS3().listObjects(req);
+                while (true) {
+                    List<S3ObjectSummary> summaries = listing.getObjectSummaries();
+                    boolean done = !listing.isTruncated();
+                    if (partition.upTo != null) {
+                        int end = 0;
+                        while (end < summaries.size() && compareKeys(summaries.get(end).getKey(), partition.upTo) <= 0) {
+                            end++;
+                        }
+                        if (end < summaries.size()) {
+                            summaries = summaries.subList(0, end);
+                            done = true;
+                        }
+                    }
+                    if (!summaries.isEmpty() && !put(partition.pages, new Page(summaries, null))) {
+                        return;
+                    }
+                    if (done) {
+                        break;
+                    }
+                    listing = getS3().listNextBatchOfObjects(listing);
+                }
+                put(partition.pages, Page.END);
+            } catch (RuntimeException e) {
+                put(partition.pages, new Page(null, e));
+            }
+        }
+
+        /**
+         * Waits until the partition is among the partitions listed ahead of
+         * the iteration, when the output is ordered; or returns false if the
+         * iterator was closed in the meantime. The listing threads would
+         * otherwise buffer the pages of every partition they are done with
+         * while the iteration is held up by an earlier one.
+         */
+        private boolean awaitWindow(Partition partition) {
+            if (!isOrderedOutput()) {
+                return true;
+            }
+            try {
+                synchronized (window) {
+                    while (partition.index >= firstUnreadPartition + getParallelism()) {
+                        if (closed) {
+                            return false;
+                        }
+                        window.wait(OFFER_TIMEOUT_MILLIS);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            return !closed;
+        }
+
+        private void moveWindow(int partitionIndex) {
+            synchronized (window) {
+                firstUnreadPartition = partitionIndex;
+                window.notifyAll();
+            }
+        }
+
+        /**
+         * Puts the page in the queue once there is room for it; or returns
+         * false if the iterator was closed in the meantime.
+         */
+        private boolean put(BlockingQueue<Page> pages, Page page) {
+            try {
+                while (!closed) {
+                    if (pages.offer(page, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                        return true;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return false;
+        }
+
+        private void await(Future<?> future) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AmazonClientException("Interrupted while listing objects", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new AmazonClientException("Unable to list objects", cause);
+            }
+        }
+    }
+
+    private static ExecutorService newExecutor(int threadCount) {
+        ThreadFactory threadFactory = new ThreadFactory() {
+            private final AtomicInteger threadCount = new AtomicInteger(1);
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r);
+                thread.setName("s3-parallel-listing-worker-" + threadCount.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+        return Executors.newFixedThreadPool(threadCount, threadFactory);
+    }
+
+    /**
+     * Compares keys in the order Amazon S3 lists them, that is the order of
+     * their UTF-8 encodings, which is the order of their code points.
+     */
+    static int compareKeys(String a, String b) {
+        int i = 0;
+        int j = 0;
+        while (i < a.length() && j < b.length()) {
+            int cpA = a.codePointAt(i);
+            int cpB = b.codePointAt(j);
+            if (cpA != cpB) {
+                return cpA < cpB ? -1 : 1;
+            }
+            i += Character.charCount(cpA);
+            j += Character.charCount(cpB);
+        }
+        return (a.length() - i) - (b.length() - j);
+    }
+
+    /** A prefix of the tree, with its entries once expanded. */
+    private static final class Node {
+        private final String prefix;
+        private List<S3ObjectSummary> summaries;
+        /** The nodes of the common prefixes, or null if not expanded. */
+        private List<Node> children;
+
+        Node(String prefix) {
+            this.prefix = prefix;
+        }
+    }
+
+    /** The keys with a prefix, optionally restricted to a range. */
+    private static final class Partition {
+        private final String prefix;
+        /** The key the range starts after, or null. */
+        private final String after;
+        /** The last key of the range, or null. */
+        private final String upTo;
+        /** The position of the partition in the order of the keys, when the output is ordered. */
+        private int index;
+        private BlockingQueue<Page> pages;
+
+        Partition(String prefix, String after, String upTo) {
+            this.prefix = prefix;
+            this.after = after;
+            this.upTo = upTo;
+        }
+    }
+
+    /** A page of objects, the end of a partition, or the failure to list it. */
+    private static final class Page {
+        private static final Page END = new Page(null, null);
+
+        private final List<S3ObjectSummary> summaries;
+        private final RuntimeException failure;
+
+        Page(List<S3ObjectSummary> summaries, RuntimeException failure) {
+            this.summaries = summaries;
+            this.failure = failure;
+        }
+    }
+}
@@ -14,11 +14,15 @@
  */
 package com.amazonaws.services.s3.model.transform;
 
+import static javax.xml.stream.XMLStreamConstants.ATTRIBUTE;
+import static javax.xml.stream.XMLStreamConstants.END_DOCUMENT;
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+
 import java.io.InputStream;
 import java.util.Map.Entry;
 
 import javax.xml.stream.XMLInputFactory;
-import javax.xml.stream.events.XMLEvent;
 
 import com.amazonaws.services.s3.model.BucketNotificationConfiguration;
 import com.amazonaws.services.s3.model.NotificationConfiguration;
@@ -43,7 +47,7 @@ public class BucketNotificationConfigurationStaxUnmarshaller implements
     public BucketNotificationConfiguration unmarshall(InputStream inputStream) throws Exception {
         StaxUnmarshallerContext context;
         synchronized (inputFactory) {
-            context = new StaxUnmarshallerContext(inputFactory.createXMLEventReader(inputStream));
+            context = new StaxUnmarshallerContext(inputFactory.createXMLStreamReader(inputStream));
         }
         int originalDepth = context.getCurrentDepth();
         int targetDepth = originalDepth + 1;
@@ -55,11 +59,11 @@ public class BucketNotificationConfigurationStaxUnmarshaller implements
         BucketNotificationConfiguration config = new BucketNotificationConfiguration();
 
         while (true) {
-            XMLEvent xmlEvent = context.nextEvent();
-            if (xmlEvent.isEndDocument()) {
+            int eventType = context.nextEventType();
+            if (eventType == END_DOCUMENT) {
                 return config;
             }
-            if (xmlEvent.isAttribute() || xmlEvent.isStartElement()) {
+            if (eventType == ATTRIBUTE || eventType == START_ELEMENT) {
                 if (context.testExpression("TopicConfiguration", targetDepth)) {
                     Entry<String, NotificationConfiguration> entry = TopicConfigurationStaxUnmarshaller.getInstance()
                             .unmarshall(context);
@@ -73,7 +77,7 @@ public class BucketNotificationConfigurationStaxUnmarshaller implements
                             .unmarshall(context);
                     config.addConfiguration(entry.getKey(), entry.getValue());
                 }
-            } else if (xmlEvent.isEndElement()) {
+            } else if (eventType == END_ELEMENT) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return config;
                 }
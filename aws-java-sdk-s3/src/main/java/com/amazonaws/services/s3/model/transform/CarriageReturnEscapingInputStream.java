@@ -0,0 +1,129 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.model.transform;
+
+import static com.amazonaws.util.StringUtils.UTF8;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Replaces the carriage return (\r) characters of a UTF-8 XML document with
+ * explicit XML character entities as the document is read, to prevent the SAX
+ * parser from misinterpreting 0x0D characters as 0x0A. The 0x0D byte never
+ * occurs within the encoding of another character in UTF-8, so the document
+ * doesn't need to be decoded.
+ */
+final class CarriageReturnEscapingInputStream extends FilterInputStream {
+
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final byte[] ESCAPED_CARRIAGE_RETURN = "&#013;".getBytes(UTF8);
+    private static final int BUFFER_SIZE = 8192;
+
+    /** The bytes read from the wrapped stream and not returned yet. */
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+
+    /** The next byte to return of the entity of the last carriage return. */
+    private int escapePosition = ESCAPED_CARRIAGE_RETURN.length;
+
+    CarriageReturnEscapingInputStream(InputStream in) {
+        super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        int read = read(b, 0, 1);
+        return read == -1 ? -1 : b[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        int count = 0;
+        while (count < len) {
+            if (escapePosition < ESCAPED_CARRIAGE_RETURN.length) {
+                b[off + count++] = ESCAPED_CARRIAGE_RETURN[escapePosition++];
+                continue;
+            }
+            if (position == limit) {
+                // Don't block for more input once there is something to return.
+                if (count > 0) {
+                    break;
+                }
+                int read = in.read(buffer, 0, buffer.length);
+                if (read == -1) {
+                    return -1;
+                }
+                position = 0;
+                limit = read;
+                continue;
+            }
+            if (buffer[position] == CARRIAGE_RETURN) {
+                position++;
+                escapePosition = 0;
+                continue;
+            }
+            // Copy everything up to the next carriage return at once.
+            int end = position;
+            int maxEnd = Math.min(limit, position + len - count);
+            while (end < maxEnd && buffer[end] != CARRIAGE_RETURN) {
+                end++;
+            }
+            System.arraycopy(buffer, position, b, off + count, end - position);
+            count += end - position;
+            position = end;
+        }
+        return count;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        byte[] b = new byte[(int) Math.min(n, BUFFER_SIZE)];
+        long skipped = 0;
+        while (skipped < n) {
+            int read = read(b, 0, (int) Math.min(n - skipped, b.length));
+            if (read == -1) {
+                break;
+            }
+            skipped += read;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return ESCAPED_CARRIAGE_RETURN.length - escapePosition + limit - position + in.available();
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+}
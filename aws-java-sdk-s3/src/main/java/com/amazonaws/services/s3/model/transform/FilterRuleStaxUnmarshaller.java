@@ -14,7 +14,7 @@
  */
 package com.amazonaws.services.s3.model.transform;
 
-import javax.xml.stream.events.XMLEvent;
+import static javax.xml.stream.XMLStreamConstants.*;
 
 import com.amazonaws.services.s3.model.FilterRule;
 import com.amazonaws.transform.StaxUnmarshallerContext;
@@ -44,17 +44,17 @@ class FilterRuleStaxUnmarshaller implements Unmarshaller<FilterRule, StaxUnmarsh
         FilterRule filter = new FilterRule();
 
         while (true) {
-            XMLEvent xmlEvent = context.nextEvent();
-            if (xmlEvent.isEndDocument()) {
+            int eventType = context.nextEventType();
+            if (eventType == END_DOCUMENT) {
                 return filter;
             }
-            if (xmlEvent.isAttribute() || xmlEvent.isStartElement()) {
+            if (eventType == ATTRIBUTE || eventType == START_ELEMENT) {
                 if (context.testExpression("Name", targetDepth)) {
                     filter.setName(StringStaxUnmarshaller.getInstance().unmarshall(context));
                 } else if (context.testExpression("Value", targetDepth)) {
                     filter.setValue(StringStaxUnmarshaller.getInstance().unmarshall(context));
                 }
-            } else if (xmlEvent.isEndElement()) {
+            } else if (eventType == END_ELEMENT) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return filter;
                 }
@@ -19,7 +19,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map.Entry;
 
-import javax.xml.stream.events.XMLEvent;
+import static javax.xml.stream.XMLStreamConstants.*;
 
 import com.amazonaws.services.s3.model.CloudFunctionConfiguration;
 import com.amazonaws.services.s3.model.Filter;
@@ -65,12 +65,12 @@ class LambdaConfigurationStaxUnmarshaller implements
         String invocationRole = null;
 
         while (true) {
-            XMLEvent xmlEvent = context.nextEvent();
-            if (xmlEvent.isEndDocument()) {
+            int eventType = context.nextEventType();
+            if (eventType == END_DOCUMENT) {
                 return createLambdaConfig(id, events, functionArn, invocationRole, filter);
             }
 
-            if (xmlEvent.isAttribute() || xmlEvent.isStartElement()) {
+            if (eventType == ATTRIBUTE || eventType == START_ELEMENT) {
                 if (context.testExpression("Id", targetDepth)) {
                     id = StringStaxUnmarshaller.getInstance().unmarshall(context);
                 } else if (context.testExpression("Event", targetDepth)) {
@@ -82,7 +82,7 @@ class LambdaConfigurationStaxUnmarshaller implements
                 } else if (context.testExpression("InvocationRole", targetDepth)) {
                     invocationRole = StringStaxUnmarshaller.getInstance().unmarshall(context);
                 }
-            } else if (xmlEvent.isEndElement()) {
+            } else if (eventType == END_ELEMENT) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return createLambdaConfig(id, events, functionArn, invocationRole, filter);
                 }
@@ -17,7 +17,7 @@ package com.amazonaws.services.s3.model.transform;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.Map.Entry;
 
-import javax.xml.stream.events.XMLEvent;
+import static javax.xml.stream.XMLStreamConstants.*;
 
 import com.amazonaws.services.s3.model.BucketNotificationConfiguration;
 import com.amazonaws.services.s3.model.NotificationConfiguration;
@@ -55,12 +55,12 @@ abstract class NotificationConfigurationStaxUnmarshaller<T extends NotificationC
         String id = null;
 
         while (true) {
-            XMLEvent xmlEvent = context.nextEvent();
-            if (xmlEvent.isEndDocument()) {
+            int eventType = context.nextEventType();
+            if (eventType == END_DOCUMENT) {
                 return new SimpleEntry<String, NotificationConfiguration>(id, topicConfig);
             }
 
-            if (xmlEvent.isAttribute() || xmlEvent.isStartElement()) {
+            if (eventType == ATTRIBUTE || eventType == START_ELEMENT) {
                 if (handleXmlEvent(topicConfig, context, targetDepth)) {
                     // Do nothing, subclass has handled it
                 } else if (context.testExpression("Id", targetDepth)) {
@@ -70,7 +70,7 @@ abstract class NotificationConfigurationStaxUnmarshaller<T extends NotificationC
                 } else if (context.testExpression("Filter", targetDepth)) {
                     topicConfig.setFilter(FilterStaxUnmarshaller.getInstance().unmarshall(context));
                 }
-            } else if (xmlEvent.isEndElement()) {
+            } else if (eventType == END_ELEMENT) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return new SimpleEntry<String, NotificationConfiguration>(id, topicConfig);
                 }
@@ -14,7 +14,7 @@
  */
 package com.amazonaws.services.s3.model.transform;
 
-import javax.xml.stream.events.XMLEvent;
+import static javax.xml.stream.XMLStreamConstants.*;
 
 import com.amazonaws.services.s3.model.S3KeyFilter;
 import com.amazonaws.transform.StaxUnmarshallerContext;
@@ -43,16 +43,16 @@ class S3KeyFilterStaxUnmarshaller implements Unmarshaller<S3KeyFilter, StaxUnmar
         S3KeyFilter filter = new S3KeyFilter();
 
         while (true) {
-            XMLEvent xmlEvent = context.nextEvent();
-            if (xmlEvent.isEndDocument()) {
+            int eventType = context.nextEventType();
+            if (eventType == END_DOCUMENT) {
                 return filter;
             }
 
-            if (xmlEvent.isAttribute() || xmlEvent.isStartElement()) {
+            if (eventType == ATTRIBUTE || eventType == START_ELEMENT) {
                 if (context.testExpression("FilterRule", targetDepth)) {
                     filter.addFilterRule(FilterRuleStaxUnmarshaller.getInstance().unmarshall(context));
                 }
-            } else if (xmlEvent.isEndElement()) {
+            } else if (eventType == END_ELEMENT) {
                 if (context.getCurrentDepth() < originalDepth) {
                     return filter;
                 }
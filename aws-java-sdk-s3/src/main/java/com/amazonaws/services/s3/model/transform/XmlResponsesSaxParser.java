@@ -19,10 +19,7 @@ package com.amazonaws.services.s3.model.transform;
 
 import com.amazonaws.services.s3.model.*;
 
-import static com.amazonaws.util.StringUtils.UTF8;
-
 import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -68,7 +65,14 @@ import com.amazonaws.util.StringUtils;
 public class XmlResponsesSaxParser {
     private static final Log log = LogFactory.getLog(XmlResponsesSaxParser.class);
 
-    private XMLReader xr = null;
+    /**
+     * XMLReader of each thread, kept between documents since creating one
+     * goes through the lookup of the SAX driver.
+     */
+    private static final ThreadLocal<XMLReader> CACHED_READER = new ThreadLocal<XMLReader>();
+
+    /** Set on the cached readers so that they don't hold on the last result. */
+    private static final DefaultHandler NO_OP_HANDLER = new DefaultHandler();
 
     private boolean sanitizeXmlDocument = true;
 
@@ -80,12 +84,31 @@ public class XmlResponsesSaxParser {
     public XmlResponsesSaxParser() throws AmazonClientException {
         // Ensure we can load the XML Reader.
         try {
-            xr = XMLReaderFactory.createXMLReader();
+            releaseXmlReader(acquireXmlReader());
         } catch (SAXException e) {
             throw new AmazonClientException("Couldn't initialize a SAX driver to create an XMLReader", e);
         }
     }
 
+    /**
+     * Takes the XMLReader of the current thread, or creates one if it has
+     * none, or if it is being used already.
+     */
+    private static XMLReader acquireXmlReader() throws SAXException {
+        XMLReader xr = CACHED_READER.get();
+        if (xr == null) {
+            return XMLReaderFactory.createXMLReader();
+        }
+        CACHED_READER.set(null);
+        return xr;
+    }
+
+    private static void releaseXmlReader(XMLReader xr) {
+        xr.setContentHandler(NO_OP_HANDLER);
+        xr.setErrorHandler(NO_OP_HANDLER);
+        CACHED_READER.set(xr);
+    }
+
     /**
      * Parses an XML document from an input stream using a document handler.
      *
@@ -109,9 +132,12 @@ public class XmlResponsesSaxParser {
 
             BufferedReader breader = new BufferedReader(new InputStreamReader(inputStream,
                 Constants.DEFAULT_ENCODING));
+            XMLReader xr = acquireXmlReader();
             xr.setContentHandler(handler);
             xr.setErrorHandler(handler);
             xr.parse(new InputSource(breader));
+            // Only reuse the readers that parsed their document successfully.
+            releaseXmlReader(xr);
 
         } catch (IOException e) {
             throw e;
@@ -129,64 +155,24 @@ public class XmlResponsesSaxParser {
         }
     }
 
+    /**
+     * Returns the given stream, or if sanitizing is enabled, a stream that
+     * replaces any carriage return (\r) characters with explicit XML character
+     * entities as the document is read, to prevent the SAX parser from
+     * misinterpreting 0x0D characters as 0x0A and being unable to parse the
+     * XML.
+     */
     protected InputStream sanitizeXmlDocument(DefaultHandler handler, InputStream inputStream)
             throws IOException {
 
         if (!sanitizeXmlDocument) {
             // No sanitizing will be performed, return the original input stream unchanged.
             return inputStream;
-        } else {
-            if (log.isDebugEnabled()) {
-                log.debug("Sanitizing XML document destined for handler " + handler.getClass());
-            }
-
-            InputStream sanitizedInputStream = null;
-
-            try {
-
-                /*
-                 * Read object listing XML document from input stream provided into a
-                 * string buffer, so we can replace troublesome characters before
-                 * sending the document to the XML parser.
-                 */
-                StringBuilder listingDocBuffer = new StringBuilder();
-                BufferedReader br = new BufferedReader(
-                    new InputStreamReader(inputStream, Constants.DEFAULT_ENCODING));
-
-                char[] buf = new char[8192];
-                int read = -1;
-                while ((read = br.read(buf)) != -1) {
-                    listingDocBuffer.append(buf, 0, read);
-                }
-                br.close();
-
-                /*
-                 * Replace any carriage return (\r) characters with explicit XML
-                 * character entities, to prevent the SAX parser from
-                 * misinterpreting 0x0D characters as 0x0A and being unable to
-                 * parse the XML.
-                 */
-                String listingDoc = listingDocBuffer.toString().replaceAll("\r", "&#013;");
-
-                sanitizedInputStream = new ByteArrayInputStream(
-                    listingDoc.getBytes(UTF8));
-
-            } catch (IOException e) {
-                throw e;
-
-            } catch (Throwable t) {
-                try {
-                    inputStream.close();
-                } catch (IOException e) {
-                    if (log.isErrorEnabled()) {
-                        log.error("Unable to close response InputStream after failure sanitizing XML document", e);
-                    }
-                }
-                throw new AmazonClientException("Failed to sanitize XML document destined for handler "
-                    + handler.getClass(), t);
-            }
-            return sanitizedInputStream;
         }
+        if (log.isDebugEnabled()) {
+            log.debug("Sanitizing XML document destined for handler " + handler.getClass());
+        }
+        return new CarriageReturnEscapingInputStream(inputStream);
     }
 
     /**
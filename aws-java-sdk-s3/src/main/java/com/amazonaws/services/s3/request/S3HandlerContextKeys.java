@@ -14,6 +14,8 @@
  */
 package com.amazonaws.services.s3.request;
 
+import java.io.File;
+
 import com.amazonaws.handlers.HandlerContextKey;
 import com.amazonaws.services.s3.S3ClientOptions;
 import com.amazonaws.services.s3.internal.AWSS3V4Signer;
@@ -38,4 +40,16 @@ public class S3HandlerContextKeys {
     public static final HandlerContextKey<Boolean> IS_PAYLOAD_SIGNING_ENABLED = new HandlerContextKey<Boolean>(
             "IsPayloadSigningEnabled");
 
+    /**
+     * Context provided to {@link AWSS3V4Signer} by the upload of a file whose Content-MD5 is yet to
+     * be calculated. The signer calculates it in the same pass over the file as the hash of the
+     * payload if the payload is signed, and reads it from the file otherwise, as it does for
+     * anonymous requests; unless chunked encoding is enabled, in which case the request gets no
+     * Content-MD5 header: the chunk signatures let S3 check the integrity of the payload, and the
+     * MD5 is only calculated as the file is uploaded. Other signers have the MD5 calculated by the
+     * client before signing.
+     */
+    public static final HandlerContextKey<File> CONTENT_MD5_FILE = new HandlerContextKey<File>(
+            "ContentMd5File");
+
 }
@@ -18,11 +18,17 @@ import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.net.SocketException;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.ExecutorService;
@@ -46,7 +52,7 @@ import com.amazonaws.services.s3.transfer.exception.FileLockException;
 import com.amazonaws.services.s3.transfer.internal.AbstractTransfer;
 import com.amazonaws.services.s3.transfer.internal.DownloadImpl;
 import com.amazonaws.services.s3.transfer.internal.DownloadMonitor;
-import com.amazonaws.services.s3.transfer.internal.DownloadPartCallable;
+import com.amazonaws.services.s3.transfer.internal.DownloadRangeCallable;
 import com.amazonaws.util.IOUtils;
 
 @SdkInternalApi
@@ -62,11 +68,13 @@ final class DownloadCallable implements Callable<File> {
     private final long origStartingByte;
     private final long timeout;
     private final ScheduledExecutorService timedExecutor;
-    /** The thread pool in which parts are downloaded downloaded. */
+    /** The thread pool in which byte ranges are downloaded. */
     private final ExecutorService executor;
-    private final List<Future<File>> futureFiles;
+    private final List<Future<long[]>> futures;
     private final boolean isDownloadParallel;
-    private Integer lastFullyMergedPartNumber;
+    private final Integer lastFullyDownloadedPartNumber;
+    private final long[][] completedRanges;
+    private final long rangeSize;
 
     private long expectedFileLength;
 
@@ -76,7 +84,8 @@ final class DownloadCallable implements Callable<File> {
             long expectedFileLength, long timeout,
             ScheduledExecutorService timedExecutor,
             ExecutorService executor,
-            Integer lastFullyDownloadedPartNumber, boolean isDownloadParallel)
+            Integer lastFullyDownloadedPartNumber, long[][] completedRanges,
+            long rangeSize, boolean isDownloadParallel)
     {
         if (s3 == null || latch == null || req == null || dstfile == null || download == null)
             throw new IllegalArgumentException();
@@ -91,8 +100,10 @@ final class DownloadCallable implements Callable<File> {
         this.timeout = timeout;
         this.timedExecutor = timedExecutor;
         this.executor = executor;
-        this.futureFiles = new ArrayList<Future<File>>();
-        this.lastFullyMergedPartNumber = lastFullyDownloadedPartNumber;
+        this.futures = new ArrayList<Future<long[]>>();
+        this.lastFullyDownloadedPartNumber = lastFullyDownloadedPartNumber;
+        this.completedRanges = completedRanges;
+        this.rangeSize = rangeSize;
         this.isDownloadParallel = isDownloadParallel;
     }
 
@@ -126,7 +137,7 @@ final class DownloadCallable implements Callable<File> {
             download.setState(TransferState.InProgress);
 
             if (isDownloadParallel) {
-                downloadInParallel(ServiceUtils.getPartCount(req, s3));
+                downloadInParallel();
                 download.setState(TransferState.Completed);
             } else {
                 S3Object s3Object = retryableDownloadS3ObjectToFile(dstfile,
@@ -137,7 +148,7 @@ final class DownloadCallable implements Callable<File> {
             return dstfile;
         } catch (Throwable t) {
             // Cancel all the futures
-            for (Future<File> f : futureFiles) {
+            for (Future<long[]> f : futures) {
                 f.cancel(true);
             }
             // Downloads aren't allowed to move from canceled to failed
@@ -166,73 +177,169 @@ final class DownloadCallable implements Callable<File> {
     }
 
     /**
-     * Downloads each part of the object into a seperate file synchronously and
-     * combines all the files into a single file.
+     * Downloads the byte ranges of the object that are not yet in the
+     * destination file in parallel, each range being written directly into
+     * the file at its offset.
      */
-    private void downloadInParallel(int partCount) throws Exception {
-        if (lastFullyMergedPartNumber == null) {
-            lastFullyMergedPartNumber = 0;
+    private void downloadInParallel() throws Exception {
+        final long objectLength = download.getObjectMetadata().getContentLength();
+        final LinkedList<long[]> completed = previouslyCompletedRanges();
+
+        createParentDirectoryIfNecessary();
+        if (!FileLocks.lock(dstfile)) {
+            throw new FileLockException("Fail to lock " + dstfile);
         }
+        RandomAccessFile raf = null;
+        try {
+            raf = prepareDestinationFile(objectLength, completed);
+            final FileChannel channel = raf.getChannel();
+            final CompletionService<long[]> completionService =
+                    new ExecutorCompletionService<long[]>(executor);
 
-        for (int i = lastFullyMergedPartNumber + 1; i <= partCount; i++) {
-            GetObjectRequest getPartRequest = new GetObjectRequest(req.getBucketName(), req.getKey(),
-                    req.getVersionId()).withUnmodifiedSinceConstraint(req.getUnmodifiedSinceConstraint())
-                            .withModifiedSinceConstraint(req.getModifiedSinceConstraint())
-                            .withResponseHeaders(req.getResponseHeaders()).withSSECustomerKey(req.getSSECustomerKey())
-                            .withGeneralProgressListener(req.getGeneralProgressListener());
+            long firstByte = 0;
+            for (long[] range : completed) {
+                submitRanges(completionService, channel, firstByte, range[0] - 1);
+                firstByte = range[1] + 1;
+            }
+            submitRanges(completionService, channel, firstByte, objectLength - 1);
 
-            getPartRequest.setMatchingETagConstraints(req.getMatchingETagConstraints());
-            getPartRequest.setNonmatchingETagConstraints(req.getNonmatchingETagConstraints());
-            getPartRequest.setRequesterPays(req.isRequesterPays());
+            download.updatePersistableTransfer(toArray(completed));
+            for (int i = 0; i < futures.size(); i++) {
+                addRange(completed, completionService.take().get());
+                download.updatePersistableTransfer(toArray(completed));
+            }
+        } finally {
+            IOUtils.closeQuietly(raf, LOG);
+            FileLocks.unlock(dstfile);
+        }
+    }
 
-            futureFiles.add(
-                    executor.submit(new DownloadPartCallable(s3, getPartRequest.withPartNumber(i), dstfile.getName())));
+    /**
+     * Submits the download of the given bytes of the object, split in ranges
+     * of the configured size.
+     */
+    private void submitRanges(CompletionService<long[]> completionService,
+            FileChannel channel, long firstByte, long lastByte) {
+        for (long start = firstByte; start <= lastByte; start += rangeSize) {
+            long end = Math.min(start + rangeSize - 1, lastByte);
+            futures.add(completionService.submit(
+                    new DownloadRangeCallable(s3, createRangeRequest(start, end), channel)));
         }
+    }
+
+    private GetObjectRequest createRangeRequest(long firstByte, long lastByte) {
+        GetObjectRequest getRangeRequest = new GetObjectRequest(req.getBucketName(), req.getKey(),
+                req.getVersionId()).withUnmodifiedSinceConstraint(req.getUnmodifiedSinceConstraint())
+                        .withModifiedSinceConstraint(req.getModifiedSinceConstraint())
+                        .withResponseHeaders(req.getResponseHeaders()).withSSECustomerKey(req.getSSECustomerKey())
+                        .withGeneralProgressListener(req.getGeneralProgressListener());
 
-        combineFiles();
+        getRangeRequest.setMatchingETagConstraints(req.getMatchingETagConstraints());
+        getRangeRequest.setNonmatchingETagConstraints(req.getNonmatchingETagConstraints());
+        getRangeRequest.setRequesterPays(req.isRequesterPays());
+        getRangeRequest.setRange(firstByte, lastByte);
+
+        // Make sure all the ranges come from the same version of the object
+        String eTag = download.getObjectMetadata().getETag();
+        if (getRangeRequest.getMatchingETagConstraints().isEmpty() && eTag != null) {
+            getRangeRequest.withMatchingETagConstraint(eTag);
+        }
+        return getRangeRequest;
     }
 
     /**
-     * Merges all the individual part Files into dstFile
+     * Returns the sorted and disjoint byte ranges already written into the
+     * destination file by a paused download. Downloads paused by earlier
+     * versions record the last part merged into the file instead, which is
+     * converted to the range of bytes up to the end of that part.
      */
-    private void combineFiles() throws Exception {
-        truncateDestinationFileIfNecessary();
-        for (Future<File> f : futureFiles) {
-            ServiceUtils.appendFile(f.get(), dstfile);
-            download.updatePersistableTransfer(++lastFullyMergedPartNumber);
+    private LinkedList<long[]> previouslyCompletedRanges() {
+        LinkedList<long[]> completed = new LinkedList<long[]>();
+        if (!resumeExistingDownload) {
+            return completed;
         }
+        if (completedRanges != null) {
+            for (long[] range : completedRanges) {
+                addRange(completed, range);
+            }
+        } else if (lastFullyDownloadedPartNumber != null && lastFullyDownloadedPartNumber > 0) {
+            addRange(completed, new long[] { 0,
+                    ServiceUtils.getLastByteInPart(s3, req, lastFullyDownloadedPartNumber) });
+        }
+        return completed;
     }
 
     /**
-     * If only partial part object is merged into the dstFile(due to pause
-     * operation), adjust the file length so that the part starts writing from
-     * the correct position.
+     * Opens the destination file and sets its length to the length of the
+     * object, after checking that the ranges already downloaded are still
+     * present in it.
      */
-    private void truncateDestinationFileIfNecessary() throws IOException {
+    private RandomAccessFile prepareDestinationFile(long objectLength, List<long[]> completed) {
         RandomAccessFile raf = null;
-        if (!FileLocks.lock(dstfile)) {
-            throw new FileLockException("Fail to lock " + dstfile);
-        }
-
         try {
             raf = new RandomAccessFile(dstfile, "rw");
-            if (lastFullyMergedPartNumber == 0) {
-                raf.setLength(0);
-            } else {
-                long lastByte = ServiceUtils.getLastByteInPart(s3, req, lastFullyMergedPartNumber);
-                if (dstfile.length() < lastByte) {
+            long bytesCompleted = 0;
+            if (!completed.isEmpty()) {
+                long lastByte = completed.get(completed.size() - 1)[1];
+                if (raf.length() <= lastByte) {
                     throw new AmazonClientException(
                             "File " + dstfile.getAbsolutePath() + " has been modified since last pause.");
                 }
-                raf.setLength(lastByte + 1);
-                download.getProgress().updateProgress(lastByte + 1);
+                for (long[] range : completed) {
+                    bytesCompleted += range[1] - range[0] + 1;
+                }
             }
-        } catch (Exception e) {
-            throw new AmazonClientException("Unable to append part file to dstfile " + e.getMessage(), e);
-        } finally {
+            raf.setLength(objectLength);
+            download.getProgress().updateProgress(bytesCompleted);
+            return raf;
+        } catch (IOException e) {
             IOUtils.closeQuietly(raf, LOG);
-            FileLocks.unlock(dstfile);
+            throw new AmazonClientException("Unable to prepare file " + dstfile + " for download: " + e.getMessage(), e);
+        } catch (RuntimeException e) {
+            IOUtils.closeQuietly(raf, LOG);
+            throw e;
+        }
+    }
+
+    private void createParentDirectoryIfNecessary() {
+        File parentDirectory = dstfile.getParentFile();
+        if (parentDirectory != null && !parentDirectory.exists() && !parentDirectory.mkdirs()) {
+            throw new AmazonClientException(
+                    "Unable to create directory in the path" + parentDirectory.getAbsolutePath());
+        }
+    }
+
+    /**
+     * Adds a byte range to the sorted and disjoint ranges, merging it with
+     * the ranges it overlaps or adjoins.
+     */
+    private static void addRange(LinkedList<long[]> ranges, long[] range) {
+        long first = range[0];
+        long last = range[1];
+        ListIterator<long[]> it = ranges.listIterator();
+        while (it.hasNext()) {
+            long[] current = it.next();
+            if (current[1] + 1 < first) {
+                continue;
+            }
+            if (last + 1 < current[0]) {
+                it.previous();
+                break;
+            }
+            first = Math.min(first, current[0]);
+            last = Math.max(last, current[1]);
+            it.remove();
+        }
+        it.add(new long[] { first, last });
+    }
+
+    private static long[][] toArray(List<long[]> ranges) {
+        long[][] array = new long[ranges.size()][];
+        Iterator<long[]> it = ranges.iterator();
+        for (int i = 0; i < array.length; i++) {
+            array[i] = it.next().clone();
         }
+        return array;
     }
 
     /**
@@ -24,6 +24,7 @@ import java.util.Date;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Stack;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
@@ -46,9 +47,9 @@ import com.amazonaws.event.ProgressListener;
 import com.amazonaws.event.ProgressListenerChain;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.AmazonS3Encryption;
 import com.amazonaws.services.s3.internal.FileLocks;
 import com.amazonaws.services.s3.internal.Mimetypes;
-import com.amazonaws.services.s3.internal.ServiceUtils;
 import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
 import com.amazonaws.services.s3.model.CopyObjectRequest;
 import com.amazonaws.services.s3.model.GetObjectMetadataRequest;
@@ -68,11 +69,14 @@ import com.amazonaws.services.s3.transfer.internal.CopyImpl;
 import com.amazonaws.services.s3.transfer.internal.CopyMonitor;
 import com.amazonaws.services.s3.transfer.internal.DownloadImpl;
 import com.amazonaws.services.s3.transfer.internal.DownloadMonitor;
+import com.amazonaws.services.s3.transfer.internal.FileTreeIterator;
 import com.amazonaws.services.s3.transfer.internal.MultipleFileDownloadImpl;
 import com.amazonaws.services.s3.transfer.internal.MultipleFileTransferMonitor;
 import com.amazonaws.services.s3.transfer.internal.MultipleFileUploadImpl;
 import com.amazonaws.services.s3.transfer.internal.S3ProgressListener;
 import com.amazonaws.services.s3.transfer.internal.S3ProgressListenerChain;
+import com.amazonaws.services.s3.transfer.internal.StreamingMultipleFileDownloadImpl;
+import com.amazonaws.services.s3.transfer.internal.StreamingMultipleFileUploadImpl;
 import com.amazonaws.services.s3.transfer.internal.TransferManagerUtils;
 import com.amazonaws.services.s3.transfer.internal.TransferProgressUpdatingListener;
 import com.amazonaws.services.s3.transfer.internal.TransferStateChangeListener;
@@ -794,7 +798,7 @@ public class TransferManager {
     public Download download(final GetObjectRequest getObjectRequest,
                              final File file, long timeoutMillis) {
         return doDownload(getObjectRequest, file, null, null, OVERWRITE_MODE,
-                timeoutMillis, null, 0L);
+                timeoutMillis, null, null, 0L);
     }
 
     /**
@@ -836,7 +840,7 @@ public class TransferManager {
     public Download download(final GetObjectRequest getObjectRequest,
             final File file, final S3ProgressListener progressListener) {
         return doDownload(getObjectRequest, file, null, progressListener,
-                OVERWRITE_MODE, 0, null, 0L);
+                OVERWRITE_MODE, 0, null, null, 0L);
     }
 
     /**
@@ -885,7 +889,7 @@ public class TransferManager {
                              final File file, final S3ProgressListener progressListener,
                              final long timeoutMillis) {
         return doDownload(getObjectRequest, file, null, progressListener,
-                OVERWRITE_MODE, timeoutMillis, null, 0L);
+                OVERWRITE_MODE, timeoutMillis, null, null, 0L);
     }
 
     /**
@@ -900,6 +904,7 @@ public class TransferManager {
             final boolean resumeExistingDownload,
             final long timeoutMillis,
             final Integer lastFullyDownloadedPart,
+            final long[][] completedRanges,
             final long lastModifiedTimeRecordedDuringPause)
     {
         assertParameterNotNull(getObjectRequest,
@@ -945,8 +950,23 @@ public class TransferManager {
         }
 
         final long origStartingByte = startingByte;
-        final boolean isDownloadParallel = TransferManagerUtils.isDownloadParallelizable(s3, getObjectRequest,
-                ServiceUtils.getPartCount(getObjectRequest, s3));
+        final long downloadRangeSize = configuration.getDownloadRangeSize();
+        final boolean isDownloadParallel;
+        if (resumeExistingDownload && completedRanges != null) {
+            /*
+             * The file of a parallel download is as long as the object from
+             * the start, so its length says nothing of the bytes downloaded:
+             * the download resumes in parallel whatever the range size.
+             */
+            if (s3 instanceof AmazonS3Encryption || getObjectRequest.getRange() != null) {
+                throw new AmazonClientException("The download into " + file
+                        + " was paused while downloading byte ranges in parallel, and cannot be resumed serially.");
+            }
+            isDownloadParallel = true;
+        } else {
+            isDownloadParallel = TransferManagerUtils.isDownloadParallelizable(s3, getObjectRequest,
+                    objectMetadata.getContentLength(), downloadRangeSize);
+        }
         // We still pass the unfiltered listener chain into DownloadImpl
         final DownloadImpl download = new DownloadImpl(description, transferProgress, listenerChain, null,
                 stateListener, getObjectRequest, file, objectMetadata, isDownloadParallel);
@@ -996,7 +1016,8 @@ public class TransferManager {
             new DownloadCallable(s3, latch,
                 getObjectRequest, resumeExistingDownload, download, file,
                 origStartingByte, fileLength, timeoutMillis, timedThreadPool,
-                executorService, lastFullyDownloadedPart, isDownloadParallel));
+                executorService, lastFullyDownloadedPart, completedRanges,
+                downloadRangeSize, isDownloadParallel));
         download.setMonitor(new DownloadMonitor(download, future));
         latch.countDown();
         return download;
@@ -1112,7 +1133,7 @@ public class TransferManager {
                                             listener),
                             f,
                             transferListener, null, false, 0,
-                            null, 0L));
+                            null, null, 0L));
         }
 
         if ( downloads.isEmpty() ) {
@@ -1126,6 +1147,107 @@ public class TransferManager {
         return multipleFileDownload;
     }
 
+    /**
+     * Downloads all objects in the virtual directory designated by the
+     * keyPrefix given to the destination directory given, while the virtual
+     * directory is being listed. All virtual subdirectories will be downloaded
+     * recursively.
+     * <p>
+     * Unlike {@link #downloadDirectory(String, String, File)}, which lists all
+     * the objects and creates their downloads before returning, this method
+     * returns right away and lists the virtual directory in the background,
+     * downloading at most
+     * {@link TransferManagerConfiguration#getMaximumInFlightDirectoryTransfers()}
+     * objects at once, so the memory used does not depend on the number of
+     * objects. The progress of the returned transfer is aggregated over all the
+     * objects; its total number of bytes grows as objects are listed. The first
+     * failed download stops the listing.
+     * </p>
+     *
+     * @param bucketName
+     *            The bucket containing the virtual directory
+     * @param keyPrefix
+     *            The key prefix for the virtual directory, or null for the
+     *            entire bucket. All subdirectories will be downloaded
+     *            recursively.
+     * @param destinationDirectory
+     *            The directory to place downloaded files. Subdirectories will
+     *            be created as necessary.
+     */
+    public MultipleFileDownload downloadDirectoryStreaming(final String bucketName, String keyPrefix,
+            final File destinationDirectory) {
+        final String rootPrefix = keyPrefix == null ? "" : keyPrefix;
+
+        /* This is the hook for adding additional progress listeners */
+        ProgressListenerChain additionalListeners = new ProgressListenerChain();
+        TransferProgress transferProgress = new TransferProgress();
+        final ProgressListener listener = new MultipleFileTransferProgressUpdatingListener(
+                transferProgress, additionalListeners);
+
+        String description = "Downloading from " + bucketName + "/" + rootPrefix;
+        final StreamingMultipleFileDownloadImpl multipleFileDownload = new StreamingMultipleFileDownloadImpl(
+                description, transferProgress, additionalListeners, rootPrefix, bucketName,
+                configuration.getMaximumInFlightDirectoryTransfers());
+
+        multipleFileDownload.start(new Callable<Void>() {
+            @Override
+            public Void call() throws Exception {
+                // Same depth-first search as downloadDirectory, downloading
+                // each page of objects before listing the next one.
+                Stack<String> commonPrefixes = new Stack<String>();
+                commonPrefixes.add(rootPrefix);
+                do {
+                    String prefix = commonPrefixes.pop();
+                    ObjectListing listObjectsResponse = null;
+
+                    do {
+                        if ( listObjectsResponse == null ) {
+                            ListObjectsRequest listObjectsRequest = new ListObjectsRequest().withBucketName(bucketName)
+                                    .withDelimiter(DEFAULT_DELIMITER).withPrefix(prefix);
+                            listObjectsResponse = s3.listObjects(listObjectsRequest);
+                        } else {
+                            listObjectsResponse = s3.listNextBatchOfObjects(listObjectsResponse);
+                        }
+
+                        for ( S3ObjectSummary s : listObjectsResponse.getObjectSummaries() ) {
+                            if ( s.getKey().equals(prefix)
+                                    || listObjectsResponse.getCommonPrefixes().contains(s.getKey() + DEFAULT_DELIMITER) ) {
+                                log.debug("Skipping download for object " + s.getKey()
+                                        + " since it is also a virtual directory");
+                                continue;
+                            }
+                            if ( !multipleFileDownload.beginFile(s.getSize()) ) {
+                                return null;
+                            }
+                            Download download;
+                            try {
+                                File f = new File(destinationDirectory, s.getKey());
+                                File parentFile = f.getParentFile();
+                                if ( !parentFile.exists() && !parentFile.mkdirs() ) {
+                                    throw new RuntimeException("Couldn't create parent directories for " + f.getAbsolutePath());
+                                }
+                                download = doDownload(
+                                        new GetObjectRequest(s.getBucketName(), s.getKey())
+                                                .<GetObjectRequest>withGeneralProgressListener(listener),
+                                        f,
+                                        multipleFileDownload.newSubTransferListener(), null, false, 0,
+                                        null, null, 0L);
+                            } catch (RuntimeException e) {
+                                multipleFileDownload.fileFailedToStart(e);
+                                return null;
+                            }
+                            multipleFileDownload.fileStarted(download);
+                        }
+
+                        commonPrefixes.addAll(listObjectsResponse.getCommonPrefixes());
+                    } while ( listObjectsResponse.isTruncated() );
+                } while ( !commonPrefixes.isEmpty() );
+                return null;
+            }
+        }, directoryWalkerThreadFactory);
+        return multipleFileDownload;
+    }
+
     /**
      * Uploads all files in the directory given to the bucket named, optionally
      * recursing for all subdirectories.
@@ -1277,11 +1399,7 @@ public class TransferManager {
             throw new IllegalArgumentException("Must provide a common base directory for uploaded files");
         }
 
-        if (virtualDirectoryKeyPrefix == null || virtualDirectoryKeyPrefix.length() == 0) {
-            virtualDirectoryKeyPrefix = "";
-        } else if ( !virtualDirectoryKeyPrefix.endsWith("/") ) {
-            virtualDirectoryKeyPrefix = virtualDirectoryKeyPrefix + "/";
-        }
+        virtualDirectoryKeyPrefix = toVirtualDirectoryKeyPrefix(virtualDirectoryKeyPrefix);
 
         /* This is the hook for adding additional progress listeners */
         ProgressListenerChain additionalListeners = new ProgressListenerChain();
@@ -1303,16 +1421,7 @@ public class TransferManager {
         if (files == null || files.isEmpty()) {
             multipleFileUpload.setState(TransferState.Completed);
         } else {
-            /*
-             * If the absolute path for the common/base directory does NOT end
-             * in a separator (which is the case for anything but root
-             * directories), then we know there's still a separator between the
-             * base directory and the rest of the file's path, so we increment
-             * the starting position by one.
-             */
-            int startingPosition = directory.getAbsolutePath().length();
-            if (!(directory.getAbsolutePath().endsWith(File.separator)))
-                startingPosition++;
+            int startingPosition = relativePathStart(directory);
 
             long totalSize = 0;
             for (File f : files) {
@@ -1320,9 +1429,7 @@ public class TransferManager {
                 if (f.isFile()) {
                     totalSize += f.length();
 
-                    String key = f.getAbsolutePath()
-                            .substring(startingPosition)
-                            .replaceAll("\\\\", "/");
+                    String key = relativeKey(f, startingPosition);
 
                     ObjectMetadata metadata = new ObjectMetadata();
 
@@ -1353,6 +1460,140 @@ public class TransferManager {
         return multipleFileUpload;
     }
 
+    /**
+     * Uploads all files in the directory given to the bucket named, optionally
+     * recursing for all subdirectories, while the directory is being walked.
+     * <p>
+     * Unlike
+     * {@link #uploadDirectory(String, String, File, boolean, ObjectMetadataProvider)},
+     * which lists all the files and creates their uploads before returning,
+     * this method returns right away and walks the directory in the
+     * background, uploading at most
+     * {@link TransferManagerConfiguration#getMaximumInFlightDirectoryTransfers()}
+     * files at once, so the memory used does not depend on the number of
+     * files. The progress of the returned transfer is aggregated over all the
+     * files; its total number of bytes grows as files are found, and
+     * {@link MultipleFileUpload#getSubTransfers()} only returns the uploads in
+     * flight. The first failed upload stops the walk.
+     * </p>
+     * <p>
+     * S3 will overwrite any existing objects that happen to have the same key,
+     * just as when uploading individual files, so use with caution.
+     * </p>
+     *
+     * @param bucketName
+     *            The name of the bucket to upload objects to.
+     * @param virtualDirectoryKeyPrefix
+     *            The key prefix of the virtual directory to upload to. Use the
+     *            null or empty string to upload files to the root of the
+     *            bucket.
+     * @param directory
+     *            The directory to upload.
+     * @param includeSubdirectories
+     *            Whether to include subdirectories in the upload. If true,
+     *            files found in subdirectories will be included with an
+     *            appropriate concatenation to the key prefix.
+     * @param metadataProvider
+     *            A callback of type <code>ObjectMetadataProvider</code> which
+     *            is used to provide metadata for each file being uploaded; or
+     *            null.
+     */
+    public MultipleFileUpload uploadDirectoryStreaming(final String bucketName, String virtualDirectoryKeyPrefix,
+            File directory, boolean includeSubdirectories, final ObjectMetadataProvider metadataProvider) {
+        if ( directory == null || !directory.exists() || !directory.isDirectory() ) {
+            throw new IllegalArgumentException("Must provide a directory to upload");
+        }
+        final String keyPrefix = toVirtualDirectoryKeyPrefix(virtualDirectoryKeyPrefix);
+        final int startingPosition = relativePathStart(directory);
+        final FileTreeIterator files = new FileTreeIterator(directory, includeSubdirectories);
+
+        /* This is the hook for adding additional progress listeners */
+        ProgressListenerChain additionalListeners = new ProgressListenerChain();
+        TransferProgress progress = new TransferProgress();
+        final ProgressListener listener = new MultipleFileTransferProgressUpdatingListener(
+                progress, additionalListeners);
+
+        String description = "Uploading to " + bucketName + "/" + keyPrefix;
+        final StreamingMultipleFileUploadImpl multipleFileUpload = new StreamingMultipleFileUploadImpl(
+                description, progress, additionalListeners, keyPrefix, bucketName,
+                configuration.getMaximumInFlightDirectoryTransfers());
+
+        multipleFileUpload.start(new Callable<Void>() {
+            @Override
+            public Void call() throws Exception {
+                while (files.hasNext()) {
+                    File f = files.next();
+                    // Check, if file, since only files can be uploaded.
+                    if (!f.isFile()) {
+                        continue;
+                    }
+                    if (!multipleFileUpload.beginFile(f.length())) {
+                        return null;
+                    }
+                    Upload upload;
+                    try {
+                        ObjectMetadata metadata = new ObjectMetadata();
+                        if (metadataProvider != null) {
+                            metadataProvider.provideObjectMetadata(f, metadata);
+                        }
+                        upload = doUpload(
+                                new PutObjectRequest(bucketName,
+                                        keyPrefix + relativeKey(f, startingPosition), f)
+                                        .withMetadata(metadata)
+                                        .<PutObjectRequest> withGeneralProgressListener(listener),
+                                multipleFileUpload.newSubTransferListener(), null, null);
+                    } catch (RuntimeException e) {
+                        multipleFileUpload.fileFailedToStart(e);
+                        return null;
+                    }
+                    multipleFileUpload.fileStarted(upload);
+                }
+                return null;
+            }
+        }, directoryWalkerThreadFactory);
+        return multipleFileUpload;
+    }
+
+    /**
+     * Returns the given key prefix of a virtual directory, ending with a
+     * delimiter unless empty.
+     */
+    private static String toVirtualDirectoryKeyPrefix(String virtualDirectoryKeyPrefix) {
+        if (virtualDirectoryKeyPrefix == null || virtualDirectoryKeyPrefix.length() == 0) {
+            return "";
+        } else if ( !virtualDirectoryKeyPrefix.endsWith("/") ) {
+            return virtualDirectoryKeyPrefix + "/";
+        }
+        return virtualDirectoryKeyPrefix;
+    }
+
+    /**
+     * Returns the position in the absolute path of the files under the given
+     * directory at which their path relative to the directory starts.
+     */
+    private static int relativePathStart(File directory) {
+        /*
+         * If the absolute path for the common/base directory does NOT end
+         * in a separator (which is the case for anything but root
+         * directories), then we know there's still a separator between the
+         * base directory and the rest of the file's path, so we increment
+         * the starting position by one.
+         */
+        int startingPosition = directory.getAbsolutePath().length();
+        if (!(directory.getAbsolutePath().endsWith(File.separator)))
+            startingPosition++;
+        return startingPosition;
+    }
+
+    /**
+     * Returns the key of the given file relative to its base directory.
+     */
+    private static String relativeKey(File file, int startingPosition) {
+        return file.getAbsolutePath()
+                .substring(startingPosition)
+                .replaceAll("\\\\", "/");
+    }
+
     /**
      * Lists files in the directory given and adds them to the result list
      * passed in, optionally adding subdirectories recursively.
@@ -1478,6 +1719,22 @@ public class TransferManager {
 
     private static final String DEFAULT_DELIMITER = "/";
 
+    /**
+     * Daemon thread factory for the threads walking the directories of
+     * streaming directory transfers, which spend most of their time waiting
+     * for the transfers in flight.
+     */
+    private static final ThreadFactory directoryWalkerThreadFactory = new ThreadFactory() {
+        final AtomicInteger threadCount = new AtomicInteger( 0 );
+        public Thread newThread(Runnable r) {
+            int threadNumber = threadCount.incrementAndGet();
+            Thread thread = new Thread(r);
+            thread.setDaemon(true);
+            thread.setName("S3TransferManagerDirectoryWalker-" + threadNumber);
+            return thread;
+        }
+    };
+
     /**
      * There is no need for threads from timedThreadPool if there is no more running threads in current process,
      * so we need a daemon thread factory for it.
@@ -1724,6 +1981,7 @@ public class TransferManager {
         return doDownload(request, new File(persistableDownload.getFile()), null, null,
                 APPEND_MODE, 0,
                 persistableDownload.getLastFullyDownloadedPartNumber(),
+                persistableDownload.getCompletedRanges(),
                 persistableDownload.getlastModifiedTime());
     }
 
@@ -39,6 +39,18 @@ public class TransferManagerConfiguration {
     /** Default minimum size of each part for multi-part copy. */
     private static final long DEFAULT_MINIMUM_COPY_PART_SIZE = 100 * MB;
 
+    /** Default size of each byte range in a parallel download. */
+    private static final long DEFAULT_DOWNLOAD_RANGE_SIZE = 16 * MB;
+
+    /** Default maximum number of files transferred at once by a streaming directory transfer. */
+    private static final int DEFAULT_MAXIMUM_IN_FLIGHT_DIRECTORY_TRANSFERS = 100;
+
+    /** Default size threshold for small-object uploads; zero disables them. */
+    private static final long DEFAULT_SMALL_OBJECT_UPLOAD_THRESHOLD = 0;
+
+    /** Maximum size threshold for small-object uploads, whose files are buffered in memory. */
+    private static final long MAX_SMALL_OBJECT_UPLOAD_THRESHOLD = 16 * MB;
+
     /**
      * The minimum part size for upload parts. Decreasing the minimum part size
      * will cause multipart uploads to be split into a larger number of smaller
@@ -77,6 +89,32 @@ public class TransferManagerConfiguration {
      */
     private long multipartCopyPartSize = DEFAULT_MINIMUM_COPY_PART_SIZE;
 
+    /**
+     * The size in bytes of each byte range fetched when an object is
+     * downloaded in parallel. Objects larger than this size are downloaded
+     * with concurrent ranged GET requests, each written directly into the
+     * destination file at its offset.
+     */
+    private long downloadRangeSize = DEFAULT_DOWNLOAD_RANGE_SIZE;
+
+    /**
+     * The maximum number of files a streaming directory upload or download
+     * transfers at once. The next file of the directory is only visited once
+     * the transfer of one of these files is done, which bounds the memory used
+     * by the transfer of a directory, whatever its number of files.
+     */
+    private int maximumInFlightDirectoryTransfers = DEFAULT_MAXIMUM_IN_FLIGHT_DIRECTORY_TRANSFERS;
+
+    /**
+     * The size threshold, in bytes, up to which files are uploaded as small
+     * objects. A small object is read into a buffer reused by the thread
+     * uploading it, hashed in the same pass, and sent from the buffer; the
+     * byte count events of its request are published as a single event once
+     * the request is done, and its other request events are published as
+     * they happen. Zero disables small-object uploads.
+     */
+    private long smallObjectUploadThreshold = DEFAULT_SMALL_OBJECT_UPLOAD_THRESHOLD;
+
     /**
      * Returns the minimum part size for upload parts.
      * Decreasing the minimum part size causes
@@ -193,6 +231,104 @@ public class TransferManagerConfiguration {
         this.multipartCopyThreshold = multipartCopyThreshold;
     }
 
+    /**
+     * Returns the size in bytes of each byte range fetched when an object is
+     * downloaded in parallel. Objects no larger than this size are downloaded
+     * with a single GET request.
+     *
+     * @return The size in bytes of each byte range in a parallel download.
+     */
+    public long getDownloadRangeSize() {
+        return downloadRangeSize;
+    }
+
+    /**
+     * Sets the size in bytes of each byte range fetched when an object is
+     * downloaded in parallel. Decreasing this size will result in an increase
+     * in the number of GET requests to the server; objects no larger than this
+     * size are downloaded with a single GET request.
+     *
+     * @param downloadRangeSize
+     *            The size in bytes of each byte range in a parallel download.
+     */
+    public void setDownloadRangeSize(long downloadRangeSize) {
+        if (downloadRangeSize <= 0) {
+            throw new IllegalArgumentException("Download range size must be positive");
+        }
+        this.downloadRangeSize = downloadRangeSize;
+    }
+
+    /**
+     * Returns the maximum number of files a streaming directory upload or
+     * download transfers at once.
+     *
+     * @return The maximum number of files transferred at once by a streaming
+     *         directory transfer.
+     * @see TransferManager#uploadDirectoryStreaming(String, String, java.io.File, boolean, ObjectMetadataProvider)
+     * @see TransferManager#downloadDirectoryStreaming(String, String, java.io.File)
+     */
+    public int getMaximumInFlightDirectoryTransfers() {
+        return maximumInFlightDirectoryTransfers;
+    }
+
+    /**
+     * Sets the maximum number of files a streaming directory upload or
+     * download transfers at once. The files are still transferred by the
+     * thread pool of the transfer manager, so this number should be larger
+     * than the size of the pool to keep all its threads busy.
+     *
+     * @param maximumInFlightDirectoryTransfers
+     *            The maximum number of files transferred at once by a
+     *            streaming directory transfer.
+     */
+    public void setMaximumInFlightDirectoryTransfers(int maximumInFlightDirectoryTransfers) {
+        if (maximumInFlightDirectoryTransfers <= 0) {
+            throw new IllegalArgumentException("Maximum number of in-flight directory transfers must be positive");
+        }
+        this.maximumInFlightDirectoryTransfers = maximumInFlightDirectoryTransfers;
+    }
+
+    /**
+     * Returns the size threshold in bytes up to which files are uploaded as
+     * small objects; zero if small-object uploads are disabled.
+     *
+     * @return The size threshold in bytes for small-object uploads.
+     */
+    public long getSmallObjectUploadThreshold() {
+        return smallObjectUploadThreshold;
+    }
+
+    /**
+     * Sets the size threshold in bytes up to which files are uploaded as small
+     * objects, which cuts the per-object overhead of uploading many small
+     * files. A small object is read from disk once, rather than once to
+     * compute its MD5 digest and once more to send it, and from a buffer
+     * reused by each thread of the transfer manager. The request byte count
+     * events of its request are added up and published as a single event once
+     * the request is done; the other events of the request (such as the HTTP
+     * request and response events) and the transfer events are published as
+     * they happen.
+     * <p>
+     * Each thread of the transfer manager keeps its buffer between uploads,
+     * so that it is not allocated again for every file. A buffer is only kept
+     * up to 1 MB, so a threshold above 1 MB allocates a new buffer for every
+     * file larger than that, and holds it in memory while the file uploads.
+     * <p>
+     * Small-object uploads only apply to files below the multipart upload
+     * threshold, and not to clients encrypting the objects client side.
+     *
+     * @param smallObjectUploadThreshold
+     *            The size threshold in bytes for small-object uploads, up to
+     *            16 MB; zero to disable small-object uploads.
+     */
+    public void setSmallObjectUploadThreshold(long smallObjectUploadThreshold) {
+        if (smallObjectUploadThreshold < 0 || smallObjectUploadThreshold > MAX_SMALL_OBJECT_UPLOAD_THRESHOLD) {
+            throw new IllegalArgumentException("Small object upload threshold must be between 0 and "
+                    + MAX_SMALL_OBJECT_UPLOAD_THRESHOLD + " bytes");
+        }
+        this.smallObjectUploadThreshold = smallObjectUploadThreshold;
+    }
+
     /**
      * Sets the size threshold in bytes for when to use multipart uploads.
      * Uploads over this size will automatically use a multipart upload
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer.internal;
+
+import static com.amazonaws.event.SDKProgressPublisher.publishProgress;
+import static com.amazonaws.event.SDKProgressPublisher.publishRequestBytesTransferred;
+import static com.amazonaws.event.SDKProgressPublisher.publishRequestContentLength;
+import static com.amazonaws.event.SDKProgressPublisher.publishResponseBytesDiscarded;
+import static com.amazonaws.event.SDKProgressPublisher.publishResponseBytesTransferred;
+import static com.amazonaws.event.SDKProgressPublisher.publishResponseContentLength;
+import static com.amazonaws.event.SDKProgressPublisher.publishResponseReset;
+
+import com.amazonaws.event.ProgressEvent;
+import com.amazonaws.event.ProgressEventType;
+import com.amazonaws.event.ProgressListener;
+import com.amazonaws.event.SyncProgressListener;
+
+/**
+ * Listener of the request of a small-object upload, which adds up the bytes
+ * transferred by the request and publishes them as a single event on
+ * {@link #flush()}, and passes the other events through to the listener of
+ * the upload.
+ */
+final class BatchingProgressListener extends SyncProgressListener {
+
+    private final ProgressListener listener;
+
+    private long bytesTransferred;
+
+    BatchingProgressListener(ProgressListener listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public synchronized void progressChanged(ProgressEvent progressEvent) {
+        ProgressEventType type = progressEvent.getEventType();
+        switch (type) {
+            case REQUEST_BYTE_TRANSFER_EVENT:
+            case HTTP_REQUEST_CONTENT_RESET_EVENT:
+                // Resets are negative, so a retried request is counted once.
+                bytesTransferred += progressEvent.getBytesTransferred();
+                break;
+            case REQUEST_CONTENT_LENGTH_EVENT:
+                publishRequestContentLength(listener, progressEvent.getBytes());
+                break;
+            case RESPONSE_CONTENT_LENGTH_EVENT:
+                publishResponseContentLength(listener, progressEvent.getBytes());
+                break;
+            case RESPONSE_BYTE_TRANSFER_EVENT:
+                publishResponseBytesTransferred(listener, progressEvent.getBytes());
+                break;
+            case HTTP_RESPONSE_CONTENT_RESET_EVENT:
+                publishResponseReset(listener, progressEvent.getBytes());
+                break;
+            case RESPONSE_BYTE_DISCARD_EVENT:
+                publishResponseBytesDiscarded(listener, progressEvent.getBytes());
+                break;
+            default:
+                publishProgress(listener, type);
+        }
+    }
+
+    /**
+     * Publishes the bytes transferred since the previous call.
+     */
+    synchronized void flush() {
+        publishRequestBytesTransferred(listener, bytesTransferred);
+        bytesTransferred = 0;
+    }
+}
@@ -41,6 +41,12 @@ public class DownloadImpl extends AbstractTransfer implements Download {
      */
     private Integer lastFullyDownloadedPartNumber;
 
+    /**
+     * The byte ranges that have been successfully written into the downloaded
+     * file, as sorted and disjoint pairs of first and last byte.
+     */
+    private long[][] completedRanges;
+
     private final GetObjectRequest getObjectRequest;
     private final File file;
     private final ObjectMetadata objectMetadata;
@@ -114,6 +120,31 @@ public class DownloadImpl extends AbstractTransfer implements Download {
         S3ProgressPublisher.publishTransferPersistable(progressListenerChain, persistableDownload);
     }
 
+    /**
+     * Only for internal use.
+     * For parallel downloads, updates the persistableTransfer each time a
+     * byte range is successfully written into the download file.
+     * Then notify the listeners that new persistableTransfer is available.
+     */
+    @SdkInternalApi
+    public void updatePersistableTransfer(long[][] completedRanges) {
+        synchronized (this) {
+            this.completedRanges = completedRanges;
+        }
+
+        persistableDownload = captureDownloadState(getObjectRequest, file);
+        S3ProgressPublisher.publishTransferPersistable(progressListenerChain, persistableDownload);
+    }
+
+    /**
+     * For parallel downloads, returns the byte ranges that were successfully
+     * written into the download file.
+     * Returns null for serial downloads.
+     */
+    public synchronized long[][] getCompletedRanges() {
+        return completedRanges;
+    }
+
     /**
      * For parallel downloads, returns the last part number that was
      * successfully written into the download file.
@@ -180,7 +211,7 @@ public class DownloadImpl extends AbstractTransfer implements Download {
                     getObjectRequest.getVersionId(), getObjectRequest.getRange(),
                     getObjectRequest.getResponseHeaders(), getObjectRequest.isRequesterPays(),
                     file.getAbsolutePath(), getLastFullyDownloadedPartNumber(),
-                    getObjectMetadata().getLastModified().getTime());
+                    getObjectMetadata().getLastModified().getTime(), getCompletedRanges());
         }
         return null;
     }
@@ -25,7 +25,11 @@ import com.amazonaws.services.s3.model.GetObjectRequest;
  * Helper class to get a part from s3,
  * write the part data to a temporary file and
  * return the temporary file.
+ *
+ * @deprecated Parallel downloads now use {@link DownloadRangeCallable}, which
+ *             writes each byte range directly into the destination file.
  */
+@Deprecated
 public class DownloadPartCallable implements Callable<File> {
     private final AmazonS3 s3;
     private final GetObjectRequest getPartRequest;
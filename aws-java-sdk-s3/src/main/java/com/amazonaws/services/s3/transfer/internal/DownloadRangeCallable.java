@@ -0,0 +1,96 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer.internal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.Callable;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
+import com.amazonaws.util.IOUtils;
+
+/**
+ * Helper class to get a byte range of an object from s3 and write it directly
+ * into the destination file at the offset of the range, using positional
+ * writes on a channel shared with the other ranges of the same download.
+ * Returns the range once it has been fully written.
+ */
+@SdkInternalApi
+public class DownloadRangeCallable implements Callable<long[]> {
+    private static final Log LOG = LogFactory.getLog(DownloadRangeCallable.class);
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final AmazonS3 s3;
+    private final GetObjectRequest getRangeRequest;
+    private final FileChannel channel;
+    private final long firstByte;
+    private final long lastByte;
+
+    /**
+     * @param s3 the client to get the range with.
+     * @param getRangeRequest the request for the range, with the range set.
+     * @param channel the channel of the destination file.
+     */
+    public DownloadRangeCallable(AmazonS3 s3, GetObjectRequest getRangeRequest, FileChannel channel) {
+        this.s3 = s3;
+        this.getRangeRequest = getRangeRequest;
+        this.channel = channel;
+        long[] range = getRangeRequest.getRange();
+        this.firstByte = range[0];
+        this.lastByte = range[1];
+    }
+
+    public long[] call() throws Exception {
+        S3Object s3Object = s3.getObject(getRangeRequest);
+        if (s3Object == null) {
+            throw new AmazonClientException(
+                    "There is no object in S3 satisfying this request. The getObject method returned null");
+        }
+        S3ObjectInputStream content = s3Object.getObjectContent();
+        long position = firstByte;
+        try {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
+            int bytesRead;
+            while ((bytesRead = content.read(buffer)) > -1) {
+                byteBuffer.clear().limit(bytesRead);
+                while (byteBuffer.hasRemaining()) {
+                    position += channel.write(byteBuffer, position);
+                }
+            }
+        } catch (IOException e) {
+            content.abort();
+            throw new AmazonClientException(
+                    "Unable to store object contents to disk: " + e.getMessage(), e);
+        } finally {
+            IOUtils.closeQuietly(content, LOG);
+        }
+
+        if (position != lastByte + 1) {
+            throw new AmazonClientException("Expected to download bytes " + firstByte + "-" + lastByte
+                    + " of " + getRangeRequest.getKey() + " but received " + (position - firstByte) + " bytes");
+        }
+        return new long[] { firstByte, lastByte };
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer.internal;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterator over the files of a directory, optionally including the files of
+ * its subdirectories, which lists each directory only when the iteration
+ * reaches it. Only the listings of the directories on the path from the root
+ * to the current file are held in memory.
+ */
+public class FileTreeIterator implements Iterator<File> {
+
+    private final boolean includeSubdirectories;
+
+    /** The listings of the directories being iterated, innermost first. */
+    private final Deque<Listing> listings = new ArrayDeque<Listing>();
+
+    private File next;
+
+    public FileTreeIterator(File directory, boolean includeSubdirectories) {
+        this.includeSubdirectories = includeSubdirectories;
+        push(directory);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = findNext();
+        }
+        return next != null;
+    }
+
+    @Override
+    public File next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        File file = next;
+        next = null;
+        return file;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    private File findNext() {
+        while (!listings.isEmpty()) {
+            Listing listing = listings.peek();
+            if (listing.index == listing.files.length) {
+                listings.pop();
+                continue;
+            }
+            File f = listing.files[listing.index];
+            // Let the listing be collected entry by entry.
+            listing.files[listing.index++] = null;
+            if (f.isDirectory()) {
+                if (includeSubdirectories) {
+                    push(f);
+                }
+            } else {
+                return f;
+            }
+        }
+        return null;
+    }
+
+    private void push(File directory) {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            listings.push(new Listing(files));
+        }
+    }
+
+    private static final class Listing {
+        private final File[] files;
+        private int index;
+
+        private Listing(File[] files) {
+            this.files = files;
+        }
+    }
+}
@@ -15,6 +15,7 @@
 package com.amazonaws.services.s3.transfer.internal;
 
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -28,6 +29,14 @@ public class MultipleFileTransferMonitor implements TransferMonitor {
     private final AbstractTransfer transfer;
     private final Future<?> future;
 
+    /**
+     * The sub-transfers not known to be done yet: the first one found not
+     * done, and those after it. Sub-transfers never leave a terminal state,
+     * so each of them is found done only once, rather than on every call.
+     */
+    private Iterator<? extends AbstractTransfer> pendingSubTransfers;
+    private AbstractTransfer firstPendingSubTransfer;
+
     public MultipleFileTransferMonitor(AbstractTransfer transfer, Collection<? extends AbstractTransfer> subTransfers) {
         this.subTransfers = subTransfers;
         this.transfer = transfer;
@@ -82,9 +91,17 @@ public class MultipleFileTransferMonitor implements TransferMonitor {
 
     @Override
     public synchronized boolean isDone() {
-        for ( Transfer subTransfer : subTransfers ) {
-            if ( !subTransfer.isDone() )
+        if ( pendingSubTransfers == null )
+            pendingSubTransfers = subTransfers.iterator();
+        if ( firstPendingSubTransfer != null && !firstPendingSubTransfer.isDone() )
+            return false;
+        firstPendingSubTransfer = null;
+        while ( pendingSubTransfers.hasNext() ) {
+            AbstractTransfer subTransfer = pendingSubTransfers.next();
+            if ( !subTransfer.isDone() ) {
+                firstPendingSubTransfer = subTransfer;
                 return false;
+            }
         }
         return true;
     }
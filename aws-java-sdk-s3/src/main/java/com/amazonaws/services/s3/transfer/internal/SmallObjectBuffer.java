@@ -0,0 +1,152 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.annotation.NotThreadSafe;
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.util.Base64;
+
+/**
+ * Buffer reused by the small-object uploads of a thread, into which a file is
+ * read and hashed in a single pass, and from which it is sent.
+ * <p>
+ * An upload takes the buffer of its thread with {@link #take()}, and gives it
+ * back with {@link #giveBack()} once its request is done. This is safe because
+ * the request is executed, and retried, by the thread that takes the buffer,
+ * before giving it back. An upload started while the buffer is taken works
+ * with a buffer of its own.
+ * <p>
+ * A buffer grown beyond {@link #MAX_RETAINED_SIZE} by a large file is released
+ * when it is given back, so that each thread only keeps a bounded amount of
+ * memory between uploads.
+ */
+@NotThreadSafe
+@SdkInternalApi
+final class SmallObjectBuffer {
+
+    /** The largest buffer a thread keeps between uploads. */
+    private static final int MAX_RETAINED_SIZE = 1024 * 1024;
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private static final ThreadLocal<SmallObjectBuffer> BUFFERS = new ThreadLocal<SmallObjectBuffer>();
+
+    private final MessageDigest md5 = newMd5();
+
+    private byte[] buf = EMPTY;
+
+    private int count;
+
+    private SmallObjectBuffer() {
+    }
+
+    /**
+     * Takes the buffer of the current thread, or a new buffer if it is taken.
+     */
+    static SmallObjectBuffer take() {
+        SmallObjectBuffer buffer = BUFFERS.get();
+        if (buffer == null) {
+            return new SmallObjectBuffer();
+        }
+        BUFFERS.set(null);
+        return buffer;
+    }
+
+    /**
+     * Empties this buffer and makes it the buffer of the current thread,
+     * releasing its memory if it is larger than {@link #MAX_RETAINED_SIZE}.
+     */
+    void giveBack() {
+        count = 0;
+        md5.reset();
+        if (buf.length > MAX_RETAINED_SIZE) {
+            buf = EMPTY;
+        }
+        BUFFERS.set(this);
+    }
+
+    /**
+     * Reads the given file into this buffer, computing its MD5 digest on the
+     * way.
+     *
+     * @return the number of bytes read.
+     */
+    int readFile(File file) {
+        long length = file.length();
+        if (length > Integer.MAX_VALUE) {
+            throw new AmazonClientException("File too large to be uploaded as a small object: " + file);
+        }
+        if (buf.length < length) {
+            buf = new byte[(int) length];
+        }
+        count = 0;
+        md5.reset();
+        InputStream in = null;
+        try {
+            in = new FileInputStream(file);
+            int n;
+            while (count < buf.length && (n = in.read(buf, count, buf.length - count)) > 0) {
+                md5.update(buf, count, n);
+                count += n;
+            }
+        } catch (IOException e) {
+            throw new AmazonClientException("Unable to read file to upload: " + e.getMessage(), e);
+        } finally {
+            if (in != null) {
+                try {
+                    in.close();
+                } catch (IOException ignored) {
+                }
+            }
+        }
+        if (count != length) {
+            throw new AmazonClientException("File " + file + " changed while being read: expected "
+                    + length + " bytes but read " + count);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the Base64 encoded MD5 digest of the file read last.
+     */
+    String md5AsBase64() {
+        return Base64.encodeAsString(md5.digest());
+    }
+
+    /**
+     * Returns a stream over the file read last, which supports mark and reset
+     * so that its request can be retried.
+     */
+    InputStream newInputStream() {
+        return new ByteArrayInputStream(buf, 0, count);
+    }
+
+    private static MessageDigest newMd5() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new AmazonClientException("Unable to get MD5 Function: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer.internal;
+
+import java.io.IOException;
+
+import com.amazonaws.event.ProgressListenerChain;
+import com.amazonaws.services.s3.transfer.Download;
+import com.amazonaws.services.s3.transfer.MultipleFileDownload;
+import com.amazonaws.services.s3.transfer.TransferProgress;
+
+/**
+ * Multiple file download when streaming an entire virtual directory.
+ */
+public class StreamingMultipleFileDownloadImpl extends StreamingMultipleFileTransfer<Download>
+        implements MultipleFileDownload {
+
+    public StreamingMultipleFileDownloadImpl(String description, TransferProgress transferProgress,
+            ProgressListenerChain progressListenerChain, String keyPrefix, String bucketName,
+            int maximumInFlightTransfers) {
+        super(description, transferProgress, progressListenerChain, keyPrefix, bucketName,
+                maximumInFlightTransfers);
+    }
+
+    /**
+     * Stops listing the objects of the virtual directory and aborts the
+     * downloads in flight.
+     */
+    @Override
+    public void abort() throws IOException {
+        abortAll();
+    }
+
+    @Override
+    protected void abortSubTransfer(Download download) throws IOException {
+        download.abort();
+    }
+}
@@ -0,0 +1,359 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer.internal;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.event.ProgressListenerChain;
+import com.amazonaws.services.s3.transfer.Transfer;
+import com.amazonaws.services.s3.transfer.TransferProgress;
+
+/**
+ * Multiple file transfer which transfers the files of a directory as they are
+ * found, rather than after listing the whole directory.
+ * <p>
+ * The files are found by a walker running in its own thread, which calls
+ * {@link #beginFile(long)} before creating the transfer of each file and
+ * {@link #fileStarted(Transfer)} after. At most a given number of files are
+ * transferred at once: {@link #beginFile(long)} blocks until the transfer of
+ * one of them is done, so only the transfers in flight are held in memory,
+ * whatever the number of files. The progress is aggregated over all the files;
+ * its total grows as files are found.
+ * <p>
+ * The first failed file stops the walk; the transfer then fails once the files
+ * in flight are done.
+ */
+public abstract class StreamingMultipleFileTransfer<T extends Transfer> extends MultipleFileTransfer<T> {
+
+    private final String keyPrefix;
+    private final String bucketName;
+
+    /** The transfers in flight. */
+    private final Set<T> inFlight;
+
+    /** The permits of the files which can still be transferred at once. */
+    private final Semaphore window;
+
+    /** The number of files whose transfer is not done yet, plus one while the walk goes on. */
+    private final AtomicLong pending = new AtomicLong(1);
+
+    private final AtomicLong fileCount = new AtomicLong();
+    private final AtomicLong completedFileCount = new AtomicLong();
+    private final AtomicLong totalBytes = new AtomicLong();
+
+    private final CountDownLatch done = new CountDownLatch(1);
+
+    private final AtomicReference<T> failedTransfer = new AtomicReference<T>();
+    private final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+
+    /** Whether no more files should be transferred, after a failure or an abort. */
+    private volatile boolean stopped;
+    private volatile boolean canceled;
+
+    private volatile Thread walker;
+
+    protected StreamingMultipleFileTransfer(String description, TransferProgress transferProgress,
+            ProgressListenerChain progressListenerChain, String keyPrefix, String bucketName,
+            int maximumInFlightTransfers) {
+        this(description, transferProgress, progressListenerChain, keyPrefix, bucketName,
+                maximumInFlightTransfers, Collections.newSetFromMap(new ConcurrentHashMap<T, Boolean>()));
+    }
+
+    private StreamingMultipleFileTransfer(String description, TransferProgress transferProgress,
+            ProgressListenerChain progressListenerChain, String keyPrefix, String bucketName,
+            int maximumInFlightTransfers, Set<T> inFlight) {
+        super(description, transferProgress, progressListenerChain, inFlight);
+        if (maximumInFlightTransfers <= 0) {
+            throw new IllegalArgumentException("Maximum number of in-flight transfers must be positive");
+        }
+        this.keyPrefix = keyPrefix;
+        this.bucketName = bucketName;
+        this.inFlight = inFlight;
+        this.window = new Semaphore(maximumInFlightTransfers);
+        transferProgress.setTotalBytesToTransfer(0);
+        setMonitor(new StreamingMonitor());
+    }
+
+    /**
+     * Returns the key prefix of the virtual directory being transferred.
+     */
+    public String getKeyPrefix() {
+        return keyPrefix;
+    }
+
+    /**
+     * Returns the name of the bucket the files are transferred to or from.
+     */
+    public String getBucketName() {
+        return bucketName;
+    }
+
+    /**
+     * Returns the number of files found so far.
+     */
+    public long getFileCount() {
+        return fileCount.get();
+    }
+
+    /**
+     * Returns the number of files transferred successfully so far.
+     */
+    public long getCompletedFileCount() {
+        return completedFileCount.get();
+    }
+
+    /**
+     * Starts the walk of the directory in a new thread of the given factory.
+     * The walker is interrupted if this transfer is aborted.
+     */
+    public void start(final Callable<?> directoryWalker, ThreadFactory threadFactory) {
+        Thread thread = threadFactory.newThread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    directoryWalker.call();
+                } catch (Throwable t) {
+                    if (!canceled) {
+                        failure.compareAndSet(null, t);
+                        stopped = true;
+                    }
+                } finally {
+                    walker = null;
+                    finishOne();
+                }
+            }
+        });
+        walker = thread;
+        thread.start();
+    }
+
+    /**
+     * Waits until another file can be transferred, and accounts for its size.
+     *
+     * @param bytes
+     *            the number of bytes of the file.
+     * @return true if the transfer of the file should be created; false if no
+     *         more files should be transferred, in which case the walk should
+     *         end.
+     */
+    public boolean beginFile(long bytes) throws InterruptedException {
+        window.acquire();
+        if (stopped) {
+            window.release();
+            return false;
+        }
+        pending.incrementAndGet();
+        fileCount.incrementAndGet();
+        getProgress().setTotalBytesToTransfer(totalBytes.addAndGet(bytes));
+        return true;
+    }
+
+    /**
+     * Returns the state change listener to give to the transfer of the next
+     * file.
+     */
+    public TransferStateChangeListener newSubTransferListener() {
+        return new SubTransferListener();
+    }
+
+    /**
+     * Records the transfer created for the file begun last.
+     */
+    public void fileStarted(T transfer) throws IOException {
+        inFlight.add(transfer);
+        if (transfer.isDone()) {
+            // The transfer completed before being added; its listener found nothing to remove.
+            inFlight.remove(transfer);
+        } else if (canceled) {
+            abortSubTransfer(transfer);
+        }
+    }
+
+    /**
+     * Records that the transfer of the file begun last could not be created,
+     * which stops the walk.
+     */
+    public void fileFailedToStart(Throwable t) {
+        failure.compareAndSet(null, t);
+        stopped = true;
+        window.release();
+        finishOne();
+    }
+
+    /**
+     * Set the state based on the outcome of all the files: failed if any file
+     * or the walk failed, else canceled if any file was canceled, else
+     * completed.
+     */
+    @Override
+    public void collateFinalState() {
+        if (failedTransfer.get() != null || failure.get() != null) {
+            setState(TransferState.Failed);
+        } else if (canceled) {
+            setState(TransferState.Canceled);
+        } else {
+            setState(TransferState.Completed);
+        }
+    }
+
+    /**
+     * Stops the walk and aborts the transfers in flight.
+     */
+    protected void abortAll() throws IOException {
+        canceled = true;
+        stopped = true;
+        Thread thread = walker;
+        if (thread != null) {
+            thread.interrupt();
+        }
+        for (T transfer : inFlight) {
+            abortSubTransfer(transfer);
+        }
+    }
+
+    /**
+     * Aborts the given transfer in flight.
+     */
+    protected abstract void abortSubTransfer(T transfer) throws IOException;
+
+    private void subTransferStarted() {
+        synchronized (this) {
+            if (isDone() || getState() == TransferState.InProgress) {
+                return;
+            }
+            setState(TransferState.InProgress);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void subTransferDone(Transfer transfer, TransferState state) {
+        inFlight.remove(transfer);
+        if (state == TransferState.Failed) {
+            failedTransfer.compareAndSet(null, (T) transfer);
+            stopped = true;
+        } else if (state == TransferState.Canceled) {
+            canceled = true;
+        } else {
+            completedFileCount.incrementAndGet();
+        }
+        window.release();
+        finishOne();
+    }
+
+    private void finishOne() {
+        if (pending.decrementAndGet() == 0) {
+            synchronized (this) {
+                collateFinalState();
+            }
+            done.countDown();
+        }
+    }
+
+    /**
+     * Listener of the transfer of a single file, which accounts for its end
+     * exactly once.
+     */
+    private final class SubTransferListener implements TransferStateChangeListener {
+        private final AtomicBoolean finished = new AtomicBoolean();
+
+        @Override
+        public void transferStateChanged(Transfer transfer, TransferState state) {
+            if (state == TransferState.InProgress) {
+                subTransferStarted();
+            } else if (state == TransferState.Completed || state == TransferState.Failed
+                    || state == TransferState.Canceled) {
+                if (finished.compareAndSet(false, true)) {
+                    subTransferDone(transfer, state);
+                }
+            }
+        }
+    }
+
+    private final class StreamingMonitor implements TransferMonitor {
+
+        private final Future<TransferState> future = new Future<TransferState>() {
+
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                return false;
+            }
+
+            @Override
+            public TransferState get() throws InterruptedException, ExecutionException {
+                done.await();
+                return result();
+            }
+
+            @Override
+            public TransferState get(long timeout, TimeUnit unit)
+                    throws InterruptedException, ExecutionException, TimeoutException {
+                if (!done.await(timeout, unit)) {
+                    throw new TimeoutException();
+                }
+                return result();
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return getState() == TransferState.Canceled;
+            }
+
+            @Override
+            public boolean isDone() {
+                return StreamingMonitor.this.isDone();
+            }
+        };
+
+        @Override
+        public Future<?> getFuture() {
+            return future;
+        }
+
+        @Override
+        public boolean isDone() {
+            return done.getCount() == 0;
+        }
+
+        private TransferState result() throws InterruptedException, ExecutionException {
+            T failed = failedTransfer.get();
+            if (failed != null) {
+                AmazonClientException e = failed.waitForException();
+                if (e != null) {
+                    throw new ExecutionException(e);
+                }
+            }
+            Throwable t = failure.get();
+            if (t != null) {
+                throw new ExecutionException(t);
+            }
+            return getState();
+        }
+    }
+}
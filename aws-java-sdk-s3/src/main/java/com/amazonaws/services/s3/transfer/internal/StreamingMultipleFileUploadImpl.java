@@ -0,0 +1,65 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer.internal;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+
+import com.amazonaws.event.ProgressListenerChain;
+import com.amazonaws.services.s3.transfer.MultipleFileUpload;
+import com.amazonaws.services.s3.transfer.TransferProgress;
+import com.amazonaws.services.s3.transfer.Upload;
+
+/**
+ * Multiple file upload when streaming an entire directory.
+ */
+public class StreamingMultipleFileUploadImpl extends StreamingMultipleFileTransfer<Upload>
+        implements MultipleFileUpload {
+
+    public StreamingMultipleFileUploadImpl(String description, TransferProgress transferProgress,
+            ProgressListenerChain progressListenerChain, String keyPrefix, String bucketName,
+            int maximumInFlightTransfers) {
+        super(description, transferProgress, progressListenerChain, keyPrefix, bucketName,
+                maximumInFlightTransfers);
+    }
+
+    /**
+     * Returns the uploads currently in flight; the uploads already done are
+     * not kept.
+     */
+    @Override
+    public Collection<? extends Upload> getSubTransfers() {
+        return Collections.unmodifiableCollection(subTransfers);
+    }
+
+    /**
+     * Stops uploading the files of the directory and aborts the uploads in
+     * flight.
+     */
+    public void abort() {
+        try {
+            abortAll();
+        } catch (IOException e) {
+            // Uploads are aborted without any I/O.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    protected void abortSubTransfer(Upload upload) {
+        upload.abort();
+    }
+}
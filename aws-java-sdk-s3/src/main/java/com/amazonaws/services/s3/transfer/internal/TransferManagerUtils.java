@@ -188,26 +188,32 @@ public class TransferManagerUtils {
     }
 
     /**
-     * Returns true if the specified download request can use parallel part
+     * Returns true if the specified download request can use parallel ranged
      * downloads for increased performance.
      *
+     * @param s3
+     *            The Amazon s3 client.
+     *
      * @param getObjectRequest
      *            The request to check.
      *
-     * @param s3
-     *            The Amazon s3 client.
+     * @param objectSize
+     *            The size in bytes of the object to download.
+     *
+     * @param rangeSize
+     *            The size in bytes of each byte range in a parallel download.
      *
-     * @return True if this request can use parallel part downloads.
+     * @return True if this request can use parallel ranged downloads.
      */
     public static boolean isDownloadParallelizable(final AmazonS3 s3, final GetObjectRequest getObjectRequest,
-            Integer partCount) {
+            long objectSize, long rangeSize) {
         ValidationUtils.assertNotNull(s3, "S3 client");
         ValidationUtils.assertNotNull(getObjectRequest, "GetObjectRequest");
 
         if (s3 instanceof AmazonS3Encryption || getObjectRequest.getRange() != null
-                || getObjectRequest.getPartNumber() != null || partCount == null) {
+                || getObjectRequest.getPartNumber() != null) {
             return false;
         }
-        return true;
+        return objectSize > rangeSize;
     }
 }
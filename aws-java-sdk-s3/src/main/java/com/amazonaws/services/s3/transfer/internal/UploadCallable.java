@@ -16,6 +16,7 @@ package com.amazonaws.services.s3.transfer.internal;
 
 import static com.amazonaws.event.SDKProgressPublisher.publishProgress;
 
+import java.io.File;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -30,9 +31,11 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import com.amazonaws.event.ProgressEventType;
+import com.amazonaws.event.ProgressListener;
 import com.amazonaws.event.ProgressListenerChain;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3Encryption;
+import com.amazonaws.services.s3.internal.SkipMd5CheckStrategy;
 import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
 import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
 import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
@@ -40,6 +43,7 @@ import com.amazonaws.services.s3.model.EncryptedInitiateMultipartUploadRequest;
 import com.amazonaws.services.s3.model.EncryptedPutObjectRequest;
 import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
 import com.amazonaws.services.s3.model.ListPartsRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PartETag;
 import com.amazonaws.services.s3.model.PartListing;
 import com.amazonaws.services.s3.model.PartSummary;
@@ -128,7 +132,9 @@ public class UploadCallable implements Callable<UploadResult> {
      * Uploads the given request in a single chunk and returns the result.
      */
     private UploadResult uploadInOneChunk() {
-        PutObjectResult putObjectResult = s3.putObject(origReq);
+        PutObjectResult putObjectResult = isSmallObjectUpload()
+                ? putSmallObject()
+                : s3.putObject(origReq);
 
         UploadResult uploadResult = new UploadResult();
         uploadResult.setBucketName(origReq.getBucketName());
@@ -138,6 +144,48 @@ public class UploadCallable implements Callable<UploadResult> {
         return uploadResult;
     }
 
+    /**
+     * Returns true if the request uploads a file no larger than the small
+     * object upload threshold, to a client which doesn't encrypt it.
+     */
+    private boolean isSmallObjectUpload() {
+        long threshold = configuration.getSmallObjectUploadThreshold();
+        File file = origReq.getFile();
+        return threshold > 0 && file != null && file.length() <= threshold
+                && !(s3 instanceof AmazonS3Encryption);
+    }
+
+    /**
+     * Uploads the file of the request from the buffer of the current thread,
+     * into which it is read and hashed in one pass, rather than have the
+     * client read it once to hash it and once more to send it. The request is
+     * reused, with its file swapped for the buffer for the time of the upload.
+     */
+    private PutObjectResult putSmallObject() {
+        final File file = origReq.getFile();
+        final ProgressListener progressListener = origReq.getGeneralProgressListener();
+        final SmallObjectBuffer buffer = SmallObjectBuffer.take();
+        final BatchingProgressListener batchingListener = new BatchingProgressListener(progressListener);
+        try {
+            ObjectMetadata metadata = origReq.getMetadata();
+            metadata.setContentLength(buffer.readFile(file));
+            if (metadata.getContentMD5() == null
+                    && !SkipMd5CheckStrategy.INSTANCE.skipServerSideValidation(origReq)) {
+                metadata.setContentMD5(buffer.md5AsBase64());
+            }
+            origReq.setFile(null);
+            origReq.setInputStream(buffer.newInputStream());
+            origReq.setGeneralProgressListener(batchingListener);
+            return s3.putObject(origReq);
+        } finally {
+            origReq.setInputStream(null);
+            origReq.setFile(file);
+            origReq.setGeneralProgressListener(progressListener);
+            batchingListener.flush();
+            buffer.giveBack();
+        }
+    }
+
     /**
      * Captures the state of the upload.
      */
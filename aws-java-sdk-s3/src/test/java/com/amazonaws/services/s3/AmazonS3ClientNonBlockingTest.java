@@ -0,0 +1,171 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.util.EntityUtils;
+import org.junit.After;
+import org.junit.Test;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.http.client.AsyncHttpTransport;
+import com.amazonaws.http.client.HttpClientFactory;
+import com.amazonaws.http.settings.HttpClientSettings;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.util.BinaryUtils;
+import com.amazonaws.util.Md5Utils;
+
+/**
+ * Tests the non-blocking upload of the client against a stubbed transport
+ * that stores the uploaded content and answers with its MD5 as the ETag.
+ */
+public class AmazonS3ClientNonBlockingTest {
+
+    private final byte[] content = new byte[64 * 1024 + 3];
+
+    private StubTransport transport;
+
+    private AmazonS3Client s3;
+
+    @After
+    public void tearDown() {
+        if (s3 != null) {
+            s3.shutdown();
+        }
+    }
+
+    @Test
+    public void putObject_UploadsContentAndReturnsETag() throws Exception {
+        newClient(false);
+
+        Future<PutObjectResult> future = s3.putObjectNonBlockingAsync(newPutObjectRequest());
+
+        PutObjectResult result = future.get(10, TimeUnit.SECONDS);
+        assertArrayEquals(content, transport.uploaded);
+        assertEquals(BinaryUtils.toHex(Md5Utils.computeMD5Hash(content)), result.getETag());
+        assertEquals("PUT", transport.lastRequest.getMethod());
+        assertEquals("/bucket/key", transport.lastRequest.getURI().getPath());
+    }
+
+    @Test
+    public void putObject_FailsTheFutureWhenETagDoesNotMatch() throws Exception {
+        newClient(true);
+
+        Future<PutObjectResult> future = s3.putObjectNonBlockingAsync(newPutObjectRequest());
+
+        try {
+            future.get(10, TimeUnit.SECONDS);
+            fail("Expected exception");
+        } catch (ExecutionException expected) {
+            assertTrue(expected.getCause() instanceof AmazonClientException);
+            assertTrue(expected.getCause().getMessage().startsWith("Unable to verify integrity"));
+        }
+    }
+
+    private void newClient(boolean corruptETag) {
+        new Random(5).nextBytes(content);
+        transport = new StubTransport(corruptETag);
+        ClientConfiguration config = new ClientConfiguration().withMaxErrorRetry(0)
+                .withAsyncHttpTransportFactory(new HttpClientFactory<AsyncHttpTransport>() {
+                    @Override
+                    public AsyncHttpTransport create(HttpClientSettings settings) {
+                        return transport;
+                    }
+                });
+        s3 = new AmazonS3Client(new BasicAWSCredentials("access", "secret"), config);
+        s3.setEndpoint("http://localhost");
+        s3.setS3ClientOptions(new S3ClientOptions().withPathStyleAccess(true));
+        s3.setSignerRegionOverride("us-east-1");
+    }
+
+    private PutObjectRequest newPutObjectRequest() {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(content.length);
+        return new PutObjectRequest("bucket", "key", new ByteArrayInputStream(content), metadata);
+    }
+
+    /**
+     * Reads the uploaded content and answers with its MD5 as the ETag, on a
+     * thread of its own like a real transport would.
+     */
+    private static class StubTransport implements AsyncHttpTransport {
+
+        private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        private final boolean corruptETag;
+
+        private volatile HttpRequestBase lastRequest;
+
+        private volatile byte[] uploaded;
+
+        StubTransport(boolean corruptETag) {
+            this.corruptETag = corruptETag;
+        }
+
+        @Override
+        public Future<HttpResponse> execute(final HttpRequestBase request, HttpContext context,
+                final FutureCallback<HttpResponse> callback) {
+            lastRequest = request;
+            return executor.submit(new Callable<HttpResponse>() {
+                @Override
+                public HttpResponse call() throws Exception {
+                    try {
+                        uploaded = EntityUtils.toByteArray(((HttpEntityEnclosingRequest) request).getEntity());
+                    } catch (Exception e) {
+                        callback.failed(e);
+                        throw e;
+                    }
+                    byte[] md5 = Md5Utils.computeMD5Hash(uploaded);
+                    if (corruptETag) {
+                        md5[0]++;
+                    }
+                    HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, null);
+                    response.addHeader("ETag", "\"" + BinaryUtils.toHex(md5) + "\"");
+                    callback.completed(response);
+                    return response;
+                }
+            });
+        }
+
+        @Override
+        public void shutdown() {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -54,20 +54,28 @@ public class ActivityTaskCancelRequestedEventAttributesJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("decisionTaskCompletedEventId",
-                        targetDepth)) {
-                    context.nextToken();
-                    activityTaskCancelRequestedEventAttributes
-                            .setDecisionTaskCompletedEventId(context
-                                    .getUnmarshaller(Long.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("activityId", targetDepth)) {
-                    context.nextToken();
-                    activityTaskCancelRequestedEventAttributes
-                            .setActivityId(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1209463339:
+                        if (fieldName.equals("decisionTaskCompletedEventId")) {
+                            context.nextToken();
+                            activityTaskCancelRequestedEventAttributes
+                                    .setDecisionTaskCompletedEventId(context
+                                            .getUnmarshaller(Long.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case 2048619658:
+                        if (fieldName.equals("activityId")) {
+                            context.nextToken();
+                            activityTaskCancelRequestedEventAttributes
+                                    .setActivityId(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,30 +54,42 @@ public class ActivityTaskCanceledEventAttributesJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("details", targetDepth)) {
-                    context.nextToken();
-                    activityTaskCanceledEventAttributes.setDetails(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("scheduledEventId", targetDepth)) {
-                    context.nextToken();
-                    activityTaskCanceledEventAttributes
-                            .setScheduledEventId(context.getUnmarshaller(
-                                    Long.class).unmarshall(context));
-                }
-                if (context.testExpression("startedEventId", targetDepth)) {
-                    context.nextToken();
-                    activityTaskCanceledEventAttributes
-                            .setStartedEventId(context.getUnmarshaller(
-                                    Long.class).unmarshall(context));
-                }
-                if (context.testExpression("latestCancelRequestedEventId",
-                        targetDepth)) {
-                    context.nextToken();
-                    activityTaskCanceledEventAttributes
-                            .setLatestCancelRequestedEventId(context
-                                    .getUnmarshaller(Long.class).unmarshall(
-                                            context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1557721666:
+                        if (fieldName.equals("details")) {
+                            context.nextToken();
+                            activityTaskCanceledEventAttributes.setDetails(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 825518056:
+                        if (fieldName.equals("scheduledEventId")) {
+                            context.nextToken();
+                            activityTaskCanceledEventAttributes
+                                    .setScheduledEventId(context.getUnmarshaller(
+                                            Long.class).unmarshall(context));
+                        }
+                        break;
+                    case -1752092268:
+                        if (fieldName.equals("startedEventId")) {
+                            context.nextToken();
+                            activityTaskCanceledEventAttributes
+                                    .setStartedEventId(context.getUnmarshaller(
+                                            Long.class).unmarshall(context));
+                        }
+                        break;
+                    case -343691000:
+                        if (fieldName.equals("latestCancelRequestedEventId")) {
+                            context.nextToken();
+                            activityTaskCanceledEventAttributes
+                                    .setLatestCancelRequestedEventId(context
+                                            .getUnmarshaller(Long.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
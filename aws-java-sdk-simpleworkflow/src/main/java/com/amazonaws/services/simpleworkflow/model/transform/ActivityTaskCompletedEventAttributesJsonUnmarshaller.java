@@ -54,22 +54,33 @@ public class ActivityTaskCompletedEventAttributesJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("result", targetDepth)) {
-                    context.nextToken();
-                    activityTaskCompletedEventAttributes.setResult(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("scheduledEventId", targetDepth)) {
-                    context.nextToken();
-                    activityTaskCompletedEventAttributes
-                            .setScheduledEventId(context.getUnmarshaller(
-                                    Long.class).unmarshall(context));
-                }
-                if (context.testExpression("startedEventId", targetDepth)) {
-                    context.nextToken();
-                    activityTaskCompletedEventAttributes
-                            .setStartedEventId(context.getUnmarshaller(
-                                    Long.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -934426595:
+                        if (fieldName.equals("result")) {
+                            context.nextToken();
+                            activityTaskCompletedEventAttributes.setResult(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 825518056:
+                        if (fieldName.equals("scheduledEventId")) {
+                            context.nextToken();
+                            activityTaskCompletedEventAttributes
+                                    .setScheduledEventId(context.getUnmarshaller(
+                                            Long.class).unmarshall(context));
+                        }
+                        break;
+                    case -1752092268:
+                        if (fieldName.equals("startedEventId")) {
+                            context.nextToken();
+                            activityTaskCompletedEventAttributes
+                                    .setStartedEventId(context.getUnmarshaller(
+                                            Long.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,26 +54,39 @@ public class ActivityTaskFailedEventAttributesJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("reason", targetDepth)) {
-                    context.nextToken();
-                    activityTaskFailedEventAttributes.setReason(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("details", targetDepth)) {
-                    context.nextToken();
-                    activityTaskFailedEventAttributes.setDetails(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("scheduledEventId", targetDepth)) {
-                    context.nextToken();
-                    activityTaskFailedEventAttributes
-                            .setScheduledEventId(context.getUnmarshaller(
-                                    Long.class).unmarshall(context));
-                }
-                if (context.testExpression("startedEventId", targetDepth)) {
-                    context.nextToken();
-                    activityTaskFailedEventAttributes.setStartedEventId(context
-                            .getUnmarshaller(Long.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -934964668:
+                        if (fieldName.equals("reason")) {
+                            context.nextToken();
+                            activityTaskFailedEventAttributes.setReason(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1557721666:
+                        if (fieldName.equals("details")) {
+                            context.nextToken();
+                            activityTaskFailedEventAttributes.setDetails(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 825518056:
+                        if (fieldName.equals("scheduledEventId")) {
+                            context.nextToken();
+                            activityTaskFailedEventAttributes
+                                    .setScheduledEventId(context.getUnmarshaller(
+                                            Long.class).unmarshall(context));
+                        }
+                        break;
+                    case -1752092268:
+                        if (fieldName.equals("startedEventId")) {
+                            context.nextToken();
+                            activityTaskFailedEventAttributes.setStartedEventId(context
+                                    .getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,36 +53,53 @@ public class ActivityTaskJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("taskToken", targetDepth)) {
-                    context.nextToken();
-                    activityTask.setTaskToken(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("activityId", targetDepth)) {
-                    context.nextToken();
-                    activityTask.setActivityId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("startedEventId", targetDepth)) {
-                    context.nextToken();
-                    activityTask.setStartedEventId(context.getUnmarshaller(
-                            Long.class).unmarshall(context));
-                }
-                if (context.testExpression("workflowExecution", targetDepth)) {
-                    context.nextToken();
-                    activityTask
-                            .setWorkflowExecution(WorkflowExecutionJsonUnmarshaller
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 170606452:
+                        if (fieldName.equals("taskToken")) {
+                            context.nextToken();
+                            activityTask.setTaskToken(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2048619658:
+                        if (fieldName.equals("activityId")) {
+                            context.nextToken();
+                            activityTask.setActivityId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1752092268:
+                        if (fieldName.equals("startedEventId")) {
+                            context.nextToken();
+                            activityTask.setStartedEventId(context.getUnmarshaller(
+                                    Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 1400674841:
+                        if (fieldName.equals("workflowExecution")) {
+                            context.nextToken();
+                            activityTask
+                                    .setWorkflowExecution(WorkflowExecutionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1628821225:
+                        if (fieldName.equals("activityType")) {
+                            context.nextToken();
+                            activityTask.setActivityType(ActivityTypeJsonUnmarshaller
                                     .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("activityType", targetDepth)) {
-                    context.nextToken();
-                    activityTask.setActivityType(ActivityTypeJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("input", targetDepth)) {
-                    context.nextToken();
-                    activityTask.setInput(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
+                        }
+                        break;
+                    case 100358090:
+                        if (fieldName.equals("input")) {
+                            context.nextToken();
+                            activityTask.setInput(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
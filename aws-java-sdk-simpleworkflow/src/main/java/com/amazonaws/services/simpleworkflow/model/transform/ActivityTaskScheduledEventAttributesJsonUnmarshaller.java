@@ -54,72 +54,96 @@ public class ActivityTaskScheduledEventAttributesJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("activityType", targetDepth)) {
-                    context.nextToken();
-                    activityTaskScheduledEventAttributes
-                            .setActivityType(ActivityTypeJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("activityId", targetDepth)) {
-                    context.nextToken();
-                    activityTaskScheduledEventAttributes.setActivityId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("input", targetDepth)) {
-                    context.nextToken();
-                    activityTaskScheduledEventAttributes.setInput(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("control", targetDepth)) {
-                    context.nextToken();
-                    activityTaskScheduledEventAttributes.setControl(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("scheduleToStartTimeout",
-                        targetDepth)) {
-                    context.nextToken();
-                    activityTaskScheduledEventAttributes
-                            .setScheduleToStartTimeout(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("scheduleToCloseTimeout",
-                        targetDepth)) {
-                    context.nextToken();
-                    activityTaskScheduledEventAttributes
-                            .setScheduleToCloseTimeout(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("startToCloseTimeout", targetDepth)) {
-                    context.nextToken();
-                    activityTaskScheduledEventAttributes
-                            .setStartToCloseTimeout(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("taskList", targetDepth)) {
-                    context.nextToken();
-                    activityTaskScheduledEventAttributes
-                            .setTaskList(TaskListJsonUnmarshaller.getInstance()
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("taskPriority", targetDepth)) {
-                    context.nextToken();
-                    activityTaskScheduledEventAttributes
-                            .setTaskPriority(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("decisionTaskCompletedEventId",
-                        targetDepth)) {
-                    context.nextToken();
-                    activityTaskScheduledEventAttributes
-                            .setDecisionTaskCompletedEventId(context
-                                    .getUnmarshaller(Long.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("heartbeatTimeout", targetDepth)) {
-                    context.nextToken();
-                    activityTaskScheduledEventAttributes
-                            .setHeartbeatTimeout(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1628821225:
+                        if (fieldName.equals("activityType")) {
+                            context.nextToken();
+                            activityTaskScheduledEventAttributes
+                                    .setActivityType(ActivityTypeJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 2048619658:
+                        if (fieldName.equals("activityId")) {
+                            context.nextToken();
+                            activityTaskScheduledEventAttributes.setActivityId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 100358090:
+                        if (fieldName.equals("input")) {
+                            context.nextToken();
+                            activityTaskScheduledEventAttributes.setInput(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 951543133:
+                        if (fieldName.equals("control")) {
+                            context.nextToken();
+                            activityTaskScheduledEventAttributes.setControl(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 167238449:
+                        if (fieldName.equals("scheduleToStartTimeout")) {
+                            context.nextToken();
+                            activityTaskScheduledEventAttributes
+                                    .setScheduleToStartTimeout(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1043403557:
+                        if (fieldName.equals("scheduleToCloseTimeout")) {
+                            context.nextToken();
+                            activityTaskScheduledEventAttributes
+                                    .setScheduleToCloseTimeout(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case 591830886:
+                        if (fieldName.equals("startToCloseTimeout")) {
+                            context.nextToken();
+                            activityTaskScheduledEventAttributes
+                                    .setStartToCloseTimeout(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case -410382397:
+                        if (fieldName.equals("taskList")) {
+                            context.nextToken();
+                            activityTaskScheduledEventAttributes
+                                    .setTaskList(TaskListJsonUnmarshaller.getInstance()
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1528938057:
+                        if (fieldName.equals("taskPriority")) {
+                            context.nextToken();
+                            activityTaskScheduledEventAttributes
+                                    .setTaskPriority(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1209463339:
+                        if (fieldName.equals("decisionTaskCompletedEventId")) {
+                            context.nextToken();
+                            activityTaskScheduledEventAttributes
+                                    .setDecisionTaskCompletedEventId(context
+                                            .getUnmarshaller(Long.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case 337158341:
+                        if (fieldName.equals("heartbeatTimeout")) {
+                            context.nextToken();
+                            activityTaskScheduledEventAttributes
+                                    .setHeartbeatTimeout(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,16 +54,25 @@ public class ActivityTaskStartedEventAttributesJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("identity", targetDepth)) {
-                    context.nextToken();
-                    activityTaskStartedEventAttributes.setIdentity(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("scheduledEventId", targetDepth)) {
-                    context.nextToken();
-                    activityTaskStartedEventAttributes
-                            .setScheduledEventId(context.getUnmarshaller(
-                                    Long.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -135761730:
+                        if (fieldName.equals("identity")) {
+                            context.nextToken();
+                            activityTaskStartedEventAttributes.setIdentity(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 825518056:
+                        if (fieldName.equals("scheduledEventId")) {
+                            context.nextToken();
+                            activityTaskStartedEventAttributes
+                                    .setScheduledEventId(context.getUnmarshaller(
+                                            Long.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
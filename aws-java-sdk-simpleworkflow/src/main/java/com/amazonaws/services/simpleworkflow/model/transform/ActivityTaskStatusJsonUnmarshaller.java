@@ -53,11 +53,18 @@ public class ActivityTaskStatusJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("cancelRequested", targetDepth)) {
-                    context.nextToken();
-                    activityTaskStatus
-                            .setCancelRequested(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 954741268:
+                        if (fieldName.equals("cancelRequested")) {
+                            context.nextToken();
+                            activityTaskStatus
+                                    .setCancelRequested(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,27 +54,40 @@ public class ActivityTaskTimedOutEventAttributesJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("timeoutType", targetDepth)) {
-                    context.nextToken();
-                    activityTaskTimedOutEventAttributes.setTimeoutType(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("scheduledEventId", targetDepth)) {
-                    context.nextToken();
-                    activityTaskTimedOutEventAttributes
-                            .setScheduledEventId(context.getUnmarshaller(
-                                    Long.class).unmarshall(context));
-                }
-                if (context.testExpression("startedEventId", targetDepth)) {
-                    context.nextToken();
-                    activityTaskTimedOutEventAttributes
-                            .setStartedEventId(context.getUnmarshaller(
-                                    Long.class).unmarshall(context));
-                }
-                if (context.testExpression("details", targetDepth)) {
-                    context.nextToken();
-                    activityTaskTimedOutEventAttributes.setDetails(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -2067810245:
+                        if (fieldName.equals("timeoutType")) {
+                            context.nextToken();
+                            activityTaskTimedOutEventAttributes.setTimeoutType(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 825518056:
+                        if (fieldName.equals("scheduledEventId")) {
+                            context.nextToken();
+                            activityTaskTimedOutEventAttributes
+                                    .setScheduledEventId(context.getUnmarshaller(
+                                            Long.class).unmarshall(context));
+                        }
+                        break;
+                    case -1752092268:
+                        if (fieldName.equals("startedEventId")) {
+                            context.nextToken();
+                            activityTaskTimedOutEventAttributes
+                                    .setStartedEventId(context.getUnmarshaller(
+                                            Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 1557721666:
+                        if (fieldName.equals("details")) {
+                            context.nextToken();
+                            activityTaskTimedOutEventAttributes.setDetails(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,48 +53,61 @@ public class ActivityTypeConfigurationJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("defaultTaskStartToCloseTimeout",
-                        targetDepth)) {
-                    context.nextToken();
-                    activityTypeConfiguration
-                            .setDefaultTaskStartToCloseTimeout(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("defaultTaskHeartbeatTimeout",
-                        targetDepth)) {
-                    context.nextToken();
-                    activityTypeConfiguration
-                            .setDefaultTaskHeartbeatTimeout(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("defaultTaskList", targetDepth)) {
-                    context.nextToken();
-                    activityTypeConfiguration
-                            .setDefaultTaskList(TaskListJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("defaultTaskPriority", targetDepth)) {
-                    context.nextToken();
-                    activityTypeConfiguration.setDefaultTaskPriority(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("defaultTaskScheduleToStartTimeout",
-                        targetDepth)) {
-                    context.nextToken();
-                    activityTypeConfiguration
-                            .setDefaultTaskScheduleToStartTimeout(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("defaultTaskScheduleToCloseTimeout",
-                        targetDepth)) {
-                    context.nextToken();
-                    activityTypeConfiguration
-                            .setDefaultTaskScheduleToCloseTimeout(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1084750368:
+                        if (fieldName.equals("defaultTaskStartToCloseTimeout")) {
+                            context.nextToken();
+                            activityTypeConfiguration
+                                    .setDefaultTaskStartToCloseTimeout(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case 2041696331:
+                        if (fieldName.equals("defaultTaskHeartbeatTimeout")) {
+                            context.nextToken();
+                            activityTypeConfiguration
+                                    .setDefaultTaskHeartbeatTimeout(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case 1587706148:
+                        if (fieldName.equals("defaultTaskList")) {
+                            context.nextToken();
+                            activityTypeConfiguration
+                                    .setDefaultTaskList(TaskListJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1395953450:
+                        if (fieldName.equals("defaultTaskPriority")) {
+                            context.nextToken();
+                            activityTypeConfiguration.setDefaultTaskPriority(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 238341687:
+                        if (fieldName.equals("defaultTaskScheduleToStartTimeout")) {
+                            context.nextToken();
+                            activityTypeConfiguration
+                                    .setDefaultTaskScheduleToStartTimeout(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -972300319:
+                        if (fieldName.equals("defaultTaskScheduleToCloseTimeout")) {
+                            context.nextToken();
+                            activityTypeConfiguration
+                                    .setDefaultTaskScheduleToCloseTimeout(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class ActivityTypeInfosJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("typeInfos", targetDepth)) {
-                    context.nextToken();
-                    activityTypeInfos
-                            .setTypeInfos(new ListUnmarshaller<ActivityTypeInfo>(
-                                    ActivityTypeInfoJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextPageToken", targetDepth)) {
-                    context.nextToken();
-                    activityTypeInfos.setNextPageToken(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 498869867:
+                        if (fieldName.equals("typeInfos")) {
+                            context.nextToken();
+                            activityTypeInfos
+                                    .setTypeInfos(new ListUnmarshaller<ActivityTypeInfo>(
+                                            ActivityTypeInfoJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1386094857:
+                        if (fieldName.equals("nextPageToken")) {
+                            context.nextToken();
+                            activityTypeInfos.setNextPageToken(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,23 +53,33 @@ public class CancelTimerFailedEventAttributesJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("timerId", targetDepth)) {
-                    context.nextToken();
-                    cancelTimerFailedEventAttributes.setTimerId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("cause", targetDepth)) {
-                    context.nextToken();
-                    cancelTimerFailedEventAttributes.setCause(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("decisionTaskCompletedEventId",
-                        targetDepth)) {
-                    context.nextToken();
-                    cancelTimerFailedEventAttributes
-                            .setDecisionTaskCompletedEventId(context
-                                    .getUnmarshaller(Long.class).unmarshall(
-                                            context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1313909952:
+                        if (fieldName.equals("timerId")) {
+                            context.nextToken();
+                            cancelTimerFailedEventAttributes.setTimerId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 94434409:
+                        if (fieldName.equals("cause")) {
+                            context.nextToken();
+                            cancelTimerFailedEventAttributes.setCause(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1209463339:
+                        if (fieldName.equals("decisionTaskCompletedEventId")) {
+                            context.nextToken();
+                            cancelTimerFailedEventAttributes
+                                    .setDecisionTaskCompletedEventId(context
+                                            .getUnmarshaller(Long.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,11 +54,18 @@ public class CancelWorkflowExecutionDecisionAttributesJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("details", targetDepth)) {
-                    context.nextToken();
-                    cancelWorkflowExecutionDecisionAttributes
-                            .setDetails(context.getUnmarshaller(String.class)
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1557721666:
+                        if (fieldName.equals("details")) {
+                            context.nextToken();
+                            cancelWorkflowExecutionDecisionAttributes
+                                    .setDetails(context.getUnmarshaller(String.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
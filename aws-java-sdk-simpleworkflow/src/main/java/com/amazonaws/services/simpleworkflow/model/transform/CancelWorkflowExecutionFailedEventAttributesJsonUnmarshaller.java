@@ -54,19 +54,27 @@ public class CancelWorkflowExecutionFailedEventAttributesJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("cause", targetDepth)) {
-                    context.nextToken();
-                    cancelWorkflowExecutionFailedEventAttributes
-                            .setCause(context.getUnmarshaller(String.class)
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("decisionTaskCompletedEventId",
-                        targetDepth)) {
-                    context.nextToken();
-                    cancelWorkflowExecutionFailedEventAttributes
-                            .setDecisionTaskCompletedEventId(context
-                                    .getUnmarshaller(Long.class).unmarshall(
-                                            context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 94434409:
+                        if (fieldName.equals("cause")) {
+                            context.nextToken();
+                            cancelWorkflowExecutionFailedEventAttributes
+                                    .setCause(context.getUnmarshaller(String.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1209463339:
+                        if (fieldName.equals("decisionTaskCompletedEventId")) {
+                            context.nextToken();
+                            cancelWorkflowExecutionFailedEventAttributes
+                                    .setDecisionTaskCompletedEventId(context
+                                            .getUnmarshaller(Long.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
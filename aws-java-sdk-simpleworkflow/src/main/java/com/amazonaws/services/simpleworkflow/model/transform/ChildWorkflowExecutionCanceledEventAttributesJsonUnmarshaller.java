@@ -54,35 +54,50 @@ public class ChildWorkflowExecutionCanceledEventAttributesJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("workflowExecution", targetDepth)) {
-                    context.nextToken();
-                    childWorkflowExecutionCanceledEventAttributes
-                            .setWorkflowExecution(WorkflowExecutionJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("workflowType", targetDepth)) {
-                    context.nextToken();
-                    childWorkflowExecutionCanceledEventAttributes
-                            .setWorkflowType(WorkflowTypeJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("details", targetDepth)) {
-                    context.nextToken();
-                    childWorkflowExecutionCanceledEventAttributes
-                            .setDetails(context.getUnmarshaller(String.class)
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("initiatedEventId", targetDepth)) {
-                    context.nextToken();
-                    childWorkflowExecutionCanceledEventAttributes
-                            .setInitiatedEventId(context.getUnmarshaller(
-                                    Long.class).unmarshall(context));
-                }
-                if (context.testExpression("startedEventId", targetDepth)) {
-                    context.nextToken();
-                    childWorkflowExecutionCanceledEventAttributes
-                            .setStartedEventId(context.getUnmarshaller(
-                                    Long.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1400674841:
+                        if (fieldName.equals("workflowExecution")) {
+                            context.nextToken();
+                            childWorkflowExecutionCanceledEventAttributes
+                                    .setWorkflowExecution(WorkflowExecutionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1560535961:
+                        if (fieldName.equals("workflowType")) {
+                            context.nextToken();
+                            childWorkflowExecutionCanceledEventAttributes
+                                    .setWorkflowType(WorkflowTypeJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1557721666:
+                        if (fieldName.equals("details")) {
+                            context.nextToken();
+                            childWorkflowExecutionCanceledEventAttributes
+                                    .setDetails(context.getUnmarshaller(String.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1080051178:
+                        if (fieldName.equals("initiatedEventId")) {
+                            context.nextToken();
+                            childWorkflowExecutionCanceledEventAttributes
+                                    .setInitiatedEventId(context.getUnmarshaller(
+                                            Long.class).unmarshall(context));
+                        }
+                        break;
+                    case -1752092268:
+                        if (fieldName.equals("startedEventId")) {
+                            context.nextToken();
+                            childWorkflowExecutionCanceledEventAttributes
+                                    .setStartedEventId(context.getUnmarshaller(
+                                            Long.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,35 +54,50 @@ public class ChildWorkflowExecutionCompletedEventAttributesJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("workflowExecution", targetDepth)) {
-                    context.nextToken();
-                    childWorkflowExecutionCompletedEventAttributes
-                            .setWorkflowExecution(WorkflowExecutionJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("workflowType", targetDepth)) {
-                    context.nextToken();
-                    childWorkflowExecutionCompletedEventAttributes
-                            .setWorkflowType(WorkflowTypeJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("result", targetDepth)) {
-                    context.nextToken();
-                    childWorkflowExecutionCompletedEventAttributes
-                            .setResult(context.getUnmarshaller(String.class)
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("initiatedEventId", targetDepth)) {
-                    context.nextToken();
-                    childWorkflowExecutionCompletedEventAttributes
-                            .setInitiatedEventId(context.getUnmarshaller(
-                                    Long.class).unmarshall(context));
-                }
-                if (context.testExpression("startedEventId", targetDepth)) {
-                    context.nextToken();
-                    childWorkflowExecutionCompletedEventAttributes
-                            .setStartedEventId(context.getUnmarshaller(
-                                    Long.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1400674841:
+                        if (fieldName.equals("workflowExecution")) {
+                            context.nextToken();
+                            childWorkflowExecutionCompletedEventAttributes
+                                    .setWorkflowExecution(WorkflowExecutionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1560535961:
+                        if (fieldName.equals("workflowType")) {
+                            context.nextToken();
+                            childWorkflowExecutionCompletedEventAttributes
+                                    .setWorkflowType(WorkflowTypeJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -934426595:
+                        if (fieldName.equals("result")) {
+                            context.nextToken();
+                            childWorkflowExecutionCompletedEventAttributes
+                                    .setResult(context.getUnmarshaller(String.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1080051178:
+                        if (fieldName.equals("initiatedEventId")) {
+                            context.nextToken();
+                            childWorkflowExecutionCompletedEventAttributes
+                                    .setInitiatedEventId(context.getUnmarshaller(
+                                            Long.class).unmarshall(context));
+                        }
+                        break;
+                    case -1752092268:
+                        if (fieldName.equals("startedEventId")) {
+                            context.nextToken();
+                            childWorkflowExecutionCompletedEventAttributes
+                                    .setStartedEventId(context.getUnmarshaller(
+                                            Long.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
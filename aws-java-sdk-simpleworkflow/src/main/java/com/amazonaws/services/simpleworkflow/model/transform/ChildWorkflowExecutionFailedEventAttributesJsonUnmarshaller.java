@@ -54,41 +54,58 @@ public class ChildWorkflowExecutionFailedEventAttributesJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("workflowExecution", targetDepth)) {
-                    context.nextToken();
-                    childWorkflowExecutionFailedEventAttributes
-                            .setWorkflowExecution(WorkflowExecutionJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("workflowType", targetDepth)) {
-                    context.nextToken();
-                    childWorkflowExecutionFailedEventAttributes
-                            .setWorkflowType(WorkflowTypeJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("reason", targetDepth)) {
-                    context.nextToken();
-                    childWorkflowExecutionFailedEventAttributes
-                            .setReason(context.getUnmarshaller(String.class)
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("details", targetDepth)) {
-                    context.nextToken();
-                    childWorkflowExecutionFailedEventAttributes
-                            .setDetails(context.getUnmarshaller(String.class)
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("initiatedEventId", targetDepth)) {
-                    context.nextToken();
-                    childWorkflowExecutionFailedEventAttributes
-                            .setInitiatedEventId(context.getUnmarshaller(
-                                    Long.class).unmarshall(context));
-                }
-                if (context.testExpression("startedEventId", targetDepth)) {
-                    context.nextToken();
-                    childWorkflowExecutionFailedEventAttributes
-                            .setStartedEventId(context.getUnmarshaller(
-                                    Long.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1400674841:
+                        if (fieldName.equals("workflowExecution")) {
+                            context.nextToken();
+                            childWorkflowExecutionFailedEventAttributes
+                                    .setWorkflowExecution(WorkflowExecutionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1560535961:
+                        if (fieldName.equals("workflowType")) {
+                            context.nextToken();
+                            childWorkflowExecutionFailedEventAttributes
+                                    .setWorkflowType(WorkflowTypeJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -934964668:
+                        if (fieldName.equals("reason")) {
+                            context.nextToken();
+                            childWorkflowExecutionFailedEventAttributes
+                                    .setReason(context.getUnmarshaller(String.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1557721666:
+                        if (fieldName.equals("details")) {
+                            context.nextToken();
+                            childWorkflowExecutionFailedEventAttributes
+                                    .setDetails(context.getUnmarshaller(String.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1080051178:
+                        if (fieldName.equals("initiatedEventId")) {
+                            context.nextToken();
+                            childWorkflowExecutionFailedEventAttributes
+                                    .setInitiatedEventId(context.getUnmarshaller(
+                                            Long.class).unmarshall(context));
+                        }
+                        break;
+                    case -1752092268:
+                        if (fieldName.equals("startedEventId")) {
+                            context.nextToken();
+                            childWorkflowExecutionFailedEventAttributes
+                                    .setStartedEventId(context.getUnmarshaller(
+                                            Long.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,23 +54,34 @@ public class ChildWorkflowExecutionStartedEventAttributesJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("workflowExecution", targetDepth)) {
-                    context.nextToken();
-                    childWorkflowExecutionStartedEventAttributes
-                            .setWorkflowExecution(WorkflowExecutionJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("workflowType", targetDepth)) {
-                    context.nextToken();
-                    childWorkflowExecutionStartedEventAttributes
-                            .setWorkflowType(WorkflowTypeJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("initiatedEventId", targetDepth)) {
-                    context.nextToken();
-                    childWorkflowExecutionStartedEventAttributes
-                            .setInitiatedEventId(context.getUnmarshaller(
-                                    Long.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1400674841:
+                        if (fieldName.equals("workflowExecution")) {
+                            context.nextToken();
+                            childWorkflowExecutionStartedEventAttributes
+                                    .setWorkflowExecution(WorkflowExecutionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1560535961:
+                        if (fieldName.equals("workflowType")) {
+                            context.nextToken();
+                            childWorkflowExecutionStartedEventAttributes
+                                    .setWorkflowType(WorkflowTypeJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1080051178:
+                        if (fieldName.equals("initiatedEventId")) {
+                            context.nextToken();
+                            childWorkflowExecutionStartedEventAttributes
+                                    .setInitiatedEventId(context.getUnmarshaller(
+                                            Long.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,11 +54,18 @@ public class CompleteWorkflowExecutionDecisionAttributesJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("result", targetDepth)) {
-                    context.nextToken();
-                    completeWorkflowExecutionDecisionAttributes
-                            .setResult(context.getUnmarshaller(String.class)
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -934426595:
+                        if (fieldName.equals("result")) {
+                            context.nextToken();
+                            completeWorkflowExecutionDecisionAttributes
+                                    .setResult(context.getUnmarshaller(String.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
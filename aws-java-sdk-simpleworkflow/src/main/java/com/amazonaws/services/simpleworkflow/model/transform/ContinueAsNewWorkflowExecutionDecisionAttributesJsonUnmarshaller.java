@@ -54,65 +54,86 @@ public class ContinueAsNewWorkflowExecutionDecisionAttributesJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("input", targetDepth)) {
-                    context.nextToken();
-                    continueAsNewWorkflowExecutionDecisionAttributes
-                            .setInput(context.getUnmarshaller(String.class)
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("executionStartToCloseTimeout",
-                        targetDepth)) {
-                    context.nextToken();
-                    continueAsNewWorkflowExecutionDecisionAttributes
-                            .setExecutionStartToCloseTimeout(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("taskList", targetDepth)) {
-                    context.nextToken();
-                    continueAsNewWorkflowExecutionDecisionAttributes
-                            .setTaskList(TaskListJsonUnmarshaller.getInstance()
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("taskPriority", targetDepth)) {
-                    context.nextToken();
-                    continueAsNewWorkflowExecutionDecisionAttributes
-                            .setTaskPriority(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("taskStartToCloseTimeout",
-                        targetDepth)) {
-                    context.nextToken();
-                    continueAsNewWorkflowExecutionDecisionAttributes
-                            .setTaskStartToCloseTimeout(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("childPolicy", targetDepth)) {
-                    context.nextToken();
-                    continueAsNewWorkflowExecutionDecisionAttributes
-                            .setChildPolicy(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("tagList", targetDepth)) {
-                    context.nextToken();
-                    continueAsNewWorkflowExecutionDecisionAttributes
-                            .setTagList(new ListUnmarshaller<String>(context
-                                    .getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("workflowTypeVersion", targetDepth)) {
-                    context.nextToken();
-                    continueAsNewWorkflowExecutionDecisionAttributes
-                            .setWorkflowTypeVersion(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("lambdaRole", targetDepth)) {
-                    context.nextToken();
-                    continueAsNewWorkflowExecutionDecisionAttributes
-                            .setLambdaRole(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 100358090:
+                        if (fieldName.equals("input")) {
+                            context.nextToken();
+                            continueAsNewWorkflowExecutionDecisionAttributes
+                                    .setInput(context.getUnmarshaller(String.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 499356974:
+                        if (fieldName.equals("executionStartToCloseTimeout")) {
+                            context.nextToken();
+                            continueAsNewWorkflowExecutionDecisionAttributes
+                                    .setExecutionStartToCloseTimeout(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -410382397:
+                        if (fieldName.equals("taskList")) {
+                            context.nextToken();
+                            continueAsNewWorkflowExecutionDecisionAttributes
+                                    .setTaskList(TaskListJsonUnmarshaller.getInstance()
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1528938057:
+                        if (fieldName.equals("taskPriority")) {
+                            context.nextToken();
+                            continueAsNewWorkflowExecutionDecisionAttributes
+                                    .setTaskPriority(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2121953697:
+                        if (fieldName.equals("taskStartToCloseTimeout")) {
+                            context.nextToken();
+                            continueAsNewWorkflowExecutionDecisionAttributes
+                                    .setTaskStartToCloseTimeout(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -1374076562:
+                        if (fieldName.equals("childPolicy")) {
+                            context.nextToken();
+                            continueAsNewWorkflowExecutionDecisionAttributes
+                                    .setChildPolicy(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1549236392:
+                        if (fieldName.equals("tagList")) {
+                            context.nextToken();
+                            continueAsNewWorkflowExecutionDecisionAttributes
+                                    .setTagList(new ListUnmarshaller<String>(context
+                                            .getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1037548801:
+                        if (fieldName.equals("workflowTypeVersion")) {
+                            context.nextToken();
+                            continueAsNewWorkflowExecutionDecisionAttributes
+                                    .setWorkflowTypeVersion(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1745816797:
+                        if (fieldName.equals("lambdaRole")) {
+                            context.nextToken();
+                            continueAsNewWorkflowExecutionDecisionAttributes
+                                    .setLambdaRole(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
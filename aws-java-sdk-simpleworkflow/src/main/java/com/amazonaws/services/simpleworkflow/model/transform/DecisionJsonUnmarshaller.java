@@ -53,98 +53,108 @@ public class DecisionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("decisionType", targetDepth)) {
-                    context.nextToken();
-                    decision.setDecisionType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression(
-                        "scheduleActivityTaskDecisionAttributes", targetDepth)) {
-                    context.nextToken();
-                    decision.setScheduleActivityTaskDecisionAttributes(ScheduleActivityTaskDecisionAttributesJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "requestCancelActivityTaskDecisionAttributes",
-                        targetDepth)) {
-                    context.nextToken();
-                    decision.setRequestCancelActivityTaskDecisionAttributes(RequestCancelActivityTaskDecisionAttributesJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "completeWorkflowExecutionDecisionAttributes",
-                        targetDepth)) {
-                    context.nextToken();
-                    decision.setCompleteWorkflowExecutionDecisionAttributes(CompleteWorkflowExecutionDecisionAttributesJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "failWorkflowExecutionDecisionAttributes", targetDepth)) {
-                    context.nextToken();
-                    decision.setFailWorkflowExecutionDecisionAttributes(FailWorkflowExecutionDecisionAttributesJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "cancelWorkflowExecutionDecisionAttributes",
-                        targetDepth)) {
-                    context.nextToken();
-                    decision.setCancelWorkflowExecutionDecisionAttributes(CancelWorkflowExecutionDecisionAttributesJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "continueAsNewWorkflowExecutionDecisionAttributes",
-                        targetDepth)) {
-                    context.nextToken();
-                    decision.setContinueAsNewWorkflowExecutionDecisionAttributes(ContinueAsNewWorkflowExecutionDecisionAttributesJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("recordMarkerDecisionAttributes",
-                        targetDepth)) {
-                    context.nextToken();
-                    decision.setRecordMarkerDecisionAttributes(RecordMarkerDecisionAttributesJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("startTimerDecisionAttributes",
-                        targetDepth)) {
-                    context.nextToken();
-                    decision.setStartTimerDecisionAttributes(StartTimerDecisionAttributesJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("cancelTimerDecisionAttributes",
-                        targetDepth)) {
-                    context.nextToken();
-                    decision.setCancelTimerDecisionAttributes(CancelTimerDecisionAttributesJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "signalExternalWorkflowExecutionDecisionAttributes",
-                        targetDepth)) {
-                    context.nextToken();
-                    decision.setSignalExternalWorkflowExecutionDecisionAttributes(SignalExternalWorkflowExecutionDecisionAttributesJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context
-                        .testExpression(
-                                "requestCancelExternalWorkflowExecutionDecisionAttributes",
-                                targetDepth)) {
-                    context.nextToken();
-                    decision.setRequestCancelExternalWorkflowExecutionDecisionAttributes(RequestCancelExternalWorkflowExecutionDecisionAttributesJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "startChildWorkflowExecutionDecisionAttributes",
-                        targetDepth)) {
-                    context.nextToken();
-                    decision.setStartChildWorkflowExecutionDecisionAttributes(StartChildWorkflowExecutionDecisionAttributesJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context
-                        .testExpression(
-                                "scheduleLambdaFunctionDecisionAttributes",
-                                targetDepth)) {
-                    context.nextToken();
-                    decision.setScheduleLambdaFunctionDecisionAttributes(ScheduleLambdaFunctionDecisionAttributesJsonUnmarshaller
-                            .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 676128054:
+                        if (fieldName.equals("decisionType")) {
+                            context.nextToken();
+                            decision.setDecisionType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1982455010:
+                        if (fieldName.equals("scheduleActivityTaskDecisionAttributes")) {
+                            context.nextToken();
+                            decision.setScheduleActivityTaskDecisionAttributes(ScheduleActivityTaskDecisionAttributesJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 90708720:
+                        if (fieldName.equals("requestCancelActivityTaskDecisionAttributes")) {
+                            context.nextToken();
+                            decision.setRequestCancelActivityTaskDecisionAttributes(RequestCancelActivityTaskDecisionAttributesJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1054558125:
+                        if (fieldName.equals("completeWorkflowExecutionDecisionAttributes")) {
+                            context.nextToken();
+                            decision.setCompleteWorkflowExecutionDecisionAttributes(CompleteWorkflowExecutionDecisionAttributesJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 14508110:
+                        if (fieldName.equals("failWorkflowExecutionDecisionAttributes")) {
+                            context.nextToken();
+                            decision.setFailWorkflowExecutionDecisionAttributes(FailWorkflowExecutionDecisionAttributesJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 557050738:
+                        if (fieldName.equals("cancelWorkflowExecutionDecisionAttributes")) {
+                            context.nextToken();
+                            decision.setCancelWorkflowExecutionDecisionAttributes(CancelWorkflowExecutionDecisionAttributesJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 680251173:
+                        if (fieldName.equals("continueAsNewWorkflowExecutionDecisionAttributes")) {
+                            context.nextToken();
+                            decision.setContinueAsNewWorkflowExecutionDecisionAttributes(ContinueAsNewWorkflowExecutionDecisionAttributesJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1633219998:
+                        if (fieldName.equals("recordMarkerDecisionAttributes")) {
+                            context.nextToken();
+                            decision.setRecordMarkerDecisionAttributes(RecordMarkerDecisionAttributesJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 218182582:
+                        if (fieldName.equals("startTimerDecisionAttributes")) {
+                            context.nextToken();
+                            decision.setStartTimerDecisionAttributes(StartTimerDecisionAttributesJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 763358878:
+                        if (fieldName.equals("cancelTimerDecisionAttributes")) {
+                            context.nextToken();
+                            decision.setCancelTimerDecisionAttributes(CancelTimerDecisionAttributesJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1634372793:
+                        if (fieldName.equals("signalExternalWorkflowExecutionDecisionAttributes")) {
+                            context.nextToken();
+                            decision.setSignalExternalWorkflowExecutionDecisionAttributes(SignalExternalWorkflowExecutionDecisionAttributesJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 725530328:
+                        if (fieldName.equals("requestCancelExternalWorkflowExecutionDecisionAttributes")) {
+                            context.nextToken();
+                            decision.setRequestCancelExternalWorkflowExecutionDecisionAttributes(RequestCancelExternalWorkflowExecutionDecisionAttributesJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1374736366:
+                        if (fieldName.equals("startChildWorkflowExecutionDecisionAttributes")) {
+                            context.nextToken();
+                            decision.setStartChildWorkflowExecutionDecisionAttributes(StartChildWorkflowExecutionDecisionAttributesJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1556425769:
+                        if (fieldName.equals("scheduleLambdaFunctionDecisionAttributes")) {
+                            context.nextToken();
+                            decision.setScheduleLambdaFunctionDecisionAttributes(ScheduleLambdaFunctionDecisionAttributesJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
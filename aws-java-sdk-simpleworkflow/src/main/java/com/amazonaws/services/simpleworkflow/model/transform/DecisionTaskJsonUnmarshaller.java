@@ -53,43 +53,61 @@ public class DecisionTaskJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("taskToken", targetDepth)) {
-                    context.nextToken();
-                    decisionTask.setTaskToken(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("startedEventId", targetDepth)) {
-                    context.nextToken();
-                    decisionTask.setStartedEventId(context.getUnmarshaller(
-                            Long.class).unmarshall(context));
-                }
-                if (context.testExpression("workflowExecution", targetDepth)) {
-                    context.nextToken();
-                    decisionTask
-                            .setWorkflowExecution(WorkflowExecutionJsonUnmarshaller
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 170606452:
+                        if (fieldName.equals("taskToken")) {
+                            context.nextToken();
+                            decisionTask.setTaskToken(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1752092268:
+                        if (fieldName.equals("startedEventId")) {
+                            context.nextToken();
+                            decisionTask.setStartedEventId(context.getUnmarshaller(
+                                    Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 1400674841:
+                        if (fieldName.equals("workflowExecution")) {
+                            context.nextToken();
+                            decisionTask
+                                    .setWorkflowExecution(WorkflowExecutionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1560535961:
+                        if (fieldName.equals("workflowType")) {
+                            context.nextToken();
+                            decisionTask.setWorkflowType(WorkflowTypeJsonUnmarshaller
                                     .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("workflowType", targetDepth)) {
-                    context.nextToken();
-                    decisionTask.setWorkflowType(WorkflowTypeJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("events", targetDepth)) {
-                    context.nextToken();
-                    decisionTask.setEvents(new ListUnmarshaller<HistoryEvent>(
-                            HistoryEventJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("nextPageToken", targetDepth)) {
-                    context.nextToken();
-                    decisionTask.setNextPageToken(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("previousStartedEventId",
-                        targetDepth)) {
-                    context.nextToken();
-                    decisionTask.setPreviousStartedEventId(context
-                            .getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    case -1291329255:
+                        if (fieldName.equals("events")) {
+                            context.nextToken();
+                            decisionTask.setEvents(new ListUnmarshaller<HistoryEvent>(
+                                    HistoryEventJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1386094857:
+                        if (fieldName.equals("nextPageToken")) {
+                            context.nextToken();
+                            decisionTask.setNextPageToken(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 277986411:
+                        if (fieldName.equals("previousStartedEventId")) {
+                            context.nextToken();
+                            decisionTask.setPreviousStartedEventId(context
+                                    .getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,23 +54,34 @@ public class DecisionTaskScheduledEventAttributesJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("taskList", targetDepth)) {
-                    context.nextToken();
-                    decisionTaskScheduledEventAttributes
-                            .setTaskList(TaskListJsonUnmarshaller.getInstance()
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("taskPriority", targetDepth)) {
-                    context.nextToken();
-                    decisionTaskScheduledEventAttributes
-                            .setTaskPriority(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("startToCloseTimeout", targetDepth)) {
-                    context.nextToken();
-                    decisionTaskScheduledEventAttributes
-                            .setStartToCloseTimeout(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -410382397:
+                        if (fieldName.equals("taskList")) {
+                            context.nextToken();
+                            decisionTaskScheduledEventAttributes
+                                    .setTaskList(TaskListJsonUnmarshaller.getInstance()
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1528938057:
+                        if (fieldName.equals("taskPriority")) {
+                            context.nextToken();
+                            decisionTaskScheduledEventAttributes
+                                    .setTaskPriority(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case 591830886:
+                        if (fieldName.equals("startToCloseTimeout")) {
+                            context.nextToken();
+                            decisionTaskScheduledEventAttributes
+                                    .setStartToCloseTimeout(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
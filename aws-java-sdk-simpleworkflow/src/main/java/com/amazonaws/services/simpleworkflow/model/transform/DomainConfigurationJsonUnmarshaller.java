@@ -53,13 +53,19 @@ public class DomainConfigurationJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression(
-                        "workflowExecutionRetentionPeriodInDays", targetDepth)) {
-                    context.nextToken();
-                    domainConfiguration
-                            .setWorkflowExecutionRetentionPeriodInDays(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -850179614:
+                        if (fieldName.equals("workflowExecutionRetentionPeriodInDays")) {
+                            context.nextToken();
+                            domainConfiguration
+                                    .setWorkflowExecutionRetentionPeriodInDays(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
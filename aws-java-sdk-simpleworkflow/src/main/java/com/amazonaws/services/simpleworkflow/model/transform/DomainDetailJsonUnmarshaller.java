@@ -53,16 +53,25 @@ public class DomainDetailJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("domainInfo", targetDepth)) {
-                    context.nextToken();
-                    domainDetail.setDomainInfo(DomainInfoJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("configuration", targetDepth)) {
-                    context.nextToken();
-                    domainDetail
-                            .setConfiguration(DomainConfigurationJsonUnmarshaller
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1244222574:
+                        if (fieldName.equals("domainInfo")) {
+                            context.nextToken();
+                            domainDetail.setDomainInfo(DomainInfoJsonUnmarshaller
                                     .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1932752118:
+                        if (fieldName.equals("configuration")) {
+                            context.nextToken();
+                            domainDetail
+                                    .setConfiguration(DomainConfigurationJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
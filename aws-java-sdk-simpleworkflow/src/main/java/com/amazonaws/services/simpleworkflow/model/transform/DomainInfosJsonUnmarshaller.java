@@ -53,17 +53,26 @@ public class DomainInfosJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("domainInfos", targetDepth)) {
-                    context.nextToken();
-                    domainInfos
-                            .setDomainInfos(new ListUnmarshaller<DomainInfo>(
-                                    DomainInfoJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("nextPageToken", targetDepth)) {
-                    context.nextToken();
-                    domainInfos.setNextPageToken(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 83805985:
+                        if (fieldName.equals("domainInfos")) {
+                            context.nextToken();
+                            domainInfos
+                                    .setDomainInfos(new ListUnmarshaller<DomainInfo>(
+                                            DomainInfoJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1386094857:
+                        if (fieldName.equals("nextPageToken")) {
+                            context.nextToken();
+                            domainInfos.setNextPageToken(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
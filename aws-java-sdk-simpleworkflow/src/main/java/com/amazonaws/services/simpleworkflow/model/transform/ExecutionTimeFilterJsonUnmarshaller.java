@@ -53,15 +53,24 @@ public class ExecutionTimeFilterJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("oldestDate", targetDepth)) {
-                    context.nextToken();
-                    executionTimeFilter.setOldestDate(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("latestDate", targetDepth)) {
-                    context.nextToken();
-                    executionTimeFilter.setLatestDate(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1237179827:
+                        if (fieldName.equals("oldestDate")) {
+                            context.nextToken();
+                            executionTimeFilter.setOldestDate(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case -125315115:
+                        if (fieldName.equals("latestDate")) {
+                            context.nextToken();
+                            executionTimeFilter.setLatestDate(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,436 +53,463 @@ public class HistoryEventJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("eventTimestamp", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setEventTimestamp(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("eventType", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setEventType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("eventId", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setEventId(context.getUnmarshaller(Long.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression(
-                        "workflowExecutionStartedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setWorkflowExecutionStartedEventAttributes(WorkflowExecutionStartedEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "workflowExecutionCompletedEventAttributes",
-                        targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setWorkflowExecutionCompletedEventAttributes(WorkflowExecutionCompletedEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "completeWorkflowExecutionFailedEventAttributes",
-                        targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setCompleteWorkflowExecutionFailedEventAttributes(CompleteWorkflowExecutionFailedEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "workflowExecutionFailedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setWorkflowExecutionFailedEventAttributes(WorkflowExecutionFailedEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "failWorkflowExecutionFailedEventAttributes",
-                        targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setFailWorkflowExecutionFailedEventAttributes(FailWorkflowExecutionFailedEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context
-                        .testExpression(
-                                "workflowExecutionTimedOutEventAttributes",
-                                targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setWorkflowExecutionTimedOutEventAttributes(WorkflowExecutionTimedOutEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context
-                        .testExpression(
-                                "workflowExecutionCanceledEventAttributes",
-                                targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setWorkflowExecutionCanceledEventAttributes(WorkflowExecutionCanceledEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "cancelWorkflowExecutionFailedEventAttributes",
-                        targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setCancelWorkflowExecutionFailedEventAttributes(CancelWorkflowExecutionFailedEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "workflowExecutionContinuedAsNewEventAttributes",
-                        targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setWorkflowExecutionContinuedAsNewEventAttributes(WorkflowExecutionContinuedAsNewEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "continueAsNewWorkflowExecutionFailedEventAttributes",
-                        targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setContinueAsNewWorkflowExecutionFailedEventAttributes(ContinueAsNewWorkflowExecutionFailedEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "workflowExecutionTerminatedEventAttributes",
-                        targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setWorkflowExecutionTerminatedEventAttributes(WorkflowExecutionTerminatedEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "workflowExecutionCancelRequestedEventAttributes",
-                        targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setWorkflowExecutionCancelRequestedEventAttributes(WorkflowExecutionCancelRequestedEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "decisionTaskScheduledEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setDecisionTaskScheduledEventAttributes(DecisionTaskScheduledEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "decisionTaskStartedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setDecisionTaskStartedEventAttributes(DecisionTaskStartedEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "decisionTaskCompletedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setDecisionTaskCompletedEventAttributes(DecisionTaskCompletedEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "decisionTaskTimedOutEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setDecisionTaskTimedOutEventAttributes(DecisionTaskTimedOutEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "activityTaskScheduledEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setActivityTaskScheduledEventAttributes(ActivityTaskScheduledEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "activityTaskStartedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setActivityTaskStartedEventAttributes(ActivityTaskStartedEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "activityTaskCompletedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setActivityTaskCompletedEventAttributes(ActivityTaskCompletedEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("activityTaskFailedEventAttributes",
-                        targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setActivityTaskFailedEventAttributes(ActivityTaskFailedEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "activityTaskTimedOutEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setActivityTaskTimedOutEventAttributes(ActivityTaskTimedOutEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "activityTaskCanceledEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setActivityTaskCanceledEventAttributes(ActivityTaskCanceledEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "activityTaskCancelRequestedEventAttributes",
-                        targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setActivityTaskCancelRequestedEventAttributes(ActivityTaskCancelRequestedEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context
-                        .testExpression(
-                                "workflowExecutionSignaledEventAttributes",
-                                targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setWorkflowExecutionSignaledEventAttributes(WorkflowExecutionSignaledEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("markerRecordedEventAttributes",
-                        targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setMarkerRecordedEventAttributes(MarkerRecordedEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("recordMarkerFailedEventAttributes",
-                        targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setRecordMarkerFailedEventAttributes(RecordMarkerFailedEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("timerStartedEventAttributes",
-                        targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setTimerStartedEventAttributes(TimerStartedEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("timerFiredEventAttributes",
-                        targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setTimerFiredEventAttributes(TimerFiredEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("timerCanceledEventAttributes",
-                        targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setTimerCanceledEventAttributes(TimerCanceledEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "startChildWorkflowExecutionInitiatedEventAttributes",
-                        targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setStartChildWorkflowExecutionInitiatedEventAttributes(StartChildWorkflowExecutionInitiatedEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "childWorkflowExecutionStartedEventAttributes",
-                        targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setChildWorkflowExecutionStartedEventAttributes(ChildWorkflowExecutionStartedEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "childWorkflowExecutionCompletedEventAttributes",
-                        targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setChildWorkflowExecutionCompletedEventAttributes(ChildWorkflowExecutionCompletedEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "childWorkflowExecutionFailedEventAttributes",
-                        targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setChildWorkflowExecutionFailedEventAttributes(ChildWorkflowExecutionFailedEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "childWorkflowExecutionTimedOutEventAttributes",
-                        targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setChildWorkflowExecutionTimedOutEventAttributes(ChildWorkflowExecutionTimedOutEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "childWorkflowExecutionCanceledEventAttributes",
-                        targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setChildWorkflowExecutionCanceledEventAttributes(ChildWorkflowExecutionCanceledEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "childWorkflowExecutionTerminatedEventAttributes",
-                        targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setChildWorkflowExecutionTerminatedEventAttributes(ChildWorkflowExecutionTerminatedEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context
-                        .testExpression(
-                                "signalExternalWorkflowExecutionInitiatedEventAttributes",
-                                targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setSignalExternalWorkflowExecutionInitiatedEventAttributes(SignalExternalWorkflowExecutionInitiatedEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "externalWorkflowExecutionSignaledEventAttributes",
-                        targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setExternalWorkflowExecutionSignaledEventAttributes(ExternalWorkflowExecutionSignaledEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "signalExternalWorkflowExecutionFailedEventAttributes",
-                        targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setSignalExternalWorkflowExecutionFailedEventAttributes(SignalExternalWorkflowExecutionFailedEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context
-                        .testExpression(
-                                "externalWorkflowExecutionCancelRequestedEventAttributes",
-                                targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setExternalWorkflowExecutionCancelRequestedEventAttributes(ExternalWorkflowExecutionCancelRequestedEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context
-                        .testExpression(
-                                "requestCancelExternalWorkflowExecutionInitiatedEventAttributes",
-                                targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setRequestCancelExternalWorkflowExecutionInitiatedEventAttributes(RequestCancelExternalWorkflowExecutionInitiatedEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context
-                        .testExpression(
-                                "requestCancelExternalWorkflowExecutionFailedEventAttributes",
-                                targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setRequestCancelExternalWorkflowExecutionFailedEventAttributes(RequestCancelExternalWorkflowExecutionFailedEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "scheduleActivityTaskFailedEventAttributes",
-                        targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setScheduleActivityTaskFailedEventAttributes(ScheduleActivityTaskFailedEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "requestCancelActivityTaskFailedEventAttributes",
-                        targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setRequestCancelActivityTaskFailedEventAttributes(RequestCancelActivityTaskFailedEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("startTimerFailedEventAttributes",
-                        targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setStartTimerFailedEventAttributes(StartTimerFailedEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("cancelTimerFailedEventAttributes",
-                        targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setCancelTimerFailedEventAttributes(CancelTimerFailedEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "startChildWorkflowExecutionFailedEventAttributes",
-                        targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setStartChildWorkflowExecutionFailedEventAttributes(StartChildWorkflowExecutionFailedEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "lambdaFunctionScheduledEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setLambdaFunctionScheduledEventAttributes(LambdaFunctionScheduledEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "lambdaFunctionStartedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setLambdaFunctionStartedEventAttributes(LambdaFunctionStartedEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "lambdaFunctionCompletedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setLambdaFunctionCompletedEventAttributes(LambdaFunctionCompletedEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "lambdaFunctionFailedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setLambdaFunctionFailedEventAttributes(LambdaFunctionFailedEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "lambdaFunctionTimedOutEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setLambdaFunctionTimedOutEventAttributes(LambdaFunctionTimedOutEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression(
-                        "scheduleLambdaFunctionFailedEventAttributes",
-                        targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setScheduleLambdaFunctionFailedEventAttributes(ScheduleLambdaFunctionFailedEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context
-                        .testExpression(
-                                "startLambdaFunctionFailedEventAttributes",
-                                targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setStartLambdaFunctionFailedEventAttributes(StartLambdaFunctionFailedEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1011032988:
+                        if (fieldName.equals("eventTimestamp")) {
+                            context.nextToken();
+                            historyEvent.setEventTimestamp(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 31430900:
+                        if (fieldName.equals("eventType")) {
+                            context.nextToken();
+                            historyEvent.setEventType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1376502443:
+                        if (fieldName.equals("eventId")) {
+                            context.nextToken();
+                            historyEvent.setEventId(context.getUnmarshaller(Long.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -712965559:
+                        if (fieldName.equals("workflowExecutionStartedEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setWorkflowExecutionStartedEventAttributes(WorkflowExecutionStartedEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 569001215:
+                        if (fieldName.equals("workflowExecutionCompletedEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setWorkflowExecutionCompletedEventAttributes(WorkflowExecutionCompletedEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -5596268:
+                        if (fieldName.equals("completeWorkflowExecutionFailedEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setCompleteWorkflowExecutionFailedEventAttributes(CompleteWorkflowExecutionFailedEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1192316677:
+                        if (fieldName.equals("workflowExecutionFailedEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setWorkflowExecutionFailedEventAttributes(WorkflowExecutionFailedEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1364110777:
+                        if (fieldName.equals("failWorkflowExecutionFailedEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setFailWorkflowExecutionFailedEventAttributes(FailWorkflowExecutionFailedEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 680179617:
+                        if (fieldName.equals("workflowExecutionTimedOutEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setWorkflowExecutionTimedOutEventAttributes(WorkflowExecutionTimedOutEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 853294943:
+                        if (fieldName.equals("workflowExecutionCanceledEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setWorkflowExecutionCanceledEventAttributes(WorkflowExecutionCanceledEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -2005360619:
+                        if (fieldName.equals("cancelWorkflowExecutionFailedEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setCancelWorkflowExecutionFailedEventAttributes(CancelWorkflowExecutionFailedEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1083014727:
+                        if (fieldName.equals("workflowExecutionContinuedAsNewEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setWorkflowExecutionContinuedAsNewEventAttributes(WorkflowExecutionContinuedAsNewEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 356727682:
+                        if (fieldName.equals("continueAsNewWorkflowExecutionFailedEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setContinueAsNewWorkflowExecutionFailedEventAttributes(ContinueAsNewWorkflowExecutionFailedEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1129291051:
+                        if (fieldName.equals("workflowExecutionTerminatedEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setWorkflowExecutionTerminatedEventAttributes(WorkflowExecutionTerminatedEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -906899626:
+                        if (fieldName.equals("workflowExecutionCancelRequestedEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setWorkflowExecutionCancelRequestedEventAttributes(WorkflowExecutionCancelRequestedEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -109747259:
+                        if (fieldName.equals("decisionTaskScheduledEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setDecisionTaskScheduledEventAttributes(DecisionTaskScheduledEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1786541489:
+                        if (fieldName.equals("decisionTaskStartedEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setDecisionTaskStartedEventAttributes(DecisionTaskStartedEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1708555879:
+                        if (fieldName.equals("decisionTaskCompletedEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setDecisionTaskCompletedEventAttributes(DecisionTaskCompletedEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 855486777:
+                        if (fieldName.equals("decisionTaskTimedOutEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setDecisionTaskTimedOutEventAttributes(DecisionTaskTimedOutEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1082207352:
+                        if (fieldName.equals("activityTaskScheduledEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setActivityTaskScheduledEventAttributes(ActivityTaskScheduledEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -281489628:
+                        if (fieldName.equals("activityTaskStartedEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setActivityTaskStartedEventAttributes(ActivityTaskStartedEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1394456806:
+                        if (fieldName.equals("activityTaskCompletedEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setActivityTaskCompletedEventAttributes(ActivityTaskCompletedEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1592548544:
+                        if (fieldName.equals("activityTaskFailedEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setActivityTaskFailedEventAttributes(ActivityTaskFailedEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1171031590:
+                        if (fieldName.equals("activityTaskTimedOutEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setActivityTaskTimedOutEventAttributes(ActivityTaskTimedOutEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1344146916:
+                        if (fieldName.equals("activityTaskCanceledEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setActivityTaskCanceledEventAttributes(ActivityTaskCanceledEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1683451599:
+                        if (fieldName.equals("activityTaskCancelRequestedEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setActivityTaskCancelRequestedEventAttributes(ActivityTaskCancelRequestedEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1866440945:
+                        if (fieldName.equals("workflowExecutionSignaledEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setWorkflowExecutionSignaledEventAttributes(WorkflowExecutionSignaledEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1195328729:
+                        if (fieldName.equals("markerRecordedEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setMarkerRecordedEventAttributes(MarkerRecordedEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 517166697:
+                        if (fieldName.equals("recordMarkerFailedEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setRecordMarkerFailedEventAttributes(RecordMarkerFailedEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -333511051:
+                        if (fieldName.equals("timerStartedEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setTimerStartedEventAttributes(TimerStartedEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1973621672:
+                        if (fieldName.equals("timerFiredEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setTimerFiredEventAttributes(TimerFiredEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -268517197:
+                        if (fieldName.equals("timerCanceledEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setTimerCanceledEventAttributes(TimerCanceledEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -482036315:
+                        if (fieldName.equals("startChildWorkflowExecutionInitiatedEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setStartChildWorkflowExecutionInitiatedEventAttributes(StartChildWorkflowExecutionInitiatedEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1658135155:
+                        if (fieldName.equals("childWorkflowExecutionStartedEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setChildWorkflowExecutionStartedEventAttributes(ChildWorkflowExecutionStartedEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1500881085:
+                        if (fieldName.equals("childWorkflowExecutionCompletedEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setChildWorkflowExecutionCompletedEventAttributes(ChildWorkflowExecutionCompletedEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 716856631:
+                        if (fieldName.equals("childWorkflowExecutionFailedEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setChildWorkflowExecutionFailedEventAttributes(ChildWorkflowExecutionFailedEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1444693213:
+                        if (fieldName.equals("childWorkflowExecutionTimedOutEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setChildWorkflowExecutionTimedOutEventAttributes(ChildWorkflowExecutionTimedOutEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1617808539:
+                        if (fieldName.equals("childWorkflowExecutionCanceledEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setChildWorkflowExecutionCanceledEventAttributes(ChildWorkflowExecutionCanceledEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -871132911:
+                        if (fieldName.equals("childWorkflowExecutionTerminatedEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setChildWorkflowExecutionTerminatedEventAttributes(ChildWorkflowExecutionTerminatedEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1512326900:
+                        if (fieldName.equals("signalExternalWorkflowExecutionInitiatedEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setSignalExternalWorkflowExecutionInitiatedEventAttributes(SignalExternalWorkflowExecutionInitiatedEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -442629668:
+                        if (fieldName.equals("externalWorkflowExecutionSignaledEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setExternalWorkflowExecutionSignaledEventAttributes(ExternalWorkflowExecutionSignaledEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 500344174:
+                        if (fieldName.equals("signalExternalWorkflowExecutionFailedEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setSignalExternalWorkflowExecutionFailedEventAttributes(SignalExternalWorkflowExecutionFailedEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -631529461:
+                        if (fieldName.equals("externalWorkflowExecutionCancelRequestedEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setExternalWorkflowExecutionCancelRequestedEventAttributes(ExternalWorkflowExecutionCancelRequestedEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -297168917:
+                        if (fieldName.equals("requestCancelExternalWorkflowExecutionInitiatedEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setRequestCancelExternalWorkflowExecutionInitiatedEventAttributes(RequestCancelExternalWorkflowExecutionInitiatedEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 648303343:
+                        if (fieldName.equals("requestCancelExternalWorkflowExecutionFailedEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setRequestCancelExternalWorkflowExecutionFailedEventAttributes(RequestCancelExternalWorkflowExecutionFailedEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -572180247:
+                        if (fieldName.equals("scheduleActivityTaskFailedEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setScheduleActivityTaskFailedEventAttributes(ScheduleActivityTaskFailedEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -581216297:
+                        if (fieldName.equals("requestCancelActivityTaskFailedEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setRequestCancelActivityTaskFailedEventAttributes(RequestCancelActivityTaskFailedEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 241516881:
+                        if (fieldName.equals("startTimerFailedEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setStartTimerFailedEventAttributes(StartTimerFailedEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1977762455:
+                        if (fieldName.equals("cancelTimerFailedEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setCancelTimerFailedEventAttributes(CancelTimerFailedEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 686790517:
+                        if (fieldName.equals("startChildWorkflowExecutionFailedEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setStartChildWorkflowExecutionFailedEventAttributes(StartChildWorkflowExecutionFailedEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1478423299:
+                        if (fieldName.equals("lambdaFunctionScheduledEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setLambdaFunctionScheduledEventAttributes(LambdaFunctionScheduledEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1340294033:
+                        if (fieldName.equals("lambdaFunctionStartedEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setLambdaFunctionStartedEventAttributes(LambdaFunctionStartedEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -998240859:
+                        if (fieldName.equals("lambdaFunctionCompletedEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setLambdaFunctionCompletedEventAttributes(LambdaFunctionCompletedEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -796911083:
+                        if (fieldName.equals("lambdaFunctionFailedEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setLambdaFunctionFailedEventAttributes(LambdaFunctionFailedEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1587133893:
+                        if (fieldName.equals("lambdaFunctionTimedOutEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setLambdaFunctionTimedOutEventAttributes(LambdaFunctionTimedOutEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1957859326:
+                        if (fieldName.equals("scheduleLambdaFunctionFailedEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setScheduleLambdaFunctionFailedEventAttributes(ScheduleLambdaFunctionFailedEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 2046456403:
+                        if (fieldName.equals("startLambdaFunctionFailedEventAttributes")) {
+                            context.nextToken();
+                            historyEvent
+                                    .setStartLambdaFunctionFailedEventAttributes(StartLambdaFunctionFailedEventAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -52,16 +52,25 @@ public class HistoryJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("events", targetDepth)) {
-                    context.nextToken();
-                    history.setEvents(new ListUnmarshaller<HistoryEvent>(
-                            HistoryEventJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("nextPageToken", targetDepth)) {
-                    context.nextToken();
-                    history.setNextPageToken(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1291329255:
+                        if (fieldName.equals("events")) {
+                            context.nextToken();
+                            history.setEvents(new ListUnmarshaller<HistoryEvent>(
+                                    HistoryEventJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1386094857:
+                        if (fieldName.equals("nextPageToken")) {
+                            context.nextToken();
+                            history.setNextPageToken(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class PendingTaskCountJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("count", targetDepth)) {
-                    context.nextToken();
-                    pendingTaskCount.setCount(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("truncated", targetDepth)) {
-                    context.nextToken();
-                    pendingTaskCount.setTruncated(context.getUnmarshaller(
-                            Boolean.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 94851343:
+                        if (fieldName.equals("count")) {
+                            context.nextToken();
+                            pendingTaskCount.setCount(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 1607950270:
+                        if (fieldName.equals("truncated")) {
+                            context.nextToken();
+                            pendingTaskCount.setTruncated(context.getUnmarshaller(
+                                    Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,12 +54,19 @@ public class RequestCancelActivityTaskDecisionAttributesJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("activityId", targetDepth)) {
-                    context.nextToken();
-                    requestCancelActivityTaskDecisionAttributes
-                            .setActivityId(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2048619658:
+                        if (fieldName.equals("activityId")) {
+                            context.nextToken();
+                            requestCancelActivityTaskDecisionAttributes
+                                    .setActivityId(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,26 +54,36 @@ public class RequestCancelActivityTaskFailedEventAttributesJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("activityId", targetDepth)) {
-                    context.nextToken();
-                    requestCancelActivityTaskFailedEventAttributes
-                            .setActivityId(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("cause", targetDepth)) {
-                    context.nextToken();
-                    requestCancelActivityTaskFailedEventAttributes
-                            .setCause(context.getUnmarshaller(String.class)
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("decisionTaskCompletedEventId",
-                        targetDepth)) {
-                    context.nextToken();
-                    requestCancelActivityTaskFailedEventAttributes
-                            .setDecisionTaskCompletedEventId(context
-                                    .getUnmarshaller(Long.class).unmarshall(
-                                            context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2048619658:
+                        if (fieldName.equals("activityId")) {
+                            context.nextToken();
+                            requestCancelActivityTaskFailedEventAttributes
+                                    .setActivityId(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case 94434409:
+                        if (fieldName.equals("cause")) {
+                            context.nextToken();
+                            requestCancelActivityTaskFailedEventAttributes
+                                    .setCause(context.getUnmarshaller(String.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1209463339:
+                        if (fieldName.equals("decisionTaskCompletedEventId")) {
+                            context.nextToken();
+                            requestCancelActivityTaskFailedEventAttributes
+                                    .setDecisionTaskCompletedEventId(context
+                                            .getUnmarshaller(Long.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,24 +54,35 @@ public class RequestCancelExternalWorkflowExecutionDecisionAttributesJsonUnmarsh
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("workflowId", targetDepth)) {
-                    context.nextToken();
-                    requestCancelExternalWorkflowExecutionDecisionAttributes
-                            .setWorkflowId(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("runId", targetDepth)) {
-                    context.nextToken();
-                    requestCancelExternalWorkflowExecutionDecisionAttributes
-                            .setRunId(context.getUnmarshaller(String.class)
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("control", targetDepth)) {
-                    context.nextToken();
-                    requestCancelExternalWorkflowExecutionDecisionAttributes
-                            .setControl(context.getUnmarshaller(String.class)
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -360387270:
+                        if (fieldName.equals("workflowId")) {
+                            context.nextToken();
+                            requestCancelExternalWorkflowExecutionDecisionAttributes
+                                    .setWorkflowId(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case 108875014:
+                        if (fieldName.equals("runId")) {
+                            context.nextToken();
+                            requestCancelExternalWorkflowExecutionDecisionAttributes
+                                    .setRunId(context.getUnmarshaller(String.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 951543133:
+                        if (fieldName.equals("control")) {
+                            context.nextToken();
+                            requestCancelExternalWorkflowExecutionDecisionAttributes
+                                    .setControl(context.getUnmarshaller(String.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,44 +54,60 @@ public class RequestCancelExternalWorkflowExecutionFailedEventAttributesJsonUnma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("workflowId", targetDepth)) {
-                    context.nextToken();
-                    requestCancelExternalWorkflowExecutionFailedEventAttributes
-                            .setWorkflowId(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("runId", targetDepth)) {
-                    context.nextToken();
-                    requestCancelExternalWorkflowExecutionFailedEventAttributes
-                            .setRunId(context.getUnmarshaller(String.class)
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("cause", targetDepth)) {
-                    context.nextToken();
-                    requestCancelExternalWorkflowExecutionFailedEventAttributes
-                            .setCause(context.getUnmarshaller(String.class)
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("initiatedEventId", targetDepth)) {
-                    context.nextToken();
-                    requestCancelExternalWorkflowExecutionFailedEventAttributes
-                            .setInitiatedEventId(context.getUnmarshaller(
-                                    Long.class).unmarshall(context));
-                }
-                if (context.testExpression("decisionTaskCompletedEventId",
-                        targetDepth)) {
-                    context.nextToken();
-                    requestCancelExternalWorkflowExecutionFailedEventAttributes
-                            .setDecisionTaskCompletedEventId(context
-                                    .getUnmarshaller(Long.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("control", targetDepth)) {
-                    context.nextToken();
-                    requestCancelExternalWorkflowExecutionFailedEventAttributes
-                            .setControl(context.getUnmarshaller(String.class)
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -360387270:
+                        if (fieldName.equals("workflowId")) {
+                            context.nextToken();
+                            requestCancelExternalWorkflowExecutionFailedEventAttributes
+                                    .setWorkflowId(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case 108875014:
+                        if (fieldName.equals("runId")) {
+                            context.nextToken();
+                            requestCancelExternalWorkflowExecutionFailedEventAttributes
+                                    .setRunId(context.getUnmarshaller(String.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 94434409:
+                        if (fieldName.equals("cause")) {
+                            context.nextToken();
+                            requestCancelExternalWorkflowExecutionFailedEventAttributes
+                                    .setCause(context.getUnmarshaller(String.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1080051178:
+                        if (fieldName.equals("initiatedEventId")) {
+                            context.nextToken();
+                            requestCancelExternalWorkflowExecutionFailedEventAttributes
+                                    .setInitiatedEventId(context.getUnmarshaller(
+                                            Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 1209463339:
+                        if (fieldName.equals("decisionTaskCompletedEventId")) {
+                            context.nextToken();
+                            requestCancelExternalWorkflowExecutionFailedEventAttributes
+                                    .setDecisionTaskCompletedEventId(context
+                                            .getUnmarshaller(Long.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case 951543133:
+                        if (fieldName.equals("control")) {
+                            context.nextToken();
+                            requestCancelExternalWorkflowExecutionFailedEventAttributes
+                                    .setControl(context.getUnmarshaller(String.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -55,32 +55,44 @@ public class RequestCancelExternalWorkflowExecutionInitiatedEventAttributesJsonU
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("workflowId", targetDepth)) {
-                    context.nextToken();
-                    requestCancelExternalWorkflowExecutionInitiatedEventAttributes
-                            .setWorkflowId(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("runId", targetDepth)) {
-                    context.nextToken();
-                    requestCancelExternalWorkflowExecutionInitiatedEventAttributes
-                            .setRunId(context.getUnmarshaller(String.class)
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("decisionTaskCompletedEventId",
-                        targetDepth)) {
-                    context.nextToken();
-                    requestCancelExternalWorkflowExecutionInitiatedEventAttributes
-                            .setDecisionTaskCompletedEventId(context
-                                    .getUnmarshaller(Long.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("control", targetDepth)) {
-                    context.nextToken();
-                    requestCancelExternalWorkflowExecutionInitiatedEventAttributes
-                            .setControl(context.getUnmarshaller(String.class)
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -360387270:
+                        if (fieldName.equals("workflowId")) {
+                            context.nextToken();
+                            requestCancelExternalWorkflowExecutionInitiatedEventAttributes
+                                    .setWorkflowId(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case 108875014:
+                        if (fieldName.equals("runId")) {
+                            context.nextToken();
+                            requestCancelExternalWorkflowExecutionInitiatedEventAttributes
+                                    .setRunId(context.getUnmarshaller(String.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1209463339:
+                        if (fieldName.equals("decisionTaskCompletedEventId")) {
+                            context.nextToken();
+                            requestCancelExternalWorkflowExecutionInitiatedEventAttributes
+                                    .setDecisionTaskCompletedEventId(context
+                                            .getUnmarshaller(Long.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case 951543133:
+                        if (fieldName.equals("control")) {
+                            context.nextToken();
+                            requestCancelExternalWorkflowExecutionInitiatedEventAttributes
+                                    .setControl(context.getUnmarshaller(String.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,66 +54,89 @@ public class ScheduleActivityTaskDecisionAttributesJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("activityType", targetDepth)) {
-                    context.nextToken();
-                    scheduleActivityTaskDecisionAttributes
-                            .setActivityType(ActivityTypeJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("activityId", targetDepth)) {
-                    context.nextToken();
-                    scheduleActivityTaskDecisionAttributes
-                            .setActivityId(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("control", targetDepth)) {
-                    context.nextToken();
-                    scheduleActivityTaskDecisionAttributes.setControl(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("input", targetDepth)) {
-                    context.nextToken();
-                    scheduleActivityTaskDecisionAttributes.setInput(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("scheduleToCloseTimeout",
-                        targetDepth)) {
-                    context.nextToken();
-                    scheduleActivityTaskDecisionAttributes
-                            .setScheduleToCloseTimeout(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("taskList", targetDepth)) {
-                    context.nextToken();
-                    scheduleActivityTaskDecisionAttributes
-                            .setTaskList(TaskListJsonUnmarshaller.getInstance()
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("taskPriority", targetDepth)) {
-                    context.nextToken();
-                    scheduleActivityTaskDecisionAttributes
-                            .setTaskPriority(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("scheduleToStartTimeout",
-                        targetDepth)) {
-                    context.nextToken();
-                    scheduleActivityTaskDecisionAttributes
-                            .setScheduleToStartTimeout(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("startToCloseTimeout", targetDepth)) {
-                    context.nextToken();
-                    scheduleActivityTaskDecisionAttributes
-                            .setStartToCloseTimeout(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("heartbeatTimeout", targetDepth)) {
-                    context.nextToken();
-                    scheduleActivityTaskDecisionAttributes
-                            .setHeartbeatTimeout(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1628821225:
+                        if (fieldName.equals("activityType")) {
+                            context.nextToken();
+                            scheduleActivityTaskDecisionAttributes
+                                    .setActivityType(ActivityTypeJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 2048619658:
+                        if (fieldName.equals("activityId")) {
+                            context.nextToken();
+                            scheduleActivityTaskDecisionAttributes
+                                    .setActivityId(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case 951543133:
+                        if (fieldName.equals("control")) {
+                            context.nextToken();
+                            scheduleActivityTaskDecisionAttributes.setControl(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 100358090:
+                        if (fieldName.equals("input")) {
+                            context.nextToken();
+                            scheduleActivityTaskDecisionAttributes.setInput(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1043403557:
+                        if (fieldName.equals("scheduleToCloseTimeout")) {
+                            context.nextToken();
+                            scheduleActivityTaskDecisionAttributes
+                                    .setScheduleToCloseTimeout(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case -410382397:
+                        if (fieldName.equals("taskList")) {
+                            context.nextToken();
+                            scheduleActivityTaskDecisionAttributes
+                                    .setTaskList(TaskListJsonUnmarshaller.getInstance()
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1528938057:
+                        if (fieldName.equals("taskPriority")) {
+                            context.nextToken();
+                            scheduleActivityTaskDecisionAttributes
+                                    .setTaskPriority(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case 167238449:
+                        if (fieldName.equals("scheduleToStartTimeout")) {
+                            context.nextToken();
+                            scheduleActivityTaskDecisionAttributes
+                                    .setScheduleToStartTimeout(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case 591830886:
+                        if (fieldName.equals("startToCloseTimeout")) {
+                            context.nextToken();
+                            scheduleActivityTaskDecisionAttributes
+                                    .setStartToCloseTimeout(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case 337158341:
+                        if (fieldName.equals("heartbeatTimeout")) {
+                            context.nextToken();
+                            scheduleActivityTaskDecisionAttributes
+                                    .setHeartbeatTimeout(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
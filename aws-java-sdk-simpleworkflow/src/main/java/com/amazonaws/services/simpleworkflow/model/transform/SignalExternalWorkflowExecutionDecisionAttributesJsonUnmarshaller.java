@@ -54,37 +54,52 @@ public class SignalExternalWorkflowExecutionDecisionAttributesJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("workflowId", targetDepth)) {
-                    context.nextToken();
-                    signalExternalWorkflowExecutionDecisionAttributes
-                            .setWorkflowId(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("runId", targetDepth)) {
-                    context.nextToken();
-                    signalExternalWorkflowExecutionDecisionAttributes
-                            .setRunId(context.getUnmarshaller(String.class)
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("signalName", targetDepth)) {
-                    context.nextToken();
-                    signalExternalWorkflowExecutionDecisionAttributes
-                            .setSignalName(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("input", targetDepth)) {
-                    context.nextToken();
-                    signalExternalWorkflowExecutionDecisionAttributes
-                            .setInput(context.getUnmarshaller(String.class)
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("control", targetDepth)) {
-                    context.nextToken();
-                    signalExternalWorkflowExecutionDecisionAttributes
-                            .setControl(context.getUnmarshaller(String.class)
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -360387270:
+                        if (fieldName.equals("workflowId")) {
+                            context.nextToken();
+                            signalExternalWorkflowExecutionDecisionAttributes
+                                    .setWorkflowId(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case 108875014:
+                        if (fieldName.equals("runId")) {
+                            context.nextToken();
+                            signalExternalWorkflowExecutionDecisionAttributes
+                                    .setRunId(context.getUnmarshaller(String.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1087190701:
+                        if (fieldName.equals("signalName")) {
+                            context.nextToken();
+                            signalExternalWorkflowExecutionDecisionAttributes
+                                    .setSignalName(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case 100358090:
+                        if (fieldName.equals("input")) {
+                            context.nextToken();
+                            signalExternalWorkflowExecutionDecisionAttributes
+                                    .setInput(context.getUnmarshaller(String.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 951543133:
+                        if (fieldName.equals("control")) {
+                            context.nextToken();
+                            signalExternalWorkflowExecutionDecisionAttributes
+                                    .setControl(context.getUnmarshaller(String.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,78 +54,103 @@ public class StartChildWorkflowExecutionDecisionAttributesJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("workflowType", targetDepth)) {
-                    context.nextToken();
-                    startChildWorkflowExecutionDecisionAttributes
-                            .setWorkflowType(WorkflowTypeJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("workflowId", targetDepth)) {
-                    context.nextToken();
-                    startChildWorkflowExecutionDecisionAttributes
-                            .setWorkflowId(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("control", targetDepth)) {
-                    context.nextToken();
-                    startChildWorkflowExecutionDecisionAttributes
-                            .setControl(context.getUnmarshaller(String.class)
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("input", targetDepth)) {
-                    context.nextToken();
-                    startChildWorkflowExecutionDecisionAttributes
-                            .setInput(context.getUnmarshaller(String.class)
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("executionStartToCloseTimeout",
-                        targetDepth)) {
-                    context.nextToken();
-                    startChildWorkflowExecutionDecisionAttributes
-                            .setExecutionStartToCloseTimeout(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("taskList", targetDepth)) {
-                    context.nextToken();
-                    startChildWorkflowExecutionDecisionAttributes
-                            .setTaskList(TaskListJsonUnmarshaller.getInstance()
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("taskPriority", targetDepth)) {
-                    context.nextToken();
-                    startChildWorkflowExecutionDecisionAttributes
-                            .setTaskPriority(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("taskStartToCloseTimeout",
-                        targetDepth)) {
-                    context.nextToken();
-                    startChildWorkflowExecutionDecisionAttributes
-                            .setTaskStartToCloseTimeout(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("childPolicy", targetDepth)) {
-                    context.nextToken();
-                    startChildWorkflowExecutionDecisionAttributes
-                            .setChildPolicy(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("tagList", targetDepth)) {
-                    context.nextToken();
-                    startChildWorkflowExecutionDecisionAttributes
-                            .setTagList(new ListUnmarshaller<String>(context
-                                    .getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("lambdaRole", targetDepth)) {
-                    context.nextToken();
-                    startChildWorkflowExecutionDecisionAttributes
-                            .setLambdaRole(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1560535961:
+                        if (fieldName.equals("workflowType")) {
+                            context.nextToken();
+                            startChildWorkflowExecutionDecisionAttributes
+                                    .setWorkflowType(WorkflowTypeJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -360387270:
+                        if (fieldName.equals("workflowId")) {
+                            context.nextToken();
+                            startChildWorkflowExecutionDecisionAttributes
+                                    .setWorkflowId(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case 951543133:
+                        if (fieldName.equals("control")) {
+                            context.nextToken();
+                            startChildWorkflowExecutionDecisionAttributes
+                                    .setControl(context.getUnmarshaller(String.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 100358090:
+                        if (fieldName.equals("input")) {
+                            context.nextToken();
+                            startChildWorkflowExecutionDecisionAttributes
+                                    .setInput(context.getUnmarshaller(String.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 499356974:
+                        if (fieldName.equals("executionStartToCloseTimeout")) {
+                            context.nextToken();
+                            startChildWorkflowExecutionDecisionAttributes
+                                    .setExecutionStartToCloseTimeout(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -410382397:
+                        if (fieldName.equals("taskList")) {
+                            context.nextToken();
+                            startChildWorkflowExecutionDecisionAttributes
+                                    .setTaskList(TaskListJsonUnmarshaller.getInstance()
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1528938057:
+                        if (fieldName.equals("taskPriority")) {
+                            context.nextToken();
+                            startChildWorkflowExecutionDecisionAttributes
+                                    .setTaskPriority(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2121953697:
+                        if (fieldName.equals("taskStartToCloseTimeout")) {
+                            context.nextToken();
+                            startChildWorkflowExecutionDecisionAttributes
+                                    .setTaskStartToCloseTimeout(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -1374076562:
+                        if (fieldName.equals("childPolicy")) {
+                            context.nextToken();
+                            startChildWorkflowExecutionDecisionAttributes
+                                    .setChildPolicy(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1549236392:
+                        if (fieldName.equals("tagList")) {
+                            context.nextToken();
+                            startChildWorkflowExecutionDecisionAttributes
+                                    .setTagList(new ListUnmarshaller<String>(context
+                                            .getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1745816797:
+                        if (fieldName.equals("lambdaRole")) {
+                            context.nextToken();
+                            startChildWorkflowExecutionDecisionAttributes
+                                    .setLambdaRole(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,20 +53,31 @@ public class StartTimerDecisionAttributesJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("timerId", targetDepth)) {
-                    context.nextToken();
-                    startTimerDecisionAttributes.setTimerId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("control", targetDepth)) {
-                    context.nextToken();
-                    startTimerDecisionAttributes.setControl(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("startToFireTimeout", targetDepth)) {
-                    context.nextToken();
-                    startTimerDecisionAttributes.setStartToFireTimeout(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1313909952:
+                        if (fieldName.equals("timerId")) {
+                            context.nextToken();
+                            startTimerDecisionAttributes.setTimerId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 951543133:
+                        if (fieldName.equals("control")) {
+                            context.nextToken();
+                            startTimerDecisionAttributes.setControl(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1205866382:
+                        if (fieldName.equals("startToFireTimeout")) {
+                            context.nextToken();
+                            startTimerDecisionAttributes.setStartToFireTimeout(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
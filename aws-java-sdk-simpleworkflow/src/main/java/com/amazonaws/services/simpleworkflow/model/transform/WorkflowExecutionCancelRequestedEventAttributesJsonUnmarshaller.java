@@ -54,26 +54,35 @@ public class WorkflowExecutionCancelRequestedEventAttributesJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("externalWorkflowExecution",
-                        targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionCancelRequestedEventAttributes
-                            .setExternalWorkflowExecution(WorkflowExecutionJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("externalInitiatedEventId",
-                        targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionCancelRequestedEventAttributes
-                            .setExternalInitiatedEventId(context
-                                    .getUnmarshaller(Long.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("cause", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionCancelRequestedEventAttributes
-                            .setCause(context.getUnmarshaller(String.class)
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 906503566:
+                        if (fieldName.equals("externalWorkflowExecution")) {
+                            context.nextToken();
+                            workflowExecutionCancelRequestedEventAttributes
+                                    .setExternalWorkflowExecution(WorkflowExecutionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 925562837:
+                        if (fieldName.equals("externalInitiatedEventId")) {
+                            context.nextToken();
+                            workflowExecutionCancelRequestedEventAttributes
+                                    .setExternalInitiatedEventId(context
+                                            .getUnmarshaller(Long.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case 94434409:
+                        if (fieldName.equals("cause")) {
+                            context.nextToken();
+                            workflowExecutionCancelRequestedEventAttributes
+                                    .setCause(context.getUnmarshaller(String.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,42 +53,57 @@ public class WorkflowExecutionConfigurationJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("taskStartToCloseTimeout",
-                        targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionConfiguration
-                            .setTaskStartToCloseTimeout(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("executionStartToCloseTimeout",
-                        targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionConfiguration
-                            .setExecutionStartToCloseTimeout(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("taskList", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionConfiguration
-                            .setTaskList(TaskListJsonUnmarshaller.getInstance()
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("taskPriority", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionConfiguration.setTaskPriority(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("childPolicy", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionConfiguration.setChildPolicy(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("lambdaRole", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionConfiguration.setLambdaRole(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2121953697:
+                        if (fieldName.equals("taskStartToCloseTimeout")) {
+                            context.nextToken();
+                            workflowExecutionConfiguration
+                                    .setTaskStartToCloseTimeout(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case 499356974:
+                        if (fieldName.equals("executionStartToCloseTimeout")) {
+                            context.nextToken();
+                            workflowExecutionConfiguration
+                                    .setExecutionStartToCloseTimeout(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -410382397:
+                        if (fieldName.equals("taskList")) {
+                            context.nextToken();
+                            workflowExecutionConfiguration
+                                    .setTaskList(TaskListJsonUnmarshaller.getInstance()
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1528938057:
+                        if (fieldName.equals("taskPriority")) {
+                            context.nextToken();
+                            workflowExecutionConfiguration.setTaskPriority(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1374076562:
+                        if (fieldName.equals("childPolicy")) {
+                            context.nextToken();
+                            workflowExecutionConfiguration.setChildPolicy(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1745816797:
+                        if (fieldName.equals("lambdaRole")) {
+                            context.nextToken();
+                            workflowExecutionConfiguration.setLambdaRole(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
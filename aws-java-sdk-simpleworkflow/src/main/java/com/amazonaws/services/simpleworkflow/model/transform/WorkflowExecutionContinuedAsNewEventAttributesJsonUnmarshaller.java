@@ -54,79 +54,103 @@ public class WorkflowExecutionContinuedAsNewEventAttributesJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("input", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionContinuedAsNewEventAttributes
-                            .setInput(context.getUnmarshaller(String.class)
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("decisionTaskCompletedEventId",
-                        targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionContinuedAsNewEventAttributes
-                            .setDecisionTaskCompletedEventId(context
-                                    .getUnmarshaller(Long.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("newExecutionRunId", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionContinuedAsNewEventAttributes
-                            .setNewExecutionRunId(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("executionStartToCloseTimeout",
-                        targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionContinuedAsNewEventAttributes
-                            .setExecutionStartToCloseTimeout(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("taskList", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionContinuedAsNewEventAttributes
-                            .setTaskList(TaskListJsonUnmarshaller.getInstance()
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("taskPriority", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionContinuedAsNewEventAttributes
-                            .setTaskPriority(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("taskStartToCloseTimeout",
-                        targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionContinuedAsNewEventAttributes
-                            .setTaskStartToCloseTimeout(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("childPolicy", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionContinuedAsNewEventAttributes
-                            .setChildPolicy(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("tagList", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionContinuedAsNewEventAttributes
-                            .setTagList(new ListUnmarshaller<String>(context
-                                    .getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("workflowType", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionContinuedAsNewEventAttributes
-                            .setWorkflowType(WorkflowTypeJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("lambdaRole", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionContinuedAsNewEventAttributes
-                            .setLambdaRole(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 100358090:
+                        if (fieldName.equals("input")) {
+                            context.nextToken();
+                            workflowExecutionContinuedAsNewEventAttributes
+                                    .setInput(context.getUnmarshaller(String.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1209463339:
+                        if (fieldName.equals("decisionTaskCompletedEventId")) {
+                            context.nextToken();
+                            workflowExecutionContinuedAsNewEventAttributes
+                                    .setDecisionTaskCompletedEventId(context
+                                            .getUnmarshaller(Long.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -663511410:
+                        if (fieldName.equals("newExecutionRunId")) {
+                            context.nextToken();
+                            workflowExecutionContinuedAsNewEventAttributes
+                                    .setNewExecutionRunId(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case 499356974:
+                        if (fieldName.equals("executionStartToCloseTimeout")) {
+                            context.nextToken();
+                            workflowExecutionContinuedAsNewEventAttributes
+                                    .setExecutionStartToCloseTimeout(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -410382397:
+                        if (fieldName.equals("taskList")) {
+                            context.nextToken();
+                            workflowExecutionContinuedAsNewEventAttributes
+                                    .setTaskList(TaskListJsonUnmarshaller.getInstance()
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1528938057:
+                        if (fieldName.equals("taskPriority")) {
+                            context.nextToken();
+                            workflowExecutionContinuedAsNewEventAttributes
+                                    .setTaskPriority(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2121953697:
+                        if (fieldName.equals("taskStartToCloseTimeout")) {
+                            context.nextToken();
+                            workflowExecutionContinuedAsNewEventAttributes
+                                    .setTaskStartToCloseTimeout(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -1374076562:
+                        if (fieldName.equals("childPolicy")) {
+                            context.nextToken();
+                            workflowExecutionContinuedAsNewEventAttributes
+                                    .setChildPolicy(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1549236392:
+                        if (fieldName.equals("tagList")) {
+                            context.nextToken();
+                            workflowExecutionContinuedAsNewEventAttributes
+                                    .setTagList(new ListUnmarshaller<String>(context
+                                            .getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1560535961:
+                        if (fieldName.equals("workflowType")) {
+                            context.nextToken();
+                            workflowExecutionContinuedAsNewEventAttributes
+                                    .setWorkflowType(WorkflowTypeJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1745816797:
+                        if (fieldName.equals("lambdaRole")) {
+                            context.nextToken();
+                            workflowExecutionContinuedAsNewEventAttributes
+                                    .setLambdaRole(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
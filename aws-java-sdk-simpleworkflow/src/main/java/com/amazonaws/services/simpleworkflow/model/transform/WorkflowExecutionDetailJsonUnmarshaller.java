@@ -53,38 +53,50 @@ public class WorkflowExecutionDetailJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("executionInfo", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionDetail
-                            .setExecutionInfo(WorkflowExecutionInfoJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("executionConfiguration",
-                        targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionDetail
-                            .setExecutionConfiguration(WorkflowExecutionConfigurationJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("openCounts", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionDetail
-                            .setOpenCounts(WorkflowExecutionOpenCountsJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("latestActivityTaskTimestamp",
-                        targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionDetail
-                            .setLatestActivityTaskTimestamp(context
-                                    .getUnmarshaller(java.util.Date.class)
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("latestExecutionContext",
-                        targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionDetail.setLatestExecutionContext(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 921737190:
+                        if (fieldName.equals("executionInfo")) {
+                            context.nextToken();
+                            workflowExecutionDetail
+                                    .setExecutionInfo(WorkflowExecutionInfoJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1961779390:
+                        if (fieldName.equals("executionConfiguration")) {
+                            context.nextToken();
+                            workflowExecutionDetail
+                                    .setExecutionConfiguration(WorkflowExecutionConfigurationJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -113998802:
+                        if (fieldName.equals("openCounts")) {
+                            context.nextToken();
+                            workflowExecutionDetail
+                                    .setOpenCounts(WorkflowExecutionOpenCountsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -432344837:
+                        if (fieldName.equals("latestActivityTaskTimestamp")) {
+                            context.nextToken();
+                            workflowExecutionDetail
+                                    .setLatestActivityTaskTimestamp(context
+                                            .getUnmarshaller(java.util.Date.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1964211486:
+                        if (fieldName.equals("latestExecutionContext")) {
+                            context.nextToken();
+                            workflowExecutionDetail.setLatestExecutionContext(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
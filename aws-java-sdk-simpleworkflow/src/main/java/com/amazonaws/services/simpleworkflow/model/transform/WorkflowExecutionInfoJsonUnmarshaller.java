@@ -53,58 +53,81 @@ public class WorkflowExecutionInfoJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("execution", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionInfo
-                            .setExecution(WorkflowExecutionJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("workflowType", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionInfo
-                            .setWorkflowType(WorkflowTypeJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("startTimestamp", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionInfo.setStartTimestamp(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("closeTimestamp", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionInfo.setCloseTimestamp(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("executionStatus", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionInfo.setExecutionStatus(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("closeStatus", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionInfo.setCloseStatus(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("parent", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionInfo
-                            .setParent(WorkflowExecutionJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("tagList", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionInfo
-                            .setTagList(new ListUnmarshaller<String>(context
-                                    .getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("cancelRequested", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionInfo
-                            .setCancelRequested(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1090974952:
+                        if (fieldName.equals("execution")) {
+                            context.nextToken();
+                            workflowExecutionInfo
+                                    .setExecution(WorkflowExecutionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1560535961:
+                        if (fieldName.equals("workflowType")) {
+                            context.nextToken();
+                            workflowExecutionInfo
+                                    .setWorkflowType(WorkflowTypeJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -299216172:
+                        if (fieldName.equals("startTimestamp")) {
+                            context.nextToken();
+                            workflowExecutionInfo.setStartTimestamp(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case 209953278:
+                        if (fieldName.equals("closeTimestamp")) {
+                            context.nextToken();
+                            workflowExecutionInfo.setCloseTimestamp(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case 1317868842:
+                        if (fieldName.equals("executionStatus")) {
+                            context.nextToken();
+                            workflowExecutionInfo.setExecutionStatus(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 172507146:
+                        if (fieldName.equals("closeStatus")) {
+                            context.nextToken();
+                            workflowExecutionInfo.setCloseStatus(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -995424086:
+                        if (fieldName.equals("parent")) {
+                            context.nextToken();
+                            workflowExecutionInfo
+                                    .setParent(WorkflowExecutionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1549236392:
+                        if (fieldName.equals("tagList")) {
+                            context.nextToken();
+                            workflowExecutionInfo
+                                    .setTagList(new ListUnmarshaller<String>(context
+                                            .getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 954741268:
+                        if (fieldName.equals("cancelRequested")) {
+                            context.nextToken();
+                            workflowExecutionInfo
+                                    .setCancelRequested(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
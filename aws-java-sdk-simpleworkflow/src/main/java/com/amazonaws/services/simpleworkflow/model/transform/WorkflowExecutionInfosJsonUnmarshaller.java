@@ -53,17 +53,26 @@ public class WorkflowExecutionInfosJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("executionInfos", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionInfos
-                            .setExecutionInfos(new ListUnmarshaller<WorkflowExecutionInfo>(
-                                    WorkflowExecutionInfoJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextPageToken", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionInfos.setNextPageToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1490918067:
+                        if (fieldName.equals("executionInfos")) {
+                            context.nextToken();
+                            workflowExecutionInfos
+                                    .setExecutionInfos(new ListUnmarshaller<WorkflowExecutionInfo>(
+                                            WorkflowExecutionInfoJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1386094857:
+                        if (fieldName.equals("nextPageToken")) {
+                            context.nextToken();
+                            workflowExecutionInfos.setNextPageToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,37 +53,51 @@ public class WorkflowExecutionOpenCountsJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("openActivityTasks", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionOpenCounts
-                            .setOpenActivityTasks(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("openDecisionTasks", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionOpenCounts
-                            .setOpenDecisionTasks(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("openTimers", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionOpenCounts
-                            .setOpenTimers(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("openChildWorkflowExecutions",
-                        targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionOpenCounts
-                            .setOpenChildWorkflowExecutions(context
-                                    .getUnmarshaller(Integer.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("openLambdaFunctions", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionOpenCounts
-                            .setOpenLambdaFunctions(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 462371733:
+                        if (fieldName.equals("openActivityTasks")) {
+                            context.nextToken();
+                            workflowExecutionOpenCounts
+                                    .setOpenActivityTasks(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 993654504:
+                        if (fieldName.equals("openDecisionTasks")) {
+                            context.nextToken();
+                            workflowExecutionOpenCounts
+                                    .setOpenDecisionTasks(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 366908600:
+                        if (fieldName.equals("openTimers")) {
+                            context.nextToken();
+                            workflowExecutionOpenCounts
+                                    .setOpenTimers(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -307295732:
+                        if (fieldName.equals("openChildWorkflowExecutions")) {
+                            context.nextToken();
+                            workflowExecutionOpenCounts
+                                    .setOpenChildWorkflowExecutions(context
+                                            .getUnmarshaller(Integer.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -694675478:
+                        if (fieldName.equals("openLambdaFunctions")) {
+                            context.nextToken();
+                            workflowExecutionOpenCounts
+                                    .setOpenLambdaFunctions(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,32 +54,43 @@ public class WorkflowExecutionSignaledEventAttributesJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("signalName", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionSignaledEventAttributes
-                            .setSignalName(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("input", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionSignaledEventAttributes.setInput(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("externalWorkflowExecution",
-                        targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionSignaledEventAttributes
-                            .setExternalWorkflowExecution(WorkflowExecutionJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("externalInitiatedEventId",
-                        targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionSignaledEventAttributes
-                            .setExternalInitiatedEventId(context
-                                    .getUnmarshaller(Long.class).unmarshall(
-                                            context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1087190701:
+                        if (fieldName.equals("signalName")) {
+                            context.nextToken();
+                            workflowExecutionSignaledEventAttributes
+                                    .setSignalName(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case 100358090:
+                        if (fieldName.equals("input")) {
+                            context.nextToken();
+                            workflowExecutionSignaledEventAttributes.setInput(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 906503566:
+                        if (fieldName.equals("externalWorkflowExecution")) {
+                            context.nextToken();
+                            workflowExecutionSignaledEventAttributes
+                                    .setExternalWorkflowExecution(WorkflowExecutionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 925562837:
+                        if (fieldName.equals("externalInitiatedEventId")) {
+                            context.nextToken();
+                            workflowExecutionSignaledEventAttributes
+                                    .setExternalInitiatedEventId(context
+                                            .getUnmarshaller(Long.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
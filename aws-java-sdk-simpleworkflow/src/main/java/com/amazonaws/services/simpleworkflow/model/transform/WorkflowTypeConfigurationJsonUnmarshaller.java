@@ -53,42 +53,57 @@ public class WorkflowTypeConfigurationJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("defaultTaskStartToCloseTimeout",
-                        targetDepth)) {
-                    context.nextToken();
-                    workflowTypeConfiguration
-                            .setDefaultTaskStartToCloseTimeout(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression(
-                        "defaultExecutionStartToCloseTimeout", targetDepth)) {
-                    context.nextToken();
-                    workflowTypeConfiguration
-                            .setDefaultExecutionStartToCloseTimeout(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("defaultTaskList", targetDepth)) {
-                    context.nextToken();
-                    workflowTypeConfiguration
-                            .setDefaultTaskList(TaskListJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("defaultTaskPriority", targetDepth)) {
-                    context.nextToken();
-                    workflowTypeConfiguration.setDefaultTaskPriority(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("defaultChildPolicy", targetDepth)) {
-                    context.nextToken();
-                    workflowTypeConfiguration.setDefaultChildPolicy(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("defaultLambdaRole", targetDepth)) {
-                    context.nextToken();
-                    workflowTypeConfiguration.setDefaultLambdaRole(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1084750368:
+                        if (fieldName.equals("defaultTaskStartToCloseTimeout")) {
+                            context.nextToken();
+                            workflowTypeConfiguration
+                                    .setDefaultTaskStartToCloseTimeout(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -1685945329:
+                        if (fieldName.equals("defaultExecutionStartToCloseTimeout")) {
+                            context.nextToken();
+                            workflowTypeConfiguration
+                                    .setDefaultExecutionStartToCloseTimeout(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case 1587706148:
+                        if (fieldName.equals("defaultTaskList")) {
+                            context.nextToken();
+                            workflowTypeConfiguration
+                                    .setDefaultTaskList(TaskListJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1395953450:
+                        if (fieldName.equals("defaultTaskPriority")) {
+                            context.nextToken();
+                            workflowTypeConfiguration.setDefaultTaskPriority(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -269987731:
+                        if (fieldName.equals("defaultChildPolicy")) {
+                            context.nextToken();
+                            workflowTypeConfiguration.setDefaultChildPolicy(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2058527230:
+                        if (fieldName.equals("defaultLambdaRole")) {
+                            context.nextToken();
+                            workflowTypeConfiguration.setDefaultLambdaRole(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
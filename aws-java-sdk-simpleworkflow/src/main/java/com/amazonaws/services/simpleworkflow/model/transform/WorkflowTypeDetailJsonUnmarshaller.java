@@ -53,17 +53,26 @@ public class WorkflowTypeDetailJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("typeInfo", targetDepth)) {
-                    context.nextToken();
-                    workflowTypeDetail
-                            .setTypeInfo(WorkflowTypeInfoJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("configuration", targetDepth)) {
-                    context.nextToken();
-                    workflowTypeDetail
-                            .setConfiguration(WorkflowTypeConfigurationJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -676644088:
+                        if (fieldName.equals("typeInfo")) {
+                            context.nextToken();
+                            workflowTypeDetail
+                                    .setTypeInfo(WorkflowTypeInfoJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1932752118:
+                        if (fieldName.equals("configuration")) {
+                            context.nextToken();
+                            workflowTypeDetail
+                                    .setConfiguration(WorkflowTypeConfigurationJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
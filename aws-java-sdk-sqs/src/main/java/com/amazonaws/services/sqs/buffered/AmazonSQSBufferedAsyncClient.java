@@ -352,6 +352,22 @@ public class AmazonSQSBufferedAsyncClient implements AmazonSQSAsync {
         return buffer.deleteMessage(deleteMessageRequest, null);
     }
 
+    /**
+     * Returns a snapshot of the metrics of the receive buffer of a queue: the number of
+     * pre-fetched messages, how long receive requests waited for messages, and how many
+     * pre-fetched messages expired before they could be delivered.
+     *
+     * @param queueUrl the URL of the queue
+     * @return the metrics, or null if this client did not use the queue recently
+     */
+    public ReceiveQueueBufferMetrics getReceiveQueueBufferMetrics(String queueUrl) {
+        QueueBuffer buffer;
+        synchronized (this) {
+            buffer = buffers.get(queueUrl);
+        }
+        return buffer == null ? null : buffer.getReceiveMetrics();
+    }
+
     /**
      * Returns (creating it if necessary) a queue buffer for a particular queue Since we are only
      * storing a limited number of queue buffers, it is possible that as a result of calling this
@@ -109,6 +109,17 @@ public class QueueBufferConfig {
 
     public static final int LONGPOLL_WAIT_TIMEOUT_SECONDS_DEFAULT = 20;
 
+    /**
+     * If true, the number of completed receive batches kept in the buffer follows the rate at
+     * which messages are consumed, up to maxDoneReceiveBatches: enough to cover the consumption
+     * during two receive calls, but no more than can be consumed within half of the visibility
+     * timeout, so that fewer pre-fetched messages expire in the buffer.
+     */
+    private boolean adaptivePrefetching;
+
+    /** false */
+    public static final boolean ADAPTIVE_PREFETCHING_DEFAULT = false;
+
     public QueueBufferConfig(long maxBatchOpenMs, int maxInflightOutboundBatches, int maxInflightReceiveBatches,
             int maxDoneReceiveBatches, boolean paramLongPoll, long maxBatchSizeBytes, int visibilityTimeout,
             int longPollTimeout, int maxBatch) {
@@ -122,6 +133,7 @@ public class QueueBufferConfig {
         this.visibilityTimeoutSeconds = visibilityTimeout;
         this.longPollWaitTimeoutSeconds = longPollTimeout;
         this.maxBatchSize = maxBatch;
+        this.adaptivePrefetching = ADAPTIVE_PREFETCHING_DEFAULT;
     }
 
     public QueueBufferConfig() {
@@ -141,6 +153,7 @@ public class QueueBufferConfig {
         maxInflightOutboundBatches = other.maxInflightOutboundBatches;
         maxInflightReceiveBatches = other.maxInflightReceiveBatches;
         visibilityTimeoutSeconds = other.visibilityTimeoutSeconds;
+        adaptivePrefetching = other.adaptivePrefetching;
     }
 
     @Override
@@ -149,7 +162,8 @@ public class QueueBufferConfig {
                 + longPoll + ", maxInflightOutboundBatches=" + maxInflightOutboundBatches
                 + ", maxInflightReceiveBatches=" + maxInflightReceiveBatches + ", maxDoneReceiveBatches="
                 + maxDoneReceiveBatches + ", maxBatchSizeBytes=" + maxBatchSizeBytes + ", visibilityTimeoutSeconds="
-                + visibilityTimeoutSeconds + ", longPollWaitTimeoutSeconds=" + longPollWaitTimeoutSeconds + "]";
+                + visibilityTimeoutSeconds + ", longPollWaitTimeoutSeconds=" + longPollWaitTimeoutSeconds
+                + ", adaptivePrefetching=" + adaptivePrefetching + "]";
     }
 
     /**
@@ -429,6 +443,37 @@ public class QueueBufferConfig {
         return this;
     }
 
+    /**
+     * If true, the number of completed receive batches kept in the buffer follows the rate at
+     * which messages are consumed, up to maxDoneReceiveBatches: enough to cover the consumption
+     * during two receive calls, but no more than can be consumed within half of the visibility
+     * timeout, so that fewer pre-fetched messages expire in the buffer.
+     */
+    public boolean isAdaptivePrefetching() {
+        return adaptivePrefetching;
+    }
+
+    /**
+     * If true, the number of completed receive batches kept in the buffer follows the rate at
+     * which messages are consumed, up to maxDoneReceiveBatches: enough to cover the consumption
+     * during two receive calls, but no more than can be consumed within half of the visibility
+     * timeout, so that fewer pre-fetched messages expire in the buffer.
+     */
+    public void setAdaptivePrefetching(boolean adaptivePrefetching) {
+        this.adaptivePrefetching = adaptivePrefetching;
+    }
+
+    /**
+     * If true, the number of completed receive batches kept in the buffer follows the rate at
+     * which messages are consumed, up to maxDoneReceiveBatches: enough to cover the consumption
+     * during two receive calls, but no more than can be consumed within half of the visibility
+     * timeout, so that fewer pre-fetched messages expire in the buffer.
+     */
+    public QueueBufferConfig withAdaptivePrefetching(boolean adaptivePrefetching) {
+        setAdaptivePrefetching(adaptivePrefetching);
+        return this;
+    }
+
     /**
      * this method checks the config for validity. If the config is deemed to be invalid, an
      * informative exception is thrown.
@@ -19,8 +19,12 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -39,18 +43,21 @@ import com.amazonaws.services.sqs.model.ReceiveMessageResult;
  * It uses the provided executor to pre-fetch messages from the server and keeps them in a buffer
  * which it uses to satisfy incoming requests. The number of requests pre-fetched and kept in the
  * buffer, as well as the maximum number of threads used to retrieve the messages are configurable.
+ * With adaptive prefetching enabled, the number of batches kept in the buffer follows the rate at
+ * which messages are consumed instead, within the configured limits.
  * <p>
- * Synchronization strategy: - Threads must hold the TaskSpawnSyncPoint object monitor to spawn a
- * new task or modify the number of inflight tasks - Threads must hold the monitor of the "futures"
- * list to modify the list - Threads must hold the monitor of the "finishedTasks" list to modify the
- * list - If you need to lock both futures and finishedTasks, lock futures first and finishedTasks
- * second
+ * Synchronization strategy: - The issued futures and the finished batches are kept in lock-free
+ * queues, and the counters in atomic variables, so that callers never block each other - Futures
+ * are matched with finished batches by a single thread at a time: a thread that finds the matching
+ * in progress records that there is more work and returns, and the thread doing the matching
+ * repeats it until no more work has been recorded - Each batch guards its own messages with its
+ * monitor, which is only contended when a batch is cleared while it is being read
  */
 public class ReceiveQueueBuffer {
 
     /**
      * Simple interface to represent a condition
-     * 
+     *
      * @param <T>
      */
     private interface Predicate<T> {
@@ -64,6 +71,9 @@ public class ReceiveQueueBuffer {
 
     private static Log log = LogFactory.getLog(ReceiveQueueBuffer.class);
 
+    /** The interval over which the consumption rate is sampled. */
+    private static final long RATE_SAMPLE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
     private final QueueBufferConfig config;
 
     private final String qUrl;
@@ -72,41 +82,68 @@ public class ReceiveQueueBuffer {
 
     private final AmazonSQS sqsClient;
 
-    private long bufferCounter = 0;
+    private final AtomicLong bufferCounter = new AtomicLong();
 
     /**
      * This buffer's queue visibility timeout. Used to detect expired message that should not be
-     * returned by the {@code receiveMessage} call. Synchronized by {@code receiveMessageLock}. -1
-     * indicates that the time is uninitialized.
+     * returned by the {@code receiveMessage} call. Initialized once under
+     * {@code visibilityTimeoutLock}. -1 indicates that the time is uninitialized.
      */
     private volatile long visibilityTimeoutNanos = -1;
 
-    /**
-     * Used as permits controlling the number of in flight receive batches. Synchronized by
-     * {@code taskSpawnSyncPoint}.
-     */
-    private volatile int inflightReceiveMessageBatches;
+    private final Object visibilityTimeoutLock = new Object();
 
     /**
-     * synchronize on this object to create new receive batches or modify inflight message count
+     * Used as permits controlling the number of in flight receive batches.
      */
-    private final Object taskSpawnSyncPoint = new Object();
+    private final AtomicInteger inflightReceiveMessageBatches = new AtomicInteger();
+
+    /** Notified when the last in flight batch finishes after the buffer was shut down. */
+    private final Object shutdownLock = new Object();
 
     /** shutdown buffer does not retrieve any more messages from sqs */
     volatile boolean shutDown = false;
 
     /** message delivery futures we gave out */
-    private final LinkedList<ReceiveMessageFuture> futures = new LinkedList<ReceiveMessageFuture>();
+    private final ConcurrentLinkedQueue<ReceiveMessageFuture> futures = new ConcurrentLinkedQueue<ReceiveMessageFuture>();
+
+    /** finished batches are stored in this queue. */
+    private final ConcurrentLinkedQueue<ReceiveMessageBatchTask> finishedTasks = new ConcurrentLinkedQueue<ReceiveMessageBatchTask>();
 
-    /** finished batches are stored in this list. */
-    private LinkedList<ReceiveMessageBatchTask> finishedTasks = new LinkedList<ReceiveMessageBatchTask>();
+    /** the sizes of the two queues above, which are not constant time to compute */
+    private final AtomicInteger futureCount = new AtomicInteger();
+    private final AtomicInteger finishedTaskCount = new AtomicInteger();
+
+    /**
+     * The number of threads that asked for futures to be satisfied from the buffer since the
+     * thread doing it last checked; non zero while a thread is doing it.
+     */
+    private final AtomicInteger satisfyRequests = new AtomicInteger();
+
+    /** average duration of the receive calls that returned messages */
+    private final AtomicLong receiveLatencyNanos = new AtomicLong();
+
+    /** messages per second consumed from the buffer, sampled every RATE_SAMPLE_INTERVAL_NANOS */
+    private volatile double consumptionRate;
+    private final AtomicLong rateSampleStartNanos = new AtomicLong(System.nanoTime());
+    private volatile long rateSampleStartDelivered;
+    private volatile int prefetchTargetBatches;
+
+    private final AtomicInteger bufferedMessages = new AtomicInteger();
+    private final AtomicLong messagesReceived = new AtomicLong();
+    private final AtomicLong messagesDelivered = new AtomicLong();
+    private final AtomicLong messagesExpired = new AtomicLong();
+    private final AtomicLong messagesReturned = new AtomicLong();
+    private final AtomicLong completedRequests = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong totalVisibilityInBufferNanos = new AtomicLong();
 
     ReceiveQueueBuffer(AmazonSQS paramSQS, Executor paramExecutor, QueueBufferConfig paramConfig, String url) {
         config = paramConfig;
         executor = paramExecutor;
         sqsClient = paramSQS;
         qUrl = url;
-
+        prefetchTargetBatches = maxDoneReceiveBatches();
     }
 
     /**
@@ -115,11 +152,14 @@ public class ReceiveQueueBuffer {
      */
     public void shutdown() {
         shutDown = true;
-        try {
-            while (inflightReceiveMessageBatches > 0)
-                Thread.sleep(100);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+        synchronized (shutdownLock) {
+            try {
+                while (inflightReceiveMessageBatches.get() > 0) {
+                    shutdownLock.wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
         }
     }
 
@@ -127,7 +167,7 @@ public class ReceiveQueueBuffer {
      * Submits the request for retrieval of messages from the queue and returns a future that will
      * be signalled when the request is satisfied. The future may already be signalled by the time
      * it is returned.
-     * 
+     *
      * @return never null
      */
     public QueueBufferFuture<ReceiveMessageRequest, ReceiveMessageResult> receiveMessageAsync(ReceiveMessageRequest rq,
@@ -153,51 +193,64 @@ public class ReceiveQueueBuffer {
     }
 
     /**
-     * Creates and returns a new future object. Sleeps if the list of already-issued but as yet
-     * unsatisfied futures is over a throttle limit.
-     * 
+     * Returns a snapshot of the metrics of this buffer.
+     */
+    public ReceiveQueueBufferMetrics getMetrics() {
+        return new ReceiveQueueBufferMetrics(qUrl, bufferedMessages.get(), finishedTaskCount.get(),
+                inflightReceiveMessageBatches.get(), futureCount.get(), prefetchTargetBatches, consumptionRate,
+                messagesReceived.get(), messagesDelivered.get(), messagesExpired.get(), messagesReturned.get(),
+                completedRequests.get(), totalWaitNanos.get(), totalVisibilityInBufferNanos.get());
+    }
+
+    /**
+     * Creates and returns a new future object.
+     *
      * @return never null
      */
     private ReceiveMessageFuture issueFuture(int size,
                                              QueueBufferCallback<ReceiveMessageRequest, ReceiveMessageResult> callback) {
-        synchronized (futures) {
-            ReceiveMessageFuture theFuture = new ReceiveMessageFuture(callback, size);
-            futures.addLast(theFuture);
-            return theFuture;
-        }
+        ReceiveMessageFuture theFuture = new ReceiveMessageFuture(callback, size);
+        futureCount.incrementAndGet();
+        futures.add(theFuture);
+        return theFuture;
     }
 
     /**
      * Attempts to satisfy some or all of the already-issued futures from the local buffer. If the
-     * buffer is empty or there are no futures, this method won't do anything.
+     * buffer is empty or there are no futures, this method won't do anything. If another thread is
+     * already doing it, that thread is asked to try again before returning, and this one returns
+     * immediately.
      */
     private void satisfyFuturesFromBuffer() {
-        synchronized (futures) {
-            synchronized (finishedTasks) {
-                // attempt to satisfy futures until we run out of either futures or
-                // finished tasks
-                while ((!futures.isEmpty()) && (!finishedTasks.isEmpty())) {
-                    // Remove any expired tasks before attempting to fufill the future
-                    pruneExpiredTasks();
-                    // Fufill the future from a non expired task if there is one. There is still a
-                    // slight chance that the first task could have expired between the time we
-                    // pruned and the time we fufill the future
-                    if (!finishedTasks.isEmpty()) {
-                        fufillFuture(futures.poll());
-                    }
+        if (satisfyRequests.getAndIncrement() != 0) {
+            return;
+        }
+        int requests = 1;
+        do {
+            // attempt to satisfy futures until we run out of either futures or
+            // finished tasks
+            while ((!futures.isEmpty()) && (!finishedTasks.isEmpty())) {
+                // Remove any expired tasks before attempting to fufill the future
+                pruneExpiredTasks();
+                // Fufill the future from a non expired task if there is one. There is still a
+                // slight chance that the first task could have expired between the time we
+                // pruned and the time we fufill the future
+                ReceiveMessageBatchTask task = finishedTasks.peek();
+                if (task != null) {
+                    futureCount.decrementAndGet();
+                    fufillFuture(futures.poll(), task);
                 }
             }
-        }
+            requests = satisfyRequests.addAndGet(-requests);
+        } while (requests != 0);
     }
 
     /**
-     * Fills the future with whatever results were received by the full batch currently at the head
-     * of the completed batch queue. Those results may be retrieved messages, or an exception. This
-     * method assumes that you are holding the finished tasks lock locks when invoking it. violate
-     * this assumption at your own peril
+     * Fills the future with whatever results were received by the given batch, at the head of
+     * the completed batch queue. Those results may be retrieved messages, or an exception. Only
+     * the thread satisfying the futures may invoke this method.
      */
-    private void fufillFuture(ReceiveMessageFuture future) {
-        ReceiveMessageBatchTask task = finishedTasks.getFirst();
+    private void fufillFuture(ReceiveMessageFuture future, ReceiveMessageBatchTask task) {
         ReceiveMessageResult result = new ReceiveMessageResult();
         LinkedList<Message> messages = new LinkedList<Message>();
         result.setMessages(messages);
@@ -219,10 +272,18 @@ public class ReceiveQueueBuffer {
         // we may have just drained the batch.
         batchDone = batchDone || task.isEmpty() || (exception != null);
         if (batchDone) {
-            finishedTasks.removeFirst();
+            removeFinishedTask(task);
         }
         result.setMessages(messages);
 
+        long now = System.nanoTime();
+        completedRequests.incrementAndGet();
+        totalWaitNanos.addAndGet(now - future.getIssuedNanos());
+        if (numRetrieved > 0) {
+            messagesDelivered.addAndGet(numRetrieved);
+            totalVisibilityInBufferNanos.addAndGet(numRetrieved * (now - task.getReceiveStartNanos()));
+        }
+
         // if after the above runs the exception is not null,
         // the finished batch has encountered an error, and we will
         // report that in the Future. Otherwise, we will fill
@@ -235,8 +296,17 @@ public class ReceiveQueueBuffer {
     }
 
     /**
-     * Prune any expired tasks that do not have an exception associated with them. This method
-     * assumes that you are holding the finishedTasks lock when invoking it
+     * Removes the given batch from the finished batches, unless {@link #clear()} did already.
+     */
+    private void removeFinishedTask(ReceiveMessageBatchTask task) {
+        if (finishedTasks.remove(task)) {
+            finishedTaskCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * Prune any expired tasks that do not have an exception associated with them. Only the thread
+     * satisfying the futures may invoke this method.
      */
     private void pruneExpiredTasks() {
         int numberExpiredTasksPruned = pruneHeadTasks(new Predicate<ReceiveQueueBuffer.ReceiveMessageBatchTask>() {
@@ -258,19 +328,21 @@ public class ReceiveQueueBuffer {
     }
 
     /**
-     * Prune all tasks at the beginning of the finishedTasks list that meet the given condition.
-     * Once a task is found that does not meet the given condition the pruning stops. This method
-     * assumes that you are holding the finishedTasks lock when invoking it.
-     * 
+     * Prune all tasks at the beginning of the finishedTasks queue that meet the given condition.
+     * Once a task is found that does not meet the given condition the pruning stops. Only the
+     * thread satisfying the futures may invoke this method.
+     *
      * @param pruneCondition
      *            Condition on whether a task is eligible to be pruned
      * @return Number of total tasks pruned from finishedTasks
      */
     private int pruneHeadTasks(Predicate<ReceiveMessageBatchTask> pruneCondition) {
         int numberPruned = 0;
-        while (!finishedTasks.isEmpty()) {
-            if (pruneCondition.test(finishedTasks.getFirst())) {
-                finishedTasks.removeFirst();
+        ReceiveMessageBatchTask task;
+        while ((task = finishedTasks.peek()) != null) {
+            if (pruneCondition.test(task)) {
+                task.discard();
+                removeFinishedTask(task);
                 numberPruned++;
             } else {
                 break;
@@ -288,23 +360,57 @@ public class ReceiveQueueBuffer {
             return;
         }
 
-        int desiredBatches = config.getMaxDoneReceiveBatches();
-        desiredBatches = desiredBatches < 1 ? 1 : desiredBatches;
+        int desiredBatches = desiredDoneReceiveBatches();
 
-        synchronized (finishedTasks) {
-            if (finishedTasks.size() >= desiredBatches)
-                return;
+        int finished = finishedTaskCount.get();
+        if (finished >= desiredBatches)
+            return;
+
+        // if we have some finished batches already, and
+        // existing inflight batches will bring us to the limit,
+        // don't spawn more. if our finished tasks cache is empty, we will
+        // always spawn a thread.
+        if (finished > 0 && (finished + inflightReceiveMessageBatches.get()) >= desiredBatches) {
+            return;
+        }
+
+        initVisibilityTimeout();
 
-            // if we have some finished batches already, and
-            // existing inflight batches will bring us to the limit,
-            // don't spawn more. if our finished tasks cache is empty, we will
-            // always spawn a thread.
-            if (finishedTasks.size() > 0 && (finishedTasks.size() + inflightReceiveMessageBatches) >= desiredBatches) {
+        int max = config.getMaxInflightReceiveBatches();
+        // must allow at least one inflight receive task, or receive won't
+        // work at all.
+        max = max > 0 ? max : 1;
+        int inflight;
+        do {
+            inflight = inflightReceiveMessageBatches.get();
+            if (inflight >= max) {
                 return;
             }
+        } while (!inflightReceiveMessageBatches.compareAndSet(inflight, inflight + 1));
+
+        ReceiveMessageBatchTask task = new ReceiveMessageBatchTask(this);
+        long batchNumber = bufferCounter.incrementAndGet();
+        if (log.isTraceEnabled()) {
+            log.trace("Spawned receive batch #" + batchNumber + " (" + (inflight + 1) + " of " + max
+                    + " inflight) for queue " + qUrl);
         }
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            batchNotInflight();
+            throw e;
+        }
+    }
 
-        synchronized (taskSpawnSyncPoint) {
+    /**
+     * Gets the visibility timeout of the queue the first time a batch is spawned, unless one is
+     * configured.
+     */
+    private void initVisibilityTimeout() {
+        if (visibilityTimeoutNanos != -1) {
+            return;
+        }
+        synchronized (visibilityTimeoutLock) {
             if (visibilityTimeoutNanos == -1) {
                 GetQueueAttributesRequest request = new GetQueueAttributesRequest().withQueueUrl(qUrl)
                         .withAttributeNames("VisibilityTimeout");
@@ -313,54 +419,102 @@ public class ReceiveQueueBuffer {
                         .get("VisibilityTimeout"));
                 visibilityTimeoutNanos = TimeUnit.NANOSECONDS.convert(visibilityTimeoutSeconds, TimeUnit.SECONDS);
             }
+        }
+    }
 
-            int max = config.getMaxInflightReceiveBatches();
-            // must allow at least one inflight receive task, or receive won't
-            // work at all.
-            max = max > 0 ? max : 1;
-            int toSpawn = max - inflightReceiveMessageBatches;
-            if (toSpawn > 0) {
-                ReceiveMessageBatchTask task = new ReceiveMessageBatchTask(this);
-                ++inflightReceiveMessageBatches;
-                ++bufferCounter;
-                if (log.isTraceEnabled()) {
-                    log.trace("Spawned receive batch #" + bufferCounter + " (" + inflightReceiveMessageBatches + " of "
-                            + max + " inflight) for queue " + qUrl);
-                }
-                executor.execute(task);
-            }
+    private int maxDoneReceiveBatches() {
+        int desiredBatches = config.getMaxDoneReceiveBatches();
+        return desiredBatches < 1 ? 1 : desiredBatches;
+    }
+
+    /**
+     * Returns the number of finished batches to keep in the buffer. Without adaptive prefetching,
+     * this is the configured maximum. With it, this is enough messages to cover the consumption
+     * during two receive calls, but no more than can be consumed within half of the visibility
+     * timeout, so that prefetched messages don't expire in the buffer.
+     */
+    private int desiredDoneReceiveBatches() {
+        int max = maxDoneReceiveBatches();
+        if (!config.isAdaptivePrefetching()) {
+            return max;
+        }
+
+        double rate = sampleConsumptionRate();
+        long visibilityNanos = config.getVisibilityTimeoutSeconds() > 0 ? TimeUnit.SECONDS.toNanos(config
+                .getVisibilityTimeoutSeconds()) : visibilityTimeoutNanos;
+        long leadNanos = 2 * receiveLatencyNanos.get();
+        if (visibilityNanos > 0) {
+            leadNanos = Math.min(leadNanos, visibilityNanos / 2);
+        }
+        double messages = rate * leadNanos / TimeUnit.SECONDS.toNanos(1);
+        int batchSize = config.getMaxBatchSize() > 0 ? config.getMaxBatchSize() : 1;
+        int desiredBatches = (int) Math.min(max, Math.max(1, Math.ceil(messages / batchSize)));
+        prefetchTargetBatches = desiredBatches;
+        return desiredBatches;
+    }
+
+    /**
+     * Returns the consumption rate, first updating it if the current sample interval is over. One
+     * of the threads calling concurrently updates it.
+     */
+    private double sampleConsumptionRate() {
+        long start = rateSampleStartNanos.get();
+        long now = System.nanoTime();
+        long elapsed = now - start;
+        if (elapsed >= RATE_SAMPLE_INTERVAL_NANOS && rateSampleStartNanos.compareAndSet(start, now)) {
+            long delivered = messagesDelivered.get();
+            double sample = (delivered - rateSampleStartDelivered) * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+            rateSampleStartDelivered = delivered;
+            // weigh the new sample like all the previous ones together
+            consumptionRate = consumptionRate == 0 ? sample : (consumptionRate + sample) / 2;
         }
+        return consumptionRate;
+    }
+
+    /**
+     * Updates the average latency of the receive calls that returned messages.
+     */
+    private void recordReceiveLatency(long latencyNanos) {
+        long average;
+        long updated;
+        do {
+            average = receiveLatencyNanos.get();
+            updated = average == 0 ? latencyNanos : (3 * average + latencyNanos) / 4;
+        } while (!receiveLatencyNanos.compareAndSet(average, updated));
     }
 
     /**
      * This method is called by the batches after they have finished retrieving the messages.
      */
     void reportBatchFinished(ReceiveMessageBatchTask batch) {
-        synchronized (finishedTasks) {
-            finishedTasks.addLast(batch);
-            if (log.isTraceEnabled()) {
-                log.info("Queue " + qUrl + " now has " + finishedTasks.size() + " receive results cached ");
-            }
-        }
-        synchronized (taskSpawnSyncPoint) {
-            --inflightReceiveMessageBatches;
+        finishedTaskCount.incrementAndGet();
+        finishedTasks.add(batch);
+        if (log.isTraceEnabled()) {
+            log.trace("Queue " + qUrl + " now has " + finishedTaskCount.get() + " receive results cached ");
         }
+        batchNotInflight();
         satisfyFuturesFromBuffer();
         spawnMoreReceiveTasks();
     }
 
+    private void batchNotInflight() {
+        if (inflightReceiveMessageBatches.decrementAndGet() == 0 && shutDown) {
+            synchronized (shutdownLock) {
+                shutdownLock.notifyAll();
+            }
+        }
+    }
+
     /**
      * Clears and nacks any pre-fetched messages in this buffer.
      */
     public void clear() {
         boolean done = false;
         while (!done) {
-            ReceiveMessageBatchTask currentBatch = null;
-            synchronized (finishedTasks) {
-                currentBatch = finishedTasks.poll();
-            }
+            ReceiveMessageBatchTask currentBatch = finishedTasks.poll();
 
             if (currentBatch != null) {
+                finishedTaskCount.decrementAndGet();
                 currentBatch.clear();
             } else {
                 // ran out of batches to clear
@@ -373,6 +527,9 @@ public class ReceiveQueueBuffer {
         /* how many messages did the request ask for */
         private int requestedSize;
 
+        /* when the request was issued */
+        private final long issuedNanos = System.nanoTime();
+
         ReceiveMessageFuture(QueueBufferCallback<ReceiveMessageRequest, ReceiveMessageResult> cb, int paramSize) {
             super(cb);
             requestedSize = paramSize;
@@ -382,6 +539,10 @@ public class ReceiveQueueBuffer {
             return requestedSize;
         }
 
+        long getIssuedNanos() {
+            return issuedNanos;
+        }
+
     }
 
     /**
@@ -393,13 +554,14 @@ public class ReceiveQueueBuffer {
     private class ReceiveMessageBatchTask implements Runnable {
         private Exception exception = null;
         private List<Message> messages;
+        private long receiveStartNanos;
         private long visibilityDeadlineNano;
         private boolean open = false;
         private ReceiveQueueBuffer parentBuffer;
 
         /**
          * Constructs a receive task waiting the specified time before calling SQS.
-         * 
+         *
          * @param waitTimeMs
          *            the time to wait before calling SQS
          */
@@ -427,11 +589,18 @@ public class ReceiveQueueBuffer {
             return exception;
         }
 
+        /**
+         * @return the time the messages of this batch started to be invisible to other consumers
+         */
+        synchronized long getReceiveStartNanos() {
+            return receiveStartNanos;
+        }
+
         /**
          * Returns a message if one is available.
          * <p>
          * The call adjusts the message count.
-         * 
+         *
          * @return a message or {@code null} if none is available
          */
         synchronized Message removeMessage() {
@@ -441,20 +610,32 @@ public class ReceiveQueueBuffer {
 
             // our messages expired.
             if (isExpired()) {
-                messages.clear();
+                discard();
                 return null;
             }
 
             if (messages.isEmpty())
                 return null;
-            else
-                return messages.remove(messages.size() - 1);
+
+            bufferedMessages.decrementAndGet();
+            return messages.remove(messages.size() - 1);
         }
 
         boolean isExpired() {
             return System.nanoTime() > visibilityDeadlineNano;
         }
 
+        /**
+         * Drops the messages remaining in the batch, once their visibility timeout expired.
+         */
+        synchronized void discard() {
+            if (!messages.isEmpty()) {
+                bufferedMessages.addAndGet(-messages.size());
+                messagesExpired.addAndGet(messages.size());
+                messages.clear();
+            }
+        }
+
         /**
          * Nacks and clears all messages remaining in the batch.
          */
@@ -486,8 +667,12 @@ public class ReceiveQueueBuffer {
                     // Log and ignore.
                     log.warn("ReceiveMessageBatchTask: changeMessageVisibility failed " + e);
                 }
+                bufferedMessages.addAndGet(-messages.size());
+                messagesReturned.addAndGet(messages.size());
+                messages.clear();
+            } else {
+                discard();
             }
-            messages.clear();
         }
 
         /**
@@ -497,14 +682,15 @@ public class ReceiveQueueBuffer {
         public void run() {
 
             try {
-                visibilityDeadlineNano = System.nanoTime() + visibilityTimeoutNanos;
+                receiveStartNanos = System.nanoTime();
+                visibilityDeadlineNano = receiveStartNanos + visibilityTimeoutNanos;
                 ReceiveMessageRequest request = new ReceiveMessageRequest(qUrl).withMaxNumberOfMessages(config
                         .getMaxBatchSize());
                 ResultConverter.appendUserAgent(request, AmazonSQSBufferedAsyncClient.USER_AGENT);
 
                 if (config.getVisibilityTimeoutSeconds() > 0) {
                     request.setVisibilityTimeout(config.getVisibilityTimeoutSeconds());
-                    visibilityDeadlineNano = System.nanoTime()
+                    visibilityDeadlineNano = receiveStartNanos
                             + TimeUnit.NANOSECONDS.convert(config.getVisibilityTimeoutSeconds(), TimeUnit.SECONDS);
                 }
 
@@ -513,6 +699,11 @@ public class ReceiveQueueBuffer {
                 }
 
                 messages = sqsClient.receiveMessage(request).getMessages();
+                if (!messages.isEmpty()) {
+                    bufferedMessages.addAndGet(messages.size());
+                    messagesReceived.addAndGet(messages.size());
+                    recordReceiveLatency(System.nanoTime() - receiveStartNanos);
+                }
             } catch (AmazonClientException e) {
                 exception = e;
             } finally {
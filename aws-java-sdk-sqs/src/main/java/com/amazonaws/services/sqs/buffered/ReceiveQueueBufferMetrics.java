@@ -0,0 +1,184 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.services.sqs.buffered;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snapshot of the state of the receive buffer of one queue of an
+ * {@link AmazonSQSBufferedAsyncClient}: how many messages are waiting in the buffer, how long
+ * receive requests waited for them, and how much of the visibility timeout of the messages was
+ * spent in the buffer rather than in the hands of the application. The counters are cumulative
+ * since the buffer was created.
+ */
+public class ReceiveQueueBufferMetrics {
+
+    private final String queueUrl;
+    private final int bufferedMessages;
+    private final int bufferedBatches;
+    private final int inflightReceiveBatches;
+    private final int waitingRequests;
+    private final int prefetchTargetBatches;
+    private final double consumptionRate;
+    private final long messagesReceived;
+    private final long messagesDelivered;
+    private final long messagesExpired;
+    private final long messagesReturned;
+    private final long completedRequests;
+    private final long totalWaitNanos;
+    private final long totalVisibilityInBufferNanos;
+
+    ReceiveQueueBufferMetrics(String queueUrl, int bufferedMessages, int bufferedBatches,
+            int inflightReceiveBatches, int waitingRequests, int prefetchTargetBatches, double consumptionRate,
+            long messagesReceived, long messagesDelivered, long messagesExpired, long messagesReturned,
+            long completedRequests, long totalWaitNanos, long totalVisibilityInBufferNanos) {
+        this.queueUrl = queueUrl;
+        this.bufferedMessages = bufferedMessages;
+        this.bufferedBatches = bufferedBatches;
+        this.inflightReceiveBatches = inflightReceiveBatches;
+        this.waitingRequests = waitingRequests;
+        this.prefetchTargetBatches = prefetchTargetBatches;
+        this.consumptionRate = consumptionRate;
+        this.messagesReceived = messagesReceived;
+        this.messagesDelivered = messagesDelivered;
+        this.messagesExpired = messagesExpired;
+        this.messagesReturned = messagesReturned;
+        this.completedRequests = completedRequests;
+        this.totalWaitNanos = totalWaitNanos;
+        this.totalVisibilityInBufferNanos = totalVisibilityInBufferNanos;
+    }
+
+    /**
+     * @return the URL of the queue.
+     */
+    public String getQueueUrl() {
+        return queueUrl;
+    }
+
+    /**
+     * @return the number of pre-fetched messages waiting in the buffer.
+     */
+    public int getBufferedMessages() {
+        return bufferedMessages;
+    }
+
+    /**
+     * @return the number of completed receive batches waiting in the buffer.
+     */
+    public int getBufferedBatches() {
+        return bufferedBatches;
+    }
+
+    /**
+     * @return the number of receive batches being retrieved from SQS.
+     */
+    public int getInflightReceiveBatches() {
+        return inflightReceiveBatches;
+    }
+
+    /**
+     * @return the number of receive requests waiting for messages.
+     */
+    public int getWaitingRequests() {
+        return waitingRequests;
+    }
+
+    /**
+     * @return the number of completed batches the buffer currently tries to keep; the configured
+     *         maximum unless adaptive prefetching is enabled.
+     */
+    public int getPrefetchTargetBatches() {
+        return prefetchTargetBatches;
+    }
+
+    /**
+     * @return the number of messages per second taken from the buffer, as last sampled with
+     *         adaptive prefetching enabled; 0 otherwise.
+     */
+    public double getConsumptionRate() {
+        return consumptionRate;
+    }
+
+    /**
+     * @return the number of messages pre-fetched from SQS.
+     */
+    public long getMessagesReceived() {
+        return messagesReceived;
+    }
+
+    /**
+     * @return the number of messages returned to receive requests.
+     */
+    public long getMessagesDelivered() {
+        return messagesDelivered;
+    }
+
+    /**
+     * @return the number of pre-fetched messages dropped because their visibility timeout expired
+     *         in the buffer.
+     */
+    public long getMessagesExpired() {
+        return messagesExpired;
+    }
+
+    /**
+     * @return the number of pre-fetched messages made visible again when the buffer was cleared.
+     */
+    public long getMessagesReturned() {
+        return messagesReturned;
+    }
+
+    /**
+     * @return the number of receive requests satisfied from the buffer.
+     */
+    public long getCompletedRequests() {
+        return completedRequests;
+    }
+
+    /**
+     * @return the average time receive requests waited to be satisfied, in milliseconds.
+     */
+    public double getAverageWaitTimeMillis() {
+        return average(totalWaitNanos, completedRequests);
+    }
+
+    /**
+     * @return the average part of the visibility timeout of the delivered messages that was spent
+     *         in the buffer, in milliseconds.
+     */
+    public double getAverageVisibilityInBufferMillis() {
+        return average(totalVisibilityInBufferNanos, messagesDelivered);
+    }
+
+    private static double average(long totalNanos, long count) {
+        if (count == 0) {
+            return 0;
+        }
+        return (double) totalNanos / count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public String toString() {
+        return "ReceiveQueueBufferMetrics [queueUrl=" + queueUrl + ", bufferedMessages=" + bufferedMessages
+                + ", bufferedBatches=" + bufferedBatches + ", inflightReceiveBatches=" + inflightReceiveBatches
+                + ", waitingRequests=" + waitingRequests + ", prefetchTargetBatches=" + prefetchTargetBatches
+                + ", consumptionRate=" + consumptionRate + ", messagesReceived=" + messagesReceived
+                + ", messagesDelivered=" + messagesDelivered + ", messagesExpired=" + messagesExpired
+                + ", messagesReturned=" + messagesReturned + ", completedRequests=" + completedRequests
+                + ", averageWaitTimeMillis=" + getAverageWaitTimeMillis() + ", averageVisibilityInBufferMillis="
+                + getAverageVisibilityInBufferMillis() + "]";
+    }
+}
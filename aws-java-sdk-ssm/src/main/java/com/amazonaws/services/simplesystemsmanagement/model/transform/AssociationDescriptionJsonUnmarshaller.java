@@ -53,35 +53,50 @@ public class AssociationDescriptionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    associationDescription.setName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceId", targetDepth)) {
-                    context.nextToken();
-                    associationDescription.setInstanceId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Date", targetDepth)) {
-                    context.nextToken();
-                    associationDescription.setDate(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    associationDescription
-                            .setStatus(AssociationStatusJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Parameters", targetDepth)) {
-                    context.nextToken();
-                    associationDescription
-                            .setParameters(new MapUnmarshaller<String, java.util.List<String>>(
-                                    context.getUnmarshaller(String.class),
-                                    new ListUnmarshaller<String>(context
-                                            .getUnmarshaller(String.class)))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            associationDescription.setName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1399478096:
+                        if (fieldName.equals("InstanceId")) {
+                            context.nextToken();
+                            associationDescription.setInstanceId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2122702:
+                        if (fieldName.equals("Date")) {
+                            context.nextToken();
+                            associationDescription.setDate(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case -1808614382:
+                        if (fieldName.equals("Status")) {
+                            context.nextToken();
+                            associationDescription
+                                    .setStatus(AssociationStatusJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1842766326:
+                        if (fieldName.equals("Parameters")) {
+                            context.nextToken();
+                            associationDescription
+                                    .setParameters(new MapUnmarshaller<String, java.util.List<String>>(
+                                            context.getUnmarshaller(String.class),
+                                            new ListUnmarshaller<String>(context
+                                                    .getUnmarshaller(String.class)))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
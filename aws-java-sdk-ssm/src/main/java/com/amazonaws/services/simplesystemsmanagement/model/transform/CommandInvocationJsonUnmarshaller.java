@@ -53,48 +53,69 @@ public class CommandInvocationJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CommandId", targetDepth)) {
-                    context.nextToken();
-                    commandInvocation.setCommandId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceId", targetDepth)) {
-                    context.nextToken();
-                    commandInvocation.setInstanceId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Comment", targetDepth)) {
-                    context.nextToken();
-                    commandInvocation.setComment(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("DocumentName", targetDepth)) {
-                    context.nextToken();
-                    commandInvocation.setDocumentName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("RequestedDateTime", targetDepth)) {
-                    context.nextToken();
-                    commandInvocation.setRequestedDateTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    commandInvocation.setStatus(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("TraceOutput", targetDepth)) {
-                    context.nextToken();
-                    commandInvocation.setTraceOutput(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("CommandPlugins", targetDepth)) {
-                    context.nextToken();
-                    commandInvocation
-                            .setCommandPlugins(new ListUnmarshaller<CommandPlugin>(
-                                    CommandPluginJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 505242022:
+                        if (fieldName.equals("CommandId")) {
+                            context.nextToken();
+                            commandInvocation.setCommandId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1399478096:
+                        if (fieldName.equals("InstanceId")) {
+                            context.nextToken();
+                            commandInvocation.setInstanceId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1679915457:
+                        if (fieldName.equals("Comment")) {
+                            context.nextToken();
+                            commandInvocation.setComment(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1309077914:
+                        if (fieldName.equals("DocumentName")) {
+                            context.nextToken();
+                            commandInvocation.setDocumentName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2042043657:
+                        if (fieldName.equals("RequestedDateTime")) {
+                            context.nextToken();
+                            commandInvocation.setRequestedDateTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case -1808614382:
+                        if (fieldName.equals("Status")) {
+                            context.nextToken();
+                            commandInvocation.setStatus(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1779226246:
+                        if (fieldName.equals("TraceOutput")) {
+                            context.nextToken();
+                            commandInvocation.setTraceOutput(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1408188917:
+                        if (fieldName.equals("CommandPlugins")) {
+                            context.nextToken();
+                            commandInvocation
+                                    .setCommandPlugins(new ListUnmarshaller<CommandPlugin>(
+                                            CommandPluginJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -52,58 +52,83 @@ public class CommandJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CommandId", targetDepth)) {
-                    context.nextToken();
-                    command.setCommandId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("DocumentName", targetDepth)) {
-                    context.nextToken();
-                    command.setDocumentName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Comment", targetDepth)) {
-                    context.nextToken();
-                    command.setComment(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("ExpiresAfter", targetDepth)) {
-                    context.nextToken();
-                    command.setExpiresAfter(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Parameters", targetDepth)) {
-                    context.nextToken();
-                    command.setParameters(new MapUnmarshaller<String, java.util.List<String>>(
-                            context.getUnmarshaller(String.class),
-                            new ListUnmarshaller<String>(context
-                                    .getUnmarshaller(String.class)))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("InstanceIds", targetDepth)) {
-                    context.nextToken();
-                    command.setInstanceIds(new ListUnmarshaller<String>(context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("RequestedDateTime", targetDepth)) {
-                    context.nextToken();
-                    command.setRequestedDateTime(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    command.setStatus(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("OutputS3BucketName", targetDepth)) {
-                    context.nextToken();
-                    command.setOutputS3BucketName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("OutputS3KeyPrefix", targetDepth)) {
-                    context.nextToken();
-                    command.setOutputS3KeyPrefix(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 505242022:
+                        if (fieldName.equals("CommandId")) {
+                            context.nextToken();
+                            command.setCommandId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1309077914:
+                        if (fieldName.equals("DocumentName")) {
+                            context.nextToken();
+                            command.setDocumentName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1679915457:
+                        if (fieldName.equals("Comment")) {
+                            context.nextToken();
+                            command.setComment(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 2003116840:
+                        if (fieldName.equals("ExpiresAfter")) {
+                            context.nextToken();
+                            command.setExpiresAfter(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case -1842766326:
+                        if (fieldName.equals("Parameters")) {
+                            context.nextToken();
+                            command.setParameters(new MapUnmarshaller<String, java.util.List<String>>(
+                                    context.getUnmarshaller(String.class),
+                                    new ListUnmarshaller<String>(context
+                                            .getUnmarshaller(String.class)))
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -434147901:
+                        if (fieldName.equals("InstanceIds")) {
+                            context.nextToken();
+                            command.setInstanceIds(new ListUnmarshaller<String>(context
+                                    .getUnmarshaller(String.class)).unmarshall(context));
+                        }
+                        break;
+                    case 2042043657:
+                        if (fieldName.equals("RequestedDateTime")) {
+                            context.nextToken();
+                            command.setRequestedDateTime(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case -1808614382:
+                        if (fieldName.equals("Status")) {
+                            context.nextToken();
+                            command.setStatus(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1007199638:
+                        if (fieldName.equals("OutputS3BucketName")) {
+                            context.nextToken();
+                            command.setOutputS3BucketName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -278821968:
+                        if (fieldName.equals("OutputS3KeyPrefix")) {
+                            context.nextToken();
+                            command.setOutputS3KeyPrefix(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,49 +53,68 @@ public class CommandPluginJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    commandPlugin.setName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    commandPlugin.setStatus(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ResponseCode", targetDepth)) {
-                    context.nextToken();
-                    commandPlugin.setResponseCode(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("ResponseStartDateTime", targetDepth)) {
-                    context.nextToken();
-                    commandPlugin.setResponseStartDateTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("ResponseFinishDateTime",
-                        targetDepth)) {
-                    context.nextToken();
-                    commandPlugin.setResponseFinishDateTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("Output", targetDepth)) {
-                    context.nextToken();
-                    commandPlugin.setOutput(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("OutputS3BucketName", targetDepth)) {
-                    context.nextToken();
-                    commandPlugin.setOutputS3BucketName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("OutputS3KeyPrefix", targetDepth)) {
-                    context.nextToken();
-                    commandPlugin.setOutputS3KeyPrefix(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            commandPlugin.setName(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1808614382:
+                        if (fieldName.equals("Status")) {
+                            context.nextToken();
+                            commandPlugin.setStatus(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1603043822:
+                        if (fieldName.equals("ResponseCode")) {
+                            context.nextToken();
+                            commandPlugin.setResponseCode(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -777456836:
+                        if (fieldName.equals("ResponseStartDateTime")) {
+                            context.nextToken();
+                            commandPlugin.setResponseStartDateTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case 566780943:
+                        if (fieldName.equals("ResponseFinishDateTime")) {
+                            context.nextToken();
+                            commandPlugin.setResponseFinishDateTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case -1921645279:
+                        if (fieldName.equals("Output")) {
+                            context.nextToken();
+                            commandPlugin.setOutput(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1007199638:
+                        if (fieldName.equals("OutputS3BucketName")) {
+                            context.nextToken();
+                            commandPlugin.setOutputS3BucketName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -278821968:
+                        if (fieldName.equals("OutputS3KeyPrefix")) {
+                            context.nextToken();
+                            commandPlugin.setOutputS3KeyPrefix(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
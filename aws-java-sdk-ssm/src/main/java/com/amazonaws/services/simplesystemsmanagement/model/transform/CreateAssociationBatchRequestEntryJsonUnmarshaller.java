@@ -54,24 +54,35 @@ public class CreateAssociationBatchRequestEntryJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    createAssociationBatchRequestEntry.setName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceId", targetDepth)) {
-                    context.nextToken();
-                    createAssociationBatchRequestEntry.setInstanceId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Parameters", targetDepth)) {
-                    context.nextToken();
-                    createAssociationBatchRequestEntry
-                            .setParameters(new MapUnmarshaller<String, java.util.List<String>>(
-                                    context.getUnmarshaller(String.class),
-                                    new ListUnmarshaller<String>(context
-                                            .getUnmarshaller(String.class)))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            createAssociationBatchRequestEntry.setName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1399478096:
+                        if (fieldName.equals("InstanceId")) {
+                            context.nextToken();
+                            createAssociationBatchRequestEntry.setInstanceId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1842766326:
+                        if (fieldName.equals("Parameters")) {
+                            context.nextToken();
+                            createAssociationBatchRequestEntry
+                                    .setParameters(new MapUnmarshaller<String, java.util.List<String>>(
+                                            context.getUnmarshaller(String.class),
+                                            new ListUnmarshaller<String>(context
+                                                    .getUnmarshaller(String.class)))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
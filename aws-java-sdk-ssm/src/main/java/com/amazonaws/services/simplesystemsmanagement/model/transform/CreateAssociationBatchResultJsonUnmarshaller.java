@@ -53,19 +53,28 @@ public class CreateAssociationBatchResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Successful", targetDepth)) {
-                    context.nextToken();
-                    createAssociationBatchResult
-                            .setSuccessful(new ListUnmarshaller<AssociationDescription>(
-                                    AssociationDescriptionJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Failed", targetDepth)) {
-                    context.nextToken();
-                    createAssociationBatchResult
-                            .setFailed(new ListUnmarshaller<FailedCreateAssociation>(
-                                    FailedCreateAssociationJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1259833018:
+                        if (fieldName.equals("Successful")) {
+                            context.nextToken();
+                            createAssociationBatchResult
+                                    .setSuccessful(new ListUnmarshaller<AssociationDescription>(
+                                            AssociationDescriptionJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 2096857181:
+                        if (fieldName.equals("Failed")) {
+                            context.nextToken();
+                            createAssociationBatchResult
+                                    .setFailed(new ListUnmarshaller<FailedCreateAssociation>(
+                                            FailedCreateAssociationJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
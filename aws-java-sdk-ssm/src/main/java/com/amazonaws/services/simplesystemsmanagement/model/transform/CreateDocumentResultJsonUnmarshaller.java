@@ -53,11 +53,18 @@ public class CreateDocumentResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DocumentDescription", targetDepth)) {
-                    context.nextToken();
-                    createDocumentResult
-                            .setDocumentDescription(DocumentDescriptionJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2050356161:
+                        if (fieldName.equals("DocumentDescription")) {
+                            context.nextToken();
+                            createDocumentResult
+                                    .setDocumentDescription(DocumentDescriptionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
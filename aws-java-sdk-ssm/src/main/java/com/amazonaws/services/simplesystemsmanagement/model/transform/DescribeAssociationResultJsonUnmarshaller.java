@@ -53,12 +53,18 @@ public class DescribeAssociationResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AssociationDescription",
-                        targetDepth)) {
-                    context.nextToken();
-                    describeAssociationResult
-                            .setAssociationDescription(AssociationDescriptionJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1363029797:
+                        if (fieldName.equals("AssociationDescription")) {
+                            context.nextToken();
+                            describeAssociationResult
+                                    .setAssociationDescription(AssociationDescriptionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
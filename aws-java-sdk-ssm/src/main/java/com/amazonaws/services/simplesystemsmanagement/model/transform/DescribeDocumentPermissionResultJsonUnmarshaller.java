@@ -53,12 +53,19 @@ public class DescribeDocumentPermissionResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AccountIds", targetDepth)) {
-                    context.nextToken();
-                    describeDocumentPermissionResult
-                            .setAccountIds(new ListUnmarshaller<String>(context
-                                    .getUnmarshaller(String.class))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1190110571:
+                        if (fieldName.equals("AccountIds")) {
+                            context.nextToken();
+                            describeDocumentPermissionResult
+                                    .setAccountIds(new ListUnmarshaller<String>(context
+                                            .getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
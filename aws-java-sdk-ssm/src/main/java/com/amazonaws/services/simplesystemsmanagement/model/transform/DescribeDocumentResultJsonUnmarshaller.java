@@ -53,11 +53,18 @@ public class DescribeDocumentResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Document", targetDepth)) {
-                    context.nextToken();
-                    describeDocumentResult
-                            .setDocument(DocumentDescriptionJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 926364987:
+                        if (fieldName.equals("Document")) {
+                            context.nextToken();
+                            describeDocumentResult
+                                    .setDocument(DocumentDescriptionJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
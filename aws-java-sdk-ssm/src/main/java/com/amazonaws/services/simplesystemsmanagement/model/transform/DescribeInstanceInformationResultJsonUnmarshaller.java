@@ -54,18 +54,26 @@ public class DescribeInstanceInformationResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("InstanceInformationList",
-                        targetDepth)) {
-                    context.nextToken();
-                    describeInstanceInformationResult
-                            .setInstanceInformationList(new ListUnmarshaller<InstanceInformation>(
-                                    InstanceInformationJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeInstanceInformationResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 978895477:
+                        if (fieldName.equals("InstanceInformationList")) {
+                            context.nextToken();
+                            describeInstanceInformationResult
+                                    .setInstanceInformationList(new ListUnmarshaller<InstanceInformation>(
+                                            InstanceInformationJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1084080474:
+                        if (fieldName.equals("NextToken")) {
+                            context.nextToken();
+                            describeInstanceInformationResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,59 +53,84 @@ public class DocumentDescriptionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Sha1", targetDepth)) {
-                    context.nextToken();
-                    documentDescription.setSha1(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Hash", targetDepth)) {
-                    context.nextToken();
-                    documentDescription.setHash(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("HashType", targetDepth)) {
-                    context.nextToken();
-                    documentDescription.setHashType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    documentDescription.setName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Owner", targetDepth)) {
-                    context.nextToken();
-                    documentDescription.setOwner(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedDate", targetDepth)) {
-                    context.nextToken();
-                    documentDescription.setCreatedDate(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    documentDescription.setStatus(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Description", targetDepth)) {
-                    context.nextToken();
-                    documentDescription.setDescription(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Parameters", targetDepth)) {
-                    context.nextToken();
-                    documentDescription
-                            .setParameters(new ListUnmarshaller<DocumentParameter>(
-                                    DocumentParameterJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("PlatformTypes", targetDepth)) {
-                    context.nextToken();
-                    documentDescription
-                            .setPlatformTypes(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2575653:
+                        if (fieldName.equals("Sha1")) {
+                            context.nextToken();
+                            documentDescription.setSha1(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2241838:
+                        if (fieldName.equals("Hash")) {
+                            context.nextToken();
+                            documentDescription.setHash(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 212857224:
+                        if (fieldName.equals("HashType")) {
+                            context.nextToken();
+                            documentDescription.setHashType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            documentDescription.setName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 76612243:
+                        if (fieldName.equals("Owner")) {
+                            context.nextToken();
+                            documentDescription.setOwner(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1177474710:
+                        if (fieldName.equals("CreatedDate")) {
+                            context.nextToken();
+                            documentDescription.setCreatedDate(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case -1808614382:
+                        if (fieldName.equals("Status")) {
+                            context.nextToken();
+                            documentDescription.setStatus(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -56677412:
+                        if (fieldName.equals("Description")) {
+                            context.nextToken();
+                            documentDescription.setDescription(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1842766326:
+                        if (fieldName.equals("Parameters")) {
+                            context.nextToken();
+                            documentDescription
+                                    .setParameters(new ListUnmarshaller<DocumentParameter>(
+                                            DocumentParameterJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 1327005606:
+                        if (fieldName.equals("PlatformTypes")) {
+                            context.nextToken();
+                            documentDescription
+                                    .setPlatformTypes(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
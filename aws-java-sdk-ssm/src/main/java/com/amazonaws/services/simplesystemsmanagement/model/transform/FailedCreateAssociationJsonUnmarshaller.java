@@ -53,21 +53,32 @@ public class FailedCreateAssociationJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Entry", targetDepth)) {
-                    context.nextToken();
-                    failedCreateAssociation
-                            .setEntry(CreateAssociationBatchRequestEntryJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Message", targetDepth)) {
-                    context.nextToken();
-                    failedCreateAssociation.setMessage(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Fault", targetDepth)) {
-                    context.nextToken();
-                    failedCreateAssociation.setFault(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 67115090:
+                        if (fieldName.equals("Entry")) {
+                            context.nextToken();
+                            failedCreateAssociation
+                                    .setEntry(CreateAssociationBatchRequestEntryJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1675388953:
+                        if (fieldName.equals("Message")) {
+                            context.nextToken();
+                            failedCreateAssociation.setMessage(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 67652098:
+                        if (fieldName.equals("Fault")) {
+                            context.nextToken();
+                            failedCreateAssociation.setFault(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
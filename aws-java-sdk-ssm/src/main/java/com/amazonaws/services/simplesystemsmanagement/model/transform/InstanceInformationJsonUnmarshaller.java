@@ -53,47 +53,68 @@ public class InstanceInformationJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("InstanceId", targetDepth)) {
-                    context.nextToken();
-                    instanceInformation.setInstanceId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("PingStatus", targetDepth)) {
-                    context.nextToken();
-                    instanceInformation.setPingStatus(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("LastPingDateTime", targetDepth)) {
-                    context.nextToken();
-                    instanceInformation.setLastPingDateTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("AgentVersion", targetDepth)) {
-                    context.nextToken();
-                    instanceInformation.setAgentVersion(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IsLatestVersion", targetDepth)) {
-                    context.nextToken();
-                    instanceInformation
-                            .setIsLatestVersion(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("PlatformType", targetDepth)) {
-                    context.nextToken();
-                    instanceInformation.setPlatformType(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PlatformName", targetDepth)) {
-                    context.nextToken();
-                    instanceInformation.setPlatformName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PlatformVersion", targetDepth)) {
-                    context.nextToken();
-                    instanceInformation.setPlatformVersion(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1399478096:
+                        if (fieldName.equals("InstanceId")) {
+                            context.nextToken();
+                            instanceInformation.setInstanceId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1499808732:
+                        if (fieldName.equals("PingStatus")) {
+                            context.nextToken();
+                            instanceInformation.setPingStatus(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 344947971:
+                        if (fieldName.equals("LastPingDateTime")) {
+                            context.nextToken();
+                            instanceInformation.setLastPingDateTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case 2092320307:
+                        if (fieldName.equals("AgentVersion")) {
+                            context.nextToken();
+                            instanceInformation.setAgentVersion(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -856228313:
+                        if (fieldName.equals("IsLatestVersion")) {
+                            context.nextToken();
+                            instanceInformation
+                                    .setIsLatestVersion(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 319901293:
+                        if (fieldName.equals("PlatformType")) {
+                            context.nextToken();
+                            instanceInformation.setPlatformType(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 319699390:
+                        if (fieldName.equals("PlatformName")) {
+                            context.nextToken();
+                            instanceInformation.setPlatformName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 851782853:
+                        if (fieldName.equals("PlatformVersion")) {
+                            context.nextToken();
+                            instanceInformation.setPlatformVersion(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class ListCommandInvocationsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CommandInvocations", targetDepth)) {
-                    context.nextToken();
-                    listCommandInvocationsResult
-                            .setCommandInvocations(new ListUnmarshaller<CommandInvocation>(
-                                    CommandInvocationJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    listCommandInvocationsResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1137823304:
+                        if (fieldName.equals("CommandInvocations")) {
+                            context.nextToken();
+                            listCommandInvocationsResult
+                                    .setCommandInvocations(new ListUnmarshaller<CommandInvocation>(
+                                            CommandInvocationJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1084080474:
+                        if (fieldName.equals("NextToken")) {
+                            context.nextToken();
+                            listCommandInvocationsResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
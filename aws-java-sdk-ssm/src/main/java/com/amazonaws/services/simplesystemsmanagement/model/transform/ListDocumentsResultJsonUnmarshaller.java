@@ -53,17 +53,26 @@ public class ListDocumentsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DocumentIdentifiers", targetDepth)) {
-                    context.nextToken();
-                    listDocumentsResult
-                            .setDocumentIdentifiers(new ListUnmarshaller<DocumentIdentifier>(
-                                    DocumentIdentifierJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    listDocumentsResult.setNextToken(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 848124079:
+                        if (fieldName.equals("DocumentIdentifiers")) {
+                            context.nextToken();
+                            listDocumentsResult
+                                    .setDocumentIdentifiers(new ListUnmarshaller<DocumentIdentifier>(
+                                            DocumentIdentifierJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1084080474:
+                        if (fieldName.equals("NextToken")) {
+                            context.nextToken();
+                            listDocumentsResult.setNextToken(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
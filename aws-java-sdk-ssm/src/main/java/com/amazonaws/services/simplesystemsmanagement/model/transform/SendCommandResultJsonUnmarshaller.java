@@ -53,10 +53,17 @@ public class SendCommandResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Command", targetDepth)) {
-                    context.nextToken();
-                    sendCommandResult.setCommand(CommandJsonUnmarshaller
-                            .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1679919317:
+                        if (fieldName.equals("Command")) {
+                            context.nextToken();
+                            sendCommandResult.setCommand(CommandJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,47 +53,67 @@ public class CachediSCSIVolumeJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("VolumeARN", targetDepth)) {
-                    context.nextToken();
-                    cachediSCSIVolume.setVolumeARN(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeId", targetDepth)) {
-                    context.nextToken();
-                    cachediSCSIVolume.setVolumeId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeType", targetDepth)) {
-                    context.nextToken();
-                    cachediSCSIVolume.setVolumeType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeStatus", targetDepth)) {
-                    context.nextToken();
-                    cachediSCSIVolume.setVolumeStatus(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeSizeInBytes", targetDepth)) {
-                    context.nextToken();
-                    cachediSCSIVolume.setVolumeSizeInBytes(context
-                            .getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeProgress", targetDepth)) {
-                    context.nextToken();
-                    cachediSCSIVolume.setVolumeProgress(context
-                            .getUnmarshaller(Double.class).unmarshall(context));
-                }
-                if (context.testExpression("SourceSnapshotId", targetDepth)) {
-                    context.nextToken();
-                    cachediSCSIVolume.setSourceSnapshotId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("VolumeiSCSIAttributes", targetDepth)) {
-                    context.nextToken();
-                    cachediSCSIVolume
-                            .setVolumeiSCSIAttributes(VolumeiSCSIAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -124344125:
+                        if (fieldName.equals("VolumeARN")) {
+                            context.nextToken();
+                            cachediSCSIVolume.setVolumeARN(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1805126155:
+                        if (fieldName.equals("VolumeId")) {
+                            context.nextToken();
+                            cachediSCSIVolume.setVolumeId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 440904084:
+                        if (fieldName.equals("VolumeType")) {
+                            context.nextToken();
+                            cachediSCSIVolume.setVolumeType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1526613044:
+                        if (fieldName.equals("VolumeStatus")) {
+                            context.nextToken();
+                            cachediSCSIVolume.setVolumeStatus(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1827830933:
+                        if (fieldName.equals("VolumeSizeInBytes")) {
+                            context.nextToken();
+                            cachediSCSIVolume.setVolumeSizeInBytes(context
+                                    .getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    case -516087929:
+                        if (fieldName.equals("VolumeProgress")) {
+                            context.nextToken();
+                            cachediSCSIVolume.setVolumeProgress(context
+                                    .getUnmarshaller(Double.class).unmarshall(context));
+                        }
+                        break;
+                    case 1971314842:
+                        if (fieldName.equals("SourceSnapshotId")) {
+                            context.nextToken();
+                            cachediSCSIVolume.setSourceSnapshotId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1594043188:
+                        if (fieldName.equals("VolumeiSCSIAttributes")) {
+                            context.nextToken();
+                            cachediSCSIVolume
+                                    .setVolumeiSCSIAttributes(VolumeiSCSIAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,27 +53,38 @@ public class ChapInfoJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TargetARN", targetDepth)) {
-                    context.nextToken();
-                    chapInfo.setTargetARN(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("SecretToAuthenticateInitiator",
-                        targetDepth)) {
-                    context.nextToken();
-                    chapInfo.setSecretToAuthenticateInitiator(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InitiatorName", targetDepth)) {
-                    context.nextToken();
-                    chapInfo.setInitiatorName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("SecretToAuthenticateTarget",
-                        targetDepth)) {
-                    context.nextToken();
-                    chapInfo.setSecretToAuthenticateTarget(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1188361964:
+                        if (fieldName.equals("TargetARN")) {
+                            context.nextToken();
+                            chapInfo.setTargetARN(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 135313967:
+                        if (fieldName.equals("SecretToAuthenticateInitiator")) {
+                            context.nextToken();
+                            chapInfo.setSecretToAuthenticateInitiator(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -44945094:
+                        if (fieldName.equals("InitiatorName")) {
+                            context.nextToken();
+                            chapInfo.setInitiatorName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 106527121:
+                        if (fieldName.equals("SecretToAuthenticateTarget")) {
+                            context.nextToken();
+                            chapInfo.setSecretToAuthenticateTarget(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class CreateCachediSCSIVolumeResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("VolumeARN", targetDepth)) {
-                    context.nextToken();
-                    createCachediSCSIVolumeResult.setVolumeARN(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TargetARN", targetDepth)) {
-                    context.nextToken();
-                    createCachediSCSIVolumeResult.setTargetARN(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -124344125:
+                        if (fieldName.equals("VolumeARN")) {
+                            context.nextToken();
+                            createCachediSCSIVolumeResult.setVolumeARN(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1188361964:
+                        if (fieldName.equals("TargetARN")) {
+                            context.nextToken();
+                            createCachediSCSIVolumeResult.setTargetARN(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,26 +54,36 @@ public class CreateSnapshotFromVolumeRecoveryPointResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SnapshotId", targetDepth)) {
-                    context.nextToken();
-                    createSnapshotFromVolumeRecoveryPointResult
-                            .setSnapshotId(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("VolumeARN", targetDepth)) {
-                    context.nextToken();
-                    createSnapshotFromVolumeRecoveryPointResult
-                            .setVolumeARN(context.getUnmarshaller(String.class)
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("VolumeRecoveryPointTime",
-                        targetDepth)) {
-                    context.nextToken();
-                    createSnapshotFromVolumeRecoveryPointResult
-                            .setVolumeRecoveryPointTime(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 879647263:
+                        if (fieldName.equals("SnapshotId")) {
+                            context.nextToken();
+                            createSnapshotFromVolumeRecoveryPointResult
+                                    .setSnapshotId(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -124344125:
+                        if (fieldName.equals("VolumeARN")) {
+                            context.nextToken();
+                            createSnapshotFromVolumeRecoveryPointResult
+                                    .setVolumeARN(context.getUnmarshaller(String.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1544276914:
+                        if (fieldName.equals("VolumeRecoveryPointTime")) {
+                            context.nextToken();
+                            createSnapshotFromVolumeRecoveryPointResult
+                                    .setVolumeRecoveryPointTime(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
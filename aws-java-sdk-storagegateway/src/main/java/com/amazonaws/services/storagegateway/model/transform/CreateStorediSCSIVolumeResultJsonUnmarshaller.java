@@ -53,20 +53,31 @@ public class CreateStorediSCSIVolumeResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("VolumeARN", targetDepth)) {
-                    context.nextToken();
-                    createStorediSCSIVolumeResult.setVolumeARN(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeSizeInBytes", targetDepth)) {
-                    context.nextToken();
-                    createStorediSCSIVolumeResult.setVolumeSizeInBytes(context
-                            .getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("TargetARN", targetDepth)) {
-                    context.nextToken();
-                    createStorediSCSIVolumeResult.setTargetARN(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -124344125:
+                        if (fieldName.equals("VolumeARN")) {
+                            context.nextToken();
+                            createStorediSCSIVolumeResult.setVolumeARN(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1827830933:
+                        if (fieldName.equals("VolumeSizeInBytes")) {
+                            context.nextToken();
+                            createStorediSCSIVolumeResult.setVolumeSizeInBytes(context
+                                    .getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 1188361964:
+                        if (fieldName.equals("TargetARN")) {
+                            context.nextToken();
+                            createStorediSCSIVolumeResult.setTargetARN(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
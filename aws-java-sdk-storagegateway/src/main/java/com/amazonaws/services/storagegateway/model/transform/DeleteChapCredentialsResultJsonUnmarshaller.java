@@ -53,15 +53,24 @@ public class DeleteChapCredentialsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TargetARN", targetDepth)) {
-                    context.nextToken();
-                    deleteChapCredentialsResult.setTargetARN(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InitiatorName", targetDepth)) {
-                    context.nextToken();
-                    deleteChapCredentialsResult.setInitiatorName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1188361964:
+                        if (fieldName.equals("TargetARN")) {
+                            context.nextToken();
+                            deleteChapCredentialsResult.setTargetARN(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -44945094:
+                        if (fieldName.equals("InitiatorName")) {
+                            context.nextToken();
+                            deleteChapCredentialsResult.setInitiatorName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,26 +53,35 @@ public class DescribeBandwidthRateLimitResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("GatewayARN", targetDepth)) {
-                    context.nextToken();
-                    describeBandwidthRateLimitResult.setGatewayARN(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression(
-                        "AverageUploadRateLimitInBitsPerSec", targetDepth)) {
-                    context.nextToken();
-                    describeBandwidthRateLimitResult
-                            .setAverageUploadRateLimitInBitsPerSec(context
-                                    .getUnmarshaller(Long.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression(
-                        "AverageDownloadRateLimitInBitsPerSec", targetDepth)) {
-                    context.nextToken();
-                    describeBandwidthRateLimitResult
-                            .setAverageDownloadRateLimitInBitsPerSec(context
-                                    .getUnmarshaller(Long.class).unmarshall(
-                                            context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1345733223:
+                        if (fieldName.equals("GatewayARN")) {
+                            context.nextToken();
+                            describeBandwidthRateLimitResult.setGatewayARN(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1427430460:
+                        if (fieldName.equals("AverageUploadRateLimitInBitsPerSec")) {
+                            context.nextToken();
+                            describeBandwidthRateLimitResult
+                                    .setAverageUploadRateLimitInBitsPerSec(context
+                                            .getUnmarshaller(Long.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case 962848597:
+                        if (fieldName.equals("AverageDownloadRateLimitInBitsPerSec")) {
+                            context.nextToken();
+                            describeBandwidthRateLimitResult
+                                    .setAverageDownloadRateLimitInBitsPerSec(context
+                                            .getUnmarshaller(Long.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
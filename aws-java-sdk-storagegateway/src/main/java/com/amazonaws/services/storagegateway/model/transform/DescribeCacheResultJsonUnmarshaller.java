@@ -53,43 +53,61 @@ public class DescribeCacheResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("GatewayARN", targetDepth)) {
-                    context.nextToken();
-                    describeCacheResult.setGatewayARN(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("DiskIds", targetDepth)) {
-                    context.nextToken();
-                    describeCacheResult
-                            .setDiskIds(new ListUnmarshaller<String>(context
-                                    .getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context
-                        .testExpression("CacheAllocatedInBytes", targetDepth)) {
-                    context.nextToken();
-                    describeCacheResult.setCacheAllocatedInBytes(context
-                            .getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("CacheUsedPercentage", targetDepth)) {
-                    context.nextToken();
-                    describeCacheResult.setCacheUsedPercentage(context
-                            .getUnmarshaller(Double.class).unmarshall(context));
-                }
-                if (context.testExpression("CacheDirtyPercentage", targetDepth)) {
-                    context.nextToken();
-                    describeCacheResult.setCacheDirtyPercentage(context
-                            .getUnmarshaller(Double.class).unmarshall(context));
-                }
-                if (context.testExpression("CacheHitPercentage", targetDepth)) {
-                    context.nextToken();
-                    describeCacheResult.setCacheHitPercentage(context
-                            .getUnmarshaller(Double.class).unmarshall(context));
-                }
-                if (context.testExpression("CacheMissPercentage", targetDepth)) {
-                    context.nextToken();
-                    describeCacheResult.setCacheMissPercentage(context
-                            .getUnmarshaller(Double.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1345733223:
+                        if (fieldName.equals("GatewayARN")) {
+                            context.nextToken();
+                            describeCacheResult.setGatewayARN(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -958732357:
+                        if (fieldName.equals("DiskIds")) {
+                            context.nextToken();
+                            describeCacheResult
+                                    .setDiskIds(new ListUnmarshaller<String>(context
+                                            .getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 676320001:
+                        if (fieldName.equals("CacheAllocatedInBytes")) {
+                            context.nextToken();
+                            describeCacheResult.setCacheAllocatedInBytes(context
+                                    .getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 757983801:
+                        if (fieldName.equals("CacheUsedPercentage")) {
+                            context.nextToken();
+                            describeCacheResult.setCacheUsedPercentage(context
+                                    .getUnmarshaller(Double.class).unmarshall(context));
+                        }
+                        break;
+                    case 703814730:
+                        if (fieldName.equals("CacheDirtyPercentage")) {
+                            context.nextToken();
+                            describeCacheResult.setCacheDirtyPercentage(context
+                                    .getUnmarshaller(Double.class).unmarshall(context));
+                        }
+                        break;
+                    case -808499637:
+                        if (fieldName.equals("CacheHitPercentage")) {
+                            context.nextToken();
+                            describeCacheResult.setCacheHitPercentage(context
+                                    .getUnmarshaller(Double.class).unmarshall(context));
+                        }
+                        break;
+                    case -230760264:
+                        if (fieldName.equals("CacheMissPercentage")) {
+                            context.nextToken();
+                            describeCacheResult.setCacheMissPercentage(context
+                                    .getUnmarshaller(Double.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,12 +53,19 @@ public class DescribeCachediSCSIVolumesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CachediSCSIVolumes", targetDepth)) {
-                    context.nextToken();
-                    describeCachediSCSIVolumesResult
-                            .setCachediSCSIVolumes(new ListUnmarshaller<CachediSCSIVolume>(
-                                    CachediSCSIVolumeJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1638786228:
+                        if (fieldName.equals("CachediSCSIVolumes")) {
+                            context.nextToken();
+                            describeCachediSCSIVolumesResult
+                                    .setCachediSCSIVolumes(new ListUnmarshaller<CachediSCSIVolume>(
+                                            CachediSCSIVolumeJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,12 +53,19 @@ public class DescribeChapCredentialsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ChapCredentials", targetDepth)) {
-                    context.nextToken();
-                    describeChapCredentialsResult
-                            .setChapCredentials(new ListUnmarshaller<ChapInfo>(
-                                    ChapInfoJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2022134504:
+                        if (fieldName.equals("ChapCredentials")) {
+                            context.nextToken();
+                            describeChapCredentialsResult
+                                    .setChapCredentials(new ListUnmarshaller<ChapInfo>(
+                                            ChapInfoJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,57 +53,78 @@ public class DescribeGatewayInformationResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("GatewayARN", targetDepth)) {
-                    context.nextToken();
-                    describeGatewayInformationResult.setGatewayARN(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("GatewayId", targetDepth)) {
-                    context.nextToken();
-                    describeGatewayInformationResult.setGatewayId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("GatewayName", targetDepth)) {
-                    context.nextToken();
-                    describeGatewayInformationResult.setGatewayName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("GatewayTimezone", targetDepth)) {
-                    context.nextToken();
-                    describeGatewayInformationResult.setGatewayTimezone(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("GatewayState", targetDepth)) {
-                    context.nextToken();
-                    describeGatewayInformationResult.setGatewayState(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("GatewayNetworkInterfaces",
-                        targetDepth)) {
-                    context.nextToken();
-                    describeGatewayInformationResult
-                            .setGatewayNetworkInterfaces(new ListUnmarshaller<NetworkInterface>(
-                                    NetworkInterfaceJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("GatewayType", targetDepth)) {
-                    context.nextToken();
-                    describeGatewayInformationResult.setGatewayType(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("NextUpdateAvailabilityDate",
-                        targetDepth)) {
-                    context.nextToken();
-                    describeGatewayInformationResult
-                            .setNextUpdateAvailabilityDate(context
-                                    .getUnmarshaller(String.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("LastSoftwareUpdate", targetDepth)) {
-                    context.nextToken();
-                    describeGatewayInformationResult
-                            .setLastSoftwareUpdate(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1345733223:
+                        if (fieldName.equals("GatewayARN")) {
+                            context.nextToken();
+                            describeGatewayInformationResult.setGatewayARN(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 649326175:
+                        if (fieldName.equals("GatewayId")) {
+                            context.nextToken();
+                            describeGatewayInformationResult.setGatewayId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1232345807:
+                        if (fieldName.equals("GatewayName")) {
+                            context.nextToken();
+                            describeGatewayInformationResult.setGatewayName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1169859:
+                        if (fieldName.equals("GatewayTimezone")) {
+                            context.nextToken();
+                            describeGatewayInformationResult.setGatewayTimezone(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -446812979:
+                        if (fieldName.equals("GatewayState")) {
+                            context.nextToken();
+                            describeGatewayInformationResult.setGatewayState(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -473432732:
+                        if (fieldName.equals("GatewayNetworkInterfaces")) {
+                            context.nextToken();
+                            describeGatewayInformationResult
+                                    .setGatewayNetworkInterfaces(new ListUnmarshaller<NetworkInterface>(
+                                            NetworkInterfaceJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 1232547710:
+                        if (fieldName.equals("GatewayType")) {
+                            context.nextToken();
+                            describeGatewayInformationResult.setGatewayType(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1536616837:
+                        if (fieldName.equals("NextUpdateAvailabilityDate")) {
+                            context.nextToken();
+                            describeGatewayInformationResult
+                                    .setNextUpdateAvailabilityDate(context
+                                            .getUnmarshaller(String.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -1705883226:
+                        if (fieldName.equals("LastSoftwareUpdate")) {
+                            context.nextToken();
+                            describeGatewayInformationResult
+                                    .setLastSoftwareUpdate(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
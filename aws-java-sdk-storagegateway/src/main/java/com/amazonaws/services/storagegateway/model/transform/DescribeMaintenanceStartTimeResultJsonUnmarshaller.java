@@ -54,35 +54,50 @@ public class DescribeMaintenanceStartTimeResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("GatewayARN", targetDepth)) {
-                    context.nextToken();
-                    describeMaintenanceStartTimeResult.setGatewayARN(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("HourOfDay", targetDepth)) {
-                    context.nextToken();
-                    describeMaintenanceStartTimeResult
-                            .setHourOfDay(context
-                                    .getUnmarshaller(Integer.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("MinuteOfHour", targetDepth)) {
-                    context.nextToken();
-                    describeMaintenanceStartTimeResult
-                            .setMinuteOfHour(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("DayOfWeek", targetDepth)) {
-                    context.nextToken();
-                    describeMaintenanceStartTimeResult
-                            .setDayOfWeek(context
-                                    .getUnmarshaller(Integer.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("Timezone", targetDepth)) {
-                    context.nextToken();
-                    describeMaintenanceStartTimeResult.setTimezone(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1345733223:
+                        if (fieldName.equals("GatewayARN")) {
+                            context.nextToken();
+                            describeMaintenanceStartTimeResult.setGatewayARN(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1305746783:
+                        if (fieldName.equals("HourOfDay")) {
+                            context.nextToken();
+                            describeMaintenanceStartTimeResult
+                                    .setHourOfDay(context
+                                            .getUnmarshaller(Integer.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -1703035985:
+                        if (fieldName.equals("MinuteOfHour")) {
+                            context.nextToken();
+                            describeMaintenanceStartTimeResult
+                                    .setMinuteOfHour(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case 1273415943:
+                        if (fieldName.equals("DayOfWeek")) {
+                            context.nextToken();
+                            describeMaintenanceStartTimeResult
+                                    .setDayOfWeek(context
+                                            .getUnmarshaller(Integer.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -2011583463:
+                        if (fieldName.equals("Timezone")) {
+                            context.nextToken();
+                            describeMaintenanceStartTimeResult.setTimezone(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,32 +53,47 @@ public class DescribeSnapshotScheduleResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("VolumeARN", targetDepth)) {
-                    context.nextToken();
-                    describeSnapshotScheduleResult.setVolumeARN(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StartAt", targetDepth)) {
-                    context.nextToken();
-                    describeSnapshotScheduleResult
-                            .setStartAt(context.getUnmarshaller(Integer.class)
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("RecurrenceInHours", targetDepth)) {
-                    context.nextToken();
-                    describeSnapshotScheduleResult
-                            .setRecurrenceInHours(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Description", targetDepth)) {
-                    context.nextToken();
-                    describeSnapshotScheduleResult.setDescription(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Timezone", targetDepth)) {
-                    context.nextToken();
-                    describeSnapshotScheduleResult.setTimezone(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -124344125:
+                        if (fieldName.equals("VolumeARN")) {
+                            context.nextToken();
+                            describeSnapshotScheduleResult.setVolumeARN(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -232532971:
+                        if (fieldName.equals("StartAt")) {
+                            context.nextToken();
+                            describeSnapshotScheduleResult
+                                    .setStartAt(context.getUnmarshaller(Integer.class)
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1346305914:
+                        if (fieldName.equals("RecurrenceInHours")) {
+                            context.nextToken();
+                            describeSnapshotScheduleResult
+                                    .setRecurrenceInHours(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -56677412:
+                        if (fieldName.equals("Description")) {
+                            context.nextToken();
+                            describeSnapshotScheduleResult.setDescription(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -2011583463:
+                        if (fieldName.equals("Timezone")) {
+                            context.nextToken();
+                            describeSnapshotScheduleResult.setTimezone(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
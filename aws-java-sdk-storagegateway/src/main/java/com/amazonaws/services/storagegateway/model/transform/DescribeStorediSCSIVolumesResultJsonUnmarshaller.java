@@ -53,12 +53,19 @@ public class DescribeStorediSCSIVolumesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StorediSCSIVolumes", targetDepth)) {
-                    context.nextToken();
-                    describeStorediSCSIVolumesResult
-                            .setStorediSCSIVolumes(new ListUnmarshaller<StorediSCSIVolume>(
-                                    StorediSCSIVolumeJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -109820851:
+                        if (fieldName.equals("StorediSCSIVolumes")) {
+                            context.nextToken();
+                            describeStorediSCSIVolumesResult
+                                    .setStorediSCSIVolumes(new ListUnmarshaller<StorediSCSIVolume>(
+                                            StorediSCSIVolumeJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class DescribeTapeArchivesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TapeArchives", targetDepth)) {
-                    context.nextToken();
-                    describeTapeArchivesResult
-                            .setTapeArchives(new ListUnmarshaller<TapeArchive>(
-                                    TapeArchiveJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    describeTapeArchivesResult.setMarker(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -308223149:
+                        if (fieldName.equals("TapeArchives")) {
+                            context.nextToken();
+                            describeTapeArchivesResult
+                                    .setTapeArchives(new ListUnmarshaller<TapeArchive>(
+                                            TapeArchiveJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1997438886:
+                        if (fieldName.equals("Marker")) {
+                            context.nextToken();
+                            describeTapeArchivesResult.setMarker(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
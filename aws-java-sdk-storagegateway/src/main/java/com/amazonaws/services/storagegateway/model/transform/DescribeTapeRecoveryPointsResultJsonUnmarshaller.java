@@ -53,23 +53,33 @@ public class DescribeTapeRecoveryPointsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("GatewayARN", targetDepth)) {
-                    context.nextToken();
-                    describeTapeRecoveryPointsResult.setGatewayARN(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TapeRecoveryPointInfos",
-                        targetDepth)) {
-                    context.nextToken();
-                    describeTapeRecoveryPointsResult
-                            .setTapeRecoveryPointInfos(new ListUnmarshaller<TapeRecoveryPointInfo>(
-                                    TapeRecoveryPointInfoJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    describeTapeRecoveryPointsResult.setMarker(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1345733223:
+                        if (fieldName.equals("GatewayARN")) {
+                            context.nextToken();
+                            describeTapeRecoveryPointsResult.setGatewayARN(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 609936428:
+                        if (fieldName.equals("TapeRecoveryPointInfos")) {
+                            context.nextToken();
+                            describeTapeRecoveryPointsResult
+                                    .setTapeRecoveryPointInfos(new ListUnmarshaller<TapeRecoveryPointInfo>(
+                                            TapeRecoveryPointInfoJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1997438886:
+                        if (fieldName.equals("Marker")) {
+                            context.nextToken();
+                            describeTapeRecoveryPointsResult.setMarker(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,33 +53,44 @@ public class DescribeUploadBufferResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("GatewayARN", targetDepth)) {
-                    context.nextToken();
-                    describeUploadBufferResult.setGatewayARN(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DiskIds", targetDepth)) {
-                    context.nextToken();
-                    describeUploadBufferResult
-                            .setDiskIds(new ListUnmarshaller<String>(context
-                                    .getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("UploadBufferUsedInBytes",
-                        targetDepth)) {
-                    context.nextToken();
-                    describeUploadBufferResult
-                            .setUploadBufferUsedInBytes(context
-                                    .getUnmarshaller(Long.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("UploadBufferAllocatedInBytes",
-                        targetDepth)) {
-                    context.nextToken();
-                    describeUploadBufferResult
-                            .setUploadBufferAllocatedInBytes(context
-                                    .getUnmarshaller(Long.class).unmarshall(
-                                            context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1345733223:
+                        if (fieldName.equals("GatewayARN")) {
+                            context.nextToken();
+                            describeUploadBufferResult.setGatewayARN(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -958732357:
+                        if (fieldName.equals("DiskIds")) {
+                            context.nextToken();
+                            describeUploadBufferResult
+                                    .setDiskIds(new ListUnmarshaller<String>(context
+                                            .getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1046427464:
+                        if (fieldName.equals("UploadBufferUsedInBytes")) {
+                            context.nextToken();
+                            describeUploadBufferResult
+                                    .setUploadBufferUsedInBytes(context
+                                            .getUnmarshaller(Long.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -1607265440:
+                        if (fieldName.equals("UploadBufferAllocatedInBytes")) {
+                            context.nextToken();
+                            describeUploadBufferResult
+                                    .setUploadBufferAllocatedInBytes(context
+                                            .getUnmarshaller(Long.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
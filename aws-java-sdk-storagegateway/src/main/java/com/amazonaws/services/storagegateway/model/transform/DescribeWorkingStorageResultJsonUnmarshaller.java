@@ -53,33 +53,44 @@ public class DescribeWorkingStorageResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("GatewayARN", targetDepth)) {
-                    context.nextToken();
-                    describeWorkingStorageResult.setGatewayARN(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DiskIds", targetDepth)) {
-                    context.nextToken();
-                    describeWorkingStorageResult
-                            .setDiskIds(new ListUnmarshaller<String>(context
-                                    .getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("WorkingStorageUsedInBytes",
-                        targetDepth)) {
-                    context.nextToken();
-                    describeWorkingStorageResult
-                            .setWorkingStorageUsedInBytes(context
-                                    .getUnmarshaller(Long.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("WorkingStorageAllocatedInBytes",
-                        targetDepth)) {
-                    context.nextToken();
-                    describeWorkingStorageResult
-                            .setWorkingStorageAllocatedInBytes(context
-                                    .getUnmarshaller(Long.class).unmarshall(
-                                            context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1345733223:
+                        if (fieldName.equals("GatewayARN")) {
+                            context.nextToken();
+                            describeWorkingStorageResult.setGatewayARN(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -958732357:
+                        if (fieldName.equals("DiskIds")) {
+                            context.nextToken();
+                            describeWorkingStorageResult
+                                    .setDiskIds(new ListUnmarshaller<String>(context
+                                            .getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1424984257:
+                        if (fieldName.equals("WorkingStorageUsedInBytes")) {
+                            context.nextToken();
+                            describeWorkingStorageResult
+                                    .setWorkingStorageUsedInBytes(context
+                                            .getUnmarshaller(Long.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -1595001399:
+                        if (fieldName.equals("WorkingStorageAllocatedInBytes")) {
+                            context.nextToken();
+                            describeWorkingStorageResult
+                                    .setWorkingStorageAllocatedInBytes(context
+                                            .getUnmarshaller(Long.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,27 +53,40 @@ public class DeviceiSCSIAttributesJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TargetARN", targetDepth)) {
-                    context.nextToken();
-                    deviceiSCSIAttributes.setTargetARN(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("NetworkInterfaceId", targetDepth)) {
-                    context.nextToken();
-                    deviceiSCSIAttributes.setNetworkInterfaceId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("NetworkInterfacePort", targetDepth)) {
-                    context.nextToken();
-                    deviceiSCSIAttributes
-                            .setNetworkInterfacePort(context.getUnmarshaller(
-                                    Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("ChapEnabled", targetDepth)) {
-                    context.nextToken();
-                    deviceiSCSIAttributes
-                            .setChapEnabled(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1188361964:
+                        if (fieldName.equals("TargetARN")) {
+                            context.nextToken();
+                            deviceiSCSIAttributes.setTargetARN(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -385184442:
+                        if (fieldName.equals("NetworkInterfaceId")) {
+                            context.nextToken();
+                            deviceiSCSIAttributes.setNetworkInterfaceId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -794838548:
+                        if (fieldName.equals("NetworkInterfacePort")) {
+                            context.nextToken();
+                            deviceiSCSIAttributes
+                                    .setNetworkInterfacePort(context.getUnmarshaller(
+                                            Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -647327443:
+                        if (fieldName.equals("ChapEnabled")) {
+                            context.nextToken();
+                            deviceiSCSIAttributes
+                                    .setChapEnabled(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
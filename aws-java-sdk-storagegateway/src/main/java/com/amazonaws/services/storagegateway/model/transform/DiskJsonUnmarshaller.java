@@ -52,41 +52,59 @@ public class DiskJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DiskId", targetDepth)) {
-                    context.nextToken();
-                    disk.setDiskId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("DiskPath", targetDepth)) {
-                    context.nextToken();
-                    disk.setDiskPath(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("DiskNode", targetDepth)) {
-                    context.nextToken();
-                    disk.setDiskNode(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("DiskStatus", targetDepth)) {
-                    context.nextToken();
-                    disk.setDiskStatus(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("DiskSizeInBytes", targetDepth)) {
-                    context.nextToken();
-                    disk.setDiskSizeInBytes(context.getUnmarshaller(Long.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("DiskAllocationType", targetDepth)) {
-                    context.nextToken();
-                    disk.setDiskAllocationType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("DiskAllocationResource",
-                        targetDepth)) {
-                    context.nextToken();
-                    disk.setDiskAllocationResource(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2047283128:
+                        if (fieldName.equals("DiskId")) {
+                            context.nextToken();
+                            disk.setDiskId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 344273794:
+                        if (fieldName.equals("DiskPath")) {
+                            context.nextToken();
+                            disk.setDiskPath(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 344227167:
+                        if (fieldName.equals("DiskNode")) {
+                            context.nextToken();
+                            disk.setDiskNode(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 237517839:
+                        if (fieldName.equals("DiskStatus")) {
+                            context.nextToken();
+                            disk.setDiskStatus(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -800344824:
+                        if (fieldName.equals("DiskSizeInBytes")) {
+                            context.nextToken();
+                            disk.setDiskSizeInBytes(context.getUnmarshaller(Long.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 616948567:
+                        if (fieldName.equals("DiskAllocationType")) {
+                            context.nextToken();
+                            disk.setDiskAllocationType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -771112533:
+                        if (fieldName.equals("DiskAllocationResource")) {
+                            context.nextToken();
+                            disk.setDiskAllocationResource(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
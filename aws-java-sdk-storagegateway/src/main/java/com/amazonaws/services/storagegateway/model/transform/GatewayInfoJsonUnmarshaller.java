@@ -53,31 +53,45 @@ public class GatewayInfoJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("GatewayId", targetDepth)) {
-                    context.nextToken();
-                    gatewayInfo.setGatewayId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("GatewayARN", targetDepth)) {
-                    context.nextToken();
-                    gatewayInfo.setGatewayARN(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("GatewayType", targetDepth)) {
-                    context.nextToken();
-                    gatewayInfo.setGatewayType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("GatewayOperationalState",
-                        targetDepth)) {
-                    context.nextToken();
-                    gatewayInfo.setGatewayOperationalState(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("GatewayName", targetDepth)) {
-                    context.nextToken();
-                    gatewayInfo.setGatewayName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 649326175:
+                        if (fieldName.equals("GatewayId")) {
+                            context.nextToken();
+                            gatewayInfo.setGatewayId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1345733223:
+                        if (fieldName.equals("GatewayARN")) {
+                            context.nextToken();
+                            gatewayInfo.setGatewayARN(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1232547710:
+                        if (fieldName.equals("GatewayType")) {
+                            context.nextToken();
+                            gatewayInfo.setGatewayType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1644338723:
+                        if (fieldName.equals("GatewayOperationalState")) {
+                            context.nextToken();
+                            gatewayInfo.setGatewayOperationalState(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1232345807:
+                        if (fieldName.equals("GatewayName")) {
+                            context.nextToken();
+                            gatewayInfo.setGatewayName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class ListGatewaysResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Gateways", targetDepth)) {
-                    context.nextToken();
-                    listGatewaysResult
-                            .setGateways(new ListUnmarshaller<GatewayInfo>(
-                                    GatewayInfoJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    listGatewaysResult.setMarker(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1503074609:
+                        if (fieldName.equals("Gateways")) {
+                            context.nextToken();
+                            listGatewaysResult
+                                    .setGateways(new ListUnmarshaller<GatewayInfo>(
+                                            GatewayInfoJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1997438886:
+                        if (fieldName.equals("Marker")) {
+                            context.nextToken();
+                            listGatewaysResult.setMarker(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,16 +53,25 @@ public class ListLocalDisksResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("GatewayARN", targetDepth)) {
-                    context.nextToken();
-                    listLocalDisksResult.setGatewayARN(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Disks", targetDepth)) {
-                    context.nextToken();
-                    listLocalDisksResult.setDisks(new ListUnmarshaller<Disk>(
-                            DiskJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1345733223:
+                        if (fieldName.equals("GatewayARN")) {
+                            context.nextToken();
+                            listLocalDisksResult.setGatewayARN(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 66041430:
+                        if (fieldName.equals("Disks")) {
+                            context.nextToken();
+                            listLocalDisksResult.setDisks(new ListUnmarshaller<Disk>(
+                                    DiskJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
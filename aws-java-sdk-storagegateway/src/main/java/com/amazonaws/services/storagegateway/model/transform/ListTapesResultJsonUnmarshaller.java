@@ -53,17 +53,26 @@ public class ListTapesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TapeInfos", targetDepth)) {
-                    context.nextToken();
-                    listTapesResult
-                            .setTapeInfos(new ListUnmarshaller<TapeInfo>(
-                                    TapeInfoJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    listTapesResult.setMarker(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -669904541:
+                        if (fieldName.equals("TapeInfos")) {
+                            context.nextToken();
+                            listTapesResult
+                                    .setTapeInfos(new ListUnmarshaller<TapeInfo>(
+                                            TapeInfoJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1997438886:
+                        if (fieldName.equals("Marker")) {
+                            context.nextToken();
+                            listTapesResult.setMarker(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
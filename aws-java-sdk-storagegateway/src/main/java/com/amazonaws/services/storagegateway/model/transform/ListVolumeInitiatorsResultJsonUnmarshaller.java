@@ -53,12 +53,19 @@ public class ListVolumeInitiatorsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Initiators", targetDepth)) {
-                    context.nextToken();
-                    listVolumeInitiatorsResult
-                            .setInitiators(new ListUnmarshaller<String>(context
-                                    .getUnmarshaller(String.class))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1430167484:
+                        if (fieldName.equals("Initiators")) {
+                            context.nextToken();
+                            listVolumeInitiatorsResult
+                                    .setInitiators(new ListUnmarshaller<String>(context
+                                            .getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,18 +53,26 @@ public class ListVolumeRecoveryPointsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("GatewayARN", targetDepth)) {
-                    context.nextToken();
-                    listVolumeRecoveryPointsResult.setGatewayARN(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeRecoveryPointInfos",
-                        targetDepth)) {
-                    context.nextToken();
-                    listVolumeRecoveryPointsResult
-                            .setVolumeRecoveryPointInfos(new ListUnmarshaller<VolumeRecoveryPointInfo>(
-                                    VolumeRecoveryPointInfoJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1345733223:
+                        if (fieldName.equals("GatewayARN")) {
+                            context.nextToken();
+                            listVolumeRecoveryPointsResult.setGatewayARN(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -637960156:
+                        if (fieldName.equals("VolumeRecoveryPointInfos")) {
+                            context.nextToken();
+                            listVolumeRecoveryPointsResult
+                                    .setVolumeRecoveryPointInfos(new ListUnmarshaller<VolumeRecoveryPointInfo>(
+                                            VolumeRecoveryPointInfoJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,20 +53,31 @@ public class NetworkInterfaceJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Ipv4Address", targetDepth)) {
-                    context.nextToken();
-                    networkInterface.setIpv4Address(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("MacAddress", targetDepth)) {
-                    context.nextToken();
-                    networkInterface.setMacAddress(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Ipv6Address", targetDepth)) {
-                    context.nextToken();
-                    networkInterface.setIpv6Address(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -445582801:
+                        if (fieldName.equals("Ipv4Address")) {
+                            context.nextToken();
+                            networkInterface.setIpv4Address(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -219569211:
+                        if (fieldName.equals("MacAddress")) {
+                            context.nextToken();
+                            networkInterface.setMacAddress(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1254929427:
+                        if (fieldName.equals("Ipv6Address")) {
+                            context.nextToken();
+                            networkInterface.setIpv6Address(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,59 +53,82 @@ public class StorediSCSIVolumeJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("VolumeARN", targetDepth)) {
-                    context.nextToken();
-                    storediSCSIVolume.setVolumeARN(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeId", targetDepth)) {
-                    context.nextToken();
-                    storediSCSIVolume.setVolumeId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeType", targetDepth)) {
-                    context.nextToken();
-                    storediSCSIVolume.setVolumeType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeStatus", targetDepth)) {
-                    context.nextToken();
-                    storediSCSIVolume.setVolumeStatus(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeSizeInBytes", targetDepth)) {
-                    context.nextToken();
-                    storediSCSIVolume.setVolumeSizeInBytes(context
-                            .getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeProgress", targetDepth)) {
-                    context.nextToken();
-                    storediSCSIVolume.setVolumeProgress(context
-                            .getUnmarshaller(Double.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeDiskId", targetDepth)) {
-                    context.nextToken();
-                    storediSCSIVolume.setVolumeDiskId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("SourceSnapshotId", targetDepth)) {
-                    context.nextToken();
-                    storediSCSIVolume.setSourceSnapshotId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("PreservedExistingData", targetDepth)) {
-                    context.nextToken();
-                    storediSCSIVolume
-                            .setPreservedExistingData(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("VolumeiSCSIAttributes", targetDepth)) {
-                    context.nextToken();
-                    storediSCSIVolume
-                            .setVolumeiSCSIAttributes(VolumeiSCSIAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -124344125:
+                        if (fieldName.equals("VolumeARN")) {
+                            context.nextToken();
+                            storediSCSIVolume.setVolumeARN(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1805126155:
+                        if (fieldName.equals("VolumeId")) {
+                            context.nextToken();
+                            storediSCSIVolume.setVolumeId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 440904084:
+                        if (fieldName.equals("VolumeType")) {
+                            context.nextToken();
+                            storediSCSIVolume.setVolumeType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1526613044:
+                        if (fieldName.equals("VolumeStatus")) {
+                            context.nextToken();
+                            storediSCSIVolume.setVolumeStatus(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1827830933:
+                        if (fieldName.equals("VolumeSizeInBytes")) {
+                            context.nextToken();
+                            storediSCSIVolume.setVolumeSizeInBytes(context
+                                    .getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    case -516087929:
+                        if (fieldName.equals("VolumeProgress")) {
+                            context.nextToken();
+                            storediSCSIVolume.setVolumeProgress(context
+                                    .getUnmarshaller(Double.class).unmarshall(context));
+                        }
+                        break;
+                    case -1965682830:
+                        if (fieldName.equals("VolumeDiskId")) {
+                            context.nextToken();
+                            storediSCSIVolume.setVolumeDiskId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1971314842:
+                        if (fieldName.equals("SourceSnapshotId")) {
+                            context.nextToken();
+                            storediSCSIVolume.setSourceSnapshotId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1319831699:
+                        if (fieldName.equals("PreservedExistingData")) {
+                            context.nextToken();
+                            storediSCSIVolume
+                                    .setPreservedExistingData(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case -1594043188:
+                        if (fieldName.equals("VolumeiSCSIAttributes")) {
+                            context.nextToken();
+                            storediSCSIVolume
+                                    .setVolumeiSCSIAttributes(VolumeiSCSIAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,35 +53,52 @@ public class TapeArchiveJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TapeARN", targetDepth)) {
-                    context.nextToken();
-                    tapeArchive.setTapeARN(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TapeBarcode", targetDepth)) {
-                    context.nextToken();
-                    tapeArchive.setTapeBarcode(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("TapeSizeInBytes", targetDepth)) {
-                    context.nextToken();
-                    tapeArchive.setTapeSizeInBytes(context.getUnmarshaller(
-                            Long.class).unmarshall(context));
-                }
-                if (context.testExpression("CompletionTime", targetDepth)) {
-                    context.nextToken();
-                    tapeArchive.setCompletionTime(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("RetrievedTo", targetDepth)) {
-                    context.nextToken();
-                    tapeArchive.setRetrievedTo(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("TapeStatus", targetDepth)) {
-                    context.nextToken();
-                    tapeArchive.setTapeStatus(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 124433851:
+                        if (fieldName.equals("TapeARN")) {
+                            context.nextToken();
+                            tapeArchive.setTapeARN(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1812182818:
+                        if (fieldName.equals("TapeBarcode")) {
+                            context.nextToken();
+                            tapeArchive.setTapeBarcode(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1700862051:
+                        if (fieldName.equals("TapeSizeInBytes")) {
+                            context.nextToken();
+                            tapeArchive.setTapeSizeInBytes(context.getUnmarshaller(
+                                    Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 144648425:
+                        if (fieldName.equals("CompletionTime")) {
+                            context.nextToken();
+                            tapeArchive.setCompletionTime(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case -386322397:
+                        if (fieldName.equals("RetrievedTo")) {
+                            context.nextToken();
+                            tapeArchive.setRetrievedTo(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 999484372:
+                        if (fieldName.equals("TapeStatus")) {
+                            context.nextToken();
+                            tapeArchive.setTapeStatus(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -52,35 +52,52 @@ public class TapeJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TapeARN", targetDepth)) {
-                    context.nextToken();
-                    tape.setTapeARN(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("TapeBarcode", targetDepth)) {
-                    context.nextToken();
-                    tape.setTapeBarcode(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("TapeSizeInBytes", targetDepth)) {
-                    context.nextToken();
-                    tape.setTapeSizeInBytes(context.getUnmarshaller(Long.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("TapeStatus", targetDepth)) {
-                    context.nextToken();
-                    tape.setTapeStatus(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("VTLDevice", targetDepth)) {
-                    context.nextToken();
-                    tape.setVTLDevice(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Progress", targetDepth)) {
-                    context.nextToken();
-                    tape.setProgress(context.getUnmarshaller(Double.class)
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 124433851:
+                        if (fieldName.equals("TapeARN")) {
+                            context.nextToken();
+                            tape.setTapeARN(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1812182818:
+                        if (fieldName.equals("TapeBarcode")) {
+                            context.nextToken();
+                            tape.setTapeBarcode(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1700862051:
+                        if (fieldName.equals("TapeSizeInBytes")) {
+                            context.nextToken();
+                            tape.setTapeSizeInBytes(context.getUnmarshaller(Long.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 999484372:
+                        if (fieldName.equals("TapeStatus")) {
+                            context.nextToken();
+                            tape.setTapeStatus(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 319399236:
+                        if (fieldName.equals("VTLDevice")) {
+                            context.nextToken();
+                            tape.setVTLDevice(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -936434099:
+                        if (fieldName.equals("Progress")) {
+                            context.nextToken();
+                            tape.setProgress(context.getUnmarshaller(Double.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,27 +53,39 @@ public class TapeRecoveryPointInfoJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TapeARN", targetDepth)) {
-                    context.nextToken();
-                    tapeRecoveryPointInfo.setTapeARN(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("TapeRecoveryPointTime", targetDepth)) {
-                    context.nextToken();
-                    tapeRecoveryPointInfo.setTapeRecoveryPointTime(context
-                            .getUnmarshaller(java.util.Date.class).unmarshall(
-                                    context));
-                }
-                if (context.testExpression("TapeSizeInBytes", targetDepth)) {
-                    context.nextToken();
-                    tapeRecoveryPointInfo.setTapeSizeInBytes(context
-                            .getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("TapeStatus", targetDepth)) {
-                    context.nextToken();
-                    tapeRecoveryPointInfo.setTapeStatus(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 124433851:
+                        if (fieldName.equals("TapeARN")) {
+                            context.nextToken();
+                            tapeRecoveryPointInfo.setTapeARN(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -2058211514:
+                        if (fieldName.equals("TapeRecoveryPointTime")) {
+                            context.nextToken();
+                            tapeRecoveryPointInfo.setTapeRecoveryPointTime(context
+                                    .getUnmarshaller(java.util.Date.class).unmarshall(
+                                            context));
+                        }
+                        break;
+                    case 1700862051:
+                        if (fieldName.equals("TapeSizeInBytes")) {
+                            context.nextToken();
+                            tapeRecoveryPointInfo.setTapeSizeInBytes(context
+                                    .getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 999484372:
+                        if (fieldName.equals("TapeStatus")) {
+                            context.nextToken();
+                            tapeRecoveryPointInfo.setTapeStatus(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
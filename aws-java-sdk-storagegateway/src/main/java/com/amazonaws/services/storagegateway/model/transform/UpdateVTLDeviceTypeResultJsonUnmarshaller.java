@@ -53,10 +53,17 @@ public class UpdateVTLDeviceTypeResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("VTLDeviceARN", targetDepth)) {
-                    context.nextToken();
-                    updateVTLDeviceTypeResult.setVTLDeviceARN(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1870144121:
+                        if (fieldName.equals("VTLDeviceARN")) {
+                            context.nextToken();
+                            updateVTLDeviceTypeResult.setVTLDeviceARN(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
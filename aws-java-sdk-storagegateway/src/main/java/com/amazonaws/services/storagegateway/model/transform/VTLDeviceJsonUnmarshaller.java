@@ -53,33 +53,46 @@ public class VTLDeviceJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("VTLDeviceARN", targetDepth)) {
-                    context.nextToken();
-                    vTLDevice.setVTLDeviceARN(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("VTLDeviceType", targetDepth)) {
-                    context.nextToken();
-                    vTLDevice.setVTLDeviceType(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("VTLDeviceVendor", targetDepth)) {
-                    context.nextToken();
-                    vTLDevice.setVTLDeviceVendor(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("VTLDeviceProductIdentifier",
-                        targetDepth)) {
-                    context.nextToken();
-                    vTLDevice.setVTLDeviceProductIdentifier(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("DeviceiSCSIAttributes", targetDepth)) {
-                    context.nextToken();
-                    vTLDevice
-                            .setDeviceiSCSIAttributes(DeviceiSCSIAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1870144121:
+                        if (fieldName.equals("VTLDeviceARN")) {
+                            context.nextToken();
+                            vTLDevice.setVTLDeviceARN(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2140497566:
+                        if (fieldName.equals("VTLDeviceType")) {
+                            context.nextToken();
+                            vTLDevice.setVTLDeviceType(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -232442964:
+                        if (fieldName.equals("VTLDeviceVendor")) {
+                            context.nextToken();
+                            vTLDevice.setVTLDeviceVendor(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -537558508:
+                        if (fieldName.equals("VTLDeviceProductIdentifier")) {
+                            context.nextToken();
+                            vTLDevice.setVTLDeviceProductIdentifier(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1561837072:
+                        if (fieldName.equals("DeviceiSCSIAttributes")) {
+                            context.nextToken();
+                            vTLDevice
+                                    .setDeviceiSCSIAttributes(DeviceiSCSIAttributesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,26 +53,38 @@ public class VolumeRecoveryPointInfoJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("VolumeARN", targetDepth)) {
-                    context.nextToken();
-                    volumeRecoveryPointInfo.setVolumeARN(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeSizeInBytes", targetDepth)) {
-                    context.nextToken();
-                    volumeRecoveryPointInfo.setVolumeSizeInBytes(context
-                            .getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeUsageInBytes", targetDepth)) {
-                    context.nextToken();
-                    volumeRecoveryPointInfo.setVolumeUsageInBytes(context
-                            .getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeRecoveryPointTime",
-                        targetDepth)) {
-                    context.nextToken();
-                    volumeRecoveryPointInfo.setVolumeRecoveryPointTime(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -124344125:
+                        if (fieldName.equals("VolumeARN")) {
+                            context.nextToken();
+                            volumeRecoveryPointInfo.setVolumeARN(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1827830933:
+                        if (fieldName.equals("VolumeSizeInBytes")) {
+                            context.nextToken();
+                            volumeRecoveryPointInfo.setVolumeSizeInBytes(context
+                                    .getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    case -71498305:
+                        if (fieldName.equals("VolumeUsageInBytes")) {
+                            context.nextToken();
+                            volumeRecoveryPointInfo.setVolumeUsageInBytes(context
+                                    .getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    case -1544276914:
+                        if (fieldName.equals("VolumeRecoveryPointTime")) {
+                            context.nextToken();
+                            volumeRecoveryPointInfo.setVolumeRecoveryPointTime(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
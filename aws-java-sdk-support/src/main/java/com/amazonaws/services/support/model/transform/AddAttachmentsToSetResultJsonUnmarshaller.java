@@ -53,15 +53,24 @@ public class AddAttachmentsToSetResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("attachmentSetId", targetDepth)) {
-                    context.nextToken();
-                    addAttachmentsToSetResult.setAttachmentSetId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("expiryTime", targetDepth)) {
-                    context.nextToken();
-                    addAttachmentsToSetResult.setExpiryTime(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -684512838:
+                        if (fieldName.equals("attachmentSetId")) {
+                            context.nextToken();
+                            addAttachmentsToSetResult.setAttachmentSetId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -816254304:
+                        if (fieldName.equals("expiryTime")) {
+                            context.nextToken();
+                            addAttachmentsToSetResult.setExpiryTime(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class AttachmentDetailsJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("attachmentId", targetDepth)) {
-                    context.nextToken();
-                    attachmentDetails.setAttachmentId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("fileName", targetDepth)) {
-                    context.nextToken();
-                    attachmentDetails.setFileName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1434081890:
+                        if (fieldName.equals("attachmentId")) {
+                            context.nextToken();
+                            attachmentDetails.setAttachmentId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -735721945:
+                        if (fieldName.equals("fileName")) {
+                            context.nextToken();
+                            attachmentDetails.setFileName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
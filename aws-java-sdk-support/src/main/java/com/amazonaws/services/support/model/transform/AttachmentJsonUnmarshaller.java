@@ -53,15 +53,24 @@ public class AttachmentJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("fileName", targetDepth)) {
-                    context.nextToken();
-                    attachment.setFileName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("data", targetDepth)) {
-                    context.nextToken();
-                    attachment.setData(context.getUnmarshaller(
-                            java.nio.ByteBuffer.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -735721945:
+                        if (fieldName.equals("fileName")) {
+                            context.nextToken();
+                            attachment.setFileName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 3076010:
+                        if (fieldName.equals("data")) {
+                            context.nextToken();
+                            attachment.setData(context.getUnmarshaller(
+                                    java.nio.ByteBuffer.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,68 +53,97 @@ public class CaseDetailsJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("caseId", targetDepth)) {
-                    context.nextToken();
-                    caseDetails.setCaseId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("displayId", targetDepth)) {
-                    context.nextToken();
-                    caseDetails.setDisplayId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("subject", targetDepth)) {
-                    context.nextToken();
-                    caseDetails.setSubject(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    caseDetails.setStatus(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("serviceCode", targetDepth)) {
-                    context.nextToken();
-                    caseDetails.setServiceCode(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("categoryCode", targetDepth)) {
-                    context.nextToken();
-                    caseDetails.setCategoryCode(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("severityCode", targetDepth)) {
-                    context.nextToken();
-                    caseDetails.setSeverityCode(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("submittedBy", targetDepth)) {
-                    context.nextToken();
-                    caseDetails.setSubmittedBy(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("timeCreated", targetDepth)) {
-                    context.nextToken();
-                    caseDetails.setTimeCreated(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("recentCommunications", targetDepth)) {
-                    context.nextToken();
-                    caseDetails
-                            .setRecentCommunications(RecentCaseCommunicationsJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ccEmailAddresses", targetDepth)) {
-                    context.nextToken();
-                    caseDetails
-                            .setCcEmailAddresses(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1367574421:
+                        if (fieldName.equals("caseId")) {
+                            context.nextToken();
+                            caseDetails.setCaseId(context.getUnmarshaller(String.class)
                                     .unmarshall(context));
-                }
-                if (context.testExpression("language", targetDepth)) {
-                    context.nextToken();
-                    caseDetails.setLanguage(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case 247593341:
+                        if (fieldName.equals("displayId")) {
+                            context.nextToken();
+                            caseDetails.setDisplayId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1867885268:
+                        if (fieldName.equals("subject")) {
+                            context.nextToken();
+                            caseDetails.setSubject(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -892481550:
+                        if (fieldName.equals("status")) {
+                            context.nextToken();
+                            caseDetails.setStatus(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1928886718:
+                        if (fieldName.equals("serviceCode")) {
+                            context.nextToken();
+                            caseDetails.setServiceCode(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 425734155:
+                        if (fieldName.equals("categoryCode")) {
+                            context.nextToken();
+                            caseDetails.setCategoryCode(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 223440522:
+                        if (fieldName.equals("severityCode")) {
+                            context.nextToken();
+                            caseDetails.setSeverityCode(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 72490674:
+                        if (fieldName.equals("submittedBy")) {
+                            context.nextToken();
+                            caseDetails.setSubmittedBy(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1732342619:
+                        if (fieldName.equals("timeCreated")) {
+                            context.nextToken();
+                            caseDetails.setTimeCreated(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 287867544:
+                        if (fieldName.equals("recentCommunications")) {
+                            context.nextToken();
+                            caseDetails
+                                    .setRecentCommunications(RecentCaseCommunicationsJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 545214438:
+                        if (fieldName.equals("ccEmailAddresses")) {
+                            context.nextToken();
+                            caseDetails
+                                    .setCcEmailAddresses(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1613589672:
+                        if (fieldName.equals("language")) {
+                            context.nextToken();
+                            caseDetails.setLanguage(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,32 +53,47 @@ public class CommunicationJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("caseId", targetDepth)) {
-                    context.nextToken();
-                    communication.setCaseId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("body", targetDepth)) {
-                    context.nextToken();
-                    communication.setBody(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("submittedBy", targetDepth)) {
-                    context.nextToken();
-                    communication.setSubmittedBy(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("timeCreated", targetDepth)) {
-                    context.nextToken();
-                    communication.setTimeCreated(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("attachmentSet", targetDepth)) {
-                    context.nextToken();
-                    communication
-                            .setAttachmentSet(new ListUnmarshaller<AttachmentDetails>(
-                                    AttachmentDetailsJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1367574421:
+                        if (fieldName.equals("caseId")) {
+                            context.nextToken();
+                            communication.setCaseId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 3029410:
+                        if (fieldName.equals("body")) {
+                            context.nextToken();
+                            communication.setBody(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 72490674:
+                        if (fieldName.equals("submittedBy")) {
+                            context.nextToken();
+                            communication.setSubmittedBy(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1732342619:
+                        if (fieldName.equals("timeCreated")) {
+                            context.nextToken();
+                            communication.setTimeCreated(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1506855873:
+                        if (fieldName.equals("attachmentSet")) {
+                            context.nextToken();
+                            communication
+                                    .setAttachmentSet(new ListUnmarshaller<AttachmentDetails>(
+                                            AttachmentDetailsJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,11 +53,18 @@ public class DescribeAttachmentResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("attachment", targetDepth)) {
-                    context.nextToken();
-                    describeAttachmentResult
-                            .setAttachment(AttachmentJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1963501277:
+                        if (fieldName.equals("attachment")) {
+                            context.nextToken();
+                            describeAttachmentResult
+                                    .setAttachment(AttachmentJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
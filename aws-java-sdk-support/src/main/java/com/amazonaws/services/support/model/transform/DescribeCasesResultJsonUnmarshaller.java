@@ -53,17 +53,26 @@ public class DescribeCasesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("cases", targetDepth)) {
-                    context.nextToken();
-                    describeCasesResult
-                            .setCases(new ListUnmarshaller<CaseDetails>(
-                                    CaseDetailsJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    describeCasesResult.setNextToken(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 94432067:
+                        if (fieldName.equals("cases")) {
+                            context.nextToken();
+                            describeCasesResult
+                                    .setCases(new ListUnmarshaller<CaseDetails>(
+                                            CaseDetailsJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1206918854:
+                        if (fieldName.equals("nextToken")) {
+                            context.nextToken();
+                            describeCasesResult.setNextToken(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,12 +53,19 @@ public class DescribeServicesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("services", targetDepth)) {
-                    context.nextToken();
-                    describeServicesResult
-                            .setServices(new ListUnmarshaller<Service>(
-                                    ServiceJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1379209310:
+                        if (fieldName.equals("services")) {
+                            context.nextToken();
+                            describeServicesResult
+                                    .setServices(new ListUnmarshaller<Service>(
+                                            ServiceJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,12 +53,19 @@ public class DescribeSeverityLevelsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("severityLevels", targetDepth)) {
-                    context.nextToken();
-                    describeSeverityLevelsResult
-                            .setSeverityLevels(new ListUnmarshaller<SeverityLevel>(
-                                    SeverityLevelJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 226943692:
+                        if (fieldName.equals("severityLevels")) {
+                            context.nextToken();
+                            describeSeverityLevelsResult
+                                    .setSeverityLevels(new ListUnmarshaller<SeverityLevel>(
+                                            SeverityLevelJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,12 +54,19 @@ public class DescribeTrustedAdvisorCheckRefreshStatusesResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("statuses", targetDepth)) {
-                    context.nextToken();
-                    describeTrustedAdvisorCheckRefreshStatusesResult
-                            .setStatuses(new ListUnmarshaller<TrustedAdvisorCheckRefreshStatus>(
-                                    TrustedAdvisorCheckRefreshStatusJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1318692896:
+                        if (fieldName.equals("statuses")) {
+                            context.nextToken();
+                            describeTrustedAdvisorCheckRefreshStatusesResult
+                                    .setStatuses(new ListUnmarshaller<TrustedAdvisorCheckRefreshStatus>(
+                                            TrustedAdvisorCheckRefreshStatusJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,12 +54,19 @@ public class DescribeTrustedAdvisorCheckSummariesResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("summaries", targetDepth)) {
-                    context.nextToken();
-                    describeTrustedAdvisorCheckSummariesResult
-                            .setSummaries(new ListUnmarshaller<TrustedAdvisorCheckSummary>(
-                                    TrustedAdvisorCheckSummaryJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1513825988:
+                        if (fieldName.equals("summaries")) {
+                            context.nextToken();
+                            describeTrustedAdvisorCheckSummariesResult
+                                    .setSummaries(new ListUnmarshaller<TrustedAdvisorCheckSummary>(
+                                            TrustedAdvisorCheckSummaryJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
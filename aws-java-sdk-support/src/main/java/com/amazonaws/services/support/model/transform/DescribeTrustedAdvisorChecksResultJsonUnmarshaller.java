@@ -54,12 +54,19 @@ public class DescribeTrustedAdvisorChecksResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("checks", targetDepth)) {
-                    context.nextToken();
-                    describeTrustedAdvisorChecksResult
-                            .setChecks(new ListUnmarshaller<TrustedAdvisorCheckDescription>(
-                                    TrustedAdvisorCheckDescriptionJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1361527701:
+                        if (fieldName.equals("checks")) {
+                            context.nextToken();
+                            describeTrustedAdvisorChecksResult
+                                    .setChecks(new ListUnmarshaller<TrustedAdvisorCheckDescription>(
+                                            TrustedAdvisorCheckDescriptionJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class RecentCaseCommunicationsJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("communications", targetDepth)) {
-                    context.nextToken();
-                    recentCaseCommunications
-                            .setCommunications(new ListUnmarshaller<Communication>(
-                                    CommunicationJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    recentCaseCommunications.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -2029048995:
+                        if (fieldName.equals("communications")) {
+                            context.nextToken();
+                            recentCaseCommunications
+                                    .setCommunications(new ListUnmarshaller<Communication>(
+                                            CommunicationJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case 1206918854:
+                        if (fieldName.equals("nextToken")) {
+                            context.nextToken();
+                            recentCaseCommunications.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class ResolveCaseResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("initialCaseStatus", targetDepth)) {
-                    context.nextToken();
-                    resolveCaseResult.setInitialCaseStatus(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("finalCaseStatus", targetDepth)) {
-                    context.nextToken();
-                    resolveCaseResult.setFinalCaseStatus(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -21626458:
+                        if (fieldName.equals("initialCaseStatus")) {
+                            context.nextToken();
+                            resolveCaseResult.setInitialCaseStatus(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -489564840:
+                        if (fieldName.equals("finalCaseStatus")) {
+                            context.nextToken();
+                            resolveCaseResult.setFinalCaseStatus(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -54,11 +54,18 @@ public class TrustedAdvisorCategorySpecificSummaryJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("costOptimizing", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCategorySpecificSummary
-                            .setCostOptimizing(TrustedAdvisorCostOptimizingSummaryJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1964317703:
+                        if (fieldName.equals("costOptimizing")) {
+                            context.nextToken();
+                            trustedAdvisorCategorySpecificSummary
+                                    .setCostOptimizing(TrustedAdvisorCostOptimizingSummaryJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,32 +53,47 @@ public class TrustedAdvisorCheckDescriptionJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCheckDescription.setId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCheckDescription.setName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCheckDescription.setDescription(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("category", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCheckDescription.setCategory(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("metadata", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCheckDescription
-                            .setMetadata(new ListUnmarshaller<String>(context
-                                    .getUnmarshaller(String.class))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 3355:
+                        if (fieldName.equals("id")) {
+                            context.nextToken();
+                            trustedAdvisorCheckDescription.setId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 3373707:
+                        if (fieldName.equals("name")) {
+                            context.nextToken();
+                            trustedAdvisorCheckDescription.setName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1724546052:
+                        if (fieldName.equals("description")) {
+                            context.nextToken();
+                            trustedAdvisorCheckDescription.setDescription(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 50511102:
+                        if (fieldName.equals("category")) {
+                            context.nextToken();
+                            trustedAdvisorCheckDescription.setCategory(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -450004177:
+                        if (fieldName.equals("metadata")) {
+                            context.nextToken();
+                            trustedAdvisorCheckDescription
+                                    .setMetadata(new ListUnmarshaller<String>(context
+                                            .getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,23 +53,33 @@ public class TrustedAdvisorCheckRefreshStatusJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("checkId", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCheckRefreshStatus.setCheckId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCheckRefreshStatus.setStatus(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("millisUntilNextRefreshable",
-                        targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCheckRefreshStatus
-                            .setMillisUntilNextRefreshable(context
-                                    .getUnmarshaller(Long.class).unmarshall(
-                                            context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 742313027:
+                        if (fieldName.equals("checkId")) {
+                            context.nextToken();
+                            trustedAdvisorCheckRefreshStatus.setCheckId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -892481550:
+                        if (fieldName.equals("status")) {
+                            context.nextToken();
+                            trustedAdvisorCheckRefreshStatus.setStatus(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -440215062:
+                        if (fieldName.equals("millisUntilNextRefreshable")) {
+                            context.nextToken();
+                            trustedAdvisorCheckRefreshStatus
+                                    .setMillisUntilNextRefreshable(context
+                                            .getUnmarshaller(Long.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,40 +53,56 @@ public class TrustedAdvisorCheckResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("checkId", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCheckResult.setCheckId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("timestamp", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCheckResult.setTimestamp(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCheckResult.setStatus(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("resourcesSummary", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCheckResult
-                            .setResourcesSummary(TrustedAdvisorResourcesSummaryJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("categorySpecificSummary",
-                        targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCheckResult
-                            .setCategorySpecificSummary(TrustedAdvisorCategorySpecificSummaryJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("flaggedResources", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCheckResult
-                            .setFlaggedResources(new ListUnmarshaller<TrustedAdvisorResourceDetail>(
-                                    TrustedAdvisorResourceDetailJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 742313027:
+                        if (fieldName.equals("checkId")) {
+                            context.nextToken();
+                            trustedAdvisorCheckResult.setCheckId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 55126294:
+                        if (fieldName.equals("timestamp")) {
+                            context.nextToken();
+                            trustedAdvisorCheckResult.setTimestamp(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -892481550:
+                        if (fieldName.equals("status")) {
+                            context.nextToken();
+                            trustedAdvisorCheckResult.setStatus(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 806108609:
+                        if (fieldName.equals("resourcesSummary")) {
+                            context.nextToken();
+                            trustedAdvisorCheckResult
+                                    .setResourcesSummary(TrustedAdvisorResourcesSummaryJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1532126922:
+                        if (fieldName.equals("categorySpecificSummary")) {
+                            context.nextToken();
+                            trustedAdvisorCheckResult
+                                    .setCategorySpecificSummary(TrustedAdvisorCategorySpecificSummaryJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1726784789:
+                        if (fieldName.equals("flaggedResources")) {
+                            context.nextToken();
+                            trustedAdvisorCheckResult
+                                    .setFlaggedResources(new ListUnmarshaller<TrustedAdvisorResourceDetail>(
+                                            TrustedAdvisorResourceDetailJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
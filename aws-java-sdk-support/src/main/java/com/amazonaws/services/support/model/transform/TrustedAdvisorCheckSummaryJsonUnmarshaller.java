@@ -53,39 +53,55 @@ public class TrustedAdvisorCheckSummaryJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("checkId", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCheckSummary.setCheckId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("timestamp", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCheckSummary.setTimestamp(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCheckSummary.setStatus(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("hasFlaggedResources", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCheckSummary
-                            .setHasFlaggedResources(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("resourcesSummary", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCheckSummary
-                            .setResourcesSummary(TrustedAdvisorResourcesSummaryJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("categorySpecificSummary",
-                        targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCheckSummary
-                            .setCategorySpecificSummary(TrustedAdvisorCategorySpecificSummaryJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 742313027:
+                        if (fieldName.equals("checkId")) {
+                            context.nextToken();
+                            trustedAdvisorCheckSummary.setCheckId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 55126294:
+                        if (fieldName.equals("timestamp")) {
+                            context.nextToken();
+                            trustedAdvisorCheckSummary.setTimestamp(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -892481550:
+                        if (fieldName.equals("status")) {
+                            context.nextToken();
+                            trustedAdvisorCheckSummary.setStatus(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1415266907:
+                        if (fieldName.equals("hasFlaggedResources")) {
+                            context.nextToken();
+                            trustedAdvisorCheckSummary
+                                    .setHasFlaggedResources(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 806108609:
+                        if (fieldName.equals("resourcesSummary")) {
+                            context.nextToken();
+                            trustedAdvisorCheckSummary
+                                    .setResourcesSummary(TrustedAdvisorResourcesSummaryJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1532126922:
+                        if (fieldName.equals("categorySpecificSummary")) {
+                            context.nextToken();
+                            trustedAdvisorCheckSummary
+                                    .setCategorySpecificSummary(TrustedAdvisorCategorySpecificSummaryJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
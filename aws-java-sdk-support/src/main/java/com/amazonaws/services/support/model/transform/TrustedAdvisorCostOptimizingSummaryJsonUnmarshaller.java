@@ -54,21 +54,28 @@ public class TrustedAdvisorCostOptimizingSummaryJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("estimatedMonthlySavings",
-                        targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCostOptimizingSummary
-                            .setEstimatedMonthlySavings(context
-                                    .getUnmarshaller(Double.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("estimatedPercentMonthlySavings",
-                        targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCostOptimizingSummary
-                            .setEstimatedPercentMonthlySavings(context
-                                    .getUnmarshaller(Double.class).unmarshall(
-                                            context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -203722936:
+                        if (fieldName.equals("estimatedMonthlySavings")) {
+                            context.nextToken();
+                            trustedAdvisorCostOptimizingSummary
+                                    .setEstimatedMonthlySavings(context
+                                            .getUnmarshaller(Double.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -1847878475:
+                        if (fieldName.equals("estimatedPercentMonthlySavings")) {
+                            context.nextToken();
+                            trustedAdvisorCostOptimizingSummary
+                                    .setEstimatedPercentMonthlySavings(context
+                                            .getUnmarshaller(Double.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,33 +53,48 @@ public class TrustedAdvisorResourceDetailJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorResourceDetail.setStatus(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("region", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorResourceDetail.setRegion(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("resourceId", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorResourceDetail.setResourceId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("isSuppressed", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorResourceDetail
-                            .setIsSuppressed(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("metadata", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorResourceDetail
-                            .setMetadata(new ListUnmarshaller<String>(context
-                                    .getUnmarshaller(String.class))
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -892481550:
+                        if (fieldName.equals("status")) {
+                            context.nextToken();
+                            trustedAdvisorResourceDetail.setStatus(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -934795532:
+                        if (fieldName.equals("region")) {
+                            context.nextToken();
+                            trustedAdvisorResourceDetail.setRegion(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1345650231:
+                        if (fieldName.equals("resourceId")) {
+                            context.nextToken();
+                            trustedAdvisorResourceDetail.setResourceId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1631246046:
+                        if (fieldName.equals("isSuppressed")) {
+                            context.nextToken();
+                            trustedAdvisorResourceDetail
+                                    .setIsSuppressed(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case -450004177:
+                        if (fieldName.equals("metadata")) {
+                            context.nextToken();
+                            trustedAdvisorResourceDetail
+                                    .setMetadata(new ListUnmarshaller<String>(context
+                                            .getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,27 +53,40 @@ public class TrustedAdvisorResourcesSummaryJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("resourcesProcessed", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorResourcesSummary
-                            .setResourcesProcessed(context.getUnmarshaller(
-                                    Long.class).unmarshall(context));
-                }
-                if (context.testExpression("resourcesFlagged", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorResourcesSummary.setResourcesFlagged(context
-                            .getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("resourcesIgnored", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorResourcesSummary.setResourcesIgnored(context
-                            .getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("resourcesSuppressed", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorResourcesSummary
-                            .setResourcesSuppressed(context.getUnmarshaller(
-                                    Long.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1032337751:
+                        if (fieldName.equals("resourcesProcessed")) {
+                            context.nextToken();
+                            trustedAdvisorResourcesSummary
+                                    .setResourcesProcessed(context.getUnmarshaller(
+                                            Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 1884544629:
+                        if (fieldName.equals("resourcesFlagged")) {
+                            context.nextToken();
+                            trustedAdvisorResourcesSummary.setResourcesFlagged(context
+                                    .getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 121197293:
+                        if (fieldName.equals("resourcesIgnored")) {
+                            context.nextToken();
+                            trustedAdvisorResourcesSummary.setResourcesIgnored(context
+                                    .getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 1395051033:
+                        if (fieldName.equals("resourcesSuppressed")) {
+                            context.nextToken();
+                            trustedAdvisorResourcesSummary
+                                    .setResourcesSuppressed(context.getUnmarshaller(
+                                            Long.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,20 +53,31 @@ public class ActivatedRuleJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Priority", targetDepth)) {
-                    context.nextToken();
-                    activatedRule.setPriority(context.getUnmarshaller(
-                            Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("RuleId", targetDepth)) {
-                    context.nextToken();
-                    activatedRule.setRuleId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Action", targetDepth)) {
-                    context.nextToken();
-                    activatedRule.setAction(WafActionJsonUnmarshaller
-                            .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1100816956:
+                        if (fieldName.equals("Priority")) {
+                            context.nextToken();
+                            activatedRule.setPriority(context.getUnmarshaller(
+                                    Integer.class).unmarshall(context));
+                        }
+                        break;
+                    case -1836008105:
+                        if (fieldName.equals("RuleId")) {
+                            context.nextToken();
+                            activatedRule.setRuleId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1955883606:
+                        if (fieldName.equals("Action")) {
+                            context.nextToken();
+                            activatedRule.setAction(WafActionJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,22 +53,33 @@ public class ByteMatchSetJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ByteMatchSetId", targetDepth)) {
-                    context.nextToken();
-                    byteMatchSet.setByteMatchSetId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    byteMatchSet.setName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("ByteMatchTuples", targetDepth)) {
-                    context.nextToken();
-                    byteMatchSet
-                            .setByteMatchTuples(new ListUnmarshaller<ByteMatchTuple>(
-                                    ByteMatchTupleJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 388308384:
+                        if (fieldName.equals("ByteMatchSetId")) {
+                            context.nextToken();
+                            byteMatchSet.setByteMatchSetId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            byteMatchSet.setName(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -804021880:
+                        if (fieldName.equals("ByteMatchTuples")) {
+                            context.nextToken();
+                            byteMatchSet
+                                    .setByteMatchTuples(new ListUnmarshaller<ByteMatchTuple>(
+                                            ByteMatchTupleJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
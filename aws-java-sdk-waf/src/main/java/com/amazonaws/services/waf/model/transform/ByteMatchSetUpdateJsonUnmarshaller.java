@@ -53,16 +53,25 @@ public class ByteMatchSetUpdateJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Action", targetDepth)) {
-                    context.nextToken();
-                    byteMatchSetUpdate.setAction(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ByteMatchTuple", targetDepth)) {
-                    context.nextToken();
-                    byteMatchSetUpdate
-                            .setByteMatchTuple(ByteMatchTupleJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1955883606:
+                        if (fieldName.equals("Action")) {
+                            context.nextToken();
+                            byteMatchSetUpdate.setAction(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 389705803:
+                        if (fieldName.equals("ByteMatchTuple")) {
+                            context.nextToken();
+                            byteMatchSetUpdate
+                                    .setByteMatchTuple(ByteMatchTupleJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,25 +53,38 @@ public class ByteMatchTupleJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FieldToMatch", targetDepth)) {
-                    context.nextToken();
-                    byteMatchTuple.setFieldToMatch(FieldToMatchJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("TargetString", targetDepth)) {
-                    context.nextToken();
-                    byteMatchTuple.setTargetString(context.getUnmarshaller(
-                            java.nio.ByteBuffer.class).unmarshall(context));
-                }
-                if (context.testExpression("TextTransformation", targetDepth)) {
-                    context.nextToken();
-                    byteMatchTuple.setTextTransformation(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PositionalConstraint", targetDepth)) {
-                    context.nextToken();
-                    byteMatchTuple.setPositionalConstraint(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -879833648:
+                        if (fieldName.equals("FieldToMatch")) {
+                            context.nextToken();
+                            byteMatchTuple.setFieldToMatch(FieldToMatchJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -376250078:
+                        if (fieldName.equals("TargetString")) {
+                            context.nextToken();
+                            byteMatchTuple.setTargetString(context.getUnmarshaller(
+                                    java.nio.ByteBuffer.class).unmarshall(context));
+                        }
+                        break;
+                    case 660262326:
+                        if (fieldName.equals("TextTransformation")) {
+                            context.nextToken();
+                            byteMatchTuple.setTextTransformation(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1787143119:
+                        if (fieldName.equals("PositionalConstraint")) {
+                            context.nextToken();
+                            byteMatchTuple.setPositionalConstraint(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
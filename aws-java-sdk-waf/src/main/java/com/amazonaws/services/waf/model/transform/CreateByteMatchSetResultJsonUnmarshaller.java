@@ -53,16 +53,25 @@ public class CreateByteMatchSetResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ByteMatchSet", targetDepth)) {
-                    context.nextToken();
-                    createByteMatchSetResult
-                            .setByteMatchSet(ByteMatchSetJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ChangeToken", targetDepth)) {
-                    context.nextToken();
-                    createByteMatchSetResult.setChangeToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1581717083:
+                        if (fieldName.equals("ByteMatchSet")) {
+                            context.nextToken();
+                            createByteMatchSetResult
+                                    .setByteMatchSet(ByteMatchSetJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 3091465:
+                        if (fieldName.equals("ChangeToken")) {
+                            context.nextToken();
+                            createByteMatchSetResult.setChangeToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
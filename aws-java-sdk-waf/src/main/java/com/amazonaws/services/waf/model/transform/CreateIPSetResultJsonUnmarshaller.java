@@ -53,15 +53,24 @@ public class CreateIPSetResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IPSet", targetDepth)) {
-                    context.nextToken();
-                    createIPSetResult.setIPSet(IPSetJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ChangeToken", targetDepth)) {
-                    context.nextToken();
-                    createIPSetResult.setChangeToken(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 69883323:
+                        if (fieldName.equals("IPSet")) {
+                            context.nextToken();
+                            createIPSetResult.setIPSet(IPSetJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 3091465:
+                        if (fieldName.equals("ChangeToken")) {
+                            context.nextToken();
+                            createIPSetResult.setChangeToken(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class CreateRuleResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Rule", targetDepth)) {
-                    context.nextToken();
-                    createRuleResult.setRule(RuleJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
-                }
-                if (context.testExpression("ChangeToken", targetDepth)) {
-                    context.nextToken();
-                    createRuleResult.setChangeToken(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2558748:
+                        if (fieldName.equals("Rule")) {
+                            context.nextToken();
+                            createRuleResult.setRule(RuleJsonUnmarshaller.getInstance()
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 3091465:
+                        if (fieldName.equals("ChangeToken")) {
+                            context.nextToken();
+                            createRuleResult.setChangeToken(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
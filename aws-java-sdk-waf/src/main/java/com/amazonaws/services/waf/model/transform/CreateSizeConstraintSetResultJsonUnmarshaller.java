@@ -53,16 +53,25 @@ public class CreateSizeConstraintSetResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SizeConstraintSet", targetDepth)) {
-                    context.nextToken();
-                    createSizeConstraintSetResult
-                            .setSizeConstraintSet(SizeConstraintSetJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ChangeToken", targetDepth)) {
-                    context.nextToken();
-                    createSizeConstraintSetResult.setChangeToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1250025124:
+                        if (fieldName.equals("SizeConstraintSet")) {
+                            context.nextToken();
+                            createSizeConstraintSetResult
+                                    .setSizeConstraintSet(SizeConstraintSetJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 3091465:
+                        if (fieldName.equals("ChangeToken")) {
+                            context.nextToken();
+                            createSizeConstraintSetResult.setChangeToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,16 +53,25 @@ public class CreateSqlInjectionMatchSetResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SqlInjectionMatchSet", targetDepth)) {
-                    context.nextToken();
-                    createSqlInjectionMatchSetResult
-                            .setSqlInjectionMatchSet(SqlInjectionMatchSetJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ChangeToken", targetDepth)) {
-                    context.nextToken();
-                    createSqlInjectionMatchSetResult.setChangeToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1888126394:
+                        if (fieldName.equals("SqlInjectionMatchSet")) {
+                            context.nextToken();
+                            createSqlInjectionMatchSetResult
+                                    .setSqlInjectionMatchSet(SqlInjectionMatchSetJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 3091465:
+                        if (fieldName.equals("ChangeToken")) {
+                            context.nextToken();
+                            createSqlInjectionMatchSetResult.setChangeToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
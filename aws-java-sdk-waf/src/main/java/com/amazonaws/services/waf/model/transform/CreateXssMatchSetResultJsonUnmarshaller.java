@@ -53,16 +53,25 @@ public class CreateXssMatchSetResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("XssMatchSet", targetDepth)) {
-                    context.nextToken();
-                    createXssMatchSetResult
-                            .setXssMatchSet(XssMatchSetJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ChangeToken", targetDepth)) {
-                    context.nextToken();
-                    createXssMatchSetResult.setChangeToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1679434443:
+                        if (fieldName.equals("XssMatchSet")) {
+                            context.nextToken();
+                            createXssMatchSetResult
+                                    .setXssMatchSet(XssMatchSetJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 3091465:
+                        if (fieldName.equals("ChangeToken")) {
+                            context.nextToken();
+                            createXssMatchSetResult.setChangeToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,11 +53,18 @@ public class GetByteMatchSetResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ByteMatchSet", targetDepth)) {
-                    context.nextToken();
-                    getByteMatchSetResult
-                            .setByteMatchSet(ByteMatchSetJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1581717083:
+                        if (fieldName.equals("ByteMatchSet")) {
+                            context.nextToken();
+                            getByteMatchSetResult
+                                    .setByteMatchSet(ByteMatchSetJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
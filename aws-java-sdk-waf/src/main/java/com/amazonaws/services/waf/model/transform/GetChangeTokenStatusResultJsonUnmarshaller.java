@@ -53,10 +53,17 @@ public class GetChangeTokenStatusResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ChangeTokenStatus", targetDepth)) {
-                    context.nextToken();
-                    getChangeTokenStatusResult.setChangeTokenStatus(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -479658661:
+                        if (fieldName.equals("ChangeTokenStatus")) {
+                            context.nextToken();
+                            getChangeTokenStatusResult.setChangeTokenStatus(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
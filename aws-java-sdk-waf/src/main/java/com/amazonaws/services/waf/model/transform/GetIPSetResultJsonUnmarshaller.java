@@ -53,10 +53,17 @@ public class GetIPSetResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IPSet", targetDepth)) {
-                    context.nextToken();
-                    getIPSetResult.setIPSet(IPSetJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 69883323:
+                        if (fieldName.equals("IPSet")) {
+                            context.nextToken();
+                            getIPSetResult.setIPSet(IPSetJsonUnmarshaller.getInstance()
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
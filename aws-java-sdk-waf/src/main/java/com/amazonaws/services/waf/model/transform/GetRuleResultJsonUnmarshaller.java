@@ -53,10 +53,17 @@ public class GetRuleResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Rule", targetDepth)) {
-                    context.nextToken();
-                    getRuleResult.setRule(RuleJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2558748:
+                        if (fieldName.equals("Rule")) {
+                            context.nextToken();
+                            getRuleResult.setRule(RuleJsonUnmarshaller.getInstance()
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,23 +53,34 @@ public class GetSampledRequestsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SampledRequests", targetDepth)) {
-                    context.nextToken();
-                    getSampledRequestsResult
-                            .setSampledRequests(new ListUnmarshaller<SampledHTTPRequest>(
-                                    SampledHTTPRequestJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("PopulationSize", targetDepth)) {
-                    context.nextToken();
-                    getSampledRequestsResult.setPopulationSize(context
-                            .getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("TimeWindow", targetDepth)) {
-                    context.nextToken();
-                    getSampledRequestsResult
-                            .setTimeWindow(TimeWindowJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1421270594:
+                        if (fieldName.equals("SampledRequests")) {
+                            context.nextToken();
+                            getSampledRequestsResult
+                                    .setSampledRequests(new ListUnmarshaller<SampledHTTPRequest>(
+                                            SampledHTTPRequestJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 794600718:
+                        if (fieldName.equals("PopulationSize")) {
+                            context.nextToken();
+                            getSampledRequestsResult.setPopulationSize(context
+                                    .getUnmarshaller(Long.class).unmarshall(context));
+                        }
+                        break;
+                    case -1403983555:
+                        if (fieldName.equals("TimeWindow")) {
+                            context.nextToken();
+                            getSampledRequestsResult
+                                    .setTimeWindow(TimeWindowJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
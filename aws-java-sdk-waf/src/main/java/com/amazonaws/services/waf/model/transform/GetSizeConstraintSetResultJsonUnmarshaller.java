@@ -53,11 +53,18 @@ public class GetSizeConstraintSetResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SizeConstraintSet", targetDepth)) {
-                    context.nextToken();
-                    getSizeConstraintSetResult
-                            .setSizeConstraintSet(SizeConstraintSetJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1250025124:
+                        if (fieldName.equals("SizeConstraintSet")) {
+                            context.nextToken();
+                            getSizeConstraintSetResult
+                                    .setSizeConstraintSet(SizeConstraintSetJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
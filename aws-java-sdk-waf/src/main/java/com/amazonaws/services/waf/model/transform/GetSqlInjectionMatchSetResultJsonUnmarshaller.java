@@ -53,11 +53,18 @@ public class GetSqlInjectionMatchSetResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SqlInjectionMatchSet", targetDepth)) {
-                    context.nextToken();
-                    getSqlInjectionMatchSetResult
-                            .setSqlInjectionMatchSet(SqlInjectionMatchSetJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1888126394:
+                        if (fieldName.equals("SqlInjectionMatchSet")) {
+                            context.nextToken();
+                            getSqlInjectionMatchSetResult
+                                    .setSqlInjectionMatchSet(SqlInjectionMatchSetJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
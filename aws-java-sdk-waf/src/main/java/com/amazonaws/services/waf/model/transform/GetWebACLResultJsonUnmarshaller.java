@@ -53,10 +53,17 @@ public class GetWebACLResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("WebACL", targetDepth)) {
-                    context.nextToken();
-                    getWebACLResult.setWebACL(WebACLJsonUnmarshaller
-                            .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1707971402:
+                        if (fieldName.equals("WebACL")) {
+                            context.nextToken();
+                            getWebACLResult.setWebACL(WebACLJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,11 +53,18 @@ public class GetXssMatchSetResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("XssMatchSet", targetDepth)) {
-                    context.nextToken();
-                    getXssMatchSetResult
-                            .setXssMatchSet(XssMatchSetJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1679434443:
+                        if (fieldName.equals("XssMatchSet")) {
+                            context.nextToken();
+                            getXssMatchSetResult
+                                    .setXssMatchSet(XssMatchSetJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,36 +53,53 @@ public class HTTPRequestJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ClientIP", targetDepth)) {
-                    context.nextToken();
-                    hTTPRequest.setClientIP(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Country", targetDepth)) {
-                    context.nextToken();
-                    hTTPRequest.setCountry(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("URI", targetDepth)) {
-                    context.nextToken();
-                    hTTPRequest.setURI(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Method", targetDepth)) {
-                    context.nextToken();
-                    hTTPRequest.setMethod(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("HTTPVersion", targetDepth)) {
-                    context.nextToken();
-                    hTTPRequest.setHTTPVersion(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Headers", targetDepth)) {
-                    context.nextToken();
-                    hTTPRequest.setHeaders(new ListUnmarshaller<HTTPHeader>(
-                            HTTPHeaderJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 973052498:
+                        if (fieldName.equals("ClientIP")) {
+                            context.nextToken();
+                            hTTPRequest.setClientIP(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1672482954:
+                        if (fieldName.equals("Country")) {
+                            context.nextToken();
+                            hTTPRequest.setCountry(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 84300:
+                        if (fieldName.equals("URI")) {
+                            context.nextToken();
+                            hTTPRequest.setURI(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1993687807:
+                        if (fieldName.equals("Method")) {
+                            context.nextToken();
+                            hTTPRequest.setMethod(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1653896400:
+                        if (fieldName.equals("HTTPVersion")) {
+                            context.nextToken();
+                            hTTPRequest.setHTTPVersion(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1835006106:
+                        if (fieldName.equals("Headers")) {
+                            context.nextToken();
+                            hTTPRequest.setHeaders(new ListUnmarshaller<HTTPHeader>(
+                                    HTTPHeaderJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -52,21 +52,32 @@ public class IPSetJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IPSetId", targetDepth)) {
-                    context.nextToken();
-                    iPSet.setIPSetId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    iPSet.setName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("IPSetDescriptors", targetDepth)) {
-                    context.nextToken();
-                    iPSet.setIPSetDescriptors(new ListUnmarshaller<IPSetDescriptor>(
-                            IPSetDescriptorJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1561600970:
+                        if (fieldName.equals("IPSetId")) {
+                            context.nextToken();
+                            iPSet.setIPSetId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            iPSet.setName(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 887200297:
+                        if (fieldName.equals("IPSetDescriptors")) {
+                            context.nextToken();
+                            iPSet.setIPSetDescriptors(new ListUnmarshaller<IPSetDescriptor>(
+                                    IPSetDescriptorJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
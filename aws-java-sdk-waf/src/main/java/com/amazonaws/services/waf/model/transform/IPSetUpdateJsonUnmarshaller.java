@@ -53,16 +53,25 @@ public class IPSetUpdateJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Action", targetDepth)) {
-                    context.nextToken();
-                    iPSetUpdate.setAction(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("IPSetDescriptor", targetDepth)) {
-                    context.nextToken();
-                    iPSetUpdate
-                            .setIPSetDescriptor(IPSetDescriptorJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1955883606:
+                        if (fieldName.equals("Action")) {
+                            context.nextToken();
+                            iPSetUpdate.setAction(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1414092682:
+                        if (fieldName.equals("IPSetDescriptor")) {
+                            context.nextToken();
+                            iPSetUpdate
+                                    .setIPSetDescriptor(IPSetDescriptorJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class ListByteMatchSetsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("NextMarker", targetDepth)) {
-                    context.nextToken();
-                    listByteMatchSetsResult.setNextMarker(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ByteMatchSets", targetDepth)) {
-                    context.nextToken();
-                    listByteMatchSetsResult
-                            .setByteMatchSets(new ListUnmarshaller<ByteMatchSetSummary>(
-                                    ByteMatchSetSummaryJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 540124461:
+                        if (fieldName.equals("NextMarker")) {
+                            context.nextToken();
+                            listByteMatchSetsResult.setNextMarker(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1788589202:
+                        if (fieldName.equals("ByteMatchSets")) {
+                            context.nextToken();
+                            listByteMatchSetsResult
+                                    .setByteMatchSets(new ListUnmarshaller<ByteMatchSetSummary>(
+                                            ByteMatchSetSummaryJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class ListIPSetsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("NextMarker", targetDepth)) {
-                    context.nextToken();
-                    listIPSetsResult.setNextMarker(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("IPSets", targetDepth)) {
-                    context.nextToken();
-                    listIPSetsResult
-                            .setIPSets(new ListUnmarshaller<IPSetSummary>(
-                                    IPSetSummaryJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 540124461:
+                        if (fieldName.equals("NextMarker")) {
+                            context.nextToken();
+                            listIPSetsResult.setNextMarker(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -2128584168:
+                        if (fieldName.equals("IPSets")) {
+                            context.nextToken();
+                            listIPSetsResult
+                                    .setIPSets(new ListUnmarshaller<IPSetSummary>(
+                                            IPSetSummaryJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
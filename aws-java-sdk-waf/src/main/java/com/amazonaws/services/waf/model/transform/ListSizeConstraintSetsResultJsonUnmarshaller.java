@@ -53,17 +53,26 @@ public class ListSizeConstraintSetsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("NextMarker", targetDepth)) {
-                    context.nextToken();
-                    listSizeConstraintSetsResult.setNextMarker(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SizeConstraintSets", targetDepth)) {
-                    context.nextToken();
-                    listSizeConstraintSetsResult
-                            .setSizeConstraintSets(new ListUnmarshaller<SizeConstraintSetSummary>(
-                                    SizeConstraintSetSummaryJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 540124461:
+                        if (fieldName.equals("NextMarker")) {
+                            context.nextToken();
+                            listSizeConstraintSetsResult.setNextMarker(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 96073295:
+                        if (fieldName.equals("SizeConstraintSets")) {
+                            context.nextToken();
+                            listSizeConstraintSetsResult
+                                    .setSizeConstraintSets(new ListUnmarshaller<SizeConstraintSetSummary>(
+                                            SizeConstraintSetSummaryJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,18 +53,26 @@ public class ListSqlInjectionMatchSetsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("NextMarker", targetDepth)) {
-                    context.nextToken();
-                    listSqlInjectionMatchSetsResult.setNextMarker(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("SqlInjectionMatchSets", targetDepth)) {
-                    context.nextToken();
-                    listSqlInjectionMatchSetsResult
-                            .setSqlInjectionMatchSets(new ListUnmarshaller<SqlInjectionMatchSetSummary>(
-                                    SqlInjectionMatchSetSummaryJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 540124461:
+                        if (fieldName.equals("NextMarker")) {
+                            context.nextToken();
+                            listSqlInjectionMatchSetsResult.setNextMarker(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1597624045:
+                        if (fieldName.equals("SqlInjectionMatchSets")) {
+                            context.nextToken();
+                            listSqlInjectionMatchSetsResult
+                                    .setSqlInjectionMatchSets(new ListUnmarshaller<SqlInjectionMatchSetSummary>(
+                                            SqlInjectionMatchSetSummaryJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class ListWebACLsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("NextMarker", targetDepth)) {
-                    context.nextToken();
-                    listWebACLsResult.setNextMarker(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("WebACLs", targetDepth)) {
-                    context.nextToken();
-                    listWebACLsResult
-                            .setWebACLs(new ListUnmarshaller<WebACLSummary>(
-                                    WebACLSummaryJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 540124461:
+                        if (fieldName.equals("NextMarker")) {
+                            context.nextToken();
+                            listWebACLsResult.setNextMarker(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1407505795:
+                        if (fieldName.equals("WebACLs")) {
+                            context.nextToken();
+                            listWebACLsResult
+                                    .setWebACLs(new ListUnmarshaller<WebACLSummary>(
+                                            WebACLSummaryJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class ListXssMatchSetsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("NextMarker", targetDepth)) {
-                    context.nextToken();
-                    listXssMatchSetsResult.setNextMarker(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("XssMatchSets", targetDepth)) {
-                    context.nextToken();
-                    listXssMatchSetsResult
-                            .setXssMatchSets(new ListUnmarshaller<XssMatchSetSummary>(
-                                    XssMatchSetSummaryJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 540124461:
+                        if (fieldName.equals("NextMarker")) {
+                            context.nextToken();
+                            listXssMatchSetsResult.setNextMarker(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -522860066:
+                        if (fieldName.equals("XssMatchSets")) {
+                            context.nextToken();
+                            listXssMatchSetsResult
+                                    .setXssMatchSets(new ListUnmarshaller<XssMatchSetSummary>(
+                                            XssMatchSetSummaryJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
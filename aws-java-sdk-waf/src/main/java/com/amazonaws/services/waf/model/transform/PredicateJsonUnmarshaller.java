@@ -53,20 +53,31 @@ public class PredicateJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Negated", targetDepth)) {
-                    context.nextToken();
-                    predicate.setNegated(context.getUnmarshaller(Boolean.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Type", targetDepth)) {
-                    context.nextToken();
-                    predicate.setType(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("DataId", targetDepth)) {
-                    context.nextToken();
-                    predicate.setDataId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -799485566:
+                        if (fieldName.equals("Negated")) {
+                            context.nextToken();
+                            predicate.setNegated(context.getUnmarshaller(Boolean.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 2622298:
+                        if (fieldName.equals("Type")) {
+                            context.nextToken();
+                            predicate.setType(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 2039915141:
+                        if (fieldName.equals("DataId")) {
+                            context.nextToken();
+                            predicate.setDataId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -52,26 +52,39 @@ public class RuleJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RuleId", targetDepth)) {
-                    context.nextToken();
-                    rule.setRuleId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    rule.setName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("MetricName", targetDepth)) {
-                    context.nextToken();
-                    rule.setMetricName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Predicates", targetDepth)) {
-                    context.nextToken();
-                    rule.setPredicates(new ListUnmarshaller<Predicate>(
-                            PredicateJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1836008105:
+                        if (fieldName.equals("RuleId")) {
+                            context.nextToken();
+                            rule.setRuleId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            rule.setName(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1382705275:
+                        if (fieldName.equals("MetricName")) {
+                            context.nextToken();
+                            rule.setMetricName(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1140823620:
+                        if (fieldName.equals("Predicates")) {
+                            context.nextToken();
+                            rule.setPredicates(new ListUnmarshaller<Predicate>(
+                                    PredicateJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,25 +53,38 @@ public class SampledHTTPRequestJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Request", targetDepth)) {
-                    context.nextToken();
-                    sampledHTTPRequest.setRequest(HTTPRequestJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Weight", targetDepth)) {
-                    context.nextToken();
-                    sampledHTTPRequest.setWeight(context.getUnmarshaller(
-                            Long.class).unmarshall(context));
-                }
-                if (context.testExpression("Timestamp", targetDepth)) {
-                    context.nextToken();
-                    sampledHTTPRequest.setTimestamp(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Action", targetDepth)) {
-                    context.nextToken();
-                    sampledHTTPRequest.setAction(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1534621073:
+                        if (fieldName.equals("Request")) {
+                            context.nextToken();
+                            sampledHTTPRequest.setRequest(HTTPRequestJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case -1707725160:
+                        if (fieldName.equals("Weight")) {
+                            context.nextToken();
+                            sampledHTTPRequest.setWeight(context.getUnmarshaller(
+                                    Long.class).unmarshall(context));
+                        }
+                        break;
+                    case 2059094262:
+                        if (fieldName.equals("Timestamp")) {
+                            context.nextToken();
+                            sampledHTTPRequest.setTimestamp(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 1955883606:
+                        if (fieldName.equals("Action")) {
+                            context.nextToken();
+                            sampledHTTPRequest.setAction(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,25 +53,38 @@ public class SizeConstraintJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FieldToMatch", targetDepth)) {
-                    context.nextToken();
-                    sizeConstraint.setFieldToMatch(FieldToMatchJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("TextTransformation", targetDepth)) {
-                    context.nextToken();
-                    sizeConstraint.setTextTransformation(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ComparisonOperator", targetDepth)) {
-                    context.nextToken();
-                    sizeConstraint.setComparisonOperator(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Size", targetDepth)) {
-                    context.nextToken();
-                    sizeConstraint.setSize(context.getUnmarshaller(Long.class)
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -879833648:
+                        if (fieldName.equals("FieldToMatch")) {
+                            context.nextToken();
+                            sizeConstraint.setFieldToMatch(FieldToMatchJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 660262326:
+                        if (fieldName.equals("TextTransformation")) {
+                            context.nextToken();
+                            sizeConstraint.setTextTransformation(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 607067117:
+                        if (fieldName.equals("ComparisonOperator")) {
+                            context.nextToken();
+                            sizeConstraint.setComparisonOperator(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2577441:
+                        if (fieldName.equals("Size")) {
+                            context.nextToken();
+                            sizeConstraint.setSize(context.getUnmarshaller(Long.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
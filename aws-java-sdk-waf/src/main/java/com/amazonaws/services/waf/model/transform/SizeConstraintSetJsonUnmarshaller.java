@@ -53,22 +53,33 @@ public class SizeConstraintSetJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SizeConstraintSetId", targetDepth)) {
-                    context.nextToken();
-                    sizeConstraintSet.setSizeConstraintSetId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    sizeConstraintSet.setName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("SizeConstraints", targetDepth)) {
-                    context.nextToken();
-                    sizeConstraintSet
-                            .setSizeConstraints(new ListUnmarshaller<SizeConstraint>(
-                                    SizeConstraintJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1316696353:
+                        if (fieldName.equals("SizeConstraintSetId")) {
+                            context.nextToken();
+                            sizeConstraintSet.setSizeConstraintSetId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            sizeConstraintSet.setName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2101857109:
+                        if (fieldName.equals("SizeConstraints")) {
+                            context.nextToken();
+                            sizeConstraintSet
+                                    .setSizeConstraints(new ListUnmarshaller<SizeConstraint>(
+                                            SizeConstraintJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
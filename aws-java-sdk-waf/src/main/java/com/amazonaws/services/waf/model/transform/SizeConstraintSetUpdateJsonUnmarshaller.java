@@ -53,16 +53,25 @@ public class SizeConstraintSetUpdateJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Action", targetDepth)) {
-                    context.nextToken();
-                    sizeConstraintSetUpdate.setAction(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("SizeConstraint", targetDepth)) {
-                    context.nextToken();
-                    sizeConstraintSetUpdate
-                            .setSizeConstraint(SizeConstraintJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1955883606:
+                        if (fieldName.equals("Action")) {
+                            context.nextToken();
+                            sizeConstraintSetUpdate.setAction(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -486387490:
+                        if (fieldName.equals("SizeConstraint")) {
+                            context.nextToken();
+                            sizeConstraintSetUpdate
+                                    .setSizeConstraint(SizeConstraintJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
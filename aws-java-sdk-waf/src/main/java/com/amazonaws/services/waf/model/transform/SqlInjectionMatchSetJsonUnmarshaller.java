@@ -53,24 +53,33 @@ public class SqlInjectionMatchSetJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SqlInjectionMatchSetId",
-                        targetDepth)) {
-                    context.nextToken();
-                    sqlInjectionMatchSet.setSqlInjectionMatchSetId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    sqlInjectionMatchSet.setName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("SqlInjectionMatchTuples",
-                        targetDepth)) {
-                    context.nextToken();
-                    sqlInjectionMatchSet
-                            .setSqlInjectionMatchTuples(new ListUnmarshaller<SqlInjectionMatchTuple>(
-                                    SqlInjectionMatchTupleJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -2013263359:
+                        if (fieldName.equals("SqlInjectionMatchSetId")) {
+                            context.nextToken();
+                            sqlInjectionMatchSet.setSqlInjectionMatchSetId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            sqlInjectionMatchSet.setName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2056665415:
+                        if (fieldName.equals("SqlInjectionMatchTuples")) {
+                            context.nextToken();
+                            sqlInjectionMatchSet
+                                    .setSqlInjectionMatchTuples(new ListUnmarshaller<SqlInjectionMatchTuple>(
+                                            SqlInjectionMatchTupleJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
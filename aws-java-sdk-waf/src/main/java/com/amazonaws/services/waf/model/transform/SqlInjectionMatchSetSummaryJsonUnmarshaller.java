@@ -53,17 +53,25 @@ public class SqlInjectionMatchSetSummaryJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SqlInjectionMatchSetId",
-                        targetDepth)) {
-                    context.nextToken();
-                    sqlInjectionMatchSetSummary
-                            .setSqlInjectionMatchSetId(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    sqlInjectionMatchSetSummary.setName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -2013263359:
+                        if (fieldName.equals("SqlInjectionMatchSetId")) {
+                            context.nextToken();
+                            sqlInjectionMatchSetSummary
+                                    .setSqlInjectionMatchSetId(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            sqlInjectionMatchSetSummary.setName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,25 @@ public class SqlInjectionMatchSetUpdateJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Action", targetDepth)) {
-                    context.nextToken();
-                    sqlInjectionMatchSetUpdate.setAction(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SqlInjectionMatchTuple",
-                        targetDepth)) {
-                    context.nextToken();
-                    sqlInjectionMatchSetUpdate
-                            .setSqlInjectionMatchTuple(SqlInjectionMatchTupleJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1955883606:
+                        if (fieldName.equals("Action")) {
+                            context.nextToken();
+                            sqlInjectionMatchSetUpdate.setAction(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -2011865940:
+                        if (fieldName.equals("SqlInjectionMatchTuple")) {
+                            context.nextToken();
+                            sqlInjectionMatchSetUpdate
+                                    .setSqlInjectionMatchTuple(SqlInjectionMatchTupleJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class TimeWindowJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StartTime", targetDepth)) {
-                    context.nextToken();
-                    timeWindow.setStartTime(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("EndTime", targetDepth)) {
-                    context.nextToken();
-                    timeWindow.setEndTime(context.getUnmarshaller(
-                            java.util.Date.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -125326801:
+                        if (fieldName.equals("StartTime")) {
+                            context.nextToken();
+                            timeWindow.setStartTime(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    case 57410088:
+                        if (fieldName.equals("EndTime")) {
+                            context.nextToken();
+                            timeWindow.setEndTime(context.getUnmarshaller(
+                                    java.util.Date.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
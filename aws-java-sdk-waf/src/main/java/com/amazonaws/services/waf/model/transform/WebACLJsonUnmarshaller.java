@@ -52,31 +52,46 @@ public class WebACLJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("WebACLId", targetDepth)) {
-                    context.nextToken();
-                    webACL.setWebACLId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    webACL.setName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("MetricName", targetDepth)) {
-                    context.nextToken();
-                    webACL.setMetricName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("DefaultAction", targetDepth)) {
-                    context.nextToken();
-                    webACL.setDefaultAction(WafActionJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Rules", targetDepth)) {
-                    context.nextToken();
-                    webACL.setRules(new ListUnmarshaller<ActivatedRule>(
-                            ActivatedRuleJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -683007887:
+                        if (fieldName.equals("WebACLId")) {
+                            context.nextToken();
+                            webACL.setWebACLId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            webACL.setName(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1382705275:
+                        if (fieldName.equals("MetricName")) {
+                            context.nextToken();
+                            webACL.setMetricName(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1241775031:
+                        if (fieldName.equals("DefaultAction")) {
+                            context.nextToken();
+                            webACL.setDefaultAction(WafActionJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 79321303:
+                        if (fieldName.equals("Rules")) {
+                            context.nextToken();
+                            webACL.setRules(new ListUnmarshaller<ActivatedRule>(
+                                    ActivatedRuleJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
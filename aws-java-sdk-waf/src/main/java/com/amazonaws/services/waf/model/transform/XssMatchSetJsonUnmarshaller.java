@@ -53,22 +53,33 @@ public class XssMatchSetJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("XssMatchSetId", targetDepth)) {
-                    context.nextToken();
-                    xssMatchSet.setXssMatchSetId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    xssMatchSet.setName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("XssMatchTuples", targetDepth)) {
-                    context.nextToken();
-                    xssMatchSet
-                            .setXssMatchTuples(new ListUnmarshaller<XssMatchTuple>(
-                                    XssMatchTupleJsonUnmarshaller.getInstance())
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 971205936:
+                        if (fieldName.equals("XssMatchSetId")) {
+                            context.nextToken();
+                            xssMatchSet.setXssMatchSetId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            xssMatchSet.setName(context.getUnmarshaller(String.class)
                                     .unmarshall(context));
+                        }
+                        break;
+                    case 85933048:
+                        if (fieldName.equals("XssMatchTuples")) {
+                            context.nextToken();
+                            xssMatchSet
+                                    .setXssMatchTuples(new ListUnmarshaller<XssMatchTuple>(
+                                            XssMatchTupleJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,16 +53,25 @@ public class XssMatchSetUpdateJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Action", targetDepth)) {
-                    context.nextToken();
-                    xssMatchSetUpdate.setAction(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("XssMatchTuple", targetDepth)) {
-                    context.nextToken();
-                    xssMatchSetUpdate
-                            .setXssMatchTuple(XssMatchTupleJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1955883606:
+                        if (fieldName.equals("Action")) {
+                            context.nextToken();
+                            xssMatchSetUpdate.setAction(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 972603355:
+                        if (fieldName.equals("XssMatchTuple")) {
+                            context.nextToken();
+                            xssMatchSetUpdate
+                                    .setXssMatchTuple(XssMatchTupleJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,15 +53,24 @@ public class XssMatchTupleJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FieldToMatch", targetDepth)) {
-                    context.nextToken();
-                    xssMatchTuple.setFieldToMatch(FieldToMatchJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("TextTransformation", targetDepth)) {
-                    context.nextToken();
-                    xssMatchTuple.setTextTransformation(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -879833648:
+                        if (fieldName.equals("FieldToMatch")) {
+                            context.nextToken();
+                            xssMatchTuple.setFieldToMatch(FieldToMatchJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 660262326:
+                        if (fieldName.equals("TextTransformation")) {
+                            context.nextToken();
+                            xssMatchTuple.setTextTransformation(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
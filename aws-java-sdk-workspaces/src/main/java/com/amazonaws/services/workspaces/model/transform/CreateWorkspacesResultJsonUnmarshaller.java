@@ -53,19 +53,28 @@ public class CreateWorkspacesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FailedRequests", targetDepth)) {
-                    context.nextToken();
-                    createWorkspacesResult
-                            .setFailedRequests(new ListUnmarshaller<FailedCreateWorkspaceRequest>(
-                                    FailedCreateWorkspaceRequestJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("PendingRequests", targetDepth)) {
-                    context.nextToken();
-                    createWorkspacesResult
-                            .setPendingRequests(new ListUnmarshaller<Workspace>(
-                                    WorkspaceJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1388418881:
+                        if (fieldName.equals("FailedRequests")) {
+                            context.nextToken();
+                            createWorkspacesResult
+                                    .setFailedRequests(new ListUnmarshaller<FailedCreateWorkspaceRequest>(
+                                            FailedCreateWorkspaceRequestJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case 1276214875:
+                        if (fieldName.equals("PendingRequests")) {
+                            context.nextToken();
+                            createWorkspacesResult
+                                    .setPendingRequests(new ListUnmarshaller<Workspace>(
+                                            WorkspaceJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
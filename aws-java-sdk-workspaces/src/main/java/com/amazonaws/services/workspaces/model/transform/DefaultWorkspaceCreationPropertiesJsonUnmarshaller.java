@@ -54,37 +54,50 @@ public class DefaultWorkspaceCreationPropertiesJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("EnableWorkDocs", targetDepth)) {
-                    context.nextToken();
-                    defaultWorkspaceCreationProperties
-                            .setEnableWorkDocs(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("EnableInternetAccess", targetDepth)) {
-                    context.nextToken();
-                    defaultWorkspaceCreationProperties
-                            .setEnableInternetAccess(context.getUnmarshaller(
-                                    Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("DefaultOu", targetDepth)) {
-                    context.nextToken();
-                    defaultWorkspaceCreationProperties.setDefaultOu(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context
-                        .testExpression("CustomSecurityGroupId", targetDepth)) {
-                    context.nextToken();
-                    defaultWorkspaceCreationProperties
-                            .setCustomSecurityGroupId(context.getUnmarshaller(
-                                    String.class).unmarshall(context));
-                }
-                if (context.testExpression("UserEnabledAsLocalAdministrator",
-                        targetDepth)) {
-                    context.nextToken();
-                    defaultWorkspaceCreationProperties
-                            .setUserEnabledAsLocalAdministrator(context
-                                    .getUnmarshaller(Boolean.class).unmarshall(
-                                            context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -623734865:
+                        if (fieldName.equals("EnableWorkDocs")) {
+                            context.nextToken();
+                            defaultWorkspaceCreationProperties
+                                    .setEnableWorkDocs(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case -850134904:
+                        if (fieldName.equals("EnableInternetAccess")) {
+                            context.nextToken();
+                            defaultWorkspaceCreationProperties
+                                    .setEnableInternetAccess(context.getUnmarshaller(
+                                            Boolean.class).unmarshall(context));
+                        }
+                        break;
+                    case 501838823:
+                        if (fieldName.equals("DefaultOu")) {
+                            context.nextToken();
+                            defaultWorkspaceCreationProperties.setDefaultOu(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -536616759:
+                        if (fieldName.equals("CustomSecurityGroupId")) {
+                            context.nextToken();
+                            defaultWorkspaceCreationProperties
+                                    .setCustomSecurityGroupId(context.getUnmarshaller(
+                                            String.class).unmarshall(context));
+                        }
+                        break;
+                    case 58333930:
+                        if (fieldName.equals("UserEnabledAsLocalAdministrator")) {
+                            context.nextToken();
+                            defaultWorkspaceCreationProperties
+                                    .setUserEnabledAsLocalAdministrator(context
+                                            .getUnmarshaller(Boolean.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,17 +53,26 @@ public class DescribeWorkspaceBundlesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Bundles", targetDepth)) {
-                    context.nextToken();
-                    describeWorkspaceBundlesResult
-                            .setBundles(new ListUnmarshaller<WorkspaceBundle>(
-                                    WorkspaceBundleJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeWorkspaceBundlesResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1899984913:
+                        if (fieldName.equals("Bundles")) {
+                            context.nextToken();
+                            describeWorkspaceBundlesResult
+                                    .setBundles(new ListUnmarshaller<WorkspaceBundle>(
+                                            WorkspaceBundleJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1084080474:
+                        if (fieldName.equals("NextToken")) {
+                            context.nextToken();
+                            describeWorkspaceBundlesResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
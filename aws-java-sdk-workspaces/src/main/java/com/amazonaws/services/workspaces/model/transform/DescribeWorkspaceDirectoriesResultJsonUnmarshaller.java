@@ -54,17 +54,26 @@ public class DescribeWorkspaceDirectoriesResultJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Directories", targetDepth)) {
-                    context.nextToken();
-                    describeWorkspaceDirectoriesResult
-                            .setDirectories(new ListUnmarshaller<WorkspaceDirectory>(
-                                    WorkspaceDirectoryJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeWorkspaceDirectoriesResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 41660331:
+                        if (fieldName.equals("Directories")) {
+                            context.nextToken();
+                            describeWorkspaceDirectoriesResult
+                                    .setDirectories(new ListUnmarshaller<WorkspaceDirectory>(
+                                            WorkspaceDirectoryJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    case -1084080474:
+                        if (fieldName.equals("NextToken")) {
+                            context.nextToken();
+                            describeWorkspaceDirectoriesResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
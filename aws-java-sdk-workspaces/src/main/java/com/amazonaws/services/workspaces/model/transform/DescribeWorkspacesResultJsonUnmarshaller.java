@@ -53,17 +53,26 @@ public class DescribeWorkspacesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Workspaces", targetDepth)) {
-                    context.nextToken();
-                    describeWorkspacesResult
-                            .setWorkspaces(new ListUnmarshaller<Workspace>(
-                                    WorkspaceJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeWorkspacesResult.setNextToken(context
-                            .getUnmarshaller(String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2008515230:
+                        if (fieldName.equals("Workspaces")) {
+                            context.nextToken();
+                            describeWorkspacesResult
+                                    .setWorkspaces(new ListUnmarshaller<Workspace>(
+                                            WorkspaceJsonUnmarshaller.getInstance())
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1084080474:
+                        if (fieldName.equals("NextToken")) {
+                            context.nextToken();
+                            describeWorkspacesResult.setNextToken(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,12 +53,19 @@ public class RebuildWorkspacesResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FailedRequests", targetDepth)) {
-                    context.nextToken();
-                    rebuildWorkspacesResult
-                            .setFailedRequests(new ListUnmarshaller<FailedWorkspaceChangeRequest>(
-                                    FailedWorkspaceChangeRequestJsonUnmarshaller
-                                            .getInstance()).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 1388418881:
+                        if (fieldName.equals("FailedRequests")) {
+                            context.nextToken();
+                            rebuildWorkspacesResult
+                                    .setFailedRequests(new ListUnmarshaller<FailedWorkspaceChangeRequest>(
+                                            FailedWorkspaceChangeRequestJsonUnmarshaller
+                                                    .getInstance()).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
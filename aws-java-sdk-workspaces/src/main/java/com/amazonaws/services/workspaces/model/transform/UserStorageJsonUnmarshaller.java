@@ -53,10 +53,17 @@ public class UserStorageJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Capacity", targetDepth)) {
-                    context.nextToken();
-                    userStorage.setCapacity(context.getUnmarshaller(
-                            String.class).unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -3180326:
+                        if (fieldName.equals("Capacity")) {
+                            context.nextToken();
+                            userStorage.setCapacity(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,35 +53,52 @@ public class WorkspaceBundleJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("BundleId", targetDepth)) {
-                    context.nextToken();
-                    workspaceBundle.setBundleId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    workspaceBundle.setName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Owner", targetDepth)) {
-                    context.nextToken();
-                    workspaceBundle.setOwner(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Description", targetDepth)) {
-                    context.nextToken();
-                    workspaceBundle.setDescription(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("UserStorage", targetDepth)) {
-                    context.nextToken();
-                    workspaceBundle.setUserStorage(UserStorageJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ComputeType", targetDepth)) {
-                    context.nextToken();
-                    workspaceBundle.setComputeType(ComputeTypeJsonUnmarshaller
-                            .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case -1230011043:
+                        if (fieldName.equals("BundleId")) {
+                            context.nextToken();
+                            workspaceBundle.setBundleId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2420395:
+                        if (fieldName.equals("Name")) {
+                            context.nextToken();
+                            workspaceBundle.setName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 76612243:
+                        if (fieldName.equals("Owner")) {
+                            context.nextToken();
+                            workspaceBundle.setOwner(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -56677412:
+                        if (fieldName.equals("Description")) {
+                            context.nextToken();
+                            workspaceBundle.setDescription(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -518271984:
+                        if (fieldName.equals("UserStorage")) {
+                            context.nextToken();
+                            workspaceBundle.setUserStorage(UserStorageJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    case 1882996721:
+                        if (fieldName.equals("ComputeType")) {
+                            context.nextToken();
+                            workspaceBundle.setComputeType(ComputeTypeJsonUnmarshaller
+                                    .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
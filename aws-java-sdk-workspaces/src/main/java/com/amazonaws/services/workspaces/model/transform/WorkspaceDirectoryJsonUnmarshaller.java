@@ -53,72 +53,99 @@ public class WorkspaceDirectoryJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DirectoryId", targetDepth)) {
-                    context.nextToken();
-                    workspaceDirectory.setDirectoryId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("Alias", targetDepth)) {
-                    context.nextToken();
-                    workspaceDirectory.setAlias(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("DirectoryName", targetDepth)) {
-                    context.nextToken();
-                    workspaceDirectory.setDirectoryName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RegistrationCode", targetDepth)) {
-                    context.nextToken();
-                    workspaceDirectory.setRegistrationCode(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SubnetIds", targetDepth)) {
-                    context.nextToken();
-                    workspaceDirectory
-                            .setSubnetIds(new ListUnmarshaller<String>(context
-                                    .getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("DnsIpAddresses", targetDepth)) {
-                    context.nextToken();
-                    workspaceDirectory
-                            .setDnsIpAddresses(new ListUnmarshaller<String>(
-                                    context.getUnmarshaller(String.class))
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("CustomerUserName", targetDepth)) {
-                    context.nextToken();
-                    workspaceDirectory.setCustomerUserName(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IamRoleId", targetDepth)) {
-                    context.nextToken();
-                    workspaceDirectory.setIamRoleId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("DirectoryType", targetDepth)) {
-                    context.nextToken();
-                    workspaceDirectory.setDirectoryType(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("WorkspaceSecurityGroupId",
-                        targetDepth)) {
-                    context.nextToken();
-                    workspaceDirectory.setWorkspaceSecurityGroupId(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("State", targetDepth)) {
-                    context.nextToken();
-                    workspaceDirectory.setState(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("WorkspaceCreationProperties",
-                        targetDepth)) {
-                    context.nextToken();
-                    workspaceDirectory
-                            .setWorkspaceCreationProperties(DefaultWorkspaceCreationPropertiesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 41674824:
+                        if (fieldName.equals("DirectoryId")) {
+                            context.nextToken();
+                            workspaceDirectory.setDirectoryId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 63350320:
+                        if (fieldName.equals("Alias")) {
+                            context.nextToken();
+                            workspaceDirectory.setAlias(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1394949752:
+                        if (fieldName.equals("DirectoryName")) {
+                            context.nextToken();
+                            workspaceDirectory.setDirectoryName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -748467610:
+                        if (fieldName.equals("RegistrationCode")) {
+                            context.nextToken();
+                            workspaceDirectory.setRegistrationCode(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1917427205:
+                        if (fieldName.equals("SubnetIds")) {
+                            context.nextToken();
+                            workspaceDirectory
+                                    .setSubnetIds(new ListUnmarshaller<String>(context
+                                            .getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -252791438:
+                        if (fieldName.equals("DnsIpAddresses")) {
+                            context.nextToken();
+                            workspaceDirectory
+                                    .setDnsIpAddresses(new ListUnmarshaller<String>(
+                                            context.getUnmarshaller(String.class))
+                                            .unmarshall(context));
+                        }
+                        break;
+                    case -1153145068:
+                        if (fieldName.equals("CustomerUserName")) {
+                            context.nextToken();
+                            workspaceDirectory.setCustomerUserName(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1139207482:
+                        if (fieldName.equals("IamRoleId")) {
+                            context.nextToken();
+                            workspaceDirectory.setIamRoleId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1395151655:
+                        if (fieldName.equals("DirectoryType")) {
+                            context.nextToken();
+                            workspaceDirectory.setDirectoryType(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -337352859:
+                        if (fieldName.equals("WorkspaceSecurityGroupId")) {
+                            context.nextToken();
+                            workspaceDirectory.setWorkspaceSecurityGroupId(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 80204913:
+                        if (fieldName.equals("State")) {
+                            context.nextToken();
+                            workspaceDirectory.setState(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 1260946119:
+                        if (fieldName.equals("WorkspaceCreationProperties")) {
+                            context.nextToken();
+                            workspaceDirectory
+                                    .setWorkspaceCreationProperties(DefaultWorkspaceCreationPropertiesJsonUnmarshaller
+                                            .getInstance().unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
@@ -53,76 +53,105 @@ public class WorkspaceJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("WorkspaceId", targetDepth)) {
-                    context.nextToken();
-                    workspace.setWorkspaceId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("DirectoryId", targetDepth)) {
-                    context.nextToken();
-                    workspace.setDirectoryId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("UserName", targetDepth)) {
-                    context.nextToken();
-                    workspace.setUserName(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("IpAddress", targetDepth)) {
-                    context.nextToken();
-                    workspace.setIpAddress(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("State", targetDepth)) {
-                    context.nextToken();
-                    workspace.setState(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("BundleId", targetDepth)) {
-                    context.nextToken();
-                    workspace.setBundleId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("SubnetId", targetDepth)) {
-                    context.nextToken();
-                    workspace.setSubnetId(context.getUnmarshaller(String.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("ErrorMessage", targetDepth)) {
-                    context.nextToken();
-                    workspace.setErrorMessage(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("ErrorCode", targetDepth)) {
-                    context.nextToken();
-                    workspace.setErrorCode(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ComputerName", targetDepth)) {
-                    context.nextToken();
-                    workspace.setComputerName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeEncryptionKey", targetDepth)) {
-                    context.nextToken();
-                    workspace.setVolumeEncryptionKey(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("UserVolumeEncryptionEnabled",
-                        targetDepth)) {
-                    context.nextToken();
-                    workspace
-                            .setUserVolumeEncryptionEnabled(context
-                                    .getUnmarshaller(Boolean.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("RootVolumeEncryptionEnabled",
-                        targetDepth)) {
-                    context.nextToken();
-                    workspace
-                            .setRootVolumeEncryptionEnabled(context
-                                    .getUnmarshaller(Boolean.class).unmarshall(
-                                            context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 2134428784:
+                        if (fieldName.equals("WorkspaceId")) {
+                            context.nextToken();
+                            workspace.setWorkspaceId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 41674824:
+                        if (fieldName.equals("DirectoryId")) {
+                            context.nextToken();
+                            workspace.setDirectoryId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -202022634:
+                        if (fieldName.equals("UserName")) {
+                            context.nextToken();
+                            workspace.setUserName(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -656966483:
+                        if (fieldName.equals("IpAddress")) {
+                            context.nextToken();
+                            workspace.setIpAddress(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 80204913:
+                        if (fieldName.equals("State")) {
+                            context.nextToken();
+                            workspace.setState(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -1230011043:
+                        if (fieldName.equals("BundleId")) {
+                            context.nextToken();
+                            workspace.setBundleId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case -2001515144:
+                        if (fieldName.equals("SubnetId")) {
+                            context.nextToken();
+                            workspace.setSubnetId(context.getUnmarshaller(String.class)
+                                    .unmarshall(context));
+                        }
+                        break;
+                    case 1367556351:
+                        if (fieldName.equals("ErrorMessage")) {
+                            context.nextToken();
+                            workspace.setErrorMessage(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1961963531:
+                        if (fieldName.equals("ErrorCode")) {
+                            context.nextToken();
+                            workspace.setErrorCode(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1730233242:
+                        if (fieldName.equals("ComputerName")) {
+                            context.nextToken();
+                            workspace.setComputerName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -30069054:
+                        if (fieldName.equals("VolumeEncryptionKey")) {
+                            context.nextToken();
+                            workspace.setVolumeEncryptionKey(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2075728345:
+                        if (fieldName.equals("UserVolumeEncryptionEnabled")) {
+                            context.nextToken();
+                            workspace
+                                    .setUserVolumeEncryptionEnabled(context
+                                            .getUnmarshaller(Boolean.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -364463390:
+                        if (fieldName.equals("RootVolumeEncryptionEnabled")) {
+                            context.nextToken();
+                            workspace
+                                    .setRootVolumeEncryptionEnabled(context
+                                            .getUnmarshaller(Boolean.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null
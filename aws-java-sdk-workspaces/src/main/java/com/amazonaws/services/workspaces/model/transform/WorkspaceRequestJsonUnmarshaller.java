@@ -53,47 +53,64 @@ public class WorkspaceRequestJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DirectoryId", targetDepth)) {
-                    context.nextToken();
-                    workspaceRequest.setDirectoryId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("UserName", targetDepth)) {
-                    context.nextToken();
-                    workspaceRequest.setUserName(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("BundleId", targetDepth)) {
-                    context.nextToken();
-                    workspaceRequest.setBundleId(context.getUnmarshaller(
-                            String.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeEncryptionKey", targetDepth)) {
-                    context.nextToken();
-                    workspaceRequest.setVolumeEncryptionKey(context
-                            .getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("UserVolumeEncryptionEnabled",
-                        targetDepth)) {
-                    context.nextToken();
-                    workspaceRequest
-                            .setUserVolumeEncryptionEnabled(context
-                                    .getUnmarshaller(Boolean.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("RootVolumeEncryptionEnabled",
-                        targetDepth)) {
-                    context.nextToken();
-                    workspaceRequest
-                            .setRootVolumeEncryptionEnabled(context
-                                    .getUnmarshaller(Boolean.class).unmarshall(
-                                            context));
-                }
-                if (context.testExpression("Tags", targetDepth)) {
-                    context.nextToken();
-                    workspaceRequest.setTags(new ListUnmarshaller<Tag>(
-                            TagJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                String fieldName = context.getCurrentField(targetDepth);
+                if (fieldName != null) {
+                    switch (fieldName.hashCode()) {
+                    case 41674824:
+                        if (fieldName.equals("DirectoryId")) {
+                            context.nextToken();
+                            workspaceRequest.setDirectoryId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -202022634:
+                        if (fieldName.equals("UserName")) {
+                            context.nextToken();
+                            workspaceRequest.setUserName(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -1230011043:
+                        if (fieldName.equals("BundleId")) {
+                            context.nextToken();
+                            workspaceRequest.setBundleId(context.getUnmarshaller(
+                                    String.class).unmarshall(context));
+                        }
+                        break;
+                    case -30069054:
+                        if (fieldName.equals("VolumeEncryptionKey")) {
+                            context.nextToken();
+                            workspaceRequest.setVolumeEncryptionKey(context
+                                    .getUnmarshaller(String.class).unmarshall(context));
+                        }
+                        break;
+                    case 2075728345:
+                        if (fieldName.equals("UserVolumeEncryptionEnabled")) {
+                            context.nextToken();
+                            workspaceRequest
+                                    .setUserVolumeEncryptionEnabled(context
+                                            .getUnmarshaller(Boolean.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case -364463390:
+                        if (fieldName.equals("RootVolumeEncryptionEnabled")) {
+                            context.nextToken();
+                            workspaceRequest
+                                    .setRootVolumeEncryptionEnabled(context
+                                            .getUnmarshaller(Boolean.class).unmarshall(
+                                                    context));
+                        }
+                        break;
+                    case 2598969:
+                        if (fieldName.equals("Tags")) {
+                            context.nextToken();
+                            workspaceRequest.setTags(new ListUnmarshaller<Tag>(
+                                    TagJsonUnmarshaller.getInstance())
+                                    .unmarshall(context));
+                        }
+                        break;
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null